@@ -0,0 +1,328 @@
+package com.facebook.buck.immutables;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DeprecatedType}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ImmutableDeprecatedType.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DeprecatedType"})
+@Immutable
+public final class ImmutableDeprecatedType implements DeprecatedType {
+  private final String name;
+  private final ImmutableList<Long> phoneNumbers;
+  private final Optional<String> description;
+
+  private ImmutableDeprecatedType(
+      String name,
+      ImmutableList<Long> phoneNumbers,
+      Optional<String> description) {
+    this.name = name;
+    this.phoneNumbers = phoneNumbers;
+    this.description = description;
+  }
+
+  /**
+   * @return value of {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return value of {@code phoneNumbers} attribute
+   */
+  @Override
+  public ImmutableList<Long> getPhoneNumbers() {
+    return phoneNumbers;
+  }
+
+  /**
+   * @return value of {@code description} attribute
+   */
+  @Override
+  public Optional<String> getDescription() {
+    return description;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link DeprecatedType#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableDeprecatedType withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ImmutableDeprecatedType(newValue, this.phoneNumbers, this.description);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link DeprecatedType#getPhoneNumbers() phoneNumbers}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableDeprecatedType withPhoneNumbers(long... elements) {
+    ImmutableList<Long> newValue = ImmutableList.copyOf(Longs.asList(elements));
+    return new ImmutableDeprecatedType(this.name, newValue, this.description);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link DeprecatedType#getPhoneNumbers() phoneNumbers}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of phoneNumbers elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableDeprecatedType withPhoneNumbers(Iterable<Long> elements) {
+    if (this.phoneNumbers == elements) {
+      return this;
+    }
+    ImmutableList<Long> newValue = ImmutableList.copyOf(elements);
+    return new ImmutableDeprecatedType(this.name, newValue, this.description);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link DeprecatedType#getDescription() description}.
+   * @param value value for description
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableDeprecatedType withDescription(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new ImmutableDeprecatedType(this.name, this.phoneNumbers, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link DeprecatedType#getDescription() description}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for description
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableDeprecatedType withDescription(Optional<String> optional) {
+    if (this.description == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new ImmutableDeprecatedType(this.name, this.phoneNumbers, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ImmutableDeprecatedType} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ImmutableDeprecatedType && equalTo((ImmutableDeprecatedType) another));
+  }
+
+  private boolean equalTo(ImmutableDeprecatedType another) {
+    return name.equals(another.name)
+        && phoneNumbers.equals(another.phoneNumbers)
+        && description.equals(another.description);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code phoneNumbers}, {@code description}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + phoneNumbers.hashCode();
+    h = h * 17 + description.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code DeprecatedType{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DeprecatedType")
+        .add("name", name)
+        .add("phoneNumbers", phoneNumbers)
+        .add("description", description)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link DeprecatedType}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable DeprecatedType instance
+   */
+  public static ImmutableDeprecatedType copyOf(DeprecatedType instance) {
+    if (instance instanceof ImmutableDeprecatedType) {
+      return (ImmutableDeprecatedType) instance;
+    }
+    return ImmutableDeprecatedType.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.immutables.ImmutableDeprecatedType ImmutableDeprecatedType}.
+   * @return new ImmutableDeprecatedType builder
+   */
+  public static ImmutableDeprecatedType.Builder builder() {
+    return new ImmutableDeprecatedType.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.immutables.ImmutableDeprecatedType ImmutableDeprecatedType}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_NAME = 0x1L;
+    private long initializedBitset;
+    private @Nullable String name;
+    private ImmutableList.Builder<Long> phoneNumbersBuilder = ImmutableList.builder();
+    private Optional<String> description = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link DeprecatedType} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(DeprecatedType instance) {
+      Preconditions.checkNotNull(instance);
+      setName(instance.getName());
+      addAllPhoneNumbers(instance.getPhoneNumbers());
+      Optional<String> descriptionOptional = instance.getDescription();
+      if (descriptionOptional.isPresent()) {
+        setDescription(descriptionOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link DeprecatedType#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DeprecatedType#getPhoneNumbers() phoneNumbers} list.
+     * @param element phoneNumbers element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addPhoneNumbers(long element) {
+      phoneNumbersBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DeprecatedType#getPhoneNumbers() phoneNumbers} list.
+     * @param elements array of phoneNumbers elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addPhoneNumbers(long... elements) {
+      phoneNumbersBuilder.addAll(Longs.asList(elements));
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link DeprecatedType#getPhoneNumbers() phoneNumbers} list.
+     * @param elements iterable of phoneNumbers elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPhoneNumbers(Iterable<Long> elements) {
+      phoneNumbersBuilder = ImmutableList.builder();
+      return addAllPhoneNumbers(elements);
+    }
+
+    /**
+     * Adds elements to {@link DeprecatedType#getPhoneNumbers() phoneNumbers} list.
+     * @param elements iterable of phoneNumbers elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllPhoneNumbers(Iterable<Long> elements) {
+      phoneNumbersBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link DeprecatedType#getDescription() description}.
+     * @param description value for description
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDescription(String description) {
+      this.description = Optional.of(description);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link DeprecatedType#getDescription() description}.
+     * @param description value for description
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDescription(Optional<String> description) {
+      this.description = Preconditions.checkNotNull(description);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.immutables.ImmutableDeprecatedType ImmutableDeprecatedType}.
+     * @return immutable instance of DeprecatedType
+     */
+    public ImmutableDeprecatedType build() {
+      checkRequiredAttributes();
+      return new ImmutableDeprecatedType(name, phoneNumbersBuilder.build(), description);
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      return "Cannot build DeprecatedType, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package com.facebook.buck.lua;
+
+import com.facebook.buck.rules.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractFakeLuaConfig}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code FakeLuaConfig.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFakeLuaConfig"})
+@Immutable
+public final class FakeLuaConfig extends AbstractFakeLuaConfig {
+  private final Tool lua;
+  private final String extension;
+
+  private FakeLuaConfig(FakeLuaConfig.Builder builder) {
+    this.lua = builder.lua != null
+        ? builder.lua
+        : Preconditions.checkNotNull(super.getLua());
+    this.extension = builder.extension != null
+        ? builder.extension
+        : Preconditions.checkNotNull(super.getExtension());
+  }
+
+  private FakeLuaConfig(Tool lua, String extension) {
+    this.lua = lua;
+    this.extension = extension;
+  }
+
+  /**
+   * @return value of {@code lua} attribute
+   */
+  @Override
+  public Tool getLua() {
+    return lua;
+  }
+
+  /**
+   * @return value of {@code extension} attribute
+   */
+  @Override
+  public String getExtension() {
+    return extension;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractFakeLuaConfig#getLua() lua}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for lua
+   * @return modified copy of the {@code this} object
+   */
+  public final FakeLuaConfig withLua(Tool value) {
+    if (this.lua == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new FakeLuaConfig(newValue, this.extension);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractFakeLuaConfig#getExtension() extension}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for extension
+   * @return modified copy of the {@code this} object
+   */
+  public final FakeLuaConfig withExtension(String value) {
+    if (this.extension == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new FakeLuaConfig(this.lua, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code FakeLuaConfig} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof FakeLuaConfig && equalTo((FakeLuaConfig) another));
+  }
+
+  private boolean equalTo(FakeLuaConfig another) {
+    return lua.equals(another.lua)
+        && extension.equals(another.extension);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code lua}, {@code extension}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + lua.hashCode();
+    h = h * 17 + extension.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code FakeLuaConfig{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeLuaConfig")
+        .add("lua", lua)
+        .add("extension", extension)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractFakeLuaConfig}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable FakeLuaConfig instance
+   */
+  public static FakeLuaConfig copyOf(AbstractFakeLuaConfig instance) {
+    if (instance instanceof FakeLuaConfig) {
+      return (FakeLuaConfig) instance;
+    }
+    return FakeLuaConfig.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.lua.FakeLuaConfig FakeLuaConfig}.
+   * @return new FakeLuaConfig builder
+   */
+  public static FakeLuaConfig.Builder builder() {
+    return new FakeLuaConfig.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.lua.FakeLuaConfig FakeLuaConfig}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Tool lua;
+    private @Nullable String extension;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractFakeLuaConfig} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractFakeLuaConfig instance) {
+      Preconditions.checkNotNull(instance);
+      setLua(instance.getLua());
+      setExtension(instance.getExtension());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractFakeLuaConfig#getLua() lua}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractFakeLuaConfig#getLua() lua}.</em>
+     * @param lua value for lua
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLua(Tool lua) {
+      this.lua = Preconditions.checkNotNull(lua);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractFakeLuaConfig#getExtension() extension}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractFakeLuaConfig#getExtension() extension}.</em>
+     * @param extension value for extension
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtension(String extension) {
+      this.extension = Preconditions.checkNotNull(extension);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.lua.FakeLuaConfig FakeLuaConfig}.
+     * @return immutable instance of FakeLuaConfig
+     */
+    public FakeLuaConfig build() {
+      return new FakeLuaConfig(this);
+    }
+  }
+}
@@ -0,0 +1,499 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractFakeListeningProcessState}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code FakeListeningProcessState.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFakeListeningProcessState"})
+@Immutable
+public final class FakeListeningProcessState extends AbstractFakeListeningProcessState {
+  private final AbstractFakeListeningProcessState.Type type;
+  private final Optional<ByteBuffer> expectedStdin;
+  private final Optional<ByteBuffer> stdout;
+  private final Optional<ByteBuffer> stderr;
+  private final Optional<Long> waitNanos;
+  private final Optional<Integer> exitCode;
+
+  private FakeListeningProcessState(
+      AbstractFakeListeningProcessState.Type type,
+      Optional<ByteBuffer> expectedStdin,
+      Optional<ByteBuffer> stdout,
+      Optional<ByteBuffer> stderr,
+      Optional<Long> waitNanos,
+      Optional<Integer> exitCode) {
+    this.type = type;
+    this.expectedStdin = expectedStdin;
+    this.stdout = stdout;
+    this.stderr = stderr;
+    this.waitNanos = waitNanos;
+    this.exitCode = exitCode;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public AbstractFakeListeningProcessState.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code expectedStdin} attribute
+   */
+  @Override
+  public Optional<ByteBuffer> getExpectedStdin() {
+    return expectedStdin;
+  }
+
+  /**
+   * @return value of {@code stdout} attribute
+   */
+  @Override
+  public Optional<ByteBuffer> getStdout() {
+    return stdout;
+  }
+
+  /**
+   * @return value of {@code stderr} attribute
+   */
+  @Override
+  public Optional<ByteBuffer> getStderr() {
+    return stderr;
+  }
+
+  /**
+   * @return value of {@code waitNanos} attribute
+   */
+  @Override
+  public Optional<Long> getWaitNanos() {
+    return waitNanos;
+  }
+
+  /**
+   * @return value of {@code exitCode} attribute
+   */
+  @Override
+  public Optional<Integer> getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractFakeListeningProcessState#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final FakeListeningProcessState withType(AbstractFakeListeningProcessState.Type value) {
+    if (this.type == value) {
+      return this;
+    }
+    AbstractFakeListeningProcessState.Type newValue = Preconditions.checkNotNull(value);
+    return new FakeListeningProcessState(newValue, this.expectedStdin, this.stdout, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractFakeListeningProcessState#getExpectedStdin() expectedStdin}.
+   * @param value value for expectedStdin
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withExpectedStdin(ByteBuffer value) {
+    Optional<ByteBuffer> newValue = Optional.of(value);
+    return new FakeListeningProcessState(this.type, newValue, this.stdout, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractFakeListeningProcessState#getExpectedStdin() expectedStdin}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for expectedStdin
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withExpectedStdin(Optional<ByteBuffer> optional) {
+    if (this.expectedStdin == optional) {
+      return this;
+    }
+    Optional<ByteBuffer> newValue = Preconditions.checkNotNull(optional);
+    return new FakeListeningProcessState(this.type, newValue, this.stdout, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractFakeListeningProcessState#getStdout() stdout}.
+   * @param value value for stdout
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withStdout(ByteBuffer value) {
+    Optional<ByteBuffer> newValue = Optional.of(value);
+    return new FakeListeningProcessState(this.type, this.expectedStdin, newValue, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractFakeListeningProcessState#getStdout() stdout}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for stdout
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withStdout(Optional<ByteBuffer> optional) {
+    if (this.stdout == optional) {
+      return this;
+    }
+    Optional<ByteBuffer> newValue = Preconditions.checkNotNull(optional);
+    return new FakeListeningProcessState(this.type, this.expectedStdin, newValue, this.stderr, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractFakeListeningProcessState#getStderr() stderr}.
+   * @param value value for stderr
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withStderr(ByteBuffer value) {
+    Optional<ByteBuffer> newValue = Optional.of(value);
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, newValue, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractFakeListeningProcessState#getStderr() stderr}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for stderr
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withStderr(Optional<ByteBuffer> optional) {
+    if (this.stderr == optional) {
+      return this;
+    }
+    Optional<ByteBuffer> newValue = Preconditions.checkNotNull(optional);
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, newValue, this.waitNanos, this.exitCode);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractFakeListeningProcessState#getWaitNanos() waitNanos}.
+   * @param value value for waitNanos
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withWaitNanos(long value) {
+    Optional<Long> newValue = Optional.of(value);
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, this.stderr, newValue, this.exitCode);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractFakeListeningProcessState#getWaitNanos() waitNanos}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for waitNanos
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withWaitNanos(Optional<Long> optional) {
+    if (this.waitNanos == optional) {
+      return this;
+    }
+    Optional<Long> newValue = Preconditions.checkNotNull(optional);
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, this.stderr, newValue, this.exitCode);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractFakeListeningProcessState#getExitCode() exitCode}.
+   * @param value value for exitCode
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withExitCode(int value) {
+    Optional<Integer> newValue = Optional.of(value);
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, this.stderr, this.waitNanos, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractFakeListeningProcessState#getExitCode() exitCode}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for exitCode
+   * @return modified copy of {@code this} object
+   */
+  public final FakeListeningProcessState withExitCode(Optional<Integer> optional) {
+    if (this.exitCode == optional) {
+      return this;
+    }
+    Optional<Integer> newValue = Preconditions.checkNotNull(optional);
+    return new FakeListeningProcessState(this.type, this.expectedStdin, this.stdout, this.stderr, this.waitNanos, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code FakeListeningProcessState} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof FakeListeningProcessState && equalTo((FakeListeningProcessState) another));
+  }
+
+  private boolean equalTo(FakeListeningProcessState another) {
+    return type.equals(another.type)
+        && expectedStdin.equals(another.expectedStdin)
+        && stdout.equals(another.stdout)
+        && stderr.equals(another.stderr)
+        && waitNanos.equals(another.waitNanos)
+        && exitCode.equals(another.exitCode);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code expectedStdin}, {@code stdout}, {@code stderr}, {@code waitNanos}, {@code exitCode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + expectedStdin.hashCode();
+    h = h * 17 + stdout.hashCode();
+    h = h * 17 + stderr.hashCode();
+    h = h * 17 + waitNanos.hashCode();
+    h = h * 17 + exitCode.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code FakeListeningProcessState{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeListeningProcessState")
+        .add("type", type)
+        .add("expectedStdin", expectedStdin)
+        .add("stdout", stdout)
+        .add("stderr", stderr)
+        .add("waitNanos", waitNanos)
+        .add("exitCode", exitCode)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractFakeListeningProcessState}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable FakeListeningProcessState instance
+   */
+  public static FakeListeningProcessState copyOf(AbstractFakeListeningProcessState instance) {
+    if (instance instanceof FakeListeningProcessState) {
+      return (FakeListeningProcessState) instance;
+    }
+    return FakeListeningProcessState.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.util.FakeListeningProcessState FakeListeningProcessState}.
+   * @return new FakeListeningProcessState builder
+   */
+  public static FakeListeningProcessState.Builder builder() {
+    return new FakeListeningProcessState.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.util.FakeListeningProcessState FakeListeningProcessState}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private long initializedBitset;
+    private @Nullable AbstractFakeListeningProcessState.Type type;
+    private Optional<ByteBuffer> expectedStdin = Optional.absent();
+    private Optional<ByteBuffer> stdout = Optional.absent();
+    private Optional<ByteBuffer> stderr = Optional.absent();
+    private Optional<Long> waitNanos = Optional.absent();
+    private Optional<Integer> exitCode = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractFakeListeningProcessState} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractFakeListeningProcessState instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      Optional<ByteBuffer> expectedStdinOptional = instance.getExpectedStdin();
+      if (expectedStdinOptional.isPresent()) {
+        setExpectedStdin(expectedStdinOptional);
+      }
+      Optional<ByteBuffer> stdoutOptional = instance.getStdout();
+      if (stdoutOptional.isPresent()) {
+        setStdout(stdoutOptional);
+      }
+      Optional<ByteBuffer> stderrOptional = instance.getStderr();
+      if (stderrOptional.isPresent()) {
+        setStderr(stderrOptional);
+      }
+      Optional<Long> waitNanosOptional = instance.getWaitNanos();
+      if (waitNanosOptional.isPresent()) {
+        setWaitNanos(waitNanosOptional);
+      }
+      Optional<Integer> exitCodeOptional = instance.getExitCode();
+      if (exitCodeOptional.isPresent()) {
+        setExitCode(exitCodeOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractFakeListeningProcessState#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(AbstractFakeListeningProcessState.Type type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractFakeListeningProcessState#getExpectedStdin() expectedStdin}.
+     * @param expectedStdin value for expectedStdin
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExpectedStdin(ByteBuffer expectedStdin) {
+      this.expectedStdin = Optional.of(expectedStdin);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractFakeListeningProcessState#getExpectedStdin() expectedStdin}.
+     * @param expectedStdin value for expectedStdin
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExpectedStdin(Optional<ByteBuffer> expectedStdin) {
+      this.expectedStdin = Preconditions.checkNotNull(expectedStdin);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractFakeListeningProcessState#getStdout() stdout}.
+     * @param stdout value for stdout
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdout(ByteBuffer stdout) {
+      this.stdout = Optional.of(stdout);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractFakeListeningProcessState#getStdout() stdout}.
+     * @param stdout value for stdout
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdout(Optional<ByteBuffer> stdout) {
+      this.stdout = Preconditions.checkNotNull(stdout);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractFakeListeningProcessState#getStderr() stderr}.
+     * @param stderr value for stderr
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStderr(ByteBuffer stderr) {
+      this.stderr = Optional.of(stderr);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractFakeListeningProcessState#getStderr() stderr}.
+     * @param stderr value for stderr
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStderr(Optional<ByteBuffer> stderr) {
+      this.stderr = Preconditions.checkNotNull(stderr);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractFakeListeningProcessState#getWaitNanos() waitNanos}.
+     * @param waitNanos value for waitNanos
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWaitNanos(long waitNanos) {
+      this.waitNanos = Optional.of(waitNanos);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractFakeListeningProcessState#getWaitNanos() waitNanos}.
+     * @param waitNanos value for waitNanos
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWaitNanos(Optional<Long> waitNanos) {
+      this.waitNanos = Preconditions.checkNotNull(waitNanos);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractFakeListeningProcessState#getExitCode() exitCode}.
+     * @param exitCode value for exitCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExitCode(int exitCode) {
+      this.exitCode = Optional.of(exitCode);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractFakeListeningProcessState#getExitCode() exitCode}.
+     * @param exitCode value for exitCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExitCode(Optional<Integer> exitCode) {
+      this.exitCode = Preconditions.checkNotNull(exitCode);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.util.FakeListeningProcessState FakeListeningProcessState}.
+     * @return immutable instance of FakeListeningProcessState
+     */
+    public FakeListeningProcessState build() {
+      checkRequiredAttributes();
+      return new FakeListeningProcessState(type, expectedStdin, stdout, stderr, waitNanos, exitCode);
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      return "Cannot build FakeListeningProcessState, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,827 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.rules.BuildRule;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAndroidGraphEnhancementResult}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AndroidGraphEnhancementResult.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidGraphEnhancementResult"})
+@Immutable
+public final class AndroidGraphEnhancementResult
+    implements AbstractAndroidGraphEnhancementResult {
+  private final AndroidPackageableCollection packageableCollection;
+  private final AaptPackageResources aaptPackageResources;
+  private final Optional<CopyNativeLibraries> copyNativeLibraries;
+  private final Optional<PackageStringAssets> packageStringAssets;
+  private final Optional<PreDexMerge> preDexMerge;
+  private final Optional<ComputeExopackageDepsAbi> computeExopackageDepsAbi;
+  private final Optional<Boolean> packageAssetLibraries;
+  private final ImmutableSet<Path> classpathEntriesToDex;
+  private final ImmutableSortedSet<BuildRule> finalDeps;
+
+  private AndroidGraphEnhancementResult(
+      AndroidPackageableCollection packageableCollection,
+      AaptPackageResources aaptPackageResources,
+      Optional<CopyNativeLibraries> copyNativeLibraries,
+      Optional<PackageStringAssets> packageStringAssets,
+      Optional<PreDexMerge> preDexMerge,
+      Optional<ComputeExopackageDepsAbi> computeExopackageDepsAbi,
+      Optional<Boolean> packageAssetLibraries,
+      ImmutableSet<Path> classpathEntriesToDex,
+      ImmutableSortedSet<BuildRule> finalDeps) {
+    this.packageableCollection = packageableCollection;
+    this.aaptPackageResources = aaptPackageResources;
+    this.copyNativeLibraries = copyNativeLibraries;
+    this.packageStringAssets = packageStringAssets;
+    this.preDexMerge = preDexMerge;
+    this.computeExopackageDepsAbi = computeExopackageDepsAbi;
+    this.packageAssetLibraries = packageAssetLibraries;
+    this.classpathEntriesToDex = classpathEntriesToDex;
+    this.finalDeps = finalDeps;
+  }
+
+  /**
+   * @return value of {@code packageableCollection} attribute
+   */
+  @Override
+  public AndroidPackageableCollection getPackageableCollection() {
+    return packageableCollection;
+  }
+
+  /**
+   * @return value of {@code aaptPackageResources} attribute
+   */
+  @Override
+  public AaptPackageResources getAaptPackageResources() {
+    return aaptPackageResources;
+  }
+
+  /**
+   * @return value of {@code copyNativeLibraries} attribute
+   */
+  @Override
+  public Optional<CopyNativeLibraries> getCopyNativeLibraries() {
+    return copyNativeLibraries;
+  }
+
+  /**
+   * @return value of {@code packageStringAssets} attribute
+   */
+  @Override
+  public Optional<PackageStringAssets> getPackageStringAssets() {
+    return packageStringAssets;
+  }
+
+  /**
+   * @return value of {@code preDexMerge} attribute
+   */
+  @Override
+  public Optional<PreDexMerge> getPreDexMerge() {
+    return preDexMerge;
+  }
+
+  /**
+   * @return value of {@code computeExopackageDepsAbi} attribute
+   */
+  @Override
+  public Optional<ComputeExopackageDepsAbi> getComputeExopackageDepsAbi() {
+    return computeExopackageDepsAbi;
+  }
+
+  /**
+   * @return value of {@code packageAssetLibraries} attribute
+   */
+  @Override
+  public Optional<Boolean> getPackageAssetLibraries() {
+    return packageAssetLibraries;
+  }
+
+  /**
+   * This includes everything from the corresponding
+   * {@link AndroidPackageableCollection#getClasspathEntriesToDex}, and may include additional
+   * entries due to {@link AndroidBuildConfig}s.
+   */
+  @Override
+  public ImmutableSet<Path> getClasspathEntriesToDex() {
+    return classpathEntriesToDex;
+  }
+
+  /**
+   * @return value of {@code finalDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getFinalDeps() {
+    return finalDeps;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAndroidGraphEnhancementResult#getPackageableCollection() packageableCollection}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for packageableCollection
+   * @return modified copy of the {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageableCollection(AndroidPackageableCollection value) {
+    if (this.packageableCollection == value) {
+      return this;
+    }
+    AndroidPackageableCollection newValue = Preconditions.checkNotNull(value);
+    return new AndroidGraphEnhancementResult(
+            newValue,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAndroidGraphEnhancementResult#getAaptPackageResources() aaptPackageResources}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for aaptPackageResources
+   * @return modified copy of the {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withAaptPackageResources(AaptPackageResources value) {
+    if (this.aaptPackageResources == value) {
+      return this;
+    }
+    AaptPackageResources newValue = Preconditions.checkNotNull(value);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            newValue,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries}.
+   * @param value value for copyNativeLibraries
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withCopyNativeLibraries(CopyNativeLibraries value) {
+    Optional<CopyNativeLibraries> newValue = Optional.of(value);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            newValue,
+            this.packageStringAssets,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for copyNativeLibraries
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withCopyNativeLibraries(Optional<CopyNativeLibraries> optional) {
+    if (this.copyNativeLibraries == optional) {
+      return this;
+    }
+    Optional<CopyNativeLibraries> newValue = Preconditions.checkNotNull(optional);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            newValue,
+            this.packageStringAssets,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets}.
+   * @param value value for packageStringAssets
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageStringAssets(PackageStringAssets value) {
+    Optional<PackageStringAssets> newValue = Optional.of(value);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            newValue,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for packageStringAssets
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageStringAssets(Optional<PackageStringAssets> optional) {
+    if (this.packageStringAssets == optional) {
+      return this;
+    }
+    Optional<PackageStringAssets> newValue = Preconditions.checkNotNull(optional);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            newValue,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAndroidGraphEnhancementResult#getPreDexMerge() preDexMerge}.
+   * @param value value for preDexMerge
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPreDexMerge(PreDexMerge value) {
+    Optional<PreDexMerge> newValue = Optional.of(value);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            newValue,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAndroidGraphEnhancementResult#getPreDexMerge() preDexMerge}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for preDexMerge
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPreDexMerge(Optional<PreDexMerge> optional) {
+    if (this.preDexMerge == optional) {
+      return this;
+    }
+    Optional<PreDexMerge> newValue = Preconditions.checkNotNull(optional);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            newValue,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAndroidGraphEnhancementResult#getComputeExopackageDepsAbi() computeExopackageDepsAbi}.
+   * @param value value for computeExopackageDepsAbi
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withComputeExopackageDepsAbi(ComputeExopackageDepsAbi value) {
+    Optional<ComputeExopackageDepsAbi> newValue = Optional.of(value);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            this.preDexMerge,
+            newValue,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAndroidGraphEnhancementResult#getComputeExopackageDepsAbi() computeExopackageDepsAbi}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for computeExopackageDepsAbi
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withComputeExopackageDepsAbi(Optional<ComputeExopackageDepsAbi> optional) {
+    if (this.computeExopackageDepsAbi == optional) {
+      return this;
+    }
+    Optional<ComputeExopackageDepsAbi> newValue = Preconditions.checkNotNull(optional);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            this.preDexMerge,
+            newValue,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAndroidGraphEnhancementResult#getPackageAssetLibraries() packageAssetLibraries}.
+   * @param value value for packageAssetLibraries
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageAssetLibraries(boolean value) {
+    Optional<Boolean> newValue = Optional.of(value);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            newValue,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAndroidGraphEnhancementResult#getPackageAssetLibraries() packageAssetLibraries}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for packageAssetLibraries
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageAssetLibraries(Optional<Boolean> optional) {
+    if (this.packageAssetLibraries == optional) {
+      return this;
+    }
+    Optional<Boolean> newValue = Preconditions.checkNotNull(optional);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            newValue,
+            this.classpathEntriesToDex,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withClasspathEntriesToDex(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            newValue,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of classpathEntriesToDex elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withClasspathEntriesToDex(Iterable<? extends Path> elements) {
+    if (this.classpathEntriesToDex == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            newValue,
+            this.finalDeps);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAndroidGraphEnhancementResult#getFinalDeps() finalDeps}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for finalDeps
+   * @return modified copy of the {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withFinalDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.finalDeps == value) {
+      return this;
+    }
+    ImmutableSortedSet<BuildRule> newValue = Preconditions.checkNotNull(value);
+    return new AndroidGraphEnhancementResult(
+            this.packageableCollection,
+            this.aaptPackageResources,
+            this.copyNativeLibraries,
+            this.packageStringAssets,
+            this.preDexMerge,
+            this.computeExopackageDepsAbi,
+            this.packageAssetLibraries,
+            this.classpathEntriesToDex,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AndroidGraphEnhancementResult} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AndroidGraphEnhancementResult && equalTo((AndroidGraphEnhancementResult) another));
+  }
+
+  private boolean equalTo(AndroidGraphEnhancementResult another) {
+    return packageableCollection.equals(another.packageableCollection)
+        && aaptPackageResources.equals(another.aaptPackageResources)
+        && copyNativeLibraries.equals(another.copyNativeLibraries)
+        && packageStringAssets.equals(another.packageStringAssets)
+        && preDexMerge.equals(another.preDexMerge)
+        && computeExopackageDepsAbi.equals(another.computeExopackageDepsAbi)
+        && packageAssetLibraries.equals(another.packageAssetLibraries)
+        && classpathEntriesToDex.equals(another.classpathEntriesToDex)
+        && finalDeps.equals(another.finalDeps);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code packageableCollection}, {@code aaptPackageResources}, {@code copyNativeLibraries}, {@code packageStringAssets}, {@code preDexMerge}, {@code computeExopackageDepsAbi}, {@code packageAssetLibraries}, {@code classpathEntriesToDex}, {@code finalDeps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + packageableCollection.hashCode();
+    h = h * 17 + aaptPackageResources.hashCode();
+    h = h * 17 + copyNativeLibraries.hashCode();
+    h = h * 17 + packageStringAssets.hashCode();
+    h = h * 17 + preDexMerge.hashCode();
+    h = h * 17 + computeExopackageDepsAbi.hashCode();
+    h = h * 17 + packageAssetLibraries.hashCode();
+    h = h * 17 + classpathEntriesToDex.hashCode();
+    h = h * 17 + finalDeps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AndroidGraphEnhancementResult{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidGraphEnhancementResult")
+        .add("packageableCollection", packageableCollection)
+        .add("aaptPackageResources", aaptPackageResources)
+        .add("copyNativeLibraries", copyNativeLibraries)
+        .add("packageStringAssets", packageStringAssets)
+        .add("preDexMerge", preDexMerge)
+        .add("computeExopackageDepsAbi", computeExopackageDepsAbi)
+        .add("packageAssetLibraries", packageAssetLibraries)
+        .add("classpathEntriesToDex", classpathEntriesToDex)
+        .add("finalDeps", finalDeps)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAndroidGraphEnhancementResult}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AndroidGraphEnhancementResult instance
+   */
+  public static AndroidGraphEnhancementResult copyOf(AbstractAndroidGraphEnhancementResult instance) {
+    if (instance instanceof AndroidGraphEnhancementResult) {
+      return (AndroidGraphEnhancementResult) instance;
+    }
+    return AndroidGraphEnhancementResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.android.AndroidGraphEnhancementResult AndroidGraphEnhancementResult}.
+   * @return new AndroidGraphEnhancementResult builder
+   */
+  public static AndroidGraphEnhancementResult.Builder builder() {
+    return new AndroidGraphEnhancementResult.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.android.AndroidGraphEnhancementResult AndroidGraphEnhancementResult}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_PACKAGEABLE_COLLECTION = 0x1L;
+    private static final long INITIALIZED_BIT_AAPT_PACKAGE_RESOURCES = 0x2L;
+    private static final long INITIALIZED_BIT_FINAL_DEPS = 0x4L;
+    private long initializedBitset;
+    private @Nullable AndroidPackageableCollection packageableCollection;
+    private @Nullable AaptPackageResources aaptPackageResources;
+    private Optional<CopyNativeLibraries> copyNativeLibraries = Optional.absent();
+    private Optional<PackageStringAssets> packageStringAssets = Optional.absent();
+    private Optional<PreDexMerge> preDexMerge = Optional.absent();
+    private Optional<ComputeExopackageDepsAbi> computeExopackageDepsAbi = Optional.absent();
+    private Optional<Boolean> packageAssetLibraries = Optional.absent();
+    private ImmutableSet.Builder<Path> classpathEntriesToDexBuilder = ImmutableSet.builder();
+    private @Nullable ImmutableSortedSet<BuildRule> finalDeps;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAndroidGraphEnhancementResult} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAndroidGraphEnhancementResult instance) {
+      Preconditions.checkNotNull(instance);
+      setPackageableCollection(instance.getPackageableCollection());
+      setAaptPackageResources(instance.getAaptPackageResources());
+      Optional<CopyNativeLibraries> copyNativeLibrariesOptional = instance.getCopyNativeLibraries();
+      if (copyNativeLibrariesOptional.isPresent()) {
+        setCopyNativeLibraries(copyNativeLibrariesOptional);
+      }
+      Optional<PackageStringAssets> packageStringAssetsOptional = instance.getPackageStringAssets();
+      if (packageStringAssetsOptional.isPresent()) {
+        setPackageStringAssets(packageStringAssetsOptional);
+      }
+      Optional<PreDexMerge> preDexMergeOptional = instance.getPreDexMerge();
+      if (preDexMergeOptional.isPresent()) {
+        setPreDexMerge(preDexMergeOptional);
+      }
+      Optional<ComputeExopackageDepsAbi> computeExopackageDepsAbiOptional = instance.getComputeExopackageDepsAbi();
+      if (computeExopackageDepsAbiOptional.isPresent()) {
+        setComputeExopackageDepsAbi(computeExopackageDepsAbiOptional);
+      }
+      Optional<Boolean> packageAssetLibrariesOptional = instance.getPackageAssetLibraries();
+      if (packageAssetLibrariesOptional.isPresent()) {
+        setPackageAssetLibraries(packageAssetLibrariesOptional);
+      }
+      addAllClasspathEntriesToDex(instance.getClasspathEntriesToDex());
+      setFinalDeps(instance.getFinalDeps());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAndroidGraphEnhancementResult#getPackageableCollection() packageableCollection}.
+     * @param packageableCollection value for packageableCollection
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageableCollection(AndroidPackageableCollection packageableCollection) {
+      this.packageableCollection = Preconditions.checkNotNull(packageableCollection);
+      initializedBitset |= INITIALIZED_BIT_PACKAGEABLE_COLLECTION;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAndroidGraphEnhancementResult#getAaptPackageResources() aaptPackageResources}.
+     * @param aaptPackageResources value for aaptPackageResources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAaptPackageResources(AaptPackageResources aaptPackageResources) {
+      this.aaptPackageResources = Preconditions.checkNotNull(aaptPackageResources);
+      initializedBitset |= INITIALIZED_BIT_AAPT_PACKAGE_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries}.
+     * @param copyNativeLibraries value for copyNativeLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCopyNativeLibraries(CopyNativeLibraries copyNativeLibraries) {
+      this.copyNativeLibraries = Optional.of(copyNativeLibraries);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries}.
+     * @param copyNativeLibraries value for copyNativeLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCopyNativeLibraries(Optional<CopyNativeLibraries> copyNativeLibraries) {
+      this.copyNativeLibraries = Preconditions.checkNotNull(copyNativeLibraries);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets}.
+     * @param packageStringAssets value for packageStringAssets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageStringAssets(PackageStringAssets packageStringAssets) {
+      this.packageStringAssets = Optional.of(packageStringAssets);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets}.
+     * @param packageStringAssets value for packageStringAssets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageStringAssets(Optional<PackageStringAssets> packageStringAssets) {
+      this.packageStringAssets = Preconditions.checkNotNull(packageStringAssets);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAndroidGraphEnhancementResult#getPreDexMerge() preDexMerge}.
+     * @param preDexMerge value for preDexMerge
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPreDexMerge(PreDexMerge preDexMerge) {
+      this.preDexMerge = Optional.of(preDexMerge);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAndroidGraphEnhancementResult#getPreDexMerge() preDexMerge}.
+     * @param preDexMerge value for preDexMerge
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPreDexMerge(Optional<PreDexMerge> preDexMerge) {
+      this.preDexMerge = Preconditions.checkNotNull(preDexMerge);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAndroidGraphEnhancementResult#getComputeExopackageDepsAbi() computeExopackageDepsAbi}.
+     * @param computeExopackageDepsAbi value for computeExopackageDepsAbi
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setComputeExopackageDepsAbi(ComputeExopackageDepsAbi computeExopackageDepsAbi) {
+      this.computeExopackageDepsAbi = Optional.of(computeExopackageDepsAbi);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAndroidGraphEnhancementResult#getComputeExopackageDepsAbi() computeExopackageDepsAbi}.
+     * @param computeExopackageDepsAbi value for computeExopackageDepsAbi
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setComputeExopackageDepsAbi(Optional<ComputeExopackageDepsAbi> computeExopackageDepsAbi) {
+      this.computeExopackageDepsAbi = Preconditions.checkNotNull(computeExopackageDepsAbi);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAndroidGraphEnhancementResult#getPackageAssetLibraries() packageAssetLibraries}.
+     * @param packageAssetLibraries value for packageAssetLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageAssetLibraries(boolean packageAssetLibraries) {
+      this.packageAssetLibraries = Optional.of(packageAssetLibraries);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAndroidGraphEnhancementResult#getPackageAssetLibraries() packageAssetLibraries}.
+     * @param packageAssetLibraries value for packageAssetLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageAssetLibraries(Optional<Boolean> packageAssetLibraries) {
+      this.packageAssetLibraries = Preconditions.checkNotNull(packageAssetLibraries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param element classpathEntriesToDex element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addClasspathEntriesToDex(Path element) {
+      classpathEntriesToDexBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements array of classpathEntriesToDex elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addClasspathEntriesToDex(Path... elements) {
+      classpathEntriesToDexBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setClasspathEntriesToDex(Iterable<? extends Path> elements) {
+      classpathEntriesToDexBuilder = ImmutableSet.builder();
+      return addAllClasspathEntriesToDex(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllClasspathEntriesToDex(Iterable<? extends Path> elements) {
+      classpathEntriesToDexBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAndroidGraphEnhancementResult#getFinalDeps() finalDeps}.
+     * @param finalDeps value for finalDeps
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFinalDeps(ImmutableSortedSet<BuildRule> finalDeps) {
+      this.finalDeps = Preconditions.checkNotNull(finalDeps);
+      initializedBitset |= INITIALIZED_BIT_FINAL_DEPS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.android.AndroidGraphEnhancementResult AndroidGraphEnhancementResult}.
+     * @return immutable instance of AndroidGraphEnhancementResult
+     */
+    public AndroidGraphEnhancementResult build() {
+      checkRequiredAttributes();
+      return new AndroidGraphEnhancementResult(
+              packageableCollection,
+              aaptPackageResources,
+              copyNativeLibraries,
+              packageStringAssets,
+              preDexMerge,
+              computeExopackageDepsAbi,
+              packageAssetLibraries,
+              classpathEntriesToDexBuilder.build(),
+              finalDeps);
+    }
+
+    private boolean packageableCollectionIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PACKAGEABLE_COLLECTION) != 0;
+    }
+
+    private boolean aaptPackageResourcesIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_AAPT_PACKAGE_RESOURCES) != 0;
+    }
+
+    private boolean finalDepsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FINAL_DEPS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!packageableCollectionIsSet()) {
+        attributes.add("packageableCollection");
+      }
+      if (!aaptPackageResourcesIsSet()) {
+        attributes.add("aaptPackageResources");
+      }
+      if (!finalDepsIsSet()) {
+        attributes.add("finalDeps");
+      }
+      return "Cannot build AndroidGraphEnhancementResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,2043 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.cxx.NativeLinkable;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.coercer.BuildConfigFields;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Booleans;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAndroidPackageableCollection}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AndroidPackageableCollection.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidPackageableCollection"})
+@Immutable
+public final class AndroidPackageableCollection
+    implements AbstractAndroidPackageableCollection {
+  private final AndroidPackageableCollection.ResourceDetails resourceDetails;
+  private final ImmutableSet<BuildTarget> nativeLibsTargets;
+  private final ImmutableList<NativeLinkable> nativeLinkables;
+  private final ImmutableList<NativeLinkable> nativeLinkablesAssets;
+  private final ImmutableSet<SourcePath> nativeLibsDirectories;
+  private final ImmutableSet<SourcePath> nativeLibAssetsDirectories;
+  private final ImmutableSet<SourcePath> assetsDirectories;
+  private final ImmutableSet<SourcePath> proguardConfigs;
+  private final ImmutableSet<SourcePath> classpathEntriesToDex;
+  private final ImmutableSet<SourcePath> noDxClasspathEntries;
+  private final ImmutableMap<String, BuildConfigFields> buildConfigs;
+  private final ImmutableSet<SourcePath> pathsToThirdPartyJars;
+  private final ImmutableSet<BuildTarget> javaLibrariesToDex;
+  private final Supplier<Map<String, HashCode>> classNamesToHashesSupplier;
+
+  private AndroidPackageableCollection(
+      AndroidPackageableCollection.ResourceDetails resourceDetails,
+      ImmutableSet<BuildTarget> nativeLibsTargets,
+      ImmutableList<NativeLinkable> nativeLinkables,
+      ImmutableList<NativeLinkable> nativeLinkablesAssets,
+      ImmutableSet<SourcePath> nativeLibsDirectories,
+      ImmutableSet<SourcePath> nativeLibAssetsDirectories,
+      ImmutableSet<SourcePath> assetsDirectories,
+      ImmutableSet<SourcePath> proguardConfigs,
+      ImmutableSet<SourcePath> classpathEntriesToDex,
+      ImmutableSet<SourcePath> noDxClasspathEntries,
+      ImmutableMap<String, BuildConfigFields> buildConfigs,
+      ImmutableSet<SourcePath> pathsToThirdPartyJars,
+      ImmutableSet<BuildTarget> javaLibrariesToDex,
+      Supplier<Map<String, HashCode>> classNamesToHashesSupplier) {
+    this.resourceDetails = resourceDetails;
+    this.nativeLibsTargets = nativeLibsTargets;
+    this.nativeLinkables = nativeLinkables;
+    this.nativeLinkablesAssets = nativeLinkablesAssets;
+    this.nativeLibsDirectories = nativeLibsDirectories;
+    this.nativeLibAssetsDirectories = nativeLibAssetsDirectories;
+    this.assetsDirectories = assetsDirectories;
+    this.proguardConfigs = proguardConfigs;
+    this.classpathEntriesToDex = classpathEntriesToDex;
+    this.noDxClasspathEntries = noDxClasspathEntries;
+    this.buildConfigs = buildConfigs;
+    this.pathsToThirdPartyJars = pathsToThirdPartyJars;
+    this.javaLibrariesToDex = javaLibrariesToDex;
+    this.classNamesToHashesSupplier = classNamesToHashesSupplier;
+  }
+
+  /**
+   * @return value of {@code resourceDetails} attribute
+   */
+  @Override
+  public AndroidPackageableCollection.ResourceDetails getResourceDetails() {
+    return resourceDetails;
+  }
+
+  /**
+   * A set of build targets that produce native libraries.
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getNativeLibsTargets() {
+    return nativeLibsTargets;
+  }
+
+  /**
+   * Native libraries.
+   */
+  @Override
+  public ImmutableList<NativeLinkable> getNativeLinkables() {
+    return nativeLinkables;
+  }
+
+  /**
+   * Native libraries to be packaged as assets.
+   */
+  @Override
+  public ImmutableList<NativeLinkable> getNativeLinkablesAssets() {
+    return nativeLinkablesAssets;
+  }
+
+  /**
+   * Directories containing native libraries.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getNativeLibsDirectories() {
+    return nativeLibsDirectories;
+  }
+
+  /**
+   * Directories containing native libraries to be used as assets.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getNativeLibAssetsDirectories() {
+    return nativeLibAssetsDirectories;
+  }
+
+  /**
+   * Directories containing assets to be included directly in the apk,
+   * under the "assets" directory.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getAssetsDirectories() {
+    return assetsDirectories;
+  }
+
+  /**
+   * Proguard configurations to include when running release builds.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getProguardConfigs() {
+    return proguardConfigs;
+  }
+
+  /**
+   * Java classes (jars) to include in the package.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getClasspathEntriesToDex() {
+    return classpathEntriesToDex;
+  }
+
+  /**
+   * Java classes that were used during compilation, but don't got into the package.
+   * This is only used by "buck project".  (It's existence is kind of contrary to
+   * the purpose of this class, but we make exceptions for "buck project".)
+   */
+  @Override
+  public ImmutableSet<SourcePath> getNoDxClasspathEntries() {
+    return noDxClasspathEntries;
+  }
+
+  /**
+   * @return value of {@code buildConfigs} attribute
+   */
+  @Override
+  public ImmutableMap<String, BuildConfigFields> getBuildConfigs() {
+    return buildConfigs;
+  }
+
+  /**
+   * Prebuilt/third-party jars to be included in the package.  For apks, their resources will
+   * be placed directly in the apk.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getPathsToThirdPartyJars() {
+    return pathsToThirdPartyJars;
+  }
+
+  /**
+   * {@link com.facebook.buck.jvm.java.JavaLibrary} rules whose output will be dexed and included in
+   * the package.
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getJavaLibrariesToDex() {
+    return javaLibrariesToDex;
+  }
+
+  /**
+   * See {@link com.facebook.buck.jvm.java.JavaLibrary#getClassNamesToHashes()}
+   */
+  @Override
+  public Supplier<Map<String, HashCode>> getClassNamesToHashesSupplier() {
+    return classNamesToHashesSupplier;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAndroidPackageableCollection#getResourceDetails() resourceDetails}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for resourceDetails
+   * @return modified copy of the {@code this} object
+   */
+  public final AndroidPackageableCollection withResourceDetails(AndroidPackageableCollection.ResourceDetails value) {
+    if (this.resourceDetails == value) {
+      return this;
+    }
+    AndroidPackageableCollection.ResourceDetails newValue = Preconditions.checkNotNull(value);
+    return new AndroidPackageableCollection(
+            newValue,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLibsTargets() nativeLibsTargets}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLibsTargets(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            newValue,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLibsTargets() nativeLibsTargets}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of nativeLibsTargets elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLibsTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.nativeLibsTargets == elements) {
+      return this;
+    }
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            newValue,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLinkables(NativeLinkable... elements) {
+    ImmutableList<NativeLinkable> newValue = ImmutableList.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            newValue,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of nativeLinkables elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLinkables(Iterable<? extends NativeLinkable> elements) {
+    if (this.nativeLinkables == elements) {
+      return this;
+    }
+    ImmutableList<NativeLinkable> newValue = ImmutableList.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            newValue,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLinkablesAssets(NativeLinkable... elements) {
+    ImmutableList<NativeLinkable> newValue = ImmutableList.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            newValue,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of nativeLinkablesAssets elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLinkablesAssets(Iterable<? extends NativeLinkable> elements) {
+    if (this.nativeLinkablesAssets == elements) {
+      return this;
+    }
+    ImmutableList<NativeLinkable> newValue = ImmutableList.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            newValue,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLibsDirectories(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            newValue,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of nativeLibsDirectories elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLibsDirectories(Iterable<? extends SourcePath> elements) {
+    if (this.nativeLibsDirectories == elements) {
+      return this;
+    }
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            newValue,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLibAssetsDirectories(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            newValue,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of nativeLibAssetsDirectories elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNativeLibAssetsDirectories(Iterable<? extends SourcePath> elements) {
+    if (this.nativeLibAssetsDirectories == elements) {
+      return this;
+    }
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            newValue,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withAssetsDirectories(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            newValue,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of assetsDirectories elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withAssetsDirectories(Iterable<? extends SourcePath> elements) {
+    if (this.assetsDirectories == elements) {
+      return this;
+    }
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            newValue,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withProguardConfigs(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            newValue,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of proguardConfigs elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withProguardConfigs(Iterable<? extends SourcePath> elements) {
+    if (this.proguardConfigs == elements) {
+      return this;
+    }
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            newValue,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withClasspathEntriesToDex(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            newValue,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of classpathEntriesToDex elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+    if (this.classpathEntriesToDex == elements) {
+      return this;
+    }
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            newValue,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNoDxClasspathEntries(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            newValue,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of noDxClasspathEntries elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withNoDxClasspathEntries(Iterable<? extends SourcePath> elements) {
+    if (this.noDxClasspathEntries == elements) {
+      return this;
+    }
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            newValue,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to buildConfigs map
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withBuildConfigs(Map<String, ? extends BuildConfigFields> entries) {
+    if (this.buildConfigs == entries) {
+      return this;
+    }
+    ImmutableMap<String, BuildConfigFields> newValue = ImmutableMap.copyOf(entries);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            newValue,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withPathsToThirdPartyJars(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            newValue,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of pathsToThirdPartyJars elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withPathsToThirdPartyJars(Iterable<? extends SourcePath> elements) {
+    if (this.pathsToThirdPartyJars == elements) {
+      return this;
+    }
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            newValue,
+            this.javaLibrariesToDex,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withJavaLibrariesToDex(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            newValue,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of javaLibrariesToDex elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AndroidPackageableCollection withJavaLibrariesToDex(Iterable<? extends BuildTarget> elements) {
+    if (this.javaLibrariesToDex == elements) {
+      return this;
+    }
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            newValue,
+            this.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAndroidPackageableCollection#getClassNamesToHashesSupplier() classNamesToHashesSupplier}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for classNamesToHashesSupplier
+   * @return modified copy of the {@code this} object
+   */
+  public final AndroidPackageableCollection withClassNamesToHashesSupplier(Supplier<Map<String, HashCode>> value) {
+    if (this.classNamesToHashesSupplier == value) {
+      return this;
+    }
+    Supplier<Map<String, HashCode>> newValue = Preconditions.checkNotNull(value);
+    return new AndroidPackageableCollection(
+            this.resourceDetails,
+            this.nativeLibsTargets,
+            this.nativeLinkables,
+            this.nativeLinkablesAssets,
+            this.nativeLibsDirectories,
+            this.nativeLibAssetsDirectories,
+            this.assetsDirectories,
+            this.proguardConfigs,
+            this.classpathEntriesToDex,
+            this.noDxClasspathEntries,
+            this.buildConfigs,
+            this.pathsToThirdPartyJars,
+            this.javaLibrariesToDex,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AndroidPackageableCollection} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AndroidPackageableCollection && equalTo((AndroidPackageableCollection) another));
+  }
+
+  private boolean equalTo(AndroidPackageableCollection another) {
+    return resourceDetails.equals(another.resourceDetails)
+        && nativeLibsTargets.equals(another.nativeLibsTargets)
+        && nativeLinkables.equals(another.nativeLinkables)
+        && nativeLinkablesAssets.equals(another.nativeLinkablesAssets)
+        && nativeLibsDirectories.equals(another.nativeLibsDirectories)
+        && nativeLibAssetsDirectories.equals(another.nativeLibAssetsDirectories)
+        && assetsDirectories.equals(another.assetsDirectories)
+        && proguardConfigs.equals(another.proguardConfigs)
+        && classpathEntriesToDex.equals(another.classpathEntriesToDex)
+        && noDxClasspathEntries.equals(another.noDxClasspathEntries)
+        && buildConfigs.equals(another.buildConfigs)
+        && pathsToThirdPartyJars.equals(another.pathsToThirdPartyJars)
+        && javaLibrariesToDex.equals(another.javaLibrariesToDex)
+        && classNamesToHashesSupplier.equals(another.classNamesToHashesSupplier);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code resourceDetails}, {@code nativeLibsTargets}, {@code nativeLinkables}, {@code nativeLinkablesAssets}, {@code nativeLibsDirectories}, {@code nativeLibAssetsDirectories}, {@code assetsDirectories}, {@code proguardConfigs}, {@code classpathEntriesToDex}, {@code noDxClasspathEntries}, {@code buildConfigs}, {@code pathsToThirdPartyJars}, {@code javaLibrariesToDex}, {@code classNamesToHashesSupplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + resourceDetails.hashCode();
+    h = h * 17 + nativeLibsTargets.hashCode();
+    h = h * 17 + nativeLinkables.hashCode();
+    h = h * 17 + nativeLinkablesAssets.hashCode();
+    h = h * 17 + nativeLibsDirectories.hashCode();
+    h = h * 17 + nativeLibAssetsDirectories.hashCode();
+    h = h * 17 + assetsDirectories.hashCode();
+    h = h * 17 + proguardConfigs.hashCode();
+    h = h * 17 + classpathEntriesToDex.hashCode();
+    h = h * 17 + noDxClasspathEntries.hashCode();
+    h = h * 17 + buildConfigs.hashCode();
+    h = h * 17 + pathsToThirdPartyJars.hashCode();
+    h = h * 17 + javaLibrariesToDex.hashCode();
+    h = h * 17 + classNamesToHashesSupplier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AndroidPackageableCollection{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidPackageableCollection")
+        .add("resourceDetails", resourceDetails)
+        .add("nativeLibsTargets", nativeLibsTargets)
+        .add("nativeLinkables", nativeLinkables)
+        .add("nativeLinkablesAssets", nativeLinkablesAssets)
+        .add("nativeLibsDirectories", nativeLibsDirectories)
+        .add("nativeLibAssetsDirectories", nativeLibAssetsDirectories)
+        .add("assetsDirectories", assetsDirectories)
+        .add("proguardConfigs", proguardConfigs)
+        .add("classpathEntriesToDex", classpathEntriesToDex)
+        .add("noDxClasspathEntries", noDxClasspathEntries)
+        .add("buildConfigs", buildConfigs)
+        .add("pathsToThirdPartyJars", pathsToThirdPartyJars)
+        .add("javaLibrariesToDex", javaLibrariesToDex)
+        .add("classNamesToHashesSupplier", classNamesToHashesSupplier)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAndroidPackageableCollection}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AndroidPackageableCollection instance
+   */
+  public static AndroidPackageableCollection copyOf(AbstractAndroidPackageableCollection instance) {
+    if (instance instanceof AndroidPackageableCollection) {
+      return (AndroidPackageableCollection) instance;
+    }
+    return AndroidPackageableCollection.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.android.AndroidPackageableCollection AndroidPackageableCollection}.
+   * @return new AndroidPackageableCollection builder
+   */
+  public static AndroidPackageableCollection.Builder builder() {
+    return new AndroidPackageableCollection.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.android.AndroidPackageableCollection AndroidPackageableCollection}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_RESOURCE_DETAILS = 0x1L;
+    private static final long INITIALIZED_BIT_CLASS_NAMES_TO_HASHES_SUPPLIER = 0x2L;
+    private long initializedBitset;
+    private @Nullable AndroidPackageableCollection.ResourceDetails resourceDetails;
+    private ImmutableSet.Builder<BuildTarget> nativeLibsTargetsBuilder = ImmutableSet.builder();
+    private ImmutableList.Builder<NativeLinkable> nativeLinkablesBuilder = ImmutableList.builder();
+    private ImmutableList.Builder<NativeLinkable> nativeLinkablesAssetsBuilder = ImmutableList.builder();
+    private ImmutableSet.Builder<SourcePath> nativeLibsDirectoriesBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> nativeLibAssetsDirectoriesBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> assetsDirectoriesBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> proguardConfigsBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> classpathEntriesToDexBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> noDxClasspathEntriesBuilder = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, BuildConfigFields> buildConfigsBuilder = ImmutableMap.builder();
+    private ImmutableSet.Builder<SourcePath> pathsToThirdPartyJarsBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<BuildTarget> javaLibrariesToDexBuilder = ImmutableSet.builder();
+    private @Nullable Supplier<Map<String, HashCode>> classNamesToHashesSupplier;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAndroidPackageableCollection} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAndroidPackageableCollection instance) {
+      Preconditions.checkNotNull(instance);
+      setResourceDetails(instance.getResourceDetails());
+      addAllNativeLibsTargets(instance.getNativeLibsTargets());
+      addAllNativeLinkables(instance.getNativeLinkables());
+      addAllNativeLinkablesAssets(instance.getNativeLinkablesAssets());
+      addAllNativeLibsDirectories(instance.getNativeLibsDirectories());
+      addAllNativeLibAssetsDirectories(instance.getNativeLibAssetsDirectories());
+      addAllAssetsDirectories(instance.getAssetsDirectories());
+      addAllProguardConfigs(instance.getProguardConfigs());
+      addAllClasspathEntriesToDex(instance.getClasspathEntriesToDex());
+      addAllNoDxClasspathEntries(instance.getNoDxClasspathEntries());
+      putAllBuildConfigs(instance.getBuildConfigs());
+      addAllPathsToThirdPartyJars(instance.getPathsToThirdPartyJars());
+      addAllJavaLibrariesToDex(instance.getJavaLibrariesToDex());
+      setClassNamesToHashesSupplier(instance.getClassNamesToHashesSupplier());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAndroidPackageableCollection#getResourceDetails() resourceDetails}.
+     * @param resourceDetails value for resourceDetails
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResourceDetails(AndroidPackageableCollection.ResourceDetails resourceDetails) {
+      this.resourceDetails = Preconditions.checkNotNull(resourceDetails);
+      initializedBitset |= INITIALIZED_BIT_RESOURCE_DETAILS;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getNativeLibsTargets() nativeLibsTargets} set.
+     * @param element nativeLibsTargets element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLibsTargets(BuildTarget element) {
+      nativeLibsTargetsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLibsTargets() nativeLibsTargets} set.
+     * @param elements array of nativeLibsTargets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLibsTargets(BuildTarget... elements) {
+      nativeLibsTargetsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getNativeLibsTargets() nativeLibsTargets} set.
+     * @param elements iterable of nativeLibsTargets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibsTargets(Iterable<? extends BuildTarget> elements) {
+      nativeLibsTargetsBuilder = ImmutableSet.builder();
+      return addAllNativeLibsTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLibsTargets() nativeLibsTargets} set.
+     * @param elements iterable of nativeLibsTargets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllNativeLibsTargets(Iterable<? extends BuildTarget> elements) {
+      nativeLibsTargetsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} list.
+     * @param element nativeLinkables element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLinkables(NativeLinkable element) {
+      nativeLinkablesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} list.
+     * @param elements array of nativeLinkables elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLinkables(NativeLinkable... elements) {
+      nativeLinkablesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} list.
+     * @param elements iterable of nativeLinkables elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLinkables(Iterable<? extends NativeLinkable> elements) {
+      nativeLinkablesBuilder = ImmutableList.builder();
+      return addAllNativeLinkables(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLinkables() nativeLinkables} list.
+     * @param elements iterable of nativeLinkables elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllNativeLinkables(Iterable<? extends NativeLinkable> elements) {
+      nativeLinkablesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} list.
+     * @param element nativeLinkablesAssets element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLinkablesAssets(NativeLinkable element) {
+      nativeLinkablesAssetsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} list.
+     * @param elements array of nativeLinkablesAssets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLinkablesAssets(NativeLinkable... elements) {
+      nativeLinkablesAssetsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} list.
+     * @param elements iterable of nativeLinkablesAssets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLinkablesAssets(Iterable<? extends NativeLinkable> elements) {
+      nativeLinkablesAssetsBuilder = ImmutableList.builder();
+      return addAllNativeLinkablesAssets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLinkablesAssets() nativeLinkablesAssets} list.
+     * @param elements iterable of nativeLinkablesAssets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllNativeLinkablesAssets(Iterable<? extends NativeLinkable> elements) {
+      nativeLinkablesAssetsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} set.
+     * @param element nativeLibsDirectories element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLibsDirectories(SourcePath element) {
+      nativeLibsDirectoriesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} set.
+     * @param elements array of nativeLibsDirectories elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLibsDirectories(SourcePath... elements) {
+      nativeLibsDirectoriesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} set.
+     * @param elements iterable of nativeLibsDirectories elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibsDirectories(Iterable<? extends SourcePath> elements) {
+      nativeLibsDirectoriesBuilder = ImmutableSet.builder();
+      return addAllNativeLibsDirectories(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLibsDirectories() nativeLibsDirectories} set.
+     * @param elements iterable of nativeLibsDirectories elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllNativeLibsDirectories(Iterable<? extends SourcePath> elements) {
+      nativeLibsDirectoriesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} set.
+     * @param element nativeLibAssetsDirectories element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLibAssetsDirectories(SourcePath element) {
+      nativeLibAssetsDirectoriesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} set.
+     * @param elements array of nativeLibAssetsDirectories elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNativeLibAssetsDirectories(SourcePath... elements) {
+      nativeLibAssetsDirectoriesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} set.
+     * @param elements iterable of nativeLibAssetsDirectories elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibAssetsDirectories(Iterable<? extends SourcePath> elements) {
+      nativeLibAssetsDirectoriesBuilder = ImmutableSet.builder();
+      return addAllNativeLibAssetsDirectories(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNativeLibAssetsDirectories() nativeLibAssetsDirectories} set.
+     * @param elements iterable of nativeLibAssetsDirectories elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllNativeLibAssetsDirectories(Iterable<? extends SourcePath> elements) {
+      nativeLibAssetsDirectoriesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories} set.
+     * @param element assetsDirectories element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAssetsDirectories(SourcePath element) {
+      assetsDirectoriesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories} set.
+     * @param elements array of assetsDirectories elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAssetsDirectories(SourcePath... elements) {
+      assetsDirectoriesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories} set.
+     * @param elements iterable of assetsDirectories elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAssetsDirectories(Iterable<? extends SourcePath> elements) {
+      assetsDirectoriesBuilder = ImmutableSet.builder();
+      return addAllAssetsDirectories(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getAssetsDirectories() assetsDirectories} set.
+     * @param elements iterable of assetsDirectories elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllAssetsDirectories(Iterable<? extends SourcePath> elements) {
+      assetsDirectoriesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param element proguardConfigs element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addProguardConfigs(SourcePath element) {
+      proguardConfigsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param elements array of proguardConfigs elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addProguardConfigs(SourcePath... elements) {
+      proguardConfigsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param elements iterable of proguardConfigs elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProguardConfigs(Iterable<? extends SourcePath> elements) {
+      proguardConfigsBuilder = ImmutableSet.builder();
+      return addAllProguardConfigs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getProguardConfigs() proguardConfigs} set.
+     * @param elements iterable of proguardConfigs elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllProguardConfigs(Iterable<? extends SourcePath> elements) {
+      proguardConfigsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param element classpathEntriesToDex element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addClasspathEntriesToDex(SourcePath element) {
+      classpathEntriesToDexBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements array of classpathEntriesToDex elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addClasspathEntriesToDex(SourcePath... elements) {
+      classpathEntriesToDexBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      classpathEntriesToDexBuilder = ImmutableSet.builder();
+      return addAllClasspathEntriesToDex(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      classpathEntriesToDexBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param element noDxClasspathEntries element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNoDxClasspathEntries(SourcePath element) {
+      noDxClasspathEntriesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param elements array of noDxClasspathEntries elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addNoDxClasspathEntries(SourcePath... elements) {
+      noDxClasspathEntriesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param elements iterable of noDxClasspathEntries elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNoDxClasspathEntries(Iterable<? extends SourcePath> elements) {
+      noDxClasspathEntriesBuilder = ImmutableSet.builder();
+      return addAllNoDxClasspathEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getNoDxClasspathEntries() noDxClasspathEntries} set.
+     * @param elements iterable of noDxClasspathEntries elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllNoDxClasspathEntries(Iterable<? extends SourcePath> elements) {
+      noDxClasspathEntriesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map.
+     * @param key the key in buildConfigs map
+     * @param value the associated value in buildConfigs map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putBuildConfigs(String key, BuildConfigFields value) {
+      buildConfigsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putBuildConfigs(Map.Entry<String, ? extends BuildConfigFields> entry) {
+      buildConfigsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map. Nulls are not permitted
+     * @param entries to be added to buildConfigs map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildConfigs(Map<String, ? extends BuildConfigFields> entries) {
+      buildConfigsBuilder = ImmutableMap.builder();
+      return putAllBuildConfigs(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractAndroidPackageableCollection#getBuildConfigs() buildConfigs} map. Nulls are not permitted
+     * @param entries to be added to buildConfigs map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllBuildConfigs(Map<String, ? extends BuildConfigFields> entries) {
+      buildConfigsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} set.
+     * @param element pathsToThirdPartyJars element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addPathsToThirdPartyJars(SourcePath element) {
+      pathsToThirdPartyJarsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} set.
+     * @param elements array of pathsToThirdPartyJars elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addPathsToThirdPartyJars(SourcePath... elements) {
+      pathsToThirdPartyJarsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} set.
+     * @param elements iterable of pathsToThirdPartyJars elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathsToThirdPartyJars(Iterable<? extends SourcePath> elements) {
+      pathsToThirdPartyJarsBuilder = ImmutableSet.builder();
+      return addAllPathsToThirdPartyJars(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getPathsToThirdPartyJars() pathsToThirdPartyJars} set.
+     * @param elements iterable of pathsToThirdPartyJars elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllPathsToThirdPartyJars(Iterable<? extends SourcePath> elements) {
+      pathsToThirdPartyJarsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param element javaLibrariesToDex element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addJavaLibrariesToDex(BuildTarget element) {
+      javaLibrariesToDexBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param elements array of javaLibrariesToDex elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addJavaLibrariesToDex(BuildTarget... elements) {
+      javaLibrariesToDexBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param elements iterable of javaLibrariesToDex elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavaLibrariesToDex(Iterable<? extends BuildTarget> elements) {
+      javaLibrariesToDexBuilder = ImmutableSet.builder();
+      return addAllJavaLibrariesToDex(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidPackageableCollection#getJavaLibrariesToDex() javaLibrariesToDex} set.
+     * @param elements iterable of javaLibrariesToDex elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllJavaLibrariesToDex(Iterable<? extends BuildTarget> elements) {
+      javaLibrariesToDexBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAndroidPackageableCollection#getClassNamesToHashesSupplier() classNamesToHashesSupplier}.
+     * @param classNamesToHashesSupplier value for classNamesToHashesSupplier
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setClassNamesToHashesSupplier(Supplier<Map<String, HashCode>> classNamesToHashesSupplier) {
+      this.classNamesToHashesSupplier = Preconditions.checkNotNull(classNamesToHashesSupplier);
+      initializedBitset |= INITIALIZED_BIT_CLASS_NAMES_TO_HASHES_SUPPLIER;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.android.AndroidPackageableCollection AndroidPackageableCollection}.
+     * @return immutable instance of AndroidPackageableCollection
+     */
+    public AndroidPackageableCollection build() {
+      checkRequiredAttributes();
+      return new AndroidPackageableCollection(
+              resourceDetails,
+              nativeLibsTargetsBuilder.build(),
+              nativeLinkablesBuilder.build(),
+              nativeLinkablesAssetsBuilder.build(),
+              nativeLibsDirectoriesBuilder.build(),
+              nativeLibAssetsDirectoriesBuilder.build(),
+              assetsDirectoriesBuilder.build(),
+              proguardConfigsBuilder.build(),
+              classpathEntriesToDexBuilder.build(),
+              noDxClasspathEntriesBuilder.build(),
+              buildConfigsBuilder.build(),
+              pathsToThirdPartyJarsBuilder.build(),
+              javaLibrariesToDexBuilder.build(),
+              classNamesToHashesSupplier);
+    }
+
+    private boolean resourceDetailsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_RESOURCE_DETAILS) != 0;
+    }
+
+    private boolean classNamesToHashesSupplierIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CLASS_NAMES_TO_HASHES_SUPPLIER) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!resourceDetailsIsSet()) {
+        attributes.add("resourceDetails");
+      }
+      if (!classNamesToHashesSupplierIsSet()) {
+        attributes.add("classNamesToHashesSupplier");
+      }
+      return "Cannot build AndroidPackageableCollection, some of required attributes are not set " + attributes;
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails}.
+   * <p>
+   * Use builder to create immutable instances:
+   * {@code AndroidPackageableCollection.ResourceDetails.builder()}.
+   */
+  @Immutable
+  public static final class ResourceDetails
+      extends AbstractAndroidPackageableCollection.AbstractResourceDetails {
+    private final ImmutableList<SourcePath> resourceDirectories;
+    private final ImmutableSet<SourcePath> whitelistedStringDirectories;
+    private final ImmutableList<BuildTarget> resourcesWithNonEmptyResDir;
+    private final ImmutableSet<BuildTarget> resourcesWithEmptyResButNonEmptyAssetsDir;
+    private final boolean hasResources;
+
+    private ResourceDetails(
+        ImmutableList<SourcePath> resourceDirectories,
+        ImmutableSet<SourcePath> whitelistedStringDirectories,
+        ImmutableList<BuildTarget> resourcesWithNonEmptyResDir,
+        ImmutableSet<BuildTarget> resourcesWithEmptyResButNonEmptyAssetsDir) {
+      this.resourceDirectories = resourceDirectories;
+      this.whitelistedStringDirectories = whitelistedStringDirectories;
+      this.resourcesWithNonEmptyResDir = resourcesWithNonEmptyResDir;
+      this.resourcesWithEmptyResButNonEmptyAssetsDir = resourcesWithEmptyResButNonEmptyAssetsDir;
+      this.hasResources = super.hasResources();
+    }
+
+    /**
+     * A list of "res" directories that should be passed to the aapt command to build the APK,
+     * sorted topologically.
+     */
+    @Override
+    public ImmutableList<SourcePath> getResourceDirectories() {
+      return resourceDirectories;
+    }
+
+    /**
+     * A set of "res" directories that contain "whitelisted" strings, i.e. the strings-as-assets
+     * resource filter does not affect these directories.
+     */
+    @Override
+    public ImmutableSet<SourcePath> getWhitelistedStringDirectories() {
+      return whitelistedStringDirectories;
+    }
+
+    /**
+     * A list of build targets belonging to {@link com.facebook.buck.android.AndroidResource}s with
+     * non-empty "res" directory, sorted topologically. Note that these are {@link BuildTarget}s
+     * to avoid introducing a circular dependency.
+     */
+    @Override
+    public ImmutableList<BuildTarget> getResourcesWithNonEmptyResDir() {
+      return resourcesWithNonEmptyResDir;
+    }
+
+    /**
+     * Unlike {@link #getResourcesWithNonEmptyResDir}, these resources only contain "assets".
+     */
+    @Override
+    public ImmutableSet<BuildTarget> getResourcesWithEmptyResButNonEmptyAssetsDir() {
+      return resourcesWithEmptyResButNonEmptyAssetsDir;
+    }
+
+    /**
+     * @return computed at construction value of {@code hasResources} attribute
+     */
+    @Override
+    public boolean hasResources() {
+      return hasResources;
+    }
+
+    /**
+     * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories}.
+     * @param elements elements to set
+     * @return modified copy of {@code this} object
+     */
+    public final ResourceDetails withResourceDirectories(SourcePath... elements) {
+      ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+      return new ResourceDetails(
+              newValue,
+              this.whitelistedStringDirectories,
+              this.resourcesWithNonEmptyResDir,
+              this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param elements iterable of resourceDirectories elements to set
+     * @return modified copy of {@code this} object
+     */
+    public final ResourceDetails withResourceDirectories(Iterable<? extends SourcePath> elements) {
+      if (this.resourceDirectories == elements) {
+        return this;
+      }
+      ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+      return new ResourceDetails(
+              newValue,
+              this.whitelistedStringDirectories,
+              this.resourcesWithNonEmptyResDir,
+              this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories}.
+     * @param elements elements to set
+     * @return modified copy of {@code this} object
+     */
+    public final ResourceDetails withWhitelistedStringDirectories(SourcePath... elements) {
+      ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+      return new ResourceDetails(
+              this.resourceDirectories,
+              newValue,
+              this.resourcesWithNonEmptyResDir,
+              this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param elements iterable of whitelistedStringDirectories elements to set
+     * @return modified copy of {@code this} object
+     */
+    public final ResourceDetails withWhitelistedStringDirectories(Iterable<? extends SourcePath> elements) {
+      if (this.whitelistedStringDirectories == elements) {
+        return this;
+      }
+      ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+      return new ResourceDetails(
+              this.resourceDirectories,
+              newValue,
+              this.resourcesWithNonEmptyResDir,
+              this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir}.
+     * @param elements elements to set
+     * @return modified copy of {@code this} object
+     */
+    public final ResourceDetails withResourcesWithNonEmptyResDir(BuildTarget... elements) {
+      ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+      return new ResourceDetails(
+              this.resourceDirectories,
+              this.whitelistedStringDirectories,
+              newValue,
+              this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param elements iterable of resourcesWithNonEmptyResDir elements to set
+     * @return modified copy of {@code this} object
+     */
+    public final ResourceDetails withResourcesWithNonEmptyResDir(Iterable<? extends BuildTarget> elements) {
+      if (this.resourcesWithNonEmptyResDir == elements) {
+        return this;
+      }
+      ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+      return new ResourceDetails(
+              this.resourceDirectories,
+              this.whitelistedStringDirectories,
+              newValue,
+              this.resourcesWithEmptyResButNonEmptyAssetsDir);
+    }
+
+    /**
+     * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir}.
+     * @param elements elements to set
+     * @return modified copy of {@code this} object
+     */
+    public final ResourceDetails withResourcesWithEmptyResButNonEmptyAssetsDir(BuildTarget... elements) {
+      ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+      return new ResourceDetails(
+              this.resourceDirectories,
+              this.whitelistedStringDirectories,
+              this.resourcesWithNonEmptyResDir,
+              newValue);
+    }
+
+    /**
+     * Copy current immutable object with elements that replace content of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param elements iterable of resourcesWithEmptyResButNonEmptyAssetsDir elements to set
+     * @return modified copy of {@code this} object
+     */
+    public final ResourceDetails withResourcesWithEmptyResButNonEmptyAssetsDir(Iterable<? extends BuildTarget> elements) {
+      if (this.resourcesWithEmptyResButNonEmptyAssetsDir == elements) {
+        return this;
+      }
+      ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+      return new ResourceDetails(
+              this.resourceDirectories,
+              this.whitelistedStringDirectories,
+              this.resourcesWithNonEmptyResDir,
+              newValue);
+    }
+
+    /**
+     * This instance is equal to instances of {@code ResourceDetails} with equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      return this == another
+          || (another instanceof ResourceDetails && equalTo((ResourceDetails) another));
+    }
+
+    private boolean equalTo(ResourceDetails another) {
+      return resourceDirectories.equals(another.resourceDirectories)
+          && whitelistedStringDirectories.equals(another.whitelistedStringDirectories)
+          && resourcesWithNonEmptyResDir.equals(another.resourcesWithNonEmptyResDir)
+          && resourcesWithEmptyResButNonEmptyAssetsDir.equals(another.resourcesWithEmptyResButNonEmptyAssetsDir)
+          && hasResources == another.hasResources;
+    }
+
+    /**
+     * Computes hash code from attributes: {@code resourceDirectories}, {@code whitelistedStringDirectories}, {@code resourcesWithNonEmptyResDir}, {@code resourcesWithEmptyResButNonEmptyAssetsDir}, {@code hasResources}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 31;
+      h = h * 17 + resourceDirectories.hashCode();
+      h = h * 17 + whitelistedStringDirectories.hashCode();
+      h = h * 17 + resourcesWithNonEmptyResDir.hashCode();
+      h = h * 17 + resourcesWithEmptyResButNonEmptyAssetsDir.hashCode();
+      h = h * 17 + Booleans.hashCode(hasResources);
+      return h;
+    }
+
+    /**
+     * Prints immutable value {@code ResourceDetails{...}} with attribute values,
+     * excluding any non-generated and auxiliary attributes.
+     * @return string representation of value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("ResourceDetails")
+          .add("resourceDirectories", resourceDirectories)
+          .add("whitelistedStringDirectories", whitelistedStringDirectories)
+          .add("resourcesWithNonEmptyResDir", resourcesWithNonEmptyResDir)
+          .add("resourcesWithEmptyResButNonEmptyAssetsDir", resourcesWithEmptyResButNonEmptyAssetsDir)
+          .add("hasResources", hasResources)
+          .toString();
+    }
+
+    /**
+     * Creates immutable copy of {@link AbstractAndroidPackageableCollection.AbstractResourceDetails}.
+     * Uses accessors to get values to initialize immutable instance.
+     * If an instance is already immutable, it is returned as is.
+     * @param instance instance to copy
+     * @return copied immutable ResourceDetails instance
+     */
+    public static AndroidPackageableCollection.ResourceDetails copyOf(AbstractAndroidPackageableCollection.AbstractResourceDetails instance) {
+      if (instance instanceof AndroidPackageableCollection.ResourceDetails) {
+        return (ResourceDetails) instance;
+      }
+      return AndroidPackageableCollection.ResourceDetails.builder()
+          .from(instance)
+          .build();
+    }
+
+    /**
+     * Creates builder for {@link com.facebook.buck.android.AndroidPackageableCollection.ResourceDetails ResourceDetails}.
+     * @return new ResourceDetails builder
+     */
+    public static AndroidPackageableCollection.ResourceDetails.Builder builder() {
+      return new AndroidPackageableCollection.ResourceDetails.Builder();
+    }
+
+    /**
+     * Builds instances of {@link com.facebook.buck.android.AndroidPackageableCollection.ResourceDetails ResourceDetails}.
+     * Initialize attributes and then invoke {@link #build()} method to create
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+     * but used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private ImmutableList.Builder<SourcePath> resourceDirectoriesBuilder = ImmutableList.builder();
+      private ImmutableSet.Builder<SourcePath> whitelistedStringDirectoriesBuilder = ImmutableSet.builder();
+      private ImmutableList.Builder<BuildTarget> resourcesWithNonEmptyResDirBuilder = ImmutableList.builder();
+      private ImmutableSet.Builder<BuildTarget> resourcesWithEmptyResButNonEmptyAssetsDirBuilder = ImmutableSet.builder();
+
+      private Builder() {}
+
+      /**
+       * Fill builder with attribute values from provided {@link AbstractAndroidPackageableCollection.AbstractResourceDetails} instance.
+       * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+       * Instance's absent optional values will not be copied (will not override current).
+       * Collection elements and entries will be added, not replaced.
+       * @param instance instance to copy values from
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder from(AbstractAndroidPackageableCollection.AbstractResourceDetails instance) {
+        Preconditions.checkNotNull(instance);
+        addAllResourceDirectories(instance.getResourceDirectories());
+        addAllWhitelistedStringDirectories(instance.getWhitelistedStringDirectories());
+        addAllResourcesWithNonEmptyResDir(instance.getResourcesWithNonEmptyResDir());
+        addAllResourcesWithEmptyResButNonEmptyAssetsDir(instance.getResourcesWithEmptyResButNonEmptyAssetsDir());
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param element resourceDirectories element
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addResourceDirectories(SourcePath element) {
+        resourceDirectoriesBuilder.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param elements array of resourceDirectories elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addResourceDirectories(SourcePath... elements) {
+        resourceDirectoriesBuilder.add(elements);
+        return this;
+      }
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param elements iterable of resourceDirectories elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setResourceDirectories(Iterable<? extends SourcePath> elements) {
+        resourceDirectoriesBuilder = ImmutableList.builder();
+        return addAllResourceDirectories(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourceDirectories() resourceDirectories} list.
+       * @param elements iterable of resourceDirectories elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addAllResourceDirectories(Iterable<? extends SourcePath> elements) {
+        resourceDirectoriesBuilder.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param element whitelistedStringDirectories element
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addWhitelistedStringDirectories(SourcePath element) {
+        whitelistedStringDirectoriesBuilder.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param elements array of whitelistedStringDirectories elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addWhitelistedStringDirectories(SourcePath... elements) {
+        whitelistedStringDirectoriesBuilder.add(elements);
+        return this;
+      }
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param elements iterable of whitelistedStringDirectories elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setWhitelistedStringDirectories(Iterable<? extends SourcePath> elements) {
+        whitelistedStringDirectoriesBuilder = ImmutableSet.builder();
+        return addAllWhitelistedStringDirectories(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getWhitelistedStringDirectories() whitelistedStringDirectories} set.
+       * @param elements iterable of whitelistedStringDirectories elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addAllWhitelistedStringDirectories(Iterable<? extends SourcePath> elements) {
+        whitelistedStringDirectoriesBuilder.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param element resourcesWithNonEmptyResDir element
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addResourcesWithNonEmptyResDir(BuildTarget element) {
+        resourcesWithNonEmptyResDirBuilder.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param elements array of resourcesWithNonEmptyResDir elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addResourcesWithNonEmptyResDir(BuildTarget... elements) {
+        resourcesWithNonEmptyResDirBuilder.add(elements);
+        return this;
+      }
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param elements iterable of resourcesWithNonEmptyResDir elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setResourcesWithNonEmptyResDir(Iterable<? extends BuildTarget> elements) {
+        resourcesWithNonEmptyResDirBuilder = ImmutableList.builder();
+        return addAllResourcesWithNonEmptyResDir(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithNonEmptyResDir() resourcesWithNonEmptyResDir} list.
+       * @param elements iterable of resourcesWithNonEmptyResDir elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addAllResourcesWithNonEmptyResDir(Iterable<? extends BuildTarget> elements) {
+        resourcesWithNonEmptyResDirBuilder.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param element resourcesWithEmptyResButNonEmptyAssetsDir element
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addResourcesWithEmptyResButNonEmptyAssetsDir(BuildTarget element) {
+        resourcesWithEmptyResButNonEmptyAssetsDirBuilder.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param elements array of resourcesWithEmptyResButNonEmptyAssetsDir elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addResourcesWithEmptyResButNonEmptyAssetsDir(BuildTarget... elements) {
+        resourcesWithEmptyResButNonEmptyAssetsDirBuilder.add(elements);
+        return this;
+      }
+
+      /**
+       * Sets or replaces all elements for {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param elements iterable of resourcesWithEmptyResButNonEmptyAssetsDir elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setResourcesWithEmptyResButNonEmptyAssetsDir(Iterable<? extends BuildTarget> elements) {
+        resourcesWithEmptyResButNonEmptyAssetsDirBuilder = ImmutableSet.builder();
+        return addAllResourcesWithEmptyResButNonEmptyAssetsDir(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractAndroidPackageableCollection.AbstractResourceDetails#getResourcesWithEmptyResButNonEmptyAssetsDir() resourcesWithEmptyResButNonEmptyAssetsDir} set.
+       * @param elements iterable of resourcesWithEmptyResButNonEmptyAssetsDir elements
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder addAllResourcesWithEmptyResButNonEmptyAssetsDir(Iterable<? extends BuildTarget> elements) {
+        resourcesWithEmptyResButNonEmptyAssetsDirBuilder.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Builds new {@link com.facebook.buck.android.AndroidPackageableCollection.ResourceDetails ResourceDetails}.
+       * @return immutable instance of ResourceDetails
+       */
+      public com.facebook.buck.android.AndroidPackageableCollection.ResourceDetails build() {
+        return new AndroidPackageableCollection.ResourceDetails(
+                resourceDirectoriesBuilder.build(),
+                whitelistedStringDirectoriesBuilder.build(),
+                resourcesWithNonEmptyResDirBuilder.build(),
+                resourcesWithEmptyResButNonEmptyAssetsDirBuilder.build());
+      }
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.facebook.buck.android;
+
+import javax.annotation.Generated;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * {@code ImmutableNdkCxxPlatforms} contains immutable implementation classes generated from
+ * abstract value types defined as nested inside {@link NdkCxxPlatforms}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "NdkCxxPlatforms"})
+public final class ImmutableNdkCxxPlatforms {
+  private ImmutableNdkCxxPlatforms() {}
+}
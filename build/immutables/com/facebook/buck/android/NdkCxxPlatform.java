@@ -0,0 +1,282 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.cxx.CxxPlatform;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractNdkCxxPlatform}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code NdkCxxPlatform.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNdkCxxPlatform"})
+@Immutable
+public final class NdkCxxPlatform implements AbstractNdkCxxPlatform {
+  private final CxxPlatform cxxPlatform;
+  private final NdkCxxPlatforms.CxxRuntime cxxRuntime;
+  private final Path cxxSharedRuntimePath;
+
+  private NdkCxxPlatform(
+      CxxPlatform cxxPlatform,
+      NdkCxxPlatforms.CxxRuntime cxxRuntime,
+      Path cxxSharedRuntimePath) {
+    this.cxxPlatform = cxxPlatform;
+    this.cxxRuntime = cxxRuntime;
+    this.cxxSharedRuntimePath = cxxSharedRuntimePath;
+  }
+
+  /**
+   * @return value of {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return value of {@code cxxRuntime} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.CxxRuntime getCxxRuntime() {
+    return cxxRuntime;
+  }
+
+  /**
+   * @return the {@link Path} to the C/C++ runtime library.
+   */
+  @Override
+  public Path getCxxSharedRuntimePath() {
+    return cxxSharedRuntimePath;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatform#getCxxPlatform() cxxPlatform}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cxxPlatform
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatform withCxxPlatform(CxxPlatform value) {
+    if (this.cxxPlatform == value) {
+      return this;
+    }
+    CxxPlatform newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatform(newValue, this.cxxRuntime, this.cxxSharedRuntimePath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatform#getCxxRuntime() cxxRuntime}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cxxRuntime
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatform withCxxRuntime(NdkCxxPlatforms.CxxRuntime value) {
+    if (this.cxxRuntime == value) {
+      return this;
+    }
+    NdkCxxPlatforms.CxxRuntime newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatform(this.cxxPlatform, newValue, this.cxxSharedRuntimePath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cxxSharedRuntimePath
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatform withCxxSharedRuntimePath(Path value) {
+    if (this.cxxSharedRuntimePath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatform(this.cxxPlatform, this.cxxRuntime, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code NdkCxxPlatform} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof NdkCxxPlatform && equalTo((NdkCxxPlatform) another));
+  }
+
+  private boolean equalTo(NdkCxxPlatform another) {
+    return cxxPlatform.equals(another.cxxPlatform)
+        && cxxRuntime.equals(another.cxxRuntime)
+        && cxxSharedRuntimePath.equals(another.cxxSharedRuntimePath);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code cxxPlatform}, {@code cxxRuntime}, {@code cxxSharedRuntimePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cxxPlatform.hashCode();
+    h = h * 17 + cxxRuntime.hashCode();
+    h = h * 17 + cxxSharedRuntimePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code NdkCxxPlatform{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatform")
+        .add("cxxPlatform", cxxPlatform)
+        .add("cxxRuntime", cxxRuntime)
+        .add("cxxSharedRuntimePath", cxxSharedRuntimePath)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractNdkCxxPlatform}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable NdkCxxPlatform instance
+   */
+  public static NdkCxxPlatform copyOf(AbstractNdkCxxPlatform instance) {
+    if (instance instanceof NdkCxxPlatform) {
+      return (NdkCxxPlatform) instance;
+    }
+    return NdkCxxPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.android.NdkCxxPlatform NdkCxxPlatform}.
+   * @return new NdkCxxPlatform builder
+   */
+  public static NdkCxxPlatform.Builder builder() {
+    return new NdkCxxPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.android.NdkCxxPlatform NdkCxxPlatform}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_CXX_PLATFORM = 0x1L;
+    private static final long INITIALIZED_BIT_CXX_RUNTIME = 0x2L;
+    private static final long INITIALIZED_BIT_CXX_SHARED_RUNTIME_PATH = 0x4L;
+    private long initializedBitset;
+    private @Nullable CxxPlatform cxxPlatform;
+    private @Nullable NdkCxxPlatforms.CxxRuntime cxxRuntime;
+    private @Nullable Path cxxSharedRuntimePath;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractNdkCxxPlatform} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractNdkCxxPlatform instance) {
+      Preconditions.checkNotNull(instance);
+      setCxxPlatform(instance.getCxxPlatform());
+      setCxxRuntime(instance.getCxxRuntime());
+      setCxxSharedRuntimePath(instance.getCxxSharedRuntimePath());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatform#getCxxPlatform() cxxPlatform}.
+     * @param cxxPlatform value for cxxPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Preconditions.checkNotNull(cxxPlatform);
+      initializedBitset |= INITIALIZED_BIT_CXX_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatform#getCxxRuntime() cxxRuntime}.
+     * @param cxxRuntime value for cxxRuntime
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxRuntime(NdkCxxPlatforms.CxxRuntime cxxRuntime) {
+      this.cxxRuntime = Preconditions.checkNotNull(cxxRuntime);
+      initializedBitset |= INITIALIZED_BIT_CXX_RUNTIME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath}.
+     * @param cxxSharedRuntimePath value for cxxSharedRuntimePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxSharedRuntimePath(Path cxxSharedRuntimePath) {
+      this.cxxSharedRuntimePath = Preconditions.checkNotNull(cxxSharedRuntimePath);
+      initializedBitset |= INITIALIZED_BIT_CXX_SHARED_RUNTIME_PATH;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.android.NdkCxxPlatform NdkCxxPlatform}.
+     * @return immutable instance of NdkCxxPlatform
+     */
+    public NdkCxxPlatform build() {
+      checkRequiredAttributes();
+      return new NdkCxxPlatform(cxxPlatform, cxxRuntime, cxxSharedRuntimePath);
+    }
+
+    private boolean cxxPlatformIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CXX_PLATFORM) != 0;
+    }
+
+    private boolean cxxRuntimeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CXX_RUNTIME) != 0;
+    }
+
+    private boolean cxxSharedRuntimePathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CXX_SHARED_RUNTIME_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!cxxPlatformIsSet()) {
+        attributes.add("cxxPlatform");
+      }
+      if (!cxxRuntimeIsSet()) {
+        attributes.add("cxxRuntime");
+      }
+      if (!cxxSharedRuntimePathIsSet()) {
+        attributes.add("cxxSharedRuntimePath");
+      }
+      return "Cannot build NdkCxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
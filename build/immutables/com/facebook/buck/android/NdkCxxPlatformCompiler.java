@@ -0,0 +1,282 @@
+package com.facebook.buck.android;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractNdkCxxPlatformCompiler}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code NdkCxxPlatformCompiler.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNdkCxxPlatformCompiler"})
+@Immutable
+public final class NdkCxxPlatformCompiler implements AbstractNdkCxxPlatformCompiler {
+  private final AbstractNdkCxxPlatformCompiler.Type type;
+  private final String version;
+  private final String gccVersion;
+
+  private NdkCxxPlatformCompiler(
+      AbstractNdkCxxPlatformCompiler.Type type,
+      String version,
+      String gccVersion) {
+    this.type = type;
+    this.version = version;
+    this.gccVersion = gccVersion;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public AbstractNdkCxxPlatformCompiler.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return the compiler version, corresponding to either `gcc_version` or `clang_version`
+   * from the .buckconfig settings, depending on which compiler family was selected.
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * @return the GCC compiler version.  Since even runtimes which are not GCC-based need to use
+   * GCC tools (e.g. ar, as,, ld.gold), we need to *always* have a version of GCC.
+   */
+  @Override
+  public String getGccVersion() {
+    return gccVersion;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatformCompiler#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformCompiler withType(AbstractNdkCxxPlatformCompiler.Type value) {
+    if (this.type == value) {
+      return this;
+    }
+    AbstractNdkCxxPlatformCompiler.Type newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatformCompiler(newValue, this.version, this.gccVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatformCompiler#getVersion() version}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for version
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformCompiler withVersion(String value) {
+    if (this.version == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatformCompiler(this.type, newValue, this.gccVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatformCompiler#getGccVersion() gccVersion}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for gccVersion
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformCompiler withGccVersion(String value) {
+    if (this.gccVersion == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatformCompiler(this.type, this.version, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code NdkCxxPlatformCompiler} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof NdkCxxPlatformCompiler && equalTo((NdkCxxPlatformCompiler) another));
+  }
+
+  private boolean equalTo(NdkCxxPlatformCompiler another) {
+    return type.equals(another.type)
+        && version.equals(another.version)
+        && gccVersion.equals(another.gccVersion);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code version}, {@code gccVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + version.hashCode();
+    h = h * 17 + gccVersion.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code NdkCxxPlatformCompiler{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformCompiler")
+        .add("type", type)
+        .add("version", version)
+        .add("gccVersion", gccVersion)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractNdkCxxPlatformCompiler}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable NdkCxxPlatformCompiler instance
+   */
+  public static NdkCxxPlatformCompiler copyOf(AbstractNdkCxxPlatformCompiler instance) {
+    if (instance instanceof NdkCxxPlatformCompiler) {
+      return (NdkCxxPlatformCompiler) instance;
+    }
+    return NdkCxxPlatformCompiler.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.android.NdkCxxPlatformCompiler NdkCxxPlatformCompiler}.
+   * @return new NdkCxxPlatformCompiler builder
+   */
+  public static NdkCxxPlatformCompiler.Builder builder() {
+    return new NdkCxxPlatformCompiler.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.android.NdkCxxPlatformCompiler NdkCxxPlatformCompiler}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private static final long INITIALIZED_BIT_VERSION = 0x2L;
+    private static final long INITIALIZED_BIT_GCC_VERSION = 0x4L;
+    private long initializedBitset;
+    private @Nullable AbstractNdkCxxPlatformCompiler.Type type;
+    private @Nullable String version;
+    private @Nullable String gccVersion;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractNdkCxxPlatformCompiler} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractNdkCxxPlatformCompiler instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      setVersion(instance.getVersion());
+      setGccVersion(instance.getGccVersion());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatformCompiler#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(AbstractNdkCxxPlatformCompiler.Type type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatformCompiler#getVersion() version}.
+     * @param version value for version
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersion(String version) {
+      this.version = Preconditions.checkNotNull(version);
+      initializedBitset |= INITIALIZED_BIT_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatformCompiler#getGccVersion() gccVersion}.
+     * @param gccVersion value for gccVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGccVersion(String gccVersion) {
+      this.gccVersion = Preconditions.checkNotNull(gccVersion);
+      initializedBitset |= INITIALIZED_BIT_GCC_VERSION;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.android.NdkCxxPlatformCompiler NdkCxxPlatformCompiler}.
+     * @return immutable instance of NdkCxxPlatformCompiler
+     */
+    public NdkCxxPlatformCompiler build() {
+      checkRequiredAttributes();
+      return new NdkCxxPlatformCompiler(type, version, gccVersion);
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private boolean versionIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_VERSION) != 0;
+    }
+
+    private boolean gccVersionIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_GCC_VERSION) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      if (!versionIsSet()) {
+        attributes.add("version");
+      }
+      if (!gccVersionIsSet()) {
+        attributes.add("gccVersion");
+      }
+      return "Cannot build NdkCxxPlatformCompiler, some of required attributes are not set " + attributes;
+    }
+  }
+}
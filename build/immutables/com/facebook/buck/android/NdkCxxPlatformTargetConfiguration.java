@@ -0,0 +1,737 @@
+package com.facebook.buck.android;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractNdkCxxPlatformTargetConfiguration}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code NdkCxxPlatformTargetConfiguration.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNdkCxxPlatformTargetConfiguration"})
+@Immutable
+public final class NdkCxxPlatformTargetConfiguration
+    extends AbstractNdkCxxPlatformTargetConfiguration {
+  private final NdkCxxPlatforms.Toolchain toolchain;
+  private final NdkCxxPlatforms.ToolchainTarget toolchainTarget;
+  private final NdkCxxPlatforms.TargetArch targetArch;
+  private final NdkCxxPlatforms.TargetArchAbi targetArchAbi;
+  private final String targetAppPlatform;
+  private final NdkCxxPlatformCompiler compiler;
+  private final ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> compilerFlags;
+  private final ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> assemblerFlags;
+  private final ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> linkerFlags;
+
+  private NdkCxxPlatformTargetConfiguration(
+      NdkCxxPlatforms.Toolchain toolchain,
+      NdkCxxPlatforms.ToolchainTarget toolchainTarget,
+      NdkCxxPlatforms.TargetArch targetArch,
+      NdkCxxPlatforms.TargetArchAbi targetArchAbi,
+      String targetAppPlatform,
+      NdkCxxPlatformCompiler compiler,
+      ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> compilerFlags,
+      ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> assemblerFlags,
+      ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> linkerFlags) {
+    this.toolchain = toolchain;
+    this.toolchainTarget = toolchainTarget;
+    this.targetArch = targetArch;
+    this.targetArchAbi = targetArchAbi;
+    this.targetAppPlatform = targetAppPlatform;
+    this.compiler = compiler;
+    this.compilerFlags = compilerFlags;
+    this.assemblerFlags = assemblerFlags;
+    this.linkerFlags = linkerFlags;
+  }
+
+  /**
+   * @return value of {@code toolchain} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.Toolchain getToolchain() {
+    return toolchain;
+  }
+
+  /**
+   * @return value of {@code toolchainTarget} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.ToolchainTarget getToolchainTarget() {
+    return toolchainTarget;
+  }
+
+  /**
+   * @return value of {@code targetArch} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.TargetArch getTargetArch() {
+    return targetArch;
+  }
+
+  /**
+   * @return value of {@code targetArchAbi} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.TargetArchAbi getTargetArchAbi() {
+    return targetArchAbi;
+  }
+
+  /**
+   * @return value of {@code targetAppPlatform} attribute
+   */
+  @Override
+  public String getTargetAppPlatform() {
+    return targetAppPlatform;
+  }
+
+  /**
+   * @return value of {@code compiler} attribute
+   */
+  @Override
+  public NdkCxxPlatformCompiler getCompiler() {
+    return compiler;
+  }
+
+  /**
+   * @return value of {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return value of {@code assemblerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> getAssemblerFlags() {
+    return assemblerFlags;
+  }
+
+  /**
+   * @return value of {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatformTargetConfiguration#getToolchain() toolchain}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for toolchain
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withToolchain(NdkCxxPlatforms.Toolchain value) {
+    if (this.toolchain == value) {
+      return this;
+    }
+    NdkCxxPlatforms.Toolchain newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatformTargetConfiguration(
+            newValue,
+            this.toolchainTarget,
+            this.targetArch,
+            this.targetArchAbi,
+            this.targetAppPlatform,
+            this.compiler,
+            this.compilerFlags,
+            this.assemblerFlags,
+            this.linkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatformTargetConfiguration#getToolchainTarget() toolchainTarget}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for toolchainTarget
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withToolchainTarget(NdkCxxPlatforms.ToolchainTarget value) {
+    if (this.toolchainTarget == value) {
+      return this;
+    }
+    NdkCxxPlatforms.ToolchainTarget newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatformTargetConfiguration(
+            this.toolchain,
+            newValue,
+            this.targetArch,
+            this.targetArchAbi,
+            this.targetAppPlatform,
+            this.compiler,
+            this.compilerFlags,
+            this.assemblerFlags,
+            this.linkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetArch() targetArch}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for targetArch
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withTargetArch(NdkCxxPlatforms.TargetArch value) {
+    if (this.targetArch == value) {
+      return this;
+    }
+    NdkCxxPlatforms.TargetArch newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatformTargetConfiguration(
+            this.toolchain,
+            this.toolchainTarget,
+            newValue,
+            this.targetArchAbi,
+            this.targetAppPlatform,
+            this.compiler,
+            this.compilerFlags,
+            this.assemblerFlags,
+            this.linkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetArchAbi() targetArchAbi}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for targetArchAbi
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withTargetArchAbi(NdkCxxPlatforms.TargetArchAbi value) {
+    if (this.targetArchAbi == value) {
+      return this;
+    }
+    NdkCxxPlatforms.TargetArchAbi newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatformTargetConfiguration(
+            this.toolchain,
+            this.toolchainTarget,
+            this.targetArch,
+            newValue,
+            this.targetAppPlatform,
+            this.compiler,
+            this.compilerFlags,
+            this.assemblerFlags,
+            this.linkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetAppPlatform() targetAppPlatform}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for targetAppPlatform
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withTargetAppPlatform(String value) {
+    if (this.targetAppPlatform == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatformTargetConfiguration(
+            this.toolchain,
+            this.toolchainTarget,
+            this.targetArch,
+            this.targetArchAbi,
+            newValue,
+            this.compiler,
+            this.compilerFlags,
+            this.assemblerFlags,
+            this.linkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractNdkCxxPlatformTargetConfiguration#getCompiler() compiler}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for compiler
+   * @return modified copy of the {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withCompiler(NdkCxxPlatformCompiler value) {
+    if (this.compiler == value) {
+      return this;
+    }
+    NdkCxxPlatformCompiler newValue = Preconditions.checkNotNull(value);
+    return new NdkCxxPlatformTargetConfiguration(
+            this.toolchain,
+            this.toolchainTarget,
+            this.targetArch,
+            this.targetArchAbi,
+            this.targetAppPlatform,
+            newValue,
+            this.compilerFlags,
+            this.assemblerFlags,
+            this.linkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to compilerFlags map
+   * @return modified copy of {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withCompilerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+    if (this.compilerFlags == entries) {
+      return this;
+    }
+    ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> newValue = ImmutableMap.copyOf(entries);
+    return new NdkCxxPlatformTargetConfiguration(
+            this.toolchain,
+            this.toolchainTarget,
+            this.targetArch,
+            this.targetArchAbi,
+            this.targetAppPlatform,
+            this.compiler,
+            newValue,
+            this.assemblerFlags,
+            this.linkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to assemblerFlags map
+   * @return modified copy of {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withAssemblerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+    if (this.assemblerFlags == entries) {
+      return this;
+    }
+    ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> newValue = ImmutableMap.copyOf(entries);
+    return new NdkCxxPlatformTargetConfiguration(
+            this.toolchain,
+            this.toolchainTarget,
+            this.targetArch,
+            this.targetArchAbi,
+            this.targetAppPlatform,
+            this.compiler,
+            this.compilerFlags,
+            newValue,
+            this.linkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to linkerFlags map
+   * @return modified copy of {@code this} object
+   */
+  public final NdkCxxPlatformTargetConfiguration withLinkerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+    if (this.linkerFlags == entries) {
+      return this;
+    }
+    ImmutableMap<NdkCxxPlatformCompiler.Type, ImmutableList<String>> newValue = ImmutableMap.copyOf(entries);
+    return new NdkCxxPlatformTargetConfiguration(
+            this.toolchain,
+            this.toolchainTarget,
+            this.targetArch,
+            this.targetArchAbi,
+            this.targetAppPlatform,
+            this.compiler,
+            this.compilerFlags,
+            this.assemblerFlags,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code NdkCxxPlatformTargetConfiguration} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof NdkCxxPlatformTargetConfiguration && equalTo((NdkCxxPlatformTargetConfiguration) another));
+  }
+
+  private boolean equalTo(NdkCxxPlatformTargetConfiguration another) {
+    return toolchain.equals(another.toolchain)
+        && toolchainTarget.equals(another.toolchainTarget)
+        && targetArch.equals(another.targetArch)
+        && targetArchAbi.equals(another.targetArchAbi)
+        && targetAppPlatform.equals(another.targetAppPlatform)
+        && compiler.equals(another.compiler)
+        && compilerFlags.equals(another.compilerFlags)
+        && assemblerFlags.equals(another.assemblerFlags)
+        && linkerFlags.equals(another.linkerFlags);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code toolchain}, {@code toolchainTarget}, {@code targetArch}, {@code targetArchAbi}, {@code targetAppPlatform}, {@code compiler}, {@code compilerFlags}, {@code assemblerFlags}, {@code linkerFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + toolchain.hashCode();
+    h = h * 17 + toolchainTarget.hashCode();
+    h = h * 17 + targetArch.hashCode();
+    h = h * 17 + targetArchAbi.hashCode();
+    h = h * 17 + targetAppPlatform.hashCode();
+    h = h * 17 + compiler.hashCode();
+    h = h * 17 + compilerFlags.hashCode();
+    h = h * 17 + assemblerFlags.hashCode();
+    h = h * 17 + linkerFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code NdkCxxPlatformTargetConfiguration{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformTargetConfiguration")
+        .add("toolchain", toolchain)
+        .add("toolchainTarget", toolchainTarget)
+        .add("targetArch", targetArch)
+        .add("targetArchAbi", targetArchAbi)
+        .add("targetAppPlatform", targetAppPlatform)
+        .add("compiler", compiler)
+        .add("compilerFlags", compilerFlags)
+        .add("assemblerFlags", assemblerFlags)
+        .add("linkerFlags", linkerFlags)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractNdkCxxPlatformTargetConfiguration}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable NdkCxxPlatformTargetConfiguration instance
+   */
+  public static NdkCxxPlatformTargetConfiguration copyOf(AbstractNdkCxxPlatformTargetConfiguration instance) {
+    if (instance instanceof NdkCxxPlatformTargetConfiguration) {
+      return (NdkCxxPlatformTargetConfiguration) instance;
+    }
+    return NdkCxxPlatformTargetConfiguration.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.android.NdkCxxPlatformTargetConfiguration NdkCxxPlatformTargetConfiguration}.
+   * @return new NdkCxxPlatformTargetConfiguration builder
+   */
+  public static NdkCxxPlatformTargetConfiguration.Builder builder() {
+    return new NdkCxxPlatformTargetConfiguration.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.android.NdkCxxPlatformTargetConfiguration NdkCxxPlatformTargetConfiguration}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3f;
+    private static final long INITIALIZED_BIT_TOOLCHAIN = 0x1L;
+    private static final long INITIALIZED_BIT_TOOLCHAIN_TARGET = 0x2L;
+    private static final long INITIALIZED_BIT_TARGET_ARCH = 0x4L;
+    private static final long INITIALIZED_BIT_TARGET_ARCH_ABI = 0x8L;
+    private static final long INITIALIZED_BIT_TARGET_APP_PLATFORM = 0x10L;
+    private static final long INITIALIZED_BIT_COMPILER = 0x20L;
+    private long initializedBitset;
+    private @Nullable NdkCxxPlatforms.Toolchain toolchain;
+    private @Nullable NdkCxxPlatforms.ToolchainTarget toolchainTarget;
+    private @Nullable NdkCxxPlatforms.TargetArch targetArch;
+    private @Nullable NdkCxxPlatforms.TargetArchAbi targetArchAbi;
+    private @Nullable String targetAppPlatform;
+    private @Nullable NdkCxxPlatformCompiler compiler;
+    private ImmutableMap.Builder<NdkCxxPlatformCompiler.Type, ImmutableList<String>> compilerFlagsBuilder = ImmutableMap.builder();
+    private ImmutableMap.Builder<NdkCxxPlatformCompiler.Type, ImmutableList<String>> assemblerFlagsBuilder = ImmutableMap.builder();
+    private ImmutableMap.Builder<NdkCxxPlatformCompiler.Type, ImmutableList<String>> linkerFlagsBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractNdkCxxPlatformTargetConfiguration} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractNdkCxxPlatformTargetConfiguration instance) {
+      Preconditions.checkNotNull(instance);
+      setToolchain(instance.getToolchain());
+      setToolchainTarget(instance.getToolchainTarget());
+      setTargetArch(instance.getTargetArch());
+      setTargetArchAbi(instance.getTargetArchAbi());
+      setTargetAppPlatform(instance.getTargetAppPlatform());
+      setCompiler(instance.getCompiler());
+      putAllCompilerFlags(instance.getCompilerFlags());
+      putAllAssemblerFlags(instance.getAssemblerFlags());
+      putAllLinkerFlags(instance.getLinkerFlags());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatformTargetConfiguration#getToolchain() toolchain}.
+     * @param toolchain value for toolchain
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setToolchain(NdkCxxPlatforms.Toolchain toolchain) {
+      this.toolchain = Preconditions.checkNotNull(toolchain);
+      initializedBitset |= INITIALIZED_BIT_TOOLCHAIN;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatformTargetConfiguration#getToolchainTarget() toolchainTarget}.
+     * @param toolchainTarget value for toolchainTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setToolchainTarget(NdkCxxPlatforms.ToolchainTarget toolchainTarget) {
+      this.toolchainTarget = Preconditions.checkNotNull(toolchainTarget);
+      initializedBitset |= INITIALIZED_BIT_TOOLCHAIN_TARGET;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetArch() targetArch}.
+     * @param targetArch value for targetArch
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetArch(NdkCxxPlatforms.TargetArch targetArch) {
+      this.targetArch = Preconditions.checkNotNull(targetArch);
+      initializedBitset |= INITIALIZED_BIT_TARGET_ARCH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetArchAbi() targetArchAbi}.
+     * @param targetArchAbi value for targetArchAbi
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetArchAbi(NdkCxxPlatforms.TargetArchAbi targetArchAbi) {
+      this.targetArchAbi = Preconditions.checkNotNull(targetArchAbi);
+      initializedBitset |= INITIALIZED_BIT_TARGET_ARCH_ABI;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatformTargetConfiguration#getTargetAppPlatform() targetAppPlatform}.
+     * @param targetAppPlatform value for targetAppPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetAppPlatform(String targetAppPlatform) {
+      this.targetAppPlatform = Preconditions.checkNotNull(targetAppPlatform);
+      initializedBitset |= INITIALIZED_BIT_TARGET_APP_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractNdkCxxPlatformTargetConfiguration#getCompiler() compiler}.
+     * @param compiler value for compiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCompiler(NdkCxxPlatformCompiler compiler) {
+      this.compiler = Preconditions.checkNotNull(compiler);
+      initializedBitset |= INITIALIZED_BIT_COMPILER;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map.
+     * @param key the key in compilerFlags map
+     * @param value the associated value in compilerFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putCompilerFlags(NdkCxxPlatformCompiler.Type key, ImmutableList<String> value) {
+      compilerFlagsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putCompilerFlags(Map.Entry<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entry) {
+      compilerFlagsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map. Nulls are not permitted
+     * @param entries to be added to compilerFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCompilerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+      compilerFlagsBuilder = ImmutableMap.builder();
+      return putAllCompilerFlags(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractNdkCxxPlatformTargetConfiguration#getCompilerFlags() compilerFlags} map. Nulls are not permitted
+     * @param entries to be added to compilerFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllCompilerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+      compilerFlagsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map.
+     * @param key the key in assemblerFlags map
+     * @param value the associated value in assemblerFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAssemblerFlags(NdkCxxPlatformCompiler.Type key, ImmutableList<String> value) {
+      assemblerFlagsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAssemblerFlags(Map.Entry<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entry) {
+      assemblerFlagsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map. Nulls are not permitted
+     * @param entries to be added to assemblerFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAssemblerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+      assemblerFlagsBuilder = ImmutableMap.builder();
+      return putAllAssemblerFlags(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractNdkCxxPlatformTargetConfiguration#getAssemblerFlags() assemblerFlags} map. Nulls are not permitted
+     * @param entries to be added to assemblerFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllAssemblerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+      assemblerFlagsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map.
+     * @param key the key in linkerFlags map
+     * @param value the associated value in linkerFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putLinkerFlags(NdkCxxPlatformCompiler.Type key, ImmutableList<String> value) {
+      linkerFlagsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putLinkerFlags(Map.Entry<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entry) {
+      linkerFlagsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map. Nulls are not permitted
+     * @param entries to be added to linkerFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLinkerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+      linkerFlagsBuilder = ImmutableMap.builder();
+      return putAllLinkerFlags(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractNdkCxxPlatformTargetConfiguration#getLinkerFlags() linkerFlags} map. Nulls are not permitted
+     * @param entries to be added to linkerFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllLinkerFlags(Map<? extends NdkCxxPlatformCompiler.Type, ? extends ImmutableList<String>> entries) {
+      linkerFlagsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.android.NdkCxxPlatformTargetConfiguration NdkCxxPlatformTargetConfiguration}.
+     * @return immutable instance of NdkCxxPlatformTargetConfiguration
+     */
+    public NdkCxxPlatformTargetConfiguration build() {
+      checkRequiredAttributes();
+      return new NdkCxxPlatformTargetConfiguration(
+              toolchain,
+              toolchainTarget,
+              targetArch,
+              targetArchAbi,
+              targetAppPlatform,
+              compiler,
+              compilerFlagsBuilder.build(),
+              assemblerFlagsBuilder.build(),
+              linkerFlagsBuilder.build());
+    }
+
+    private boolean toolchainIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TOOLCHAIN) != 0;
+    }
+
+    private boolean toolchainTargetIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TOOLCHAIN_TARGET) != 0;
+    }
+
+    private boolean targetArchIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TARGET_ARCH) != 0;
+    }
+
+    private boolean targetArchAbiIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TARGET_ARCH_ABI) != 0;
+    }
+
+    private boolean targetAppPlatformIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TARGET_APP_PLATFORM) != 0;
+    }
+
+    private boolean compilerIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_COMPILER) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!toolchainIsSet()) {
+        attributes.add("toolchain");
+      }
+      if (!toolchainTargetIsSet()) {
+        attributes.add("toolchainTarget");
+      }
+      if (!targetArchIsSet()) {
+        attributes.add("targetArch");
+      }
+      if (!targetArchAbiIsSet()) {
+        attributes.add("targetArchAbi");
+      }
+      if (!targetAppPlatformIsSet()) {
+        attributes.add("targetAppPlatform");
+      }
+      if (!compilerIsSet()) {
+        attributes.add("compiler");
+      }
+      return "Cannot build NdkCxxPlatformTargetConfiguration, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link CopyNativeLibraries.AbstractStrippedObjectDescription}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code StrippedObjectDescription.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CopyNativeLibraries.AbstractStrippedObjectDescription"})
+@Immutable
+public final class StrippedObjectDescription
+    extends CopyNativeLibraries.AbstractStrippedObjectDescription {
+  private final SourcePath sourcePath;
+  private final String strippedObjectName;
+  private final NdkCxxPlatforms.TargetCpuType targetCpuType;
+
+  private StrippedObjectDescription(
+      SourcePath sourcePath,
+      String strippedObjectName,
+      NdkCxxPlatforms.TargetCpuType targetCpuType) {
+    this.sourcePath = sourcePath;
+    this.strippedObjectName = strippedObjectName;
+    this.targetCpuType = targetCpuType;
+  }
+
+  /**
+   * @return value of {@code sourcePath} attribute
+   */
+  @Override
+  public SourcePath getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * @return value of {@code strippedObjectName} attribute
+   */
+  @Override
+  public String getStrippedObjectName() {
+    return strippedObjectName;
+  }
+
+  /**
+   * @return value of {@code targetCpuType} attribute
+   */
+  @Override
+  public NdkCxxPlatforms.TargetCpuType getTargetCpuType() {
+    return targetCpuType;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link CopyNativeLibraries.AbstractStrippedObjectDescription#getSourcePath() sourcePath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sourcePath
+   * @return modified copy of the {@code this} object
+   */
+  public final StrippedObjectDescription withSourcePath(SourcePath value) {
+    if (this.sourcePath == value) {
+      return this;
+    }
+    SourcePath newValue = Preconditions.checkNotNull(value);
+    return new StrippedObjectDescription(newValue, this.strippedObjectName, this.targetCpuType);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link CopyNativeLibraries.AbstractStrippedObjectDescription#getStrippedObjectName() strippedObjectName}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for strippedObjectName
+   * @return modified copy of the {@code this} object
+   */
+  public final StrippedObjectDescription withStrippedObjectName(String value) {
+    if (this.strippedObjectName == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new StrippedObjectDescription(this.sourcePath, newValue, this.targetCpuType);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link CopyNativeLibraries.AbstractStrippedObjectDescription#getTargetCpuType() targetCpuType}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for targetCpuType
+   * @return modified copy of the {@code this} object
+   */
+  public final StrippedObjectDescription withTargetCpuType(NdkCxxPlatforms.TargetCpuType value) {
+    if (this.targetCpuType == value) {
+      return this;
+    }
+    NdkCxxPlatforms.TargetCpuType newValue = Preconditions.checkNotNull(value);
+    return new StrippedObjectDescription(this.sourcePath, this.strippedObjectName, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code StrippedObjectDescription} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof StrippedObjectDescription && equalTo((StrippedObjectDescription) another));
+  }
+
+  private boolean equalTo(StrippedObjectDescription another) {
+    return sourcePath.equals(another.sourcePath)
+        && strippedObjectName.equals(another.strippedObjectName)
+        && targetCpuType.equals(another.targetCpuType);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code sourcePath}, {@code strippedObjectName}, {@code targetCpuType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + sourcePath.hashCode();
+    h = h * 17 + strippedObjectName.hashCode();
+    h = h * 17 + targetCpuType.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code StrippedObjectDescription{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StrippedObjectDescription")
+        .add("sourcePath", sourcePath)
+        .add("strippedObjectName", strippedObjectName)
+        .add("targetCpuType", targetCpuType)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link CopyNativeLibraries.AbstractStrippedObjectDescription}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable StrippedObjectDescription instance
+   */
+  public static StrippedObjectDescription copyOf(CopyNativeLibraries.AbstractStrippedObjectDescription instance) {
+    if (instance instanceof StrippedObjectDescription) {
+      return (StrippedObjectDescription) instance;
+    }
+    return StrippedObjectDescription.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.android.StrippedObjectDescription StrippedObjectDescription}.
+   * @return new StrippedObjectDescription builder
+   */
+  public static StrippedObjectDescription.Builder builder() {
+    return new StrippedObjectDescription.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.android.StrippedObjectDescription StrippedObjectDescription}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_SOURCE_PATH = 0x1L;
+    private static final long INITIALIZED_BIT_STRIPPED_OBJECT_NAME = 0x2L;
+    private static final long INITIALIZED_BIT_TARGET_CPU_TYPE = 0x4L;
+    private long initializedBitset;
+    private @Nullable SourcePath sourcePath;
+    private @Nullable String strippedObjectName;
+    private @Nullable NdkCxxPlatforms.TargetCpuType targetCpuType;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link CopyNativeLibraries.AbstractStrippedObjectDescription} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(CopyNativeLibraries.AbstractStrippedObjectDescription instance) {
+      Preconditions.checkNotNull(instance);
+      setSourcePath(instance.getSourcePath());
+      setStrippedObjectName(instance.getStrippedObjectName());
+      setTargetCpuType(instance.getTargetCpuType());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link CopyNativeLibraries.AbstractStrippedObjectDescription#getSourcePath() sourcePath}.
+     * @param sourcePath value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePath(SourcePath sourcePath) {
+      this.sourcePath = Preconditions.checkNotNull(sourcePath);
+      initializedBitset |= INITIALIZED_BIT_SOURCE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link CopyNativeLibraries.AbstractStrippedObjectDescription#getStrippedObjectName() strippedObjectName}.
+     * @param strippedObjectName value for strippedObjectName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStrippedObjectName(String strippedObjectName) {
+      this.strippedObjectName = Preconditions.checkNotNull(strippedObjectName);
+      initializedBitset |= INITIALIZED_BIT_STRIPPED_OBJECT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link CopyNativeLibraries.AbstractStrippedObjectDescription#getTargetCpuType() targetCpuType}.
+     * @param targetCpuType value for targetCpuType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetCpuType(NdkCxxPlatforms.TargetCpuType targetCpuType) {
+      this.targetCpuType = Preconditions.checkNotNull(targetCpuType);
+      initializedBitset |= INITIALIZED_BIT_TARGET_CPU_TYPE;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.android.StrippedObjectDescription StrippedObjectDescription}.
+     * @return immutable instance of StrippedObjectDescription
+     */
+    public StrippedObjectDescription build() {
+      checkRequiredAttributes();
+      return new StrippedObjectDescription(sourcePath, strippedObjectName, targetCpuType);
+    }
+
+    private boolean sourcePathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SOURCE_PATH) != 0;
+    }
+
+    private boolean strippedObjectNameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_STRIPPED_OBJECT_NAME) != 0;
+    }
+
+    private boolean targetCpuTypeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TARGET_CPU_TYPE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!sourcePathIsSet()) {
+        attributes.add("sourcePath");
+      }
+      if (!strippedObjectNameIsSet()) {
+        attributes.add("strippedObjectName");
+      }
+      if (!targetCpuTypeIsSet()) {
+        attributes.add("targetCpuType");
+      }
+      return "Cannot build StrippedObjectDescription, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,502 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleBundleDestinations}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AppleBundleDestinations.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code AppleBundleDestinations.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleBundleDestinations"})
+@Immutable
+public final class AppleBundleDestinations extends AbstractAppleBundleDestinations {
+  private final Path metadataPath;
+  private final Path resourcesPath;
+  private final Path executablesPath;
+  private final Path frameworksPath;
+  private final Path plugInsPath;
+  private final Path watchAppPath;
+
+  private AppleBundleDestinations(
+      Path metadataPath,
+      Path resourcesPath,
+      Path executablesPath,
+      Path frameworksPath,
+      Path plugInsPath,
+      Path watchAppPath) {
+    this.metadataPath = Preconditions.checkNotNull(metadataPath);
+    this.resourcesPath = Preconditions.checkNotNull(resourcesPath);
+    this.executablesPath = Preconditions.checkNotNull(executablesPath);
+    this.frameworksPath = Preconditions.checkNotNull(frameworksPath);
+    this.plugInsPath = Preconditions.checkNotNull(plugInsPath);
+    this.watchAppPath = Preconditions.checkNotNull(watchAppPath);
+  }
+
+  private AppleBundleDestinations(
+      AppleBundleDestinations original,
+      Path metadataPath,
+      Path resourcesPath,
+      Path executablesPath,
+      Path frameworksPath,
+      Path plugInsPath,
+      Path watchAppPath) {
+    this.metadataPath = metadataPath;
+    this.resourcesPath = resourcesPath;
+    this.executablesPath = executablesPath;
+    this.frameworksPath = frameworksPath;
+    this.plugInsPath = plugInsPath;
+    this.watchAppPath = watchAppPath;
+  }
+
+  /**
+   * @return value of {@code metadataPath} attribute
+   */
+  @Override
+  public Path getMetadataPath() {
+    return metadataPath;
+  }
+
+  /**
+   * @return value of {@code resourcesPath} attribute
+   */
+  @Override
+  public Path getResourcesPath() {
+    return resourcesPath;
+  }
+
+  /**
+   * @return value of {@code executablesPath} attribute
+   */
+  @Override
+  public Path getExecutablesPath() {
+    return executablesPath;
+  }
+
+  /**
+   * @return value of {@code frameworksPath} attribute
+   */
+  @Override
+  public Path getFrameworksPath() {
+    return frameworksPath;
+  }
+
+  /**
+   * @return value of {@code plugInsPath} attribute
+   */
+  @Override
+  public Path getPlugInsPath() {
+    return plugInsPath;
+  }
+
+  /**
+   * @return value of {@code watchAppPath} attribute
+   */
+  @Override
+  public Path getWatchAppPath() {
+    return watchAppPath;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleBundleDestinations#getMetadataPath() metadataPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for metadataPath
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withMetadataPath(Path value) {
+    if (this.metadataPath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new AppleBundleDestinations(
+            this,
+            newValue,
+            this.resourcesPath,
+            this.executablesPath,
+            this.frameworksPath,
+            this.plugInsPath,
+            this.watchAppPath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleBundleDestinations#getResourcesPath() resourcesPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for resourcesPath
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withResourcesPath(Path value) {
+    if (this.resourcesPath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new AppleBundleDestinations(
+            this,
+            this.metadataPath,
+            newValue,
+            this.executablesPath,
+            this.frameworksPath,
+            this.plugInsPath,
+            this.watchAppPath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleBundleDestinations#getExecutablesPath() executablesPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for executablesPath
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withExecutablesPath(Path value) {
+    if (this.executablesPath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new AppleBundleDestinations(
+            this,
+            this.metadataPath,
+            this.resourcesPath,
+            newValue,
+            this.frameworksPath,
+            this.plugInsPath,
+            this.watchAppPath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleBundleDestinations#getFrameworksPath() frameworksPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for frameworksPath
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withFrameworksPath(Path value) {
+    if (this.frameworksPath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new AppleBundleDestinations(
+            this,
+            this.metadataPath,
+            this.resourcesPath,
+            this.executablesPath,
+            newValue,
+            this.plugInsPath,
+            this.watchAppPath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleBundleDestinations#getPlugInsPath() plugInsPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for plugInsPath
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withPlugInsPath(Path value) {
+    if (this.plugInsPath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new AppleBundleDestinations(
+            this,
+            this.metadataPath,
+            this.resourcesPath,
+            this.executablesPath,
+            this.frameworksPath,
+            newValue,
+            this.watchAppPath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleBundleDestinations#getWatchAppPath() watchAppPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for watchAppPath
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleBundleDestinations withWatchAppPath(Path value) {
+    if (this.watchAppPath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new AppleBundleDestinations(
+            this,
+            this.metadataPath,
+            this.resourcesPath,
+            this.executablesPath,
+            this.frameworksPath,
+            this.plugInsPath,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AppleBundleDestinations} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AppleBundleDestinations && equalTo((AppleBundleDestinations) another));
+  }
+
+  private boolean equalTo(AppleBundleDestinations another) {
+    return metadataPath.equals(another.metadataPath)
+        && resourcesPath.equals(another.resourcesPath)
+        && executablesPath.equals(another.executablesPath)
+        && frameworksPath.equals(another.frameworksPath)
+        && plugInsPath.equals(another.plugInsPath)
+        && watchAppPath.equals(another.watchAppPath);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code metadataPath}, {@code resourcesPath}, {@code executablesPath}, {@code frameworksPath}, {@code plugInsPath}, {@code watchAppPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + metadataPath.hashCode();
+    h = h * 17 + resourcesPath.hashCode();
+    h = h * 17 + executablesPath.hashCode();
+    h = h * 17 + frameworksPath.hashCode();
+    h = h * 17 + plugInsPath.hashCode();
+    h = h * 17 + watchAppPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AppleBundleDestinations{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleBundleDestinations")
+        .add("metadataPath", metadataPath)
+        .add("resourcesPath", resourcesPath)
+        .add("executablesPath", executablesPath)
+        .add("frameworksPath", frameworksPath)
+        .add("plugInsPath", plugInsPath)
+        .add("watchAppPath", watchAppPath)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code AppleBundleDestinations} instance.
+   * @param metadataPath value for {@code metadataPath}
+   * @param resourcesPath value for {@code resourcesPath}
+   * @param executablesPath value for {@code executablesPath}
+   * @param frameworksPath value for {@code frameworksPath}
+   * @param plugInsPath value for {@code plugInsPath}
+   * @param watchAppPath value for {@code watchAppPath}
+   * @return immutable AppleBundleDestinations instance
+   */
+  public static com.facebook.buck.apple.AppleBundleDestinations of(Path metadataPath, Path resourcesPath, Path executablesPath, Path frameworksPath, Path plugInsPath, Path watchAppPath) {
+    return new AppleBundleDestinations(metadataPath, resourcesPath, executablesPath, frameworksPath, plugInsPath, watchAppPath);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAppleBundleDestinations}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AppleBundleDestinations instance
+   */
+  public static AppleBundleDestinations copyOf(AbstractAppleBundleDestinations instance) {
+    if (instance instanceof AppleBundleDestinations) {
+      return (AppleBundleDestinations) instance;
+    }
+    return AppleBundleDestinations.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.AppleBundleDestinations AppleBundleDestinations}.
+   * @return new AppleBundleDestinations builder
+   */
+  public static AppleBundleDestinations.Builder builder() {
+    return new AppleBundleDestinations.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.AppleBundleDestinations AppleBundleDestinations}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3f;
+    private static final long INITIALIZED_BIT_METADATA_PATH = 0x1L;
+    private static final long INITIALIZED_BIT_RESOURCES_PATH = 0x2L;
+    private static final long INITIALIZED_BIT_EXECUTABLES_PATH = 0x4L;
+    private static final long INITIALIZED_BIT_FRAMEWORKS_PATH = 0x8L;
+    private static final long INITIALIZED_BIT_PLUG_INS_PATH = 0x10L;
+    private static final long INITIALIZED_BIT_WATCH_APP_PATH = 0x20L;
+    private long initializedBitset;
+    private @Nullable Path metadataPath;
+    private @Nullable Path resourcesPath;
+    private @Nullable Path executablesPath;
+    private @Nullable Path frameworksPath;
+    private @Nullable Path plugInsPath;
+    private @Nullable Path watchAppPath;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAppleBundleDestinations} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAppleBundleDestinations instance) {
+      Preconditions.checkNotNull(instance);
+      setMetadataPath(instance.getMetadataPath());
+      setResourcesPath(instance.getResourcesPath());
+      setExecutablesPath(instance.getExecutablesPath());
+      setFrameworksPath(instance.getFrameworksPath());
+      setPlugInsPath(instance.getPlugInsPath());
+      setWatchAppPath(instance.getWatchAppPath());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleBundleDestinations#getMetadataPath() metadataPath}.
+     * @param metadataPath value for metadataPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMetadataPath(Path metadataPath) {
+      this.metadataPath = Preconditions.checkNotNull(metadataPath);
+      initializedBitset |= INITIALIZED_BIT_METADATA_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleBundleDestinations#getResourcesPath() resourcesPath}.
+     * @param resourcesPath value for resourcesPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResourcesPath(Path resourcesPath) {
+      this.resourcesPath = Preconditions.checkNotNull(resourcesPath);
+      initializedBitset |= INITIALIZED_BIT_RESOURCES_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleBundleDestinations#getExecutablesPath() executablesPath}.
+     * @param executablesPath value for executablesPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExecutablesPath(Path executablesPath) {
+      this.executablesPath = Preconditions.checkNotNull(executablesPath);
+      initializedBitset |= INITIALIZED_BIT_EXECUTABLES_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleBundleDestinations#getFrameworksPath() frameworksPath}.
+     * @param frameworksPath value for frameworksPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFrameworksPath(Path frameworksPath) {
+      this.frameworksPath = Preconditions.checkNotNull(frameworksPath);
+      initializedBitset |= INITIALIZED_BIT_FRAMEWORKS_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleBundleDestinations#getPlugInsPath() plugInsPath}.
+     * @param plugInsPath value for plugInsPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlugInsPath(Path plugInsPath) {
+      this.plugInsPath = Preconditions.checkNotNull(plugInsPath);
+      initializedBitset |= INITIALIZED_BIT_PLUG_INS_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleBundleDestinations#getWatchAppPath() watchAppPath}.
+     * @param watchAppPath value for watchAppPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWatchAppPath(Path watchAppPath) {
+      this.watchAppPath = Preconditions.checkNotNull(watchAppPath);
+      initializedBitset |= INITIALIZED_BIT_WATCH_APP_PATH;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.AppleBundleDestinations AppleBundleDestinations}.
+     * @return immutable instance of AppleBundleDestinations
+     */
+    public AppleBundleDestinations build() {
+      checkRequiredAttributes();
+      return new AppleBundleDestinations(null, metadataPath, resourcesPath, executablesPath, frameworksPath, plugInsPath, watchAppPath);
+    }
+
+    private boolean metadataPathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_METADATA_PATH) != 0;
+    }
+
+    private boolean resourcesPathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_RESOURCES_PATH) != 0;
+    }
+
+    private boolean executablesPathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_EXECUTABLES_PATH) != 0;
+    }
+
+    private boolean frameworksPathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FRAMEWORKS_PATH) != 0;
+    }
+
+    private boolean plugInsPathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PLUG_INS_PATH) != 0;
+    }
+
+    private boolean watchAppPathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_WATCH_APP_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!metadataPathIsSet()) {
+        attributes.add("metadataPath");
+      }
+      if (!resourcesPathIsSet()) {
+        attributes.add("resourcesPath");
+      }
+      if (!executablesPathIsSet()) {
+        attributes.add("executablesPath");
+      }
+      if (!frameworksPathIsSet()) {
+        attributes.add("frameworksPath");
+      }
+      if (!plugInsPathIsSet()) {
+        attributes.add("plugInsPath");
+      }
+      if (!watchAppPathIsSet()) {
+        attributes.add("watchAppPath");
+      }
+      return "Cannot build AppleBundleDestinations, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1652 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.cxx.CxxPlatform;
+import com.facebook.buck.rules.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleCxxPlatform}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AppleCxxPlatform.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleCxxPlatform"})
+@Immutable
+public final class AppleCxxPlatform extends AbstractAppleCxxPlatform {
+  private final CxxPlatform cxxPlatform;
+  private final AppleSdk appleSdk;
+  private final AppleSdkPaths appleSdkPaths;
+  private final Optional<String> buildVersion;
+  private final String minVersion;
+  private final Tool actool;
+  private final Tool ibtool;
+  private final Tool xctest;
+  private final Optional<Tool> otest;
+  private final Tool dsymutil;
+  private final Tool lipo;
+  private final Optional<Path> stubBinary;
+  private final Tool lldb;
+  private final Optional<Tool> codesignAllocate;
+  private final Optional<Tool> swift;
+  private final Optional<Tool> swiftStdlibTool;
+  private final ImmutableSet<Path> swiftRuntimePaths;
+  private final ImmutableSet<Path> swiftStaticRuntimePaths;
+
+  private AppleCxxPlatform(
+      CxxPlatform cxxPlatform,
+      AppleSdk appleSdk,
+      AppleSdkPaths appleSdkPaths,
+      Optional<String> buildVersion,
+      String minVersion,
+      Tool actool,
+      Tool ibtool,
+      Tool xctest,
+      Optional<Tool> otest,
+      Tool dsymutil,
+      Tool lipo,
+      Optional<Path> stubBinary,
+      Tool lldb,
+      Optional<Tool> codesignAllocate,
+      Optional<Tool> swift,
+      Optional<Tool> swiftStdlibTool,
+      ImmutableSet<Path> swiftRuntimePaths,
+      ImmutableSet<Path> swiftStaticRuntimePaths) {
+    this.cxxPlatform = cxxPlatform;
+    this.appleSdk = appleSdk;
+    this.appleSdkPaths = appleSdkPaths;
+    this.buildVersion = buildVersion;
+    this.minVersion = minVersion;
+    this.actool = actool;
+    this.ibtool = ibtool;
+    this.xctest = xctest;
+    this.otest = otest;
+    this.dsymutil = dsymutil;
+    this.lipo = lipo;
+    this.stubBinary = stubBinary;
+    this.lldb = lldb;
+    this.codesignAllocate = codesignAllocate;
+    this.swift = swift;
+    this.swiftStdlibTool = swiftStdlibTool;
+    this.swiftRuntimePaths = swiftRuntimePaths;
+    this.swiftStaticRuntimePaths = swiftStaticRuntimePaths;
+  }
+
+  /**
+   * @return value of {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return value of {@code appleSdk} attribute
+   */
+  @Override
+  public AppleSdk getAppleSdk() {
+    return appleSdk;
+  }
+
+  /**
+   * @return value of {@code appleSdkPaths} attribute
+   */
+  @Override
+  public AppleSdkPaths getAppleSdkPaths() {
+    return appleSdkPaths;
+  }
+
+  /**
+   * @return value of {@code buildVersion} attribute
+   */
+  @Override
+  public Optional<String> getBuildVersion() {
+    return buildVersion;
+  }
+
+  /**
+   * @return value of {@code minVersion} attribute
+   */
+  @Override
+  public String getMinVersion() {
+    return minVersion;
+  }
+
+  /**
+   * @return value of {@code actool} attribute
+   */
+  @Override
+  public Tool getActool() {
+    return actool;
+  }
+
+  /**
+   * @return value of {@code ibtool} attribute
+   */
+  @Override
+  public Tool getIbtool() {
+    return ibtool;
+  }
+
+  /**
+   * @return value of {@code xctest} attribute
+   */
+  @Override
+  public Tool getXctest() {
+    return xctest;
+  }
+
+  /**
+   * @return value of {@code otest} attribute
+   */
+  @Override
+  public Optional<Tool> getOtest() {
+    return otest;
+  }
+
+  /**
+   * @return value of {@code dsymutil} attribute
+   */
+  @Override
+  public Tool getDsymutil() {
+    return dsymutil;
+  }
+
+  /**
+   * @return value of {@code lipo} attribute
+   */
+  @Override
+  public Tool getLipo() {
+    return lipo;
+  }
+
+  /**
+   * @return value of {@code stubBinary} attribute
+   */
+  @Override
+  public Optional<Path> getStubBinary() {
+    return stubBinary;
+  }
+
+  /**
+   * @return value of {@code lldb} attribute
+   */
+  @Override
+  public Tool getLldb() {
+    return lldb;
+  }
+
+  /**
+   * @return value of {@code codesignAllocate} attribute
+   */
+  @Override
+  public Optional<Tool> getCodesignAllocate() {
+    return codesignAllocate;
+  }
+
+  /**
+   * @return value of {@code swift} attribute
+   */
+  @Override
+  public Optional<Tool> getSwift() {
+    return swift;
+  }
+
+  /**
+   * @return value of {@code swiftStdlibTool} attribute
+   */
+  @Override
+  public Optional<Tool> getSwiftStdlibTool() {
+    return swiftStdlibTool;
+  }
+
+  /**
+   * @return value of {@code swiftRuntimePaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getSwiftRuntimePaths() {
+    return swiftRuntimePaths;
+  }
+
+  /**
+   * @return value of {@code swiftStaticRuntimePaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getSwiftStaticRuntimePaths() {
+    return swiftStaticRuntimePaths;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getCxxPlatform() cxxPlatform}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cxxPlatform
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withCxxPlatform(CxxPlatform value) {
+    if (this.cxxPlatform == value) {
+      return this;
+    }
+    CxxPlatform newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            newValue,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getAppleSdk() appleSdk}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for appleSdk
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withAppleSdk(AppleSdk value) {
+    if (this.appleSdk == value) {
+      return this;
+    }
+    AppleSdk newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            newValue,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getAppleSdkPaths() appleSdkPaths}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for appleSdkPaths
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withAppleSdkPaths(AppleSdkPaths value) {
+    if (this.appleSdkPaths == value) {
+      return this;
+    }
+    AppleSdkPaths newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            newValue,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAppleCxxPlatform#getBuildVersion() buildVersion}.
+   * @param value value for buildVersion
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withBuildVersion(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            newValue,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAppleCxxPlatform#getBuildVersion() buildVersion}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for buildVersion
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withBuildVersion(Optional<String> optional) {
+    if (this.buildVersion == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            newValue,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getMinVersion() minVersion}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for minVersion
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withMinVersion(String value) {
+    if (this.minVersion == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            newValue,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getActool() actool}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for actool
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withActool(Tool value) {
+    if (this.actool == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            newValue,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getIbtool() ibtool}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for ibtool
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withIbtool(Tool value) {
+    if (this.ibtool == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            newValue,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getXctest() xctest}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for xctest
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withXctest(Tool value) {
+    if (this.xctest == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            newValue,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAppleCxxPlatform#getOtest() otest}.
+   * @param value value for otest
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withOtest(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            newValue,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAppleCxxPlatform#getOtest() otest}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for otest
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withOtest(Optional<Tool> optional) {
+    if (this.otest == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            newValue,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getDsymutil() dsymutil}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for dsymutil
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withDsymutil(Tool value) {
+    if (this.dsymutil == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            newValue,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getLipo() lipo}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for lipo
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withLipo(Tool value) {
+    if (this.lipo == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            newValue,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAppleCxxPlatform#getStubBinary() stubBinary}.
+   * @param value value for stubBinary
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withStubBinary(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            newValue,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAppleCxxPlatform#getStubBinary() stubBinary}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for stubBinary
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withStubBinary(Optional<Path> optional) {
+    if (this.stubBinary == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            newValue,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleCxxPlatform#getLldb() lldb}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for lldb
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleCxxPlatform withLldb(Tool value) {
+    if (this.lldb == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            newValue,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAppleCxxPlatform#getCodesignAllocate() codesignAllocate}.
+   * @param value value for codesignAllocate
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withCodesignAllocate(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            newValue,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAppleCxxPlatform#getCodesignAllocate() codesignAllocate}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for codesignAllocate
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withCodesignAllocate(Optional<Tool> optional) {
+    if (this.codesignAllocate == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            newValue,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAppleCxxPlatform#getSwift() swift}.
+   * @param value value for swift
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwift(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            newValue,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAppleCxxPlatform#getSwift() swift}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for swift
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwift(Optional<Tool> optional) {
+    if (this.swift == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            newValue,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAppleCxxPlatform#getSwiftStdlibTool() swiftStdlibTool}.
+   * @param value value for swiftStdlibTool
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwiftStdlibTool(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            newValue,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAppleCxxPlatform#getSwiftStdlibTool() swiftStdlibTool}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for swiftStdlibTool
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwiftStdlibTool(Optional<Tool> optional) {
+    if (this.swiftStdlibTool == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            newValue,
+            this.swiftRuntimePaths,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleCxxPlatform#getSwiftRuntimePaths() swiftRuntimePaths}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwiftRuntimePaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            newValue,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleCxxPlatform#getSwiftRuntimePaths() swiftRuntimePaths}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of swiftRuntimePaths elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwiftRuntimePaths(Iterable<? extends Path> elements) {
+    if (this.swiftRuntimePaths == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            newValue,
+            this.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleCxxPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwiftStaticRuntimePaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleCxxPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of swiftStaticRuntimePaths elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleCxxPlatform withSwiftStaticRuntimePaths(Iterable<? extends Path> elements) {
+    if (this.swiftStaticRuntimePaths == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AppleCxxPlatform(
+            this.cxxPlatform,
+            this.appleSdk,
+            this.appleSdkPaths,
+            this.buildVersion,
+            this.minVersion,
+            this.actool,
+            this.ibtool,
+            this.xctest,
+            this.otest,
+            this.dsymutil,
+            this.lipo,
+            this.stubBinary,
+            this.lldb,
+            this.codesignAllocate,
+            this.swift,
+            this.swiftStdlibTool,
+            this.swiftRuntimePaths,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AppleCxxPlatform} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AppleCxxPlatform && equalTo((AppleCxxPlatform) another));
+  }
+
+  private boolean equalTo(AppleCxxPlatform another) {
+    return cxxPlatform.equals(another.cxxPlatform)
+        && appleSdk.equals(another.appleSdk)
+        && appleSdkPaths.equals(another.appleSdkPaths)
+        && buildVersion.equals(another.buildVersion)
+        && minVersion.equals(another.minVersion)
+        && actool.equals(another.actool)
+        && ibtool.equals(another.ibtool)
+        && xctest.equals(another.xctest)
+        && otest.equals(another.otest)
+        && dsymutil.equals(another.dsymutil)
+        && lipo.equals(another.lipo)
+        && stubBinary.equals(another.stubBinary)
+        && lldb.equals(another.lldb)
+        && codesignAllocate.equals(another.codesignAllocate)
+        && swift.equals(another.swift)
+        && swiftStdlibTool.equals(another.swiftStdlibTool)
+        && swiftRuntimePaths.equals(another.swiftRuntimePaths)
+        && swiftStaticRuntimePaths.equals(another.swiftStaticRuntimePaths);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code cxxPlatform}, {@code appleSdk}, {@code appleSdkPaths}, {@code buildVersion}, {@code minVersion}, {@code actool}, {@code ibtool}, {@code xctest}, {@code otest}, {@code dsymutil}, {@code lipo}, {@code stubBinary}, {@code lldb}, {@code codesignAllocate}, {@code swift}, {@code swiftStdlibTool}, {@code swiftRuntimePaths}, {@code swiftStaticRuntimePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cxxPlatform.hashCode();
+    h = h * 17 + appleSdk.hashCode();
+    h = h * 17 + appleSdkPaths.hashCode();
+    h = h * 17 + buildVersion.hashCode();
+    h = h * 17 + minVersion.hashCode();
+    h = h * 17 + actool.hashCode();
+    h = h * 17 + ibtool.hashCode();
+    h = h * 17 + xctest.hashCode();
+    h = h * 17 + otest.hashCode();
+    h = h * 17 + dsymutil.hashCode();
+    h = h * 17 + lipo.hashCode();
+    h = h * 17 + stubBinary.hashCode();
+    h = h * 17 + lldb.hashCode();
+    h = h * 17 + codesignAllocate.hashCode();
+    h = h * 17 + swift.hashCode();
+    h = h * 17 + swiftStdlibTool.hashCode();
+    h = h * 17 + swiftRuntimePaths.hashCode();
+    h = h * 17 + swiftStaticRuntimePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AppleCxxPlatform{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleCxxPlatform")
+        .add("cxxPlatform", cxxPlatform)
+        .add("appleSdk", appleSdk)
+        .add("appleSdkPaths", appleSdkPaths)
+        .add("buildVersion", buildVersion)
+        .add("minVersion", minVersion)
+        .add("actool", actool)
+        .add("ibtool", ibtool)
+        .add("xctest", xctest)
+        .add("otest", otest)
+        .add("dsymutil", dsymutil)
+        .add("lipo", lipo)
+        .add("stubBinary", stubBinary)
+        .add("lldb", lldb)
+        .add("codesignAllocate", codesignAllocate)
+        .add("swift", swift)
+        .add("swiftStdlibTool", swiftStdlibTool)
+        .add("swiftRuntimePaths", swiftRuntimePaths)
+        .add("swiftStaticRuntimePaths", swiftStaticRuntimePaths)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAppleCxxPlatform}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AppleCxxPlatform instance
+   */
+  public static AppleCxxPlatform copyOf(AbstractAppleCxxPlatform instance) {
+    if (instance instanceof AppleCxxPlatform) {
+      return (AppleCxxPlatform) instance;
+    }
+    return AppleCxxPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.AppleCxxPlatform AppleCxxPlatform}.
+   * @return new AppleCxxPlatform builder
+   */
+  public static AppleCxxPlatform.Builder builder() {
+    return new AppleCxxPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.AppleCxxPlatform AppleCxxPlatform}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3ff;
+    private static final long INITIALIZED_BIT_CXX_PLATFORM = 0x1L;
+    private static final long INITIALIZED_BIT_APPLE_SDK = 0x2L;
+    private static final long INITIALIZED_BIT_APPLE_SDK_PATHS = 0x4L;
+    private static final long INITIALIZED_BIT_MIN_VERSION = 0x8L;
+    private static final long INITIALIZED_BIT_ACTOOL = 0x10L;
+    private static final long INITIALIZED_BIT_IBTOOL = 0x20L;
+    private static final long INITIALIZED_BIT_XCTEST = 0x40L;
+    private static final long INITIALIZED_BIT_DSYMUTIL = 0x80L;
+    private static final long INITIALIZED_BIT_LIPO = 0x100L;
+    private static final long INITIALIZED_BIT_LLDB = 0x200L;
+    private long initializedBitset;
+    private @Nullable CxxPlatform cxxPlatform;
+    private @Nullable AppleSdk appleSdk;
+    private @Nullable AppleSdkPaths appleSdkPaths;
+    private Optional<String> buildVersion = Optional.absent();
+    private @Nullable String minVersion;
+    private @Nullable Tool actool;
+    private @Nullable Tool ibtool;
+    private @Nullable Tool xctest;
+    private Optional<Tool> otest = Optional.absent();
+    private @Nullable Tool dsymutil;
+    private @Nullable Tool lipo;
+    private Optional<Path> stubBinary = Optional.absent();
+    private @Nullable Tool lldb;
+    private Optional<Tool> codesignAllocate = Optional.absent();
+    private Optional<Tool> swift = Optional.absent();
+    private Optional<Tool> swiftStdlibTool = Optional.absent();
+    private ImmutableSet.Builder<Path> swiftRuntimePathsBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> swiftStaticRuntimePathsBuilder = ImmutableSet.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAppleCxxPlatform} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAppleCxxPlatform instance) {
+      Preconditions.checkNotNull(instance);
+      setCxxPlatform(instance.getCxxPlatform());
+      setAppleSdk(instance.getAppleSdk());
+      setAppleSdkPaths(instance.getAppleSdkPaths());
+      Optional<String> buildVersionOptional = instance.getBuildVersion();
+      if (buildVersionOptional.isPresent()) {
+        setBuildVersion(buildVersionOptional);
+      }
+      setMinVersion(instance.getMinVersion());
+      setActool(instance.getActool());
+      setIbtool(instance.getIbtool());
+      setXctest(instance.getXctest());
+      Optional<Tool> otestOptional = instance.getOtest();
+      if (otestOptional.isPresent()) {
+        setOtest(otestOptional);
+      }
+      setDsymutil(instance.getDsymutil());
+      setLipo(instance.getLipo());
+      Optional<Path> stubBinaryOptional = instance.getStubBinary();
+      if (stubBinaryOptional.isPresent()) {
+        setStubBinary(stubBinaryOptional);
+      }
+      setLldb(instance.getLldb());
+      Optional<Tool> codesignAllocateOptional = instance.getCodesignAllocate();
+      if (codesignAllocateOptional.isPresent()) {
+        setCodesignAllocate(codesignAllocateOptional);
+      }
+      Optional<Tool> swiftOptional = instance.getSwift();
+      if (swiftOptional.isPresent()) {
+        setSwift(swiftOptional);
+      }
+      Optional<Tool> swiftStdlibToolOptional = instance.getSwiftStdlibTool();
+      if (swiftStdlibToolOptional.isPresent()) {
+        setSwiftStdlibTool(swiftStdlibToolOptional);
+      }
+      addAllSwiftRuntimePaths(instance.getSwiftRuntimePaths());
+      addAllSwiftStaticRuntimePaths(instance.getSwiftStaticRuntimePaths());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getCxxPlatform() cxxPlatform}.
+     * @param cxxPlatform value for cxxPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Preconditions.checkNotNull(cxxPlatform);
+      initializedBitset |= INITIALIZED_BIT_CXX_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getAppleSdk() appleSdk}.
+     * @param appleSdk value for appleSdk
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAppleSdk(AppleSdk appleSdk) {
+      this.appleSdk = Preconditions.checkNotNull(appleSdk);
+      initializedBitset |= INITIALIZED_BIT_APPLE_SDK;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getAppleSdkPaths() appleSdkPaths}.
+     * @param appleSdkPaths value for appleSdkPaths
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAppleSdkPaths(AppleSdkPaths appleSdkPaths) {
+      this.appleSdkPaths = Preconditions.checkNotNull(appleSdkPaths);
+      initializedBitset |= INITIALIZED_BIT_APPLE_SDK_PATHS;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAppleCxxPlatform#getBuildVersion() buildVersion}.
+     * @param buildVersion value for buildVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildVersion(String buildVersion) {
+      this.buildVersion = Optional.of(buildVersion);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAppleCxxPlatform#getBuildVersion() buildVersion}.
+     * @param buildVersion value for buildVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildVersion(Optional<String> buildVersion) {
+      this.buildVersion = Preconditions.checkNotNull(buildVersion);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getMinVersion() minVersion}.
+     * @param minVersion value for minVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMinVersion(String minVersion) {
+      this.minVersion = Preconditions.checkNotNull(minVersion);
+      initializedBitset |= INITIALIZED_BIT_MIN_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getActool() actool}.
+     * @param actool value for actool
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setActool(Tool actool) {
+      this.actool = Preconditions.checkNotNull(actool);
+      initializedBitset |= INITIALIZED_BIT_ACTOOL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getIbtool() ibtool}.
+     * @param ibtool value for ibtool
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIbtool(Tool ibtool) {
+      this.ibtool = Preconditions.checkNotNull(ibtool);
+      initializedBitset |= INITIALIZED_BIT_IBTOOL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getXctest() xctest}.
+     * @param xctest value for xctest
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setXctest(Tool xctest) {
+      this.xctest = Preconditions.checkNotNull(xctest);
+      initializedBitset |= INITIALIZED_BIT_XCTEST;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAppleCxxPlatform#getOtest() otest}.
+     * @param otest value for otest
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOtest(Tool otest) {
+      this.otest = Optional.of(otest);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAppleCxxPlatform#getOtest() otest}.
+     * @param otest value for otest
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOtest(Optional<Tool> otest) {
+      this.otest = Preconditions.checkNotNull(otest);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getDsymutil() dsymutil}.
+     * @param dsymutil value for dsymutil
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDsymutil(Tool dsymutil) {
+      this.dsymutil = Preconditions.checkNotNull(dsymutil);
+      initializedBitset |= INITIALIZED_BIT_DSYMUTIL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getLipo() lipo}.
+     * @param lipo value for lipo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLipo(Tool lipo) {
+      this.lipo = Preconditions.checkNotNull(lipo);
+      initializedBitset |= INITIALIZED_BIT_LIPO;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAppleCxxPlatform#getStubBinary() stubBinary}.
+     * @param stubBinary value for stubBinary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStubBinary(Path stubBinary) {
+      this.stubBinary = Optional.of(stubBinary);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAppleCxxPlatform#getStubBinary() stubBinary}.
+     * @param stubBinary value for stubBinary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStubBinary(Optional<Path> stubBinary) {
+      this.stubBinary = Preconditions.checkNotNull(stubBinary);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleCxxPlatform#getLldb() lldb}.
+     * @param lldb value for lldb
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLldb(Tool lldb) {
+      this.lldb = Preconditions.checkNotNull(lldb);
+      initializedBitset |= INITIALIZED_BIT_LLDB;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAppleCxxPlatform#getCodesignAllocate() codesignAllocate}.
+     * @param codesignAllocate value for codesignAllocate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCodesignAllocate(Tool codesignAllocate) {
+      this.codesignAllocate = Optional.of(codesignAllocate);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAppleCxxPlatform#getCodesignAllocate() codesignAllocate}.
+     * @param codesignAllocate value for codesignAllocate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCodesignAllocate(Optional<Tool> codesignAllocate) {
+      this.codesignAllocate = Preconditions.checkNotNull(codesignAllocate);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAppleCxxPlatform#getSwift() swift}.
+     * @param swift value for swift
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwift(Tool swift) {
+      this.swift = Optional.of(swift);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAppleCxxPlatform#getSwift() swift}.
+     * @param swift value for swift
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwift(Optional<Tool> swift) {
+      this.swift = Preconditions.checkNotNull(swift);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAppleCxxPlatform#getSwiftStdlibTool() swiftStdlibTool}.
+     * @param swiftStdlibTool value for swiftStdlibTool
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwiftStdlibTool(Tool swiftStdlibTool) {
+      this.swiftStdlibTool = Optional.of(swiftStdlibTool);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAppleCxxPlatform#getSwiftStdlibTool() swiftStdlibTool}.
+     * @param swiftStdlibTool value for swiftStdlibTool
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwiftStdlibTool(Optional<Tool> swiftStdlibTool) {
+      this.swiftStdlibTool = Preconditions.checkNotNull(swiftStdlibTool);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleCxxPlatform#getSwiftRuntimePaths() swiftRuntimePaths} set.
+     * @param element swiftRuntimePaths element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSwiftRuntimePaths(Path element) {
+      swiftRuntimePathsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleCxxPlatform#getSwiftRuntimePaths() swiftRuntimePaths} set.
+     * @param elements array of swiftRuntimePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSwiftRuntimePaths(Path... elements) {
+      swiftRuntimePathsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleCxxPlatform#getSwiftRuntimePaths() swiftRuntimePaths} set.
+     * @param elements iterable of swiftRuntimePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwiftRuntimePaths(Iterable<? extends Path> elements) {
+      swiftRuntimePathsBuilder = ImmutableSet.builder();
+      return addAllSwiftRuntimePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleCxxPlatform#getSwiftRuntimePaths() swiftRuntimePaths} set.
+     * @param elements iterable of swiftRuntimePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllSwiftRuntimePaths(Iterable<? extends Path> elements) {
+      swiftRuntimePathsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleCxxPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param element swiftStaticRuntimePaths element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSwiftStaticRuntimePaths(Path element) {
+      swiftStaticRuntimePathsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleCxxPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param elements array of swiftStaticRuntimePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSwiftStaticRuntimePaths(Path... elements) {
+      swiftStaticRuntimePathsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleCxxPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param elements iterable of swiftStaticRuntimePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwiftStaticRuntimePaths(Iterable<? extends Path> elements) {
+      swiftStaticRuntimePathsBuilder = ImmutableSet.builder();
+      return addAllSwiftStaticRuntimePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleCxxPlatform#getSwiftStaticRuntimePaths() swiftStaticRuntimePaths} set.
+     * @param elements iterable of swiftStaticRuntimePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllSwiftStaticRuntimePaths(Iterable<? extends Path> elements) {
+      swiftStaticRuntimePathsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.AppleCxxPlatform AppleCxxPlatform}.
+     * @return immutable instance of AppleCxxPlatform
+     */
+    public AppleCxxPlatform build() {
+      checkRequiredAttributes();
+      return new AppleCxxPlatform(
+              cxxPlatform,
+              appleSdk,
+              appleSdkPaths,
+              buildVersion,
+              minVersion,
+              actool,
+              ibtool,
+              xctest,
+              otest,
+              dsymutil,
+              lipo,
+              stubBinary,
+              lldb,
+              codesignAllocate,
+              swift,
+              swiftStdlibTool,
+              swiftRuntimePathsBuilder.build(),
+              swiftStaticRuntimePathsBuilder.build());
+    }
+
+    private boolean cxxPlatformIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CXX_PLATFORM) != 0;
+    }
+
+    private boolean appleSdkIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_APPLE_SDK) != 0;
+    }
+
+    private boolean appleSdkPathsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_APPLE_SDK_PATHS) != 0;
+    }
+
+    private boolean minVersionIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_MIN_VERSION) != 0;
+    }
+
+    private boolean actoolIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ACTOOL) != 0;
+    }
+
+    private boolean ibtoolIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_IBTOOL) != 0;
+    }
+
+    private boolean xctestIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_XCTEST) != 0;
+    }
+
+    private boolean dsymutilIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_DSYMUTIL) != 0;
+    }
+
+    private boolean lipoIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_LIPO) != 0;
+    }
+
+    private boolean lldbIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_LLDB) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!cxxPlatformIsSet()) {
+        attributes.add("cxxPlatform");
+      }
+      if (!appleSdkIsSet()) {
+        attributes.add("appleSdk");
+      }
+      if (!appleSdkPathsIsSet()) {
+        attributes.add("appleSdkPaths");
+      }
+      if (!minVersionIsSet()) {
+        attributes.add("minVersion");
+      }
+      if (!actoolIsSet()) {
+        attributes.add("actool");
+      }
+      if (!ibtoolIsSet()) {
+        attributes.add("ibtool");
+      }
+      if (!xctestIsSet()) {
+        attributes.add("xctest");
+      }
+      if (!dsymutilIsSet()) {
+        attributes.add("dsymutil");
+      }
+      if (!lipoIsSet()) {
+        attributes.add("lipo");
+      }
+      if (!lldbIsSet()) {
+        attributes.add("lldb");
+      }
+      return "Cannot build AppleCxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,480 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractApplePlatform}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ApplePlatform.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractApplePlatform"})
+@Immutable
+public final class ApplePlatform extends AbstractApplePlatform {
+  private final String name;
+  private final Optional<String> swiftName;
+  private final ImmutableList<String> architectures;
+  private final String minVersionFlagPrefix;
+  private final Optional<Path> stubBinaryPath;
+  private final boolean appIncludesFrameworks;
+
+  private ApplePlatform(ApplePlatform.Builder builder) {
+    this.name = builder.name;
+    this.swiftName = builder.swiftName;
+    this.architectures = builder.architectures != null
+        ? builder.architectures
+        : Preconditions.checkNotNull(super.getArchitectures());
+    this.minVersionFlagPrefix = builder.minVersionFlagPrefix != null
+        ? builder.minVersionFlagPrefix
+        : Preconditions.checkNotNull(super.getMinVersionFlagPrefix());
+    this.stubBinaryPath = builder.stubBinaryPath != null
+        ? builder.stubBinaryPath
+        : Preconditions.checkNotNull(super.getStubBinaryPath());
+    this.appIncludesFrameworks = builder.appIncludesFrameworksIsSet()
+        ? builder.appIncludesFrameworks
+        : super.getAppIncludesFrameworks();
+  }
+
+  private ApplePlatform(
+      String name,
+      Optional<String> swiftName,
+      ImmutableList<String> architectures,
+      String minVersionFlagPrefix,
+      Optional<Path> stubBinaryPath,
+      boolean appIncludesFrameworks) {
+    this.name = name;
+    this.swiftName = swiftName;
+    this.architectures = architectures;
+    this.minVersionFlagPrefix = minVersionFlagPrefix;
+    this.stubBinaryPath = stubBinaryPath;
+    this.appIncludesFrameworks = appIncludesFrameworks;
+  }
+
+  /**
+   * The full name of the platform. For example: {@code macosx}.
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * The Swift name for the platform. For example: {@code ios}. If absent,
+   * use {@link #getName()} instead.
+   */
+  @Override
+  public Optional<String> getSwiftName() {
+    return swiftName;
+  }
+
+  /**
+   * @return value of {@code architectures} attribute
+   */
+  @Override
+  public ImmutableList<String> getArchitectures() {
+    return architectures;
+  }
+
+  /**
+   * @return value of {@code minVersionFlagPrefix} attribute
+   */
+  @Override
+  public String getMinVersionFlagPrefix() {
+    return minVersionFlagPrefix;
+  }
+
+  /**
+   * @return value of {@code stubBinaryPath} attribute
+   */
+  @Override
+  public Optional<Path> getStubBinaryPath() {
+    return stubBinaryPath;
+  }
+
+  /**
+   * @return value of {@code appIncludesFrameworks} attribute
+   */
+  @Override
+  public boolean getAppIncludesFrameworks() {
+    return appIncludesFrameworks;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractApplePlatform#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final ApplePlatform withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ApplePlatform(
+            newValue,
+            this.swiftName,
+            this.architectures,
+            this.minVersionFlagPrefix,
+            this.stubBinaryPath,
+            this.appIncludesFrameworks);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractApplePlatform#getSwiftName() swiftName}.
+   * @param value value for swiftName
+   * @return modified copy of {@code this} object
+   */
+  public final ApplePlatform withSwiftName(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new ApplePlatform(
+            this.name,
+            newValue,
+            this.architectures,
+            this.minVersionFlagPrefix,
+            this.stubBinaryPath,
+            this.appIncludesFrameworks);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractApplePlatform#getSwiftName() swiftName}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for swiftName
+   * @return modified copy of {@code this} object
+   */
+  public final ApplePlatform withSwiftName(Optional<String> optional) {
+    if (this.swiftName == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new ApplePlatform(
+            this.name,
+            newValue,
+            this.architectures,
+            this.minVersionFlagPrefix,
+            this.stubBinaryPath,
+            this.appIncludesFrameworks);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractApplePlatform#getArchitectures() architectures}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for architectures
+   * @return modified copy of the {@code this} object
+   */
+  public final ApplePlatform withArchitectures(ImmutableList<String> value) {
+    if (this.architectures == value) {
+      return this;
+    }
+    ImmutableList<String> newValue = Preconditions.checkNotNull(value);
+    return new ApplePlatform(
+            this.name,
+            this.swiftName,
+            newValue,
+            this.minVersionFlagPrefix,
+            this.stubBinaryPath,
+            this.appIncludesFrameworks);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractApplePlatform#getMinVersionFlagPrefix() minVersionFlagPrefix}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for minVersionFlagPrefix
+   * @return modified copy of the {@code this} object
+   */
+  public final ApplePlatform withMinVersionFlagPrefix(String value) {
+    if (this.minVersionFlagPrefix == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ApplePlatform(
+            this.name,
+            this.swiftName,
+            this.architectures,
+            newValue,
+            this.stubBinaryPath,
+            this.appIncludesFrameworks);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractApplePlatform#getStubBinaryPath() stubBinaryPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for stubBinaryPath
+   * @return modified copy of the {@code this} object
+   */
+  public final ApplePlatform withStubBinaryPath(Optional<Path> value) {
+    if (this.stubBinaryPath == value) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(value);
+    return new ApplePlatform(
+            this.name,
+            this.swiftName,
+            this.architectures,
+            this.minVersionFlagPrefix,
+            newValue,
+            this.appIncludesFrameworks);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractApplePlatform#getAppIncludesFrameworks() appIncludesFrameworks}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for appIncludesFrameworks
+   * @return modified copy of the {@code this} object
+   */
+  public final ApplePlatform withAppIncludesFrameworks(boolean value) {
+    if (this.appIncludesFrameworks == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ApplePlatform(
+            this.name,
+            this.swiftName,
+            this.architectures,
+            this.minVersionFlagPrefix,
+            this.stubBinaryPath,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ApplePlatform} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ApplePlatform && equalTo((ApplePlatform) another));
+  }
+
+  private boolean equalTo(ApplePlatform another) {
+    return name.equals(another.name)
+        && swiftName.equals(another.swiftName)
+        && architectures.equals(another.architectures)
+        && minVersionFlagPrefix.equals(another.minVersionFlagPrefix)
+        && stubBinaryPath.equals(another.stubBinaryPath)
+        && appIncludesFrameworks == another.appIncludesFrameworks;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code swiftName}, {@code architectures}, {@code minVersionFlagPrefix}, {@code stubBinaryPath}, {@code appIncludesFrameworks}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + swiftName.hashCode();
+    h = h * 17 + architectures.hashCode();
+    h = h * 17 + minVersionFlagPrefix.hashCode();
+    h = h * 17 + stubBinaryPath.hashCode();
+    h = h * 17 + Booleans.hashCode(appIncludesFrameworks);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ApplePlatform{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ApplePlatform")
+        .add("name", name)
+        .add("swiftName", swiftName)
+        .add("architectures", architectures)
+        .add("minVersionFlagPrefix", minVersionFlagPrefix)
+        .add("stubBinaryPath", stubBinaryPath)
+        .add("appIncludesFrameworks", appIncludesFrameworks)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractApplePlatform}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ApplePlatform instance
+   */
+  public static ApplePlatform copyOf(AbstractApplePlatform instance) {
+    if (instance instanceof ApplePlatform) {
+      return (ApplePlatform) instance;
+    }
+    return ApplePlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.ApplePlatform ApplePlatform}.
+   * @return new ApplePlatform builder
+   */
+  public static ApplePlatform.Builder builder() {
+    return new ApplePlatform.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.ApplePlatform ApplePlatform}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_NAME = 0x1L;
+    private static final long NONDEFAULT_BIT_APP_INCLUDES_FRAMEWORKS = 0x1L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private @Nullable String name;
+    private Optional<String> swiftName = Optional.absent();
+    private @Nullable ImmutableList<String> architectures;
+    private @Nullable String minVersionFlagPrefix;
+    private @Nullable Optional<Path> stubBinaryPath;
+    private boolean appIncludesFrameworks;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractApplePlatform} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractApplePlatform instance) {
+      Preconditions.checkNotNull(instance);
+      setName(instance.getName());
+      Optional<String> swiftNameOptional = instance.getSwiftName();
+      if (swiftNameOptional.isPresent()) {
+        setSwiftName(swiftNameOptional);
+      }
+      setArchitectures(instance.getArchitectures());
+      setMinVersionFlagPrefix(instance.getMinVersionFlagPrefix());
+      setStubBinaryPath(instance.getStubBinaryPath());
+      setAppIncludesFrameworks(instance.getAppIncludesFrameworks());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractApplePlatform#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractApplePlatform#getSwiftName() swiftName}.
+     * @param swiftName value for swiftName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwiftName(String swiftName) {
+      this.swiftName = Optional.of(swiftName);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractApplePlatform#getSwiftName() swiftName}.
+     * @param swiftName value for swiftName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSwiftName(Optional<String> swiftName) {
+      this.swiftName = Preconditions.checkNotNull(swiftName);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractApplePlatform#getArchitectures() architectures}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractApplePlatform#getArchitectures() architectures}.</em>
+     * @param architectures value for architectures
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArchitectures(ImmutableList<String> architectures) {
+      this.architectures = Preconditions.checkNotNull(architectures);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractApplePlatform#getMinVersionFlagPrefix() minVersionFlagPrefix}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractApplePlatform#getMinVersionFlagPrefix() minVersionFlagPrefix}.</em>
+     * @param minVersionFlagPrefix value for minVersionFlagPrefix
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMinVersionFlagPrefix(String minVersionFlagPrefix) {
+      this.minVersionFlagPrefix = Preconditions.checkNotNull(minVersionFlagPrefix);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractApplePlatform#getStubBinaryPath() stubBinaryPath}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractApplePlatform#getStubBinaryPath() stubBinaryPath}.</em>
+     * @param stubBinaryPath value for stubBinaryPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStubBinaryPath(Optional<Path> stubBinaryPath) {
+      this.stubBinaryPath = Preconditions.checkNotNull(stubBinaryPath);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractApplePlatform#getAppIncludesFrameworks() appIncludesFrameworks}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractApplePlatform#getAppIncludesFrameworks() appIncludesFrameworks}.</em>
+     * @param appIncludesFrameworks value for appIncludesFrameworks
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAppIncludesFrameworks(boolean appIncludesFrameworks) {
+      this.appIncludesFrameworks = appIncludesFrameworks;
+      nondefaultBitset |= NONDEFAULT_BIT_APP_INCLUDES_FRAMEWORKS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.ApplePlatform ApplePlatform}.
+     * @return immutable instance of ApplePlatform
+     */
+    public ApplePlatform build() {
+      checkRequiredAttributes();
+      return new ApplePlatform(this);
+    }
+
+    private boolean appIncludesFrameworksIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_APP_INCLUDES_FRAMEWORKS) != 0;
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      return "Cannot build ApplePlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,443 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleSdk}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AppleSdk.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleSdk"})
+@Immutable
+public final class AppleSdk implements AbstractAppleSdk {
+  private final String name;
+  private final String version;
+  private final ApplePlatform applePlatform;
+  private final ImmutableSet<String> architectures;
+  private final ImmutableList<AppleToolchain> toolchains;
+
+  private AppleSdk(
+      String name,
+      String version,
+      ApplePlatform applePlatform,
+      ImmutableSet<String> architectures,
+      ImmutableList<AppleToolchain> toolchains) {
+    this.name = name;
+    this.version = version;
+    this.applePlatform = applePlatform;
+    this.architectures = architectures;
+    this.toolchains = toolchains;
+  }
+
+  /**
+   * The full name of the SDK. For example: {@code iphonesimulator8.0}.
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * The version number of the SDK. For example: {@code 8.0}.
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * The platform of the SDK. For example, {@code iphoneos}.
+   */
+  @Override
+  public ApplePlatform getApplePlatform() {
+    return applePlatform;
+  }
+
+  /**
+   * The architectures supported by the SDK. For example: {@code [i386, x86_64]}.
+   */
+  @Override
+  public ImmutableSet<String> getArchitectures() {
+    return architectures;
+  }
+
+  /**
+   * The toolchains used by the SDK. For example:
+   * {@code ["com.apple.dt.toolchain.XcodeDefault"]}
+   */
+  @Override
+  public ImmutableList<AppleToolchain> getToolchains() {
+    return toolchains;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleSdk#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleSdk withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new AppleSdk(newValue, this.version, this.applePlatform, this.architectures, this.toolchains);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleSdk#getVersion() version}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for version
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleSdk withVersion(String value) {
+    if (this.version == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new AppleSdk(this.name, newValue, this.applePlatform, this.architectures, this.toolchains);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleSdk#getApplePlatform() applePlatform}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for applePlatform
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleSdk withApplePlatform(ApplePlatform value) {
+    if (this.applePlatform == value) {
+      return this;
+    }
+    ApplePlatform newValue = Preconditions.checkNotNull(value);
+    return new AppleSdk(this.name, this.version, newValue, this.architectures, this.toolchains);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSdk#getArchitectures() architectures}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSdk withArchitectures(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSdk(this.name, this.version, this.applePlatform, newValue, this.toolchains);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSdk#getArchitectures() architectures}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of architectures elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSdk withArchitectures(Iterable<String> elements) {
+    if (this.architectures == elements) {
+      return this;
+    }
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSdk(this.name, this.version, this.applePlatform, newValue, this.toolchains);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSdk#getToolchains() toolchains}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSdk withToolchains(AppleToolchain... elements) {
+    ImmutableList<AppleToolchain> newValue = ImmutableList.copyOf(elements);
+    return new AppleSdk(this.name, this.version, this.applePlatform, this.architectures, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSdk#getToolchains() toolchains}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of toolchains elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSdk withToolchains(Iterable<? extends AppleToolchain> elements) {
+    if (this.toolchains == elements) {
+      return this;
+    }
+    ImmutableList<AppleToolchain> newValue = ImmutableList.copyOf(elements);
+    return new AppleSdk(this.name, this.version, this.applePlatform, this.architectures, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AppleSdk} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AppleSdk && equalTo((AppleSdk) another));
+  }
+
+  private boolean equalTo(AppleSdk another) {
+    return name.equals(another.name)
+        && version.equals(another.version)
+        && applePlatform.equals(another.applePlatform)
+        && architectures.equals(another.architectures)
+        && toolchains.equals(another.toolchains);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code version}, {@code applePlatform}, {@code architectures}, {@code toolchains}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + version.hashCode();
+    h = h * 17 + applePlatform.hashCode();
+    h = h * 17 + architectures.hashCode();
+    h = h * 17 + toolchains.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AppleSdk{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSdk")
+        .add("name", name)
+        .add("version", version)
+        .add("applePlatform", applePlatform)
+        .add("architectures", architectures)
+        .add("toolchains", toolchains)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAppleSdk}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AppleSdk instance
+   */
+  public static AppleSdk copyOf(AbstractAppleSdk instance) {
+    if (instance instanceof AppleSdk) {
+      return (AppleSdk) instance;
+    }
+    return AppleSdk.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.AppleSdk AppleSdk}.
+   * @return new AppleSdk builder
+   */
+  public static AppleSdk.Builder builder() {
+    return new AppleSdk.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.AppleSdk AppleSdk}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_NAME = 0x1L;
+    private static final long INITIALIZED_BIT_VERSION = 0x2L;
+    private static final long INITIALIZED_BIT_APPLE_PLATFORM = 0x4L;
+    private long initializedBitset;
+    private @Nullable String name;
+    private @Nullable String version;
+    private @Nullable ApplePlatform applePlatform;
+    private ImmutableSet.Builder<String> architecturesBuilder = ImmutableSet.builder();
+    private ImmutableList.Builder<AppleToolchain> toolchainsBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAppleSdk} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAppleSdk instance) {
+      Preconditions.checkNotNull(instance);
+      setName(instance.getName());
+      setVersion(instance.getVersion());
+      setApplePlatform(instance.getApplePlatform());
+      addAllArchitectures(instance.getArchitectures());
+      addAllToolchains(instance.getToolchains());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleSdk#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleSdk#getVersion() version}.
+     * @param version value for version
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersion(String version) {
+      this.version = Preconditions.checkNotNull(version);
+      initializedBitset |= INITIALIZED_BIT_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleSdk#getApplePlatform() applePlatform}.
+     * @param applePlatform value for applePlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setApplePlatform(ApplePlatform applePlatform) {
+      this.applePlatform = Preconditions.checkNotNull(applePlatform);
+      initializedBitset |= INITIALIZED_BIT_APPLE_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleSdk#getArchitectures() architectures} set.
+     * @param element architectures element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addArchitectures(String element) {
+      architecturesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdk#getArchitectures() architectures} set.
+     * @param elements array of architectures elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addArchitectures(String... elements) {
+      architecturesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSdk#getArchitectures() architectures} set.
+     * @param elements iterable of architectures elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArchitectures(Iterable<String> elements) {
+      architecturesBuilder = ImmutableSet.builder();
+      return addAllArchitectures(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdk#getArchitectures() architectures} set.
+     * @param elements iterable of architectures elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllArchitectures(Iterable<String> elements) {
+      architecturesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleSdk#getToolchains() toolchains} list.
+     * @param element toolchains element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addToolchains(AppleToolchain element) {
+      toolchainsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdk#getToolchains() toolchains} list.
+     * @param elements array of toolchains elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addToolchains(AppleToolchain... elements) {
+      toolchainsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSdk#getToolchains() toolchains} list.
+     * @param elements iterable of toolchains elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setToolchains(Iterable<? extends AppleToolchain> elements) {
+      toolchainsBuilder = ImmutableList.builder();
+      return addAllToolchains(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdk#getToolchains() toolchains} list.
+     * @param elements iterable of toolchains elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllToolchains(Iterable<? extends AppleToolchain> elements) {
+      toolchainsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.AppleSdk AppleSdk}.
+     * @return immutable instance of AppleSdk
+     */
+    public AppleSdk build() {
+      checkRequiredAttributes();
+      return new AppleSdk(name, version, applePlatform, architecturesBuilder.build(), toolchainsBuilder.build());
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private boolean versionIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_VERSION) != 0;
+    }
+
+    private boolean applePlatformIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_APPLE_PLATFORM) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      if (!versionIsSet()) {
+        attributes.add("version");
+      }
+      if (!applePlatformIsSet()) {
+        attributes.add("applePlatform");
+      }
+      return "Cannot build AppleSdk, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,385 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleSdkPaths}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AppleSdkPaths.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleSdkPaths"})
+@Immutable
+public final class AppleSdkPaths extends AbstractAppleSdkPaths {
+  private final Optional<Path> developerPath;
+  private final ImmutableSet<Path> toolchainPaths;
+  private final Path platformPath;
+  private final Path sdkPath;
+
+  private AppleSdkPaths(
+      Optional<Path> developerPath,
+      ImmutableSet<Path> toolchainPaths,
+      Path platformPath,
+      Path sdkPath) {
+    this.developerPath = developerPath;
+    this.toolchainPaths = toolchainPaths;
+    this.platformPath = platformPath;
+    this.sdkPath = sdkPath;
+  }
+
+  /**
+   * Absolute path to the active DEVELOPER_DIR.
+   * Example:
+   * {@code /Applications/Xcode.app/Contents/Developer}
+   */
+  @Override
+  public Optional<Path> getDeveloperPath() {
+    return developerPath;
+  }
+
+  /**
+   * Absolute paths to tools and files independent of the platform.
+   * Example:
+   * {@code [/Applications/Xcode.app/Contents/Developer/Toolchains/XcodeDefault.xctoolchain]}
+   */
+  @Override
+  public ImmutableSet<Path> getToolchainPaths() {
+    return toolchainPaths;
+  }
+
+  /**
+   * Absolute path to tools and files which depend on a particular platform.
+   * Example:
+   * {@code /Applications/Xcode.app/Contents/Developer/Platforms/iPhoneSimulator.platform}
+   */
+  @Override
+  public Path getPlatformPath() {
+    return platformPath;
+  }
+
+  /**
+   * Absolute path to tools and files which depend on a particular SDK on a particular platform.
+   * Example:
+   * {@code /Applications/Xcode.app/Contents/Developer/Platforms/iPhoneSimulator.platform/Developer/SDKs/iPhoneSimulator8.0.sdk}
+   */
+  @Override
+  public Path getSdkPath() {
+    return sdkPath;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAppleSdkPaths#getDeveloperPath() developerPath}.
+   * @param value value for developerPath
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSdkPaths withDeveloperPath(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return new AppleSdkPaths(newValue, this.toolchainPaths, this.platformPath, this.sdkPath);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAppleSdkPaths#getDeveloperPath() developerPath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for developerPath
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSdkPaths withDeveloperPath(Optional<Path> optional) {
+    if (this.developerPath == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return new AppleSdkPaths(newValue, this.toolchainPaths, this.platformPath, this.sdkPath);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSdkPaths withToolchainPaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSdkPaths(this.developerPath, newValue, this.platformPath, this.sdkPath);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of toolchainPaths elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSdkPaths withToolchainPaths(Iterable<? extends Path> elements) {
+    if (this.toolchainPaths == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSdkPaths(this.developerPath, newValue, this.platformPath, this.sdkPath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleSdkPaths#getPlatformPath() platformPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for platformPath
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleSdkPaths withPlatformPath(Path value) {
+    if (this.platformPath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new AppleSdkPaths(this.developerPath, this.toolchainPaths, newValue, this.sdkPath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleSdkPaths#getSdkPath() sdkPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sdkPath
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleSdkPaths withSdkPath(Path value) {
+    if (this.sdkPath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new AppleSdkPaths(this.developerPath, this.toolchainPaths, this.platformPath, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AppleSdkPaths} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AppleSdkPaths && equalTo((AppleSdkPaths) another));
+  }
+
+  private boolean equalTo(AppleSdkPaths another) {
+    return developerPath.equals(another.developerPath)
+        && toolchainPaths.equals(another.toolchainPaths)
+        && platformPath.equals(another.platformPath)
+        && sdkPath.equals(another.sdkPath);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code developerPath}, {@code toolchainPaths}, {@code platformPath}, {@code sdkPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + developerPath.hashCode();
+    h = h * 17 + toolchainPaths.hashCode();
+    h = h * 17 + platformPath.hashCode();
+    h = h * 17 + sdkPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AppleSdkPaths{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSdkPaths")
+        .add("developerPath", developerPath)
+        .add("toolchainPaths", toolchainPaths)
+        .add("platformPath", platformPath)
+        .add("sdkPath", sdkPath)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAppleSdkPaths}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AppleSdkPaths instance
+   */
+  public static AppleSdkPaths copyOf(AbstractAppleSdkPaths instance) {
+    if (instance instanceof AppleSdkPaths) {
+      return (AppleSdkPaths) instance;
+    }
+    return AppleSdkPaths.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.AppleSdkPaths AppleSdkPaths}.
+   * @return new AppleSdkPaths builder
+   */
+  public static AppleSdkPaths.Builder builder() {
+    return new AppleSdkPaths.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.AppleSdkPaths AppleSdkPaths}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_PLATFORM_PATH = 0x1L;
+    private static final long INITIALIZED_BIT_SDK_PATH = 0x2L;
+    private long initializedBitset;
+    private Optional<Path> developerPath = Optional.absent();
+    private ImmutableSet.Builder<Path> toolchainPathsBuilder = ImmutableSet.builder();
+    private @Nullable Path platformPath;
+    private @Nullable Path sdkPath;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAppleSdkPaths} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAppleSdkPaths instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<Path> developerPathOptional = instance.getDeveloperPath();
+      if (developerPathOptional.isPresent()) {
+        setDeveloperPath(developerPathOptional);
+      }
+      addAllToolchainPaths(instance.getToolchainPaths());
+      setPlatformPath(instance.getPlatformPath());
+      setSdkPath(instance.getSdkPath());
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAppleSdkPaths#getDeveloperPath() developerPath}.
+     * @param developerPath value for developerPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDeveloperPath(Path developerPath) {
+      this.developerPath = Optional.of(developerPath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAppleSdkPaths#getDeveloperPath() developerPath}.
+     * @param developerPath value for developerPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDeveloperPath(Optional<Path> developerPath) {
+      this.developerPath = Preconditions.checkNotNull(developerPath);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param element toolchainPaths element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addToolchainPaths(Path element) {
+      toolchainPathsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param elements array of toolchainPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addToolchainPaths(Path... elements) {
+      toolchainPathsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param elements iterable of toolchainPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setToolchainPaths(Iterable<? extends Path> elements) {
+      toolchainPathsBuilder = ImmutableSet.builder();
+      return addAllToolchainPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param elements iterable of toolchainPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllToolchainPaths(Iterable<? extends Path> elements) {
+      toolchainPathsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleSdkPaths#getPlatformPath() platformPath}.
+     * @param platformPath value for platformPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPlatformPath(Path platformPath) {
+      this.platformPath = Preconditions.checkNotNull(platformPath);
+      initializedBitset |= INITIALIZED_BIT_PLATFORM_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleSdkPaths#getSdkPath() sdkPath}.
+     * @param sdkPath value for sdkPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSdkPath(Path sdkPath) {
+      this.sdkPath = Preconditions.checkNotNull(sdkPath);
+      initializedBitset |= INITIALIZED_BIT_SDK_PATH;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.AppleSdkPaths AppleSdkPaths}.
+     * @return immutable instance of AppleSdkPaths
+     */
+    public AppleSdkPaths build() {
+      checkRequiredAttributes();
+      return new AppleSdkPaths(developerPath, toolchainPathsBuilder.build(), platformPath, sdkPath);
+    }
+
+    private boolean platformPathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PLATFORM_PATH) != 0;
+    }
+
+    private boolean sdkPathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SDK_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!platformPathIsSet()) {
+        attributes.add("platformPath");
+      }
+      if (!sdkPathIsSet()) {
+        attributes.add("sdkPath");
+      }
+      return "Cannot build AppleSdkPaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,480 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.model.Either;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleTestBundleParamsKey}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AppleTestBundleParamsKey.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleTestBundleParamsKey"})
+@Immutable
+public final class AppleTestBundleParamsKey extends AbstractAppleTestBundleParamsKey {
+  private final Optional<SourcePath> infoPlist;
+  private final Either<AppleBundleExtension, String> extension;
+  private final Optional<ImmutableSortedMap<String, ImmutableMap<String, String>>> configs;
+  private final ImmutableList<String> linkerFlags;
+  private final ImmutableList<String> exportedLinkerFlags;
+  private final int hashCode;
+
+  private AppleTestBundleParamsKey(
+      Optional<SourcePath> infoPlist,
+      Either<AppleBundleExtension, String> extension,
+      Optional<ImmutableSortedMap<String, ImmutableMap<String, String>>> configs,
+      ImmutableList<String> linkerFlags,
+      ImmutableList<String> exportedLinkerFlags) {
+    this.infoPlist = infoPlist;
+    this.extension = extension;
+    this.configs = configs;
+    this.linkerFlags = linkerFlags;
+    this.exportedLinkerFlags = exportedLinkerFlags;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return value of {@code infoPlist} attribute
+   */
+  @Override
+  public Optional<SourcePath> getInfoPlist() {
+    return infoPlist;
+  }
+
+  /**
+   * @return value of {@code extension} attribute
+   */
+  @Override
+  public Either<AppleBundleExtension, String> getExtension() {
+    return extension;
+  }
+
+  /**
+   * @return value of {@code configs} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, ImmutableMap<String, String>>> getConfigs() {
+    return configs;
+  }
+
+  /**
+   * @return value of {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return value of {@code exportedLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExportedLinkerFlags() {
+    return exportedLinkerFlags;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAppleTestBundleParamsKey#getInfoPlist() infoPlist}.
+   * @param value value for infoPlist
+   * @return modified copy of {@code this} object
+   */
+  public final AppleTestBundleParamsKey withInfoPlist(SourcePath value) {
+    Optional<SourcePath> newValue = Optional.of(value);
+    return new AppleTestBundleParamsKey(newValue, this.extension, this.configs, this.linkerFlags, this.exportedLinkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAppleTestBundleParamsKey#getInfoPlist() infoPlist}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for infoPlist
+   * @return modified copy of {@code this} object
+   */
+  public final AppleTestBundleParamsKey withInfoPlist(Optional<SourcePath> optional) {
+    if (this.infoPlist == optional) {
+      return this;
+    }
+    Optional<SourcePath> newValue = Preconditions.checkNotNull(optional);
+    return new AppleTestBundleParamsKey(newValue, this.extension, this.configs, this.linkerFlags, this.exportedLinkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleTestBundleParamsKey#getExtension() extension}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for extension
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleTestBundleParamsKey withExtension(Either<AppleBundleExtension, String> value) {
+    if (this.extension == value) {
+      return this;
+    }
+    Either<AppleBundleExtension, String> newValue = Preconditions.checkNotNull(value);
+    return new AppleTestBundleParamsKey(this.infoPlist, newValue, this.configs, this.linkerFlags, this.exportedLinkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractAppleTestBundleParamsKey#getConfigs() configs}.
+   * @param value value for configs
+   * @return modified copy of {@code this} object
+   */
+  public final AppleTestBundleParamsKey withConfigs(ImmutableSortedMap<String, ImmutableMap<String, String>> value) {
+    Optional<ImmutableSortedMap<String, ImmutableMap<String, String>>> newValue = Optional.of(value);
+    return new AppleTestBundleParamsKey(this.infoPlist, this.extension, newValue, this.linkerFlags, this.exportedLinkerFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractAppleTestBundleParamsKey#getConfigs() configs}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for configs
+   * @return modified copy of {@code this} object
+   */
+  public final AppleTestBundleParamsKey withConfigs(Optional<ImmutableSortedMap<String, ImmutableMap<String, String>>> optional) {
+    if (this.configs == optional) {
+      return this;
+    }
+    Optional<ImmutableSortedMap<String, ImmutableMap<String, String>>> newValue = Preconditions.checkNotNull(optional);
+    return new AppleTestBundleParamsKey(this.infoPlist, this.extension, newValue, this.linkerFlags, this.exportedLinkerFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleTestBundleParamsKey#getLinkerFlags() linkerFlags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleTestBundleParamsKey withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AppleTestBundleParamsKey(this.infoPlist, this.extension, this.configs, newValue, this.exportedLinkerFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleTestBundleParamsKey#getLinkerFlags() linkerFlags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of linkerFlags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleTestBundleParamsKey withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AppleTestBundleParamsKey(this.infoPlist, this.extension, this.configs, newValue, this.exportedLinkerFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleTestBundleParamsKey#getExportedLinkerFlags() exportedLinkerFlags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleTestBundleParamsKey withExportedLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AppleTestBundleParamsKey(this.infoPlist, this.extension, this.configs, this.linkerFlags, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleTestBundleParamsKey#getExportedLinkerFlags() exportedLinkerFlags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of exportedLinkerFlags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleTestBundleParamsKey withExportedLinkerFlags(Iterable<String> elements) {
+    if (this.exportedLinkerFlags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new AppleTestBundleParamsKey(this.infoPlist, this.extension, this.configs, this.linkerFlags, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AppleTestBundleParamsKey} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AppleTestBundleParamsKey && equalTo((AppleTestBundleParamsKey) another));
+  }
+
+  private boolean equalTo(AppleTestBundleParamsKey another) {
+    return infoPlist.equals(another.infoPlist)
+        && extension.equals(another.extension)
+        && configs.equals(another.configs)
+        && linkerFlags.equals(another.linkerFlags)
+        && exportedLinkerFlags.equals(another.exportedLinkerFlags);
+  }
+
+  /**
+   * Returns precomputed on construction hash code from attributes: {@code infoPlist}, {@code extension}, {@code configs}, {@code linkerFlags}, {@code exportedLinkerFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 31;
+    h = h * 17 + infoPlist.hashCode();
+    h = h * 17 + extension.hashCode();
+    h = h * 17 + configs.hashCode();
+    h = h * 17 + linkerFlags.hashCode();
+    h = h * 17 + exportedLinkerFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AppleTestBundleParamsKey{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleTestBundleParamsKey")
+        .add("infoPlist", infoPlist)
+        .add("extension", extension)
+        .add("configs", configs)
+        .add("linkerFlags", linkerFlags)
+        .add("exportedLinkerFlags", exportedLinkerFlags)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAppleTestBundleParamsKey}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AppleTestBundleParamsKey instance
+   */
+  public static AppleTestBundleParamsKey copyOf(AbstractAppleTestBundleParamsKey instance) {
+    if (instance instanceof AppleTestBundleParamsKey) {
+      return (AppleTestBundleParamsKey) instance;
+    }
+    return AppleTestBundleParamsKey.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.AppleTestBundleParamsKey AppleTestBundleParamsKey}.
+   * @return new AppleTestBundleParamsKey builder
+   */
+  public static AppleTestBundleParamsKey.Builder builder() {
+    return new AppleTestBundleParamsKey.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.AppleTestBundleParamsKey AppleTestBundleParamsKey}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_EXTENSION = 0x1L;
+    private long initializedBitset;
+    private Optional<SourcePath> infoPlist = Optional.absent();
+    private @Nullable Either<AppleBundleExtension, String> extension;
+    private Optional<ImmutableSortedMap<String, ImmutableMap<String, String>>> configs = Optional.absent();
+    private ImmutableList.Builder<String> linkerFlagsBuilder = ImmutableList.builder();
+    private ImmutableList.Builder<String> exportedLinkerFlagsBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAppleTestBundleParamsKey} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAppleTestBundleParamsKey instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<SourcePath> infoPlistOptional = instance.getInfoPlist();
+      if (infoPlistOptional.isPresent()) {
+        setInfoPlist(infoPlistOptional);
+      }
+      setExtension(instance.getExtension());
+      Optional<ImmutableSortedMap<String, ImmutableMap<String, String>>> configsOptional = instance.getConfigs();
+      if (configsOptional.isPresent()) {
+        setConfigs(configsOptional);
+      }
+      addAllLinkerFlags(instance.getLinkerFlags());
+      addAllExportedLinkerFlags(instance.getExportedLinkerFlags());
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAppleTestBundleParamsKey#getInfoPlist() infoPlist}.
+     * @param infoPlist value for infoPlist
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInfoPlist(SourcePath infoPlist) {
+      this.infoPlist = Optional.of(infoPlist);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAppleTestBundleParamsKey#getInfoPlist() infoPlist}.
+     * @param infoPlist value for infoPlist
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInfoPlist(Optional<SourcePath> infoPlist) {
+      this.infoPlist = Preconditions.checkNotNull(infoPlist);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleTestBundleParamsKey#getExtension() extension}.
+     * @param extension value for extension
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtension(Either<AppleBundleExtension, String> extension) {
+      this.extension = Preconditions.checkNotNull(extension);
+      initializedBitset |= INITIALIZED_BIT_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractAppleTestBundleParamsKey#getConfigs() configs}.
+     * @param configs value for configs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setConfigs(ImmutableSortedMap<String, ImmutableMap<String, String>> configs) {
+      this.configs = Optional.of(configs);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractAppleTestBundleParamsKey#getConfigs() configs}.
+     * @param configs value for configs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setConfigs(Optional<ImmutableSortedMap<String, ImmutableMap<String, String>>> configs) {
+      this.configs = Preconditions.checkNotNull(configs);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleTestBundleParamsKey#getLinkerFlags() linkerFlags} list.
+     * @param element linkerFlags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      linkerFlagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleTestBundleParamsKey#getLinkerFlags() linkerFlags} list.
+     * @param elements array of linkerFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      linkerFlagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleTestBundleParamsKey#getLinkerFlags() linkerFlags} list.
+     * @param elements iterable of linkerFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      linkerFlagsBuilder = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleTestBundleParamsKey#getLinkerFlags() linkerFlags} list.
+     * @param elements iterable of linkerFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      linkerFlagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleTestBundleParamsKey#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param element exportedLinkerFlags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addExportedLinkerFlags(String element) {
+      exportedLinkerFlagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleTestBundleParamsKey#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements array of exportedLinkerFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addExportedLinkerFlags(String... elements) {
+      exportedLinkerFlagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleTestBundleParamsKey#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExportedLinkerFlags(Iterable<String> elements) {
+      exportedLinkerFlagsBuilder = ImmutableList.builder();
+      return addAllExportedLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleTestBundleParamsKey#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllExportedLinkerFlags(Iterable<String> elements) {
+      exportedLinkerFlagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.AppleTestBundleParamsKey AppleTestBundleParamsKey}.
+     * @return immutable instance of AppleTestBundleParamsKey
+     */
+    public AppleTestBundleParamsKey build() {
+      checkRequiredAttributes();
+      return new AppleTestBundleParamsKey(infoPlist, extension, configs, linkerFlagsBuilder.build(), exportedLinkerFlagsBuilder.build());
+    }
+
+    private boolean extensionIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_EXTENSION) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!extensionIsSet()) {
+        attributes.add("extension");
+      }
+      return "Cannot build AppleTestBundleParamsKey, some of required attributes are not set " + attributes;
+    }
+  }
+}
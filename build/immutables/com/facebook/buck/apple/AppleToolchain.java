@@ -0,0 +1,278 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleToolchain}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AppleToolchain.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleToolchain"})
+@Immutable
+public final class AppleToolchain implements AbstractAppleToolchain {
+  private final String identifier;
+  private final String version;
+  private final Path path;
+
+  private AppleToolchain(String identifier, String version, Path path) {
+    this.identifier = identifier;
+    this.version = version;
+    this.path = path;
+  }
+
+  /**
+   * The identifier of the toolchain. For example: {@code com.apple.dt.XcodeDefault}.
+   */
+  @Override
+  public String getIdentifier() {
+    return identifier;
+  }
+
+  /**
+   * The version number of the toolchain. For example: {@code 0630}.
+   */
+  @Override
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * The path to the toolchain. For example, {@code .../XcodeDefault.xctoolchain}.
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleToolchain#getIdentifier() identifier}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for identifier
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleToolchain withIdentifier(String value) {
+    if (this.identifier == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new AppleToolchain(newValue, this.version, this.path);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleToolchain#getVersion() version}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for version
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleToolchain withVersion(String value) {
+    if (this.version == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new AppleToolchain(this.identifier, newValue, this.path);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleToolchain#getPath() path}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for path
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleToolchain withPath(Path value) {
+    if (this.path == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new AppleToolchain(this.identifier, this.version, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AppleToolchain} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AppleToolchain && equalTo((AppleToolchain) another));
+  }
+
+  private boolean equalTo(AppleToolchain another) {
+    return identifier.equals(another.identifier)
+        && version.equals(another.version)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code identifier}, {@code version}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + identifier.hashCode();
+    h = h * 17 + version.hashCode();
+    h = h * 17 + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AppleToolchain{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleToolchain")
+        .add("identifier", identifier)
+        .add("version", version)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAppleToolchain}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AppleToolchain instance
+   */
+  public static AppleToolchain copyOf(AbstractAppleToolchain instance) {
+    if (instance instanceof AppleToolchain) {
+      return (AppleToolchain) instance;
+    }
+    return AppleToolchain.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.AppleToolchain AppleToolchain}.
+   * @return new AppleToolchain builder
+   */
+  public static AppleToolchain.Builder builder() {
+    return new AppleToolchain.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.AppleToolchain AppleToolchain}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_IDENTIFIER = 0x1L;
+    private static final long INITIALIZED_BIT_VERSION = 0x2L;
+    private static final long INITIALIZED_BIT_PATH = 0x4L;
+    private long initializedBitset;
+    private @Nullable String identifier;
+    private @Nullable String version;
+    private @Nullable Path path;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAppleToolchain} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAppleToolchain instance) {
+      Preconditions.checkNotNull(instance);
+      setIdentifier(instance.getIdentifier());
+      setVersion(instance.getVersion());
+      setPath(instance.getPath());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleToolchain#getIdentifier() identifier}.
+     * @param identifier value for identifier
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIdentifier(String identifier) {
+      this.identifier = Preconditions.checkNotNull(identifier);
+      initializedBitset |= INITIALIZED_BIT_IDENTIFIER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleToolchain#getVersion() version}.
+     * @param version value for version
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersion(String version) {
+      this.version = Preconditions.checkNotNull(version);
+      initializedBitset |= INITIALIZED_BIT_VERSION;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleToolchain#getPath() path}.
+     * @param path value for path
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPath(Path path) {
+      this.path = Preconditions.checkNotNull(path);
+      initializedBitset |= INITIALIZED_BIT_PATH;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.AppleToolchain AppleToolchain}.
+     * @return immutable instance of AppleToolchain
+     */
+    public AppleToolchain build() {
+      checkRequiredAttributes();
+      return new AppleToolchain(identifier, version, path);
+    }
+
+    private boolean identifierIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_IDENTIFIER) != 0;
+    }
+
+    private boolean versionIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_VERSION) != 0;
+    }
+
+    private boolean pathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!identifierIsSet()) {
+        attributes.add("identifier");
+      }
+      if (!versionIsSet()) {
+        attributes.add("version");
+      }
+      if (!pathIsSet()) {
+        attributes.add("path");
+      }
+      return "Cannot build AppleToolchain, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,250 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCodeSignIdentity}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CodeSignIdentity.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCodeSignIdentity"})
+@Immutable
+public final class CodeSignIdentity extends AbstractCodeSignIdentity {
+  private final Optional<HashCode> fingerprint;
+  private final String subjectCommonName;
+
+  private CodeSignIdentity(
+      Optional<HashCode> fingerprint,
+      String subjectCommonName) {
+    this.fingerprint = fingerprint;
+    this.subjectCommonName = subjectCommonName;
+  }
+
+  /**
+   * Returns the identity's certificate hash, defined to be unique for each identity.
+   * If absent, this identity represents an ad-hoc signing identity.
+   */
+  @Override
+  public Optional<HashCode> getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   *Returns the full name of the identity.
+   * e.g. "iPhone Developer: John Doe (ABCDE12345)"
+   * Not guaranteed to be unique.
+   */
+  @Override
+  public String getSubjectCommonName() {
+    return subjectCommonName;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractCodeSignIdentity#getFingerprint() fingerprint}.
+   * @param value value for fingerprint
+   * @return modified copy of {@code this} object
+   */
+  public final CodeSignIdentity withFingerprint(HashCode value) {
+    Optional<HashCode> newValue = Optional.of(value);
+    return new CodeSignIdentity(newValue, this.subjectCommonName);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractCodeSignIdentity#getFingerprint() fingerprint}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for fingerprint
+   * @return modified copy of {@code this} object
+   */
+  public final CodeSignIdentity withFingerprint(Optional<HashCode> optional) {
+    if (this.fingerprint == optional) {
+      return this;
+    }
+    Optional<HashCode> newValue = Preconditions.checkNotNull(optional);
+    return new CodeSignIdentity(newValue, this.subjectCommonName);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCodeSignIdentity#getSubjectCommonName() subjectCommonName}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for subjectCommonName
+   * @return modified copy of the {@code this} object
+   */
+  public final CodeSignIdentity withSubjectCommonName(String value) {
+    if (this.subjectCommonName == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new CodeSignIdentity(this.fingerprint, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CodeSignIdentity} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CodeSignIdentity && equalTo((CodeSignIdentity) another));
+  }
+
+  private boolean equalTo(CodeSignIdentity another) {
+    return fingerprint.equals(another.fingerprint)
+        && subjectCommonName.equals(another.subjectCommonName);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code fingerprint}, {@code subjectCommonName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + fingerprint.hashCode();
+    h = h * 17 + subjectCommonName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CodeSignIdentity{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CodeSignIdentity")
+        .add("fingerprint", fingerprint)
+        .add("subjectCommonName", subjectCommonName)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCodeSignIdentity}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CodeSignIdentity instance
+   */
+  public static CodeSignIdentity copyOf(AbstractCodeSignIdentity instance) {
+    if (instance instanceof CodeSignIdentity) {
+      return (CodeSignIdentity) instance;
+    }
+    return CodeSignIdentity.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.CodeSignIdentity CodeSignIdentity}.
+   * @return new CodeSignIdentity builder
+   */
+  public static CodeSignIdentity.Builder builder() {
+    return new CodeSignIdentity.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.CodeSignIdentity CodeSignIdentity}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_SUBJECT_COMMON_NAME = 0x1L;
+    private long initializedBitset;
+    private Optional<HashCode> fingerprint = Optional.absent();
+    private @Nullable String subjectCommonName;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCodeSignIdentity} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCodeSignIdentity instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<HashCode> fingerprintOptional = instance.getFingerprint();
+      if (fingerprintOptional.isPresent()) {
+        setFingerprint(fingerprintOptional);
+      }
+      setSubjectCommonName(instance.getSubjectCommonName());
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractCodeSignIdentity#getFingerprint() fingerprint}.
+     * @param fingerprint value for fingerprint
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFingerprint(HashCode fingerprint) {
+      this.fingerprint = Optional.of(fingerprint);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractCodeSignIdentity#getFingerprint() fingerprint}.
+     * @param fingerprint value for fingerprint
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFingerprint(Optional<HashCode> fingerprint) {
+      this.fingerprint = Preconditions.checkNotNull(fingerprint);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCodeSignIdentity#getSubjectCommonName() subjectCommonName}.
+     * @param subjectCommonName value for subjectCommonName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSubjectCommonName(String subjectCommonName) {
+      this.subjectCommonName = Preconditions.checkNotNull(subjectCommonName);
+      initializedBitset |= INITIALIZED_BIT_SUBJECT_COMMON_NAME;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.CodeSignIdentity CodeSignIdentity}.
+     * @return immutable instance of CodeSignIdentity
+     */
+    public CodeSignIdentity build() {
+      checkRequiredAttributes();
+      return new CodeSignIdentity(fingerprint, subjectCommonName);
+    }
+
+    private boolean subjectCommonNameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SUBJECT_COMMON_NAME) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!subjectCommonNameIsSet()) {
+        attributes.add("subjectCommonName");
+      }
+      return "Cannot build CodeSignIdentity, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,316 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractFatBinaryInfo}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code FatBinaryInfo.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFatBinaryInfo"})
+@Immutable
+public final class FatBinaryInfo extends AbstractFatBinaryInfo {
+  private final BuildTarget fatTarget;
+  private final ImmutableList<BuildTarget> thinTargets;
+  private final AppleCxxPlatform representativePlatform;
+
+  private FatBinaryInfo(
+      BuildTarget fatTarget,
+      ImmutableList<BuildTarget> thinTargets,
+      AppleCxxPlatform representativePlatform) {
+    this.fatTarget = fatTarget;
+    this.thinTargets = thinTargets;
+    this.representativePlatform = representativePlatform;
+  }
+
+  /**
+   * @return value of {@code fatTarget} attribute
+   */
+  @Override
+  public BuildTarget getFatTarget() {
+    return fatTarget;
+  }
+
+  /**
+   * @return value of {@code thinTargets} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getThinTargets() {
+    return thinTargets;
+  }
+
+  /**
+   * Returns a representative platform for use in retrieving architecture agnostic tools.
+   * Platforms are architecture specific, but some tools are architecture agnostic. Since there
+   * isn't a concept of target architecture agnostic tools, this simply returns one of the
+   * platforms, trusting the caller to only use the architecture agnostic tools.
+   */
+  @Override
+  public AppleCxxPlatform getRepresentativePlatform() {
+    return representativePlatform;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractFatBinaryInfo#getFatTarget() fatTarget}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for fatTarget
+   * @return modified copy of the {@code this} object
+   */
+  public final FatBinaryInfo withFatTarget(BuildTarget value) {
+    if (this.fatTarget == value) {
+      return this;
+    }
+    BuildTarget newValue = Preconditions.checkNotNull(value);
+    return new FatBinaryInfo(newValue, this.thinTargets, this.representativePlatform);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractFatBinaryInfo#getThinTargets() thinTargets}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final FatBinaryInfo withThinTargets(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new FatBinaryInfo(this.fatTarget, newValue, this.representativePlatform);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractFatBinaryInfo#getThinTargets() thinTargets}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of thinTargets elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final FatBinaryInfo withThinTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.thinTargets == elements) {
+      return this;
+    }
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new FatBinaryInfo(this.fatTarget, newValue, this.representativePlatform);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractFatBinaryInfo#getRepresentativePlatform() representativePlatform}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for representativePlatform
+   * @return modified copy of the {@code this} object
+   */
+  public final FatBinaryInfo withRepresentativePlatform(AppleCxxPlatform value) {
+    if (this.representativePlatform == value) {
+      return this;
+    }
+    AppleCxxPlatform newValue = Preconditions.checkNotNull(value);
+    return new FatBinaryInfo(this.fatTarget, this.thinTargets, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code FatBinaryInfo} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof FatBinaryInfo && equalTo((FatBinaryInfo) another));
+  }
+
+  private boolean equalTo(FatBinaryInfo another) {
+    return fatTarget.equals(another.fatTarget)
+        && thinTargets.equals(another.thinTargets)
+        && representativePlatform.equals(another.representativePlatform);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code fatTarget}, {@code thinTargets}, {@code representativePlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + fatTarget.hashCode();
+    h = h * 17 + thinTargets.hashCode();
+    h = h * 17 + representativePlatform.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code FatBinaryInfo{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FatBinaryInfo")
+        .add("fatTarget", fatTarget)
+        .add("thinTargets", thinTargets)
+        .add("representativePlatform", representativePlatform)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractFatBinaryInfo}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable FatBinaryInfo instance
+   */
+  public static FatBinaryInfo copyOf(AbstractFatBinaryInfo instance) {
+    if (instance instanceof FatBinaryInfo) {
+      return (FatBinaryInfo) instance;
+    }
+    return FatBinaryInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.FatBinaryInfo FatBinaryInfo}.
+   * @return new FatBinaryInfo builder
+   */
+  public static FatBinaryInfo.Builder builder() {
+    return new FatBinaryInfo.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.FatBinaryInfo FatBinaryInfo}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_FAT_TARGET = 0x1L;
+    private static final long INITIALIZED_BIT_REPRESENTATIVE_PLATFORM = 0x2L;
+    private long initializedBitset;
+    private @Nullable BuildTarget fatTarget;
+    private ImmutableList.Builder<BuildTarget> thinTargetsBuilder = ImmutableList.builder();
+    private @Nullable AppleCxxPlatform representativePlatform;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractFatBinaryInfo} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractFatBinaryInfo instance) {
+      Preconditions.checkNotNull(instance);
+      setFatTarget(instance.getFatTarget());
+      addAllThinTargets(instance.getThinTargets());
+      setRepresentativePlatform(instance.getRepresentativePlatform());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractFatBinaryInfo#getFatTarget() fatTarget}.
+     * @param fatTarget value for fatTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFatTarget(BuildTarget fatTarget) {
+      this.fatTarget = Preconditions.checkNotNull(fatTarget);
+      initializedBitset |= INITIALIZED_BIT_FAT_TARGET;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractFatBinaryInfo#getThinTargets() thinTargets} list.
+     * @param element thinTargets element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addThinTargets(BuildTarget element) {
+      thinTargetsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractFatBinaryInfo#getThinTargets() thinTargets} list.
+     * @param elements array of thinTargets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addThinTargets(BuildTarget... elements) {
+      thinTargetsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractFatBinaryInfo#getThinTargets() thinTargets} list.
+     * @param elements iterable of thinTargets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setThinTargets(Iterable<? extends BuildTarget> elements) {
+      thinTargetsBuilder = ImmutableList.builder();
+      return addAllThinTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractFatBinaryInfo#getThinTargets() thinTargets} list.
+     * @param elements iterable of thinTargets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllThinTargets(Iterable<? extends BuildTarget> elements) {
+      thinTargetsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractFatBinaryInfo#getRepresentativePlatform() representativePlatform}.
+     * @param representativePlatform value for representativePlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRepresentativePlatform(AppleCxxPlatform representativePlatform) {
+      this.representativePlatform = Preconditions.checkNotNull(representativePlatform);
+      initializedBitset |= INITIALIZED_BIT_REPRESENTATIVE_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.FatBinaryInfo FatBinaryInfo}.
+     * @return immutable instance of FatBinaryInfo
+     */
+    public FatBinaryInfo build() {
+      checkRequiredAttributes();
+      return new FatBinaryInfo(fatTarget, thinTargetsBuilder.build(), representativePlatform);
+    }
+
+    private boolean fatTargetIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FAT_TARGET) != 0;
+    }
+
+    private boolean representativePlatformIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_REPRESENTATIVE_PLATFORM) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!fatTargetIsSet()) {
+        attributes.add("fatTarget");
+      }
+      if (!representativePlatformIsSet()) {
+        attributes.add("representativePlatform");
+      }
+      return "Cannot build FatBinaryInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
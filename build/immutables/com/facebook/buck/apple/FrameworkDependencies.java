@@ -0,0 +1,224 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractFrameworkDependencies}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code FrameworkDependencies.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code FrameworkDependencies.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFrameworkDependencies"})
+@Immutable
+public final class FrameworkDependencies extends AbstractFrameworkDependencies {
+  private final ImmutableSet<SourcePath> sourcePaths;
+
+  private FrameworkDependencies(Iterable<? extends SourcePath> sourcePaths) {
+    this.sourcePaths = ImmutableSet.copyOf(sourcePaths);
+  }
+
+  private FrameworkDependencies(
+      FrameworkDependencies original,
+      ImmutableSet<SourcePath> sourcePaths) {
+    this.sourcePaths = sourcePaths;
+  }
+
+  /**
+   * @return value of {@code sourcePaths} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getSourcePaths() {
+    return sourcePaths;
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractFrameworkDependencies#getSourcePaths() sourcePaths}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final FrameworkDependencies withSourcePaths(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new FrameworkDependencies(this, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractFrameworkDependencies#getSourcePaths() sourcePaths}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of sourcePaths elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final FrameworkDependencies withSourcePaths(Iterable<? extends SourcePath> elements) {
+    if (this.sourcePaths == elements) {
+      return this;
+    }
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new FrameworkDependencies(this, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code FrameworkDependencies} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof FrameworkDependencies && equalTo((FrameworkDependencies) another));
+  }
+
+  private boolean equalTo(FrameworkDependencies another) {
+    return sourcePaths.equals(another.sourcePaths);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code sourcePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + sourcePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code FrameworkDependencies{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FrameworkDependencies")
+        .add("sourcePaths", sourcePaths)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code FrameworkDependencies} instance.
+   * @param sourcePaths value for {@code sourcePaths}
+   * @return immutable FrameworkDependencies instance
+   */
+  public static com.facebook.buck.apple.FrameworkDependencies of(ImmutableSet<SourcePath> sourcePaths) {
+    return of((Iterable<? extends SourcePath>) sourcePaths);
+  }
+
+  /**
+   * Construct new immutable {@code FrameworkDependencies} instance.
+   * @param sourcePaths value for {@code sourcePaths}
+   * @return immutable FrameworkDependencies instance
+   */
+  public static com.facebook.buck.apple.FrameworkDependencies of(Iterable<? extends SourcePath> sourcePaths) {
+    return new FrameworkDependencies(sourcePaths);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractFrameworkDependencies}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable FrameworkDependencies instance
+   */
+  public static FrameworkDependencies copyOf(AbstractFrameworkDependencies instance) {
+    if (instance instanceof FrameworkDependencies) {
+      return (FrameworkDependencies) instance;
+    }
+    return FrameworkDependencies.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.FrameworkDependencies FrameworkDependencies}.
+   * @return new FrameworkDependencies builder
+   */
+  public static FrameworkDependencies.Builder builder() {
+    return new FrameworkDependencies.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.FrameworkDependencies FrameworkDependencies}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<SourcePath> sourcePathsBuilder = ImmutableSet.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractFrameworkDependencies} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractFrameworkDependencies instance) {
+      Preconditions.checkNotNull(instance);
+      addAllSourcePaths(instance.getSourcePaths());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractFrameworkDependencies#getSourcePaths() sourcePaths} set.
+     * @param element sourcePaths element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSourcePaths(SourcePath element) {
+      sourcePathsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractFrameworkDependencies#getSourcePaths() sourcePaths} set.
+     * @param elements array of sourcePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSourcePaths(SourcePath... elements) {
+      sourcePathsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractFrameworkDependencies#getSourcePaths() sourcePaths} set.
+     * @param elements iterable of sourcePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePaths(Iterable<? extends SourcePath> elements) {
+      sourcePathsBuilder = ImmutableSet.builder();
+      return addAllSourcePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractFrameworkDependencies#getSourcePaths() sourcePaths} set.
+     * @param elements iterable of sourcePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllSourcePaths(Iterable<? extends SourcePath> elements) {
+      sourcePathsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.FrameworkDependencies FrameworkDependencies}.
+     * @return immutable instance of FrameworkDependencies
+     */
+    public FrameworkDependencies build() {
+      return new FrameworkDependencies(null, sourcePathsBuilder.build());
+    }
+  }
+}
@@ -0,0 +1,623 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourceWithFlags;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractGroupedSource}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code GroupedSource.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code GroupedSource.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractGroupedSource"})
+@Immutable
+public final class GroupedSource extends AbstractGroupedSource {
+  private final AbstractGroupedSource.Type type;
+  private final Optional<SourceWithFlags> sourceWithFlags;
+  private final Optional<SourcePath> sourcePath;
+  private final Optional<String> sourceGroupName;
+  private final Optional<Path> sourceGroupPathRelativeToTarget;
+  private final Optional<List<GroupedSource>> sourceGroup;
+
+  private GroupedSource(
+      AbstractGroupedSource.Type type,
+      Optional<SourceWithFlags> sourceWithFlags,
+      Optional<SourcePath> sourcePath,
+      Optional<String> sourceGroupName,
+      Optional<Path> sourceGroupPathRelativeToTarget,
+      Optional<List<GroupedSource>> sourceGroup) {
+    this.type = Preconditions.checkNotNull(type);
+    this.sourceWithFlags = Preconditions.checkNotNull(sourceWithFlags);
+    this.sourcePath = Preconditions.checkNotNull(sourcePath);
+    this.sourceGroupName = Preconditions.checkNotNull(sourceGroupName);
+    this.sourceGroupPathRelativeToTarget = Preconditions.checkNotNull(sourceGroupPathRelativeToTarget);
+    this.sourceGroup = Preconditions.checkNotNull(sourceGroup);
+  }
+
+  private GroupedSource(
+      GroupedSource original,
+      AbstractGroupedSource.Type type,
+      Optional<SourceWithFlags> sourceWithFlags,
+      Optional<SourcePath> sourcePath,
+      Optional<String> sourceGroupName,
+      Optional<Path> sourceGroupPathRelativeToTarget,
+      Optional<List<GroupedSource>> sourceGroup) {
+    this.type = type;
+    this.sourceWithFlags = sourceWithFlags;
+    this.sourcePath = sourcePath;
+    this.sourceGroupName = sourceGroupName;
+    this.sourceGroupPathRelativeToTarget = sourceGroupPathRelativeToTarget;
+    this.sourceGroup = sourceGroup;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public AbstractGroupedSource.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code sourceWithFlags} attribute
+   */
+  @Override
+  public Optional<SourceWithFlags> getSourceWithFlags() {
+    return sourceWithFlags;
+  }
+
+  /**
+   * @return value of {@code sourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * @return value of {@code sourceGroupName} attribute
+   */
+  @Override
+  public Optional<String> getSourceGroupName() {
+    return sourceGroupName;
+  }
+
+  /**
+   * @return value of {@code sourceGroupPathRelativeToTarget} attribute
+   */
+  @Override
+  public Optional<Path> getSourceGroupPathRelativeToTarget() {
+    return sourceGroupPathRelativeToTarget;
+  }
+
+  /**
+   * @return value of {@code sourceGroup} attribute
+   */
+  @Override
+  public Optional<List<GroupedSource>> getSourceGroup() {
+    return sourceGroup;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractGroupedSource#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final GroupedSource withType(AbstractGroupedSource.Type value) {
+    if (this.type == value) {
+      return this;
+    }
+    AbstractGroupedSource.Type newValue = Preconditions.checkNotNull(value);
+    return validate(new GroupedSource(
+            this,
+            newValue,
+            this.sourceWithFlags,
+            this.sourcePath,
+            this.sourceGroupName,
+            this.sourceGroupPathRelativeToTarget,
+            this.sourceGroup));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractGroupedSource#getSourceWithFlags() sourceWithFlags}.
+   * @param value value for sourceWithFlags
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceWithFlags(SourceWithFlags value) {
+    Optional<SourceWithFlags> newValue = Optional.of(value);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            newValue,
+            this.sourcePath,
+            this.sourceGroupName,
+            this.sourceGroupPathRelativeToTarget,
+            this.sourceGroup));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractGroupedSource#getSourceWithFlags() sourceWithFlags}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for sourceWithFlags
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceWithFlags(Optional<SourceWithFlags> optional) {
+    if (this.sourceWithFlags == optional) {
+      return this;
+    }
+    Optional<SourceWithFlags> newValue = Preconditions.checkNotNull(optional);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            newValue,
+            this.sourcePath,
+            this.sourceGroupName,
+            this.sourceGroupPathRelativeToTarget,
+            this.sourceGroup));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractGroupedSource#getSourcePath() sourcePath}.
+   * @param value value for sourcePath
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourcePath(SourcePath value) {
+    Optional<SourcePath> newValue = Optional.of(value);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            this.sourceWithFlags,
+            newValue,
+            this.sourceGroupName,
+            this.sourceGroupPathRelativeToTarget,
+            this.sourceGroup));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractGroupedSource#getSourcePath() sourcePath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for sourcePath
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourcePath(Optional<SourcePath> optional) {
+    if (this.sourcePath == optional) {
+      return this;
+    }
+    Optional<SourcePath> newValue = Preconditions.checkNotNull(optional);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            this.sourceWithFlags,
+            newValue,
+            this.sourceGroupName,
+            this.sourceGroupPathRelativeToTarget,
+            this.sourceGroup));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractGroupedSource#getSourceGroupName() sourceGroupName}.
+   * @param value value for sourceGroupName
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroupName(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            this.sourceWithFlags,
+            this.sourcePath,
+            newValue,
+            this.sourceGroupPathRelativeToTarget,
+            this.sourceGroup));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractGroupedSource#getSourceGroupName() sourceGroupName}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for sourceGroupName
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroupName(Optional<String> optional) {
+    if (this.sourceGroupName == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            this.sourceWithFlags,
+            this.sourcePath,
+            newValue,
+            this.sourceGroupPathRelativeToTarget,
+            this.sourceGroup));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractGroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget}.
+   * @param value value for sourceGroupPathRelativeToTarget
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroupPathRelativeToTarget(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            this.sourceWithFlags,
+            this.sourcePath,
+            this.sourceGroupName,
+            newValue,
+            this.sourceGroup));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractGroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for sourceGroupPathRelativeToTarget
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroupPathRelativeToTarget(Optional<Path> optional) {
+    if (this.sourceGroupPathRelativeToTarget == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            this.sourceWithFlags,
+            this.sourcePath,
+            this.sourceGroupName,
+            newValue,
+            this.sourceGroup));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractGroupedSource#getSourceGroup() sourceGroup}.
+   * @param value value for sourceGroup
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroup(List<GroupedSource> value) {
+    Optional<List<GroupedSource>> newValue = Optional.of(value);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            this.sourceWithFlags,
+            this.sourcePath,
+            this.sourceGroupName,
+            this.sourceGroupPathRelativeToTarget,
+            newValue));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractGroupedSource#getSourceGroup() sourceGroup}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for sourceGroup
+   * @return modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroup(Optional<List<GroupedSource>> optional) {
+    if (this.sourceGroup == optional) {
+      return this;
+    }
+    Optional<List<GroupedSource>> newValue = Preconditions.checkNotNull(optional);
+    return validate(new GroupedSource(
+            this,
+            this.type,
+            this.sourceWithFlags,
+            this.sourcePath,
+            this.sourceGroupName,
+            this.sourceGroupPathRelativeToTarget,
+            newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code GroupedSource} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof GroupedSource && equalTo((GroupedSource) another));
+  }
+
+  private boolean equalTo(GroupedSource another) {
+    return type.equals(another.type)
+        && sourceWithFlags.equals(another.sourceWithFlags)
+        && sourcePath.equals(another.sourcePath)
+        && sourceGroupName.equals(another.sourceGroupName)
+        && sourceGroupPathRelativeToTarget.equals(another.sourceGroupPathRelativeToTarget)
+        && sourceGroup.equals(another.sourceGroup);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code sourceWithFlags}, {@code sourcePath}, {@code sourceGroupName}, {@code sourceGroupPathRelativeToTarget}, {@code sourceGroup}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + sourceWithFlags.hashCode();
+    h = h * 17 + sourcePath.hashCode();
+    h = h * 17 + sourceGroupName.hashCode();
+    h = h * 17 + sourceGroupPathRelativeToTarget.hashCode();
+    h = h * 17 + sourceGroup.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code GroupedSource{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GroupedSource")
+        .add("type", type)
+        .add("sourceWithFlags", sourceWithFlags)
+        .add("sourcePath", sourcePath)
+        .add("sourceGroupName", sourceGroupName)
+        .add("sourceGroupPathRelativeToTarget", sourceGroupPathRelativeToTarget)
+        .add("sourceGroup", sourceGroup)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code GroupedSource} instance.
+   * @param type value for {@code type}
+   * @param sourceWithFlags value for {@code sourceWithFlags}
+   * @param sourcePath value for {@code sourcePath}
+   * @param sourceGroupName value for {@code sourceGroupName}
+   * @param sourceGroupPathRelativeToTarget value for {@code sourceGroupPathRelativeToTarget}
+   * @param sourceGroup value for {@code sourceGroup}
+   * @return immutable GroupedSource instance
+   */
+  public static com.facebook.buck.apple.GroupedSource of(AbstractGroupedSource.Type type, Optional<SourceWithFlags> sourceWithFlags, Optional<SourcePath> sourcePath, Optional<String> sourceGroupName, Optional<Path> sourceGroupPathRelativeToTarget, Optional<List<GroupedSource>> sourceGroup) {
+    return validate(new GroupedSource(type, sourceWithFlags, sourcePath, sourceGroupName, sourceGroupPathRelativeToTarget, sourceGroup));
+  }
+
+  private static GroupedSource validate(GroupedSource instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractGroupedSource}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable GroupedSource instance
+   */
+  public static GroupedSource copyOf(AbstractGroupedSource instance) {
+    if (instance instanceof GroupedSource) {
+      return (GroupedSource) instance;
+    }
+    return GroupedSource.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.GroupedSource GroupedSource}.
+   * @return new GroupedSource builder
+   */
+  public static GroupedSource.Builder builder() {
+    return new GroupedSource.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.GroupedSource GroupedSource}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private long initializedBitset;
+    private @Nullable AbstractGroupedSource.Type type;
+    private Optional<SourceWithFlags> sourceWithFlags = Optional.absent();
+    private Optional<SourcePath> sourcePath = Optional.absent();
+    private Optional<String> sourceGroupName = Optional.absent();
+    private Optional<Path> sourceGroupPathRelativeToTarget = Optional.absent();
+    private Optional<List<GroupedSource>> sourceGroup = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractGroupedSource} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractGroupedSource instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      Optional<SourceWithFlags> sourceWithFlagsOptional = instance.getSourceWithFlags();
+      if (sourceWithFlagsOptional.isPresent()) {
+        setSourceWithFlags(sourceWithFlagsOptional);
+      }
+      Optional<SourcePath> sourcePathOptional = instance.getSourcePath();
+      if (sourcePathOptional.isPresent()) {
+        setSourcePath(sourcePathOptional);
+      }
+      Optional<String> sourceGroupNameOptional = instance.getSourceGroupName();
+      if (sourceGroupNameOptional.isPresent()) {
+        setSourceGroupName(sourceGroupNameOptional);
+      }
+      Optional<Path> sourceGroupPathRelativeToTargetOptional = instance.getSourceGroupPathRelativeToTarget();
+      if (sourceGroupPathRelativeToTargetOptional.isPresent()) {
+        setSourceGroupPathRelativeToTarget(sourceGroupPathRelativeToTargetOptional);
+      }
+      Optional<List<GroupedSource>> sourceGroupOptional = instance.getSourceGroup();
+      if (sourceGroupOptional.isPresent()) {
+        setSourceGroup(sourceGroupOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractGroupedSource#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(AbstractGroupedSource.Type type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractGroupedSource#getSourceWithFlags() sourceWithFlags}.
+     * @param sourceWithFlags value for sourceWithFlags
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceWithFlags(SourceWithFlags sourceWithFlags) {
+      this.sourceWithFlags = Optional.of(sourceWithFlags);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractGroupedSource#getSourceWithFlags() sourceWithFlags}.
+     * @param sourceWithFlags value for sourceWithFlags
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceWithFlags(Optional<SourceWithFlags> sourceWithFlags) {
+      this.sourceWithFlags = Preconditions.checkNotNull(sourceWithFlags);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractGroupedSource#getSourcePath() sourcePath}.
+     * @param sourcePath value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePath(SourcePath sourcePath) {
+      this.sourcePath = Optional.of(sourcePath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractGroupedSource#getSourcePath() sourcePath}.
+     * @param sourcePath value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePath(Optional<SourcePath> sourcePath) {
+      this.sourcePath = Preconditions.checkNotNull(sourcePath);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractGroupedSource#getSourceGroupName() sourceGroupName}.
+     * @param sourceGroupName value for sourceGroupName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceGroupName(String sourceGroupName) {
+      this.sourceGroupName = Optional.of(sourceGroupName);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractGroupedSource#getSourceGroupName() sourceGroupName}.
+     * @param sourceGroupName value for sourceGroupName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceGroupName(Optional<String> sourceGroupName) {
+      this.sourceGroupName = Preconditions.checkNotNull(sourceGroupName);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractGroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget}.
+     * @param sourceGroupPathRelativeToTarget value for sourceGroupPathRelativeToTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceGroupPathRelativeToTarget(Path sourceGroupPathRelativeToTarget) {
+      this.sourceGroupPathRelativeToTarget = Optional.of(sourceGroupPathRelativeToTarget);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractGroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget}.
+     * @param sourceGroupPathRelativeToTarget value for sourceGroupPathRelativeToTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceGroupPathRelativeToTarget(Optional<Path> sourceGroupPathRelativeToTarget) {
+      this.sourceGroupPathRelativeToTarget = Preconditions.checkNotNull(sourceGroupPathRelativeToTarget);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractGroupedSource#getSourceGroup() sourceGroup}.
+     * @param sourceGroup value for sourceGroup
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceGroup(List<GroupedSource> sourceGroup) {
+      this.sourceGroup = Optional.of(sourceGroup);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractGroupedSource#getSourceGroup() sourceGroup}.
+     * @param sourceGroup value for sourceGroup
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceGroup(Optional<List<GroupedSource>> sourceGroup) {
+      this.sourceGroup = Preconditions.checkNotNull(sourceGroup);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.GroupedSource GroupedSource}.
+     * @return immutable instance of GroupedSource
+     */
+    public GroupedSource build() {
+      checkRequiredAttributes();
+      return GroupedSource.validate(new GroupedSource(
+              null,
+              type,
+              sourceWithFlags,
+              sourcePath,
+              sourceGroupName,
+              sourceGroupPathRelativeToTarget,
+              sourceGroup));
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      return "Cannot build GroupedSource, some of required attributes are not set " + attributes;
+    }
+  }
+}
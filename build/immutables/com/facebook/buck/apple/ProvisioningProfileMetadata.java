@@ -0,0 +1,527 @@
+package com.facebook.buck.apple;
+
+import com.dd.plist.NSObject;
+import com.facebook.buck.model.Pair;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractProvisioningProfileMetadata}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ProvisioningProfileMetadata.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProvisioningProfileMetadata"})
+@Immutable
+public final class ProvisioningProfileMetadata
+    extends AbstractProvisioningProfileMetadata {
+  private final Pair<String, String> appID;
+  private final Date expirationDate;
+  private final String uUID;
+  private final Path profilePath;
+  private final ImmutableMap<String, NSObject> entitlements;
+  private final ImmutableSet<HashCode> developerCertificateFingerprints;
+
+  private ProvisioningProfileMetadata(
+      Pair<String, String> appID,
+      Date expirationDate,
+      String uUID,
+      Path profilePath,
+      ImmutableMap<String, NSObject> entitlements,
+      ImmutableSet<HashCode> developerCertificateFingerprints) {
+    this.appID = appID;
+    this.expirationDate = expirationDate;
+    this.uUID = uUID;
+    this.profilePath = profilePath;
+    this.entitlements = entitlements;
+    this.developerCertificateFingerprints = developerCertificateFingerprints;
+  }
+
+  /**
+   * Returns a (prefix, identifier) pair for which the profile is valid.
+   * e.g. (ABCDE12345, com.example.TestApp) or (ABCDE12345, *)
+   */
+  @Override
+  public Pair<String, String> getAppID() {
+    return appID;
+  }
+
+  /**
+   * @return value of {@code expirationDate} attribute
+   */
+  @Override
+  public Date getExpirationDate() {
+    return expirationDate;
+  }
+
+  /**
+   * @return value of {@code uUID} attribute
+   */
+  @Override
+  public String getUUID() {
+    return uUID;
+  }
+
+  /**
+   * @return value of {@code profilePath} attribute
+   */
+  @Override
+  public Path getProfilePath() {
+    return profilePath;
+  }
+
+  /**
+   * Key/value pairs of the "Entitlements" dictionary in the embedded plist.
+   */
+  @Override
+  public ImmutableMap<String, NSObject> getEntitlements() {
+    return entitlements;
+  }
+
+  /**
+   * SHA1 hashes of the certificates in the "DeveloperCertificates" section.
+   */
+  @Override
+  public ImmutableSet<HashCode> getDeveloperCertificateFingerprints() {
+    return developerCertificateFingerprints;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProvisioningProfileMetadata#getAppID() appID}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for appID
+   * @return modified copy of the {@code this} object
+   */
+  public final ProvisioningProfileMetadata withAppID(Pair<String, String> value) {
+    if (this.appID == value) {
+      return this;
+    }
+    Pair<String, String> newValue = Preconditions.checkNotNull(value);
+    return new ProvisioningProfileMetadata(
+            newValue,
+            this.expirationDate,
+            this.uUID,
+            this.profilePath,
+            this.entitlements,
+            this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProvisioningProfileMetadata#getExpirationDate() expirationDate}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for expirationDate
+   * @return modified copy of the {@code this} object
+   */
+  public final ProvisioningProfileMetadata withExpirationDate(Date value) {
+    if (this.expirationDate == value) {
+      return this;
+    }
+    Date newValue = Preconditions.checkNotNull(value);
+    return new ProvisioningProfileMetadata(
+            this.appID,
+            newValue,
+            this.uUID,
+            this.profilePath,
+            this.entitlements,
+            this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProvisioningProfileMetadata#getUUID() uUID}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for uUID
+   * @return modified copy of the {@code this} object
+   */
+  public final ProvisioningProfileMetadata withUUID(String value) {
+    if (this.uUID == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ProvisioningProfileMetadata(
+            this.appID,
+            this.expirationDate,
+            newValue,
+            this.profilePath,
+            this.entitlements,
+            this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProvisioningProfileMetadata#getProfilePath() profilePath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for profilePath
+   * @return modified copy of the {@code this} object
+   */
+  public final ProvisioningProfileMetadata withProfilePath(Path value) {
+    if (this.profilePath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new ProvisioningProfileMetadata(
+            this.appID,
+            this.expirationDate,
+            this.uUID,
+            newValue,
+            this.entitlements,
+            this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to entitlements map
+   * @return modified copy of {@code this} object
+   */
+  public final ProvisioningProfileMetadata withEntitlements(Map<String, ? extends NSObject> entries) {
+    if (this.entitlements == entries) {
+      return this;
+    }
+    ImmutableMap<String, NSObject> newValue = ImmutableMap.copyOf(entries);
+    return new ProvisioningProfileMetadata(
+            this.appID,
+            this.expirationDate,
+            this.uUID,
+            this.profilePath,
+            newValue,
+            this.developerCertificateFingerprints);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ProvisioningProfileMetadata withDeveloperCertificateFingerprints(HashCode... elements) {
+    ImmutableSet<HashCode> newValue = ImmutableSet.copyOf(elements);
+    return new ProvisioningProfileMetadata(this.appID, this.expirationDate, this.uUID, this.profilePath, this.entitlements, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of developerCertificateFingerprints elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ProvisioningProfileMetadata withDeveloperCertificateFingerprints(Iterable<? extends HashCode> elements) {
+    if (this.developerCertificateFingerprints == elements) {
+      return this;
+    }
+    ImmutableSet<HashCode> newValue = ImmutableSet.copyOf(elements);
+    return new ProvisioningProfileMetadata(this.appID, this.expirationDate, this.uUID, this.profilePath, this.entitlements, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ProvisioningProfileMetadata} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ProvisioningProfileMetadata && equalTo((ProvisioningProfileMetadata) another));
+  }
+
+  private boolean equalTo(ProvisioningProfileMetadata another) {
+    return appID.equals(another.appID)
+        && expirationDate.equals(another.expirationDate)
+        && uUID.equals(another.uUID)
+        && profilePath.equals(another.profilePath)
+        && entitlements.equals(another.entitlements)
+        && developerCertificateFingerprints.equals(another.developerCertificateFingerprints);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code appID}, {@code expirationDate}, {@code uUID}, {@code profilePath}, {@code entitlements}, {@code developerCertificateFingerprints}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + appID.hashCode();
+    h = h * 17 + expirationDate.hashCode();
+    h = h * 17 + uUID.hashCode();
+    h = h * 17 + profilePath.hashCode();
+    h = h * 17 + entitlements.hashCode();
+    h = h * 17 + developerCertificateFingerprints.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ProvisioningProfileMetadata{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProvisioningProfileMetadata")
+        .add("appID", appID)
+        .add("expirationDate", expirationDate)
+        .add("uUID", uUID)
+        .add("profilePath", profilePath)
+        .add("entitlements", entitlements)
+        .add("developerCertificateFingerprints", developerCertificateFingerprints)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractProvisioningProfileMetadata}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ProvisioningProfileMetadata instance
+   */
+  public static ProvisioningProfileMetadata copyOf(AbstractProvisioningProfileMetadata instance) {
+    if (instance instanceof ProvisioningProfileMetadata) {
+      return (ProvisioningProfileMetadata) instance;
+    }
+    return ProvisioningProfileMetadata.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.ProvisioningProfileMetadata ProvisioningProfileMetadata}.
+   * @return new ProvisioningProfileMetadata builder
+   */
+  public static ProvisioningProfileMetadata.Builder builder() {
+    return new ProvisioningProfileMetadata.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.ProvisioningProfileMetadata ProvisioningProfileMetadata}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0xf;
+    private static final long INITIALIZED_BIT_APP_I_D = 0x1L;
+    private static final long INITIALIZED_BIT_EXPIRATION_DATE = 0x2L;
+    private static final long INITIALIZED_BIT_U_U_I_D = 0x4L;
+    private static final long INITIALIZED_BIT_PROFILE_PATH = 0x8L;
+    private long initializedBitset;
+    private @Nullable Pair<String, String> appID;
+    private @Nullable Date expirationDate;
+    private @Nullable String uUID;
+    private @Nullable Path profilePath;
+    private ImmutableMap.Builder<String, NSObject> entitlementsBuilder = ImmutableMap.builder();
+    private ImmutableSet.Builder<HashCode> developerCertificateFingerprintsBuilder = ImmutableSet.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractProvisioningProfileMetadata} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractProvisioningProfileMetadata instance) {
+      Preconditions.checkNotNull(instance);
+      setAppID(instance.getAppID());
+      setExpirationDate(instance.getExpirationDate());
+      setUUID(instance.getUUID());
+      setProfilePath(instance.getProfilePath());
+      putAllEntitlements(instance.getEntitlements());
+      addAllDeveloperCertificateFingerprints(instance.getDeveloperCertificateFingerprints());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProvisioningProfileMetadata#getAppID() appID}.
+     * @param appID value for appID
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAppID(Pair<String, String> appID) {
+      this.appID = Preconditions.checkNotNull(appID);
+      initializedBitset |= INITIALIZED_BIT_APP_I_D;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProvisioningProfileMetadata#getExpirationDate() expirationDate}.
+     * @param expirationDate value for expirationDate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExpirationDate(Date expirationDate) {
+      this.expirationDate = Preconditions.checkNotNull(expirationDate);
+      initializedBitset |= INITIALIZED_BIT_EXPIRATION_DATE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProvisioningProfileMetadata#getUUID() uUID}.
+     * @param uUID value for uUID
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUUID(String uUID) {
+      this.uUID = Preconditions.checkNotNull(uUID);
+      initializedBitset |= INITIALIZED_BIT_U_U_I_D;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProvisioningProfileMetadata#getProfilePath() profilePath}.
+     * @param profilePath value for profilePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProfilePath(Path profilePath) {
+      this.profilePath = Preconditions.checkNotNull(profilePath);
+      initializedBitset |= INITIALIZED_BIT_PROFILE_PATH;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map.
+     * @param key the key in entitlements map
+     * @param value the associated value in entitlements map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putEntitlements(String key, NSObject value) {
+      entitlementsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putEntitlements(Map.Entry<String, ? extends NSObject> entry) {
+      entitlementsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map. Nulls are not permitted
+     * @param entries to be added to entitlements map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEntitlements(Map<String, ? extends NSObject> entries) {
+      entitlementsBuilder = ImmutableMap.builder();
+      return putAllEntitlements(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractProvisioningProfileMetadata#getEntitlements() entitlements} map. Nulls are not permitted
+     * @param entries to be added to entitlements map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllEntitlements(Map<String, ? extends NSObject> entries) {
+      entitlementsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param element developerCertificateFingerprints element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addDeveloperCertificateFingerprints(HashCode element) {
+      developerCertificateFingerprintsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param elements array of developerCertificateFingerprints elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addDeveloperCertificateFingerprints(HashCode... elements) {
+      developerCertificateFingerprintsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param elements iterable of developerCertificateFingerprints elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDeveloperCertificateFingerprints(Iterable<? extends HashCode> elements) {
+      developerCertificateFingerprintsBuilder = ImmutableSet.builder();
+      return addAllDeveloperCertificateFingerprints(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProvisioningProfileMetadata#getDeveloperCertificateFingerprints() developerCertificateFingerprints} set.
+     * @param elements iterable of developerCertificateFingerprints elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllDeveloperCertificateFingerprints(Iterable<? extends HashCode> elements) {
+      developerCertificateFingerprintsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.ProvisioningProfileMetadata ProvisioningProfileMetadata}.
+     * @return immutable instance of ProvisioningProfileMetadata
+     */
+    public ProvisioningProfileMetadata build() {
+      checkRequiredAttributes();
+      return new ProvisioningProfileMetadata(
+              appID,
+              expirationDate,
+              uUID,
+              profilePath,
+              entitlementsBuilder.build(),
+              developerCertificateFingerprintsBuilder.build());
+    }
+
+    private boolean appIDIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_APP_I_D) != 0;
+    }
+
+    private boolean expirationDateIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_EXPIRATION_DATE) != 0;
+    }
+
+    private boolean uUIDIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_U_U_I_D) != 0;
+    }
+
+    private boolean profilePathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PROFILE_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!appIDIsSet()) {
+        attributes.add("appID");
+      }
+      if (!expirationDateIsSet()) {
+        attributes.add("expirationDate");
+      }
+      if (!uUIDIsSet()) {
+        attributes.add("uUID");
+      }
+      if (!profilePathIsSet()) {
+        attributes.add("profilePath");
+      }
+      return "Cannot build ProvisioningProfileMetadata, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package com.facebook.buck.apple.simulator;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleSimulator}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AppleSimulator.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleSimulator"})
+@Immutable
+public final class AppleSimulator implements AbstractAppleSimulator {
+  private final String name;
+  private final String udid;
+  private final AppleSimulatorState simulatorState;
+
+  private AppleSimulator(
+      String name,
+      String udid,
+      AppleSimulatorState simulatorState) {
+    this.name = name;
+    this.udid = udid;
+    this.simulatorState = simulatorState;
+  }
+
+  /**
+   * @return value of {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return value of {@code udid} attribute
+   */
+  @Override
+  public String getUdid() {
+    return udid;
+  }
+
+  /**
+   * @return value of {@code simulatorState} attribute
+   */
+  @Override
+  public AppleSimulatorState getSimulatorState() {
+    return simulatorState;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleSimulator#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleSimulator withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new AppleSimulator(newValue, this.udid, this.simulatorState);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleSimulator#getUdid() udid}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for udid
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleSimulator withUdid(String value) {
+    if (this.udid == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new AppleSimulator(this.name, newValue, this.simulatorState);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAppleSimulator#getSimulatorState() simulatorState}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for simulatorState
+   * @return modified copy of the {@code this} object
+   */
+  public final AppleSimulator withSimulatorState(AppleSimulatorState value) {
+    if (this.simulatorState == value) {
+      return this;
+    }
+    AppleSimulatorState newValue = Preconditions.checkNotNull(value);
+    return new AppleSimulator(this.name, this.udid, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AppleSimulator} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AppleSimulator && equalTo((AppleSimulator) another));
+  }
+
+  private boolean equalTo(AppleSimulator another) {
+    return name.equals(another.name)
+        && udid.equals(another.udid)
+        && simulatorState.equals(another.simulatorState);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code udid}, {@code simulatorState}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + udid.hashCode();
+    h = h * 17 + simulatorState.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AppleSimulator{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSimulator")
+        .add("name", name)
+        .add("udid", udid)
+        .add("simulatorState", simulatorState)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAppleSimulator}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AppleSimulator instance
+   */
+  public static AppleSimulator copyOf(AbstractAppleSimulator instance) {
+    if (instance instanceof AppleSimulator) {
+      return (AppleSimulator) instance;
+    }
+    return AppleSimulator.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.simulator.AppleSimulator AppleSimulator}.
+   * @return new AppleSimulator builder
+   */
+  public static AppleSimulator.Builder builder() {
+    return new AppleSimulator.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.simulator.AppleSimulator AppleSimulator}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_NAME = 0x1L;
+    private static final long INITIALIZED_BIT_UDID = 0x2L;
+    private static final long INITIALIZED_BIT_SIMULATOR_STATE = 0x4L;
+    private long initializedBitset;
+    private @Nullable String name;
+    private @Nullable String udid;
+    private @Nullable AppleSimulatorState simulatorState;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAppleSimulator} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAppleSimulator instance) {
+      Preconditions.checkNotNull(instance);
+      setName(instance.getName());
+      setUdid(instance.getUdid());
+      setSimulatorState(instance.getSimulatorState());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleSimulator#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleSimulator#getUdid() udid}.
+     * @param udid value for udid
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUdid(String udid) {
+      this.udid = Preconditions.checkNotNull(udid);
+      initializedBitset |= INITIALIZED_BIT_UDID;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAppleSimulator#getSimulatorState() simulatorState}.
+     * @param simulatorState value for simulatorState
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSimulatorState(AppleSimulatorState simulatorState) {
+      this.simulatorState = Preconditions.checkNotNull(simulatorState);
+      initializedBitset |= INITIALIZED_BIT_SIMULATOR_STATE;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.simulator.AppleSimulator AppleSimulator}.
+     * @return immutable instance of AppleSimulator
+     */
+    public AppleSimulator build() {
+      checkRequiredAttributes();
+      return new AppleSimulator(name, udid, simulatorState);
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private boolean udidIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_UDID) != 0;
+    }
+
+    private boolean simulatorStateIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SIMULATOR_STATE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      if (!udidIsSet()) {
+        attributes.add("udid");
+      }
+      if (!simulatorStateIsSet()) {
+        attributes.add("simulatorState");
+      }
+      return "Cannot build AppleSimulator, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,286 @@
+package com.facebook.buck.apple.simulator;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Ints;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleSimulatorProfile}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AppleSimulatorProfile.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleSimulatorProfile"})
+@Immutable
+public final class AppleSimulatorProfile
+    implements AbstractAppleSimulatorProfile {
+  private final ImmutableSet<Integer> supportedProductFamilyIDs;
+  private final ImmutableSet<String> supportedArchitectures;
+
+  private AppleSimulatorProfile(
+      ImmutableSet<Integer> supportedProductFamilyIDs,
+      ImmutableSet<String> supportedArchitectures) {
+    this.supportedProductFamilyIDs = supportedProductFamilyIDs;
+    this.supportedArchitectures = supportedArchitectures;
+  }
+
+  /**
+   * Set of integers corresponding to values in {@link AppleProductFamilyID}
+   * describing which Apple product families this simulator supports (i.e.,
+   * iPhone, iPad, Apple Watch, etc.)
+   * We don't directly return {@link AppleProductFamilyID} here since new
+   * identifiers are introduced over time, and we don't want to lose
+   * the information at this level.
+   */
+  @Override
+  public ImmutableSet<Integer> getSupportedProductFamilyIDs() {
+    return supportedProductFamilyIDs;
+  }
+
+  /**
+   * Set of strings containing the architectures supported by this
+   * simulator (i.e., i386, x86_64, etc.)
+   */
+  @Override
+  public ImmutableSet<String> getSupportedArchitectures() {
+    return supportedArchitectures;
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSimulatorProfile withSupportedProductFamilyIDs(int... elements) {
+    ImmutableSet<Integer> newValue = ImmutableSet.copyOf(Ints.asList(elements));
+    return new AppleSimulatorProfile(newValue, this.supportedArchitectures);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of supportedProductFamilyIDs elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSimulatorProfile withSupportedProductFamilyIDs(Iterable<Integer> elements) {
+    if (this.supportedProductFamilyIDs == elements) {
+      return this;
+    }
+    ImmutableSet<Integer> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSimulatorProfile(newValue, this.supportedArchitectures);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSimulatorProfile withSupportedArchitectures(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSimulatorProfile(this.supportedProductFamilyIDs, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of supportedArchitectures elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final AppleSimulatorProfile withSupportedArchitectures(Iterable<String> elements) {
+    if (this.supportedArchitectures == elements) {
+      return this;
+    }
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSimulatorProfile(this.supportedProductFamilyIDs, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AppleSimulatorProfile} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AppleSimulatorProfile && equalTo((AppleSimulatorProfile) another));
+  }
+
+  private boolean equalTo(AppleSimulatorProfile another) {
+    return supportedProductFamilyIDs.equals(another.supportedProductFamilyIDs)
+        && supportedArchitectures.equals(another.supportedArchitectures);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code supportedProductFamilyIDs}, {@code supportedArchitectures}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + supportedProductFamilyIDs.hashCode();
+    h = h * 17 + supportedArchitectures.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AppleSimulatorProfile{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSimulatorProfile")
+        .add("supportedProductFamilyIDs", supportedProductFamilyIDs)
+        .add("supportedArchitectures", supportedArchitectures)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAppleSimulatorProfile}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AppleSimulatorProfile instance
+   */
+  public static AppleSimulatorProfile copyOf(AbstractAppleSimulatorProfile instance) {
+    if (instance instanceof AppleSimulatorProfile) {
+      return (AppleSimulatorProfile) instance;
+    }
+    return AppleSimulatorProfile.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.simulator.AppleSimulatorProfile AppleSimulatorProfile}.
+   * @return new AppleSimulatorProfile builder
+   */
+  public static AppleSimulatorProfile.Builder builder() {
+    return new AppleSimulatorProfile.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.simulator.AppleSimulatorProfile AppleSimulatorProfile}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<Integer> supportedProductFamilyIDsBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> supportedArchitecturesBuilder = ImmutableSet.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAppleSimulatorProfile} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAppleSimulatorProfile instance) {
+      Preconditions.checkNotNull(instance);
+      addAllSupportedProductFamilyIDs(instance.getSupportedProductFamilyIDs());
+      addAllSupportedArchitectures(instance.getSupportedArchitectures());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs} set.
+     * @param element supportedProductFamilyIDs element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSupportedProductFamilyIDs(int element) {
+      supportedProductFamilyIDsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs} set.
+     * @param elements array of supportedProductFamilyIDs elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSupportedProductFamilyIDs(int... elements) {
+      supportedProductFamilyIDsBuilder.addAll(Ints.asList(elements));
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs} set.
+     * @param elements iterable of supportedProductFamilyIDs elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSupportedProductFamilyIDs(Iterable<Integer> elements) {
+      supportedProductFamilyIDsBuilder = ImmutableSet.builder();
+      return addAllSupportedProductFamilyIDs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs} set.
+     * @param elements iterable of supportedProductFamilyIDs elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllSupportedProductFamilyIDs(Iterable<Integer> elements) {
+      supportedProductFamilyIDsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures} set.
+     * @param element supportedArchitectures element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSupportedArchitectures(String element) {
+      supportedArchitecturesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures} set.
+     * @param elements array of supportedArchitectures elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSupportedArchitectures(String... elements) {
+      supportedArchitecturesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures} set.
+     * @param elements iterable of supportedArchitectures elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSupportedArchitectures(Iterable<String> elements) {
+      supportedArchitecturesBuilder = ImmutableSet.builder();
+      return addAllSupportedArchitectures(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures} set.
+     * @param elements iterable of supportedArchitectures elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllSupportedArchitectures(Iterable<String> elements) {
+      supportedArchitecturesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.simulator.AppleSimulatorProfile AppleSimulatorProfile}.
+     * @return immutable instance of AppleSimulatorProfile
+     */
+    public AppleSimulatorProfile build() {
+      return new AppleSimulatorProfile(supportedProductFamilyIDsBuilder.build(), supportedArchitecturesBuilder.build());
+    }
+  }
+}
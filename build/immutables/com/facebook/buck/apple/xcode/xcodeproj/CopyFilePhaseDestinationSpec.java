@@ -0,0 +1,263 @@
+package com.facebook.buck.apple.xcode.xcodeproj;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCopyFilePhaseDestinationSpec}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CopyFilePhaseDestinationSpec.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code CopyFilePhaseDestinationSpec.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCopyFilePhaseDestinationSpec"})
+@Immutable
+public final class CopyFilePhaseDestinationSpec
+    implements AbstractCopyFilePhaseDestinationSpec {
+  private final PBXCopyFilesBuildPhase.Destination destination;
+  private final Optional<String> path;
+
+  private CopyFilePhaseDestinationSpec(PBXCopyFilesBuildPhase.Destination destination) {
+    this.destination = Preconditions.checkNotNull(destination);
+    this.path = Optional.absent();
+  }
+
+  private CopyFilePhaseDestinationSpec(
+      PBXCopyFilesBuildPhase.Destination destination,
+      Optional<String> path) {
+    this.destination = destination;
+    this.path = path;
+  }
+
+  /**
+   * @return value of {@code destination} attribute
+   */
+  @Override
+  public PBXCopyFilesBuildPhase.Destination getDestination() {
+    return destination;
+  }
+
+  /**
+   * @return value of {@code path} attribute
+   */
+  @Override
+  public Optional<String> getPath() {
+    return path;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCopyFilePhaseDestinationSpec#getDestination() destination}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for destination
+   * @return modified copy of the {@code this} object
+   */
+  public final CopyFilePhaseDestinationSpec withDestination(PBXCopyFilesBuildPhase.Destination value) {
+    if (this.destination == value) {
+      return this;
+    }
+    PBXCopyFilesBuildPhase.Destination newValue = Preconditions.checkNotNull(value);
+    return new CopyFilePhaseDestinationSpec(newValue, this.path);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractCopyFilePhaseDestinationSpec#getPath() path}.
+   * @param value value for path
+   * @return modified copy of {@code this} object
+   */
+  public final CopyFilePhaseDestinationSpec withPath(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new CopyFilePhaseDestinationSpec(this.destination, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractCopyFilePhaseDestinationSpec#getPath() path}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for path
+   * @return modified copy of {@code this} object
+   */
+  public final CopyFilePhaseDestinationSpec withPath(Optional<String> optional) {
+    if (this.path == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new CopyFilePhaseDestinationSpec(this.destination, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CopyFilePhaseDestinationSpec} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CopyFilePhaseDestinationSpec && equalTo((CopyFilePhaseDestinationSpec) another));
+  }
+
+  private boolean equalTo(CopyFilePhaseDestinationSpec another) {
+    return destination.equals(another.destination)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code destination}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + destination.hashCode();
+    h = h * 17 + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CopyFilePhaseDestinationSpec{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CopyFilePhaseDestinationSpec")
+        .add("destination", destination)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code CopyFilePhaseDestinationSpec} instance.
+   * @param destination value for {@code destination}
+   * @return immutable CopyFilePhaseDestinationSpec instance
+   */
+  public static com.facebook.buck.apple.xcode.xcodeproj.CopyFilePhaseDestinationSpec of(PBXCopyFilesBuildPhase.Destination destination) {
+    return new CopyFilePhaseDestinationSpec(destination);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCopyFilePhaseDestinationSpec}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CopyFilePhaseDestinationSpec instance
+   */
+  public static CopyFilePhaseDestinationSpec copyOf(AbstractCopyFilePhaseDestinationSpec instance) {
+    if (instance instanceof CopyFilePhaseDestinationSpec) {
+      return (CopyFilePhaseDestinationSpec) instance;
+    }
+    return CopyFilePhaseDestinationSpec.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.xcode.xcodeproj.CopyFilePhaseDestinationSpec CopyFilePhaseDestinationSpec}.
+   * @return new CopyFilePhaseDestinationSpec builder
+   */
+  public static CopyFilePhaseDestinationSpec.Builder builder() {
+    return new CopyFilePhaseDestinationSpec.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.xcode.xcodeproj.CopyFilePhaseDestinationSpec CopyFilePhaseDestinationSpec}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_DESTINATION = 0x1L;
+    private long initializedBitset;
+    private @Nullable PBXCopyFilesBuildPhase.Destination destination;
+    private Optional<String> path = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCopyFilePhaseDestinationSpec} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCopyFilePhaseDestinationSpec instance) {
+      Preconditions.checkNotNull(instance);
+      setDestination(instance.getDestination());
+      Optional<String> pathOptional = instance.getPath();
+      if (pathOptional.isPresent()) {
+        setPath(pathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCopyFilePhaseDestinationSpec#getDestination() destination}.
+     * @param destination value for destination
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDestination(PBXCopyFilesBuildPhase.Destination destination) {
+      this.destination = Preconditions.checkNotNull(destination);
+      initializedBitset |= INITIALIZED_BIT_DESTINATION;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractCopyFilePhaseDestinationSpec#getPath() path}.
+     * @param path value for path
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPath(String path) {
+      this.path = Optional.of(path);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractCopyFilePhaseDestinationSpec#getPath() path}.
+     * @param path value for path
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPath(Optional<String> path) {
+      this.path = Preconditions.checkNotNull(path);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.xcode.xcodeproj.CopyFilePhaseDestinationSpec CopyFilePhaseDestinationSpec}.
+     * @return immutable instance of CopyFilePhaseDestinationSpec
+     */
+    public CopyFilePhaseDestinationSpec build() {
+      checkRequiredAttributes();
+      return new CopyFilePhaseDestinationSpec(destination, path);
+    }
+
+    private boolean destinationIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_DESTINATION) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!destinationIsSet()) {
+        attributes.add("destination");
+      }
+      return "Cannot build CopyFilePhaseDestinationSpec, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.facebook.buck.apple.xcode.xcodeproj;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractProductType}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ProductType.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code ProductType.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProductType"})
+@Immutable
+public final class ProductType extends AbstractProductType {
+  private final String identifier;
+
+  private ProductType(String identifier) {
+    this.identifier = Preconditions.checkNotNull(identifier);
+  }
+
+  private ProductType(ProductType original, String identifier) {
+    this.identifier = identifier;
+  }
+
+  /**
+   * @return value of {@code identifier} attribute
+   */
+  @Override
+  public String getIdentifier() {
+    return identifier;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProductType#getIdentifier() identifier}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for identifier
+   * @return modified copy of the {@code this} object
+   */
+  public final ProductType withIdentifier(String value) {
+    if (this.identifier == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ProductType(this, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ProductType} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ProductType && equalTo((ProductType) another));
+  }
+
+  private boolean equalTo(ProductType another) {
+    return identifier.equals(another.identifier);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code identifier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + identifier.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code ProductType} instance.
+   * @param identifier value for {@code identifier}
+   * @return immutable ProductType instance
+   */
+  public static com.facebook.buck.apple.xcode.xcodeproj.ProductType of(String identifier) {
+    return new ProductType(identifier);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractProductType}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ProductType instance
+   */
+  public static ProductType copyOf(AbstractProductType instance) {
+    if (instance instanceof ProductType) {
+      return (ProductType) instance;
+    }
+    return ProductType.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.apple.xcode.xcodeproj.ProductType ProductType}.
+   * @return new ProductType builder
+   */
+  public static ProductType.Builder builder() {
+    return new ProductType.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.apple.xcode.xcodeproj.ProductType ProductType}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_IDENTIFIER = 0x1L;
+    private long initializedBitset;
+    private @Nullable String identifier;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractProductType} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractProductType instance) {
+      Preconditions.checkNotNull(instance);
+      setIdentifier(instance.getIdentifier());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProductType#getIdentifier() identifier}.
+     * @param identifier value for identifier
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIdentifier(String identifier) {
+      this.identifier = Preconditions.checkNotNull(identifier);
+      initializedBitset |= INITIALIZED_BIT_IDENTIFIER;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.apple.xcode.xcodeproj.ProductType ProductType}.
+     * @return immutable instance of ProductType
+     */
+    public ProductType build() {
+      checkRequiredAttributes();
+      return new ProductType(null, identifier);
+    }
+
+    private boolean identifierIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_IDENTIFIER) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!identifierIsSet()) {
+        attributes.add("identifier");
+      }
+      return "Cannot build ProductType, some of required attributes are not set " + attributes;
+    }
+  }
+}
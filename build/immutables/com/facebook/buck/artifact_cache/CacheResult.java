@@ -0,0 +1,388 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCacheResult}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CacheResult.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code CacheResult.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCacheResult"})
+@Immutable
+public final class CacheResult extends AbstractCacheResult {
+  private final CacheResultType type;
+  private final Optional<String> cacheSource;
+  private final Optional<String> cacheError;
+  private final Optional<ImmutableMap<String, String>> metadata;
+
+  private CacheResult(
+      CacheResultType type,
+      Optional<String> cacheSource,
+      Optional<String> cacheError,
+      Optional<ImmutableMap<String, String>> metadata) {
+    this.type = Preconditions.checkNotNull(type);
+    this.cacheSource = Preconditions.checkNotNull(cacheSource);
+    this.cacheError = Preconditions.checkNotNull(cacheError);
+    this.metadata = Preconditions.checkNotNull(metadata);
+  }
+
+  private CacheResult(
+      CacheResult original,
+      CacheResultType type,
+      Optional<String> cacheSource,
+      Optional<String> cacheError,
+      Optional<ImmutableMap<String, String>> metadata) {
+    this.type = type;
+    this.cacheSource = cacheSource;
+    this.cacheError = cacheError;
+    this.metadata = metadata;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public CacheResultType getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code cacheSource} attribute
+   */
+  @Override
+  public Optional<String> cacheSource() {
+    return cacheSource;
+  }
+
+  /**
+   * @return value of {@code cacheError} attribute
+   */
+  @Override
+  public Optional<String> cacheError() {
+    return cacheError;
+  }
+
+  /**
+   * @return value of {@code metadata} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, String>> metadata() {
+    return metadata;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCacheResult#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final CacheResult withType(CacheResultType value) {
+    if (this.type == value) {
+      return this;
+    }
+    CacheResultType newValue = Preconditions.checkNotNull(value);
+    return validate(new CacheResult(this, newValue, this.cacheSource, this.cacheError, this.metadata));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractCacheResult#cacheSource() cacheSource}.
+   * @param value value for cacheSource
+   * @return modified copy of {@code this} object
+   */
+  public final CacheResult withCacheSource(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return validate(new CacheResult(this, this.type, newValue, this.cacheError, this.metadata));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractCacheResult#cacheSource() cacheSource}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for cacheSource
+   * @return modified copy of {@code this} object
+   */
+  public final CacheResult withCacheSource(Optional<String> optional) {
+    if (this.cacheSource == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return validate(new CacheResult(this, this.type, newValue, this.cacheError, this.metadata));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractCacheResult#cacheError() cacheError}.
+   * @param value value for cacheError
+   * @return modified copy of {@code this} object
+   */
+  public final CacheResult withCacheError(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return validate(new CacheResult(this, this.type, this.cacheSource, newValue, this.metadata));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractCacheResult#cacheError() cacheError}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for cacheError
+   * @return modified copy of {@code this} object
+   */
+  public final CacheResult withCacheError(Optional<String> optional) {
+    if (this.cacheError == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return validate(new CacheResult(this, this.type, this.cacheSource, newValue, this.metadata));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractCacheResult#metadata() metadata}.
+   * @param value value for metadata
+   * @return modified copy of {@code this} object
+   */
+  public final CacheResult withMetadata(ImmutableMap<String, String> value) {
+    Optional<ImmutableMap<String, String>> newValue = Optional.of(value);
+    return validate(new CacheResult(this, this.type, this.cacheSource, this.cacheError, newValue));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractCacheResult#metadata() metadata}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for metadata
+   * @return modified copy of {@code this} object
+   */
+  public final CacheResult withMetadata(Optional<ImmutableMap<String, String>> optional) {
+    if (this.metadata == optional) {
+      return this;
+    }
+    Optional<ImmutableMap<String, String>> newValue = Preconditions.checkNotNull(optional);
+    return validate(new CacheResult(this, this.type, this.cacheSource, this.cacheError, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code CacheResult} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CacheResult && equalTo((CacheResult) another));
+  }
+
+  private boolean equalTo(CacheResult another) {
+    return type.equals(another.type)
+        && cacheSource.equals(another.cacheSource)
+        && cacheError.equals(another.cacheError)
+        && metadata.equals(another.metadata);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code cacheSource}, {@code cacheError}, {@code metadata}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + cacheSource.hashCode();
+    h = h * 17 + cacheError.hashCode();
+    h = h * 17 + metadata.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code CacheResult} instance.
+   * @param type value for {@code type}
+   * @param cacheSource value for {@code cacheSource}
+   * @param cacheError value for {@code cacheError}
+   * @param metadata value for {@code metadata}
+   * @return immutable CacheResult instance
+   */
+  public static com.facebook.buck.artifact_cache.CacheResult of(CacheResultType type, Optional<String> cacheSource, Optional<String> cacheError, Optional<ImmutableMap<String, String>> metadata) {
+    return validate(new CacheResult(type, cacheSource, cacheError, metadata));
+  }
+
+  private static CacheResult validate(CacheResult instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCacheResult}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CacheResult instance
+   */
+  public static CacheResult copyOf(AbstractCacheResult instance) {
+    if (instance instanceof CacheResult) {
+      return (CacheResult) instance;
+    }
+    return CacheResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.artifact_cache.CacheResult CacheResult}.
+   * @return new CacheResult builder
+   */
+  public static CacheResult.Builder builder() {
+    return new CacheResult.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.artifact_cache.CacheResult CacheResult}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private long initializedBitset;
+    private @Nullable CacheResultType type;
+    private Optional<String> cacheSource = Optional.absent();
+    private Optional<String> cacheError = Optional.absent();
+    private Optional<ImmutableMap<String, String>> metadata = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCacheResult} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCacheResult instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      Optional<String> cacheSourceOptional = instance.cacheSource();
+      if (cacheSourceOptional.isPresent()) {
+        setCacheSource(cacheSourceOptional);
+      }
+      Optional<String> cacheErrorOptional = instance.cacheError();
+      if (cacheErrorOptional.isPresent()) {
+        setCacheError(cacheErrorOptional);
+      }
+      Optional<ImmutableMap<String, String>> metadataOptional = instance.metadata();
+      if (metadataOptional.isPresent()) {
+        setMetadata(metadataOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCacheResult#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(CacheResultType type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractCacheResult#cacheSource() cacheSource}.
+     * @param cacheSource value for cacheSource
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheSource(String cacheSource) {
+      this.cacheSource = Optional.of(cacheSource);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractCacheResult#cacheSource() cacheSource}.
+     * @param cacheSource value for cacheSource
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheSource(Optional<String> cacheSource) {
+      this.cacheSource = Preconditions.checkNotNull(cacheSource);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractCacheResult#cacheError() cacheError}.
+     * @param cacheError value for cacheError
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheError(String cacheError) {
+      this.cacheError = Optional.of(cacheError);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractCacheResult#cacheError() cacheError}.
+     * @param cacheError value for cacheError
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheError(Optional<String> cacheError) {
+      this.cacheError = Preconditions.checkNotNull(cacheError);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractCacheResult#metadata() metadata}.
+     * @param metadata value for metadata
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMetadata(ImmutableMap<String, String> metadata) {
+      this.metadata = Optional.of(metadata);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractCacheResult#metadata() metadata}.
+     * @param metadata value for metadata
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMetadata(Optional<ImmutableMap<String, String>> metadata) {
+      this.metadata = Preconditions.checkNotNull(metadata);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.artifact_cache.CacheResult CacheResult}.
+     * @return immutable instance of CacheResult
+     */
+    public CacheResult build() {
+      checkRequiredAttributes();
+      return CacheResult.validate(new CacheResult(null, type, cacheSource, cacheError, metadata));
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      return "Cannot build CacheResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,355 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code DirCacheEntry.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ArtifactCacheBuckConfig.AbstractDirCacheEntry"})
+@Immutable
+public final class DirCacheEntry
+    extends ArtifactCacheBuckConfig.AbstractDirCacheEntry {
+  private final Path cacheDir;
+  private final Optional<Long> maxSizeBytes;
+  private final ArtifactCacheBuckConfig.CacheReadMode cacheReadMode;
+  private final boolean explodedLayout;
+
+  private DirCacheEntry(DirCacheEntry.Builder builder) {
+    this.cacheDir = builder.cacheDir;
+    this.maxSizeBytes = builder.maxSizeBytes;
+    this.cacheReadMode = builder.cacheReadMode;
+    this.explodedLayout = builder.explodedLayoutIsSet()
+        ? builder.explodedLayout
+        : super.isExplodedLayout();
+  }
+
+  private DirCacheEntry(
+      Path cacheDir,
+      Optional<Long> maxSizeBytes,
+      ArtifactCacheBuckConfig.CacheReadMode cacheReadMode,
+      boolean explodedLayout) {
+    this.cacheDir = cacheDir;
+    this.maxSizeBytes = maxSizeBytes;
+    this.cacheReadMode = cacheReadMode;
+    this.explodedLayout = explodedLayout;
+  }
+
+  /**
+   * @return value of {@code cacheDir} attribute
+   */
+  @Override
+  public Path getCacheDir() {
+    return cacheDir;
+  }
+
+  /**
+   * @return value of {@code maxSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getMaxSizeBytes() {
+    return maxSizeBytes;
+  }
+
+  /**
+   * @return value of {@code cacheReadMode} attribute
+   */
+  @Override
+  public ArtifactCacheBuckConfig.CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * @return value of {@code explodedLayout} attribute
+   */
+  @Override
+  public boolean isExplodedLayout() {
+    return explodedLayout;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheDir() cacheDir}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cacheDir
+   * @return modified copy of the {@code this} object
+   */
+  public final DirCacheEntry withCacheDir(Path value) {
+    if (this.cacheDir == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new DirCacheEntry(newValue, this.maxSizeBytes, this.cacheReadMode, this.explodedLayout);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes}.
+   * @param value value for maxSizeBytes
+   * @return modified copy of {@code this} object
+   */
+  public final DirCacheEntry withMaxSizeBytes(long value) {
+    Optional<Long> newValue = Optional.of(value);
+    return new DirCacheEntry(this.cacheDir, newValue, this.cacheReadMode, this.explodedLayout);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for maxSizeBytes
+   * @return modified copy of {@code this} object
+   */
+  public final DirCacheEntry withMaxSizeBytes(Optional<Long> optional) {
+    if (this.maxSizeBytes == optional) {
+      return this;
+    }
+    Optional<Long> newValue = Preconditions.checkNotNull(optional);
+    return new DirCacheEntry(this.cacheDir, newValue, this.cacheReadMode, this.explodedLayout);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheReadMode() cacheReadMode}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cacheReadMode
+   * @return modified copy of the {@code this} object
+   */
+  public final DirCacheEntry withCacheReadMode(ArtifactCacheBuckConfig.CacheReadMode value) {
+    if (this.cacheReadMode == value) {
+      return this;
+    }
+    ArtifactCacheBuckConfig.CacheReadMode newValue = Preconditions.checkNotNull(value);
+    return new DirCacheEntry(this.cacheDir, this.maxSizeBytes, newValue, this.explodedLayout);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#isExplodedLayout() explodedLayout}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for explodedLayout
+   * @return modified copy of the {@code this} object
+   */
+  public final DirCacheEntry withExplodedLayout(boolean value) {
+    if (this.explodedLayout == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new DirCacheEntry(this.cacheDir, this.maxSizeBytes, this.cacheReadMode, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code DirCacheEntry} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof DirCacheEntry && equalTo((DirCacheEntry) another));
+  }
+
+  private boolean equalTo(DirCacheEntry another) {
+    return cacheDir.equals(another.cacheDir)
+        && maxSizeBytes.equals(another.maxSizeBytes)
+        && cacheReadMode.equals(another.cacheReadMode)
+        && explodedLayout == another.explodedLayout;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code cacheDir}, {@code maxSizeBytes}, {@code cacheReadMode}, {@code explodedLayout}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cacheDir.hashCode();
+    h = h * 17 + maxSizeBytes.hashCode();
+    h = h * 17 + cacheReadMode.hashCode();
+    h = h * 17 + Booleans.hashCode(explodedLayout);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code DirCacheEntry{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DirCacheEntry")
+        .add("cacheDir", cacheDir)
+        .add("maxSizeBytes", maxSizeBytes)
+        .add("cacheReadMode", cacheReadMode)
+        .add("explodedLayout", explodedLayout)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable DirCacheEntry instance
+   */
+  public static DirCacheEntry copyOf(ArtifactCacheBuckConfig.AbstractDirCacheEntry instance) {
+    if (instance instanceof DirCacheEntry) {
+      return (DirCacheEntry) instance;
+    }
+    return DirCacheEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.artifact_cache.DirCacheEntry DirCacheEntry}.
+   * @return new DirCacheEntry builder
+   */
+  public static DirCacheEntry.Builder builder() {
+    return new DirCacheEntry.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.artifact_cache.DirCacheEntry DirCacheEntry}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_CACHE_DIR = 0x1L;
+    private static final long INITIALIZED_BIT_CACHE_READ_MODE = 0x2L;
+    private static final long NONDEFAULT_BIT_EXPLODED_LAYOUT = 0x1L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private @Nullable Path cacheDir;
+    private Optional<Long> maxSizeBytes = Optional.absent();
+    private @Nullable ArtifactCacheBuckConfig.CacheReadMode cacheReadMode;
+    private boolean explodedLayout;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(ArtifactCacheBuckConfig.AbstractDirCacheEntry instance) {
+      Preconditions.checkNotNull(instance);
+      setCacheDir(instance.getCacheDir());
+      Optional<Long> maxSizeBytesOptional = instance.getMaxSizeBytes();
+      if (maxSizeBytesOptional.isPresent()) {
+        setMaxSizeBytes(maxSizeBytesOptional);
+      }
+      setCacheReadMode(instance.getCacheReadMode());
+      setExplodedLayout(instance.isExplodedLayout());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheDir() cacheDir}.
+     * @param cacheDir value for cacheDir
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheDir(Path cacheDir) {
+      this.cacheDir = Preconditions.checkNotNull(cacheDir);
+      initializedBitset |= INITIALIZED_BIT_CACHE_DIR;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes}.
+     * @param maxSizeBytes value for maxSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxSizeBytes(long maxSizeBytes) {
+      this.maxSizeBytes = Optional.of(maxSizeBytes);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes}.
+     * @param maxSizeBytes value for maxSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxSizeBytes(Optional<Long> maxSizeBytes) {
+      this.maxSizeBytes = Preconditions.checkNotNull(maxSizeBytes);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheReadMode() cacheReadMode}.
+     * @param cacheReadMode value for cacheReadMode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheReadMode(ArtifactCacheBuckConfig.CacheReadMode cacheReadMode) {
+      this.cacheReadMode = Preconditions.checkNotNull(cacheReadMode);
+      initializedBitset |= INITIALIZED_BIT_CACHE_READ_MODE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#isExplodedLayout() explodedLayout}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#isExplodedLayout() explodedLayout}.</em>
+     * @param explodedLayout value for explodedLayout
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExplodedLayout(boolean explodedLayout) {
+      this.explodedLayout = explodedLayout;
+      nondefaultBitset |= NONDEFAULT_BIT_EXPLODED_LAYOUT;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.artifact_cache.DirCacheEntry DirCacheEntry}.
+     * @return immutable instance of DirCacheEntry
+     */
+    public DirCacheEntry build() {
+      checkRequiredAttributes();
+      return new DirCacheEntry(this);
+    }
+
+    private boolean explodedLayoutIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_EXPLODED_LAYOUT) != 0;
+    }
+
+    private boolean cacheDirIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CACHE_DIR) != 0;
+    }
+
+    private boolean cacheReadModeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CACHE_READ_MODE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!cacheDirIsSet()) {
+        attributes.add("cacheDir");
+      }
+      if (!cacheReadModeIsSet()) {
+        attributes.add("cacheReadMode");
+      }
+      return "Cannot build DirCacheEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,551 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code FetchResponseReadResult.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult"})
+@Immutable
+public final class FetchResponseReadResult
+    extends HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult {
+  private final ImmutableSet<RuleKey> ruleKeys;
+  private final HashCode expectedHashCode;
+  private final HashCode actualHashCode;
+  private final HashCode artifactOnlyHashCode;
+  private final long responseSizeBytes;
+  private final ImmutableMap<String, String> metadata;
+
+  private FetchResponseReadResult(
+      ImmutableSet<RuleKey> ruleKeys,
+      HashCode expectedHashCode,
+      HashCode actualHashCode,
+      HashCode artifactOnlyHashCode,
+      long responseSizeBytes,
+      ImmutableMap<String, String> metadata) {
+    this.ruleKeys = ruleKeys;
+    this.expectedHashCode = expectedHashCode;
+    this.actualHashCode = actualHashCode;
+    this.artifactOnlyHashCode = artifactOnlyHashCode;
+    this.responseSizeBytes = responseSizeBytes;
+    this.metadata = metadata;
+  }
+
+  /**
+   * @return value of {@code ruleKeys} attribute
+   */
+  @Override
+  public ImmutableSet<RuleKey> getRuleKeys() {
+    return ruleKeys;
+  }
+
+  /**
+   * @return value of {@code expectedHashCode} attribute
+   */
+  @Override
+  public HashCode getExpectedHashCode() {
+    return expectedHashCode;
+  }
+
+  /**
+   * @return value of {@code actualHashCode} attribute
+   */
+  @Override
+  public HashCode getActualHashCode() {
+    return actualHashCode;
+  }
+
+  /**
+   * @return value of {@code artifactOnlyHashCode} attribute
+   */
+  @Override
+  public HashCode getArtifactOnlyHashCode() {
+    return artifactOnlyHashCode;
+  }
+
+  /**
+   * @return value of {@code responseSizeBytes} attribute
+   */
+  @Override
+  public long getResponseSizeBytes() {
+    return responseSizeBytes;
+  }
+
+  /**
+   * @return value of {@code metadata} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getMetadata() {
+    return metadata;
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getRuleKeys() ruleKeys}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final FetchResponseReadResult withRuleKeys(RuleKey... elements) {
+    ImmutableSet<RuleKey> newValue = ImmutableSet.copyOf(elements);
+    return new FetchResponseReadResult(
+            newValue,
+            this.expectedHashCode,
+            this.actualHashCode,
+            this.artifactOnlyHashCode,
+            this.responseSizeBytes,
+            this.metadata);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getRuleKeys() ruleKeys}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of ruleKeys elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final FetchResponseReadResult withRuleKeys(Iterable<? extends RuleKey> elements) {
+    if (this.ruleKeys == elements) {
+      return this;
+    }
+    ImmutableSet<RuleKey> newValue = ImmutableSet.copyOf(elements);
+    return new FetchResponseReadResult(
+            newValue,
+            this.expectedHashCode,
+            this.actualHashCode,
+            this.artifactOnlyHashCode,
+            this.responseSizeBytes,
+            this.metadata);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getExpectedHashCode() expectedHashCode}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for expectedHashCode
+   * @return modified copy of the {@code this} object
+   */
+  public final FetchResponseReadResult withExpectedHashCode(HashCode value) {
+    if (this.expectedHashCode == value) {
+      return this;
+    }
+    HashCode newValue = Preconditions.checkNotNull(value);
+    return new FetchResponseReadResult(
+            this.ruleKeys,
+            newValue,
+            this.actualHashCode,
+            this.artifactOnlyHashCode,
+            this.responseSizeBytes,
+            this.metadata);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getActualHashCode() actualHashCode}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for actualHashCode
+   * @return modified copy of the {@code this} object
+   */
+  public final FetchResponseReadResult withActualHashCode(HashCode value) {
+    if (this.actualHashCode == value) {
+      return this;
+    }
+    HashCode newValue = Preconditions.checkNotNull(value);
+    return new FetchResponseReadResult(
+            this.ruleKeys,
+            this.expectedHashCode,
+            newValue,
+            this.artifactOnlyHashCode,
+            this.responseSizeBytes,
+            this.metadata);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getArtifactOnlyHashCode() artifactOnlyHashCode}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for artifactOnlyHashCode
+   * @return modified copy of the {@code this} object
+   */
+  public final FetchResponseReadResult withArtifactOnlyHashCode(HashCode value) {
+    if (this.artifactOnlyHashCode == value) {
+      return this;
+    }
+    HashCode newValue = Preconditions.checkNotNull(value);
+    return new FetchResponseReadResult(
+            this.ruleKeys,
+            this.expectedHashCode,
+            this.actualHashCode,
+            newValue,
+            this.responseSizeBytes,
+            this.metadata);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getResponseSizeBytes() responseSizeBytes}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for responseSizeBytes
+   * @return modified copy of the {@code this} object
+   */
+  public final FetchResponseReadResult withResponseSizeBytes(long value) {
+    if (this.responseSizeBytes == value) {
+      return this;
+    }
+    long newValue = value;
+    return new FetchResponseReadResult(
+            this.ruleKeys,
+            this.expectedHashCode,
+            this.actualHashCode,
+            this.artifactOnlyHashCode,
+            newValue,
+            this.metadata);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getMetadata() metadata} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to metadata map
+   * @return modified copy of {@code this} object
+   */
+  public final FetchResponseReadResult withMetadata(Map<String, ? extends String> entries) {
+    if (this.metadata == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new FetchResponseReadResult(
+            this.ruleKeys,
+            this.expectedHashCode,
+            this.actualHashCode,
+            this.artifactOnlyHashCode,
+            this.responseSizeBytes,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code FetchResponseReadResult} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof FetchResponseReadResult && equalTo((FetchResponseReadResult) another));
+  }
+
+  private boolean equalTo(FetchResponseReadResult another) {
+    return ruleKeys.equals(another.ruleKeys)
+        && expectedHashCode.equals(another.expectedHashCode)
+        && actualHashCode.equals(another.actualHashCode)
+        && artifactOnlyHashCode.equals(another.artifactOnlyHashCode)
+        && responseSizeBytes == another.responseSizeBytes
+        && metadata.equals(another.metadata);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code ruleKeys}, {@code expectedHashCode}, {@code actualHashCode}, {@code artifactOnlyHashCode}, {@code responseSizeBytes}, {@code metadata}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + ruleKeys.hashCode();
+    h = h * 17 + expectedHashCode.hashCode();
+    h = h * 17 + actualHashCode.hashCode();
+    h = h * 17 + artifactOnlyHashCode.hashCode();
+    h = h * 17 + Longs.hashCode(responseSizeBytes);
+    h = h * 17 + metadata.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code FetchResponseReadResult{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FetchResponseReadResult")
+        .add("ruleKeys", ruleKeys)
+        .add("expectedHashCode", expectedHashCode)
+        .add("actualHashCode", actualHashCode)
+        .add("artifactOnlyHashCode", artifactOnlyHashCode)
+        .add("responseSizeBytes", responseSizeBytes)
+        .add("metadata", metadata)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable FetchResponseReadResult instance
+   */
+  public static FetchResponseReadResult copyOf(HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult instance) {
+    if (instance instanceof FetchResponseReadResult) {
+      return (FetchResponseReadResult) instance;
+    }
+    return FetchResponseReadResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.artifact_cache.FetchResponseReadResult FetchResponseReadResult}.
+   * @return new FetchResponseReadResult builder
+   */
+  public static FetchResponseReadResult.Builder builder() {
+    return new FetchResponseReadResult.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.artifact_cache.FetchResponseReadResult FetchResponseReadResult}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0xf;
+    private static final long INITIALIZED_BIT_EXPECTED_HASH_CODE = 0x1L;
+    private static final long INITIALIZED_BIT_ACTUAL_HASH_CODE = 0x2L;
+    private static final long INITIALIZED_BIT_ARTIFACT_ONLY_HASH_CODE = 0x4L;
+    private static final long INITIALIZED_BIT_RESPONSE_SIZE_BYTES = 0x8L;
+    private long initializedBitset;
+    private ImmutableSet.Builder<RuleKey> ruleKeysBuilder = ImmutableSet.builder();
+    private @Nullable HashCode expectedHashCode;
+    private @Nullable HashCode actualHashCode;
+    private @Nullable HashCode artifactOnlyHashCode;
+    private long responseSizeBytes;
+    private ImmutableMap.Builder<String, String> metadataBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link com.facebook.buck.artifact_cache.HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult} instance.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult instance) {
+      Preconditions.checkNotNull(instance);
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill builder with attribute values from provided {@link com.facebook.buck.artifact_cache.HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult} instance.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult instance) {
+      Preconditions.checkNotNull(instance);
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult) {
+        HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult instance = (HttpArtifactCacheBinaryProtocol.MetadataAndPayloadReadResult) object;
+        addAllRuleKeys(instance.getRuleKeys());
+        setExpectedHashCode(instance.getExpectedHashCode());
+        setActualHashCode(instance.getActualHashCode());
+        setArtifactOnlyHashCode(instance.getArtifactOnlyHashCode());
+        setResponseSizeBytes(instance.getResponseSizeBytes());
+        putAllMetadata(instance.getMetadata());
+      }
+    }
+
+    /**
+     * Adds one element to {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param element ruleKeys element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRuleKeys(RuleKey element) {
+      ruleKeysBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param elements array of ruleKeys elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRuleKeys(RuleKey... elements) {
+      ruleKeysBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param elements iterable of ruleKeys elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleKeys(Iterable<? extends RuleKey> elements) {
+      ruleKeysBuilder = ImmutableSet.builder();
+      return addAllRuleKeys(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getRuleKeys() ruleKeys} set.
+     * @param elements iterable of ruleKeys elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllRuleKeys(Iterable<? extends RuleKey> elements) {
+      ruleKeysBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getExpectedHashCode() expectedHashCode}.
+     * @param expectedHashCode value for expectedHashCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExpectedHashCode(HashCode expectedHashCode) {
+      this.expectedHashCode = Preconditions.checkNotNull(expectedHashCode);
+      initializedBitset |= INITIALIZED_BIT_EXPECTED_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getActualHashCode() actualHashCode}.
+     * @param actualHashCode value for actualHashCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setActualHashCode(HashCode actualHashCode) {
+      this.actualHashCode = Preconditions.checkNotNull(actualHashCode);
+      initializedBitset |= INITIALIZED_BIT_ACTUAL_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getArtifactOnlyHashCode() artifactOnlyHashCode}.
+     * @param artifactOnlyHashCode value for artifactOnlyHashCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArtifactOnlyHashCode(HashCode artifactOnlyHashCode) {
+      this.artifactOnlyHashCode = Preconditions.checkNotNull(artifactOnlyHashCode);
+      initializedBitset |= INITIALIZED_BIT_ARTIFACT_ONLY_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getResponseSizeBytes() responseSizeBytes}.
+     * @param responseSizeBytes value for responseSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes;
+      initializedBitset |= INITIALIZED_BIT_RESPONSE_SIZE_BYTES;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getMetadata() metadata} map.
+     * @param key the key in metadata map
+     * @param value the associated value in metadata map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putMetadata(String key, String value) {
+      metadataBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getMetadata() metadata} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putMetadata(Map.Entry<String, ? extends String> entry) {
+      metadataBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getMetadata() metadata} map. Nulls are not permitted
+     * @param entries to be added to metadata map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMetadata(Map<String, ? extends String> entries) {
+      metadataBuilder = ImmutableMap.builder();
+      return putAllMetadata(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link HttpArtifactCacheBinaryProtocol.AbstractFetchResponseReadResult#getMetadata() metadata} map. Nulls are not permitted
+     * @param entries to be added to metadata map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllMetadata(Map<String, ? extends String> entries) {
+      metadataBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.artifact_cache.FetchResponseReadResult FetchResponseReadResult}.
+     * @return immutable instance of FetchResponseReadResult
+     */
+    public FetchResponseReadResult build() {
+      checkRequiredAttributes();
+      return new FetchResponseReadResult(
+              ruleKeysBuilder.build(),
+              expectedHashCode,
+              actualHashCode,
+              artifactOnlyHashCode,
+              responseSizeBytes,
+              metadataBuilder.build());
+    }
+
+    private boolean expectedHashCodeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_EXPECTED_HASH_CODE) != 0;
+    }
+
+    private boolean actualHashCodeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ACTUAL_HASH_CODE) != 0;
+    }
+
+    private boolean artifactOnlyHashCodeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ARTIFACT_ONLY_HASH_CODE) != 0;
+    }
+
+    private boolean responseSizeBytesIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_RESPONSE_SIZE_BYTES) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!expectedHashCodeIsSet()) {
+        attributes.add("expectedHashCode");
+      }
+      if (!actualHashCodeIsSet()) {
+        attributes.add("actualHashCode");
+      }
+      if (!artifactOnlyHashCodeIsSet()) {
+        attributes.add("artifactOnlyHashCode");
+      }
+      if (!responseSizeBytesIsSet()) {
+        attributes.add("responseSizeBytes");
+      }
+      return "Cannot build FetchResponseReadResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
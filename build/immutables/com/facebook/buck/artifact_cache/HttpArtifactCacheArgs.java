@@ -0,0 +1,818 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.slb.HttpService;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractHttpArtifactCacheArgs}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code HttpArtifactCacheArgs.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHttpArtifactCacheArgs"})
+@Immutable
+public final class HttpArtifactCacheArgs
+    extends AbstractHttpArtifactCacheArgs {
+  private final String cacheName;
+  private final HttpService fetchClient;
+  private final HttpService storeClient;
+  private final boolean doStore;
+  private final ProjectFilesystem projectFilesystem;
+  private final BuckEventBus buckEventBus;
+  private final HttpUploadScheduler uploadScheduler;
+  private final String errorTextTemplate;
+  private final boolean streamingUnzip;
+  private final boolean keyDigestEnabled;
+  private final boolean prefetch;
+
+  private HttpArtifactCacheArgs(HttpArtifactCacheArgs.Builder builder) {
+    this.cacheName = builder.cacheName;
+    this.fetchClient = builder.fetchClient;
+    this.storeClient = builder.storeClient;
+    this.doStore = builder.doStore;
+    this.projectFilesystem = builder.projectFilesystem;
+    this.buckEventBus = builder.buckEventBus;
+    this.uploadScheduler = builder.uploadScheduler;
+    this.errorTextTemplate = builder.errorTextTemplate;
+    this.streamingUnzip = builder.streamingUnzipIsSet()
+        ? builder.streamingUnzip
+        : super.getStreamingUnzip();
+    this.keyDigestEnabled = builder.keyDigestEnabledIsSet()
+        ? builder.keyDigestEnabled
+        : super.getKeyDigestEnabled();
+    this.prefetch = builder.prefetchIsSet()
+        ? builder.prefetch
+        : super.getPrefetch();
+  }
+
+  private HttpArtifactCacheArgs(
+      String cacheName,
+      HttpService fetchClient,
+      HttpService storeClient,
+      boolean doStore,
+      ProjectFilesystem projectFilesystem,
+      BuckEventBus buckEventBus,
+      HttpUploadScheduler uploadScheduler,
+      String errorTextTemplate,
+      boolean streamingUnzip,
+      boolean keyDigestEnabled,
+      boolean prefetch) {
+    this.cacheName = cacheName;
+    this.fetchClient = fetchClient;
+    this.storeClient = storeClient;
+    this.doStore = doStore;
+    this.projectFilesystem = projectFilesystem;
+    this.buckEventBus = buckEventBus;
+    this.uploadScheduler = uploadScheduler;
+    this.errorTextTemplate = errorTextTemplate;
+    this.streamingUnzip = streamingUnzip;
+    this.keyDigestEnabled = keyDigestEnabled;
+    this.prefetch = prefetch;
+  }
+
+  /**
+   * @return value of {@code cacheName} attribute
+   */
+  @Override
+  public String getCacheName() {
+    return cacheName;
+  }
+
+  /**
+   * @return value of {@code fetchClient} attribute
+   */
+  @Override
+  public HttpService getFetchClient() {
+    return fetchClient;
+  }
+
+  /**
+   * @return value of {@code storeClient} attribute
+   */
+  @Override
+  public HttpService getStoreClient() {
+    return storeClient;
+  }
+
+  /**
+   * @return value of {@code doStore} attribute
+   */
+  @Override
+  public boolean getDoStore() {
+    return doStore;
+  }
+
+  /**
+   * @return value of {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return value of {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return what decides when stores are uploaded.  Share it between the caches which upload over
+   *     the same link.
+   */
+  @Override
+  public HttpUploadScheduler getUploadScheduler() {
+    return uploadScheduler;
+  }
+
+  /**
+   * @return value of {@code errorTextTemplate} attribute
+   */
+  @Override
+  public String getErrorTextTemplate() {
+    return errorTextTemplate;
+  }
+
+  /**
+   * @return whether hits fetched into a {@link MaterializableOutput} are unzipped into its project
+   *     as they are downloaded, instead of being written to a temp file first.
+   */
+  @Override
+  public boolean getStreamingUnzip() {
+    return streamingUnzip;
+  }
+
+  /**
+   * @return whether to download the server's digest of its keys on the first fetch, and report
+   *     keys it does not contain, or which were misses before, as misses without asking the
+   *     server.
+   */
+  @Override
+  public boolean getKeyDigestEnabled() {
+    return keyDigestEnabled;
+  }
+
+  /**
+   * @return whether the cache only serves lookups made ahead of the build, which are reported as
+   *     prefetches so they aren't counted as the build's own downloads.
+   */
+  @Override
+  public boolean getPrefetch() {
+    return prefetch;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getCacheName() cacheName}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cacheName
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withCacheName(String value) {
+    if (this.cacheName == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new HttpArtifactCacheArgs(
+            newValue,
+            this.fetchClient,
+            this.storeClient,
+            this.doStore,
+            this.projectFilesystem,
+            this.buckEventBus,
+            this.uploadScheduler,
+            this.errorTextTemplate,
+            this.streamingUnzip,
+            this.keyDigestEnabled,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getFetchClient() fetchClient}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for fetchClient
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withFetchClient(HttpService value) {
+    if (this.fetchClient == value) {
+      return this;
+    }
+    HttpService newValue = Preconditions.checkNotNull(value);
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            newValue,
+            this.storeClient,
+            this.doStore,
+            this.projectFilesystem,
+            this.buckEventBus,
+            this.uploadScheduler,
+            this.errorTextTemplate,
+            this.streamingUnzip,
+            this.keyDigestEnabled,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getStoreClient() storeClient}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for storeClient
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withStoreClient(HttpService value) {
+    if (this.storeClient == value) {
+      return this;
+    }
+    HttpService newValue = Preconditions.checkNotNull(value);
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            this.fetchClient,
+            newValue,
+            this.doStore,
+            this.projectFilesystem,
+            this.buckEventBus,
+            this.uploadScheduler,
+            this.errorTextTemplate,
+            this.streamingUnzip,
+            this.keyDigestEnabled,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getDoStore() doStore}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for doStore
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withDoStore(boolean value) {
+    if (this.doStore == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            this.fetchClient,
+            this.storeClient,
+            newValue,
+            this.projectFilesystem,
+            this.buckEventBus,
+            this.uploadScheduler,
+            this.errorTextTemplate,
+            this.streamingUnzip,
+            this.keyDigestEnabled,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getProjectFilesystem() projectFilesystem}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for projectFilesystem
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) {
+      return this;
+    }
+    ProjectFilesystem newValue = Preconditions.checkNotNull(value);
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            this.fetchClient,
+            this.storeClient,
+            this.doStore,
+            newValue,
+            this.buckEventBus,
+            this.uploadScheduler,
+            this.errorTextTemplate,
+            this.streamingUnzip,
+            this.keyDigestEnabled,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getBuckEventBus() buckEventBus}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buckEventBus
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) {
+      return this;
+    }
+    BuckEventBus newValue = Preconditions.checkNotNull(value);
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            this.fetchClient,
+            this.storeClient,
+            this.doStore,
+            this.projectFilesystem,
+            newValue,
+            this.uploadScheduler,
+            this.errorTextTemplate,
+            this.streamingUnzip,
+            this.keyDigestEnabled,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getUploadScheduler() uploadScheduler}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for uploadScheduler
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withUploadScheduler(HttpUploadScheduler value) {
+    if (this.uploadScheduler == value) {
+      return this;
+    }
+    HttpUploadScheduler newValue = Preconditions.checkNotNull(value);
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            this.fetchClient,
+            this.storeClient,
+            this.doStore,
+            this.projectFilesystem,
+            this.buckEventBus,
+            newValue,
+            this.errorTextTemplate,
+            this.streamingUnzip,
+            this.keyDigestEnabled,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getErrorTextTemplate() errorTextTemplate}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for errorTextTemplate
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withErrorTextTemplate(String value) {
+    if (this.errorTextTemplate == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            this.fetchClient,
+            this.storeClient,
+            this.doStore,
+            this.projectFilesystem,
+            this.buckEventBus,
+            this.uploadScheduler,
+            newValue,
+            this.streamingUnzip,
+            this.keyDigestEnabled,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getStreamingUnzip() streamingUnzip}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for streamingUnzip
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withStreamingUnzip(boolean value) {
+    if (this.streamingUnzip == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            this.fetchClient,
+            this.storeClient,
+            this.doStore,
+            this.projectFilesystem,
+            this.buckEventBus,
+            this.uploadScheduler,
+            this.errorTextTemplate,
+            newValue,
+            this.keyDigestEnabled,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getKeyDigestEnabled() keyDigestEnabled}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for keyDigestEnabled
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withKeyDigestEnabled(boolean value) {
+    if (this.keyDigestEnabled == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            this.fetchClient,
+            this.storeClient,
+            this.doStore,
+            this.projectFilesystem,
+            this.buckEventBus,
+            this.uploadScheduler,
+            this.errorTextTemplate,
+            this.streamingUnzip,
+            newValue,
+            this.prefetch);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHttpArtifactCacheArgs#getPrefetch() prefetch}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for prefetch
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpArtifactCacheArgs withPrefetch(boolean value) {
+    if (this.prefetch == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new HttpArtifactCacheArgs(
+            this.cacheName,
+            this.fetchClient,
+            this.storeClient,
+            this.doStore,
+            this.projectFilesystem,
+            this.buckEventBus,
+            this.uploadScheduler,
+            this.errorTextTemplate,
+            this.streamingUnzip,
+            this.keyDigestEnabled,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code HttpArtifactCacheArgs} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof HttpArtifactCacheArgs && equalTo((HttpArtifactCacheArgs) another));
+  }
+
+  private boolean equalTo(HttpArtifactCacheArgs another) {
+    return cacheName.equals(another.cacheName)
+        && fetchClient.equals(another.fetchClient)
+        && storeClient.equals(another.storeClient)
+        && doStore == another.doStore
+        && projectFilesystem.equals(another.projectFilesystem)
+        && buckEventBus.equals(another.buckEventBus)
+        && uploadScheduler.equals(another.uploadScheduler)
+        && errorTextTemplate.equals(another.errorTextTemplate)
+        && streamingUnzip == another.streamingUnzip
+        && keyDigestEnabled == another.keyDigestEnabled
+        && prefetch == another.prefetch;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code cacheName}, {@code fetchClient}, {@code storeClient}, {@code doStore}, {@code projectFilesystem}, {@code buckEventBus}, {@code uploadScheduler}, {@code errorTextTemplate}, {@code streamingUnzip}, {@code keyDigestEnabled}, {@code prefetch}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cacheName.hashCode();
+    h = h * 17 + fetchClient.hashCode();
+    h = h * 17 + storeClient.hashCode();
+    h = h * 17 + Booleans.hashCode(doStore);
+    h = h * 17 + projectFilesystem.hashCode();
+    h = h * 17 + buckEventBus.hashCode();
+    h = h * 17 + uploadScheduler.hashCode();
+    h = h * 17 + errorTextTemplate.hashCode();
+    h = h * 17 + Booleans.hashCode(streamingUnzip);
+    h = h * 17 + Booleans.hashCode(keyDigestEnabled);
+    h = h * 17 + Booleans.hashCode(prefetch);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code HttpArtifactCacheArgs{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HttpArtifactCacheArgs")
+        .add("cacheName", cacheName)
+        .add("fetchClient", fetchClient)
+        .add("storeClient", storeClient)
+        .add("doStore", doStore)
+        .add("projectFilesystem", projectFilesystem)
+        .add("buckEventBus", buckEventBus)
+        .add("uploadScheduler", uploadScheduler)
+        .add("errorTextTemplate", errorTextTemplate)
+        .add("streamingUnzip", streamingUnzip)
+        .add("keyDigestEnabled", keyDigestEnabled)
+        .add("prefetch", prefetch)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractHttpArtifactCacheArgs}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable HttpArtifactCacheArgs instance
+   */
+  public static HttpArtifactCacheArgs copyOf(AbstractHttpArtifactCacheArgs instance) {
+    if (instance instanceof HttpArtifactCacheArgs) {
+      return (HttpArtifactCacheArgs) instance;
+    }
+    return HttpArtifactCacheArgs.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.artifact_cache.HttpArtifactCacheArgs HttpArtifactCacheArgs}.
+   * @return new HttpArtifactCacheArgs builder
+   */
+  public static HttpArtifactCacheArgs.Builder builder() {
+    return new HttpArtifactCacheArgs.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.artifact_cache.HttpArtifactCacheArgs HttpArtifactCacheArgs}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0xff;
+    private static final long INITIALIZED_BIT_CACHE_NAME = 0x1L;
+    private static final long INITIALIZED_BIT_FETCH_CLIENT = 0x2L;
+    private static final long INITIALIZED_BIT_STORE_CLIENT = 0x4L;
+    private static final long INITIALIZED_BIT_DO_STORE = 0x8L;
+    private static final long INITIALIZED_BIT_PROJECT_FILESYSTEM = 0x10L;
+    private static final long INITIALIZED_BIT_BUCK_EVENT_BUS = 0x20L;
+    private static final long INITIALIZED_BIT_UPLOAD_SCHEDULER = 0x40L;
+    private static final long INITIALIZED_BIT_ERROR_TEXT_TEMPLATE = 0x80L;
+    private static final long NONDEFAULT_BIT_STREAMING_UNZIP = 0x1L;
+    private static final long NONDEFAULT_BIT_KEY_DIGEST_ENABLED = 0x2L;
+    private static final long NONDEFAULT_BIT_PREFETCH = 0x4L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private @Nullable String cacheName;
+    private @Nullable HttpService fetchClient;
+    private @Nullable HttpService storeClient;
+    private boolean doStore;
+    private @Nullable ProjectFilesystem projectFilesystem;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable HttpUploadScheduler uploadScheduler;
+    private @Nullable String errorTextTemplate;
+    private boolean streamingUnzip;
+    private boolean keyDigestEnabled;
+    private boolean prefetch;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractHttpArtifactCacheArgs} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractHttpArtifactCacheArgs instance) {
+      Preconditions.checkNotNull(instance);
+      setCacheName(instance.getCacheName());
+      setFetchClient(instance.getFetchClient());
+      setStoreClient(instance.getStoreClient());
+      setDoStore(instance.getDoStore());
+      setProjectFilesystem(instance.getProjectFilesystem());
+      setBuckEventBus(instance.getBuckEventBus());
+      setUploadScheduler(instance.getUploadScheduler());
+      setErrorTextTemplate(instance.getErrorTextTemplate());
+      setStreamingUnzip(instance.getStreamingUnzip());
+      setKeyDigestEnabled(instance.getKeyDigestEnabled());
+      setPrefetch(instance.getPrefetch());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getCacheName() cacheName}.
+     * @param cacheName value for cacheName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheName(String cacheName) {
+      this.cacheName = Preconditions.checkNotNull(cacheName);
+      initializedBitset |= INITIALIZED_BIT_CACHE_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getFetchClient() fetchClient}.
+     * @param fetchClient value for fetchClient
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFetchClient(HttpService fetchClient) {
+      this.fetchClient = Preconditions.checkNotNull(fetchClient);
+      initializedBitset |= INITIALIZED_BIT_FETCH_CLIENT;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getStoreClient() storeClient}.
+     * @param storeClient value for storeClient
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStoreClient(HttpService storeClient) {
+      this.storeClient = Preconditions.checkNotNull(storeClient);
+      initializedBitset |= INITIALIZED_BIT_STORE_CLIENT;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getDoStore() doStore}.
+     * @param doStore value for doStore
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDoStore(boolean doStore) {
+      this.doStore = doStore;
+      initializedBitset |= INITIALIZED_BIT_DO_STORE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getProjectFilesystem() projectFilesystem}.
+     * @param projectFilesystem value for projectFilesystem
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectFilesystem(ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = Preconditions.checkNotNull(projectFilesystem);
+      initializedBitset |= INITIALIZED_BIT_PROJECT_FILESYSTEM;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getBuckEventBus() buckEventBus}.
+     * @param buckEventBus value for buckEventBus
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Preconditions.checkNotNull(buckEventBus);
+      initializedBitset |= INITIALIZED_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getUploadScheduler() uploadScheduler}.
+     * @param uploadScheduler value for uploadScheduler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUploadScheduler(HttpUploadScheduler uploadScheduler) {
+      this.uploadScheduler = Preconditions.checkNotNull(uploadScheduler);
+      initializedBitset |= INITIALIZED_BIT_UPLOAD_SCHEDULER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getErrorTextTemplate() errorTextTemplate}.
+     * @param errorTextTemplate value for errorTextTemplate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setErrorTextTemplate(String errorTextTemplate) {
+      this.errorTextTemplate = Preconditions.checkNotNull(errorTextTemplate);
+      initializedBitset |= INITIALIZED_BIT_ERROR_TEXT_TEMPLATE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getStreamingUnzip() streamingUnzip}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractHttpArtifactCacheArgs#getStreamingUnzip() streamingUnzip}.</em>
+     * @param streamingUnzip value for streamingUnzip
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStreamingUnzip(boolean streamingUnzip) {
+      this.streamingUnzip = streamingUnzip;
+      nondefaultBitset |= NONDEFAULT_BIT_STREAMING_UNZIP;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getKeyDigestEnabled() keyDigestEnabled}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractHttpArtifactCacheArgs#getKeyDigestEnabled() keyDigestEnabled}.</em>
+     * @param keyDigestEnabled value for keyDigestEnabled
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setKeyDigestEnabled(boolean keyDigestEnabled) {
+      this.keyDigestEnabled = keyDigestEnabled;
+      nondefaultBitset |= NONDEFAULT_BIT_KEY_DIGEST_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHttpArtifactCacheArgs#getPrefetch() prefetch}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractHttpArtifactCacheArgs#getPrefetch() prefetch}.</em>
+     * @param prefetch value for prefetch
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPrefetch(boolean prefetch) {
+      this.prefetch = prefetch;
+      nondefaultBitset |= NONDEFAULT_BIT_PREFETCH;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.artifact_cache.HttpArtifactCacheArgs HttpArtifactCacheArgs}.
+     * @return immutable instance of HttpArtifactCacheArgs
+     */
+    public HttpArtifactCacheArgs build() {
+      checkRequiredAttributes();
+      return new HttpArtifactCacheArgs(this);
+    }
+
+    private boolean streamingUnzipIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_STREAMING_UNZIP) != 0;
+    }
+
+    private boolean keyDigestEnabledIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_KEY_DIGEST_ENABLED) != 0;
+    }
+
+    private boolean prefetchIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_PREFETCH) != 0;
+    }
+
+    private boolean cacheNameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CACHE_NAME) != 0;
+    }
+
+    private boolean fetchClientIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FETCH_CLIENT) != 0;
+    }
+
+    private boolean storeClientIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_STORE_CLIENT) != 0;
+    }
+
+    private boolean doStoreIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_DO_STORE) != 0;
+    }
+
+    private boolean projectFilesystemIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PROJECT_FILESYSTEM) != 0;
+    }
+
+    private boolean buckEventBusIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUCK_EVENT_BUS) != 0;
+    }
+
+    private boolean uploadSchedulerIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_UPLOAD_SCHEDULER) != 0;
+    }
+
+    private boolean errorTextTemplateIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ERROR_TEXT_TEMPLATE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!cacheNameIsSet()) {
+        attributes.add("cacheName");
+      }
+      if (!fetchClientIsSet()) {
+        attributes.add("fetchClient");
+      }
+      if (!storeClientIsSet()) {
+        attributes.add("storeClient");
+      }
+      if (!doStoreIsSet()) {
+        attributes.add("doStore");
+      }
+      if (!projectFilesystemIsSet()) {
+        attributes.add("projectFilesystem");
+      }
+      if (!buckEventBusIsSet()) {
+        attributes.add("buckEventBus");
+      }
+      if (!uploadSchedulerIsSet()) {
+        attributes.add("uploadScheduler");
+      }
+      if (!errorTextTemplateIsSet()) {
+        attributes.add("errorTextTemplate");
+      }
+      return "Cannot build HttpArtifactCacheArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
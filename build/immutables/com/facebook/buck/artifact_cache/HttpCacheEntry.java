@@ -0,0 +1,710 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code HttpCacheEntry.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ArtifactCacheBuckConfig.AbstractHttpCacheEntry"})
+@Immutable
+public final class HttpCacheEntry
+    extends ArtifactCacheBuckConfig.AbstractHttpCacheEntry {
+  private final Optional<String> name;
+  private final URI url;
+  private final int timeoutSeconds;
+  private final ImmutableMap<String, String> readHeaders;
+  private final ImmutableMap<String, String> writeHeaders;
+  private final ArtifactCacheBuckConfig.CacheReadMode cacheReadMode;
+  private final ImmutableSet<String> blacklistedWifiSsids;
+  private final String errorMessageFormat;
+
+  private HttpCacheEntry(
+      Optional<String> name,
+      URI url,
+      int timeoutSeconds,
+      ImmutableMap<String, String> readHeaders,
+      ImmutableMap<String, String> writeHeaders,
+      ArtifactCacheBuckConfig.CacheReadMode cacheReadMode,
+      ImmutableSet<String> blacklistedWifiSsids,
+      String errorMessageFormat) {
+    this.name = name;
+    this.url = url;
+    this.timeoutSeconds = timeoutSeconds;
+    this.readHeaders = readHeaders;
+    this.writeHeaders = writeHeaders;
+    this.cacheReadMode = cacheReadMode;
+    this.blacklistedWifiSsids = blacklistedWifiSsids;
+    this.errorMessageFormat = errorMessageFormat;
+  }
+
+  /**
+   * @return value of {@code name} attribute
+   */
+  @Override
+  public Optional<String> getName() {
+    return name;
+  }
+
+  /**
+   * @return value of {@code url} attribute
+   */
+  @Override
+  public URI getUrl() {
+    return url;
+  }
+
+  /**
+   * @return value of {@code timeoutSeconds} attribute
+   */
+  @Override
+  public int getTimeoutSeconds() {
+    return timeoutSeconds;
+  }
+
+  /**
+   * @return value of {@code readHeaders} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getReadHeaders() {
+    return readHeaders;
+  }
+
+  /**
+   * @return value of {@code writeHeaders} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getWriteHeaders() {
+    return writeHeaders;
+  }
+
+  /**
+   * @return value of {@code cacheReadMode} attribute
+   */
+  @Override
+  public ArtifactCacheBuckConfig.CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * @return value of {@code blacklistedWifiSsids} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBlacklistedWifiSsids() {
+    return blacklistedWifiSsids;
+  }
+
+  /**
+   * @return value of {@code errorMessageFormat} attribute
+   */
+  @Override
+  public String getErrorMessageFormat() {
+    return errorMessageFormat;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getName() name}.
+   * @param value value for name
+   * @return modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withName(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new HttpCacheEntry(
+            newValue,
+            this.url,
+            this.timeoutSeconds,
+            this.readHeaders,
+            this.writeHeaders,
+            this.cacheReadMode,
+            this.blacklistedWifiSsids,
+            this.errorMessageFormat);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getName() name}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for name
+   * @return modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withName(Optional<String> optional) {
+    if (this.name == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new HttpCacheEntry(
+            newValue,
+            this.url,
+            this.timeoutSeconds,
+            this.readHeaders,
+            this.writeHeaders,
+            this.cacheReadMode,
+            this.blacklistedWifiSsids,
+            this.errorMessageFormat);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getUrl() url}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for url
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpCacheEntry withUrl(URI value) {
+    if (this.url == value) {
+      return this;
+    }
+    URI newValue = Preconditions.checkNotNull(value);
+    return new HttpCacheEntry(
+            this.name,
+            newValue,
+            this.timeoutSeconds,
+            this.readHeaders,
+            this.writeHeaders,
+            this.cacheReadMode,
+            this.blacklistedWifiSsids,
+            this.errorMessageFormat);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getTimeoutSeconds() timeoutSeconds}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for timeoutSeconds
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpCacheEntry withTimeoutSeconds(int value) {
+    if (this.timeoutSeconds == value) {
+      return this;
+    }
+    int newValue = value;
+    return new HttpCacheEntry(
+            this.name,
+            this.url,
+            newValue,
+            this.readHeaders,
+            this.writeHeaders,
+            this.cacheReadMode,
+            this.blacklistedWifiSsids,
+            this.errorMessageFormat);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to readHeaders map
+   * @return modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withReadHeaders(Map<String, ? extends String> entries) {
+    if (this.readHeaders == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new HttpCacheEntry(
+            this.name,
+            this.url,
+            this.timeoutSeconds,
+            newValue,
+            this.writeHeaders,
+            this.cacheReadMode,
+            this.blacklistedWifiSsids,
+            this.errorMessageFormat);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to writeHeaders map
+   * @return modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withWriteHeaders(Map<String, ? extends String> entries) {
+    if (this.writeHeaders == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new HttpCacheEntry(
+            this.name,
+            this.url,
+            this.timeoutSeconds,
+            this.readHeaders,
+            newValue,
+            this.cacheReadMode,
+            this.blacklistedWifiSsids,
+            this.errorMessageFormat);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getCacheReadMode() cacheReadMode}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cacheReadMode
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpCacheEntry withCacheReadMode(ArtifactCacheBuckConfig.CacheReadMode value) {
+    if (this.cacheReadMode == value) {
+      return this;
+    }
+    ArtifactCacheBuckConfig.CacheReadMode newValue = Preconditions.checkNotNull(value);
+    return new HttpCacheEntry(
+            this.name,
+            this.url,
+            this.timeoutSeconds,
+            this.readHeaders,
+            this.writeHeaders,
+            newValue,
+            this.blacklistedWifiSsids,
+            this.errorMessageFormat);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withBlacklistedWifiSsids(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new HttpCacheEntry(
+            this.name,
+            this.url,
+            this.timeoutSeconds,
+            this.readHeaders,
+            this.writeHeaders,
+            this.cacheReadMode,
+            newValue,
+            this.errorMessageFormat);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of blacklistedWifiSsids elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withBlacklistedWifiSsids(Iterable<String> elements) {
+    if (this.blacklistedWifiSsids == elements) {
+      return this;
+    }
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new HttpCacheEntry(
+            this.name,
+            this.url,
+            this.timeoutSeconds,
+            this.readHeaders,
+            this.writeHeaders,
+            this.cacheReadMode,
+            newValue,
+            this.errorMessageFormat);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getErrorMessageFormat() errorMessageFormat}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for errorMessageFormat
+   * @return modified copy of the {@code this} object
+   */
+  public final HttpCacheEntry withErrorMessageFormat(String value) {
+    if (this.errorMessageFormat == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new HttpCacheEntry(
+            this.name,
+            this.url,
+            this.timeoutSeconds,
+            this.readHeaders,
+            this.writeHeaders,
+            this.cacheReadMode,
+            this.blacklistedWifiSsids,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code HttpCacheEntry} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof HttpCacheEntry && equalTo((HttpCacheEntry) another));
+  }
+
+  private boolean equalTo(HttpCacheEntry another) {
+    return name.equals(another.name)
+        && url.equals(another.url)
+        && timeoutSeconds == another.timeoutSeconds
+        && readHeaders.equals(another.readHeaders)
+        && writeHeaders.equals(another.writeHeaders)
+        && cacheReadMode.equals(another.cacheReadMode)
+        && blacklistedWifiSsids.equals(another.blacklistedWifiSsids)
+        && errorMessageFormat.equals(another.errorMessageFormat);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code url}, {@code timeoutSeconds}, {@code readHeaders}, {@code writeHeaders}, {@code cacheReadMode}, {@code blacklistedWifiSsids}, {@code errorMessageFormat}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + url.hashCode();
+    h = h * 17 + timeoutSeconds;
+    h = h * 17 + readHeaders.hashCode();
+    h = h * 17 + writeHeaders.hashCode();
+    h = h * 17 + cacheReadMode.hashCode();
+    h = h * 17 + blacklistedWifiSsids.hashCode();
+    h = h * 17 + errorMessageFormat.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code HttpCacheEntry{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HttpCacheEntry")
+        .add("name", name)
+        .add("url", url)
+        .add("timeoutSeconds", timeoutSeconds)
+        .add("readHeaders", readHeaders)
+        .add("writeHeaders", writeHeaders)
+        .add("cacheReadMode", cacheReadMode)
+        .add("blacklistedWifiSsids", blacklistedWifiSsids)
+        .add("errorMessageFormat", errorMessageFormat)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable HttpCacheEntry instance
+   */
+  public static HttpCacheEntry copyOf(ArtifactCacheBuckConfig.AbstractHttpCacheEntry instance) {
+    if (instance instanceof HttpCacheEntry) {
+      return (HttpCacheEntry) instance;
+    }
+    return HttpCacheEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.artifact_cache.HttpCacheEntry HttpCacheEntry}.
+   * @return new HttpCacheEntry builder
+   */
+  public static HttpCacheEntry.Builder builder() {
+    return new HttpCacheEntry.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.artifact_cache.HttpCacheEntry HttpCacheEntry}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0xf;
+    private static final long INITIALIZED_BIT_URL = 0x1L;
+    private static final long INITIALIZED_BIT_TIMEOUT_SECONDS = 0x2L;
+    private static final long INITIALIZED_BIT_CACHE_READ_MODE = 0x4L;
+    private static final long INITIALIZED_BIT_ERROR_MESSAGE_FORMAT = 0x8L;
+    private long initializedBitset;
+    private Optional<String> name = Optional.absent();
+    private @Nullable URI url;
+    private int timeoutSeconds;
+    private ImmutableMap.Builder<String, String> readHeadersBuilder = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, String> writeHeadersBuilder = ImmutableMap.builder();
+    private @Nullable ArtifactCacheBuckConfig.CacheReadMode cacheReadMode;
+    private ImmutableSet.Builder<String> blacklistedWifiSsidsBuilder = ImmutableSet.builder();
+    private @Nullable String errorMessageFormat;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(ArtifactCacheBuckConfig.AbstractHttpCacheEntry instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<String> nameOptional = instance.getName();
+      if (nameOptional.isPresent()) {
+        setName(nameOptional);
+      }
+      setUrl(instance.getUrl());
+      setTimeoutSeconds(instance.getTimeoutSeconds());
+      putAllReadHeaders(instance.getReadHeaders());
+      putAllWriteHeaders(instance.getWriteHeaders());
+      setCacheReadMode(instance.getCacheReadMode());
+      addAllBlacklistedWifiSsids(instance.getBlacklistedWifiSsids());
+      setErrorMessageFormat(instance.getErrorMessageFormat());
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Optional.of(name);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(Optional<String> name) {
+      this.name = Preconditions.checkNotNull(name);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getUrl() url}.
+     * @param url value for url
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUrl(URI url) {
+      this.url = Preconditions.checkNotNull(url);
+      initializedBitset |= INITIALIZED_BIT_URL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getTimeoutSeconds() timeoutSeconds}.
+     * @param timeoutSeconds value for timeoutSeconds
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTimeoutSeconds(int timeoutSeconds) {
+      this.timeoutSeconds = timeoutSeconds;
+      initializedBitset |= INITIALIZED_BIT_TIMEOUT_SECONDS;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map.
+     * @param key the key in readHeaders map
+     * @param value the associated value in readHeaders map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putReadHeaders(String key, String value) {
+      readHeadersBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putReadHeaders(Map.Entry<String, ? extends String> entry) {
+      readHeadersBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map. Nulls are not permitted
+     * @param entries to be added to readHeaders map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setReadHeaders(Map<String, ? extends String> entries) {
+      readHeadersBuilder = ImmutableMap.builder();
+      return putAllReadHeaders(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map. Nulls are not permitted
+     * @param entries to be added to readHeaders map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllReadHeaders(Map<String, ? extends String> entries) {
+      readHeadersBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map.
+     * @param key the key in writeHeaders map
+     * @param value the associated value in writeHeaders map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putWriteHeaders(String key, String value) {
+      writeHeadersBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putWriteHeaders(Map.Entry<String, ? extends String> entry) {
+      writeHeadersBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map. Nulls are not permitted
+     * @param entries to be added to writeHeaders map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWriteHeaders(Map<String, ? extends String> entries) {
+      writeHeadersBuilder = ImmutableMap.builder();
+      return putAllWriteHeaders(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map. Nulls are not permitted
+     * @param entries to be added to writeHeaders map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllWriteHeaders(Map<String, ? extends String> entries) {
+      writeHeadersBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getCacheReadMode() cacheReadMode}.
+     * @param cacheReadMode value for cacheReadMode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheReadMode(ArtifactCacheBuckConfig.CacheReadMode cacheReadMode) {
+      this.cacheReadMode = Preconditions.checkNotNull(cacheReadMode);
+      initializedBitset |= INITIALIZED_BIT_CACHE_READ_MODE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param element blacklistedWifiSsids element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addBlacklistedWifiSsids(String element) {
+      blacklistedWifiSsidsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param elements array of blacklistedWifiSsids elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addBlacklistedWifiSsids(String... elements) {
+      blacklistedWifiSsidsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param elements iterable of blacklistedWifiSsids elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBlacklistedWifiSsids(Iterable<String> elements) {
+      blacklistedWifiSsidsBuilder = ImmutableSet.builder();
+      return addAllBlacklistedWifiSsids(elements);
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param elements iterable of blacklistedWifiSsids elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllBlacklistedWifiSsids(Iterable<String> elements) {
+      blacklistedWifiSsidsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getErrorMessageFormat() errorMessageFormat}.
+     * @param errorMessageFormat value for errorMessageFormat
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setErrorMessageFormat(String errorMessageFormat) {
+      this.errorMessageFormat = Preconditions.checkNotNull(errorMessageFormat);
+      initializedBitset |= INITIALIZED_BIT_ERROR_MESSAGE_FORMAT;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.artifact_cache.HttpCacheEntry HttpCacheEntry}.
+     * @return immutable instance of HttpCacheEntry
+     */
+    public HttpCacheEntry build() {
+      checkRequiredAttributes();
+      return new HttpCacheEntry(
+              name,
+              url,
+              timeoutSeconds,
+              readHeadersBuilder.build(),
+              writeHeadersBuilder.build(),
+              cacheReadMode,
+              blacklistedWifiSsidsBuilder.build(),
+              errorMessageFormat);
+    }
+
+    private boolean urlIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_URL) != 0;
+    }
+
+    private boolean timeoutSecondsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TIMEOUT_SECONDS) != 0;
+    }
+
+    private boolean cacheReadModeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CACHE_READ_MODE) != 0;
+    }
+
+    private boolean errorMessageFormatIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ERROR_MESSAGE_FORMAT) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!urlIsSet()) {
+        attributes.add("url");
+      }
+      if (!timeoutSecondsIsSet()) {
+        attributes.add("timeoutSeconds");
+      }
+      if (!cacheReadModeIsSet()) {
+        attributes.add("cacheReadMode");
+      }
+      if (!errorMessageFormatIsSet()) {
+        attributes.add("errorMessageFormat");
+      }
+      return "Cannot build HttpCacheEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code StoreWriteResult.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult"})
+@Immutable
+public final class StoreWriteResult
+    extends HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult {
+  private final HashCode artifactContentHashCode;
+  private final long artifactSizeBytes;
+
+  private StoreWriteResult(HashCode artifactContentHashCode, long artifactSizeBytes) {
+    this.artifactContentHashCode = artifactContentHashCode;
+    this.artifactSizeBytes = artifactSizeBytes;
+  }
+
+  /**
+   * @return value of {@code artifactContentHashCode} attribute
+   */
+  @Override
+  public HashCode getArtifactContentHashCode() {
+    return artifactContentHashCode;
+  }
+
+  /**
+   * @return value of {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public long getArtifactSizeBytes() {
+    return artifactSizeBytes;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult#getArtifactContentHashCode() artifactContentHashCode}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for artifactContentHashCode
+   * @return modified copy of the {@code this} object
+   */
+  public final StoreWriteResult withArtifactContentHashCode(HashCode value) {
+    if (this.artifactContentHashCode == value) {
+      return this;
+    }
+    HashCode newValue = Preconditions.checkNotNull(value);
+    return new StoreWriteResult(newValue, this.artifactSizeBytes);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult#getArtifactSizeBytes() artifactSizeBytes}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for artifactSizeBytes
+   * @return modified copy of the {@code this} object
+   */
+  public final StoreWriteResult withArtifactSizeBytes(long value) {
+    if (this.artifactSizeBytes == value) {
+      return this;
+    }
+    long newValue = value;
+    return new StoreWriteResult(this.artifactContentHashCode, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code StoreWriteResult} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof StoreWriteResult && equalTo((StoreWriteResult) another));
+  }
+
+  private boolean equalTo(StoreWriteResult another) {
+    return artifactContentHashCode.equals(another.artifactContentHashCode)
+        && artifactSizeBytes == another.artifactSizeBytes;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code artifactContentHashCode}, {@code artifactSizeBytes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + artifactContentHashCode.hashCode();
+    h = h * 17 + Longs.hashCode(artifactSizeBytes);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code StoreWriteResult{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StoreWriteResult")
+        .add("artifactContentHashCode", artifactContentHashCode)
+        .add("artifactSizeBytes", artifactSizeBytes)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable StoreWriteResult instance
+   */
+  public static StoreWriteResult copyOf(HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult instance) {
+    if (instance instanceof StoreWriteResult) {
+      return (StoreWriteResult) instance;
+    }
+    return StoreWriteResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.artifact_cache.StoreWriteResult StoreWriteResult}.
+   * @return new StoreWriteResult builder
+   */
+  public static StoreWriteResult.Builder builder() {
+    return new StoreWriteResult.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.artifact_cache.StoreWriteResult StoreWriteResult}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_ARTIFACT_CONTENT_HASH_CODE = 0x1L;
+    private static final long INITIALIZED_BIT_ARTIFACT_SIZE_BYTES = 0x2L;
+    private long initializedBitset;
+    private @Nullable HashCode artifactContentHashCode;
+    private long artifactSizeBytes;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult instance) {
+      Preconditions.checkNotNull(instance);
+      setArtifactContentHashCode(instance.getArtifactContentHashCode());
+      setArtifactSizeBytes(instance.getArtifactSizeBytes());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult#getArtifactContentHashCode() artifactContentHashCode}.
+     * @param artifactContentHashCode value for artifactContentHashCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArtifactContentHashCode(HashCode artifactContentHashCode) {
+      this.artifactContentHashCode = Preconditions.checkNotNull(artifactContentHashCode);
+      initializedBitset |= INITIALIZED_BIT_ARTIFACT_CONTENT_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link HttpArtifactCacheBinaryProtocol.AbstractStoreWriteResult#getArtifactSizeBytes() artifactSizeBytes}.
+     * @param artifactSizeBytes value for artifactSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArtifactSizeBytes(long artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes;
+      initializedBitset |= INITIALIZED_BIT_ARTIFACT_SIZE_BYTES;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.artifact_cache.StoreWriteResult StoreWriteResult}.
+     * @return immutable instance of StoreWriteResult
+     */
+    public StoreWriteResult build() {
+      checkRequiredAttributes();
+      return new StoreWriteResult(artifactContentHashCode, artifactSizeBytes);
+    }
+
+    private boolean artifactContentHashCodeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ARTIFACT_CONTENT_HASH_CODE) != 0;
+    }
+
+    private boolean artifactSizeBytesIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ARTIFACT_SIZE_BYTES) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!artifactContentHashCodeIsSet()) {
+        attributes.add("artifactContentHashCode");
+      }
+      if (!artifactSizeBytesIsSet()) {
+        attributes.add("artifactSizeBytes");
+      }
+      return "Cannot build StoreWriteResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
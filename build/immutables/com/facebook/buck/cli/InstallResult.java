@@ -0,0 +1,244 @@
+package com.facebook.buck.cli;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractInstallResult}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code InstallResult.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractInstallResult"})
+@Immutable
+public final class InstallResult implements AbstractInstallResult {
+  private final int exitCode;
+  private final Optional<Long> launchedPid;
+
+  private InstallResult(int exitCode, Optional<Long> launchedPid) {
+    this.exitCode = exitCode;
+    this.launchedPid = launchedPid;
+  }
+
+  /**
+   * @return value of {@code exitCode} attribute
+   */
+  @Override
+  public int getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return value of {@code launchedPid} attribute
+   */
+  @Override
+  public Optional<Long> getLaunchedPid() {
+    return launchedPid;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractInstallResult#getExitCode() exitCode}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for exitCode
+   * @return modified copy of the {@code this} object
+   */
+  public final InstallResult withExitCode(int value) {
+    if (this.exitCode == value) {
+      return this;
+    }
+    int newValue = value;
+    return new InstallResult(newValue, this.launchedPid);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractInstallResult#getLaunchedPid() launchedPid}.
+   * @param value value for launchedPid
+   * @return modified copy of {@code this} object
+   */
+  public final InstallResult withLaunchedPid(long value) {
+    Optional<Long> newValue = Optional.of(value);
+    return new InstallResult(this.exitCode, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractInstallResult#getLaunchedPid() launchedPid}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for launchedPid
+   * @return modified copy of {@code this} object
+   */
+  public final InstallResult withLaunchedPid(Optional<Long> optional) {
+    if (this.launchedPid == optional) {
+      return this;
+    }
+    Optional<Long> newValue = Preconditions.checkNotNull(optional);
+    return new InstallResult(this.exitCode, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code InstallResult} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof InstallResult && equalTo((InstallResult) another));
+  }
+
+  private boolean equalTo(InstallResult another) {
+    return exitCode == another.exitCode
+        && launchedPid.equals(another.launchedPid);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code exitCode}, {@code launchedPid}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + exitCode;
+    h = h * 17 + launchedPid.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code InstallResult{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("InstallResult")
+        .add("exitCode", exitCode)
+        .add("launchedPid", launchedPid)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractInstallResult}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable InstallResult instance
+   */
+  public static InstallResult copyOf(AbstractInstallResult instance) {
+    if (instance instanceof InstallResult) {
+      return (InstallResult) instance;
+    }
+    return InstallResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cli.InstallResult InstallResult}.
+   * @return new InstallResult builder
+   */
+  public static InstallResult.Builder builder() {
+    return new InstallResult.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cli.InstallResult InstallResult}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_EXIT_CODE = 0x1L;
+    private long initializedBitset;
+    private int exitCode;
+    private Optional<Long> launchedPid = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractInstallResult} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractInstallResult instance) {
+      Preconditions.checkNotNull(instance);
+      setExitCode(instance.getExitCode());
+      Optional<Long> launchedPidOptional = instance.getLaunchedPid();
+      if (launchedPidOptional.isPresent()) {
+        setLaunchedPid(launchedPidOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractInstallResult#getExitCode() exitCode}.
+     * @param exitCode value for exitCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExitCode(int exitCode) {
+      this.exitCode = exitCode;
+      initializedBitset |= INITIALIZED_BIT_EXIT_CODE;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractInstallResult#getLaunchedPid() launchedPid}.
+     * @param launchedPid value for launchedPid
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLaunchedPid(long launchedPid) {
+      this.launchedPid = Optional.of(launchedPid);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractInstallResult#getLaunchedPid() launchedPid}.
+     * @param launchedPid value for launchedPid
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLaunchedPid(Optional<Long> launchedPid) {
+      this.launchedPid = Preconditions.checkNotNull(launchedPid);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cli.InstallResult InstallResult}.
+     * @return immutable instance of InstallResult
+     */
+    public InstallResult build() {
+      checkRequiredAttributes();
+      return new InstallResult(exitCode, launchedPid);
+    }
+
+    private boolean exitCodeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_EXIT_CODE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!exitCodeIsSet()) {
+        attributes.add("exitCode");
+      }
+      return "Cannot build InstallResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
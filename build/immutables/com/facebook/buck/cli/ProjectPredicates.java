@@ -0,0 +1,256 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.rules.AssociatedTargetNodePredicate;
+import com.facebook.buck.rules.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractProjectPredicates}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ProjectPredicates.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code ProjectPredicates.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProjectPredicates"})
+@Immutable
+public final class ProjectPredicates extends AbstractProjectPredicates {
+  private final Predicate<TargetNode<?>> projectRootsPredicate;
+  private final AssociatedTargetNodePredicate associatedProjectPredicate;
+
+  private ProjectPredicates(
+      Predicate<TargetNode<?>> projectRootsPredicate,
+      AssociatedTargetNodePredicate associatedProjectPredicate) {
+    this.projectRootsPredicate = Preconditions.checkNotNull(projectRootsPredicate);
+    this.associatedProjectPredicate = Preconditions.checkNotNull(associatedProjectPredicate);
+  }
+
+  private ProjectPredicates(
+      ProjectPredicates original,
+      Predicate<TargetNode<?>> projectRootsPredicate,
+      AssociatedTargetNodePredicate associatedProjectPredicate) {
+    this.projectRootsPredicate = projectRootsPredicate;
+    this.associatedProjectPredicate = associatedProjectPredicate;
+  }
+
+  /**
+   * {@link Predicate} returning nodes that represent roots of the IDE
+   * project.
+   */
+  @Override
+  public Predicate<TargetNode<?>> getProjectRootsPredicate() {
+    return projectRootsPredicate;
+  }
+
+  /**
+   * {@link AssociatedTargetNodePredicate} returning nodes associated
+   * with the IDE project.
+   */
+  @Override
+  public AssociatedTargetNodePredicate getAssociatedProjectPredicate() {
+    return associatedProjectPredicate;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProjectPredicates#getProjectRootsPredicate() projectRootsPredicate}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for projectRootsPredicate
+   * @return modified copy of the {@code this} object
+   */
+  public final ProjectPredicates withProjectRootsPredicate(Predicate<TargetNode<?>> value) {
+    if (this.projectRootsPredicate == value) {
+      return this;
+    }
+    Predicate<TargetNode<?>> newValue = Preconditions.checkNotNull(value);
+    return new ProjectPredicates(this, newValue, this.associatedProjectPredicate);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProjectPredicates#getAssociatedProjectPredicate() associatedProjectPredicate}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for associatedProjectPredicate
+   * @return modified copy of the {@code this} object
+   */
+  public final ProjectPredicates withAssociatedProjectPredicate(AssociatedTargetNodePredicate value) {
+    if (this.associatedProjectPredicate == value) {
+      return this;
+    }
+    AssociatedTargetNodePredicate newValue = Preconditions.checkNotNull(value);
+    return new ProjectPredicates(this, this.projectRootsPredicate, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ProjectPredicates} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ProjectPredicates && equalTo((ProjectPredicates) another));
+  }
+
+  private boolean equalTo(ProjectPredicates another) {
+    return projectRootsPredicate.equals(another.projectRootsPredicate)
+        && associatedProjectPredicate.equals(another.associatedProjectPredicate);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code projectRootsPredicate}, {@code associatedProjectPredicate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + projectRootsPredicate.hashCode();
+    h = h * 17 + associatedProjectPredicate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ProjectPredicates{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProjectPredicates")
+        .add("projectRootsPredicate", projectRootsPredicate)
+        .add("associatedProjectPredicate", associatedProjectPredicate)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code ProjectPredicates} instance.
+   * @param projectRootsPredicate value for {@code projectRootsPredicate}
+   * @param associatedProjectPredicate value for {@code associatedProjectPredicate}
+   * @return immutable ProjectPredicates instance
+   */
+  public static com.facebook.buck.cli.ProjectPredicates of(Predicate<TargetNode<?>> projectRootsPredicate, AssociatedTargetNodePredicate associatedProjectPredicate) {
+    return new ProjectPredicates(projectRootsPredicate, associatedProjectPredicate);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractProjectPredicates}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ProjectPredicates instance
+   */
+  public static ProjectPredicates copyOf(AbstractProjectPredicates instance) {
+    if (instance instanceof ProjectPredicates) {
+      return (ProjectPredicates) instance;
+    }
+    return ProjectPredicates.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cli.ProjectPredicates ProjectPredicates}.
+   * @return new ProjectPredicates builder
+   */
+  public static ProjectPredicates.Builder builder() {
+    return new ProjectPredicates.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cli.ProjectPredicates ProjectPredicates}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_PROJECT_ROOTS_PREDICATE = 0x1L;
+    private static final long INITIALIZED_BIT_ASSOCIATED_PROJECT_PREDICATE = 0x2L;
+    private long initializedBitset;
+    private @Nullable Predicate<TargetNode<?>> projectRootsPredicate;
+    private @Nullable AssociatedTargetNodePredicate associatedProjectPredicate;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractProjectPredicates} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractProjectPredicates instance) {
+      Preconditions.checkNotNull(instance);
+      setProjectRootsPredicate(instance.getProjectRootsPredicate());
+      setAssociatedProjectPredicate(instance.getAssociatedProjectPredicate());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProjectPredicates#getProjectRootsPredicate() projectRootsPredicate}.
+     * @param projectRootsPredicate value for projectRootsPredicate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectRootsPredicate(Predicate<TargetNode<?>> projectRootsPredicate) {
+      this.projectRootsPredicate = Preconditions.checkNotNull(projectRootsPredicate);
+      initializedBitset |= INITIALIZED_BIT_PROJECT_ROOTS_PREDICATE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProjectPredicates#getAssociatedProjectPredicate() associatedProjectPredicate}.
+     * @param associatedProjectPredicate value for associatedProjectPredicate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAssociatedProjectPredicate(AssociatedTargetNodePredicate associatedProjectPredicate) {
+      this.associatedProjectPredicate = Preconditions.checkNotNull(associatedProjectPredicate);
+      initializedBitset |= INITIALIZED_BIT_ASSOCIATED_PROJECT_PREDICATE;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cli.ProjectPredicates ProjectPredicates}.
+     * @return immutable instance of ProjectPredicates
+     */
+    public ProjectPredicates build() {
+      checkRequiredAttributes();
+      return new ProjectPredicates(null, projectRootsPredicate, associatedProjectPredicate);
+    }
+
+    private boolean projectRootsPredicateIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PROJECT_ROOTS_PREDICATE) != 0;
+    }
+
+    private boolean associatedProjectPredicateIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ASSOCIATED_PROJECT_PREDICATE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!projectRootsPredicateIsSet()) {
+        attributes.add("projectRootsPredicate");
+      }
+      if (!associatedProjectPredicateIsSet()) {
+        attributes.add("associatedProjectPredicate");
+      }
+      return "Cannot build ProjectPredicates, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,307 @@
+package com.facebook.buck.cli;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link TargetsCommand.AbstractShowOptions}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ShowOptions.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "TargetsCommand.AbstractShowOptions"})
+@Immutable
+public final class ShowOptions extends TargetsCommand.AbstractShowOptions {
+  private final Optional<String> outputPath;
+  private final Optional<String> ruleKey;
+  private final Optional<String> targetHash;
+
+  private ShowOptions(
+      Optional<String> outputPath,
+      Optional<String> ruleKey,
+      Optional<String> targetHash) {
+    this.outputPath = outputPath;
+    this.ruleKey = ruleKey;
+    this.targetHash = targetHash;
+  }
+
+  /**
+   * @return value of {@code outputPath} attribute
+   */
+  @Override
+  public Optional<String> getOutputPath() {
+    return outputPath;
+  }
+
+  /**
+   * @return value of {@code ruleKey} attribute
+   */
+  @Override
+  public Optional<String> getRuleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return value of {@code targetHash} attribute
+   */
+  @Override
+  public Optional<String> getTargetHash() {
+    return targetHash;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link TargetsCommand.AbstractShowOptions#getOutputPath() outputPath}.
+   * @param value value for outputPath
+   * @return modified copy of {@code this} object
+   */
+  public final ShowOptions withOutputPath(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new ShowOptions(newValue, this.ruleKey, this.targetHash);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link TargetsCommand.AbstractShowOptions#getOutputPath() outputPath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for outputPath
+   * @return modified copy of {@code this} object
+   */
+  public final ShowOptions withOutputPath(Optional<String> optional) {
+    if (this.outputPath == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new ShowOptions(newValue, this.ruleKey, this.targetHash);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link TargetsCommand.AbstractShowOptions#getRuleKey() ruleKey}.
+   * @param value value for ruleKey
+   * @return modified copy of {@code this} object
+   */
+  public final ShowOptions withRuleKey(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new ShowOptions(this.outputPath, newValue, this.targetHash);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link TargetsCommand.AbstractShowOptions#getRuleKey() ruleKey}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for ruleKey
+   * @return modified copy of {@code this} object
+   */
+  public final ShowOptions withRuleKey(Optional<String> optional) {
+    if (this.ruleKey == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new ShowOptions(this.outputPath, newValue, this.targetHash);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link TargetsCommand.AbstractShowOptions#getTargetHash() targetHash}.
+   * @param value value for targetHash
+   * @return modified copy of {@code this} object
+   */
+  public final ShowOptions withTargetHash(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new ShowOptions(this.outputPath, this.ruleKey, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link TargetsCommand.AbstractShowOptions#getTargetHash() targetHash}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for targetHash
+   * @return modified copy of {@code this} object
+   */
+  public final ShowOptions withTargetHash(Optional<String> optional) {
+    if (this.targetHash == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new ShowOptions(this.outputPath, this.ruleKey, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ShowOptions} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ShowOptions && equalTo((ShowOptions) another));
+  }
+
+  private boolean equalTo(ShowOptions another) {
+    return outputPath.equals(another.outputPath)
+        && ruleKey.equals(another.ruleKey)
+        && targetHash.equals(another.targetHash);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code outputPath}, {@code ruleKey}, {@code targetHash}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + outputPath.hashCode();
+    h = h * 17 + ruleKey.hashCode();
+    h = h * 17 + targetHash.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ShowOptions{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ShowOptions")
+        .add("outputPath", outputPath)
+        .add("ruleKey", ruleKey)
+        .add("targetHash", targetHash)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link TargetsCommand.AbstractShowOptions}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ShowOptions instance
+   */
+  public static ShowOptions copyOf(TargetsCommand.AbstractShowOptions instance) {
+    if (instance instanceof ShowOptions) {
+      return (ShowOptions) instance;
+    }
+    return ShowOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cli.ShowOptions ShowOptions}.
+   * @return new ShowOptions builder
+   */
+  public static ShowOptions.Builder builder() {
+    return new ShowOptions.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cli.ShowOptions ShowOptions}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private Optional<String> outputPath = Optional.absent();
+    private Optional<String> ruleKey = Optional.absent();
+    private Optional<String> targetHash = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link TargetsCommand.AbstractShowOptions} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(TargetsCommand.AbstractShowOptions instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<String> outputPathOptional = instance.getOutputPath();
+      if (outputPathOptional.isPresent()) {
+        setOutputPath(outputPathOptional);
+      }
+      Optional<String> ruleKeyOptional = instance.getRuleKey();
+      if (ruleKeyOptional.isPresent()) {
+        setRuleKey(ruleKeyOptional);
+      }
+      Optional<String> targetHashOptional = instance.getTargetHash();
+      if (targetHashOptional.isPresent()) {
+        setTargetHash(targetHashOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link TargetsCommand.AbstractShowOptions#getOutputPath() outputPath}.
+     * @param outputPath value for outputPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOutputPath(String outputPath) {
+      this.outputPath = Optional.of(outputPath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link TargetsCommand.AbstractShowOptions#getOutputPath() outputPath}.
+     * @param outputPath value for outputPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOutputPath(Optional<String> outputPath) {
+      this.outputPath = Preconditions.checkNotNull(outputPath);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link TargetsCommand.AbstractShowOptions#getRuleKey() ruleKey}.
+     * @param ruleKey value for ruleKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleKey(String ruleKey) {
+      this.ruleKey = Optional.of(ruleKey);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link TargetsCommand.AbstractShowOptions#getRuleKey() ruleKey}.
+     * @param ruleKey value for ruleKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleKey(Optional<String> ruleKey) {
+      this.ruleKey = Preconditions.checkNotNull(ruleKey);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link TargetsCommand.AbstractShowOptions#getTargetHash() targetHash}.
+     * @param targetHash value for targetHash
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetHash(String targetHash) {
+      this.targetHash = Optional.of(targetHash);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link TargetsCommand.AbstractShowOptions#getTargetHash() targetHash}.
+     * @param targetHash value for targetHash
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetHash(Optional<String> targetHash) {
+      this.targetHash = Preconditions.checkNotNull(targetHash);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cli.ShowOptions ShowOptions}.
+     * @return immutable instance of ShowOptions
+     */
+    public ShowOptions build() {
+      return new ShowOptions(outputPath, ruleKey, targetHash);
+    }
+  }
+}
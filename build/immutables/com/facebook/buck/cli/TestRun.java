@@ -0,0 +1,404 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.rules.TestRule;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.test.TestResults;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractTestRun}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code TestRun.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code TestRun.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTestRun"})
+@Immutable
+public final class TestRun implements AbstractTestRun {
+  private final TestRule test;
+  private final ImmutableList<Step> steps;
+  private final Callable<TestResults> testResultsCallable;
+  private final TestRule.TestReportingCallback testReportingCallback;
+
+  private TestRun(
+      TestRule test,
+      Iterable<? extends Step> steps,
+      Callable<TestResults> testResultsCallable,
+      TestRule.TestReportingCallback testReportingCallback) {
+    this.test = Preconditions.checkNotNull(test);
+    this.steps = ImmutableList.copyOf(steps);
+    this.testResultsCallable = Preconditions.checkNotNull(testResultsCallable);
+    this.testReportingCallback = Preconditions.checkNotNull(testReportingCallback);
+  }
+
+  private TestRun(
+      TestRun original,
+      TestRule test,
+      ImmutableList<Step> steps,
+      Callable<TestResults> testResultsCallable,
+      TestRule.TestReportingCallback testReportingCallback) {
+    this.test = test;
+    this.steps = steps;
+    this.testResultsCallable = testResultsCallable;
+    this.testReportingCallback = testReportingCallback;
+  }
+
+  /**
+   * @return value of {@code test} attribute
+   */
+  @Override
+  public TestRule getTest() {
+    return test;
+  }
+
+  /**
+   * @return value of {@code steps} attribute
+   */
+  @Override
+  public ImmutableList<Step> getSteps() {
+    return steps;
+  }
+
+  /**
+   * @return value of {@code testResultsCallable} attribute
+   */
+  @Override
+  public Callable<TestResults> getTestResultsCallable() {
+    return testResultsCallable;
+  }
+
+  /**
+   * @return value of {@code testReportingCallback} attribute
+   */
+  @Override
+  public TestRule.TestReportingCallback getTestReportingCallback() {
+    return testReportingCallback;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRun#getTest() test}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for test
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRun withTest(TestRule value) {
+    if (this.test == value) {
+      return this;
+    }
+    TestRule newValue = Preconditions.checkNotNull(value);
+    return new TestRun(this, newValue, this.steps, this.testResultsCallable, this.testReportingCallback);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestRun#getSteps() steps}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestRun withSteps(Step... elements) {
+    ImmutableList<Step> newValue = ImmutableList.copyOf(elements);
+    return new TestRun(this, this.test, newValue, this.testResultsCallable, this.testReportingCallback);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestRun#getSteps() steps}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of steps elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestRun withSteps(Iterable<? extends Step> elements) {
+    if (this.steps == elements) {
+      return this;
+    }
+    ImmutableList<Step> newValue = ImmutableList.copyOf(elements);
+    return new TestRun(this, this.test, newValue, this.testResultsCallable, this.testReportingCallback);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRun#getTestResultsCallable() testResultsCallable}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for testResultsCallable
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRun withTestResultsCallable(Callable<TestResults> value) {
+    if (this.testResultsCallable == value) {
+      return this;
+    }
+    Callable<TestResults> newValue = Preconditions.checkNotNull(value);
+    return new TestRun(this, this.test, this.steps, newValue, this.testReportingCallback);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRun#getTestReportingCallback() testReportingCallback}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for testReportingCallback
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRun withTestReportingCallback(TestRule.TestReportingCallback value) {
+    if (this.testReportingCallback == value) {
+      return this;
+    }
+    TestRule.TestReportingCallback newValue = Preconditions.checkNotNull(value);
+    return new TestRun(this, this.test, this.steps, this.testResultsCallable, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code TestRun} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof TestRun && equalTo((TestRun) another));
+  }
+
+  private boolean equalTo(TestRun another) {
+    return test.equals(another.test)
+        && steps.equals(another.steps)
+        && testResultsCallable.equals(another.testResultsCallable)
+        && testReportingCallback.equals(another.testReportingCallback);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code test}, {@code steps}, {@code testResultsCallable}, {@code testReportingCallback}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + test.hashCode();
+    h = h * 17 + steps.hashCode();
+    h = h * 17 + testResultsCallable.hashCode();
+    h = h * 17 + testReportingCallback.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code TestRun{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestRun")
+        .add("test", test)
+        .add("steps", steps)
+        .add("testResultsCallable", testResultsCallable)
+        .add("testReportingCallback", testReportingCallback)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code TestRun} instance.
+   * @param test value for {@code test}
+   * @param steps value for {@code steps}
+   * @param testResultsCallable value for {@code testResultsCallable}
+   * @param testReportingCallback value for {@code testReportingCallback}
+   * @return immutable TestRun instance
+   */
+  public static com.facebook.buck.cli.TestRun of(TestRule test, List<Step> steps, Callable<TestResults> testResultsCallable, TestRule.TestReportingCallback testReportingCallback) {
+    return of(test, (Iterable<? extends Step>) steps, testResultsCallable, testReportingCallback);
+  }
+
+  /**
+   * Construct new immutable {@code TestRun} instance.
+   * @param test value for {@code test}
+   * @param steps value for {@code steps}
+   * @param testResultsCallable value for {@code testResultsCallable}
+   * @param testReportingCallback value for {@code testReportingCallback}
+   * @return immutable TestRun instance
+   */
+  public static com.facebook.buck.cli.TestRun of(TestRule test, Iterable<? extends Step> steps, Callable<TestResults> testResultsCallable, TestRule.TestReportingCallback testReportingCallback) {
+    return new TestRun(test, steps, testResultsCallable, testReportingCallback);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractTestRun}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable TestRun instance
+   */
+  public static TestRun copyOf(AbstractTestRun instance) {
+    if (instance instanceof TestRun) {
+      return (TestRun) instance;
+    }
+    return TestRun.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cli.TestRun TestRun}.
+   * @return new TestRun builder
+   */
+  public static TestRun.Builder builder() {
+    return new TestRun.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cli.TestRun TestRun}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_TEST = 0x1L;
+    private static final long INITIALIZED_BIT_TEST_RESULTS_CALLABLE = 0x2L;
+    private static final long INITIALIZED_BIT_TEST_REPORTING_CALLBACK = 0x4L;
+    private long initializedBitset;
+    private @Nullable TestRule test;
+    private ImmutableList.Builder<Step> stepsBuilder = ImmutableList.builder();
+    private @Nullable Callable<TestResults> testResultsCallable;
+    private @Nullable TestRule.TestReportingCallback testReportingCallback;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractTestRun} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractTestRun instance) {
+      Preconditions.checkNotNull(instance);
+      setTest(instance.getTest());
+      addAllSteps(instance.getSteps());
+      setTestResultsCallable(instance.getTestResultsCallable());
+      setTestReportingCallback(instance.getTestReportingCallback());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRun#getTest() test}.
+     * @param test value for test
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTest(TestRule test) {
+      this.test = Preconditions.checkNotNull(test);
+      initializedBitset |= INITIALIZED_BIT_TEST;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTestRun#getSteps() steps} list.
+     * @param element steps element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSteps(Step element) {
+      stepsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestRun#getSteps() steps} list.
+     * @param elements array of steps elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSteps(Step... elements) {
+      stepsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestRun#getSteps() steps} list.
+     * @param elements iterable of steps elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSteps(Iterable<? extends Step> elements) {
+      stepsBuilder = ImmutableList.builder();
+      return addAllSteps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestRun#getSteps() steps} list.
+     * @param elements iterable of steps elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllSteps(Iterable<? extends Step> elements) {
+      stepsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRun#getTestResultsCallable() testResultsCallable}.
+     * @param testResultsCallable value for testResultsCallable
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestResultsCallable(Callable<TestResults> testResultsCallable) {
+      this.testResultsCallable = Preconditions.checkNotNull(testResultsCallable);
+      initializedBitset |= INITIALIZED_BIT_TEST_RESULTS_CALLABLE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRun#getTestReportingCallback() testReportingCallback}.
+     * @param testReportingCallback value for testReportingCallback
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestReportingCallback(TestRule.TestReportingCallback testReportingCallback) {
+      this.testReportingCallback = Preconditions.checkNotNull(testReportingCallback);
+      initializedBitset |= INITIALIZED_BIT_TEST_REPORTING_CALLBACK;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cli.TestRun TestRun}.
+     * @return immutable instance of TestRun
+     */
+    public TestRun build() {
+      checkRequiredAttributes();
+      return new TestRun(null, test, stepsBuilder.build(), testResultsCallable, testReportingCallback);
+    }
+
+    private boolean testIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TEST) != 0;
+    }
+
+    private boolean testResultsCallableIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TEST_RESULTS_CALLABLE) != 0;
+    }
+
+    private boolean testReportingCallbackIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TEST_REPORTING_CALLBACK) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!testIsSet()) {
+        attributes.add("test");
+      }
+      if (!testResultsCallableIsSet()) {
+        attributes.add("testResultsCallable");
+      }
+      if (!testReportingCallbackIsSet()) {
+        attributes.add("testReportingCallback");
+      }
+      return "Cannot build TestRun, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package com.facebook.buck.command;
+
+import com.facebook.buck.rules.BuildResult;
+import com.facebook.buck.rules.BuildRule;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Build.AbstractBuildExecutionResult}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code BuildExecutionResult.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Build.AbstractBuildExecutionResult"})
+@Immutable
+public final class BuildExecutionResult extends Build.AbstractBuildExecutionResult {
+  private final ImmutableMap<BuildRule, Optional<BuildResult>> results;
+  private final ImmutableSet<BuildResult> failures;
+
+  private BuildExecutionResult(
+      ImmutableMap<BuildRule, Optional<BuildResult>> results,
+      ImmutableSet<BuildResult> failures) {
+    this.results = results;
+    this.failures = failures;
+  }
+
+  /**
+   * @return Keys are build rules built during this invocation of Buck. Values reflect
+   * the success of each build rule, if it succeeded. ({@link Optional#absent()} represents a
+   * failed build rule.)
+   */
+  @Override
+  public ImmutableMap<BuildRule, Optional<BuildResult>> getResults() {
+    return results;
+  }
+
+  /**
+   * @return value of {@code failures} attribute
+   */
+  @Override
+  public ImmutableSet<BuildResult> getFailures() {
+    return failures;
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link Build.AbstractBuildExecutionResult#getResults() results} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to results map
+   * @return modified copy of {@code this} object
+   */
+  public final BuildExecutionResult withResults(Map<? extends BuildRule, ? extends Optional<BuildResult>> entries) {
+    if (this.results == entries) {
+      return this;
+    }
+    ImmutableMap<BuildRule, Optional<BuildResult>> newValue = ImmutableMap.copyOf(entries);
+    return new BuildExecutionResult(newValue, this.failures);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link Build.AbstractBuildExecutionResult#getFailures() failures}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final BuildExecutionResult withFailures(BuildResult... elements) {
+    ImmutableSet<BuildResult> newValue = ImmutableSet.copyOf(elements);
+    return new BuildExecutionResult(this.results, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link Build.AbstractBuildExecutionResult#getFailures() failures}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of failures elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final BuildExecutionResult withFailures(Iterable<? extends BuildResult> elements) {
+    if (this.failures == elements) {
+      return this;
+    }
+    ImmutableSet<BuildResult> newValue = ImmutableSet.copyOf(elements);
+    return new BuildExecutionResult(this.results, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code BuildExecutionResult} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof BuildExecutionResult && equalTo((BuildExecutionResult) another));
+  }
+
+  private boolean equalTo(BuildExecutionResult another) {
+    return results.equals(another.results)
+        && failures.equals(another.failures);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code results}, {@code failures}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + results.hashCode();
+    h = h * 17 + failures.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code BuildExecutionResult{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildExecutionResult")
+        .add("results", results)
+        .add("failures", failures)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link Build.AbstractBuildExecutionResult}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable BuildExecutionResult instance
+   */
+  public static BuildExecutionResult copyOf(Build.AbstractBuildExecutionResult instance) {
+    if (instance instanceof BuildExecutionResult) {
+      return (BuildExecutionResult) instance;
+    }
+    return BuildExecutionResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.command.BuildExecutionResult BuildExecutionResult}.
+   * @return new BuildExecutionResult builder
+   */
+  public static BuildExecutionResult.Builder builder() {
+    return new BuildExecutionResult.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.command.BuildExecutionResult BuildExecutionResult}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<BuildRule, Optional<BuildResult>> resultsBuilder = ImmutableMap.builder();
+    private ImmutableSet.Builder<BuildResult> failuresBuilder = ImmutableSet.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link Build.AbstractBuildExecutionResult} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(Build.AbstractBuildExecutionResult instance) {
+      Preconditions.checkNotNull(instance);
+      putAllResults(instance.getResults());
+      addAllFailures(instance.getFailures());
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Build.AbstractBuildExecutionResult#getResults() results} map.
+     * @param key the key in results map
+     * @param value the associated value in results map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putResults(BuildRule key, Optional<BuildResult> value) {
+      resultsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Build.AbstractBuildExecutionResult#getResults() results} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putResults(Map.Entry<? extends BuildRule, ? extends Optional<BuildResult>> entry) {
+      resultsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link Build.AbstractBuildExecutionResult#getResults() results} map. Nulls are not permitted
+     * @param entries to be added to results map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResults(Map<? extends BuildRule, ? extends Optional<BuildResult>> entries) {
+      resultsBuilder = ImmutableMap.builder();
+      return putAllResults(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link Build.AbstractBuildExecutionResult#getResults() results} map. Nulls are not permitted
+     * @param entries to be added to results map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllResults(Map<? extends BuildRule, ? extends Optional<BuildResult>> entries) {
+      resultsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link Build.AbstractBuildExecutionResult#getFailures() failures} set.
+     * @param element failures element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFailures(BuildResult element) {
+      failuresBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link Build.AbstractBuildExecutionResult#getFailures() failures} set.
+     * @param elements array of failures elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFailures(BuildResult... elements) {
+      failuresBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link Build.AbstractBuildExecutionResult#getFailures() failures} set.
+     * @param elements iterable of failures elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFailures(Iterable<? extends BuildResult> elements) {
+      failuresBuilder = ImmutableSet.builder();
+      return addAllFailures(elements);
+    }
+
+    /**
+     * Adds elements to {@link Build.AbstractBuildExecutionResult#getFailures() failures} set.
+     * @param elements iterable of failures elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllFailures(Iterable<? extends BuildResult> elements) {
+      failuresBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.command.BuildExecutionResult BuildExecutionResult}.
+     * @return immutable instance of BuildExecutionResult
+     */
+    public BuildExecutionResult build() {
+      return new BuildExecutionResult(resultsBuilder.build(), failuresBuilder.build());
+    }
+  }
+}
@@ -0,0 +1,305 @@
+package com.facebook.buck.counters;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Counter.AbstractCounterInfo}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CounterInfo.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Counter.AbstractCounterInfo"})
+@Immutable
+public final class CounterInfo implements Counter.AbstractCounterInfo {
+  private final String category;
+  private final String name;
+  private final ImmutableMap<String, String> tags;
+
+  private CounterInfo(
+      String category,
+      String name,
+      ImmutableMap<String, String> tags) {
+    this.category = category;
+    this.name = name;
+    this.tags = tags;
+  }
+
+  /**
+   * @return value of {@code category} attribute
+   */
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * @return value of {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return value of {@code tags} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getTags() {
+    return tags;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link Counter.AbstractCounterInfo#getCategory() category}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for category
+   * @return modified copy of the {@code this} object
+   */
+  public final CounterInfo withCategory(String value) {
+    if (this.category == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new CounterInfo(newValue, this.name, this.tags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link Counter.AbstractCounterInfo#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final CounterInfo withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new CounterInfo(this.category, newValue, this.tags);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link Counter.AbstractCounterInfo#getTags() tags} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to tags map
+   * @return modified copy of {@code this} object
+   */
+  public final CounterInfo withTags(Map<String, ? extends String> entries) {
+    if (this.tags == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new CounterInfo(this.category, this.name, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CounterInfo} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CounterInfo && equalTo((CounterInfo) another));
+  }
+
+  private boolean equalTo(CounterInfo another) {
+    return category.equals(another.category)
+        && name.equals(another.name)
+        && tags.equals(another.tags);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code category}, {@code name}, {@code tags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + category.hashCode();
+    h = h * 17 + name.hashCode();
+    h = h * 17 + tags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CounterInfo{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CounterInfo")
+        .add("category", category)
+        .add("name", name)
+        .add("tags", tags)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link Counter.AbstractCounterInfo}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CounterInfo instance
+   */
+  public static CounterInfo copyOf(Counter.AbstractCounterInfo instance) {
+    if (instance instanceof CounterInfo) {
+      return (CounterInfo) instance;
+    }
+    return CounterInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.counters.CounterInfo CounterInfo}.
+   * @return new CounterInfo builder
+   */
+  public static CounterInfo.Builder builder() {
+    return new CounterInfo.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.counters.CounterInfo CounterInfo}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_CATEGORY = 0x1L;
+    private static final long INITIALIZED_BIT_NAME = 0x2L;
+    private long initializedBitset;
+    private @Nullable String category;
+    private @Nullable String name;
+    private ImmutableMap.Builder<String, String> tagsBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link Counter.AbstractCounterInfo} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(Counter.AbstractCounterInfo instance) {
+      Preconditions.checkNotNull(instance);
+      setCategory(instance.getCategory());
+      setName(instance.getName());
+      putAllTags(instance.getTags());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link Counter.AbstractCounterInfo#getCategory() category}.
+     * @param category value for category
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCategory(String category) {
+      this.category = Preconditions.checkNotNull(category);
+      initializedBitset |= INITIALIZED_BIT_CATEGORY;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link Counter.AbstractCounterInfo#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Counter.AbstractCounterInfo#getTags() tags} map.
+     * @param key the key in tags map
+     * @param value the associated value in tags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putTags(String key, String value) {
+      tagsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Counter.AbstractCounterInfo#getTags() tags} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putTags(Map.Entry<String, ? extends String> entry) {
+      tagsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link Counter.AbstractCounterInfo#getTags() tags} map. Nulls are not permitted
+     * @param entries to be added to tags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTags(Map<String, ? extends String> entries) {
+      tagsBuilder = ImmutableMap.builder();
+      return putAllTags(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link Counter.AbstractCounterInfo#getTags() tags} map. Nulls are not permitted
+     * @param entries to be added to tags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllTags(Map<String, ? extends String> entries) {
+      tagsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.counters.CounterInfo CounterInfo}.
+     * @return immutable instance of CounterInfo
+     */
+    public CounterInfo build() {
+      checkRequiredAttributes();
+      return new CounterInfo(category, name, tagsBuilder.build());
+    }
+
+    private boolean categoryIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CATEGORY) != 0;
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!categoryIsSet()) {
+        attributes.add("category");
+      }
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      return "Cannot build CounterInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,328 @@
+package com.facebook.buck.counters;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCounterSnapshot}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CounterSnapshot.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCounterSnapshot"})
+@Immutable
+public final class CounterSnapshot extends AbstractCounterSnapshot {
+  private final String category;
+  private final ImmutableMap<String, String> tags;
+  private final ImmutableMap<String, Long> values;
+
+  private CounterSnapshot(
+      String category,
+      ImmutableMap<String, String> tags,
+      ImmutableMap<String, Long> values) {
+    this.category = category;
+    this.tags = tags;
+    this.values = values;
+  }
+
+  /**
+   * @return value of {@code category} attribute
+   */
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * @return value of {@code tags} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getTags() {
+    return tags;
+  }
+
+  /**
+   * @return value of {@code values} attribute
+   */
+  @Override
+  public ImmutableMap<String, Long> getValues() {
+    return values;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCounterSnapshot#getCategory() category}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for category
+   * @return modified copy of the {@code this} object
+   */
+  public final CounterSnapshot withCategory(String value) {
+    if (this.category == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new CounterSnapshot(newValue, this.tags, this.values);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractCounterSnapshot#getTags() tags} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to tags map
+   * @return modified copy of {@code this} object
+   */
+  public final CounterSnapshot withTags(Map<String, ? extends String> entries) {
+    if (this.tags == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new CounterSnapshot(this.category, newValue, this.values);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractCounterSnapshot#getValues() values} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to values map
+   * @return modified copy of {@code this} object
+   */
+  public final CounterSnapshot withValues(Map<String, ? extends Long> entries) {
+    if (this.values == entries) {
+      return this;
+    }
+    ImmutableMap<String, Long> newValue = ImmutableMap.copyOf(entries);
+    return new CounterSnapshot(this.category, this.tags, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CounterSnapshot} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CounterSnapshot && equalTo((CounterSnapshot) another));
+  }
+
+  private boolean equalTo(CounterSnapshot another) {
+    return category.equals(another.category)
+        && tags.equals(another.tags)
+        && values.equals(another.values);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code category}, {@code tags}, {@code values}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + category.hashCode();
+    h = h * 17 + tags.hashCode();
+    h = h * 17 + values.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CounterSnapshot{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CounterSnapshot")
+        .add("category", category)
+        .add("tags", tags)
+        .add("values", values)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCounterSnapshot}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CounterSnapshot instance
+   */
+  public static CounterSnapshot copyOf(AbstractCounterSnapshot instance) {
+    if (instance instanceof CounterSnapshot) {
+      return (CounterSnapshot) instance;
+    }
+    return CounterSnapshot.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.counters.CounterSnapshot CounterSnapshot}.
+   * @return new CounterSnapshot builder
+   */
+  public static CounterSnapshot.Builder builder() {
+    return new CounterSnapshot.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.counters.CounterSnapshot CounterSnapshot}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_CATEGORY = 0x1L;
+    private long initializedBitset;
+    private @Nullable String category;
+    private ImmutableMap.Builder<String, String> tagsBuilder = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, Long> valuesBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCounterSnapshot} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCounterSnapshot instance) {
+      Preconditions.checkNotNull(instance);
+      setCategory(instance.getCategory());
+      putAllTags(instance.getTags());
+      putAllValues(instance.getValues());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCounterSnapshot#getCategory() category}.
+     * @param category value for category
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCategory(String category) {
+      this.category = Preconditions.checkNotNull(category);
+      initializedBitset |= INITIALIZED_BIT_CATEGORY;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCounterSnapshot#getTags() tags} map.
+     * @param key the key in tags map
+     * @param value the associated value in tags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putTags(String key, String value) {
+      tagsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCounterSnapshot#getTags() tags} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putTags(Map.Entry<String, ? extends String> entry) {
+      tagsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractCounterSnapshot#getTags() tags} map. Nulls are not permitted
+     * @param entries to be added to tags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTags(Map<String, ? extends String> entries) {
+      tagsBuilder = ImmutableMap.builder();
+      return putAllTags(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractCounterSnapshot#getTags() tags} map. Nulls are not permitted
+     * @param entries to be added to tags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllTags(Map<String, ? extends String> entries) {
+      tagsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCounterSnapshot#getValues() values} map.
+     * @param key the key in values map
+     * @param value the associated value in values map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putValues(String key, long value) {
+      valuesBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCounterSnapshot#getValues() values} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putValues(Map.Entry<String, ? extends Long> entry) {
+      valuesBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractCounterSnapshot#getValues() values} map. Nulls are not permitted
+     * @param entries to be added to values map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setValues(Map<String, ? extends Long> entries) {
+      valuesBuilder = ImmutableMap.builder();
+      return putAllValues(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractCounterSnapshot#getValues() values} map. Nulls are not permitted
+     * @param entries to be added to values map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllValues(Map<String, ? extends Long> entries) {
+      valuesBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.counters.CounterSnapshot CounterSnapshot}.
+     * @return immutable instance of CounterSnapshot
+     */
+    public CounterSnapshot build() {
+      checkRequiredAttributes();
+      return new CounterSnapshot(category, tagsBuilder.build(), valuesBuilder.build());
+    }
+
+    private boolean categoryIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CATEGORY) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!categoryIsSet()) {
+        attributes.add("category");
+      }
+      return "Cannot build CounterSnapshot, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,358 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxCompilationDatabaseEntry}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CxxCompilationDatabaseEntry.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code CxxCompilationDatabaseEntry.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxCompilationDatabaseEntry"})
+@Immutable
+public final class CxxCompilationDatabaseEntry
+    extends AbstractCxxCompilationDatabaseEntry {
+  private final String directory;
+  private final String file;
+  private final ImmutableList<String> arguments;
+  private final String command;
+
+  private CxxCompilationDatabaseEntry(String directory, String file, Iterable<String> arguments) {
+    this.directory = Preconditions.checkNotNull(directory);
+    this.file = Preconditions.checkNotNull(file);
+    this.arguments = ImmutableList.copyOf(arguments);
+    this.command = Preconditions.checkNotNull(super.getCommand());
+  }
+
+  private CxxCompilationDatabaseEntry(
+      CxxCompilationDatabaseEntry original,
+      String directory,
+      String file,
+      ImmutableList<String> arguments) {
+    this.directory = directory;
+    this.file = file;
+    this.arguments = arguments;
+    this.command = Preconditions.checkNotNull(super.getCommand());
+  }
+
+  /**
+   * @return value of {@code directory} attribute
+   */
+  @Override
+  public String getDirectory() {
+    return directory;
+  }
+
+  /**
+   * @return value of {@code file} attribute
+   */
+  @Override
+  public String getFile() {
+    return file;
+  }
+
+  /**
+   * @return value of {@code arguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getArguments() {
+    return arguments;
+  }
+
+  /**
+   * @return computed at construction value of {@code command} attribute
+   */
+  @Override
+  public String getCommand() {
+    return command;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxCompilationDatabaseEntry#getDirectory() directory}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for directory
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxCompilationDatabaseEntry withDirectory(String value) {
+    if (this.directory == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new CxxCompilationDatabaseEntry(this, newValue, this.file, this.arguments);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxCompilationDatabaseEntry#getFile() file}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for file
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxCompilationDatabaseEntry withFile(String value) {
+    if (this.file == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new CxxCompilationDatabaseEntry(this, this.directory, newValue, this.arguments);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxCompilationDatabaseEntry withArguments(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxCompilationDatabaseEntry(this, this.directory, this.file, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of arguments elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxCompilationDatabaseEntry withArguments(Iterable<String> elements) {
+    if (this.arguments == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxCompilationDatabaseEntry(this, this.directory, this.file, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CxxCompilationDatabaseEntry} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CxxCompilationDatabaseEntry && equalTo((CxxCompilationDatabaseEntry) another));
+  }
+
+  private boolean equalTo(CxxCompilationDatabaseEntry another) {
+    return directory.equals(another.directory)
+        && file.equals(another.file)
+        && arguments.equals(another.arguments)
+        && command.equals(another.command);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code directory}, {@code file}, {@code arguments}, {@code command}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + directory.hashCode();
+    h = h * 17 + file.hashCode();
+    h = h * 17 + arguments.hashCode();
+    h = h * 17 + command.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CxxCompilationDatabaseEntry{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxCompilationDatabaseEntry")
+        .add("directory", directory)
+        .add("file", file)
+        .add("arguments", arguments)
+        .add("command", command)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code CxxCompilationDatabaseEntry} instance.
+   * @param directory value for {@code directory}
+   * @param file value for {@code file}
+   * @param arguments value for {@code arguments}
+   * @return immutable CxxCompilationDatabaseEntry instance
+   */
+  public static com.facebook.buck.cxx.CxxCompilationDatabaseEntry of(String directory, String file, ImmutableList<String> arguments) {
+    return of(directory, file, (Iterable<String>) arguments);
+  }
+
+  /**
+   * Construct new immutable {@code CxxCompilationDatabaseEntry} instance.
+   * @param directory value for {@code directory}
+   * @param file value for {@code file}
+   * @param arguments value for {@code arguments}
+   * @return immutable CxxCompilationDatabaseEntry instance
+   */
+  public static com.facebook.buck.cxx.CxxCompilationDatabaseEntry of(String directory, String file, Iterable<String> arguments) {
+    return new CxxCompilationDatabaseEntry(directory, file, arguments);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCxxCompilationDatabaseEntry}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CxxCompilationDatabaseEntry instance
+   */
+  public static CxxCompilationDatabaseEntry copyOf(AbstractCxxCompilationDatabaseEntry instance) {
+    if (instance instanceof CxxCompilationDatabaseEntry) {
+      return (CxxCompilationDatabaseEntry) instance;
+    }
+    return CxxCompilationDatabaseEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.CxxCompilationDatabaseEntry CxxCompilationDatabaseEntry}.
+   * @return new CxxCompilationDatabaseEntry builder
+   */
+  public static CxxCompilationDatabaseEntry.Builder builder() {
+    return new CxxCompilationDatabaseEntry.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.CxxCompilationDatabaseEntry CxxCompilationDatabaseEntry}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_DIRECTORY = 0x1L;
+    private static final long INITIALIZED_BIT_FILE = 0x2L;
+    private long initializedBitset;
+    private @Nullable String directory;
+    private @Nullable String file;
+    private ImmutableList.Builder<String> argumentsBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCxxCompilationDatabaseEntry} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCxxCompilationDatabaseEntry instance) {
+      Preconditions.checkNotNull(instance);
+      setDirectory(instance.getDirectory());
+      setFile(instance.getFile());
+      addAllArguments(instance.getArguments());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxCompilationDatabaseEntry#getDirectory() directory}.
+     * @param directory value for directory
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDirectory(String directory) {
+      this.directory = Preconditions.checkNotNull(directory);
+      initializedBitset |= INITIALIZED_BIT_DIRECTORY;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxCompilationDatabaseEntry#getFile() file}.
+     * @param file value for file
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFile(String file) {
+      this.file = Preconditions.checkNotNull(file);
+      initializedBitset |= INITIALIZED_BIT_FILE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments} list.
+     * @param element arguments element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addArguments(String element) {
+      argumentsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments} list.
+     * @param elements array of arguments elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addArguments(String... elements) {
+      argumentsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments} list.
+     * @param elements iterable of arguments elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArguments(Iterable<String> elements) {
+      argumentsBuilder = ImmutableList.builder();
+      return addAllArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments} list.
+     * @param elements iterable of arguments elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllArguments(Iterable<String> elements) {
+      argumentsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.CxxCompilationDatabaseEntry CxxCompilationDatabaseEntry}.
+     * @return immutable instance of CxxCompilationDatabaseEntry
+     */
+    public CxxCompilationDatabaseEntry build() {
+      checkRequiredAttributes();
+      return new CxxCompilationDatabaseEntry(null, directory, file, argumentsBuilder.build());
+    }
+
+    private boolean directoryIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_DIRECTORY) != 0;
+    }
+
+    private boolean fileIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FILE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!directoryIsSet()) {
+        attributes.add("directory");
+      }
+      if (!fileIsSet()) {
+        attributes.add("file");
+      }
+      return "Cannot build CxxCompilationDatabaseEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,285 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxHeaderSourceSpec}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CxxHeaderSourceSpec.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code CxxHeaderSourceSpec.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxHeaderSourceSpec"})
+@Immutable
+public final class CxxHeaderSourceSpec implements AbstractCxxHeaderSourceSpec {
+  private final ImmutableMap<Path, SourcePath> cxxHeaders;
+  private final ImmutableMap<String, CxxSource> cxxSources;
+
+  private CxxHeaderSourceSpec(
+      Map<? extends Path, ? extends SourcePath> cxxHeaders,
+      Map<String, ? extends CxxSource> cxxSources) {
+    this.cxxHeaders = ImmutableMap.copyOf(cxxHeaders);
+    this.cxxSources = ImmutableMap.copyOf(cxxSources);
+  }
+
+  private CxxHeaderSourceSpec(
+      CxxHeaderSourceSpec original,
+      ImmutableMap<Path, SourcePath> cxxHeaders,
+      ImmutableMap<String, CxxSource> cxxSources) {
+    this.cxxHeaders = cxxHeaders;
+    this.cxxSources = cxxSources;
+  }
+
+  /**
+   * @return value of {@code cxxHeaders} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getCxxHeaders() {
+    return cxxHeaders;
+  }
+
+  /**
+   * @return value of {@code cxxSources} attribute
+   */
+  @Override
+  public ImmutableMap<String, CxxSource> getCxxSources() {
+    return cxxSources;
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to cxxHeaders map
+   * @return modified copy of {@code this} object
+   */
+  public final CxxHeaderSourceSpec withCxxHeaders(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.cxxHeaders == entries) {
+      return this;
+    }
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new CxxHeaderSourceSpec(this, newValue, this.cxxSources);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to cxxSources map
+   * @return modified copy of {@code this} object
+   */
+  public final CxxHeaderSourceSpec withCxxSources(Map<String, ? extends CxxSource> entries) {
+    if (this.cxxSources == entries) {
+      return this;
+    }
+    ImmutableMap<String, CxxSource> newValue = ImmutableMap.copyOf(entries);
+    return new CxxHeaderSourceSpec(this, this.cxxHeaders, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CxxHeaderSourceSpec} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CxxHeaderSourceSpec && equalTo((CxxHeaderSourceSpec) another));
+  }
+
+  private boolean equalTo(CxxHeaderSourceSpec another) {
+    return cxxHeaders.equals(another.cxxHeaders)
+        && cxxSources.equals(another.cxxSources);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code cxxHeaders}, {@code cxxSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cxxHeaders.hashCode();
+    h = h * 17 + cxxSources.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CxxHeaderSourceSpec{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxHeaderSourceSpec")
+        .add("cxxHeaders", cxxHeaders)
+        .add("cxxSources", cxxSources)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code CxxHeaderSourceSpec} instance.
+   * @param cxxHeaders value for {@code cxxHeaders}
+   * @param cxxSources value for {@code cxxSources}
+   * @return immutable CxxHeaderSourceSpec instance
+   */
+  public static com.facebook.buck.cxx.CxxHeaderSourceSpec of(Map<? extends Path, ? extends SourcePath> cxxHeaders, Map<String, ? extends CxxSource> cxxSources) {
+    return new CxxHeaderSourceSpec(cxxHeaders, cxxSources);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCxxHeaderSourceSpec}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CxxHeaderSourceSpec instance
+   */
+  public static CxxHeaderSourceSpec copyOf(AbstractCxxHeaderSourceSpec instance) {
+    if (instance instanceof CxxHeaderSourceSpec) {
+      return (CxxHeaderSourceSpec) instance;
+    }
+    return CxxHeaderSourceSpec.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.CxxHeaderSourceSpec CxxHeaderSourceSpec}.
+   * @return new CxxHeaderSourceSpec builder
+   */
+  public static CxxHeaderSourceSpec.Builder builder() {
+    return new CxxHeaderSourceSpec.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.CxxHeaderSourceSpec CxxHeaderSourceSpec}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<Path, SourcePath> cxxHeadersBuilder = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, CxxSource> cxxSourcesBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCxxHeaderSourceSpec} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCxxHeaderSourceSpec instance) {
+      Preconditions.checkNotNull(instance);
+      putAllCxxHeaders(instance.getCxxHeaders());
+      putAllCxxSources(instance.getCxxSources());
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map.
+     * @param key the key in cxxHeaders map
+     * @param value the associated value in cxxHeaders map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putCxxHeaders(Path key, SourcePath value) {
+      cxxHeadersBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putCxxHeaders(Map.Entry<? extends Path, ? extends SourcePath> entry) {
+      cxxHeadersBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map. Nulls are not permitted
+     * @param entries to be added to cxxHeaders map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxHeaders(Map<? extends Path, ? extends SourcePath> entries) {
+      cxxHeadersBuilder = ImmutableMap.builder();
+      return putAllCxxHeaders(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map. Nulls are not permitted
+     * @param entries to be added to cxxHeaders map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllCxxHeaders(Map<? extends Path, ? extends SourcePath> entries) {
+      cxxHeadersBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map.
+     * @param key the key in cxxSources map
+     * @param value the associated value in cxxSources map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putCxxSources(String key, CxxSource value) {
+      cxxSourcesBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putCxxSources(Map.Entry<String, ? extends CxxSource> entry) {
+      cxxSourcesBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map. Nulls are not permitted
+     * @param entries to be added to cxxSources map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxSources(Map<String, ? extends CxxSource> entries) {
+      cxxSourcesBuilder = ImmutableMap.builder();
+      return putAllCxxSources(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map. Nulls are not permitted
+     * @param entries to be added to cxxSources map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllCxxSources(Map<String, ? extends CxxSource> entries) {
+      cxxSourcesBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.CxxHeaderSourceSpec CxxHeaderSourceSpec}.
+     * @return immutable instance of CxxHeaderSourceSpec
+     */
+    public CxxHeaderSourceSpec build() {
+      return new CxxHeaderSourceSpec(null, cxxHeadersBuilder.build(), cxxSourcesBuilder.build());
+    }
+  }
+}
@@ -0,0 +1,267 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxHeaders}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CxxHeaders.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxHeaders"})
+@Immutable
+public final class CxxHeaders extends AbstractCxxHeaders {
+  private final ImmutableMap<Path, SourcePath> nameToPathMap;
+  private final ImmutableMap<Path, SourcePath> fullNameToPathMap;
+
+  private CxxHeaders(
+      ImmutableMap<Path, SourcePath> nameToPathMap,
+      ImmutableMap<Path, SourcePath> fullNameToPathMap) {
+    this.nameToPathMap = nameToPathMap;
+    this.fullNameToPathMap = fullNameToPathMap;
+  }
+
+  /**
+   * Maps the name of the header (e.g. the path used to include it in a C/C++ source) to the
+   * real location of the header.
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getNameToPathMap() {
+    return nameToPathMap;
+  }
+
+  /**
+   * Maps the full path of the header (e.g. the path to the header that appears in error messages)
+   * to the real location of the header.
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getFullNameToPathMap() {
+    return fullNameToPathMap;
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractCxxHeaders#getNameToPathMap() nameToPathMap} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to nameToPathMap map
+   * @return modified copy of {@code this} object
+   */
+  public final CxxHeaders withNameToPathMap(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.nameToPathMap == entries) {
+      return this;
+    }
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new CxxHeaders(newValue, this.fullNameToPathMap);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractCxxHeaders#getFullNameToPathMap() fullNameToPathMap} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to fullNameToPathMap map
+   * @return modified copy of {@code this} object
+   */
+  public final CxxHeaders withFullNameToPathMap(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.fullNameToPathMap == entries) {
+      return this;
+    }
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new CxxHeaders(this.nameToPathMap, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CxxHeaders} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CxxHeaders && equalTo((CxxHeaders) another));
+  }
+
+  private boolean equalTo(CxxHeaders another) {
+    return nameToPathMap.equals(another.nameToPathMap)
+        && fullNameToPathMap.equals(another.fullNameToPathMap);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code nameToPathMap}, {@code fullNameToPathMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + nameToPathMap.hashCode();
+    h = h * 17 + fullNameToPathMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CxxHeaders{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxHeaders")
+        .add("nameToPathMap", nameToPathMap)
+        .add("fullNameToPathMap", fullNameToPathMap)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCxxHeaders}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CxxHeaders instance
+   */
+  public static CxxHeaders copyOf(AbstractCxxHeaders instance) {
+    if (instance instanceof CxxHeaders) {
+      return (CxxHeaders) instance;
+    }
+    return CxxHeaders.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.CxxHeaders CxxHeaders}.
+   * @return new CxxHeaders builder
+   */
+  public static CxxHeaders.Builder builder() {
+    return new CxxHeaders.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.CxxHeaders CxxHeaders}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<Path, SourcePath> nameToPathMapBuilder = ImmutableMap.builder();
+    private ImmutableMap.Builder<Path, SourcePath> fullNameToPathMapBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCxxHeaders} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCxxHeaders instance) {
+      Preconditions.checkNotNull(instance);
+      putAllNameToPathMap(instance.getNameToPathMap());
+      putAllFullNameToPathMap(instance.getFullNameToPathMap());
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxHeaders#getNameToPathMap() nameToPathMap} map.
+     * @param key the key in nameToPathMap map
+     * @param value the associated value in nameToPathMap map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putNameToPathMap(Path key, SourcePath value) {
+      nameToPathMapBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxHeaders#getNameToPathMap() nameToPathMap} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putNameToPathMap(Map.Entry<? extends Path, ? extends SourcePath> entry) {
+      nameToPathMapBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractCxxHeaders#getNameToPathMap() nameToPathMap} map. Nulls are not permitted
+     * @param entries to be added to nameToPathMap map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNameToPathMap(Map<? extends Path, ? extends SourcePath> entries) {
+      nameToPathMapBuilder = ImmutableMap.builder();
+      return putAllNameToPathMap(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractCxxHeaders#getNameToPathMap() nameToPathMap} map. Nulls are not permitted
+     * @param entries to be added to nameToPathMap map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllNameToPathMap(Map<? extends Path, ? extends SourcePath> entries) {
+      nameToPathMapBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxHeaders#getFullNameToPathMap() fullNameToPathMap} map.
+     * @param key the key in fullNameToPathMap map
+     * @param value the associated value in fullNameToPathMap map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putFullNameToPathMap(Path key, SourcePath value) {
+      fullNameToPathMapBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxHeaders#getFullNameToPathMap() fullNameToPathMap} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putFullNameToPathMap(Map.Entry<? extends Path, ? extends SourcePath> entry) {
+      fullNameToPathMapBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractCxxHeaders#getFullNameToPathMap() fullNameToPathMap} map. Nulls are not permitted
+     * @param entries to be added to fullNameToPathMap map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFullNameToPathMap(Map<? extends Path, ? extends SourcePath> entries) {
+      fullNameToPathMapBuilder = ImmutableMap.builder();
+      return putAllFullNameToPathMap(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractCxxHeaders#getFullNameToPathMap() fullNameToPathMap} map. Nulls are not permitted
+     * @param entries to be added to fullNameToPathMap map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllFullNameToPathMap(Map<? extends Path, ? extends SourcePath> entries) {
+      fullNameToPathMapBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.CxxHeaders CxxHeaders}.
+     * @return immutable instance of CxxHeaders
+     */
+    public CxxHeaders build() {
+      return new CxxHeaders(nameToPathMapBuilder.build(), fullNameToPathMapBuilder.build());
+    }
+  }
+}
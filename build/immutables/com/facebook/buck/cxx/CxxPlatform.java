@@ -0,0 +1,2869 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.rules.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxPlatform}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CxxPlatform.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxPlatform"})
+@Immutable
+public final class CxxPlatform implements AbstractCxxPlatform {
+  private final Flavor flavor;
+  private final Tool as;
+  private final ImmutableList<String> asflags;
+  private final Preprocessor aspp;
+  private final ImmutableList<String> asppflags;
+  private final Compiler cc;
+  private final ImmutableList<String> cflags;
+  private final Compiler cxx;
+  private final ImmutableList<String> cxxflags;
+  private final Preprocessor cpp;
+  private final ImmutableList<String> cppflags;
+  private final Preprocessor cxxpp;
+  private final ImmutableList<String> cxxppflags;
+  private final Linker ld;
+  private final ImmutableList<String> ldflags;
+  private final ImmutableMultimap<Linker.LinkableDepType, String> runtimeLdflags;
+  private final Tool strip;
+  private final ImmutableList<String> stripFlags;
+  private final Archiver ar;
+  private final ImmutableList<String> arflags;
+  private final Tool ranlib;
+  private final ImmutableList<String> ranlibflags;
+  private final SymbolNameTool symbolNameTool;
+  private final String sharedLibraryExtension;
+  private final String sharedLibraryVersionedExtensionFormat;
+  private final DebugPathSanitizer debugPathSanitizer;
+  private final ImmutableMap<String, String> flagMacros;
+
+  private CxxPlatform(
+      Flavor flavor,
+      Tool as,
+      ImmutableList<String> asflags,
+      Preprocessor aspp,
+      ImmutableList<String> asppflags,
+      Compiler cc,
+      ImmutableList<String> cflags,
+      Compiler cxx,
+      ImmutableList<String> cxxflags,
+      Preprocessor cpp,
+      ImmutableList<String> cppflags,
+      Preprocessor cxxpp,
+      ImmutableList<String> cxxppflags,
+      Linker ld,
+      ImmutableList<String> ldflags,
+      ImmutableMultimap<Linker.LinkableDepType, String> runtimeLdflags,
+      Tool strip,
+      ImmutableList<String> stripFlags,
+      Archiver ar,
+      ImmutableList<String> arflags,
+      Tool ranlib,
+      ImmutableList<String> ranlibflags,
+      SymbolNameTool symbolNameTool,
+      String sharedLibraryExtension,
+      String sharedLibraryVersionedExtensionFormat,
+      DebugPathSanitizer debugPathSanitizer,
+      ImmutableMap<String, String> flagMacros) {
+    this.flavor = flavor;
+    this.as = as;
+    this.asflags = asflags;
+    this.aspp = aspp;
+    this.asppflags = asppflags;
+    this.cc = cc;
+    this.cflags = cflags;
+    this.cxx = cxx;
+    this.cxxflags = cxxflags;
+    this.cpp = cpp;
+    this.cppflags = cppflags;
+    this.cxxpp = cxxpp;
+    this.cxxppflags = cxxppflags;
+    this.ld = ld;
+    this.ldflags = ldflags;
+    this.runtimeLdflags = runtimeLdflags;
+    this.strip = strip;
+    this.stripFlags = stripFlags;
+    this.ar = ar;
+    this.arflags = arflags;
+    this.ranlib = ranlib;
+    this.ranlibflags = ranlibflags;
+    this.symbolNameTool = symbolNameTool;
+    this.sharedLibraryExtension = sharedLibraryExtension;
+    this.sharedLibraryVersionedExtensionFormat = sharedLibraryVersionedExtensionFormat;
+    this.debugPathSanitizer = debugPathSanitizer;
+    this.flagMacros = flagMacros;
+  }
+
+  /**
+   * @return value of {@code flavor} attribute
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   * @return value of {@code as} attribute
+   */
+  @Override
+  public Tool getAs() {
+    return as;
+  }
+
+  /**
+   * @return value of {@code asflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsflags() {
+    return asflags;
+  }
+
+  /**
+   * @return value of {@code aspp} attribute
+   */
+  @Override
+  public Preprocessor getAspp() {
+    return aspp;
+  }
+
+  /**
+   * @return value of {@code asppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsppflags() {
+    return asppflags;
+  }
+
+  /**
+   * @return value of {@code cc} attribute
+   */
+  @Override
+  public Compiler getCc() {
+    return cc;
+  }
+
+  /**
+   * @return value of {@code cflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCflags() {
+    return cflags;
+  }
+
+  /**
+   * @return value of {@code cxx} attribute
+   */
+  @Override
+  public Compiler getCxx() {
+    return cxx;
+  }
+
+  /**
+   * @return value of {@code cxxflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCxxflags() {
+    return cxxflags;
+  }
+
+  /**
+   * @return value of {@code cpp} attribute
+   */
+  @Override
+  public Preprocessor getCpp() {
+    return cpp;
+  }
+
+  /**
+   * @return value of {@code cppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCppflags() {
+    return cppflags;
+  }
+
+  /**
+   * @return value of {@code cxxpp} attribute
+   */
+  @Override
+  public Preprocessor getCxxpp() {
+    return cxxpp;
+  }
+
+  /**
+   * @return value of {@code cxxppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCxxppflags() {
+    return cxxppflags;
+  }
+
+  /**
+   * @return value of {@code ld} attribute
+   */
+  @Override
+  public Linker getLd() {
+    return ld;
+  }
+
+  /**
+   * @return value of {@code ldflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLdflags() {
+    return ldflags;
+  }
+
+  /**
+   * @return value of {@code runtimeLdflags} attribute
+   */
+  @Override
+  public ImmutableMultimap<Linker.LinkableDepType, String> getRuntimeLdflags() {
+    return runtimeLdflags;
+  }
+
+  /**
+   * @return value of {@code strip} attribute
+   */
+  @Override
+  public Tool getStrip() {
+    return strip;
+  }
+
+  /**
+   * @return value of {@code stripFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getStripFlags() {
+    return stripFlags;
+  }
+
+  /**
+   * @return value of {@code ar} attribute
+   */
+  @Override
+  public Archiver getAr() {
+    return ar;
+  }
+
+  /**
+   * @return value of {@code arflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getArflags() {
+    return arflags;
+  }
+
+  /**
+   * @return value of {@code ranlib} attribute
+   */
+  @Override
+  public Tool getRanlib() {
+    return ranlib;
+  }
+
+  /**
+   * @return value of {@code ranlibflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getRanlibflags() {
+    return ranlibflags;
+  }
+
+  /**
+   * @return value of {@code symbolNameTool} attribute
+   */
+  @Override
+  public SymbolNameTool getSymbolNameTool() {
+    return symbolNameTool;
+  }
+
+  /**
+   * @return value of {@code sharedLibraryExtension} attribute
+   */
+  @Override
+  public String getSharedLibraryExtension() {
+    return sharedLibraryExtension;
+  }
+
+  /**
+   * @return value of {@code sharedLibraryVersionedExtensionFormat} attribute
+   */
+  @Override
+  public String getSharedLibraryVersionedExtensionFormat() {
+    return sharedLibraryVersionedExtensionFormat;
+  }
+
+  /**
+   * @return value of {@code debugPathSanitizer} attribute
+   */
+  @Override
+  public DebugPathSanitizer getDebugPathSanitizer() {
+    return debugPathSanitizer;
+  }
+
+  /**
+   * @return a map for macro names to their respective expansions, to be used to expand macro
+   *     references in user-provided flags.
+   */
+  @Override
+  public ImmutableMap<String, String> getFlagMacros() {
+    return flagMacros;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getFlavor() flavor}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for flavor
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withFlavor(Flavor value) {
+    if (this.flavor == value) {
+      return this;
+    }
+    Flavor newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            newValue,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getAs() as}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for as
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAs(Tool value) {
+    if (this.as == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            newValue,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getAsflags() asflags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            newValue,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getAsflags() asflags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of asflags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsflags(Iterable<String> elements) {
+    if (this.asflags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            newValue,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getAspp() aspp}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for aspp
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAspp(Preprocessor value) {
+    if (this.aspp == value) {
+      return this;
+    }
+    Preprocessor newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            newValue,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getAsppflags() asppflags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            newValue,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getAsppflags() asppflags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of asppflags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsppflags(Iterable<String> elements) {
+    if (this.asppflags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            newValue,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getCc() cc}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cc
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCc(Compiler value) {
+    if (this.cc == value) {
+      return this;
+    }
+    Compiler newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            newValue,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getCflags() cflags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withCflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            newValue,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getCflags() cflags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of cflags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withCflags(Iterable<String> elements) {
+    if (this.cflags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            newValue,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getCxx() cxx}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cxx
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCxx(Compiler value) {
+    if (this.cxx == value) {
+      return this;
+    }
+    Compiler newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            newValue,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getCxxflags() cxxflags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            newValue,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getCxxflags() cxxflags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of cxxflags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxflags(Iterable<String> elements) {
+    if (this.cxxflags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            newValue,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getCpp() cpp}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cpp
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCpp(Preprocessor value) {
+    if (this.cpp == value) {
+      return this;
+    }
+    Preprocessor newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            newValue,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getCppflags() cppflags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withCppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            newValue,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getCppflags() cppflags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of cppflags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withCppflags(Iterable<String> elements) {
+    if (this.cppflags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            newValue,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getCxxpp() cxxpp}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cxxpp
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCxxpp(Preprocessor value) {
+    if (this.cxxpp == value) {
+      return this;
+    }
+    Preprocessor newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            newValue,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getCxxppflags() cxxppflags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            newValue,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getCxxppflags() cxxppflags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of cxxppflags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxppflags(Iterable<String> elements) {
+    if (this.cxxppflags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            newValue,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getLd() ld}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for ld
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withLd(Linker value) {
+    if (this.ld == value) {
+      return this;
+    }
+    Linker newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            newValue,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getLdflags() ldflags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withLdflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            newValue,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getLdflags() ldflags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of ldflags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withLdflags(Iterable<String> elements) {
+    if (this.ldflags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            newValue,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to runtimeLdflags map
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withRuntimeLdflags(Multimap<Linker.LinkableDepType, ? extends String> entries) {
+    if (this.runtimeLdflags == entries) {
+      return this;
+    }
+    ImmutableMultimap<Linker.LinkableDepType, String> newValue = ImmutableMultimap.copyOf(entries);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            newValue,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getStrip() strip}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for strip
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withStrip(Tool value) {
+    if (this.strip == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            newValue,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getStripFlags() stripFlags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withStripFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            newValue,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getStripFlags() stripFlags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of stripFlags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withStripFlags(Iterable<String> elements) {
+    if (this.stripFlags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            newValue,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getAr() ar}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for ar
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAr(Archiver value) {
+    if (this.ar == value) {
+      return this;
+    }
+    Archiver newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            newValue,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getArflags() arflags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withArflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            newValue,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getArflags() arflags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of arflags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withArflags(Iterable<String> elements) {
+    if (this.arflags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            newValue,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getRanlib() ranlib}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for ranlib
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withRanlib(Tool value) {
+    if (this.ranlib == value) {
+      return this;
+    }
+    Tool newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            newValue,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getRanlibflags() ranlibflags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withRanlibflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            newValue,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPlatform#getRanlibflags() ranlibflags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of ranlibflags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withRanlibflags(Iterable<String> elements) {
+    if (this.ranlibflags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            newValue,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getSymbolNameTool() symbolNameTool}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for symbolNameTool
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withSymbolNameTool(SymbolNameTool value) {
+    if (this.symbolNameTool == value) {
+      return this;
+    }
+    SymbolNameTool newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            newValue,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getSharedLibraryExtension() sharedLibraryExtension}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sharedLibraryExtension
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withSharedLibraryExtension(String value) {
+    if (this.sharedLibraryExtension == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            newValue,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getSharedLibraryVersionedExtensionFormat() sharedLibraryVersionedExtensionFormat}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sharedLibraryVersionedExtensionFormat
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withSharedLibraryVersionedExtensionFormat(String value) {
+    if (this.sharedLibraryVersionedExtensionFormat == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            newValue,
+            this.debugPathSanitizer,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPlatform#getDebugPathSanitizer() debugPathSanitizer}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for debugPathSanitizer
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPlatform withDebugPathSanitizer(DebugPathSanitizer value) {
+    if (this.debugPathSanitizer == value) {
+      return this;
+    }
+    DebugPathSanitizer newValue = Preconditions.checkNotNull(value);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            newValue,
+            this.flagMacros);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to flagMacros map
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPlatform withFlagMacros(Map<String, ? extends String> entries) {
+    if (this.flagMacros == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new CxxPlatform(
+            this.flavor,
+            this.as,
+            this.asflags,
+            this.aspp,
+            this.asppflags,
+            this.cc,
+            this.cflags,
+            this.cxx,
+            this.cxxflags,
+            this.cpp,
+            this.cppflags,
+            this.cxxpp,
+            this.cxxppflags,
+            this.ld,
+            this.ldflags,
+            this.runtimeLdflags,
+            this.strip,
+            this.stripFlags,
+            this.ar,
+            this.arflags,
+            this.ranlib,
+            this.ranlibflags,
+            this.symbolNameTool,
+            this.sharedLibraryExtension,
+            this.sharedLibraryVersionedExtensionFormat,
+            this.debugPathSanitizer,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CxxPlatform} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CxxPlatform && equalTo((CxxPlatform) another));
+  }
+
+  private boolean equalTo(CxxPlatform another) {
+    return flavor.equals(another.flavor)
+        && as.equals(another.as)
+        && asflags.equals(another.asflags)
+        && aspp.equals(another.aspp)
+        && asppflags.equals(another.asppflags)
+        && cc.equals(another.cc)
+        && cflags.equals(another.cflags)
+        && cxx.equals(another.cxx)
+        && cxxflags.equals(another.cxxflags)
+        && cpp.equals(another.cpp)
+        && cppflags.equals(another.cppflags)
+        && cxxpp.equals(another.cxxpp)
+        && cxxppflags.equals(another.cxxppflags)
+        && ld.equals(another.ld)
+        && ldflags.equals(another.ldflags)
+        && runtimeLdflags.equals(another.runtimeLdflags)
+        && strip.equals(another.strip)
+        && stripFlags.equals(another.stripFlags)
+        && ar.equals(another.ar)
+        && arflags.equals(another.arflags)
+        && ranlib.equals(another.ranlib)
+        && ranlibflags.equals(another.ranlibflags)
+        && symbolNameTool.equals(another.symbolNameTool)
+        && sharedLibraryExtension.equals(another.sharedLibraryExtension)
+        && sharedLibraryVersionedExtensionFormat.equals(another.sharedLibraryVersionedExtensionFormat)
+        && debugPathSanitizer.equals(another.debugPathSanitizer)
+        && flagMacros.equals(another.flagMacros);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code flavor}, {@code as}, {@code asflags}, {@code aspp}, {@code asppflags}, {@code cc}, {@code cflags}, {@code cxx}, {@code cxxflags}, {@code cpp}, {@code cppflags}, {@code cxxpp}, {@code cxxppflags}, {@code ld}, {@code ldflags}, {@code runtimeLdflags}, {@code strip}, {@code stripFlags}, {@code ar}, {@code arflags}, {@code ranlib}, {@code ranlibflags}, {@code symbolNameTool}, {@code sharedLibraryExtension}, {@code sharedLibraryVersionedExtensionFormat}, {@code debugPathSanitizer}, {@code flagMacros}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + flavor.hashCode();
+    h = h * 17 + as.hashCode();
+    h = h * 17 + asflags.hashCode();
+    h = h * 17 + aspp.hashCode();
+    h = h * 17 + asppflags.hashCode();
+    h = h * 17 + cc.hashCode();
+    h = h * 17 + cflags.hashCode();
+    h = h * 17 + cxx.hashCode();
+    h = h * 17 + cxxflags.hashCode();
+    h = h * 17 + cpp.hashCode();
+    h = h * 17 + cppflags.hashCode();
+    h = h * 17 + cxxpp.hashCode();
+    h = h * 17 + cxxppflags.hashCode();
+    h = h * 17 + ld.hashCode();
+    h = h * 17 + ldflags.hashCode();
+    h = h * 17 + runtimeLdflags.hashCode();
+    h = h * 17 + strip.hashCode();
+    h = h * 17 + stripFlags.hashCode();
+    h = h * 17 + ar.hashCode();
+    h = h * 17 + arflags.hashCode();
+    h = h * 17 + ranlib.hashCode();
+    h = h * 17 + ranlibflags.hashCode();
+    h = h * 17 + symbolNameTool.hashCode();
+    h = h * 17 + sharedLibraryExtension.hashCode();
+    h = h * 17 + sharedLibraryVersionedExtensionFormat.hashCode();
+    h = h * 17 + debugPathSanitizer.hashCode();
+    h = h * 17 + flagMacros.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CxxPlatform{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPlatform")
+        .add("flavor", flavor)
+        .add("as", as)
+        .add("asflags", asflags)
+        .add("aspp", aspp)
+        .add("asppflags", asppflags)
+        .add("cc", cc)
+        .add("cflags", cflags)
+        .add("cxx", cxx)
+        .add("cxxflags", cxxflags)
+        .add("cpp", cpp)
+        .add("cppflags", cppflags)
+        .add("cxxpp", cxxpp)
+        .add("cxxppflags", cxxppflags)
+        .add("ld", ld)
+        .add("ldflags", ldflags)
+        .add("runtimeLdflags", runtimeLdflags)
+        .add("strip", strip)
+        .add("stripFlags", stripFlags)
+        .add("ar", ar)
+        .add("arflags", arflags)
+        .add("ranlib", ranlib)
+        .add("ranlibflags", ranlibflags)
+        .add("symbolNameTool", symbolNameTool)
+        .add("sharedLibraryExtension", sharedLibraryExtension)
+        .add("sharedLibraryVersionedExtensionFormat", sharedLibraryVersionedExtensionFormat)
+        .add("debugPathSanitizer", debugPathSanitizer)
+        .add("flagMacros", flagMacros)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCxxPlatform}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CxxPlatform instance
+   */
+  public static CxxPlatform copyOf(AbstractCxxPlatform instance) {
+    if (instance instanceof CxxPlatform) {
+      return (CxxPlatform) instance;
+    }
+    return CxxPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.CxxPlatform CxxPlatform}.
+   * @return new CxxPlatform builder
+   */
+  public static CxxPlatform.Builder builder() {
+    return new CxxPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.CxxPlatform CxxPlatform}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7fff;
+    private static final long INITIALIZED_BIT_FLAVOR = 0x1L;
+    private static final long INITIALIZED_BIT_AS = 0x2L;
+    private static final long INITIALIZED_BIT_ASPP = 0x4L;
+    private static final long INITIALIZED_BIT_CC = 0x8L;
+    private static final long INITIALIZED_BIT_CXX = 0x10L;
+    private static final long INITIALIZED_BIT_CPP = 0x20L;
+    private static final long INITIALIZED_BIT_CXXPP = 0x40L;
+    private static final long INITIALIZED_BIT_LD = 0x80L;
+    private static final long INITIALIZED_BIT_STRIP = 0x100L;
+    private static final long INITIALIZED_BIT_AR = 0x200L;
+    private static final long INITIALIZED_BIT_RANLIB = 0x400L;
+    private static final long INITIALIZED_BIT_SYMBOL_NAME_TOOL = 0x800L;
+    private static final long INITIALIZED_BIT_SHARED_LIBRARY_EXTENSION = 0x1000L;
+    private static final long INITIALIZED_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT = 0x2000L;
+    private static final long INITIALIZED_BIT_DEBUG_PATH_SANITIZER = 0x4000L;
+    private long initializedBitset;
+    private @Nullable Flavor flavor;
+    private @Nullable Tool as;
+    private ImmutableList.Builder<String> asflagsBuilder = ImmutableList.builder();
+    private @Nullable Preprocessor aspp;
+    private ImmutableList.Builder<String> asppflagsBuilder = ImmutableList.builder();
+    private @Nullable Compiler cc;
+    private ImmutableList.Builder<String> cflagsBuilder = ImmutableList.builder();
+    private @Nullable Compiler cxx;
+    private ImmutableList.Builder<String> cxxflagsBuilder = ImmutableList.builder();
+    private @Nullable Preprocessor cpp;
+    private ImmutableList.Builder<String> cppflagsBuilder = ImmutableList.builder();
+    private @Nullable Preprocessor cxxpp;
+    private ImmutableList.Builder<String> cxxppflagsBuilder = ImmutableList.builder();
+    private @Nullable Linker ld;
+    private ImmutableList.Builder<String> ldflagsBuilder = ImmutableList.builder();
+    private ImmutableMultimap.Builder<Linker.LinkableDepType, String> runtimeLdflagsBuilder = ImmutableMultimap.builder();
+    private @Nullable Tool strip;
+    private ImmutableList.Builder<String> stripFlagsBuilder = ImmutableList.builder();
+    private @Nullable Archiver ar;
+    private ImmutableList.Builder<String> arflagsBuilder = ImmutableList.builder();
+    private @Nullable Tool ranlib;
+    private ImmutableList.Builder<String> ranlibflagsBuilder = ImmutableList.builder();
+    private @Nullable SymbolNameTool symbolNameTool;
+    private @Nullable String sharedLibraryExtension;
+    private @Nullable String sharedLibraryVersionedExtensionFormat;
+    private @Nullable DebugPathSanitizer debugPathSanitizer;
+    private ImmutableMap.Builder<String, String> flagMacrosBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCxxPlatform} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCxxPlatform instance) {
+      Preconditions.checkNotNull(instance);
+      setFlavor(instance.getFlavor());
+      setAs(instance.getAs());
+      addAllAsflags(instance.getAsflags());
+      setAspp(instance.getAspp());
+      addAllAsppflags(instance.getAsppflags());
+      setCc(instance.getCc());
+      addAllCflags(instance.getCflags());
+      setCxx(instance.getCxx());
+      addAllCxxflags(instance.getCxxflags());
+      setCpp(instance.getCpp());
+      addAllCppflags(instance.getCppflags());
+      setCxxpp(instance.getCxxpp());
+      addAllCxxppflags(instance.getCxxppflags());
+      setLd(instance.getLd());
+      addAllLdflags(instance.getLdflags());
+      putAllRuntimeLdflags(instance.getRuntimeLdflags());
+      setStrip(instance.getStrip());
+      addAllStripFlags(instance.getStripFlags());
+      setAr(instance.getAr());
+      addAllArflags(instance.getArflags());
+      setRanlib(instance.getRanlib());
+      addAllRanlibflags(instance.getRanlibflags());
+      setSymbolNameTool(instance.getSymbolNameTool());
+      setSharedLibraryExtension(instance.getSharedLibraryExtension());
+      setSharedLibraryVersionedExtensionFormat(instance.getSharedLibraryVersionedExtensionFormat());
+      setDebugPathSanitizer(instance.getDebugPathSanitizer());
+      putAllFlagMacros(instance.getFlagMacros());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getFlavor() flavor}.
+     * @param flavor value for flavor
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFlavor(Flavor flavor) {
+      this.flavor = Preconditions.checkNotNull(flavor);
+      initializedBitset |= INITIALIZED_BIT_FLAVOR;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getAs() as}.
+     * @param as value for as
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAs(Tool as) {
+      this.as = Preconditions.checkNotNull(as);
+      initializedBitset |= INITIALIZED_BIT_AS;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getAsflags() asflags} list.
+     * @param element asflags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAsflags(String element) {
+      asflagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsflags() asflags} list.
+     * @param elements array of asflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAsflags(String... elements) {
+      asflagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getAsflags() asflags} list.
+     * @param elements iterable of asflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAsflags(Iterable<String> elements) {
+      asflagsBuilder = ImmutableList.builder();
+      return addAllAsflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsflags() asflags} list.
+     * @param elements iterable of asflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllAsflags(Iterable<String> elements) {
+      asflagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getAspp() aspp}.
+     * @param aspp value for aspp
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAspp(Preprocessor aspp) {
+      this.aspp = Preconditions.checkNotNull(aspp);
+      initializedBitset |= INITIALIZED_BIT_ASPP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getAsppflags() asppflags} list.
+     * @param element asppflags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAsppflags(String element) {
+      asppflagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsppflags() asppflags} list.
+     * @param elements array of asppflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAsppflags(String... elements) {
+      asppflagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getAsppflags() asppflags} list.
+     * @param elements iterable of asppflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAsppflags(Iterable<String> elements) {
+      asppflagsBuilder = ImmutableList.builder();
+      return addAllAsppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsppflags() asppflags} list.
+     * @param elements iterable of asppflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllAsppflags(Iterable<String> elements) {
+      asppflagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getCc() cc}.
+     * @param cc value for cc
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCc(Compiler cc) {
+      this.cc = Preconditions.checkNotNull(cc);
+      initializedBitset |= INITIALIZED_BIT_CC;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCflags() cflags} list.
+     * @param element cflags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCflags(String element) {
+      cflagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCflags() cflags} list.
+     * @param elements array of cflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCflags(String... elements) {
+      cflagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCflags() cflags} list.
+     * @param elements iterable of cflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCflags(Iterable<String> elements) {
+      cflagsBuilder = ImmutableList.builder();
+      return addAllCflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCflags() cflags} list.
+     * @param elements iterable of cflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllCflags(Iterable<String> elements) {
+      cflagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getCxx() cxx}.
+     * @param cxx value for cxx
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxx(Compiler cxx) {
+      this.cxx = Preconditions.checkNotNull(cxx);
+      initializedBitset |= INITIALIZED_BIT_CXX;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCxxflags() cxxflags} list.
+     * @param element cxxflags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCxxflags(String element) {
+      cxxflagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements array of cxxflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCxxflags(String... elements) {
+      cxxflagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements iterable of cxxflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxflags(Iterable<String> elements) {
+      cxxflagsBuilder = ImmutableList.builder();
+      return addAllCxxflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements iterable of cxxflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllCxxflags(Iterable<String> elements) {
+      cxxflagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getCpp() cpp}.
+     * @param cpp value for cpp
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCpp(Preprocessor cpp) {
+      this.cpp = Preconditions.checkNotNull(cpp);
+      initializedBitset |= INITIALIZED_BIT_CPP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCppflags() cppflags} list.
+     * @param element cppflags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCppflags(String element) {
+      cppflagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCppflags() cppflags} list.
+     * @param elements array of cppflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCppflags(String... elements) {
+      cppflagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCppflags() cppflags} list.
+     * @param elements iterable of cppflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCppflags(Iterable<String> elements) {
+      cppflagsBuilder = ImmutableList.builder();
+      return addAllCppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCppflags() cppflags} list.
+     * @param elements iterable of cppflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllCppflags(Iterable<String> elements) {
+      cppflagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getCxxpp() cxxpp}.
+     * @param cxxpp value for cxxpp
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxpp(Preprocessor cxxpp) {
+      this.cxxpp = Preconditions.checkNotNull(cxxpp);
+      initializedBitset |= INITIALIZED_BIT_CXXPP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param element cxxppflags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCxxppflags(String element) {
+      cxxppflagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements array of cxxppflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCxxppflags(String... elements) {
+      cxxppflagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements iterable of cxxppflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxppflags(Iterable<String> elements) {
+      cxxppflagsBuilder = ImmutableList.builder();
+      return addAllCxxppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements iterable of cxxppflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllCxxppflags(Iterable<String> elements) {
+      cxxppflagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getLd() ld}.
+     * @param ld value for ld
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLd(Linker ld) {
+      this.ld = Preconditions.checkNotNull(ld);
+      initializedBitset |= INITIALIZED_BIT_LD;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getLdflags() ldflags} list.
+     * @param element ldflags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLdflags(String element) {
+      ldflagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getLdflags() ldflags} list.
+     * @param elements array of ldflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLdflags(String... elements) {
+      ldflagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getLdflags() ldflags} list.
+     * @param elements iterable of ldflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLdflags(Iterable<String> elements) {
+      ldflagsBuilder = ImmutableList.builder();
+      return addAllLdflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getLdflags() ldflags} list.
+     * @param elements iterable of ldflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllLdflags(Iterable<String> elements) {
+      ldflagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put all mappings from specified key to values for {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} true. Nulls are not permitted
+     * @param key the key for runtimeLdflags
+     * @param values the values for runtimeLdflags
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putRuntimeLdflags(Linker.LinkableDepType key, String... values) {
+      runtimeLdflagsBuilder.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from specified key to values for {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} true. Nulls are not permitted
+     * @param key the key for runtimeLdflags
+     * @param values the values for runtimeLdflags
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllRuntimeLdflags(Linker.LinkableDepType key, Iterable<String> values) {
+      runtimeLdflagsBuilder.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map.
+     * @param key the key in runtimeLdflags map
+     * @param value the associated value in runtimeLdflags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putRuntimeLdflags(Linker.LinkableDepType key, String value) {
+      runtimeLdflagsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putRuntimeLdflags(Map.Entry<Linker.LinkableDepType, ? extends String> entry) {
+      runtimeLdflagsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entries to be added to runtimeLdflags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuntimeLdflags(Multimap<Linker.LinkableDepType, ? extends String> entries) {
+      runtimeLdflagsBuilder = ImmutableMultimap.builder();
+      return putAllRuntimeLdflags(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entries to be added to runtimeLdflags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllRuntimeLdflags(Multimap<Linker.LinkableDepType, ? extends String> entries) {
+      runtimeLdflagsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getStrip() strip}.
+     * @param strip value for strip
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStrip(Tool strip) {
+      this.strip = Preconditions.checkNotNull(strip);
+      initializedBitset |= INITIALIZED_BIT_STRIP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getStripFlags() stripFlags} list.
+     * @param element stripFlags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addStripFlags(String element) {
+      stripFlagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements array of stripFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addStripFlags(String... elements) {
+      stripFlagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements iterable of stripFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStripFlags(Iterable<String> elements) {
+      stripFlagsBuilder = ImmutableList.builder();
+      return addAllStripFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements iterable of stripFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllStripFlags(Iterable<String> elements) {
+      stripFlagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getAr() ar}.
+     * @param ar value for ar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAr(Archiver ar) {
+      this.ar = Preconditions.checkNotNull(ar);
+      initializedBitset |= INITIALIZED_BIT_AR;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getArflags() arflags} list.
+     * @param element arflags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addArflags(String element) {
+      arflagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getArflags() arflags} list.
+     * @param elements array of arflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addArflags(String... elements) {
+      arflagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getArflags() arflags} list.
+     * @param elements iterable of arflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArflags(Iterable<String> elements) {
+      arflagsBuilder = ImmutableList.builder();
+      return addAllArflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getArflags() arflags} list.
+     * @param elements iterable of arflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllArflags(Iterable<String> elements) {
+      arflagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getRanlib() ranlib}.
+     * @param ranlib value for ranlib
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRanlib(Tool ranlib) {
+      this.ranlib = Preconditions.checkNotNull(ranlib);
+      initializedBitset |= INITIALIZED_BIT_RANLIB;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param element ranlibflags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRanlibflags(String element) {
+      ranlibflagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements array of ranlibflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRanlibflags(String... elements) {
+      ranlibflagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements iterable of ranlibflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRanlibflags(Iterable<String> elements) {
+      ranlibflagsBuilder = ImmutableList.builder();
+      return addAllRanlibflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements iterable of ranlibflags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllRanlibflags(Iterable<String> elements) {
+      ranlibflagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getSymbolNameTool() symbolNameTool}.
+     * @param symbolNameTool value for symbolNameTool
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSymbolNameTool(SymbolNameTool symbolNameTool) {
+      this.symbolNameTool = Preconditions.checkNotNull(symbolNameTool);
+      initializedBitset |= INITIALIZED_BIT_SYMBOL_NAME_TOOL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getSharedLibraryExtension() sharedLibraryExtension}.
+     * @param sharedLibraryExtension value for sharedLibraryExtension
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSharedLibraryExtension(String sharedLibraryExtension) {
+      this.sharedLibraryExtension = Preconditions.checkNotNull(sharedLibraryExtension);
+      initializedBitset |= INITIALIZED_BIT_SHARED_LIBRARY_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getSharedLibraryVersionedExtensionFormat() sharedLibraryVersionedExtensionFormat}.
+     * @param sharedLibraryVersionedExtensionFormat value for sharedLibraryVersionedExtensionFormat
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSharedLibraryVersionedExtensionFormat(String sharedLibraryVersionedExtensionFormat) {
+      this.sharedLibraryVersionedExtensionFormat = Preconditions.checkNotNull(sharedLibraryVersionedExtensionFormat);
+      initializedBitset |= INITIALIZED_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPlatform#getDebugPathSanitizer() debugPathSanitizer}.
+     * @param debugPathSanitizer value for debugPathSanitizer
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDebugPathSanitizer(DebugPathSanitizer debugPathSanitizer) {
+      this.debugPathSanitizer = Preconditions.checkNotNull(debugPathSanitizer);
+      initializedBitset |= INITIALIZED_BIT_DEBUG_PATH_SANITIZER;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map.
+     * @param key the key in flagMacros map
+     * @param value the associated value in flagMacros map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putFlagMacros(String key, String value) {
+      flagMacrosBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putFlagMacros(Map.Entry<String, ? extends String> entry) {
+      flagMacrosBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entries to be added to flagMacros map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFlagMacros(Map<String, ? extends String> entries) {
+      flagMacrosBuilder = ImmutableMap.builder();
+      return putAllFlagMacros(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entries to be added to flagMacros map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllFlagMacros(Map<String, ? extends String> entries) {
+      flagMacrosBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.CxxPlatform CxxPlatform}.
+     * @return immutable instance of CxxPlatform
+     */
+    public CxxPlatform build() {
+      checkRequiredAttributes();
+      return new CxxPlatform(
+              flavor,
+              as,
+              asflagsBuilder.build(),
+              aspp,
+              asppflagsBuilder.build(),
+              cc,
+              cflagsBuilder.build(),
+              cxx,
+              cxxflagsBuilder.build(),
+              cpp,
+              cppflagsBuilder.build(),
+              cxxpp,
+              cxxppflagsBuilder.build(),
+              ld,
+              ldflagsBuilder.build(),
+              runtimeLdflagsBuilder.build(),
+              strip,
+              stripFlagsBuilder.build(),
+              ar,
+              arflagsBuilder.build(),
+              ranlib,
+              ranlibflagsBuilder.build(),
+              symbolNameTool,
+              sharedLibraryExtension,
+              sharedLibraryVersionedExtensionFormat,
+              debugPathSanitizer,
+              flagMacrosBuilder.build());
+    }
+
+    private boolean flavorIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FLAVOR) != 0;
+    }
+
+    private boolean asIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_AS) != 0;
+    }
+
+    private boolean asppIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ASPP) != 0;
+    }
+
+    private boolean ccIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CC) != 0;
+    }
+
+    private boolean cxxIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CXX) != 0;
+    }
+
+    private boolean cppIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CPP) != 0;
+    }
+
+    private boolean cxxppIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CXXPP) != 0;
+    }
+
+    private boolean ldIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_LD) != 0;
+    }
+
+    private boolean stripIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_STRIP) != 0;
+    }
+
+    private boolean arIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_AR) != 0;
+    }
+
+    private boolean ranlibIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_RANLIB) != 0;
+    }
+
+    private boolean symbolNameToolIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SYMBOL_NAME_TOOL) != 0;
+    }
+
+    private boolean sharedLibraryExtensionIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SHARED_LIBRARY_EXTENSION) != 0;
+    }
+
+    private boolean sharedLibraryVersionedExtensionFormatIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT) != 0;
+    }
+
+    private boolean debugPathSanitizerIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_DEBUG_PATH_SANITIZER) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!flavorIsSet()) {
+        attributes.add("flavor");
+      }
+      if (!asIsSet()) {
+        attributes.add("as");
+      }
+      if (!asppIsSet()) {
+        attributes.add("aspp");
+      }
+      if (!ccIsSet()) {
+        attributes.add("cc");
+      }
+      if (!cxxIsSet()) {
+        attributes.add("cxx");
+      }
+      if (!cppIsSet()) {
+        attributes.add("cpp");
+      }
+      if (!cxxppIsSet()) {
+        attributes.add("cxxpp");
+      }
+      if (!ldIsSet()) {
+        attributes.add("ld");
+      }
+      if (!stripIsSet()) {
+        attributes.add("strip");
+      }
+      if (!arIsSet()) {
+        attributes.add("ar");
+      }
+      if (!ranlibIsSet()) {
+        attributes.add("ranlib");
+      }
+      if (!symbolNameToolIsSet()) {
+        attributes.add("symbolNameTool");
+      }
+      if (!sharedLibraryExtensionIsSet()) {
+        attributes.add("sharedLibraryExtension");
+      }
+      if (!sharedLibraryVersionedExtensionFormatIsSet()) {
+        attributes.add("sharedLibraryVersionedExtensionFormat");
+      }
+      if (!debugPathSanitizerIsSet()) {
+        attributes.add("debugPathSanitizer");
+      }
+      return "Cannot build CxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
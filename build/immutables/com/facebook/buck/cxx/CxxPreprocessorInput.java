@@ -0,0 +1,824 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxPreprocessorInput}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CxxPreprocessorInput.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code CxxPreprocessorInput.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxPreprocessorInput"})
+@Immutable
+public final class CxxPreprocessorInput extends AbstractCxxPreprocessorInput {
+  private final ImmutableSet<BuildTarget> rules;
+  private final ImmutableMultimap<CxxSource.Type, String> preprocessorFlags;
+  private final CxxHeaders includes;
+  private final ImmutableSet<Path> includeRoots;
+  private final ImmutableSet<Path> systemIncludeRoots;
+  private final ImmutableSet<Path> headerMaps;
+  private final ImmutableSet<FrameworkPath> frameworks;
+
+  private CxxPreprocessorInput(
+      Iterable<? extends BuildTarget> rules,
+      Multimap<? extends CxxSource.Type, ? extends String> preprocessorFlags,
+      CxxHeaders includes,
+      Iterable<? extends Path> includeRoots,
+      Iterable<? extends Path> systemIncludeRoots,
+      Iterable<? extends Path> headerMaps,
+      Iterable<? extends FrameworkPath> frameworks) {
+    this.rules = ImmutableSet.copyOf(rules);
+    this.preprocessorFlags = ImmutableMultimap.copyOf(preprocessorFlags);
+    this.includes = Preconditions.checkNotNull(includes);
+    this.includeRoots = ImmutableSet.copyOf(includeRoots);
+    this.systemIncludeRoots = ImmutableSet.copyOf(systemIncludeRoots);
+    this.headerMaps = ImmutableSet.copyOf(headerMaps);
+    this.frameworks = ImmutableSet.copyOf(frameworks);
+  }
+
+  private CxxPreprocessorInput(CxxPreprocessorInput.Builder builder) {
+    this.rules = builder.rulesBuilder.build();
+    this.preprocessorFlags = builder.preprocessorFlagsBuilder.build();
+    this.includeRoots = builder.includeRootsBuilder.build();
+    this.systemIncludeRoots = builder.systemIncludeRootsBuilder.build();
+    this.headerMaps = builder.headerMapsBuilder.build();
+    this.frameworks = builder.frameworksBuilder.build();
+    this.includes = builder.includes != null
+        ? builder.includes
+        : Preconditions.checkNotNull(super.getIncludes());
+  }
+
+  private CxxPreprocessorInput(
+      CxxPreprocessorInput original,
+      ImmutableSet<BuildTarget> rules,
+      ImmutableMultimap<CxxSource.Type, String> preprocessorFlags,
+      CxxHeaders includes,
+      ImmutableSet<Path> includeRoots,
+      ImmutableSet<Path> systemIncludeRoots,
+      ImmutableSet<Path> headerMaps,
+      ImmutableSet<FrameworkPath> frameworks) {
+    this.rules = rules;
+    this.preprocessorFlags = preprocessorFlags;
+    this.includes = includes;
+    this.includeRoots = includeRoots;
+    this.systemIncludeRoots = systemIncludeRoots;
+    this.headerMaps = headerMaps;
+    this.frameworks = frameworks;
+  }
+
+  /**
+   * @return value of {@code rules} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getRules() {
+    return rules;
+  }
+
+  /**
+   * @return value of {@code preprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMultimap<CxxSource.Type, String> getPreprocessorFlags() {
+    return preprocessorFlags;
+  }
+
+  /**
+   * @return value of {@code includes} attribute
+   */
+  @Override
+  public CxxHeaders getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return value of {@code includeRoots} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getIncludeRoots() {
+    return includeRoots;
+  }
+
+  /**
+   * @return value of {@code systemIncludeRoots} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getSystemIncludeRoots() {
+    return systemIncludeRoots;
+  }
+
+  /**
+   * @return value of {@code headerMaps} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getHeaderMaps() {
+    return headerMaps;
+  }
+
+  /**
+   * @return value of {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getRules() rules}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withRules(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            newValue,
+            this.preprocessorFlags,
+            this.includes,
+            this.includeRoots,
+            this.systemIncludeRoots,
+            this.headerMaps,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getRules() rules}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of rules elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withRules(Iterable<? extends BuildTarget> elements) {
+    if (this.rules == elements) {
+      return this;
+    }
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            newValue,
+            this.preprocessorFlags,
+            this.includes,
+            this.includeRoots,
+            this.systemIncludeRoots,
+            this.headerMaps,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to preprocessorFlags map
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withPreprocessorFlags(Multimap<? extends CxxSource.Type, ? extends String> entries) {
+    if (this.preprocessorFlags == entries) {
+      return this;
+    }
+    ImmutableMultimap<CxxSource.Type, String> newValue = ImmutableMultimap.copyOf(entries);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            newValue,
+            this.includes,
+            this.includeRoots,
+            this.systemIncludeRoots,
+            this.headerMaps,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxPreprocessorInput#getIncludes() includes}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for includes
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxPreprocessorInput withIncludes(CxxHeaders value) {
+    if (this.includes == value) {
+      return this;
+    }
+    CxxHeaders newValue = Preconditions.checkNotNull(value);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            this.preprocessorFlags,
+            newValue,
+            this.includeRoots,
+            this.systemIncludeRoots,
+            this.headerMaps,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getIncludeRoots() includeRoots}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withIncludeRoots(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            this.preprocessorFlags,
+            this.includes,
+            newValue,
+            this.systemIncludeRoots,
+            this.headerMaps,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getIncludeRoots() includeRoots}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of includeRoots elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withIncludeRoots(Iterable<? extends Path> elements) {
+    if (this.includeRoots == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            this.preprocessorFlags,
+            this.includes,
+            newValue,
+            this.systemIncludeRoots,
+            this.headerMaps,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getSystemIncludeRoots() systemIncludeRoots}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withSystemIncludeRoots(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            this.preprocessorFlags,
+            this.includes,
+            this.includeRoots,
+            newValue,
+            this.headerMaps,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getSystemIncludeRoots() systemIncludeRoots}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of systemIncludeRoots elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withSystemIncludeRoots(Iterable<? extends Path> elements) {
+    if (this.systemIncludeRoots == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            this.preprocessorFlags,
+            this.includes,
+            this.includeRoots,
+            newValue,
+            this.headerMaps,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getHeaderMaps() headerMaps}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withHeaderMaps(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            this.preprocessorFlags,
+            this.includes,
+            this.includeRoots,
+            this.systemIncludeRoots,
+            newValue,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getHeaderMaps() headerMaps}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of headerMaps elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withHeaderMaps(Iterable<? extends Path> elements) {
+    if (this.headerMaps == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            this.preprocessorFlags,
+            this.includes,
+            this.includeRoots,
+            this.systemIncludeRoots,
+            newValue,
+            this.frameworks));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withFrameworks(FrameworkPath... elements) {
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            this.preprocessorFlags,
+            this.includes,
+            this.includeRoots,
+            this.systemIncludeRoots,
+            this.headerMaps,
+            newValue));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of frameworks elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withFrameworks(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworks == elements) {
+      return this;
+    }
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(
+            this,
+            this.rules,
+            this.preprocessorFlags,
+            this.includes,
+            this.includeRoots,
+            this.systemIncludeRoots,
+            this.headerMaps,
+            newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code CxxPreprocessorInput} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CxxPreprocessorInput && equalTo((CxxPreprocessorInput) another));
+  }
+
+  private boolean equalTo(CxxPreprocessorInput another) {
+    return rules.equals(another.rules)
+        && preprocessorFlags.equals(another.preprocessorFlags)
+        && includes.equals(another.includes)
+        && includeRoots.equals(another.includeRoots)
+        && systemIncludeRoots.equals(another.systemIncludeRoots)
+        && headerMaps.equals(another.headerMaps)
+        && frameworks.equals(another.frameworks);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code rules}, {@code preprocessorFlags}, {@code includes}, {@code includeRoots}, {@code systemIncludeRoots}, {@code headerMaps}, {@code frameworks}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + rules.hashCode();
+    h = h * 17 + preprocessorFlags.hashCode();
+    h = h * 17 + includes.hashCode();
+    h = h * 17 + includeRoots.hashCode();
+    h = h * 17 + systemIncludeRoots.hashCode();
+    h = h * 17 + headerMaps.hashCode();
+    h = h * 17 + frameworks.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CxxPreprocessorInput{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPreprocessorInput")
+        .add("rules", rules)
+        .add("preprocessorFlags", preprocessorFlags)
+        .add("includes", includes)
+        .add("includeRoots", includeRoots)
+        .add("systemIncludeRoots", systemIncludeRoots)
+        .add("headerMaps", headerMaps)
+        .add("frameworks", frameworks)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code CxxPreprocessorInput} instance.
+   * @param rules value for {@code rules}
+   * @param preprocessorFlags value for {@code preprocessorFlags}
+   * @param includes value for {@code includes}
+   * @param includeRoots value for {@code includeRoots}
+   * @param systemIncludeRoots value for {@code systemIncludeRoots}
+   * @param headerMaps value for {@code headerMaps}
+   * @param frameworks value for {@code frameworks}
+   * @return immutable CxxPreprocessorInput instance
+   */
+  public static com.facebook.buck.cxx.CxxPreprocessorInput of(Set<BuildTarget> rules, Multimap<CxxSource.Type, String> preprocessorFlags, CxxHeaders includes, Set<Path> includeRoots, Set<Path> systemIncludeRoots, Set<Path> headerMaps, Set<FrameworkPath> frameworks) {
+    return of((Iterable<? extends BuildTarget>) rules, preprocessorFlags, includes, (Iterable<? extends Path>) includeRoots, (Iterable<? extends Path>) systemIncludeRoots, (Iterable<? extends Path>) headerMaps, (Iterable<? extends FrameworkPath>) frameworks);
+  }
+
+  /**
+   * Construct new immutable {@code CxxPreprocessorInput} instance.
+   * @param rules value for {@code rules}
+   * @param preprocessorFlags value for {@code preprocessorFlags}
+   * @param includes value for {@code includes}
+   * @param includeRoots value for {@code includeRoots}
+   * @param systemIncludeRoots value for {@code systemIncludeRoots}
+   * @param headerMaps value for {@code headerMaps}
+   * @param frameworks value for {@code frameworks}
+   * @return immutable CxxPreprocessorInput instance
+   */
+  public static com.facebook.buck.cxx.CxxPreprocessorInput of(Iterable<? extends BuildTarget> rules, Multimap<? extends CxxSource.Type, ? extends String> preprocessorFlags, CxxHeaders includes, Iterable<? extends Path> includeRoots, Iterable<? extends Path> systemIncludeRoots, Iterable<? extends Path> headerMaps, Iterable<? extends FrameworkPath> frameworks) {
+    return validate(new CxxPreprocessorInput(rules, preprocessorFlags, includes, includeRoots, systemIncludeRoots, headerMaps, frameworks));
+  }
+
+  private static CxxPreprocessorInput validate(CxxPreprocessorInput instance) {
+    instance.validateAssumptions();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCxxPreprocessorInput}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CxxPreprocessorInput instance
+   */
+  public static CxxPreprocessorInput copyOf(AbstractCxxPreprocessorInput instance) {
+    if (instance instanceof CxxPreprocessorInput) {
+      return (CxxPreprocessorInput) instance;
+    }
+    return CxxPreprocessorInput.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.CxxPreprocessorInput CxxPreprocessorInput}.
+   * @return new CxxPreprocessorInput builder
+   */
+  public static CxxPreprocessorInput.Builder builder() {
+    return new CxxPreprocessorInput.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.CxxPreprocessorInput CxxPreprocessorInput}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<BuildTarget> rulesBuilder = ImmutableSet.builder();
+    private ImmutableMultimap.Builder<CxxSource.Type, String> preprocessorFlagsBuilder = ImmutableMultimap.builder();
+    private @Nullable CxxHeaders includes;
+    private ImmutableSet.Builder<Path> includeRootsBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> systemIncludeRootsBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> headerMapsBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<FrameworkPath> frameworksBuilder = ImmutableSet.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCxxPreprocessorInput} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCxxPreprocessorInput instance) {
+      Preconditions.checkNotNull(instance);
+      addAllRules(instance.getRules());
+      putAllPreprocessorFlags(instance.getPreprocessorFlags());
+      setIncludes(instance.getIncludes());
+      addAllIncludeRoots(instance.getIncludeRoots());
+      addAllSystemIncludeRoots(instance.getSystemIncludeRoots());
+      addAllHeaderMaps(instance.getHeaderMaps());
+      addAllFrameworks(instance.getFrameworks());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPreprocessorInput#getRules() rules} set.
+     * @param element rules element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRules(BuildTarget element) {
+      rulesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getRules() rules} set.
+     * @param elements array of rules elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRules(BuildTarget... elements) {
+      rulesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPreprocessorInput#getRules() rules} set.
+     * @param elements iterable of rules elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRules(Iterable<? extends BuildTarget> elements) {
+      rulesBuilder = ImmutableSet.builder();
+      return addAllRules(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getRules() rules} set.
+     * @param elements iterable of rules elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllRules(Iterable<? extends BuildTarget> elements) {
+      rulesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put all mappings from specified key to values for {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} true. Nulls are not permitted
+     * @param key the key for preprocessorFlags
+     * @param values the values for preprocessorFlags
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putPreprocessorFlags(CxxSource.Type key, String... values) {
+      preprocessorFlagsBuilder.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from specified key to values for {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} true. Nulls are not permitted
+     * @param key the key for preprocessorFlags
+     * @param values the values for preprocessorFlags
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllPreprocessorFlags(CxxSource.Type key, Iterable<String> values) {
+      preprocessorFlagsBuilder.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map.
+     * @param key the key in preprocessorFlags map
+     * @param value the associated value in preprocessorFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putPreprocessorFlags(CxxSource.Type key, String value) {
+      preprocessorFlagsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putPreprocessorFlags(Map.Entry<? extends CxxSource.Type, ? extends String> entry) {
+      preprocessorFlagsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map. Nulls are not permitted
+     * @param entries to be added to preprocessorFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPreprocessorFlags(Multimap<? extends CxxSource.Type, ? extends String> entries) {
+      preprocessorFlagsBuilder = ImmutableMultimap.builder();
+      return putAllPreprocessorFlags(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map. Nulls are not permitted
+     * @param entries to be added to preprocessorFlags map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllPreprocessorFlags(Multimap<? extends CxxSource.Type, ? extends String> entries) {
+      preprocessorFlagsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxPreprocessorInput#getIncludes() includes}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCxxPreprocessorInput#getIncludes() includes}.</em>
+     * @param includes value for includes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIncludes(CxxHeaders includes) {
+      this.includes = Preconditions.checkNotNull(includes);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPreprocessorInput#getIncludeRoots() includeRoots} set.
+     * @param element includeRoots element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addIncludeRoots(Path element) {
+      includeRootsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getIncludeRoots() includeRoots} set.
+     * @param elements array of includeRoots elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addIncludeRoots(Path... elements) {
+      includeRootsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPreprocessorInput#getIncludeRoots() includeRoots} set.
+     * @param elements iterable of includeRoots elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIncludeRoots(Iterable<? extends Path> elements) {
+      includeRootsBuilder = ImmutableSet.builder();
+      return addAllIncludeRoots(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getIncludeRoots() includeRoots} set.
+     * @param elements iterable of includeRoots elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllIncludeRoots(Iterable<? extends Path> elements) {
+      includeRootsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPreprocessorInput#getSystemIncludeRoots() systemIncludeRoots} set.
+     * @param element systemIncludeRoots element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSystemIncludeRoots(Path element) {
+      systemIncludeRootsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getSystemIncludeRoots() systemIncludeRoots} set.
+     * @param elements array of systemIncludeRoots elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addSystemIncludeRoots(Path... elements) {
+      systemIncludeRootsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPreprocessorInput#getSystemIncludeRoots() systemIncludeRoots} set.
+     * @param elements iterable of systemIncludeRoots elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSystemIncludeRoots(Iterable<? extends Path> elements) {
+      systemIncludeRootsBuilder = ImmutableSet.builder();
+      return addAllSystemIncludeRoots(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getSystemIncludeRoots() systemIncludeRoots} set.
+     * @param elements iterable of systemIncludeRoots elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllSystemIncludeRoots(Iterable<? extends Path> elements) {
+      systemIncludeRootsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPreprocessorInput#getHeaderMaps() headerMaps} set.
+     * @param element headerMaps element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addHeaderMaps(Path element) {
+      headerMapsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getHeaderMaps() headerMaps} set.
+     * @param elements array of headerMaps elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addHeaderMaps(Path... elements) {
+      headerMapsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPreprocessorInput#getHeaderMaps() headerMaps} set.
+     * @param elements iterable of headerMaps elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHeaderMaps(Iterable<? extends Path> elements) {
+      headerMapsBuilder = ImmutableSet.builder();
+      return addAllHeaderMaps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getHeaderMaps() headerMaps} set.
+     * @param elements iterable of headerMaps elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllHeaderMaps(Iterable<? extends Path> elements) {
+      headerMapsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param element frameworks element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath element) {
+      frameworksBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param elements array of frameworks elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      frameworksBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param elements iterable of frameworks elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      frameworksBuilder = ImmutableSet.builder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param elements iterable of frameworks elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      frameworksBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.CxxPreprocessorInput CxxPreprocessorInput}.
+     * @return immutable instance of CxxPreprocessorInput
+     */
+    public CxxPreprocessorInput build() {
+      return CxxPreprocessorInput.validate(new CxxPreprocessorInput(this));
+    }
+  }
+}
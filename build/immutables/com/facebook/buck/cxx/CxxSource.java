@@ -0,0 +1,348 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxSource}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CxxSource.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code CxxSource.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxSource"})
+@Immutable
+public final class CxxSource extends AbstractCxxSource {
+  private final AbstractCxxSource.Type type;
+  private final SourcePath path;
+  private final ImmutableList<String> flags;
+
+  private CxxSource(
+      AbstractCxxSource.Type type,
+      SourcePath path,
+      Iterable<String> flags) {
+    this.type = Preconditions.checkNotNull(type);
+    this.path = Preconditions.checkNotNull(path);
+    this.flags = ImmutableList.copyOf(flags);
+  }
+
+  private CxxSource(
+      CxxSource original,
+      AbstractCxxSource.Type type,
+      SourcePath path,
+      ImmutableList<String> flags) {
+    this.type = type;
+    this.path = path;
+    this.flags = flags;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public AbstractCxxSource.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * @return value of {@code flags} attribute
+   */
+  @Override
+  public ImmutableList<String> getFlags() {
+    return flags;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxSource#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxSource withType(AbstractCxxSource.Type value) {
+    if (this.type == value) {
+      return this;
+    }
+    AbstractCxxSource.Type newValue = Preconditions.checkNotNull(value);
+    return new CxxSource(this, newValue, this.path, this.flags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCxxSource#getPath() path}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for path
+   * @return modified copy of the {@code this} object
+   */
+  public final CxxSource withPath(SourcePath value) {
+    if (this.path == value) {
+      return this;
+    }
+    SourcePath newValue = Preconditions.checkNotNull(value);
+    return new CxxSource(this, this.type, newValue, this.flags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxSource#getFlags() flags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxSource withFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxSource(this, this.type, this.path, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractCxxSource#getFlags() flags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of flags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final CxxSource withFlags(Iterable<String> elements) {
+    if (this.flags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxSource(this, this.type, this.path, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CxxSource} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CxxSource && equalTo((CxxSource) another));
+  }
+
+  private boolean equalTo(CxxSource another) {
+    return type.equals(another.type)
+        && path.equals(another.path)
+        && flags.equals(another.flags);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code path}, {@code flags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + path.hashCode();
+    h = h * 17 + flags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CxxSource{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxSource")
+        .add("type", type)
+        .add("path", path)
+        .add("flags", flags)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code CxxSource} instance.
+   * @param type value for {@code type}
+   * @param path value for {@code path}
+   * @param flags value for {@code flags}
+   * @return immutable CxxSource instance
+   */
+  public static com.facebook.buck.cxx.CxxSource of(AbstractCxxSource.Type type, SourcePath path, List<String> flags) {
+    return of(type, path, (Iterable<String>) flags);
+  }
+
+  /**
+   * Construct new immutable {@code CxxSource} instance.
+   * @param type value for {@code type}
+   * @param path value for {@code path}
+   * @param flags value for {@code flags}
+   * @return immutable CxxSource instance
+   */
+  public static com.facebook.buck.cxx.CxxSource of(AbstractCxxSource.Type type, SourcePath path, Iterable<String> flags) {
+    return new CxxSource(type, path, flags);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCxxSource}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CxxSource instance
+   */
+  public static CxxSource copyOf(AbstractCxxSource instance) {
+    if (instance instanceof CxxSource) {
+      return (CxxSource) instance;
+    }
+    return CxxSource.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.CxxSource CxxSource}.
+   * @return new CxxSource builder
+   */
+  public static CxxSource.Builder builder() {
+    return new CxxSource.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.CxxSource CxxSource}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private static final long INITIALIZED_BIT_PATH = 0x2L;
+    private long initializedBitset;
+    private @Nullable AbstractCxxSource.Type type;
+    private @Nullable SourcePath path;
+    private ImmutableList.Builder<String> flagsBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCxxSource} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCxxSource instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      setPath(instance.getPath());
+      addAllFlags(instance.getFlags());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxSource#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(AbstractCxxSource.Type type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCxxSource#getPath() path}.
+     * @param path value for path
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPath(SourcePath path) {
+      this.path = Preconditions.checkNotNull(path);
+      initializedBitset |= INITIALIZED_BIT_PATH;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxSource#getFlags() flags} list.
+     * @param element flags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFlags(String element) {
+      flagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxSource#getFlags() flags} list.
+     * @param elements array of flags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFlags(String... elements) {
+      flagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxSource#getFlags() flags} list.
+     * @param elements iterable of flags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFlags(Iterable<String> elements) {
+      flagsBuilder = ImmutableList.builder();
+      return addAllFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxSource#getFlags() flags} list.
+     * @param elements iterable of flags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllFlags(Iterable<String> elements) {
+      flagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.CxxSource CxxSource}.
+     * @return immutable instance of CxxSource
+     */
+    public CxxSource build() {
+      checkRequiredAttributes();
+      return new CxxSource(null, type, path, flagsBuilder.build());
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private boolean pathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      if (!pathIsSet()) {
+        attributes.add("path");
+      }
+      return "Cannot build CxxSource, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,484 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.graph.DefaultDirectedAcyclicGraph;
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Omnibus.OmnibusSpec}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ImmutableOmnibusSpec.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Omnibus.OmnibusSpec"})
+@Immutable
+final class ImmutableOmnibusSpec extends Omnibus.OmnibusSpec {
+  private final DefaultDirectedAcyclicGraph<BuildTarget> graph;
+  private final ImmutableMap<BuildTarget, SharedNativeLinkTarget> roots;
+  private final ImmutableMap<BuildTarget, NativeLinkable> body;
+  private final ImmutableMap<BuildTarget, NativeLinkable> excluded;
+  private final ImmutableMap<BuildTarget, NativeLinkable> deps;
+
+  private ImmutableOmnibusSpec(
+      DefaultDirectedAcyclicGraph<BuildTarget> graph,
+      ImmutableMap<BuildTarget, SharedNativeLinkTarget> roots,
+      ImmutableMap<BuildTarget, NativeLinkable> body,
+      ImmutableMap<BuildTarget, NativeLinkable> excluded,
+      ImmutableMap<BuildTarget, NativeLinkable> deps) {
+    this.graph = graph;
+    this.roots = roots;
+    this.body = body;
+    this.excluded = excluded;
+    this.deps = deps;
+  }
+
+  /**
+   * @return value of {@code graph} attribute
+   */
+  @Override
+  public DefaultDirectedAcyclicGraph<BuildTarget> getGraph() {
+    return graph;
+  }
+
+  /**
+   * @return value of {@code roots} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, SharedNativeLinkTarget> getRoots() {
+    return roots;
+  }
+
+  /**
+   * @return value of {@code body} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getBody() {
+    return body;
+  }
+
+  /**
+   * @return value of {@code excluded} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getExcluded() {
+    return excluded;
+  }
+
+  /**
+   * @return value of {@code deps} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link Omnibus.OmnibusSpec#getGraph() graph}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for graph
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableOmnibusSpec withGraph(DefaultDirectedAcyclicGraph<BuildTarget> value) {
+    if (this.graph == value) {
+      return this;
+    }
+    DefaultDirectedAcyclicGraph<BuildTarget> newValue = Preconditions.checkNotNull(value);
+    return validate(new ImmutableOmnibusSpec(newValue, this.roots, this.body, this.excluded, this.deps));
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link Omnibus.OmnibusSpec#getRoots() roots} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to roots map
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withRoots(Map<? extends BuildTarget, ? extends SharedNativeLinkTarget> entries) {
+    if (this.roots == entries) {
+      return this;
+    }
+    ImmutableMap<BuildTarget, SharedNativeLinkTarget> newValue = ImmutableMap.copyOf(entries);
+    return validate(new ImmutableOmnibusSpec(this.graph, newValue, this.body, this.excluded, this.deps));
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link Omnibus.OmnibusSpec#getBody() body} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to body map
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withBody(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+    if (this.body == entries) {
+      return this;
+    }
+    ImmutableMap<BuildTarget, NativeLinkable> newValue = ImmutableMap.copyOf(entries);
+    return validate(new ImmutableOmnibusSpec(this.graph, this.roots, newValue, this.excluded, this.deps));
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link Omnibus.OmnibusSpec#getExcluded() excluded} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to excluded map
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withExcluded(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+    if (this.excluded == entries) {
+      return this;
+    }
+    ImmutableMap<BuildTarget, NativeLinkable> newValue = ImmutableMap.copyOf(entries);
+    return validate(new ImmutableOmnibusSpec(this.graph, this.roots, this.body, newValue, this.deps));
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link Omnibus.OmnibusSpec#getDeps() deps} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to deps map
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withDeps(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+    if (this.deps == entries) {
+      return this;
+    }
+    ImmutableMap<BuildTarget, NativeLinkable> newValue = ImmutableMap.copyOf(entries);
+    return validate(new ImmutableOmnibusSpec(this.graph, this.roots, this.body, this.excluded, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code ImmutableOmnibusSpec} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ImmutableOmnibusSpec && equalTo((ImmutableOmnibusSpec) another));
+  }
+
+  private boolean equalTo(ImmutableOmnibusSpec another) {
+    return graph.equals(another.graph)
+        && roots.equals(another.roots)
+        && body.equals(another.body)
+        && excluded.equals(another.excluded)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code graph}, {@code roots}, {@code body}, {@code excluded}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + graph.hashCode();
+    h = h * 17 + roots.hashCode();
+    h = h * 17 + body.hashCode();
+    h = h * 17 + excluded.hashCode();
+    h = h * 17 + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code OmnibusSpec{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusSpec")
+        .add("graph", graph)
+        .add("roots", roots)
+        .add("body", body)
+        .add("excluded", excluded)
+        .add("deps", deps)
+        .toString();
+  }
+
+  private static ImmutableOmnibusSpec validate(ImmutableOmnibusSpec instance) {
+    instance.verify();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link Omnibus.OmnibusSpec}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable OmnibusSpec instance
+   */
+  static ImmutableOmnibusSpec copyOf(Omnibus.OmnibusSpec instance) {
+    if (instance instanceof ImmutableOmnibusSpec) {
+      return (ImmutableOmnibusSpec) instance;
+    }
+    return ImmutableOmnibusSpec.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.ImmutableOmnibusSpec ImmutableOmnibusSpec}.
+   * @return new ImmutableOmnibusSpec builder
+   */
+  static ImmutableOmnibusSpec.Builder builder() {
+    return new ImmutableOmnibusSpec.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.ImmutableOmnibusSpec ImmutableOmnibusSpec}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_GRAPH = 0x1L;
+    private long initializedBitset;
+    private @Nullable DefaultDirectedAcyclicGraph<BuildTarget> graph;
+    private ImmutableMap.Builder<BuildTarget, SharedNativeLinkTarget> rootsBuilder = ImmutableMap.builder();
+    private ImmutableMap.Builder<BuildTarget, NativeLinkable> bodyBuilder = ImmutableMap.builder();
+    private ImmutableMap.Builder<BuildTarget, NativeLinkable> excludedBuilder = ImmutableMap.builder();
+    private ImmutableMap.Builder<BuildTarget, NativeLinkable> depsBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link Omnibus.OmnibusSpec} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(Omnibus.OmnibusSpec instance) {
+      Preconditions.checkNotNull(instance);
+      graph(instance.getGraph());
+      putAllRoots(instance.getRoots());
+      putAllBody(instance.getBody());
+      putAllExcluded(instance.getExcluded());
+      putAllDeps(instance.getDeps());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link Omnibus.OmnibusSpec#getGraph() graph}.
+     * @param graph value for graph
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder graph(DefaultDirectedAcyclicGraph<BuildTarget> graph) {
+      this.graph = Preconditions.checkNotNull(graph);
+      initializedBitset |= INITIALIZED_BIT_GRAPH;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.OmnibusSpec#getRoots() roots} map.
+     * @param key the key in roots map
+     * @param value the associated value in roots map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putRoots(BuildTarget key, SharedNativeLinkTarget value) {
+      rootsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.OmnibusSpec#getRoots() roots} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putRoots(Map.Entry<? extends BuildTarget, ? extends SharedNativeLinkTarget> entry) {
+      rootsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link Omnibus.OmnibusSpec#getRoots() roots} map. Nulls are not permitted
+     * @param entries to be added to roots map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder roots(Map<? extends BuildTarget, ? extends SharedNativeLinkTarget> entries) {
+      rootsBuilder = ImmutableMap.builder();
+      return putAllRoots(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link Omnibus.OmnibusSpec#getRoots() roots} map. Nulls are not permitted
+     * @param entries to be added to roots map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllRoots(Map<? extends BuildTarget, ? extends SharedNativeLinkTarget> entries) {
+      rootsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.OmnibusSpec#getBody() body} map.
+     * @param key the key in body map
+     * @param value the associated value in body map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putBody(BuildTarget key, NativeLinkable value) {
+      bodyBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.OmnibusSpec#getBody() body} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putBody(Map.Entry<? extends BuildTarget, ? extends NativeLinkable> entry) {
+      bodyBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link Omnibus.OmnibusSpec#getBody() body} map. Nulls are not permitted
+     * @param entries to be added to body map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder body(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+      bodyBuilder = ImmutableMap.builder();
+      return putAllBody(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link Omnibus.OmnibusSpec#getBody() body} map. Nulls are not permitted
+     * @param entries to be added to body map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllBody(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+      bodyBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.OmnibusSpec#getExcluded() excluded} map.
+     * @param key the key in excluded map
+     * @param value the associated value in excluded map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putExcluded(BuildTarget key, NativeLinkable value) {
+      excludedBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.OmnibusSpec#getExcluded() excluded} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putExcluded(Map.Entry<? extends BuildTarget, ? extends NativeLinkable> entry) {
+      excludedBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link Omnibus.OmnibusSpec#getExcluded() excluded} map. Nulls are not permitted
+     * @param entries to be added to excluded map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder excluded(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+      excludedBuilder = ImmutableMap.builder();
+      return putAllExcluded(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link Omnibus.OmnibusSpec#getExcluded() excluded} map. Nulls are not permitted
+     * @param entries to be added to excluded map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllExcluded(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+      excludedBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.OmnibusSpec#getDeps() deps} map.
+     * @param key the key in deps map
+     * @param value the associated value in deps map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putDeps(BuildTarget key, NativeLinkable value) {
+      depsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.OmnibusSpec#getDeps() deps} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putDeps(Map.Entry<? extends BuildTarget, ? extends NativeLinkable> entry) {
+      depsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link Omnibus.OmnibusSpec#getDeps() deps} map. Nulls are not permitted
+     * @param entries to be added to deps map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder deps(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+      depsBuilder = ImmutableMap.builder();
+      return putAllDeps(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link Omnibus.OmnibusSpec#getDeps() deps} map. Nulls are not permitted
+     * @param entries to be added to deps map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllDeps(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+      depsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.ImmutableOmnibusSpec ImmutableOmnibusSpec}.
+     * @return immutable instance of OmnibusSpec
+     */
+    public com.facebook.buck.cxx.ImmutableOmnibusSpec build() {
+      checkRequiredAttributes();
+      return ImmutableOmnibusSpec.validate(new ImmutableOmnibusSpec(
+              graph,
+              rootsBuilder.build(),
+              bodyBuilder.build(),
+              excludedBuilder.build(),
+              depsBuilder.build()));
+    }
+
+    private boolean graphIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_GRAPH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!graphIsSet()) {
+        attributes.add("graph");
+      }
+      return "Cannot build OmnibusSpec, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,242 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractMachoHeader}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code MachoHeader.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code MachoHeader.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractMachoHeader"})
+@Immutable
+public final class MachoHeader extends AbstractMachoHeader {
+  private final int commandsCount;
+  private final boolean is64Bit;
+
+  private MachoHeader(int commandsCount, boolean is64Bit) {
+    this.commandsCount = commandsCount;
+    this.is64Bit = is64Bit;
+  }
+
+  /**
+   * @return value of {@code commandsCount} attribute
+   */
+  @Override
+  public int getCommandsCount() {
+    return commandsCount;
+  }
+
+  /**
+   * @return value of {@code is64Bit} attribute
+   */
+  @Override
+  public boolean getIs64Bit() {
+    return is64Bit;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractMachoHeader#getCommandsCount() commandsCount}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for commandsCount
+   * @return modified copy of the {@code this} object
+   */
+  public final MachoHeader withCommandsCount(int value) {
+    if (this.commandsCount == value) {
+      return this;
+    }
+    int newValue = value;
+    return new MachoHeader(newValue, this.is64Bit);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractMachoHeader#getIs64Bit() is64Bit}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for is64Bit
+   * @return modified copy of the {@code this} object
+   */
+  public final MachoHeader withIs64Bit(boolean value) {
+    if (this.is64Bit == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new MachoHeader(this.commandsCount, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code MachoHeader} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof MachoHeader && equalTo((MachoHeader) another));
+  }
+
+  private boolean equalTo(MachoHeader another) {
+    return commandsCount == another.commandsCount
+        && is64Bit == another.is64Bit;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code commandsCount}, {@code is64Bit}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + commandsCount;
+    h = h * 17 + Booleans.hashCode(is64Bit);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code MachoHeader{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachoHeader")
+        .add("commandsCount", commandsCount)
+        .add("is64Bit", is64Bit)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code MachoHeader} instance.
+   * @param commandsCount value for {@code commandsCount}
+   * @param is64Bit value for {@code is64Bit}
+   * @return immutable MachoHeader instance
+   */
+  public static com.facebook.buck.cxx.MachoHeader of(int commandsCount, boolean is64Bit) {
+    return new MachoHeader(commandsCount, is64Bit);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractMachoHeader}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable MachoHeader instance
+   */
+  public static MachoHeader copyOf(AbstractMachoHeader instance) {
+    if (instance instanceof MachoHeader) {
+      return (MachoHeader) instance;
+    }
+    return MachoHeader.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.MachoHeader MachoHeader}.
+   * @return new MachoHeader builder
+   */
+  public static MachoHeader.Builder builder() {
+    return new MachoHeader.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.MachoHeader MachoHeader}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_COMMANDS_COUNT = 0x1L;
+    private static final long INITIALIZED_BIT_IS64_BIT = 0x2L;
+    private long initializedBitset;
+    private int commandsCount;
+    private boolean is64Bit;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractMachoHeader} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractMachoHeader instance) {
+      Preconditions.checkNotNull(instance);
+      setCommandsCount(instance.getCommandsCount());
+      setIs64Bit(instance.getIs64Bit());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractMachoHeader#getCommandsCount() commandsCount}.
+     * @param commandsCount value for commandsCount
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCommandsCount(int commandsCount) {
+      this.commandsCount = commandsCount;
+      initializedBitset |= INITIALIZED_BIT_COMMANDS_COUNT;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractMachoHeader#getIs64Bit() is64Bit}.
+     * @param is64Bit value for is64Bit
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIs64Bit(boolean is64Bit) {
+      this.is64Bit = is64Bit;
+      initializedBitset |= INITIALIZED_BIT_IS64_BIT;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.MachoHeader MachoHeader}.
+     * @return immutable instance of MachoHeader
+     */
+    public MachoHeader build() {
+      checkRequiredAttributes();
+      return new MachoHeader(commandsCount, is64Bit);
+    }
+
+    private boolean commandsCountIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_COMMANDS_COUNT) != 0;
+    }
+
+    private boolean is64BitIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_IS64_BIT) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!commandsCountIsSet()) {
+        attributes.add("commandsCount");
+      }
+      if (!is64BitIsSet()) {
+        attributes.add("is64Bit");
+      }
+      return "Cannot build MachoHeader, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,397 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.args.Arg;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractNativeLinkableInput}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code NativeLinkableInput.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code NativeLinkableInput.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNativeLinkableInput"})
+@Immutable
+public final class NativeLinkableInput extends AbstractNativeLinkableInput {
+  private final ImmutableList<Arg> args;
+  private final ImmutableSet<FrameworkPath> frameworks;
+  private final ImmutableSet<FrameworkPath> libraries;
+
+  private NativeLinkableInput(
+      Iterable<? extends Arg> args,
+      Iterable<? extends FrameworkPath> frameworks,
+      Iterable<? extends FrameworkPath> libraries) {
+    this.args = ImmutableList.copyOf(args);
+    this.frameworks = ImmutableSet.copyOf(frameworks);
+    this.libraries = ImmutableSet.copyOf(libraries);
+  }
+
+  private NativeLinkableInput(
+      NativeLinkableInput original,
+      ImmutableList<Arg> args,
+      ImmutableSet<FrameworkPath> frameworks,
+      ImmutableSet<FrameworkPath> libraries) {
+    this.args = args;
+    this.frameworks = frameworks;
+    this.libraries = libraries;
+  }
+
+  /**
+   * @return value of {@code args} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getArgs() {
+    return args;
+  }
+
+  /**
+   * @return value of {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return value of {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractNativeLinkableInput#getArgs() args}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withArgs(Arg... elements) {
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new NativeLinkableInput(this, newValue, this.frameworks, this.libraries);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractNativeLinkableInput#getArgs() args}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of args elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withArgs(Iterable<? extends Arg> elements) {
+    if (this.args == elements) {
+      return this;
+    }
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new NativeLinkableInput(this, newValue, this.frameworks, this.libraries);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractNativeLinkableInput#getFrameworks() frameworks}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withFrameworks(FrameworkPath... elements) {
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new NativeLinkableInput(this, this.args, newValue, this.libraries);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractNativeLinkableInput#getFrameworks() frameworks}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of frameworks elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withFrameworks(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworks == elements) {
+      return this;
+    }
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new NativeLinkableInput(this, this.args, newValue, this.libraries);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractNativeLinkableInput#getLibraries() libraries}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withLibraries(FrameworkPath... elements) {
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new NativeLinkableInput(this, this.args, this.frameworks, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractNativeLinkableInput#getLibraries() libraries}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of libraries elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final NativeLinkableInput withLibraries(Iterable<? extends FrameworkPath> elements) {
+    if (this.libraries == elements) {
+      return this;
+    }
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new NativeLinkableInput(this, this.args, this.frameworks, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code NativeLinkableInput} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof NativeLinkableInput && equalTo((NativeLinkableInput) another));
+  }
+
+  private boolean equalTo(NativeLinkableInput another) {
+    return args.equals(another.args)
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code args}, {@code frameworks}, {@code libraries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + args.hashCode();
+    h = h * 17 + frameworks.hashCode();
+    h = h * 17 + libraries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code NativeLinkableInput{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLinkableInput")
+        .add("args", args)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code NativeLinkableInput} instance.
+   * @param args value for {@code args}
+   * @param frameworks value for {@code frameworks}
+   * @param libraries value for {@code libraries}
+   * @return immutable NativeLinkableInput instance
+   */
+  public static com.facebook.buck.cxx.NativeLinkableInput of(List<Arg> args, Set<FrameworkPath> frameworks, Set<FrameworkPath> libraries) {
+    return of((Iterable<? extends Arg>) args, (Iterable<? extends FrameworkPath>) frameworks, (Iterable<? extends FrameworkPath>) libraries);
+  }
+
+  /**
+   * Construct new immutable {@code NativeLinkableInput} instance.
+   * @param args value for {@code args}
+   * @param frameworks value for {@code frameworks}
+   * @param libraries value for {@code libraries}
+   * @return immutable NativeLinkableInput instance
+   */
+  public static com.facebook.buck.cxx.NativeLinkableInput of(Iterable<? extends Arg> args, Iterable<? extends FrameworkPath> frameworks, Iterable<? extends FrameworkPath> libraries) {
+    return new NativeLinkableInput(args, frameworks, libraries);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractNativeLinkableInput}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable NativeLinkableInput instance
+   */
+  public static NativeLinkableInput copyOf(AbstractNativeLinkableInput instance) {
+    if (instance instanceof NativeLinkableInput) {
+      return (NativeLinkableInput) instance;
+    }
+    return NativeLinkableInput.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.NativeLinkableInput NativeLinkableInput}.
+   * @return new NativeLinkableInput builder
+   */
+  public static NativeLinkableInput.Builder builder() {
+    return new NativeLinkableInput.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.NativeLinkableInput NativeLinkableInput}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<Arg> argsBuilder = ImmutableList.builder();
+    private ImmutableSet.Builder<FrameworkPath> frameworksBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<FrameworkPath> librariesBuilder = ImmutableSet.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractNativeLinkableInput} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractNativeLinkableInput instance) {
+      Preconditions.checkNotNull(instance);
+      addAllArgs(instance.getArgs());
+      addAllFrameworks(instance.getFrameworks());
+      addAllLibraries(instance.getLibraries());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractNativeLinkableInput#getArgs() args} list.
+     * @param element args element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addArgs(Arg element) {
+      argsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getArgs() args} list.
+     * @param elements array of args elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addArgs(Arg... elements) {
+      argsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractNativeLinkableInput#getArgs() args} list.
+     * @param elements iterable of args elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArgs(Iterable<? extends Arg> elements) {
+      argsBuilder = ImmutableList.builder();
+      return addAllArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getArgs() args} list.
+     * @param elements iterable of args elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllArgs(Iterable<? extends Arg> elements) {
+      argsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractNativeLinkableInput#getFrameworks() frameworks} set.
+     * @param element frameworks element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath element) {
+      frameworksBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getFrameworks() frameworks} set.
+     * @param elements array of frameworks elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      frameworksBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractNativeLinkableInput#getFrameworks() frameworks} set.
+     * @param elements iterable of frameworks elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      frameworksBuilder = ImmutableSet.builder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getFrameworks() frameworks} set.
+     * @param elements iterable of frameworks elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      frameworksBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractNativeLinkableInput#getLibraries() libraries} set.
+     * @param element libraries element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath element) {
+      librariesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getLibraries() libraries} set.
+     * @param elements array of libraries elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLibraries(FrameworkPath... elements) {
+      librariesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractNativeLinkableInput#getLibraries() libraries} set.
+     * @param elements iterable of libraries elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      librariesBuilder = ImmutableSet.builder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractNativeLinkableInput#getLibraries() libraries} set.
+     * @param elements iterable of libraries elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      librariesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.NativeLinkableInput NativeLinkableInput}.
+     * @return immutable instance of NativeLinkableInput
+     */
+    public NativeLinkableInput build() {
+      return new NativeLinkableInput(null, argsBuilder.build(), frameworksBuilder.build(), librariesBuilder.build());
+    }
+  }
+}
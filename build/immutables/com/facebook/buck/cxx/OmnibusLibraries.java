@@ -0,0 +1,303 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Omnibus.AbstractOmnibusLibraries}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code OmnibusLibraries.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code OmnibusLibraries.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Omnibus.AbstractOmnibusLibraries"})
+@Immutable
+public final class OmnibusLibraries extends Omnibus.AbstractOmnibusLibraries {
+  private final ImmutableMap<BuildTarget, SharedLibrary> roots;
+  private final ImmutableList<SharedLibrary> libraries;
+
+  private OmnibusLibraries(
+      Map<? extends BuildTarget, ? extends SharedLibrary> roots,
+      Iterable<? extends SharedLibrary> libraries) {
+    this.roots = ImmutableMap.copyOf(roots);
+    this.libraries = ImmutableList.copyOf(libraries);
+  }
+
+  private OmnibusLibraries(
+      OmnibusLibraries original,
+      ImmutableMap<BuildTarget, SharedLibrary> roots,
+      ImmutableList<SharedLibrary> libraries) {
+    this.roots = roots;
+    this.libraries = libraries;
+  }
+
+  /**
+   * @return value of {@code roots} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, SharedLibrary> getRoots() {
+    return roots;
+  }
+
+  /**
+   * @return value of {@code libraries} attribute
+   */
+  @Override
+  public ImmutableList<SharedLibrary> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link Omnibus.AbstractOmnibusLibraries#getRoots() roots} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to roots map
+   * @return modified copy of {@code this} object
+   */
+  public final OmnibusLibraries withRoots(Map<? extends BuildTarget, ? extends SharedLibrary> entries) {
+    if (this.roots == entries) {
+      return this;
+    }
+    ImmutableMap<BuildTarget, SharedLibrary> newValue = ImmutableMap.copyOf(entries);
+    return new OmnibusLibraries(this, newValue, this.libraries);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link Omnibus.AbstractOmnibusLibraries#getLibraries() libraries}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OmnibusLibraries withLibraries(SharedLibrary... elements) {
+    ImmutableList<SharedLibrary> newValue = ImmutableList.copyOf(elements);
+    return new OmnibusLibraries(this, this.roots, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link Omnibus.AbstractOmnibusLibraries#getLibraries() libraries}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of libraries elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OmnibusLibraries withLibraries(Iterable<? extends SharedLibrary> elements) {
+    if (this.libraries == elements) {
+      return this;
+    }
+    ImmutableList<SharedLibrary> newValue = ImmutableList.copyOf(elements);
+    return new OmnibusLibraries(this, this.roots, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code OmnibusLibraries} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof OmnibusLibraries && equalTo((OmnibusLibraries) another));
+  }
+
+  private boolean equalTo(OmnibusLibraries another) {
+    return roots.equals(another.roots)
+        && libraries.equals(another.libraries);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code roots}, {@code libraries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + roots.hashCode();
+    h = h * 17 + libraries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code OmnibusLibraries{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusLibraries")
+        .add("roots", roots)
+        .add("libraries", libraries)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code OmnibusLibraries} instance.
+   * @param roots value for {@code roots}
+   * @param libraries value for {@code libraries}
+   * @return immutable OmnibusLibraries instance
+   */
+  public static com.facebook.buck.cxx.OmnibusLibraries of(ImmutableMap<BuildTarget, SharedLibrary> roots, ImmutableList<SharedLibrary> libraries) {
+    return of(roots, (Iterable<? extends SharedLibrary>) libraries);
+  }
+
+  /**
+   * Construct new immutable {@code OmnibusLibraries} instance.
+   * @param roots value for {@code roots}
+   * @param libraries value for {@code libraries}
+   * @return immutable OmnibusLibraries instance
+   */
+  public static com.facebook.buck.cxx.OmnibusLibraries of(Map<? extends BuildTarget, ? extends SharedLibrary> roots, Iterable<? extends SharedLibrary> libraries) {
+    return new OmnibusLibraries(roots, libraries);
+  }
+
+  /**
+   * Creates immutable copy of {@link Omnibus.AbstractOmnibusLibraries}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable OmnibusLibraries instance
+   */
+  public static OmnibusLibraries copyOf(Omnibus.AbstractOmnibusLibraries instance) {
+    if (instance instanceof OmnibusLibraries) {
+      return (OmnibusLibraries) instance;
+    }
+    return OmnibusLibraries.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.OmnibusLibraries OmnibusLibraries}.
+   * @return new OmnibusLibraries builder
+   */
+  public static OmnibusLibraries.Builder builder() {
+    return new OmnibusLibraries.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.OmnibusLibraries OmnibusLibraries}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<BuildTarget, SharedLibrary> rootsBuilder = ImmutableMap.builder();
+    private ImmutableList.Builder<SharedLibrary> librariesBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link Omnibus.AbstractOmnibusLibraries} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(Omnibus.AbstractOmnibusLibraries instance) {
+      Preconditions.checkNotNull(instance);
+      putAllRoots(instance.getRoots());
+      addAllLibraries(instance.getLibraries());
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.AbstractOmnibusLibraries#getRoots() roots} map.
+     * @param key the key in roots map
+     * @param value the associated value in roots map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putRoots(BuildTarget key, SharedLibrary value) {
+      rootsBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link Omnibus.AbstractOmnibusLibraries#getRoots() roots} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putRoots(Map.Entry<? extends BuildTarget, ? extends SharedLibrary> entry) {
+      rootsBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link Omnibus.AbstractOmnibusLibraries#getRoots() roots} map. Nulls are not permitted
+     * @param entries to be added to roots map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRoots(Map<? extends BuildTarget, ? extends SharedLibrary> entries) {
+      rootsBuilder = ImmutableMap.builder();
+      return putAllRoots(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link Omnibus.AbstractOmnibusLibraries#getRoots() roots} map. Nulls are not permitted
+     * @param entries to be added to roots map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllRoots(Map<? extends BuildTarget, ? extends SharedLibrary> entries) {
+      rootsBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link Omnibus.AbstractOmnibusLibraries#getLibraries() libraries} list.
+     * @param element libraries element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLibraries(SharedLibrary element) {
+      librariesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link Omnibus.AbstractOmnibusLibraries#getLibraries() libraries} list.
+     * @param elements array of libraries elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLibraries(SharedLibrary... elements) {
+      librariesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link Omnibus.AbstractOmnibusLibraries#getLibraries() libraries} list.
+     * @param elements iterable of libraries elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLibraries(Iterable<? extends SharedLibrary> elements) {
+      librariesBuilder = ImmutableList.builder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link Omnibus.AbstractOmnibusLibraries#getLibraries() libraries} list.
+     * @param elements iterable of libraries elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllLibraries(Iterable<? extends SharedLibrary> elements) {
+      librariesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.OmnibusLibraries OmnibusLibraries}.
+     * @return immutable instance of OmnibusLibraries
+     */
+    public OmnibusLibraries build() {
+      return new OmnibusLibraries(null, rootsBuilder.build(), librariesBuilder.build());
+    }
+  }
+}
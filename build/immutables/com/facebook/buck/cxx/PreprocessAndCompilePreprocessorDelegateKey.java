@@ -0,0 +1,166 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link CxxSourceRuleFactory.AbstractPreprocessAndCompilePreprocessorDelegateKey}.
+ * <p>
+ * Use static factory method to create immutable instances:
+ * {@code PreprocessAndCompilePreprocessorDelegateKey.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CxxSourceRuleFactory.AbstractPreprocessAndCompilePreprocessorDelegateKey"})
+@Immutable
+public final class PreprocessAndCompilePreprocessorDelegateKey
+    implements CxxSourceRuleFactory.AbstractPreprocessAndCompilePreprocessorDelegateKey {
+  private final CxxSource.Type sourceType;
+  private final ImmutableList<String> sourceFlags;
+
+  private PreprocessAndCompilePreprocessorDelegateKey(CxxSource.Type sourceType, Iterable<String> sourceFlags) {
+    this.sourceType = Preconditions.checkNotNull(sourceType);
+    this.sourceFlags = ImmutableList.copyOf(sourceFlags);
+  }
+
+  private PreprocessAndCompilePreprocessorDelegateKey(
+      PreprocessAndCompilePreprocessorDelegateKey original,
+      CxxSource.Type sourceType,
+      ImmutableList<String> sourceFlags) {
+    this.sourceType = sourceType;
+    this.sourceFlags = sourceFlags;
+  }
+
+  /**
+   * @return value of {@code sourceType} attribute
+   */
+  @Override
+  public CxxSource.Type getSourceType() {
+    return sourceType;
+  }
+
+  /**
+   * @return value of {@code sourceFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getSourceFlags() {
+    return sourceFlags;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link CxxSourceRuleFactory.AbstractPreprocessAndCompilePreprocessorDelegateKey#getSourceType() sourceType}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sourceType
+   * @return modified copy of the {@code this} object
+   */
+  public final PreprocessAndCompilePreprocessorDelegateKey withSourceType(CxxSource.Type value) {
+    if (this.sourceType == value) {
+      return this;
+    }
+    CxxSource.Type newValue = Preconditions.checkNotNull(value);
+    return new PreprocessAndCompilePreprocessorDelegateKey(this, newValue, this.sourceFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link CxxSourceRuleFactory.AbstractPreprocessAndCompilePreprocessorDelegateKey#getSourceFlags() sourceFlags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final PreprocessAndCompilePreprocessorDelegateKey withSourceFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PreprocessAndCompilePreprocessorDelegateKey(this, this.sourceType, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link CxxSourceRuleFactory.AbstractPreprocessAndCompilePreprocessorDelegateKey#getSourceFlags() sourceFlags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of sourceFlags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final PreprocessAndCompilePreprocessorDelegateKey withSourceFlags(Iterable<String> elements) {
+    if (this.sourceFlags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PreprocessAndCompilePreprocessorDelegateKey(this, this.sourceType, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code PreprocessAndCompilePreprocessorDelegateKey} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof PreprocessAndCompilePreprocessorDelegateKey && equalTo((PreprocessAndCompilePreprocessorDelegateKey) another));
+  }
+
+  private boolean equalTo(PreprocessAndCompilePreprocessorDelegateKey another) {
+    return sourceType.equals(another.sourceType)
+        && sourceFlags.equals(another.sourceFlags);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code sourceType}, {@code sourceFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + sourceType.hashCode();
+    h = h * 17 + sourceFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code PreprocessAndCompilePreprocessorDelegateKey{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PreprocessAndCompilePreprocessorDelegateKey")
+        .add("sourceType", sourceType)
+        .add("sourceFlags", sourceFlags)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code PreprocessAndCompilePreprocessorDelegateKey} instance.
+   * @param sourceType value for {@code sourceType}
+   * @param sourceFlags value for {@code sourceFlags}
+   * @return immutable PreprocessAndCompilePreprocessorDelegateKey instance
+   */
+  public static com.facebook.buck.cxx.PreprocessAndCompilePreprocessorDelegateKey of(CxxSource.Type sourceType, ImmutableList<String> sourceFlags) {
+    return of(sourceType, (Iterable<String>) sourceFlags);
+  }
+
+  /**
+   * Construct new immutable {@code PreprocessAndCompilePreprocessorDelegateKey} instance.
+   * @param sourceType value for {@code sourceType}
+   * @param sourceFlags value for {@code sourceFlags}
+   * @return immutable PreprocessAndCompilePreprocessorDelegateKey instance
+   */
+  public static com.facebook.buck.cxx.PreprocessAndCompilePreprocessorDelegateKey of(CxxSource.Type sourceType, Iterable<String> sourceFlags) {
+    return new PreprocessAndCompilePreprocessorDelegateKey(sourceType, sourceFlags);
+  }
+
+  /**
+   * Creates immutable copy of {@link CxxSourceRuleFactory.AbstractPreprocessAndCompilePreprocessorDelegateKey}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable PreprocessAndCompilePreprocessorDelegateKey instance
+   */
+  public static PreprocessAndCompilePreprocessorDelegateKey copyOf(CxxSourceRuleFactory.AbstractPreprocessAndCompilePreprocessorDelegateKey instance) {
+    if (instance instanceof PreprocessAndCompilePreprocessorDelegateKey) {
+      return (PreprocessAndCompilePreprocessorDelegateKey) instance;
+    }
+    return PreprocessAndCompilePreprocessorDelegateKey.of(instance.getSourceType(), instance.getSourceFlags());
+  }
+}
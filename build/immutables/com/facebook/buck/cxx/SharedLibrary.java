@@ -0,0 +1,247 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Omnibus.AbstractSharedLibrary}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code SharedLibrary.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code SharedLibrary.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Omnibus.AbstractSharedLibrary"})
+@Immutable
+public final class SharedLibrary implements Omnibus.AbstractSharedLibrary {
+  private final String soname;
+  private final SourcePath path;
+
+  private SharedLibrary(String soname, SourcePath path) {
+    this.soname = Preconditions.checkNotNull(soname);
+    this.path = Preconditions.checkNotNull(path);
+  }
+
+  private SharedLibrary(SharedLibrary original, String soname, SourcePath path) {
+    this.soname = soname;
+    this.path = path;
+  }
+
+  /**
+   * @return value of {@code soname} attribute
+   */
+  @Override
+  public String getSoname() {
+    return soname;
+  }
+
+  /**
+   * @return value of {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link Omnibus.AbstractSharedLibrary#getSoname() soname}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for soname
+   * @return modified copy of the {@code this} object
+   */
+  public final SharedLibrary withSoname(String value) {
+    if (this.soname == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new SharedLibrary(this, newValue, this.path);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link Omnibus.AbstractSharedLibrary#getPath() path}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for path
+   * @return modified copy of the {@code this} object
+   */
+  public final SharedLibrary withPath(SourcePath value) {
+    if (this.path == value) {
+      return this;
+    }
+    SourcePath newValue = Preconditions.checkNotNull(value);
+    return new SharedLibrary(this, this.soname, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code SharedLibrary} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof SharedLibrary && equalTo((SharedLibrary) another));
+  }
+
+  private boolean equalTo(SharedLibrary another) {
+    return soname.equals(another.soname)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code soname}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + soname.hashCode();
+    h = h * 17 + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code SharedLibrary{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SharedLibrary")
+        .add("soname", soname)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code SharedLibrary} instance.
+   * @param soname value for {@code soname}
+   * @param path value for {@code path}
+   * @return immutable SharedLibrary instance
+   */
+  public static com.facebook.buck.cxx.SharedLibrary of(String soname, SourcePath path) {
+    return new SharedLibrary(soname, path);
+  }
+
+  /**
+   * Creates immutable copy of {@link Omnibus.AbstractSharedLibrary}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable SharedLibrary instance
+   */
+  public static SharedLibrary copyOf(Omnibus.AbstractSharedLibrary instance) {
+    if (instance instanceof SharedLibrary) {
+      return (SharedLibrary) instance;
+    }
+    return SharedLibrary.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.cxx.SharedLibrary SharedLibrary}.
+   * @return new SharedLibrary builder
+   */
+  public static SharedLibrary.Builder builder() {
+    return new SharedLibrary.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.cxx.SharedLibrary SharedLibrary}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_SONAME = 0x1L;
+    private static final long INITIALIZED_BIT_PATH = 0x2L;
+    private long initializedBitset;
+    private @Nullable String soname;
+    private @Nullable SourcePath path;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link Omnibus.AbstractSharedLibrary} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(Omnibus.AbstractSharedLibrary instance) {
+      Preconditions.checkNotNull(instance);
+      setSoname(instance.getSoname());
+      setPath(instance.getPath());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link Omnibus.AbstractSharedLibrary#getSoname() soname}.
+     * @param soname value for soname
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSoname(String soname) {
+      this.soname = Preconditions.checkNotNull(soname);
+      initializedBitset |= INITIALIZED_BIT_SONAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link Omnibus.AbstractSharedLibrary#getPath() path}.
+     * @param path value for path
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPath(SourcePath path) {
+      this.path = Preconditions.checkNotNull(path);
+      initializedBitset |= INITIALIZED_BIT_PATH;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.cxx.SharedLibrary SharedLibrary}.
+     * @return immutable instance of SharedLibrary
+     */
+    public SharedLibrary build() {
+      checkRequiredAttributes();
+      return new SharedLibrary(null, soname, path);
+    }
+
+    private boolean sonameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SONAME) != 0;
+    }
+
+    private boolean pathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!sonameIsSet()) {
+        attributes.add("soname");
+      }
+      if (!pathIsSet()) {
+        attributes.add("path");
+      }
+      return "Cannot build SharedLibrary, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.facebook.buck.event;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractEventKey}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code EventKey.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code EventKey.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractEventKey"})
+@Immutable
+public final class EventKey extends AbstractEventKey {
+  private final long value;
+
+  private EventKey(long value) {
+    this.value = value;
+  }
+
+  /**
+   * @return value of {@code value} attribute
+   */
+  @Override
+  public long getValue() {
+    return value;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractEventKey#getValue() value}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for value
+   * @return modified copy of the {@code this} object
+   */
+  public final EventKey withValue(long value) {
+    if (this.value == value) {
+      return this;
+    }
+    long newValue = value;
+    return new EventKey(newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code EventKey} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof EventKey && equalTo((EventKey) another));
+  }
+
+  private boolean equalTo(EventKey another) {
+    return value == another.value;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Longs.hashCode(value);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code EventKey{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EventKey")
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code EventKey} instance.
+   * @param value value for {@code value}
+   * @return immutable EventKey instance
+   */
+  public static com.facebook.buck.event.EventKey of(long value) {
+    return new EventKey(value);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractEventKey}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable EventKey instance
+   */
+  public static EventKey copyOf(AbstractEventKey instance) {
+    if (instance instanceof EventKey) {
+      return (EventKey) instance;
+    }
+    return EventKey.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.event.EventKey EventKey}.
+   * @return new EventKey builder
+   */
+  public static EventKey.Builder builder() {
+    return new EventKey.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.event.EventKey EventKey}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_VALUE = 0x1L;
+    private long initializedBitset;
+    private long value;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractEventKey} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractEventKey instance) {
+      Preconditions.checkNotNull(instance);
+      setValue(instance.getValue());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractEventKey#getValue() value}.
+     * @param value value for value
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setValue(long value) {
+      this.value = value;
+      initializedBitset |= INITIALIZED_BIT_VALUE;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.event.EventKey EventKey}.
+     * @return immutable instance of EventKey
+     */
+    public EventKey build() {
+      checkRequiredAttributes();
+      return new EventKey(value);
+    }
+
+    private boolean valueIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_VALUE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!valueIsSet()) {
+        attributes.add("value");
+      }
+      return "Cannot build EventKey, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.facebook.buck.event;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link SimplePerfEvent.AbstractPerfEventId}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code PerfEventId.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code PerfEventId.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "SimplePerfEvent.AbstractPerfEventId"})
+@Immutable
+public final class PerfEventId extends SimplePerfEvent.AbstractPerfEventId {
+  private final String value;
+
+  private PerfEventId(String value) {
+    this.value = Preconditions.checkNotNull(value);
+  }
+
+  private PerfEventId(PerfEventId original, String value) {
+    this.value = value;
+  }
+
+  /**
+   * @return value of {@code value} attribute
+   */
+  @Override
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link SimplePerfEvent.AbstractPerfEventId#getValue() value}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for value
+   * @return modified copy of the {@code this} object
+   */
+  public final PerfEventId withValue(String value) {
+    if (this.value == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return validate(new PerfEventId(this, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code PerfEventId} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof PerfEventId && equalTo((PerfEventId) another));
+  }
+
+  private boolean equalTo(PerfEventId another) {
+    return value.equals(another.value);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + value.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code PerfEventId{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerfEventId")
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code PerfEventId} instance.
+   * @param value value for {@code value}
+   * @return immutable PerfEventId instance
+   */
+  public static com.facebook.buck.event.PerfEventId of(String value) {
+    return validate(new PerfEventId(value));
+  }
+
+  private static PerfEventId validate(PerfEventId instance) {
+    instance.nameIsNotEmpty();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link SimplePerfEvent.AbstractPerfEventId}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable PerfEventId instance
+   */
+  public static PerfEventId copyOf(SimplePerfEvent.AbstractPerfEventId instance) {
+    if (instance instanceof PerfEventId) {
+      return (PerfEventId) instance;
+    }
+    return PerfEventId.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.event.PerfEventId PerfEventId}.
+   * @return new PerfEventId builder
+   */
+  public static PerfEventId.Builder builder() {
+    return new PerfEventId.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.event.PerfEventId PerfEventId}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_VALUE = 0x1L;
+    private long initializedBitset;
+    private @Nullable String value;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link SimplePerfEvent.AbstractPerfEventId} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(SimplePerfEvent.AbstractPerfEventId instance) {
+      Preconditions.checkNotNull(instance);
+      setValue(instance.getValue());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link SimplePerfEvent.AbstractPerfEventId#getValue() value}.
+     * @param value value for value
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setValue(String value) {
+      this.value = Preconditions.checkNotNull(value);
+      initializedBitset |= INITIALIZED_BIT_VALUE;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.event.PerfEventId PerfEventId}.
+     * @return immutable instance of PerfEventId
+     */
+    public PerfEventId build() {
+      checkRequiredAttributes();
+      return PerfEventId.validate(new PerfEventId(null, value));
+    }
+
+    private boolean valueIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_VALUE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!valueIsSet()) {
+        attributes.add("value");
+      }
+      return "Cannot build PerfEventId, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,829 @@
+package com.facebook.buck.json;
+
+import com.facebook.buck.io.Watchman;
+import com.facebook.buck.rules.Description;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractProjectBuildFileParserOptions}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ProjectBuildFileParserOptions.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProjectBuildFileParserOptions"})
+@Immutable
+public final class ProjectBuildFileParserOptions
+    extends AbstractProjectBuildFileParserOptions {
+  private final Path projectRoot;
+  private final String pythonInterpreter;
+  private final boolean allowEmptyGlobs;
+  private final String buildFileName;
+  private final ImmutableList<String> defaultIncludes;
+  private final ImmutableSet<Description<?>> descriptions;
+  private final ImmutableMap<String, ImmutableMap<String, String>> rawConfig;
+  private final boolean useWatchmanGlob;
+  private final Watchman watchman;
+  private final Optional<Long> watchmanQueryTimeoutMs;
+
+  private ProjectBuildFileParserOptions(ProjectBuildFileParserOptions.Builder builder) {
+    this.projectRoot = builder.projectRoot;
+    this.pythonInterpreter = builder.pythonInterpreter;
+    this.allowEmptyGlobs = builder.allowEmptyGlobs;
+    this.buildFileName = builder.buildFileName;
+    this.defaultIncludes = builder.defaultIncludesBuilder.build();
+    this.descriptions = builder.descriptions;
+    this.rawConfig = builder.rawConfigBuilder.build();
+    this.watchmanQueryTimeoutMs = builder.watchmanQueryTimeoutMs;
+    this.useWatchmanGlob = builder.useWatchmanGlobIsSet()
+        ? builder.useWatchmanGlob
+        : super.getUseWatchmanGlob();
+    this.watchman = builder.watchman != null
+        ? builder.watchman
+        : Preconditions.checkNotNull(super.getWatchman());
+  }
+
+  private ProjectBuildFileParserOptions(
+      Path projectRoot,
+      String pythonInterpreter,
+      boolean allowEmptyGlobs,
+      String buildFileName,
+      ImmutableList<String> defaultIncludes,
+      ImmutableSet<Description<?>> descriptions,
+      ImmutableMap<String, ImmutableMap<String, String>> rawConfig,
+      boolean useWatchmanGlob,
+      Watchman watchman,
+      Optional<Long> watchmanQueryTimeoutMs) {
+    this.projectRoot = projectRoot;
+    this.pythonInterpreter = pythonInterpreter;
+    this.allowEmptyGlobs = allowEmptyGlobs;
+    this.buildFileName = buildFileName;
+    this.defaultIncludes = defaultIncludes;
+    this.descriptions = descriptions;
+    this.rawConfig = rawConfig;
+    this.useWatchmanGlob = useWatchmanGlob;
+    this.watchman = watchman;
+    this.watchmanQueryTimeoutMs = watchmanQueryTimeoutMs;
+  }
+
+  /**
+   * @return value of {@code projectRoot} attribute
+   */
+  @Override
+  public Path getProjectRoot() {
+    return projectRoot;
+  }
+
+  /**
+   * @return value of {@code pythonInterpreter} attribute
+   */
+  @Override
+  public String getPythonInterpreter() {
+    return pythonInterpreter;
+  }
+
+  /**
+   * @return value of {@code allowEmptyGlobs} attribute
+   */
+  @Override
+  public boolean getAllowEmptyGlobs() {
+    return allowEmptyGlobs;
+  }
+
+  /**
+   * @return value of {@code buildFileName} attribute
+   */
+  @Override
+  public String getBuildFileName() {
+    return buildFileName;
+  }
+
+  /**
+   * @return value of {@code defaultIncludes} attribute
+   */
+  @Override
+  public ImmutableList<String> getDefaultIncludes() {
+    return defaultIncludes;
+  }
+
+  /**
+   * @return value of {@code descriptions} attribute
+   */
+  @Override
+  public ImmutableSet<Description<?>> getDescriptions() {
+    return descriptions;
+  }
+
+  /**
+   * @return value of {@code rawConfig} attribute
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, String>> getRawConfig() {
+    return rawConfig;
+  }
+
+  /**
+   * @return value of {@code useWatchmanGlob} attribute
+   */
+  @Override
+  public boolean getUseWatchmanGlob() {
+    return useWatchmanGlob;
+  }
+
+  /**
+   * @return value of {@code watchman} attribute
+   */
+  @Override
+  public Watchman getWatchman() {
+    return watchman;
+  }
+
+  /**
+   * @return value of {@code watchmanQueryTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getWatchmanQueryTimeoutMs() {
+    return watchmanQueryTimeoutMs;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProjectBuildFileParserOptions#getProjectRoot() projectRoot}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for projectRoot
+   * @return modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withProjectRoot(Path value) {
+    if (this.projectRoot == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new ProjectBuildFileParserOptions(
+            newValue,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            this.defaultIncludes,
+            this.descriptions,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            this.watchman,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProjectBuildFileParserOptions#getPythonInterpreter() pythonInterpreter}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for pythonInterpreter
+   * @return modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withPythonInterpreter(String value) {
+    if (this.pythonInterpreter == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            newValue,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            this.defaultIncludes,
+            this.descriptions,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            this.watchman,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProjectBuildFileParserOptions#getAllowEmptyGlobs() allowEmptyGlobs}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for allowEmptyGlobs
+   * @return modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withAllowEmptyGlobs(boolean value) {
+    if (this.allowEmptyGlobs == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            newValue,
+            this.buildFileName,
+            this.defaultIncludes,
+            this.descriptions,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            this.watchman,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProjectBuildFileParserOptions#getBuildFileName() buildFileName}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildFileName
+   * @return modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withBuildFileName(String value) {
+    if (this.buildFileName == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            newValue,
+            this.defaultIncludes,
+            this.descriptions,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            this.watchman,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withDefaultIncludes(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            newValue,
+            this.descriptions,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            this.watchman,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of defaultIncludes elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withDefaultIncludes(Iterable<String> elements) {
+    if (this.defaultIncludes == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            newValue,
+            this.descriptions,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            this.watchman,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProjectBuildFileParserOptions#getDescriptions() descriptions}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for descriptions
+   * @return modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withDescriptions(ImmutableSet<Description<?>> value) {
+    if (this.descriptions == value) {
+      return this;
+    }
+    ImmutableSet<Description<?>> newValue = Preconditions.checkNotNull(value);
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            this.defaultIncludes,
+            newValue,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            this.watchman,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to rawConfig map
+   * @return modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withRawConfig(Map<String, ? extends ImmutableMap<String, String>> entries) {
+    if (this.rawConfig == entries) {
+      return this;
+    }
+    ImmutableMap<String, ImmutableMap<String, String>> newValue = ImmutableMap.copyOf(entries);
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            this.defaultIncludes,
+            this.descriptions,
+            newValue,
+            this.useWatchmanGlob,
+            this.watchman,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProjectBuildFileParserOptions#getUseWatchmanGlob() useWatchmanGlob}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for useWatchmanGlob
+   * @return modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withUseWatchmanGlob(boolean value) {
+    if (this.useWatchmanGlob == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            this.defaultIncludes,
+            this.descriptions,
+            this.rawConfig,
+            newValue,
+            this.watchman,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractProjectBuildFileParserOptions#getWatchman() watchman}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for watchman
+   * @return modified copy of the {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withWatchman(Watchman value) {
+    if (this.watchman == value) {
+      return this;
+    }
+    Watchman newValue = Preconditions.checkNotNull(value);
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            this.defaultIncludes,
+            this.descriptions,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            newValue,
+            this.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs}.
+   * @param value value for watchmanQueryTimeoutMs
+   * @return modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withWatchmanQueryTimeoutMs(long value) {
+    Optional<Long> newValue = Optional.of(value);
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            this.defaultIncludes,
+            this.descriptions,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            this.watchman,
+            newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for watchmanQueryTimeoutMs
+   * @return modified copy of {@code this} object
+   */
+  public final ProjectBuildFileParserOptions withWatchmanQueryTimeoutMs(Optional<Long> optional) {
+    if (this.watchmanQueryTimeoutMs == optional) {
+      return this;
+    }
+    Optional<Long> newValue = Preconditions.checkNotNull(optional);
+    return new ProjectBuildFileParserOptions(
+            this.projectRoot,
+            this.pythonInterpreter,
+            this.allowEmptyGlobs,
+            this.buildFileName,
+            this.defaultIncludes,
+            this.descriptions,
+            this.rawConfig,
+            this.useWatchmanGlob,
+            this.watchman,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ProjectBuildFileParserOptions} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ProjectBuildFileParserOptions && equalTo((ProjectBuildFileParserOptions) another));
+  }
+
+  private boolean equalTo(ProjectBuildFileParserOptions another) {
+    return projectRoot.equals(another.projectRoot)
+        && pythonInterpreter.equals(another.pythonInterpreter)
+        && allowEmptyGlobs == another.allowEmptyGlobs
+        && buildFileName.equals(another.buildFileName)
+        && defaultIncludes.equals(another.defaultIncludes)
+        && descriptions.equals(another.descriptions)
+        && rawConfig.equals(another.rawConfig)
+        && useWatchmanGlob == another.useWatchmanGlob
+        && watchman.equals(another.watchman)
+        && watchmanQueryTimeoutMs.equals(another.watchmanQueryTimeoutMs);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code projectRoot}, {@code pythonInterpreter}, {@code allowEmptyGlobs}, {@code buildFileName}, {@code defaultIncludes}, {@code descriptions}, {@code rawConfig}, {@code useWatchmanGlob}, {@code watchman}, {@code watchmanQueryTimeoutMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + projectRoot.hashCode();
+    h = h * 17 + pythonInterpreter.hashCode();
+    h = h * 17 + Booleans.hashCode(allowEmptyGlobs);
+    h = h * 17 + buildFileName.hashCode();
+    h = h * 17 + defaultIncludes.hashCode();
+    h = h * 17 + descriptions.hashCode();
+    h = h * 17 + rawConfig.hashCode();
+    h = h * 17 + Booleans.hashCode(useWatchmanGlob);
+    h = h * 17 + watchman.hashCode();
+    h = h * 17 + watchmanQueryTimeoutMs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ProjectBuildFileParserOptions{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProjectBuildFileParserOptions")
+        .add("projectRoot", projectRoot)
+        .add("pythonInterpreter", pythonInterpreter)
+        .add("allowEmptyGlobs", allowEmptyGlobs)
+        .add("buildFileName", buildFileName)
+        .add("defaultIncludes", defaultIncludes)
+        .add("descriptions", descriptions)
+        .add("rawConfig", rawConfig)
+        .add("useWatchmanGlob", useWatchmanGlob)
+        .add("watchman", watchman)
+        .add("watchmanQueryTimeoutMs", watchmanQueryTimeoutMs)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractProjectBuildFileParserOptions}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ProjectBuildFileParserOptions instance
+   */
+  public static ProjectBuildFileParserOptions copyOf(AbstractProjectBuildFileParserOptions instance) {
+    if (instance instanceof ProjectBuildFileParserOptions) {
+      return (ProjectBuildFileParserOptions) instance;
+    }
+    return ProjectBuildFileParserOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.json.ProjectBuildFileParserOptions ProjectBuildFileParserOptions}.
+   * @return new ProjectBuildFileParserOptions builder
+   */
+  public static ProjectBuildFileParserOptions.Builder builder() {
+    return new ProjectBuildFileParserOptions.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.json.ProjectBuildFileParserOptions ProjectBuildFileParserOptions}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1f;
+    private static final long INITIALIZED_BIT_PROJECT_ROOT = 0x1L;
+    private static final long INITIALIZED_BIT_PYTHON_INTERPRETER = 0x2L;
+    private static final long INITIALIZED_BIT_ALLOW_EMPTY_GLOBS = 0x4L;
+    private static final long INITIALIZED_BIT_BUILD_FILE_NAME = 0x8L;
+    private static final long INITIALIZED_BIT_DESCRIPTIONS = 0x10L;
+    private static final long NONDEFAULT_BIT_USE_WATCHMAN_GLOB = 0x1L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private @Nullable Path projectRoot;
+    private @Nullable String pythonInterpreter;
+    private boolean allowEmptyGlobs;
+    private @Nullable String buildFileName;
+    private ImmutableList.Builder<String> defaultIncludesBuilder = ImmutableList.builder();
+    private @Nullable ImmutableSet<Description<?>> descriptions;
+    private ImmutableMap.Builder<String, ImmutableMap<String, String>> rawConfigBuilder = ImmutableMap.builder();
+    private boolean useWatchmanGlob;
+    private @Nullable Watchman watchman;
+    private Optional<Long> watchmanQueryTimeoutMs = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractProjectBuildFileParserOptions} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractProjectBuildFileParserOptions instance) {
+      Preconditions.checkNotNull(instance);
+      setProjectRoot(instance.getProjectRoot());
+      setPythonInterpreter(instance.getPythonInterpreter());
+      setAllowEmptyGlobs(instance.getAllowEmptyGlobs());
+      setBuildFileName(instance.getBuildFileName());
+      addAllDefaultIncludes(instance.getDefaultIncludes());
+      setDescriptions(instance.getDescriptions());
+      putAllRawConfig(instance.getRawConfig());
+      setUseWatchmanGlob(instance.getUseWatchmanGlob());
+      setWatchman(instance.getWatchman());
+      Optional<Long> watchmanQueryTimeoutMsOptional = instance.getWatchmanQueryTimeoutMs();
+      if (watchmanQueryTimeoutMsOptional.isPresent()) {
+        setWatchmanQueryTimeoutMs(watchmanQueryTimeoutMsOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProjectBuildFileParserOptions#getProjectRoot() projectRoot}.
+     * @param projectRoot value for projectRoot
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectRoot(Path projectRoot) {
+      this.projectRoot = Preconditions.checkNotNull(projectRoot);
+      initializedBitset |= INITIALIZED_BIT_PROJECT_ROOT;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProjectBuildFileParserOptions#getPythonInterpreter() pythonInterpreter}.
+     * @param pythonInterpreter value for pythonInterpreter
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPythonInterpreter(String pythonInterpreter) {
+      this.pythonInterpreter = Preconditions.checkNotNull(pythonInterpreter);
+      initializedBitset |= INITIALIZED_BIT_PYTHON_INTERPRETER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProjectBuildFileParserOptions#getAllowEmptyGlobs() allowEmptyGlobs}.
+     * @param allowEmptyGlobs value for allowEmptyGlobs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAllowEmptyGlobs(boolean allowEmptyGlobs) {
+      this.allowEmptyGlobs = allowEmptyGlobs;
+      initializedBitset |= INITIALIZED_BIT_ALLOW_EMPTY_GLOBS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProjectBuildFileParserOptions#getBuildFileName() buildFileName}.
+     * @param buildFileName value for buildFileName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildFileName(String buildFileName) {
+      this.buildFileName = Preconditions.checkNotNull(buildFileName);
+      initializedBitset |= INITIALIZED_BIT_BUILD_FILE_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param element defaultIncludes element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addDefaultIncludes(String element) {
+      defaultIncludesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param elements array of defaultIncludes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addDefaultIncludes(String... elements) {
+      defaultIncludesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param elements iterable of defaultIncludes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultIncludes(Iterable<String> elements) {
+      defaultIncludesBuilder = ImmutableList.builder();
+      return addAllDefaultIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProjectBuildFileParserOptions#getDefaultIncludes() defaultIncludes} list.
+     * @param elements iterable of defaultIncludes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllDefaultIncludes(Iterable<String> elements) {
+      defaultIncludesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProjectBuildFileParserOptions#getDescriptions() descriptions}.
+     * @param descriptions value for descriptions
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDescriptions(ImmutableSet<Description<?>> descriptions) {
+      this.descriptions = Preconditions.checkNotNull(descriptions);
+      initializedBitset |= INITIALIZED_BIT_DESCRIPTIONS;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map.
+     * @param key the key in rawConfig map
+     * @param value the associated value in rawConfig map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putRawConfig(String key, ImmutableMap<String, String> value) {
+      rawConfigBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putRawConfig(Map.Entry<String, ? extends ImmutableMap<String, String>> entry) {
+      rawConfigBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map. Nulls are not permitted
+     * @param entries to be added to rawConfig map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRawConfig(Map<String, ? extends ImmutableMap<String, String>> entries) {
+      rawConfigBuilder = ImmutableMap.builder();
+      return putAllRawConfig(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractProjectBuildFileParserOptions#getRawConfig() rawConfig} map. Nulls are not permitted
+     * @param entries to be added to rawConfig map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllRawConfig(Map<String, ? extends ImmutableMap<String, String>> entries) {
+      rawConfigBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProjectBuildFileParserOptions#getUseWatchmanGlob() useWatchmanGlob}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractProjectBuildFileParserOptions#getUseWatchmanGlob() useWatchmanGlob}.</em>
+     * @param useWatchmanGlob value for useWatchmanGlob
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUseWatchmanGlob(boolean useWatchmanGlob) {
+      this.useWatchmanGlob = useWatchmanGlob;
+      nondefaultBitset |= NONDEFAULT_BIT_USE_WATCHMAN_GLOB;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractProjectBuildFileParserOptions#getWatchman() watchman}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractProjectBuildFileParserOptions#getWatchman() watchman}.</em>
+     * @param watchman value for watchman
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWatchman(Watchman watchman) {
+      this.watchman = Preconditions.checkNotNull(watchman);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs}.
+     * @param watchmanQueryTimeoutMs value for watchmanQueryTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWatchmanQueryTimeoutMs(long watchmanQueryTimeoutMs) {
+      this.watchmanQueryTimeoutMs = Optional.of(watchmanQueryTimeoutMs);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractProjectBuildFileParserOptions#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs}.
+     * @param watchmanQueryTimeoutMs value for watchmanQueryTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWatchmanQueryTimeoutMs(Optional<Long> watchmanQueryTimeoutMs) {
+      this.watchmanQueryTimeoutMs = Preconditions.checkNotNull(watchmanQueryTimeoutMs);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.json.ProjectBuildFileParserOptions ProjectBuildFileParserOptions}.
+     * @return immutable instance of ProjectBuildFileParserOptions
+     */
+    public ProjectBuildFileParserOptions build() {
+      checkRequiredAttributes();
+      return new ProjectBuildFileParserOptions(this);
+    }
+
+    private boolean useWatchmanGlobIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_USE_WATCHMAN_GLOB) != 0;
+    }
+
+    private boolean projectRootIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PROJECT_ROOT) != 0;
+    }
+
+    private boolean pythonInterpreterIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PYTHON_INTERPRETER) != 0;
+    }
+
+    private boolean allowEmptyGlobsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ALLOW_EMPTY_GLOBS) != 0;
+    }
+
+    private boolean buildFileNameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUILD_FILE_NAME) != 0;
+    }
+
+    private boolean descriptionsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_DESCRIPTIONS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!projectRootIsSet()) {
+        attributes.add("projectRoot");
+      }
+      if (!pythonInterpreterIsSet()) {
+        attributes.add("pythonInterpreter");
+      }
+      if (!allowEmptyGlobsIsSet()) {
+        attributes.add("allowEmptyGlobs");
+      }
+      if (!buildFileNameIsSet()) {
+        attributes.add("buildFileName");
+      }
+      if (!descriptionsIsSet()) {
+        attributes.add("descriptions");
+      }
+      return "Cannot build ProjectBuildFileParserOptions, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1587 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.test.selectors.TestSelectorList;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.logging.Level;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractJUnitJvmArgs}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code JUnitJvmArgs.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJUnitJvmArgs"})
+@Immutable
+public final class JUnitJvmArgs extends AbstractJUnitJvmArgs {
+  private final Optional<Path> directoryForTestResults;
+  private final Optional<Path> tmpDirectory;
+  private final Path classpathFile;
+  private final TestType testType;
+  private final boolean debugEnabled;
+  private final boolean codeCoverageEnabled;
+  private final boolean dryRun;
+  private final Optional<String> pathToJavaAgent;
+  private final BuildId buildId;
+  private final Path buckModuleBaseSourceCodePath;
+  private final Optional<Level> stdOutLogLevel;
+  private final Optional<Level> stdErrLogLevel;
+  private final Optional<Path> robolectricLogPath;
+  private final Path testRunnerClasspath;
+  private final Optional<ImmutableList<String>> extraJvmArgs;
+  private final ImmutableList<String> testClasses;
+  private final Optional<TestSelectorList> testSelectorList;
+
+  private JUnitJvmArgs(JUnitJvmArgs.Builder builder) {
+    this.directoryForTestResults = builder.directoryForTestResults;
+    this.tmpDirectory = builder.tmpDirectory;
+    this.classpathFile = builder.classpathFile;
+    this.testType = builder.testType;
+    this.pathToJavaAgent = builder.pathToJavaAgent;
+    this.buildId = builder.buildId;
+    this.buckModuleBaseSourceCodePath = builder.buckModuleBaseSourceCodePath;
+    this.stdOutLogLevel = builder.stdOutLogLevel;
+    this.stdErrLogLevel = builder.stdErrLogLevel;
+    this.robolectricLogPath = builder.robolectricLogPath;
+    this.testRunnerClasspath = builder.testRunnerClasspath;
+    this.extraJvmArgs = builder.extraJvmArgs;
+    this.testClasses = builder.testClassesBuilder.build();
+    this.testSelectorList = builder.testSelectorList;
+    this.debugEnabled = builder.debugEnabledIsSet()
+        ? builder.debugEnabled
+        : super.isDebugEnabled();
+    this.codeCoverageEnabled = builder.codeCoverageEnabledIsSet()
+        ? builder.codeCoverageEnabled
+        : super.isCodeCoverageEnabled();
+    this.dryRun = builder.dryRunIsSet()
+        ? builder.dryRun
+        : super.isDryRun();
+  }
+
+  private JUnitJvmArgs(
+      Optional<Path> directoryForTestResults,
+      Optional<Path> tmpDirectory,
+      Path classpathFile,
+      TestType testType,
+      boolean debugEnabled,
+      boolean codeCoverageEnabled,
+      boolean dryRun,
+      Optional<String> pathToJavaAgent,
+      BuildId buildId,
+      Path buckModuleBaseSourceCodePath,
+      Optional<Level> stdOutLogLevel,
+      Optional<Level> stdErrLogLevel,
+      Optional<Path> robolectricLogPath,
+      Path testRunnerClasspath,
+      Optional<ImmutableList<String>> extraJvmArgs,
+      ImmutableList<String> testClasses,
+      Optional<TestSelectorList> testSelectorList) {
+    this.directoryForTestResults = directoryForTestResults;
+    this.tmpDirectory = tmpDirectory;
+    this.classpathFile = classpathFile;
+    this.testType = testType;
+    this.debugEnabled = debugEnabled;
+    this.codeCoverageEnabled = codeCoverageEnabled;
+    this.dryRun = dryRun;
+    this.pathToJavaAgent = pathToJavaAgent;
+    this.buildId = buildId;
+    this.buckModuleBaseSourceCodePath = buckModuleBaseSourceCodePath;
+    this.stdOutLogLevel = stdOutLogLevel;
+    this.stdErrLogLevel = stdErrLogLevel;
+    this.robolectricLogPath = robolectricLogPath;
+    this.testRunnerClasspath = testRunnerClasspath;
+    this.extraJvmArgs = extraJvmArgs;
+    this.testClasses = testClasses;
+    this.testSelectorList = testSelectorList;
+  }
+
+  /**
+   * @return Directory to use to write test results to.
+   */
+  @Override
+  public Optional<Path> getDirectoryForTestResults() {
+    return directoryForTestResults;
+  }
+
+  /**
+   * @return Temporary directory to use when running tests.
+   */
+  @Override
+  public Optional<Path> getTmpDirectory() {
+    return tmpDirectory;
+  }
+
+  /**
+   * @return Path to newline-separated file containing classpath entries with which to run
+   * the JVM.
+   */
+  @Override
+  public Path getClasspathFile() {
+    return classpathFile;
+  }
+
+  /**
+   * @return The type of test runner to use.
+   */
+  @Override
+  public TestType getTestType() {
+    return testType;
+  }
+
+  /**
+   * @return If true, suspend the JVM to allow a debugger to attach after launch.
+   * Defaults to false.
+   */
+  @Override
+  public boolean isDebugEnabled() {
+    return debugEnabled;
+  }
+
+  /**
+   * @return If true, gathers code coverage metrics when running tests.
+   * Defaults to false.
+   */
+  @Override
+  public boolean isCodeCoverageEnabled() {
+    return codeCoverageEnabled;
+  }
+
+  /**
+   * @return If true, does not actually run the tests, just prints what would have happened.
+   * Defaults to false.
+   */
+  @Override
+  public boolean isDryRun() {
+    return dryRun;
+  }
+
+  /**
+   * @return The filesystem path to a JVM agent (i.e., a profiler).
+   */
+  @Override
+  public Optional<String> getPathToJavaAgent() {
+    return pathToJavaAgent;
+  }
+
+  /**
+   * @return Unique identifier for the build.
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * @return The filesystem path to the source code for the Buck module
+   * under test.
+   */
+  @Override
+  public Path getBuckModuleBaseSourceCodePath() {
+    return buckModuleBaseSourceCodePath;
+  }
+
+  /**
+   * @return If set, specifies a minimum Java logging level at and above which
+   * java.util.logging logs will be written to stdout.
+   */
+  @Override
+  public Optional<Level> getStdOutLogLevel() {
+    return stdOutLogLevel;
+  }
+
+  /**
+   * @return If set, specifies a minimum Java logging level at and above which
+   * java.util.logging logs will be written to stderr.
+   */
+  @Override
+  public Optional<Level> getStdErrLogLevel() {
+    return stdErrLogLevel;
+  }
+
+  /**
+   * @return If set, specifies a filesystem path to which Robolectric debug logs
+   * will be written during the test.
+   */
+  @Override
+  public Optional<Path> getRobolectricLogPath() {
+    return robolectricLogPath;
+  }
+
+  /**
+   * @return The filesystem path to the compiled Buck test runner classes.
+   */
+  @Override
+  public Path getTestRunnerClasspath() {
+    return testRunnerClasspath;
+  }
+
+  /**
+   * @return Extra JVM args to pass on the command line.
+   */
+  @Override
+  public Optional<ImmutableList<String>> getExtraJvmArgs() {
+    return extraJvmArgs;
+  }
+
+  /**
+   * @return Name of test classes to run.
+   */
+  @Override
+  public ImmutableList<String> getTestClasses() {
+    return testClasses;
+  }
+
+  /**
+   * @return Test selectors with which to filter the tests to run.
+   */
+  @Override
+  public Optional<TestSelectorList> getTestSelectorList() {
+    return testSelectorList;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJUnitJvmArgs#getDirectoryForTestResults() directoryForTestResults}.
+   * @param value value for directoryForTestResults
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withDirectoryForTestResults(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return new JUnitJvmArgs(
+            newValue,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJUnitJvmArgs#getDirectoryForTestResults() directoryForTestResults}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for directoryForTestResults
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withDirectoryForTestResults(Optional<Path> optional) {
+    if (this.directoryForTestResults == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return new JUnitJvmArgs(
+            newValue,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJUnitJvmArgs#getTmpDirectory() tmpDirectory}.
+   * @param value value for tmpDirectory
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTmpDirectory(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            newValue,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJUnitJvmArgs#getTmpDirectory() tmpDirectory}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for tmpDirectory
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTmpDirectory(Optional<Path> optional) {
+    if (this.tmpDirectory == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            newValue,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJUnitJvmArgs#getClasspathFile() classpathFile}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for classpathFile
+   * @return modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withClasspathFile(Path value) {
+    if (this.classpathFile == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            newValue,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJUnitJvmArgs#getTestType() testType}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for testType
+   * @return modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withTestType(TestType value) {
+    if (this.testType == value) {
+      return this;
+    }
+    TestType newValue = Preconditions.checkNotNull(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            newValue,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJUnitJvmArgs#isDebugEnabled() debugEnabled}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for debugEnabled
+   * @return modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withDebugEnabled(boolean value) {
+    if (this.debugEnabled == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            newValue,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJUnitJvmArgs#isCodeCoverageEnabled() codeCoverageEnabled}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for codeCoverageEnabled
+   * @return modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withCodeCoverageEnabled(boolean value) {
+    if (this.codeCoverageEnabled == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            newValue,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJUnitJvmArgs#isDryRun() dryRun}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for dryRun
+   * @return modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withDryRun(boolean value) {
+    if (this.dryRun == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            newValue,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJUnitJvmArgs#getPathToJavaAgent() pathToJavaAgent}.
+   * @param value value for pathToJavaAgent
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withPathToJavaAgent(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            newValue,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJUnitJvmArgs#getPathToJavaAgent() pathToJavaAgent}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for pathToJavaAgent
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withPathToJavaAgent(Optional<String> optional) {
+    if (this.pathToJavaAgent == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            newValue,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJUnitJvmArgs#getBuildId() buildId}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildId
+   * @return modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withBuildId(BuildId value) {
+    if (this.buildId == value) {
+      return this;
+    }
+    BuildId newValue = Preconditions.checkNotNull(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            newValue,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJUnitJvmArgs#getBuckModuleBaseSourceCodePath() buckModuleBaseSourceCodePath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buckModuleBaseSourceCodePath
+   * @return modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withBuckModuleBaseSourceCodePath(Path value) {
+    if (this.buckModuleBaseSourceCodePath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            newValue,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJUnitJvmArgs#getStdOutLogLevel() stdOutLogLevel}.
+   * @param value value for stdOutLogLevel
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withStdOutLogLevel(Level value) {
+    Optional<Level> newValue = Optional.of(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            newValue,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJUnitJvmArgs#getStdOutLogLevel() stdOutLogLevel}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for stdOutLogLevel
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withStdOutLogLevel(Optional<Level> optional) {
+    if (this.stdOutLogLevel == optional) {
+      return this;
+    }
+    Optional<Level> newValue = Preconditions.checkNotNull(optional);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            newValue,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJUnitJvmArgs#getStdErrLogLevel() stdErrLogLevel}.
+   * @param value value for stdErrLogLevel
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withStdErrLogLevel(Level value) {
+    Optional<Level> newValue = Optional.of(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            newValue,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJUnitJvmArgs#getStdErrLogLevel() stdErrLogLevel}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for stdErrLogLevel
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withStdErrLogLevel(Optional<Level> optional) {
+    if (this.stdErrLogLevel == optional) {
+      return this;
+    }
+    Optional<Level> newValue = Preconditions.checkNotNull(optional);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            newValue,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJUnitJvmArgs#getRobolectricLogPath() robolectricLogPath}.
+   * @param value value for robolectricLogPath
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withRobolectricLogPath(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            newValue,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJUnitJvmArgs#getRobolectricLogPath() robolectricLogPath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for robolectricLogPath
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withRobolectricLogPath(Optional<Path> optional) {
+    if (this.robolectricLogPath == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            newValue,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJUnitJvmArgs#getTestRunnerClasspath() testRunnerClasspath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for testRunnerClasspath
+   * @return modified copy of the {@code this} object
+   */
+  public final JUnitJvmArgs withTestRunnerClasspath(Path value) {
+    if (this.testRunnerClasspath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            newValue,
+            this.extraJvmArgs,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJUnitJvmArgs#getExtraJvmArgs() extraJvmArgs}.
+   * @param value value for extraJvmArgs
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withExtraJvmArgs(ImmutableList<String> value) {
+    Optional<ImmutableList<String>> newValue = Optional.of(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            newValue,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJUnitJvmArgs#getExtraJvmArgs() extraJvmArgs}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for extraJvmArgs
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withExtraJvmArgs(Optional<ImmutableList<String>> optional) {
+    if (this.extraJvmArgs == optional) {
+      return this;
+    }
+    Optional<ImmutableList<String>> newValue = Preconditions.checkNotNull(optional);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            newValue,
+            this.testClasses,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractJUnitJvmArgs#getTestClasses() testClasses}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTestClasses(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            newValue,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractJUnitJvmArgs#getTestClasses() testClasses}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of testClasses elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTestClasses(Iterable<String> elements) {
+    if (this.testClasses == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            newValue,
+            this.testSelectorList);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJUnitJvmArgs#getTestSelectorList() testSelectorList}.
+   * @param value value for testSelectorList
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTestSelectorList(TestSelectorList value) {
+    Optional<TestSelectorList> newValue = Optional.of(value);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJUnitJvmArgs#getTestSelectorList() testSelectorList}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for testSelectorList
+   * @return modified copy of {@code this} object
+   */
+  public final JUnitJvmArgs withTestSelectorList(Optional<TestSelectorList> optional) {
+    if (this.testSelectorList == optional) {
+      return this;
+    }
+    Optional<TestSelectorList> newValue = Preconditions.checkNotNull(optional);
+    return new JUnitJvmArgs(
+            this.directoryForTestResults,
+            this.tmpDirectory,
+            this.classpathFile,
+            this.testType,
+            this.debugEnabled,
+            this.codeCoverageEnabled,
+            this.dryRun,
+            this.pathToJavaAgent,
+            this.buildId,
+            this.buckModuleBaseSourceCodePath,
+            this.stdOutLogLevel,
+            this.stdErrLogLevel,
+            this.robolectricLogPath,
+            this.testRunnerClasspath,
+            this.extraJvmArgs,
+            this.testClasses,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code JUnitJvmArgs} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof JUnitJvmArgs && equalTo((JUnitJvmArgs) another));
+  }
+
+  private boolean equalTo(JUnitJvmArgs another) {
+    return directoryForTestResults.equals(another.directoryForTestResults)
+        && tmpDirectory.equals(another.tmpDirectory)
+        && classpathFile.equals(another.classpathFile)
+        && testType.equals(another.testType)
+        && debugEnabled == another.debugEnabled
+        && codeCoverageEnabled == another.codeCoverageEnabled
+        && dryRun == another.dryRun
+        && pathToJavaAgent.equals(another.pathToJavaAgent)
+        && buildId.equals(another.buildId)
+        && buckModuleBaseSourceCodePath.equals(another.buckModuleBaseSourceCodePath)
+        && stdOutLogLevel.equals(another.stdOutLogLevel)
+        && stdErrLogLevel.equals(another.stdErrLogLevel)
+        && robolectricLogPath.equals(another.robolectricLogPath)
+        && testRunnerClasspath.equals(another.testRunnerClasspath)
+        && extraJvmArgs.equals(another.extraJvmArgs)
+        && testClasses.equals(another.testClasses)
+        && testSelectorList.equals(another.testSelectorList);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code directoryForTestResults}, {@code tmpDirectory}, {@code classpathFile}, {@code testType}, {@code debugEnabled}, {@code codeCoverageEnabled}, {@code dryRun}, {@code pathToJavaAgent}, {@code buildId}, {@code buckModuleBaseSourceCodePath}, {@code stdOutLogLevel}, {@code stdErrLogLevel}, {@code robolectricLogPath}, {@code testRunnerClasspath}, {@code extraJvmArgs}, {@code testClasses}, {@code testSelectorList}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + directoryForTestResults.hashCode();
+    h = h * 17 + tmpDirectory.hashCode();
+    h = h * 17 + classpathFile.hashCode();
+    h = h * 17 + testType.hashCode();
+    h = h * 17 + Booleans.hashCode(debugEnabled);
+    h = h * 17 + Booleans.hashCode(codeCoverageEnabled);
+    h = h * 17 + Booleans.hashCode(dryRun);
+    h = h * 17 + pathToJavaAgent.hashCode();
+    h = h * 17 + buildId.hashCode();
+    h = h * 17 + buckModuleBaseSourceCodePath.hashCode();
+    h = h * 17 + stdOutLogLevel.hashCode();
+    h = h * 17 + stdErrLogLevel.hashCode();
+    h = h * 17 + robolectricLogPath.hashCode();
+    h = h * 17 + testRunnerClasspath.hashCode();
+    h = h * 17 + extraJvmArgs.hashCode();
+    h = h * 17 + testClasses.hashCode();
+    h = h * 17 + testSelectorList.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code JUnitJvmArgs{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JUnitJvmArgs")
+        .add("directoryForTestResults", directoryForTestResults)
+        .add("tmpDirectory", tmpDirectory)
+        .add("classpathFile", classpathFile)
+        .add("testType", testType)
+        .add("debugEnabled", debugEnabled)
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("dryRun", dryRun)
+        .add("pathToJavaAgent", pathToJavaAgent)
+        .add("buildId", buildId)
+        .add("buckModuleBaseSourceCodePath", buckModuleBaseSourceCodePath)
+        .add("stdOutLogLevel", stdOutLogLevel)
+        .add("stdErrLogLevel", stdErrLogLevel)
+        .add("robolectricLogPath", robolectricLogPath)
+        .add("testRunnerClasspath", testRunnerClasspath)
+        .add("extraJvmArgs", extraJvmArgs)
+        .add("testClasses", testClasses)
+        .add("testSelectorList", testSelectorList)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractJUnitJvmArgs}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable JUnitJvmArgs instance
+   */
+  public static JUnitJvmArgs copyOf(AbstractJUnitJvmArgs instance) {
+    if (instance instanceof JUnitJvmArgs) {
+      return (JUnitJvmArgs) instance;
+    }
+    return JUnitJvmArgs.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.JUnitJvmArgs JUnitJvmArgs}.
+   * @return new JUnitJvmArgs builder
+   */
+  public static JUnitJvmArgs.Builder builder() {
+    return new JUnitJvmArgs.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.JUnitJvmArgs JUnitJvmArgs}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1f;
+    private static final long INITIALIZED_BIT_CLASSPATH_FILE = 0x1L;
+    private static final long INITIALIZED_BIT_TEST_TYPE = 0x2L;
+    private static final long INITIALIZED_BIT_BUILD_ID = 0x4L;
+    private static final long INITIALIZED_BIT_BUCK_MODULE_BASE_SOURCE_CODE_PATH = 0x8L;
+    private static final long INITIALIZED_BIT_TEST_RUNNER_CLASSPATH = 0x10L;
+    private static final long NONDEFAULT_BIT_DEBUG_ENABLED = 0x1L;
+    private static final long NONDEFAULT_BIT_CODE_COVERAGE_ENABLED = 0x2L;
+    private static final long NONDEFAULT_BIT_DRY_RUN = 0x4L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private Optional<Path> directoryForTestResults = Optional.absent();
+    private Optional<Path> tmpDirectory = Optional.absent();
+    private @Nullable Path classpathFile;
+    private @Nullable TestType testType;
+    private boolean debugEnabled;
+    private boolean codeCoverageEnabled;
+    private boolean dryRun;
+    private Optional<String> pathToJavaAgent = Optional.absent();
+    private @Nullable BuildId buildId;
+    private @Nullable Path buckModuleBaseSourceCodePath;
+    private Optional<Level> stdOutLogLevel = Optional.absent();
+    private Optional<Level> stdErrLogLevel = Optional.absent();
+    private Optional<Path> robolectricLogPath = Optional.absent();
+    private @Nullable Path testRunnerClasspath;
+    private Optional<ImmutableList<String>> extraJvmArgs = Optional.absent();
+    private ImmutableList.Builder<String> testClassesBuilder = ImmutableList.builder();
+    private Optional<TestSelectorList> testSelectorList = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractJUnitJvmArgs} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractJUnitJvmArgs instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<Path> directoryForTestResultsOptional = instance.getDirectoryForTestResults();
+      if (directoryForTestResultsOptional.isPresent()) {
+        setDirectoryForTestResults(directoryForTestResultsOptional);
+      }
+      Optional<Path> tmpDirectoryOptional = instance.getTmpDirectory();
+      if (tmpDirectoryOptional.isPresent()) {
+        setTmpDirectory(tmpDirectoryOptional);
+      }
+      setClasspathFile(instance.getClasspathFile());
+      setTestType(instance.getTestType());
+      setDebugEnabled(instance.isDebugEnabled());
+      setCodeCoverageEnabled(instance.isCodeCoverageEnabled());
+      setDryRun(instance.isDryRun());
+      Optional<String> pathToJavaAgentOptional = instance.getPathToJavaAgent();
+      if (pathToJavaAgentOptional.isPresent()) {
+        setPathToJavaAgent(pathToJavaAgentOptional);
+      }
+      setBuildId(instance.getBuildId());
+      setBuckModuleBaseSourceCodePath(instance.getBuckModuleBaseSourceCodePath());
+      Optional<Level> stdOutLogLevelOptional = instance.getStdOutLogLevel();
+      if (stdOutLogLevelOptional.isPresent()) {
+        setStdOutLogLevel(stdOutLogLevelOptional);
+      }
+      Optional<Level> stdErrLogLevelOptional = instance.getStdErrLogLevel();
+      if (stdErrLogLevelOptional.isPresent()) {
+        setStdErrLogLevel(stdErrLogLevelOptional);
+      }
+      Optional<Path> robolectricLogPathOptional = instance.getRobolectricLogPath();
+      if (robolectricLogPathOptional.isPresent()) {
+        setRobolectricLogPath(robolectricLogPathOptional);
+      }
+      setTestRunnerClasspath(instance.getTestRunnerClasspath());
+      Optional<ImmutableList<String>> extraJvmArgsOptional = instance.getExtraJvmArgs();
+      if (extraJvmArgsOptional.isPresent()) {
+        setExtraJvmArgs(extraJvmArgsOptional);
+      }
+      addAllTestClasses(instance.getTestClasses());
+      Optional<TestSelectorList> testSelectorListOptional = instance.getTestSelectorList();
+      if (testSelectorListOptional.isPresent()) {
+        setTestSelectorList(testSelectorListOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJUnitJvmArgs#getDirectoryForTestResults() directoryForTestResults}.
+     * @param directoryForTestResults value for directoryForTestResults
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDirectoryForTestResults(Path directoryForTestResults) {
+      this.directoryForTestResults = Optional.of(directoryForTestResults);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJUnitJvmArgs#getDirectoryForTestResults() directoryForTestResults}.
+     * @param directoryForTestResults value for directoryForTestResults
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDirectoryForTestResults(Optional<Path> directoryForTestResults) {
+      this.directoryForTestResults = Preconditions.checkNotNull(directoryForTestResults);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJUnitJvmArgs#getTmpDirectory() tmpDirectory}.
+     * @param tmpDirectory value for tmpDirectory
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTmpDirectory(Path tmpDirectory) {
+      this.tmpDirectory = Optional.of(tmpDirectory);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJUnitJvmArgs#getTmpDirectory() tmpDirectory}.
+     * @param tmpDirectory value for tmpDirectory
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTmpDirectory(Optional<Path> tmpDirectory) {
+      this.tmpDirectory = Preconditions.checkNotNull(tmpDirectory);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJUnitJvmArgs#getClasspathFile() classpathFile}.
+     * @param classpathFile value for classpathFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setClasspathFile(Path classpathFile) {
+      this.classpathFile = Preconditions.checkNotNull(classpathFile);
+      initializedBitset |= INITIALIZED_BIT_CLASSPATH_FILE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJUnitJvmArgs#getTestType() testType}.
+     * @param testType value for testType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestType(TestType testType) {
+      this.testType = Preconditions.checkNotNull(testType);
+      initializedBitset |= INITIALIZED_BIT_TEST_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJUnitJvmArgs#isDebugEnabled() debugEnabled}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractJUnitJvmArgs#isDebugEnabled() debugEnabled}.</em>
+     * @param debugEnabled value for debugEnabled
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      nondefaultBitset |= NONDEFAULT_BIT_DEBUG_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJUnitJvmArgs#isCodeCoverageEnabled() codeCoverageEnabled}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractJUnitJvmArgs#isCodeCoverageEnabled() codeCoverageEnabled}.</em>
+     * @param codeCoverageEnabled value for codeCoverageEnabled
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      nondefaultBitset |= NONDEFAULT_BIT_CODE_COVERAGE_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJUnitJvmArgs#isDryRun() dryRun}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractJUnitJvmArgs#isDryRun() dryRun}.</em>
+     * @param dryRun value for dryRun
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDryRun(boolean dryRun) {
+      this.dryRun = dryRun;
+      nondefaultBitset |= NONDEFAULT_BIT_DRY_RUN;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJUnitJvmArgs#getPathToJavaAgent() pathToJavaAgent}.
+     * @param pathToJavaAgent value for pathToJavaAgent
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathToJavaAgent(String pathToJavaAgent) {
+      this.pathToJavaAgent = Optional.of(pathToJavaAgent);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJUnitJvmArgs#getPathToJavaAgent() pathToJavaAgent}.
+     * @param pathToJavaAgent value for pathToJavaAgent
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathToJavaAgent(Optional<String> pathToJavaAgent) {
+      this.pathToJavaAgent = Preconditions.checkNotNull(pathToJavaAgent);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJUnitJvmArgs#getBuildId() buildId}.
+     * @param buildId value for buildId
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Preconditions.checkNotNull(buildId);
+      initializedBitset |= INITIALIZED_BIT_BUILD_ID;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJUnitJvmArgs#getBuckModuleBaseSourceCodePath() buckModuleBaseSourceCodePath}.
+     * @param buckModuleBaseSourceCodePath value for buckModuleBaseSourceCodePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuckModuleBaseSourceCodePath(Path buckModuleBaseSourceCodePath) {
+      this.buckModuleBaseSourceCodePath = Preconditions.checkNotNull(buckModuleBaseSourceCodePath);
+      initializedBitset |= INITIALIZED_BIT_BUCK_MODULE_BASE_SOURCE_CODE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJUnitJvmArgs#getStdOutLogLevel() stdOutLogLevel}.
+     * @param stdOutLogLevel value for stdOutLogLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdOutLogLevel(Level stdOutLogLevel) {
+      this.stdOutLogLevel = Optional.of(stdOutLogLevel);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJUnitJvmArgs#getStdOutLogLevel() stdOutLogLevel}.
+     * @param stdOutLogLevel value for stdOutLogLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdOutLogLevel(Optional<Level> stdOutLogLevel) {
+      this.stdOutLogLevel = Preconditions.checkNotNull(stdOutLogLevel);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJUnitJvmArgs#getStdErrLogLevel() stdErrLogLevel}.
+     * @param stdErrLogLevel value for stdErrLogLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdErrLogLevel(Level stdErrLogLevel) {
+      this.stdErrLogLevel = Optional.of(stdErrLogLevel);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJUnitJvmArgs#getStdErrLogLevel() stdErrLogLevel}.
+     * @param stdErrLogLevel value for stdErrLogLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStdErrLogLevel(Optional<Level> stdErrLogLevel) {
+      this.stdErrLogLevel = Preconditions.checkNotNull(stdErrLogLevel);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJUnitJvmArgs#getRobolectricLogPath() robolectricLogPath}.
+     * @param robolectricLogPath value for robolectricLogPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRobolectricLogPath(Path robolectricLogPath) {
+      this.robolectricLogPath = Optional.of(robolectricLogPath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJUnitJvmArgs#getRobolectricLogPath() robolectricLogPath}.
+     * @param robolectricLogPath value for robolectricLogPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRobolectricLogPath(Optional<Path> robolectricLogPath) {
+      this.robolectricLogPath = Preconditions.checkNotNull(robolectricLogPath);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJUnitJvmArgs#getTestRunnerClasspath() testRunnerClasspath}.
+     * @param testRunnerClasspath value for testRunnerClasspath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestRunnerClasspath(Path testRunnerClasspath) {
+      this.testRunnerClasspath = Preconditions.checkNotNull(testRunnerClasspath);
+      initializedBitset |= INITIALIZED_BIT_TEST_RUNNER_CLASSPATH;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJUnitJvmArgs#getExtraJvmArgs() extraJvmArgs}.
+     * @param extraJvmArgs value for extraJvmArgs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtraJvmArgs(ImmutableList<String> extraJvmArgs) {
+      this.extraJvmArgs = Optional.of(extraJvmArgs);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJUnitJvmArgs#getExtraJvmArgs() extraJvmArgs}.
+     * @param extraJvmArgs value for extraJvmArgs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtraJvmArgs(Optional<ImmutableList<String>> extraJvmArgs) {
+      this.extraJvmArgs = Preconditions.checkNotNull(extraJvmArgs);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJUnitJvmArgs#getTestClasses() testClasses} list.
+     * @param element testClasses element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addTestClasses(String element) {
+      testClassesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJUnitJvmArgs#getTestClasses() testClasses} list.
+     * @param elements array of testClasses elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addTestClasses(String... elements) {
+      testClassesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJUnitJvmArgs#getTestClasses() testClasses} list.
+     * @param elements iterable of testClasses elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestClasses(Iterable<String> elements) {
+      testClassesBuilder = ImmutableList.builder();
+      return addAllTestClasses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJUnitJvmArgs#getTestClasses() testClasses} list.
+     * @param elements iterable of testClasses elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllTestClasses(Iterable<String> elements) {
+      testClassesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJUnitJvmArgs#getTestSelectorList() testSelectorList}.
+     * @param testSelectorList value for testSelectorList
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestSelectorList(TestSelectorList testSelectorList) {
+      this.testSelectorList = Optional.of(testSelectorList);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJUnitJvmArgs#getTestSelectorList() testSelectorList}.
+     * @param testSelectorList value for testSelectorList
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestSelectorList(Optional<TestSelectorList> testSelectorList) {
+      this.testSelectorList = Preconditions.checkNotNull(testSelectorList);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.JUnitJvmArgs JUnitJvmArgs}.
+     * @return immutable instance of JUnitJvmArgs
+     */
+    public JUnitJvmArgs build() {
+      checkRequiredAttributes();
+      return new JUnitJvmArgs(this);
+    }
+
+    private boolean debugEnabledIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_DEBUG_ENABLED) != 0;
+    }
+
+    private boolean codeCoverageEnabledIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_CODE_COVERAGE_ENABLED) != 0;
+    }
+
+    private boolean dryRunIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_DRY_RUN) != 0;
+    }
+
+    private boolean classpathFileIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CLASSPATH_FILE) != 0;
+    }
+
+    private boolean testTypeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TEST_TYPE) != 0;
+    }
+
+    private boolean buildIdIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUILD_ID) != 0;
+    }
+
+    private boolean buckModuleBaseSourceCodePathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUCK_MODULE_BASE_SOURCE_CODE_PATH) != 0;
+    }
+
+    private boolean testRunnerClasspathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TEST_RUNNER_CLASSPATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!classpathFileIsSet()) {
+        attributes.add("classpathFile");
+      }
+      if (!testTypeIsSet()) {
+        attributes.add("testType");
+      }
+      if (!buildIdIsSet()) {
+        attributes.add("buildId");
+      }
+      if (!buckModuleBaseSourceCodePathIsSet()) {
+        attributes.add("buckModuleBaseSourceCodePath");
+      }
+      if (!testRunnerClasspathIsSet()) {
+        attributes.add("testRunnerClasspath");
+      }
+      return "Cannot build JUnitJvmArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
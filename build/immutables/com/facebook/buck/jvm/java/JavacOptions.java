@@ -0,0 +1,972 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractJavacOptions}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code JavacOptions.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacOptions"})
+@Immutable
+public final class JavacOptions extends AbstractJavacOptions {
+  private final Optional<Path> javacPath;
+  private final Optional<SourcePath> javacJarPath;
+  private final AbstractJavacOptions.SpoolMode spoolMode;
+  private final boolean productionBuild;
+  private final boolean verbose;
+  private final String sourceLevel;
+  private final String targetLevel;
+  private final AnnotationProcessingParams annotationProcessingParams;
+  private final ImmutableList<String> extraArguments;
+  private final Optional<String> bootclasspath;
+  private final ImmutableMap<String, String> sourceToBootclasspath;
+
+  private JavacOptions(JavacOptions.Builder builder) {
+    this.javacPath = builder.javacPath;
+    this.javacJarPath = builder.javacJarPath;
+    this.sourceLevel = builder.sourceLevel;
+    this.targetLevel = builder.targetLevel;
+    this.extraArguments = builder.extraArgumentsBuilder.build();
+    this.bootclasspath = builder.bootclasspath;
+    this.sourceToBootclasspath = builder.sourceToBootclasspathBuilder.build();
+    this.spoolMode = builder.spoolMode != null
+        ? builder.spoolMode
+        : Preconditions.checkNotNull(super.getSpoolMode());
+    this.productionBuild = builder.productionBuildIsSet()
+        ? builder.productionBuild
+        : super.isProductionBuild();
+    this.verbose = builder.verboseIsSet()
+        ? builder.verbose
+        : super.isVerbose();
+    this.annotationProcessingParams = builder.annotationProcessingParams != null
+        ? builder.annotationProcessingParams
+        : Preconditions.checkNotNull(super.getAnnotationProcessingParams());
+  }
+
+  private JavacOptions(
+      Optional<Path> javacPath,
+      Optional<SourcePath> javacJarPath,
+      AbstractJavacOptions.SpoolMode spoolMode,
+      boolean productionBuild,
+      boolean verbose,
+      String sourceLevel,
+      String targetLevel,
+      AnnotationProcessingParams annotationProcessingParams,
+      ImmutableList<String> extraArguments,
+      Optional<String> bootclasspath,
+      ImmutableMap<String, String> sourceToBootclasspath) {
+    this.javacPath = javacPath;
+    this.javacJarPath = javacJarPath;
+    this.spoolMode = spoolMode;
+    this.productionBuild = productionBuild;
+    this.verbose = verbose;
+    this.sourceLevel = sourceLevel;
+    this.targetLevel = targetLevel;
+    this.annotationProcessingParams = annotationProcessingParams;
+    this.extraArguments = extraArguments;
+    this.bootclasspath = bootclasspath;
+    this.sourceToBootclasspath = sourceToBootclasspath;
+  }
+
+  /**
+   * @return value of {@code javacPath} attribute
+   */
+  @Override
+  public Optional<Path> getJavacPath() {
+    return javacPath;
+  }
+
+  /**
+   * @return value of {@code javacJarPath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavacJarPath() {
+    return javacJarPath;
+  }
+
+  /**
+   * @return value of {@code spoolMode} attribute
+   */
+  @Override
+  public AbstractJavacOptions.SpoolMode getSpoolMode() {
+    return spoolMode;
+  }
+
+  /**
+   * @return value of {@code productionBuild} attribute
+   */
+  @Override
+  public boolean isProductionBuild() {
+    return productionBuild;
+  }
+
+  /**
+   * @return value of {@code verbose} attribute
+   */
+  @Override
+  public boolean isVerbose() {
+    return verbose;
+  }
+
+  /**
+   * @return value of {@code sourceLevel} attribute
+   */
+  @Override
+  public String getSourceLevel() {
+    return sourceLevel;
+  }
+
+  /**
+   * @return value of {@code targetLevel} attribute
+   */
+  @Override
+  public String getTargetLevel() {
+    return targetLevel;
+  }
+
+  /**
+   * @return value of {@code annotationProcessingParams} attribute
+   */
+  @Override
+  public AnnotationProcessingParams getAnnotationProcessingParams() {
+    return annotationProcessingParams;
+  }
+
+  /**
+   * @return value of {@code extraArguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraArguments() {
+    return extraArguments;
+  }
+
+  /**
+   * @return value of {@code bootclasspath} attribute
+   */
+  @Override
+  public Optional<String> getBootclasspath() {
+    return bootclasspath;
+  }
+
+  /**
+   * @return value of {@code sourceToBootclasspath} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getSourceToBootclasspath() {
+    return sourceToBootclasspath;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJavacOptions#getJavacPath() javacPath}.
+   * @param value value for javacPath
+   * @return modified copy of {@code this} object
+   */
+  public final JavacOptions withJavacPath(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return new JavacOptions(
+            newValue,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJavacOptions#getJavacPath() javacPath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for javacPath
+   * @return modified copy of {@code this} object
+   */
+  public final JavacOptions withJavacPath(Optional<Path> optional) {
+    if (this.javacPath == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return new JavacOptions(
+            newValue,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJavacOptions#getJavacJarPath() javacJarPath}.
+   * @param value value for javacJarPath
+   * @return modified copy of {@code this} object
+   */
+  public final JavacOptions withJavacJarPath(SourcePath value) {
+    Optional<SourcePath> newValue = Optional.of(value);
+    return new JavacOptions(
+            this.javacPath,
+            newValue,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJavacOptions#getJavacJarPath() javacJarPath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for javacJarPath
+   * @return modified copy of {@code this} object
+   */
+  public final JavacOptions withJavacJarPath(Optional<SourcePath> optional) {
+    if (this.javacJarPath == optional) {
+      return this;
+    }
+    Optional<SourcePath> newValue = Preconditions.checkNotNull(optional);
+    return new JavacOptions(
+            this.javacPath,
+            newValue,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJavacOptions#getSpoolMode() spoolMode}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for spoolMode
+   * @return modified copy of the {@code this} object
+   */
+  public final JavacOptions withSpoolMode(AbstractJavacOptions.SpoolMode value) {
+    if (this.spoolMode == value) {
+      return this;
+    }
+    AbstractJavacOptions.SpoolMode newValue = Preconditions.checkNotNull(value);
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            newValue,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJavacOptions#isProductionBuild() productionBuild}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for productionBuild
+   * @return modified copy of the {@code this} object
+   */
+  public final JavacOptions withProductionBuild(boolean value) {
+    if (this.productionBuild == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            newValue,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJavacOptions#isVerbose() verbose}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for verbose
+   * @return modified copy of the {@code this} object
+   */
+  public final JavacOptions withVerbose(boolean value) {
+    if (this.verbose == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            newValue,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJavacOptions#getSourceLevel() sourceLevel}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sourceLevel
+   * @return modified copy of the {@code this} object
+   */
+  public final JavacOptions withSourceLevel(String value) {
+    if (this.sourceLevel == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            newValue,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJavacOptions#getTargetLevel() targetLevel}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for targetLevel
+   * @return modified copy of the {@code this} object
+   */
+  public final JavacOptions withTargetLevel(String value) {
+    if (this.targetLevel == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            newValue,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJavacOptions#getAnnotationProcessingParams() annotationProcessingParams}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for annotationProcessingParams
+   * @return modified copy of the {@code this} object
+   */
+  public final JavacOptions withAnnotationProcessingParams(AnnotationProcessingParams value) {
+    if (this.annotationProcessingParams == value) {
+      return this;
+    }
+    AnnotationProcessingParams newValue = Preconditions.checkNotNull(value);
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            newValue,
+            this.extraArguments,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractJavacOptions#getExtraArguments() extraArguments}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final JavacOptions withExtraArguments(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            newValue,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractJavacOptions#getExtraArguments() extraArguments}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of extraArguments elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final JavacOptions withExtraArguments(Iterable<String> elements) {
+    if (this.extraArguments == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            newValue,
+            this.bootclasspath,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractJavacOptions#getBootclasspath() bootclasspath}.
+   * @param value value for bootclasspath
+   * @return modified copy of {@code this} object
+   */
+  public final JavacOptions withBootclasspath(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            newValue,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractJavacOptions#getBootclasspath() bootclasspath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for bootclasspath
+   * @return modified copy of {@code this} object
+   */
+  public final JavacOptions withBootclasspath(Optional<String> optional) {
+    if (this.bootclasspath == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            newValue,
+            this.sourceToBootclasspath);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to sourceToBootclasspath map
+   * @return modified copy of {@code this} object
+   */
+  public final JavacOptions withSourceToBootclasspath(Map<String, ? extends String> entries) {
+    if (this.sourceToBootclasspath == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new JavacOptions(
+            this.javacPath,
+            this.javacJarPath,
+            this.spoolMode,
+            this.productionBuild,
+            this.verbose,
+            this.sourceLevel,
+            this.targetLevel,
+            this.annotationProcessingParams,
+            this.extraArguments,
+            this.bootclasspath,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code JavacOptions} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof JavacOptions && equalTo((JavacOptions) another));
+  }
+
+  private boolean equalTo(JavacOptions another) {
+    return javacPath.equals(another.javacPath)
+        && javacJarPath.equals(another.javacJarPath)
+        && spoolMode.equals(another.spoolMode)
+        && productionBuild == another.productionBuild
+        && verbose == another.verbose
+        && sourceLevel.equals(another.sourceLevel)
+        && targetLevel.equals(another.targetLevel)
+        && annotationProcessingParams.equals(another.annotationProcessingParams)
+        && extraArguments.equals(another.extraArguments)
+        && bootclasspath.equals(another.bootclasspath)
+        && sourceToBootclasspath.equals(another.sourceToBootclasspath);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code javacPath}, {@code javacJarPath}, {@code spoolMode}, {@code productionBuild}, {@code verbose}, {@code sourceLevel}, {@code targetLevel}, {@code annotationProcessingParams}, {@code extraArguments}, {@code bootclasspath}, {@code sourceToBootclasspath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + javacPath.hashCode();
+    h = h * 17 + javacJarPath.hashCode();
+    h = h * 17 + spoolMode.hashCode();
+    h = h * 17 + Booleans.hashCode(productionBuild);
+    h = h * 17 + Booleans.hashCode(verbose);
+    h = h * 17 + sourceLevel.hashCode();
+    h = h * 17 + targetLevel.hashCode();
+    h = h * 17 + annotationProcessingParams.hashCode();
+    h = h * 17 + extraArguments.hashCode();
+    h = h * 17 + bootclasspath.hashCode();
+    h = h * 17 + sourceToBootclasspath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code JavacOptions{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacOptions")
+        .add("javacPath", javacPath)
+        .add("javacJarPath", javacJarPath)
+        .add("spoolMode", spoolMode)
+        .add("productionBuild", productionBuild)
+        .add("verbose", verbose)
+        .add("sourceLevel", sourceLevel)
+        .add("targetLevel", targetLevel)
+        .add("annotationProcessingParams", annotationProcessingParams)
+        .add("extraArguments", extraArguments)
+        .add("bootclasspath", bootclasspath)
+        .add("sourceToBootclasspath", sourceToBootclasspath)
+        .toString();
+  }
+
+  @GuardedBy("this")
+  private volatile long lazyInitBitmap;
+
+  private static final long JAVAC_LAZY_INIT_BIT = 0x1L;
+
+  @GuardedBy("this")
+  private Javac javac;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns lazily initialized value of {@link AbstractJavacOptions#getJavac() javac} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return lazily initialized value of {@code l.name}
+   */
+  @Override
+  public Javac getJavac() {
+    if ((lazyInitBitmap & JAVAC_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAVAC_LAZY_INIT_BIT) == 0) {
+          this.javac = Preconditions.checkNotNull(super.getJavac());
+          lazyInitBitmap |= JAVAC_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return javac;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractJavacOptions}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable JavacOptions instance
+   */
+  public static JavacOptions copyOf(AbstractJavacOptions instance) {
+    if (instance instanceof JavacOptions) {
+      return (JavacOptions) instance;
+    }
+    return JavacOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.JavacOptions JavacOptions}.
+   * @return new JavacOptions builder
+   */
+  public static JavacOptions.Builder builder() {
+    return new JavacOptions.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.JavacOptions JavacOptions}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_SOURCE_LEVEL = 0x1L;
+    private static final long INITIALIZED_BIT_TARGET_LEVEL = 0x2L;
+    private static final long NONDEFAULT_BIT_PRODUCTION_BUILD = 0x1L;
+    private static final long NONDEFAULT_BIT_VERBOSE = 0x2L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private Optional<Path> javacPath = Optional.absent();
+    private Optional<SourcePath> javacJarPath = Optional.absent();
+    private @Nullable AbstractJavacOptions.SpoolMode spoolMode;
+    private boolean productionBuild;
+    private boolean verbose;
+    private @Nullable String sourceLevel;
+    private @Nullable String targetLevel;
+    private @Nullable AnnotationProcessingParams annotationProcessingParams;
+    private ImmutableList.Builder<String> extraArgumentsBuilder = ImmutableList.builder();
+    private Optional<String> bootclasspath = Optional.absent();
+    private ImmutableMap.Builder<String, String> sourceToBootclasspathBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractJavacOptions} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractJavacOptions instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<Path> javacPathOptional = instance.getJavacPath();
+      if (javacPathOptional.isPresent()) {
+        setJavacPath(javacPathOptional);
+      }
+      Optional<SourcePath> javacJarPathOptional = instance.getJavacJarPath();
+      if (javacJarPathOptional.isPresent()) {
+        setJavacJarPath(javacJarPathOptional);
+      }
+      setSpoolMode(instance.getSpoolMode());
+      setProductionBuild(instance.isProductionBuild());
+      setVerbose(instance.isVerbose());
+      setSourceLevel(instance.getSourceLevel());
+      setTargetLevel(instance.getTargetLevel());
+      setAnnotationProcessingParams(instance.getAnnotationProcessingParams());
+      addAllExtraArguments(instance.getExtraArguments());
+      Optional<String> bootclasspathOptional = instance.getBootclasspath();
+      if (bootclasspathOptional.isPresent()) {
+        setBootclasspath(bootclasspathOptional);
+      }
+      putAllSourceToBootclasspath(instance.getSourceToBootclasspath());
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJavacOptions#getJavacPath() javacPath}.
+     * @param javacPath value for javacPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavacPath(Path javacPath) {
+      this.javacPath = Optional.of(javacPath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJavacOptions#getJavacPath() javacPath}.
+     * @param javacPath value for javacPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavacPath(Optional<Path> javacPath) {
+      this.javacPath = Preconditions.checkNotNull(javacPath);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJavacOptions#getJavacJarPath() javacJarPath}.
+     * @param javacJarPath value for javacJarPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavacJarPath(SourcePath javacJarPath) {
+      this.javacJarPath = Optional.of(javacJarPath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJavacOptions#getJavacJarPath() javacJarPath}.
+     * @param javacJarPath value for javacJarPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavacJarPath(Optional<SourcePath> javacJarPath) {
+      this.javacJarPath = Preconditions.checkNotNull(javacJarPath);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJavacOptions#getSpoolMode() spoolMode}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractJavacOptions#getSpoolMode() spoolMode}.</em>
+     * @param spoolMode value for spoolMode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSpoolMode(AbstractJavacOptions.SpoolMode spoolMode) {
+      this.spoolMode = Preconditions.checkNotNull(spoolMode);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJavacOptions#isProductionBuild() productionBuild}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractJavacOptions#isProductionBuild() productionBuild}.</em>
+     * @param productionBuild value for productionBuild
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProductionBuild(boolean productionBuild) {
+      this.productionBuild = productionBuild;
+      nondefaultBitset |= NONDEFAULT_BIT_PRODUCTION_BUILD;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJavacOptions#isVerbose() verbose}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractJavacOptions#isVerbose() verbose}.</em>
+     * @param verbose value for verbose
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVerbose(boolean verbose) {
+      this.verbose = verbose;
+      nondefaultBitset |= NONDEFAULT_BIT_VERBOSE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJavacOptions#getSourceLevel() sourceLevel}.
+     * @param sourceLevel value for sourceLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceLevel(String sourceLevel) {
+      this.sourceLevel = Preconditions.checkNotNull(sourceLevel);
+      initializedBitset |= INITIALIZED_BIT_SOURCE_LEVEL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJavacOptions#getTargetLevel() targetLevel}.
+     * @param targetLevel value for targetLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetLevel(String targetLevel) {
+      this.targetLevel = Preconditions.checkNotNull(targetLevel);
+      initializedBitset |= INITIALIZED_BIT_TARGET_LEVEL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJavacOptions#getAnnotationProcessingParams() annotationProcessingParams}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractJavacOptions#getAnnotationProcessingParams() annotationProcessingParams}.</em>
+     * @param annotationProcessingParams value for annotationProcessingParams
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAnnotationProcessingParams(AnnotationProcessingParams annotationProcessingParams) {
+      this.annotationProcessingParams = Preconditions.checkNotNull(annotationProcessingParams);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacOptions#getExtraArguments() extraArguments} list.
+     * @param element extraArguments element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addExtraArguments(String element) {
+      extraArgumentsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacOptions#getExtraArguments() extraArguments} list.
+     * @param elements array of extraArguments elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addExtraArguments(String... elements) {
+      extraArgumentsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacOptions#getExtraArguments() extraArguments} list.
+     * @param elements iterable of extraArguments elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtraArguments(Iterable<String> elements) {
+      extraArgumentsBuilder = ImmutableList.builder();
+      return addAllExtraArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacOptions#getExtraArguments() extraArguments} list.
+     * @param elements iterable of extraArguments elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllExtraArguments(Iterable<String> elements) {
+      extraArgumentsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractJavacOptions#getBootclasspath() bootclasspath}.
+     * @param bootclasspath value for bootclasspath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBootclasspath(String bootclasspath) {
+      this.bootclasspath = Optional.of(bootclasspath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractJavacOptions#getBootclasspath() bootclasspath}.
+     * @param bootclasspath value for bootclasspath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBootclasspath(Optional<String> bootclasspath) {
+      this.bootclasspath = Preconditions.checkNotNull(bootclasspath);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map.
+     * @param key the key in sourceToBootclasspath map
+     * @param value the associated value in sourceToBootclasspath map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putSourceToBootclasspath(String key, String value) {
+      sourceToBootclasspathBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putSourceToBootclasspath(Map.Entry<String, ? extends String> entry) {
+      sourceToBootclasspathBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map. Nulls are not permitted
+     * @param entries to be added to sourceToBootclasspath map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceToBootclasspath(Map<String, ? extends String> entries) {
+      sourceToBootclasspathBuilder = ImmutableMap.builder();
+      return putAllSourceToBootclasspath(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map. Nulls are not permitted
+     * @param entries to be added to sourceToBootclasspath map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllSourceToBootclasspath(Map<String, ? extends String> entries) {
+      sourceToBootclasspathBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.JavacOptions JavacOptions}.
+     * @return immutable instance of JavacOptions
+     */
+    public JavacOptions build() {
+      checkRequiredAttributes();
+      return new JavacOptions(this);
+    }
+
+    private boolean productionBuildIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_PRODUCTION_BUILD) != 0;
+    }
+
+    private boolean verboseIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_VERBOSE) != 0;
+    }
+
+    private boolean sourceLevelIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SOURCE_LEVEL) != 0;
+    }
+
+    private boolean targetLevelIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TARGET_LEVEL) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!sourceLevelIsSet()) {
+        attributes.add("sourceLevel");
+      }
+      if (!targetLevelIsSet()) {
+        attributes.add("targetLevel");
+      }
+      return "Cannot build JavacOptions, some of required attributes are not set " + attributes;
+    }
+  }
+}
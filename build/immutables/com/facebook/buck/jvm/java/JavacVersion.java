@@ -0,0 +1,183 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractJavacVersion}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code JavacVersion.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code JavacVersion.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacVersion"})
+@Immutable
+public final class JavacVersion extends AbstractJavacVersion {
+  private final String versionString;
+
+  private JavacVersion(String versionString) {
+    this.versionString = Preconditions.checkNotNull(versionString);
+  }
+
+  private JavacVersion(JavacVersion original, String versionString) {
+    this.versionString = versionString;
+  }
+
+  /**
+   * @return value of {@code versionString} attribute
+   */
+  @Override
+  public String getVersionString() {
+    return versionString;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractJavacVersion#getVersionString() versionString}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for versionString
+   * @return modified copy of the {@code this} object
+   */
+  public final JavacVersion withVersionString(String value) {
+    if (this.versionString == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new JavacVersion(this, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code JavacVersion} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof JavacVersion && equalTo((JavacVersion) another));
+  }
+
+  private boolean equalTo(JavacVersion another) {
+    return versionString.equals(another.versionString);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code versionString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + versionString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code JavacVersion} instance.
+   * @param versionString value for {@code versionString}
+   * @return immutable JavacVersion instance
+   */
+  public static com.facebook.buck.jvm.java.JavacVersion of(String versionString) {
+    return new JavacVersion(versionString);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractJavacVersion}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable JavacVersion instance
+   */
+  public static JavacVersion copyOf(AbstractJavacVersion instance) {
+    if (instance instanceof JavacVersion) {
+      return (JavacVersion) instance;
+    }
+    return JavacVersion.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.JavacVersion JavacVersion}.
+   * @return new JavacVersion builder
+   */
+  public static JavacVersion.Builder builder() {
+    return new JavacVersion.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.JavacVersion JavacVersion}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_VERSION_STRING = 0x1L;
+    private long initializedBitset;
+    private @Nullable String versionString;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractJavacVersion} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractJavacVersion instance) {
+      Preconditions.checkNotNull(instance);
+      setVersionString(instance.getVersionString());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractJavacVersion#getVersionString() versionString}.
+     * @param versionString value for versionString
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionString(String versionString) {
+      this.versionString = Preconditions.checkNotNull(versionString);
+      initializedBitset |= INITIALIZED_BIT_VERSION_STRING;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.JavacVersion JavacVersion}.
+     * @return immutable instance of JavacVersion
+     */
+    public JavacVersion build() {
+      checkRequiredAttributes();
+      return new JavacVersion(null, versionString);
+    }
+
+    private boolean versionStringIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_VERSION_STRING) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!versionStringIsSet()) {
+        attributes.add("versionString");
+      }
+      return "Cannot build JavacVersion, some of required attributes are not set " + attributes;
+    }
+  }
+}
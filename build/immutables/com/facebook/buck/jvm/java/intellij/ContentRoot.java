@@ -0,0 +1,231 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link IjProjectTemplateDataPreparer.AbstractContentRoot}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ContentRoot.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjProjectTemplateDataPreparer.AbstractContentRoot"})
+@Immutable
+public final class ContentRoot
+    extends IjProjectTemplateDataPreparer.AbstractContentRoot {
+  private final String url;
+  private final ImmutableSortedSet<IjSourceFolder> folders;
+
+  private ContentRoot(String url, ImmutableSortedSet<IjSourceFolder> folders) {
+    this.url = url;
+    this.folders = folders;
+  }
+
+  /**
+   * @return value of {@code url} attribute
+   */
+  @Override
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * @return value of {@code folders} attribute
+   */
+  @Override
+  public ImmutableSortedSet<IjSourceFolder> getFolders() {
+    return folders;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractContentRoot#getUrl() url}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for url
+   * @return modified copy of the {@code this} object
+   */
+  public final ContentRoot withUrl(String value) {
+    if (this.url == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ContentRoot(newValue, this.folders);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractContentRoot#getFolders() folders}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for folders
+   * @return modified copy of the {@code this} object
+   */
+  public final ContentRoot withFolders(ImmutableSortedSet<IjSourceFolder> value) {
+    if (this.folders == value) {
+      return this;
+    }
+    ImmutableSortedSet<IjSourceFolder> newValue = Preconditions.checkNotNull(value);
+    return new ContentRoot(this.url, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ContentRoot} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ContentRoot && equalTo((ContentRoot) another));
+  }
+
+  private boolean equalTo(ContentRoot another) {
+    return url.equals(another.url)
+        && folders.equals(another.folders);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code url}, {@code folders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + url.hashCode();
+    h = h * 17 + folders.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ContentRoot{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ContentRoot")
+        .add("url", url)
+        .add("folders", folders)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link IjProjectTemplateDataPreparer.AbstractContentRoot}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ContentRoot instance
+   */
+  public static ContentRoot copyOf(IjProjectTemplateDataPreparer.AbstractContentRoot instance) {
+    if (instance instanceof ContentRoot) {
+      return (ContentRoot) instance;
+    }
+    return ContentRoot.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.intellij.ContentRoot ContentRoot}.
+   * @return new ContentRoot builder
+   */
+  public static ContentRoot.Builder builder() {
+    return new ContentRoot.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.intellij.ContentRoot ContentRoot}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_URL = 0x1L;
+    private static final long INITIALIZED_BIT_FOLDERS = 0x2L;
+    private long initializedBitset;
+    private @Nullable String url;
+    private @Nullable ImmutableSortedSet<IjSourceFolder> folders;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link IjProjectTemplateDataPreparer.AbstractContentRoot} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(IjProjectTemplateDataPreparer.AbstractContentRoot instance) {
+      Preconditions.checkNotNull(instance);
+      setUrl(instance.getUrl());
+      setFolders(instance.getFolders());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractContentRoot#getUrl() url}.
+     * @param url value for url
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUrl(String url) {
+      this.url = Preconditions.checkNotNull(url);
+      initializedBitset |= INITIALIZED_BIT_URL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractContentRoot#getFolders() folders}.
+     * @param folders value for folders
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFolders(ImmutableSortedSet<IjSourceFolder> folders) {
+      this.folders = Preconditions.checkNotNull(folders);
+      initializedBitset |= INITIALIZED_BIT_FOLDERS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.intellij.ContentRoot ContentRoot}.
+     * @return immutable instance of ContentRoot
+     */
+    public ContentRoot build() {
+      checkRequiredAttributes();
+      return new ContentRoot(url, folders);
+    }
+
+    private boolean urlIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_URL) != 0;
+    }
+
+    private boolean foldersIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FOLDERS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!urlIsSet()) {
+        attributes.add("url");
+      }
+      if (!foldersIsSet()) {
+        attributes.add("folders");
+      }
+      return "Cannot build ContentRoot, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,301 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link IjDependencyListBuilder.AbstractDependencyEntry}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code DependencyEntry.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjDependencyListBuilder.AbstractDependencyEntry"})
+@Immutable
+public final class DependencyEntry
+    extends IjDependencyListBuilder.AbstractDependencyEntry {
+  private final Optional<DependencyEntryData> data;
+  private final IjDependencyListBuilder.Type type;
+  private final IjDependencyListBuilder.SortOrder sortOrder;
+
+  private DependencyEntry(
+      Optional<DependencyEntryData> data,
+      IjDependencyListBuilder.Type type,
+      IjDependencyListBuilder.SortOrder sortOrder) {
+    this.data = data;
+    this.type = type;
+    this.sortOrder = sortOrder;
+  }
+
+  /**
+   * @return value of {@code data} attribute
+   */
+  @Override
+  public Optional<DependencyEntryData> getData() {
+    return data;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public IjDependencyListBuilder.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code sortOrder} attribute
+   */
+  @Override
+  public IjDependencyListBuilder.SortOrder getSortOrder() {
+    return sortOrder;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link IjDependencyListBuilder.AbstractDependencyEntry#getData() data}.
+   * @param value value for data
+   * @return modified copy of {@code this} object
+   */
+  public final DependencyEntry withData(DependencyEntryData value) {
+    Optional<DependencyEntryData> newValue = Optional.of(value);
+    return validate(new DependencyEntry(newValue, this.type, this.sortOrder));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link IjDependencyListBuilder.AbstractDependencyEntry#getData() data}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for data
+   * @return modified copy of {@code this} object
+   */
+  public final DependencyEntry withData(Optional<DependencyEntryData> optional) {
+    if (this.data == optional) {
+      return this;
+    }
+    Optional<DependencyEntryData> newValue = Preconditions.checkNotNull(optional);
+    return validate(new DependencyEntry(newValue, this.type, this.sortOrder));
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjDependencyListBuilder.AbstractDependencyEntry#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final DependencyEntry withType(IjDependencyListBuilder.Type value) {
+    if (this.type == value) {
+      return this;
+    }
+    IjDependencyListBuilder.Type newValue = Preconditions.checkNotNull(value);
+    return validate(new DependencyEntry(this.data, newValue, this.sortOrder));
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjDependencyListBuilder.AbstractDependencyEntry#getSortOrder() sortOrder}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sortOrder
+   * @return modified copy of the {@code this} object
+   */
+  public final DependencyEntry withSortOrder(IjDependencyListBuilder.SortOrder value) {
+    if (this.sortOrder == value) {
+      return this;
+    }
+    IjDependencyListBuilder.SortOrder newValue = Preconditions.checkNotNull(value);
+    return validate(new DependencyEntry(this.data, this.type, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code DependencyEntry} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof DependencyEntry && equalTo((DependencyEntry) another));
+  }
+
+  private boolean equalTo(DependencyEntry another) {
+    return data.equals(another.data)
+        && type.equals(another.type)
+        && sortOrder.equals(another.sortOrder);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code data}, {@code type}, {@code sortOrder}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + data.hashCode();
+    h = h * 17 + type.hashCode();
+    h = h * 17 + sortOrder.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code DependencyEntry{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DependencyEntry")
+        .add("data", data)
+        .add("type", type)
+        .add("sortOrder", sortOrder)
+        .toString();
+  }
+
+  private static DependencyEntry validate(DependencyEntry instance) {
+    instance.dataOnlyAbsentForSourceFolder();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link IjDependencyListBuilder.AbstractDependencyEntry}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable DependencyEntry instance
+   */
+  public static DependencyEntry copyOf(IjDependencyListBuilder.AbstractDependencyEntry instance) {
+    if (instance instanceof DependencyEntry) {
+      return (DependencyEntry) instance;
+    }
+    return DependencyEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.intellij.DependencyEntry DependencyEntry}.
+   * @return new DependencyEntry builder
+   */
+  public static DependencyEntry.Builder builder() {
+    return new DependencyEntry.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.intellij.DependencyEntry DependencyEntry}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private static final long INITIALIZED_BIT_SORT_ORDER = 0x2L;
+    private long initializedBitset;
+    private Optional<DependencyEntryData> data = Optional.absent();
+    private @Nullable IjDependencyListBuilder.Type type;
+    private @Nullable IjDependencyListBuilder.SortOrder sortOrder;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link IjDependencyListBuilder.AbstractDependencyEntry} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(IjDependencyListBuilder.AbstractDependencyEntry instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<DependencyEntryData> dataOptional = instance.getData();
+      if (dataOptional.isPresent()) {
+        setData(dataOptional);
+      }
+      setType(instance.getType());
+      setSortOrder(instance.getSortOrder());
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link IjDependencyListBuilder.AbstractDependencyEntry#getData() data}.
+     * @param data value for data
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setData(DependencyEntryData data) {
+      this.data = Optional.of(data);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link IjDependencyListBuilder.AbstractDependencyEntry#getData() data}.
+     * @param data value for data
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setData(Optional<DependencyEntryData> data) {
+      this.data = Preconditions.checkNotNull(data);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjDependencyListBuilder.AbstractDependencyEntry#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(IjDependencyListBuilder.Type type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjDependencyListBuilder.AbstractDependencyEntry#getSortOrder() sortOrder}.
+     * @param sortOrder value for sortOrder
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSortOrder(IjDependencyListBuilder.SortOrder sortOrder) {
+      this.sortOrder = Preconditions.checkNotNull(sortOrder);
+      initializedBitset |= INITIALIZED_BIT_SORT_ORDER;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.intellij.DependencyEntry DependencyEntry}.
+     * @return immutable instance of DependencyEntry
+     */
+    public DependencyEntry build() {
+      checkRequiredAttributes();
+      return DependencyEntry.validate(new DependencyEntry(data, type, sortOrder));
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private boolean sortOrderIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SORT_ORDER) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      if (!sortOrderIsSet()) {
+        attributes.add("sortOrder");
+      }
+      return "Cannot build DependencyEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
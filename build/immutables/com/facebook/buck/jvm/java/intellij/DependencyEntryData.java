@@ -0,0 +1,282 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link IjDependencyListBuilder.AbstractDependencyEntryData}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code DependencyEntryData.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjDependencyListBuilder.AbstractDependencyEntryData"})
+@Immutable
+public final class DependencyEntryData
+    extends IjDependencyListBuilder.AbstractDependencyEntryData {
+  private final String name;
+  private final IjDependencyListBuilder.Scope scope;
+  private final boolean exported;
+
+  private DependencyEntryData(
+      String name,
+      IjDependencyListBuilder.Scope scope,
+      boolean exported) {
+    this.name = name;
+    this.scope = scope;
+    this.exported = exported;
+  }
+
+  /**
+   * @return value of {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return value of {@code scope} attribute
+   */
+  @Override
+  public IjDependencyListBuilder.Scope getScope() {
+    return scope;
+  }
+
+  /**
+   * @return value of {@code exported} attribute
+   */
+  @Override
+  public boolean getExported() {
+    return exported;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjDependencyListBuilder.AbstractDependencyEntryData#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final DependencyEntryData withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new DependencyEntryData(newValue, this.scope, this.exported);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjDependencyListBuilder.AbstractDependencyEntryData#getScope() scope}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for scope
+   * @return modified copy of the {@code this} object
+   */
+  public final DependencyEntryData withScope(IjDependencyListBuilder.Scope value) {
+    if (this.scope == value) {
+      return this;
+    }
+    IjDependencyListBuilder.Scope newValue = Preconditions.checkNotNull(value);
+    return new DependencyEntryData(this.name, newValue, this.exported);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjDependencyListBuilder.AbstractDependencyEntryData#getExported() exported}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for exported
+   * @return modified copy of the {@code this} object
+   */
+  public final DependencyEntryData withExported(boolean value) {
+    if (this.exported == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new DependencyEntryData(this.name, this.scope, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code DependencyEntryData} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof DependencyEntryData && equalTo((DependencyEntryData) another));
+  }
+
+  private boolean equalTo(DependencyEntryData another) {
+    return name.equals(another.name)
+        && scope.equals(another.scope)
+        && exported == another.exported;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code scope}, {@code exported}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + scope.hashCode();
+    h = h * 17 + Booleans.hashCode(exported);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code DependencyEntryData{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DependencyEntryData")
+        .add("name", name)
+        .add("scope", scope)
+        .add("exported", exported)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link IjDependencyListBuilder.AbstractDependencyEntryData}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable DependencyEntryData instance
+   */
+  public static DependencyEntryData copyOf(IjDependencyListBuilder.AbstractDependencyEntryData instance) {
+    if (instance instanceof DependencyEntryData) {
+      return (DependencyEntryData) instance;
+    }
+    return DependencyEntryData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.intellij.DependencyEntryData DependencyEntryData}.
+   * @return new DependencyEntryData builder
+   */
+  public static DependencyEntryData.Builder builder() {
+    return new DependencyEntryData.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.intellij.DependencyEntryData DependencyEntryData}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_NAME = 0x1L;
+    private static final long INITIALIZED_BIT_SCOPE = 0x2L;
+    private static final long INITIALIZED_BIT_EXPORTED = 0x4L;
+    private long initializedBitset;
+    private @Nullable String name;
+    private @Nullable IjDependencyListBuilder.Scope scope;
+    private boolean exported;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link IjDependencyListBuilder.AbstractDependencyEntryData} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(IjDependencyListBuilder.AbstractDependencyEntryData instance) {
+      Preconditions.checkNotNull(instance);
+      setName(instance.getName());
+      setScope(instance.getScope());
+      setExported(instance.getExported());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjDependencyListBuilder.AbstractDependencyEntryData#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjDependencyListBuilder.AbstractDependencyEntryData#getScope() scope}.
+     * @param scope value for scope
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setScope(IjDependencyListBuilder.Scope scope) {
+      this.scope = Preconditions.checkNotNull(scope);
+      initializedBitset |= INITIALIZED_BIT_SCOPE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjDependencyListBuilder.AbstractDependencyEntryData#getExported() exported}.
+     * @param exported value for exported
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExported(boolean exported) {
+      this.exported = exported;
+      initializedBitset |= INITIALIZED_BIT_EXPORTED;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.intellij.DependencyEntryData DependencyEntryData}.
+     * @return immutable instance of DependencyEntryData
+     */
+    public DependencyEntryData build() {
+      checkRequiredAttributes();
+      return new DependencyEntryData(name, scope, exported);
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private boolean scopeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SCOPE) != 0;
+    }
+
+    private boolean exportedIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_EXPORTED) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      if (!scopeIsSet()) {
+        attributes.add("scope");
+      }
+      if (!exportedIsSet()) {
+        attributes.add("exported");
+      }
+      return "Cannot build DependencyEntryData, some of required attributes are not set " + attributes;
+    }
+  }
+}
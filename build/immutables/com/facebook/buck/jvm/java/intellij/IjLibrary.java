@@ -0,0 +1,509 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.facebook.buck.rules.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractIjLibrary}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code IjLibrary.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIjLibrary"})
+@Immutable
+public final class IjLibrary extends AbstractIjLibrary {
+  private final String name;
+  private final ImmutableSet<TargetNode<?>> targets;
+  private final Optional<Path> binaryJar;
+  private final ImmutableSet<Path> classPaths;
+  private final Optional<Path> sourceJar;
+  private final Optional<String> javadocUrl;
+
+  private IjLibrary(
+      String name,
+      ImmutableSet<TargetNode<?>> targets,
+      Optional<Path> binaryJar,
+      ImmutableSet<Path> classPaths,
+      Optional<Path> sourceJar,
+      Optional<String> javadocUrl) {
+    this.name = name;
+    this.targets = targets;
+    this.binaryJar = binaryJar;
+    this.classPaths = classPaths;
+    this.sourceJar = sourceJar;
+    this.javadocUrl = javadocUrl;
+  }
+
+  /**
+   * @return value of {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return value of {@code targets} attribute
+   */
+  @Override
+  public ImmutableSet<TargetNode<?>> getTargets() {
+    return targets;
+  }
+
+  /**
+   * @return path to the binary (.jar or .aar) the library represents.
+   */
+  @Override
+  public Optional<Path> getBinaryJar() {
+    return binaryJar;
+  }
+
+  /**
+   * @return classPath paths
+   */
+  @Override
+  public ImmutableSet<Path> getClassPaths() {
+    return classPaths;
+  }
+
+  /**
+   * @return path to the jar containing sources for the library.
+   */
+  @Override
+  public Optional<Path> getSourceJar() {
+    return sourceJar;
+  }
+
+  /**
+   * @return url to the javadoc.
+   */
+  @Override
+  public Optional<String> getJavadocUrl() {
+    return javadocUrl;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractIjLibrary#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final IjLibrary withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return validate(new IjLibrary(newValue, this.targets, this.binaryJar, this.classPaths, this.sourceJar, this.javadocUrl));
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractIjLibrary#getTargets() targets}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for targets
+   * @return modified copy of the {@code this} object
+   */
+  public final IjLibrary withTargets(ImmutableSet<TargetNode<?>> value) {
+    if (this.targets == value) {
+      return this;
+    }
+    ImmutableSet<TargetNode<?>> newValue = Preconditions.checkNotNull(value);
+    return validate(new IjLibrary(this.name, newValue, this.binaryJar, this.classPaths, this.sourceJar, this.javadocUrl));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractIjLibrary#getBinaryJar() binaryJar}.
+   * @param value value for binaryJar
+   * @return modified copy of {@code this} object
+   */
+  public final IjLibrary withBinaryJar(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return validate(new IjLibrary(this.name, this.targets, newValue, this.classPaths, this.sourceJar, this.javadocUrl));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractIjLibrary#getBinaryJar() binaryJar}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for binaryJar
+   * @return modified copy of {@code this} object
+   */
+  public final IjLibrary withBinaryJar(Optional<Path> optional) {
+    if (this.binaryJar == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return validate(new IjLibrary(this.name, this.targets, newValue, this.classPaths, this.sourceJar, this.javadocUrl));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjLibrary#getClassPaths() classPaths}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjLibrary withClassPaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJar, newValue, this.sourceJar, this.javadocUrl));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjLibrary#getClassPaths() classPaths}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of classPaths elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjLibrary withClassPaths(Iterable<? extends Path> elements) {
+    if (this.classPaths == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJar, newValue, this.sourceJar, this.javadocUrl));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractIjLibrary#getSourceJar() sourceJar}.
+   * @param value value for sourceJar
+   * @return modified copy of {@code this} object
+   */
+  public final IjLibrary withSourceJar(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJar, this.classPaths, newValue, this.javadocUrl));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractIjLibrary#getSourceJar() sourceJar}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for sourceJar
+   * @return modified copy of {@code this} object
+   */
+  public final IjLibrary withSourceJar(Optional<Path> optional) {
+    if (this.sourceJar == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJar, this.classPaths, newValue, this.javadocUrl));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractIjLibrary#getJavadocUrl() javadocUrl}.
+   * @param value value for javadocUrl
+   * @return modified copy of {@code this} object
+   */
+  public final IjLibrary withJavadocUrl(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJar, this.classPaths, this.sourceJar, newValue));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractIjLibrary#getJavadocUrl() javadocUrl}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for javadocUrl
+   * @return modified copy of {@code this} object
+   */
+  public final IjLibrary withJavadocUrl(Optional<String> optional) {
+    if (this.javadocUrl == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return validate(new IjLibrary(this.name, this.targets, this.binaryJar, this.classPaths, this.sourceJar, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code IjLibrary} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof IjLibrary && equalTo((IjLibrary) another));
+  }
+
+  private boolean equalTo(IjLibrary another) {
+    return name.equals(another.name)
+        && targets.equals(another.targets)
+        && binaryJar.equals(another.binaryJar)
+        && classPaths.equals(another.classPaths)
+        && sourceJar.equals(another.sourceJar)
+        && javadocUrl.equals(another.javadocUrl);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code targets}, {@code binaryJar}, {@code classPaths}, {@code sourceJar}, {@code javadocUrl}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + targets.hashCode();
+    h = h * 17 + binaryJar.hashCode();
+    h = h * 17 + classPaths.hashCode();
+    h = h * 17 + sourceJar.hashCode();
+    h = h * 17 + javadocUrl.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code IjLibrary{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjLibrary")
+        .add("name", name)
+        .add("targets", targets)
+        .add("binaryJar", binaryJar)
+        .add("classPaths", classPaths)
+        .add("sourceJar", sourceJar)
+        .add("javadocUrl", javadocUrl)
+        .toString();
+  }
+
+  private static IjLibrary validate(IjLibrary instance) {
+    instance.eitherBinaryJarOrClassPathPresent();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractIjLibrary}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable IjLibrary instance
+   */
+  public static IjLibrary copyOf(AbstractIjLibrary instance) {
+    if (instance instanceof IjLibrary) {
+      return (IjLibrary) instance;
+    }
+    return IjLibrary.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.intellij.IjLibrary IjLibrary}.
+   * @return new IjLibrary builder
+   */
+  public static IjLibrary.Builder builder() {
+    return new IjLibrary.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.intellij.IjLibrary IjLibrary}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_NAME = 0x1L;
+    private static final long INITIALIZED_BIT_TARGETS = 0x2L;
+    private long initializedBitset;
+    private @Nullable String name;
+    private @Nullable ImmutableSet<TargetNode<?>> targets;
+    private Optional<Path> binaryJar = Optional.absent();
+    private ImmutableSet.Builder<Path> classPathsBuilder = ImmutableSet.builder();
+    private Optional<Path> sourceJar = Optional.absent();
+    private Optional<String> javadocUrl = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractIjLibrary} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractIjLibrary instance) {
+      Preconditions.checkNotNull(instance);
+      setName(instance.getName());
+      setTargets(instance.getTargets());
+      Optional<Path> binaryJarOptional = instance.getBinaryJar();
+      if (binaryJarOptional.isPresent()) {
+        setBinaryJar(binaryJarOptional);
+      }
+      addAllClassPaths(instance.getClassPaths());
+      Optional<Path> sourceJarOptional = instance.getSourceJar();
+      if (sourceJarOptional.isPresent()) {
+        setSourceJar(sourceJarOptional);
+      }
+      Optional<String> javadocUrlOptional = instance.getJavadocUrl();
+      if (javadocUrlOptional.isPresent()) {
+        setJavadocUrl(javadocUrlOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractIjLibrary#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractIjLibrary#getTargets() targets}.
+     * @param targets value for targets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargets(ImmutableSet<TargetNode<?>> targets) {
+      this.targets = Preconditions.checkNotNull(targets);
+      initializedBitset |= INITIALIZED_BIT_TARGETS;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractIjLibrary#getBinaryJar() binaryJar}.
+     * @param binaryJar value for binaryJar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBinaryJar(Path binaryJar) {
+      this.binaryJar = Optional.of(binaryJar);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractIjLibrary#getBinaryJar() binaryJar}.
+     * @param binaryJar value for binaryJar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBinaryJar(Optional<Path> binaryJar) {
+      this.binaryJar = Preconditions.checkNotNull(binaryJar);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjLibrary#getClassPaths() classPaths} set.
+     * @param element classPaths element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addClassPaths(Path element) {
+      classPathsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getClassPaths() classPaths} set.
+     * @param elements array of classPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addClassPaths(Path... elements) {
+      classPathsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjLibrary#getClassPaths() classPaths} set.
+     * @param elements iterable of classPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setClassPaths(Iterable<? extends Path> elements) {
+      classPathsBuilder = ImmutableSet.builder();
+      return addAllClassPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjLibrary#getClassPaths() classPaths} set.
+     * @param elements iterable of classPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllClassPaths(Iterable<? extends Path> elements) {
+      classPathsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractIjLibrary#getSourceJar() sourceJar}.
+     * @param sourceJar value for sourceJar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceJar(Path sourceJar) {
+      this.sourceJar = Optional.of(sourceJar);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractIjLibrary#getSourceJar() sourceJar}.
+     * @param sourceJar value for sourceJar
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceJar(Optional<Path> sourceJar) {
+      this.sourceJar = Preconditions.checkNotNull(sourceJar);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractIjLibrary#getJavadocUrl() javadocUrl}.
+     * @param javadocUrl value for javadocUrl
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavadocUrl(String javadocUrl) {
+      this.javadocUrl = Optional.of(javadocUrl);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractIjLibrary#getJavadocUrl() javadocUrl}.
+     * @param javadocUrl value for javadocUrl
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavadocUrl(Optional<String> javadocUrl) {
+      this.javadocUrl = Preconditions.checkNotNull(javadocUrl);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.intellij.IjLibrary IjLibrary}.
+     * @return immutable instance of IjLibrary
+     */
+    public IjLibrary build() {
+      checkRequiredAttributes();
+      return IjLibrary.validate(new IjLibrary(name, targets, binaryJar, classPathsBuilder.build(), sourceJar, javadocUrl));
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private boolean targetsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TARGETS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      if (!targetsIsSet()) {
+        attributes.add("targets");
+      }
+      return "Cannot build IjLibrary, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,614 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractIjModule}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code IjModule.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIjModule"})
+@Immutable
+public final class IjModule extends AbstractIjModule {
+  private final String name;
+  private final ImmutableSet<TargetNode<?>> targets;
+  private final Path moduleBasePath;
+  private final ImmutableSet<IjFolder> folders;
+  private final ImmutableMap<BuildTarget, IjModuleGraph.DependencyType> dependencies;
+  private final Optional<IjModuleAndroidFacet> androidFacet;
+  private final ImmutableSet<Path> extraClassPathDependencies;
+  private final Path moduleImlFilePath;
+
+  private IjModule(
+      ImmutableSet<TargetNode<?>> targets,
+      Path moduleBasePath,
+      ImmutableSet<IjFolder> folders,
+      ImmutableMap<BuildTarget, IjModuleGraph.DependencyType> dependencies,
+      Optional<IjModuleAndroidFacet> androidFacet,
+      ImmutableSet<Path> extraClassPathDependencies) {
+    this.targets = targets;
+    this.moduleBasePath = moduleBasePath;
+    this.folders = folders;
+    this.dependencies = dependencies;
+    this.androidFacet = androidFacet;
+    this.extraClassPathDependencies = extraClassPathDependencies;
+    this.name = Preconditions.checkNotNull(super.getName());
+    this.moduleImlFilePath = Preconditions.checkNotNull(super.getModuleImlFilePath());
+  }
+
+  /**
+   * @return computed at construction value of {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return value of {@code targets} attribute
+   */
+  @Override
+  public ImmutableSet<TargetNode<?>> getTargets() {
+    return targets;
+  }
+
+  /**
+   * @return path to the top-most directory the module is responsible for. This is also where the
+   * corresponding .iml file is located.
+   */
+  @Override
+  public Path getModuleBasePath() {
+    return moduleBasePath;
+  }
+
+  /**
+   * @return paths to various directories the module is responsible for.
+   */
+  @Override
+  public ImmutableSet<IjFolder> getFolders() {
+    return folders;
+  }
+
+  /**
+   * @return map of {@link BuildTarget}s the module depends on and information on whether it's a
+   *         test-only dependency or not.
+   */
+  @Override
+  public ImmutableMap<BuildTarget, IjModuleGraph.DependencyType> getDependencies() {
+    return dependencies;
+  }
+
+  /**
+   * @return value of {@code androidFacet} attribute
+   */
+  @Override
+  public Optional<IjModuleAndroidFacet> getAndroidFacet() {
+    return androidFacet;
+  }
+
+  /**
+   * @return a set of classpaths that the module requires to index correctly.
+   */
+  @Override
+  public ImmutableSet<Path> getExtraClassPathDependencies() {
+    return extraClassPathDependencies;
+  }
+
+  /**
+   * @return path where the XML describing the module to IntelliJ will be written to.
+   */
+  @Override
+  public Path getModuleImlFilePath() {
+    return moduleImlFilePath;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractIjModule#getTargets() targets}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for targets
+   * @return modified copy of the {@code this} object
+   */
+  public final IjModule withTargets(ImmutableSet<TargetNode<?>> value) {
+    if (this.targets == value) {
+      return this;
+    }
+    ImmutableSet<TargetNode<?>> newValue = Preconditions.checkNotNull(value);
+    return validate(new IjModule(
+            newValue,
+            this.moduleBasePath,
+            this.folders,
+            this.dependencies,
+            this.androidFacet,
+            this.extraClassPathDependencies));
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractIjModule#getModuleBasePath() moduleBasePath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for moduleBasePath
+   * @return modified copy of the {@code this} object
+   */
+  public final IjModule withModuleBasePath(Path value) {
+    if (this.moduleBasePath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return validate(new IjModule(
+            this.targets,
+            newValue,
+            this.folders,
+            this.dependencies,
+            this.androidFacet,
+            this.extraClassPathDependencies));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjModule#getFolders() folders}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjModule withFolders(IjFolder... elements) {
+    ImmutableSet<IjFolder> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+            this.targets,
+            this.moduleBasePath,
+            newValue,
+            this.dependencies,
+            this.androidFacet,
+            this.extraClassPathDependencies));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjModule#getFolders() folders}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of folders elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjModule withFolders(Iterable<? extends IjFolder> elements) {
+    if (this.folders == elements) {
+      return this;
+    }
+    ImmutableSet<IjFolder> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+            this.targets,
+            this.moduleBasePath,
+            newValue,
+            this.dependencies,
+            this.androidFacet,
+            this.extraClassPathDependencies));
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractIjModule#getDependencies() dependencies} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to dependencies map
+   * @return modified copy of {@code this} object
+   */
+  public final IjModule withDependencies(Map<? extends BuildTarget, ? extends IjModuleGraph.DependencyType> entries) {
+    if (this.dependencies == entries) {
+      return this;
+    }
+    ImmutableMap<BuildTarget, IjModuleGraph.DependencyType> newValue = ImmutableMap.copyOf(entries);
+    return validate(new IjModule(
+            this.targets,
+            this.moduleBasePath,
+            this.folders,
+            newValue,
+            this.androidFacet,
+            this.extraClassPathDependencies));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractIjModule#getAndroidFacet() androidFacet}.
+   * @param value value for androidFacet
+   * @return modified copy of {@code this} object
+   */
+  public final IjModule withAndroidFacet(IjModuleAndroidFacet value) {
+    Optional<IjModuleAndroidFacet> newValue = Optional.of(value);
+    return validate(new IjModule(
+            this.targets,
+            this.moduleBasePath,
+            this.folders,
+            this.dependencies,
+            newValue,
+            this.extraClassPathDependencies));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractIjModule#getAndroidFacet() androidFacet}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for androidFacet
+   * @return modified copy of {@code this} object
+   */
+  public final IjModule withAndroidFacet(Optional<IjModuleAndroidFacet> optional) {
+    if (this.androidFacet == optional) {
+      return this;
+    }
+    Optional<IjModuleAndroidFacet> newValue = Preconditions.checkNotNull(optional);
+    return validate(new IjModule(
+            this.targets,
+            this.moduleBasePath,
+            this.folders,
+            this.dependencies,
+            newValue,
+            this.extraClassPathDependencies));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjModule withExtraClassPathDependencies(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(this.targets, this.moduleBasePath, this.folders, this.dependencies, this.androidFacet, newValue));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of extraClassPathDependencies elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjModule withExtraClassPathDependencies(Iterable<? extends Path> elements) {
+    if (this.extraClassPathDependencies == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(this.targets, this.moduleBasePath, this.folders, this.dependencies, this.androidFacet, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code IjModule} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof IjModule && equalTo((IjModule) another));
+  }
+
+  private boolean equalTo(IjModule another) {
+    return name.equals(another.name)
+        && targets.equals(another.targets)
+        && moduleBasePath.equals(another.moduleBasePath)
+        && folders.equals(another.folders)
+        && dependencies.equals(another.dependencies)
+        && androidFacet.equals(another.androidFacet)
+        && extraClassPathDependencies.equals(another.extraClassPathDependencies)
+        && moduleImlFilePath.equals(another.moduleImlFilePath);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code targets}, {@code moduleBasePath}, {@code folders}, {@code dependencies}, {@code androidFacet}, {@code extraClassPathDependencies}, {@code moduleImlFilePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + targets.hashCode();
+    h = h * 17 + moduleBasePath.hashCode();
+    h = h * 17 + folders.hashCode();
+    h = h * 17 + dependencies.hashCode();
+    h = h * 17 + androidFacet.hashCode();
+    h = h * 17 + extraClassPathDependencies.hashCode();
+    h = h * 17 + moduleImlFilePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code IjModule{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjModule")
+        .add("name", name)
+        .add("targets", targets)
+        .add("moduleBasePath", moduleBasePath)
+        .add("folders", folders)
+        .add("dependencies", dependencies)
+        .add("androidFacet", androidFacet)
+        .add("extraClassPathDependencies", extraClassPathDependencies)
+        .add("moduleImlFilePath", moduleImlFilePath)
+        .toString();
+  }
+
+  private static IjModule validate(IjModule instance) {
+    instance.checkDependencyConsistency();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractIjModule}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable IjModule instance
+   */
+  public static IjModule copyOf(AbstractIjModule instance) {
+    if (instance instanceof IjModule) {
+      return (IjModule) instance;
+    }
+    return IjModule.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.intellij.IjModule IjModule}.
+   * @return new IjModule builder
+   */
+  public static IjModule.Builder builder() {
+    return new IjModule.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.intellij.IjModule IjModule}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_TARGETS = 0x1L;
+    private static final long INITIALIZED_BIT_MODULE_BASE_PATH = 0x2L;
+    private long initializedBitset;
+    private @Nullable ImmutableSet<TargetNode<?>> targets;
+    private @Nullable Path moduleBasePath;
+    private ImmutableSet.Builder<IjFolder> foldersBuilder = ImmutableSet.builder();
+    private ImmutableMap.Builder<BuildTarget, IjModuleGraph.DependencyType> dependenciesBuilder = ImmutableMap.builder();
+    private Optional<IjModuleAndroidFacet> androidFacet = Optional.absent();
+    private ImmutableSet.Builder<Path> extraClassPathDependenciesBuilder = ImmutableSet.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractIjModule} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractIjModule instance) {
+      Preconditions.checkNotNull(instance);
+      setTargets(instance.getTargets());
+      setModuleBasePath(instance.getModuleBasePath());
+      addAllFolders(instance.getFolders());
+      putAllDependencies(instance.getDependencies());
+      Optional<IjModuleAndroidFacet> androidFacetOptional = instance.getAndroidFacet();
+      if (androidFacetOptional.isPresent()) {
+        setAndroidFacet(androidFacetOptional);
+      }
+      addAllExtraClassPathDependencies(instance.getExtraClassPathDependencies());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractIjModule#getTargets() targets}.
+     * @param targets value for targets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargets(ImmutableSet<TargetNode<?>> targets) {
+      this.targets = Preconditions.checkNotNull(targets);
+      initializedBitset |= INITIALIZED_BIT_TARGETS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractIjModule#getModuleBasePath() moduleBasePath}.
+     * @param moduleBasePath value for moduleBasePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setModuleBasePath(Path moduleBasePath) {
+      this.moduleBasePath = Preconditions.checkNotNull(moduleBasePath);
+      initializedBitset |= INITIALIZED_BIT_MODULE_BASE_PATH;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjModule#getFolders() folders} set.
+     * @param element folders element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFolders(IjFolder element) {
+      foldersBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getFolders() folders} set.
+     * @param elements array of folders elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFolders(IjFolder... elements) {
+      foldersBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjModule#getFolders() folders} set.
+     * @param elements iterable of folders elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFolders(Iterable<? extends IjFolder> elements) {
+      foldersBuilder = ImmutableSet.builder();
+      return addAllFolders(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getFolders() folders} set.
+     * @param elements iterable of folders elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllFolders(Iterable<? extends IjFolder> elements) {
+      foldersBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractIjModule#getDependencies() dependencies} map.
+     * @param key the key in dependencies map
+     * @param value the associated value in dependencies map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putDependencies(BuildTarget key, IjModuleGraph.DependencyType value) {
+      dependenciesBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractIjModule#getDependencies() dependencies} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putDependencies(Map.Entry<? extends BuildTarget, ? extends IjModuleGraph.DependencyType> entry) {
+      dependenciesBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractIjModule#getDependencies() dependencies} map. Nulls are not permitted
+     * @param entries to be added to dependencies map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDependencies(Map<? extends BuildTarget, ? extends IjModuleGraph.DependencyType> entries) {
+      dependenciesBuilder = ImmutableMap.builder();
+      return putAllDependencies(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractIjModule#getDependencies() dependencies} map. Nulls are not permitted
+     * @param entries to be added to dependencies map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllDependencies(Map<? extends BuildTarget, ? extends IjModuleGraph.DependencyType> entries) {
+      dependenciesBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractIjModule#getAndroidFacet() androidFacet}.
+     * @param androidFacet value for androidFacet
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidFacet(IjModuleAndroidFacet androidFacet) {
+      this.androidFacet = Optional.of(androidFacet);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractIjModule#getAndroidFacet() androidFacet}.
+     * @param androidFacet value for androidFacet
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidFacet(Optional<IjModuleAndroidFacet> androidFacet) {
+      this.androidFacet = Preconditions.checkNotNull(androidFacet);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies} set.
+     * @param element extraClassPathDependencies element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addExtraClassPathDependencies(Path element) {
+      extraClassPathDependenciesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies} set.
+     * @param elements array of extraClassPathDependencies elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addExtraClassPathDependencies(Path... elements) {
+      extraClassPathDependenciesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies} set.
+     * @param elements iterable of extraClassPathDependencies elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtraClassPathDependencies(Iterable<? extends Path> elements) {
+      extraClassPathDependenciesBuilder = ImmutableSet.builder();
+      return addAllExtraClassPathDependencies(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies} set.
+     * @param elements iterable of extraClassPathDependencies elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllExtraClassPathDependencies(Iterable<? extends Path> elements) {
+      extraClassPathDependenciesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.intellij.IjModule IjModule}.
+     * @return immutable instance of IjModule
+     */
+    public IjModule build() {
+      checkRequiredAttributes();
+      return IjModule.validate(new IjModule(
+              targets,
+              moduleBasePath,
+              foldersBuilder.build(),
+              dependenciesBuilder.build(),
+              androidFacet,
+              extraClassPathDependenciesBuilder.build()));
+    }
+
+    private boolean targetsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TARGETS) != 0;
+    }
+
+    private boolean moduleBasePathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_MODULE_BASE_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!targetsIsSet()) {
+        attributes.add("targets");
+      }
+      if (!moduleBasePathIsSet()) {
+        attributes.add("moduleBasePath");
+      }
+      return "Cannot build IjModule, some of required attributes are not set " + attributes;
+    }
+  }
+}
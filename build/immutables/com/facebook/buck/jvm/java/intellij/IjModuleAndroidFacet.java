@@ -0,0 +1,611 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractIjModuleAndroidFacet}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code IjModuleAndroidFacet.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIjModuleAndroidFacet"})
+@Immutable
+public final class IjModuleAndroidFacet
+    extends AbstractIjModuleAndroidFacet {
+  private final Optional<Path> manifestPath;
+  private final ImmutableSet<Path> resourcePaths;
+  private final ImmutableSet<Path> assetPaths;
+  private final Optional<Path> proguardConfigPath;
+  private final boolean androidLibrary;
+  private final Optional<String> packageName;
+
+  private IjModuleAndroidFacet(
+      Optional<Path> manifestPath,
+      ImmutableSet<Path> resourcePaths,
+      ImmutableSet<Path> assetPaths,
+      Optional<Path> proguardConfigPath,
+      boolean androidLibrary,
+      Optional<String> packageName) {
+    this.manifestPath = manifestPath;
+    this.resourcePaths = resourcePaths;
+    this.assetPaths = assetPaths;
+    this.proguardConfigPath = proguardConfigPath;
+    this.androidLibrary = androidLibrary;
+    this.packageName = packageName;
+  }
+
+  /**
+   * @return path to the AndroidManifest.xml file.
+   */
+  @Override
+  public Optional<Path> getManifestPath() {
+    return manifestPath;
+  }
+
+  /**
+   * @return paths to resources (usually stuff under the res/ folder).
+   */
+  @Override
+  public ImmutableSet<Path> getResourcePaths() {
+    return resourcePaths;
+  }
+
+  /**
+   * @return paths to assets (usually stuff under the assets/ folder).
+   */
+  @Override
+  public ImmutableSet<Path> getAssetPaths() {
+    return assetPaths;
+  }
+
+  /**
+   * @return paths to the proguard configuration.
+   */
+  @Override
+  public Optional<Path> getProguardConfigPath() {
+    return proguardConfigPath;
+  }
+
+  /**
+   * @return whether or not this is an Android Library. IntelliJ identifies libraries using
+   * a is_android_library_project setting in the module iml to allow other modules which
+   * depend on it to inherit assets, resources, etc.
+   */
+  @Override
+  public boolean isAndroidLibrary() {
+    return androidLibrary;
+  }
+
+  /**
+   * @return The package that the R file should be located in. This is used by android_resources
+   * targets to specify the package their resources should referenced via.
+   */
+  @Override
+  public Optional<String> getPackageName() {
+    return packageName;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractIjModuleAndroidFacet#getManifestPath() manifestPath}.
+   * @param value value for manifestPath
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withManifestPath(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return new IjModuleAndroidFacet(
+            newValue,
+            this.resourcePaths,
+            this.assetPaths,
+            this.proguardConfigPath,
+            this.androidLibrary,
+            this.packageName);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractIjModuleAndroidFacet#getManifestPath() manifestPath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for manifestPath
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withManifestPath(Optional<Path> optional) {
+    if (this.manifestPath == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return new IjModuleAndroidFacet(
+            newValue,
+            this.resourcePaths,
+            this.assetPaths,
+            this.proguardConfigPath,
+            this.androidLibrary,
+            this.packageName);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjModuleAndroidFacet#getResourcePaths() resourcePaths}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withResourcePaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new IjModuleAndroidFacet(
+            this.manifestPath,
+            newValue,
+            this.assetPaths,
+            this.proguardConfigPath,
+            this.androidLibrary,
+            this.packageName);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjModuleAndroidFacet#getResourcePaths() resourcePaths}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of resourcePaths elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withResourcePaths(Iterable<? extends Path> elements) {
+    if (this.resourcePaths == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new IjModuleAndroidFacet(
+            this.manifestPath,
+            newValue,
+            this.assetPaths,
+            this.proguardConfigPath,
+            this.androidLibrary,
+            this.packageName);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjModuleAndroidFacet#getAssetPaths() assetPaths}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withAssetPaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new IjModuleAndroidFacet(
+            this.manifestPath,
+            this.resourcePaths,
+            newValue,
+            this.proguardConfigPath,
+            this.androidLibrary,
+            this.packageName);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractIjModuleAndroidFacet#getAssetPaths() assetPaths}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of assetPaths elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withAssetPaths(Iterable<? extends Path> elements) {
+    if (this.assetPaths == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new IjModuleAndroidFacet(
+            this.manifestPath,
+            this.resourcePaths,
+            newValue,
+            this.proguardConfigPath,
+            this.androidLibrary,
+            this.packageName);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractIjModuleAndroidFacet#getProguardConfigPath() proguardConfigPath}.
+   * @param value value for proguardConfigPath
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withProguardConfigPath(Path value) {
+    Optional<Path> newValue = Optional.of(value);
+    return new IjModuleAndroidFacet(
+            this.manifestPath,
+            this.resourcePaths,
+            this.assetPaths,
+            newValue,
+            this.androidLibrary,
+            this.packageName);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractIjModuleAndroidFacet#getProguardConfigPath() proguardConfigPath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for proguardConfigPath
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withProguardConfigPath(Optional<Path> optional) {
+    if (this.proguardConfigPath == optional) {
+      return this;
+    }
+    Optional<Path> newValue = Preconditions.checkNotNull(optional);
+    return new IjModuleAndroidFacet(
+            this.manifestPath,
+            this.resourcePaths,
+            this.assetPaths,
+            newValue,
+            this.androidLibrary,
+            this.packageName);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractIjModuleAndroidFacet#isAndroidLibrary() androidLibrary}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for androidLibrary
+   * @return modified copy of the {@code this} object
+   */
+  public final IjModuleAndroidFacet withAndroidLibrary(boolean value) {
+    if (this.androidLibrary == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new IjModuleAndroidFacet(
+            this.manifestPath,
+            this.resourcePaths,
+            this.assetPaths,
+            this.proguardConfigPath,
+            newValue,
+            this.packageName);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractIjModuleAndroidFacet#getPackageName() packageName}.
+   * @param value value for packageName
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withPackageName(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new IjModuleAndroidFacet(
+            this.manifestPath,
+            this.resourcePaths,
+            this.assetPaths,
+            this.proguardConfigPath,
+            this.androidLibrary,
+            newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractIjModuleAndroidFacet#getPackageName() packageName}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for packageName
+   * @return modified copy of {@code this} object
+   */
+  public final IjModuleAndroidFacet withPackageName(Optional<String> optional) {
+    if (this.packageName == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new IjModuleAndroidFacet(
+            this.manifestPath,
+            this.resourcePaths,
+            this.assetPaths,
+            this.proguardConfigPath,
+            this.androidLibrary,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code IjModuleAndroidFacet} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof IjModuleAndroidFacet && equalTo((IjModuleAndroidFacet) another));
+  }
+
+  private boolean equalTo(IjModuleAndroidFacet another) {
+    return manifestPath.equals(another.manifestPath)
+        && resourcePaths.equals(another.resourcePaths)
+        && assetPaths.equals(another.assetPaths)
+        && proguardConfigPath.equals(another.proguardConfigPath)
+        && androidLibrary == another.androidLibrary
+        && packageName.equals(another.packageName);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code manifestPath}, {@code resourcePaths}, {@code assetPaths}, {@code proguardConfigPath}, {@code androidLibrary}, {@code packageName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + manifestPath.hashCode();
+    h = h * 17 + resourcePaths.hashCode();
+    h = h * 17 + assetPaths.hashCode();
+    h = h * 17 + proguardConfigPath.hashCode();
+    h = h * 17 + Booleans.hashCode(androidLibrary);
+    h = h * 17 + packageName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code IjModuleAndroidFacet{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjModuleAndroidFacet")
+        .add("manifestPath", manifestPath)
+        .add("resourcePaths", resourcePaths)
+        .add("assetPaths", assetPaths)
+        .add("proguardConfigPath", proguardConfigPath)
+        .add("androidLibrary", androidLibrary)
+        .add("packageName", packageName)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractIjModuleAndroidFacet}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable IjModuleAndroidFacet instance
+   */
+  public static IjModuleAndroidFacet copyOf(AbstractIjModuleAndroidFacet instance) {
+    if (instance instanceof IjModuleAndroidFacet) {
+      return (IjModuleAndroidFacet) instance;
+    }
+    return IjModuleAndroidFacet.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.intellij.IjModuleAndroidFacet IjModuleAndroidFacet}.
+   * @return new IjModuleAndroidFacet builder
+   */
+  public static IjModuleAndroidFacet.Builder builder() {
+    return new IjModuleAndroidFacet.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.intellij.IjModuleAndroidFacet IjModuleAndroidFacet}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_ANDROID_LIBRARY = 0x1L;
+    private long initializedBitset;
+    private Optional<Path> manifestPath = Optional.absent();
+    private ImmutableSet.Builder<Path> resourcePathsBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> assetPathsBuilder = ImmutableSet.builder();
+    private Optional<Path> proguardConfigPath = Optional.absent();
+    private boolean androidLibrary;
+    private Optional<String> packageName = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractIjModuleAndroidFacet} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractIjModuleAndroidFacet instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<Path> manifestPathOptional = instance.getManifestPath();
+      if (manifestPathOptional.isPresent()) {
+        setManifestPath(manifestPathOptional);
+      }
+      addAllResourcePaths(instance.getResourcePaths());
+      addAllAssetPaths(instance.getAssetPaths());
+      Optional<Path> proguardConfigPathOptional = instance.getProguardConfigPath();
+      if (proguardConfigPathOptional.isPresent()) {
+        setProguardConfigPath(proguardConfigPathOptional);
+      }
+      setAndroidLibrary(instance.isAndroidLibrary());
+      Optional<String> packageNameOptional = instance.getPackageName();
+      if (packageNameOptional.isPresent()) {
+        setPackageName(packageNameOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractIjModuleAndroidFacet#getManifestPath() manifestPath}.
+     * @param manifestPath value for manifestPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setManifestPath(Path manifestPath) {
+      this.manifestPath = Optional.of(manifestPath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractIjModuleAndroidFacet#getManifestPath() manifestPath}.
+     * @param manifestPath value for manifestPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setManifestPath(Optional<Path> manifestPath) {
+      this.manifestPath = Preconditions.checkNotNull(manifestPath);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjModuleAndroidFacet#getResourcePaths() resourcePaths} set.
+     * @param element resourcePaths element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addResourcePaths(Path element) {
+      resourcePathsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModuleAndroidFacet#getResourcePaths() resourcePaths} set.
+     * @param elements array of resourcePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addResourcePaths(Path... elements) {
+      resourcePathsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjModuleAndroidFacet#getResourcePaths() resourcePaths} set.
+     * @param elements iterable of resourcePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResourcePaths(Iterable<? extends Path> elements) {
+      resourcePathsBuilder = ImmutableSet.builder();
+      return addAllResourcePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModuleAndroidFacet#getResourcePaths() resourcePaths} set.
+     * @param elements iterable of resourcePaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllResourcePaths(Iterable<? extends Path> elements) {
+      resourcePathsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjModuleAndroidFacet#getAssetPaths() assetPaths} set.
+     * @param element assetPaths element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAssetPaths(Path element) {
+      assetPathsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModuleAndroidFacet#getAssetPaths() assetPaths} set.
+     * @param elements array of assetPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAssetPaths(Path... elements) {
+      assetPathsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjModuleAndroidFacet#getAssetPaths() assetPaths} set.
+     * @param elements iterable of assetPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAssetPaths(Iterable<? extends Path> elements) {
+      assetPathsBuilder = ImmutableSet.builder();
+      return addAllAssetPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModuleAndroidFacet#getAssetPaths() assetPaths} set.
+     * @param elements iterable of assetPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllAssetPaths(Iterable<? extends Path> elements) {
+      assetPathsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractIjModuleAndroidFacet#getProguardConfigPath() proguardConfigPath}.
+     * @param proguardConfigPath value for proguardConfigPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProguardConfigPath(Path proguardConfigPath) {
+      this.proguardConfigPath = Optional.of(proguardConfigPath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractIjModuleAndroidFacet#getProguardConfigPath() proguardConfigPath}.
+     * @param proguardConfigPath value for proguardConfigPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProguardConfigPath(Optional<Path> proguardConfigPath) {
+      this.proguardConfigPath = Preconditions.checkNotNull(proguardConfigPath);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractIjModuleAndroidFacet#isAndroidLibrary() androidLibrary}.
+     * @param androidLibrary value for androidLibrary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidLibrary(boolean androidLibrary) {
+      this.androidLibrary = androidLibrary;
+      initializedBitset |= INITIALIZED_BIT_ANDROID_LIBRARY;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractIjModuleAndroidFacet#getPackageName() packageName}.
+     * @param packageName value for packageName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageName(String packageName) {
+      this.packageName = Optional.of(packageName);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractIjModuleAndroidFacet#getPackageName() packageName}.
+     * @param packageName value for packageName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageName(Optional<String> packageName) {
+      this.packageName = Preconditions.checkNotNull(packageName);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.intellij.IjModuleAndroidFacet IjModuleAndroidFacet}.
+     * @return immutable instance of IjModuleAndroidFacet
+     */
+    public IjModuleAndroidFacet build() {
+      checkRequiredAttributes();
+      return new IjModuleAndroidFacet(
+              manifestPath,
+              resourcePathsBuilder.build(),
+              assetPathsBuilder.build(),
+              proguardConfigPath,
+              androidLibrary,
+              packageName);
+    }
+
+    private boolean androidLibraryIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ANDROID_LIBRARY) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!androidLibraryIsSet()) {
+        attributes.add("androidLibrary");
+      }
+      return "Cannot build IjModuleAndroidFacet, some of required attributes are not set " + attributes;
+    }
+  }
+}
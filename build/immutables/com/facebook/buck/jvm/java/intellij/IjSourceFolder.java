@@ -0,0 +1,375 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code IjSourceFolder.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjProjectTemplateDataPreparer.AbstractIjSourceFolder"})
+@Immutable
+public final class IjSourceFolder
+    extends IjProjectTemplateDataPreparer.AbstractIjSourceFolder {
+  private final String type;
+  private final String url;
+  private final boolean isTestSource;
+  private final boolean isAndroidResources;
+  private final @Nullable String packagePrefix;
+
+  private IjSourceFolder(
+      String type,
+      String url,
+      boolean isTestSource,
+      boolean isAndroidResources,
+      @Nullable String packagePrefix) {
+    this.type = type;
+    this.url = url;
+    this.isTestSource = isTestSource;
+    this.isAndroidResources = isAndroidResources;
+    this.packagePrefix = packagePrefix;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code url} attribute
+   */
+  @Override
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * @return value of {@code isTestSource} attribute
+   */
+  @Override
+  public boolean getIsTestSource() {
+    return isTestSource;
+  }
+
+  /**
+   * @return value of {@code isAndroidResources} attribute
+   */
+  @Override
+  public boolean getIsAndroidResources() {
+    return isAndroidResources;
+  }
+
+  /**
+   * @return value of {@code packagePrefix} attribute
+   */
+  @Override
+  public @Nullable String getPackagePrefix() {
+    return packagePrefix;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withType(String value) {
+    if (this.type == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new IjSourceFolder(newValue, this.url, this.isTestSource, this.isAndroidResources, this.packagePrefix);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getUrl() url}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for url
+   * @return modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withUrl(String value) {
+    if (this.url == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new IjSourceFolder(this.type, newValue, this.isTestSource, this.isAndroidResources, this.packagePrefix);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getIsTestSource() isTestSource}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for isTestSource
+   * @return modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withIsTestSource(boolean value) {
+    if (this.isTestSource == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new IjSourceFolder(this.type, this.url, newValue, this.isAndroidResources, this.packagePrefix);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getIsAndroidResources() isAndroidResources}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for isAndroidResources
+   * @return modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withIsAndroidResources(boolean value) {
+    if (this.isAndroidResources == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new IjSourceFolder(this.type, this.url, this.isTestSource, newValue, this.packagePrefix);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getPackagePrefix() packagePrefix}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for packagePrefix, can be {@code null}
+   * @return modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withPackagePrefix(@Nullable String value) {
+    if (this.packagePrefix == value) {
+      return this;
+    }
+    @Nullable String newValue = value;
+    return new IjSourceFolder(this.type, this.url, this.isTestSource, this.isAndroidResources, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code IjSourceFolder} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof IjSourceFolder && equalTo((IjSourceFolder) another));
+  }
+
+  private boolean equalTo(IjSourceFolder another) {
+    return type.equals(another.type)
+        && url.equals(another.url)
+        && isTestSource == another.isTestSource
+        && isAndroidResources == another.isAndroidResources
+        && Objects.equal(packagePrefix, another.packagePrefix);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code url}, {@code isTestSource}, {@code isAndroidResources}, {@code packagePrefix}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + url.hashCode();
+    h = h * 17 + Booleans.hashCode(isTestSource);
+    h = h * 17 + Booleans.hashCode(isAndroidResources);
+    h = h * 17 + Objects.hashCode(packagePrefix);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code IjSourceFolder{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjSourceFolder")
+        .add("type", type)
+        .add("url", url)
+        .add("isTestSource", isTestSource)
+        .add("isAndroidResources", isAndroidResources)
+        .add("packagePrefix", packagePrefix)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable IjSourceFolder instance
+   */
+  public static IjSourceFolder copyOf(IjProjectTemplateDataPreparer.AbstractIjSourceFolder instance) {
+    if (instance instanceof IjSourceFolder) {
+      return (IjSourceFolder) instance;
+    }
+    return IjSourceFolder.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.intellij.IjSourceFolder IjSourceFolder}.
+   * @return new IjSourceFolder builder
+   */
+  public static IjSourceFolder.Builder builder() {
+    return new IjSourceFolder.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.intellij.IjSourceFolder IjSourceFolder}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0xf;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private static final long INITIALIZED_BIT_URL = 0x2L;
+    private static final long INITIALIZED_BIT_IS_TEST_SOURCE = 0x4L;
+    private static final long INITIALIZED_BIT_IS_ANDROID_RESOURCES = 0x8L;
+    private long initializedBitset;
+    private @Nullable String type;
+    private @Nullable String url;
+    private boolean isTestSource;
+    private boolean isAndroidResources;
+    private @Nullable String packagePrefix;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(IjProjectTemplateDataPreparer.AbstractIjSourceFolder instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      setUrl(instance.getUrl());
+      setIsTestSource(instance.getIsTestSource());
+      setIsAndroidResources(instance.getIsAndroidResources());
+      @Nullable String packagePrefixValue = instance.getPackagePrefix();
+      if (packagePrefixValue != null) {
+        setPackagePrefix(packagePrefixValue);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(String type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getUrl() url}.
+     * @param url value for url
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUrl(String url) {
+      this.url = Preconditions.checkNotNull(url);
+      initializedBitset |= INITIALIZED_BIT_URL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getIsTestSource() isTestSource}.
+     * @param isTestSource value for isTestSource
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIsTestSource(boolean isTestSource) {
+      this.isTestSource = isTestSource;
+      initializedBitset |= INITIALIZED_BIT_IS_TEST_SOURCE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getIsAndroidResources() isAndroidResources}.
+     * @param isAndroidResources value for isAndroidResources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIsAndroidResources(boolean isAndroidResources) {
+      this.isAndroidResources = isAndroidResources;
+      initializedBitset |= INITIALIZED_BIT_IS_ANDROID_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractIjSourceFolder#getPackagePrefix() packagePrefix}.
+     * @param packagePrefix value for packagePrefix, can be {@code null}
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackagePrefix(@Nullable String packagePrefix) {
+      this.packagePrefix = packagePrefix;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.intellij.IjSourceFolder IjSourceFolder}.
+     * @return immutable instance of IjSourceFolder
+     */
+    public IjSourceFolder build() {
+      checkRequiredAttributes();
+      return new IjSourceFolder(type, url, isTestSource, isAndroidResources, packagePrefix);
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private boolean urlIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_URL) != 0;
+    }
+
+    private boolean isTestSourceIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_IS_TEST_SOURCE) != 0;
+    }
+
+    private boolean isAndroidResourcesIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_IS_ANDROID_RESOURCES) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      if (!urlIsSet()) {
+        attributes.add("url");
+      }
+      if (!isTestSourceIsSet()) {
+        attributes.add("isTestSource");
+      }
+      if (!isAndroidResourcesIsSet()) {
+        attributes.add("isAndroidResources");
+      }
+      return "Cannot build IjSourceFolder, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ModuleIndexEntry.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjProjectTemplateDataPreparer.AbstractModuleIndexEntry"})
+@Immutable
+public final class ModuleIndexEntry
+    extends IjProjectTemplateDataPreparer.AbstractModuleIndexEntry {
+  private final String fileUrl;
+  private final Path filePath;
+  private final @Nullable String group;
+
+  private ModuleIndexEntry(
+      String fileUrl,
+      Path filePath,
+      @Nullable String group) {
+    this.fileUrl = fileUrl;
+    this.filePath = filePath;
+    this.group = group;
+  }
+
+  /**
+   * @return value of {@code fileUrl} attribute
+   */
+  @Override
+  public String getFileUrl() {
+    return fileUrl;
+  }
+
+  /**
+   * @return value of {@code filePath} attribute
+   */
+  @Override
+  public Path getFilePath() {
+    return filePath;
+  }
+
+  /**
+   * @return value of {@code group} attribute
+   */
+  @Override
+  public @Nullable String getGroup() {
+    return group;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getFileUrl() fileUrl}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for fileUrl
+   * @return modified copy of the {@code this} object
+   */
+  public final ModuleIndexEntry withFileUrl(String value) {
+    if (this.fileUrl == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ModuleIndexEntry(newValue, this.filePath, this.group);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getFilePath() filePath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for filePath
+   * @return modified copy of the {@code this} object
+   */
+  public final ModuleIndexEntry withFilePath(Path value) {
+    if (this.filePath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new ModuleIndexEntry(this.fileUrl, newValue, this.group);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getGroup() group}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for group, can be {@code null}
+   * @return modified copy of the {@code this} object
+   */
+  public final ModuleIndexEntry withGroup(@Nullable String value) {
+    if (this.group == value) {
+      return this;
+    }
+    @Nullable String newValue = value;
+    return new ModuleIndexEntry(this.fileUrl, this.filePath, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ModuleIndexEntry} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ModuleIndexEntry && equalTo((ModuleIndexEntry) another));
+  }
+
+  private boolean equalTo(ModuleIndexEntry another) {
+    return fileUrl.equals(another.fileUrl)
+        && filePath.equals(another.filePath)
+        && Objects.equal(group, another.group);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code fileUrl}, {@code filePath}, {@code group}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + fileUrl.hashCode();
+    h = h * 17 + filePath.hashCode();
+    h = h * 17 + Objects.hashCode(group);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ModuleIndexEntry{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ModuleIndexEntry")
+        .add("fileUrl", fileUrl)
+        .add("filePath", filePath)
+        .add("group", group)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ModuleIndexEntry instance
+   */
+  public static ModuleIndexEntry copyOf(IjProjectTemplateDataPreparer.AbstractModuleIndexEntry instance) {
+    if (instance instanceof ModuleIndexEntry) {
+      return (ModuleIndexEntry) instance;
+    }
+    return ModuleIndexEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.intellij.ModuleIndexEntry ModuleIndexEntry}.
+   * @return new ModuleIndexEntry builder
+   */
+  public static ModuleIndexEntry.Builder builder() {
+    return new ModuleIndexEntry.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.intellij.ModuleIndexEntry ModuleIndexEntry}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_FILE_URL = 0x1L;
+    private static final long INITIALIZED_BIT_FILE_PATH = 0x2L;
+    private long initializedBitset;
+    private @Nullable String fileUrl;
+    private @Nullable Path filePath;
+    private @Nullable String group;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(IjProjectTemplateDataPreparer.AbstractModuleIndexEntry instance) {
+      Preconditions.checkNotNull(instance);
+      setFileUrl(instance.getFileUrl());
+      setFilePath(instance.getFilePath());
+      @Nullable String groupValue = instance.getGroup();
+      if (groupValue != null) {
+        setGroup(groupValue);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getFileUrl() fileUrl}.
+     * @param fileUrl value for fileUrl
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFileUrl(String fileUrl) {
+      this.fileUrl = Preconditions.checkNotNull(fileUrl);
+      initializedBitset |= INITIALIZED_BIT_FILE_URL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getFilePath() filePath}.
+     * @param filePath value for filePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFilePath(Path filePath) {
+      this.filePath = Preconditions.checkNotNull(filePath);
+      initializedBitset |= INITIALIZED_BIT_FILE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getGroup() group}.
+     * @param group value for group, can be {@code null}
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGroup(@Nullable String group) {
+      this.group = group;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.intellij.ModuleIndexEntry ModuleIndexEntry}.
+     * @return immutable instance of ModuleIndexEntry
+     */
+    public ModuleIndexEntry build() {
+      checkRequiredAttributes();
+      return new ModuleIndexEntry(fileUrl, filePath, group);
+    }
+
+    private boolean fileUrlIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FILE_URL) != 0;
+    }
+
+    private boolean filePathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FILE_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!fileUrlIsSet()) {
+        attributes.add("fileUrl");
+      }
+      if (!filePathIsSet()) {
+        attributes.add("filePath");
+      }
+      return "Cannot build ModuleIndexEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link IjSourceRootSimplifier.AbstractSimplificationLimit}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code SimplificationLimit.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code SimplificationLimit.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjSourceRootSimplifier.AbstractSimplificationLimit"})
+@Immutable
+public final class SimplificationLimit
+    extends IjSourceRootSimplifier.AbstractSimplificationLimit {
+  private final int value;
+
+  private SimplificationLimit(int value) {
+    this.value = value;
+  }
+
+  /**
+   * @return value of {@code value} attribute
+   */
+  @Override
+  public int getValue() {
+    return value;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link IjSourceRootSimplifier.AbstractSimplificationLimit#getValue() value}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for value
+   * @return modified copy of the {@code this} object
+   */
+  public final SimplificationLimit withValue(int value) {
+    if (this.value == value) {
+      return this;
+    }
+    int newValue = value;
+    return new SimplificationLimit(newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code SimplificationLimit} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof SimplificationLimit && equalTo((SimplificationLimit) another));
+  }
+
+  private boolean equalTo(SimplificationLimit another) {
+    return value == another.value;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + value;
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code SimplificationLimit{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SimplificationLimit")
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code SimplificationLimit} instance.
+   * @param value value for {@code value}
+   * @return immutable SimplificationLimit instance
+   */
+  public static com.facebook.buck.jvm.java.intellij.SimplificationLimit of(int value) {
+    return new SimplificationLimit(value);
+  }
+
+  /**
+   * Creates immutable copy of {@link IjSourceRootSimplifier.AbstractSimplificationLimit}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable SimplificationLimit instance
+   */
+  public static SimplificationLimit copyOf(IjSourceRootSimplifier.AbstractSimplificationLimit instance) {
+    if (instance instanceof SimplificationLimit) {
+      return (SimplificationLimit) instance;
+    }
+    return SimplificationLimit.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.jvm.java.intellij.SimplificationLimit SimplificationLimit}.
+   * @return new SimplificationLimit builder
+   */
+  public static SimplificationLimit.Builder builder() {
+    return new SimplificationLimit.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.jvm.java.intellij.SimplificationLimit SimplificationLimit}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_VALUE = 0x1L;
+    private long initializedBitset;
+    private int value;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link IjSourceRootSimplifier.AbstractSimplificationLimit} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(IjSourceRootSimplifier.AbstractSimplificationLimit instance) {
+      Preconditions.checkNotNull(instance);
+      setValue(instance.getValue());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link IjSourceRootSimplifier.AbstractSimplificationLimit#getValue() value}.
+     * @param value value for value
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setValue(int value) {
+      this.value = value;
+      initializedBitset |= INITIALIZED_BIT_VALUE;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.jvm.java.intellij.SimplificationLimit SimplificationLimit}.
+     * @return immutable instance of SimplificationLimit
+     */
+    public SimplificationLimit build() {
+      checkRequiredAttributes();
+      return new SimplificationLimit(value);
+    }
+
+    private boolean valueIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_VALUE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!valueIsSet()) {
+        attributes.add("value");
+      }
+      return "Cannot build SimplificationLimit, some of required attributes are not set " + attributes;
+    }
+  }
+}
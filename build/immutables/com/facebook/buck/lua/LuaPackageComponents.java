@@ -0,0 +1,269 @@
+package com.facebook.buck.lua;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Ordering;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractLuaPackageComponents}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code LuaPackageComponents.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLuaPackageComponents"})
+@Immutable
+public final class LuaPackageComponents extends AbstractLuaPackageComponents {
+  private final ImmutableSortedMap<String, SourcePath> modules;
+  private final ImmutableSortedMap<String, SourcePath> nativeLibraries;
+
+  private LuaPackageComponents(
+      ImmutableSortedMap<String, SourcePath> modules,
+      ImmutableSortedMap<String, SourcePath> nativeLibraries) {
+    this.modules = modules;
+    this.nativeLibraries = nativeLibraries;
+  }
+
+  /**
+   * @return mapping of module names to their respective {@link SourcePath}s.
+   */
+  @Override
+  public ImmutableSortedMap<String, SourcePath> getModules() {
+    return modules;
+  }
+
+  /**
+   * @return a mapping of shared native library names to their respective {@link SourcePath}s.
+   */
+  @Override
+  public ImmutableSortedMap<String, SourcePath> getNativeLibraries() {
+    return nativeLibraries;
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractLuaPackageComponents#getModules() modules} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to modules map
+   * @return modified copy of {@code this} object
+   */
+  public final LuaPackageComponents withModules(Map<String, ? extends SourcePath> entries) {
+    if (this.modules == entries) {
+      return this;
+    }
+    ImmutableSortedMap<String, SourcePath> newValue = ImmutableSortedMap.copyOf(entries,
+        Ordering.<String>natural()
+    );
+    return new LuaPackageComponents(newValue, this.nativeLibraries);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractLuaPackageComponents#getNativeLibraries() nativeLibraries} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to nativeLibraries map
+   * @return modified copy of {@code this} object
+   */
+  public final LuaPackageComponents withNativeLibraries(Map<String, ? extends SourcePath> entries) {
+    if (this.nativeLibraries == entries) {
+      return this;
+    }
+    ImmutableSortedMap<String, SourcePath> newValue = ImmutableSortedMap.copyOf(entries,
+        Ordering.<String>natural()
+    );
+    return new LuaPackageComponents(this.modules, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code LuaPackageComponents} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof LuaPackageComponents && equalTo((LuaPackageComponents) another));
+  }
+
+  private boolean equalTo(LuaPackageComponents another) {
+    return modules.equals(another.modules)
+        && nativeLibraries.equals(another.nativeLibraries);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code modules}, {@code nativeLibraries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + modules.hashCode();
+    h = h * 17 + nativeLibraries.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code LuaPackageComponents{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LuaPackageComponents")
+        .add("modules", modules)
+        .add("nativeLibraries", nativeLibraries)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractLuaPackageComponents}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable LuaPackageComponents instance
+   */
+  public static LuaPackageComponents copyOf(AbstractLuaPackageComponents instance) {
+    if (instance instanceof LuaPackageComponents) {
+      return (LuaPackageComponents) instance;
+    }
+    return LuaPackageComponents.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.lua.LuaPackageComponents LuaPackageComponents}.
+   * @return new LuaPackageComponents builder
+   */
+  public static LuaPackageComponents.Builder builder() {
+    return new LuaPackageComponents.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.lua.LuaPackageComponents LuaPackageComponents}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSortedMap.Builder<String, SourcePath> modulesBuilder = ImmutableSortedMap.naturalOrder();
+    private ImmutableSortedMap.Builder<String, SourcePath> nativeLibrariesBuilder = ImmutableSortedMap.naturalOrder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractLuaPackageComponents} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractLuaPackageComponents instance) {
+      Preconditions.checkNotNull(instance);
+      putAllModules(instance.getModules());
+      putAllNativeLibraries(instance.getNativeLibraries());
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractLuaPackageComponents#getModules() modules} map.
+     * @param key the key in modules map
+     * @param value the associated value in modules map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putModules(String key, SourcePath value) {
+      modulesBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractLuaPackageComponents#getModules() modules} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putModules(Map.Entry<String, ? extends SourcePath> entry) {
+      modulesBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractLuaPackageComponents#getModules() modules} map. Nulls are not permitted
+     * @param entries to be added to modules map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setModules(Map<String, ? extends SourcePath> entries) {
+      modulesBuilder = ImmutableSortedMap.naturalOrder();
+      return putAllModules(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractLuaPackageComponents#getModules() modules} map. Nulls are not permitted
+     * @param entries to be added to modules map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllModules(Map<String, ? extends SourcePath> entries) {
+      modulesBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractLuaPackageComponents#getNativeLibraries() nativeLibraries} map.
+     * @param key the key in nativeLibraries map
+     * @param value the associated value in nativeLibraries map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putNativeLibraries(String key, SourcePath value) {
+      nativeLibrariesBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractLuaPackageComponents#getNativeLibraries() nativeLibraries} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putNativeLibraries(Map.Entry<String, ? extends SourcePath> entry) {
+      nativeLibrariesBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractLuaPackageComponents#getNativeLibraries() nativeLibraries} map. Nulls are not permitted
+     * @param entries to be added to nativeLibraries map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibraries(Map<String, ? extends SourcePath> entries) {
+      nativeLibrariesBuilder = ImmutableSortedMap.naturalOrder();
+      return putAllNativeLibraries(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractLuaPackageComponents#getNativeLibraries() nativeLibraries} map. Nulls are not permitted
+     * @param entries to be added to nativeLibraries map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllNativeLibraries(Map<String, ? extends SourcePath> entries) {
+      nativeLibrariesBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.lua.LuaPackageComponents LuaPackageComponents}.
+     * @return immutable instance of LuaPackageComponents
+     */
+    public LuaPackageComponents build() {
+      return new LuaPackageComponents(modulesBuilder.build(), nativeLibrariesBuilder.build());
+    }
+  }
+}
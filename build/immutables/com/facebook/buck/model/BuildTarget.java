@@ -0,0 +1,314 @@
+package com.facebook.buck.model;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.SortedSet;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildTarget}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code BuildTarget.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code BuildTarget.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildTarget"})
+@Immutable
+public final class BuildTarget extends AbstractBuildTarget {
+  private final UnflavoredBuildTarget unflavoredBuildTarget;
+  private final ImmutableSortedSet<Flavor> flavors;
+  private final String fullyQualifiedName;
+  private final int hashCode;
+
+  private BuildTarget(
+      UnflavoredBuildTarget unflavoredBuildTarget,
+      Iterable<? extends Flavor> flavors) {
+    this.unflavoredBuildTarget = Preconditions.checkNotNull(unflavoredBuildTarget);
+    this.flavors = ImmutableSortedSet.copyOf(
+        Ordering.<Flavor>natural(),
+        flavors);
+    this.fullyQualifiedName = Preconditions.checkNotNull(super.getFullyQualifiedName());
+    this.hashCode = computeHashCode();
+  }
+
+  private BuildTarget(
+      BuildTarget original,
+      UnflavoredBuildTarget unflavoredBuildTarget,
+      ImmutableSortedSet<Flavor> flavors) {
+    this.unflavoredBuildTarget = unflavoredBuildTarget;
+    this.flavors = flavors;
+    this.fullyQualifiedName = Preconditions.checkNotNull(super.getFullyQualifiedName());
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return value of {@code unflavoredBuildTarget} attribute
+   */
+  @Override
+  public UnflavoredBuildTarget getUnflavoredBuildTarget() {
+    return unflavoredBuildTarget;
+  }
+
+  /**
+   * @return value of {@code flavors} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Flavor> getFlavors() {
+    return flavors;
+  }
+
+  /**
+   * If this build target is //third_party/java/guava:guava-latest, then this would return
+   * "//third_party/java/guava:guava-latest".
+   */
+  @Override
+  public String getFullyQualifiedName() {
+    return fullyQualifiedName;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildTarget#getUnflavoredBuildTarget() unflavoredBuildTarget}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for unflavoredBuildTarget
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildTarget withUnflavoredBuildTarget(UnflavoredBuildTarget value) {
+    if (this.unflavoredBuildTarget == value) {
+      return this;
+    }
+    UnflavoredBuildTarget newValue = Preconditions.checkNotNull(value);
+    return validate(new BuildTarget(this, newValue, this.flavors));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractBuildTarget#getFlavors() flavors}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final BuildTarget withFlavors(Flavor... elements) {
+    ImmutableSortedSet<Flavor> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Flavor>natural(),
+        Arrays.asList(elements));
+    return validate(new BuildTarget(this, this.unflavoredBuildTarget, newValue));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractBuildTarget#getFlavors() flavors}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of flavors elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final BuildTarget withFlavors(Iterable<? extends Flavor> elements) {
+    if (this.flavors == elements) {
+      return this;
+    }
+    ImmutableSortedSet<Flavor> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<Flavor>natural(),
+        elements);
+    return validate(new BuildTarget(this, this.unflavoredBuildTarget, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code BuildTarget} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof BuildTarget && equalTo((BuildTarget) another));
+  }
+
+  private boolean equalTo(BuildTarget another) {
+    return unflavoredBuildTarget.equals(another.unflavoredBuildTarget)
+        && flavors.equals(another.flavors)
+        && fullyQualifiedName.equals(another.fullyQualifiedName);
+  }
+
+  /**
+   * Returns precomputed on construction hash code from attributes: {@code unflavoredBuildTarget}, {@code flavors}, {@code fullyQualifiedName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 31;
+    h = h * 17 + unflavoredBuildTarget.hashCode();
+    h = h * 17 + flavors.hashCode();
+    h = h * 17 + fullyQualifiedName.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code BuildTarget} instance.
+   * @param unflavoredBuildTarget value for {@code unflavoredBuildTarget}
+   * @param flavors value for {@code flavors}
+   * @return immutable BuildTarget instance
+   */
+  public static com.facebook.buck.model.BuildTarget of(UnflavoredBuildTarget unflavoredBuildTarget, SortedSet<Flavor> flavors) {
+    return of(unflavoredBuildTarget, (Iterable<? extends Flavor>) flavors);
+  }
+
+  /**
+   * Construct new immutable {@code BuildTarget} instance.
+   * @param unflavoredBuildTarget value for {@code unflavoredBuildTarget}
+   * @param flavors value for {@code flavors}
+   * @return immutable BuildTarget instance
+   */
+  public static com.facebook.buck.model.BuildTarget of(UnflavoredBuildTarget unflavoredBuildTarget, Iterable<? extends Flavor> flavors) {
+    return validate(new BuildTarget(unflavoredBuildTarget, flavors));
+  }
+
+  private static BuildTarget validate(BuildTarget instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractBuildTarget}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable BuildTarget instance
+   */
+  public static BuildTarget copyOf(AbstractBuildTarget instance) {
+    if (instance instanceof BuildTarget) {
+      return (BuildTarget) instance;
+    }
+    return BuildTarget.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.model.BuildTarget BuildTarget}.
+   * @return new BuildTarget builder
+   */
+  public static BuildTarget.Builder builder() {
+    return new BuildTarget.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.model.BuildTarget BuildTarget}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_UNFLAVORED_BUILD_TARGET = 0x1L;
+    private long initializedBitset;
+    private @Nullable UnflavoredBuildTarget unflavoredBuildTarget;
+    private ImmutableSortedSet.Builder<Flavor> flavorsBuilder = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractBuildTarget} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractBuildTarget instance) {
+      Preconditions.checkNotNull(instance);
+      setUnflavoredBuildTarget(instance.getUnflavoredBuildTarget());
+      addAllFlavors(instance.getFlavors());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildTarget#getUnflavoredBuildTarget() unflavoredBuildTarget}.
+     * @param unflavoredBuildTarget value for unflavoredBuildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUnflavoredBuildTarget(UnflavoredBuildTarget unflavoredBuildTarget) {
+      this.unflavoredBuildTarget = Preconditions.checkNotNull(unflavoredBuildTarget);
+      initializedBitset |= INITIALIZED_BIT_UNFLAVORED_BUILD_TARGET;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractBuildTarget#getFlavors() flavors} sortedSet.
+     * @param element flavors element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFlavors(Flavor element) {
+      flavorsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractBuildTarget#getFlavors() flavors} sortedSet.
+     * @param elements array of flavors elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFlavors(Flavor... elements) {
+      flavorsBuilder.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractBuildTarget#getFlavors() flavors} sortedSet.
+     * @param elements iterable of flavors elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFlavors(Iterable<? extends Flavor> elements) {
+      flavorsBuilder = ImmutableSortedSet.naturalOrder();
+      return addAllFlavors(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractBuildTarget#getFlavors() flavors} sortedSet.
+     * @param elements iterable of flavors elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllFlavors(Iterable<? extends Flavor> elements) {
+      flavorsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.model.BuildTarget BuildTarget}.
+     * @return immutable instance of BuildTarget
+     */
+    public BuildTarget build() {
+      checkRequiredAttributes();
+      return BuildTarget.validate(new BuildTarget(null, unflavoredBuildTarget, flavorsBuilder.build()));
+    }
+
+    private boolean unflavoredBuildTargetIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_UNFLAVORED_BUILD_TARGET) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!unflavoredBuildTargetIsSet()) {
+        attributes.add("unflavoredBuildTarget");
+      }
+      return "Cannot build BuildTarget, some of required attributes are not set " + attributes;
+    }
+  }
+}
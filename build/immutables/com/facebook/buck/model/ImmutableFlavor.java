@@ -0,0 +1,188 @@
+package com.facebook.buck.model;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Flavor}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ImmutableFlavor.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code ImmutableFlavor.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Flavor"})
+@Immutable
+public final class ImmutableFlavor extends Flavor {
+  private final String name;
+
+  private ImmutableFlavor(String name) {
+    this.name = Preconditions.checkNotNull(name);
+  }
+
+  private ImmutableFlavor(ImmutableFlavor original, String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return value of {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link Flavor#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableFlavor withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return validate(new ImmutableFlavor(this, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code ImmutableFlavor} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ImmutableFlavor && equalTo((ImmutableFlavor) another));
+  }
+
+  private boolean equalTo(ImmutableFlavor another) {
+    return name.equals(another.name);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code Flavor} instance.
+   * @param name value for {@code name}
+   * @return immutable Flavor instance
+   */
+  public static com.facebook.buck.model.ImmutableFlavor of(String name) {
+    return validate(new ImmutableFlavor(name));
+  }
+
+  private static ImmutableFlavor validate(ImmutableFlavor instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link Flavor}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable Flavor instance
+   */
+  public static ImmutableFlavor copyOf(Flavor instance) {
+    if (instance instanceof ImmutableFlavor) {
+      return (ImmutableFlavor) instance;
+    }
+    return ImmutableFlavor.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.model.ImmutableFlavor ImmutableFlavor}.
+   * @return new ImmutableFlavor builder
+   */
+  public static ImmutableFlavor.Builder builder() {
+    return new ImmutableFlavor.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.model.ImmutableFlavor ImmutableFlavor}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_NAME = 0x1L;
+    private long initializedBitset;
+    private @Nullable String name;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link Flavor} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(Flavor instance) {
+      Preconditions.checkNotNull(instance);
+      name(instance.getName());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link Flavor#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder name(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.model.ImmutableFlavor ImmutableFlavor}.
+     * @return immutable instance of Flavor
+     */
+    public ImmutableFlavor build() {
+      checkRequiredAttributes();
+      return ImmutableFlavor.validate(new ImmutableFlavor(null, name));
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      return "Cannot build Flavor, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,419 @@
+package com.facebook.buck.model;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractUnflavoredBuildTarget}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code UnflavoredBuildTarget.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code UnflavoredBuildTarget.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractUnflavoredBuildTarget"})
+@Immutable
+public final class UnflavoredBuildTarget extends AbstractUnflavoredBuildTarget {
+  private final Path cellPath;
+  private final Optional<String> cell;
+  private final String baseName;
+  private final String baseNameWithSlash;
+  private final Path basePath;
+  private final String basePathWithSlash;
+  private final String shortName;
+  private final String fullyQualifiedName;
+
+  private UnflavoredBuildTarget(
+      Path cellPath,
+      Optional<String> cell,
+      String baseName,
+      String shortName) {
+    this.cellPath = Preconditions.checkNotNull(cellPath);
+    this.cell = Preconditions.checkNotNull(cell);
+    this.baseName = Preconditions.checkNotNull(baseName);
+    this.shortName = Preconditions.checkNotNull(shortName);
+    this.baseNameWithSlash = Preconditions.checkNotNull(super.getBaseNameWithSlash());
+    this.basePath = Preconditions.checkNotNull(super.getBasePath());
+    this.basePathWithSlash = Preconditions.checkNotNull(super.getBasePathWithSlash());
+    this.fullyQualifiedName = Preconditions.checkNotNull(super.getFullyQualifiedName());
+  }
+
+  private UnflavoredBuildTarget(
+      UnflavoredBuildTarget original,
+      Path cellPath,
+      Optional<String> cell,
+      String baseName,
+      String shortName) {
+    this.cellPath = cellPath;
+    this.cell = cell;
+    this.baseName = baseName;
+    this.shortName = shortName;
+    this.baseNameWithSlash = Preconditions.checkNotNull(super.getBaseNameWithSlash());
+    this.basePath = Preconditions.checkNotNull(super.getBasePath());
+    this.basePathWithSlash = Preconditions.checkNotNull(super.getBasePathWithSlash());
+    this.fullyQualifiedName = Preconditions.checkNotNull(super.getFullyQualifiedName());
+  }
+
+  /**
+   * @return value of {@code cellPath} attribute
+   */
+  @Override
+  public Path getCellPath() {
+    return cellPath;
+  }
+
+  /**
+   * @return value of {@code cell} attribute
+   */
+  @Override
+  public Optional<String> getCell() {
+    return cell;
+  }
+
+  /**
+   * If this build target were //third_party/java/guava:guava-latest, then this would return
+   * "//third_party/java/guava".
+   */
+  @Override
+  public String getBaseName() {
+    return baseName;
+  }
+
+  /**
+   * If this build target were //third_party/java/guava:guava-latest, then this would return
+   * "//third_party/java/guava/".
+   */
+  @Override
+  public String getBaseNameWithSlash() {
+    return baseNameWithSlash;
+  }
+
+  /**
+   * If this build target were //third_party/java/guava:guava-latest, then this would return the
+   * {@link Path} "third_party/java/guava". This does not contain the "//" prefix so that it can be
+   * appended to a file path.
+   */
+  @Override
+  public Path getBasePath() {
+    return basePath;
+  }
+
+  /**
+   * @return the value of {@link #getBasePath()} with a trailing slash, unless
+   *     {@link #getBasePath()} returns the empty string, in which case this also returns the empty
+   *     string
+   */
+  @Override
+  public String getBasePathWithSlash() {
+    return basePathWithSlash;
+  }
+
+  /**
+   * @return value of {@code shortName} attribute
+   */
+  @Override
+  public String getShortName() {
+    return shortName;
+  }
+
+  /**
+   * If this build target is //third_party/java/guava:guava-latest, then this would return
+   * "//third_party/java/guava:guava-latest".
+   */
+  @Override
+  public String getFullyQualifiedName() {
+    return fullyQualifiedName;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractUnflavoredBuildTarget#getCellPath() cellPath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cellPath
+   * @return modified copy of the {@code this} object
+   */
+  public final UnflavoredBuildTarget withCellPath(Path value) {
+    if (this.cellPath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return validate(new UnflavoredBuildTarget(this, newValue, this.cell, this.baseName, this.shortName));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractUnflavoredBuildTarget#getCell() cell}.
+   * @param value value for cell
+   * @return modified copy of {@code this} object
+   */
+  public final UnflavoredBuildTarget withCell(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return validate(new UnflavoredBuildTarget(this, this.cellPath, newValue, this.baseName, this.shortName));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractUnflavoredBuildTarget#getCell() cell}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for cell
+   * @return modified copy of {@code this} object
+   */
+  public final UnflavoredBuildTarget withCell(Optional<String> optional) {
+    if (this.cell == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return validate(new UnflavoredBuildTarget(this, this.cellPath, newValue, this.baseName, this.shortName));
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractUnflavoredBuildTarget#getBaseName() baseName}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for baseName
+   * @return modified copy of the {@code this} object
+   */
+  public final UnflavoredBuildTarget withBaseName(String value) {
+    if (this.baseName == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return validate(new UnflavoredBuildTarget(this, this.cellPath, this.cell, newValue, this.shortName));
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractUnflavoredBuildTarget#getShortName() shortName}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for shortName
+   * @return modified copy of the {@code this} object
+   */
+  public final UnflavoredBuildTarget withShortName(String value) {
+    if (this.shortName == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return validate(new UnflavoredBuildTarget(this, this.cellPath, this.cell, this.baseName, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code UnflavoredBuildTarget} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof UnflavoredBuildTarget && equalTo((UnflavoredBuildTarget) another));
+  }
+
+  private boolean equalTo(UnflavoredBuildTarget another) {
+    return cellPath.equals(another.cellPath)
+        && cell.equals(another.cell)
+        && baseName.equals(another.baseName)
+        && baseNameWithSlash.equals(another.baseNameWithSlash)
+        && basePath.equals(another.basePath)
+        && basePathWithSlash.equals(another.basePathWithSlash)
+        && shortName.equals(another.shortName)
+        && fullyQualifiedName.equals(another.fullyQualifiedName);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code cellPath}, {@code cell}, {@code baseName}, {@code baseNameWithSlash}, {@code basePath}, {@code basePathWithSlash}, {@code shortName}, {@code fullyQualifiedName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cellPath.hashCode();
+    h = h * 17 + cell.hashCode();
+    h = h * 17 + baseName.hashCode();
+    h = h * 17 + baseNameWithSlash.hashCode();
+    h = h * 17 + basePath.hashCode();
+    h = h * 17 + basePathWithSlash.hashCode();
+    h = h * 17 + shortName.hashCode();
+    h = h * 17 + fullyQualifiedName.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code UnflavoredBuildTarget} instance.
+   * @param cellPath value for {@code cellPath}
+   * @param cell value for {@code cell}
+   * @param baseName value for {@code baseName}
+   * @param shortName value for {@code shortName}
+   * @return immutable UnflavoredBuildTarget instance
+   */
+  public static com.facebook.buck.model.UnflavoredBuildTarget of(Path cellPath, Optional<String> cell, String baseName, String shortName) {
+    return validate(new UnflavoredBuildTarget(cellPath, cell, baseName, shortName));
+  }
+
+  private static UnflavoredBuildTarget validate(UnflavoredBuildTarget instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractUnflavoredBuildTarget}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable UnflavoredBuildTarget instance
+   */
+  public static UnflavoredBuildTarget copyOf(AbstractUnflavoredBuildTarget instance) {
+    if (instance instanceof UnflavoredBuildTarget) {
+      return (UnflavoredBuildTarget) instance;
+    }
+    return UnflavoredBuildTarget.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.model.UnflavoredBuildTarget UnflavoredBuildTarget}.
+   * @return new UnflavoredBuildTarget builder
+   */
+  public static UnflavoredBuildTarget.Builder builder() {
+    return new UnflavoredBuildTarget.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.model.UnflavoredBuildTarget UnflavoredBuildTarget}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_CELL_PATH = 0x1L;
+    private static final long INITIALIZED_BIT_BASE_NAME = 0x2L;
+    private static final long INITIALIZED_BIT_SHORT_NAME = 0x4L;
+    private long initializedBitset;
+    private @Nullable Path cellPath;
+    private Optional<String> cell = Optional.absent();
+    private @Nullable String baseName;
+    private @Nullable String shortName;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractUnflavoredBuildTarget} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractUnflavoredBuildTarget instance) {
+      Preconditions.checkNotNull(instance);
+      setCellPath(instance.getCellPath());
+      Optional<String> cellOptional = instance.getCell();
+      if (cellOptional.isPresent()) {
+        setCell(cellOptional);
+      }
+      setBaseName(instance.getBaseName());
+      setShortName(instance.getShortName());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractUnflavoredBuildTarget#getCellPath() cellPath}.
+     * @param cellPath value for cellPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCellPath(Path cellPath) {
+      this.cellPath = Preconditions.checkNotNull(cellPath);
+      initializedBitset |= INITIALIZED_BIT_CELL_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractUnflavoredBuildTarget#getCell() cell}.
+     * @param cell value for cell
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCell(String cell) {
+      this.cell = Optional.of(cell);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractUnflavoredBuildTarget#getCell() cell}.
+     * @param cell value for cell
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCell(Optional<String> cell) {
+      this.cell = Preconditions.checkNotNull(cell);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractUnflavoredBuildTarget#getBaseName() baseName}.
+     * @param baseName value for baseName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBaseName(String baseName) {
+      this.baseName = Preconditions.checkNotNull(baseName);
+      initializedBitset |= INITIALIZED_BIT_BASE_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractUnflavoredBuildTarget#getShortName() shortName}.
+     * @param shortName value for shortName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setShortName(String shortName) {
+      this.shortName = Preconditions.checkNotNull(shortName);
+      initializedBitset |= INITIALIZED_BIT_SHORT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.model.UnflavoredBuildTarget UnflavoredBuildTarget}.
+     * @return immutable instance of UnflavoredBuildTarget
+     */
+    public UnflavoredBuildTarget build() {
+      checkRequiredAttributes();
+      return UnflavoredBuildTarget.validate(new UnflavoredBuildTarget(null, cellPath, cell, baseName, shortName));
+    }
+
+    private boolean cellPathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CELL_PATH) != 0;
+    }
+
+    private boolean baseNameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BASE_NAME) != 0;
+    }
+
+    private boolean shortNameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SHORT_NAME) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!cellPathIsSet()) {
+        attributes.add("cellPath");
+      }
+      if (!baseNameIsSet()) {
+        attributes.add("baseName");
+      }
+      if (!shortNameIsSet()) {
+        attributes.add("shortName");
+      }
+      return "Cannot build UnflavoredBuildTarget, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,2572 @@
+package com.facebook.buck.ocaml;
+
+import com.facebook.buck.cxx.CxxPreprocessorInput;
+import com.facebook.buck.cxx.NativeLinkableInput;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.model.UnflavoredBuildTarget;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractOCamlBuildContext}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code OCamlBuildContext.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractOCamlBuildContext"})
+@Immutable
+public final class OCamlBuildContext extends AbstractOCamlBuildContext {
+  private final UnflavoredBuildTarget buildTarget;
+  private final ProjectFilesystem projectFilesystem;
+  private final SourcePathResolver sourcePathResolver;
+  private final boolean library;
+  private final ImmutableList<String> flags;
+  private final ImmutableList<SourcePath> input;
+  private final ImmutableList<String> includes;
+  private final NativeLinkableInput linkableInput;
+  private final NativeLinkableInput nativeLinkableInput;
+  private final ImmutableList<OCamlLibrary> oCamlInput;
+  private final CxxPreprocessorInput cxxPreprocessorInput;
+  private final ImmutableList<String> bytecodeIncludes;
+  private final ImmutableSortedSet<BuildRule> compileDeps;
+  private final ImmutableSortedSet<BuildRule> bytecodeCompileDeps;
+  private final ImmutableSortedSet<BuildRule> bytecodeLinkDeps;
+  private final Optional<Tool> ocamlDepTool;
+  private final Optional<Tool> ocamlCompiler;
+  private final Optional<Tool> ocamlDebug;
+  private final Optional<Tool> yaccCompiler;
+  private final Optional<Tool> lexCompiler;
+  private final Optional<Tool> ocamlBytecodeCompiler;
+  private final ImmutableList<String> cFlags;
+  private final Optional<String> oCamlInteropIncludesDir;
+  private final ImmutableList<String> ldFlags;
+
+  private OCamlBuildContext(
+      UnflavoredBuildTarget buildTarget,
+      ProjectFilesystem projectFilesystem,
+      SourcePathResolver sourcePathResolver,
+      boolean library,
+      ImmutableList<String> flags,
+      ImmutableList<SourcePath> input,
+      ImmutableList<String> includes,
+      NativeLinkableInput linkableInput,
+      NativeLinkableInput nativeLinkableInput,
+      ImmutableList<OCamlLibrary> oCamlInput,
+      CxxPreprocessorInput cxxPreprocessorInput,
+      ImmutableList<String> bytecodeIncludes,
+      ImmutableSortedSet<BuildRule> compileDeps,
+      ImmutableSortedSet<BuildRule> bytecodeCompileDeps,
+      ImmutableSortedSet<BuildRule> bytecodeLinkDeps,
+      Optional<Tool> ocamlDepTool,
+      Optional<Tool> ocamlCompiler,
+      Optional<Tool> ocamlDebug,
+      Optional<Tool> yaccCompiler,
+      Optional<Tool> lexCompiler,
+      Optional<Tool> ocamlBytecodeCompiler,
+      ImmutableList<String> cFlags,
+      Optional<String> oCamlInteropIncludesDir,
+      ImmutableList<String> ldFlags) {
+    this.buildTarget = buildTarget;
+    this.projectFilesystem = projectFilesystem;
+    this.sourcePathResolver = sourcePathResolver;
+    this.library = library;
+    this.flags = flags;
+    this.input = input;
+    this.includes = includes;
+    this.linkableInput = linkableInput;
+    this.nativeLinkableInput = nativeLinkableInput;
+    this.oCamlInput = oCamlInput;
+    this.cxxPreprocessorInput = cxxPreprocessorInput;
+    this.bytecodeIncludes = bytecodeIncludes;
+    this.compileDeps = compileDeps;
+    this.bytecodeCompileDeps = bytecodeCompileDeps;
+    this.bytecodeLinkDeps = bytecodeLinkDeps;
+    this.ocamlDepTool = ocamlDepTool;
+    this.ocamlCompiler = ocamlCompiler;
+    this.ocamlDebug = ocamlDebug;
+    this.yaccCompiler = yaccCompiler;
+    this.lexCompiler = lexCompiler;
+    this.ocamlBytecodeCompiler = ocamlBytecodeCompiler;
+    this.cFlags = cFlags;
+    this.oCamlInteropIncludesDir = oCamlInteropIncludesDir;
+    this.ldFlags = ldFlags;
+  }
+
+  /**
+   * @return value of {@code buildTarget} attribute
+   */
+  @Override
+  public UnflavoredBuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return value of {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return value of {@code sourcePathResolver} attribute
+   */
+  @Override
+  public SourcePathResolver getSourcePathResolver() {
+    return sourcePathResolver;
+  }
+
+  /**
+   * @return value of {@code library} attribute
+   */
+  @Override
+  public boolean isLibrary() {
+    return library;
+  }
+
+  /**
+   * @return value of {@code flags} attribute
+   */
+  @Override
+  public ImmutableList<String> getFlags() {
+    return flags;
+  }
+
+  /**
+   * @return value of {@code input} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getInput() {
+    return input;
+  }
+
+  /**
+   * @return value of {@code includes} attribute
+   */
+  @Override
+  public ImmutableList<String> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return value of {@code linkableInput} attribute
+   */
+  @Override
+  public NativeLinkableInput getLinkableInput() {
+    return linkableInput;
+  }
+
+  /**
+   * @return value of {@code nativeLinkableInput} attribute
+   */
+  @Override
+  public NativeLinkableInput getNativeLinkableInput() {
+    return nativeLinkableInput;
+  }
+
+  /**
+   * @return value of {@code oCamlInput} attribute
+   */
+  @Override
+  public ImmutableList<OCamlLibrary> getOCamlInput() {
+    return oCamlInput;
+  }
+
+  /**
+   * @return value of {@code cxxPreprocessorInput} attribute
+   */
+  @Override
+  public CxxPreprocessorInput getCxxPreprocessorInput() {
+    return cxxPreprocessorInput;
+  }
+
+  /**
+   * @return value of {@code bytecodeIncludes} attribute
+   */
+  @Override
+  public ImmutableList<String> getBytecodeIncludes() {
+    return bytecodeIncludes;
+  }
+
+  /**
+   * @return value of {@code compileDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getCompileDeps() {
+    return compileDeps;
+  }
+
+  /**
+   * @return value of {@code bytecodeCompileDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getBytecodeCompileDeps() {
+    return bytecodeCompileDeps;
+  }
+
+  /**
+   * @return value of {@code bytecodeLinkDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getBytecodeLinkDeps() {
+    return bytecodeLinkDeps;
+  }
+
+  /**
+   * @return value of {@code ocamlDepTool} attribute
+   */
+  @Override
+  public Optional<Tool> getOcamlDepTool() {
+    return ocamlDepTool;
+  }
+
+  /**
+   * @return value of {@code ocamlCompiler} attribute
+   */
+  @Override
+  public Optional<Tool> getOcamlCompiler() {
+    return ocamlCompiler;
+  }
+
+  /**
+   * @return value of {@code ocamlDebug} attribute
+   */
+  @Override
+  public Optional<Tool> getOcamlDebug() {
+    return ocamlDebug;
+  }
+
+  /**
+   * @return value of {@code yaccCompiler} attribute
+   */
+  @Override
+  public Optional<Tool> getYaccCompiler() {
+    return yaccCompiler;
+  }
+
+  /**
+   * @return value of {@code lexCompiler} attribute
+   */
+  @Override
+  public Optional<Tool> getLexCompiler() {
+    return lexCompiler;
+  }
+
+  /**
+   * @return value of {@code ocamlBytecodeCompiler} attribute
+   */
+  @Override
+  public Optional<Tool> getOcamlBytecodeCompiler() {
+    return ocamlBytecodeCompiler;
+  }
+
+  /**
+   * @return value of {@code cFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCFlags() {
+    return cFlags;
+  }
+
+  /**
+   * @return value of {@code oCamlInteropIncludesDir} attribute
+   */
+  @Override
+  public Optional<String> getOCamlInteropIncludesDir() {
+    return oCamlInteropIncludesDir;
+  }
+
+  /**
+   * @return value of {@code ldFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLdFlags() {
+    return ldFlags;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#getBuildTarget() buildTarget}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildTarget
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withBuildTarget(UnflavoredBuildTarget value) {
+    if (this.buildTarget == value) {
+      return this;
+    }
+    UnflavoredBuildTarget newValue = Preconditions.checkNotNull(value);
+    return new OCamlBuildContext(
+            newValue,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#getProjectFilesystem() projectFilesystem}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for projectFilesystem
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) {
+      return this;
+    }
+    ProjectFilesystem newValue = Preconditions.checkNotNull(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            newValue,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#getSourcePathResolver() sourcePathResolver}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sourcePathResolver
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withSourcePathResolver(SourcePathResolver value) {
+    if (this.sourcePathResolver == value) {
+      return this;
+    }
+    SourcePathResolver newValue = Preconditions.checkNotNull(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            newValue,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#isLibrary() library}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for library
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withLibrary(boolean value) {
+    if (this.library == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            newValue,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getFlags() flags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            newValue,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getFlags() flags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of flags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withFlags(Iterable<String> elements) {
+    if (this.flags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            newValue,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getInput() input}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withInput(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            newValue,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getInput() input}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of input elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withInput(Iterable<? extends SourcePath> elements) {
+    if (this.input == elements) {
+      return this;
+    }
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            newValue,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getIncludes() includes}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withIncludes(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            newValue,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getIncludes() includes}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of includes elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withIncludes(Iterable<String> elements) {
+    if (this.includes == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            newValue,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#getLinkableInput() linkableInput}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for linkableInput
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withLinkableInput(NativeLinkableInput value) {
+    if (this.linkableInput == value) {
+      return this;
+    }
+    NativeLinkableInput newValue = Preconditions.checkNotNull(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            newValue,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#getNativeLinkableInput() nativeLinkableInput}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for nativeLinkableInput
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withNativeLinkableInput(NativeLinkableInput value) {
+    if (this.nativeLinkableInput == value) {
+      return this;
+    }
+    NativeLinkableInput newValue = Preconditions.checkNotNull(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            newValue,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getOCamlInput() oCamlInput}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOCamlInput(OCamlLibrary... elements) {
+    ImmutableList<OCamlLibrary> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            newValue,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getOCamlInput() oCamlInput}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of oCamlInput elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOCamlInput(Iterable<? extends OCamlLibrary> elements) {
+    if (this.oCamlInput == elements) {
+      return this;
+    }
+    ImmutableList<OCamlLibrary> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            newValue,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#getCxxPreprocessorInput() cxxPreprocessorInput}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for cxxPreprocessorInput
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withCxxPreprocessorInput(CxxPreprocessorInput value) {
+    if (this.cxxPreprocessorInput == value) {
+      return this;
+    }
+    CxxPreprocessorInput newValue = Preconditions.checkNotNull(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            newValue,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getBytecodeIncludes() bytecodeIncludes}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withBytecodeIncludes(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            newValue,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getBytecodeIncludes() bytecodeIncludes}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of bytecodeIncludes elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withBytecodeIncludes(Iterable<String> elements) {
+    if (this.bytecodeIncludes == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            newValue,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#getCompileDeps() compileDeps}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for compileDeps
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withCompileDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.compileDeps == value) {
+      return this;
+    }
+    ImmutableSortedSet<BuildRule> newValue = Preconditions.checkNotNull(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            newValue,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#getBytecodeCompileDeps() bytecodeCompileDeps}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for bytecodeCompileDeps
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withBytecodeCompileDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.bytecodeCompileDeps == value) {
+      return this;
+    }
+    ImmutableSortedSet<BuildRule> newValue = Preconditions.checkNotNull(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            newValue,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlBuildContext#getBytecodeLinkDeps() bytecodeLinkDeps}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for bytecodeLinkDeps
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlBuildContext withBytecodeLinkDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.bytecodeLinkDeps == value) {
+      return this;
+    }
+    ImmutableSortedSet<BuildRule> newValue = Preconditions.checkNotNull(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            newValue,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractOCamlBuildContext#getOcamlDepTool() ocamlDepTool}.
+   * @param value value for ocamlDepTool
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOcamlDepTool(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            newValue,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractOCamlBuildContext#getOcamlDepTool() ocamlDepTool}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for ocamlDepTool
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOcamlDepTool(Optional<Tool> optional) {
+    if (this.ocamlDepTool == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            newValue,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractOCamlBuildContext#getOcamlCompiler() ocamlCompiler}.
+   * @param value value for ocamlCompiler
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOcamlCompiler(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            newValue,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractOCamlBuildContext#getOcamlCompiler() ocamlCompiler}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for ocamlCompiler
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOcamlCompiler(Optional<Tool> optional) {
+    if (this.ocamlCompiler == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            newValue,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractOCamlBuildContext#getOcamlDebug() ocamlDebug}.
+   * @param value value for ocamlDebug
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOcamlDebug(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            newValue,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractOCamlBuildContext#getOcamlDebug() ocamlDebug}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for ocamlDebug
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOcamlDebug(Optional<Tool> optional) {
+    if (this.ocamlDebug == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            newValue,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractOCamlBuildContext#getYaccCompiler() yaccCompiler}.
+   * @param value value for yaccCompiler
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withYaccCompiler(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            newValue,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractOCamlBuildContext#getYaccCompiler() yaccCompiler}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for yaccCompiler
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withYaccCompiler(Optional<Tool> optional) {
+    if (this.yaccCompiler == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            newValue,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractOCamlBuildContext#getLexCompiler() lexCompiler}.
+   * @param value value for lexCompiler
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withLexCompiler(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            newValue,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractOCamlBuildContext#getLexCompiler() lexCompiler}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for lexCompiler
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withLexCompiler(Optional<Tool> optional) {
+    if (this.lexCompiler == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            newValue,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractOCamlBuildContext#getOcamlBytecodeCompiler() ocamlBytecodeCompiler}.
+   * @param value value for ocamlBytecodeCompiler
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOcamlBytecodeCompiler(Tool value) {
+    Optional<Tool> newValue = Optional.of(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            newValue,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractOCamlBuildContext#getOcamlBytecodeCompiler() ocamlBytecodeCompiler}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for ocamlBytecodeCompiler
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOcamlBytecodeCompiler(Optional<Tool> optional) {
+    if (this.ocamlBytecodeCompiler == optional) {
+      return this;
+    }
+    Optional<Tool> newValue = Preconditions.checkNotNull(optional);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            newValue,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getCFlags() cFlags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withCFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            newValue,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getCFlags() cFlags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of cFlags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withCFlags(Iterable<String> elements) {
+    if (this.cFlags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            newValue,
+            this.oCamlInteropIncludesDir,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractOCamlBuildContext#getOCamlInteropIncludesDir() oCamlInteropIncludesDir}.
+   * @param value value for oCamlInteropIncludesDir
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOCamlInteropIncludesDir(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            newValue,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractOCamlBuildContext#getOCamlInteropIncludesDir() oCamlInteropIncludesDir}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for oCamlInteropIncludesDir
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withOCamlInteropIncludesDir(Optional<String> optional) {
+    if (this.oCamlInteropIncludesDir == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            newValue,
+            this.ldFlags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getLdFlags() ldFlags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withLdFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlBuildContext#getLdFlags() ldFlags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of ldFlags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlBuildContext withLdFlags(Iterable<String> elements) {
+    if (this.ldFlags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new OCamlBuildContext(
+            this.buildTarget,
+            this.projectFilesystem,
+            this.sourcePathResolver,
+            this.library,
+            this.flags,
+            this.input,
+            this.includes,
+            this.linkableInput,
+            this.nativeLinkableInput,
+            this.oCamlInput,
+            this.cxxPreprocessorInput,
+            this.bytecodeIncludes,
+            this.compileDeps,
+            this.bytecodeCompileDeps,
+            this.bytecodeLinkDeps,
+            this.ocamlDepTool,
+            this.ocamlCompiler,
+            this.ocamlDebug,
+            this.yaccCompiler,
+            this.lexCompiler,
+            this.ocamlBytecodeCompiler,
+            this.cFlags,
+            this.oCamlInteropIncludesDir,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code OCamlBuildContext} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof OCamlBuildContext && equalTo((OCamlBuildContext) another));
+  }
+
+  private boolean equalTo(OCamlBuildContext another) {
+    return buildTarget.equals(another.buildTarget)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && sourcePathResolver.equals(another.sourcePathResolver)
+        && library == another.library
+        && flags.equals(another.flags)
+        && input.equals(another.input)
+        && includes.equals(another.includes)
+        && linkableInput.equals(another.linkableInput)
+        && nativeLinkableInput.equals(another.nativeLinkableInput)
+        && oCamlInput.equals(another.oCamlInput)
+        && cxxPreprocessorInput.equals(another.cxxPreprocessorInput)
+        && bytecodeIncludes.equals(another.bytecodeIncludes)
+        && compileDeps.equals(another.compileDeps)
+        && bytecodeCompileDeps.equals(another.bytecodeCompileDeps)
+        && bytecodeLinkDeps.equals(another.bytecodeLinkDeps)
+        && ocamlDepTool.equals(another.ocamlDepTool)
+        && ocamlCompiler.equals(another.ocamlCompiler)
+        && ocamlDebug.equals(another.ocamlDebug)
+        && yaccCompiler.equals(another.yaccCompiler)
+        && lexCompiler.equals(another.lexCompiler)
+        && ocamlBytecodeCompiler.equals(another.ocamlBytecodeCompiler)
+        && cFlags.equals(another.cFlags)
+        && oCamlInteropIncludesDir.equals(another.oCamlInteropIncludesDir)
+        && ldFlags.equals(another.ldFlags);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code buildTarget}, {@code projectFilesystem}, {@code sourcePathResolver}, {@code library}, {@code flags}, {@code input}, {@code includes}, {@code linkableInput}, {@code nativeLinkableInput}, {@code oCamlInput}, {@code cxxPreprocessorInput}, {@code bytecodeIncludes}, {@code compileDeps}, {@code bytecodeCompileDeps}, {@code bytecodeLinkDeps}, {@code ocamlDepTool}, {@code ocamlCompiler}, {@code ocamlDebug}, {@code yaccCompiler}, {@code lexCompiler}, {@code ocamlBytecodeCompiler}, {@code cFlags}, {@code oCamlInteropIncludesDir}, {@code ldFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + buildTarget.hashCode();
+    h = h * 17 + projectFilesystem.hashCode();
+    h = h * 17 + sourcePathResolver.hashCode();
+    h = h * 17 + Booleans.hashCode(library);
+    h = h * 17 + flags.hashCode();
+    h = h * 17 + input.hashCode();
+    h = h * 17 + includes.hashCode();
+    h = h * 17 + linkableInput.hashCode();
+    h = h * 17 + nativeLinkableInput.hashCode();
+    h = h * 17 + oCamlInput.hashCode();
+    h = h * 17 + cxxPreprocessorInput.hashCode();
+    h = h * 17 + bytecodeIncludes.hashCode();
+    h = h * 17 + compileDeps.hashCode();
+    h = h * 17 + bytecodeCompileDeps.hashCode();
+    h = h * 17 + bytecodeLinkDeps.hashCode();
+    h = h * 17 + ocamlDepTool.hashCode();
+    h = h * 17 + ocamlCompiler.hashCode();
+    h = h * 17 + ocamlDebug.hashCode();
+    h = h * 17 + yaccCompiler.hashCode();
+    h = h * 17 + lexCompiler.hashCode();
+    h = h * 17 + ocamlBytecodeCompiler.hashCode();
+    h = h * 17 + cFlags.hashCode();
+    h = h * 17 + oCamlInteropIncludesDir.hashCode();
+    h = h * 17 + ldFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code OCamlBuildContext{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OCamlBuildContext")
+        .add("buildTarget", buildTarget)
+        .add("projectFilesystem", projectFilesystem)
+        .add("sourcePathResolver", sourcePathResolver)
+        .add("library", library)
+        .add("flags", flags)
+        .add("input", input)
+        .add("includes", includes)
+        .add("linkableInput", linkableInput)
+        .add("nativeLinkableInput", nativeLinkableInput)
+        .add("oCamlInput", oCamlInput)
+        .add("cxxPreprocessorInput", cxxPreprocessorInput)
+        .add("bytecodeIncludes", bytecodeIncludes)
+        .add("compileDeps", compileDeps)
+        .add("bytecodeCompileDeps", bytecodeCompileDeps)
+        .add("bytecodeLinkDeps", bytecodeLinkDeps)
+        .add("ocamlDepTool", ocamlDepTool)
+        .add("ocamlCompiler", ocamlCompiler)
+        .add("ocamlDebug", ocamlDebug)
+        .add("yaccCompiler", yaccCompiler)
+        .add("lexCompiler", lexCompiler)
+        .add("ocamlBytecodeCompiler", ocamlBytecodeCompiler)
+        .add("cFlags", cFlags)
+        .add("oCamlInteropIncludesDir", oCamlInteropIncludesDir)
+        .add("ldFlags", ldFlags)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractOCamlBuildContext}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable OCamlBuildContext instance
+   */
+  public static OCamlBuildContext copyOf(AbstractOCamlBuildContext instance) {
+    if (instance instanceof OCamlBuildContext) {
+      return (OCamlBuildContext) instance;
+    }
+    return OCamlBuildContext.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.ocaml.OCamlBuildContext OCamlBuildContext}.
+   * @return new OCamlBuildContext builder
+   */
+  public static OCamlBuildContext.Builder builder() {
+    return new OCamlBuildContext.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.ocaml.OCamlBuildContext OCamlBuildContext}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3ff;
+    private static final long INITIALIZED_BIT_BUILD_TARGET = 0x1L;
+    private static final long INITIALIZED_BIT_PROJECT_FILESYSTEM = 0x2L;
+    private static final long INITIALIZED_BIT_SOURCE_PATH_RESOLVER = 0x4L;
+    private static final long INITIALIZED_BIT_LIBRARY = 0x8L;
+    private static final long INITIALIZED_BIT_LINKABLE_INPUT = 0x10L;
+    private static final long INITIALIZED_BIT_NATIVE_LINKABLE_INPUT = 0x20L;
+    private static final long INITIALIZED_BIT_CXX_PREPROCESSOR_INPUT = 0x40L;
+    private static final long INITIALIZED_BIT_COMPILE_DEPS = 0x80L;
+    private static final long INITIALIZED_BIT_BYTECODE_COMPILE_DEPS = 0x100L;
+    private static final long INITIALIZED_BIT_BYTECODE_LINK_DEPS = 0x200L;
+    private long initializedBitset;
+    private @Nullable UnflavoredBuildTarget buildTarget;
+    private @Nullable ProjectFilesystem projectFilesystem;
+    private @Nullable SourcePathResolver sourcePathResolver;
+    private boolean library;
+    private ImmutableList.Builder<String> flagsBuilder = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> inputBuilder = ImmutableList.builder();
+    private ImmutableList.Builder<String> includesBuilder = ImmutableList.builder();
+    private @Nullable NativeLinkableInput linkableInput;
+    private @Nullable NativeLinkableInput nativeLinkableInput;
+    private ImmutableList.Builder<OCamlLibrary> oCamlInputBuilder = ImmutableList.builder();
+    private @Nullable CxxPreprocessorInput cxxPreprocessorInput;
+    private ImmutableList.Builder<String> bytecodeIncludesBuilder = ImmutableList.builder();
+    private @Nullable ImmutableSortedSet<BuildRule> compileDeps;
+    private @Nullable ImmutableSortedSet<BuildRule> bytecodeCompileDeps;
+    private @Nullable ImmutableSortedSet<BuildRule> bytecodeLinkDeps;
+    private Optional<Tool> ocamlDepTool = Optional.absent();
+    private Optional<Tool> ocamlCompiler = Optional.absent();
+    private Optional<Tool> ocamlDebug = Optional.absent();
+    private Optional<Tool> yaccCompiler = Optional.absent();
+    private Optional<Tool> lexCompiler = Optional.absent();
+    private Optional<Tool> ocamlBytecodeCompiler = Optional.absent();
+    private ImmutableList.Builder<String> cFlagsBuilder = ImmutableList.builder();
+    private Optional<String> oCamlInteropIncludesDir = Optional.absent();
+    private ImmutableList.Builder<String> ldFlagsBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractOCamlBuildContext} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractOCamlBuildContext instance) {
+      Preconditions.checkNotNull(instance);
+      setBuildTarget(instance.getBuildTarget());
+      setProjectFilesystem(instance.getProjectFilesystem());
+      setSourcePathResolver(instance.getSourcePathResolver());
+      setLibrary(instance.isLibrary());
+      addAllFlags(instance.getFlags());
+      addAllInput(instance.getInput());
+      addAllIncludes(instance.getIncludes());
+      setLinkableInput(instance.getLinkableInput());
+      setNativeLinkableInput(instance.getNativeLinkableInput());
+      addAllOCamlInput(instance.getOCamlInput());
+      setCxxPreprocessorInput(instance.getCxxPreprocessorInput());
+      addAllBytecodeIncludes(instance.getBytecodeIncludes());
+      setCompileDeps(instance.getCompileDeps());
+      setBytecodeCompileDeps(instance.getBytecodeCompileDeps());
+      setBytecodeLinkDeps(instance.getBytecodeLinkDeps());
+      Optional<Tool> ocamlDepToolOptional = instance.getOcamlDepTool();
+      if (ocamlDepToolOptional.isPresent()) {
+        setOcamlDepTool(ocamlDepToolOptional);
+      }
+      Optional<Tool> ocamlCompilerOptional = instance.getOcamlCompiler();
+      if (ocamlCompilerOptional.isPresent()) {
+        setOcamlCompiler(ocamlCompilerOptional);
+      }
+      Optional<Tool> ocamlDebugOptional = instance.getOcamlDebug();
+      if (ocamlDebugOptional.isPresent()) {
+        setOcamlDebug(ocamlDebugOptional);
+      }
+      Optional<Tool> yaccCompilerOptional = instance.getYaccCompiler();
+      if (yaccCompilerOptional.isPresent()) {
+        setYaccCompiler(yaccCompilerOptional);
+      }
+      Optional<Tool> lexCompilerOptional = instance.getLexCompiler();
+      if (lexCompilerOptional.isPresent()) {
+        setLexCompiler(lexCompilerOptional);
+      }
+      Optional<Tool> ocamlBytecodeCompilerOptional = instance.getOcamlBytecodeCompiler();
+      if (ocamlBytecodeCompilerOptional.isPresent()) {
+        setOcamlBytecodeCompiler(ocamlBytecodeCompilerOptional);
+      }
+      addAllCFlags(instance.getCFlags());
+      Optional<String> oCamlInteropIncludesDirOptional = instance.getOCamlInteropIncludesDir();
+      if (oCamlInteropIncludesDirOptional.isPresent()) {
+        setOCamlInteropIncludesDir(oCamlInteropIncludesDirOptional);
+      }
+      addAllLdFlags(instance.getLdFlags());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#getBuildTarget() buildTarget}.
+     * @param buildTarget value for buildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildTarget(UnflavoredBuildTarget buildTarget) {
+      this.buildTarget = Preconditions.checkNotNull(buildTarget);
+      initializedBitset |= INITIALIZED_BIT_BUILD_TARGET;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#getProjectFilesystem() projectFilesystem}.
+     * @param projectFilesystem value for projectFilesystem
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectFilesystem(ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = Preconditions.checkNotNull(projectFilesystem);
+      initializedBitset |= INITIALIZED_BIT_PROJECT_FILESYSTEM;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#getSourcePathResolver() sourcePathResolver}.
+     * @param sourcePathResolver value for sourcePathResolver
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePathResolver(SourcePathResolver sourcePathResolver) {
+      this.sourcePathResolver = Preconditions.checkNotNull(sourcePathResolver);
+      initializedBitset |= INITIALIZED_BIT_SOURCE_PATH_RESOLVER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#isLibrary() library}.
+     * @param library value for library
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLibrary(boolean library) {
+      this.library = library;
+      initializedBitset |= INITIALIZED_BIT_LIBRARY;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOCamlBuildContext#getFlags() flags} list.
+     * @param element flags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFlags(String element) {
+      flagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getFlags() flags} list.
+     * @param elements array of flags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFlags(String... elements) {
+      flagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOCamlBuildContext#getFlags() flags} list.
+     * @param elements iterable of flags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFlags(Iterable<String> elements) {
+      flagsBuilder = ImmutableList.builder();
+      return addAllFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getFlags() flags} list.
+     * @param elements iterable of flags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllFlags(Iterable<String> elements) {
+      flagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOCamlBuildContext#getInput() input} list.
+     * @param element input element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addInput(SourcePath element) {
+      inputBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getInput() input} list.
+     * @param elements array of input elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addInput(SourcePath... elements) {
+      inputBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOCamlBuildContext#getInput() input} list.
+     * @param elements iterable of input elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInput(Iterable<? extends SourcePath> elements) {
+      inputBuilder = ImmutableList.builder();
+      return addAllInput(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getInput() input} list.
+     * @param elements iterable of input elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllInput(Iterable<? extends SourcePath> elements) {
+      inputBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOCamlBuildContext#getIncludes() includes} list.
+     * @param element includes element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addIncludes(String element) {
+      includesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getIncludes() includes} list.
+     * @param elements array of includes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addIncludes(String... elements) {
+      includesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOCamlBuildContext#getIncludes() includes} list.
+     * @param elements iterable of includes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIncludes(Iterable<String> elements) {
+      includesBuilder = ImmutableList.builder();
+      return addAllIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getIncludes() includes} list.
+     * @param elements iterable of includes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllIncludes(Iterable<String> elements) {
+      includesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#getLinkableInput() linkableInput}.
+     * @param linkableInput value for linkableInput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLinkableInput(NativeLinkableInput linkableInput) {
+      this.linkableInput = Preconditions.checkNotNull(linkableInput);
+      initializedBitset |= INITIALIZED_BIT_LINKABLE_INPUT;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#getNativeLinkableInput() nativeLinkableInput}.
+     * @param nativeLinkableInput value for nativeLinkableInput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLinkableInput(NativeLinkableInput nativeLinkableInput) {
+      this.nativeLinkableInput = Preconditions.checkNotNull(nativeLinkableInput);
+      initializedBitset |= INITIALIZED_BIT_NATIVE_LINKABLE_INPUT;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOCamlBuildContext#getOCamlInput() oCamlInput} list.
+     * @param element oCamlInput element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addOCamlInput(OCamlLibrary element) {
+      oCamlInputBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getOCamlInput() oCamlInput} list.
+     * @param elements array of oCamlInput elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addOCamlInput(OCamlLibrary... elements) {
+      oCamlInputBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOCamlBuildContext#getOCamlInput() oCamlInput} list.
+     * @param elements iterable of oCamlInput elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOCamlInput(Iterable<? extends OCamlLibrary> elements) {
+      oCamlInputBuilder = ImmutableList.builder();
+      return addAllOCamlInput(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getOCamlInput() oCamlInput} list.
+     * @param elements iterable of oCamlInput elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllOCamlInput(Iterable<? extends OCamlLibrary> elements) {
+      oCamlInputBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#getCxxPreprocessorInput() cxxPreprocessorInput}.
+     * @param cxxPreprocessorInput value for cxxPreprocessorInput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxPreprocessorInput(CxxPreprocessorInput cxxPreprocessorInput) {
+      this.cxxPreprocessorInput = Preconditions.checkNotNull(cxxPreprocessorInput);
+      initializedBitset |= INITIALIZED_BIT_CXX_PREPROCESSOR_INPUT;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOCamlBuildContext#getBytecodeIncludes() bytecodeIncludes} list.
+     * @param element bytecodeIncludes element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addBytecodeIncludes(String element) {
+      bytecodeIncludesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getBytecodeIncludes() bytecodeIncludes} list.
+     * @param elements array of bytecodeIncludes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addBytecodeIncludes(String... elements) {
+      bytecodeIncludesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOCamlBuildContext#getBytecodeIncludes() bytecodeIncludes} list.
+     * @param elements iterable of bytecodeIncludes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBytecodeIncludes(Iterable<String> elements) {
+      bytecodeIncludesBuilder = ImmutableList.builder();
+      return addAllBytecodeIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getBytecodeIncludes() bytecodeIncludes} list.
+     * @param elements iterable of bytecodeIncludes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllBytecodeIncludes(Iterable<String> elements) {
+      bytecodeIncludesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#getCompileDeps() compileDeps}.
+     * @param compileDeps value for compileDeps
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCompileDeps(ImmutableSortedSet<BuildRule> compileDeps) {
+      this.compileDeps = Preconditions.checkNotNull(compileDeps);
+      initializedBitset |= INITIALIZED_BIT_COMPILE_DEPS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#getBytecodeCompileDeps() bytecodeCompileDeps}.
+     * @param bytecodeCompileDeps value for bytecodeCompileDeps
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBytecodeCompileDeps(ImmutableSortedSet<BuildRule> bytecodeCompileDeps) {
+      this.bytecodeCompileDeps = Preconditions.checkNotNull(bytecodeCompileDeps);
+      initializedBitset |= INITIALIZED_BIT_BYTECODE_COMPILE_DEPS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlBuildContext#getBytecodeLinkDeps() bytecodeLinkDeps}.
+     * @param bytecodeLinkDeps value for bytecodeLinkDeps
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBytecodeLinkDeps(ImmutableSortedSet<BuildRule> bytecodeLinkDeps) {
+      this.bytecodeLinkDeps = Preconditions.checkNotNull(bytecodeLinkDeps);
+      initializedBitset |= INITIALIZED_BIT_BYTECODE_LINK_DEPS;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractOCamlBuildContext#getOcamlDepTool() ocamlDepTool}.
+     * @param ocamlDepTool value for ocamlDepTool
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlDepTool(Tool ocamlDepTool) {
+      this.ocamlDepTool = Optional.of(ocamlDepTool);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractOCamlBuildContext#getOcamlDepTool() ocamlDepTool}.
+     * @param ocamlDepTool value for ocamlDepTool
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlDepTool(Optional<Tool> ocamlDepTool) {
+      this.ocamlDepTool = Preconditions.checkNotNull(ocamlDepTool);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractOCamlBuildContext#getOcamlCompiler() ocamlCompiler}.
+     * @param ocamlCompiler value for ocamlCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlCompiler(Tool ocamlCompiler) {
+      this.ocamlCompiler = Optional.of(ocamlCompiler);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractOCamlBuildContext#getOcamlCompiler() ocamlCompiler}.
+     * @param ocamlCompiler value for ocamlCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlCompiler(Optional<Tool> ocamlCompiler) {
+      this.ocamlCompiler = Preconditions.checkNotNull(ocamlCompiler);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractOCamlBuildContext#getOcamlDebug() ocamlDebug}.
+     * @param ocamlDebug value for ocamlDebug
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlDebug(Tool ocamlDebug) {
+      this.ocamlDebug = Optional.of(ocamlDebug);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractOCamlBuildContext#getOcamlDebug() ocamlDebug}.
+     * @param ocamlDebug value for ocamlDebug
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlDebug(Optional<Tool> ocamlDebug) {
+      this.ocamlDebug = Preconditions.checkNotNull(ocamlDebug);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractOCamlBuildContext#getYaccCompiler() yaccCompiler}.
+     * @param yaccCompiler value for yaccCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setYaccCompiler(Tool yaccCompiler) {
+      this.yaccCompiler = Optional.of(yaccCompiler);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractOCamlBuildContext#getYaccCompiler() yaccCompiler}.
+     * @param yaccCompiler value for yaccCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setYaccCompiler(Optional<Tool> yaccCompiler) {
+      this.yaccCompiler = Preconditions.checkNotNull(yaccCompiler);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractOCamlBuildContext#getLexCompiler() lexCompiler}.
+     * @param lexCompiler value for lexCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLexCompiler(Tool lexCompiler) {
+      this.lexCompiler = Optional.of(lexCompiler);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractOCamlBuildContext#getLexCompiler() lexCompiler}.
+     * @param lexCompiler value for lexCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLexCompiler(Optional<Tool> lexCompiler) {
+      this.lexCompiler = Preconditions.checkNotNull(lexCompiler);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractOCamlBuildContext#getOcamlBytecodeCompiler() ocamlBytecodeCompiler}.
+     * @param ocamlBytecodeCompiler value for ocamlBytecodeCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlBytecodeCompiler(Tool ocamlBytecodeCompiler) {
+      this.ocamlBytecodeCompiler = Optional.of(ocamlBytecodeCompiler);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractOCamlBuildContext#getOcamlBytecodeCompiler() ocamlBytecodeCompiler}.
+     * @param ocamlBytecodeCompiler value for ocamlBytecodeCompiler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOcamlBytecodeCompiler(Optional<Tool> ocamlBytecodeCompiler) {
+      this.ocamlBytecodeCompiler = Preconditions.checkNotNull(ocamlBytecodeCompiler);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOCamlBuildContext#getCFlags() cFlags} list.
+     * @param element cFlags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCFlags(String element) {
+      cFlagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getCFlags() cFlags} list.
+     * @param elements array of cFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCFlags(String... elements) {
+      cFlagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOCamlBuildContext#getCFlags() cFlags} list.
+     * @param elements iterable of cFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCFlags(Iterable<String> elements) {
+      cFlagsBuilder = ImmutableList.builder();
+      return addAllCFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getCFlags() cFlags} list.
+     * @param elements iterable of cFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllCFlags(Iterable<String> elements) {
+      cFlagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractOCamlBuildContext#getOCamlInteropIncludesDir() oCamlInteropIncludesDir}.
+     * @param oCamlInteropIncludesDir value for oCamlInteropIncludesDir
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOCamlInteropIncludesDir(String oCamlInteropIncludesDir) {
+      this.oCamlInteropIncludesDir = Optional.of(oCamlInteropIncludesDir);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractOCamlBuildContext#getOCamlInteropIncludesDir() oCamlInteropIncludesDir}.
+     * @param oCamlInteropIncludesDir value for oCamlInteropIncludesDir
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOCamlInteropIncludesDir(Optional<String> oCamlInteropIncludesDir) {
+      this.oCamlInteropIncludesDir = Preconditions.checkNotNull(oCamlInteropIncludesDir);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOCamlBuildContext#getLdFlags() ldFlags} list.
+     * @param element ldFlags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLdFlags(String element) {
+      ldFlagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getLdFlags() ldFlags} list.
+     * @param elements array of ldFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLdFlags(String... elements) {
+      ldFlagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOCamlBuildContext#getLdFlags() ldFlags} list.
+     * @param elements iterable of ldFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLdFlags(Iterable<String> elements) {
+      ldFlagsBuilder = ImmutableList.builder();
+      return addAllLdFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlBuildContext#getLdFlags() ldFlags} list.
+     * @param elements iterable of ldFlags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllLdFlags(Iterable<String> elements) {
+      ldFlagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.ocaml.OCamlBuildContext OCamlBuildContext}.
+     * @return immutable instance of OCamlBuildContext
+     */
+    public OCamlBuildContext build() {
+      checkRequiredAttributes();
+      return new OCamlBuildContext(
+              buildTarget,
+              projectFilesystem,
+              sourcePathResolver,
+              library,
+              flagsBuilder.build(),
+              inputBuilder.build(),
+              includesBuilder.build(),
+              linkableInput,
+              nativeLinkableInput,
+              oCamlInputBuilder.build(),
+              cxxPreprocessorInput,
+              bytecodeIncludesBuilder.build(),
+              compileDeps,
+              bytecodeCompileDeps,
+              bytecodeLinkDeps,
+              ocamlDepTool,
+              ocamlCompiler,
+              ocamlDebug,
+              yaccCompiler,
+              lexCompiler,
+              ocamlBytecodeCompiler,
+              cFlagsBuilder.build(),
+              oCamlInteropIncludesDir,
+              ldFlagsBuilder.build());
+    }
+
+    private boolean buildTargetIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUILD_TARGET) != 0;
+    }
+
+    private boolean projectFilesystemIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PROJECT_FILESYSTEM) != 0;
+    }
+
+    private boolean sourcePathResolverIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SOURCE_PATH_RESOLVER) != 0;
+    }
+
+    private boolean libraryIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_LIBRARY) != 0;
+    }
+
+    private boolean linkableInputIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_LINKABLE_INPUT) != 0;
+    }
+
+    private boolean nativeLinkableInputIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NATIVE_LINKABLE_INPUT) != 0;
+    }
+
+    private boolean cxxPreprocessorInputIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CXX_PREPROCESSOR_INPUT) != 0;
+    }
+
+    private boolean compileDepsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_COMPILE_DEPS) != 0;
+    }
+
+    private boolean bytecodeCompileDepsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BYTECODE_COMPILE_DEPS) != 0;
+    }
+
+    private boolean bytecodeLinkDepsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BYTECODE_LINK_DEPS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!buildTargetIsSet()) {
+        attributes.add("buildTarget");
+      }
+      if (!projectFilesystemIsSet()) {
+        attributes.add("projectFilesystem");
+      }
+      if (!sourcePathResolverIsSet()) {
+        attributes.add("sourcePathResolver");
+      }
+      if (!libraryIsSet()) {
+        attributes.add("library");
+      }
+      if (!linkableInputIsSet()) {
+        attributes.add("linkableInput");
+      }
+      if (!nativeLinkableInputIsSet()) {
+        attributes.add("nativeLinkableInput");
+      }
+      if (!cxxPreprocessorInputIsSet()) {
+        attributes.add("cxxPreprocessorInput");
+      }
+      if (!compileDepsIsSet()) {
+        attributes.add("compileDeps");
+      }
+      if (!bytecodeCompileDepsIsSet()) {
+        attributes.add("bytecodeCompileDeps");
+      }
+      if (!bytecodeLinkDepsIsSet()) {
+        attributes.add("bytecodeLinkDeps");
+      }
+      return "Cannot build OCamlBuildContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
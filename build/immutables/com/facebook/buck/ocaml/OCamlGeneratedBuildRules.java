@@ -0,0 +1,449 @@
+package com.facebook.buck.ocaml;
+
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractOCamlGeneratedBuildRules}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code OCamlGeneratedBuildRules.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractOCamlGeneratedBuildRules"})
+@Immutable
+public final class OCamlGeneratedBuildRules extends AbstractOCamlGeneratedBuildRules {
+  private final ImmutableList<BuildRule> rules;
+  private final ImmutableSortedSet<BuildRule> compileDeps;
+  private final ImmutableSortedSet<BuildRule> bytecodeCompileDeps;
+  private final ImmutableList<SourcePath> objectFiles;
+  private final BuildRule bytecodeLink;
+
+  private OCamlGeneratedBuildRules(
+      ImmutableList<BuildRule> rules,
+      ImmutableSortedSet<BuildRule> compileDeps,
+      ImmutableSortedSet<BuildRule> bytecodeCompileDeps,
+      ImmutableList<SourcePath> objectFiles,
+      BuildRule bytecodeLink) {
+    this.rules = rules;
+    this.compileDeps = compileDeps;
+    this.bytecodeCompileDeps = bytecodeCompileDeps;
+    this.objectFiles = objectFiles;
+    this.bytecodeLink = bytecodeLink;
+  }
+
+  /**
+   * @return value of {@code rules} attribute
+   */
+  @Override
+  public ImmutableList<BuildRule> getRules() {
+    return rules;
+  }
+
+  /**
+   * @return value of {@code compileDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getCompileDeps() {
+    return compileDeps;
+  }
+
+  /**
+   * @return value of {@code bytecodeCompileDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getBytecodeCompileDeps() {
+    return bytecodeCompileDeps;
+  }
+
+  /**
+   * @return value of {@code objectFiles} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getObjectFiles() {
+    return objectFiles;
+  }
+
+  /**
+   * @return value of {@code bytecodeLink} attribute
+   */
+  @Override
+  public BuildRule getBytecodeLink() {
+    return bytecodeLink;
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlGeneratedBuildRules#getRules() rules}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlGeneratedBuildRules withRules(BuildRule... elements) {
+    ImmutableList<BuildRule> newValue = ImmutableList.copyOf(elements);
+    return new OCamlGeneratedBuildRules(newValue, this.compileDeps, this.bytecodeCompileDeps, this.objectFiles, this.bytecodeLink);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlGeneratedBuildRules#getRules() rules}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of rules elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlGeneratedBuildRules withRules(Iterable<? extends BuildRule> elements) {
+    if (this.rules == elements) {
+      return this;
+    }
+    ImmutableList<BuildRule> newValue = ImmutableList.copyOf(elements);
+    return new OCamlGeneratedBuildRules(newValue, this.compileDeps, this.bytecodeCompileDeps, this.objectFiles, this.bytecodeLink);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlGeneratedBuildRules#getCompileDeps() compileDeps}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for compileDeps
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlGeneratedBuildRules withCompileDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.compileDeps == value) {
+      return this;
+    }
+    ImmutableSortedSet<BuildRule> newValue = Preconditions.checkNotNull(value);
+    return new OCamlGeneratedBuildRules(this.rules, newValue, this.bytecodeCompileDeps, this.objectFiles, this.bytecodeLink);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlGeneratedBuildRules#getBytecodeCompileDeps() bytecodeCompileDeps}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for bytecodeCompileDeps
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlGeneratedBuildRules withBytecodeCompileDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.bytecodeCompileDeps == value) {
+      return this;
+    }
+    ImmutableSortedSet<BuildRule> newValue = Preconditions.checkNotNull(value);
+    return new OCamlGeneratedBuildRules(this.rules, this.compileDeps, newValue, this.objectFiles, this.bytecodeLink);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlGeneratedBuildRules#getObjectFiles() objectFiles}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlGeneratedBuildRules withObjectFiles(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new OCamlGeneratedBuildRules(this.rules, this.compileDeps, this.bytecodeCompileDeps, newValue, this.bytecodeLink);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractOCamlGeneratedBuildRules#getObjectFiles() objectFiles}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of objectFiles elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final OCamlGeneratedBuildRules withObjectFiles(Iterable<? extends SourcePath> elements) {
+    if (this.objectFiles == elements) {
+      return this;
+    }
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new OCamlGeneratedBuildRules(this.rules, this.compileDeps, this.bytecodeCompileDeps, newValue, this.bytecodeLink);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlGeneratedBuildRules#getBytecodeLink() bytecodeLink}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for bytecodeLink
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlGeneratedBuildRules withBytecodeLink(BuildRule value) {
+    if (this.bytecodeLink == value) {
+      return this;
+    }
+    BuildRule newValue = Preconditions.checkNotNull(value);
+    return new OCamlGeneratedBuildRules(this.rules, this.compileDeps, this.bytecodeCompileDeps, this.objectFiles, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code OCamlGeneratedBuildRules} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof OCamlGeneratedBuildRules && equalTo((OCamlGeneratedBuildRules) another));
+  }
+
+  private boolean equalTo(OCamlGeneratedBuildRules another) {
+    return rules.equals(another.rules)
+        && compileDeps.equals(another.compileDeps)
+        && bytecodeCompileDeps.equals(another.bytecodeCompileDeps)
+        && objectFiles.equals(another.objectFiles)
+        && bytecodeLink.equals(another.bytecodeLink);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code rules}, {@code compileDeps}, {@code bytecodeCompileDeps}, {@code objectFiles}, {@code bytecodeLink}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + rules.hashCode();
+    h = h * 17 + compileDeps.hashCode();
+    h = h * 17 + bytecodeCompileDeps.hashCode();
+    h = h * 17 + objectFiles.hashCode();
+    h = h * 17 + bytecodeLink.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code OCamlGeneratedBuildRules{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OCamlGeneratedBuildRules")
+        .add("rules", rules)
+        .add("compileDeps", compileDeps)
+        .add("bytecodeCompileDeps", bytecodeCompileDeps)
+        .add("objectFiles", objectFiles)
+        .add("bytecodeLink", bytecodeLink)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractOCamlGeneratedBuildRules}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable OCamlGeneratedBuildRules instance
+   */
+  public static OCamlGeneratedBuildRules copyOf(AbstractOCamlGeneratedBuildRules instance) {
+    if (instance instanceof OCamlGeneratedBuildRules) {
+      return (OCamlGeneratedBuildRules) instance;
+    }
+    return OCamlGeneratedBuildRules.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.ocaml.OCamlGeneratedBuildRules OCamlGeneratedBuildRules}.
+   * @return new OCamlGeneratedBuildRules builder
+   */
+  public static OCamlGeneratedBuildRules.Builder builder() {
+    return new OCamlGeneratedBuildRules.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.ocaml.OCamlGeneratedBuildRules OCamlGeneratedBuildRules}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_COMPILE_DEPS = 0x1L;
+    private static final long INITIALIZED_BIT_BYTECODE_COMPILE_DEPS = 0x2L;
+    private static final long INITIALIZED_BIT_BYTECODE_LINK = 0x4L;
+    private long initializedBitset;
+    private ImmutableList.Builder<BuildRule> rulesBuilder = ImmutableList.builder();
+    private @Nullable ImmutableSortedSet<BuildRule> compileDeps;
+    private @Nullable ImmutableSortedSet<BuildRule> bytecodeCompileDeps;
+    private ImmutableList.Builder<SourcePath> objectFilesBuilder = ImmutableList.builder();
+    private @Nullable BuildRule bytecodeLink;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractOCamlGeneratedBuildRules} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractOCamlGeneratedBuildRules instance) {
+      Preconditions.checkNotNull(instance);
+      addAllRules(instance.getRules());
+      setCompileDeps(instance.getCompileDeps());
+      setBytecodeCompileDeps(instance.getBytecodeCompileDeps());
+      addAllObjectFiles(instance.getObjectFiles());
+      setBytecodeLink(instance.getBytecodeLink());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOCamlGeneratedBuildRules#getRules() rules} list.
+     * @param element rules element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRules(BuildRule element) {
+      rulesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlGeneratedBuildRules#getRules() rules} list.
+     * @param elements array of rules elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRules(BuildRule... elements) {
+      rulesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOCamlGeneratedBuildRules#getRules() rules} list.
+     * @param elements iterable of rules elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRules(Iterable<? extends BuildRule> elements) {
+      rulesBuilder = ImmutableList.builder();
+      return addAllRules(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlGeneratedBuildRules#getRules() rules} list.
+     * @param elements iterable of rules elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllRules(Iterable<? extends BuildRule> elements) {
+      rulesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlGeneratedBuildRules#getCompileDeps() compileDeps}.
+     * @param compileDeps value for compileDeps
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCompileDeps(ImmutableSortedSet<BuildRule> compileDeps) {
+      this.compileDeps = Preconditions.checkNotNull(compileDeps);
+      initializedBitset |= INITIALIZED_BIT_COMPILE_DEPS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlGeneratedBuildRules#getBytecodeCompileDeps() bytecodeCompileDeps}.
+     * @param bytecodeCompileDeps value for bytecodeCompileDeps
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBytecodeCompileDeps(ImmutableSortedSet<BuildRule> bytecodeCompileDeps) {
+      this.bytecodeCompileDeps = Preconditions.checkNotNull(bytecodeCompileDeps);
+      initializedBitset |= INITIALIZED_BIT_BYTECODE_COMPILE_DEPS;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOCamlGeneratedBuildRules#getObjectFiles() objectFiles} list.
+     * @param element objectFiles element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addObjectFiles(SourcePath element) {
+      objectFilesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlGeneratedBuildRules#getObjectFiles() objectFiles} list.
+     * @param elements array of objectFiles elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addObjectFiles(SourcePath... elements) {
+      objectFilesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOCamlGeneratedBuildRules#getObjectFiles() objectFiles} list.
+     * @param elements iterable of objectFiles elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setObjectFiles(Iterable<? extends SourcePath> elements) {
+      objectFilesBuilder = ImmutableList.builder();
+      return addAllObjectFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOCamlGeneratedBuildRules#getObjectFiles() objectFiles} list.
+     * @param elements iterable of objectFiles elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllObjectFiles(Iterable<? extends SourcePath> elements) {
+      objectFilesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlGeneratedBuildRules#getBytecodeLink() bytecodeLink}.
+     * @param bytecodeLink value for bytecodeLink
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBytecodeLink(BuildRule bytecodeLink) {
+      this.bytecodeLink = Preconditions.checkNotNull(bytecodeLink);
+      initializedBitset |= INITIALIZED_BIT_BYTECODE_LINK;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.ocaml.OCamlGeneratedBuildRules OCamlGeneratedBuildRules}.
+     * @return immutable instance of OCamlGeneratedBuildRules
+     */
+    public OCamlGeneratedBuildRules build() {
+      checkRequiredAttributes();
+      return new OCamlGeneratedBuildRules(
+              rulesBuilder.build(),
+              compileDeps,
+              bytecodeCompileDeps,
+              objectFilesBuilder.build(),
+              bytecodeLink);
+    }
+
+    private boolean compileDepsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_COMPILE_DEPS) != 0;
+    }
+
+    private boolean bytecodeCompileDepsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BYTECODE_COMPILE_DEPS) != 0;
+    }
+
+    private boolean bytecodeLinkIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BYTECODE_LINK) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!compileDepsIsSet()) {
+        attributes.add("compileDeps");
+      }
+      if (!bytecodeCompileDepsIsSet()) {
+        attributes.add("bytecodeCompileDeps");
+      }
+      if (!bytecodeLinkIsSet()) {
+        attributes.add("bytecodeLink");
+      }
+      return "Cannot build OCamlGeneratedBuildRules, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.facebook.buck.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractBuildFileSpec}.
+ * <p>
+ * Use static factory method to create immutable instances:
+ * {@code BuildFileSpec.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildFileSpec"})
+@Immutable
+public final class BuildFileSpec extends AbstractBuildFileSpec {
+  private final Path basePath;
+  private final boolean recursive;
+
+  private BuildFileSpec(Path basePath, boolean recursive) {
+    this.basePath = Preconditions.checkNotNull(basePath);
+    this.recursive = recursive;
+  }
+
+  private BuildFileSpec(BuildFileSpec original, Path basePath, boolean recursive) {
+    this.basePath = basePath;
+    this.recursive = recursive;
+  }
+
+  /**
+   * @return value of {@code basePath} attribute
+   */
+  @Override
+  public Path getBasePath() {
+    return basePath;
+  }
+
+  /**
+   * @return value of {@code recursive} attribute
+   */
+  @Override
+  public boolean isRecursive() {
+    return recursive;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildFileSpec#getBasePath() basePath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for basePath
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildFileSpec withBasePath(Path value) {
+    if (this.basePath == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new BuildFileSpec(this, newValue, this.recursive);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildFileSpec#isRecursive() recursive}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for recursive
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildFileSpec withRecursive(boolean value) {
+    if (this.recursive == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new BuildFileSpec(this, this.basePath, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code BuildFileSpec} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof BuildFileSpec && equalTo((BuildFileSpec) another));
+  }
+
+  private boolean equalTo(BuildFileSpec another) {
+    return basePath.equals(another.basePath)
+        && recursive == another.recursive;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code basePath}, {@code recursive}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + basePath.hashCode();
+    h = h * 17 + Booleans.hashCode(recursive);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code BuildFileSpec{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileSpec")
+        .add("basePath", basePath)
+        .add("recursive", recursive)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code BuildFileSpec} instance.
+   * @param basePath value for {@code basePath}
+   * @param recursive value for {@code recursive}
+   * @return immutable BuildFileSpec instance
+   */
+  public static com.facebook.buck.parser.BuildFileSpec of(Path basePath, boolean recursive) {
+    return new BuildFileSpec(basePath, recursive);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractBuildFileSpec}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable BuildFileSpec instance
+   */
+  public static BuildFileSpec copyOf(AbstractBuildFileSpec instance) {
+    if (instance instanceof BuildFileSpec) {
+      return (BuildFileSpec) instance;
+    }
+    return BuildFileSpec.of(instance.getBasePath(), instance.isRecursive());
+  }
+}
@@ -0,0 +1,131 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractBuildTargetSpec}.
+ * <p>
+ * Use static factory method to create immutable instances:
+ * {@code BuildTargetSpec.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildTargetSpec"})
+@Immutable
+public final class BuildTargetSpec extends AbstractBuildTargetSpec {
+  private final BuildTarget buildTarget;
+  private final BuildFileSpec buildFileSpec;
+
+  private BuildTargetSpec(BuildTarget buildTarget, BuildFileSpec buildFileSpec) {
+    this.buildTarget = Preconditions.checkNotNull(buildTarget);
+    this.buildFileSpec = Preconditions.checkNotNull(buildFileSpec);
+  }
+
+  private BuildTargetSpec(
+      BuildTargetSpec original,
+      BuildTarget buildTarget,
+      BuildFileSpec buildFileSpec) {
+    this.buildTarget = buildTarget;
+    this.buildFileSpec = buildFileSpec;
+  }
+
+  /**
+   * @return value of {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return value of {@code buildFileSpec} attribute
+   */
+  @Override
+  public BuildFileSpec getBuildFileSpec() {
+    return buildFileSpec;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildTargetSpec#getBuildTarget() buildTarget}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildTarget
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildTargetSpec withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) {
+      return this;
+    }
+    BuildTarget newValue = Preconditions.checkNotNull(value);
+    return new BuildTargetSpec(this, newValue, this.buildFileSpec);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildTargetSpec#getBuildFileSpec() buildFileSpec}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildFileSpec
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildTargetSpec withBuildFileSpec(BuildFileSpec value) {
+    if (this.buildFileSpec == value) {
+      return this;
+    }
+    BuildFileSpec newValue = Preconditions.checkNotNull(value);
+    return new BuildTargetSpec(this, this.buildTarget, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code BuildTargetSpec} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof BuildTargetSpec && equalTo((BuildTargetSpec) another));
+  }
+
+  private boolean equalTo(BuildTargetSpec another) {
+    return buildTarget.equals(another.buildTarget)
+        && buildFileSpec.equals(another.buildFileSpec);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code buildTarget}, {@code buildFileSpec}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + buildTarget.hashCode();
+    h = h * 17 + buildFileSpec.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code BuildTargetSpec} instance.
+   * @param buildTarget value for {@code buildTarget}
+   * @param buildFileSpec value for {@code buildFileSpec}
+   * @return immutable BuildTargetSpec instance
+   */
+  public static com.facebook.buck.parser.BuildTargetSpec of(BuildTarget buildTarget, BuildFileSpec buildFileSpec) {
+    return new BuildTargetSpec(buildTarget, buildFileSpec);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractBuildTargetSpec}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable BuildTargetSpec instance
+   */
+  public static BuildTargetSpec copyOf(AbstractBuildTargetSpec instance) {
+    if (instance instanceof BuildTargetSpec) {
+      return (BuildTargetSpec) instance;
+    }
+    return BuildTargetSpec.of(instance.getBuildTarget(), instance.getBuildFileSpec());
+  }
+}
@@ -0,0 +1,148 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.rules.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractTargetNodePredicateSpec}.
+ * <p>
+ * Use static factory method to create immutable instances:
+ * {@code TargetNodePredicateSpec.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTargetNodePredicateSpec"})
+@Immutable
+public final class TargetNodePredicateSpec extends AbstractTargetNodePredicateSpec {
+  private final Predicate<? super TargetNode<?>> predicate;
+  private final BuildFileSpec buildFileSpec;
+
+  private TargetNodePredicateSpec(
+      Predicate<? super TargetNode<?>> predicate,
+      BuildFileSpec buildFileSpec) {
+    this.predicate = Preconditions.checkNotNull(predicate);
+    this.buildFileSpec = Preconditions.checkNotNull(buildFileSpec);
+  }
+
+  private TargetNodePredicateSpec(
+      TargetNodePredicateSpec original,
+      Predicate<? super TargetNode<?>> predicate,
+      BuildFileSpec buildFileSpec) {
+    this.predicate = predicate;
+    this.buildFileSpec = buildFileSpec;
+  }
+
+  /**
+   * @return value of {@code predicate} attribute
+   */
+  @Override
+  public Predicate<? super TargetNode<?>> getPredicate() {
+    return predicate;
+  }
+
+  /**
+   * @return value of {@code buildFileSpec} attribute
+   */
+  @Override
+  public BuildFileSpec getBuildFileSpec() {
+    return buildFileSpec;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTargetNodePredicateSpec#getPredicate() predicate}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for predicate
+   * @return modified copy of the {@code this} object
+   */
+  public final TargetNodePredicateSpec withPredicate(Predicate<? super TargetNode<?>> value) {
+    if (this.predicate == value) {
+      return this;
+    }
+    Predicate<? super TargetNode<?>> newValue = Preconditions.checkNotNull(value);
+    return new TargetNodePredicateSpec(this, newValue, this.buildFileSpec);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTargetNodePredicateSpec#getBuildFileSpec() buildFileSpec}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildFileSpec
+   * @return modified copy of the {@code this} object
+   */
+  public final TargetNodePredicateSpec withBuildFileSpec(BuildFileSpec value) {
+    if (this.buildFileSpec == value) {
+      return this;
+    }
+    BuildFileSpec newValue = Preconditions.checkNotNull(value);
+    return new TargetNodePredicateSpec(this, this.predicate, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code TargetNodePredicateSpec} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof TargetNodePredicateSpec && equalTo((TargetNodePredicateSpec) another));
+  }
+
+  private boolean equalTo(TargetNodePredicateSpec another) {
+    return predicate.equals(another.predicate)
+        && buildFileSpec.equals(another.buildFileSpec);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code predicate}, {@code buildFileSpec}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + predicate.hashCode();
+    h = h * 17 + buildFileSpec.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code TargetNodePredicateSpec{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TargetNodePredicateSpec")
+        .add("predicate", predicate)
+        .add("buildFileSpec", buildFileSpec)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code TargetNodePredicateSpec} instance.
+   * @param predicate value for {@code predicate}
+   * @param buildFileSpec value for {@code buildFileSpec}
+   * @return immutable TargetNodePredicateSpec instance
+   */
+  public static com.facebook.buck.parser.TargetNodePredicateSpec of(Predicate<? super TargetNode<?>> predicate, BuildFileSpec buildFileSpec) {
+    return new TargetNodePredicateSpec(predicate, buildFileSpec);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractTargetNodePredicateSpec}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable TargetNodePredicateSpec instance
+   */
+  public static TargetNodePredicateSpec copyOf(AbstractTargetNodePredicateSpec instance) {
+    if (instance instanceof TargetNodePredicateSpec) {
+      return (TargetNodePredicateSpec) instance;
+    }
+    return TargetNodePredicateSpec.of(instance.getPredicate(), instance.getBuildFileSpec());
+  }
+}
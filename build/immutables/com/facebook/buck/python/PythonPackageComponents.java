@@ -0,0 +1,282 @@
+package com.facebook.buck.python;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractPythonPackageComponents}.
+ * <p>
+ * Use static factory method to create immutable instances:
+ * {@code PythonPackageComponents.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPythonPackageComponents"})
+@Immutable
+public final class PythonPackageComponents extends AbstractPythonPackageComponents {
+  private final ImmutableMap<Path, SourcePath> modules;
+  private final ImmutableMap<Path, SourcePath> resources;
+  private final ImmutableMap<Path, SourcePath> nativeLibraries;
+  private final ImmutableSet<SourcePath> prebuiltLibraries;
+  private final Optional<Boolean> zipSafe;
+
+  private PythonPackageComponents(
+      Map<? extends Path, ? extends SourcePath> modules,
+      Map<? extends Path, ? extends SourcePath> resources,
+      Map<? extends Path, ? extends SourcePath> nativeLibraries,
+      Iterable<? extends SourcePath> prebuiltLibraries,
+      Optional<Boolean> zipSafe) {
+    this.modules = ImmutableMap.copyOf(modules);
+    this.resources = ImmutableMap.copyOf(resources);
+    this.nativeLibraries = ImmutableMap.copyOf(nativeLibraries);
+    this.prebuiltLibraries = ImmutableSet.copyOf(prebuiltLibraries);
+    this.zipSafe = Preconditions.checkNotNull(zipSafe);
+  }
+
+  private PythonPackageComponents(
+      PythonPackageComponents original,
+      ImmutableMap<Path, SourcePath> modules,
+      ImmutableMap<Path, SourcePath> resources,
+      ImmutableMap<Path, SourcePath> nativeLibraries,
+      ImmutableSet<SourcePath> prebuiltLibraries,
+      Optional<Boolean> zipSafe) {
+    this.modules = modules;
+    this.resources = resources;
+    this.nativeLibraries = nativeLibraries;
+    this.prebuiltLibraries = prebuiltLibraries;
+    this.zipSafe = zipSafe;
+  }
+
+  /**
+   * @return value of {@code modules} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getModules() {
+    return modules;
+  }
+
+  /**
+   * @return value of {@code resources} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return value of {@code nativeLibraries} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getNativeLibraries() {
+    return nativeLibraries;
+  }
+
+  /**
+   * @return value of {@code prebuiltLibraries} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getPrebuiltLibraries() {
+    return prebuiltLibraries;
+  }
+
+  /**
+   * @return value of {@code zipSafe} attribute
+   */
+  @Override
+  public Optional<Boolean> isZipSafe() {
+    return zipSafe;
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractPythonPackageComponents#getModules() modules} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to modules map
+   * @return modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withModules(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.modules == entries) {
+      return this;
+    }
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new PythonPackageComponents(this, newValue, this.resources, this.nativeLibraries, this.prebuiltLibraries, this.zipSafe);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractPythonPackageComponents#getResources() resources} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to resources map
+   * @return modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withResources(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.resources == entries) {
+      return this;
+    }
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new PythonPackageComponents(this, this.modules, newValue, this.nativeLibraries, this.prebuiltLibraries, this.zipSafe);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractPythonPackageComponents#getNativeLibraries() nativeLibraries} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to nativeLibraries map
+   * @return modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withNativeLibraries(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.nativeLibraries == entries) {
+      return this;
+    }
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new PythonPackageComponents(this, this.modules, this.resources, newValue, this.prebuiltLibraries, this.zipSafe);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractPythonPackageComponents#getPrebuiltLibraries() prebuiltLibraries}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withPrebuiltLibraries(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, newValue, this.zipSafe);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractPythonPackageComponents#getPrebuiltLibraries() prebuiltLibraries}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of prebuiltLibraries elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withPrebuiltLibraries(Iterable<? extends SourcePath> elements) {
+    if (this.prebuiltLibraries == elements) {
+      return this;
+    }
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, newValue, this.zipSafe);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractPythonPackageComponents#isZipSafe() zipSafe}.
+   * @param value value for zipSafe
+   * @return modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withZipSafe(boolean value) {
+    Optional<Boolean> newValue = Optional.of(value);
+    return new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, this.prebuiltLibraries, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractPythonPackageComponents#isZipSafe() zipSafe}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for zipSafe
+   * @return modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withZipSafe(Optional<Boolean> optional) {
+    if (this.zipSafe == optional) {
+      return this;
+    }
+    Optional<Boolean> newValue = Preconditions.checkNotNull(optional);
+    return new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, this.prebuiltLibraries, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code PythonPackageComponents} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof PythonPackageComponents && equalTo((PythonPackageComponents) another));
+  }
+
+  private boolean equalTo(PythonPackageComponents another) {
+    return modules.equals(another.modules)
+        && resources.equals(another.resources)
+        && nativeLibraries.equals(another.nativeLibraries)
+        && prebuiltLibraries.equals(another.prebuiltLibraries)
+        && zipSafe.equals(another.zipSafe);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code modules}, {@code resources}, {@code nativeLibraries}, {@code prebuiltLibraries}, {@code zipSafe}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + modules.hashCode();
+    h = h * 17 + resources.hashCode();
+    h = h * 17 + nativeLibraries.hashCode();
+    h = h * 17 + prebuiltLibraries.hashCode();
+    h = h * 17 + zipSafe.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code PythonPackageComponents{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonPackageComponents")
+        .add("modules", modules)
+        .add("resources", resources)
+        .add("nativeLibraries", nativeLibraries)
+        .add("prebuiltLibraries", prebuiltLibraries)
+        .add("zipSafe", zipSafe)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code PythonPackageComponents} instance.
+   * @param modules value for {@code modules}
+   * @param resources value for {@code resources}
+   * @param nativeLibraries value for {@code nativeLibraries}
+   * @param prebuiltLibraries value for {@code prebuiltLibraries}
+   * @param zipSafe value for {@code zipSafe}
+   * @return immutable PythonPackageComponents instance
+   */
+  public static com.facebook.buck.python.PythonPackageComponents of(Map<Path, SourcePath> modules, Map<Path, SourcePath> resources, Map<Path, SourcePath> nativeLibraries, Set<SourcePath> prebuiltLibraries, Optional<Boolean> zipSafe) {
+    return of(modules, resources, nativeLibraries, (Iterable<? extends SourcePath>) prebuiltLibraries, zipSafe);
+  }
+
+  /**
+   * Construct new immutable {@code PythonPackageComponents} instance.
+   * @param modules value for {@code modules}
+   * @param resources value for {@code resources}
+   * @param nativeLibraries value for {@code nativeLibraries}
+   * @param prebuiltLibraries value for {@code prebuiltLibraries}
+   * @param zipSafe value for {@code zipSafe}
+   * @return immutable PythonPackageComponents instance
+   */
+  public static com.facebook.buck.python.PythonPackageComponents of(Map<? extends Path, ? extends SourcePath> modules, Map<? extends Path, ? extends SourcePath> resources, Map<? extends Path, ? extends SourcePath> nativeLibraries, Iterable<? extends SourcePath> prebuiltLibraries, Optional<Boolean> zipSafe) {
+    return new PythonPackageComponents(modules, resources, nativeLibraries, prebuiltLibraries, zipSafe);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractPythonPackageComponents}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable PythonPackageComponents instance
+   */
+  public static PythonPackageComponents copyOf(AbstractPythonPackageComponents instance) {
+    if (instance instanceof PythonPackageComponents) {
+      return (PythonPackageComponents) instance;
+    }
+    return PythonPackageComponents.of(instance.getModules(), instance.getResources(), instance.getNativeLibraries(), instance.getPrebuiltLibraries(), instance.isZipSafe());
+  }
+}
@@ -0,0 +1,320 @@
+package com.facebook.buck.python;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractPythonPlatform}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code PythonPlatform.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code PythonPlatform.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPythonPlatform"})
+@Immutable
+public final class PythonPlatform implements AbstractPythonPlatform {
+  private final Flavor flavor;
+  private final PythonEnvironment environment;
+  private final Optional<BuildTarget> cxxLibrary;
+
+  private PythonPlatform(
+      Flavor flavor,
+      PythonEnvironment environment,
+      Optional<BuildTarget> cxxLibrary) {
+    this.flavor = Preconditions.checkNotNull(flavor);
+    this.environment = Preconditions.checkNotNull(environment);
+    this.cxxLibrary = Preconditions.checkNotNull(cxxLibrary);
+  }
+
+  private PythonPlatform(
+      PythonPlatform original,
+      Flavor flavor,
+      PythonEnvironment environment,
+      Optional<BuildTarget> cxxLibrary) {
+    this.flavor = flavor;
+    this.environment = environment;
+    this.cxxLibrary = cxxLibrary;
+  }
+
+  /**
+   * @return the {@link Flavor} associated with this python platform.
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   * @return the {@link PythonEnvironment} for this python platform.
+   */
+  @Override
+  public PythonEnvironment getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return the {@link BuildTarget} wrapping the C/C++ library used by C/C++ extensions.
+   */
+  @Override
+  public Optional<BuildTarget> getCxxLibrary() {
+    return cxxLibrary;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractPythonPlatform#getFlavor() flavor}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for flavor
+   * @return modified copy of the {@code this} object
+   */
+  public final PythonPlatform withFlavor(Flavor value) {
+    if (this.flavor == value) {
+      return this;
+    }
+    Flavor newValue = Preconditions.checkNotNull(value);
+    return new PythonPlatform(this, newValue, this.environment, this.cxxLibrary);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractPythonPlatform#getEnvironment() environment}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for environment
+   * @return modified copy of the {@code this} object
+   */
+  public final PythonPlatform withEnvironment(PythonEnvironment value) {
+    if (this.environment == value) {
+      return this;
+    }
+    PythonEnvironment newValue = Preconditions.checkNotNull(value);
+    return new PythonPlatform(this, this.flavor, newValue, this.cxxLibrary);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractPythonPlatform#getCxxLibrary() cxxLibrary}.
+   * @param value value for cxxLibrary
+   * @return modified copy of {@code this} object
+   */
+  public final PythonPlatform withCxxLibrary(BuildTarget value) {
+    Optional<BuildTarget> newValue = Optional.of(value);
+    return new PythonPlatform(this, this.flavor, this.environment, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractPythonPlatform#getCxxLibrary() cxxLibrary}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for cxxLibrary
+   * @return modified copy of {@code this} object
+   */
+  public final PythonPlatform withCxxLibrary(Optional<BuildTarget> optional) {
+    if (this.cxxLibrary == optional) {
+      return this;
+    }
+    Optional<BuildTarget> newValue = Preconditions.checkNotNull(optional);
+    return new PythonPlatform(this, this.flavor, this.environment, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code PythonPlatform} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof PythonPlatform && equalTo((PythonPlatform) another));
+  }
+
+  private boolean equalTo(PythonPlatform another) {
+    return flavor.equals(another.flavor)
+        && environment.equals(another.environment)
+        && cxxLibrary.equals(another.cxxLibrary);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code flavor}, {@code environment}, {@code cxxLibrary}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + flavor.hashCode();
+    h = h * 17 + environment.hashCode();
+    h = h * 17 + cxxLibrary.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code PythonPlatform{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonPlatform")
+        .add("flavor", flavor)
+        .add("environment", environment)
+        .add("cxxLibrary", cxxLibrary)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code PythonPlatform} instance.
+   * @param flavor value for {@code flavor}
+   * @param environment value for {@code environment}
+   * @param cxxLibrary value for {@code cxxLibrary}
+   * @return immutable PythonPlatform instance
+   */
+  public static com.facebook.buck.python.PythonPlatform of(Flavor flavor, PythonEnvironment environment, Optional<BuildTarget> cxxLibrary) {
+    return new PythonPlatform(flavor, environment, cxxLibrary);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractPythonPlatform}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable PythonPlatform instance
+   */
+  public static PythonPlatform copyOf(AbstractPythonPlatform instance) {
+    if (instance instanceof PythonPlatform) {
+      return (PythonPlatform) instance;
+    }
+    return PythonPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.python.PythonPlatform PythonPlatform}.
+   * @return new PythonPlatform builder
+   */
+  public static PythonPlatform.Builder builder() {
+    return new PythonPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.python.PythonPlatform PythonPlatform}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_FLAVOR = 0x1L;
+    private static final long INITIALIZED_BIT_ENVIRONMENT = 0x2L;
+    private long initializedBitset;
+    private @Nullable Flavor flavor;
+    private @Nullable PythonEnvironment environment;
+    private Optional<BuildTarget> cxxLibrary = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractPythonPlatform} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractPythonPlatform instance) {
+      Preconditions.checkNotNull(instance);
+      setFlavor(instance.getFlavor());
+      setEnvironment(instance.getEnvironment());
+      Optional<BuildTarget> cxxLibraryOptional = instance.getCxxLibrary();
+      if (cxxLibraryOptional.isPresent()) {
+        setCxxLibrary(cxxLibraryOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractPythonPlatform#getFlavor() flavor}.
+     * @param flavor value for flavor
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFlavor(Flavor flavor) {
+      this.flavor = Preconditions.checkNotNull(flavor);
+      initializedBitset |= INITIALIZED_BIT_FLAVOR;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractPythonPlatform#getEnvironment() environment}.
+     * @param environment value for environment
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEnvironment(PythonEnvironment environment) {
+      this.environment = Preconditions.checkNotNull(environment);
+      initializedBitset |= INITIALIZED_BIT_ENVIRONMENT;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractPythonPlatform#getCxxLibrary() cxxLibrary}.
+     * @param cxxLibrary value for cxxLibrary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxLibrary(BuildTarget cxxLibrary) {
+      this.cxxLibrary = Optional.of(cxxLibrary);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractPythonPlatform#getCxxLibrary() cxxLibrary}.
+     * @param cxxLibrary value for cxxLibrary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxLibrary(Optional<BuildTarget> cxxLibrary) {
+      this.cxxLibrary = Preconditions.checkNotNull(cxxLibrary);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.python.PythonPlatform PythonPlatform}.
+     * @return immutable instance of PythonPlatform
+     */
+    public PythonPlatform build() {
+      checkRequiredAttributes();
+      return new PythonPlatform(null, flavor, environment, cxxLibrary);
+    }
+
+    private boolean flavorIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_FLAVOR) != 0;
+    }
+
+    private boolean environmentIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ENVIRONMENT) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!flavorIsSet()) {
+        attributes.add("flavor");
+      }
+      if (!environmentIsSet()) {
+        attributes.add("environment");
+      }
+      return "Cannot build PythonPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
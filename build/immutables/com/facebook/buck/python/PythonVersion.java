@@ -0,0 +1,183 @@
+package com.facebook.buck.python;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractPythonVersion}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code PythonVersion.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code PythonVersion.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPythonVersion"})
+@Immutable
+public final class PythonVersion extends AbstractPythonVersion {
+  private final String versionString;
+
+  private PythonVersion(String versionString) {
+    this.versionString = Preconditions.checkNotNull(versionString);
+  }
+
+  private PythonVersion(PythonVersion original, String versionString) {
+    this.versionString = versionString;
+  }
+
+  /**
+   * @return value of {@code versionString} attribute
+   */
+  @Override
+  public String getVersionString() {
+    return versionString;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractPythonVersion#getVersionString() versionString}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for versionString
+   * @return modified copy of the {@code this} object
+   */
+  public final PythonVersion withVersionString(String value) {
+    if (this.versionString == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new PythonVersion(this, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code PythonVersion} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof PythonVersion && equalTo((PythonVersion) another));
+  }
+
+  private boolean equalTo(PythonVersion another) {
+    return versionString.equals(another.versionString);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code versionString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + versionString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code PythonVersion} instance.
+   * @param versionString value for {@code versionString}
+   * @return immutable PythonVersion instance
+   */
+  public static com.facebook.buck.python.PythonVersion of(String versionString) {
+    return new PythonVersion(versionString);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractPythonVersion}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable PythonVersion instance
+   */
+  public static PythonVersion copyOf(AbstractPythonVersion instance) {
+    if (instance instanceof PythonVersion) {
+      return (PythonVersion) instance;
+    }
+    return PythonVersion.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.python.PythonVersion PythonVersion}.
+   * @return new PythonVersion builder
+   */
+  public static PythonVersion.Builder builder() {
+    return new PythonVersion.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.python.PythonVersion PythonVersion}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_VERSION_STRING = 0x1L;
+    private long initializedBitset;
+    private @Nullable String versionString;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractPythonVersion} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractPythonVersion instance) {
+      Preconditions.checkNotNull(instance);
+      setVersionString(instance.getVersionString());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractPythonVersion#getVersionString() versionString}.
+     * @param versionString value for versionString
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersionString(String versionString) {
+      this.versionString = Preconditions.checkNotNull(versionString);
+      initializedBitset |= INITIALIZED_BIT_VERSION_STRING;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.python.PythonVersion PythonVersion}.
+     * @return immutable instance of PythonVersion
+     */
+    public PythonVersion build() {
+      checkRequiredAttributes();
+      return new PythonVersion(null, versionString);
+    }
+
+    private boolean versionStringIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_VERSION_STRING) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!versionStringIsSet()) {
+        attributes.add("versionString");
+      }
+      return "Cannot build PythonVersion, some of required attributes are not set " + attributes;
+    }
+  }
+}
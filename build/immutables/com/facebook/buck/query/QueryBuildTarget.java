@@ -0,0 +1,184 @@
+package com.facebook.buck.query;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractQueryBuildTarget}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code QueryBuildTarget.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code QueryBuildTarget.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractQueryBuildTarget"})
+@Immutable
+public final class QueryBuildTarget extends AbstractQueryBuildTarget {
+  private final BuildTarget buildTarget;
+
+  private QueryBuildTarget(BuildTarget buildTarget) {
+    this.buildTarget = Preconditions.checkNotNull(buildTarget);
+  }
+
+  private QueryBuildTarget(QueryBuildTarget original, BuildTarget buildTarget) {
+    this.buildTarget = buildTarget;
+  }
+
+  /**
+   * @return value of {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractQueryBuildTarget#getBuildTarget() buildTarget}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildTarget
+   * @return modified copy of the {@code this} object
+   */
+  public final QueryBuildTarget withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) {
+      return this;
+    }
+    BuildTarget newValue = Preconditions.checkNotNull(value);
+    return new QueryBuildTarget(this, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code QueryBuildTarget} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof QueryBuildTarget && equalTo((QueryBuildTarget) another));
+  }
+
+  private boolean equalTo(QueryBuildTarget another) {
+    return buildTarget.equals(another.buildTarget);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code buildTarget}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + buildTarget.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code QueryBuildTarget} instance.
+   * @param buildTarget value for {@code buildTarget}
+   * @return immutable QueryBuildTarget instance
+   */
+  public static com.facebook.buck.query.QueryBuildTarget of(BuildTarget buildTarget) {
+    return new QueryBuildTarget(buildTarget);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractQueryBuildTarget}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable QueryBuildTarget instance
+   */
+  public static QueryBuildTarget copyOf(AbstractQueryBuildTarget instance) {
+    if (instance instanceof QueryBuildTarget) {
+      return (QueryBuildTarget) instance;
+    }
+    return QueryBuildTarget.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.query.QueryBuildTarget QueryBuildTarget}.
+   * @return new QueryBuildTarget builder
+   */
+  public static QueryBuildTarget.Builder builder() {
+    return new QueryBuildTarget.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.query.QueryBuildTarget QueryBuildTarget}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_BUILD_TARGET = 0x1L;
+    private long initializedBitset;
+    private @Nullable BuildTarget buildTarget;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractQueryBuildTarget} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractQueryBuildTarget instance) {
+      Preconditions.checkNotNull(instance);
+      setBuildTarget(instance.getBuildTarget());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractQueryBuildTarget#getBuildTarget() buildTarget}.
+     * @param buildTarget value for buildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Preconditions.checkNotNull(buildTarget);
+      initializedBitset |= INITIALIZED_BIT_BUILD_TARGET;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.query.QueryBuildTarget QueryBuildTarget}.
+     * @return immutable instance of QueryBuildTarget
+     */
+    public QueryBuildTarget build() {
+      checkRequiredAttributes();
+      return new QueryBuildTarget(null, buildTarget);
+    }
+
+    private boolean buildTargetIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUILD_TARGET) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!buildTargetIsSet()) {
+        attributes.add("buildTarget");
+      }
+      return "Cannot build QueryBuildTarget, some of required attributes are not set " + attributes;
+    }
+  }
+}
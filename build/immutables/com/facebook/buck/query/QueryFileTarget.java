@@ -0,0 +1,184 @@
+package com.facebook.buck.query;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractQueryFileTarget}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code QueryFileTarget.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code QueryFileTarget.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractQueryFileTarget"})
+@Immutable
+public final class QueryFileTarget extends AbstractQueryFileTarget {
+  private final Path path;
+
+  private QueryFileTarget(Path path) {
+    this.path = Preconditions.checkNotNull(path);
+  }
+
+  private QueryFileTarget(QueryFileTarget original, Path path) {
+    this.path = path;
+  }
+
+  /**
+   * @return value of {@code path} attribute
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractQueryFileTarget#getPath() path}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for path
+   * @return modified copy of the {@code this} object
+   */
+  public final QueryFileTarget withPath(Path value) {
+    if (this.path == value) {
+      return this;
+    }
+    Path newValue = Preconditions.checkNotNull(value);
+    return new QueryFileTarget(this, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code QueryFileTarget} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof QueryFileTarget && equalTo((QueryFileTarget) another));
+  }
+
+  private boolean equalTo(QueryFileTarget another) {
+    return path.equals(another.path);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code QueryFileTarget} instance.
+   * @param path value for {@code path}
+   * @return immutable QueryFileTarget instance
+   */
+  public static com.facebook.buck.query.QueryFileTarget of(Path path) {
+    return new QueryFileTarget(path);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractQueryFileTarget}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable QueryFileTarget instance
+   */
+  public static QueryFileTarget copyOf(AbstractQueryFileTarget instance) {
+    if (instance instanceof QueryFileTarget) {
+      return (QueryFileTarget) instance;
+    }
+    return QueryFileTarget.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.query.QueryFileTarget QueryFileTarget}.
+   * @return new QueryFileTarget builder
+   */
+  public static QueryFileTarget.Builder builder() {
+    return new QueryFileTarget.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.query.QueryFileTarget QueryFileTarget}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_PATH = 0x1L;
+    private long initializedBitset;
+    private @Nullable Path path;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractQueryFileTarget} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractQueryFileTarget instance) {
+      Preconditions.checkNotNull(instance);
+      setPath(instance.getPath());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractQueryFileTarget#getPath() path}.
+     * @param path value for path
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPath(Path path) {
+      this.path = Preconditions.checkNotNull(path);
+      initializedBitset |= INITIALIZED_BIT_PATH;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.query.QueryFileTarget QueryFileTarget}.
+     * @return immutable instance of QueryFileTarget
+     */
+    public QueryFileTarget build() {
+      checkRequiredAttributes();
+      return new QueryFileTarget(null, path);
+    }
+
+    private boolean pathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!pathIsSet()) {
+        attributes.add("path");
+      }
+      return "Cannot build QueryFileTarget, some of required attributes are not set " + attributes;
+    }
+  }
+}
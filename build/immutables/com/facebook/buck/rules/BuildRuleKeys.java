@@ -0,0 +1,262 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildRuleKeys}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code BuildRuleKeys.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code BuildRuleKeys.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildRuleKeys"})
+@Immutable
+public final class BuildRuleKeys implements AbstractBuildRuleKeys {
+  private final RuleKey ruleKey;
+  private final Optional<RuleKey> inputRuleKey;
+
+  private BuildRuleKeys(RuleKey ruleKey) {
+    this.ruleKey = Preconditions.checkNotNull(ruleKey);
+    this.inputRuleKey = Optional.absent();
+  }
+
+  private BuildRuleKeys(
+      RuleKey ruleKey,
+      Optional<RuleKey> inputRuleKey) {
+    this.ruleKey = ruleKey;
+    this.inputRuleKey = inputRuleKey;
+  }
+
+  /**
+   * @return value of {@code ruleKey} attribute
+   */
+  @Override
+  public RuleKey getRuleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return value of {@code inputRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getInputRuleKey() {
+    return inputRuleKey;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildRuleKeys#getRuleKey() ruleKey}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for ruleKey
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildRuleKeys withRuleKey(RuleKey value) {
+    if (this.ruleKey == value) {
+      return this;
+    }
+    RuleKey newValue = Preconditions.checkNotNull(value);
+    return new BuildRuleKeys(newValue, this.inputRuleKey);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractBuildRuleKeys#getInputRuleKey() inputRuleKey}.
+   * @param value value for inputRuleKey
+   * @return modified copy of {@code this} object
+   */
+  public final BuildRuleKeys withInputRuleKey(RuleKey value) {
+    Optional<RuleKey> newValue = Optional.of(value);
+    return new BuildRuleKeys(this.ruleKey, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractBuildRuleKeys#getInputRuleKey() inputRuleKey}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for inputRuleKey
+   * @return modified copy of {@code this} object
+   */
+  public final BuildRuleKeys withInputRuleKey(Optional<RuleKey> optional) {
+    if (this.inputRuleKey == optional) {
+      return this;
+    }
+    Optional<RuleKey> newValue = Preconditions.checkNotNull(optional);
+    return new BuildRuleKeys(this.ruleKey, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code BuildRuleKeys} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof BuildRuleKeys && equalTo((BuildRuleKeys) another));
+  }
+
+  private boolean equalTo(BuildRuleKeys another) {
+    return ruleKey.equals(another.ruleKey)
+        && inputRuleKey.equals(another.inputRuleKey);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code ruleKey}, {@code inputRuleKey}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + ruleKey.hashCode();
+    h = h * 17 + inputRuleKey.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code BuildRuleKeys{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildRuleKeys")
+        .add("ruleKey", ruleKey)
+        .add("inputRuleKey", inputRuleKey)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code BuildRuleKeys} instance.
+   * @param ruleKey value for {@code ruleKey}
+   * @return immutable BuildRuleKeys instance
+   */
+  public static com.facebook.buck.rules.BuildRuleKeys of(RuleKey ruleKey) {
+    return new BuildRuleKeys(ruleKey);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractBuildRuleKeys}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable BuildRuleKeys instance
+   */
+  public static BuildRuleKeys copyOf(AbstractBuildRuleKeys instance) {
+    if (instance instanceof BuildRuleKeys) {
+      return (BuildRuleKeys) instance;
+    }
+    return BuildRuleKeys.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.BuildRuleKeys BuildRuleKeys}.
+   * @return new BuildRuleKeys builder
+   */
+  public static BuildRuleKeys.Builder builder() {
+    return new BuildRuleKeys.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.BuildRuleKeys BuildRuleKeys}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_RULE_KEY = 0x1L;
+    private long initializedBitset;
+    private @Nullable RuleKey ruleKey;
+    private Optional<RuleKey> inputRuleKey = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractBuildRuleKeys} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractBuildRuleKeys instance) {
+      Preconditions.checkNotNull(instance);
+      setRuleKey(instance.getRuleKey());
+      Optional<RuleKey> inputRuleKeyOptional = instance.getInputRuleKey();
+      if (inputRuleKeyOptional.isPresent()) {
+        setInputRuleKey(inputRuleKeyOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildRuleKeys#getRuleKey() ruleKey}.
+     * @param ruleKey value for ruleKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleKey(RuleKey ruleKey) {
+      this.ruleKey = Preconditions.checkNotNull(ruleKey);
+      initializedBitset |= INITIALIZED_BIT_RULE_KEY;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractBuildRuleKeys#getInputRuleKey() inputRuleKey}.
+     * @param inputRuleKey value for inputRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInputRuleKey(RuleKey inputRuleKey) {
+      this.inputRuleKey = Optional.of(inputRuleKey);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractBuildRuleKeys#getInputRuleKey() inputRuleKey}.
+     * @param inputRuleKey value for inputRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInputRuleKey(Optional<RuleKey> inputRuleKey) {
+      this.inputRuleKey = Preconditions.checkNotNull(inputRuleKey);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.BuildRuleKeys BuildRuleKeys}.
+     * @return immutable instance of BuildRuleKeys
+     */
+    public BuildRuleKeys build() {
+      checkRequiredAttributes();
+      return new BuildRuleKeys(ruleKey, inputRuleKey);
+    }
+
+    private boolean ruleKeyIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_RULE_KEY) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!ruleKeyIsSet()) {
+        attributes.add("ruleKey");
+      }
+      return "Cannot build BuildRuleKeys, some of required attributes are not set " + attributes;
+    }
+  }
+}
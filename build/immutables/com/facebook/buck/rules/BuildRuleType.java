@@ -0,0 +1,202 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildRuleType}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code BuildRuleType.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code BuildRuleType.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildRuleType"})
+@Immutable
+public final class BuildRuleType extends AbstractBuildRuleType {
+  private final String name;
+  private final boolean testRule;
+
+  private BuildRuleType(String name) {
+    this.name = Preconditions.checkNotNull(name);
+    this.testRule = super.isTestRule();
+  }
+
+  private BuildRuleType(BuildRuleType original, String name) {
+    this.name = name;
+    this.testRule = super.isTestRule();
+  }
+
+  /**
+   * @return the name as displayed in a build file, such as "java_library"
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return computed at construction value of {@code testRule} attribute
+   */
+  @Override
+  public boolean isTestRule() {
+    return testRule;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildRuleType#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildRuleType withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return validate(new BuildRuleType(this, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code BuildRuleType} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof BuildRuleType && equalTo((BuildRuleType) another));
+  }
+
+  private boolean equalTo(BuildRuleType another) {
+    return name.equals(another.name)
+        && testRule == another.testRule;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code testRule}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + Booleans.hashCode(testRule);
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code BuildRuleType} instance.
+   * @param name value for {@code name}
+   * @return immutable BuildRuleType instance
+   */
+  public static com.facebook.buck.rules.BuildRuleType of(String name) {
+    return validate(new BuildRuleType(name));
+  }
+
+  private static BuildRuleType validate(BuildRuleType instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractBuildRuleType}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable BuildRuleType instance
+   */
+  public static BuildRuleType copyOf(AbstractBuildRuleType instance) {
+    if (instance instanceof BuildRuleType) {
+      return (BuildRuleType) instance;
+    }
+    return BuildRuleType.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.BuildRuleType BuildRuleType}.
+   * @return new BuildRuleType builder
+   */
+  public static BuildRuleType.Builder builder() {
+    return new BuildRuleType.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.BuildRuleType BuildRuleType}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_NAME = 0x1L;
+    private long initializedBitset;
+    private @Nullable String name;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractBuildRuleType} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractBuildRuleType instance) {
+      Preconditions.checkNotNull(instance);
+      setName(instance.getName());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildRuleType#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.BuildRuleType BuildRuleType}.
+     * @return immutable instance of BuildRuleType
+     */
+    public BuildRuleType build() {
+      checkRequiredAttributes();
+      return BuildRuleType.validate(new BuildRuleType(null, name));
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      return "Cannot build BuildRuleType, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,786 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.artifact_cache.ArtifactCodec;
+import com.facebook.buck.rules.keys.DaemonicRuleKeyCache;
+import com.facebook.buck.util.hash.HashFunctionType;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCachingBuildEngineOptions}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code CachingBuildEngineOptions.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCachingBuildEngineOptions"})
+@Immutable
+public final class CachingBuildEngineOptions extends AbstractCachingBuildEngineOptions {
+  private final CachingBuildEngine.BuildMode buildMode;
+  private final CachingBuildEngine.DependencySchedulingOrder dependencySchedulingOrder;
+  private final CachingBuildEngine.DepFiles depFiles;
+  private final long maxDepFileCacheEntries;
+  private final ArtifactCodec artifactCodec;
+  private final int artifactCompressionLevel;
+  private final HashFunctionType hashFunctionType;
+  private final RuleDurations ruleDurations;
+  private final BuildResources buildResources;
+  private final Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache;
+  private final boolean batchCacheFetches;
+
+  private CachingBuildEngineOptions(CachingBuildEngineOptions.Builder builder) {
+    this.daemonicRuleKeyCache = builder.daemonicRuleKeyCache;
+    this.buildMode = builder.buildMode != null
+        ? builder.buildMode
+        : Preconditions.checkNotNull(super.getBuildMode());
+    this.dependencySchedulingOrder = builder.dependencySchedulingOrder != null
+        ? builder.dependencySchedulingOrder
+        : Preconditions.checkNotNull(super.getDependencySchedulingOrder());
+    this.depFiles = builder.depFiles != null
+        ? builder.depFiles
+        : Preconditions.checkNotNull(super.getDepFiles());
+    this.maxDepFileCacheEntries = builder.maxDepFileCacheEntriesIsSet()
+        ? builder.maxDepFileCacheEntries
+        : super.getMaxDepFileCacheEntries();
+    this.artifactCodec = builder.artifactCodec != null
+        ? builder.artifactCodec
+        : Preconditions.checkNotNull(super.getArtifactCodec());
+    this.artifactCompressionLevel = builder.artifactCompressionLevelIsSet()
+        ? builder.artifactCompressionLevel
+        : super.getArtifactCompressionLevel();
+    this.hashFunctionType = builder.hashFunctionType != null
+        ? builder.hashFunctionType
+        : Preconditions.checkNotNull(super.getHashFunctionType());
+    this.ruleDurations = builder.ruleDurations != null
+        ? builder.ruleDurations
+        : Preconditions.checkNotNull(super.getRuleDurations());
+    this.buildResources = builder.buildResources != null
+        ? builder.buildResources
+        : Preconditions.checkNotNull(super.getBuildResources());
+    this.batchCacheFetches = builder.batchCacheFetchesIsSet()
+        ? builder.batchCacheFetches
+        : super.isBatchCacheFetches();
+  }
+
+  private CachingBuildEngineOptions(
+      CachingBuildEngine.BuildMode buildMode,
+      CachingBuildEngine.DependencySchedulingOrder dependencySchedulingOrder,
+      CachingBuildEngine.DepFiles depFiles,
+      long maxDepFileCacheEntries,
+      ArtifactCodec artifactCodec,
+      int artifactCompressionLevel,
+      HashFunctionType hashFunctionType,
+      RuleDurations ruleDurations,
+      BuildResources buildResources,
+      Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache,
+      boolean batchCacheFetches) {
+    this.buildMode = buildMode;
+    this.dependencySchedulingOrder = dependencySchedulingOrder;
+    this.depFiles = depFiles;
+    this.maxDepFileCacheEntries = maxDepFileCacheEntries;
+    this.artifactCodec = artifactCodec;
+    this.artifactCompressionLevel = artifactCompressionLevel;
+    this.hashFunctionType = hashFunctionType;
+    this.ruleDurations = ruleDurations;
+    this.buildResources = buildResources;
+    this.daemonicRuleKeyCache = daemonicRuleKeyCache;
+    this.batchCacheFetches = batchCacheFetches;
+  }
+
+  /**
+   * @return value of {@code buildMode} attribute
+   */
+  @Override
+  public CachingBuildEngine.BuildMode getBuildMode() {
+    return buildMode;
+  }
+
+  /**
+   * @return value of {@code dependencySchedulingOrder} attribute
+   */
+  @Override
+  public CachingBuildEngine.DependencySchedulingOrder getDependencySchedulingOrder() {
+    return dependencySchedulingOrder;
+  }
+
+  /**
+   * @return value of {@code depFiles} attribute
+   */
+  @Override
+  public CachingBuildEngine.DepFiles getDepFiles() {
+    return depFiles;
+  }
+
+  /**
+   * @return value of {@code maxDepFileCacheEntries} attribute
+   */
+  @Override
+  public long getMaxDepFileCacheEntries() {
+    return maxDepFileCacheEntries;
+  }
+
+  /**
+   * @return how the artifacts uploaded to the cache are compressed.
+   */
+  @Override
+  public ArtifactCodec getArtifactCodec() {
+    return artifactCodec;
+  }
+
+  /**
+   * @return the level to compress artifacts at, if the codec has levels.
+   */
+  @Override
+  public int getArtifactCompressionLevel() {
+    return artifactCompressionLevel;
+  }
+
+  /**
+   * @return what rule keys are hashed with, which should be what the engine's file hash cache
+   *     hashes files with.
+   */
+  @Override
+  public HashFunctionType getHashFunctionType() {
+    return hashFunctionType;
+  }
+
+  /**
+   * @return how long rules took to build locally before, which
+   *     {@link CachingBuildEngine.DependencySchedulingOrder#CRITICAL_PATH} schedules by.  The
+   *     durations of the rules the engine builds locally are recorded into it.
+   */
+  @Override
+  public RuleDurations getRuleDurations() {
+    return ruleDurations;
+  }
+
+  /**
+   * @return the budget which the steps run at once are packed into.
+   */
+  @Override
+  public BuildResources getBuildResources() {
+    return buildResources;
+  }
+
+  /**
+   * @return the default rule keys kept from earlier builds of the rules being built, which only
+   *     those whose inputs changed since are recomputed from.
+   */
+  @Override
+  public Optional<DaemonicRuleKeyCache> getDaemonicRuleKeyCache() {
+    return daemonicRuleKeyCache;
+  }
+
+  /**
+   * @return whether cache lookups made while others are in flight should be gathered into
+   *     multi-key fetches.
+   */
+  @Override
+  public boolean isBatchCacheFetches() {
+    return batchCacheFetches;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#getBuildMode() buildMode}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildMode
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withBuildMode(CachingBuildEngine.BuildMode value) {
+    if (this.buildMode == value) {
+      return this;
+    }
+    CachingBuildEngine.BuildMode newValue = Preconditions.checkNotNull(value);
+    return new CachingBuildEngineOptions(
+            newValue,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            this.ruleDurations,
+            this.buildResources,
+            this.daemonicRuleKeyCache,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#getDependencySchedulingOrder() dependencySchedulingOrder}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for dependencySchedulingOrder
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withDependencySchedulingOrder(CachingBuildEngine.DependencySchedulingOrder value) {
+    if (this.dependencySchedulingOrder == value) {
+      return this;
+    }
+    CachingBuildEngine.DependencySchedulingOrder newValue = Preconditions.checkNotNull(value);
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            newValue,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            this.ruleDurations,
+            this.buildResources,
+            this.daemonicRuleKeyCache,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#getDepFiles() depFiles}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for depFiles
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withDepFiles(CachingBuildEngine.DepFiles value) {
+    if (this.depFiles == value) {
+      return this;
+    }
+    CachingBuildEngine.DepFiles newValue = Preconditions.checkNotNull(value);
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            newValue,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            this.ruleDurations,
+            this.buildResources,
+            this.daemonicRuleKeyCache,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#getMaxDepFileCacheEntries() maxDepFileCacheEntries}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for maxDepFileCacheEntries
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withMaxDepFileCacheEntries(long value) {
+    if (this.maxDepFileCacheEntries == value) {
+      return this;
+    }
+    long newValue = value;
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            newValue,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            this.ruleDurations,
+            this.buildResources,
+            this.daemonicRuleKeyCache,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#getArtifactCodec() artifactCodec}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for artifactCodec
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withArtifactCodec(ArtifactCodec value) {
+    if (this.artifactCodec == value) {
+      return this;
+    }
+    ArtifactCodec newValue = Preconditions.checkNotNull(value);
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            newValue,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            this.ruleDurations,
+            this.buildResources,
+            this.daemonicRuleKeyCache,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#getArtifactCompressionLevel() artifactCompressionLevel}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for artifactCompressionLevel
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withArtifactCompressionLevel(int value) {
+    if (this.artifactCompressionLevel == value) {
+      return this;
+    }
+    int newValue = value;
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            newValue,
+            this.hashFunctionType,
+            this.ruleDurations,
+            this.buildResources,
+            this.daemonicRuleKeyCache,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#getHashFunctionType() hashFunctionType}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for hashFunctionType
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withHashFunctionType(HashFunctionType value) {
+    if (this.hashFunctionType == value) {
+      return this;
+    }
+    HashFunctionType newValue = Preconditions.checkNotNull(value);
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            newValue,
+            this.ruleDurations,
+            this.buildResources,
+            this.daemonicRuleKeyCache,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#getRuleDurations() ruleDurations}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for ruleDurations
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withRuleDurations(RuleDurations value) {
+    if (this.ruleDurations == value) {
+      return this;
+    }
+    RuleDurations newValue = Preconditions.checkNotNull(value);
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            newValue,
+            this.buildResources,
+            this.daemonicRuleKeyCache,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#getBuildResources() buildResources}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildResources
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withBuildResources(BuildResources value) {
+    if (this.buildResources == value) {
+      return this;
+    }
+    BuildResources newValue = Preconditions.checkNotNull(value);
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            this.ruleDurations,
+            newValue,
+            this.daemonicRuleKeyCache,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractCachingBuildEngineOptions#getDaemonicRuleKeyCache() daemonicRuleKeyCache}.
+   * @param value value for daemonicRuleKeyCache
+   * @return modified copy of {@code this} object
+   */
+  public final CachingBuildEngineOptions withDaemonicRuleKeyCache(DaemonicRuleKeyCache value) {
+    Optional<DaemonicRuleKeyCache> newValue = Optional.of(value);
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            this.ruleDurations,
+            this.buildResources,
+            newValue,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractCachingBuildEngineOptions#getDaemonicRuleKeyCache() daemonicRuleKeyCache}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for daemonicRuleKeyCache
+   * @return modified copy of {@code this} object
+   */
+  public final CachingBuildEngineOptions withDaemonicRuleKeyCache(Optional<DaemonicRuleKeyCache> optional) {
+    if (this.daemonicRuleKeyCache == optional) {
+      return this;
+    }
+    Optional<DaemonicRuleKeyCache> newValue = Preconditions.checkNotNull(optional);
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            this.ruleDurations,
+            this.buildResources,
+            newValue,
+            this.batchCacheFetches);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractCachingBuildEngineOptions#isBatchCacheFetches() batchCacheFetches}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for batchCacheFetches
+   * @return modified copy of the {@code this} object
+   */
+  public final CachingBuildEngineOptions withBatchCacheFetches(boolean value) {
+    if (this.batchCacheFetches == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new CachingBuildEngineOptions(
+            this.buildMode,
+            this.dependencySchedulingOrder,
+            this.depFiles,
+            this.maxDepFileCacheEntries,
+            this.artifactCodec,
+            this.artifactCompressionLevel,
+            this.hashFunctionType,
+            this.ruleDurations,
+            this.buildResources,
+            this.daemonicRuleKeyCache,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code CachingBuildEngineOptions} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof CachingBuildEngineOptions && equalTo((CachingBuildEngineOptions) another));
+  }
+
+  private boolean equalTo(CachingBuildEngineOptions another) {
+    return buildMode.equals(another.buildMode)
+        && dependencySchedulingOrder.equals(another.dependencySchedulingOrder)
+        && depFiles.equals(another.depFiles)
+        && maxDepFileCacheEntries == another.maxDepFileCacheEntries
+        && artifactCodec.equals(another.artifactCodec)
+        && artifactCompressionLevel == another.artifactCompressionLevel
+        && hashFunctionType.equals(another.hashFunctionType)
+        && ruleDurations.equals(another.ruleDurations)
+        && buildResources.equals(another.buildResources)
+        && daemonicRuleKeyCache.equals(another.daemonicRuleKeyCache)
+        && batchCacheFetches == another.batchCacheFetches;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code buildMode}, {@code dependencySchedulingOrder}, {@code depFiles}, {@code maxDepFileCacheEntries}, {@code artifactCodec}, {@code artifactCompressionLevel}, {@code hashFunctionType}, {@code ruleDurations}, {@code buildResources}, {@code daemonicRuleKeyCache}, {@code batchCacheFetches}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + buildMode.hashCode();
+    h = h * 17 + dependencySchedulingOrder.hashCode();
+    h = h * 17 + depFiles.hashCode();
+    h = h * 17 + Longs.hashCode(maxDepFileCacheEntries);
+    h = h * 17 + artifactCodec.hashCode();
+    h = h * 17 + artifactCompressionLevel;
+    h = h * 17 + hashFunctionType.hashCode();
+    h = h * 17 + ruleDurations.hashCode();
+    h = h * 17 + buildResources.hashCode();
+    h = h * 17 + daemonicRuleKeyCache.hashCode();
+    h = h * 17 + Booleans.hashCode(batchCacheFetches);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code CachingBuildEngineOptions{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CachingBuildEngineOptions")
+        .add("buildMode", buildMode)
+        .add("dependencySchedulingOrder", dependencySchedulingOrder)
+        .add("depFiles", depFiles)
+        .add("maxDepFileCacheEntries", maxDepFileCacheEntries)
+        .add("artifactCodec", artifactCodec)
+        .add("artifactCompressionLevel", artifactCompressionLevel)
+        .add("hashFunctionType", hashFunctionType)
+        .add("ruleDurations", ruleDurations)
+        .add("buildResources", buildResources)
+        .add("daemonicRuleKeyCache", daemonicRuleKeyCache)
+        .add("batchCacheFetches", batchCacheFetches)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractCachingBuildEngineOptions}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable CachingBuildEngineOptions instance
+   */
+  public static CachingBuildEngineOptions copyOf(AbstractCachingBuildEngineOptions instance) {
+    if (instance instanceof CachingBuildEngineOptions) {
+      return (CachingBuildEngineOptions) instance;
+    }
+    return CachingBuildEngineOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.CachingBuildEngineOptions CachingBuildEngineOptions}.
+   * @return new CachingBuildEngineOptions builder
+   */
+  public static CachingBuildEngineOptions.Builder builder() {
+    return new CachingBuildEngineOptions.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.CachingBuildEngineOptions CachingBuildEngineOptions}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long NONDEFAULT_BIT_MAX_DEP_FILE_CACHE_ENTRIES = 0x1L;
+    private static final long NONDEFAULT_BIT_ARTIFACT_COMPRESSION_LEVEL = 0x2L;
+    private static final long NONDEFAULT_BIT_BATCH_CACHE_FETCHES = 0x4L;
+    private long nondefaultBitset;
+    private @Nullable CachingBuildEngine.BuildMode buildMode;
+    private @Nullable CachingBuildEngine.DependencySchedulingOrder dependencySchedulingOrder;
+    private @Nullable CachingBuildEngine.DepFiles depFiles;
+    private long maxDepFileCacheEntries;
+    private @Nullable ArtifactCodec artifactCodec;
+    private int artifactCompressionLevel;
+    private @Nullable HashFunctionType hashFunctionType;
+    private @Nullable RuleDurations ruleDurations;
+    private @Nullable BuildResources buildResources;
+    private Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache = Optional.absent();
+    private boolean batchCacheFetches;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractCachingBuildEngineOptions} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractCachingBuildEngineOptions instance) {
+      Preconditions.checkNotNull(instance);
+      setBuildMode(instance.getBuildMode());
+      setDependencySchedulingOrder(instance.getDependencySchedulingOrder());
+      setDepFiles(instance.getDepFiles());
+      setMaxDepFileCacheEntries(instance.getMaxDepFileCacheEntries());
+      setArtifactCodec(instance.getArtifactCodec());
+      setArtifactCompressionLevel(instance.getArtifactCompressionLevel());
+      setHashFunctionType(instance.getHashFunctionType());
+      setRuleDurations(instance.getRuleDurations());
+      setBuildResources(instance.getBuildResources());
+      Optional<DaemonicRuleKeyCache> daemonicRuleKeyCacheOptional = instance.getDaemonicRuleKeyCache();
+      if (daemonicRuleKeyCacheOptional.isPresent()) {
+        setDaemonicRuleKeyCache(daemonicRuleKeyCacheOptional);
+      }
+      setBatchCacheFetches(instance.isBatchCacheFetches());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#getBuildMode() buildMode}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#getBuildMode() buildMode}.</em>
+     * @param buildMode value for buildMode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildMode(CachingBuildEngine.BuildMode buildMode) {
+      this.buildMode = Preconditions.checkNotNull(buildMode);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#getDependencySchedulingOrder() dependencySchedulingOrder}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#getDependencySchedulingOrder() dependencySchedulingOrder}.</em>
+     * @param dependencySchedulingOrder value for dependencySchedulingOrder
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDependencySchedulingOrder(CachingBuildEngine.DependencySchedulingOrder dependencySchedulingOrder) {
+      this.dependencySchedulingOrder = Preconditions.checkNotNull(dependencySchedulingOrder);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#getDepFiles() depFiles}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#getDepFiles() depFiles}.</em>
+     * @param depFiles value for depFiles
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDepFiles(CachingBuildEngine.DepFiles depFiles) {
+      this.depFiles = Preconditions.checkNotNull(depFiles);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#getMaxDepFileCacheEntries() maxDepFileCacheEntries}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#getMaxDepFileCacheEntries() maxDepFileCacheEntries}.</em>
+     * @param maxDepFileCacheEntries value for maxDepFileCacheEntries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxDepFileCacheEntries(long maxDepFileCacheEntries) {
+      this.maxDepFileCacheEntries = maxDepFileCacheEntries;
+      nondefaultBitset |= NONDEFAULT_BIT_MAX_DEP_FILE_CACHE_ENTRIES;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#getArtifactCodec() artifactCodec}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#getArtifactCodec() artifactCodec}.</em>
+     * @param artifactCodec value for artifactCodec
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArtifactCodec(ArtifactCodec artifactCodec) {
+      this.artifactCodec = Preconditions.checkNotNull(artifactCodec);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#getArtifactCompressionLevel() artifactCompressionLevel}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#getArtifactCompressionLevel() artifactCompressionLevel}.</em>
+     * @param artifactCompressionLevel value for artifactCompressionLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArtifactCompressionLevel(int artifactCompressionLevel) {
+      this.artifactCompressionLevel = artifactCompressionLevel;
+      nondefaultBitset |= NONDEFAULT_BIT_ARTIFACT_COMPRESSION_LEVEL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#getHashFunctionType() hashFunctionType}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#getHashFunctionType() hashFunctionType}.</em>
+     * @param hashFunctionType value for hashFunctionType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHashFunctionType(HashFunctionType hashFunctionType) {
+      this.hashFunctionType = Preconditions.checkNotNull(hashFunctionType);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#getRuleDurations() ruleDurations}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#getRuleDurations() ruleDurations}.</em>
+     * @param ruleDurations value for ruleDurations
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleDurations(RuleDurations ruleDurations) {
+      this.ruleDurations = Preconditions.checkNotNull(ruleDurations);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#getBuildResources() buildResources}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#getBuildResources() buildResources}.</em>
+     * @param buildResources value for buildResources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildResources(BuildResources buildResources) {
+      this.buildResources = Preconditions.checkNotNull(buildResources);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractCachingBuildEngineOptions#getDaemonicRuleKeyCache() daemonicRuleKeyCache}.
+     * @param daemonicRuleKeyCache value for daemonicRuleKeyCache
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDaemonicRuleKeyCache(DaemonicRuleKeyCache daemonicRuleKeyCache) {
+      this.daemonicRuleKeyCache = Optional.of(daemonicRuleKeyCache);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractCachingBuildEngineOptions#getDaemonicRuleKeyCache() daemonicRuleKeyCache}.
+     * @param daemonicRuleKeyCache value for daemonicRuleKeyCache
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDaemonicRuleKeyCache(Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache) {
+      this.daemonicRuleKeyCache = Preconditions.checkNotNull(daemonicRuleKeyCache);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractCachingBuildEngineOptions#isBatchCacheFetches() batchCacheFetches}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractCachingBuildEngineOptions#isBatchCacheFetches() batchCacheFetches}.</em>
+     * @param batchCacheFetches value for batchCacheFetches
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBatchCacheFetches(boolean batchCacheFetches) {
+      this.batchCacheFetches = batchCacheFetches;
+      nondefaultBitset |= NONDEFAULT_BIT_BATCH_CACHE_FETCHES;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.CachingBuildEngineOptions CachingBuildEngineOptions}.
+     * @return immutable instance of CachingBuildEngineOptions
+     */
+    public CachingBuildEngineOptions build() {
+      return new CachingBuildEngineOptions(this);
+    }
+
+    private boolean maxDepFileCacheEntriesIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_MAX_DEP_FILE_CACHE_ENTRIES) != 0;
+    }
+
+    private boolean artifactCompressionLevelIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_ARTIFACT_COMPRESSION_LEVEL) != 0;
+    }
+
+    private boolean batchCacheFetchesIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_BATCH_CACHE_FETCHES) != 0;
+    }
+  }
+}
@@ -0,0 +1,717 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractExopackageInfo}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ExopackageInfo.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExopackageInfo"})
+@Immutable
+public final class ExopackageInfo extends AbstractExopackageInfo {
+  private final Optional<com.facebook.buck.rules.ExopackageInfo.DexInfo> dexInfo;
+  private final Optional<com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo> nativeLibsInfo;
+
+  private ExopackageInfo(
+      Optional<com.facebook.buck.rules.ExopackageInfo.DexInfo> dexInfo,
+      Optional<com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo> nativeLibsInfo) {
+    this.dexInfo = dexInfo;
+    this.nativeLibsInfo = nativeLibsInfo;
+  }
+
+  /**
+   * @return value of {@code dexInfo} attribute
+   */
+  @Override
+  public Optional<com.facebook.buck.rules.ExopackageInfo.DexInfo> getDexInfo() {
+    return dexInfo;
+  }
+
+  /**
+   * @return value of {@code nativeLibsInfo} attribute
+   */
+  @Override
+  public Optional<com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo> getNativeLibsInfo() {
+    return nativeLibsInfo;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractExopackageInfo#getDexInfo() dexInfo}.
+   * @param value value for dexInfo
+   * @return modified copy of {@code this} object
+   */
+  public final ExopackageInfo withDexInfo(com.facebook.buck.rules.ExopackageInfo.DexInfo value) {
+    Optional<com.facebook.buck.rules.ExopackageInfo.DexInfo> newValue = Optional.of(value);
+    return validate(new ExopackageInfo(newValue, this.nativeLibsInfo));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractExopackageInfo#getDexInfo() dexInfo}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for dexInfo
+   * @return modified copy of {@code this} object
+   */
+  public final ExopackageInfo withDexInfo(Optional<com.facebook.buck.rules.ExopackageInfo.DexInfo> optional) {
+    if (this.dexInfo == optional) {
+      return this;
+    }
+    Optional<com.facebook.buck.rules.ExopackageInfo.DexInfo> newValue = Preconditions.checkNotNull(optional);
+    return validate(new ExopackageInfo(newValue, this.nativeLibsInfo));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo}.
+   * @param value value for nativeLibsInfo
+   * @return modified copy of {@code this} object
+   */
+  public final ExopackageInfo withNativeLibsInfo(com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo value) {
+    Optional<com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo> newValue = Optional.of(value);
+    return validate(new ExopackageInfo(this.dexInfo, newValue));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for nativeLibsInfo
+   * @return modified copy of {@code this} object
+   */
+  public final ExopackageInfo withNativeLibsInfo(Optional<com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo> optional) {
+    if (this.nativeLibsInfo == optional) {
+      return this;
+    }
+    Optional<com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo> newValue = Preconditions.checkNotNull(optional);
+    return validate(new ExopackageInfo(this.dexInfo, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code ExopackageInfo} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ExopackageInfo && equalTo((ExopackageInfo) another));
+  }
+
+  private boolean equalTo(ExopackageInfo another) {
+    return dexInfo.equals(another.dexInfo)
+        && nativeLibsInfo.equals(another.nativeLibsInfo);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code dexInfo}, {@code nativeLibsInfo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + dexInfo.hashCode();
+    h = h * 17 + nativeLibsInfo.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ExopackageInfo{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExopackageInfo")
+        .add("dexInfo", dexInfo)
+        .add("nativeLibsInfo", nativeLibsInfo)
+        .toString();
+  }
+
+  private static ExopackageInfo validate(ExopackageInfo instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractExopackageInfo}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ExopackageInfo instance
+   */
+  public static ExopackageInfo copyOf(AbstractExopackageInfo instance) {
+    if (instance instanceof ExopackageInfo) {
+      return (ExopackageInfo) instance;
+    }
+    return ExopackageInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.ExopackageInfo ExopackageInfo}.
+   * @return new ExopackageInfo builder
+   */
+  public static ExopackageInfo.Builder builder() {
+    return new ExopackageInfo.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.ExopackageInfo ExopackageInfo}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private Optional<com.facebook.buck.rules.ExopackageInfo.DexInfo> dexInfo = Optional.absent();
+    private Optional<com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo> nativeLibsInfo = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractExopackageInfo} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractExopackageInfo instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<com.facebook.buck.rules.ExopackageInfo.DexInfo> dexInfoOptional = instance.getDexInfo();
+      if (dexInfoOptional.isPresent()) {
+        setDexInfo(dexInfoOptional);
+      }
+      Optional<com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo> nativeLibsInfoOptional = instance.getNativeLibsInfo();
+      if (nativeLibsInfoOptional.isPresent()) {
+        setNativeLibsInfo(nativeLibsInfoOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractExopackageInfo#getDexInfo() dexInfo}.
+     * @param dexInfo value for dexInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDexInfo(com.facebook.buck.rules.ExopackageInfo.DexInfo dexInfo) {
+      this.dexInfo = Optional.of(dexInfo);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractExopackageInfo#getDexInfo() dexInfo}.
+     * @param dexInfo value for dexInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDexInfo(Optional<com.facebook.buck.rules.ExopackageInfo.DexInfo> dexInfo) {
+      this.dexInfo = Preconditions.checkNotNull(dexInfo);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo}.
+     * @param nativeLibsInfo value for nativeLibsInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibsInfo(com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo nativeLibsInfo) {
+      this.nativeLibsInfo = Optional.of(nativeLibsInfo);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo}.
+     * @param nativeLibsInfo value for nativeLibsInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeLibsInfo(Optional<com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo> nativeLibsInfo) {
+      this.nativeLibsInfo = Preconditions.checkNotNull(nativeLibsInfo);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.ExopackageInfo ExopackageInfo}.
+     * @return immutable instance of ExopackageInfo
+     */
+    public ExopackageInfo build() {
+      return ExopackageInfo.validate(new ExopackageInfo(dexInfo, nativeLibsInfo));
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractExopackageInfo.AbstractDexInfo}.
+   * <p>
+   * Use builder to create immutable instances:
+   * {@code ExopackageInfo.DexInfo.builder()}.
+   * Use static factory method to create immutable instances:
+   * {@code ExopackageInfo.DexInfo.of()}.
+   */
+  @Immutable
+  public static final class DexInfo implements AbstractExopackageInfo.AbstractDexInfo {
+    private final Path metadata;
+    private final Path directory;
+
+    private DexInfo(Path metadata, Path directory) {
+      this.metadata = Preconditions.checkNotNull(metadata);
+      this.directory = Preconditions.checkNotNull(directory);
+    }
+
+    private DexInfo(DexInfo original, Path metadata, Path directory) {
+      this.metadata = metadata;
+      this.directory = directory;
+    }
+
+    /**
+     * @return value of {@code metadata} attribute
+     */
+    @Override
+    public Path getMetadata() {
+      return metadata;
+    }
+
+    /**
+     * @return value of {@code directory} attribute
+     */
+    @Override
+    public Path getDirectory() {
+      return directory;
+    }
+
+    /**
+     * Copy current immutable object by setting value for {@link AbstractExopackageInfo.AbstractDexInfo#getMetadata() metadata}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value new value for metadata
+     * @return modified copy of the {@code this} object
+     */
+    public final DexInfo withMetadata(Path value) {
+      if (this.metadata == value) {
+        return this;
+      }
+      Path newValue = Preconditions.checkNotNull(value);
+      return new DexInfo(this, newValue, this.directory);
+    }
+
+    /**
+     * Copy current immutable object by setting value for {@link AbstractExopackageInfo.AbstractDexInfo#getDirectory() directory}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value new value for directory
+     * @return modified copy of the {@code this} object
+     */
+    public final DexInfo withDirectory(Path value) {
+      if (this.directory == value) {
+        return this;
+      }
+      Path newValue = Preconditions.checkNotNull(value);
+      return new DexInfo(this, this.metadata, newValue);
+    }
+
+    /**
+     * This instance is equal to instances of {@code DexInfo} with equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      return this == another
+          || (another instanceof DexInfo && equalTo((DexInfo) another));
+    }
+
+    private boolean equalTo(DexInfo another) {
+      return metadata.equals(another.metadata)
+          && directory.equals(another.directory);
+    }
+
+    /**
+     * Computes hash code from attributes: {@code metadata}, {@code directory}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 31;
+      h = h * 17 + metadata.hashCode();
+      h = h * 17 + directory.hashCode();
+      return h;
+    }
+
+    /**
+     * Prints immutable value {@code DexInfo{...}} with attribute values,
+     * excluding any non-generated and auxiliary attributes.
+     * @return string representation of value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("DexInfo")
+          .add("metadata", metadata)
+          .add("directory", directory)
+          .toString();
+    }
+
+    /**
+     * Construct new immutable {@code DexInfo} instance.
+     * @param metadata value for {@code metadata}
+     * @param directory value for {@code directory}
+     * @return immutable DexInfo instance
+     */
+    public static com.facebook.buck.rules.ExopackageInfo.DexInfo of(Path metadata, Path directory) {
+      return new DexInfo(metadata, directory);
+    }
+
+    /**
+     * Creates immutable copy of {@link AbstractExopackageInfo.AbstractDexInfo}.
+     * Uses accessors to get values to initialize immutable instance.
+     * If an instance is already immutable, it is returned as is.
+     * @param instance instance to copy
+     * @return copied immutable DexInfo instance
+     */
+    public static ExopackageInfo.DexInfo copyOf(AbstractExopackageInfo.AbstractDexInfo instance) {
+      if (instance instanceof ExopackageInfo.DexInfo) {
+        return (DexInfo) instance;
+      }
+      return ExopackageInfo.DexInfo.builder()
+          .from(instance)
+          .build();
+    }
+
+    /**
+     * Creates builder for {@link com.facebook.buck.rules.ExopackageInfo.DexInfo DexInfo}.
+     * @return new DexInfo builder
+     */
+    public static ExopackageInfo.DexInfo.Builder builder() {
+      return new ExopackageInfo.DexInfo.Builder();
+    }
+
+    /**
+     * Builds instances of {@link com.facebook.buck.rules.ExopackageInfo.DexInfo DexInfo}.
+     * Initialize attributes and then invoke {@link #build()} method to create
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+     * but used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private static final long INITIALIZED_BITSET_ALL = 0x3;
+      private static final long INITIALIZED_BIT_METADATA = 0x1L;
+      private static final long INITIALIZED_BIT_DIRECTORY = 0x2L;
+      private long initializedBitset;
+      private @Nullable Path metadata;
+      private @Nullable Path directory;
+
+      private Builder() {}
+
+      /**
+       * Fill builder with attribute values from provided {@link AbstractExopackageInfo.AbstractDexInfo} instance.
+       * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+       * Instance's absent optional values will not be copied (will not override current).
+       * Collection elements and entries will be added, not replaced.
+       * @param instance instance to copy values from
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder from(AbstractExopackageInfo.AbstractDexInfo instance) {
+        Preconditions.checkNotNull(instance);
+        setMetadata(instance.getMetadata());
+        setDirectory(instance.getDirectory());
+        return this;
+      }
+
+      /**
+       * Initializes value for {@link AbstractExopackageInfo.AbstractDexInfo#getMetadata() metadata}.
+       * @param metadata value for metadata
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setMetadata(Path metadata) {
+        this.metadata = Preconditions.checkNotNull(metadata);
+        initializedBitset |= INITIALIZED_BIT_METADATA;
+        return this;
+      }
+
+      /**
+       * Initializes value for {@link AbstractExopackageInfo.AbstractDexInfo#getDirectory() directory}.
+       * @param directory value for directory
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setDirectory(Path directory) {
+        this.directory = Preconditions.checkNotNull(directory);
+        initializedBitset |= INITIALIZED_BIT_DIRECTORY;
+        return this;
+      }
+
+      /**
+       * Builds new {@link com.facebook.buck.rules.ExopackageInfo.DexInfo DexInfo}.
+       * @return immutable instance of DexInfo
+       */
+      public com.facebook.buck.rules.ExopackageInfo.DexInfo build() {
+        checkRequiredAttributes();
+        return new ExopackageInfo.DexInfo(null, metadata, directory);
+      }
+
+      private boolean metadataIsSet() {
+        return (initializedBitset & INITIALIZED_BIT_METADATA) != 0;
+      }
+
+      private boolean directoryIsSet() {
+        return (initializedBitset & INITIALIZED_BIT_DIRECTORY) != 0;
+      }
+
+      private void checkRequiredAttributes() {
+        if (initializedBitset != INITIALIZED_BITSET_ALL) {
+          throw new IllegalStateException(formatRequiredAttributesMessage());
+        }
+      }
+
+      private String formatRequiredAttributesMessage() {
+        Collection<String> attributes = Lists.newArrayList();
+        if (!metadataIsSet()) {
+          attributes.add("metadata");
+        }
+        if (!directoryIsSet()) {
+          attributes.add("directory");
+        }
+        return "Cannot build DexInfo, some of required attributes are not set " + attributes;
+      }
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractExopackageInfo.AbstractNativeLibsInfo}.
+   * <p>
+   * Use builder to create immutable instances:
+   * {@code ExopackageInfo.NativeLibsInfo.builder()}.
+   * Use static factory method to create immutable instances:
+   * {@code ExopackageInfo.NativeLibsInfo.of()}.
+   */
+  @Immutable
+  public static final class NativeLibsInfo
+      implements AbstractExopackageInfo.AbstractNativeLibsInfo {
+    private final Path metadata;
+    private final Path directory;
+
+    private NativeLibsInfo(Path metadata, Path directory) {
+      this.metadata = Preconditions.checkNotNull(metadata);
+      this.directory = Preconditions.checkNotNull(directory);
+    }
+
+    private NativeLibsInfo(NativeLibsInfo original, Path metadata, Path directory) {
+      this.metadata = metadata;
+      this.directory = directory;
+    }
+
+    /**
+     * @return value of {@code metadata} attribute
+     */
+    @Override
+    public Path getMetadata() {
+      return metadata;
+    }
+
+    /**
+     * @return value of {@code directory} attribute
+     */
+    @Override
+    public Path getDirectory() {
+      return directory;
+    }
+
+    /**
+     * Copy current immutable object by setting value for {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getMetadata() metadata}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value new value for metadata
+     * @return modified copy of the {@code this} object
+     */
+    public final NativeLibsInfo withMetadata(Path value) {
+      if (this.metadata == value) {
+        return this;
+      }
+      Path newValue = Preconditions.checkNotNull(value);
+      return new NativeLibsInfo(this, newValue, this.directory);
+    }
+
+    /**
+     * Copy current immutable object by setting value for {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getDirectory() directory}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value new value for directory
+     * @return modified copy of the {@code this} object
+     */
+    public final NativeLibsInfo withDirectory(Path value) {
+      if (this.directory == value) {
+        return this;
+      }
+      Path newValue = Preconditions.checkNotNull(value);
+      return new NativeLibsInfo(this, this.metadata, newValue);
+    }
+
+    /**
+     * This instance is equal to instances of {@code NativeLibsInfo} with equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      return this == another
+          || (another instanceof NativeLibsInfo && equalTo((NativeLibsInfo) another));
+    }
+
+    private boolean equalTo(NativeLibsInfo another) {
+      return metadata.equals(another.metadata)
+          && directory.equals(another.directory);
+    }
+
+    /**
+     * Computes hash code from attributes: {@code metadata}, {@code directory}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 31;
+      h = h * 17 + metadata.hashCode();
+      h = h * 17 + directory.hashCode();
+      return h;
+    }
+
+    /**
+     * Prints immutable value {@code NativeLibsInfo{...}} with attribute values,
+     * excluding any non-generated and auxiliary attributes.
+     * @return string representation of value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("NativeLibsInfo")
+          .add("metadata", metadata)
+          .add("directory", directory)
+          .toString();
+    }
+
+    /**
+     * Construct new immutable {@code NativeLibsInfo} instance.
+     * @param metadata value for {@code metadata}
+     * @param directory value for {@code directory}
+     * @return immutable NativeLibsInfo instance
+     */
+    public static com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo of(Path metadata, Path directory) {
+      return new NativeLibsInfo(metadata, directory);
+    }
+
+    /**
+     * Creates immutable copy of {@link AbstractExopackageInfo.AbstractNativeLibsInfo}.
+     * Uses accessors to get values to initialize immutable instance.
+     * If an instance is already immutable, it is returned as is.
+     * @param instance instance to copy
+     * @return copied immutable NativeLibsInfo instance
+     */
+    public static ExopackageInfo.NativeLibsInfo copyOf(AbstractExopackageInfo.AbstractNativeLibsInfo instance) {
+      if (instance instanceof ExopackageInfo.NativeLibsInfo) {
+        return (NativeLibsInfo) instance;
+      }
+      return ExopackageInfo.NativeLibsInfo.builder()
+          .from(instance)
+          .build();
+    }
+
+    /**
+     * Creates builder for {@link com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo NativeLibsInfo}.
+     * @return new NativeLibsInfo builder
+     */
+    public static ExopackageInfo.NativeLibsInfo.Builder builder() {
+      return new ExopackageInfo.NativeLibsInfo.Builder();
+    }
+
+    /**
+     * Builds instances of {@link com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo NativeLibsInfo}.
+     * Initialize attributes and then invoke {@link #build()} method to create
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+     * but used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private static final long INITIALIZED_BITSET_ALL = 0x3;
+      private static final long INITIALIZED_BIT_METADATA = 0x1L;
+      private static final long INITIALIZED_BIT_DIRECTORY = 0x2L;
+      private long initializedBitset;
+      private @Nullable Path metadata;
+      private @Nullable Path directory;
+
+      private Builder() {}
+
+      /**
+       * Fill builder with attribute values from provided {@link AbstractExopackageInfo.AbstractNativeLibsInfo} instance.
+       * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+       * Instance's absent optional values will not be copied (will not override current).
+       * Collection elements and entries will be added, not replaced.
+       * @param instance instance to copy values from
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder from(AbstractExopackageInfo.AbstractNativeLibsInfo instance) {
+        Preconditions.checkNotNull(instance);
+        setMetadata(instance.getMetadata());
+        setDirectory(instance.getDirectory());
+        return this;
+      }
+
+      /**
+       * Initializes value for {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getMetadata() metadata}.
+       * @param metadata value for metadata
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setMetadata(Path metadata) {
+        this.metadata = Preconditions.checkNotNull(metadata);
+        initializedBitset |= INITIALIZED_BIT_METADATA;
+        return this;
+      }
+
+      /**
+       * Initializes value for {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getDirectory() directory}.
+       * @param directory value for directory
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setDirectory(Path directory) {
+        this.directory = Preconditions.checkNotNull(directory);
+        initializedBitset |= INITIALIZED_BIT_DIRECTORY;
+        return this;
+      }
+
+      /**
+       * Builds new {@link com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo NativeLibsInfo}.
+       * @return immutable instance of NativeLibsInfo
+       */
+      public com.facebook.buck.rules.ExopackageInfo.NativeLibsInfo build() {
+        checkRequiredAttributes();
+        return new ExopackageInfo.NativeLibsInfo(null, metadata, directory);
+      }
+
+      private boolean metadataIsSet() {
+        return (initializedBitset & INITIALIZED_BIT_METADATA) != 0;
+      }
+
+      private boolean directoryIsSet() {
+        return (initializedBitset & INITIALIZED_BIT_DIRECTORY) != 0;
+      }
+
+      private void checkRequiredAttributes() {
+        if (initializedBitset != INITIALIZED_BITSET_ALL) {
+          throw new IllegalStateException(formatRequiredAttributesMessage());
+        }
+      }
+
+      private String formatRequiredAttributesMessage() {
+        Collection<String> attributes = Lists.newArrayList();
+        if (!metadataIsSet()) {
+          attributes.add("metadata");
+        }
+        if (!directoryIsSet()) {
+          attributes.add("directory");
+        }
+        return "Cannot build NativeLibsInfo, some of required attributes are not set " + attributes;
+      }
+    }
+  }
+}
@@ -0,0 +1,555 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractExternalTestRunnerTestSpec}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ExternalTestRunnerTestSpec.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExternalTestRunnerTestSpec"})
+@Immutable
+public final class ExternalTestRunnerTestSpec
+    extends AbstractExternalTestRunnerTestSpec {
+  private final BuildTarget target;
+  private final String type;
+  private final ImmutableList<String> command;
+  private final ImmutableMap<String, String> env;
+  private final ImmutableList<Label> labels;
+  private final ImmutableList<String> contacts;
+
+  private ExternalTestRunnerTestSpec(
+      BuildTarget target,
+      String type,
+      ImmutableList<String> command,
+      ImmutableMap<String, String> env,
+      ImmutableList<Label> labels,
+      ImmutableList<String> contacts) {
+    this.target = target;
+    this.type = type;
+    this.command = command;
+    this.env = env;
+    this.labels = labels;
+    this.contacts = contacts;
+  }
+
+  /**
+   * @return the build target of this rule.
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return a test-specific type string which classifies the test class, so the external runner
+   *     knows how to parse the output.
+   */
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return the command the external test runner must invoke to run the test.
+   */
+  @Override
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /**
+   * @return environment variables the external test runner should provide for the test command.
+   */
+  @Override
+  public ImmutableMap<String, String> getEnv() {
+    return env;
+  }
+
+  /**
+   * @return test labels.
+   */
+  @Override
+  public ImmutableList<Label> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return test contacts.
+   */
+  @Override
+  public ImmutableList<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractExternalTestRunnerTestSpec#getTarget() target}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for target
+   * @return modified copy of the {@code this} object
+   */
+  public final ExternalTestRunnerTestSpec withTarget(BuildTarget value) {
+    if (this.target == value) {
+      return this;
+    }
+    BuildTarget newValue = Preconditions.checkNotNull(value);
+    return new ExternalTestRunnerTestSpec(newValue, this.type, this.command, this.env, this.labels, this.contacts);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractExternalTestRunnerTestSpec#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final ExternalTestRunnerTestSpec withType(String value) {
+    if (this.type == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ExternalTestRunnerTestSpec(this.target, newValue, this.command, this.env, this.labels, this.contacts);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractExternalTestRunnerTestSpec#getCommand() command}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ExternalTestRunnerTestSpec withCommand(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExternalTestRunnerTestSpec(this.target, this.type, newValue, this.env, this.labels, this.contacts);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractExternalTestRunnerTestSpec#getCommand() command}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of command elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ExternalTestRunnerTestSpec withCommand(Iterable<String> elements) {
+    if (this.command == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExternalTestRunnerTestSpec(this.target, this.type, newValue, this.env, this.labels, this.contacts);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractExternalTestRunnerTestSpec#getEnv() env} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to env map
+   * @return modified copy of {@code this} object
+   */
+  public final ExternalTestRunnerTestSpec withEnv(Map<String, ? extends String> entries) {
+    if (this.env == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new ExternalTestRunnerTestSpec(this.target, this.type, this.command, newValue, this.labels, this.contacts);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractExternalTestRunnerTestSpec#getLabels() labels}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ExternalTestRunnerTestSpec withLabels(Label... elements) {
+    ImmutableList<Label> newValue = ImmutableList.copyOf(elements);
+    return new ExternalTestRunnerTestSpec(this.target, this.type, this.command, this.env, newValue, this.contacts);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractExternalTestRunnerTestSpec#getLabels() labels}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of labels elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ExternalTestRunnerTestSpec withLabels(Iterable<? extends Label> elements) {
+    if (this.labels == elements) {
+      return this;
+    }
+    ImmutableList<Label> newValue = ImmutableList.copyOf(elements);
+    return new ExternalTestRunnerTestSpec(this.target, this.type, this.command, this.env, newValue, this.contacts);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ExternalTestRunnerTestSpec withContacts(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExternalTestRunnerTestSpec(this.target, this.type, this.command, this.env, this.labels, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of contacts elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ExternalTestRunnerTestSpec withContacts(Iterable<String> elements) {
+    if (this.contacts == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExternalTestRunnerTestSpec(this.target, this.type, this.command, this.env, this.labels, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ExternalTestRunnerTestSpec} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ExternalTestRunnerTestSpec && equalTo((ExternalTestRunnerTestSpec) another));
+  }
+
+  private boolean equalTo(ExternalTestRunnerTestSpec another) {
+    return target.equals(another.target)
+        && type.equals(another.type)
+        && command.equals(another.command)
+        && env.equals(another.env)
+        && labels.equals(another.labels)
+        && contacts.equals(another.contacts);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code target}, {@code type}, {@code command}, {@code env}, {@code labels}, {@code contacts}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + target.hashCode();
+    h = h * 17 + type.hashCode();
+    h = h * 17 + command.hashCode();
+    h = h * 17 + env.hashCode();
+    h = h * 17 + labels.hashCode();
+    h = h * 17 + contacts.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ExternalTestRunnerTestSpec{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExternalTestRunnerTestSpec")
+        .add("target", target)
+        .add("type", type)
+        .add("command", command)
+        .add("env", env)
+        .add("labels", labels)
+        .add("contacts", contacts)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractExternalTestRunnerTestSpec}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ExternalTestRunnerTestSpec instance
+   */
+  public static ExternalTestRunnerTestSpec copyOf(AbstractExternalTestRunnerTestSpec instance) {
+    if (instance instanceof ExternalTestRunnerTestSpec) {
+      return (ExternalTestRunnerTestSpec) instance;
+    }
+    return ExternalTestRunnerTestSpec.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.ExternalTestRunnerTestSpec ExternalTestRunnerTestSpec}.
+   * @return new ExternalTestRunnerTestSpec builder
+   */
+  public static ExternalTestRunnerTestSpec.Builder builder() {
+    return new ExternalTestRunnerTestSpec.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.ExternalTestRunnerTestSpec ExternalTestRunnerTestSpec}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_TARGET = 0x1L;
+    private static final long INITIALIZED_BIT_TYPE = 0x2L;
+    private long initializedBitset;
+    private @Nullable BuildTarget target;
+    private @Nullable String type;
+    private ImmutableList.Builder<String> commandBuilder = ImmutableList.builder();
+    private ImmutableMap.Builder<String, String> envBuilder = ImmutableMap.builder();
+    private ImmutableList.Builder<Label> labelsBuilder = ImmutableList.builder();
+    private ImmutableList.Builder<String> contactsBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractExternalTestRunnerTestSpec} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractExternalTestRunnerTestSpec instance) {
+      Preconditions.checkNotNull(instance);
+      setTarget(instance.getTarget());
+      setType(instance.getType());
+      addAllCommand(instance.getCommand());
+      putAllEnv(instance.getEnv());
+      addAllLabels(instance.getLabels());
+      addAllContacts(instance.getContacts());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractExternalTestRunnerTestSpec#getTarget() target}.
+     * @param target value for target
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Preconditions.checkNotNull(target);
+      initializedBitset |= INITIALIZED_BIT_TARGET;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractExternalTestRunnerTestSpec#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(String type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param element command element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCommand(String element) {
+      commandBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param elements array of command elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCommand(String... elements) {
+      commandBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param elements iterable of command elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCommand(Iterable<String> elements) {
+      commandBuilder = ImmutableList.builder();
+      return addAllCommand(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param elements iterable of command elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllCommand(Iterable<String> elements) {
+      commandBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractExternalTestRunnerTestSpec#getEnv() env} map.
+     * @param key the key in env map
+     * @param value the associated value in env map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putEnv(String key, String value) {
+      envBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractExternalTestRunnerTestSpec#getEnv() env} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putEnv(Map.Entry<String, ? extends String> entry) {
+      envBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractExternalTestRunnerTestSpec#getEnv() env} map. Nulls are not permitted
+     * @param entries to be added to env map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEnv(Map<String, ? extends String> entries) {
+      envBuilder = ImmutableMap.builder();
+      return putAllEnv(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractExternalTestRunnerTestSpec#getEnv() env} map. Nulls are not permitted
+     * @param entries to be added to env map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllEnv(Map<String, ? extends String> entries) {
+      envBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param element labels element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLabels(Label element) {
+      labelsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param elements array of labels elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLabels(Label... elements) {
+      labelsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param elements iterable of labels elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLabels(Iterable<? extends Label> elements) {
+      labelsBuilder = ImmutableList.builder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param elements iterable of labels elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllLabels(Iterable<? extends Label> elements) {
+      labelsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param element contacts element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addContacts(String element) {
+      contactsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param elements array of contacts elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addContacts(String... elements) {
+      contactsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param elements iterable of contacts elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setContacts(Iterable<String> elements) {
+      contactsBuilder = ImmutableList.builder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param elements iterable of contacts elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllContacts(Iterable<String> elements) {
+      contactsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.ExternalTestRunnerTestSpec ExternalTestRunnerTestSpec}.
+     * @return immutable instance of ExternalTestRunnerTestSpec
+     */
+    public ExternalTestRunnerTestSpec build() {
+      checkRequiredAttributes();
+      return new ExternalTestRunnerTestSpec(
+              target,
+              type,
+              commandBuilder.build(),
+              envBuilder.build(),
+              labelsBuilder.build(),
+              contactsBuilder.build());
+    }
+
+    private boolean targetIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TARGET) != 0;
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!targetIsSet()) {
+        attributes.add("target");
+      }
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      return "Cannot build ExternalTestRunnerTestSpec, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,835 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.step.StepRunner;
+import com.facebook.buck.timing.Clock;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuildContext}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ImmutableBuildContext.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildContext"})
+@Immutable
+public final class ImmutableBuildContext extends BuildContext {
+  private final ActionGraph actionGraph;
+  private final StepRunner stepRunner;
+  private final Clock clock;
+  private final ArtifactCache artifactCache;
+  private final JavaPackageFinder javaPackageFinder;
+  private final BuckEventBus eventBus;
+  private final Supplier<String> androidBootclasspathSupplier;
+  private final BuildId buildId;
+  private final ImmutableMap<String, String> environment;
+  private final boolean keepGoing;
+  private final boolean shouldReportAbsolutePaths;
+
+  private ImmutableBuildContext(ImmutableBuildContext.Builder builder) {
+    this.actionGraph = builder.actionGraph;
+    this.stepRunner = builder.stepRunner;
+    this.clock = builder.clock;
+    this.artifactCache = builder.artifactCache;
+    this.javaPackageFinder = builder.javaPackageFinder;
+    this.eventBus = builder.eventBus;
+    this.buildId = builder.buildId;
+    this.environment = builder.environmentBuilder.build();
+    this.androidBootclasspathSupplier = builder.androidBootclasspathSupplier != null
+        ? builder.androidBootclasspathSupplier
+        : Preconditions.checkNotNull(super.getAndroidBootclasspathSupplier());
+    this.keepGoing = builder.keepGoingIsSet()
+        ? builder.keepGoing
+        : super.isKeepGoing();
+    this.shouldReportAbsolutePaths = builder.shouldReportAbsolutePathsIsSet()
+        ? builder.shouldReportAbsolutePaths
+        : super.shouldReportAbsolutePaths();
+  }
+
+  private ImmutableBuildContext(
+      ActionGraph actionGraph,
+      StepRunner stepRunner,
+      Clock clock,
+      ArtifactCache artifactCache,
+      JavaPackageFinder javaPackageFinder,
+      BuckEventBus eventBus,
+      Supplier<String> androidBootclasspathSupplier,
+      BuildId buildId,
+      ImmutableMap<String, String> environment,
+      boolean keepGoing,
+      boolean shouldReportAbsolutePaths) {
+    this.actionGraph = actionGraph;
+    this.stepRunner = stepRunner;
+    this.clock = clock;
+    this.artifactCache = artifactCache;
+    this.javaPackageFinder = javaPackageFinder;
+    this.eventBus = eventBus;
+    this.androidBootclasspathSupplier = androidBootclasspathSupplier;
+    this.buildId = buildId;
+    this.environment = environment;
+    this.keepGoing = keepGoing;
+    this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+  }
+
+  /**
+   * @return value of {@code actionGraph} attribute
+   */
+  @Override
+  public ActionGraph getActionGraph() {
+    return actionGraph;
+  }
+
+  /**
+   * @return value of {@code stepRunner} attribute
+   */
+  @Override
+  public StepRunner getStepRunner() {
+    return stepRunner;
+  }
+
+  /**
+   * @return value of {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return value of {@code artifactCache} attribute
+   */
+  @Override
+  public ArtifactCache getArtifactCache() {
+    return artifactCache;
+  }
+
+  /**
+   * @return value of {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return value of {@code eventBus} attribute
+   */
+  @Override
+  public BuckEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * @return value of {@code androidBootclasspathSupplier} attribute
+   */
+  @Override
+  public Supplier<String> getAndroidBootclasspathSupplier() {
+    return androidBootclasspathSupplier;
+  }
+
+  /**
+   * @return value of {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * @return value of {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return value of {@code keepGoing} attribute
+   */
+  @Override
+  public boolean isKeepGoing() {
+    return keepGoing;
+  }
+
+  /**
+   * @return value of {@code shouldReportAbsolutePaths} attribute
+   */
+  @Override
+  public boolean shouldReportAbsolutePaths() {
+    return shouldReportAbsolutePaths;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#getActionGraph() actionGraph}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for actionGraph
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withActionGraph(ActionGraph value) {
+    if (this.actionGraph == value) {
+      return this;
+    }
+    ActionGraph newValue = Preconditions.checkNotNull(value);
+    return new ImmutableBuildContext(
+            newValue,
+            this.stepRunner,
+            this.clock,
+            this.artifactCache,
+            this.javaPackageFinder,
+            this.eventBus,
+            this.androidBootclasspathSupplier,
+            this.buildId,
+            this.environment,
+            this.keepGoing,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#getStepRunner() stepRunner}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for stepRunner
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withStepRunner(StepRunner value) {
+    if (this.stepRunner == value) {
+      return this;
+    }
+    StepRunner newValue = Preconditions.checkNotNull(value);
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            newValue,
+            this.clock,
+            this.artifactCache,
+            this.javaPackageFinder,
+            this.eventBus,
+            this.androidBootclasspathSupplier,
+            this.buildId,
+            this.environment,
+            this.keepGoing,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#getClock() clock}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for clock
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withClock(Clock value) {
+    if (this.clock == value) {
+      return this;
+    }
+    Clock newValue = Preconditions.checkNotNull(value);
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            this.stepRunner,
+            newValue,
+            this.artifactCache,
+            this.javaPackageFinder,
+            this.eventBus,
+            this.androidBootclasspathSupplier,
+            this.buildId,
+            this.environment,
+            this.keepGoing,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#getArtifactCache() artifactCache}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for artifactCache
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withArtifactCache(ArtifactCache value) {
+    if (this.artifactCache == value) {
+      return this;
+    }
+    ArtifactCache newValue = Preconditions.checkNotNull(value);
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            this.stepRunner,
+            this.clock,
+            newValue,
+            this.javaPackageFinder,
+            this.eventBus,
+            this.androidBootclasspathSupplier,
+            this.buildId,
+            this.environment,
+            this.keepGoing,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#getJavaPackageFinder() javaPackageFinder}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for javaPackageFinder
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) {
+      return this;
+    }
+    JavaPackageFinder newValue = Preconditions.checkNotNull(value);
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            this.stepRunner,
+            this.clock,
+            this.artifactCache,
+            newValue,
+            this.eventBus,
+            this.androidBootclasspathSupplier,
+            this.buildId,
+            this.environment,
+            this.keepGoing,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#getEventBus() eventBus}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for eventBus
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withEventBus(BuckEventBus value) {
+    if (this.eventBus == value) {
+      return this;
+    }
+    BuckEventBus newValue = Preconditions.checkNotNull(value);
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            this.stepRunner,
+            this.clock,
+            this.artifactCache,
+            this.javaPackageFinder,
+            newValue,
+            this.androidBootclasspathSupplier,
+            this.buildId,
+            this.environment,
+            this.keepGoing,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#getAndroidBootclasspathSupplier() androidBootclasspathSupplier}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for androidBootclasspathSupplier
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withAndroidBootclasspathSupplier(Supplier<String> value) {
+    if (this.androidBootclasspathSupplier == value) {
+      return this;
+    }
+    Supplier<String> newValue = Preconditions.checkNotNull(value);
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            this.stepRunner,
+            this.clock,
+            this.artifactCache,
+            this.javaPackageFinder,
+            this.eventBus,
+            newValue,
+            this.buildId,
+            this.environment,
+            this.keepGoing,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#getBuildId() buildId}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildId
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withBuildId(BuildId value) {
+    if (this.buildId == value) {
+      return this;
+    }
+    BuildId newValue = Preconditions.checkNotNull(value);
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            this.stepRunner,
+            this.clock,
+            this.artifactCache,
+            this.javaPackageFinder,
+            this.eventBus,
+            this.androidBootclasspathSupplier,
+            newValue,
+            this.environment,
+            this.keepGoing,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link BuildContext#getEnvironment() environment} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to environment map
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableBuildContext withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            this.stepRunner,
+            this.clock,
+            this.artifactCache,
+            this.javaPackageFinder,
+            this.eventBus,
+            this.androidBootclasspathSupplier,
+            this.buildId,
+            newValue,
+            this.keepGoing,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#isKeepGoing() keepGoing}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for keepGoing
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withKeepGoing(boolean value) {
+    if (this.keepGoing == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            this.stepRunner,
+            this.clock,
+            this.artifactCache,
+            this.javaPackageFinder,
+            this.eventBus,
+            this.androidBootclasspathSupplier,
+            this.buildId,
+            this.environment,
+            newValue,
+            this.shouldReportAbsolutePaths);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link BuildContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for shouldReportAbsolutePaths
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableBuildContext withShouldReportAbsolutePaths(boolean value) {
+    if (this.shouldReportAbsolutePaths == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ImmutableBuildContext(
+            this.actionGraph,
+            this.stepRunner,
+            this.clock,
+            this.artifactCache,
+            this.javaPackageFinder,
+            this.eventBus,
+            this.androidBootclasspathSupplier,
+            this.buildId,
+            this.environment,
+            this.keepGoing,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ImmutableBuildContext} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ImmutableBuildContext && equalTo((ImmutableBuildContext) another));
+  }
+
+  private boolean equalTo(ImmutableBuildContext another) {
+    return actionGraph.equals(another.actionGraph)
+        && stepRunner.equals(another.stepRunner)
+        && clock.equals(another.clock)
+        && artifactCache.equals(another.artifactCache)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && eventBus.equals(another.eventBus)
+        && androidBootclasspathSupplier.equals(another.androidBootclasspathSupplier)
+        && buildId.equals(another.buildId)
+        && environment.equals(another.environment)
+        && keepGoing == another.keepGoing
+        && shouldReportAbsolutePaths == another.shouldReportAbsolutePaths;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code actionGraph}, {@code stepRunner}, {@code clock}, {@code artifactCache}, {@code javaPackageFinder}, {@code eventBus}, {@code androidBootclasspathSupplier}, {@code buildId}, {@code environment}, {@code keepGoing}, {@code shouldReportAbsolutePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + actionGraph.hashCode();
+    h = h * 17 + stepRunner.hashCode();
+    h = h * 17 + clock.hashCode();
+    h = h * 17 + artifactCache.hashCode();
+    h = h * 17 + javaPackageFinder.hashCode();
+    h = h * 17 + eventBus.hashCode();
+    h = h * 17 + androidBootclasspathSupplier.hashCode();
+    h = h * 17 + buildId.hashCode();
+    h = h * 17 + environment.hashCode();
+    h = h * 17 + Booleans.hashCode(keepGoing);
+    h = h * 17 + Booleans.hashCode(shouldReportAbsolutePaths);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code BuildContext{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildContext")
+        .add("actionGraph", actionGraph)
+        .add("stepRunner", stepRunner)
+        .add("clock", clock)
+        .add("artifactCache", artifactCache)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("eventBus", eventBus)
+        .add("androidBootclasspathSupplier", androidBootclasspathSupplier)
+        .add("buildId", buildId)
+        .add("environment", environment)
+        .add("keepGoing", keepGoing)
+        .add("shouldReportAbsolutePaths", shouldReportAbsolutePaths)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link BuildContext}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable BuildContext instance
+   */
+  public static ImmutableBuildContext copyOf(BuildContext instance) {
+    if (instance instanceof ImmutableBuildContext) {
+      return (ImmutableBuildContext) instance;
+    }
+    return ImmutableBuildContext.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.ImmutableBuildContext ImmutableBuildContext}.
+   * @return new ImmutableBuildContext builder
+   */
+  public static ImmutableBuildContext.Builder builder() {
+    return new ImmutableBuildContext.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.ImmutableBuildContext ImmutableBuildContext}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7f;
+    private static final long INITIALIZED_BIT_ACTION_GRAPH = 0x1L;
+    private static final long INITIALIZED_BIT_STEP_RUNNER = 0x2L;
+    private static final long INITIALIZED_BIT_CLOCK = 0x4L;
+    private static final long INITIALIZED_BIT_ARTIFACT_CACHE = 0x8L;
+    private static final long INITIALIZED_BIT_JAVA_PACKAGE_FINDER = 0x10L;
+    private static final long INITIALIZED_BIT_EVENT_BUS = 0x20L;
+    private static final long INITIALIZED_BIT_BUILD_ID = 0x40L;
+    private static final long NONDEFAULT_BIT_KEEP_GOING = 0x1L;
+    private static final long NONDEFAULT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS = 0x2L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private @Nullable ActionGraph actionGraph;
+    private @Nullable StepRunner stepRunner;
+    private @Nullable Clock clock;
+    private @Nullable ArtifactCache artifactCache;
+    private @Nullable JavaPackageFinder javaPackageFinder;
+    private @Nullable BuckEventBus eventBus;
+    private @Nullable Supplier<String> androidBootclasspathSupplier;
+    private @Nullable BuildId buildId;
+    private ImmutableMap.Builder<String, String> environmentBuilder = ImmutableMap.builder();
+    private boolean keepGoing;
+    private boolean shouldReportAbsolutePaths;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link BuildContext} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(BuildContext instance) {
+      Preconditions.checkNotNull(instance);
+      setActionGraph(instance.getActionGraph());
+      setStepRunner(instance.getStepRunner());
+      setClock(instance.getClock());
+      setArtifactCache(instance.getArtifactCache());
+      setJavaPackageFinder(instance.getJavaPackageFinder());
+      setEventBus(instance.getEventBus());
+      setAndroidBootclasspathSupplier(instance.getAndroidBootclasspathSupplier());
+      setBuildId(instance.getBuildId());
+      putAllEnvironment(instance.getEnvironment());
+      setKeepGoing(instance.isKeepGoing());
+      setShouldReportAbsolutePaths(instance.shouldReportAbsolutePaths());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#getActionGraph() actionGraph}.
+     * @param actionGraph value for actionGraph
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setActionGraph(ActionGraph actionGraph) {
+      this.actionGraph = Preconditions.checkNotNull(actionGraph);
+      initializedBitset |= INITIALIZED_BIT_ACTION_GRAPH;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#getStepRunner() stepRunner}.
+     * @param stepRunner value for stepRunner
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStepRunner(StepRunner stepRunner) {
+      this.stepRunner = Preconditions.checkNotNull(stepRunner);
+      initializedBitset |= INITIALIZED_BIT_STEP_RUNNER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#getClock() clock}.
+     * @param clock value for clock
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setClock(Clock clock) {
+      this.clock = Preconditions.checkNotNull(clock);
+      initializedBitset |= INITIALIZED_BIT_CLOCK;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#getArtifactCache() artifactCache}.
+     * @param artifactCache value for artifactCache
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setArtifactCache(ArtifactCache artifactCache) {
+      this.artifactCache = Preconditions.checkNotNull(artifactCache);
+      initializedBitset |= INITIALIZED_BIT_ARTIFACT_CACHE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#getJavaPackageFinder() javaPackageFinder}.
+     * @param javaPackageFinder value for javaPackageFinder
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavaPackageFinder(JavaPackageFinder javaPackageFinder) {
+      this.javaPackageFinder = Preconditions.checkNotNull(javaPackageFinder);
+      initializedBitset |= INITIALIZED_BIT_JAVA_PACKAGE_FINDER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#getEventBus() eventBus}.
+     * @param eventBus value for eventBus
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEventBus(BuckEventBus eventBus) {
+      this.eventBus = Preconditions.checkNotNull(eventBus);
+      initializedBitset |= INITIALIZED_BIT_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#getAndroidBootclasspathSupplier() androidBootclasspathSupplier}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link BuildContext#getAndroidBootclasspathSupplier() androidBootclasspathSupplier}.</em>
+     * @param androidBootclasspathSupplier value for androidBootclasspathSupplier
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidBootclasspathSupplier(Supplier<String> androidBootclasspathSupplier) {
+      this.androidBootclasspathSupplier = Preconditions.checkNotNull(androidBootclasspathSupplier);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#getBuildId() buildId}.
+     * @param buildId value for buildId
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Preconditions.checkNotNull(buildId);
+      initializedBitset |= INITIALIZED_BIT_BUILD_ID;
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link BuildContext#getEnvironment() environment} map.
+     * @param key the key in environment map
+     * @param value the associated value in environment map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putEnvironment(String key, String value) {
+      environmentBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link BuildContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putEnvironment(Map.Entry<String, ? extends String> entry) {
+      environmentBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link BuildContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries to be added to environment map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEnvironment(Map<String, ? extends String> entries) {
+      environmentBuilder = ImmutableMap.builder();
+      return putAllEnvironment(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link BuildContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entries to be added to environment map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllEnvironment(Map<String, ? extends String> entries) {
+      environmentBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#isKeepGoing() keepGoing}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link BuildContext#isKeepGoing() keepGoing}.</em>
+     * @param keepGoing value for keepGoing
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setKeepGoing(boolean keepGoing) {
+      this.keepGoing = keepGoing;
+      nondefaultBitset |= NONDEFAULT_BIT_KEEP_GOING;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link BuildContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link BuildContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths}.</em>
+     * @param shouldReportAbsolutePaths value for shouldReportAbsolutePaths
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setShouldReportAbsolutePaths(boolean shouldReportAbsolutePaths) {
+      this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+      nondefaultBitset |= NONDEFAULT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.ImmutableBuildContext ImmutableBuildContext}.
+     * @return immutable instance of BuildContext
+     */
+    public ImmutableBuildContext build() {
+      checkRequiredAttributes();
+      return new ImmutableBuildContext(this);
+    }
+
+    private boolean keepGoingIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_KEEP_GOING) != 0;
+    }
+
+    private boolean shouldReportAbsolutePathsIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS) != 0;
+    }
+
+    private boolean actionGraphIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ACTION_GRAPH) != 0;
+    }
+
+    private boolean stepRunnerIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_STEP_RUNNER) != 0;
+    }
+
+    private boolean clockIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CLOCK) != 0;
+    }
+
+    private boolean artifactCacheIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ARTIFACT_CACHE) != 0;
+    }
+
+    private boolean javaPackageFinderIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_JAVA_PACKAGE_FINDER) != 0;
+    }
+
+    private boolean eventBusIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_EVENT_BUS) != 0;
+    }
+
+    private boolean buildIdIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUILD_ID) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!actionGraphIsSet()) {
+        attributes.add("actionGraph");
+      }
+      if (!stepRunnerIsSet()) {
+        attributes.add("stepRunner");
+      }
+      if (!clockIsSet()) {
+        attributes.add("clock");
+      }
+      if (!artifactCacheIsSet()) {
+        attributes.add("artifactCache");
+      }
+      if (!javaPackageFinderIsSet()) {
+        attributes.add("javaPackageFinder");
+      }
+      if (!eventBusIsSet()) {
+        attributes.add("eventBus");
+      }
+      if (!buildIdIsSet()) {
+        attributes.add("buildId");
+      }
+      return "Cannot build BuildContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
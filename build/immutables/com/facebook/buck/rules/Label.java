@@ -0,0 +1,183 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractLabel}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code Label.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code Label.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLabel"})
+@Immutable
+public final class Label extends AbstractLabel {
+  private final String labelString;
+
+  private Label(String labelString) {
+    this.labelString = Preconditions.checkNotNull(labelString);
+  }
+
+  private Label(Label original, String labelString) {
+    this.labelString = labelString;
+  }
+
+  /**
+   * @return value of {@code labelString} attribute
+   */
+  @Override
+  public String getLabelString() {
+    return labelString;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractLabel#getLabelString() labelString}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for labelString
+   * @return modified copy of the {@code this} object
+   */
+  public final Label withLabelString(String value) {
+    if (this.labelString == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new Label(this, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code Label} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof Label && equalTo((Label) another));
+  }
+
+  private boolean equalTo(Label another) {
+    return labelString.equals(another.labelString);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code labelString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + labelString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code Label} instance.
+   * @param labelString value for {@code labelString}
+   * @return immutable Label instance
+   */
+  public static com.facebook.buck.rules.Label of(String labelString) {
+    return new Label(labelString);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractLabel}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable Label instance
+   */
+  public static Label copyOf(AbstractLabel instance) {
+    if (instance instanceof Label) {
+      return (Label) instance;
+    }
+    return Label.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.Label Label}.
+   * @return new Label builder
+   */
+  public static Label.Builder builder() {
+    return new Label.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.Label Label}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_LABEL_STRING = 0x1L;
+    private long initializedBitset;
+    private @Nullable String labelString;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractLabel} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractLabel instance) {
+      Preconditions.checkNotNull(instance);
+      setLabelString(instance.getLabelString());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractLabel#getLabelString() labelString}.
+     * @param labelString value for labelString
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLabelString(String labelString) {
+      this.labelString = Preconditions.checkNotNull(labelString);
+      initializedBitset |= INITIALIZED_BIT_LABEL_STRING;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.Label Label}.
+     * @return immutable instance of Label
+     */
+    public Label build() {
+      checkRequiredAttributes();
+      return new Label(null, labelString);
+    }
+
+    private boolean labelStringIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_LABEL_STRING) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!labelStringIsSet()) {
+        attributes.add("labelString");
+      }
+      return "Cannot build Label, some of required attributes are not set " + attributes;
+    }
+  }
+}
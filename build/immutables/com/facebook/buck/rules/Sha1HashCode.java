@@ -0,0 +1,188 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSha1HashCode}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code Sha1HashCode.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code Sha1HashCode.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSha1HashCode"})
+@Immutable
+public final class Sha1HashCode extends AbstractSha1HashCode {
+  private final String hash;
+
+  private Sha1HashCode(String hash) {
+    this.hash = Preconditions.checkNotNull(hash);
+  }
+
+  private Sha1HashCode(Sha1HashCode original, String hash) {
+    this.hash = hash;
+  }
+
+  /**
+   * @return the hash as a 40-character string from the alphabet [a-f0-9].
+   */
+  @Override
+  public String getHash() {
+    return hash;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSha1HashCode#getHash() hash}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for hash
+   * @return modified copy of the {@code this} object
+   */
+  public final Sha1HashCode withHash(String value) {
+    if (this.hash == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return validate(new Sha1HashCode(this, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code Sha1HashCode} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof Sha1HashCode && equalTo((Sha1HashCode) another));
+  }
+
+  private boolean equalTo(Sha1HashCode another) {
+    return hash.equals(another.hash);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code hash}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + hash.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code Sha1HashCode} instance.
+   * @param hash value for {@code hash}
+   * @return immutable Sha1HashCode instance
+   */
+  public static com.facebook.buck.rules.Sha1HashCode of(String hash) {
+    return validate(new Sha1HashCode(hash));
+  }
+
+  private static Sha1HashCode validate(Sha1HashCode instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractSha1HashCode}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable Sha1HashCode instance
+   */
+  public static Sha1HashCode copyOf(AbstractSha1HashCode instance) {
+    if (instance instanceof Sha1HashCode) {
+      return (Sha1HashCode) instance;
+    }
+    return Sha1HashCode.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.Sha1HashCode Sha1HashCode}.
+   * @return new Sha1HashCode builder
+   */
+  public static Sha1HashCode.Builder builder() {
+    return new Sha1HashCode.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.Sha1HashCode Sha1HashCode}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_HASH = 0x1L;
+    private long initializedBitset;
+    private @Nullable String hash;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractSha1HashCode} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractSha1HashCode instance) {
+      Preconditions.checkNotNull(instance);
+      setHash(instance.getHash());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSha1HashCode#getHash() hash}.
+     * @param hash value for hash
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHash(String hash) {
+      this.hash = Preconditions.checkNotNull(hash);
+      initializedBitset |= INITIALIZED_BIT_HASH;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.Sha1HashCode Sha1HashCode}.
+     * @return immutable instance of Sha1HashCode
+     */
+    public Sha1HashCode build() {
+      checkRequiredAttributes();
+      return Sha1HashCode.validate(new Sha1HashCode(null, hash));
+    }
+
+    private boolean hashIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_HASH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!hashIsSet()) {
+        attributes.add("hash");
+      }
+      return "Cannot build Sha1HashCode, some of required attributes are not set " + attributes;
+    }
+  }
+}
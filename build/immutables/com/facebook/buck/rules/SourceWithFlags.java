@@ -0,0 +1,292 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSourceWithFlags}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code SourceWithFlags.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code SourceWithFlags.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSourceWithFlags"})
+@Immutable
+public final class SourceWithFlags extends AbstractSourceWithFlags {
+  private final SourcePath sourcePath;
+  private final ImmutableList<String> flags;
+
+  private SourceWithFlags(SourcePath sourcePath, Iterable<String> flags) {
+    this.sourcePath = Preconditions.checkNotNull(sourcePath);
+    this.flags = ImmutableList.copyOf(flags);
+  }
+
+  private SourceWithFlags(
+      SourceWithFlags original,
+      SourcePath sourcePath,
+      ImmutableList<String> flags) {
+    this.sourcePath = sourcePath;
+    this.flags = flags;
+  }
+
+  /**
+   * @return value of {@code sourcePath} attribute
+   */
+  @Override
+  public SourcePath getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * @return value of {@code flags} attribute
+   */
+  @Override
+  public ImmutableList<String> getFlags() {
+    return flags;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSourceWithFlags#getSourcePath() sourcePath}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sourcePath
+   * @return modified copy of the {@code this} object
+   */
+  public final SourceWithFlags withSourcePath(SourcePath value) {
+    if (this.sourcePath == value) {
+      return this;
+    }
+    SourcePath newValue = Preconditions.checkNotNull(value);
+    return new SourceWithFlags(this, newValue, this.flags);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractSourceWithFlags#getFlags() flags}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final SourceWithFlags withFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new SourceWithFlags(this, this.sourcePath, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractSourceWithFlags#getFlags() flags}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of flags elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final SourceWithFlags withFlags(Iterable<String> elements) {
+    if (this.flags == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new SourceWithFlags(this, this.sourcePath, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code SourceWithFlags} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof SourceWithFlags && equalTo((SourceWithFlags) another));
+  }
+
+  private boolean equalTo(SourceWithFlags another) {
+    return sourcePath.equals(another.sourcePath)
+        && flags.equals(another.flags);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code sourcePath}, {@code flags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + sourcePath.hashCode();
+    h = h * 17 + flags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code SourceWithFlags{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceWithFlags")
+        .add("sourcePath", sourcePath)
+        .add("flags", flags)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code SourceWithFlags} instance.
+   * @param sourcePath value for {@code sourcePath}
+   * @param flags value for {@code flags}
+   * @return immutable SourceWithFlags instance
+   */
+  public static com.facebook.buck.rules.SourceWithFlags of(SourcePath sourcePath, List<String> flags) {
+    return of(sourcePath, (Iterable<String>) flags);
+  }
+
+  /**
+   * Construct new immutable {@code SourceWithFlags} instance.
+   * @param sourcePath value for {@code sourcePath}
+   * @param flags value for {@code flags}
+   * @return immutable SourceWithFlags instance
+   */
+  public static com.facebook.buck.rules.SourceWithFlags of(SourcePath sourcePath, Iterable<String> flags) {
+    return new SourceWithFlags(sourcePath, flags);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractSourceWithFlags}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable SourceWithFlags instance
+   */
+  public static SourceWithFlags copyOf(AbstractSourceWithFlags instance) {
+    if (instance instanceof SourceWithFlags) {
+      return (SourceWithFlags) instance;
+    }
+    return SourceWithFlags.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.SourceWithFlags SourceWithFlags}.
+   * @return new SourceWithFlags builder
+   */
+  public static SourceWithFlags.Builder builder() {
+    return new SourceWithFlags.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.SourceWithFlags SourceWithFlags}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_SOURCE_PATH = 0x1L;
+    private long initializedBitset;
+    private @Nullable SourcePath sourcePath;
+    private ImmutableList.Builder<String> flagsBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractSourceWithFlags} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractSourceWithFlags instance) {
+      Preconditions.checkNotNull(instance);
+      setSourcePath(instance.getSourcePath());
+      addAllFlags(instance.getFlags());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSourceWithFlags#getSourcePath() sourcePath}.
+     * @param sourcePath value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePath(SourcePath sourcePath) {
+      this.sourcePath = Preconditions.checkNotNull(sourcePath);
+      initializedBitset |= INITIALIZED_BIT_SOURCE_PATH;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractSourceWithFlags#getFlags() flags} list.
+     * @param element flags element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFlags(String element) {
+      flagsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractSourceWithFlags#getFlags() flags} list.
+     * @param elements array of flags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addFlags(String... elements) {
+      flagsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractSourceWithFlags#getFlags() flags} list.
+     * @param elements iterable of flags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFlags(Iterable<String> elements) {
+      flagsBuilder = ImmutableList.builder();
+      return addAllFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractSourceWithFlags#getFlags() flags} list.
+     * @param elements iterable of flags elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllFlags(Iterable<String> elements) {
+      flagsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.SourceWithFlags SourceWithFlags}.
+     * @return immutable instance of SourceWithFlags
+     */
+    public SourceWithFlags build() {
+      checkRequiredAttributes();
+      return new SourceWithFlags(null, sourcePath, flagsBuilder.build());
+    }
+
+    private boolean sourcePathIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SOURCE_PATH) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!sourcePathIsSet()) {
+        attributes.add("sourcePath");
+      }
+      return "Cannot build SourceWithFlags, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,465 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildConfigFields}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code BuildConfigFields.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code BuildConfigFields.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildConfigFields"})
+@Immutable
+public final class BuildConfigFields extends AbstractBuildConfigFields {
+  private final ImmutableMap<String, com.facebook.buck.rules.coercer.BuildConfigFields.Field> nameToField;
+
+  private BuildConfigFields(
+      Map<String, ? extends com.facebook.buck.rules.coercer.BuildConfigFields.Field> nameToField) {
+    this.nameToField = ImmutableMap.copyOf(nameToField);
+  }
+
+  private BuildConfigFields(
+      BuildConfigFields original,
+      ImmutableMap<String, com.facebook.buck.rules.coercer.BuildConfigFields.Field> nameToField) {
+    this.nameToField = nameToField;
+  }
+
+  /**
+   * @return value of {@code nameToField} attribute
+   */
+  @Override
+  public ImmutableMap<String, com.facebook.buck.rules.coercer.BuildConfigFields.Field> getNameToField() {
+    return nameToField;
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractBuildConfigFields#getNameToField() nameToField} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to nameToField map
+   * @return modified copy of {@code this} object
+   */
+  public final BuildConfigFields withNameToField(Map<String, ? extends com.facebook.buck.rules.coercer.BuildConfigFields.Field> entries) {
+    if (this.nameToField == entries) {
+      return this;
+    }
+    ImmutableMap<String, com.facebook.buck.rules.coercer.BuildConfigFields.Field> newValue = ImmutableMap.copyOf(entries);
+    return new BuildConfigFields(this, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code BuildConfigFields} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof BuildConfigFields && equalTo((BuildConfigFields) another));
+  }
+
+  private boolean equalTo(BuildConfigFields another) {
+    return nameToField.equals(another.nameToField);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code nameToField}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + nameToField.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code BuildConfigFields} instance.
+   * @param nameToField value for {@code nameToField}
+   * @return immutable BuildConfigFields instance
+   */
+  public static com.facebook.buck.rules.coercer.BuildConfigFields of(Map<String, ? extends com.facebook.buck.rules.coercer.BuildConfigFields.Field> nameToField) {
+    return new BuildConfigFields(nameToField);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractBuildConfigFields}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable BuildConfigFields instance
+   */
+  public static BuildConfigFields copyOf(AbstractBuildConfigFields instance) {
+    if (instance instanceof BuildConfigFields) {
+      return (BuildConfigFields) instance;
+    }
+    return BuildConfigFields.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.coercer.BuildConfigFields BuildConfigFields}.
+   * @return new BuildConfigFields builder
+   */
+  public static BuildConfigFields.Builder builder() {
+    return new BuildConfigFields.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.coercer.BuildConfigFields BuildConfigFields}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<String, com.facebook.buck.rules.coercer.BuildConfigFields.Field> nameToFieldBuilder = ImmutableMap.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractBuildConfigFields} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractBuildConfigFields instance) {
+      Preconditions.checkNotNull(instance);
+      putAllNameToField(instance.getNameToField());
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractBuildConfigFields#getNameToField() nameToField} map.
+     * @param key the key in nameToField map
+     * @param value the associated value in nameToField map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putNameToField(String key, com.facebook.buck.rules.coercer.BuildConfigFields.Field value) {
+      nameToFieldBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractBuildConfigFields#getNameToField() nameToField} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putNameToField(Map.Entry<String, ? extends com.facebook.buck.rules.coercer.BuildConfigFields.Field> entry) {
+      nameToFieldBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractBuildConfigFields#getNameToField() nameToField} map. Nulls are not permitted
+     * @param entries to be added to nameToField map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNameToField(Map<String, ? extends com.facebook.buck.rules.coercer.BuildConfigFields.Field> entries) {
+      nameToFieldBuilder = ImmutableMap.builder();
+      return putAllNameToField(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractBuildConfigFields#getNameToField() nameToField} map. Nulls are not permitted
+     * @param entries to be added to nameToField map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllNameToField(Map<String, ? extends com.facebook.buck.rules.coercer.BuildConfigFields.Field> entries) {
+      nameToFieldBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.coercer.BuildConfigFields BuildConfigFields}.
+     * @return immutable instance of BuildConfigFields
+     */
+    public BuildConfigFields build() {
+      return new BuildConfigFields(null, nameToFieldBuilder.build());
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractBuildConfigFields.AbstractField}.
+   * <p>
+   * Use builder to create immutable instances:
+   * {@code BuildConfigFields.Field.builder()}.
+   * Use static factory method to create immutable instances:
+   * {@code BuildConfigFields.Field.of()}.
+   */
+  @Immutable
+  public static final class Field extends AbstractBuildConfigFields.AbstractField {
+    private final String type;
+    private final String name;
+    private final String value;
+
+    private Field(String type, String name, String value) {
+      this.type = Preconditions.checkNotNull(type);
+      this.name = Preconditions.checkNotNull(name);
+      this.value = Preconditions.checkNotNull(value);
+    }
+
+    private Field(Field original, String type, String name, String value) {
+      this.type = type;
+      this.name = name;
+      this.value = value;
+    }
+
+    /**
+     * @return value of {@code type} attribute
+     */
+    @Override
+    public String getType() {
+      return type;
+    }
+
+    /**
+     * @return value of {@code name} attribute
+     */
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * @return value of {@code value} attribute
+     */
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Copy current immutable object by setting value for {@link AbstractBuildConfigFields.AbstractField#getType() type}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value new value for type
+     * @return modified copy of the {@code this} object
+     */
+    public final Field withType(String value) {
+      if (this.type == value) {
+        return this;
+      }
+      String newValue = Preconditions.checkNotNull(value);
+      return new Field(this, newValue, this.name, this.value);
+    }
+
+    /**
+     * Copy current immutable object by setting value for {@link AbstractBuildConfigFields.AbstractField#getName() name}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value new value for name
+     * @return modified copy of the {@code this} object
+     */
+    public final Field withName(String value) {
+      if (this.name == value) {
+        return this;
+      }
+      String newValue = Preconditions.checkNotNull(value);
+      return new Field(this, this.type, newValue, this.value);
+    }
+
+    /**
+     * Copy current immutable object by setting value for {@link AbstractBuildConfigFields.AbstractField#getValue() value}.
+     * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+     * @param value new value for value
+     * @return modified copy of the {@code this} object
+     */
+    public final Field withValue(String value) {
+      if (this.value == value) {
+        return this;
+      }
+      String newValue = Preconditions.checkNotNull(value);
+      return new Field(this, this.type, this.name, newValue);
+    }
+
+    /**
+     * This instance is equal to instances of {@code Field} with equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      return this == another
+          || (another instanceof Field && equalTo((Field) another));
+    }
+
+    private boolean equalTo(Field another) {
+      return type.equals(another.type)
+          && name.equals(another.name)
+          && value.equals(another.value);
+    }
+
+    /**
+     * Computes hash code from attributes: {@code type}, {@code name}, {@code value}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 31;
+      h = h * 17 + type.hashCode();
+      h = h * 17 + name.hashCode();
+      h = h * 17 + value.hashCode();
+      return h;
+    }
+
+    /**
+     * Construct new immutable {@code Field} instance.
+     * @param type value for {@code type}
+     * @param name value for {@code name}
+     * @param value value for {@code value}
+     * @return immutable Field instance
+     */
+    public static com.facebook.buck.rules.coercer.BuildConfigFields.Field of(String type, String name, String value) {
+      return new Field(type, name, value);
+    }
+
+    /**
+     * Creates immutable copy of {@link AbstractBuildConfigFields.AbstractField}.
+     * Uses accessors to get values to initialize immutable instance.
+     * If an instance is already immutable, it is returned as is.
+     * @param instance instance to copy
+     * @return copied immutable Field instance
+     */
+    public static BuildConfigFields.Field copyOf(AbstractBuildConfigFields.AbstractField instance) {
+      if (instance instanceof BuildConfigFields.Field) {
+        return (Field) instance;
+      }
+      return BuildConfigFields.Field.builder()
+          .from(instance)
+          .build();
+    }
+
+    /**
+     * Creates builder for {@link com.facebook.buck.rules.coercer.BuildConfigFields.Field Field}.
+     * @return new Field builder
+     */
+    public static BuildConfigFields.Field.Builder builder() {
+      return new BuildConfigFields.Field.Builder();
+    }
+
+    /**
+     * Builds instances of {@link com.facebook.buck.rules.coercer.BuildConfigFields.Field Field}.
+     * Initialize attributes and then invoke {@link #build()} method to create
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+     * but used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private static final long INITIALIZED_BITSET_ALL = 0x7;
+      private static final long INITIALIZED_BIT_TYPE = 0x1L;
+      private static final long INITIALIZED_BIT_NAME = 0x2L;
+      private static final long INITIALIZED_BIT_VALUE = 0x4L;
+      private long initializedBitset;
+      private @Nullable String type;
+      private @Nullable String name;
+      private @Nullable String value;
+
+      private Builder() {}
+
+      /**
+       * Fill builder with attribute values from provided {@link AbstractBuildConfigFields.AbstractField} instance.
+       * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+       * Instance's absent optional values will not be copied (will not override current).
+       * Collection elements and entries will be added, not replaced.
+       * @param instance instance to copy values from
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder from(AbstractBuildConfigFields.AbstractField instance) {
+        Preconditions.checkNotNull(instance);
+        setType(instance.getType());
+        setName(instance.getName());
+        setValue(instance.getValue());
+        return this;
+      }
+
+      /**
+       * Initializes value for {@link AbstractBuildConfigFields.AbstractField#getType() type}.
+       * @param type value for type
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setType(String type) {
+        this.type = Preconditions.checkNotNull(type);
+        initializedBitset |= INITIALIZED_BIT_TYPE;
+        return this;
+      }
+
+      /**
+       * Initializes value for {@link AbstractBuildConfigFields.AbstractField#getName() name}.
+       * @param name value for name
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setName(String name) {
+        this.name = Preconditions.checkNotNull(name);
+        initializedBitset |= INITIALIZED_BIT_NAME;
+        return this;
+      }
+
+      /**
+       * Initializes value for {@link AbstractBuildConfigFields.AbstractField#getValue() value}.
+       * @param value value for value
+       * @return {@code this} builder for chained invocation
+       */
+      public final Builder setValue(String value) {
+        this.value = Preconditions.checkNotNull(value);
+        initializedBitset |= INITIALIZED_BIT_VALUE;
+        return this;
+      }
+
+      /**
+       * Builds new {@link com.facebook.buck.rules.coercer.BuildConfigFields.Field Field}.
+       * @return immutable instance of Field
+       */
+      public com.facebook.buck.rules.coercer.BuildConfigFields.Field build() {
+        checkRequiredAttributes();
+        return new BuildConfigFields.Field(null, type, name, value);
+      }
+
+      private boolean typeIsSet() {
+        return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+      }
+
+      private boolean nameIsSet() {
+        return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+      }
+
+      private boolean valueIsSet() {
+        return (initializedBitset & INITIALIZED_BIT_VALUE) != 0;
+      }
+
+      private void checkRequiredAttributes() {
+        if (initializedBitset != INITIALIZED_BITSET_ALL) {
+          throw new IllegalStateException(formatRequiredAttributesMessage());
+        }
+      }
+
+      private String formatRequiredAttributesMessage() {
+        Collection<String> attributes = Lists.newArrayList();
+        if (!typeIsSet()) {
+          attributes.add("type");
+        }
+        if (!nameIsSet()) {
+          attributes.add("name");
+        }
+        if (!valueIsSet()) {
+          attributes.add("value");
+        }
+        return "Cannot build Field, some of required attributes are not set " + attributes;
+      }
+    }
+  }
+}
@@ -0,0 +1,339 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.apple.xcode.xcodeproj.SourceTreePath;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractFrameworkPath}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code FrameworkPath.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code FrameworkPath.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFrameworkPath"})
+@Immutable
+public final class FrameworkPath extends AbstractFrameworkPath {
+  private final AbstractFrameworkPath.Type type;
+  private final Optional<SourceTreePath> sourceTreePath;
+  private final Optional<SourcePath> sourcePath;
+
+  private FrameworkPath(
+      AbstractFrameworkPath.Type type,
+      Optional<SourceTreePath> sourceTreePath,
+      Optional<SourcePath> sourcePath) {
+    this.type = Preconditions.checkNotNull(type);
+    this.sourceTreePath = Preconditions.checkNotNull(sourceTreePath);
+    this.sourcePath = Preconditions.checkNotNull(sourcePath);
+  }
+
+  private FrameworkPath(
+      FrameworkPath original,
+      AbstractFrameworkPath.Type type,
+      Optional<SourceTreePath> sourceTreePath,
+      Optional<SourcePath> sourcePath) {
+    this.type = type;
+    this.sourceTreePath = sourceTreePath;
+    this.sourcePath = sourcePath;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public AbstractFrameworkPath.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code sourceTreePath} attribute
+   */
+  @Override
+  public Optional<SourceTreePath> getSourceTreePath() {
+    return sourceTreePath;
+  }
+
+  /**
+   * @return value of {@code sourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourcePath() {
+    return sourcePath;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractFrameworkPath#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final FrameworkPath withType(AbstractFrameworkPath.Type value) {
+    if (this.type == value) {
+      return this;
+    }
+    AbstractFrameworkPath.Type newValue = Preconditions.checkNotNull(value);
+    return validate(new FrameworkPath(this, newValue, this.sourceTreePath, this.sourcePath));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractFrameworkPath#getSourceTreePath() sourceTreePath}.
+   * @param value value for sourceTreePath
+   * @return modified copy of {@code this} object
+   */
+  public final FrameworkPath withSourceTreePath(SourceTreePath value) {
+    Optional<SourceTreePath> newValue = Optional.of(value);
+    return validate(new FrameworkPath(this, this.type, newValue, this.sourcePath));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractFrameworkPath#getSourceTreePath() sourceTreePath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for sourceTreePath
+   * @return modified copy of {@code this} object
+   */
+  public final FrameworkPath withSourceTreePath(Optional<SourceTreePath> optional) {
+    if (this.sourceTreePath == optional) {
+      return this;
+    }
+    Optional<SourceTreePath> newValue = Preconditions.checkNotNull(optional);
+    return validate(new FrameworkPath(this, this.type, newValue, this.sourcePath));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractFrameworkPath#getSourcePath() sourcePath}.
+   * @param value value for sourcePath
+   * @return modified copy of {@code this} object
+   */
+  public final FrameworkPath withSourcePath(SourcePath value) {
+    Optional<SourcePath> newValue = Optional.of(value);
+    return validate(new FrameworkPath(this, this.type, this.sourceTreePath, newValue));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractFrameworkPath#getSourcePath() sourcePath}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for sourcePath
+   * @return modified copy of {@code this} object
+   */
+  public final FrameworkPath withSourcePath(Optional<SourcePath> optional) {
+    if (this.sourcePath == optional) {
+      return this;
+    }
+    Optional<SourcePath> newValue = Preconditions.checkNotNull(optional);
+    return validate(new FrameworkPath(this, this.type, this.sourceTreePath, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code FrameworkPath} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof FrameworkPath && equalTo((FrameworkPath) another));
+  }
+
+  private boolean equalTo(FrameworkPath another) {
+    return type.equals(another.type)
+        && sourceTreePath.equals(another.sourceTreePath)
+        && sourcePath.equals(another.sourcePath);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code sourceTreePath}, {@code sourcePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + sourceTreePath.hashCode();
+    h = h * 17 + sourcePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code FrameworkPath{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FrameworkPath")
+        .add("type", type)
+        .add("sourceTreePath", sourceTreePath)
+        .add("sourcePath", sourcePath)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code FrameworkPath} instance.
+   * @param type value for {@code type}
+   * @param sourceTreePath value for {@code sourceTreePath}
+   * @param sourcePath value for {@code sourcePath}
+   * @return immutable FrameworkPath instance
+   */
+  public static com.facebook.buck.rules.coercer.FrameworkPath of(AbstractFrameworkPath.Type type, Optional<SourceTreePath> sourceTreePath, Optional<SourcePath> sourcePath) {
+    return validate(new FrameworkPath(type, sourceTreePath, sourcePath));
+  }
+
+  private static FrameworkPath validate(FrameworkPath instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractFrameworkPath}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable FrameworkPath instance
+   */
+  public static FrameworkPath copyOf(AbstractFrameworkPath instance) {
+    if (instance instanceof FrameworkPath) {
+      return (FrameworkPath) instance;
+    }
+    return FrameworkPath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.coercer.FrameworkPath FrameworkPath}.
+   * @return new FrameworkPath builder
+   */
+  public static FrameworkPath.Builder builder() {
+    return new FrameworkPath.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.coercer.FrameworkPath FrameworkPath}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private long initializedBitset;
+    private @Nullable AbstractFrameworkPath.Type type;
+    private Optional<SourceTreePath> sourceTreePath = Optional.absent();
+    private Optional<SourcePath> sourcePath = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractFrameworkPath} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractFrameworkPath instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      Optional<SourceTreePath> sourceTreePathOptional = instance.getSourceTreePath();
+      if (sourceTreePathOptional.isPresent()) {
+        setSourceTreePath(sourceTreePathOptional);
+      }
+      Optional<SourcePath> sourcePathOptional = instance.getSourcePath();
+      if (sourcePathOptional.isPresent()) {
+        setSourcePath(sourcePathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractFrameworkPath#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(AbstractFrameworkPath.Type type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractFrameworkPath#getSourceTreePath() sourceTreePath}.
+     * @param sourceTreePath value for sourceTreePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceTreePath(SourceTreePath sourceTreePath) {
+      this.sourceTreePath = Optional.of(sourceTreePath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractFrameworkPath#getSourceTreePath() sourceTreePath}.
+     * @param sourceTreePath value for sourceTreePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceTreePath(Optional<SourceTreePath> sourceTreePath) {
+      this.sourceTreePath = Preconditions.checkNotNull(sourceTreePath);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractFrameworkPath#getSourcePath() sourcePath}.
+     * @param sourcePath value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePath(SourcePath sourcePath) {
+      this.sourcePath = Optional.of(sourcePath);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractFrameworkPath#getSourcePath() sourcePath}.
+     * @param sourcePath value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePath(Optional<SourcePath> sourcePath) {
+      this.sourcePath = Preconditions.checkNotNull(sourcePath);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.coercer.FrameworkPath FrameworkPath}.
+     * @return immutable instance of FrameworkPath
+     */
+    public FrameworkPath build() {
+      checkRequiredAttributes();
+      return FrameworkPath.validate(new FrameworkPath(null, type, sourceTreePath, sourcePath));
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      return "Cannot build FrameworkPath, some of required attributes are not set " + attributes;
+    }
+  }
+}
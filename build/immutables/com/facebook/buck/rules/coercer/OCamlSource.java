@@ -0,0 +1,247 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractOCamlSource}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code OCamlSource.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code OCamlSource.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractOCamlSource"})
+@Immutable
+public final class OCamlSource extends AbstractOCamlSource {
+  private final String name;
+  private final SourcePath source;
+
+  private OCamlSource(String name, SourcePath source) {
+    this.name = Preconditions.checkNotNull(name);
+    this.source = Preconditions.checkNotNull(source);
+  }
+
+  private OCamlSource(OCamlSource original, String name, SourcePath source) {
+    this.name = name;
+    this.source = source;
+  }
+
+  /**
+   * @return value of {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return value of {@code source} attribute
+   */
+  @Override
+  public SourcePath getSource() {
+    return source;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlSource#getName() name}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for name
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlSource withName(String value) {
+    if (this.name == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new OCamlSource(this, newValue, this.source);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractOCamlSource#getSource() source}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for source
+   * @return modified copy of the {@code this} object
+   */
+  public final OCamlSource withSource(SourcePath value) {
+    if (this.source == value) {
+      return this;
+    }
+    SourcePath newValue = Preconditions.checkNotNull(value);
+    return new OCamlSource(this, this.name, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code OCamlSource} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof OCamlSource && equalTo((OCamlSource) another));
+  }
+
+  private boolean equalTo(OCamlSource another) {
+    return name.equals(another.name)
+        && source.equals(another.source);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code name}, {@code source}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + source.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code OCamlSource{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OCamlSource")
+        .add("name", name)
+        .add("source", source)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code OCamlSource} instance.
+   * @param name value for {@code name}
+   * @param source value for {@code source}
+   * @return immutable OCamlSource instance
+   */
+  public static com.facebook.buck.rules.coercer.OCamlSource of(String name, SourcePath source) {
+    return new OCamlSource(name, source);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractOCamlSource}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable OCamlSource instance
+   */
+  public static OCamlSource copyOf(AbstractOCamlSource instance) {
+    if (instance instanceof OCamlSource) {
+      return (OCamlSource) instance;
+    }
+    return OCamlSource.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.coercer.OCamlSource OCamlSource}.
+   * @return new OCamlSource builder
+   */
+  public static OCamlSource.Builder builder() {
+    return new OCamlSource.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.coercer.OCamlSource OCamlSource}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_NAME = 0x1L;
+    private static final long INITIALIZED_BIT_SOURCE = 0x2L;
+    private long initializedBitset;
+    private @Nullable String name;
+    private @Nullable SourcePath source;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractOCamlSource} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractOCamlSource instance) {
+      Preconditions.checkNotNull(instance);
+      setName(instance.getName());
+      setSource(instance.getSource());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlSource#getName() name}.
+     * @param name value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name);
+      initializedBitset |= INITIALIZED_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractOCamlSource#getSource() source}.
+     * @param source value for source
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSource(SourcePath source) {
+      this.source = Preconditions.checkNotNull(source);
+      initializedBitset |= INITIALIZED_BIT_SOURCE;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.coercer.OCamlSource OCamlSource}.
+     * @return immutable instance of OCamlSource
+     */
+    public OCamlSource build() {
+      checkRequiredAttributes();
+      return new OCamlSource(null, name, source);
+    }
+
+    private boolean nameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NAME) != 0;
+    }
+
+    private boolean sourceIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SOURCE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!nameIsSet()) {
+        attributes.add("name");
+      }
+      if (!sourceIsSet()) {
+        attributes.add("source");
+      }
+      return "Cannot build OCamlSource, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,340 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSourceList}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code SourceList.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code SourceList.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSourceList"})
+@Immutable
+public final class SourceList extends AbstractSourceList {
+  private final AbstractSourceList.Type type;
+  private final Optional<ImmutableSortedSet<SourcePath>> unnamedSources;
+  private final Optional<ImmutableSortedMap<String, SourcePath>> namedSources;
+
+  private SourceList(
+      AbstractSourceList.Type type,
+      Optional<ImmutableSortedSet<SourcePath>> unnamedSources,
+      Optional<ImmutableSortedMap<String, SourcePath>> namedSources) {
+    this.type = Preconditions.checkNotNull(type);
+    this.unnamedSources = Preconditions.checkNotNull(unnamedSources);
+    this.namedSources = Preconditions.checkNotNull(namedSources);
+  }
+
+  private SourceList(
+      SourceList original,
+      AbstractSourceList.Type type,
+      Optional<ImmutableSortedSet<SourcePath>> unnamedSources,
+      Optional<ImmutableSortedMap<String, SourcePath>> namedSources) {
+    this.type = type;
+    this.unnamedSources = unnamedSources;
+    this.namedSources = namedSources;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public AbstractSourceList.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code unnamedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourcePath>> getUnnamedSources() {
+    return unnamedSources;
+  }
+
+  /**
+   * @return value of {@code namedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, SourcePath>> getNamedSources() {
+    return namedSources;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSourceList#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final SourceList withType(AbstractSourceList.Type value) {
+    if (this.type == value) {
+      return this;
+    }
+    AbstractSourceList.Type newValue = Preconditions.checkNotNull(value);
+    return validate(new SourceList(this, newValue, this.unnamedSources, this.namedSources));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractSourceList#getUnnamedSources() unnamedSources}.
+   * @param value value for unnamedSources
+   * @return modified copy of {@code this} object
+   */
+  public final SourceList withUnnamedSources(ImmutableSortedSet<SourcePath> value) {
+    Optional<ImmutableSortedSet<SourcePath>> newValue = Optional.of(value);
+    return validate(new SourceList(this, this.type, newValue, this.namedSources));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractSourceList#getUnnamedSources() unnamedSources}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for unnamedSources
+   * @return modified copy of {@code this} object
+   */
+  public final SourceList withUnnamedSources(Optional<ImmutableSortedSet<SourcePath>> optional) {
+    if (this.unnamedSources == optional) {
+      return this;
+    }
+    Optional<ImmutableSortedSet<SourcePath>> newValue = Preconditions.checkNotNull(optional);
+    return validate(new SourceList(this, this.type, newValue, this.namedSources));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractSourceList#getNamedSources() namedSources}.
+   * @param value value for namedSources
+   * @return modified copy of {@code this} object
+   */
+  public final SourceList withNamedSources(ImmutableSortedMap<String, SourcePath> value) {
+    Optional<ImmutableSortedMap<String, SourcePath>> newValue = Optional.of(value);
+    return validate(new SourceList(this, this.type, this.unnamedSources, newValue));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractSourceList#getNamedSources() namedSources}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for namedSources
+   * @return modified copy of {@code this} object
+   */
+  public final SourceList withNamedSources(Optional<ImmutableSortedMap<String, SourcePath>> optional) {
+    if (this.namedSources == optional) {
+      return this;
+    }
+    Optional<ImmutableSortedMap<String, SourcePath>> newValue = Preconditions.checkNotNull(optional);
+    return validate(new SourceList(this, this.type, this.unnamedSources, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code SourceList} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof SourceList && equalTo((SourceList) another));
+  }
+
+  private boolean equalTo(SourceList another) {
+    return type.equals(another.type)
+        && unnamedSources.equals(another.unnamedSources)
+        && namedSources.equals(another.namedSources);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code unnamedSources}, {@code namedSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + unnamedSources.hashCode();
+    h = h * 17 + namedSources.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code SourceList{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceList")
+        .add("type", type)
+        .add("unnamedSources", unnamedSources)
+        .add("namedSources", namedSources)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code SourceList} instance.
+   * @param type value for {@code type}
+   * @param unnamedSources value for {@code unnamedSources}
+   * @param namedSources value for {@code namedSources}
+   * @return immutable SourceList instance
+   */
+  public static com.facebook.buck.rules.coercer.SourceList of(AbstractSourceList.Type type, Optional<ImmutableSortedSet<SourcePath>> unnamedSources, Optional<ImmutableSortedMap<String, SourcePath>> namedSources) {
+    return validate(new SourceList(type, unnamedSources, namedSources));
+  }
+
+  private static SourceList validate(SourceList instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractSourceList}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable SourceList instance
+   */
+  public static SourceList copyOf(AbstractSourceList instance) {
+    if (instance instanceof SourceList) {
+      return (SourceList) instance;
+    }
+    return SourceList.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.coercer.SourceList SourceList}.
+   * @return new SourceList builder
+   */
+  public static SourceList.Builder builder() {
+    return new SourceList.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.coercer.SourceList SourceList}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private long initializedBitset;
+    private @Nullable AbstractSourceList.Type type;
+    private Optional<ImmutableSortedSet<SourcePath>> unnamedSources = Optional.absent();
+    private Optional<ImmutableSortedMap<String, SourcePath>> namedSources = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractSourceList} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractSourceList instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      Optional<ImmutableSortedSet<SourcePath>> unnamedSourcesOptional = instance.getUnnamedSources();
+      if (unnamedSourcesOptional.isPresent()) {
+        setUnnamedSources(unnamedSourcesOptional);
+      }
+      Optional<ImmutableSortedMap<String, SourcePath>> namedSourcesOptional = instance.getNamedSources();
+      if (namedSourcesOptional.isPresent()) {
+        setNamedSources(namedSourcesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSourceList#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(AbstractSourceList.Type type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractSourceList#getUnnamedSources() unnamedSources}.
+     * @param unnamedSources value for unnamedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUnnamedSources(ImmutableSortedSet<SourcePath> unnamedSources) {
+      this.unnamedSources = Optional.of(unnamedSources);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractSourceList#getUnnamedSources() unnamedSources}.
+     * @param unnamedSources value for unnamedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUnnamedSources(Optional<ImmutableSortedSet<SourcePath>> unnamedSources) {
+      this.unnamedSources = Preconditions.checkNotNull(unnamedSources);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractSourceList#getNamedSources() namedSources}.
+     * @param namedSources value for namedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNamedSources(ImmutableSortedMap<String, SourcePath> namedSources) {
+      this.namedSources = Optional.of(namedSources);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractSourceList#getNamedSources() namedSources}.
+     * @param namedSources value for namedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNamedSources(Optional<ImmutableSortedMap<String, SourcePath>> namedSources) {
+      this.namedSources = Preconditions.checkNotNull(namedSources);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.coercer.SourceList SourceList}.
+     * @return immutable instance of SourceList
+     */
+    public SourceList build() {
+      checkRequiredAttributes();
+      return SourceList.validate(new SourceList(null, type, unnamedSources, namedSources));
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      return "Cannot build SourceList, some of required attributes are not set " + attributes;
+    }
+  }
+}
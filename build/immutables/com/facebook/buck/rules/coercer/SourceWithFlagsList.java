@@ -0,0 +1,340 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.rules.SourceWithFlags;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSourceWithFlagsList}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code SourceWithFlagsList.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code SourceWithFlagsList.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSourceWithFlagsList"})
+@Immutable
+public final class SourceWithFlagsList extends AbstractSourceWithFlagsList {
+  private final AbstractSourceWithFlagsList.Type type;
+  private final Optional<ImmutableSortedSet<SourceWithFlags>> unnamedSources;
+  private final Optional<ImmutableSortedMap<String, SourceWithFlags>> namedSources;
+
+  private SourceWithFlagsList(
+      AbstractSourceWithFlagsList.Type type,
+      Optional<ImmutableSortedSet<SourceWithFlags>> unnamedSources,
+      Optional<ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+    this.type = Preconditions.checkNotNull(type);
+    this.unnamedSources = Preconditions.checkNotNull(unnamedSources);
+    this.namedSources = Preconditions.checkNotNull(namedSources);
+  }
+
+  private SourceWithFlagsList(
+      SourceWithFlagsList original,
+      AbstractSourceWithFlagsList.Type type,
+      Optional<ImmutableSortedSet<SourceWithFlags>> unnamedSources,
+      Optional<ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+    this.type = type;
+    this.unnamedSources = unnamedSources;
+    this.namedSources = namedSources;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public AbstractSourceWithFlagsList.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code unnamedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourceWithFlags>> getUnnamedSources() {
+    return unnamedSources;
+  }
+
+  /**
+   * @return value of {@code namedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, SourceWithFlags>> getNamedSources() {
+    return namedSources;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSourceWithFlagsList#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final SourceWithFlagsList withType(AbstractSourceWithFlagsList.Type value) {
+    if (this.type == value) {
+      return this;
+    }
+    AbstractSourceWithFlagsList.Type newValue = Preconditions.checkNotNull(value);
+    return validate(new SourceWithFlagsList(this, newValue, this.unnamedSources, this.namedSources));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractSourceWithFlagsList#getUnnamedSources() unnamedSources}.
+   * @param value value for unnamedSources
+   * @return modified copy of {@code this} object
+   */
+  public final SourceWithFlagsList withUnnamedSources(ImmutableSortedSet<SourceWithFlags> value) {
+    Optional<ImmutableSortedSet<SourceWithFlags>> newValue = Optional.of(value);
+    return validate(new SourceWithFlagsList(this, this.type, newValue, this.namedSources));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractSourceWithFlagsList#getUnnamedSources() unnamedSources}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for unnamedSources
+   * @return modified copy of {@code this} object
+   */
+  public final SourceWithFlagsList withUnnamedSources(Optional<ImmutableSortedSet<SourceWithFlags>> optional) {
+    if (this.unnamedSources == optional) {
+      return this;
+    }
+    Optional<ImmutableSortedSet<SourceWithFlags>> newValue = Preconditions.checkNotNull(optional);
+    return validate(new SourceWithFlagsList(this, this.type, newValue, this.namedSources));
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractSourceWithFlagsList#getNamedSources() namedSources}.
+   * @param value value for namedSources
+   * @return modified copy of {@code this} object
+   */
+  public final SourceWithFlagsList withNamedSources(ImmutableSortedMap<String, SourceWithFlags> value) {
+    Optional<ImmutableSortedMap<String, SourceWithFlags>> newValue = Optional.of(value);
+    return validate(new SourceWithFlagsList(this, this.type, this.unnamedSources, newValue));
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractSourceWithFlagsList#getNamedSources() namedSources}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for namedSources
+   * @return modified copy of {@code this} object
+   */
+  public final SourceWithFlagsList withNamedSources(Optional<ImmutableSortedMap<String, SourceWithFlags>> optional) {
+    if (this.namedSources == optional) {
+      return this;
+    }
+    Optional<ImmutableSortedMap<String, SourceWithFlags>> newValue = Preconditions.checkNotNull(optional);
+    return validate(new SourceWithFlagsList(this, this.type, this.unnamedSources, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code SourceWithFlagsList} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof SourceWithFlagsList && equalTo((SourceWithFlagsList) another));
+  }
+
+  private boolean equalTo(SourceWithFlagsList another) {
+    return type.equals(another.type)
+        && unnamedSources.equals(another.unnamedSources)
+        && namedSources.equals(another.namedSources);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code unnamedSources}, {@code namedSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + unnamedSources.hashCode();
+    h = h * 17 + namedSources.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code SourceWithFlagsList{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceWithFlagsList")
+        .add("type", type)
+        .add("unnamedSources", unnamedSources)
+        .add("namedSources", namedSources)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code SourceWithFlagsList} instance.
+   * @param type value for {@code type}
+   * @param unnamedSources value for {@code unnamedSources}
+   * @param namedSources value for {@code namedSources}
+   * @return immutable SourceWithFlagsList instance
+   */
+  public static com.facebook.buck.rules.coercer.SourceWithFlagsList of(AbstractSourceWithFlagsList.Type type, Optional<ImmutableSortedSet<SourceWithFlags>> unnamedSources, Optional<ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+    return validate(new SourceWithFlagsList(type, unnamedSources, namedSources));
+  }
+
+  private static SourceWithFlagsList validate(SourceWithFlagsList instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractSourceWithFlagsList}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable SourceWithFlagsList instance
+   */
+  public static SourceWithFlagsList copyOf(AbstractSourceWithFlagsList instance) {
+    if (instance instanceof SourceWithFlagsList) {
+      return (SourceWithFlagsList) instance;
+    }
+    return SourceWithFlagsList.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.coercer.SourceWithFlagsList SourceWithFlagsList}.
+   * @return new SourceWithFlagsList builder
+   */
+  public static SourceWithFlagsList.Builder builder() {
+    return new SourceWithFlagsList.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.coercer.SourceWithFlagsList SourceWithFlagsList}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private long initializedBitset;
+    private @Nullable AbstractSourceWithFlagsList.Type type;
+    private Optional<ImmutableSortedSet<SourceWithFlags>> unnamedSources = Optional.absent();
+    private Optional<ImmutableSortedMap<String, SourceWithFlags>> namedSources = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractSourceWithFlagsList} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractSourceWithFlagsList instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      Optional<ImmutableSortedSet<SourceWithFlags>> unnamedSourcesOptional = instance.getUnnamedSources();
+      if (unnamedSourcesOptional.isPresent()) {
+        setUnnamedSources(unnamedSourcesOptional);
+      }
+      Optional<ImmutableSortedMap<String, SourceWithFlags>> namedSourcesOptional = instance.getNamedSources();
+      if (namedSourcesOptional.isPresent()) {
+        setNamedSources(namedSourcesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSourceWithFlagsList#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(AbstractSourceWithFlagsList.Type type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractSourceWithFlagsList#getUnnamedSources() unnamedSources}.
+     * @param unnamedSources value for unnamedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUnnamedSources(ImmutableSortedSet<SourceWithFlags> unnamedSources) {
+      this.unnamedSources = Optional.of(unnamedSources);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractSourceWithFlagsList#getUnnamedSources() unnamedSources}.
+     * @param unnamedSources value for unnamedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUnnamedSources(Optional<ImmutableSortedSet<SourceWithFlags>> unnamedSources) {
+      this.unnamedSources = Preconditions.checkNotNull(unnamedSources);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractSourceWithFlagsList#getNamedSources() namedSources}.
+     * @param namedSources value for namedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNamedSources(ImmutableSortedMap<String, SourceWithFlags> namedSources) {
+      this.namedSources = Optional.of(namedSources);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractSourceWithFlagsList#getNamedSources() namedSources}.
+     * @param namedSources value for namedSources
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNamedSources(Optional<ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+      this.namedSources = Preconditions.checkNotNull(namedSources);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.coercer.SourceWithFlagsList SourceWithFlagsList}.
+     * @return immutable instance of SourceWithFlagsList
+     */
+    public SourceWithFlagsList build() {
+      checkRequiredAttributes();
+      return SourceWithFlagsList.validate(new SourceWithFlagsList(null, type, unnamedSources, namedSources));
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      return "Cannot build SourceWithFlagsList, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.util.hash.HashFunctionType;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDefaultRuleKeyBuilderFactoryOptions}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code DefaultRuleKeyBuilderFactoryOptions.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDefaultRuleKeyBuilderFactoryOptions"})
+@Immutable
+public final class DefaultRuleKeyBuilderFactoryOptions
+    extends AbstractDefaultRuleKeyBuilderFactoryOptions {
+  private final HashFunctionType hashFunctionType;
+  private final Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache;
+
+  private DefaultRuleKeyBuilderFactoryOptions(DefaultRuleKeyBuilderFactoryOptions.Builder builder) {
+    this.daemonicRuleKeyCache = builder.daemonicRuleKeyCache;
+    this.hashFunctionType = builder.hashFunctionType != null
+        ? builder.hashFunctionType
+        : Preconditions.checkNotNull(super.getHashFunctionType());
+  }
+
+  private DefaultRuleKeyBuilderFactoryOptions(
+      HashFunctionType hashFunctionType,
+      Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache) {
+    this.hashFunctionType = hashFunctionType;
+    this.daemonicRuleKeyCache = daemonicRuleKeyCache;
+  }
+
+  /**
+   * @return what rule keys are hashed with.
+   */
+  @Override
+  public HashFunctionType getHashFunctionType() {
+    return hashFunctionType;
+  }
+
+  /**
+   * @return where keys kept from earlier builds are looked up, and where the keys the factory
+   *     computes are kept for later ones.
+   */
+  @Override
+  public Optional<DaemonicRuleKeyCache> getDaemonicRuleKeyCache() {
+    return daemonicRuleKeyCache;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractDefaultRuleKeyBuilderFactoryOptions#getHashFunctionType() hashFunctionType}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for hashFunctionType
+   * @return modified copy of the {@code this} object
+   */
+  public final DefaultRuleKeyBuilderFactoryOptions withHashFunctionType(HashFunctionType value) {
+    if (this.hashFunctionType == value) {
+      return this;
+    }
+    HashFunctionType newValue = Preconditions.checkNotNull(value);
+    return new DefaultRuleKeyBuilderFactoryOptions(newValue, this.daemonicRuleKeyCache);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractDefaultRuleKeyBuilderFactoryOptions#getDaemonicRuleKeyCache() daemonicRuleKeyCache}.
+   * @param value value for daemonicRuleKeyCache
+   * @return modified copy of {@code this} object
+   */
+  public final DefaultRuleKeyBuilderFactoryOptions withDaemonicRuleKeyCache(DaemonicRuleKeyCache value) {
+    Optional<DaemonicRuleKeyCache> newValue = Optional.of(value);
+    return new DefaultRuleKeyBuilderFactoryOptions(this.hashFunctionType, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractDefaultRuleKeyBuilderFactoryOptions#getDaemonicRuleKeyCache() daemonicRuleKeyCache}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for daemonicRuleKeyCache
+   * @return modified copy of {@code this} object
+   */
+  public final DefaultRuleKeyBuilderFactoryOptions withDaemonicRuleKeyCache(Optional<DaemonicRuleKeyCache> optional) {
+    if (this.daemonicRuleKeyCache == optional) {
+      return this;
+    }
+    Optional<DaemonicRuleKeyCache> newValue = Preconditions.checkNotNull(optional);
+    return new DefaultRuleKeyBuilderFactoryOptions(this.hashFunctionType, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code DefaultRuleKeyBuilderFactoryOptions} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof DefaultRuleKeyBuilderFactoryOptions && equalTo((DefaultRuleKeyBuilderFactoryOptions) another));
+  }
+
+  private boolean equalTo(DefaultRuleKeyBuilderFactoryOptions another) {
+    return hashFunctionType.equals(another.hashFunctionType)
+        && daemonicRuleKeyCache.equals(another.daemonicRuleKeyCache);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code hashFunctionType}, {@code daemonicRuleKeyCache}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + hashFunctionType.hashCode();
+    h = h * 17 + daemonicRuleKeyCache.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code DefaultRuleKeyBuilderFactoryOptions{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultRuleKeyBuilderFactoryOptions")
+        .add("hashFunctionType", hashFunctionType)
+        .add("daemonicRuleKeyCache", daemonicRuleKeyCache)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractDefaultRuleKeyBuilderFactoryOptions}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable DefaultRuleKeyBuilderFactoryOptions instance
+   */
+  public static DefaultRuleKeyBuilderFactoryOptions copyOf(AbstractDefaultRuleKeyBuilderFactoryOptions instance) {
+    if (instance instanceof DefaultRuleKeyBuilderFactoryOptions) {
+      return (DefaultRuleKeyBuilderFactoryOptions) instance;
+    }
+    return DefaultRuleKeyBuilderFactoryOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.keys.DefaultRuleKeyBuilderFactoryOptions DefaultRuleKeyBuilderFactoryOptions}.
+   * @return new DefaultRuleKeyBuilderFactoryOptions builder
+   */
+  public static DefaultRuleKeyBuilderFactoryOptions.Builder builder() {
+    return new DefaultRuleKeyBuilderFactoryOptions.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.keys.DefaultRuleKeyBuilderFactoryOptions DefaultRuleKeyBuilderFactoryOptions}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable HashFunctionType hashFunctionType;
+    private Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractDefaultRuleKeyBuilderFactoryOptions} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractDefaultRuleKeyBuilderFactoryOptions instance) {
+      Preconditions.checkNotNull(instance);
+      setHashFunctionType(instance.getHashFunctionType());
+      Optional<DaemonicRuleKeyCache> daemonicRuleKeyCacheOptional = instance.getDaemonicRuleKeyCache();
+      if (daemonicRuleKeyCacheOptional.isPresent()) {
+        setDaemonicRuleKeyCache(daemonicRuleKeyCacheOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractDefaultRuleKeyBuilderFactoryOptions#getHashFunctionType() hashFunctionType}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractDefaultRuleKeyBuilderFactoryOptions#getHashFunctionType() hashFunctionType}.</em>
+     * @param hashFunctionType value for hashFunctionType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHashFunctionType(HashFunctionType hashFunctionType) {
+      this.hashFunctionType = Preconditions.checkNotNull(hashFunctionType);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractDefaultRuleKeyBuilderFactoryOptions#getDaemonicRuleKeyCache() daemonicRuleKeyCache}.
+     * @param daemonicRuleKeyCache value for daemonicRuleKeyCache
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDaemonicRuleKeyCache(DaemonicRuleKeyCache daemonicRuleKeyCache) {
+      this.daemonicRuleKeyCache = Optional.of(daemonicRuleKeyCache);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractDefaultRuleKeyBuilderFactoryOptions#getDaemonicRuleKeyCache() daemonicRuleKeyCache}.
+     * @param daemonicRuleKeyCache value for daemonicRuleKeyCache
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDaemonicRuleKeyCache(Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache) {
+      this.daemonicRuleKeyCache = Preconditions.checkNotNull(daemonicRuleKeyCache);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.keys.DefaultRuleKeyBuilderFactoryOptions DefaultRuleKeyBuilderFactoryOptions}.
+     * @return immutable instance of DefaultRuleKeyBuilderFactoryOptions
+     */
+    public DefaultRuleKeyBuilderFactoryOptions build() {
+      return new DefaultRuleKeyBuilderFactoryOptions(this);
+    }
+  }
+}
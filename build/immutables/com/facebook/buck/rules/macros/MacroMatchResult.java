@@ -0,0 +1,325 @@
+package com.facebook.buck.rules.macros;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractMacroMatchResult}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code MacroMatchResult.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractMacroMatchResult"})
+@Immutable
+public final class MacroMatchResult implements AbstractMacroMatchResult {
+  private final String macroType;
+  private final String macroInput;
+  private final int startIndex;
+  private final int endIndex;
+
+  private MacroMatchResult(String macroType, String macroInput, int startIndex, int endIndex) {
+    this.macroType = macroType;
+    this.macroInput = macroInput;
+    this.startIndex = startIndex;
+    this.endIndex = endIndex;
+  }
+
+  /**
+   * @return value of {@code macroType} attribute
+   */
+  @Override
+  public String getMacroType() {
+    return macroType;
+  }
+
+  /**
+   * @return value of {@code macroInput} attribute
+   */
+  @Override
+  public String getMacroInput() {
+    return macroInput;
+  }
+
+  /**
+   * @return value of {@code startIndex} attribute
+   */
+  @Override
+  public int getStartIndex() {
+    return startIndex;
+  }
+
+  /**
+   * @return value of {@code endIndex} attribute
+   */
+  @Override
+  public int getEndIndex() {
+    return endIndex;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractMacroMatchResult#getMacroType() macroType}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for macroType
+   * @return modified copy of the {@code this} object
+   */
+  public final MacroMatchResult withMacroType(String value) {
+    if (this.macroType == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new MacroMatchResult(newValue, this.macroInput, this.startIndex, this.endIndex);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractMacroMatchResult#getMacroInput() macroInput}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for macroInput
+   * @return modified copy of the {@code this} object
+   */
+  public final MacroMatchResult withMacroInput(String value) {
+    if (this.macroInput == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new MacroMatchResult(this.macroType, newValue, this.startIndex, this.endIndex);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractMacroMatchResult#getStartIndex() startIndex}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for startIndex
+   * @return modified copy of the {@code this} object
+   */
+  public final MacroMatchResult withStartIndex(int value) {
+    if (this.startIndex == value) {
+      return this;
+    }
+    int newValue = value;
+    return new MacroMatchResult(this.macroType, this.macroInput, newValue, this.endIndex);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractMacroMatchResult#getEndIndex() endIndex}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for endIndex
+   * @return modified copy of the {@code this} object
+   */
+  public final MacroMatchResult withEndIndex(int value) {
+    if (this.endIndex == value) {
+      return this;
+    }
+    int newValue = value;
+    return new MacroMatchResult(this.macroType, this.macroInput, this.startIndex, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code MacroMatchResult} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof MacroMatchResult && equalTo((MacroMatchResult) another));
+  }
+
+  private boolean equalTo(MacroMatchResult another) {
+    return macroType.equals(another.macroType)
+        && macroInput.equals(another.macroInput)
+        && startIndex == another.startIndex
+        && endIndex == another.endIndex;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code macroType}, {@code macroInput}, {@code startIndex}, {@code endIndex}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + macroType.hashCode();
+    h = h * 17 + macroInput.hashCode();
+    h = h * 17 + startIndex;
+    h = h * 17 + endIndex;
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code MacroMatchResult{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MacroMatchResult")
+        .add("macroType", macroType)
+        .add("macroInput", macroInput)
+        .add("startIndex", startIndex)
+        .add("endIndex", endIndex)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractMacroMatchResult}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable MacroMatchResult instance
+   */
+  public static MacroMatchResult copyOf(AbstractMacroMatchResult instance) {
+    if (instance instanceof MacroMatchResult) {
+      return (MacroMatchResult) instance;
+    }
+    return MacroMatchResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.rules.macros.MacroMatchResult MacroMatchResult}.
+   * @return new MacroMatchResult builder
+   */
+  public static MacroMatchResult.Builder builder() {
+    return new MacroMatchResult.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.rules.macros.MacroMatchResult MacroMatchResult}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0xf;
+    private static final long INITIALIZED_BIT_MACRO_TYPE = 0x1L;
+    private static final long INITIALIZED_BIT_MACRO_INPUT = 0x2L;
+    private static final long INITIALIZED_BIT_START_INDEX = 0x4L;
+    private static final long INITIALIZED_BIT_END_INDEX = 0x8L;
+    private long initializedBitset;
+    private @Nullable String macroType;
+    private @Nullable String macroInput;
+    private int startIndex;
+    private int endIndex;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractMacroMatchResult} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractMacroMatchResult instance) {
+      Preconditions.checkNotNull(instance);
+      setMacroType(instance.getMacroType());
+      setMacroInput(instance.getMacroInput());
+      setStartIndex(instance.getStartIndex());
+      setEndIndex(instance.getEndIndex());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractMacroMatchResult#getMacroType() macroType}.
+     * @param macroType value for macroType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMacroType(String macroType) {
+      this.macroType = Preconditions.checkNotNull(macroType);
+      initializedBitset |= INITIALIZED_BIT_MACRO_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractMacroMatchResult#getMacroInput() macroInput}.
+     * @param macroInput value for macroInput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMacroInput(String macroInput) {
+      this.macroInput = Preconditions.checkNotNull(macroInput);
+      initializedBitset |= INITIALIZED_BIT_MACRO_INPUT;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractMacroMatchResult#getStartIndex() startIndex}.
+     * @param startIndex value for startIndex
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStartIndex(int startIndex) {
+      this.startIndex = startIndex;
+      initializedBitset |= INITIALIZED_BIT_START_INDEX;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractMacroMatchResult#getEndIndex() endIndex}.
+     * @param endIndex value for endIndex
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEndIndex(int endIndex) {
+      this.endIndex = endIndex;
+      initializedBitset |= INITIALIZED_BIT_END_INDEX;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.rules.macros.MacroMatchResult MacroMatchResult}.
+     * @return immutable instance of MacroMatchResult
+     */
+    public MacroMatchResult build() {
+      checkRequiredAttributes();
+      return new MacroMatchResult(macroType, macroInput, startIndex, endIndex);
+    }
+
+    private boolean macroTypeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_MACRO_TYPE) != 0;
+    }
+
+    private boolean macroInputIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_MACRO_INPUT) != 0;
+    }
+
+    private boolean startIndexIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_START_INDEX) != 0;
+    }
+
+    private boolean endIndexIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_END_INDEX) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!macroTypeIsSet()) {
+        attributes.add("macroType");
+      }
+      if (!macroInputIsSet()) {
+        attributes.add("macroInput");
+      }
+      if (!startIndexIsSet()) {
+        attributes.add("startIndex");
+      }
+      if (!endIndexIsSet()) {
+        attributes.add("endIndex");
+      }
+      return "Cannot build MacroMatchResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package com.facebook.buck.simulate;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSimulateReport}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code SimulateReport.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSimulateReport"})
+@Immutable
+public final class SimulateReport extends AbstractSimulateReport {
+  private final ImmutableList<SingleRunReport> runReports;
+
+  private SimulateReport(ImmutableList<SingleRunReport> runReports) {
+    this.runReports = runReports;
+  }
+
+  /**
+   * @return value of {@code runReports} attribute
+   */
+  @Override
+  public ImmutableList<SingleRunReport> getRunReports() {
+    return runReports;
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractSimulateReport#getRunReports() runReports}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final SimulateReport withRunReports(SingleRunReport... elements) {
+    ImmutableList<SingleRunReport> newValue = ImmutableList.copyOf(elements);
+    return new SimulateReport(newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractSimulateReport#getRunReports() runReports}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of runReports elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final SimulateReport withRunReports(Iterable<? extends SingleRunReport> elements) {
+    if (this.runReports == elements) {
+      return this;
+    }
+    ImmutableList<SingleRunReport> newValue = ImmutableList.copyOf(elements);
+    return new SimulateReport(newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code SimulateReport} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof SimulateReport && equalTo((SimulateReport) another));
+  }
+
+  private boolean equalTo(SimulateReport another) {
+    return runReports.equals(another.runReports);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code runReports}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + runReports.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code SimulateReport{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SimulateReport")
+        .add("runReports", runReports)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractSimulateReport}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable SimulateReport instance
+   */
+  public static SimulateReport copyOf(AbstractSimulateReport instance) {
+    if (instance instanceof SimulateReport) {
+      return (SimulateReport) instance;
+    }
+    return SimulateReport.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.simulate.SimulateReport SimulateReport}.
+   * @return new SimulateReport builder
+   */
+  public static SimulateReport.Builder builder() {
+    return new SimulateReport.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.simulate.SimulateReport SimulateReport}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<SingleRunReport> runReportsBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractSimulateReport} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractSimulateReport instance) {
+      Preconditions.checkNotNull(instance);
+      addAllRunReports(instance.getRunReports());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractSimulateReport#getRunReports() runReports} list.
+     * @param element runReports element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRunReports(SingleRunReport element) {
+      runReportsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractSimulateReport#getRunReports() runReports} list.
+     * @param elements array of runReports elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addRunReports(SingleRunReport... elements) {
+      runReportsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractSimulateReport#getRunReports() runReports} list.
+     * @param elements iterable of runReports elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRunReports(Iterable<? extends SingleRunReport> elements) {
+      runReportsBuilder = ImmutableList.builder();
+      return addAllRunReports(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractSimulateReport#getRunReports() runReports} list.
+     * @param elements iterable of runReports elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllRunReports(Iterable<? extends SingleRunReport> elements) {
+      runReportsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.simulate.SimulateReport SimulateReport}.
+     * @return immutable instance of SimulateReport
+     */
+    public SimulateReport build() {
+      return new SimulateReport(runReportsBuilder.build());
+    }
+  }
+}
@@ -0,0 +1,922 @@
+package com.facebook.buck.simulate;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractSingleRunReport}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code SingleRunReport.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSingleRunReport"})
+@Immutable
+public final class SingleRunReport extends AbstractSingleRunReport {
+  private final long timestampMillis;
+  private final long buildDurationMillis;
+  private final int totalActionGraphNodes;
+  private final int usedActionGraphNodes;
+  private final int totalDependencyDagEdges;
+  private final ImmutableList<String> buildTargets;
+  private final int numberOfThreads;
+  private final BuildSimulator.SchedulingOrder schedulingOrder;
+  private final int actionGraphNodesWithoutSimulateTime;
+  private final String simulateTimesFile;
+  private final String timeAggregate;
+  private final long ruleFallbackTimeMillis;
+
+  private SingleRunReport(
+      long timestampMillis,
+      long buildDurationMillis,
+      int totalActionGraphNodes,
+      int usedActionGraphNodes,
+      int totalDependencyDagEdges,
+      ImmutableList<String> buildTargets,
+      int numberOfThreads,
+      BuildSimulator.SchedulingOrder schedulingOrder,
+      int actionGraphNodesWithoutSimulateTime,
+      String simulateTimesFile,
+      String timeAggregate,
+      long ruleFallbackTimeMillis) {
+    this.timestampMillis = timestampMillis;
+    this.buildDurationMillis = buildDurationMillis;
+    this.totalActionGraphNodes = totalActionGraphNodes;
+    this.usedActionGraphNodes = usedActionGraphNodes;
+    this.totalDependencyDagEdges = totalDependencyDagEdges;
+    this.buildTargets = buildTargets;
+    this.numberOfThreads = numberOfThreads;
+    this.schedulingOrder = schedulingOrder;
+    this.actionGraphNodesWithoutSimulateTime = actionGraphNodesWithoutSimulateTime;
+    this.simulateTimesFile = simulateTimesFile;
+    this.timeAggregate = timeAggregate;
+    this.ruleFallbackTimeMillis = ruleFallbackTimeMillis;
+  }
+
+  /**
+   * @return value of {@code timestampMillis} attribute
+   */
+  @Override
+  public long getTimestampMillis() {
+    return timestampMillis;
+  }
+
+  /**
+   * @return value of {@code buildDurationMillis} attribute
+   */
+  @Override
+  public long getBuildDurationMillis() {
+    return buildDurationMillis;
+  }
+
+  /**
+   * @return value of {@code totalActionGraphNodes} attribute
+   */
+  @Override
+  public int getTotalActionGraphNodes() {
+    return totalActionGraphNodes;
+  }
+
+  /**
+   * @return value of {@code usedActionGraphNodes} attribute
+   */
+  @Override
+  public int getUsedActionGraphNodes() {
+    return usedActionGraphNodes;
+  }
+
+  /**
+   * @return value of {@code totalDependencyDagEdges} attribute
+   */
+  @Override
+  public int getTotalDependencyDagEdges() {
+    return totalDependencyDagEdges;
+  }
+
+  /**
+   * @return value of {@code buildTargets} attribute
+   */
+  @Override
+  public ImmutableList<String> getBuildTargets() {
+    return buildTargets;
+  }
+
+  /**
+   * @return value of {@code numberOfThreads} attribute
+   */
+  @Override
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
+  /**
+   * @return value of {@code schedulingOrder} attribute
+   */
+  @Override
+  public BuildSimulator.SchedulingOrder getSchedulingOrder() {
+    return schedulingOrder;
+  }
+
+  /**
+   * @return value of {@code actionGraphNodesWithoutSimulateTime} attribute
+   */
+  @Override
+  public int getActionGraphNodesWithoutSimulateTime() {
+    return actionGraphNodesWithoutSimulateTime;
+  }
+
+  /**
+   * @return value of {@code simulateTimesFile} attribute
+   */
+  @Override
+  public String getSimulateTimesFile() {
+    return simulateTimesFile;
+  }
+
+  /**
+   * @return value of {@code timeAggregate} attribute
+   */
+  @Override
+  public String getTimeAggregate() {
+    return timeAggregate;
+  }
+
+  /**
+   * @return value of {@code ruleFallbackTimeMillis} attribute
+   */
+  @Override
+  public long getRuleFallbackTimeMillis() {
+    return ruleFallbackTimeMillis;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getTimestampMillis() timestampMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for timestampMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withTimestampMillis(long value) {
+    if (this.timestampMillis == value) {
+      return this;
+    }
+    long newValue = value;
+    return new SingleRunReport(
+            newValue,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getBuildDurationMillis() buildDurationMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildDurationMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withBuildDurationMillis(long value) {
+    if (this.buildDurationMillis == value) {
+      return this;
+    }
+    long newValue = value;
+    return new SingleRunReport(
+            this.timestampMillis,
+            newValue,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getTotalActionGraphNodes() totalActionGraphNodes}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for totalActionGraphNodes
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withTotalActionGraphNodes(int value) {
+    if (this.totalActionGraphNodes == value) {
+      return this;
+    }
+    int newValue = value;
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            newValue,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getUsedActionGraphNodes() usedActionGraphNodes}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for usedActionGraphNodes
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withUsedActionGraphNodes(int value) {
+    if (this.usedActionGraphNodes == value) {
+      return this;
+    }
+    int newValue = value;
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            newValue,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getTotalDependencyDagEdges() totalDependencyDagEdges}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for totalDependencyDagEdges
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withTotalDependencyDagEdges(int value) {
+    if (this.totalDependencyDagEdges == value) {
+      return this;
+    }
+    int newValue = value;
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            newValue,
+            this.buildTargets,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractSingleRunReport#getBuildTargets() buildTargets}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final SingleRunReport withBuildTargets(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            newValue,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractSingleRunReport#getBuildTargets() buildTargets}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of buildTargets elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final SingleRunReport withBuildTargets(Iterable<String> elements) {
+    if (this.buildTargets == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            newValue,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getNumberOfThreads() numberOfThreads}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for numberOfThreads
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withNumberOfThreads(int value) {
+    if (this.numberOfThreads == value) {
+      return this;
+    }
+    int newValue = value;
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            newValue,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getSchedulingOrder() schedulingOrder}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for schedulingOrder
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withSchedulingOrder(BuildSimulator.SchedulingOrder value) {
+    if (this.schedulingOrder == value) {
+      return this;
+    }
+    BuildSimulator.SchedulingOrder newValue = Preconditions.checkNotNull(value);
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            this.numberOfThreads,
+            newValue,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getActionGraphNodesWithoutSimulateTime() actionGraphNodesWithoutSimulateTime}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for actionGraphNodesWithoutSimulateTime
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withActionGraphNodesWithoutSimulateTime(int value) {
+    if (this.actionGraphNodesWithoutSimulateTime == value) {
+      return this;
+    }
+    int newValue = value;
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            newValue,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getSimulateTimesFile() simulateTimesFile}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for simulateTimesFile
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withSimulateTimesFile(String value) {
+    if (this.simulateTimesFile == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            newValue,
+            this.timeAggregate,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getTimeAggregate() timeAggregate}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for timeAggregate
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withTimeAggregate(String value) {
+    if (this.timeAggregate == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            newValue,
+            this.ruleFallbackTimeMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractSingleRunReport#getRuleFallbackTimeMillis() ruleFallbackTimeMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for ruleFallbackTimeMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final SingleRunReport withRuleFallbackTimeMillis(long value) {
+    if (this.ruleFallbackTimeMillis == value) {
+      return this;
+    }
+    long newValue = value;
+    return new SingleRunReport(
+            this.timestampMillis,
+            this.buildDurationMillis,
+            this.totalActionGraphNodes,
+            this.usedActionGraphNodes,
+            this.totalDependencyDagEdges,
+            this.buildTargets,
+            this.numberOfThreads,
+            this.schedulingOrder,
+            this.actionGraphNodesWithoutSimulateTime,
+            this.simulateTimesFile,
+            this.timeAggregate,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code SingleRunReport} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof SingleRunReport && equalTo((SingleRunReport) another));
+  }
+
+  private boolean equalTo(SingleRunReport another) {
+    return timestampMillis == another.timestampMillis
+        && buildDurationMillis == another.buildDurationMillis
+        && totalActionGraphNodes == another.totalActionGraphNodes
+        && usedActionGraphNodes == another.usedActionGraphNodes
+        && totalDependencyDagEdges == another.totalDependencyDagEdges
+        && buildTargets.equals(another.buildTargets)
+        && numberOfThreads == another.numberOfThreads
+        && schedulingOrder.equals(another.schedulingOrder)
+        && actionGraphNodesWithoutSimulateTime == another.actionGraphNodesWithoutSimulateTime
+        && simulateTimesFile.equals(another.simulateTimesFile)
+        && timeAggregate.equals(another.timeAggregate)
+        && ruleFallbackTimeMillis == another.ruleFallbackTimeMillis;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code timestampMillis}, {@code buildDurationMillis}, {@code totalActionGraphNodes}, {@code usedActionGraphNodes}, {@code totalDependencyDagEdges}, {@code buildTargets}, {@code numberOfThreads}, {@code schedulingOrder}, {@code actionGraphNodesWithoutSimulateTime}, {@code simulateTimesFile}, {@code timeAggregate}, {@code ruleFallbackTimeMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Longs.hashCode(timestampMillis);
+    h = h * 17 + Longs.hashCode(buildDurationMillis);
+    h = h * 17 + totalActionGraphNodes;
+    h = h * 17 + usedActionGraphNodes;
+    h = h * 17 + totalDependencyDagEdges;
+    h = h * 17 + buildTargets.hashCode();
+    h = h * 17 + numberOfThreads;
+    h = h * 17 + schedulingOrder.hashCode();
+    h = h * 17 + actionGraphNodesWithoutSimulateTime;
+    h = h * 17 + simulateTimesFile.hashCode();
+    h = h * 17 + timeAggregate.hashCode();
+    h = h * 17 + Longs.hashCode(ruleFallbackTimeMillis);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code SingleRunReport{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SingleRunReport")
+        .add("timestampMillis", timestampMillis)
+        .add("buildDurationMillis", buildDurationMillis)
+        .add("totalActionGraphNodes", totalActionGraphNodes)
+        .add("usedActionGraphNodes", usedActionGraphNodes)
+        .add("totalDependencyDagEdges", totalDependencyDagEdges)
+        .add("buildTargets", buildTargets)
+        .add("numberOfThreads", numberOfThreads)
+        .add("schedulingOrder", schedulingOrder)
+        .add("actionGraphNodesWithoutSimulateTime", actionGraphNodesWithoutSimulateTime)
+        .add("simulateTimesFile", simulateTimesFile)
+        .add("timeAggregate", timeAggregate)
+        .add("ruleFallbackTimeMillis", ruleFallbackTimeMillis)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractSingleRunReport}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable SingleRunReport instance
+   */
+  public static SingleRunReport copyOf(AbstractSingleRunReport instance) {
+    if (instance instanceof SingleRunReport) {
+      return (SingleRunReport) instance;
+    }
+    return SingleRunReport.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.simulate.SingleRunReport SingleRunReport}.
+   * @return new SingleRunReport builder
+   */
+  public static SingleRunReport.Builder builder() {
+    return new SingleRunReport.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.simulate.SingleRunReport SingleRunReport}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7ff;
+    private static final long INITIALIZED_BIT_TIMESTAMP_MILLIS = 0x1L;
+    private static final long INITIALIZED_BIT_BUILD_DURATION_MILLIS = 0x2L;
+    private static final long INITIALIZED_BIT_TOTAL_ACTION_GRAPH_NODES = 0x4L;
+    private static final long INITIALIZED_BIT_USED_ACTION_GRAPH_NODES = 0x8L;
+    private static final long INITIALIZED_BIT_TOTAL_DEPENDENCY_DAG_EDGES = 0x10L;
+    private static final long INITIALIZED_BIT_NUMBER_OF_THREADS = 0x20L;
+    private static final long INITIALIZED_BIT_SCHEDULING_ORDER = 0x40L;
+    private static final long INITIALIZED_BIT_ACTION_GRAPH_NODES_WITHOUT_SIMULATE_TIME = 0x80L;
+    private static final long INITIALIZED_BIT_SIMULATE_TIMES_FILE = 0x100L;
+    private static final long INITIALIZED_BIT_TIME_AGGREGATE = 0x200L;
+    private static final long INITIALIZED_BIT_RULE_FALLBACK_TIME_MILLIS = 0x400L;
+    private long initializedBitset;
+    private long timestampMillis;
+    private long buildDurationMillis;
+    private int totalActionGraphNodes;
+    private int usedActionGraphNodes;
+    private int totalDependencyDagEdges;
+    private ImmutableList.Builder<String> buildTargetsBuilder = ImmutableList.builder();
+    private int numberOfThreads;
+    private @Nullable BuildSimulator.SchedulingOrder schedulingOrder;
+    private int actionGraphNodesWithoutSimulateTime;
+    private @Nullable String simulateTimesFile;
+    private @Nullable String timeAggregate;
+    private long ruleFallbackTimeMillis;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractSingleRunReport} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractSingleRunReport instance) {
+      Preconditions.checkNotNull(instance);
+      setTimestampMillis(instance.getTimestampMillis());
+      setBuildDurationMillis(instance.getBuildDurationMillis());
+      setTotalActionGraphNodes(instance.getTotalActionGraphNodes());
+      setUsedActionGraphNodes(instance.getUsedActionGraphNodes());
+      setTotalDependencyDagEdges(instance.getTotalDependencyDagEdges());
+      addAllBuildTargets(instance.getBuildTargets());
+      setNumberOfThreads(instance.getNumberOfThreads());
+      setSchedulingOrder(instance.getSchedulingOrder());
+      setActionGraphNodesWithoutSimulateTime(instance.getActionGraphNodesWithoutSimulateTime());
+      setSimulateTimesFile(instance.getSimulateTimesFile());
+      setTimeAggregate(instance.getTimeAggregate());
+      setRuleFallbackTimeMillis(instance.getRuleFallbackTimeMillis());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getTimestampMillis() timestampMillis}.
+     * @param timestampMillis value for timestampMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTimestampMillis(long timestampMillis) {
+      this.timestampMillis = timestampMillis;
+      initializedBitset |= INITIALIZED_BIT_TIMESTAMP_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getBuildDurationMillis() buildDurationMillis}.
+     * @param buildDurationMillis value for buildDurationMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildDurationMillis(long buildDurationMillis) {
+      this.buildDurationMillis = buildDurationMillis;
+      initializedBitset |= INITIALIZED_BIT_BUILD_DURATION_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getTotalActionGraphNodes() totalActionGraphNodes}.
+     * @param totalActionGraphNodes value for totalActionGraphNodes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTotalActionGraphNodes(int totalActionGraphNodes) {
+      this.totalActionGraphNodes = totalActionGraphNodes;
+      initializedBitset |= INITIALIZED_BIT_TOTAL_ACTION_GRAPH_NODES;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getUsedActionGraphNodes() usedActionGraphNodes}.
+     * @param usedActionGraphNodes value for usedActionGraphNodes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUsedActionGraphNodes(int usedActionGraphNodes) {
+      this.usedActionGraphNodes = usedActionGraphNodes;
+      initializedBitset |= INITIALIZED_BIT_USED_ACTION_GRAPH_NODES;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getTotalDependencyDagEdges() totalDependencyDagEdges}.
+     * @param totalDependencyDagEdges value for totalDependencyDagEdges
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTotalDependencyDagEdges(int totalDependencyDagEdges) {
+      this.totalDependencyDagEdges = totalDependencyDagEdges;
+      initializedBitset |= INITIALIZED_BIT_TOTAL_DEPENDENCY_DAG_EDGES;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractSingleRunReport#getBuildTargets() buildTargets} list.
+     * @param element buildTargets element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addBuildTargets(String element) {
+      buildTargetsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractSingleRunReport#getBuildTargets() buildTargets} list.
+     * @param elements array of buildTargets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addBuildTargets(String... elements) {
+      buildTargetsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractSingleRunReport#getBuildTargets() buildTargets} list.
+     * @param elements iterable of buildTargets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildTargets(Iterable<String> elements) {
+      buildTargetsBuilder = ImmutableList.builder();
+      return addAllBuildTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractSingleRunReport#getBuildTargets() buildTargets} list.
+     * @param elements iterable of buildTargets elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllBuildTargets(Iterable<String> elements) {
+      buildTargetsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getNumberOfThreads() numberOfThreads}.
+     * @param numberOfThreads value for numberOfThreads
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNumberOfThreads(int numberOfThreads) {
+      this.numberOfThreads = numberOfThreads;
+      initializedBitset |= INITIALIZED_BIT_NUMBER_OF_THREADS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getSchedulingOrder() schedulingOrder}.
+     * @param schedulingOrder value for schedulingOrder
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSchedulingOrder(BuildSimulator.SchedulingOrder schedulingOrder) {
+      this.schedulingOrder = Preconditions.checkNotNull(schedulingOrder);
+      initializedBitset |= INITIALIZED_BIT_SCHEDULING_ORDER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getActionGraphNodesWithoutSimulateTime() actionGraphNodesWithoutSimulateTime}.
+     * @param actionGraphNodesWithoutSimulateTime value for actionGraphNodesWithoutSimulateTime
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setActionGraphNodesWithoutSimulateTime(int actionGraphNodesWithoutSimulateTime) {
+      this.actionGraphNodesWithoutSimulateTime = actionGraphNodesWithoutSimulateTime;
+      initializedBitset |= INITIALIZED_BIT_ACTION_GRAPH_NODES_WITHOUT_SIMULATE_TIME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getSimulateTimesFile() simulateTimesFile}.
+     * @param simulateTimesFile value for simulateTimesFile
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSimulateTimesFile(String simulateTimesFile) {
+      this.simulateTimesFile = Preconditions.checkNotNull(simulateTimesFile);
+      initializedBitset |= INITIALIZED_BIT_SIMULATE_TIMES_FILE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getTimeAggregate() timeAggregate}.
+     * @param timeAggregate value for timeAggregate
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTimeAggregate(String timeAggregate) {
+      this.timeAggregate = Preconditions.checkNotNull(timeAggregate);
+      initializedBitset |= INITIALIZED_BIT_TIME_AGGREGATE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractSingleRunReport#getRuleFallbackTimeMillis() ruleFallbackTimeMillis}.
+     * @param ruleFallbackTimeMillis value for ruleFallbackTimeMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleFallbackTimeMillis(long ruleFallbackTimeMillis) {
+      this.ruleFallbackTimeMillis = ruleFallbackTimeMillis;
+      initializedBitset |= INITIALIZED_BIT_RULE_FALLBACK_TIME_MILLIS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.simulate.SingleRunReport SingleRunReport}.
+     * @return immutable instance of SingleRunReport
+     */
+    public SingleRunReport build() {
+      checkRequiredAttributes();
+      return new SingleRunReport(
+              timestampMillis,
+              buildDurationMillis,
+              totalActionGraphNodes,
+              usedActionGraphNodes,
+              totalDependencyDagEdges,
+              buildTargetsBuilder.build(),
+              numberOfThreads,
+              schedulingOrder,
+              actionGraphNodesWithoutSimulateTime,
+              simulateTimesFile,
+              timeAggregate,
+              ruleFallbackTimeMillis);
+    }
+
+    private boolean timestampMillisIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TIMESTAMP_MILLIS) != 0;
+    }
+
+    private boolean buildDurationMillisIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUILD_DURATION_MILLIS) != 0;
+    }
+
+    private boolean totalActionGraphNodesIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TOTAL_ACTION_GRAPH_NODES) != 0;
+    }
+
+    private boolean usedActionGraphNodesIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_USED_ACTION_GRAPH_NODES) != 0;
+    }
+
+    private boolean totalDependencyDagEdgesIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TOTAL_DEPENDENCY_DAG_EDGES) != 0;
+    }
+
+    private boolean numberOfThreadsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_NUMBER_OF_THREADS) != 0;
+    }
+
+    private boolean schedulingOrderIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SCHEDULING_ORDER) != 0;
+    }
+
+    private boolean actionGraphNodesWithoutSimulateTimeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_ACTION_GRAPH_NODES_WITHOUT_SIMULATE_TIME) != 0;
+    }
+
+    private boolean simulateTimesFileIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SIMULATE_TIMES_FILE) != 0;
+    }
+
+    private boolean timeAggregateIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TIME_AGGREGATE) != 0;
+    }
+
+    private boolean ruleFallbackTimeMillisIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_RULE_FALLBACK_TIME_MILLIS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!timestampMillisIsSet()) {
+        attributes.add("timestampMillis");
+      }
+      if (!buildDurationMillisIsSet()) {
+        attributes.add("buildDurationMillis");
+      }
+      if (!totalActionGraphNodesIsSet()) {
+        attributes.add("totalActionGraphNodes");
+      }
+      if (!usedActionGraphNodesIsSet()) {
+        attributes.add("usedActionGraphNodes");
+      }
+      if (!totalDependencyDagEdgesIsSet()) {
+        attributes.add("totalDependencyDagEdges");
+      }
+      if (!numberOfThreadsIsSet()) {
+        attributes.add("numberOfThreads");
+      }
+      if (!schedulingOrderIsSet()) {
+        attributes.add("schedulingOrder");
+      }
+      if (!actionGraphNodesWithoutSimulateTimeIsSet()) {
+        attributes.add("actionGraphNodesWithoutSimulateTime");
+      }
+      if (!simulateTimesFileIsSet()) {
+        attributes.add("simulateTimesFile");
+      }
+      if (!timeAggregateIsSet()) {
+        attributes.add("timeAggregate");
+      }
+      if (!ruleFallbackTimeMillisIsSet()) {
+        attributes.add("ruleFallbackTimeMillis");
+      }
+      return "Cannot build SingleRunReport, some of required attributes are not set " + attributes;
+    }
+  }
+}
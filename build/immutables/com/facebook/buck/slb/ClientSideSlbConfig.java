@@ -0,0 +1,921 @@
+package com.facebook.buck.slb;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.timing.Clock;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Floats;
+import com.squareup.okhttp.OkHttpClient;
+import java.net.URI;
+import java.util.Collection;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractClientSideSlbConfig}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ClientSideSlbConfig.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractClientSideSlbConfig"})
+@Immutable
+public final class ClientSideSlbConfig extends AbstractClientSideSlbConfig {
+  private final Clock clock;
+  private final ScheduledExecutorService schedulerService;
+  private final ImmutableList<URI> serverPool;
+  private final OkHttpClient pingHttpClient;
+  private final BuckEventBus eventBus;
+  private final int errorCheckTimeRangeMillis;
+  private final int latencyCheckTimeRangeMillis;
+  private final int maxAcceptableLatencyMillis;
+  private final int connectionTimeoutMillis;
+  private final int healthCheckIntervalMillis;
+  private final String pingEndpoint;
+  private final float maxErrorPercentage;
+
+  private ClientSideSlbConfig(ClientSideSlbConfig.Builder builder) {
+    this.clock = builder.clock;
+    this.schedulerService = builder.schedulerService;
+    this.serverPool = builder.serverPoolBuilder.build();
+    this.pingHttpClient = builder.pingHttpClient;
+    this.eventBus = builder.eventBus;
+    this.errorCheckTimeRangeMillis = builder.errorCheckTimeRangeMillisIsSet()
+        ? builder.errorCheckTimeRangeMillis
+        : super.getErrorCheckTimeRangeMillis();
+    this.latencyCheckTimeRangeMillis = builder.latencyCheckTimeRangeMillisIsSet()
+        ? builder.latencyCheckTimeRangeMillis
+        : super.getLatencyCheckTimeRangeMillis();
+    this.maxAcceptableLatencyMillis = builder.maxAcceptableLatencyMillisIsSet()
+        ? builder.maxAcceptableLatencyMillis
+        : super.getMaxAcceptableLatencyMillis();
+    this.connectionTimeoutMillis = builder.connectionTimeoutMillisIsSet()
+        ? builder.connectionTimeoutMillis
+        : super.getConnectionTimeoutMillis();
+    this.healthCheckIntervalMillis = builder.healthCheckIntervalMillisIsSet()
+        ? builder.healthCheckIntervalMillis
+        : super.getHealthCheckIntervalMillis();
+    this.pingEndpoint = builder.pingEndpoint != null
+        ? builder.pingEndpoint
+        : Preconditions.checkNotNull(super.getPingEndpoint());
+    this.maxErrorPercentage = builder.maxErrorPercentageIsSet()
+        ? builder.maxErrorPercentage
+        : super.getMaxErrorPercentage();
+  }
+
+  private ClientSideSlbConfig(
+      Clock clock,
+      ScheduledExecutorService schedulerService,
+      ImmutableList<URI> serverPool,
+      OkHttpClient pingHttpClient,
+      BuckEventBus eventBus,
+      int errorCheckTimeRangeMillis,
+      int latencyCheckTimeRangeMillis,
+      int maxAcceptableLatencyMillis,
+      int connectionTimeoutMillis,
+      int healthCheckIntervalMillis,
+      String pingEndpoint,
+      float maxErrorPercentage) {
+    this.clock = clock;
+    this.schedulerService = schedulerService;
+    this.serverPool = serverPool;
+    this.pingHttpClient = pingHttpClient;
+    this.eventBus = eventBus;
+    this.errorCheckTimeRangeMillis = errorCheckTimeRangeMillis;
+    this.latencyCheckTimeRangeMillis = latencyCheckTimeRangeMillis;
+    this.maxAcceptableLatencyMillis = maxAcceptableLatencyMillis;
+    this.connectionTimeoutMillis = connectionTimeoutMillis;
+    this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+    this.pingEndpoint = pingEndpoint;
+    this.maxErrorPercentage = maxErrorPercentage;
+  }
+
+  /**
+   * @return value of {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return value of {@code schedulerService} attribute
+   */
+  @Override
+  public ScheduledExecutorService getSchedulerService() {
+    return schedulerService;
+  }
+
+  /**
+   * @return value of {@code serverPool} attribute
+   */
+  @Override
+  public ImmutableList<URI> getServerPool() {
+    return serverPool;
+  }
+
+  /**
+   * @return value of {@code pingHttpClient} attribute
+   */
+  @Override
+  public OkHttpClient getPingHttpClient() {
+    return pingHttpClient;
+  }
+
+  /**
+   * @return value of {@code eventBus} attribute
+   */
+  @Override
+  public BuckEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * @return value of {@code errorCheckTimeRangeMillis} attribute
+   */
+  @Override
+  public int getErrorCheckTimeRangeMillis() {
+    return errorCheckTimeRangeMillis;
+  }
+
+  /**
+   * @return value of {@code latencyCheckTimeRangeMillis} attribute
+   */
+  @Override
+  public int getLatencyCheckTimeRangeMillis() {
+    return latencyCheckTimeRangeMillis;
+  }
+
+  /**
+   * @return value of {@code maxAcceptableLatencyMillis} attribute
+   */
+  @Override
+  public int getMaxAcceptableLatencyMillis() {
+    return maxAcceptableLatencyMillis;
+  }
+
+  /**
+   * @return value of {@code connectionTimeoutMillis} attribute
+   */
+  @Override
+  public int getConnectionTimeoutMillis() {
+    return connectionTimeoutMillis;
+  }
+
+  /**
+   * @return value of {@code healthCheckIntervalMillis} attribute
+   */
+  @Override
+  public int getHealthCheckIntervalMillis() {
+    return healthCheckIntervalMillis;
+  }
+
+  /**
+   * @return value of {@code pingEndpoint} attribute
+   */
+  @Override
+  public String getPingEndpoint() {
+    return pingEndpoint;
+  }
+
+  /**
+   * @return value of {@code maxErrorPercentage} attribute
+   */
+  @Override
+  public float getMaxErrorPercentage() {
+    return maxErrorPercentage;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getClock() clock}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for clock
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withClock(Clock value) {
+    if (this.clock == value) {
+      return this;
+    }
+    Clock newValue = Preconditions.checkNotNull(value);
+    return new ClientSideSlbConfig(
+            newValue,
+            this.schedulerService,
+            this.serverPool,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getSchedulerService() schedulerService}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for schedulerService
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withSchedulerService(ScheduledExecutorService value) {
+    if (this.schedulerService == value) {
+      return this;
+    }
+    ScheduledExecutorService newValue = Preconditions.checkNotNull(value);
+    return new ClientSideSlbConfig(
+            this.clock,
+            newValue,
+            this.serverPool,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractClientSideSlbConfig#getServerPool() serverPool}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ClientSideSlbConfig withServerPool(URI... elements) {
+    ImmutableList<URI> newValue = ImmutableList.copyOf(elements);
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            newValue,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractClientSideSlbConfig#getServerPool() serverPool}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of serverPool elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ClientSideSlbConfig withServerPool(Iterable<? extends URI> elements) {
+    if (this.serverPool == elements) {
+      return this;
+    }
+    ImmutableList<URI> newValue = ImmutableList.copyOf(elements);
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            newValue,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getPingHttpClient() pingHttpClient}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for pingHttpClient
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withPingHttpClient(OkHttpClient value) {
+    if (this.pingHttpClient == value) {
+      return this;
+    }
+    OkHttpClient newValue = Preconditions.checkNotNull(value);
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            this.serverPool,
+            newValue,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getEventBus() eventBus}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for eventBus
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withEventBus(BuckEventBus value) {
+    if (this.eventBus == value) {
+      return this;
+    }
+    BuckEventBus newValue = Preconditions.checkNotNull(value);
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            this.serverPool,
+            this.pingHttpClient,
+            newValue,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for errorCheckTimeRangeMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withErrorCheckTimeRangeMillis(int value) {
+    if (this.errorCheckTimeRangeMillis == value) {
+      return this;
+    }
+    int newValue = value;
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            this.serverPool,
+            this.pingHttpClient,
+            this.eventBus,
+            newValue,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for latencyCheckTimeRangeMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withLatencyCheckTimeRangeMillis(int value) {
+    if (this.latencyCheckTimeRangeMillis == value) {
+      return this;
+    }
+    int newValue = value;
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            this.serverPool,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            newValue,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for maxAcceptableLatencyMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withMaxAcceptableLatencyMillis(int value) {
+    if (this.maxAcceptableLatencyMillis == value) {
+      return this;
+    }
+    int newValue = value;
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            this.serverPool,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            newValue,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for connectionTimeoutMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withConnectionTimeoutMillis(int value) {
+    if (this.connectionTimeoutMillis == value) {
+      return this;
+    }
+    int newValue = value;
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            this.serverPool,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            newValue,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for healthCheckIntervalMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withHealthCheckIntervalMillis(int value) {
+    if (this.healthCheckIntervalMillis == value) {
+      return this;
+    }
+    int newValue = value;
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            this.serverPool,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            newValue,
+            this.pingEndpoint,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getPingEndpoint() pingEndpoint}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for pingEndpoint
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withPingEndpoint(String value) {
+    if (this.pingEndpoint == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            this.serverPool,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            newValue,
+            this.maxErrorPercentage);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage}.
+   * @param value new value for maxErrorPercentage
+   * @return modified copy of the {@code this} object
+   */
+  public final ClientSideSlbConfig withMaxErrorPercentage(float value) {
+    float newValue = value;
+    return new ClientSideSlbConfig(
+            this.clock,
+            this.schedulerService,
+            this.serverPool,
+            this.pingHttpClient,
+            this.eventBus,
+            this.errorCheckTimeRangeMillis,
+            this.latencyCheckTimeRangeMillis,
+            this.maxAcceptableLatencyMillis,
+            this.connectionTimeoutMillis,
+            this.healthCheckIntervalMillis,
+            this.pingEndpoint,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ClientSideSlbConfig} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ClientSideSlbConfig && equalTo((ClientSideSlbConfig) another));
+  }
+
+  private boolean equalTo(ClientSideSlbConfig another) {
+    return clock.equals(another.clock)
+        && schedulerService.equals(another.schedulerService)
+        && serverPool.equals(another.serverPool)
+        && pingHttpClient.equals(another.pingHttpClient)
+        && eventBus.equals(another.eventBus)
+        && errorCheckTimeRangeMillis == another.errorCheckTimeRangeMillis
+        && latencyCheckTimeRangeMillis == another.latencyCheckTimeRangeMillis
+        && maxAcceptableLatencyMillis == another.maxAcceptableLatencyMillis
+        && connectionTimeoutMillis == another.connectionTimeoutMillis
+        && healthCheckIntervalMillis == another.healthCheckIntervalMillis
+        && pingEndpoint.equals(another.pingEndpoint)
+        && Float.floatToIntBits(maxErrorPercentage) == Float.floatToIntBits(another.maxErrorPercentage);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code clock}, {@code schedulerService}, {@code serverPool}, {@code pingHttpClient}, {@code eventBus}, {@code errorCheckTimeRangeMillis}, {@code latencyCheckTimeRangeMillis}, {@code maxAcceptableLatencyMillis}, {@code connectionTimeoutMillis}, {@code healthCheckIntervalMillis}, {@code pingEndpoint}, {@code maxErrorPercentage}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + clock.hashCode();
+    h = h * 17 + schedulerService.hashCode();
+    h = h * 17 + serverPool.hashCode();
+    h = h * 17 + pingHttpClient.hashCode();
+    h = h * 17 + eventBus.hashCode();
+    h = h * 17 + errorCheckTimeRangeMillis;
+    h = h * 17 + latencyCheckTimeRangeMillis;
+    h = h * 17 + maxAcceptableLatencyMillis;
+    h = h * 17 + connectionTimeoutMillis;
+    h = h * 17 + healthCheckIntervalMillis;
+    h = h * 17 + pingEndpoint.hashCode();
+    h = h * 17 + Floats.hashCode(maxErrorPercentage);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ClientSideSlbConfig{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ClientSideSlbConfig")
+        .add("clock", clock)
+        .add("schedulerService", schedulerService)
+        .add("serverPool", serverPool)
+        .add("pingHttpClient", pingHttpClient)
+        .add("eventBus", eventBus)
+        .add("errorCheckTimeRangeMillis", errorCheckTimeRangeMillis)
+        .add("latencyCheckTimeRangeMillis", latencyCheckTimeRangeMillis)
+        .add("maxAcceptableLatencyMillis", maxAcceptableLatencyMillis)
+        .add("connectionTimeoutMillis", connectionTimeoutMillis)
+        .add("healthCheckIntervalMillis", healthCheckIntervalMillis)
+        .add("pingEndpoint", pingEndpoint)
+        .add("maxErrorPercentage", maxErrorPercentage)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractClientSideSlbConfig}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ClientSideSlbConfig instance
+   */
+  public static ClientSideSlbConfig copyOf(AbstractClientSideSlbConfig instance) {
+    if (instance instanceof ClientSideSlbConfig) {
+      return (ClientSideSlbConfig) instance;
+    }
+    return ClientSideSlbConfig.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.slb.ClientSideSlbConfig ClientSideSlbConfig}.
+   * @return new ClientSideSlbConfig builder
+   */
+  public static ClientSideSlbConfig.Builder builder() {
+    return new ClientSideSlbConfig.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.slb.ClientSideSlbConfig ClientSideSlbConfig}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0xf;
+    private static final long INITIALIZED_BIT_CLOCK = 0x1L;
+    private static final long INITIALIZED_BIT_SCHEDULER_SERVICE = 0x2L;
+    private static final long INITIALIZED_BIT_PING_HTTP_CLIENT = 0x4L;
+    private static final long INITIALIZED_BIT_EVENT_BUS = 0x8L;
+    private static final long NONDEFAULT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS = 0x1L;
+    private static final long NONDEFAULT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS = 0x2L;
+    private static final long NONDEFAULT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS = 0x4L;
+    private static final long NONDEFAULT_BIT_CONNECTION_TIMEOUT_MILLIS = 0x8L;
+    private static final long NONDEFAULT_BIT_HEALTH_CHECK_INTERVAL_MILLIS = 0x10L;
+    private static final long NONDEFAULT_BIT_MAX_ERROR_PERCENTAGE = 0x20L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private @Nullable Clock clock;
+    private @Nullable ScheduledExecutorService schedulerService;
+    private ImmutableList.Builder<URI> serverPoolBuilder = ImmutableList.builder();
+    private @Nullable OkHttpClient pingHttpClient;
+    private @Nullable BuckEventBus eventBus;
+    private int errorCheckTimeRangeMillis;
+    private int latencyCheckTimeRangeMillis;
+    private int maxAcceptableLatencyMillis;
+    private int connectionTimeoutMillis;
+    private int healthCheckIntervalMillis;
+    private @Nullable String pingEndpoint;
+    private float maxErrorPercentage;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractClientSideSlbConfig} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractClientSideSlbConfig instance) {
+      Preconditions.checkNotNull(instance);
+      setClock(instance.getClock());
+      setSchedulerService(instance.getSchedulerService());
+      addAllServerPool(instance.getServerPool());
+      setPingHttpClient(instance.getPingHttpClient());
+      setEventBus(instance.getEventBus());
+      setErrorCheckTimeRangeMillis(instance.getErrorCheckTimeRangeMillis());
+      setLatencyCheckTimeRangeMillis(instance.getLatencyCheckTimeRangeMillis());
+      setMaxAcceptableLatencyMillis(instance.getMaxAcceptableLatencyMillis());
+      setConnectionTimeoutMillis(instance.getConnectionTimeoutMillis());
+      setHealthCheckIntervalMillis(instance.getHealthCheckIntervalMillis());
+      setPingEndpoint(instance.getPingEndpoint());
+      setMaxErrorPercentage(instance.getMaxErrorPercentage());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getClock() clock}.
+     * @param clock value for clock
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setClock(Clock clock) {
+      this.clock = Preconditions.checkNotNull(clock);
+      initializedBitset |= INITIALIZED_BIT_CLOCK;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getSchedulerService() schedulerService}.
+     * @param schedulerService value for schedulerService
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSchedulerService(ScheduledExecutorService schedulerService) {
+      this.schedulerService = Preconditions.checkNotNull(schedulerService);
+      initializedBitset |= INITIALIZED_BIT_SCHEDULER_SERVICE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param element serverPool element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addServerPool(URI element) {
+      serverPoolBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements array of serverPool elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addServerPool(URI... elements) {
+      serverPoolBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements iterable of serverPool elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setServerPool(Iterable<? extends URI> elements) {
+      serverPoolBuilder = ImmutableList.builder();
+      return addAllServerPool(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements iterable of serverPool elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllServerPool(Iterable<? extends URI> elements) {
+      serverPoolBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getPingHttpClient() pingHttpClient}.
+     * @param pingHttpClient value for pingHttpClient
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPingHttpClient(OkHttpClient pingHttpClient) {
+      this.pingHttpClient = Preconditions.checkNotNull(pingHttpClient);
+      initializedBitset |= INITIALIZED_BIT_PING_HTTP_CLIENT;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getEventBus() eventBus}.
+     * @param eventBus value for eventBus
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEventBus(BuckEventBus eventBus) {
+      this.eventBus = Preconditions.checkNotNull(eventBus);
+      initializedBitset |= INITIALIZED_BIT_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis}.</em>
+     * @param errorCheckTimeRangeMillis value for errorCheckTimeRangeMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setErrorCheckTimeRangeMillis(int errorCheckTimeRangeMillis) {
+      this.errorCheckTimeRangeMillis = errorCheckTimeRangeMillis;
+      nondefaultBitset |= NONDEFAULT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis}.</em>
+     * @param latencyCheckTimeRangeMillis value for latencyCheckTimeRangeMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLatencyCheckTimeRangeMillis(int latencyCheckTimeRangeMillis) {
+      this.latencyCheckTimeRangeMillis = latencyCheckTimeRangeMillis;
+      nondefaultBitset |= NONDEFAULT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis}.</em>
+     * @param maxAcceptableLatencyMillis value for maxAcceptableLatencyMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxAcceptableLatencyMillis(int maxAcceptableLatencyMillis) {
+      this.maxAcceptableLatencyMillis = maxAcceptableLatencyMillis;
+      nondefaultBitset |= NONDEFAULT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis}.</em>
+     * @param connectionTimeoutMillis value for connectionTimeoutMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setConnectionTimeoutMillis(int connectionTimeoutMillis) {
+      this.connectionTimeoutMillis = connectionTimeoutMillis;
+      nondefaultBitset |= NONDEFAULT_BIT_CONNECTION_TIMEOUT_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis}.</em>
+     * @param healthCheckIntervalMillis value for healthCheckIntervalMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHealthCheckIntervalMillis(int healthCheckIntervalMillis) {
+      this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+      nondefaultBitset |= NONDEFAULT_BIT_HEALTH_CHECK_INTERVAL_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getPingEndpoint() pingEndpoint}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractClientSideSlbConfig#getPingEndpoint() pingEndpoint}.</em>
+     * @param pingEndpoint value for pingEndpoint
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPingEndpoint(String pingEndpoint) {
+      this.pingEndpoint = Preconditions.checkNotNull(pingEndpoint);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage}.</em>
+     * @param maxErrorPercentage value for maxErrorPercentage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxErrorPercentage(float maxErrorPercentage) {
+      this.maxErrorPercentage = maxErrorPercentage;
+      nondefaultBitset |= NONDEFAULT_BIT_MAX_ERROR_PERCENTAGE;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.slb.ClientSideSlbConfig ClientSideSlbConfig}.
+     * @return immutable instance of ClientSideSlbConfig
+     */
+    public ClientSideSlbConfig build() {
+      checkRequiredAttributes();
+      return new ClientSideSlbConfig(this);
+    }
+
+    private boolean errorCheckTimeRangeMillisIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS) != 0;
+    }
+
+    private boolean latencyCheckTimeRangeMillisIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS) != 0;
+    }
+
+    private boolean maxAcceptableLatencyMillisIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS) != 0;
+    }
+
+    private boolean connectionTimeoutMillisIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_CONNECTION_TIMEOUT_MILLIS) != 0;
+    }
+
+    private boolean healthCheckIntervalMillisIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_HEALTH_CHECK_INTERVAL_MILLIS) != 0;
+    }
+
+    private boolean maxErrorPercentageIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_MAX_ERROR_PERCENTAGE) != 0;
+    }
+
+    private boolean clockIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CLOCK) != 0;
+    }
+
+    private boolean schedulerServiceIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SCHEDULER_SERVICE) != 0;
+    }
+
+    private boolean pingHttpClientIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_PING_HTTP_CLIENT) != 0;
+    }
+
+    private boolean eventBusIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_EVENT_BUS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!clockIsSet()) {
+        attributes.add("clock");
+      }
+      if (!schedulerServiceIsSet()) {
+        attributes.add("schedulerService");
+      }
+      if (!pingHttpClientIsSet()) {
+        attributes.add("pingHttpClient");
+      }
+      if (!eventBusIsSet()) {
+        attributes.add("eventBus");
+      }
+      return "Cannot build ClientSideSlbConfig, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,374 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.net.URI;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code LoadBalancedServiceEventData.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData"})
+@Immutable
+public final class LoadBalancedServiceEventData
+    implements LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData {
+  private final URI server;
+  private final Optional<Exception> exception;
+  private final Optional<Long> requestSizeBytes;
+  private final Optional<Long> responseSizeBytes;
+
+  private LoadBalancedServiceEventData(
+      URI server,
+      Optional<Exception> exception,
+      Optional<Long> requestSizeBytes,
+      Optional<Long> responseSizeBytes) {
+    this.server = server;
+    this.exception = exception;
+    this.requestSizeBytes = requestSizeBytes;
+    this.responseSizeBytes = responseSizeBytes;
+  }
+
+  /**
+   * @return value of {@code server} attribute
+   */
+  @Override
+  public URI getServer() {
+    return server;
+  }
+
+  /**
+   * @return value of {@code exception} attribute
+   */
+  @Override
+  public Optional<Exception> getException() {
+    return exception;
+  }
+
+  /**
+   * @return value of {@code requestSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getRequestSizeBytes() {
+    return requestSizeBytes;
+  }
+
+  /**
+   * @return value of {@code responseSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getResponseSizeBytes() {
+    return responseSizeBytes;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getServer() server}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for server
+   * @return modified copy of the {@code this} object
+   */
+  public final LoadBalancedServiceEventData withServer(URI value) {
+    if (this.server == value) {
+      return this;
+    }
+    URI newValue = Preconditions.checkNotNull(value);
+    return new LoadBalancedServiceEventData(newValue, this.exception, this.requestSizeBytes, this.responseSizeBytes);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getException() exception}.
+   * @param value value for exception
+   * @return modified copy of {@code this} object
+   */
+  public final LoadBalancedServiceEventData withException(Exception value) {
+    Optional<Exception> newValue = Optional.of(value);
+    return new LoadBalancedServiceEventData(this.server, newValue, this.requestSizeBytes, this.responseSizeBytes);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getException() exception}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for exception
+   * @return modified copy of {@code this} object
+   */
+  public final LoadBalancedServiceEventData withException(Optional<Exception> optional) {
+    if (this.exception == optional) {
+      return this;
+    }
+    Optional<Exception> newValue = Preconditions.checkNotNull(optional);
+    return new LoadBalancedServiceEventData(this.server, newValue, this.requestSizeBytes, this.responseSizeBytes);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getRequestSizeBytes() requestSizeBytes}.
+   * @param value value for requestSizeBytes
+   * @return modified copy of {@code this} object
+   */
+  public final LoadBalancedServiceEventData withRequestSizeBytes(long value) {
+    Optional<Long> newValue = Optional.of(value);
+    return new LoadBalancedServiceEventData(this.server, this.exception, newValue, this.responseSizeBytes);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getRequestSizeBytes() requestSizeBytes}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for requestSizeBytes
+   * @return modified copy of {@code this} object
+   */
+  public final LoadBalancedServiceEventData withRequestSizeBytes(Optional<Long> optional) {
+    if (this.requestSizeBytes == optional) {
+      return this;
+    }
+    Optional<Long> newValue = Preconditions.checkNotNull(optional);
+    return new LoadBalancedServiceEventData(this.server, this.exception, newValue, this.responseSizeBytes);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getResponseSizeBytes() responseSizeBytes}.
+   * @param value value for responseSizeBytes
+   * @return modified copy of {@code this} object
+   */
+  public final LoadBalancedServiceEventData withResponseSizeBytes(long value) {
+    Optional<Long> newValue = Optional.of(value);
+    return new LoadBalancedServiceEventData(this.server, this.exception, this.requestSizeBytes, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getResponseSizeBytes() responseSizeBytes}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for responseSizeBytes
+   * @return modified copy of {@code this} object
+   */
+  public final LoadBalancedServiceEventData withResponseSizeBytes(Optional<Long> optional) {
+    if (this.responseSizeBytes == optional) {
+      return this;
+    }
+    Optional<Long> newValue = Preconditions.checkNotNull(optional);
+    return new LoadBalancedServiceEventData(this.server, this.exception, this.requestSizeBytes, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code LoadBalancedServiceEventData} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof LoadBalancedServiceEventData && equalTo((LoadBalancedServiceEventData) another));
+  }
+
+  private boolean equalTo(LoadBalancedServiceEventData another) {
+    return server.equals(another.server)
+        && exception.equals(another.exception)
+        && requestSizeBytes.equals(another.requestSizeBytes)
+        && responseSizeBytes.equals(another.responseSizeBytes);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code server}, {@code exception}, {@code requestSizeBytes}, {@code responseSizeBytes}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + server.hashCode();
+    h = h * 17 + exception.hashCode();
+    h = h * 17 + requestSizeBytes.hashCode();
+    h = h * 17 + responseSizeBytes.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code LoadBalancedServiceEventData{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LoadBalancedServiceEventData")
+        .add("server", server)
+        .add("exception", exception)
+        .add("requestSizeBytes", requestSizeBytes)
+        .add("responseSizeBytes", responseSizeBytes)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable LoadBalancedServiceEventData instance
+   */
+  public static LoadBalancedServiceEventData copyOf(LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData instance) {
+    if (instance instanceof LoadBalancedServiceEventData) {
+      return (LoadBalancedServiceEventData) instance;
+    }
+    return LoadBalancedServiceEventData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.slb.LoadBalancedServiceEventData LoadBalancedServiceEventData}.
+   * @return new LoadBalancedServiceEventData builder
+   */
+  public static LoadBalancedServiceEventData.Builder builder() {
+    return new LoadBalancedServiceEventData.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.slb.LoadBalancedServiceEventData LoadBalancedServiceEventData}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_SERVER = 0x1L;
+    private long initializedBitset;
+    private @Nullable URI server;
+    private Optional<Exception> exception = Optional.absent();
+    private Optional<Long> requestSizeBytes = Optional.absent();
+    private Optional<Long> responseSizeBytes = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData instance) {
+      Preconditions.checkNotNull(instance);
+      setServer(instance.getServer());
+      Optional<Exception> exceptionOptional = instance.getException();
+      if (exceptionOptional.isPresent()) {
+        setException(exceptionOptional);
+      }
+      Optional<Long> requestSizeBytesOptional = instance.getRequestSizeBytes();
+      if (requestSizeBytesOptional.isPresent()) {
+        setRequestSizeBytes(requestSizeBytesOptional);
+      }
+      Optional<Long> responseSizeBytesOptional = instance.getResponseSizeBytes();
+      if (responseSizeBytesOptional.isPresent()) {
+        setResponseSizeBytes(responseSizeBytesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getServer() server}.
+     * @param server value for server
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setServer(URI server) {
+      this.server = Preconditions.checkNotNull(server);
+      initializedBitset |= INITIALIZED_BIT_SERVER;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getException() exception}.
+     * @param exception value for exception
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setException(Exception exception) {
+      this.exception = Optional.of(exception);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getException() exception}.
+     * @param exception value for exception
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setException(Optional<Exception> exception) {
+      this.exception = Preconditions.checkNotNull(exception);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getRequestSizeBytes() requestSizeBytes}.
+     * @param requestSizeBytes value for requestSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRequestSizeBytes(long requestSizeBytes) {
+      this.requestSizeBytes = Optional.of(requestSizeBytes);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getRequestSizeBytes() requestSizeBytes}.
+     * @param requestSizeBytes value for requestSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRequestSizeBytes(Optional<Long> requestSizeBytes) {
+      this.requestSizeBytes = Preconditions.checkNotNull(requestSizeBytes);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getResponseSizeBytes() responseSizeBytes}.
+     * @param responseSizeBytes value for responseSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = Optional.of(responseSizeBytes);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link LoadBalancedServiceEvent.AbstractLoadBalancedServiceEventData#getResponseSizeBytes() responseSizeBytes}.
+     * @param responseSizeBytes value for responseSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResponseSizeBytes(Optional<Long> responseSizeBytes) {
+      this.responseSizeBytes = Preconditions.checkNotNull(responseSizeBytes);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.slb.LoadBalancedServiceEventData LoadBalancedServiceEventData}.
+     * @return immutable instance of LoadBalancedServiceEventData
+     */
+    public LoadBalancedServiceEventData build() {
+      checkRequiredAttributes();
+      return new LoadBalancedServiceEventData(server, exception, requestSizeBytes, responseSizeBytes);
+    }
+
+    private boolean serverIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SERVER) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!serverIsSet()) {
+        attributes.add("server");
+      }
+      return "Cannot build LoadBalancedServiceEventData, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code LoadBalancerPingEventData.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "LoadBalancerPingEvent.AbstractLoadBalancerPingEventData"})
+@Immutable
+public final class LoadBalancerPingEventData
+    implements LoadBalancerPingEvent.AbstractLoadBalancerPingEventData {
+  private final ImmutableList<PerServerPingData> perServerData;
+
+  private LoadBalancerPingEventData(ImmutableList<PerServerPingData> perServerData) {
+    this.perServerData = perServerData;
+  }
+
+  /**
+   * @return value of {@code perServerData} attribute
+   */
+  @Override
+  public ImmutableList<PerServerPingData> getPerServerData() {
+    return perServerData;
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final LoadBalancerPingEventData withPerServerData(PerServerPingData... elements) {
+    ImmutableList<PerServerPingData> newValue = ImmutableList.copyOf(elements);
+    return new LoadBalancerPingEventData(newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of perServerData elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final LoadBalancerPingEventData withPerServerData(Iterable<? extends PerServerPingData> elements) {
+    if (this.perServerData == elements) {
+      return this;
+    }
+    ImmutableList<PerServerPingData> newValue = ImmutableList.copyOf(elements);
+    return new LoadBalancerPingEventData(newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code LoadBalancerPingEventData} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof LoadBalancerPingEventData && equalTo((LoadBalancerPingEventData) another));
+  }
+
+  private boolean equalTo(LoadBalancerPingEventData another) {
+    return perServerData.equals(another.perServerData);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code perServerData}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + perServerData.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code LoadBalancerPingEventData{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LoadBalancerPingEventData")
+        .add("perServerData", perServerData)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable LoadBalancerPingEventData instance
+   */
+  public static LoadBalancerPingEventData copyOf(LoadBalancerPingEvent.AbstractLoadBalancerPingEventData instance) {
+    if (instance instanceof LoadBalancerPingEventData) {
+      return (LoadBalancerPingEventData) instance;
+    }
+    return LoadBalancerPingEventData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.slb.LoadBalancerPingEventData LoadBalancerPingEventData}.
+   * @return new LoadBalancerPingEventData builder
+   */
+  public static LoadBalancerPingEventData.Builder builder() {
+    return new LoadBalancerPingEventData.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.slb.LoadBalancerPingEventData LoadBalancerPingEventData}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<PerServerPingData> perServerDataBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(LoadBalancerPingEvent.AbstractLoadBalancerPingEventData instance) {
+      Preconditions.checkNotNull(instance);
+      addAllPerServerData(instance.getPerServerData());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData} list.
+     * @param element perServerData element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addPerServerData(PerServerPingData element) {
+      perServerDataBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData} list.
+     * @param elements array of perServerData elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addPerServerData(PerServerPingData... elements) {
+      perServerDataBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData} list.
+     * @param elements iterable of perServerData elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPerServerData(Iterable<? extends PerServerPingData> elements) {
+      perServerDataBuilder = ImmutableList.builder();
+      return addAllPerServerData(elements);
+    }
+
+    /**
+     * Adds elements to {@link LoadBalancerPingEvent.AbstractLoadBalancerPingEventData#getPerServerData() perServerData} list.
+     * @param elements iterable of perServerData elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllPerServerData(Iterable<? extends PerServerPingData> elements) {
+      perServerDataBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.slb.LoadBalancerPingEventData LoadBalancerPingEventData}.
+     * @return immutable instance of LoadBalancerPingEventData
+     */
+    public LoadBalancerPingEventData build() {
+      return new LoadBalancerPingEventData(perServerDataBuilder.build());
+    }
+  }
+}
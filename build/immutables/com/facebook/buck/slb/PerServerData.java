@@ -0,0 +1,286 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.net.URI;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ServerHealthManagerEvent.AbstractPerServerData}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code PerServerData.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ServerHealthManagerEvent.AbstractPerServerData"})
+@Immutable
+public final class PerServerData extends ServerHealthManagerEvent.AbstractPerServerData {
+  private final URI server;
+  private final boolean serverUnhealthy;
+  private final boolean bestServer;
+
+  private PerServerData(PerServerData.Builder builder) {
+    this.server = builder.server;
+    this.serverUnhealthy = builder.serverUnhealthyIsSet()
+        ? builder.serverUnhealthy
+        : super.isServerUnhealthy();
+    this.bestServer = builder.bestServerIsSet()
+        ? builder.bestServer
+        : super.isBestServer();
+  }
+
+  private PerServerData(URI server, boolean serverUnhealthy, boolean bestServer) {
+    this.server = server;
+    this.serverUnhealthy = serverUnhealthy;
+    this.bestServer = bestServer;
+  }
+
+  /**
+   * @return value of {@code server} attribute
+   */
+  @Override
+  public URI getServer() {
+    return server;
+  }
+
+  /**
+   * @return value of {@code serverUnhealthy} attribute
+   */
+  @Override
+  public boolean isServerUnhealthy() {
+    return serverUnhealthy;
+  }
+
+  /**
+   * @return value of {@code bestServer} attribute
+   */
+  @Override
+  public boolean isBestServer() {
+    return bestServer;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ServerHealthManagerEvent.AbstractPerServerData#getServer() server}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for server
+   * @return modified copy of the {@code this} object
+   */
+  public final PerServerData withServer(URI value) {
+    if (this.server == value) {
+      return this;
+    }
+    URI newValue = Preconditions.checkNotNull(value);
+    return new PerServerData(newValue, this.serverUnhealthy, this.bestServer);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ServerHealthManagerEvent.AbstractPerServerData#isServerUnhealthy() serverUnhealthy}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for serverUnhealthy
+   * @return modified copy of the {@code this} object
+   */
+  public final PerServerData withServerUnhealthy(boolean value) {
+    if (this.serverUnhealthy == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new PerServerData(this.server, newValue, this.bestServer);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ServerHealthManagerEvent.AbstractPerServerData#isBestServer() bestServer}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for bestServer
+   * @return modified copy of the {@code this} object
+   */
+  public final PerServerData withBestServer(boolean value) {
+    if (this.bestServer == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new PerServerData(this.server, this.serverUnhealthy, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code PerServerData} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof PerServerData && equalTo((PerServerData) another));
+  }
+
+  private boolean equalTo(PerServerData another) {
+    return server.equals(another.server)
+        && serverUnhealthy == another.serverUnhealthy
+        && bestServer == another.bestServer;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code server}, {@code serverUnhealthy}, {@code bestServer}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + server.hashCode();
+    h = h * 17 + Booleans.hashCode(serverUnhealthy);
+    h = h * 17 + Booleans.hashCode(bestServer);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code PerServerData{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerServerData")
+        .add("server", server)
+        .add("serverUnhealthy", serverUnhealthy)
+        .add("bestServer", bestServer)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link ServerHealthManagerEvent.AbstractPerServerData}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable PerServerData instance
+   */
+  public static PerServerData copyOf(ServerHealthManagerEvent.AbstractPerServerData instance) {
+    if (instance instanceof PerServerData) {
+      return (PerServerData) instance;
+    }
+    return PerServerData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.slb.PerServerData PerServerData}.
+   * @return new PerServerData builder
+   */
+  public static PerServerData.Builder builder() {
+    return new PerServerData.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.slb.PerServerData PerServerData}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_SERVER = 0x1L;
+    private static final long NONDEFAULT_BIT_SERVER_UNHEALTHY = 0x1L;
+    private static final long NONDEFAULT_BIT_BEST_SERVER = 0x2L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private @Nullable URI server;
+    private boolean serverUnhealthy;
+    private boolean bestServer;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link ServerHealthManagerEvent.AbstractPerServerData} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(ServerHealthManagerEvent.AbstractPerServerData instance) {
+      Preconditions.checkNotNull(instance);
+      setServer(instance.getServer());
+      setServerUnhealthy(instance.isServerUnhealthy());
+      setBestServer(instance.isBestServer());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ServerHealthManagerEvent.AbstractPerServerData#getServer() server}.
+     * @param server value for server
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setServer(URI server) {
+      this.server = Preconditions.checkNotNull(server);
+      initializedBitset |= INITIALIZED_BIT_SERVER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ServerHealthManagerEvent.AbstractPerServerData#isServerUnhealthy() serverUnhealthy}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link ServerHealthManagerEvent.AbstractPerServerData#isServerUnhealthy() serverUnhealthy}.</em>
+     * @param serverUnhealthy value for serverUnhealthy
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setServerUnhealthy(boolean serverUnhealthy) {
+      this.serverUnhealthy = serverUnhealthy;
+      nondefaultBitset |= NONDEFAULT_BIT_SERVER_UNHEALTHY;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ServerHealthManagerEvent.AbstractPerServerData#isBestServer() bestServer}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link ServerHealthManagerEvent.AbstractPerServerData#isBestServer() bestServer}.</em>
+     * @param bestServer value for bestServer
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBestServer(boolean bestServer) {
+      this.bestServer = bestServer;
+      nondefaultBitset |= NONDEFAULT_BIT_BEST_SERVER;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.slb.PerServerData PerServerData}.
+     * @return immutable instance of PerServerData
+     */
+    public PerServerData build() {
+      checkRequiredAttributes();
+      return new PerServerData(this);
+    }
+
+    private boolean serverUnhealthyIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_SERVER_UNHEALTHY) != 0;
+    }
+
+    private boolean bestServerIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_BEST_SERVER) != 0;
+    }
+
+    private boolean serverIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SERVER) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!serverIsSet()) {
+        attributes.add("server");
+      }
+      return "Cannot build PerServerData, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,311 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.net.URI;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link LoadBalancerPingEvent.AbstractPerServerPingData}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code PerServerPingData.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "LoadBalancerPingEvent.AbstractPerServerPingData"})
+@Immutable
+public final class PerServerPingData
+    implements LoadBalancerPingEvent.AbstractPerServerPingData {
+  private final URI server;
+  private final Optional<Exception> exception;
+  private final Optional<Long> pingRequestLatencyMillis;
+
+  private PerServerPingData(
+      URI server,
+      Optional<Exception> exception,
+      Optional<Long> pingRequestLatencyMillis) {
+    this.server = server;
+    this.exception = exception;
+    this.pingRequestLatencyMillis = pingRequestLatencyMillis;
+  }
+
+  /**
+   * @return value of {@code server} attribute
+   */
+  @Override
+  public URI getServer() {
+    return server;
+  }
+
+  /**
+   * @return value of {@code exception} attribute
+   */
+  @Override
+  public Optional<Exception> getException() {
+    return exception;
+  }
+
+  /**
+   * @return value of {@code pingRequestLatencyMillis} attribute
+   */
+  @Override
+  public Optional<Long> getPingRequestLatencyMillis() {
+    return pingRequestLatencyMillis;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link LoadBalancerPingEvent.AbstractPerServerPingData#getServer() server}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for server
+   * @return modified copy of the {@code this} object
+   */
+  public final PerServerPingData withServer(URI value) {
+    if (this.server == value) {
+      return this;
+    }
+    URI newValue = Preconditions.checkNotNull(value);
+    return new PerServerPingData(newValue, this.exception, this.pingRequestLatencyMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link LoadBalancerPingEvent.AbstractPerServerPingData#getException() exception}.
+   * @param value value for exception
+   * @return modified copy of {@code this} object
+   */
+  public final PerServerPingData withException(Exception value) {
+    Optional<Exception> newValue = Optional.of(value);
+    return new PerServerPingData(this.server, newValue, this.pingRequestLatencyMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link LoadBalancerPingEvent.AbstractPerServerPingData#getException() exception}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for exception
+   * @return modified copy of {@code this} object
+   */
+  public final PerServerPingData withException(Optional<Exception> optional) {
+    if (this.exception == optional) {
+      return this;
+    }
+    Optional<Exception> newValue = Preconditions.checkNotNull(optional);
+    return new PerServerPingData(this.server, newValue, this.pingRequestLatencyMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link LoadBalancerPingEvent.AbstractPerServerPingData#getPingRequestLatencyMillis() pingRequestLatencyMillis}.
+   * @param value value for pingRequestLatencyMillis
+   * @return modified copy of {@code this} object
+   */
+  public final PerServerPingData withPingRequestLatencyMillis(long value) {
+    Optional<Long> newValue = Optional.of(value);
+    return new PerServerPingData(this.server, this.exception, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link LoadBalancerPingEvent.AbstractPerServerPingData#getPingRequestLatencyMillis() pingRequestLatencyMillis}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for pingRequestLatencyMillis
+   * @return modified copy of {@code this} object
+   */
+  public final PerServerPingData withPingRequestLatencyMillis(Optional<Long> optional) {
+    if (this.pingRequestLatencyMillis == optional) {
+      return this;
+    }
+    Optional<Long> newValue = Preconditions.checkNotNull(optional);
+    return new PerServerPingData(this.server, this.exception, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code PerServerPingData} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof PerServerPingData && equalTo((PerServerPingData) another));
+  }
+
+  private boolean equalTo(PerServerPingData another) {
+    return server.equals(another.server)
+        && exception.equals(another.exception)
+        && pingRequestLatencyMillis.equals(another.pingRequestLatencyMillis);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code server}, {@code exception}, {@code pingRequestLatencyMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + server.hashCode();
+    h = h * 17 + exception.hashCode();
+    h = h * 17 + pingRequestLatencyMillis.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code PerServerPingData{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerServerPingData")
+        .add("server", server)
+        .add("exception", exception)
+        .add("pingRequestLatencyMillis", pingRequestLatencyMillis)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link LoadBalancerPingEvent.AbstractPerServerPingData}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable PerServerPingData instance
+   */
+  public static PerServerPingData copyOf(LoadBalancerPingEvent.AbstractPerServerPingData instance) {
+    if (instance instanceof PerServerPingData) {
+      return (PerServerPingData) instance;
+    }
+    return PerServerPingData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.slb.PerServerPingData PerServerPingData}.
+   * @return new PerServerPingData builder
+   */
+  public static PerServerPingData.Builder builder() {
+    return new PerServerPingData.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.slb.PerServerPingData PerServerPingData}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_SERVER = 0x1L;
+    private long initializedBitset;
+    private @Nullable URI server;
+    private Optional<Exception> exception = Optional.absent();
+    private Optional<Long> pingRequestLatencyMillis = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link LoadBalancerPingEvent.AbstractPerServerPingData} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(LoadBalancerPingEvent.AbstractPerServerPingData instance) {
+      Preconditions.checkNotNull(instance);
+      setServer(instance.getServer());
+      Optional<Exception> exceptionOptional = instance.getException();
+      if (exceptionOptional.isPresent()) {
+        setException(exceptionOptional);
+      }
+      Optional<Long> pingRequestLatencyMillisOptional = instance.getPingRequestLatencyMillis();
+      if (pingRequestLatencyMillisOptional.isPresent()) {
+        setPingRequestLatencyMillis(pingRequestLatencyMillisOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link LoadBalancerPingEvent.AbstractPerServerPingData#getServer() server}.
+     * @param server value for server
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setServer(URI server) {
+      this.server = Preconditions.checkNotNull(server);
+      initializedBitset |= INITIALIZED_BIT_SERVER;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link LoadBalancerPingEvent.AbstractPerServerPingData#getException() exception}.
+     * @param exception value for exception
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setException(Exception exception) {
+      this.exception = Optional.of(exception);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link LoadBalancerPingEvent.AbstractPerServerPingData#getException() exception}.
+     * @param exception value for exception
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setException(Optional<Exception> exception) {
+      this.exception = Preconditions.checkNotNull(exception);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link LoadBalancerPingEvent.AbstractPerServerPingData#getPingRequestLatencyMillis() pingRequestLatencyMillis}.
+     * @param pingRequestLatencyMillis value for pingRequestLatencyMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPingRequestLatencyMillis(long pingRequestLatencyMillis) {
+      this.pingRequestLatencyMillis = Optional.of(pingRequestLatencyMillis);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link LoadBalancerPingEvent.AbstractPerServerPingData#getPingRequestLatencyMillis() pingRequestLatencyMillis}.
+     * @param pingRequestLatencyMillis value for pingRequestLatencyMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPingRequestLatencyMillis(Optional<Long> pingRequestLatencyMillis) {
+      this.pingRequestLatencyMillis = Preconditions.checkNotNull(pingRequestLatencyMillis);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.slb.PerServerPingData PerServerPingData}.
+     * @return immutable instance of PerServerPingData
+     */
+    public PerServerPingData build() {
+      checkRequiredAttributes();
+      return new PerServerPingData(server, exception, pingRequestLatencyMillis);
+    }
+
+    private boolean serverIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SERVER) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!serverIsSet()) {
+        attributes.add("server");
+      }
+      return "Cannot build PerServerPingData, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ServerHealthManagerEventData.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ServerHealthManagerEvent.AbstractServerHealthManagerEventData"})
+@Immutable
+public final class ServerHealthManagerEventData
+    extends ServerHealthManagerEvent.AbstractServerHealthManagerEventData {
+  private final boolean noHealthyServersAvailable;
+  private final ImmutableList<PerServerData> perServerData;
+
+  private ServerHealthManagerEventData(ServerHealthManagerEventData.Builder builder) {
+    this.perServerData = builder.perServerDataBuilder.build();
+    this.noHealthyServersAvailable = builder.noHealthyServersAvailableIsSet()
+        ? builder.noHealthyServersAvailable
+        : super.noHealthyServersAvailable();
+  }
+
+  private ServerHealthManagerEventData(
+      boolean noHealthyServersAvailable,
+      ImmutableList<PerServerData> perServerData) {
+    this.noHealthyServersAvailable = noHealthyServersAvailable;
+    this.perServerData = perServerData;
+  }
+
+  /**
+   * @return value of {@code noHealthyServersAvailable} attribute
+   */
+  @Override
+  public boolean noHealthyServersAvailable() {
+    return noHealthyServersAvailable;
+  }
+
+  /**
+   * @return value of {@code perServerData} attribute
+   */
+  @Override
+  public ImmutableList<PerServerData> getPerServerData() {
+    return perServerData;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#noHealthyServersAvailable() noHealthyServersAvailable}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for noHealthyServersAvailable
+   * @return modified copy of the {@code this} object
+   */
+  public final ServerHealthManagerEventData withNoHealthyServersAvailable(boolean value) {
+    if (this.noHealthyServersAvailable == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ServerHealthManagerEventData(newValue, this.perServerData);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ServerHealthManagerEventData withPerServerData(PerServerData... elements) {
+    ImmutableList<PerServerData> newValue = ImmutableList.copyOf(elements);
+    return new ServerHealthManagerEventData(this.noHealthyServersAvailable, newValue);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of perServerData elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ServerHealthManagerEventData withPerServerData(Iterable<? extends PerServerData> elements) {
+    if (this.perServerData == elements) {
+      return this;
+    }
+    ImmutableList<PerServerData> newValue = ImmutableList.copyOf(elements);
+    return new ServerHealthManagerEventData(this.noHealthyServersAvailable, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ServerHealthManagerEventData} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ServerHealthManagerEventData && equalTo((ServerHealthManagerEventData) another));
+  }
+
+  private boolean equalTo(ServerHealthManagerEventData another) {
+    return noHealthyServersAvailable == another.noHealthyServersAvailable
+        && perServerData.equals(another.perServerData);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code noHealthyServersAvailable}, {@code perServerData}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Booleans.hashCode(noHealthyServersAvailable);
+    h = h * 17 + perServerData.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ServerHealthManagerEventData{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ServerHealthManagerEventData")
+        .add("noHealthyServersAvailable", noHealthyServersAvailable)
+        .add("perServerData", perServerData)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ServerHealthManagerEventData instance
+   */
+  public static ServerHealthManagerEventData copyOf(ServerHealthManagerEvent.AbstractServerHealthManagerEventData instance) {
+    if (instance instanceof ServerHealthManagerEventData) {
+      return (ServerHealthManagerEventData) instance;
+    }
+    return ServerHealthManagerEventData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.slb.ServerHealthManagerEventData ServerHealthManagerEventData}.
+   * @return new ServerHealthManagerEventData builder
+   */
+  public static ServerHealthManagerEventData.Builder builder() {
+    return new ServerHealthManagerEventData.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.slb.ServerHealthManagerEventData ServerHealthManagerEventData}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long NONDEFAULT_BIT_NO_HEALTHY_SERVERS_AVAILABLE = 0x1L;
+    private long nondefaultBitset;
+    private boolean noHealthyServersAvailable;
+    private ImmutableList.Builder<PerServerData> perServerDataBuilder = ImmutableList.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(ServerHealthManagerEvent.AbstractServerHealthManagerEventData instance) {
+      Preconditions.checkNotNull(instance);
+      setNoHealthyServersAvailable(instance.noHealthyServersAvailable());
+      addAllPerServerData(instance.getPerServerData());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#noHealthyServersAvailable() noHealthyServersAvailable}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#noHealthyServersAvailable() noHealthyServersAvailable}.</em>
+     * @param noHealthyServersAvailable value for noHealthyServersAvailable
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNoHealthyServersAvailable(boolean noHealthyServersAvailable) {
+      this.noHealthyServersAvailable = noHealthyServersAvailable;
+      nondefaultBitset |= NONDEFAULT_BIT_NO_HEALTHY_SERVERS_AVAILABLE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param element perServerData element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addPerServerData(PerServerData element) {
+      perServerDataBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param elements array of perServerData elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addPerServerData(PerServerData... elements) {
+      perServerDataBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param elements iterable of perServerData elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPerServerData(Iterable<? extends PerServerData> elements) {
+      perServerDataBuilder = ImmutableList.builder();
+      return addAllPerServerData(elements);
+    }
+
+    /**
+     * Adds elements to {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param elements iterable of perServerData elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllPerServerData(Iterable<? extends PerServerData> elements) {
+      perServerDataBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.slb.ServerHealthManagerEventData ServerHealthManagerEventData}.
+     * @return immutable instance of ServerHealthManagerEventData
+     */
+    public ServerHealthManagerEventData build() {
+      return new ServerHealthManagerEventData(this);
+    }
+
+    private boolean noHealthyServersAvailableIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_NO_HEALTHY_SERVERS_AVAILABLE) != 0;
+    }
+  }
+}
@@ -0,0 +1,1106 @@
+package com.facebook.buck.step;
+
+import com.facebook.buck.android.AndroidPlatformTarget;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.util.ClassLoaderCache;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.Verbosity;
+import com.facebook.buck.util.concurrent.ConcurrencyLimit;
+import com.facebook.buck.util.environment.Platform;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link ExecutionContext}.
+ * <p>
+ * Use static factory method to create immutable instances:
+ * {@code ImmutableExecutionContext.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ExecutionContext"})
+@Immutable
+public final class ImmutableExecutionContext extends ExecutionContext {
+  private final Console console;
+  private final Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+  private final Optional<TargetDevice> targetDeviceOptional;
+  private final long defaultTestTimeoutMillis;
+  private final boolean codeCoverageEnabled;
+  private final boolean debugEnabled;
+  private final boolean shouldReportAbsolutePaths;
+  private final ProcessExecutor processExecutor;
+  private final BuckEventBus buckEventBus;
+  private final Platform platform;
+  private final ImmutableMap<String, String> environment;
+  private final JavaPackageFinder javaPackageFinder;
+  private final ObjectMapper objectMapper;
+  private final ClassLoaderCache classLoaderCache;
+  private final ConcurrencyLimit concurrencyLimit;
+  private final Optional<AdbOptions> adbOptions;
+  private final Optional<TargetDeviceOptions> targetDeviceOptions;
+  private final Verbosity verbosity;
+  private final ImmutableMap<ExecutionContext.ExecutorPool, ListeningExecutorService> executors;
+
+  private ImmutableExecutionContext(
+      Console console,
+      Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier,
+      Optional<TargetDevice> targetDeviceOptional,
+      long defaultTestTimeoutMillis,
+      boolean codeCoverageEnabled,
+      boolean debugEnabled,
+      boolean shouldReportAbsolutePaths,
+      ProcessExecutor processExecutor,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      Map<String, ? extends String> environment,
+      JavaPackageFinder javaPackageFinder,
+      ObjectMapper objectMapper,
+      ClassLoaderCache classLoaderCache,
+      ConcurrencyLimit concurrencyLimit,
+      Optional<AdbOptions> adbOptions,
+      Optional<TargetDeviceOptions> targetDeviceOptions,
+      Map<ExecutionContext.ExecutorPool, ? extends ListeningExecutorService> executors) {
+    this.console = Preconditions.checkNotNull(console);
+    this.androidPlatformTargetSupplier = Preconditions.checkNotNull(androidPlatformTargetSupplier);
+    this.targetDeviceOptional = Preconditions.checkNotNull(targetDeviceOptional);
+    this.defaultTestTimeoutMillis = defaultTestTimeoutMillis;
+    this.codeCoverageEnabled = codeCoverageEnabled;
+    this.debugEnabled = debugEnabled;
+    this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+    this.processExecutor = Preconditions.checkNotNull(processExecutor);
+    this.buckEventBus = Preconditions.checkNotNull(buckEventBus);
+    this.platform = Preconditions.checkNotNull(platform);
+    this.environment = ImmutableMap.copyOf(environment);
+    this.javaPackageFinder = Preconditions.checkNotNull(javaPackageFinder);
+    this.objectMapper = Preconditions.checkNotNull(objectMapper);
+    this.classLoaderCache = Preconditions.checkNotNull(classLoaderCache);
+    this.concurrencyLimit = Preconditions.checkNotNull(concurrencyLimit);
+    this.adbOptions = Preconditions.checkNotNull(adbOptions);
+    this.targetDeviceOptions = Preconditions.checkNotNull(targetDeviceOptions);
+    this.executors = Maps.immutableEnumMap(executors);
+    this.verbosity = Preconditions.checkNotNull(super.getVerbosity());
+  }
+
+  private ImmutableExecutionContext(
+      ImmutableExecutionContext original,
+      Console console,
+      Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier,
+      Optional<TargetDevice> targetDeviceOptional,
+      long defaultTestTimeoutMillis,
+      boolean codeCoverageEnabled,
+      boolean debugEnabled,
+      boolean shouldReportAbsolutePaths,
+      ProcessExecutor processExecutor,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      ImmutableMap<String, String> environment,
+      JavaPackageFinder javaPackageFinder,
+      ObjectMapper objectMapper,
+      ClassLoaderCache classLoaderCache,
+      ConcurrencyLimit concurrencyLimit,
+      Optional<AdbOptions> adbOptions,
+      Optional<TargetDeviceOptions> targetDeviceOptions,
+      ImmutableMap<ExecutionContext.ExecutorPool, ListeningExecutorService> executors) {
+    this.console = console;
+    this.androidPlatformTargetSupplier = androidPlatformTargetSupplier;
+    this.targetDeviceOptional = targetDeviceOptional;
+    this.defaultTestTimeoutMillis = defaultTestTimeoutMillis;
+    this.codeCoverageEnabled = codeCoverageEnabled;
+    this.debugEnabled = debugEnabled;
+    this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+    this.processExecutor = processExecutor;
+    this.buckEventBus = buckEventBus;
+    this.platform = platform;
+    this.environment = environment;
+    this.javaPackageFinder = javaPackageFinder;
+    this.objectMapper = objectMapper;
+    this.classLoaderCache = classLoaderCache;
+    this.concurrencyLimit = concurrencyLimit;
+    this.adbOptions = adbOptions;
+    this.targetDeviceOptions = targetDeviceOptions;
+    this.executors = executors;
+    this.verbosity = Preconditions.checkNotNull(super.getVerbosity());
+  }
+
+  /**
+   * @return value of {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * Returns an {@link AndroidPlatformTarget} if the user specified one via {@code local.properties}
+   * or some other mechanism. If the user failed to specify one, an exception will be thrown.
+   */
+  @Override
+  public Supplier<AndroidPlatformTarget> getAndroidPlatformTargetSupplier() {
+    return androidPlatformTargetSupplier;
+  }
+
+  /**
+   * @return value of {@code targetDeviceOptional} attribute
+   */
+  @Override
+  public Optional<TargetDevice> getTargetDeviceOptional() {
+    return targetDeviceOptional;
+  }
+
+  /**
+   * @return value of {@code defaultTestTimeoutMillis} attribute
+   */
+  @Override
+  public long getDefaultTestTimeoutMillis() {
+    return defaultTestTimeoutMillis;
+  }
+
+  /**
+   * @return value of {@code codeCoverageEnabled} attribute
+   */
+  @Override
+  public boolean isCodeCoverageEnabled() {
+    return codeCoverageEnabled;
+  }
+
+  /**
+   * @return value of {@code debugEnabled} attribute
+   */
+  @Override
+  public boolean isDebugEnabled() {
+    return debugEnabled;
+  }
+
+  /**
+   * @return value of {@code shouldReportAbsolutePaths} attribute
+   */
+  @Override
+  public boolean shouldReportAbsolutePaths() {
+    return shouldReportAbsolutePaths;
+  }
+
+  /**
+   * @return value of {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return value of {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return value of {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return value of {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return value of {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return value of {@code objectMapper} attribute
+   */
+  @Override
+  public ObjectMapper getObjectMapper() {
+    return objectMapper;
+  }
+
+  /**
+   * @return value of {@code classLoaderCache} attribute
+   */
+  @Override
+  public ClassLoaderCache getClassLoaderCache() {
+    return classLoaderCache;
+  }
+
+  /**
+   * @return value of {@code concurrencyLimit} attribute
+   */
+  @Override
+  public ConcurrencyLimit getConcurrencyLimit() {
+    return concurrencyLimit;
+  }
+
+  /**
+   * @return value of {@code adbOptions} attribute
+   */
+  @Override
+  public Optional<AdbOptions> getAdbOptions() {
+    return adbOptions;
+  }
+
+  /**
+   * @return value of {@code targetDeviceOptions} attribute
+   */
+  @Override
+  public Optional<TargetDeviceOptions> getTargetDeviceOptions() {
+    return targetDeviceOptions;
+  }
+
+  /**
+   * @return computed at construction value of {@code verbosity} attribute
+   */
+  @Override
+  public Verbosity getVerbosity() {
+    return verbosity;
+  }
+
+  /**
+   * @return value of {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutionContext.ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getConsole() console}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for console
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withConsole(Console value) {
+    if (this.console == value) {
+      return this;
+    }
+    Console newValue = Preconditions.checkNotNull(value);
+    return new ImmutableExecutionContext(
+            this,
+            newValue,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for androidPlatformTargetSupplier
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> value) {
+    if (this.androidPlatformTargetSupplier == value) {
+      return this;
+    }
+    Supplier<AndroidPlatformTarget> newValue = Preconditions.checkNotNull(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            newValue,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link ExecutionContext#getTargetDeviceOptional() targetDeviceOptional}.
+   * @param value value for targetDeviceOptional
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableExecutionContext withTargetDeviceOptional(TargetDevice value) {
+    Optional<TargetDevice> newValue = Optional.of(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            newValue,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link ExecutionContext#getTargetDeviceOptional() targetDeviceOptional}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for targetDeviceOptional
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableExecutionContext withTargetDeviceOptional(Optional<TargetDevice> optional) {
+    if (this.targetDeviceOptional == optional) {
+      return this;
+    }
+    Optional<TargetDevice> newValue = Preconditions.checkNotNull(optional);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            newValue,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for defaultTestTimeoutMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withDefaultTestTimeoutMillis(long value) {
+    if (this.defaultTestTimeoutMillis == value) {
+      return this;
+    }
+    long newValue = value;
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            newValue,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#isCodeCoverageEnabled() codeCoverageEnabled}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for codeCoverageEnabled
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withCodeCoverageEnabled(boolean value) {
+    if (this.codeCoverageEnabled == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            newValue,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#isDebugEnabled() debugEnabled}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for debugEnabled
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withDebugEnabled(boolean value) {
+    if (this.debugEnabled == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            newValue,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for shouldReportAbsolutePaths
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withShouldReportAbsolutePaths(boolean value) {
+    if (this.shouldReportAbsolutePaths == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            newValue,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getProcessExecutor() processExecutor}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for processExecutor
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withProcessExecutor(ProcessExecutor value) {
+    if (this.processExecutor == value) {
+      return this;
+    }
+    ProcessExecutor newValue = Preconditions.checkNotNull(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            newValue,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getBuckEventBus() buckEventBus}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buckEventBus
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) {
+      return this;
+    }
+    BuckEventBus newValue = Preconditions.checkNotNull(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            newValue,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getPlatform() platform}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for platform
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withPlatform(Platform value) {
+    if (this.platform == value) {
+      return this;
+    }
+    Platform newValue = Preconditions.checkNotNull(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            newValue,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link ExecutionContext#getEnvironment() environment} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to environment map
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableExecutionContext withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            newValue,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getJavaPackageFinder() javaPackageFinder}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for javaPackageFinder
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) {
+      return this;
+    }
+    JavaPackageFinder newValue = Preconditions.checkNotNull(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            newValue,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getObjectMapper() objectMapper}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for objectMapper
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withObjectMapper(ObjectMapper value) {
+    if (this.objectMapper == value) {
+      return this;
+    }
+    ObjectMapper newValue = Preconditions.checkNotNull(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            newValue,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getClassLoaderCache() classLoaderCache}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for classLoaderCache
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withClassLoaderCache(ClassLoaderCache value) {
+    if (this.classLoaderCache == value) {
+      return this;
+    }
+    ClassLoaderCache newValue = Preconditions.checkNotNull(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            newValue,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link ExecutionContext#getConcurrencyLimit() concurrencyLimit}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for concurrencyLimit
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableExecutionContext withConcurrencyLimit(ConcurrencyLimit value) {
+    if (this.concurrencyLimit == value) {
+      return this;
+    }
+    ConcurrencyLimit newValue = Preconditions.checkNotNull(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            newValue,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link ExecutionContext#getAdbOptions() adbOptions}.
+   * @param value value for adbOptions
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableExecutionContext withAdbOptions(AdbOptions value) {
+    Optional<AdbOptions> newValue = Optional.of(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            newValue,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link ExecutionContext#getAdbOptions() adbOptions}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for adbOptions
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableExecutionContext withAdbOptions(Optional<AdbOptions> optional) {
+    if (this.adbOptions == optional) {
+      return this;
+    }
+    Optional<AdbOptions> newValue = Preconditions.checkNotNull(optional);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            newValue,
+            this.targetDeviceOptions,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link ExecutionContext#getTargetDeviceOptions() targetDeviceOptions}.
+   * @param value value for targetDeviceOptions
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableExecutionContext withTargetDeviceOptions(TargetDeviceOptions value) {
+    Optional<TargetDeviceOptions> newValue = Optional.of(value);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            newValue,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link ExecutionContext#getTargetDeviceOptions() targetDeviceOptions}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for targetDeviceOptions
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableExecutionContext withTargetDeviceOptions(Optional<TargetDeviceOptions> optional) {
+    if (this.targetDeviceOptions == optional) {
+      return this;
+    }
+    Optional<TargetDeviceOptions> newValue = Preconditions.checkNotNull(optional);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            newValue,
+            this.executors);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link ExecutionContext#getExecutors() executors} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to executors map
+   * @return modified copy of {@code this} object
+   */
+  public final ImmutableExecutionContext withExecutors(Map<ExecutionContext.ExecutorPool, ? extends ListeningExecutorService> entries) {
+    if (this.executors == entries) {
+      return this;
+    }
+    ImmutableMap<ExecutionContext.ExecutorPool, ListeningExecutorService> newValue = Maps.immutableEnumMap(entries);
+    return new ImmutableExecutionContext(
+            this,
+            this.console,
+            this.androidPlatformTargetSupplier,
+            this.targetDeviceOptional,
+            this.defaultTestTimeoutMillis,
+            this.codeCoverageEnabled,
+            this.debugEnabled,
+            this.shouldReportAbsolutePaths,
+            this.processExecutor,
+            this.buckEventBus,
+            this.platform,
+            this.environment,
+            this.javaPackageFinder,
+            this.objectMapper,
+            this.classLoaderCache,
+            this.concurrencyLimit,
+            this.adbOptions,
+            this.targetDeviceOptions,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ImmutableExecutionContext} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ImmutableExecutionContext && equalTo((ImmutableExecutionContext) another));
+  }
+
+  private boolean equalTo(ImmutableExecutionContext another) {
+    return console.equals(another.console)
+        && androidPlatformTargetSupplier.equals(another.androidPlatformTargetSupplier)
+        && targetDeviceOptional.equals(another.targetDeviceOptional)
+        && defaultTestTimeoutMillis == another.defaultTestTimeoutMillis
+        && codeCoverageEnabled == another.codeCoverageEnabled
+        && debugEnabled == another.debugEnabled
+        && shouldReportAbsolutePaths == another.shouldReportAbsolutePaths
+        && processExecutor.equals(another.processExecutor)
+        && buckEventBus.equals(another.buckEventBus)
+        && platform.equals(another.platform)
+        && environment.equals(another.environment)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && objectMapper.equals(another.objectMapper)
+        && classLoaderCache.equals(another.classLoaderCache)
+        && concurrencyLimit.equals(another.concurrencyLimit)
+        && adbOptions.equals(another.adbOptions)
+        && targetDeviceOptions.equals(another.targetDeviceOptions)
+        && verbosity.equals(another.verbosity)
+        && executors.equals(another.executors);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code console}, {@code androidPlatformTargetSupplier}, {@code targetDeviceOptional}, {@code defaultTestTimeoutMillis}, {@code codeCoverageEnabled}, {@code debugEnabled}, {@code shouldReportAbsolutePaths}, {@code processExecutor}, {@code buckEventBus}, {@code platform}, {@code environment}, {@code javaPackageFinder}, {@code objectMapper}, {@code classLoaderCache}, {@code concurrencyLimit}, {@code adbOptions}, {@code targetDeviceOptions}, {@code verbosity}, {@code executors}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + console.hashCode();
+    h = h * 17 + androidPlatformTargetSupplier.hashCode();
+    h = h * 17 + targetDeviceOptional.hashCode();
+    h = h * 17 + Longs.hashCode(defaultTestTimeoutMillis);
+    h = h * 17 + Booleans.hashCode(codeCoverageEnabled);
+    h = h * 17 + Booleans.hashCode(debugEnabled);
+    h = h * 17 + Booleans.hashCode(shouldReportAbsolutePaths);
+    h = h * 17 + processExecutor.hashCode();
+    h = h * 17 + buckEventBus.hashCode();
+    h = h * 17 + platform.hashCode();
+    h = h * 17 + environment.hashCode();
+    h = h * 17 + javaPackageFinder.hashCode();
+    h = h * 17 + objectMapper.hashCode();
+    h = h * 17 + classLoaderCache.hashCode();
+    h = h * 17 + concurrencyLimit.hashCode();
+    h = h * 17 + adbOptions.hashCode();
+    h = h * 17 + targetDeviceOptions.hashCode();
+    h = h * 17 + verbosity.hashCode();
+    h = h * 17 + executors.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ExecutionContext{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExecutionContext")
+        .add("console", console)
+        .add("androidPlatformTargetSupplier", androidPlatformTargetSupplier)
+        .add("targetDeviceOptional", targetDeviceOptional)
+        .add("defaultTestTimeoutMillis", defaultTestTimeoutMillis)
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("debugEnabled", debugEnabled)
+        .add("shouldReportAbsolutePaths", shouldReportAbsolutePaths)
+        .add("processExecutor", processExecutor)
+        .add("buckEventBus", buckEventBus)
+        .add("platform", platform)
+        .add("environment", environment)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("objectMapper", objectMapper)
+        .add("classLoaderCache", classLoaderCache)
+        .add("concurrencyLimit", concurrencyLimit)
+        .add("adbOptions", adbOptions)
+        .add("targetDeviceOptions", targetDeviceOptions)
+        .add("verbosity", verbosity)
+        .add("executors", executors)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code ExecutionContext} instance.
+   * @param console value for {@code console}
+   * @param androidPlatformTargetSupplier value for {@code androidPlatformTargetSupplier}
+   * @param targetDeviceOptional value for {@code targetDeviceOptional}
+   * @param defaultTestTimeoutMillis value for {@code defaultTestTimeoutMillis}
+   * @param codeCoverageEnabled value for {@code codeCoverageEnabled}
+   * @param debugEnabled value for {@code debugEnabled}
+   * @param shouldReportAbsolutePaths value for {@code shouldReportAbsolutePaths}
+   * @param processExecutor value for {@code processExecutor}
+   * @param buckEventBus value for {@code buckEventBus}
+   * @param platform value for {@code platform}
+   * @param environment value for {@code environment}
+   * @param javaPackageFinder value for {@code javaPackageFinder}
+   * @param objectMapper value for {@code objectMapper}
+   * @param classLoaderCache value for {@code classLoaderCache}
+   * @param concurrencyLimit value for {@code concurrencyLimit}
+   * @param adbOptions value for {@code adbOptions}
+   * @param targetDeviceOptions value for {@code targetDeviceOptions}
+   * @param executors value for {@code executors}
+   * @return immutable ExecutionContext instance
+   */
+  public static com.facebook.buck.step.ImmutableExecutionContext of(Console console, Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier, Optional<TargetDevice> targetDeviceOptional, long defaultTestTimeoutMillis, boolean codeCoverageEnabled, boolean debugEnabled, boolean shouldReportAbsolutePaths, ProcessExecutor processExecutor, BuckEventBus buckEventBus, Platform platform, Map<String, ? extends String> environment, JavaPackageFinder javaPackageFinder, ObjectMapper objectMapper, ClassLoaderCache classLoaderCache, ConcurrencyLimit concurrencyLimit, Optional<AdbOptions> adbOptions, Optional<TargetDeviceOptions> targetDeviceOptions, Map<ExecutionContext.ExecutorPool, ? extends ListeningExecutorService> executors) {
+    return new ImmutableExecutionContext(console, androidPlatformTargetSupplier, targetDeviceOptional, defaultTestTimeoutMillis, codeCoverageEnabled, debugEnabled, shouldReportAbsolutePaths, processExecutor, buckEventBus, platform, environment, javaPackageFinder, objectMapper, classLoaderCache, concurrencyLimit, adbOptions, targetDeviceOptions, executors);
+  }
+
+  /**
+   * Creates immutable copy of {@link ExecutionContext}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ExecutionContext instance
+   */
+  public static ImmutableExecutionContext copyOf(ExecutionContext instance) {
+    if (instance instanceof ImmutableExecutionContext) {
+      return (ImmutableExecutionContext) instance;
+    }
+    return ImmutableExecutionContext.of(instance.getConsole(), instance.getAndroidPlatformTargetSupplier(), instance.getTargetDeviceOptional(), instance.getDefaultTestTimeoutMillis(), instance.isCodeCoverageEnabled(), instance.isDebugEnabled(), instance.shouldReportAbsolutePaths(), instance.getProcessExecutor(), instance.getBuckEventBus(), instance.getPlatform(), instance.getEnvironment(), instance.getJavaPackageFinder(), instance.getObjectMapper(), instance.getClassLoaderCache(), instance.getConcurrencyLimit(), instance.getAdbOptions(), instance.getTargetDeviceOptions(), instance.getExecutors());
+  }
+}
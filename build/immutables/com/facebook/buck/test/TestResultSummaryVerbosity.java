@@ -0,0 +1,315 @@
+package com.facebook.buck.test;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractTestResultSummaryVerbosity}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code TestResultSummaryVerbosity.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code TestResultSummaryVerbosity.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTestResultSummaryVerbosity"})
+@Immutable
+public final class TestResultSummaryVerbosity
+    implements AbstractTestResultSummaryVerbosity {
+  private final boolean includeStdErr;
+  private final boolean includeStdOut;
+  private final Optional<Integer> maxDebugLogLines;
+
+  private TestResultSummaryVerbosity(boolean includeStdErr, boolean includeStdOut) {
+    this.includeStdErr = includeStdErr;
+    this.includeStdOut = includeStdOut;
+    this.maxDebugLogLines = Optional.absent();
+  }
+
+  private TestResultSummaryVerbosity(
+      boolean includeStdErr,
+      boolean includeStdOut,
+      Optional<Integer> maxDebugLogLines) {
+    this.includeStdErr = includeStdErr;
+    this.includeStdOut = includeStdOut;
+    this.maxDebugLogLines = maxDebugLogLines;
+  }
+
+  /**
+   * @return value of {@code includeStdErr} attribute
+   */
+  @Override
+  public boolean getIncludeStdErr() {
+    return includeStdErr;
+  }
+
+  /**
+   * @return value of {@code includeStdOut} attribute
+   */
+  @Override
+  public boolean getIncludeStdOut() {
+    return includeStdOut;
+  }
+
+  /**
+   * @return value of {@code maxDebugLogLines} attribute
+   */
+  @Override
+  public Optional<Integer> getMaxDebugLogLines() {
+    return maxDebugLogLines;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestResultSummaryVerbosity#getIncludeStdErr() includeStdErr}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for includeStdErr
+   * @return modified copy of the {@code this} object
+   */
+  public final TestResultSummaryVerbosity withIncludeStdErr(boolean value) {
+    if (this.includeStdErr == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestResultSummaryVerbosity(newValue, this.includeStdOut, this.maxDebugLogLines);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestResultSummaryVerbosity#getIncludeStdOut() includeStdOut}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for includeStdOut
+   * @return modified copy of the {@code this} object
+   */
+  public final TestResultSummaryVerbosity withIncludeStdOut(boolean value) {
+    if (this.includeStdOut == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestResultSummaryVerbosity(this.includeStdErr, newValue, this.maxDebugLogLines);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractTestResultSummaryVerbosity#getMaxDebugLogLines() maxDebugLogLines}.
+   * @param value value for maxDebugLogLines
+   * @return modified copy of {@code this} object
+   */
+  public final TestResultSummaryVerbosity withMaxDebugLogLines(int value) {
+    Optional<Integer> newValue = Optional.of(value);
+    return new TestResultSummaryVerbosity(this.includeStdErr, this.includeStdOut, newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractTestResultSummaryVerbosity#getMaxDebugLogLines() maxDebugLogLines}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for maxDebugLogLines
+   * @return modified copy of {@code this} object
+   */
+  public final TestResultSummaryVerbosity withMaxDebugLogLines(Optional<Integer> optional) {
+    if (this.maxDebugLogLines == optional) {
+      return this;
+    }
+    Optional<Integer> newValue = Preconditions.checkNotNull(optional);
+    return new TestResultSummaryVerbosity(this.includeStdErr, this.includeStdOut, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code TestResultSummaryVerbosity} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof TestResultSummaryVerbosity && equalTo((TestResultSummaryVerbosity) another));
+  }
+
+  private boolean equalTo(TestResultSummaryVerbosity another) {
+    return includeStdErr == another.includeStdErr
+        && includeStdOut == another.includeStdOut
+        && maxDebugLogLines.equals(another.maxDebugLogLines);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code includeStdErr}, {@code includeStdOut}, {@code maxDebugLogLines}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Booleans.hashCode(includeStdErr);
+    h = h * 17 + Booleans.hashCode(includeStdOut);
+    h = h * 17 + maxDebugLogLines.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code TestResultSummaryVerbosity{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestResultSummaryVerbosity")
+        .add("includeStdErr", includeStdErr)
+        .add("includeStdOut", includeStdOut)
+        .add("maxDebugLogLines", maxDebugLogLines)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code TestResultSummaryVerbosity} instance.
+   * @param includeStdErr value for {@code includeStdErr}
+   * @param includeStdOut value for {@code includeStdOut}
+   * @return immutable TestResultSummaryVerbosity instance
+   */
+  public static com.facebook.buck.test.TestResultSummaryVerbosity of(boolean includeStdErr, boolean includeStdOut) {
+    return new TestResultSummaryVerbosity(includeStdErr, includeStdOut);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractTestResultSummaryVerbosity}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable TestResultSummaryVerbosity instance
+   */
+  public static TestResultSummaryVerbosity copyOf(AbstractTestResultSummaryVerbosity instance) {
+    if (instance instanceof TestResultSummaryVerbosity) {
+      return (TestResultSummaryVerbosity) instance;
+    }
+    return TestResultSummaryVerbosity.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.test.TestResultSummaryVerbosity TestResultSummaryVerbosity}.
+   * @return new TestResultSummaryVerbosity builder
+   */
+  public static TestResultSummaryVerbosity.Builder builder() {
+    return new TestResultSummaryVerbosity.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.test.TestResultSummaryVerbosity TestResultSummaryVerbosity}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_INCLUDE_STD_ERR = 0x1L;
+    private static final long INITIALIZED_BIT_INCLUDE_STD_OUT = 0x2L;
+    private long initializedBitset;
+    private boolean includeStdErr;
+    private boolean includeStdOut;
+    private Optional<Integer> maxDebugLogLines = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractTestResultSummaryVerbosity} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractTestResultSummaryVerbosity instance) {
+      Preconditions.checkNotNull(instance);
+      setIncludeStdErr(instance.getIncludeStdErr());
+      setIncludeStdOut(instance.getIncludeStdOut());
+      Optional<Integer> maxDebugLogLinesOptional = instance.getMaxDebugLogLines();
+      if (maxDebugLogLinesOptional.isPresent()) {
+        setMaxDebugLogLines(maxDebugLogLinesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestResultSummaryVerbosity#getIncludeStdErr() includeStdErr}.
+     * @param includeStdErr value for includeStdErr
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIncludeStdErr(boolean includeStdErr) {
+      this.includeStdErr = includeStdErr;
+      initializedBitset |= INITIALIZED_BIT_INCLUDE_STD_ERR;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestResultSummaryVerbosity#getIncludeStdOut() includeStdOut}.
+     * @param includeStdOut value for includeStdOut
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIncludeStdOut(boolean includeStdOut) {
+      this.includeStdOut = includeStdOut;
+      initializedBitset |= INITIALIZED_BIT_INCLUDE_STD_OUT;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractTestResultSummaryVerbosity#getMaxDebugLogLines() maxDebugLogLines}.
+     * @param maxDebugLogLines value for maxDebugLogLines
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxDebugLogLines(int maxDebugLogLines) {
+      this.maxDebugLogLines = Optional.of(maxDebugLogLines);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractTestResultSummaryVerbosity#getMaxDebugLogLines() maxDebugLogLines}.
+     * @param maxDebugLogLines value for maxDebugLogLines
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxDebugLogLines(Optional<Integer> maxDebugLogLines) {
+      this.maxDebugLogLines = Preconditions.checkNotNull(maxDebugLogLines);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.test.TestResultSummaryVerbosity TestResultSummaryVerbosity}.
+     * @return immutable instance of TestResultSummaryVerbosity
+     */
+    public TestResultSummaryVerbosity build() {
+      checkRequiredAttributes();
+      return new TestResultSummaryVerbosity(includeStdErr, includeStdOut, maxDebugLogLines);
+    }
+
+    private boolean includeStdErrIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_INCLUDE_STD_ERR) != 0;
+    }
+
+    private boolean includeStdOutIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_INCLUDE_STD_OUT) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!includeStdErrIsSet()) {
+        attributes.add("includeStdErr");
+      }
+      if (!includeStdOutIsSet()) {
+        attributes.add("includeStdOut");
+      }
+      return "Cannot build TestResultSummaryVerbosity, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,839 @@
+package com.facebook.buck.test;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractTestResults}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code TestResults.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code TestResults.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTestResults"})
+@Immutable
+public final class TestResults extends AbstractTestResults {
+  private final BuildTarget buildTarget;
+  private final boolean success;
+  private final boolean hasAssumptionViolations;
+  private final int failureCount;
+  private final ImmutableList<TestCaseSummary> failures;
+  private final ImmutableList<TestCaseSummary> testCases;
+  private final ImmutableSet<String> contacts;
+  private final ImmutableSet<String> labels;
+  private final ImmutableList<Path> testLogPaths;
+  private final boolean dependenciesPassTheirTests;
+  private final int sequenceNumber;
+  private final int totalNumberOfTests;
+
+  private TestResults(
+      BuildTarget buildTarget,
+      Iterable<? extends TestCaseSummary> testCases,
+      Iterable<String> contacts,
+      Iterable<String> labels) {
+    this.buildTarget = Preconditions.checkNotNull(buildTarget);
+    this.testCases = ImmutableList.copyOf(testCases);
+    this.contacts = ImmutableSet.copyOf(contacts);
+    this.labels = ImmutableSet.copyOf(labels);
+    this.testLogPaths = ImmutableList.of();
+    this.success = super.isSuccess();
+    this.hasAssumptionViolations = super.hasAssumptionViolations();
+    this.failureCount = super.getFailureCount();
+    this.failures = Preconditions.checkNotNull(super.getFailures());
+    this.dependenciesPassTheirTests = super.getDependenciesPassTheirTests();
+    this.sequenceNumber = super.getSequenceNumber();
+    this.totalNumberOfTests = super.getTotalNumberOfTests();
+  }
+
+  private TestResults(TestResults.Builder builder) {
+    this.buildTarget = builder.buildTarget;
+    this.testCases = builder.testCasesBuilder.build();
+    this.contacts = builder.contactsBuilder.build();
+    this.labels = builder.labelsBuilder.build();
+    this.testLogPaths = builder.testLogPathsBuilder.build();
+    this.dependenciesPassTheirTests = builder.dependenciesPassTheirTestsIsSet()
+        ? builder.dependenciesPassTheirTests
+        : super.getDependenciesPassTheirTests();
+    this.sequenceNumber = builder.sequenceNumberIsSet()
+        ? builder.sequenceNumber
+        : super.getSequenceNumber();
+    this.totalNumberOfTests = builder.totalNumberOfTestsIsSet()
+        ? builder.totalNumberOfTests
+        : super.getTotalNumberOfTests();
+    this.success = super.isSuccess();
+    this.hasAssumptionViolations = super.hasAssumptionViolations();
+    this.failureCount = super.getFailureCount();
+    this.failures = Preconditions.checkNotNull(super.getFailures());
+  }
+
+  private TestResults(
+      BuildTarget buildTarget,
+      ImmutableList<TestCaseSummary> testCases,
+      ImmutableSet<String> contacts,
+      ImmutableSet<String> labels,
+      ImmutableList<Path> testLogPaths,
+      boolean dependenciesPassTheirTests,
+      int sequenceNumber,
+      int totalNumberOfTests) {
+    this.buildTarget = buildTarget;
+    this.testCases = testCases;
+    this.contacts = contacts;
+    this.labels = labels;
+    this.testLogPaths = testLogPaths;
+    this.dependenciesPassTheirTests = dependenciesPassTheirTests;
+    this.sequenceNumber = sequenceNumber;
+    this.totalNumberOfTests = totalNumberOfTests;
+    this.success = super.isSuccess();
+    this.hasAssumptionViolations = super.hasAssumptionViolations();
+    this.failureCount = super.getFailureCount();
+    this.failures = Preconditions.checkNotNull(super.getFailures());
+  }
+
+  /**
+   * @return value of {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return computed at construction value of {@code success} attribute
+   */
+  @Override
+  public boolean isSuccess() {
+    return success;
+  }
+
+  /**
+   * @return computed at construction value of {@code hasAssumptionViolations} attribute
+   */
+  @Override
+  public boolean hasAssumptionViolations() {
+    return hasAssumptionViolations;
+  }
+
+  /**
+   * @return computed at construction value of {@code failureCount} attribute
+   */
+  @Override
+  public int getFailureCount() {
+    return failureCount;
+  }
+
+  /**
+   * @return computed at construction value of {@code failures} attribute
+   */
+  @Override
+  public ImmutableList<TestCaseSummary> getFailures() {
+    return failures;
+  }
+
+  /**
+   * @return value of {@code testCases} attribute
+   */
+  @Override
+  public ImmutableList<TestCaseSummary> getTestCases() {
+    return testCases;
+  }
+
+  /**
+   * @return value of {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return value of {@code labels} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return value of {@code testLogPaths} attribute
+   */
+  @Override
+  public ImmutableList<Path> getTestLogPaths() {
+    return testLogPaths;
+  }
+
+  /**
+   * @return value of {@code dependenciesPassTheirTests} attribute
+   */
+  @Override
+  public boolean getDependenciesPassTheirTests() {
+    return dependenciesPassTheirTests;
+  }
+
+  /**
+   * @return value of {@code sequenceNumber} attribute
+   */
+  @Override
+  public int getSequenceNumber() {
+    return sequenceNumber;
+  }
+
+  /**
+   * @return value of {@code totalNumberOfTests} attribute
+   */
+  @Override
+  public int getTotalNumberOfTests() {
+    return totalNumberOfTests;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestResults#getBuildTarget() buildTarget}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buildTarget
+   * @return modified copy of the {@code this} object
+   */
+  public final TestResults withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) {
+      return this;
+    }
+    BuildTarget newValue = Preconditions.checkNotNull(value);
+    return new TestResults(
+            newValue,
+            this.testCases,
+            this.contacts,
+            this.labels,
+            this.testLogPaths,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestResults#getTestCases() testCases}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestResults withTestCases(TestCaseSummary... elements) {
+    ImmutableList<TestCaseSummary> newValue = ImmutableList.copyOf(elements);
+    return new TestResults(
+            this.buildTarget,
+            newValue,
+            this.contacts,
+            this.labels,
+            this.testLogPaths,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestResults#getTestCases() testCases}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of testCases elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestResults withTestCases(Iterable<? extends TestCaseSummary> elements) {
+    if (this.testCases == elements) {
+      return this;
+    }
+    ImmutableList<TestCaseSummary> newValue = ImmutableList.copyOf(elements);
+    return new TestResults(
+            this.buildTarget,
+            newValue,
+            this.contacts,
+            this.labels,
+            this.testLogPaths,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestResults#getContacts() contacts}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestResults withContacts(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new TestResults(
+            this.buildTarget,
+            this.testCases,
+            newValue,
+            this.labels,
+            this.testLogPaths,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestResults#getContacts() contacts}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of contacts elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestResults withContacts(Iterable<String> elements) {
+    if (this.contacts == elements) {
+      return this;
+    }
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new TestResults(
+            this.buildTarget,
+            this.testCases,
+            newValue,
+            this.labels,
+            this.testLogPaths,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestResults#getLabels() labels}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestResults withLabels(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new TestResults(
+            this.buildTarget,
+            this.testCases,
+            this.contacts,
+            newValue,
+            this.testLogPaths,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestResults#getLabels() labels}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of labels elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestResults withLabels(Iterable<String> elements) {
+    if (this.labels == elements) {
+      return this;
+    }
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new TestResults(
+            this.buildTarget,
+            this.testCases,
+            this.contacts,
+            newValue,
+            this.testLogPaths,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestResults#getTestLogPaths() testLogPaths}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestResults withTestLogPaths(Path... elements) {
+    ImmutableList<Path> newValue = ImmutableList.copyOf(elements);
+    return new TestResults(
+            this.buildTarget,
+            this.testCases,
+            this.contacts,
+            this.labels,
+            newValue,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractTestResults#getTestLogPaths() testLogPaths}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of testLogPaths elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final TestResults withTestLogPaths(Iterable<? extends Path> elements) {
+    if (this.testLogPaths == elements) {
+      return this;
+    }
+    ImmutableList<Path> newValue = ImmutableList.copyOf(elements);
+    return new TestResults(
+            this.buildTarget,
+            this.testCases,
+            this.contacts,
+            this.labels,
+            newValue,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestResults#getDependenciesPassTheirTests() dependenciesPassTheirTests}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for dependenciesPassTheirTests
+   * @return modified copy of the {@code this} object
+   */
+  public final TestResults withDependenciesPassTheirTests(boolean value) {
+    if (this.dependenciesPassTheirTests == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestResults(
+            this.buildTarget,
+            this.testCases,
+            this.contacts,
+            this.labels,
+            this.testLogPaths,
+            newValue,
+            this.sequenceNumber,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestResults#getSequenceNumber() sequenceNumber}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for sequenceNumber
+   * @return modified copy of the {@code this} object
+   */
+  public final TestResults withSequenceNumber(int value) {
+    if (this.sequenceNumber == value) {
+      return this;
+    }
+    int newValue = value;
+    return new TestResults(
+            this.buildTarget,
+            this.testCases,
+            this.contacts,
+            this.labels,
+            this.testLogPaths,
+            this.dependenciesPassTheirTests,
+            newValue,
+            this.totalNumberOfTests);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestResults#getTotalNumberOfTests() totalNumberOfTests}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for totalNumberOfTests
+   * @return modified copy of the {@code this} object
+   */
+  public final TestResults withTotalNumberOfTests(int value) {
+    if (this.totalNumberOfTests == value) {
+      return this;
+    }
+    int newValue = value;
+    return new TestResults(
+            this.buildTarget,
+            this.testCases,
+            this.contacts,
+            this.labels,
+            this.testLogPaths,
+            this.dependenciesPassTheirTests,
+            this.sequenceNumber,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code TestResults} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof TestResults && equalTo((TestResults) another));
+  }
+
+  private boolean equalTo(TestResults another) {
+    return buildTarget.equals(another.buildTarget)
+        && success == another.success
+        && hasAssumptionViolations == another.hasAssumptionViolations
+        && failureCount == another.failureCount
+        && failures.equals(another.failures)
+        && testCases.equals(another.testCases)
+        && contacts.equals(another.contacts)
+        && labels.equals(another.labels)
+        && testLogPaths.equals(another.testLogPaths)
+        && dependenciesPassTheirTests == another.dependenciesPassTheirTests
+        && sequenceNumber == another.sequenceNumber
+        && totalNumberOfTests == another.totalNumberOfTests;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code buildTarget}, {@code success}, {@code hasAssumptionViolations}, {@code failureCount}, {@code failures}, {@code testCases}, {@code contacts}, {@code labels}, {@code testLogPaths}, {@code dependenciesPassTheirTests}, {@code sequenceNumber}, {@code totalNumberOfTests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + buildTarget.hashCode();
+    h = h * 17 + Booleans.hashCode(success);
+    h = h * 17 + Booleans.hashCode(hasAssumptionViolations);
+    h = h * 17 + failureCount;
+    h = h * 17 + failures.hashCode();
+    h = h * 17 + testCases.hashCode();
+    h = h * 17 + contacts.hashCode();
+    h = h * 17 + labels.hashCode();
+    h = h * 17 + testLogPaths.hashCode();
+    h = h * 17 + Booleans.hashCode(dependenciesPassTheirTests);
+    h = h * 17 + sequenceNumber;
+    h = h * 17 + totalNumberOfTests;
+    return h;
+  }
+
+  /**
+   * Construct new immutable {@code TestResults} instance.
+   * @param buildTarget value for {@code buildTarget}
+   * @param testCases value for {@code testCases}
+   * @param contacts value for {@code contacts}
+   * @param labels value for {@code labels}
+   * @return immutable TestResults instance
+   */
+  public static com.facebook.buck.test.TestResults of(BuildTarget buildTarget, ImmutableList<TestCaseSummary> testCases, ImmutableSet<String> contacts, ImmutableSet<String> labels) {
+    return of(buildTarget, (Iterable<? extends TestCaseSummary>) testCases, (Iterable<String>) contacts, (Iterable<String>) labels);
+  }
+
+  /**
+   * Construct new immutable {@code TestResults} instance.
+   * @param buildTarget value for {@code buildTarget}
+   * @param testCases value for {@code testCases}
+   * @param contacts value for {@code contacts}
+   * @param labels value for {@code labels}
+   * @return immutable TestResults instance
+   */
+  public static com.facebook.buck.test.TestResults of(BuildTarget buildTarget, Iterable<? extends TestCaseSummary> testCases, Iterable<String> contacts, Iterable<String> labels) {
+    return new TestResults(buildTarget, testCases, contacts, labels);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractTestResults}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable TestResults instance
+   */
+  public static TestResults copyOf(AbstractTestResults instance) {
+    if (instance instanceof TestResults) {
+      return (TestResults) instance;
+    }
+    return TestResults.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.test.TestResults TestResults}.
+   * @return new TestResults builder
+   */
+  public static TestResults.Builder builder() {
+    return new TestResults.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.test.TestResults TestResults}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x1;
+    private static final long INITIALIZED_BIT_BUILD_TARGET = 0x1L;
+    private static final long NONDEFAULT_BIT_DEPENDENCIES_PASS_THEIR_TESTS = 0x1L;
+    private static final long NONDEFAULT_BIT_SEQUENCE_NUMBER = 0x2L;
+    private static final long NONDEFAULT_BIT_TOTAL_NUMBER_OF_TESTS = 0x4L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private @Nullable BuildTarget buildTarget;
+    private ImmutableList.Builder<TestCaseSummary> testCasesBuilder = ImmutableList.builder();
+    private ImmutableSet.Builder<String> contactsBuilder = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> labelsBuilder = ImmutableSet.builder();
+    private ImmutableList.Builder<Path> testLogPathsBuilder = ImmutableList.builder();
+    private boolean dependenciesPassTheirTests;
+    private int sequenceNumber;
+    private int totalNumberOfTests;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractTestResults} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractTestResults instance) {
+      Preconditions.checkNotNull(instance);
+      setBuildTarget(instance.getBuildTarget());
+      addAllTestCases(instance.getTestCases());
+      addAllContacts(instance.getContacts());
+      addAllLabels(instance.getLabels());
+      addAllTestLogPaths(instance.getTestLogPaths());
+      setDependenciesPassTheirTests(instance.getDependenciesPassTheirTests());
+      setSequenceNumber(instance.getSequenceNumber());
+      setTotalNumberOfTests(instance.getTotalNumberOfTests());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestResults#getBuildTarget() buildTarget}.
+     * @param buildTarget value for buildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildTarget(BuildTarget buildTarget) {
+      this.buildTarget = Preconditions.checkNotNull(buildTarget);
+      initializedBitset |= INITIALIZED_BIT_BUILD_TARGET;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTestResults#getTestCases() testCases} list.
+     * @param element testCases element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addTestCases(TestCaseSummary element) {
+      testCasesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getTestCases() testCases} list.
+     * @param elements array of testCases elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addTestCases(TestCaseSummary... elements) {
+      testCasesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestResults#getTestCases() testCases} list.
+     * @param elements iterable of testCases elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestCases(Iterable<? extends TestCaseSummary> elements) {
+      testCasesBuilder = ImmutableList.builder();
+      return addAllTestCases(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getTestCases() testCases} list.
+     * @param elements iterable of testCases elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllTestCases(Iterable<? extends TestCaseSummary> elements) {
+      testCasesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTestResults#getContacts() contacts} set.
+     * @param element contacts element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addContacts(String element) {
+      contactsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getContacts() contacts} set.
+     * @param elements array of contacts elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addContacts(String... elements) {
+      contactsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestResults#getContacts() contacts} set.
+     * @param elements iterable of contacts elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setContacts(Iterable<String> elements) {
+      contactsBuilder = ImmutableSet.builder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getContacts() contacts} set.
+     * @param elements iterable of contacts elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllContacts(Iterable<String> elements) {
+      contactsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTestResults#getLabels() labels} set.
+     * @param element labels element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLabels(String element) {
+      labelsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getLabels() labels} set.
+     * @param elements array of labels elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addLabels(String... elements) {
+      labelsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestResults#getLabels() labels} set.
+     * @param elements iterable of labels elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLabels(Iterable<String> elements) {
+      labelsBuilder = ImmutableSet.builder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getLabels() labels} set.
+     * @param elements iterable of labels elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllLabels(Iterable<String> elements) {
+      labelsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTestResults#getTestLogPaths() testLogPaths} list.
+     * @param element testLogPaths element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addTestLogPaths(Path element) {
+      testLogPathsBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getTestLogPaths() testLogPaths} list.
+     * @param elements array of testLogPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addTestLogPaths(Path... elements) {
+      testLogPathsBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTestResults#getTestLogPaths() testLogPaths} list.
+     * @param elements iterable of testLogPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestLogPaths(Iterable<? extends Path> elements) {
+      testLogPathsBuilder = ImmutableList.builder();
+      return addAllTestLogPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTestResults#getTestLogPaths() testLogPaths} list.
+     * @param elements iterable of testLogPaths elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllTestLogPaths(Iterable<? extends Path> elements) {
+      testLogPathsBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestResults#getDependenciesPassTheirTests() dependenciesPassTheirTests}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestResults#getDependenciesPassTheirTests() dependenciesPassTheirTests}.</em>
+     * @param dependenciesPassTheirTests value for dependenciesPassTheirTests
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDependenciesPassTheirTests(boolean dependenciesPassTheirTests) {
+      this.dependenciesPassTheirTests = dependenciesPassTheirTests;
+      nondefaultBitset |= NONDEFAULT_BIT_DEPENDENCIES_PASS_THEIR_TESTS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestResults#getSequenceNumber() sequenceNumber}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestResults#getSequenceNumber() sequenceNumber}.</em>
+     * @param sequenceNumber value for sequenceNumber
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSequenceNumber(int sequenceNumber) {
+      this.sequenceNumber = sequenceNumber;
+      nondefaultBitset |= NONDEFAULT_BIT_SEQUENCE_NUMBER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestResults#getTotalNumberOfTests() totalNumberOfTests}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestResults#getTotalNumberOfTests() totalNumberOfTests}.</em>
+     * @param totalNumberOfTests value for totalNumberOfTests
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTotalNumberOfTests(int totalNumberOfTests) {
+      this.totalNumberOfTests = totalNumberOfTests;
+      nondefaultBitset |= NONDEFAULT_BIT_TOTAL_NUMBER_OF_TESTS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.test.TestResults TestResults}.
+     * @return immutable instance of TestResults
+     */
+    public TestResults build() {
+      checkRequiredAttributes();
+      return new TestResults(this);
+    }
+
+    private boolean dependenciesPassTheirTestsIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_DEPENDENCIES_PASS_THEIR_TESTS) != 0;
+    }
+
+    private boolean sequenceNumberIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_SEQUENCE_NUMBER) != 0;
+    }
+
+    private boolean totalNumberOfTestsIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_TOTAL_NUMBER_OF_TESTS) != 0;
+    }
+
+    private boolean buildTargetIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUILD_TARGET) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!buildTargetIsSet()) {
+        attributes.add("buildTarget");
+      }
+      return "Cannot build TestResults, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,902 @@
+package com.facebook.buck.test;
+
+import com.facebook.buck.test.selectors.TestSelectorList;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Booleans;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractTestRunningOptions}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code TestRunningOptions.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTestRunningOptions"})
+@Immutable
+public final class TestRunningOptions extends AbstractTestRunningOptions {
+  private final boolean usingOneTimeOutputDirectories;
+  private final boolean codeCoverageEnabled;
+  private final boolean runAllTests;
+  private final TestSelectorList testSelectorList;
+  private final boolean shouldExplainTestSelectorList;
+  private final boolean resultsCacheEnabled;
+  private final boolean dryRun;
+  private final boolean shufflingTests;
+  private final Optional<String> pathToXmlTestOutput;
+  private final Optional<String> pathToJavaAgent;
+  private final CoverageReportFormat coverageReportFormat;
+  private final String coverageReportTitle;
+
+  private TestRunningOptions(TestRunningOptions.Builder builder) {
+    this.pathToXmlTestOutput = builder.pathToXmlTestOutput;
+    this.pathToJavaAgent = builder.pathToJavaAgent;
+    this.usingOneTimeOutputDirectories = builder.usingOneTimeOutputDirectoriesIsSet()
+        ? builder.usingOneTimeOutputDirectories
+        : super.isUsingOneTimeOutputDirectories();
+    this.codeCoverageEnabled = builder.codeCoverageEnabledIsSet()
+        ? builder.codeCoverageEnabled
+        : super.isCodeCoverageEnabled();
+    this.runAllTests = builder.runAllTestsIsSet()
+        ? builder.runAllTests
+        : super.isRunAllTests();
+    this.testSelectorList = builder.testSelectorList != null
+        ? builder.testSelectorList
+        : Preconditions.checkNotNull(super.getTestSelectorList());
+    this.shouldExplainTestSelectorList = builder.shouldExplainTestSelectorListIsSet()
+        ? builder.shouldExplainTestSelectorList
+        : super.shouldExplainTestSelectorList();
+    this.resultsCacheEnabled = builder.resultsCacheEnabledIsSet()
+        ? builder.resultsCacheEnabled
+        : super.isResultsCacheEnabled();
+    this.dryRun = builder.dryRunIsSet()
+        ? builder.dryRun
+        : super.isDryRun();
+    this.shufflingTests = builder.shufflingTestsIsSet()
+        ? builder.shufflingTests
+        : super.isShufflingTests();
+    this.coverageReportFormat = builder.coverageReportFormat != null
+        ? builder.coverageReportFormat
+        : Preconditions.checkNotNull(super.getCoverageReportFormat());
+    this.coverageReportTitle = builder.coverageReportTitle != null
+        ? builder.coverageReportTitle
+        : Preconditions.checkNotNull(super.getCoverageReportTitle());
+  }
+
+  private TestRunningOptions(
+      boolean usingOneTimeOutputDirectories,
+      boolean codeCoverageEnabled,
+      boolean runAllTests,
+      TestSelectorList testSelectorList,
+      boolean shouldExplainTestSelectorList,
+      boolean resultsCacheEnabled,
+      boolean dryRun,
+      boolean shufflingTests,
+      Optional<String> pathToXmlTestOutput,
+      Optional<String> pathToJavaAgent,
+      CoverageReportFormat coverageReportFormat,
+      String coverageReportTitle) {
+    this.usingOneTimeOutputDirectories = usingOneTimeOutputDirectories;
+    this.codeCoverageEnabled = codeCoverageEnabled;
+    this.runAllTests = runAllTests;
+    this.testSelectorList = testSelectorList;
+    this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+    this.resultsCacheEnabled = resultsCacheEnabled;
+    this.dryRun = dryRun;
+    this.shufflingTests = shufflingTests;
+    this.pathToXmlTestOutput = pathToXmlTestOutput;
+    this.pathToJavaAgent = pathToJavaAgent;
+    this.coverageReportFormat = coverageReportFormat;
+    this.coverageReportTitle = coverageReportTitle;
+  }
+
+  /**
+   * @return value of {@code usingOneTimeOutputDirectories} attribute
+   */
+  @Override
+  public boolean isUsingOneTimeOutputDirectories() {
+    return usingOneTimeOutputDirectories;
+  }
+
+  /**
+   * @return value of {@code codeCoverageEnabled} attribute
+   */
+  @Override
+  public boolean isCodeCoverageEnabled() {
+    return codeCoverageEnabled;
+  }
+
+  /**
+   * @return value of {@code runAllTests} attribute
+   */
+  @Override
+  public boolean isRunAllTests() {
+    return runAllTests;
+  }
+
+  /**
+   * @return value of {@code testSelectorList} attribute
+   */
+  @Override
+  public TestSelectorList getTestSelectorList() {
+    return testSelectorList;
+  }
+
+  /**
+   * @return value of {@code shouldExplainTestSelectorList} attribute
+   */
+  @Override
+  public boolean shouldExplainTestSelectorList() {
+    return shouldExplainTestSelectorList;
+  }
+
+  /**
+   * @return value of {@code resultsCacheEnabled} attribute
+   */
+  @Override
+  public boolean isResultsCacheEnabled() {
+    return resultsCacheEnabled;
+  }
+
+  /**
+   * @return value of {@code dryRun} attribute
+   */
+  @Override
+  public boolean isDryRun() {
+    return dryRun;
+  }
+
+  /**
+   * @return value of {@code shufflingTests} attribute
+   */
+  @Override
+  public boolean isShufflingTests() {
+    return shufflingTests;
+  }
+
+  /**
+   * @return value of {@code pathToXmlTestOutput} attribute
+   */
+  @Override
+  public Optional<String> getPathToXmlTestOutput() {
+    return pathToXmlTestOutput;
+  }
+
+  /**
+   * @return value of {@code pathToJavaAgent} attribute
+   */
+  @Override
+  public Optional<String> getPathToJavaAgent() {
+    return pathToJavaAgent;
+  }
+
+  /**
+   * @return value of {@code coverageReportFormat} attribute
+   */
+  @Override
+  public CoverageReportFormat getCoverageReportFormat() {
+    return coverageReportFormat;
+  }
+
+  /**
+   * @return value of {@code coverageReportTitle} attribute
+   */
+  @Override
+  public String getCoverageReportTitle() {
+    return coverageReportTitle;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#isUsingOneTimeOutputDirectories() usingOneTimeOutputDirectories}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for usingOneTimeOutputDirectories
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withUsingOneTimeOutputDirectories(boolean value) {
+    if (this.usingOneTimeOutputDirectories == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestRunningOptions(
+            newValue,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#isCodeCoverageEnabled() codeCoverageEnabled}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for codeCoverageEnabled
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withCodeCoverageEnabled(boolean value) {
+    if (this.codeCoverageEnabled == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            newValue,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#isRunAllTests() runAllTests}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for runAllTests
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withRunAllTests(boolean value) {
+    if (this.runAllTests == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            newValue,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#getTestSelectorList() testSelectorList}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for testSelectorList
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withTestSelectorList(TestSelectorList value) {
+    if (this.testSelectorList == value) {
+      return this;
+    }
+    TestSelectorList newValue = Preconditions.checkNotNull(value);
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            newValue,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#shouldExplainTestSelectorList() shouldExplainTestSelectorList}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for shouldExplainTestSelectorList
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withShouldExplainTestSelectorList(boolean value) {
+    if (this.shouldExplainTestSelectorList == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            newValue,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#isResultsCacheEnabled() resultsCacheEnabled}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for resultsCacheEnabled
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withResultsCacheEnabled(boolean value) {
+    if (this.resultsCacheEnabled == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            newValue,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#isDryRun() dryRun}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for dryRun
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withDryRun(boolean value) {
+    if (this.dryRun == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            newValue,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#isShufflingTests() shufflingTests}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for shufflingTests
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withShufflingTests(boolean value) {
+    if (this.shufflingTests == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            newValue,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractTestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput}.
+   * @param value value for pathToXmlTestOutput
+   * @return modified copy of {@code this} object
+   */
+  public final TestRunningOptions withPathToXmlTestOutput(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            newValue,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractTestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for pathToXmlTestOutput
+   * @return modified copy of {@code this} object
+   */
+  public final TestRunningOptions withPathToXmlTestOutput(Optional<String> optional) {
+    if (this.pathToXmlTestOutput == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            newValue,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractTestRunningOptions#getPathToJavaAgent() pathToJavaAgent}.
+   * @param value value for pathToJavaAgent
+   * @return modified copy of {@code this} object
+   */
+  public final TestRunningOptions withPathToJavaAgent(String value) {
+    Optional<String> newValue = Optional.of(value);
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            newValue,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractTestRunningOptions#getPathToJavaAgent() pathToJavaAgent}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for pathToJavaAgent
+   * @return modified copy of {@code this} object
+   */
+  public final TestRunningOptions withPathToJavaAgent(Optional<String> optional) {
+    if (this.pathToJavaAgent == optional) {
+      return this;
+    }
+    Optional<String> newValue = Preconditions.checkNotNull(optional);
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            newValue,
+            this.coverageReportFormat,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#getCoverageReportFormat() coverageReportFormat}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for coverageReportFormat
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withCoverageReportFormat(CoverageReportFormat value) {
+    if (this.coverageReportFormat == value) {
+      return this;
+    }
+    CoverageReportFormat newValue = Preconditions.checkNotNull(value);
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            newValue,
+            this.coverageReportTitle);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestRunningOptions#getCoverageReportTitle() coverageReportTitle}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for coverageReportTitle
+   * @return modified copy of the {@code this} object
+   */
+  public final TestRunningOptions withCoverageReportTitle(String value) {
+    if (this.coverageReportTitle == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new TestRunningOptions(
+            this.usingOneTimeOutputDirectories,
+            this.codeCoverageEnabled,
+            this.runAllTests,
+            this.testSelectorList,
+            this.shouldExplainTestSelectorList,
+            this.resultsCacheEnabled,
+            this.dryRun,
+            this.shufflingTests,
+            this.pathToXmlTestOutput,
+            this.pathToJavaAgent,
+            this.coverageReportFormat,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code TestRunningOptions} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof TestRunningOptions && equalTo((TestRunningOptions) another));
+  }
+
+  private boolean equalTo(TestRunningOptions another) {
+    return usingOneTimeOutputDirectories == another.usingOneTimeOutputDirectories
+        && codeCoverageEnabled == another.codeCoverageEnabled
+        && runAllTests == another.runAllTests
+        && testSelectorList.equals(another.testSelectorList)
+        && shouldExplainTestSelectorList == another.shouldExplainTestSelectorList
+        && resultsCacheEnabled == another.resultsCacheEnabled
+        && dryRun == another.dryRun
+        && shufflingTests == another.shufflingTests
+        && pathToXmlTestOutput.equals(another.pathToXmlTestOutput)
+        && pathToJavaAgent.equals(another.pathToJavaAgent)
+        && coverageReportFormat.equals(another.coverageReportFormat)
+        && coverageReportTitle.equals(another.coverageReportTitle);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code usingOneTimeOutputDirectories}, {@code codeCoverageEnabled}, {@code runAllTests}, {@code testSelectorList}, {@code shouldExplainTestSelectorList}, {@code resultsCacheEnabled}, {@code dryRun}, {@code shufflingTests}, {@code pathToXmlTestOutput}, {@code pathToJavaAgent}, {@code coverageReportFormat}, {@code coverageReportTitle}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Booleans.hashCode(usingOneTimeOutputDirectories);
+    h = h * 17 + Booleans.hashCode(codeCoverageEnabled);
+    h = h * 17 + Booleans.hashCode(runAllTests);
+    h = h * 17 + testSelectorList.hashCode();
+    h = h * 17 + Booleans.hashCode(shouldExplainTestSelectorList);
+    h = h * 17 + Booleans.hashCode(resultsCacheEnabled);
+    h = h * 17 + Booleans.hashCode(dryRun);
+    h = h * 17 + Booleans.hashCode(shufflingTests);
+    h = h * 17 + pathToXmlTestOutput.hashCode();
+    h = h * 17 + pathToJavaAgent.hashCode();
+    h = h * 17 + coverageReportFormat.hashCode();
+    h = h * 17 + coverageReportTitle.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code TestRunningOptions{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestRunningOptions")
+        .add("usingOneTimeOutputDirectories", usingOneTimeOutputDirectories)
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("runAllTests", runAllTests)
+        .add("testSelectorList", testSelectorList)
+        .add("shouldExplainTestSelectorList", shouldExplainTestSelectorList)
+        .add("resultsCacheEnabled", resultsCacheEnabled)
+        .add("dryRun", dryRun)
+        .add("shufflingTests", shufflingTests)
+        .add("pathToXmlTestOutput", pathToXmlTestOutput)
+        .add("pathToJavaAgent", pathToJavaAgent)
+        .add("coverageReportFormat", coverageReportFormat)
+        .add("coverageReportTitle", coverageReportTitle)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractTestRunningOptions}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable TestRunningOptions instance
+   */
+  public static TestRunningOptions copyOf(AbstractTestRunningOptions instance) {
+    if (instance instanceof TestRunningOptions) {
+      return (TestRunningOptions) instance;
+    }
+    return TestRunningOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.test.TestRunningOptions TestRunningOptions}.
+   * @return new TestRunningOptions builder
+   */
+  public static TestRunningOptions.Builder builder() {
+    return new TestRunningOptions.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.test.TestRunningOptions TestRunningOptions}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long NONDEFAULT_BIT_USING_ONE_TIME_OUTPUT_DIRECTORIES = 0x1L;
+    private static final long NONDEFAULT_BIT_CODE_COVERAGE_ENABLED = 0x2L;
+    private static final long NONDEFAULT_BIT_RUN_ALL_TESTS = 0x4L;
+    private static final long NONDEFAULT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST = 0x8L;
+    private static final long NONDEFAULT_BIT_RESULTS_CACHE_ENABLED = 0x10L;
+    private static final long NONDEFAULT_BIT_DRY_RUN = 0x20L;
+    private static final long NONDEFAULT_BIT_SHUFFLING_TESTS = 0x40L;
+    private long nondefaultBitset;
+    private boolean usingOneTimeOutputDirectories;
+    private boolean codeCoverageEnabled;
+    private boolean runAllTests;
+    private @Nullable TestSelectorList testSelectorList;
+    private boolean shouldExplainTestSelectorList;
+    private boolean resultsCacheEnabled;
+    private boolean dryRun;
+    private boolean shufflingTests;
+    private Optional<String> pathToXmlTestOutput = Optional.absent();
+    private Optional<String> pathToJavaAgent = Optional.absent();
+    private @Nullable CoverageReportFormat coverageReportFormat;
+    private @Nullable String coverageReportTitle;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractTestRunningOptions} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractTestRunningOptions instance) {
+      Preconditions.checkNotNull(instance);
+      setUsingOneTimeOutputDirectories(instance.isUsingOneTimeOutputDirectories());
+      setCodeCoverageEnabled(instance.isCodeCoverageEnabled());
+      setRunAllTests(instance.isRunAllTests());
+      setTestSelectorList(instance.getTestSelectorList());
+      setShouldExplainTestSelectorList(instance.shouldExplainTestSelectorList());
+      setResultsCacheEnabled(instance.isResultsCacheEnabled());
+      setDryRun(instance.isDryRun());
+      setShufflingTests(instance.isShufflingTests());
+      Optional<String> pathToXmlTestOutputOptional = instance.getPathToXmlTestOutput();
+      if (pathToXmlTestOutputOptional.isPresent()) {
+        setPathToXmlTestOutput(pathToXmlTestOutputOptional);
+      }
+      Optional<String> pathToJavaAgentOptional = instance.getPathToJavaAgent();
+      if (pathToJavaAgentOptional.isPresent()) {
+        setPathToJavaAgent(pathToJavaAgentOptional);
+      }
+      setCoverageReportFormat(instance.getCoverageReportFormat());
+      setCoverageReportTitle(instance.getCoverageReportTitle());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#isUsingOneTimeOutputDirectories() usingOneTimeOutputDirectories}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#isUsingOneTimeOutputDirectories() usingOneTimeOutputDirectories}.</em>
+     * @param usingOneTimeOutputDirectories value for usingOneTimeOutputDirectories
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUsingOneTimeOutputDirectories(boolean usingOneTimeOutputDirectories) {
+      this.usingOneTimeOutputDirectories = usingOneTimeOutputDirectories;
+      nondefaultBitset |= NONDEFAULT_BIT_USING_ONE_TIME_OUTPUT_DIRECTORIES;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#isCodeCoverageEnabled() codeCoverageEnabled}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#isCodeCoverageEnabled() codeCoverageEnabled}.</em>
+     * @param codeCoverageEnabled value for codeCoverageEnabled
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      nondefaultBitset |= NONDEFAULT_BIT_CODE_COVERAGE_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#isRunAllTests() runAllTests}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#isRunAllTests() runAllTests}.</em>
+     * @param runAllTests value for runAllTests
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRunAllTests(boolean runAllTests) {
+      this.runAllTests = runAllTests;
+      nondefaultBitset |= NONDEFAULT_BIT_RUN_ALL_TESTS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#getTestSelectorList() testSelectorList}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#getTestSelectorList() testSelectorList}.</em>
+     * @param testSelectorList value for testSelectorList
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestSelectorList(TestSelectorList testSelectorList) {
+      this.testSelectorList = Preconditions.checkNotNull(testSelectorList);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#shouldExplainTestSelectorList() shouldExplainTestSelectorList}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#shouldExplainTestSelectorList() shouldExplainTestSelectorList}.</em>
+     * @param shouldExplainTestSelectorList value for shouldExplainTestSelectorList
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setShouldExplainTestSelectorList(boolean shouldExplainTestSelectorList) {
+      this.shouldExplainTestSelectorList = shouldExplainTestSelectorList;
+      nondefaultBitset |= NONDEFAULT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#isResultsCacheEnabled() resultsCacheEnabled}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#isResultsCacheEnabled() resultsCacheEnabled}.</em>
+     * @param resultsCacheEnabled value for resultsCacheEnabled
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setResultsCacheEnabled(boolean resultsCacheEnabled) {
+      this.resultsCacheEnabled = resultsCacheEnabled;
+      nondefaultBitset |= NONDEFAULT_BIT_RESULTS_CACHE_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#isDryRun() dryRun}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#isDryRun() dryRun}.</em>
+     * @param dryRun value for dryRun
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDryRun(boolean dryRun) {
+      this.dryRun = dryRun;
+      nondefaultBitset |= NONDEFAULT_BIT_DRY_RUN;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#isShufflingTests() shufflingTests}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#isShufflingTests() shufflingTests}.</em>
+     * @param shufflingTests value for shufflingTests
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setShufflingTests(boolean shufflingTests) {
+      this.shufflingTests = shufflingTests;
+      nondefaultBitset |= NONDEFAULT_BIT_SHUFFLING_TESTS;
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractTestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput}.
+     * @param pathToXmlTestOutput value for pathToXmlTestOutput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathToXmlTestOutput(String pathToXmlTestOutput) {
+      this.pathToXmlTestOutput = Optional.of(pathToXmlTestOutput);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractTestRunningOptions#getPathToXmlTestOutput() pathToXmlTestOutput}.
+     * @param pathToXmlTestOutput value for pathToXmlTestOutput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathToXmlTestOutput(Optional<String> pathToXmlTestOutput) {
+      this.pathToXmlTestOutput = Preconditions.checkNotNull(pathToXmlTestOutput);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractTestRunningOptions#getPathToJavaAgent() pathToJavaAgent}.
+     * @param pathToJavaAgent value for pathToJavaAgent
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathToJavaAgent(String pathToJavaAgent) {
+      this.pathToJavaAgent = Optional.of(pathToJavaAgent);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractTestRunningOptions#getPathToJavaAgent() pathToJavaAgent}.
+     * @param pathToJavaAgent value for pathToJavaAgent
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPathToJavaAgent(Optional<String> pathToJavaAgent) {
+      this.pathToJavaAgent = Preconditions.checkNotNull(pathToJavaAgent);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#getCoverageReportFormat() coverageReportFormat}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#getCoverageReportFormat() coverageReportFormat}.</em>
+     * @param coverageReportFormat value for coverageReportFormat
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCoverageReportFormat(CoverageReportFormat coverageReportFormat) {
+      this.coverageReportFormat = Preconditions.checkNotNull(coverageReportFormat);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestRunningOptions#getCoverageReportTitle() coverageReportTitle}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractTestRunningOptions#getCoverageReportTitle() coverageReportTitle}.</em>
+     * @param coverageReportTitle value for coverageReportTitle
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCoverageReportTitle(String coverageReportTitle) {
+      this.coverageReportTitle = Preconditions.checkNotNull(coverageReportTitle);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.test.TestRunningOptions TestRunningOptions}.
+     * @return immutable instance of TestRunningOptions
+     */
+    public TestRunningOptions build() {
+      return new TestRunningOptions(this);
+    }
+
+    private boolean usingOneTimeOutputDirectoriesIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_USING_ONE_TIME_OUTPUT_DIRECTORIES) != 0;
+    }
+
+    private boolean codeCoverageEnabledIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_CODE_COVERAGE_ENABLED) != 0;
+    }
+
+    private boolean runAllTestsIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_RUN_ALL_TESTS) != 0;
+    }
+
+    private boolean shouldExplainTestSelectorListIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_SHOULD_EXPLAIN_TEST_SELECTOR_LIST) != 0;
+    }
+
+    private boolean resultsCacheEnabledIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_RESULTS_CACHE_ENABLED) != 0;
+    }
+
+    private boolean dryRunIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_DRY_RUN) != 0;
+    }
+
+    private boolean shufflingTestsIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_SHUFFLING_TESTS) != 0;
+    }
+  }
+}
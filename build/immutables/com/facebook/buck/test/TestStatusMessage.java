@@ -0,0 +1,302 @@
+package com.facebook.buck.test;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import java.util.logging.Level;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractTestStatusMessage}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code TestStatusMessage.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code TestStatusMessage.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTestStatusMessage"})
+@Immutable
+public final class TestStatusMessage implements AbstractTestStatusMessage {
+  private final String message;
+  private final Level level;
+  private final long timestampMillis;
+
+  private TestStatusMessage(String message, Level level, long timestampMillis) {
+    this.message = Preconditions.checkNotNull(message);
+    this.level = Preconditions.checkNotNull(level);
+    this.timestampMillis = timestampMillis;
+  }
+
+  private TestStatusMessage(
+      TestStatusMessage original,
+      String message,
+      Level level,
+      long timestampMillis) {
+    this.message = message;
+    this.level = level;
+    this.timestampMillis = timestampMillis;
+  }
+
+  /**
+   * @return value of {@code message} attribute
+   */
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * @return value of {@code level} attribute
+   */
+  @Override
+  public Level getLevel() {
+    return level;
+  }
+
+  /**
+   * @return value of {@code timestampMillis} attribute
+   */
+  @Override
+  public long getTimestampMillis() {
+    return timestampMillis;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestStatusMessage#getMessage() message}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for message
+   * @return modified copy of the {@code this} object
+   */
+  public final TestStatusMessage withMessage(String value) {
+    if (this.message == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new TestStatusMessage(this, newValue, this.level, this.timestampMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestStatusMessage#getLevel() level}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for level
+   * @return modified copy of the {@code this} object
+   */
+  public final TestStatusMessage withLevel(Level value) {
+    if (this.level == value) {
+      return this;
+    }
+    Level newValue = Preconditions.checkNotNull(value);
+    return new TestStatusMessage(this, this.message, newValue, this.timestampMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractTestStatusMessage#getTimestampMillis() timestampMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for timestampMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final TestStatusMessage withTimestampMillis(long value) {
+    if (this.timestampMillis == value) {
+      return this;
+    }
+    long newValue = value;
+    return new TestStatusMessage(this, this.message, this.level, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code TestStatusMessage} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof TestStatusMessage && equalTo((TestStatusMessage) another));
+  }
+
+  private boolean equalTo(TestStatusMessage another) {
+    return message.equals(another.message)
+        && level.equals(another.level)
+        && timestampMillis == another.timestampMillis;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code message}, {@code level}, {@code timestampMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + message.hashCode();
+    h = h * 17 + level.hashCode();
+    h = h * 17 + Longs.hashCode(timestampMillis);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code TestStatusMessage{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestStatusMessage")
+        .add("message", message)
+        .add("level", level)
+        .add("timestampMillis", timestampMillis)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code TestStatusMessage} instance.
+   * @param message value for {@code message}
+   * @param level value for {@code level}
+   * @param timestampMillis value for {@code timestampMillis}
+   * @return immutable TestStatusMessage instance
+   */
+  public static com.facebook.buck.test.TestStatusMessage of(String message, Level level, long timestampMillis) {
+    return new TestStatusMessage(message, level, timestampMillis);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractTestStatusMessage}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable TestStatusMessage instance
+   */
+  public static TestStatusMessage copyOf(AbstractTestStatusMessage instance) {
+    if (instance instanceof TestStatusMessage) {
+      return (TestStatusMessage) instance;
+    }
+    return TestStatusMessage.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.test.TestStatusMessage TestStatusMessage}.
+   * @return new TestStatusMessage builder
+   */
+  public static TestStatusMessage.Builder builder() {
+    return new TestStatusMessage.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.test.TestStatusMessage TestStatusMessage}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x7;
+    private static final long INITIALIZED_BIT_MESSAGE = 0x1L;
+    private static final long INITIALIZED_BIT_LEVEL = 0x2L;
+    private static final long INITIALIZED_BIT_TIMESTAMP_MILLIS = 0x4L;
+    private long initializedBitset;
+    private @Nullable String message;
+    private @Nullable Level level;
+    private long timestampMillis;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractTestStatusMessage} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractTestStatusMessage instance) {
+      Preconditions.checkNotNull(instance);
+      setMessage(instance.getMessage());
+      setLevel(instance.getLevel());
+      setTimestampMillis(instance.getTimestampMillis());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestStatusMessage#getMessage() message}.
+     * @param message value for message
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMessage(String message) {
+      this.message = Preconditions.checkNotNull(message);
+      initializedBitset |= INITIALIZED_BIT_MESSAGE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestStatusMessage#getLevel() level}.
+     * @param level value for level
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLevel(Level level) {
+      this.level = Preconditions.checkNotNull(level);
+      initializedBitset |= INITIALIZED_BIT_LEVEL;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractTestStatusMessage#getTimestampMillis() timestampMillis}.
+     * @param timestampMillis value for timestampMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTimestampMillis(long timestampMillis) {
+      this.timestampMillis = timestampMillis;
+      initializedBitset |= INITIALIZED_BIT_TIMESTAMP_MILLIS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.test.TestStatusMessage TestStatusMessage}.
+     * @return immutable instance of TestStatusMessage
+     */
+    public TestStatusMessage build() {
+      checkRequiredAttributes();
+      return new TestStatusMessage(null, message, level, timestampMillis);
+    }
+
+    private boolean messageIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_MESSAGE) != 0;
+    }
+
+    private boolean levelIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_LEVEL) != 0;
+    }
+
+    private boolean timestampMillisIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TIMESTAMP_MILLIS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!messageIsSet()) {
+        attributes.add("message");
+      }
+      if (!levelIsSet()) {
+        attributes.add("level");
+      }
+      if (!timestampMillisIsSet()) {
+        attributes.add("timestampMillis");
+      }
+      return "Cannot build TestStatusMessage, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,247 @@
+package com.facebook.buck.timing;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAbsolutePerfTime}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code AbsolutePerfTime.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code AbsolutePerfTime.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAbsolutePerfTime"})
+@Immutable
+public final class AbsolutePerfTime extends AbstractAbsolutePerfTime {
+  private final long userCpuTimeNs;
+  private final long systemCpuTimeNs;
+
+  private AbsolutePerfTime(long userCpuTimeNs, long systemCpuTimeNs) {
+    this.userCpuTimeNs = userCpuTimeNs;
+    this.systemCpuTimeNs = systemCpuTimeNs;
+  }
+
+  private AbsolutePerfTime(AbsolutePerfTime original, long userCpuTimeNs, long systemCpuTimeNs) {
+    this.userCpuTimeNs = userCpuTimeNs;
+    this.systemCpuTimeNs = systemCpuTimeNs;
+  }
+
+  /**
+   * @return value of {@code userCpuTimeNs} attribute
+   */
+  @Override
+  public long getUserCpuTimeNs() {
+    return userCpuTimeNs;
+  }
+
+  /**
+   * @return value of {@code systemCpuTimeNs} attribute
+   */
+  @Override
+  public long getSystemCpuTimeNs() {
+    return systemCpuTimeNs;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAbsolutePerfTime#getUserCpuTimeNs() userCpuTimeNs}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for userCpuTimeNs
+   * @return modified copy of the {@code this} object
+   */
+  public final AbsolutePerfTime withUserCpuTimeNs(long value) {
+    if (this.userCpuTimeNs == value) {
+      return this;
+    }
+    long newValue = value;
+    return new AbsolutePerfTime(this, newValue, this.systemCpuTimeNs);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractAbsolutePerfTime#getSystemCpuTimeNs() systemCpuTimeNs}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for systemCpuTimeNs
+   * @return modified copy of the {@code this} object
+   */
+  public final AbsolutePerfTime withSystemCpuTimeNs(long value) {
+    if (this.systemCpuTimeNs == value) {
+      return this;
+    }
+    long newValue = value;
+    return new AbsolutePerfTime(this, this.userCpuTimeNs, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code AbsolutePerfTime} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof AbsolutePerfTime && equalTo((AbsolutePerfTime) another));
+  }
+
+  private boolean equalTo(AbsolutePerfTime another) {
+    return userCpuTimeNs == another.userCpuTimeNs
+        && systemCpuTimeNs == another.systemCpuTimeNs;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code userCpuTimeNs}, {@code systemCpuTimeNs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Longs.hashCode(userCpuTimeNs);
+    h = h * 17 + Longs.hashCode(systemCpuTimeNs);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code AbsolutePerfTime{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AbsolutePerfTime")
+        .add("userCpuTimeNs", userCpuTimeNs)
+        .add("systemCpuTimeNs", systemCpuTimeNs)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code AbsolutePerfTime} instance.
+   * @param userCpuTimeNs value for {@code userCpuTimeNs}
+   * @param systemCpuTimeNs value for {@code systemCpuTimeNs}
+   * @return immutable AbsolutePerfTime instance
+   */
+  public static com.facebook.buck.timing.AbsolutePerfTime of(long userCpuTimeNs, long systemCpuTimeNs) {
+    return new AbsolutePerfTime(userCpuTimeNs, systemCpuTimeNs);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractAbsolutePerfTime}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable AbsolutePerfTime instance
+   */
+  public static AbsolutePerfTime copyOf(AbstractAbsolutePerfTime instance) {
+    if (instance instanceof AbsolutePerfTime) {
+      return (AbsolutePerfTime) instance;
+    }
+    return AbsolutePerfTime.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.timing.AbsolutePerfTime AbsolutePerfTime}.
+   * @return new AbsolutePerfTime builder
+   */
+  public static AbsolutePerfTime.Builder builder() {
+    return new AbsolutePerfTime.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.timing.AbsolutePerfTime AbsolutePerfTime}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_USER_CPU_TIME_NS = 0x1L;
+    private static final long INITIALIZED_BIT_SYSTEM_CPU_TIME_NS = 0x2L;
+    private long initializedBitset;
+    private long userCpuTimeNs;
+    private long systemCpuTimeNs;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractAbsolutePerfTime} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractAbsolutePerfTime instance) {
+      Preconditions.checkNotNull(instance);
+      setUserCpuTimeNs(instance.getUserCpuTimeNs());
+      setSystemCpuTimeNs(instance.getSystemCpuTimeNs());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAbsolutePerfTime#getUserCpuTimeNs() userCpuTimeNs}.
+     * @param userCpuTimeNs value for userCpuTimeNs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUserCpuTimeNs(long userCpuTimeNs) {
+      this.userCpuTimeNs = userCpuTimeNs;
+      initializedBitset |= INITIALIZED_BIT_USER_CPU_TIME_NS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractAbsolutePerfTime#getSystemCpuTimeNs() systemCpuTimeNs}.
+     * @param systemCpuTimeNs value for systemCpuTimeNs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSystemCpuTimeNs(long systemCpuTimeNs) {
+      this.systemCpuTimeNs = systemCpuTimeNs;
+      initializedBitset |= INITIALIZED_BIT_SYSTEM_CPU_TIME_NS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.timing.AbsolutePerfTime AbsolutePerfTime}.
+     * @return immutable instance of AbsolutePerfTime
+     */
+    public AbsolutePerfTime build() {
+      checkRequiredAttributes();
+      return new AbsolutePerfTime(null, userCpuTimeNs, systemCpuTimeNs);
+    }
+
+    private boolean userCpuTimeNsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_USER_CPU_TIME_NS) != 0;
+    }
+
+    private boolean systemCpuTimeNsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SYSTEM_CPU_TIME_NS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!userCpuTimeNsIsSet()) {
+        attributes.add("userCpuTimeNs");
+      }
+      if (!systemCpuTimeNsIsSet()) {
+        attributes.add("systemCpuTimeNs");
+      }
+      return "Cannot build AbsolutePerfTime, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,247 @@
+package com.facebook.buck.timing;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractRelativePerfTime}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code RelativePerfTime.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code RelativePerfTime.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRelativePerfTime"})
+@Immutable
+public final class RelativePerfTime extends AbstractRelativePerfTime {
+  private final long userCpuTimeNs;
+  private final long systemCpuTimeNs;
+
+  private RelativePerfTime(long userCpuTimeNs, long systemCpuTimeNs) {
+    this.userCpuTimeNs = userCpuTimeNs;
+    this.systemCpuTimeNs = systemCpuTimeNs;
+  }
+
+  private RelativePerfTime(RelativePerfTime original, long userCpuTimeNs, long systemCpuTimeNs) {
+    this.userCpuTimeNs = userCpuTimeNs;
+    this.systemCpuTimeNs = systemCpuTimeNs;
+  }
+
+  /**
+   * @return value of {@code userCpuTimeNs} attribute
+   */
+  @Override
+  public long getUserCpuTimeNs() {
+    return userCpuTimeNs;
+  }
+
+  /**
+   * @return value of {@code systemCpuTimeNs} attribute
+   */
+  @Override
+  public long getSystemCpuTimeNs() {
+    return systemCpuTimeNs;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractRelativePerfTime#getUserCpuTimeNs() userCpuTimeNs}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for userCpuTimeNs
+   * @return modified copy of the {@code this} object
+   */
+  public final RelativePerfTime withUserCpuTimeNs(long value) {
+    if (this.userCpuTimeNs == value) {
+      return this;
+    }
+    long newValue = value;
+    return new RelativePerfTime(this, newValue, this.systemCpuTimeNs);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractRelativePerfTime#getSystemCpuTimeNs() systemCpuTimeNs}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for systemCpuTimeNs
+   * @return modified copy of the {@code this} object
+   */
+  public final RelativePerfTime withSystemCpuTimeNs(long value) {
+    if (this.systemCpuTimeNs == value) {
+      return this;
+    }
+    long newValue = value;
+    return new RelativePerfTime(this, this.userCpuTimeNs, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code RelativePerfTime} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof RelativePerfTime && equalTo((RelativePerfTime) another));
+  }
+
+  private boolean equalTo(RelativePerfTime another) {
+    return userCpuTimeNs == another.userCpuTimeNs
+        && systemCpuTimeNs == another.systemCpuTimeNs;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code userCpuTimeNs}, {@code systemCpuTimeNs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Longs.hashCode(userCpuTimeNs);
+    h = h * 17 + Longs.hashCode(systemCpuTimeNs);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code RelativePerfTime{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RelativePerfTime")
+        .add("userCpuTimeNs", userCpuTimeNs)
+        .add("systemCpuTimeNs", systemCpuTimeNs)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code RelativePerfTime} instance.
+   * @param userCpuTimeNs value for {@code userCpuTimeNs}
+   * @param systemCpuTimeNs value for {@code systemCpuTimeNs}
+   * @return immutable RelativePerfTime instance
+   */
+  public static com.facebook.buck.timing.RelativePerfTime of(long userCpuTimeNs, long systemCpuTimeNs) {
+    return new RelativePerfTime(userCpuTimeNs, systemCpuTimeNs);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractRelativePerfTime}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable RelativePerfTime instance
+   */
+  public static RelativePerfTime copyOf(AbstractRelativePerfTime instance) {
+    if (instance instanceof RelativePerfTime) {
+      return (RelativePerfTime) instance;
+    }
+    return RelativePerfTime.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.timing.RelativePerfTime RelativePerfTime}.
+   * @return new RelativePerfTime builder
+   */
+  public static RelativePerfTime.Builder builder() {
+    return new RelativePerfTime.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.timing.RelativePerfTime RelativePerfTime}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_USER_CPU_TIME_NS = 0x1L;
+    private static final long INITIALIZED_BIT_SYSTEM_CPU_TIME_NS = 0x2L;
+    private long initializedBitset;
+    private long userCpuTimeNs;
+    private long systemCpuTimeNs;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractRelativePerfTime} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractRelativePerfTime instance) {
+      Preconditions.checkNotNull(instance);
+      setUserCpuTimeNs(instance.getUserCpuTimeNs());
+      setSystemCpuTimeNs(instance.getSystemCpuTimeNs());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractRelativePerfTime#getUserCpuTimeNs() userCpuTimeNs}.
+     * @param userCpuTimeNs value for userCpuTimeNs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUserCpuTimeNs(long userCpuTimeNs) {
+      this.userCpuTimeNs = userCpuTimeNs;
+      initializedBitset |= INITIALIZED_BIT_USER_CPU_TIME_NS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractRelativePerfTime#getSystemCpuTimeNs() systemCpuTimeNs}.
+     * @param systemCpuTimeNs value for systemCpuTimeNs
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSystemCpuTimeNs(long systemCpuTimeNs) {
+      this.systemCpuTimeNs = systemCpuTimeNs;
+      initializedBitset |= INITIALIZED_BIT_SYSTEM_CPU_TIME_NS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.timing.RelativePerfTime RelativePerfTime}.
+     * @return immutable instance of RelativePerfTime
+     */
+    public RelativePerfTime build() {
+      checkRequiredAttributes();
+      return new RelativePerfTime(null, userCpuTimeNs, systemCpuTimeNs);
+    }
+
+    private boolean userCpuTimeNsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_USER_CPU_TIME_NS) != 0;
+    }
+
+    private boolean systemCpuTimeNsIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SYSTEM_CPU_TIME_NS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!userCpuTimeNsIsSet()) {
+        attributes.add("userCpuTimeNs");
+      }
+      if (!systemCpuTimeNsIsSet()) {
+        attributes.add("systemCpuTimeNs");
+      }
+      return "Cannot build RelativePerfTime, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,657 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.io.File;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractProcessExecutorParams}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ProcessExecutorParams.builder()}.
+ * Use static factory method to create immutable instances:
+ * {@code ProcessExecutorParams.of()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProcessExecutorParams"})
+@Immutable
+public final class ProcessExecutorParams extends AbstractProcessExecutorParams {
+  private final ImmutableList<String> command;
+  private final Optional<File> directory;
+  private final Optional<Map<String, String>> environment;
+  private final Optional<ProcessBuilder.Redirect> redirectInput;
+  private final Optional<ProcessBuilder.Redirect> redirectOutput;
+  private final Optional<ProcessBuilder.Redirect> redirectError;
+
+  private ProcessExecutorParams(
+      Iterable<String> command,
+      Optional<File> directory,
+      Optional<Map<String, String>> environment,
+      Optional<ProcessBuilder.Redirect> redirectInput,
+      Optional<ProcessBuilder.Redirect> redirectOutput,
+      Optional<ProcessBuilder.Redirect> redirectError) {
+    this.command = ImmutableList.copyOf(command);
+    this.directory = Preconditions.checkNotNull(directory);
+    this.environment = Preconditions.checkNotNull(environment);
+    this.redirectInput = Preconditions.checkNotNull(redirectInput);
+    this.redirectOutput = Preconditions.checkNotNull(redirectOutput);
+    this.redirectError = Preconditions.checkNotNull(redirectError);
+  }
+
+  private ProcessExecutorParams(
+      ProcessExecutorParams original,
+      ImmutableList<String> command,
+      Optional<File> directory,
+      Optional<Map<String, String>> environment,
+      Optional<ProcessBuilder.Redirect> redirectInput,
+      Optional<ProcessBuilder.Redirect> redirectOutput,
+      Optional<ProcessBuilder.Redirect> redirectError) {
+    this.command = command;
+    this.directory = directory;
+    this.environment = environment;
+    this.redirectInput = redirectInput;
+    this.redirectOutput = redirectOutput;
+    this.redirectError = redirectError;
+  }
+
+  /**
+   * The command and arguments to launch.
+   */
+  @Override
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /**
+   * If present, the current working directory for the launched process.
+   */
+  @Override
+  public Optional<File> getDirectory() {
+    return directory;
+  }
+
+  /**
+   * If present, the map of environment variables used for the launched
+   * process. Otherwise, inherits the current process's environment.
+   */
+  @Override
+  public Optional<Map<String, String>> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * If present, redirects stdout for the process to this location.
+   * Otherwise, opens a pipe for stdout.
+   */
+  @Override
+  public Optional<ProcessBuilder.Redirect> getRedirectInput() {
+    return redirectInput;
+  }
+
+  /**
+   * If present, redirects stdin for the process to this location.
+   * Otherwise, opens a pipe for stdin.
+   */
+  @Override
+  public Optional<ProcessBuilder.Redirect> getRedirectOutput() {
+    return redirectOutput;
+  }
+
+  /**
+   * If present, redirects stderr for the process to this location.
+   * Otherwise, opens a pipe for stderr.
+   */
+  @Override
+  public Optional<ProcessBuilder.Redirect> getRedirectError() {
+    return redirectError;
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractProcessExecutorParams#getCommand() command}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withCommand(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProcessExecutorParams(
+            this,
+            newValue,
+            this.directory,
+            this.environment,
+            this.redirectInput,
+            this.redirectOutput,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractProcessExecutorParams#getCommand() command}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of command elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withCommand(Iterable<String> elements) {
+    if (this.command == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProcessExecutorParams(
+            this,
+            newValue,
+            this.directory,
+            this.environment,
+            this.redirectInput,
+            this.redirectOutput,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractProcessExecutorParams#getDirectory() directory}.
+   * @param value value for directory
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withDirectory(File value) {
+    Optional<File> newValue = Optional.of(value);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            newValue,
+            this.environment,
+            this.redirectInput,
+            this.redirectOutput,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractProcessExecutorParams#getDirectory() directory}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for directory
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withDirectory(Optional<File> optional) {
+    if (this.directory == optional) {
+      return this;
+    }
+    Optional<File> newValue = Preconditions.checkNotNull(optional);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            newValue,
+            this.environment,
+            this.redirectInput,
+            this.redirectOutput,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractProcessExecutorParams#getEnvironment() environment}.
+   * @param value value for environment
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withEnvironment(Map<String, String> value) {
+    Optional<Map<String, String>> newValue = Optional.of(value);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            this.directory,
+            newValue,
+            this.redirectInput,
+            this.redirectOutput,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractProcessExecutorParams#getEnvironment() environment}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for environment
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withEnvironment(Optional<Map<String, String>> optional) {
+    if (this.environment == optional) {
+      return this;
+    }
+    Optional<Map<String, String>> newValue = Preconditions.checkNotNull(optional);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            this.directory,
+            newValue,
+            this.redirectInput,
+            this.redirectOutput,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractProcessExecutorParams#getRedirectInput() redirectInput}.
+   * @param value value for redirectInput
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectInput(ProcessBuilder.Redirect value) {
+    Optional<ProcessBuilder.Redirect> newValue = Optional.of(value);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            this.directory,
+            this.environment,
+            newValue,
+            this.redirectOutput,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractProcessExecutorParams#getRedirectInput() redirectInput}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for redirectInput
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectInput(Optional<ProcessBuilder.Redirect> optional) {
+    if (this.redirectInput == optional) {
+      return this;
+    }
+    Optional<ProcessBuilder.Redirect> newValue = Preconditions.checkNotNull(optional);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            this.directory,
+            this.environment,
+            newValue,
+            this.redirectOutput,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractProcessExecutorParams#getRedirectOutput() redirectOutput}.
+   * @param value value for redirectOutput
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectOutput(ProcessBuilder.Redirect value) {
+    Optional<ProcessBuilder.Redirect> newValue = Optional.of(value);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            this.directory,
+            this.environment,
+            this.redirectInput,
+            newValue,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractProcessExecutorParams#getRedirectOutput() redirectOutput}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for redirectOutput
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectOutput(Optional<ProcessBuilder.Redirect> optional) {
+    if (this.redirectOutput == optional) {
+      return this;
+    }
+    Optional<ProcessBuilder.Redirect> newValue = Preconditions.checkNotNull(optional);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            this.directory,
+            this.environment,
+            this.redirectInput,
+            newValue,
+            this.redirectError);
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractProcessExecutorParams#getRedirectError() redirectError}.
+   * @param value value for redirectError
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectError(ProcessBuilder.Redirect value) {
+    Optional<ProcessBuilder.Redirect> newValue = Optional.of(value);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            this.directory,
+            this.environment,
+            this.redirectInput,
+            this.redirectOutput,
+            newValue);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractProcessExecutorParams#getRedirectError() redirectError}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for redirectError
+   * @return modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectError(Optional<ProcessBuilder.Redirect> optional) {
+    if (this.redirectError == optional) {
+      return this;
+    }
+    Optional<ProcessBuilder.Redirect> newValue = Preconditions.checkNotNull(optional);
+    return new ProcessExecutorParams(
+            this,
+            this.command,
+            this.directory,
+            this.environment,
+            this.redirectInput,
+            this.redirectOutput,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ProcessExecutorParams} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ProcessExecutorParams && equalTo((ProcessExecutorParams) another));
+  }
+
+  private boolean equalTo(ProcessExecutorParams another) {
+    return command.equals(another.command)
+        && directory.equals(another.directory)
+        && environment.equals(another.environment)
+        && redirectInput.equals(another.redirectInput)
+        && redirectOutput.equals(another.redirectOutput)
+        && redirectError.equals(another.redirectError);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code command}, {@code directory}, {@code environment}, {@code redirectInput}, {@code redirectOutput}, {@code redirectError}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + command.hashCode();
+    h = h * 17 + directory.hashCode();
+    h = h * 17 + environment.hashCode();
+    h = h * 17 + redirectInput.hashCode();
+    h = h * 17 + redirectOutput.hashCode();
+    h = h * 17 + redirectError.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code ProcessExecutorParams{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProcessExecutorParams")
+        .add("command", command)
+        .add("directory", directory)
+        .add("environment", environment)
+        .add("redirectInput", redirectInput)
+        .add("redirectOutput", redirectOutput)
+        .add("redirectError", redirectError)
+        .toString();
+  }
+
+  /**
+   * Construct new immutable {@code ProcessExecutorParams} instance.
+   * @param command value for {@code command}
+   * @param directory value for {@code directory}
+   * @param environment value for {@code environment}
+   * @param redirectInput value for {@code redirectInput}
+   * @param redirectOutput value for {@code redirectOutput}
+   * @param redirectError value for {@code redirectError}
+   * @return immutable ProcessExecutorParams instance
+   */
+  public static com.facebook.buck.util.ProcessExecutorParams of(ImmutableList<String> command, Optional<File> directory, Optional<Map<String, String>> environment, Optional<ProcessBuilder.Redirect> redirectInput, Optional<ProcessBuilder.Redirect> redirectOutput, Optional<ProcessBuilder.Redirect> redirectError) {
+    return of((Iterable<String>) command, directory, environment, redirectInput, redirectOutput, redirectError);
+  }
+
+  /**
+   * Construct new immutable {@code ProcessExecutorParams} instance.
+   * @param command value for {@code command}
+   * @param directory value for {@code directory}
+   * @param environment value for {@code environment}
+   * @param redirectInput value for {@code redirectInput}
+   * @param redirectOutput value for {@code redirectOutput}
+   * @param redirectError value for {@code redirectError}
+   * @return immutable ProcessExecutorParams instance
+   */
+  public static com.facebook.buck.util.ProcessExecutorParams of(Iterable<String> command, Optional<File> directory, Optional<Map<String, String>> environment, Optional<ProcessBuilder.Redirect> redirectInput, Optional<ProcessBuilder.Redirect> redirectOutput, Optional<ProcessBuilder.Redirect> redirectError) {
+    return new ProcessExecutorParams(command, directory, environment, redirectInput, redirectOutput, redirectError);
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractProcessExecutorParams}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable ProcessExecutorParams instance
+   */
+  public static ProcessExecutorParams copyOf(AbstractProcessExecutorParams instance) {
+    if (instance instanceof ProcessExecutorParams) {
+      return (ProcessExecutorParams) instance;
+    }
+    return ProcessExecutorParams.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.util.ProcessExecutorParams ProcessExecutorParams}.
+   * @return new ProcessExecutorParams builder
+   */
+  public static ProcessExecutorParams.Builder builder() {
+    return new ProcessExecutorParams.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.util.ProcessExecutorParams ProcessExecutorParams}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<String> commandBuilder = ImmutableList.builder();
+    private Optional<File> directory = Optional.absent();
+    private Optional<Map<String, String>> environment = Optional.absent();
+    private Optional<ProcessBuilder.Redirect> redirectInput = Optional.absent();
+    private Optional<ProcessBuilder.Redirect> redirectOutput = Optional.absent();
+    private Optional<ProcessBuilder.Redirect> redirectError = Optional.absent();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractProcessExecutorParams} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractProcessExecutorParams instance) {
+      Preconditions.checkNotNull(instance);
+      addAllCommand(instance.getCommand());
+      Optional<File> directoryOptional = instance.getDirectory();
+      if (directoryOptional.isPresent()) {
+        setDirectory(directoryOptional);
+      }
+      Optional<Map<String, String>> environmentOptional = instance.getEnvironment();
+      if (environmentOptional.isPresent()) {
+        setEnvironment(environmentOptional);
+      }
+      Optional<ProcessBuilder.Redirect> redirectInputOptional = instance.getRedirectInput();
+      if (redirectInputOptional.isPresent()) {
+        setRedirectInput(redirectInputOptional);
+      }
+      Optional<ProcessBuilder.Redirect> redirectOutputOptional = instance.getRedirectOutput();
+      if (redirectOutputOptional.isPresent()) {
+        setRedirectOutput(redirectOutputOptional);
+      }
+      Optional<ProcessBuilder.Redirect> redirectErrorOptional = instance.getRedirectError();
+      if (redirectErrorOptional.isPresent()) {
+        setRedirectError(redirectErrorOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractProcessExecutorParams#getCommand() command} list.
+     * @param element command element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCommand(String element) {
+      commandBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProcessExecutorParams#getCommand() command} list.
+     * @param elements array of command elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCommand(String... elements) {
+      commandBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProcessExecutorParams#getCommand() command} list.
+     * @param elements iterable of command elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCommand(Iterable<String> elements) {
+      commandBuilder = ImmutableList.builder();
+      return addAllCommand(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProcessExecutorParams#getCommand() command} list.
+     * @param elements iterable of command elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllCommand(Iterable<String> elements) {
+      commandBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractProcessExecutorParams#getDirectory() directory}.
+     * @param directory value for directory
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDirectory(File directory) {
+      this.directory = Optional.of(directory);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractProcessExecutorParams#getDirectory() directory}.
+     * @param directory value for directory
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDirectory(Optional<File> directory) {
+      this.directory = Preconditions.checkNotNull(directory);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractProcessExecutorParams#getEnvironment() environment}.
+     * @param environment value for environment
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEnvironment(Map<String, String> environment) {
+      this.environment = Optional.of(environment);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractProcessExecutorParams#getEnvironment() environment}.
+     * @param environment value for environment
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setEnvironment(Optional<Map<String, String>> environment) {
+      this.environment = Preconditions.checkNotNull(environment);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractProcessExecutorParams#getRedirectInput() redirectInput}.
+     * @param redirectInput value for redirectInput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRedirectInput(ProcessBuilder.Redirect redirectInput) {
+      this.redirectInput = Optional.of(redirectInput);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractProcessExecutorParams#getRedirectInput() redirectInput}.
+     * @param redirectInput value for redirectInput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRedirectInput(Optional<ProcessBuilder.Redirect> redirectInput) {
+      this.redirectInput = Preconditions.checkNotNull(redirectInput);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractProcessExecutorParams#getRedirectOutput() redirectOutput}.
+     * @param redirectOutput value for redirectOutput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRedirectOutput(ProcessBuilder.Redirect redirectOutput) {
+      this.redirectOutput = Optional.of(redirectOutput);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractProcessExecutorParams#getRedirectOutput() redirectOutput}.
+     * @param redirectOutput value for redirectOutput
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRedirectOutput(Optional<ProcessBuilder.Redirect> redirectOutput) {
+      this.redirectOutput = Preconditions.checkNotNull(redirectOutput);
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractProcessExecutorParams#getRedirectError() redirectError}.
+     * @param redirectError value for redirectError
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRedirectError(ProcessBuilder.Redirect redirectError) {
+      this.redirectError = Optional.of(redirectError);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractProcessExecutorParams#getRedirectError() redirectError}.
+     * @param redirectError value for redirectError
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRedirectError(Optional<ProcessBuilder.Redirect> redirectError) {
+      this.redirectError = Preconditions.checkNotNull(redirectError);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.util.ProcessExecutorParams ProcessExecutorParams}.
+     * @return immutable instance of ProcessExecutorParams
+     */
+    public ProcessExecutorParams build() {
+      return new ProcessExecutorParams(
+              null,
+              commandBuilder.build(),
+              directory,
+              environment,
+              redirectInput,
+              redirectOutput,
+              redirectError);
+    }
+  }
+}
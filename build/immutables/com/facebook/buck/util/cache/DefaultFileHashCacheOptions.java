@@ -0,0 +1,233 @@
+package com.facebook.buck.util.cache;
+
+import com.facebook.buck.util.hash.HashFunctionType;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDefaultFileHashCacheOptions}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code DefaultFileHashCacheOptions.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDefaultFileHashCacheOptions"})
+@Immutable
+public final class DefaultFileHashCacheOptions
+    extends AbstractDefaultFileHashCacheOptions {
+  private final Optional<PersistentFileHashStore> persistentStore;
+  private final HashFunctionType hashFunctionType;
+
+  private DefaultFileHashCacheOptions(DefaultFileHashCacheOptions.Builder builder) {
+    this.persistentStore = builder.persistentStore;
+    this.hashFunctionType = builder.hashFunctionType != null
+        ? builder.hashFunctionType
+        : Preconditions.checkNotNull(super.getHashFunctionType());
+  }
+
+  private DefaultFileHashCacheOptions(
+      Optional<PersistentFileHashStore> persistentStore,
+      HashFunctionType hashFunctionType) {
+    this.persistentStore = persistentStore;
+    this.hashFunctionType = hashFunctionType;
+  }
+
+  /**
+   * @return hashes of files kept by earlier processes, which are used instead of reading files
+   *     which haven't changed since, and which the hashes the cache computes are added to.  It
+   *     must only hold hashes computed with {@link #getHashFunctionType()}.
+   */
+  @Override
+  public Optional<PersistentFileHashStore> getPersistentStore() {
+    return persistentStore;
+  }
+
+  /**
+   * @return what to hash the contents of files with.
+   */
+  @Override
+  public HashFunctionType getHashFunctionType() {
+    return hashFunctionType;
+  }
+
+  /**
+   * Copy current immutable object by setting present value for optional {@link AbstractDefaultFileHashCacheOptions#getPersistentStore() persistentStore}.
+   * @param value value for persistentStore
+   * @return modified copy of {@code this} object
+   */
+  public final DefaultFileHashCacheOptions withPersistentStore(PersistentFileHashStore value) {
+    Optional<PersistentFileHashStore> newValue = Optional.of(value);
+    return new DefaultFileHashCacheOptions(newValue, this.hashFunctionType);
+  }
+
+  /**
+   * Copy current immutable object by setting optional value for {@link AbstractDefaultFileHashCacheOptions#getPersistentStore() persistentStore}.
+   * Shallow reference equality check on optional value is used to prevent copying of the same value by returning {@code this}.
+   * @param optional value for persistentStore
+   * @return modified copy of {@code this} object
+   */
+  public final DefaultFileHashCacheOptions withPersistentStore(Optional<PersistentFileHashStore> optional) {
+    if (this.persistentStore == optional) {
+      return this;
+    }
+    Optional<PersistentFileHashStore> newValue = Preconditions.checkNotNull(optional);
+    return new DefaultFileHashCacheOptions(newValue, this.hashFunctionType);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractDefaultFileHashCacheOptions#getHashFunctionType() hashFunctionType}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for hashFunctionType
+   * @return modified copy of the {@code this} object
+   */
+  public final DefaultFileHashCacheOptions withHashFunctionType(HashFunctionType value) {
+    if (this.hashFunctionType == value) {
+      return this;
+    }
+    HashFunctionType newValue = Preconditions.checkNotNull(value);
+    return new DefaultFileHashCacheOptions(this.persistentStore, newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code DefaultFileHashCacheOptions} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof DefaultFileHashCacheOptions && equalTo((DefaultFileHashCacheOptions) another));
+  }
+
+  private boolean equalTo(DefaultFileHashCacheOptions another) {
+    return persistentStore.equals(another.persistentStore)
+        && hashFunctionType.equals(another.hashFunctionType);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code persistentStore}, {@code hashFunctionType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + persistentStore.hashCode();
+    h = h * 17 + hashFunctionType.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code DefaultFileHashCacheOptions{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultFileHashCacheOptions")
+        .add("persistentStore", persistentStore)
+        .add("hashFunctionType", hashFunctionType)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractDefaultFileHashCacheOptions}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable DefaultFileHashCacheOptions instance
+   */
+  public static DefaultFileHashCacheOptions copyOf(AbstractDefaultFileHashCacheOptions instance) {
+    if (instance instanceof DefaultFileHashCacheOptions) {
+      return (DefaultFileHashCacheOptions) instance;
+    }
+    return DefaultFileHashCacheOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.util.cache.DefaultFileHashCacheOptions DefaultFileHashCacheOptions}.
+   * @return new DefaultFileHashCacheOptions builder
+   */
+  public static DefaultFileHashCacheOptions.Builder builder() {
+    return new DefaultFileHashCacheOptions.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.util.cache.DefaultFileHashCacheOptions DefaultFileHashCacheOptions}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private Optional<PersistentFileHashStore> persistentStore = Optional.absent();
+    private @Nullable HashFunctionType hashFunctionType;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractDefaultFileHashCacheOptions} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractDefaultFileHashCacheOptions instance) {
+      Preconditions.checkNotNull(instance);
+      Optional<PersistentFileHashStore> persistentStoreOptional = instance.getPersistentStore();
+      if (persistentStoreOptional.isPresent()) {
+        setPersistentStore(persistentStoreOptional);
+      }
+      setHashFunctionType(instance.getHashFunctionType());
+      return this;
+    }
+
+    /**
+     * Initializes present value for optional {@link AbstractDefaultFileHashCacheOptions#getPersistentStore() persistentStore}.
+     * @param persistentStore value for persistentStore
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPersistentStore(PersistentFileHashStore persistentStore) {
+      this.persistentStore = Optional.of(persistentStore);
+      return this;
+    }
+
+    /**
+     * Initializes optional value for {@link AbstractDefaultFileHashCacheOptions#getPersistentStore() persistentStore}.
+     * @param persistentStore value for persistentStore
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPersistentStore(Optional<PersistentFileHashStore> persistentStore) {
+      this.persistentStore = Preconditions.checkNotNull(persistentStore);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractDefaultFileHashCacheOptions#getHashFunctionType() hashFunctionType}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractDefaultFileHashCacheOptions#getHashFunctionType() hashFunctionType}.</em>
+     * @param hashFunctionType value for hashFunctionType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHashFunctionType(HashFunctionType hashFunctionType) {
+      this.hashFunctionType = Preconditions.checkNotNull(hashFunctionType);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.util.cache.DefaultFileHashCacheOptions DefaultFileHashCacheOptions}.
+     * @return immutable instance of DefaultFileHashCacheOptions
+     */
+    public DefaultFileHashCacheOptions build() {
+      return new DefaultFileHashCacheOptions(this);
+    }
+  }
+}
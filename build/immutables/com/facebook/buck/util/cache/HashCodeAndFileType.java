@@ -0,0 +1,319 @@
+package com.facebook.buck.util.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import java.nio.file.Path;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractHashCodeAndFileType}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code HashCodeAndFileType.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHashCodeAndFileType"})
+@Immutable
+public final class HashCodeAndFileType extends AbstractHashCodeAndFileType {
+  private final AbstractHashCodeAndFileType.Type type;
+  private final HashCode getHashCode;
+  private final ImmutableSet<Path> children;
+
+  private HashCodeAndFileType(
+      AbstractHashCodeAndFileType.Type type,
+      HashCode getHashCode,
+      ImmutableSet<Path> children) {
+    this.type = type;
+    this.getHashCode = getHashCode;
+    this.children = children;
+  }
+
+  /**
+   * @return value of {@code type} attribute
+   */
+  @Override
+  public AbstractHashCodeAndFileType.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return value of {@code getHashCode} attribute
+   */
+  @Override
+  public HashCode getHashCode() {
+    return getHashCode;
+  }
+
+  /**
+   * @return value of {@code children} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getChildren() {
+    return children;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHashCodeAndFileType#getType() type}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for type
+   * @return modified copy of the {@code this} object
+   */
+  public final HashCodeAndFileType withType(AbstractHashCodeAndFileType.Type value) {
+    if (this.type == value) {
+      return this;
+    }
+    AbstractHashCodeAndFileType.Type newValue = Preconditions.checkNotNull(value);
+    return validate(new HashCodeAndFileType(newValue, this.getHashCode, this.children));
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractHashCodeAndFileType#getHashCode() getHashCode}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for getHashCode
+   * @return modified copy of the {@code this} object
+   */
+  public final HashCodeAndFileType withGetHashCode(HashCode value) {
+    if (this.getHashCode == value) {
+      return this;
+    }
+    HashCode newValue = Preconditions.checkNotNull(value);
+    return validate(new HashCodeAndFileType(this.type, newValue, this.children));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractHashCodeAndFileType#getChildren() children}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final HashCodeAndFileType withChildren(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new HashCodeAndFileType(this.type, this.getHashCode, newValue));
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractHashCodeAndFileType#getChildren() children}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of children elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final HashCodeAndFileType withChildren(Iterable<? extends Path> elements) {
+    if (this.children == elements) {
+      return this;
+    }
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new HashCodeAndFileType(this.type, this.getHashCode, newValue));
+  }
+
+  /**
+   * This instance is equal to instances of {@code HashCodeAndFileType} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof HashCodeAndFileType && equalTo((HashCodeAndFileType) another));
+  }
+
+  private boolean equalTo(HashCodeAndFileType another) {
+    return type.equals(another.type)
+        && getHashCode.equals(another.getHashCode)
+        && children.equals(another.children);
+  }
+
+  /**
+   * Computes hash code from attributes: {@code type}, {@code getHashCode}, {@code children}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + getHashCode.hashCode();
+    h = h * 17 + children.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code HashCodeAndFileType{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HashCodeAndFileType")
+        .add("type", type)
+        .add("getHashCode", getHashCode)
+        .add("children", children)
+        .toString();
+  }
+
+  private static HashCodeAndFileType validate(HashCodeAndFileType instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractHashCodeAndFileType}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable HashCodeAndFileType instance
+   */
+  public static HashCodeAndFileType copyOf(AbstractHashCodeAndFileType instance) {
+    if (instance instanceof HashCodeAndFileType) {
+      return (HashCodeAndFileType) instance;
+    }
+    return HashCodeAndFileType.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.util.cache.HashCodeAndFileType HashCodeAndFileType}.
+   * @return new HashCodeAndFileType builder
+   */
+  public static HashCodeAndFileType.Builder builder() {
+    return new HashCodeAndFileType.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.util.cache.HashCodeAndFileType HashCodeAndFileType}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0x3;
+    private static final long INITIALIZED_BIT_TYPE = 0x1L;
+    private static final long INITIALIZED_BIT_GET_HASH_CODE = 0x2L;
+    private long initializedBitset;
+    private @Nullable AbstractHashCodeAndFileType.Type type;
+    private @Nullable HashCode getHashCode;
+    private ImmutableSet.Builder<Path> childrenBuilder = ImmutableSet.builder();
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractHashCodeAndFileType} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractHashCodeAndFileType instance) {
+      Preconditions.checkNotNull(instance);
+      setType(instance.getType());
+      setGetHashCode(instance.getHashCode());
+      addAllChildren(instance.getChildren());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHashCodeAndFileType#getType() type}.
+     * @param type value for type
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setType(AbstractHashCodeAndFileType.Type type) {
+      this.type = Preconditions.checkNotNull(type);
+      initializedBitset |= INITIALIZED_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractHashCodeAndFileType#getHashCode() getHashCode}.
+     * @param getHashCode value for getHashCode
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGetHashCode(HashCode getHashCode) {
+      this.getHashCode = Preconditions.checkNotNull(getHashCode);
+      initializedBitset |= INITIALIZED_BIT_GET_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHashCodeAndFileType#getChildren() children} set.
+     * @param element children element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addChildren(Path element) {
+      childrenBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHashCodeAndFileType#getChildren() children} set.
+     * @param elements array of children elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addChildren(Path... elements) {
+      childrenBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHashCodeAndFileType#getChildren() children} set.
+     * @param elements iterable of children elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setChildren(Iterable<? extends Path> elements) {
+      childrenBuilder = ImmutableSet.builder();
+      return addAllChildren(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHashCodeAndFileType#getChildren() children} set.
+     * @param elements iterable of children elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllChildren(Iterable<? extends Path> elements) {
+      childrenBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.util.cache.HashCodeAndFileType HashCodeAndFileType}.
+     * @return immutable instance of HashCodeAndFileType
+     */
+    public HashCodeAndFileType build() {
+      checkRequiredAttributes();
+      return HashCodeAndFileType.validate(new HashCodeAndFileType(type, getHashCode, childrenBuilder.build()));
+    }
+
+    private boolean typeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_TYPE) != 0;
+    }
+
+    private boolean getHashCodeIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_GET_HASH_CODE) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!typeIsSet()) {
+        attributes.add("type");
+      }
+      if (!getHashCodeIsSet()) {
+        attributes.add("getHashCode");
+      }
+      return "Cannot build HashCodeAndFileType, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,879 @@
+package com.facebook.buck.util.environment;
+
+import com.facebook.buck.util.TriState;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildEnvironmentDescription}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code BuildEnvironmentDescription.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildEnvironmentDescription"})
+@Immutable
+public final class BuildEnvironmentDescription
+    extends AbstractBuildEnvironmentDescription {
+  private final String user;
+  private final String hostname;
+  private final String os;
+  private final int availableCores;
+  private final long systemMemory;
+  private final TriState buckDirty;
+  private final String buckCommit;
+  private final String javaVersion;
+  private final ImmutableList<String> cacheModes;
+  private final ImmutableMap<String, String> extraData;
+  private final int jsonProtocolVersion;
+
+  private BuildEnvironmentDescription(BuildEnvironmentDescription.Builder builder) {
+    this.user = builder.user;
+    this.hostname = builder.hostname;
+    this.os = builder.os;
+    this.availableCores = builder.availableCores;
+    this.systemMemory = builder.systemMemory;
+    this.buckDirty = builder.buckDirty;
+    this.buckCommit = builder.buckCommit;
+    this.javaVersion = builder.javaVersion;
+    this.cacheModes = builder.cacheModesBuilder.build();
+    this.extraData = builder.extraDataBuilder.build();
+    this.jsonProtocolVersion = builder.jsonProtocolVersionIsSet()
+        ? builder.jsonProtocolVersion
+        : super.getJsonProtocolVersion();
+  }
+
+  private BuildEnvironmentDescription(
+      String user,
+      String hostname,
+      String os,
+      int availableCores,
+      long systemMemory,
+      TriState buckDirty,
+      String buckCommit,
+      String javaVersion,
+      ImmutableList<String> cacheModes,
+      ImmutableMap<String, String> extraData,
+      int jsonProtocolVersion) {
+    this.user = user;
+    this.hostname = hostname;
+    this.os = os;
+    this.availableCores = availableCores;
+    this.systemMemory = systemMemory;
+    this.buckDirty = buckDirty;
+    this.buckCommit = buckCommit;
+    this.javaVersion = javaVersion;
+    this.cacheModes = cacheModes;
+    this.extraData = extraData;
+    this.jsonProtocolVersion = jsonProtocolVersion;
+  }
+
+  /**
+   * @return value of {@code user} attribute
+   */
+  @Override
+  public String getUser() {
+    return user;
+  }
+
+  /**
+   * @return value of {@code hostname} attribute
+   */
+  @Override
+  public String getHostname() {
+    return hostname;
+  }
+
+  /**
+   * @return value of {@code os} attribute
+   */
+  @Override
+  public String getOs() {
+    return os;
+  }
+
+  /**
+   * @return value of {@code availableCores} attribute
+   */
+  @Override
+  public int getAvailableCores() {
+    return availableCores;
+  }
+
+  /**
+   * @return value of {@code systemMemory} attribute
+   */
+  @Override
+  public long getSystemMemory() {
+    return systemMemory;
+  }
+
+  /**
+   * @return value of {@code buckDirty} attribute
+   */
+  @Override
+  public TriState getBuckDirty() {
+    return buckDirty;
+  }
+
+  /**
+   * @return value of {@code buckCommit} attribute
+   */
+  @Override
+  public String getBuckCommit() {
+    return buckCommit;
+  }
+
+  /**
+   * @return value of {@code javaVersion} attribute
+   */
+  @Override
+  public String getJavaVersion() {
+    return javaVersion;
+  }
+
+  /**
+   * @return value of {@code cacheModes} attribute
+   */
+  @Override
+  public ImmutableList<String> getCacheModes() {
+    return cacheModes;
+  }
+
+  /**
+   * @return value of {@code extraData} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getExtraData() {
+    return extraData;
+  }
+
+  /**
+   * @return value of {@code jsonProtocolVersion} attribute
+   */
+  @Override
+  public int getJsonProtocolVersion() {
+    return jsonProtocolVersion;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildEnvironmentDescription#getUser() user}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for user
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildEnvironmentDescription withUser(String value) {
+    if (this.user == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new BuildEnvironmentDescription(
+            newValue,
+            this.hostname,
+            this.os,
+            this.availableCores,
+            this.systemMemory,
+            this.buckDirty,
+            this.buckCommit,
+            this.javaVersion,
+            this.cacheModes,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildEnvironmentDescription#getHostname() hostname}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for hostname
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildEnvironmentDescription withHostname(String value) {
+    if (this.hostname == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new BuildEnvironmentDescription(
+            this.user,
+            newValue,
+            this.os,
+            this.availableCores,
+            this.systemMemory,
+            this.buckDirty,
+            this.buckCommit,
+            this.javaVersion,
+            this.cacheModes,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildEnvironmentDescription#getOs() os}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for os
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildEnvironmentDescription withOs(String value) {
+    if (this.os == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            newValue,
+            this.availableCores,
+            this.systemMemory,
+            this.buckDirty,
+            this.buckCommit,
+            this.javaVersion,
+            this.cacheModes,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildEnvironmentDescription#getAvailableCores() availableCores}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for availableCores
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildEnvironmentDescription withAvailableCores(int value) {
+    if (this.availableCores == value) {
+      return this;
+    }
+    int newValue = value;
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            this.os,
+            newValue,
+            this.systemMemory,
+            this.buckDirty,
+            this.buckCommit,
+            this.javaVersion,
+            this.cacheModes,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildEnvironmentDescription#getSystemMemory() systemMemory}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for systemMemory
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildEnvironmentDescription withSystemMemory(long value) {
+    if (this.systemMemory == value) {
+      return this;
+    }
+    long newValue = value;
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            this.os,
+            this.availableCores,
+            newValue,
+            this.buckDirty,
+            this.buckCommit,
+            this.javaVersion,
+            this.cacheModes,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildEnvironmentDescription#getBuckDirty() buckDirty}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buckDirty
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildEnvironmentDescription withBuckDirty(TriState value) {
+    if (this.buckDirty == value) {
+      return this;
+    }
+    TriState newValue = Preconditions.checkNotNull(value);
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            this.os,
+            this.availableCores,
+            this.systemMemory,
+            newValue,
+            this.buckCommit,
+            this.javaVersion,
+            this.cacheModes,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildEnvironmentDescription#getBuckCommit() buckCommit}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for buckCommit
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildEnvironmentDescription withBuckCommit(String value) {
+    if (this.buckCommit == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            this.os,
+            this.availableCores,
+            this.systemMemory,
+            this.buckDirty,
+            newValue,
+            this.javaVersion,
+            this.cacheModes,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildEnvironmentDescription#getJavaVersion() javaVersion}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for javaVersion
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildEnvironmentDescription withJavaVersion(String value) {
+    if (this.javaVersion == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            this.os,
+            this.availableCores,
+            this.systemMemory,
+            this.buckDirty,
+            this.buckCommit,
+            newValue,
+            this.cacheModes,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractBuildEnvironmentDescription#getCacheModes() cacheModes}.
+   * @param elements elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final BuildEnvironmentDescription withCacheModes(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            this.os,
+            this.availableCores,
+            this.systemMemory,
+            this.buckDirty,
+            this.buckCommit,
+            this.javaVersion,
+            newValue,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object with elements that replace content of {@link AbstractBuildEnvironmentDescription#getCacheModes() cacheModes}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements iterable of cacheModes elements to set
+   * @return modified copy of {@code this} object
+   */
+  public final BuildEnvironmentDescription withCacheModes(Iterable<String> elements) {
+    if (this.cacheModes == elements) {
+      return this;
+    }
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            this.os,
+            this.availableCores,
+            this.systemMemory,
+            this.buckDirty,
+            this.buckCommit,
+            this.javaVersion,
+            newValue,
+            this.extraData,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object by replacing {@link AbstractBuildEnvironmentDescription#getExtraData() extraData} map with specified map.
+   * Nulls are not permitted as keys or values.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries to be added to extraData map
+   * @return modified copy of {@code this} object
+   */
+  public final BuildEnvironmentDescription withExtraData(Map<String, ? extends String> entries) {
+    if (this.extraData == entries) {
+      return this;
+    }
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            this.os,
+            this.availableCores,
+            this.systemMemory,
+            this.buckDirty,
+            this.buckCommit,
+            this.javaVersion,
+            this.cacheModes,
+            newValue,
+            this.jsonProtocolVersion);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link AbstractBuildEnvironmentDescription#getJsonProtocolVersion() jsonProtocolVersion}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for jsonProtocolVersion
+   * @return modified copy of the {@code this} object
+   */
+  public final BuildEnvironmentDescription withJsonProtocolVersion(int value) {
+    if (this.jsonProtocolVersion == value) {
+      return this;
+    }
+    int newValue = value;
+    return new BuildEnvironmentDescription(
+            this.user,
+            this.hostname,
+            this.os,
+            this.availableCores,
+            this.systemMemory,
+            this.buckDirty,
+            this.buckCommit,
+            this.javaVersion,
+            this.cacheModes,
+            this.extraData,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code BuildEnvironmentDescription} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof BuildEnvironmentDescription && equalTo((BuildEnvironmentDescription) another));
+  }
+
+  private boolean equalTo(BuildEnvironmentDescription another) {
+    return user.equals(another.user)
+        && hostname.equals(another.hostname)
+        && os.equals(another.os)
+        && availableCores == another.availableCores
+        && systemMemory == another.systemMemory
+        && buckDirty.equals(another.buckDirty)
+        && buckCommit.equals(another.buckCommit)
+        && javaVersion.equals(another.javaVersion)
+        && cacheModes.equals(another.cacheModes)
+        && extraData.equals(another.extraData)
+        && jsonProtocolVersion == another.jsonProtocolVersion;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code user}, {@code hostname}, {@code os}, {@code availableCores}, {@code systemMemory}, {@code buckDirty}, {@code buckCommit}, {@code javaVersion}, {@code cacheModes}, {@code extraData}, {@code jsonProtocolVersion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + user.hashCode();
+    h = h * 17 + hostname.hashCode();
+    h = h * 17 + os.hashCode();
+    h = h * 17 + availableCores;
+    h = h * 17 + Longs.hashCode(systemMemory);
+    h = h * 17 + buckDirty.hashCode();
+    h = h * 17 + buckCommit.hashCode();
+    h = h * 17 + javaVersion.hashCode();
+    h = h * 17 + cacheModes.hashCode();
+    h = h * 17 + extraData.hashCode();
+    h = h * 17 + jsonProtocolVersion;
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code BuildEnvironmentDescription{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildEnvironmentDescription")
+        .add("user", user)
+        .add("hostname", hostname)
+        .add("os", os)
+        .add("availableCores", availableCores)
+        .add("systemMemory", systemMemory)
+        .add("buckDirty", buckDirty)
+        .add("buckCommit", buckCommit)
+        .add("javaVersion", javaVersion)
+        .add("cacheModes", cacheModes)
+        .add("extraData", extraData)
+        .add("jsonProtocolVersion", jsonProtocolVersion)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link AbstractBuildEnvironmentDescription}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable BuildEnvironmentDescription instance
+   */
+  public static BuildEnvironmentDescription copyOf(AbstractBuildEnvironmentDescription instance) {
+    if (instance instanceof BuildEnvironmentDescription) {
+      return (BuildEnvironmentDescription) instance;
+    }
+    return BuildEnvironmentDescription.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.util.environment.BuildEnvironmentDescription BuildEnvironmentDescription}.
+   * @return new BuildEnvironmentDescription builder
+   */
+  public static BuildEnvironmentDescription.Builder builder() {
+    return new BuildEnvironmentDescription.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.util.environment.BuildEnvironmentDescription BuildEnvironmentDescription}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0xff;
+    private static final long INITIALIZED_BIT_USER = 0x1L;
+    private static final long INITIALIZED_BIT_HOSTNAME = 0x2L;
+    private static final long INITIALIZED_BIT_OS = 0x4L;
+    private static final long INITIALIZED_BIT_AVAILABLE_CORES = 0x8L;
+    private static final long INITIALIZED_BIT_SYSTEM_MEMORY = 0x10L;
+    private static final long INITIALIZED_BIT_BUCK_DIRTY = 0x20L;
+    private static final long INITIALIZED_BIT_BUCK_COMMIT = 0x40L;
+    private static final long INITIALIZED_BIT_JAVA_VERSION = 0x80L;
+    private static final long NONDEFAULT_BIT_JSON_PROTOCOL_VERSION = 0x1L;
+    private long initializedBitset;
+    private long nondefaultBitset;
+    private @Nullable String user;
+    private @Nullable String hostname;
+    private @Nullable String os;
+    private int availableCores;
+    private long systemMemory;
+    private @Nullable TriState buckDirty;
+    private @Nullable String buckCommit;
+    private @Nullable String javaVersion;
+    private ImmutableList.Builder<String> cacheModesBuilder = ImmutableList.builder();
+    private ImmutableMap.Builder<String, String> extraDataBuilder = ImmutableMap.builder();
+    private int jsonProtocolVersion;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link AbstractBuildEnvironmentDescription} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(AbstractBuildEnvironmentDescription instance) {
+      Preconditions.checkNotNull(instance);
+      setUser(instance.getUser());
+      setHostname(instance.getHostname());
+      setOs(instance.getOs());
+      setAvailableCores(instance.getAvailableCores());
+      setSystemMemory(instance.getSystemMemory());
+      setBuckDirty(instance.getBuckDirty());
+      setBuckCommit(instance.getBuckCommit());
+      setJavaVersion(instance.getJavaVersion());
+      addAllCacheModes(instance.getCacheModes());
+      putAllExtraData(instance.getExtraData());
+      setJsonProtocolVersion(instance.getJsonProtocolVersion());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildEnvironmentDescription#getUser() user}.
+     * @param user value for user
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUser(String user) {
+      this.user = Preconditions.checkNotNull(user);
+      initializedBitset |= INITIALIZED_BIT_USER;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildEnvironmentDescription#getHostname() hostname}.
+     * @param hostname value for hostname
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setHostname(String hostname) {
+      this.hostname = Preconditions.checkNotNull(hostname);
+      initializedBitset |= INITIALIZED_BIT_HOSTNAME;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildEnvironmentDescription#getOs() os}.
+     * @param os value for os
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOs(String os) {
+      this.os = Preconditions.checkNotNull(os);
+      initializedBitset |= INITIALIZED_BIT_OS;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildEnvironmentDescription#getAvailableCores() availableCores}.
+     * @param availableCores value for availableCores
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAvailableCores(int availableCores) {
+      this.availableCores = availableCores;
+      initializedBitset |= INITIALIZED_BIT_AVAILABLE_CORES;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildEnvironmentDescription#getSystemMemory() systemMemory}.
+     * @param systemMemory value for systemMemory
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSystemMemory(long systemMemory) {
+      this.systemMemory = systemMemory;
+      initializedBitset |= INITIALIZED_BIT_SYSTEM_MEMORY;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildEnvironmentDescription#getBuckDirty() buckDirty}.
+     * @param buckDirty value for buckDirty
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuckDirty(TriState buckDirty) {
+      this.buckDirty = Preconditions.checkNotNull(buckDirty);
+      initializedBitset |= INITIALIZED_BIT_BUCK_DIRTY;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildEnvironmentDescription#getBuckCommit() buckCommit}.
+     * @param buckCommit value for buckCommit
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuckCommit(String buckCommit) {
+      this.buckCommit = Preconditions.checkNotNull(buckCommit);
+      initializedBitset |= INITIALIZED_BIT_BUCK_COMMIT;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildEnvironmentDescription#getJavaVersion() javaVersion}.
+     * @param javaVersion value for javaVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavaVersion(String javaVersion) {
+      this.javaVersion = Preconditions.checkNotNull(javaVersion);
+      initializedBitset |= INITIALIZED_BIT_JAVA_VERSION;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractBuildEnvironmentDescription#getCacheModes() cacheModes} list.
+     * @param element cacheModes element
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCacheModes(String element) {
+      cacheModesBuilder.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractBuildEnvironmentDescription#getCacheModes() cacheModes} list.
+     * @param elements array of cacheModes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addCacheModes(String... elements) {
+      cacheModesBuilder.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractBuildEnvironmentDescription#getCacheModes() cacheModes} list.
+     * @param elements iterable of cacheModes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCacheModes(Iterable<String> elements) {
+      cacheModesBuilder = ImmutableList.builder();
+      return addAllCacheModes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractBuildEnvironmentDescription#getCacheModes() cacheModes} list.
+     * @param elements iterable of cacheModes elements
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder addAllCacheModes(Iterable<String> elements) {
+      cacheModesBuilder.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractBuildEnvironmentDescription#getExtraData() extraData} map.
+     * @param key the key in extraData map
+     * @param value the associated value in extraData map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putExtraData(String key, String value) {
+      extraDataBuilder.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to {@link AbstractBuildEnvironmentDescription#getExtraData() extraData} map. Nulls are not permitted
+     * @param entry the key and value entry
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putExtraData(Map.Entry<String, ? extends String> entry) {
+      extraDataBuilder.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from specified map as entries for {@link AbstractBuildEnvironmentDescription#getExtraData() extraData} map. Nulls are not permitted
+     * @param entries to be added to extraData map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtraData(Map<String, ? extends String> entries) {
+      extraDataBuilder = ImmutableMap.builder();
+      return putAllExtraData(entries);
+    }
+
+    /**
+     * Put all mappings from specified map as entries to {@link AbstractBuildEnvironmentDescription#getExtraData() extraData} map. Nulls are not permitted
+     * @param entries to be added to extraData map
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder putAllExtraData(Map<String, ? extends String> entries) {
+      extraDataBuilder.putAll(entries);
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link AbstractBuildEnvironmentDescription#getJsonProtocolVersion() jsonProtocolVersion}.
+     * <p><em>If not set, this attribute will have default value returned by initializer of {@link AbstractBuildEnvironmentDescription#getJsonProtocolVersion() jsonProtocolVersion}.</em>
+     * @param jsonProtocolVersion value for jsonProtocolVersion
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJsonProtocolVersion(int jsonProtocolVersion) {
+      this.jsonProtocolVersion = jsonProtocolVersion;
+      nondefaultBitset |= NONDEFAULT_BIT_JSON_PROTOCOL_VERSION;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.util.environment.BuildEnvironmentDescription BuildEnvironmentDescription}.
+     * @return immutable instance of BuildEnvironmentDescription
+     */
+    public BuildEnvironmentDescription build() {
+      checkRequiredAttributes();
+      return new BuildEnvironmentDescription(this);
+    }
+
+    private boolean jsonProtocolVersionIsSet() {
+      return (nondefaultBitset & NONDEFAULT_BIT_JSON_PROTOCOL_VERSION) != 0;
+    }
+
+    private boolean userIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_USER) != 0;
+    }
+
+    private boolean hostnameIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_HOSTNAME) != 0;
+    }
+
+    private boolean osIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_OS) != 0;
+    }
+
+    private boolean availableCoresIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_AVAILABLE_CORES) != 0;
+    }
+
+    private boolean systemMemoryIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_SYSTEM_MEMORY) != 0;
+    }
+
+    private boolean buckDirtyIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUCK_DIRTY) != 0;
+    }
+
+    private boolean buckCommitIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BUCK_COMMIT) != 0;
+    }
+
+    private boolean javaVersionIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_JAVA_VERSION) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!userIsSet()) {
+        attributes.add("user");
+      }
+      if (!hostnameIsSet()) {
+        attributes.add("hostname");
+      }
+      if (!osIsSet()) {
+        attributes.add("os");
+      }
+      if (!availableCoresIsSet()) {
+        attributes.add("availableCores");
+      }
+      if (!systemMemoryIsSet()) {
+        attributes.add("systemMemory");
+      }
+      if (!buckDirtyIsSet()) {
+        attributes.add("buckDirty");
+      }
+      if (!buckCommitIsSet()) {
+        attributes.add("buckCommit");
+      }
+      if (!javaVersionIsSet()) {
+        attributes.add("javaVersion");
+      }
+      return "Cannot build BuildEnvironmentDescription, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,348 @@
+package com.facebook.buck.util.versioncontrol;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import java.util.Collection;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link VersionControlStats}.
+ * <p>
+ * Use builder to create immutable instances:
+ * {@code ImmutableVersionControlStats.builder()}.
+ */
+@SuppressWarnings("all")
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "VersionControlStats"})
+@Immutable
+public final class ImmutableVersionControlStats
+    extends VersionControlStats {
+  private final boolean workingDirectoryChanges;
+  private final String currentRevisionId;
+  private final String branchedFromMasterRevisionId;
+  private final long branchedFromMasterTsMillis;
+
+  private ImmutableVersionControlStats(
+      boolean workingDirectoryChanges,
+      String currentRevisionId,
+      String branchedFromMasterRevisionId,
+      long branchedFromMasterTsMillis) {
+    this.workingDirectoryChanges = workingDirectoryChanges;
+    this.currentRevisionId = currentRevisionId;
+    this.branchedFromMasterRevisionId = branchedFromMasterRevisionId;
+    this.branchedFromMasterTsMillis = branchedFromMasterTsMillis;
+  }
+
+  /**
+   * @return value of {@code workingDirectoryChanges} attribute
+   */
+  @Override
+  public boolean workingDirectoryChanges() {
+    return workingDirectoryChanges;
+  }
+
+  /**
+   * @return value of {@code currentRevisionId} attribute
+   */
+  @Override
+  public String currentRevisionId() {
+    return currentRevisionId;
+  }
+
+  /**
+   * @return value of {@code branchedFromMasterRevisionId} attribute
+   */
+  @Override
+  public String branchedFromMasterRevisionId() {
+    return branchedFromMasterRevisionId;
+  }
+
+  /**
+   * @return value of {@code branchedFromMasterTsMillis} attribute
+   */
+  @Override
+  public long branchedFromMasterTsMillis() {
+    return branchedFromMasterTsMillis;
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link VersionControlStats#workingDirectoryChanges() workingDirectoryChanges}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for workingDirectoryChanges
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableVersionControlStats withWorkingDirectoryChanges(boolean value) {
+    if (this.workingDirectoryChanges == value) {
+      return this;
+    }
+    boolean newValue = value;
+    return new ImmutableVersionControlStats(
+            newValue,
+            this.currentRevisionId,
+            this.branchedFromMasterRevisionId,
+            this.branchedFromMasterTsMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link VersionControlStats#currentRevisionId() currentRevisionId}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for currentRevisionId
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableVersionControlStats withCurrentRevisionId(String value) {
+    if (this.currentRevisionId == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ImmutableVersionControlStats(
+            this.workingDirectoryChanges,
+            newValue,
+            this.branchedFromMasterRevisionId,
+            this.branchedFromMasterTsMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link VersionControlStats#branchedFromMasterRevisionId() branchedFromMasterRevisionId}.
+   * Shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for branchedFromMasterRevisionId
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableVersionControlStats withBranchedFromMasterRevisionId(String value) {
+    if (this.branchedFromMasterRevisionId == value) {
+      return this;
+    }
+    String newValue = Preconditions.checkNotNull(value);
+    return new ImmutableVersionControlStats(this.workingDirectoryChanges, this.currentRevisionId, newValue, this.branchedFromMasterTsMillis);
+  }
+
+  /**
+   * Copy current immutable object by setting value for {@link VersionControlStats#branchedFromMasterTsMillis() branchedFromMasterTsMillis}.
+   * Value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value new value for branchedFromMasterTsMillis
+   * @return modified copy of the {@code this} object
+   */
+  public final ImmutableVersionControlStats withBranchedFromMasterTsMillis(long value) {
+    if (this.branchedFromMasterTsMillis == value) {
+      return this;
+    }
+    long newValue = value;
+    return new ImmutableVersionControlStats(
+            this.workingDirectoryChanges,
+            this.currentRevisionId,
+            this.branchedFromMasterRevisionId,
+            newValue);
+  }
+
+  /**
+   * This instance is equal to instances of {@code ImmutableVersionControlStats} with equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another
+        || (another instanceof ImmutableVersionControlStats && equalTo((ImmutableVersionControlStats) another));
+  }
+
+  private boolean equalTo(ImmutableVersionControlStats another) {
+    return workingDirectoryChanges == another.workingDirectoryChanges
+        && currentRevisionId.equals(another.currentRevisionId)
+        && branchedFromMasterRevisionId.equals(another.branchedFromMasterRevisionId)
+        && branchedFromMasterTsMillis == another.branchedFromMasterTsMillis;
+  }
+
+  /**
+   * Computes hash code from attributes: {@code workingDirectoryChanges}, {@code currentRevisionId}, {@code branchedFromMasterRevisionId}, {@code branchedFromMasterTsMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Booleans.hashCode(workingDirectoryChanges);
+    h = h * 17 + currentRevisionId.hashCode();
+    h = h * 17 + branchedFromMasterRevisionId.hashCode();
+    h = h * 17 + Longs.hashCode(branchedFromMasterTsMillis);
+    return h;
+  }
+
+  /**
+   * Prints immutable value {@code VersionControlStats{...}} with attribute values,
+   * excluding any non-generated and auxiliary attributes.
+   * @return string representation of value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionControlStats")
+        .add("workingDirectoryChanges", workingDirectoryChanges)
+        .add("currentRevisionId", currentRevisionId)
+        .add("branchedFromMasterRevisionId", branchedFromMasterRevisionId)
+        .add("branchedFromMasterTsMillis", branchedFromMasterTsMillis)
+        .toString();
+  }
+
+  /**
+   * Creates immutable copy of {@link VersionControlStats}.
+   * Uses accessors to get values to initialize immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance instance to copy
+   * @return copied immutable VersionControlStats instance
+   */
+  public static ImmutableVersionControlStats copyOf(VersionControlStats instance) {
+    if (instance instanceof ImmutableVersionControlStats) {
+      return (ImmutableVersionControlStats) instance;
+    }
+    return ImmutableVersionControlStats.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates builder for {@link com.facebook.buck.util.versioncontrol.ImmutableVersionControlStats ImmutableVersionControlStats}.
+   * @return new ImmutableVersionControlStats builder
+   */
+  public static ImmutableVersionControlStats.Builder builder() {
+    return new ImmutableVersionControlStats.Builder();
+  }
+
+  /**
+   * Builds instances of {@link com.facebook.buck.util.versioncontrol.ImmutableVersionControlStats ImmutableVersionControlStats}.
+   * Initialize attributes and then invoke {@link #build()} method to create
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread safe and generally should not be stored in field or collection,
+   * but used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INITIALIZED_BITSET_ALL = 0xf;
+    private static final long INITIALIZED_BIT_WORKING_DIRECTORY_CHANGES = 0x1L;
+    private static final long INITIALIZED_BIT_CURRENT_REVISION_ID = 0x2L;
+    private static final long INITIALIZED_BIT_BRANCHED_FROM_MASTER_REVISION_ID = 0x4L;
+    private static final long INITIALIZED_BIT_BRANCHED_FROM_MASTER_TS_MILLIS = 0x8L;
+    private long initializedBitset;
+    private boolean workingDirectoryChanges;
+    private @Nullable String currentRevisionId;
+    private @Nullable String branchedFromMasterRevisionId;
+    private long branchedFromMasterTsMillis;
+
+    private Builder() {}
+
+    /**
+     * Fill builder with attribute values from provided {@link VersionControlStats} instance.
+     * Regular attribute values will be overridden, i.e. replaced with ones of an instance.
+     * Instance's absent optional values will not be copied (will not override current).
+     * Collection elements and entries will be added, not replaced.
+     * @param instance instance to copy values from
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder from(VersionControlStats instance) {
+      Preconditions.checkNotNull(instance);
+      workingDirectoryChanges(instance.workingDirectoryChanges());
+      currentRevisionId(instance.currentRevisionId());
+      branchedFromMasterRevisionId(instance.branchedFromMasterRevisionId());
+      branchedFromMasterTsMillis(instance.branchedFromMasterTsMillis());
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link VersionControlStats#workingDirectoryChanges() workingDirectoryChanges}.
+     * @param workingDirectoryChanges value for workingDirectoryChanges
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder workingDirectoryChanges(boolean workingDirectoryChanges) {
+      this.workingDirectoryChanges = workingDirectoryChanges;
+      initializedBitset |= INITIALIZED_BIT_WORKING_DIRECTORY_CHANGES;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link VersionControlStats#currentRevisionId() currentRevisionId}.
+     * @param currentRevisionId value for currentRevisionId
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder currentRevisionId(String currentRevisionId) {
+      this.currentRevisionId = Preconditions.checkNotNull(currentRevisionId);
+      initializedBitset |= INITIALIZED_BIT_CURRENT_REVISION_ID;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link VersionControlStats#branchedFromMasterRevisionId() branchedFromMasterRevisionId}.
+     * @param branchedFromMasterRevisionId value for branchedFromMasterRevisionId
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder branchedFromMasterRevisionId(String branchedFromMasterRevisionId) {
+      this.branchedFromMasterRevisionId = Preconditions.checkNotNull(branchedFromMasterRevisionId);
+      initializedBitset |= INITIALIZED_BIT_BRANCHED_FROM_MASTER_REVISION_ID;
+      return this;
+    }
+
+    /**
+     * Initializes value for {@link VersionControlStats#branchedFromMasterTsMillis() branchedFromMasterTsMillis}.
+     * @param branchedFromMasterTsMillis value for branchedFromMasterTsMillis
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder branchedFromMasterTsMillis(long branchedFromMasterTsMillis) {
+      this.branchedFromMasterTsMillis = branchedFromMasterTsMillis;
+      initializedBitset |= INITIALIZED_BIT_BRANCHED_FROM_MASTER_TS_MILLIS;
+      return this;
+    }
+
+    /**
+     * Builds new {@link com.facebook.buck.util.versioncontrol.ImmutableVersionControlStats ImmutableVersionControlStats}.
+     * @return immutable instance of VersionControlStats
+     */
+    public ImmutableVersionControlStats build() {
+      checkRequiredAttributes();
+      return new ImmutableVersionControlStats(
+              workingDirectoryChanges,
+              currentRevisionId,
+              branchedFromMasterRevisionId,
+              branchedFromMasterTsMillis);
+    }
+
+    private boolean workingDirectoryChangesIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_WORKING_DIRECTORY_CHANGES) != 0;
+    }
+
+    private boolean currentRevisionIdIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_CURRENT_REVISION_ID) != 0;
+    }
+
+    private boolean branchedFromMasterRevisionIdIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BRANCHED_FROM_MASTER_REVISION_ID) != 0;
+    }
+
+    private boolean branchedFromMasterTsMillisIsSet() {
+      return (initializedBitset & INITIALIZED_BIT_BRANCHED_FROM_MASTER_TS_MILLIS) != 0;
+    }
+
+    private void checkRequiredAttributes() {
+      if (initializedBitset != INITIALIZED_BITSET_ALL) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+    }
+
+    private String formatRequiredAttributesMessage() {
+      Collection<String> attributes = Lists.newArrayList();
+      if (!workingDirectoryChangesIsSet()) {
+        attributes.add("workingDirectoryChanges");
+      }
+      if (!currentRevisionIdIsSet()) {
+        attributes.add("currentRevisionId");
+      }
+      if (!branchedFromMasterRevisionIdIsSet()) {
+        attributes.add("branchedFromMasterRevisionId");
+      }
+      if (!branchedFromMasterTsMillisIsSet()) {
+        attributes.add("branchedFromMasterTsMillis");
+      }
+      return "Cannot build VersionControlStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
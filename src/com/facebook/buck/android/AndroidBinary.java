@@ -39,6 +39,7 @@ import com.facebook.buck.rules.BuildableProperties;
 import com.facebook.buck.rules.ExopackageInfo;
 import com.facebook.buck.rules.HasRuntimeDeps;
 import com.facebook.buck.rules.InstallableApk;
+import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.rules.RuleKeyBuilderFactory;
 import com.facebook.buck.rules.Sha1HashCode;
 import com.facebook.buck.rules.SourcePath;
@@ -589,7 +590,12 @@ public class AndroidBinary
     // Returning our RuleKey has this effect because we will never get an ABI match after a
     // RuleKey miss.
     if (exopackageModes.isEmpty()) {
-      return Sha1HashCode.of(defaultRuleKeyBuilderFactory.build(this).toString());
+      RuleKey ruleKey = defaultRuleKeyBuilderFactory.build(this);
+      // Rule keys hashed with something other than SHA-1 aren't the width of an ABI key.
+      if (ruleKey.getHashCode().bits() != 160) {
+        return Sha1HashCode.fromHashCode(ruleKey.getHashCode());
+      }
+      return Sha1HashCode.of(ruleKey.toString());
     }
     return enhancementResult.getComputeExopackageDepsAbi().get().getAndroidBinaryAbiHash();
   }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.slb.HttpService;
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+
+import org.immutables.value.Value;
+
+/**
+ * What a {@link HttpArtifactCache} talks to, and how.
+ */
+@Value.Immutable
+@BuckStyleImmutable
+abstract class AbstractHttpArtifactCacheArgs {
+  public abstract String getCacheName();
+  public abstract HttpService getFetchClient();
+  public abstract HttpService getStoreClient();
+  public abstract boolean getDoStore();
+  public abstract ProjectFilesystem getProjectFilesystem();
+  public abstract BuckEventBus getBuckEventBus();
+
+  /**
+   * @return what decides when stores are uploaded.  Share it between the caches which upload over
+   *     the same link.
+   */
+  public abstract HttpUploadScheduler getUploadScheduler();
+
+  public abstract String getErrorTextTemplate();
+
+  /**
+   * @return whether hits fetched into a {@link MaterializableOutput} are unzipped into its project
+   *     as they are downloaded, instead of being written to a temp file first.
+   */
+  @Value.Default
+  public boolean getStreamingUnzip() {
+    return false;
+  }
+
+  /**
+   * @return whether to download the server's digest of its keys on the first fetch, and report
+   *     keys it does not contain, or which were misses before, as misses without asking the
+   *     server.
+   */
+  @Value.Default
+  public boolean getKeyDigestEnabled() {
+    return false;
+  }
+
+  /**
+   * @return whether the cache only serves lookups made ahead of the build, which are reported as
+   *     prefetches so they aren't counted as the build's own downloads.
+   */
+  @Value.Default
+  public boolean getPrefetch() {
+    return false;
+  }
+}
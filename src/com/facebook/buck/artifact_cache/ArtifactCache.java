@@ -37,6 +37,25 @@ public interface ArtifactCache extends AutoCloseable {
    */
   CacheResult fetch(RuleKey ruleKey, LazyPath output) throws InterruptedException;
 
+  /**
+   * Fetch a batch of cached artifacts in one operation.  Each artifact is saved to the
+   * {@link LazyPath} it is keyed with, exactly as if {@link #fetch(RuleKey, LazyPath)} had been
+   * called for it.  Caches which cannot do better than one lookup per key may simply delegate to
+   * {@link #fetch(RuleKey, LazyPath)}.
+   *
+   * @param outputs cache fetch keys, mapped to the path to store the corresponding artifact to.
+   * @return the result of the fetch for every requested key.
+   */
+  ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException;
+
+  /**
+   * @return whether {@link #multiFetch(ImmutableMap)} looks a batch of keys up in fewer round
+   *     trips than fetching them one at a time would, so that it is worth holding fetches back to
+   *     gather them into batches.
+   */
+  boolean isMultiFetchBatched();
+
   /**
    * Store the artifact at path specified by output to cache, such that it can later be fetched
    * using ruleKey as the lookup key.  If any internal errors occur, fail silently and continue
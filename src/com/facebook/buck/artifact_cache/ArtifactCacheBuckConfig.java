@@ -90,6 +90,36 @@ public class ArtifactCacheBuckConfig {
   private static final String TWO_LEVEL_CACHING_THRESHOLD_FIELD_NAME = "two_level_cache_threshold";
   private static final long TWO_LEVEL_CACHING_THRESHOLD_DEFAULT = 20 * 1024L;
 
+  private static final String CHUNKING_ENABLED_FIELD_NAME = "chunking_enabled";
+  private static final String CHUNKING_THRESHOLD_FIELD_NAME = "chunking_threshold";
+  private static final long CHUNKING_THRESHOLD_DEFAULT = 1024 * 1024L;
+  private static final String CHUNK_DIR_MAX_SIZE_FIELD_NAME = "chunk_dir_max_size";
+  private static final long CHUNK_DIR_MAX_SIZE_DEFAULT = 1024 * 1024 * 1024L;
+
+  private static final String HTTP_STREAMING_UNZIP_ENABLED_FIELD_NAME =
+      "http_streaming_unzip_enabled";
+  private static final String HTTP_KEY_DIGEST_ENABLED_FIELD_NAME = "http_key_digest_enabled";
+  private static final String HTTP_MAX_UPLOAD_RATE_FIELD_NAME = "http_max_upload_rate";
+  private static final String HTTP_UPLOAD_FETCH_PRIORITY_WAIT_FIELD_NAME =
+      "http_upload_fetch_priority_wait_ms";
+
+  private static final String ARTIFACT_CODEC_FIELD_NAME = "artifact_codec";
+  private static final String ARTIFACT_COMPRESSION_LEVEL_FIELD_NAME =
+      "artifact_compression_level";
+
+  private static final String PARALLEL_LOOKUP_ENABLED_FIELD_NAME = "parallel_lookup_enabled";
+  private static final String PARALLEL_LOOKUP_HEDGE_DELAY_FIELD_NAME =
+      "parallel_lookup_hedge_delay_ms";
+  private static final long DEFAULT_PARALLEL_LOOKUP_HEDGE_DELAY_MS = 20L;
+  private static final String ASYNC_WRITE_BACK_ENABLED_FIELD_NAME = "async_write_back_enabled";
+  private static final String ASYNC_WRITE_BACK_QUEUE_SIZE_FIELD_NAME =
+      "async_write_back_queue_size";
+  private static final long DEFAULT_ASYNC_WRITE_BACK_QUEUE_SIZE = 100L;
+  private static final String BATCH_FETCHES_FIELD_NAME = "batch_fetches";
+  private static final String PREFETCH_ENABLED_FIELD_NAME = "prefetch_enabled";
+  private static final String PREFETCH_MAX_CONCURRENT_FIELD_NAME = "prefetch_max_concurrent";
+  private static final long DEFAULT_PREFETCH_MAX_CONCURRENT = 16L;
+
   public enum LoadBalancingType {
     SINGLE_SERVER,
     CLIENT_SLB,
@@ -178,6 +208,7 @@ public class ArtifactCacheBuckConfig {
         .setCacheDir(getCacheDir())
         .setCacheReadMode(getDirCacheReadMode())
         .setMaxSizeBytes(getCacheDirMaxSizeBytes())
+        .setExplodedLayout(getDirCacheExplodedLayout())
         .build();
   }
 
@@ -216,10 +247,150 @@ public class ArtifactCacheBuckConfig {
         .or(TWO_LEVEL_CACHING_THRESHOLD_DEFAULT);
   }
 
+  public boolean getHttpStreamingUnzipEnabled() {
+    return buckConfig.getBooleanValue(
+        CACHE_SECTION_NAME,
+        HTTP_STREAMING_UNZIP_ENABLED_FIELD_NAME,
+        false);
+  }
+
+  public boolean getHttpKeyDigestEnabled() {
+    return buckConfig.getBooleanValue(
+        CACHE_SECTION_NAME,
+        HTTP_KEY_DIGEST_ENABLED_FIELD_NAME,
+        false);
+  }
+
+  /**
+   * @return how many bytes per second all uploads to http caches together may send, if limited.
+   */
+  public Optional<Long> getHttpMaxUploadBytesPerSecond() {
+    return getBytes(HTTP_MAX_UPLOAD_RATE_FIELD_NAME);
+  }
+
+  public long getHttpUploadFetchPriorityWaitMillis() {
+    return buckConfig.getLong(CACHE_SECTION_NAME, HTTP_UPLOAD_FETCH_PRIORITY_WAIT_FIELD_NAME)
+        .or(0L);
+  }
+
+  public boolean getChunkingEnabled() {
+    return buckConfig.getBooleanValue(CACHE_SECTION_NAME, CHUNKING_ENABLED_FIELD_NAME, false);
+  }
+
+  public ArtifactCodec getArtifactCodec() {
+    return buckConfig.getEnum(CACHE_SECTION_NAME, ARTIFACT_CODEC_FIELD_NAME, ArtifactCodec.class)
+        .or(ArtifactCodec.DEFLATE);
+  }
+
+  /**
+   * @return the level artifacts are deflated at, when using {@link ArtifactCodec#DEFLATE}.
+   */
+  public int getArtifactCompressionLevel() {
+    long level = buckConfig.getLong(CACHE_SECTION_NAME, ARTIFACT_COMPRESSION_LEVEL_FIELD_NAME)
+        .or((long) ArtifactCodec.DEFAULT_DEFLATE_LEVEL);
+    if (level < ArtifactCodec.MIN_DEFLATE_LEVEL || level > ArtifactCodec.MAX_DEFLATE_LEVEL) {
+      throw new HumanReadableException(
+          "Unusable %s.%s: '%s', must be between %s and %s",
+          CACHE_SECTION_NAME,
+          ARTIFACT_COMPRESSION_LEVEL_FIELD_NAME,
+          level,
+          ArtifactCodec.MIN_DEFLATE_LEVEL,
+          ArtifactCodec.MAX_DEFLATE_LEVEL);
+    }
+    return (int) level;
+  }
+
+  public long getChunkingThreshold() {
+    return getBytes(CHUNKING_THRESHOLD_FIELD_NAME).or(CHUNKING_THRESHOLD_DEFAULT);
+  }
+
+  /**
+   * @return where chunks which have passed through the cache are kept locally.
+   */
+  public Path getChunkDir() {
+    return getCacheDir().resolve("chunks");
+  }
+
+  public long getChunkDirMaxSizeBytes() {
+    return getBytes(CHUNK_DIR_MAX_SIZE_FIELD_NAME).or(CHUNK_DIR_MAX_SIZE_DEFAULT);
+  }
+
+  private Optional<Long> getBytes(String fieldName) {
+    return buckConfig.getValue(CACHE_SECTION_NAME, fieldName).transform(
+        new Function<String, Long>() {
+          @Override
+          public Long apply(String input) {
+            return SizeUnit.parseBytes(input);
+          }
+        });
+  }
+
+  /**
+   * @return how long a lookup in one cache may run before the next cache is also asked, if caches
+   *     should be looked up in parallel.
+   */
+  public Optional<Long> getParallelLookupHedgeDelayMillis() {
+    if (!buckConfig.getBooleanValue(
+            CACHE_SECTION_NAME,
+            PARALLEL_LOOKUP_ENABLED_FIELD_NAME,
+            false)) {
+      return Optional.absent();
+    }
+    return Optional.of(
+        buckConfig.getLong(CACHE_SECTION_NAME, PARALLEL_LOOKUP_HEDGE_DELAY_FIELD_NAME)
+            .or(DEFAULT_PARALLEL_LOOKUP_HEDGE_DELAY_MS));
+  }
+
+  /**
+   * @return how many propagations of hits to earlier caches may be waiting at once, if they should
+   *     happen in the background.
+   */
+  public Optional<Integer> getAsyncWriteBackQueueSize() {
+    if (!buckConfig.getBooleanValue(
+            CACHE_SECTION_NAME,
+            ASYNC_WRITE_BACK_ENABLED_FIELD_NAME,
+            false)) {
+      return Optional.absent();
+    }
+    return Optional.of(
+        buckConfig.getLong(CACHE_SECTION_NAME, ASYNC_WRITE_BACK_QUEUE_SIZE_FIELD_NAME)
+            .or(DEFAULT_ASYNC_WRITE_BACK_QUEUE_SIZE)
+            .intValue());
+  }
+
+  /**
+   * @return whether lookups which are made while another is in flight should be held back and
+   *     sent to the cache together once it completes.
+   */
+  public boolean getBatchFetches() {
+    return buckConfig.getBooleanValue(CACHE_SECTION_NAME, BATCH_FETCHES_FIELD_NAME, false);
+  }
+
+  /**
+   * @return how many lookups ahead of the build may run at once, if the build should look up the
+   *     deps of rules while they themselves are being looked up.
+   */
+  public Optional<Integer> getPrefetchMaxConcurrent() {
+    if (!buckConfig.getBooleanValue(
+            CACHE_SECTION_NAME,
+            PREFETCH_ENABLED_FIELD_NAME,
+            false)) {
+      return Optional.absent();
+    }
+    return Optional.of(
+        buckConfig.getLong(CACHE_SECTION_NAME, PREFETCH_MAX_CONCURRENT_FIELD_NAME)
+            .or(DEFAULT_PREFETCH_MAX_CONCURRENT)
+            .intValue());
+  }
+
   private CacheReadMode getDirCacheReadMode() {
     return getCacheReadMode(CACHE_SECTION_NAME, "dir_mode", DEFAULT_DIR_CACHE_MODE);
   }
 
+  private boolean getDirCacheExplodedLayout() {
+    return buckConfig.getBooleanValue(CACHE_SECTION_NAME, "dir_exploded", false);
+  }
+
   private Path getCacheDir() {
     String cacheDir = buckConfig.getLocalCacheDirectory();
     Path pathToCacheDir = buckConfig.resolvePathThatMayBeOutsideTheProjectFilesystem(
@@ -361,6 +532,11 @@ public class ArtifactCacheBuckConfig {
     public abstract Path getCacheDir();
     public abstract Optional<Long> getMaxSizeBytes();
     public abstract CacheReadMode getCacheReadMode();
+
+    @Value.Default
+    public boolean isExplodedLayout() {
+      return false;
+    }
   }
 
   @Value.Immutable
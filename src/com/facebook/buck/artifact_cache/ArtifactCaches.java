@@ -129,27 +129,37 @@ public class ArtifactCaches {
       return new NoopArtifactCache();
     }
     ImmutableList.Builder<ArtifactCache> builder = ImmutableList.builder();
+    Optional<ArtifactCache> dirCache = Optional.absent();
+    ImmutableList.Builder<HttpArtifactCacheArgs> httpCacheArgsBuilder = ImmutableList.builder();
+    // All http caches upload over the same link, so they share a scheduler.
+    HttpUploadScheduler uploadScheduler = new HttpUploadScheduler(
+        httpWriteExecutorService,
+        buckConfig.getHttpMaxUploadBytesPerSecond(),
+        buckConfig.getHttpUploadFetchPriorityWaitMillis());
     for (ArtifactCacheBuckConfig.ArtifactCacheMode mode : modes) {
       switch (mode) {
         case dir:
-          builder.add(
+          dirCache = Optional.of(
               createDirArtifactCache(
                   Optional.of(buckEventBus),
                   buckConfig.getDirCache(),
                   projectFilesystem));
+          builder.add(dirCache.get());
           break;
         case http:
           for (HttpCacheEntry cacheEntry : buckConfig.getHttpCaches()) {
             if (!cacheEntry.isWifiUsableForDistributedCache(wifiSsid)) {
               continue;
             }
-            builder.add(createHttpArtifactCache(
-                    cacheEntry,
-                    buckConfig.getHostToReportToRemoteCacheServer(),
-                    buckEventBus,
-                    projectFilesystem,
-                    httpWriteExecutorService,
-                    buckConfig));
+            HttpArtifactCacheArgs httpCacheArgs = createHttpArtifactCacheArgs(
+                cacheEntry,
+                buckConfig.getHostToReportToRemoteCacheServer(),
+                buckEventBus,
+                projectFilesystem,
+                uploadScheduler,
+                buckConfig);
+            builder.add(new HttpArtifactCache(httpCacheArgs));
+            httpCacheArgsBuilder.add(httpCacheArgs);
           }
           break;
       }
@@ -161,20 +171,93 @@ public class ArtifactCaches {
       // Don't bother wrapping a single artifact cache in MultiArtifactCache.
       result = artifactCaches.get(0);
     } else {
-      result = new MultiArtifactCache(artifactCaches);
+      result = new MultiArtifactCache(
+          artifactCaches,
+          buckConfig.getParallelLookupHedgeDelayMillis(),
+          buckConfig.getAsyncWriteBackQueueSize());
     }
 
-    if (buckConfig.getTwoLevelCachingEnabled()) {
-      result = new TwoLevelArtifactCacheDecorator(
+    if (buckConfig.getChunkingEnabled()) {
+      result = new ChunkedArtifactCacheDecorator(
           result,
           projectFilesystem,
           httpWriteExecutorService,
-          buckConfig.getTwoLevelCachingThreshold());
+          buckConfig.getChunkDir(),
+          buckConfig.getChunkingThreshold(),
+          buckConfig.getChunkDirMaxSizeBytes());
+    }
+
+    result = withTwoLevelCaching(result, buckConfig, projectFilesystem, httpWriteExecutorService);
+
+    // Only lookups which cross the network are worth making ahead of the build.  Chunked
+    // artifacts are reassembled from the local chunk directory, so they can't be prefetched.
+    ImmutableList<HttpArtifactCacheArgs> httpCacheArgs = httpCacheArgsBuilder.build();
+    Optional<Integer> prefetchMaxConcurrent = buckConfig.getPrefetchMaxConcurrent();
+    if (prefetchMaxConcurrent.isPresent() &&
+        !httpCacheArgs.isEmpty() &&
+        !buckConfig.getChunkingEnabled()) {
+      result = new PrefetchingArtifactCacheDecorator(
+          result,
+          withTwoLevelCaching(
+              dirCache.or(new NoopArtifactCache()),
+              buckConfig,
+              projectFilesystem,
+              httpWriteExecutorService),
+          withTwoLevelCaching(
+              createPrefetchArtifactCache(buckConfig, httpCacheArgs),
+              buckConfig,
+              projectFilesystem,
+              httpWriteExecutorService),
+          prefetchMaxConcurrent.get());
     }
 
     return result;
   }
 
+  /**
+   * @return a view of the http caches for prefetches to look artifacts up in, which reports its
+   *     lookups as prefetches, and neither stores artifacts nor writes hits back into other caches.
+   *     It shares its connections with the caches the build fetches from.
+   */
+  private static ArtifactCache createPrefetchArtifactCache(
+      ArtifactCacheBuckConfig buckConfig,
+      ImmutableList<HttpArtifactCacheArgs> httpCacheArgs) {
+    ImmutableList.Builder<ArtifactCache> builder = ImmutableList.builder();
+    for (HttpArtifactCacheArgs args : httpCacheArgs) {
+      builder.add(
+          new HttpArtifactCache(
+              HttpArtifactCacheArgs.builder()
+                  .from(args)
+                  .setDoStore(false)
+                  .setPrefetch(true)
+                  .build()));
+    }
+    ImmutableList<ArtifactCache> artifactCaches = builder.build();
+    if (artifactCaches.size() == 1) {
+      return artifactCaches.get(0);
+    }
+    // None of the caches store, so there is nothing to write back.
+    return new MultiArtifactCache(
+        artifactCaches,
+        buckConfig.getParallelLookupHedgeDelayMillis(),
+        Optional.<Integer>absent());
+  }
+
+  private static ArtifactCache withTwoLevelCaching(
+      ArtifactCache artifactCache,
+      ArtifactCacheBuckConfig buckConfig,
+      ProjectFilesystem projectFilesystem,
+      ListeningExecutorService httpWriteExecutorService) {
+    if (!buckConfig.getTwoLevelCachingEnabled()) {
+      return artifactCache;
+    }
+    return new TwoLevelArtifactCacheDecorator(
+        artifactCache,
+        projectFilesystem,
+        httpWriteExecutorService,
+        buckConfig.getTwoLevelCachingThreshold());
+  }
+
   private static ArtifactCache createDirArtifactCache(
       Optional<BuckEventBus> buckEventBus,
       DirCacheEntry dirCacheConfig,
@@ -186,7 +269,8 @@ public class ArtifactCaches {
           projectFilesystem,
           cacheDir,
           dirCacheConfig.getCacheReadMode().isDoStore(),
-          dirCacheConfig.getMaxSizeBytes());
+          dirCacheConfig.getMaxSizeBytes(),
+          dirCacheConfig.isExplodedLayout());
 
       if (!buckEventBus.isPresent()) {
         return dirArtifactCache;
@@ -203,12 +287,12 @@ public class ArtifactCaches {
     }
   }
 
-  private static ArtifactCache createHttpArtifactCache(
+  private static HttpArtifactCacheArgs createHttpArtifactCacheArgs(
       HttpCacheEntry cacheDescription,
       final String hostToReportToRemote,
       final BuckEventBus buckEventBus,
       ProjectFilesystem projectFilesystem,
-      ListeningExecutorService httpWriteExecutorService,
+      HttpUploadScheduler uploadScheduler,
       ArtifactCacheBuckConfig config) {
 
     // Setup the default client to use.
@@ -311,15 +395,18 @@ public class ArtifactCaches {
         })
         .or("http");
     boolean doStore = cacheDescription.getCacheReadMode().isDoStore();
-    return new HttpArtifactCache(
-        cacheName,
-        fetchService,
-        storeService,
-        doStore,
-        projectFilesystem,
-        buckEventBus,
-        httpWriteExecutorService,
-        cacheDescription.getErrorMessageFormat());
+    return HttpArtifactCacheArgs.builder()
+        .setCacheName(cacheName)
+        .setFetchClient(fetchService)
+        .setStoreClient(storeService)
+        .setDoStore(doStore)
+        .setProjectFilesystem(projectFilesystem)
+        .setBuckEventBus(buckEventBus)
+        .setUploadScheduler(uploadScheduler)
+        .setErrorTextTemplate(cacheDescription.getErrorMessageFormat())
+        .setStreamingUnzip(config.getHttpStreamingUnzipEnabled())
+        .setKeyDigestEnabled(config.getHttpKeyDigestEnabled())
+        .build();
   }
 
   private static class ProgressResponseBody extends ResponseBody {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Locale;
+
+/**
+ * How the files in an artifact's zip are compressed.  The codec is recorded in the artifact's
+ * metadata under {@link #METADATA_KEY}, so that a build which cannot decode an artifact treats it
+ * as a miss instead of failing to unpack it.
+ */
+public enum ArtifactCodec {
+  /**
+   * Files are stored as they are, which costs nothing to write or read but the most to transfer.
+   */
+  STORE,
+  /**
+   * Files are deflated, at a level from 1 (fastest) to 9 (smallest).
+   */
+  DEFLATE,
+  ;
+
+  public static final String METADATA_KEY = "ARTIFACT_CODEC";
+  public static final int MIN_DEFLATE_LEVEL = 1;
+  public static final int DEFAULT_DEFLATE_LEVEL = 6;
+  public static final int MAX_DEFLATE_LEVEL = 9;
+
+  /**
+   * @param deflateLevel only used by {@link #DEFLATE}.
+   * @return the zip compression level which encodes files with this codec.
+   */
+  public int getZipCompressionLevel(int deflateLevel) {
+    if (this == STORE) {
+      return 0;
+    }
+    Preconditions.checkArgument(
+        MIN_DEFLATE_LEVEL <= deflateLevel && deflateLevel <= MAX_DEFLATE_LEVEL,
+        "Deflate level must be between %s and %s, was %s",
+        MIN_DEFLATE_LEVEL,
+        MAX_DEFLATE_LEVEL,
+        deflateLevel);
+    return deflateLevel;
+  }
+
+  /**
+   * @return the metadata value identifying this codec.
+   */
+  public String getMetadataValue() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * @return the codec an artifact was encoded with, or absent if it is not one this build knows.
+   *     Artifacts from before codecs were recorded are always deflated.
+   */
+  public static Optional<ArtifactCodec> fromMetadata(ImmutableMap<String, String> metadata) {
+    String value = metadata.get(METADATA_KEY);
+    if (value == null) {
+      return Optional.of(DEFLATE);
+    }
+    for (ArtifactCodec codec : values()) {
+      if (codec.getMetadataValue().equals(value)) {
+        return Optional.of(codec);
+      }
+    }
+    return Optional.absent();
+  }
+}
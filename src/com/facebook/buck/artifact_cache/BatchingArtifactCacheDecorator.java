@@ -0,0 +1,197 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decorator which coalesces {@link #fetch(RuleKey, LazyPath)} calls made concurrently from
+ * different threads into {@link ArtifactCache#multiFetch(ImmutableMap)} calls on the delegate.
+ * <p>
+ * There is no batching window: while one batch is in flight, fetches from other threads queue
+ * up, and one of the waiting threads sends everything queued as the next batch once the current
+ * one completes.  An idle cache therefore still answers a lone fetch straight away, while rule
+ * keys which become ready together during a busy build share a single round trip.
+ * <p>
+ * Fetches go straight to delegates which can't look a batch up any faster than one key at a time.
+ */
+public class BatchingArtifactCacheDecorator implements ArtifactCache {
+
+  private final ArtifactCache delegate;
+  private final int maxBatchSize;
+
+  // Guards `pending` and `batchInFlight`.
+  private final Object lock = new Object();
+  private final Deque<PendingFetch> pending = new ArrayDeque<>();
+  private boolean batchInFlight = false;
+
+  public BatchingArtifactCacheDecorator(ArtifactCache delegate, int maxBatchSize) {
+    Preconditions.checkArgument(maxBatchSize > 0);
+    this.delegate = delegate;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  @Override
+  public CacheResult fetch(RuleKey ruleKey, LazyPath output) throws InterruptedException {
+    // Holding fetches back only pays off if the delegate can look them up together.
+    if (!delegate.isMultiFetchBatched()) {
+      return delegate.fetch(ruleKey, output);
+    }
+
+    PendingFetch request = new PendingFetch(ruleKey, output);
+    List<PendingFetch> batch;
+
+    synchronized (lock) {
+      pending.add(request);
+      try {
+        while (request.result == null && batchInFlight) {
+          lock.wait();
+        }
+      } catch (InterruptedException e) {
+        pending.remove(request);
+        throw e;
+      }
+      if (request.result != null) {
+        return request.result;
+      }
+
+      // Nobody else is talking to the cache, so we send the next batch, which always includes
+      // our own request.
+      batchInFlight = true;
+      pending.remove(request);
+      batch = takeBatch(request);
+    }
+
+    boolean completed = false;
+    try {
+      if (batch.size() == 1) {
+        request.result = delegate.fetch(ruleKey, output);
+      } else {
+        ImmutableMap.Builder<RuleKey, LazyPath> outputs = ImmutableMap.builder();
+        for (PendingFetch fetch : batch) {
+          outputs.put(fetch.ruleKey, fetch.output);
+        }
+        ImmutableMap<RuleKey, CacheResult> results = delegate.multiFetch(outputs.build());
+        for (PendingFetch fetch : batch) {
+          CacheResult result = results.get(fetch.ruleKey);
+          fetch.result = result == null ? CacheResult.miss() : result;
+        }
+      }
+      completed = true;
+    } finally {
+      synchronized (lock) {
+        if (!completed) {
+          // Let the other requests of the failed batch be retried by their own threads.
+          for (PendingFetch fetch : Lists.reverse(batch)) {
+            if (fetch != request) {
+              pending.addFirst(fetch);
+            }
+          }
+        }
+        batchInFlight = false;
+        lock.notifyAll();
+      }
+    }
+
+    return Preconditions.checkNotNull(request.result);
+  }
+
+  @VisibleForTesting
+  int getQueuedFetchCount() {
+    synchronized (lock) {
+      return pending.size();
+    }
+  }
+
+  // Must be called with `lock` held.
+  private List<PendingFetch> takeBatch(PendingFetch first) {
+    List<PendingFetch> batch = Lists.newArrayList(first);
+    Set<RuleKey> ruleKeys = Sets.newHashSet(first.ruleKey);
+    Iterator<PendingFetch> iterator = pending.iterator();
+    while (batch.size() < maxBatchSize && iterator.hasNext()) {
+      PendingFetch fetch = iterator.next();
+      // A key can only appear once in a multi-fetch, so leave duplicates for the next batch.
+      if (ruleKeys.add(fetch.ruleKey)) {
+        batch.add(fetch);
+        iterator.remove();
+      }
+    }
+    return batch;
+  }
+
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    if (outputs.size() == 1) {
+      RuleKey ruleKey = Iterables.getOnlyElement(outputs.keySet());
+      return ImmutableMap.of(ruleKey, fetch(ruleKey, outputs.get(ruleKey)));
+    }
+    return delegate.multiFetch(outputs);
+  }
+
+  @Override
+  public ListenableFuture<Void> store(
+      ImmutableSet<RuleKey> ruleKeys,
+      ImmutableMap<String, String> metadata,
+      Path output) throws InterruptedException {
+    return delegate.store(ruleKeys, metadata, output);
+  }
+
+  @Override
+  public boolean isMultiFetchBatched() {
+    return delegate.isMultiFetchBatched();
+  }
+
+  @Override
+  public boolean isStoreSupported() {
+    return delegate.isStoreSupported();
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  private static class PendingFetch {
+    private final RuleKey ruleKey;
+    private final LazyPath output;
+
+    // Set once the batch this fetch was sent in completes.
+    private volatile CacheResult result;
+
+    private PendingFetch(RuleKey ruleKey, LazyPath output) {
+      this.ruleKey = ruleKey;
+      this.output = output;
+    }
+  }
+}
@@ -0,0 +1,486 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.HumanReadableException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator which stores large artifacts as a manifest of content defined chunks (see
+ * {@link ContentDefinedChunker}), each stored once under a key derived from its hash.  Artifacts
+ * which differ in only a few places, like jars with a couple of changed classes, then share most
+ * of their chunks.
+ * <p>
+ * Chunks which pass through the decorator are also kept in a local, size limited chunk directory,
+ * so that they don't need to be fetched again to put an artifact together.  The modification time
+ * of each is when the delegate was last known to have it: chunks stored to or fetched from the
+ * delegate since then aren't uploaded again, while older ones are, in case the delegate has
+ * since evicted them or never received them.
+ */
+public class ChunkedArtifactCacheDecorator implements ArtifactCache {
+
+  private static final Logger LOG = Logger.get(ChunkedArtifactCacheDecorator.class);
+
+  // Marks artifacts which were stored as a manifest of chunks.
+  private static final String METADATA_KEY = "CHUNKED_ARTIFACT_MANIFEST";
+  // Chunks are stored under their hash with this prefix, like the content hashes of the two level
+  // cache.
+  private static final String CHUNK_KEY_PREFIX = "c4c0";
+  private static final int MANIFEST_VERSION = 1;
+  // How much of the max size to leave if we decide to delete old chunks.
+  private static final float MAX_BYTES_TRIM_RATIO = 2 / 3f;
+  // How long the delegate is trusted to keep a chunk after it was last stored or fetched.
+  private static final long DEFAULT_STORED_CHUNK_TTL_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+  private final ArtifactCache delegate;
+  private final ListeningExecutorService listeningExecutorService;
+  private final Path chunkDir;
+  private final long chunkingThreshold;
+  private final long maxChunkDirSizeBytes;
+  private final ContentDefinedChunker chunker;
+  private final long storedChunkTtlMillis;
+  private final DirArtifactCacheIndex chunkIndex;
+
+  public ChunkedArtifactCacheDecorator(
+      ArtifactCache delegate,
+      ProjectFilesystem projectFilesystem,
+      ListeningExecutorService listeningExecutorService,
+      Path chunkDir,
+      long chunkingThreshold,
+      long maxChunkDirSizeBytes) {
+    this(
+        delegate,
+        projectFilesystem,
+        listeningExecutorService,
+        chunkDir,
+        chunkingThreshold,
+        maxChunkDirSizeBytes,
+        new ContentDefinedChunker(),
+        DEFAULT_STORED_CHUNK_TTL_MILLIS);
+  }
+
+  ChunkedArtifactCacheDecorator(
+      ArtifactCache delegate,
+      ProjectFilesystem projectFilesystem,
+      ListeningExecutorService listeningExecutorService,
+      Path chunkDir,
+      long chunkingThreshold,
+      long maxChunkDirSizeBytes,
+      ContentDefinedChunker chunker,
+      long storedChunkTtlMillis) {
+    this.delegate = delegate;
+    this.listeningExecutorService = listeningExecutorService;
+    this.chunkDir = projectFilesystem.resolve(chunkDir);
+    this.chunkingThreshold = chunkingThreshold;
+    this.maxChunkDirSizeBytes = maxChunkDirSizeBytes;
+    this.chunker = chunker;
+    this.storedChunkTtlMillis = storedChunkTtlMillis;
+    this.chunkIndex = new DirArtifactCacheIndex(this.chunkDir.resolve("journal"));
+    try {
+      Files.createDirectories(this.chunkDir);
+      if (!chunkIndex.journalExists()) {
+        seedChunkIndex();
+      }
+    } catch (IOException e) {
+      throw new HumanReadableException(
+          e,
+          "Could not set up the chunk directory %s: %s",
+          this.chunkDir,
+          e.getMessage());
+    }
+  }
+
+  @Override
+  public CacheResult fetch(RuleKey ruleKey, LazyPath output) throws InterruptedException {
+    // The delegate may return a manifest rather than the artifact, so it can't unpack it.
+    CacheResult fetchResult =
+        delegate.fetch(ruleKey, MaterializableOutput.withoutMaterialization(output));
+    if (!fetchResult.getType().isSuccess() ||
+        !fetchResult.getMetadata().containsKey(METADATA_KEY)) {
+      return fetchResult;
+    }
+    return assembleFromChunks(ruleKey, fetchResult, output.getUnchecked());
+  }
+
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, CacheResult> entry :
+         delegate.multiFetch(MaterializableOutput.withoutMaterialization(outputs)).entrySet()) {
+      RuleKey ruleKey = entry.getKey();
+      CacheResult fetchResult = entry.getValue();
+      if (!fetchResult.getType().isSuccess() ||
+          !fetchResult.getMetadata().containsKey(METADATA_KEY)) {
+        results.put(ruleKey, fetchResult);
+      } else {
+        results.put(
+            ruleKey,
+            assembleFromChunks(ruleKey, fetchResult, outputs.get(ruleKey).getUnchecked()));
+      }
+    }
+    return results.build();
+  }
+
+  /**
+   * Replaces the manifest at {@code output} with the artifact it describes.
+   */
+  private CacheResult assembleFromChunks(
+      RuleKey ruleKey,
+      CacheResult manifestResult,
+      Path output) throws InterruptedException {
+    List<Path> downloads = Lists.newArrayList();
+    try {
+      ImmutableList<HashCode> chunks = readManifest(output);
+
+      // Fetch all of the chunks we don't already have in one go.
+      Map<RuleKey, HashCode> missingChunks = Maps.newLinkedHashMap();
+      ImmutableMap.Builder<RuleKey, LazyPath> missingChunkOutputs = ImmutableMap.builder();
+      for (HashCode chunk : ImmutableSet.copyOf(chunks)) {
+        if (Files.exists(getChunkPath(chunk))) {
+          continue;
+        }
+        Path download = Files.createTempFile(chunkDir, "chunk", ".tmp");
+        downloads.add(download);
+        RuleKey chunkKey = getChunkKey(chunk);
+        missingChunks.put(chunkKey, chunk);
+        missingChunkOutputs.put(chunkKey, LazyPath.ofInstance(download));
+      }
+      ImmutableMap<RuleKey, LazyPath> chunkOutputs = missingChunkOutputs.build();
+      if (!chunkOutputs.isEmpty()) {
+        for (Map.Entry<RuleKey, CacheResult> entry :
+             delegate.multiFetch(chunkOutputs).entrySet()) {
+          if (!entry.getValue().getType().isSuccess()) {
+            LOG.debug("Chunk %s of %s is no longer cached", entry.getKey(), ruleKey);
+            return CacheResult.miss();
+          }
+          HashCode chunk = missingChunks.get(entry.getKey());
+          Path download = chunkOutputs.get(entry.getKey()).getUnchecked();
+          if (!Hashing.sha1().hashBytes(Files.readAllBytes(download)).equals(chunk)) {
+            return CacheResult.error(
+                manifestResult.getCacheSource(),
+                String.format("Chunk %s of %s is corrupt", chunk, ruleKey));
+          }
+          addChunk(chunk, download);
+        }
+      }
+
+      Path assembled = Files.createTempFile(chunkDir, "artifact", ".tmp");
+      downloads.add(assembled);
+      try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(assembled))) {
+        for (HashCode chunk : chunks) {
+          Files.copy(getChunkPath(chunk), out);
+          chunkIndex.recordAccess(chunk.toString());
+        }
+      }
+      Files.move(assembled, output, StandardCopyOption.REPLACE_EXISTING);
+    } catch (NoSuchFileException e) {
+      // One of our chunks was evicted under us.
+      LOG.debug(e, "Chunk of %s went missing", ruleKey);
+      return CacheResult.miss();
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to put %s together from its chunks", ruleKey);
+      return CacheResult.error(
+          manifestResult.getCacheSource(),
+          String.format("%s: %s", e.getClass(), e.getMessage()));
+    } finally {
+      for (Path download : downloads) {
+        deleteQuietly(download);
+      }
+    }
+
+    trimChunkDir();
+    Map<String, String> metadata = Maps.newLinkedHashMap(manifestResult.getMetadata());
+    metadata.remove(METADATA_KEY);
+    return CacheResult.hit(manifestResult.getCacheSource(), ImmutableMap.copyOf(metadata));
+  }
+
+  @Override
+  public ListenableFuture<Void> store(
+      final ImmutableSet<RuleKey> ruleKeys,
+      final ImmutableMap<String, String> metadata,
+      final Path output) throws InterruptedException {
+    return Futures.transformAsync(
+        Futures.<Void>immediateFuture(null),
+        new AsyncFunction<Void, Void>() {
+          @Override
+          public ListenableFuture<Void> apply(Void input) throws Exception {
+            if (Files.size(output) < chunkingThreshold) {
+              return delegate.store(ruleKeys, metadata, output);
+            }
+            return storeChunked(ruleKeys, metadata, output);
+          }
+        },
+        listeningExecutorService);
+  }
+
+  private ListenableFuture<Void> storeChunked(
+      final ImmutableSet<RuleKey> ruleKeys,
+      ImmutableMap<String, String> metadata,
+      Path output) throws IOException, InterruptedException {
+    final Path manifest = Files.createTempFile(chunkDir, "manifest", ".tmp");
+    final Set<Path> newChunks = Sets.newLinkedHashSet();
+    List<ListenableFuture<Void>> chunkStores = Lists.newArrayList();
+    try {
+      try (InputStream in = new BufferedInputStream(Files.newInputStream(output));
+           DataOutputStream manifestOut =
+               new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(manifest)))) {
+        final List<HashCode> chunks = Lists.newArrayList();
+        chunker.split(
+            in,
+            new ContentDefinedChunker.ChunkHandler() {
+              @Override
+              public void handle(byte[] chunk, int length) throws IOException {
+                HashCode hash = Hashing.sha1().hashBytes(chunk, 0, length);
+                chunks.add(hash);
+                Path chunkPath = getChunkPath(hash);
+                if (Files.exists(chunkPath)) {
+                  chunkIndex.recordAccess(hash.toString());
+                  if (isStoredChunkStale(chunkPath)) {
+                    // The delegate may have let go of this chunk since we last saw it there.
+                    newChunks.add(chunkPath);
+                  }
+                  return;
+                }
+                Path tmp = Files.createTempFile(chunkDir, "chunk", ".tmp");
+                try {
+                  try (OutputStream out = Files.newOutputStream(tmp)) {
+                    out.write(chunk, 0, length);
+                  }
+                  addChunk(hash, tmp);
+                } finally {
+                  Files.deleteIfExists(tmp);
+                }
+                newChunks.add(chunkPath);
+              }
+            });
+        writeManifest(manifestOut, chunks);
+      }
+
+      for (final Path chunkPath : newChunks) {
+        ListenableFuture<Void> chunkStore = delegate.store(
+            ImmutableSet.of(getChunkKey(HashCode.fromString(chunkPath.getFileName().toString()))),
+            ImmutableMap.<String, String>of(),
+            chunkPath);
+        // Forget chunks which didn't make it to the delegate, so that they're stored next time.
+        Futures.addCallback(
+            chunkStore,
+            new FutureCallback<Void>() {
+              @Override
+              public void onSuccess(Void result) {
+                markChunkStored(chunkPath);
+              }
+
+              @Override
+              public void onFailure(Throwable t) {
+                deleteChunk(chunkPath);
+              }
+            });
+        chunkStores.add(chunkStore);
+      }
+    } catch (IOException | InterruptedException | RuntimeException e) {
+      deleteQuietly(manifest);
+      throw e;
+    }
+
+    final ImmutableMap<String, String> manifestMetadata = ImmutableMap.<String, String>builder()
+        .putAll(metadata)
+        .put(METADATA_KEY, String.valueOf(MANIFEST_VERSION))
+        .build();
+    ListenableFuture<Void> result = Futures.transformAsync(
+        Futures.allAsList(chunkStores),
+        new AsyncFunction<List<Void>, Void>() {
+          @Override
+          public ListenableFuture<Void> apply(List<Void> input) throws Exception {
+            return delegate.store(ruleKeys, manifestMetadata, manifest);
+          }
+        });
+    result.addListener(
+        new Runnable() {
+          @Override
+          public void run() {
+            deleteQuietly(manifest);
+          }
+        },
+        MoreExecutors.directExecutor());
+    trimChunkDir();
+    return result;
+  }
+
+  private static void writeManifest(DataOutputStream out, List<HashCode> chunks)
+      throws IOException {
+    out.writeInt(MANIFEST_VERSION);
+    out.writeInt(chunks.size());
+    for (HashCode chunk : chunks) {
+      out.writeUTF(chunk.toString());
+    }
+  }
+
+  private static ImmutableList<HashCode> readManifest(Path manifest) throws IOException {
+    try (DataInputStream in =
+             new DataInputStream(new BufferedInputStream(Files.newInputStream(manifest)))) {
+      int version = in.readInt();
+      if (version != MANIFEST_VERSION) {
+        throw new IOException(String.format("Unknown chunk manifest version %d", version));
+      }
+      int count = in.readInt();
+      ImmutableList.Builder<HashCode> chunks = ImmutableList.builder();
+      for (int i = 0; i < count; i++) {
+        chunks.add(HashCode.fromString(in.readUTF()));
+      }
+      return chunks.build();
+    }
+  }
+
+  private static RuleKey getChunkKey(HashCode chunk) {
+    return new RuleKey(CHUNK_KEY_PREFIX + chunk);
+  }
+
+  private Path getChunkPath(HashCode chunk) {
+    String name = chunk.toString();
+    return chunkDir.resolve(name.substring(0, 2)).resolve(name);
+  }
+
+  /**
+   * @return whether it's been too long since the delegate was known to have the chunk at
+   *     {@code chunkPath} to trust that it still does.
+   */
+  private boolean isStoredChunkStale(Path chunkPath) throws IOException {
+    return System.currentTimeMillis() - Files.getLastModifiedTime(chunkPath).toMillis() >=
+        storedChunkTtlMillis;
+  }
+
+  private static void markChunkStored(Path chunkPath) {
+    try {
+      Files.setLastModifiedTime(chunkPath, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (IOException e) {
+      // It'll just be uploaded again sooner than it needed to be.
+      LOG.debug(e, "Failed to mark %s as stored", chunkPath);
+    }
+  }
+
+  private void addChunk(HashCode chunk, Path tmp) throws IOException {
+    Path chunkPath = getChunkPath(chunk);
+    Files.createDirectories(chunkPath.getParent());
+    Files.move(tmp, chunkPath, StandardCopyOption.REPLACE_EXISTING);
+    chunkIndex.recordStore(chunk.toString(), Files.size(chunkPath));
+  }
+
+  /**
+   * Deletes a chunk other than by evicting it, keeping the index's account of the chunk
+   * directory's size in step.
+   */
+  private void deleteChunk(Path chunkPath) {
+    deleteQuietly(chunkPath);
+    try {
+      chunkIndex.recordDelete(chunkPath.getFileName().toString());
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to record the deletion of %s", chunkPath);
+    }
+  }
+
+  private void trimChunkDir() {
+    ImmutableList<String> evicted;
+    try {
+      evicted = chunkIndex.evict(
+          maxChunkDirSizeBytes,
+          (long) (maxChunkDirSizeBytes * MAX_BYTES_TRIM_RATIO));
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to find chunks to evict from %s", chunkDir);
+      return;
+    }
+    for (String chunk : evicted) {
+      deleteQuietly(getChunkPath(HashCode.fromString(chunk)));
+    }
+  }
+
+  private void seedChunkIndex() throws IOException {
+    Map<String, Long> chunkSizes = new LinkedHashMap<>();
+    try (DirectoryStream<Path> shards = Files.newDirectoryStream(chunkDir)) {
+      for (Path shard : shards) {
+        if (!Files.isDirectory(shard)) {
+          continue;
+        }
+        try (DirectoryStream<Path> chunks = Files.newDirectoryStream(shard)) {
+          for (Path chunk : chunks) {
+            chunkSizes.put(chunk.getFileName().toString(), Files.size(chunk));
+          }
+        }
+      }
+    }
+    chunkIndex.reset(chunkSizes);
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to delete %s", path);
+    }
+  }
+
+  @Override
+  public boolean isMultiFetchBatched() {
+    return delegate.isMultiFetchBatched();
+  }
+
+  @Override
+  public boolean isStoreSupported() {
+    return delegate.isStoreSupported();
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+}
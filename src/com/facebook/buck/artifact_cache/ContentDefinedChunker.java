@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+/**
+ * Splits a stream into chunks whose boundaries are picked by the bytes just before them rather
+ * than by their offset, so that changing one part of a file only changes the chunks around the
+ * change.  Boundaries come from a gear hash over a 64 byte window, as in FastCDC.
+ */
+final class ContentDefinedChunker {
+
+  static final int DEFAULT_MIN_CHUNK_SIZE = 16 * 1024;
+  static final int DEFAULT_AVERAGE_CHUNK_SIZE = 64 * 1024;
+  static final int DEFAULT_MAX_CHUNK_SIZE = 256 * 1024;
+
+  private static final long[] GEAR = new long[256];
+
+  static {
+    // The table must never change, otherwise chunks stored by one version of buck would not be
+    // reused by the next.
+    Random random = new Random(0x6275636b);
+    for (int i = 0; i < GEAR.length; i++) {
+      GEAR[i] = random.nextLong();
+    }
+  }
+
+  interface ChunkHandler {
+    /**
+     * @param chunk holds the chunk in its first {@code length} bytes.  It is reused for the next
+     *     chunk once this returns.
+     */
+    void handle(byte[] chunk, int length) throws IOException;
+  }
+
+  private final int minChunkSize;
+  private final int maxChunkSize;
+  private final long boundaryMask;
+
+  ContentDefinedChunker() {
+    this(DEFAULT_MIN_CHUNK_SIZE, DEFAULT_AVERAGE_CHUNK_SIZE, DEFAULT_MAX_CHUNK_SIZE);
+  }
+
+  ContentDefinedChunker(int minChunkSize, int averageChunkSize, int maxChunkSize) {
+    Preconditions.checkArgument(Integer.bitCount(averageChunkSize) == 1);
+    Preconditions.checkArgument(0 < minChunkSize && minChunkSize <= maxChunkSize);
+    this.minChunkSize = minChunkSize;
+    this.maxChunkSize = maxChunkSize;
+    // The top bits of the hash depend on the whole window, whereas the bottom ones only depend on
+    // the last few bytes.
+    int bits = Integer.numberOfTrailingZeros(averageChunkSize);
+    this.boundaryMask = ((1L << bits) - 1) << (Long.SIZE - bits);
+  }
+
+  void split(InputStream in, ChunkHandler handler) throws IOException {
+    byte[] chunk = new byte[maxChunkSize];
+    byte[] buffer = new byte[64 * 1024];
+    int length = 0;
+    long hash = 0;
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      for (int i = 0; i < read; i++) {
+        byte b = buffer[i];
+        chunk[length++] = b;
+        hash = (hash << 1) + GEAR[b & 0xff];
+        if ((length >= minChunkSize && (hash & boundaryMask) == 0) || length == maxChunkSize) {
+          handler.handle(chunk, length);
+          length = 0;
+          hash = 0;
+        }
+      }
+    }
+    if (length > 0) {
+      handler.handle(chunk, length);
+    }
+  }
+}
@@ -21,7 +21,7 @@ import com.facebook.buck.io.MoreFiles;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
-import com.facebook.buck.util.collect.ArrayIterable;
+import com.facebook.buck.zip.Unzip;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.base.Optional;
@@ -35,29 +35,71 @@ import com.google.common.util.concurrent.ListenableFuture;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
 
-public class DirArtifactCache implements ArtifactCache {
+/**
+ * An {@link ArtifactCache} which keeps artifacts in a local directory.
+ * <p>
+ * Each entry is an artifact file and a {@code .metadata} file named after the rule key, placed in
+ * a subdirectory named after the key's first two characters.  When the cache has a size limit,
+ * a {@link DirArtifactCacheIndex} journal in the cache directory tracks entry sizes and recency,
+ * and the least recently used entries are evicted as soon as a store takes the cache over its
+ * limit.
+ * <p>
+ * With the exploded layout, artifacts which are zips are stored unzipped instead: the artifact
+ * path is then a directory holding the zip's files and a list of its entries.  Fetches into a
+ * {@link MaterializableOutput} copy those files straight into the project rather than writing and
+ * unzipping a zip, and hard link the ones the output says are only ever replaced, never modified
+ * in place, as a link shares its contents with the cache.  Other fetches get the files zipped up
+ * again.  Both layouts can be read whichever one is used for storing.
+ */
+public class DirArtifactCache implements ListableArtifactCache {
 
   private static final Logger LOG = Logger.get(DirArtifactCache.class);
-  // Ratio of bytes stored to max size that expresses how many bytes need to be stored after we
-  // attempt to delete old files.
-  private static final float STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER = 0.5f;
   // How much of the max size to leave if we decide to delete old files.
   private static final float MAX_BYTES_TRIM_RATIO = 2 / 3f;
+  private static final int SHARD_PREFIX_LENGTH = 2;
+  private static final String METADATA_EXTENSION = ".metadata";
+  private static final String JOURNAL_FILE_NAME = "journal";
+  private static final String EXPLODED_CONTENTS_DIR_NAME = "contents";
+  private static final String EXPLODED_ENTRIES_FILE_NAME = "entries";
+  // Rule keys are hex strings, so this matches the files of an entry but nothing else we keep.
+  private static final Pattern ENTRY_FILE_PATTERN =
+      Pattern.compile("([0-9a-f]+)(" + Pattern.quote(METADATA_EXTENSION) + ")?");
+  private static final Pattern SHARD_DIR_PATTERN =
+      Pattern.compile("[0-9a-f]{1," + SHARD_PREFIX_LENGTH + "}");
 
   private final String name;
   private final ProjectFilesystem filesystem;
   private final Path cacheDir;
   private final Optional<Long> maxCacheSizeBytes;
   private final boolean doStore;
-  private long bytesSinceLastDeleteOldFiles;
+  private final boolean explodedLayout;
+  // Only kept when there is a size limit to enforce.
+  private final Optional<DirArtifactCacheIndex> index;
 
   public DirArtifactCache(
       String name,
@@ -66,13 +108,40 @@ public class DirArtifactCache implements ArtifactCache {
       boolean doStore,
       Optional<Long> maxCacheSizeBytes)
       throws IOException {
+    this(name, filesystem, cacheDir, doStore, maxCacheSizeBytes, /* explodedLayout */ false);
+  }
+
+  public DirArtifactCache(
+      String name,
+      ProjectFilesystem filesystem,
+      Path cacheDir,
+      boolean doStore,
+      Optional<Long> maxCacheSizeBytes,
+      boolean explodedLayout)
+      throws IOException {
     this.name = name;
     this.filesystem = filesystem;
     this.cacheDir = cacheDir;
     this.maxCacheSizeBytes = maxCacheSizeBytes;
     this.doStore = doStore;
-    this.bytesSinceLastDeleteOldFiles = 0L;
+    this.explodedLayout = explodedLayout;
+    this.index = maxCacheSizeBytes.isPresent() ?
+        Optional.of(
+            new DirArtifactCacheIndex(filesystem.resolve(cacheDir.resolve(JOURNAL_FILE_NAME)))) :
+        Optional.<DirArtifactCacheIndex>absent();
     filesystem.mkdirs(cacheDir);
+    migrateFlatLayout();
+  }
+
+  @VisibleForTesting
+  Path getArtifactPath(String entryName) {
+    return cacheDir
+        .resolve(entryName.substring(0, Math.min(SHARD_PREFIX_LENGTH, entryName.length())))
+        .resolve(entryName);
+  }
+
+  private Path getMetadataPath(String entryName) {
+    return getArtifactPath(entryName).resolveSibling(entryName + METADATA_EXTENSION);
   }
 
   @Override
@@ -84,8 +153,7 @@ public class DirArtifactCache implements ArtifactCache {
       ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
       try (DataInputStream in =
                new DataInputStream(
-                   filesystem.newFileInputStream(
-                       cacheDir.resolve(ruleKey.toString() + ".metadata")))) {
+                   filesystem.newFileInputStream(getMetadataPath(ruleKey.toString())))) {
         int sz = in.readInt();
         for (int i = 0; i < sz; i++) {
           String key = in.readUTF();
@@ -97,7 +165,12 @@ public class DirArtifactCache implements ArtifactCache {
       }
 
       // Now copy the artifact out.
-      filesystem.copyFile(cacheDir.resolve(ruleKey.toString()), output.get());
+      Path artifactPath = getArtifactPath(ruleKey.toString());
+      if (filesystem.isDirectory(artifactPath)) {
+        fetchExploded(artifactPath, output);
+      } else {
+        filesystem.copyFile(artifactPath, output.get());
+      }
 
       result = CacheResult.hit(name, metadata.build());
     } catch (NoSuchFileException e) {
@@ -111,6 +184,14 @@ public class DirArtifactCache implements ArtifactCache {
       result = CacheResult.error(name, String.format("%s: %s", e.getClass(), e.getMessage()));
     }
 
+    if (result.getType().isSuccess() && index.isPresent()) {
+      try {
+        index.get().recordAccess(ruleKey.toString());
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to record access to %s in %s", ruleKey, cacheDir);
+      }
+    }
+
     LOG.debug(
         "Artifact fetch(%s, %s) cache %s",
         ruleKey,
@@ -119,6 +200,65 @@ public class DirArtifactCache implements ArtifactCache {
     return result;
   }
 
+  private void fetchExploded(Path artifactPath, LazyPath output) throws IOException {
+    List<String> entries = Files.readAllLines(
+        filesystem.resolve(artifactPath.resolve(EXPLODED_ENTRIES_FILE_NAME)),
+        Charsets.UTF_8);
+    Path contents = filesystem.resolve(artifactPath.resolve(EXPLODED_CONTENTS_DIR_NAME));
+
+    if (output instanceof MaterializableOutput) {
+      MaterializableOutput materializableOutput = (MaterializableOutput) output;
+      materialize(contents, entries, materializableOutput);
+      materializableOutput.setMaterialized();
+      return;
+    }
+
+    ImmutableList.Builder<Path> paths = ImmutableList.builder();
+    for (String entry : entries) {
+      paths.add(contents.getFileSystem().getPath(entry));
+    }
+    new ProjectFilesystem(contents).createZip(paths.build(), output.get());
+  }
+
+  /**
+   * Restores the entries of an exploded artifact into {@code target} the way unzipping it with
+   * {@link Unzip.ExistingFileMode#OVERWRITE_AND_CLEAN_DIRECTORIES} would.
+   */
+  private static void materialize(
+      Path contents,
+      List<String> entries,
+      MaterializableOutput output) throws IOException {
+    ProjectFilesystem target = output.getProjectFilesystem();
+    for (String entry : entries) {
+      Path relativePath = target.getRootPath().getFileSystem().getPath(entry);
+      target.deleteRecursivelyIfExists(relativePath);
+      if (entry.endsWith("/")) {
+        target.mkdirs(relativePath);
+        continue;
+      }
+
+      target.createParentDirs(relativePath);
+      Path source = contents.resolve(entry);
+      Path destination = target.resolve(relativePath);
+      if (output.isSafeToLink(relativePath)) {
+        try {
+          Files.createLink(destination, source);
+          continue;
+        } catch (IOException | UnsupportedOperationException e) {
+          // Most likely the cache is on another filesystem than the project.
+          LOG.verbose(e, "Failed to link %s, copying it instead", relativePath);
+        }
+      }
+      Files.copy(source, destination, StandardCopyOption.COPY_ATTRIBUTES);
+    }
+  }
+
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    return MultiFetches.fetchSequentially(this, outputs);
+  }
+
   @Override
   public ListenableFuture<Void> store(
       ImmutableSet<RuleKey> ruleKeys,
@@ -130,30 +270,44 @@ public class DirArtifactCache implements ArtifactCache {
     }
 
     try {
+      if (index.isPresent()) {
+        seedIndexIfNeeded();
+      }
 
       for (RuleKey ruleKey : ruleKeys) {
 
-        Path artifactPath = cacheDir.resolve(ruleKey.toString());
-        Path metadataPath = cacheDir.resolve(ruleKey.toString() + ".metadata");
+        String entryName = ruleKey.toString();
+        Path artifactPath = getArtifactPath(entryName);
+        Path metadataPath = getMetadataPath(entryName);
 
         if (filesystem.exists(artifactPath) && filesystem.exists(metadataPath)) {
+          if (index.isPresent()) {
+            index.get().recordAccess(entryName);
+          }
           continue;
         }
 
+        Path shardDir = artifactPath.getParent();
+        filesystem.mkdirs(shardDir);
+        if (filesystem.isDirectory(artifactPath)) {
+          filesystem.deleteRecursively(artifactPath);
+        }
+
         // Write to a temporary file and move the file to its final location atomically to protect
         // against partial artifacts (whether due to buck interruption or filesystem failure) posing
         // as valid artifacts during subsequent buck runs.
-        Path tmp = filesystem.createTempFile(cacheDir, "artifact", ".tmp");
-        try {
-          filesystem.copyFile(output, tmp);
-          filesystem.move(tmp, artifactPath, StandardCopyOption.REPLACE_EXISTING);
-          bytesSinceLastDeleteOldFiles += filesystem.getFileSize(artifactPath);
-        } finally {
-          filesystem.deleteFileAtPathIfExists(tmp);
+        if (!explodedLayout || !storeExploded(output, artifactPath)) {
+          Path tmp = filesystem.createTempFile(shardDir, "artifact", ".tmp");
+          try {
+            filesystem.copyFile(output, tmp);
+            filesystem.move(tmp, artifactPath, StandardCopyOption.REPLACE_EXISTING);
+          } finally {
+            filesystem.deleteFileAtPathIfExists(tmp);
+          }
         }
 
         // Now, write the meta data artifact.
-        tmp = filesystem.createTempFile(cacheDir, "metadata", ".tmp");
+        Path tmp = filesystem.createTempFile(shardDir, "metadata", ".tmp");
         try {
           try (DataOutputStream out = new DataOutputStream(filesystem.newFileOutputStream(tmp))) {
             out.writeInt(metadata.size());
@@ -165,10 +319,15 @@ public class DirArtifactCache implements ArtifactCache {
             }
           }
           filesystem.move(tmp, metadataPath, StandardCopyOption.REPLACE_EXISTING);
-          bytesSinceLastDeleteOldFiles += filesystem.getFileSize(metadataPath);
         } finally {
           filesystem.deleteFileAtPathIfExists(tmp);
         }
+
+        if (index.isPresent()) {
+          index.get().recordStore(
+              entryName,
+              getSize(filesystem.resolve(artifactPath)) + filesystem.getFileSize(metadataPath));
+        }
       }
 
     } catch (IOException e) {
@@ -179,18 +338,82 @@ public class DirArtifactCache implements ArtifactCache {
           output);
     }
 
-    if (maxCacheSizeBytes.isPresent() &&
-        bytesSinceLastDeleteOldFiles >
-            (maxCacheSizeBytes.get() * STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER)) {
-      bytesSinceLastDeleteOldFiles = 0L;
-      deleteOldFiles();
-    }
+    deleteOldFiles();
 
     return Futures.immediateFuture(null);
   }
 
   /**
-   * @return {@code true}: storing artifacts is always supported by this class.
+   * Stores the artifact as a directory holding its unzipped files and the list of its entries.
+   *
+   * @return {@code false} if the artifact is not a zip which can be stored this way.
+   */
+  private boolean storeExploded(Path output, Path artifactPath) throws IOException {
+    ImmutableList.Builder<String> entries = ImmutableList.builder();
+    try (ZipFile zip = new ZipFile(filesystem.resolve(output).toFile())) {
+      Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+      while (zipEntries.hasMoreElements()) {
+        String entry = zipEntries.nextElement().getName();
+        if (entry.isEmpty() ||
+            entry.startsWith("/") ||
+            Arrays.asList(entry.split("/")).contains("..")) {
+          return false;
+        }
+        entries.add(entry);
+      }
+    } catch (ZipException e) {
+      return false;
+    }
+
+    Path tmp = Files.createTempDirectory(filesystem.resolve(artifactPath.getParent()), "artifact");
+    try {
+      Unzip.extractZipFile(
+          filesystem.resolve(output),
+          tmp.resolve(EXPLODED_CONTENTS_DIR_NAME),
+          Unzip.ExistingFileMode.OVERWRITE);
+      Files.write(tmp.resolve(EXPLODED_ENTRIES_FILE_NAME), entries.build(), Charsets.UTF_8);
+      Files.move(tmp, filesystem.resolve(artifactPath), StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      MoreFiles.deleteRecursivelyIfExists(tmp);
+    }
+    return true;
+  }
+
+  /**
+   * @return the keys of every complete entry in the cache, i.e. those whose metadata file has
+   *     been written.
+   */
+  @Override
+  public ImmutableSet<RuleKey> getRuleKeys() throws IOException {
+    // The metadata file is written last, so it marks the entries which can be fetched.
+    ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
+    try (DirectoryStream<Path> topLevel =
+             Files.newDirectoryStream(filesystem.resolve(cacheDir))) {
+      for (Path shard : topLevel) {
+        if (!SHARD_DIR_PATTERN.matcher(shard.getFileName().toString()).matches() ||
+            !Files.isDirectory(shard)) {
+          continue;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(shard)) {
+          for (Path file : entries) {
+            Matcher matcher = ENTRY_FILE_PATTERN.matcher(file.getFileName().toString());
+            if (matcher.matches() && matcher.group(2) != null) {
+              ruleKeys.add(new RuleKey(matcher.group(1)));
+            }
+          }
+        }
+      }
+    }
+    return ruleKeys.build();
+  }
+
+  @Override
+  public boolean isMultiFetchBatched() {
+    return false;
+  }
+
+  /**
+   * @return whether this cache was configured to store artifacts, rather than only to fetch them.
    */
   @Override
   public boolean isStoreSupported() {
@@ -199,20 +422,32 @@ public class DirArtifactCache implements ArtifactCache {
 
   @Override
   public void close() {
-    deleteOldFiles();
+    // Nothing to do: the cache is trimmed as entries are stored.
   }
 
   /**
-   * Deletes files that haven't been accessed recently from the directory cache.
+   * Deletes the least recently used entries if the cache has outgrown its size limit.
    */
   @VisibleForTesting
   void deleteOldFiles() {
-    if (!maxCacheSizeBytes.isPresent()) {
+    if (!index.isPresent()) {
+      return;
+    }
+    long maxSizeBytes = maxCacheSizeBytes.get();
+
+    ImmutableList<String> evicted;
+    try {
+      seedIndexIfNeeded();
+      evicted = index.get().evict(maxSizeBytes, (long) (maxSizeBytes * MAX_BYTES_TRIM_RATIO));
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to find entries to evict from %s", cacheDir);
       return;
     }
-    for (File fileAccessedEntry : findFilesToDelete()) {
+
+    for (String entryName : evicted) {
       try {
-        Files.deleteIfExists(fileAccessedEntry.toPath());
+        filesystem.deleteRecursivelyIfExists(getArtifactPath(entryName));
+        filesystem.deleteFileAtPathIfExists(getMetadataPath(entryName));
       } catch (IOException e) {
         // Eat any IOExceptions while attempting to clean up the cache directory.  If the file is
         // now in use, we no longer want to delete it.
@@ -221,27 +456,112 @@ public class DirArtifactCache implements ArtifactCache {
     }
   }
 
-  private Iterable<File> findFilesToDelete() {
-    Preconditions.checkState(maxCacheSizeBytes.isPresent());
-    long maxSizeBytes = maxCacheSizeBytes.get();
-
-    File[] files = filesystem.resolve(cacheDir).toFile().listFiles();
-    MoreFiles.sortFilesByAccessTime(files);
-
-    // Finds the first N from the list ordered by last access time who's combined size is less than
-    // maxCacheSizeBytes.
-    long currentSizeBytes = 0;
-    Optional<Integer> maxTrimMark = Optional.absent();
-    for (int i = 0; i < files.length; ++i) {
-      File file = files[i];
-      currentSizeBytes += file.length();
-      if (!maxTrimMark.isPresent() && currentSizeBytes > maxSizeBytes * MAX_BYTES_TRIM_RATIO) {
-        maxTrimMark = Optional.of(i);
+  /**
+   * Moves the artifacts left in the top level directory by the old flat layout into their shards,
+   * where they can be fetched again.  Moving them keeps their access times, so that they are
+   * seeded into the index in the order they were last used.  Entries which can't be moved are
+   * deleted, as nothing would ever read them.
+   */
+  private void migrateFlatLayout() throws IOException {
+    if (!filesystem.isDirectory(cacheDir)) {
+      return;
+    }
+    for (Path path : filesystem.getDirectoryContents(cacheDir)) {
+      Matcher matcher = ENTRY_FILE_PATTERN.matcher(path.getFileName().toString());
+      if (!matcher.matches() || filesystem.isDirectory(path)) {
+        continue;
+      }
+      Path sharded = matcher.group(2) != null ?
+          getMetadataPath(matcher.group(1)) :
+          getArtifactPath(matcher.group(1));
+      try {
+        filesystem.mkdirs(sharded.getParent());
+        filesystem.move(path, sharded, StandardCopyOption.REPLACE_EXISTING);
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to move %s into its shard, deleting it", path);
+        filesystem.deleteFileAtPathIfExists(path);
       }
-      if (currentSizeBytes > maxSizeBytes) {
-        return ArrayIterable.of(files, maxTrimMark.get(), files.length);
+    }
+  }
+
+  /**
+   * Caches created before the journal existed (or whose journal was lost) are indexed once by
+   * scanning the directory, ordering entries by their files' access times.
+   */
+  private synchronized void seedIndexIfNeeded() throws IOException {
+    Preconditions.checkState(index.isPresent());
+    if (index.get().journalExists()) {
+      return;
+    }
+
+    final Map<String, Long> entrySizes = new HashMap<>();
+    final Map<String, FileTime> entryAccessTimes = new HashMap<>();
+    Path cacheRoot = filesystem.resolve(cacheDir);
+    try (DirectoryStream<Path> topLevel = Files.newDirectoryStream(cacheRoot)) {
+      for (Path path : topLevel) {
+        if (!SHARD_DIR_PATTERN.matcher(path.getFileName().toString()).matches() ||
+            !Files.isDirectory(path)) {
+          continue;
+        }
+        try (DirectoryStream<Path> shard = Files.newDirectoryStream(path)) {
+          for (Path file : shard) {
+            addToSeed(file, entrySizes, entryAccessTimes);
+          }
+        }
       }
     }
-    return ImmutableList.of();
+
+    List<String> names = new ArrayList<>(entrySizes.keySet());
+    Collections.sort(
+        names,
+        new Comparator<String>() {
+          @Override
+          public int compare(String a, String b) {
+            return entryAccessTimes.get(a).compareTo(entryAccessTimes.get(b));
+          }
+        });
+    Map<String, Long> seed = new LinkedHashMap<>();
+    for (String entryName : names) {
+      seed.put(entryName, entrySizes.get(entryName));
+    }
+    index.get().reset(seed);
+  }
+
+  private static void addToSeed(
+      Path file,
+      Map<String, Long> entrySizes,
+      Map<String, FileTime> entryAccessTimes) throws IOException {
+    Matcher matcher = ENTRY_FILE_PATTERN.matcher(file.getFileName().toString());
+    if (!matcher.matches()) {
+      return;
+    }
+    String entryName = matcher.group(1);
+    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    Long size = entrySizes.get(entryName);
+    entrySizes.put(entryName, getSize(file) + (size == null ? 0 : size));
+    FileTime accessTime = entryAccessTimes.get(entryName);
+    if (accessTime == null || accessTime.compareTo(attributes.lastAccessTime()) < 0) {
+      entryAccessTimes.put(entryName, attributes.lastAccessTime());
+    }
+  }
+
+  /**
+   * @return the size of a file, or of all the files under a directory.
+   */
+  private static long getSize(Path path) throws IOException {
+    if (!Files.isDirectory(path)) {
+      return Files.size(path);
+    }
+    final long[] size = {0};
+    Files.walkFileTree(
+        path,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            size[0] += attrs.size();
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return size[0];
   }
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.log.Logger;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Size and recency bookkeeping for the entries of a {@link DirArtifactCache}, kept in an
+ * append-only journal so that trimming the cache never has to list or stat its directories.
+ * <p>
+ * Every line of the journal is one record:
+ * <pre>
+ *   S &lt;name&gt; &lt;bytes&gt;    the entry was stored and now takes up this many bytes
+ *   A &lt;name&gt;            the entry was fetched
+ *   D &lt;name&gt;            the entry was evicted
+ * </pre>
+ * Replaying the records in order gives every live entry in least recently used order.  All
+ * processes sharing a cache directory append to the same journal, and records written by others
+ * are picked up incrementally before the in-memory view is consulted.  Once most of the journal
+ * is stale it is rewritten as a single store record per live entry.
+ */
+final class DirArtifactCacheIndex {
+
+  private static final Logger LOG = Logger.get(DirArtifactCacheIndex.class);
+
+  private static final String STORE = "S";
+  private static final String ACCESS = "A";
+  private static final String DELETE = "D";
+
+  // Journals with fewer records than this are never worth compacting.
+  private static final long MIN_RECORDS_TO_COMPACT = 10000;
+  // How many records we append before checking whether the journal needs compacting.
+  private static final long APPENDS_BETWEEN_COMPACTION_CHECKS = 10000;
+
+  private final Path journal;
+
+  // Entry name to size in bytes, iterated from least to most recently used.
+  private final LinkedHashMap<String, Long> entries =
+      new LinkedHashMap<>(16, 0.75f, /* accessOrder */ true);
+  private long totalBytes = 0;
+  private long recordCount = 0;
+
+  // How much of which journal file `entries` reflects.
+  private long readOffset = 0;
+  private Object journalFileKey = null;
+
+  private long appendsSinceCompactionCheck = 0;
+
+  DirArtifactCacheIndex(Path journal) {
+    this.journal = journal;
+  }
+
+  boolean journalExists() {
+    return Files.exists(journal);
+  }
+
+  /**
+   * Replaces the journal with one holding just the given entries.
+   *
+   * @param seedEntries entry sizes, least recently used first.
+   */
+  synchronized void reset(Map<String, Long> seedEntries) throws IOException {
+    entries.clear();
+    totalBytes = 0;
+    for (Map.Entry<String, Long> entry : seedEntries.entrySet()) {
+      entries.put(entry.getKey(), entry.getValue());
+      totalBytes += entry.getValue();
+    }
+    rewriteJournal();
+  }
+
+  synchronized void recordStore(String name, long bytes) throws IOException {
+    append(STORE + " " + name + " " + bytes + "\n");
+  }
+
+  synchronized void recordAccess(String name) throws IOException {
+    try {
+      append(ACCESS + " " + name + "\n");
+    } catch (NoSuchFileException e) {
+      // Until something has been stored there is no journal, and nothing to evict either.
+    }
+  }
+
+  /**
+   * Records that the entry was deleted other than by {@link #evict}.
+   */
+  synchronized void recordDelete(String name) throws IOException {
+    try {
+      append(DELETE + " " + name + "\n");
+    } catch (NoSuchFileException e) {
+      // Until something has been stored there is no journal, and nothing to forget either.
+    }
+  }
+
+  synchronized long getTotalBytes() throws IOException {
+    catchUp();
+    return totalBytes;
+  }
+
+  /**
+   * If the entries take up more than {@code maxBytes}, forgets the least recently used ones until
+   * at most {@code targetBytes} are left.
+   *
+   * @return the names of the evicted entries, whose files the caller is expected to delete.
+   */
+  synchronized ImmutableList<String> evict(long maxBytes, long targetBytes) throws IOException {
+    catchUp();
+    if (totalBytes <= maxBytes) {
+      return ImmutableList.of();
+    }
+
+    ImmutableList.Builder<String> evicted = ImmutableList.builder();
+    StringBuilder records = new StringBuilder();
+    Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+    while (totalBytes > targetBytes && iterator.hasNext()) {
+      Map.Entry<String, Long> entry = iterator.next();
+      evicted.add(entry.getKey());
+      totalBytes -= entry.getValue();
+      records.append(DELETE).append(' ').append(entry.getKey()).append('\n');
+      iterator.remove();
+    }
+    append(records.toString());
+    return evicted.build();
+  }
+
+  private void append(String records) throws IOException {
+    if (records.isEmpty()) {
+      return;
+    }
+    // Each batch of records goes out in a single write to a file opened for appending, so
+    // records from concurrent writers never interleave.
+    try (OutputStream out = Files.newOutputStream(journal, StandardOpenOption.APPEND)) {
+      out.write(records.getBytes(Charsets.US_ASCII));
+    }
+
+    if (++appendsSinceCompactionCheck >= APPENDS_BETWEEN_COMPACTION_CHECKS) {
+      appendsSinceCompactionCheck = 0;
+      catchUp();
+      if (recordCount > Math.max(MIN_RECORDS_TO_COMPACT, 2L * entries.size())) {
+        rewriteJournal();
+      }
+    }
+  }
+
+  /**
+   * Applies any records appended to the journal since we last read it.
+   */
+  private void catchUp() throws IOException {
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(journal, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      return;
+    }
+
+    if (!Objects.equals(attributes.fileKey(), journalFileKey) ||
+        attributes.size() < readOffset) {
+      // The journal was rewritten, probably by another process, so start from scratch.
+      entries.clear();
+      totalBytes = 0;
+      recordCount = 0;
+      readOffset = 0;
+      journalFileKey = attributes.fileKey();
+    }
+    if (attributes.size() == readOffset) {
+      return;
+    }
+
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(journal))) {
+      ByteStreams.skipFully(in, readOffset);
+      StringBuilder line = new StringBuilder();
+      int c;
+      while ((c = in.read()) != -1) {
+        if (c != '\n') {
+          line.append((char) c);
+          continue;
+        }
+        // Only complete lines are consumed: a trailing partial record is still being written.
+        readOffset += line.length() + 1;
+        apply(line.toString());
+        line.setLength(0);
+      }
+    }
+  }
+
+  private void apply(String record) {
+    String[] fields = record.split(" ");
+    try {
+      if (fields[0].equals(STORE) && fields.length == 3) {
+        long bytes = Long.parseLong(fields[2]);
+        Long previous = entries.put(fields[1], bytes);
+        totalBytes += bytes - (previous == null ? 0 : previous);
+      } else if (fields[0].equals(ACCESS) && fields.length == 2) {
+        entries.get(fields[1]);
+      } else if (fields[0].equals(DELETE) && fields.length == 2) {
+        Long previous = entries.remove(fields[1]);
+        totalBytes -= previous == null ? 0 : previous;
+      } else {
+        LOG.warn("Ignoring malformed record in %s: %s", journal, record);
+        return;
+      }
+    } catch (NumberFormatException e) {
+      LOG.warn("Ignoring malformed record in %s: %s", journal, record);
+      return;
+    }
+    recordCount++;
+  }
+
+  private void rewriteJournal() throws IOException {
+    StringBuilder records = new StringBuilder();
+    for (Map.Entry<String, Long> entry : entries.entrySet()) {
+      records.append(STORE).append(' ').append(entry.getKey()).append(' ')
+          .append(entry.getValue()).append('\n');
+    }
+    byte[] contents = records.toString().getBytes(Charsets.US_ASCII);
+
+    // Swap the new journal in atomically so that readers never see it half written.
+    Path tmp = Files.createTempFile(journal.getParent(), "journal", ".tmp");
+    try {
+      Files.write(tmp, contents);
+      Files.move(
+          tmp,
+          journal,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+
+    BasicFileAttributes attributes = Files.readAttributes(journal, BasicFileAttributes.class);
+    journalFileKey = attributes.fileKey();
+    readOffset = contents.length;
+    recordCount = entries.size();
+  }
+}
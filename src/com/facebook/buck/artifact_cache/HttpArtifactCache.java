@@ -25,14 +25,18 @@ import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.slb.HttpService;
+import com.facebook.buck.zip.Unzip;
+import com.google.common.base.Optional;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.hash.BloomFilter;
 import com.google.common.io.ByteSource;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.ListeningExecutorService;
 import com.squareup.okhttp.MediaType;
 import com.squareup.okhttp.Request;
 import com.squareup.okhttp.RequestBody;
@@ -45,7 +49,10 @@ import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import okio.BufferedSink;
 
@@ -65,34 +72,115 @@ public class HttpArtifactCache implements ArtifactCache {
   private final boolean doStore;
   private final ProjectFilesystem projectFilesystem;
   private final BuckEventBus buckEventBus;
-  private final ListeningExecutorService httpWriteExecutorService;
+  private final HttpUploadScheduler uploadScheduler;
   private final String errorTextTemplate;
+  private final boolean streamingUnzip;
+  private final boolean keyDigestEnabled;
+  private final boolean prefetch;
 
   private final Set<String> seenErrors = Sets.newConcurrentHashSet();
 
-  public HttpArtifactCache(
-      String name,
-      HttpService fetchClient,
-      HttpService storeClient,
-      boolean doStore,
-      ProjectFilesystem projectFilesystem,
-      BuckEventBus buckEventBus,
-      ListeningExecutorService httpWriteExecutorService,
-      String errorTextTemplate) {
-    this.name = name;
-    this.fetchClient = fetchClient;
-    this.storeClient = storeClient;
-    this.doStore = doStore;
-    this.projectFilesystem = projectFilesystem;
-    this.buckEventBus = buckEventBus;
-    this.httpWriteExecutorService = httpWriteExecutorService;
-    this.errorTextTemplate = errorTextTemplate;
+  // The cache lives as long as the build, so these are only remembered for the build.
+  private final Supplier<Optional<BloomFilter<RuleKey>>> keyDigest;
+  private final Set<RuleKey> knownMisses = Sets.newConcurrentHashSet();
+  // Keys stored since the digest was downloaded, which it cannot know about.
+  private final Set<RuleKey> storedKeys = Sets.newConcurrentHashSet();
+
+  /**
+   * Cleared the first time the server turns out not to have the multi-key endpoint, after which
+   * each key is fetched with a request of its own.
+   */
+  private volatile boolean multiFetchSupported = true;
+
+  public HttpArtifactCache(HttpArtifactCacheArgs args) {
+    this.name = args.getCacheName();
+    this.fetchClient = args.getFetchClient();
+    this.storeClient = args.getStoreClient();
+    this.doStore = args.getDoStore();
+    this.projectFilesystem = args.getProjectFilesystem();
+    this.buckEventBus = args.getBuckEventBus();
+    this.uploadScheduler = args.getUploadScheduler();
+    this.errorTextTemplate = args.getErrorTextTemplate();
+    this.streamingUnzip = args.getStreamingUnzip();
+    this.keyDigestEnabled = args.getKeyDigestEnabled();
+    this.prefetch = args.getPrefetch();
+    this.keyDigest = Suppliers.memoize(
+        new Supplier<Optional<BloomFilter<RuleKey>>>() {
+          @Override
+          public Optional<BloomFilter<RuleKey>> get() {
+            return fetchKeyDigest();
+          }
+        });
   }
 
   protected Response fetchCall(String path, Request.Builder requestBuilder) throws IOException {
     return fetchClient.makeRequest(path, requestBuilder);
   }
 
+  private Optional<BloomFilter<RuleKey>> fetchKeyDigest() {
+    try {
+      Response response = fetchCall("/artifacts/keydigest", new Request.Builder().get());
+      try (InputStream input = response.body().byteStream()) {
+        if (response.code() != HttpURLConnection.HTTP_OK) {
+          // Servers which don't publish a digest just get asked about every key.
+          LOGGER.info(
+              "fetchKeyDigest(%s): unexpected response: %d",
+              response.request().urlString(),
+              response.code());
+          return Optional.absent();
+        }
+        BloomFilter<RuleKey> digest = HttpArtifactCacheBinaryProtocol.readKeyDigest(input);
+        LOGGER.info("fetchKeyDigest(%s): fetched digest", response.request().urlString());
+        return Optional.of(digest);
+      }
+    } catch (IOException e) {
+      LOGGER.info(e, "fetchKeyDigest: %s: %s", e.getClass().getName(), e.getMessage());
+      return Optional.absent();
+    }
+  }
+
+  /**
+   * @return whether the key is certainly not in the cache, as far as this build knows.
+   */
+  private boolean isKnownMiss(RuleKey ruleKey) {
+    if (!keyDigestEnabled) {
+      return false;
+    }
+    if (knownMisses.contains(ruleKey)) {
+      return true;
+    }
+    if (storedKeys.contains(ruleKey)) {
+      return false;
+    }
+    Optional<BloomFilter<RuleKey>> digest = keyDigest.get();
+    return digest.isPresent() && !digest.get().mightContain(ruleKey);
+  }
+
+  /**
+   * Remembers the misses among the results of asking the server, and reports how the digest did.
+   */
+  private void recordLookups(Map<RuleKey, CacheResult> results, int skippedLookups) {
+    if (!keyDigestEnabled) {
+      return;
+    }
+    int hits = 0;
+    int misses = 0;
+    for (Map.Entry<RuleKey, CacheResult> entry : results.entrySet()) {
+      CacheResultType type = entry.getValue().getType();
+      if (type.isSuccess()) {
+        hits++;
+      } else if (type == CacheResultType.MISS) {
+        misses++;
+        knownMisses.add(entry.getKey());
+      }
+    }
+    if (!keyDigest.get().isPresent()) {
+      hits = 0;
+      misses = 0;
+    }
+    buckEventBus.post(new HttpArtifactCacheKeyDigestEvent(name, skippedLookups, hits, misses));
+  }
+
   public CacheResult fetchImpl(
       RuleKey ruleKey,
       LazyPath output,
@@ -121,48 +209,219 @@ public class HttpArtifactCache implements ArtifactCache {
         return CacheResult.error(name, msg);
       }
 
-      // Setup a temporary file, which sits next to the destination, to write to and
-      // make sure all parent dirs exist.
-      Path file = output.get();
-      projectFilesystem.createParentDirs(file);
-      Path temp = projectFilesystem.createTempFile(
-          file.getParent(),
-          file.getFileName().toString(),
-          ".tmp");
-
-      FetchResponseReadResult fetchedData;
-      try (OutputStream tempFileOutputStream = projectFilesystem.newFileOutputStream(temp)) {
-        fetchedData = HttpArtifactCacheBinaryProtocol.readFetchResponse(
-            input,
-            tempFileOutputStream);
+      return readFetchResponse(response, ruleKey, output, input, eventBuilder);
+    }
+  }
+
+  /**
+   * Fetches a batch of keys with a single request to the multi-key endpoint.
+   *
+   * @return the result for each key, or absent if the server doesn't have the endpoint.
+   */
+  public Optional<ImmutableMap<RuleKey, CacheResult>> multiFetchImpl(
+      ImmutableMap<RuleKey, LazyPath> outputs,
+      ImmutableMap<RuleKey, Finished.Builder> eventBuilders) throws IOException {
+    ImmutableSet<RuleKey> ruleKeys = outputs.keySet();
+
+    Request.Builder requestBuilder =
+        new Request.Builder()
+            .post(
+                RequestBody.create(
+                    OCTET_STREAM,
+                    HttpArtifactCacheBinaryProtocol.createMultiFetchRequest(ruleKeys)));
+    Response response = fetchCall("/artifacts/multikey", requestBuilder);
+
+    try (DataInputStream input =
+             new DataInputStream(new FullyReadOnCloseInputStream(response.body().byteStream()))) {
+
+      if (response.code() == HttpURLConnection.HTTP_NOT_FOUND ||
+          response.code() == HttpURLConnection.HTTP_BAD_METHOD ||
+          response.code() == HttpURLConnection.HTTP_NOT_IMPLEMENTED) {
+        LOGGER.info(
+            "multiFetch(%s): multi-key fetches not supported (%d), fetching keys one at a time",
+            response.request().urlString(),
+            response.code());
+        multiFetchSupported = false;
+        return Optional.absent();
       }
 
-      eventBuilder.setResponseSizeBytes(fetchedData.getResponseSizeBytes());
-      eventBuilder.setArtifactContentHash(fetchedData.getArtifactOnlyHashCode().toString());
+      if (response.code() != HttpURLConnection.HTTP_OK) {
+        String msg = String.format("unexpected response: %d", response.code());
+        reportFailure("multiFetch(%s, %s): %s", response.request().urlString(), ruleKeys, msg);
+        return Optional.of(errorForAll(ruleKeys, eventBuilders, msg));
+      }
 
-      // Verify that we were one of the rule keys that stored this artifact.
-      if (!fetchedData.getRuleKeys().contains(ruleKey)) {
-        String msg = "incorrect key name";
-        reportFailure("fetch(%s, %s): %s", response.request().urlString(), ruleKey, msg);
-        eventBuilder.setErrorMessage(msg);
-        return CacheResult.error(name, msg);
+      int entryCount = HttpArtifactCacheBinaryProtocol.readMultiFetchResponseHeader(input);
+      if (entryCount != ruleKeys.size()) {
+        String msg = String.format(
+            "expected %d entries in response, got %d",
+            ruleKeys.size(),
+            entryCount);
+        reportFailure("multiFetch(%s, %s): %s", response.request().urlString(), ruleKeys, msg);
+        return Optional.of(errorForAll(ruleKeys, eventBuilders, msg));
       }
 
-      // Now form the checksum on the file we got and compare it to the checksum form the
-      // the HTTP header.  If it's incorrect, log this and return a miss.
-      if (!fetchedData.getExpectedHashCode().equals(fetchedData.getActualHashCode())) {
-        String msg = "artifact had invalid checksum";
-        reportFailure("fetch(%s, %s): %s", response.request().urlString(), ruleKey, msg);
-        projectFilesystem.deleteFileAtPath(temp);
-        eventBuilder.setErrorMessage(msg);
-        return CacheResult.error(name, msg);
+      // Entries come back in the same order as the keys were requested.
+      ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+      for (RuleKey ruleKey : ruleKeys) {
+        Optional<DataInputStream> entry =
+            HttpArtifactCacheBinaryProtocol.readMultiFetchResponseEntry(input);
+        if (!entry.isPresent()) {
+          LOGGER.info("multiFetch(%s, %s): cache miss", response.request().urlString(), ruleKey);
+          results.put(ruleKey, CacheResult.miss());
+          continue;
+        }
+        results.put(
+            ruleKey,
+            readFetchResponse(
+                response,
+                ruleKey,
+                outputs.get(ruleKey),
+                entry.get(),
+                eventBuilders.get(ruleKey)));
       }
+      return Optional.of(results.build());
+    }
+  }
+
+  private ImmutableMap<RuleKey, CacheResult> errorForAll(
+      ImmutableSet<RuleKey> ruleKeys,
+      ImmutableMap<RuleKey, Finished.Builder> eventBuilders,
+      String msg) {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (RuleKey ruleKey : ruleKeys) {
+      eventBuilders.get(ruleKey).setErrorMessage(msg);
+      results.put(ruleKey, CacheResult.error(name, msg));
+    }
+    return results.build();
+  }
+
+  private CacheResult readFetchResponse(
+      Response response,
+      RuleKey ruleKey,
+      LazyPath output,
+      DataInputStream input,
+      Finished.Builder eventBuilder) throws IOException {
+
+    if (streamingUnzip && output instanceof MaterializableOutput) {
+      return readFetchResponseIntoProject(
+          response,
+          ruleKey,
+          (MaterializableOutput) output,
+          input,
+          eventBuilder);
+    }
+
+    // Setup a temporary file, which sits next to the destination, to write to and
+    // make sure all parent dirs exist.
+    Path file = output.get();
+    projectFilesystem.createParentDirs(file);
+    Path temp = projectFilesystem.createTempFile(
+        file.getParent(),
+        file.getFileName().toString(),
+        ".tmp");
+
+    FetchResponseReadResult fetchedData;
+    try (OutputStream tempFileOutputStream = projectFilesystem.newFileOutputStream(temp)) {
+      fetchedData = HttpArtifactCacheBinaryProtocol.readFetchResponse(
+          input,
+          tempFileOutputStream);
+    }
+
+    eventBuilder.setResponseSizeBytes(fetchedData.getResponseSizeBytes());
+    eventBuilder.setArtifactContentHash(fetchedData.getArtifactOnlyHashCode().toString());
+
+    // Verify that we were one of the rule keys that stored this artifact.
+    if (!fetchedData.getRuleKeys().contains(ruleKey)) {
+      String msg = "incorrect key name";
+      reportFailure("fetch(%s, %s): %s", response.request().urlString(), ruleKey, msg);
+      projectFilesystem.deleteFileAtPath(temp);
+      eventBuilder.setErrorMessage(msg);
+      return CacheResult.error(name, msg);
+    }
+
+    // Now form the checksum on the file we got and compare it to the checksum form the
+    // the HTTP header.  If it's incorrect, log this and return a miss.
+    if (!fetchedData.getExpectedHashCode().equals(fetchedData.getActualHashCode())) {
+      String msg = "artifact had invalid checksum";
+      reportFailure("fetch(%s, %s): %s", response.request().urlString(), ruleKey, msg);
+      projectFilesystem.deleteFileAtPath(temp);
+      eventBuilder.setErrorMessage(msg);
+      return CacheResult.error(name, msg);
+    }
+
+    // Finally, move the temp file into it's final place.
+    projectFilesystem.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+
+    LOGGER.info("fetch(%s, %s): cache hit", response.request().urlString(), ruleKey);
+    return CacheResult.hit(name, fetchedData.getMetadata());
+  }
+
+  /**
+   * Unzips the artifact into the output's project as it arrives.  The checksum can only be
+   * verified once the whole artifact has been read, so the files written are deleted again if it
+   * turns out to be wrong, or if the artifact can't be read to the end.
+   */
+  private CacheResult readFetchResponseIntoProject(
+      Response response,
+      final RuleKey ruleKey,
+      MaterializableOutput output,
+      DataInputStream input,
+      Finished.Builder eventBuilder) throws IOException {
+    final ProjectFilesystem outputFilesystem = output.getProjectFilesystem();
+    final List<Path> filesWritten = Lists.newArrayList();
+    FetchResponseReadResult fetchedData;
+    try {
+      fetchedData = HttpArtifactCacheBinaryProtocol.readFetchResponse(
+          input,
+          new HttpArtifactCacheBinaryProtocol.PayloadReader() {
+            @Override
+            public void readPayload(ImmutableSet<RuleKey> ruleKeys, InputStream payload)
+                throws IOException {
+              // Leave the project alone if the artifact isn't the one we asked for.
+              if (!ruleKeys.contains(ruleKey)) {
+                return;
+              }
+              Unzip.extractZipStream(
+                  payload,
+                  outputFilesystem,
+                  Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES,
+                  filesWritten);
+            }
+          });
+    } catch (IOException | RuntimeException e) {
+      deleteQuietly(outputFilesystem, filesWritten);
+      throw e;
+    }
 
-      // Finally, move the temp file into it's final place.
-      projectFilesystem.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    eventBuilder.setResponseSizeBytes(fetchedData.getResponseSizeBytes());
+    eventBuilder.setArtifactContentHash(fetchedData.getArtifactOnlyHashCode().toString());
 
-      LOGGER.info("fetch(%s, %s): cache hit", response.request().urlString(), ruleKey);
-      return CacheResult.hit(name, fetchedData.getMetadata());
+    String msg = null;
+    if (!fetchedData.getRuleKeys().contains(ruleKey)) {
+      msg = "incorrect key name";
+    } else if (!fetchedData.getExpectedHashCode().equals(fetchedData.getActualHashCode())) {
+      msg = "artifact had invalid checksum";
+    }
+    if (msg != null) {
+      reportFailure("fetch(%s, %s): %s", response.request().urlString(), ruleKey, msg);
+      deleteQuietly(outputFilesystem, filesWritten);
+      eventBuilder.setErrorMessage(msg);
+      return CacheResult.error(name, msg);
+    }
+
+    output.setMaterialized();
+    LOGGER.info("fetch(%s, %s): cache hit", response.request().urlString(), ruleKey);
+    return CacheResult.hit(name, fetchedData.getMetadata());
+  }
+
+  private static void deleteQuietly(ProjectFilesystem filesystem, List<Path> files) {
+    for (Path file : files) {
+      try {
+        filesystem.deleteFileAtPathIfExists(file);
+      } catch (IOException e) {
+        LOGGER.warn(e, "Failed to delete %s", file);
+      }
     }
   }
 
@@ -170,11 +429,29 @@ public class HttpArtifactCache implements ArtifactCache {
   public CacheResult fetch(
       RuleKey ruleKey,
       LazyPath output) throws InterruptedException {
-    Started startedEvent = HttpArtifactCacheEvent.newFetchStartedEvent(ImmutableSet.<RuleKey>of());
+    if (isKnownMiss(ruleKey)) {
+      LOGGER.info("fetch(%s): known cache miss", ruleKey);
+      recordLookups(ImmutableMap.<RuleKey, CacheResult>of(), 1);
+      return CacheResult.miss();
+    }
+    CacheResult result = fetchRemote(ruleKey, output);
+    recordLookups(ImmutableMap.of(ruleKey, result), 0);
+    return result;
+  }
+
+  private Started newFetchStartedEvent() {
+    return prefetch ?
+        HttpArtifactCacheEvent.newPrefetchStartedEvent(ImmutableSet.<RuleKey>of()) :
+        HttpArtifactCacheEvent.newFetchStartedEvent(ImmutableSet.<RuleKey>of());
+  }
+
+  private CacheResult fetchRemote(RuleKey ruleKey, LazyPath output) {
+    Started startedEvent = newFetchStartedEvent();
     buckEventBus.post(startedEvent);
     Finished.Builder eventBuilder = HttpArtifactCacheEvent.newFinishedEventBuilder(startedEvent)
         .setRuleKeys(Lists.newArrayList(ruleKey));
 
+    uploadScheduler.fetchStarted();
     try {
       CacheResult result = fetchImpl(ruleKey, output, eventBuilder);
       buckEventBus.post(
@@ -191,7 +468,101 @@ public class HttpArtifactCache implements ArtifactCache {
           .setErrorMessage(msg)
           .build());
       return cacheResult;
+    } finally {
+      uploadScheduler.fetchFinished();
+    }
+  }
+
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    // A single key gains nothing from the multi-key endpoint.
+    if (outputs.size() <= 1 || !multiFetchSupported) {
+      return MultiFetches.fetchSequentially(this, outputs);
+    }
+
+    ImmutableMap.Builder<RuleKey, LazyPath> remoteOutputs = ImmutableMap.builder();
+    int skippedLookups = 0;
+    for (Map.Entry<RuleKey, LazyPath> entry : outputs.entrySet()) {
+      if (isKnownMiss(entry.getKey())) {
+        LOGGER.info("multiFetch(%s): known cache miss", entry.getKey());
+        skippedLookups++;
+      } else {
+        remoteOutputs.put(entry);
+      }
+    }
+    ImmutableMap<RuleKey, CacheResult> remoteResults = multiFetchRemote(remoteOutputs.build());
+    recordLookups(remoteResults, skippedLookups);
+
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (RuleKey ruleKey : outputs.keySet()) {
+      CacheResult result = remoteResults.get(ruleKey);
+      results.put(ruleKey, result == null ? CacheResult.miss() : result);
     }
+    return results.build();
+  }
+
+  private ImmutableMap<RuleKey, CacheResult> multiFetchRemote(
+      ImmutableMap<RuleKey, LazyPath> outputs) {
+    if (outputs.isEmpty()) {
+      return ImmutableMap.of();
+    }
+
+    // Keep reporting one event per key, so that per-rule cache statistics stay accurate.
+    ImmutableMap.Builder<RuleKey, Finished.Builder> eventBuildersBuilder = ImmutableMap.builder();
+    for (RuleKey ruleKey : outputs.keySet()) {
+      Started startedEvent = newFetchStartedEvent();
+      buckEventBus.post(startedEvent);
+      eventBuildersBuilder.put(
+          ruleKey,
+          HttpArtifactCacheEvent.newFinishedEventBuilder(startedEvent)
+              .setRuleKeys(Lists.newArrayList(ruleKey)));
+    }
+    ImmutableMap<RuleKey, Finished.Builder> eventBuilders = eventBuildersBuilder.build();
+
+    ImmutableMap<RuleKey, CacheResult> results;
+    uploadScheduler.fetchStarted();
+    try {
+      Optional<ImmutableMap<RuleKey, CacheResult>> multiFetchResults =
+          multiFetchImpl(outputs, eventBuilders);
+      results = multiFetchResults.isPresent() ?
+          multiFetchResults.get() :
+          fetchEach(outputs, eventBuilders);
+    } catch (IOException e) {
+      String msg = String.format("%s: %s", e.getClass().getName(), e.getMessage());
+      reportFailure(e, "multiFetch(%s): %s", outputs.keySet(), msg);
+      results = errorForAll(outputs.keySet(), eventBuilders, msg);
+    } finally {
+      uploadScheduler.fetchFinished();
+    }
+
+    for (Map.Entry<RuleKey, CacheResult> entry : results.entrySet()) {
+      buckEventBus.post(
+          eventBuilders.get(entry.getKey())
+              .setFetchResult(entry.getValue())
+              .build());
+    }
+    return results;
+  }
+
+  private ImmutableMap<RuleKey, CacheResult> fetchEach(
+      ImmutableMap<RuleKey, LazyPath> outputs,
+      ImmutableMap<RuleKey, Finished.Builder> eventBuilders) {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, LazyPath> entry : outputs.entrySet()) {
+      RuleKey ruleKey = entry.getKey();
+      CacheResult result;
+      try {
+        result = fetchImpl(ruleKey, entry.getValue(), eventBuilders.get(ruleKey));
+      } catch (IOException e) {
+        String msg = String.format("%s: %s", e.getClass().getName(), e.getMessage());
+        reportFailure(e, "fetch(%s): %s", ruleKey, msg);
+        eventBuilders.get(ruleKey).setErrorMessage(msg);
+        result = CacheResult.error(name, msg);
+      }
+      results.put(ruleKey, result);
+    }
+    return results.build();
   }
 
   protected Response storeCall(Request.Builder requestBuilder) throws IOException {
@@ -234,7 +605,8 @@ public class HttpArtifactCache implements ArtifactCache {
 
           @Override
           public void writeTo(BufferedSink bufferedSink) throws IOException {
-            StoreWriteResult writeResult = storeRequest.write(bufferedSink.outputStream());
+            StoreWriteResult writeResult =
+                storeRequest.write(uploadScheduler.throttle(bufferedSink.outputStream()));
             eventBuilder.setArtifactSizeBytes(writeResult.getArtifactSizeBytes());
             eventBuilder.setArtifactContentHash(
                 writeResult.getArtifactContentHashCode().toString());
@@ -242,7 +614,11 @@ public class HttpArtifactCache implements ArtifactCache {
         });
 
     // Dispatch the store operation and verify it succeeded.
+    long startNanos = System.nanoTime();
     Response response = storeCall(builder);
+    long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+    eventBuilder.setUploadBytesPerSecond(
+        storeRequest.getContentLength() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
     final boolean requestFailed = response.code() != HttpURLConnection.HTTP_ACCEPTED;
     if (requestFailed) {
       reportFailure(
@@ -265,13 +641,29 @@ public class HttpArtifactCache implements ArtifactCache {
       return Futures.immediateFuture(null);
     }
 
+    if (keyDigestEnabled) {
+      storedKeys.addAll(ruleKeys);
+      knownMisses.removeAll(ruleKeys);
+    }
+
     final HttpArtifactCacheEvent.Scheduled scheduled =
         HttpArtifactCacheEvent.newStoreScheduledEvent(
             ArtifactCacheEvent.getTarget(metadata), ruleKeys);
     buckEventBus.post(scheduled);
 
+    long sizeBytes;
+    try {
+      sizeBytes = projectFilesystem.getFileSize(output);
+    } catch (IOException e) {
+      // Let the upload itself report the problem, after everything else has gone.
+      sizeBytes = Long.MAX_VALUE;
+    }
+    final int queueDepth = uploadScheduler.getQueueDepth();
+    final long scheduledNanos = System.nanoTime();
+
     // HTTP Store operations are asynchronous.
-    return httpWriteExecutorService.submit(
+    return uploadScheduler.schedule(
+        sizeBytes,
         new Runnable() {
           @Override
           public void run() {
@@ -279,7 +671,10 @@ public class HttpArtifactCache implements ArtifactCache {
             buckEventBus.post(startedEvent);
             Finished.Builder finishedEventBuilder =
                 HttpArtifactCacheEvent.newFinishedEventBuilder(startedEvent)
-                    .setRuleKeys(ruleKeys);
+                    .setRuleKeys(ruleKeys)
+                    .setUploadQueueDepth(queueDepth)
+                    .setUploadQueuedMillis(
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledNanos));
 
             try {
               storeImpl(ruleKeys, metadata, output, finishedEventBuilder);
@@ -300,9 +695,7 @@ public class HttpArtifactCache implements ArtifactCache {
                       .build());
             }
           }
-        },
-        /* result */ null
-    );
+        });
   }
 
   private void reportFailure(Exception exception, String format, Object... args) {
@@ -324,6 +717,11 @@ public class HttpArtifactCache implements ArtifactCache {
     }
   }
 
+  @Override
+  public boolean isMultiFetchBatched() {
+    return multiFetchSupported;
+  }
+
   @Override
   public boolean isStoreSupported() {
     return doStore;
@@ -22,14 +22,19 @@ import com.facebook.buck.util.hash.HasherOutputStream;
 import com.facebook.buck.util.immutables.BuckStyleImmutable;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.PrimitiveSink;
 import com.google.common.io.ByteSource;
 import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
 
 import org.immutables.value.Value;
 
@@ -40,6 +45,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -50,11 +56,28 @@ public class HttpArtifactCacheBinaryProtocol {
   private static final HashFunction HASH_FUNCTION = Hashing.crc32();
   // 64MB should be enough for everyone.
   private static final long MAX_METADATA_HEADER_SIZE = 64 * 1024 * 1024;
+  // Key digests are sized for at least this many keys, so that a nearly empty cache does not
+  // publish a digest which fills up as soon as a few artifacts are stored.
+  private static final int MIN_KEY_DIGEST_CAPACITY = 1024;
+  private static final double KEY_DIGEST_FALSE_POSITIVE_RATE = 0.01;
 
   private HttpArtifactCacheBinaryProtocol() {
     // Utility class, don't instantiate.
   }
 
+  /**
+   * Consumes the payload of a response as it is read.
+   */
+  public interface PayloadReader {
+    /**
+     * Bytes left unread are still read, and checked, once this returns.  Whether the payload
+     * matched its checksum is only known after that.
+     *
+     * @param ruleKeys the keys the artifact was stored under, read from the header.
+     */
+    void readPayload(ImmutableSet<RuleKey> ruleKeys, InputStream payload) throws IOException;
+  }
+
   public static FetchResponseReadResult readFetchResponse(
       DataInputStream input,
       OutputStream payloadSink) throws IOException {
@@ -67,6 +90,56 @@ public class HttpArtifactCacheBinaryProtocol {
     return result.build();
   }
 
+  /**
+   * Like {@link #readFetchResponse(DataInputStream, OutputStream)}, but hands the payload to
+   * {@code payloadReader} as it arrives instead of copying it to a sink.
+   */
+  public static FetchResponseReadResult readFetchResponse(
+      DataInputStream input,
+      PayloadReader payloadReader) throws IOException {
+    return FetchResponseReadResult.builder()
+        .from(readMetadataAndPayload(input, payloadReader))
+        .build();
+  }
+
+  /**
+   * Reads the body of a multi-fetch request, which lists the keys to look up.
+   */
+  public static ImmutableSet<RuleKey> readMultiFetchRequest(DataInputStream input)
+      throws IOException {
+    ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
+    int ruleKeysCount = input.readInt();
+    for (int i = 0; i < ruleKeysCount; i++) {
+      ruleKeys.add(new RuleKey(input.readUTF()));
+    }
+    return ruleKeys.build();
+  }
+
+  /**
+   * Reads the number of entries in a multi-fetch response.  It is followed by exactly that many
+   * entries, in the same order as the keys of the request, each of which should be read with
+   * {@link #readMultiFetchResponseEntry(DataInputStream)}.
+   */
+  public static int readMultiFetchResponseHeader(DataInputStream input) throws IOException {
+    return input.readInt();
+  }
+
+  /**
+   * Reads the framing of a single entry of a multi-fetch response.
+   *
+   * @return absent if the cache did not have the artifact, otherwise a stream bounded to the
+   *     entry, which holds a regular fetch response to be read with
+   *     {@link #readFetchResponse(DataInputStream, OutputStream)}.
+   */
+  public static Optional<DataInputStream> readMultiFetchResponseEntry(DataInputStream input)
+      throws IOException {
+    if (!input.readBoolean()) {
+      return Optional.absent();
+    }
+    long entrySize = input.readLong();
+    return Optional.of(new DataInputStream(ByteStreams.limit(input, entrySize)));
+  }
+
   public static StoreResponseReadResult readStoreRequest(
       DataInputStream input,
       OutputStream payloadSink) throws IOException {
@@ -88,7 +161,21 @@ public class HttpArtifactCacheBinaryProtocol {
 
   public static MetadataAndPayloadReadResultInternal readMetadataAndPayload(
       DataInputStream input,
-      OutputStream payloadSink) throws IOException {
+      final OutputStream payloadSink) throws IOException {
+    return readMetadataAndPayload(
+        input,
+        new PayloadReader() {
+          @Override
+          public void readPayload(ImmutableSet<RuleKey> ruleKeys, InputStream payload)
+              throws IOException {
+            ByteStreams.copy(payload, payloadSink);
+          }
+        });
+  }
+
+  private static MetadataAndPayloadReadResultInternal readMetadataAndPayload(
+      DataInputStream input,
+      PayloadReader payloadReader) throws IOException {
     // Read the size of a the metadata, and use that to build a input stream to read and
     // process the rest of it.
     int metadataSize = input.readInt();
@@ -101,6 +188,7 @@ public class HttpArtifactCacheBinaryProtocol {
     // Create a hasher to be used to generate a hash of the metadata and input.  We'll use
     // this to compare against the embedded checksum.
     Hasher hasher = HASH_FUNCTION.newHasher();
+    ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
     byte[] rawMetadata = new byte[metadataSize];
     ByteStreams.readFully(input, rawMetadata);
     try (InputStream rawMetadataIn = new ByteArrayInputStream(rawMetadata)) {
@@ -113,8 +201,9 @@ public class HttpArtifactCacheBinaryProtocol {
         // building up.
         int size = metadataIn.readInt();
         for (int i = 0; i < size; i++) {
-          result.addRuleKeys(new RuleKey(metadataIn.readUTF()));
+          ruleKeys.add(new RuleKey(metadataIn.readUTF()));
         }
+        result.addAllRuleKeys(ruleKeys.build());
 
         // Read in the actual metadata map, and add it the hash.
         size = metadataIn.readInt();
@@ -134,20 +223,45 @@ public class HttpArtifactCacheBinaryProtocol {
       result.setExpectedHashCode(HashCode.fromBytes(hashCodeBytes));
     }
 
-    // The remaining data is the payload, which we write to the created file, and also include
-    // in our verification checksum.
+    // The remaining data is the payload, which we hand to the reader, and also include in our
+    // verification checksum.  The input is left open, as the caller owns it.
     Hasher artifactOnlyHasher = HASH_FUNCTION.newHasher();
-    try (InputStream payload = new HasherInputStream(artifactOnlyHasher,
-        new HasherInputStream(hasher, input))) {
-      result.setResponseSizeBytes(ByteStreams.copy(payload, payloadSink));
-      result.setArtifactOnlyHashCode(artifactOnlyHasher.hash());
-    }
+    CountingInputStream payload = new CountingInputStream(
+        new HasherInputStream(artifactOnlyHasher, new HasherInputStream(hasher, input)));
+    payloadReader.readPayload(ruleKeys.build(), payload);
+    ByteStreams.copy(payload, ByteStreams.nullOutputStream());
+    result.setResponseSizeBytes(payload.getCount());
+    result.setArtifactOnlyHashCode(artifactOnlyHasher.hash());
 
     result.setActualHashCode(hasher.hash());
 
     return result.build();
   }
 
+  /**
+   * @return a digest of the keys a cache holds, which clients use to skip fetching keys that are
+   *     certainly not in it.
+   */
+  public static BloomFilter<RuleKey> createKeyDigest(Collection<RuleKey> ruleKeys) {
+    BloomFilter<RuleKey> digest = BloomFilter.create(
+        RuleKeyFunnel.INSTANCE,
+        Math.max(MIN_KEY_DIGEST_CAPACITY, ruleKeys.size()),
+        KEY_DIGEST_FALSE_POSITIVE_RATE);
+    for (RuleKey ruleKey : ruleKeys) {
+      digest.put(ruleKey);
+    }
+    return digest;
+  }
+
+  public static void writeKeyDigest(BloomFilter<RuleKey> digest, OutputStream responseSink)
+      throws IOException {
+    digest.writeTo(responseSink);
+  }
+
+  public static BloomFilter<RuleKey> readKeyDigest(InputStream input) throws IOException {
+    return BloomFilter.readFrom(input, RuleKeyFunnel.INSTANCE);
+  }
+
   @VisibleForTesting
   static byte[] createKeysHeader(ImmutableSet<RuleKey> ruleKeys) throws IOException {
     try (ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -160,6 +274,21 @@ public class HttpArtifactCacheBinaryProtocol {
     }
   }
 
+  public static byte[] createMultiFetchRequest(ImmutableSet<RuleKey> ruleKeys) throws IOException {
+    return createKeysHeader(ruleKeys);
+  }
+
+  public static void writeMultiFetchResponseHeader(
+      DataOutputStream responseSink,
+      int entryCount) throws IOException {
+    responseSink.writeInt(entryCount);
+  }
+
+  public static void writeMultiFetchResponseMiss(DataOutputStream responseSink)
+      throws IOException {
+    responseSink.writeBoolean(false);
+  }
+
   @VisibleForTesting
   static byte[] createMetadataHeader(
       ImmutableSet<RuleKey> ruleKeys,
@@ -277,6 +406,20 @@ public class HttpArtifactCacheBinaryProtocol {
         ByteStreams.copy(payloadSource.openStream(), responseSink);
       }
     }
+
+    /**
+     * Writes this response as a hit entry of a multi-fetch response, leaving the sink open for
+     * the entries that follow it.
+     */
+    public void writeMultiFetchEntry(DataOutputStream responseSink) throws IOException {
+      responseSink.writeBoolean(true);
+      responseSink.writeLong(contentLength);
+      responseSink.writeInt(rawMetadata.length);
+      responseSink.write(rawMetadata);
+      try (InputStream payload = payloadSource.openStream()) {
+        ByteStreams.copy(payload, responseSink);
+      }
+    }
   }
 
   abstract static class MetadataAndPayloadReadResult {
@@ -311,4 +454,13 @@ public class HttpArtifactCacheBinaryProtocol {
     public abstract HashCode getArtifactContentHashCode();
     public abstract long getArtifactSizeBytes();
   }
+
+  private enum RuleKeyFunnel implements Funnel<RuleKey> {
+    INSTANCE;
+
+    @Override
+    public void funnel(RuleKey ruleKey, PrimitiveSink into) {
+      into.putString(ruleKey.toString(), Charsets.UTF_8);
+    }
+  }
 }
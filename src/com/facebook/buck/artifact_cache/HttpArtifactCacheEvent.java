@@ -59,6 +59,16 @@ public abstract class HttpArtifactCacheEvent extends ArtifactCacheEvent {
     return new Started(ArtifactCacheEvent.Operation.FETCH, ruleKeys);
   }
 
+  /**
+   * @return the start of a lookup made ahead of the build, which isn't waited on by any rule.
+   */
+  public static Started newPrefetchStartedEvent(ImmutableSet<RuleKey> ruleKeys) {
+    return new Started(
+        ArtifactCacheEvent.Operation.FETCH,
+        ruleKeys,
+        ArtifactCacheEvent.InvocationType.ASYNCHRONOUS);
+  }
+
   public static Started newStoreStartedEvent(Scheduled scheduled) {
     return new Started(scheduled);
   }
@@ -108,13 +118,20 @@ public abstract class HttpArtifactCacheEvent extends ArtifactCacheEvent {
     }
 
     public Started(ArtifactCacheEvent.Operation operation, ImmutableSet<RuleKey> ruleKeys) {
+      this(operation, ruleKeys, ArtifactCacheEvent.InvocationType.SYNCHRONOUS);
+    }
+
+    private Started(
+        ArtifactCacheEvent.Operation operation,
+        ImmutableSet<RuleKey> ruleKeys,
+        ArtifactCacheEvent.InvocationType invocationType) {
       super(
           EventKey.unique(),
           CACHE_MODE,
           operation,
           Optional.<String>absent(),
           ruleKeys,
-          ArtifactCacheEvent.InvocationType.SYNCHRONOUS);
+          invocationType);
     }
 
     @Override
@@ -195,6 +212,16 @@ public abstract class HttpArtifactCacheEvent extends ArtifactCacheEvent {
       return wasUploadSuccessful;
     }
 
+    /**
+     * @return whether this finishes a lookup made ahead of the build rather than one a rule
+     *     waited on.
+     */
+    @JsonIgnore
+    public boolean isPrefetch() {
+      return getOperation() == ArtifactCacheEvent.Operation.FETCH &&
+          getInvocationType() == ArtifactCacheEvent.InvocationType.ASYNCHRONOUS;
+    }
+
     public static class Builder {
       private final Map<String, Object> data;
       private boolean wasUploadSuccessful;
@@ -257,6 +284,24 @@ public abstract class HttpArtifactCacheEvent extends ArtifactCacheEvent {
         data.put("response_size_bytes", sizeBytes);
         return this;
       }
+
+      /**
+       * @param queueDepth how many uploads were waiting to run when this one was stored.
+       */
+      public Builder setUploadQueueDepth(int queueDepth) {
+        data.put("upload_queue_depth", queueDepth);
+        return this;
+      }
+
+      public Builder setUploadQueuedMillis(long queuedMillis) {
+        data.put("upload_queued_millis", queuedMillis);
+        return this;
+      }
+
+      public Builder setUploadBytesPerSecond(long bytesPerSecond) {
+        data.put("upload_bytes_per_second", bytesPerSecond);
+        return this;
+      }
     }
   }
 }
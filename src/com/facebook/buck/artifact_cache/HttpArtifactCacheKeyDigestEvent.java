@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.event.AbstractBuckEvent;
+import com.facebook.buck.event.EventKey;
+import com.facebook.buck.event.LeafEvent;
+
+/**
+ * Reports how a batch of lookups to an HTTP cache fared against the cache's key digest and the
+ * misses remembered earlier in the build.
+ */
+public class HttpArtifactCacheKeyDigestEvent extends AbstractBuckEvent implements LeafEvent {
+
+  private final String cacheName;
+  private final int skippedLookups;
+  private final int digestHits;
+  private final int digestFalsePositives;
+
+  public HttpArtifactCacheKeyDigestEvent(
+      String cacheName,
+      int skippedLookups,
+      int digestHits,
+      int digestFalsePositives) {
+    super(EventKey.unique());
+    this.cacheName = cacheName;
+    this.skippedLookups = skippedLookups;
+    this.digestHits = digestHits;
+    this.digestFalsePositives = digestFalsePositives;
+  }
+
+  public String getCacheName() {
+    return cacheName;
+  }
+
+  /**
+   * @return how many keys were reported as misses without asking the server.
+   */
+  public int getSkippedLookups() {
+    return skippedLookups;
+  }
+
+  /**
+   * @return how many keys the digest said might be present which were hits.
+   */
+  public int getDigestHits() {
+    return digestHits;
+  }
+
+  /**
+   * @return how many keys the digest said might be present which turned out to be misses.
+   */
+  public int getDigestFalsePositives() {
+    return digestFalsePositives;
+  }
+
+  @Override
+  public String getCategory() {
+    return "artifact_cache_key_digest";
+  }
+
+  @Override
+  public String getEventName() {
+    return "HttpArtifactCacheKeyDigest";
+  }
+
+  @Override
+  protected String getValueString() {
+    return String.format(
+        "%s:skipped=%d,hits=%d,false_positives=%d",
+        cacheName,
+        skippedLookups,
+        digestHits,
+        digestFalsePositives);
+  }
+}
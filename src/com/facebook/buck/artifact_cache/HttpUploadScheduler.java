@@ -0,0 +1,230 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when the uploads of the http caches get to use the network, so that they get in the way
+ * of fetches, which the build is waiting on, as little as possible.  Uploads run on the write
+ * executor as before, but smallest first rather than in the order they were stored, wait for the
+ * fetches in flight to finish before starting, and share a byte rate limit.
+ */
+public class HttpUploadScheduler {
+
+  /**
+   * Chunks larger than this are written in pieces, so that a single write cannot take much more
+   * than its share of the rate limit.
+   */
+  private static final int MAX_THROTTLED_WRITE_BYTES = 16 * 1024;
+
+  private final ListeningExecutorService executorService;
+  private final Optional<RateLimiter> rateLimiter;
+  private final long fetchPriorityWaitMillis;
+
+  private final PriorityBlockingQueue<PendingUpload> pendingUploads =
+      new PriorityBlockingQueue<>();
+  private final AtomicLong uploadSequence = new AtomicLong();
+  private final Object fetchesLock = new Object();
+  private int fetchesInFlight = 0;
+
+  /**
+   * @param maxBytesPerSecond the rate all uploads together are limited to, if any.
+   * @param fetchPriorityWaitMillis how long an upload waits for fetches in flight to finish
+   *     before starting anyway, so that a build which keeps fetching still uploads.
+   */
+  public HttpUploadScheduler(
+      ListeningExecutorService executorService,
+      Optional<Long> maxBytesPerSecond,
+      long fetchPriorityWaitMillis) {
+    Preconditions.checkArgument(fetchPriorityWaitMillis >= 0);
+    this.executorService = executorService;
+    if (maxBytesPerSecond.isPresent()) {
+      Preconditions.checkArgument(maxBytesPerSecond.get() > 0);
+      this.rateLimiter = Optional.of(RateLimiter.create(maxBytesPerSecond.get()));
+    } else {
+      this.rateLimiter = Optional.absent();
+    }
+    this.fetchPriorityWaitMillis = fetchPriorityWaitMillis;
+  }
+
+  /**
+   * @return a scheduler which runs uploads as soon as the executor has a thread for them, as
+   *     the http caches did before uploads were scheduled.
+   */
+  public static HttpUploadScheduler unlimited(ListeningExecutorService executorService) {
+    return new HttpUploadScheduler(
+        executorService,
+        Optional.<Long>absent(),
+        /* fetchPriorityWaitMillis */ 0);
+  }
+
+  /**
+   * @return the number of uploads waiting for the executor.
+   */
+  public int getQueueDepth() {
+    return pendingUploads.size();
+  }
+
+  /**
+   * Queues an upload, to run once the uploads smaller than it have.
+   *
+   * @param sizeBytes how much the upload is going to send.
+   */
+  public ListenableFuture<Void> schedule(long sizeBytes, Runnable upload) {
+    SettableFuture<Void> future = SettableFuture.create();
+    PendingUpload pendingUpload =
+        new PendingUpload(sizeBytes, uploadSequence.getAndIncrement(), upload, future);
+    pendingUploads.add(pendingUpload);
+    // Each upload queues one drain, which runs whichever upload is most urgent by the time the
+    // executor gets to it, so the executor still bounds how many uploads run at once.
+    try {
+      executorService.execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              PendingUpload next = pendingUploads.poll();
+              if (next != null) {
+                next.run();
+              }
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // There's one less drain than queued uploads now, so one has to go.  That's this one unless
+      // an earlier drain has already taken it, in which case one of the others won't be run.
+      PendingUpload dropped =
+          pendingUploads.remove(pendingUpload) ? pendingUpload : pendingUploads.poll();
+      if (dropped != null) {
+        dropped.future.setException(e);
+      }
+    }
+    return future;
+  }
+
+  public void fetchStarted() {
+    synchronized (fetchesLock) {
+      fetchesInFlight++;
+    }
+  }
+
+  public void fetchFinished() {
+    synchronized (fetchesLock) {
+      fetchesInFlight--;
+      if (fetchesInFlight == 0) {
+        fetchesLock.notifyAll();
+      }
+    }
+  }
+
+  private void awaitFetches() throws InterruptedException {
+    if (fetchPriorityWaitMillis == 0) {
+      return;
+    }
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fetchPriorityWaitMillis);
+    synchronized (fetchesLock) {
+      while (fetchesInFlight > 0) {
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0) {
+          return;
+        }
+        TimeUnit.NANOSECONDS.timedWait(fetchesLock, remainingNanos);
+      }
+    }
+  }
+
+  /**
+   * @return a stream which writes to {@code out} no faster than the rate limit allows.
+   */
+  public OutputStream throttle(OutputStream out) {
+    if (!rateLimiter.isPresent()) {
+      return out;
+    }
+    final RateLimiter limiter = rateLimiter.get();
+    return new FilterOutputStream(out) {
+      @Override
+      public void write(int b) throws IOException {
+        limiter.acquire(1);
+        out.write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+          int chunk = Math.min(len, MAX_THROTTLED_WRITE_BYTES);
+          limiter.acquire(chunk);
+          out.write(b, off, chunk);
+          off += chunk;
+          len -= chunk;
+        }
+      }
+    };
+  }
+
+  private class PendingUpload implements Comparable<PendingUpload> {
+    private final long sizeBytes;
+    private final long sequence;
+    private final Runnable upload;
+    private final SettableFuture<Void> future;
+
+    public PendingUpload(
+        long sizeBytes,
+        long sequence,
+        Runnable upload,
+        SettableFuture<Void> future) {
+      this.sizeBytes = sizeBytes;
+      this.sequence = sequence;
+      this.upload = upload;
+      this.future = future;
+    }
+
+    public void run() {
+      try {
+        awaitFetches();
+        upload.run();
+        future.set(null);
+      } catch (InterruptedException e) {
+        future.cancel(/* mayInterruptIfRunning */ false);
+        Thread.currentThread().interrupt();
+      } catch (Throwable t) {
+        // Anything waiting on the store has to hear about it, whatever went wrong.
+        future.setException(t);
+      }
+    }
+
+    @Override
+    public int compareTo(PendingUpload other) {
+      // Small artifacts first: they are done soonest, so the most artifacts become available to
+      // other builds for the bytes sent.
+      int result = Longs.compare(sizeBytes, other.sizeBytes);
+      return result != 0 ? result : Longs.compare(sequence, other.sequence);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.collect.ImmutableSet;
+
+import java.io.IOException;
+
+/**
+ * An {@link ArtifactCache} which can tell which keys it holds without fetching them, e.g. so that
+ * a server can publish a digest of its keys.
+ */
+public interface ListableArtifactCache extends ArtifactCache {
+  /**
+   * @return the keys of the artifacts currently in the cache.  Keys stored or evicted while this
+   *     runs may or may not be included.
+   */
+  ImmutableSet<RuleKey> getRuleKeys() throws IOException;
+}
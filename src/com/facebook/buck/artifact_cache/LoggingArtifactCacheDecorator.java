@@ -57,6 +57,13 @@ public class LoggingArtifactCacheDecorator implements ArtifactCache {
     return fetchResult;
   }
 
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    // The underlying cache is synchronous, so log each lookup as its own event.
+    return MultiFetches.fetchSequentially(this, outputs);
+  }
+
   @Override
   public ListenableFuture<Void> store(
       ImmutableSet<RuleKey> ruleKeys,
@@ -70,6 +77,11 @@ public class LoggingArtifactCacheDecorator implements ArtifactCache {
     return storeFuture;
   }
 
+  @Override
+  public boolean isMultiFetchBatched() {
+    return false;
+  }
+
   @Override
   public boolean isStoreSupported() {
     return delegate.isStoreSupported();
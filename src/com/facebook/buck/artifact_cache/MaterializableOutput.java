@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.collect.ImmutableMap;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Output for an artifact zip which the caller is only going to unzip into a project.  A cache
+ * which can unpack artifacts itself, e.g. because it keeps them unzipped, may restore the files
+ * straight into the project instead of writing the zip, in which case {@link #isMaterialized()}
+ * returns {@code true} and the zip path is never created.
+ */
+public abstract class MaterializableOutput extends LazyPath {
+
+  private final ProjectFilesystem projectFilesystem;
+  private volatile boolean materialized;
+
+  protected MaterializableOutput(ProjectFilesystem projectFilesystem) {
+    this.projectFilesystem = projectFilesystem;
+  }
+
+  /**
+   * @return the project the artifact would have been unzipped into.
+   */
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return whether the artifact was restored into the project rather than written as a zip.
+   */
+  public boolean isMaterialized() {
+    return materialized;
+  }
+
+  /**
+   * @param relativePath the path of a file of the artifact, relative to the project root.
+   * @return whether the file may be restored as a hard link to the cache's copy of it, which is
+   *     only safe if anything which changes it replaces it rather than writing to it in place, as
+   *     that would change the cache's copy too.  Files are copied unless the output knows that.
+   */
+  public boolean isSafeToLink(Path relativePath) {
+    return false;
+  }
+
+  void setMaterialized() {
+    materialized = true;
+  }
+
+  /**
+   * @return an output for the same zip which caches can only write the zip to.  Used when the
+   *     fetched zip is needed as well, e.g. to write it back to other caches.
+   */
+  static LazyPath withoutMaterialization(final LazyPath output) {
+    if (!(output instanceof MaterializableOutput)) {
+      return output;
+    }
+    return new LazyPath() {
+      @Override
+      protected Path create() throws IOException {
+        return output.get();
+      }
+    };
+  }
+
+  static ImmutableMap<RuleKey, LazyPath> withoutMaterialization(
+      ImmutableMap<RuleKey, LazyPath> outputs) {
+    ImmutableMap.Builder<RuleKey, LazyPath> result = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, LazyPath> entry : outputs.entrySet()) {
+      result.put(entry.getKey(), withoutMaterialization(entry.getValue()));
+    }
+    return result.build();
+  }
+}
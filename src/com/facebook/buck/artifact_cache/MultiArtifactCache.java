@@ -17,18 +17,38 @@
 package com.facebook.buck.artifact_cache;
 
 import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
 import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -36,13 +56,39 @@ import javax.annotation.Nullable;
  * MultiArtifactCache encapsulates a set of ArtifactCache instances such that fetch() succeeds if
  * any of the ArtifactCaches contain the desired artifact, and store() applies to all
  * ArtifactCaches.
+ * <p>
+ * By default the caches are looked up one after another, and a hit is propagated to the caches
+ * before it on the calling thread.  Optionally, lookups can be hedged so that a slow cache doesn't
+ * hold up the ones after it, and propagation can be moved to a background thread so that a
+ * remote hit doesn't wait on a local copy.
  */
 public class MultiArtifactCache implements ArtifactCache {
+  private static final Logger LOG = Logger.get(MultiArtifactCache.class);
+  private static final long WRITE_BACK_SHUTDOWN_TIMEOUT_SECONDS = 60L;
+
   private final ImmutableList<ArtifactCache> artifactCaches;
   private final boolean isStoreSupported;
+  private final Optional<Long> parallelLookupHedgeDelayMillis;
+  private final Optional<ListeningExecutorService> lookupExecutor;
+  private final Optional<ExecutorService> writeBackExecutor;
 
   public MultiArtifactCache(ImmutableList<ArtifactCache> artifactCaches) {
+    this(artifactCaches, Optional.<Long>absent(), Optional.<Integer>absent());
+  }
+
+  /**
+   * @param parallelLookupHedgeDelayMillis if present, a fetch looks up the caches concurrently,
+   *     starting each cache's lookup as soon as the one before it misses or has been running for
+   *     this long, and the first hit wins.
+   * @param writeBackQueueSize if present, hits are propagated to earlier caches on a background
+   *     thread, with at most this many propagations waiting.  Any beyond that are dropped.
+   */
+  public MultiArtifactCache(
+      ImmutableList<ArtifactCache> artifactCaches,
+      Optional<Long> parallelLookupHedgeDelayMillis,
+      Optional<Integer> writeBackQueueSize) {
     this.artifactCaches = artifactCaches;
+    this.parallelLookupHedgeDelayMillis = parallelLookupHedgeDelayMillis;
 
     boolean isStoreSupported = false;
     for (ArtifactCache artifactCache : artifactCaches) {
@@ -52,6 +98,33 @@ public class MultiArtifactCache implements ArtifactCache {
       }
     }
     this.isStoreSupported = isStoreSupported;
+
+    if (parallelLookupHedgeDelayMillis.isPresent()) {
+      this.lookupExecutor = Optional.of(
+          MoreExecutors.listeningDecorator(
+              Executors.newCachedThreadPool(
+                  new ThreadFactoryBuilder()
+                      .setNameFormat("multi-cache-lookup-%d")
+                      .setDaemon(true)
+                      .build())));
+    } else {
+      this.lookupExecutor = Optional.absent();
+    }
+
+    if (writeBackQueueSize.isPresent()) {
+      this.writeBackExecutor = Optional.<ExecutorService>of(
+          new ThreadPoolExecutor(
+              /* corePoolSize */ 1,
+              /* maximumPoolSize */ 1,
+              /* keepAliveTime */ 0L, TimeUnit.MILLISECONDS,
+              /* workQueue */ new ArrayBlockingQueue<Runnable>(writeBackQueueSize.get()),
+              new ThreadFactoryBuilder()
+                  .setNameFormat("multi-cache-write-back-%d")
+                  .setDaemon(true)
+                  .build()));
+    } else {
+      this.writeBackExecutor = Optional.absent();
+    }
   }
 
   /**
@@ -62,24 +135,285 @@ public class MultiArtifactCache implements ArtifactCache {
   @Override
   public CacheResult fetch(RuleKey ruleKey, LazyPath output)
       throws InterruptedException {
+    if (lookupExecutor.isPresent() && artifactCaches.size() > 1) {
+      return fetchInParallel(ruleKey, output);
+    }
+
     CacheResult cacheResult = CacheResult.miss();
     for (ArtifactCache artifactCache : artifactCaches) {
-      cacheResult = artifactCache.fetch(ruleKey, output);
+      cacheResult = artifactCache.fetch(ruleKey, getOutputForCache(artifactCache, output));
       if (cacheResult.getType().isSuccess()) {
         // Success; terminate search for a cached artifact, and propagate artifact to caches
         // earlier in the search order so that subsequent searches terminate earlier.
-        for (ArtifactCache priorArtifactCache : artifactCaches) {
-          if (priorArtifactCache.equals(artifactCache)) {
-            break;
+        storeToPriorCaches(artifactCache, ruleKey, cacheResult, output);
+        return cacheResult;
+      }
+    }
+    return cacheResult;
+  }
+
+  private CacheResult fetchInParallel(final RuleKey ruleKey, LazyPath output)
+      throws InterruptedException {
+    long hedgeDelayMillis = parallelLookupHedgeDelayMillis.get();
+    int cacheCount = artifactCaches.size();
+    BlockingQueue<Integer> finishedLookups = new LinkedBlockingQueue<>();
+    List<ListenableFuture<CacheResult>> lookups = Lists.newArrayListWithCapacity(cacheCount);
+    List<TemporaryOutput> lookupOutputs = Lists.newArrayListWithCapacity(cacheCount);
+    Optional<Integer> winner = Optional.absent();
+
+    try {
+      CacheResult cacheResult = CacheResult.miss();
+      startLookup(ruleKey, output, lookups, lookupOutputs, finishedLookups);
+      int running = 1;
+      while (running > 0) {
+        Integer finished;
+        if (lookups.size() < cacheCount) {
+          finished = finishedLookups.poll(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+          if (finished == null) {
+            // Hedge against a slow cache by asking the next one as well.
+            startLookup(ruleKey, output, lookups, lookupOutputs, finishedLookups);
+            running++;
+            continue;
           }
-          // since cache fetch finished, it should be fine to get the path
-          Path outputPath = output.getUnchecked();
-          priorArtifactCache.store(ImmutableSet.of(ruleKey), cacheResult.getMetadata(), outputPath);
+        } else {
+          finished = finishedLookups.take();
+        }
+        running--;
+
+        CacheResult result = getLookupResult(lookups.get(finished));
+        if (result.getType().isSuccess()) {
+          winner = Optional.of(finished);
+          cacheResult = result;
+          break;
         }
+        if (finished == cacheCount - 1) {
+          // As when looking up sequentially, report how the last cache missed.
+          cacheResult = result;
+        }
+        if (lookups.size() < cacheCount) {
+          startLookup(ruleKey, output, lookups, lookupOutputs, finishedLookups);
+          running++;
+        }
+      }
+
+      if (!winner.isPresent()) {
         return cacheResult;
       }
+
+      Optional<Path> winningOutput = lookupOutputs.get(winner.get()).getCreatedPath();
+      if (winningOutput.isPresent()) {
+        try {
+          Files.move(winningOutput.get(), output.get(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+          LOG.warn(e, "Failed to move fetched artifact for %s to %s", ruleKey, output);
+          return CacheResult.error(
+              cacheResult.getCacheSource(),
+              String.format("%s: %s", e.getClass(), e.getMessage()));
+        }
+      }
+      storeToPriorCaches(artifactCaches.get(winner.get()), ruleKey, cacheResult, output);
+      return cacheResult;
+    } finally {
+      // Lookups that lost the race may still be running, so tidy up after them once they finish.
+      for (int i = 0; i < lookups.size(); i++) {
+        if (winner.isPresent() && winner.get() == i) {
+          continue;
+        }
+        final TemporaryOutput lookupOutput = lookupOutputs.get(i);
+        lookups.get(i).addListener(
+            new Runnable() {
+              @Override
+              public void run() {
+                lookupOutput.delete();
+              }
+            },
+            MoreExecutors.directExecutor());
+      }
+    }
+  }
+
+  private void startLookup(
+      final RuleKey ruleKey,
+      LazyPath output,
+      List<ListenableFuture<CacheResult>> lookups,
+      List<TemporaryOutput> lookupOutputs,
+      final BlockingQueue<Integer> finishedLookups) {
+    final int index = lookups.size();
+    final ArtifactCache artifactCache = artifactCaches.get(index);
+    final TemporaryOutput lookupOutput = new TemporaryOutput(output);
+    ListenableFuture<CacheResult> lookup = lookupExecutor.get().submit(
+        new Callable<CacheResult>() {
+          @Override
+          public CacheResult call() throws Exception {
+            return artifactCache.fetch(ruleKey, lookupOutput);
+          }
+        });
+    lookup.addListener(
+        new Runnable() {
+          @Override
+          public void run() {
+            finishedLookups.add(index);
+          }
+        },
+        MoreExecutors.directExecutor());
+    lookups.add(lookup);
+    lookupOutputs.add(lookupOutput);
+  }
+
+  private static CacheResult getLookupResult(ListenableFuture<CacheResult> lookup)
+      throws InterruptedException {
+    try {
+      return lookup.get();
+    } catch (ExecutionException e) {
+      Throwables.propagateIfInstanceOf(e.getCause(), InterruptedException.class);
+      throw Throwables.propagate(e.getCause());
+    }
+  }
+
+  /**
+   * Fetch a batch of artifacts, asking each encapsulated ArtifactCache in turn only for the keys
+   * which all of the caches before it missed.  Hits are propagated to earlier caches, as in
+   * {@link #fetch(RuleKey, LazyPath)}.
+   */
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    Map<RuleKey, CacheResult> results = Maps.newHashMap();
+    ImmutableMap<RuleKey, LazyPath> remaining = outputs;
+    for (ArtifactCache artifactCache : artifactCaches) {
+      if (remaining.isEmpty()) {
+        break;
+      }
+      ImmutableMap.Builder<RuleKey, LazyPath> misses = ImmutableMap.builder();
+      ImmutableMap.Builder<RuleKey, LazyPath> outputsForCache = ImmutableMap.builder();
+      for (Map.Entry<RuleKey, LazyPath> entry : remaining.entrySet()) {
+        outputsForCache.put(entry.getKey(), getOutputForCache(artifactCache, entry.getValue()));
+      }
+      for (Map.Entry<RuleKey, CacheResult> entry :
+           artifactCache.multiFetch(outputsForCache.build()).entrySet()) {
+        RuleKey ruleKey = entry.getKey();
+        CacheResult cacheResult = entry.getValue();
+        results.put(ruleKey, cacheResult);
+        if (cacheResult.getType().isSuccess()) {
+          storeToPriorCaches(artifactCache, ruleKey, cacheResult, remaining.get(ruleKey));
+        } else {
+          misses.put(ruleKey, remaining.get(ruleKey));
+        }
+      }
+      remaining = misses.build();
+    }
+
+    ImmutableMap.Builder<RuleKey, CacheResult> orderedResults = ImmutableMap.builder();
+    for (RuleKey ruleKey : outputs.keySet()) {
+      CacheResult cacheResult = results.get(ruleKey);
+      orderedResults.put(ruleKey, cacheResult == null ? CacheResult.miss() : cacheResult);
+    }
+    return orderedResults.build();
+  }
+
+  /**
+   * Hits are written back to earlier caches from the fetched zip, so a cache may only restore an
+   * artifact straight into the project instead if none of the caches before it store artifacts.
+   */
+  private LazyPath getOutputForCache(ArtifactCache artifactCache, LazyPath output) {
+    for (ArtifactCache priorArtifactCache :
+         artifactCaches.subList(0, artifactCaches.indexOf(artifactCache))) {
+      if (priorArtifactCache.isStoreSupported()) {
+        return MaterializableOutput.withoutMaterialization(output);
+      }
+    }
+    return output;
+  }
+
+  private void storeToPriorCaches(
+      ArtifactCache artifactCache,
+      RuleKey ruleKey,
+      CacheResult cacheResult,
+      LazyPath output) throws InterruptedException {
+    ImmutableList<ArtifactCache> priorArtifactCaches =
+        artifactCaches.subList(0, artifactCaches.indexOf(artifactCache));
+    if (priorArtifactCaches.isEmpty()) {
+      return;
+    }
+    // since cache fetch finished, it should be fine to get the path
+    Path outputPath = output.getUnchecked();
+
+    if (writeBackExecutor.isPresent()) {
+      storeToPriorCachesInBackground(
+          priorArtifactCaches,
+          ruleKey,
+          cacheResult.getMetadata(),
+          outputPath);
+      return;
+    }
+
+    for (ArtifactCache priorArtifactCache : priorArtifactCaches) {
+      priorArtifactCache.store(ImmutableSet.of(ruleKey), cacheResult.getMetadata(), outputPath);
+    }
+  }
+
+  private void storeToPriorCachesInBackground(
+      final ImmutableList<ArtifactCache> priorArtifactCaches,
+      final RuleKey ruleKey,
+      final ImmutableMap<String, String> metadata,
+      Path outputPath) {
+    // The caller is free to do what it likes with the output once we return, so the stores get
+    // their own link to (or failing that, copy of) it.
+    final Path writeBackPath;
+    try {
+      writeBackPath = Files.createTempFile(
+          outputPath.toAbsolutePath().getParent(),
+          outputPath.getFileName().toString(),
+          ".write-back");
+      Files.delete(writeBackPath);
+      try {
+        Files.createLink(writeBackPath, outputPath);
+      } catch (IOException | UnsupportedOperationException e) {
+        Files.copy(outputPath, writeBackPath);
+      }
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to propagate %s to earlier caches", ruleKey);
+      return;
+    }
+
+    try {
+      writeBackExecutor.get().execute(
+          new Runnable() {
+            @Override
+            public void run() {
+              List<ListenableFuture<Void>> stores =
+                  Lists.newArrayListWithCapacity(priorArtifactCaches.size());
+              try {
+                for (ArtifactCache priorArtifactCache : priorArtifactCaches) {
+                  stores.add(
+                      priorArtifactCache.store(ImmutableSet.of(ruleKey), metadata, writeBackPath));
+                }
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } finally {
+                Futures.successfulAsList(stores).addListener(
+                    new Runnable() {
+                      @Override
+                      public void run() {
+                        deleteQuietly(writeBackPath);
+                      }
+                    },
+                    MoreExecutors.directExecutor());
+              }
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      LOG.debug("Too many pending write-backs, not propagating %s to earlier caches", ruleKey);
+      deleteQuietly(writeBackPath);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to delete %s", path);
     }
-    return cacheResult;
   }
 
   /**
@@ -110,6 +444,16 @@ public class MultiArtifactCache implements ArtifactCache {
         });
   }
 
+  @Override
+  public boolean isMultiFetchBatched() {
+    for (ArtifactCache artifactCache : artifactCaches) {
+      if (artifactCache.isMultiFetchBatched()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /** @return {@code true} if there is at least one ArtifactCache that supports storing. */
   @Override
   public boolean isStoreSupported() {
@@ -118,6 +462,22 @@ public class MultiArtifactCache implements ArtifactCache {
 
   @Override
   public void close() {
+    if (writeBackExecutor.isPresent()) {
+      writeBackExecutor.get().shutdown();
+      try {
+        if (!writeBackExecutor.get().awaitTermination(
+                WRITE_BACK_SHUTDOWN_TIMEOUT_SECONDS,
+                TimeUnit.SECONDS)) {
+          LOG.warn("Gave up waiting for artifacts to be propagated to earlier caches.");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (lookupExecutor.isPresent()) {
+      lookupExecutor.get().shutdownNow();
+    }
+
     Optional<RuntimeException> throwable = Optional.absent();
     for (ArtifactCache artifactCache : artifactCaches) {
       try {
@@ -130,4 +490,38 @@ public class MultiArtifactCache implements ArtifactCache {
       throw throwable.get();
     }
   }
+
+  /**
+   * Where a cache that is looked up concurrently with others writes its artifact, so that only
+   * the lookup which wins ever touches the caller's output.
+   */
+  private static class TemporaryOutput extends LazyPath {
+    private final LazyPath output;
+    @Nullable
+    private volatile Path createdPath;
+
+    private TemporaryOutput(LazyPath output) {
+      this.output = output;
+    }
+
+    @Override
+    protected Path create() throws IOException {
+      Path outputPath = output.get().toAbsolutePath();
+      createdPath = Files.createTempFile(
+          outputPath.getParent(),
+          outputPath.getFileName().toString(),
+          ".tmp");
+      return createdPath;
+    }
+
+    public Optional<Path> getCreatedPath() {
+      return Optional.fromNullable(createdPath);
+    }
+
+    public void delete() {
+      if (createdPath != null) {
+        deleteQuietly(createdPath);
+      }
+    }
+  }
 }
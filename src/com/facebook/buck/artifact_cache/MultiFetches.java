@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * Helpers for implementing {@link ArtifactCache#multiFetch(ImmutableMap)}.
+ */
+public class MultiFetches {
+
+  private MultiFetches() {
+    // Utility class, don't instantiate.
+  }
+
+  /**
+   * Implements a multi-fetch as a series of single key fetches, for caches where a lookup is
+   * cheap enough that batching buys nothing.
+   */
+  public static ImmutableMap<RuleKey, CacheResult> fetchSequentially(
+      ArtifactCache cache,
+      ImmutableMap<RuleKey, LazyPath> outputs) throws InterruptedException {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, LazyPath> entry : outputs.entrySet()) {
+      results.put(entry.getKey(), cache.fetch(entry.getKey(), entry.getValue()));
+    }
+    return results.build();
+  }
+}
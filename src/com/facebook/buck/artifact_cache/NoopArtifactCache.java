@@ -33,6 +33,12 @@ public class NoopArtifactCache implements ArtifactCache {
     return CacheResult.miss();
   }
 
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    return MultiFetches.fetchSequentially(this, outputs);
+  }
+
   @Override
   public ListenableFuture<Void> store(
       ImmutableSet<RuleKey> ruleKeys,
@@ -41,6 +47,11 @@ public class NoopArtifactCache implements ArtifactCache {
     return Futures.immediateFuture(null);
   }
 
+  @Override
+  public boolean isMultiFetchBatched() {
+    return false;
+  }
+
   /** @return {@code false}: storing artifacts is never supported by this class. */
   @Override
   public boolean isStoreSupported() {
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.BuckConstant;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Lets a build start looking up artifacts before it gets to the rules they're for, so that the
+ * round trips to the cache overlap with each other and with local work rather than adding up
+ * along the chains of the dependency graph.
+ * <p>
+ * {@link #prefetch} queues a lookup, at most {@code maxConcurrentPrefetches} of which run at once.
+ * Prefetches only look in {@code remoteDelegate}, the caches whose round trips are worth hiding.
+ * A prefetched key may never be fetched, so {@code remoteDelegate} must not write hits back into
+ * other caches, and should report its lookups as prefetches rather than as fetches.  When a
+ * prefetch misses, {@link #fetch} only has {@code localDelegate}, the caches left out of
+ * {@code remoteDelegate}, left to look in.
+ * <p>
+ * Hits are downloaded to temporary files in the scratch directory of the rule's project, and moved
+ * to wherever {@link #fetch} is later asked to put them, so a prefetch never changes the project's
+ * outputs itself.  Keys which weren't prefetched, or whose prefetch failed, are looked up in
+ * {@code delegate} as usual.
+ */
+public class PrefetchingArtifactCacheDecorator implements ArtifactCache {
+
+  private static final Logger LOG = Logger.get(PrefetchingArtifactCacheDecorator.class);
+
+  private static final long IDLE_THREAD_TIMEOUT_SECONDS = 10;
+
+  private final ArtifactCache delegate;
+  private final ArtifactCache localDelegate;
+  private final ArtifactCache remoteDelegate;
+  private final ListeningExecutorService executor;
+  private final ConcurrentMap<RuleKey, Prefetch> prefetches =
+      new ConcurrentHashMap<>();
+
+  /**
+   * @param delegate the cache which everything but prefetches goes to.
+   * @param localDelegate the part of {@code delegate} which isn't in {@code remoteDelegate}.
+   * @param remoteDelegate the cache which prefetches are looked up in.
+   */
+  public PrefetchingArtifactCacheDecorator(
+      ArtifactCache delegate,
+      ArtifactCache localDelegate,
+      ArtifactCache remoteDelegate,
+      int maxConcurrentPrefetches) {
+    Preconditions.checkArgument(maxConcurrentPrefetches > 0);
+    this.delegate = delegate;
+    this.localDelegate = localDelegate;
+    this.remoteDelegate = remoteDelegate;
+    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(
+        /* corePoolSize */ maxConcurrentPrefetches,
+        /* maximumPoolSize */ maxConcurrentPrefetches,
+        /* keepAliveTime */ IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+        /* workQueue */ new LinkedBlockingQueue<Runnable>(),
+        new ThreadFactoryBuilder()
+            .setNameFormat("cache-prefetch-%d")
+            .setDaemon(true)
+            .build());
+    // Builds come and go in buckd, so don't keep threads around for the ones which don't prefetch.
+    threadPool.allowCoreThreadTimeOut(true);
+    this.executor = MoreExecutors.listeningDecorator(threadPool);
+  }
+
+  /**
+   * Starts looking up {@code ruleKey} in the background, unless it already is.
+   *
+   * @param filesystem the project of the rule the artifact is for, in whose scratch directory a
+   *     hit is downloaded.
+   * @return the result of the lookup, which fails if the lookup did or was discarded.
+   */
+  public ListenableFuture<CacheResult> prefetch(RuleKey ruleKey, ProjectFilesystem filesystem) {
+    Prefetch prefetch = prefetches.get(ruleKey);
+    if (prefetch == null) {
+      Prefetch newPrefetch = new Prefetch(ruleKey, filesystem);
+      prefetch = prefetches.putIfAbsent(ruleKey, newPrefetch);
+      if (prefetch == null) {
+        prefetch = newPrefetch;
+        executor.execute(prefetch.task);
+      }
+    }
+    return prefetch.task;
+  }
+
+  @Override
+  public CacheResult fetch(RuleKey ruleKey, LazyPath output) throws InterruptedException {
+    Prefetch prefetch = prefetches.remove(ruleKey);
+    if (prefetch == null) {
+      return delegate.fetch(ruleKey, output);
+    }
+
+    CacheResult result;
+    try {
+      result = prefetch.task.get();
+    } catch (ExecutionException | CancellationException e) {
+      LOG.debug(e, "Prefetch of %s failed, looking it up again", ruleKey);
+      prefetch.discard();
+      return delegate.fetch(ruleKey, output);
+    }
+    if (result.getType() == CacheResultType.MISS) {
+      // The remote caches have already been asked.
+      return localDelegate.fetch(ruleKey, output);
+    }
+    Path download = prefetch.claimDownload();
+    if (!result.getType().isSuccess() || download == null) {
+      LOG.debug("Prefetch of %s failed with %s, looking it up again", ruleKey, result);
+      if (download != null) {
+        deleteQuietly(download);
+      }
+      return delegate.fetch(ruleKey, output);
+    }
+
+    try {
+      Files.move(download, output.get(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to move prefetched artifact %s, looking it up again", ruleKey);
+      deleteQuietly(download);
+      return delegate.fetch(ruleKey, output);
+    }
+    return result;
+  }
+
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    ImmutableMap.Builder<RuleKey, LazyPath> remaining = ImmutableMap.builder();
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, LazyPath> entry : outputs.entrySet()) {
+      if (prefetches.containsKey(entry.getKey())) {
+        results.put(entry.getKey(), fetch(entry.getKey(), entry.getValue()));
+      } else {
+        remaining.put(entry);
+      }
+    }
+    ImmutableMap<RuleKey, LazyPath> toFetch = remaining.build();
+    if (!toFetch.isEmpty()) {
+      results.putAll(delegate.multiFetch(toFetch));
+    }
+    return results.build();
+  }
+
+  /**
+   * Drops every prefetch which hasn't been fetched yet, deleting whatever it downloads.  Called
+   * once a build is over, so the artifacts of rules it turned out not to need don't pile up.
+   */
+  public void discardUnclaimed() {
+    for (RuleKey ruleKey : prefetches.keySet()) {
+      Prefetch prefetch = prefetches.remove(ruleKey);
+      if (prefetch == null) {
+        continue;
+      }
+      // Prefetches which are already running aren't interrupted, and delete their downloads
+      // themselves once they finish.
+      prefetch.task.cancel(/* mayInterruptIfRunning */ false);
+      prefetch.discard();
+    }
+  }
+
+  @VisibleForTesting
+  int getPrefetchCount() {
+    return prefetches.size();
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to delete prefetched artifact %s", path);
+    }
+  }
+
+  @Override
+  public ListenableFuture<Void> store(
+      ImmutableSet<RuleKey> ruleKeys,
+      ImmutableMap<String, String> metadata,
+      Path output) throws InterruptedException {
+    return delegate.store(ruleKeys, metadata, output);
+  }
+
+  @Override
+  public boolean isMultiFetchBatched() {
+    return delegate.isMultiFetchBatched();
+  }
+
+  @Override
+  public boolean isStoreSupported() {
+    return delegate.isStoreSupported();
+  }
+
+  @Override
+  public void close() {
+    discardUnclaimed();
+    executor.shutdown();
+    delegate.close();
+    localDelegate.close();
+    remoteDelegate.close();
+  }
+
+  /**
+   * A lookup made ahead of the walk, and the file a hit is downloaded to until it's claimed.
+   */
+  private class Prefetch {
+    private final RuleKey ruleKey;
+    private final ProjectFilesystem filesystem;
+    private final ListenableFutureTask<CacheResult> task;
+
+    @Nullable
+    @GuardedBy("this")
+    private Path download;
+    @GuardedBy("this")
+    private boolean finished = false;
+    @GuardedBy("this")
+    private boolean discarded = false;
+
+    private Prefetch(RuleKey ruleKey, ProjectFilesystem filesystem) {
+      this.ruleKey = ruleKey;
+      this.filesystem = filesystem;
+      this.task = ListenableFutureTask.create(
+          new Callable<CacheResult>() {
+            @Override
+            public CacheResult call() throws InterruptedException {
+              try {
+                return run();
+              } finally {
+                finish();
+              }
+            }
+          });
+    }
+
+    private CacheResult run() throws InterruptedException {
+      LazyPath output = new LazyPath() {
+        @Override
+        protected Path create() throws IOException {
+          return createDownload();
+        }
+      };
+      CacheResult result = remoteDelegate.fetch(ruleKey, output);
+      if (result.getType().isSuccess()) {
+        try {
+          output.get();
+        } catch (IOException e) {
+          LOG.warn(e, "Prefetched artifact %s was not written", ruleKey);
+          return CacheResult.error(
+              "prefetch",
+              String.format("%s: %s", e.getClass().getName(), e.getMessage()));
+        }
+      }
+      return result;
+    }
+
+    private synchronized Path createDownload() throws IOException {
+      filesystem.mkdirs(BuckConstant.SCRATCH_PATH);
+      download = filesystem.resolve(
+          filesystem.createTempFile(
+              BuckConstant.SCRATCH_PATH,
+              "buck_prefetched_artifact_",
+              ".zip"));
+      return download;
+    }
+
+    private synchronized void finish() {
+      finished = true;
+      if (discarded) {
+        deleteDownload();
+      }
+    }
+
+    /**
+     * Deletes the download as soon as the lookup is over, which may not be until later.
+     */
+    private synchronized void discard() {
+      discarded = true;
+      if (finished) {
+        deleteDownload();
+      }
+    }
+
+    /**
+     * @return where a hit was downloaded to, which is now up to the caller to move or delete.
+     */
+    @Nullable
+    private synchronized Path claimDownload() {
+      Path claimed = download;
+      download = null;
+      return claimed;
+    }
+
+    @GuardedBy("this")
+    private void deleteDownload() {
+      if (download != null) {
+        deleteQuietly(download);
+        download = null;
+      }
+    }
+  }
+}
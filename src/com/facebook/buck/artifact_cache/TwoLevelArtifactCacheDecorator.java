@@ -26,6 +26,7 @@ import com.google.common.base.Functions;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -33,6 +34,7 @@ import com.google.common.util.concurrent.ListeningExecutorService;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 
 public class TwoLevelArtifactCacheDecorator implements ArtifactCache {
 
@@ -71,7 +73,9 @@ public class TwoLevelArtifactCacheDecorator implements ArtifactCache {
   public CacheResult fetch(
       RuleKey ruleKey,
       LazyPath output) throws InterruptedException {
-    CacheResult fetchResult = delegate.fetch(ruleKey, output);
+    // The first level may just be a pointer to the content, which can't be unpacked.
+    CacheResult fetchResult =
+        delegate.fetch(ruleKey, MaterializableOutput.withoutMaterialization(output));
     if (!fetchResult.getType().isSuccess() ||
         !fetchResult.getMetadata().containsKey(METADATA_KEY)) {
       return fetchResult;
@@ -79,6 +83,41 @@ public class TwoLevelArtifactCacheDecorator implements ArtifactCache {
     return delegate.fetch(new RuleKey(fetchResult.getMetadata().get(METADATA_KEY)), output);
   }
 
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+
+    // Resolve the first level of the whole batch at once, then fetch all of the content hashes
+    // it pointed at in a second batch.
+    Map<RuleKey, RuleKey> ruleKeysByContentHash = Maps.newHashMap();
+    ImmutableMap.Builder<RuleKey, LazyPath> secondLevelOutputs = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, CacheResult> entry :
+         delegate.multiFetch(MaterializableOutput.withoutMaterialization(outputs)).entrySet()) {
+      RuleKey ruleKey = entry.getKey();
+      CacheResult fetchResult = entry.getValue();
+      if (!fetchResult.getType().isSuccess() ||
+          !fetchResult.getMetadata().containsKey(METADATA_KEY)) {
+        results.put(ruleKey, fetchResult);
+        continue;
+      }
+      RuleKey contentHashKey = new RuleKey(fetchResult.getMetadata().get(METADATA_KEY));
+      if (ruleKeysByContentHash.containsKey(contentHashKey)) {
+        // Several rule keys in this batch share the same content, but each needs its own copy.
+        results.put(ruleKey, delegate.fetch(contentHashKey, outputs.get(ruleKey)));
+        continue;
+      }
+      ruleKeysByContentHash.put(contentHashKey, ruleKey);
+      secondLevelOutputs.put(contentHashKey, outputs.get(ruleKey));
+    }
+
+    for (Map.Entry<RuleKey, CacheResult> entry :
+         delegate.multiFetch(secondLevelOutputs.build()).entrySet()) {
+      results.put(ruleKeysByContentHash.get(entry.getKey()), entry.getValue());
+    }
+    return results.build();
+  }
+
   @Override
   public ListenableFuture<Void> store(
       final ImmutableSet<RuleKey> ruleKeys,
@@ -147,6 +186,11 @@ public class TwoLevelArtifactCacheDecorator implements ArtifactCache {
     );
   }
 
+  @Override
+  public boolean isMultiFetchBatched() {
+    return delegate.isMultiFetchBatched();
+  }
+
   @Override
   public boolean isStoreSupported() {
     return delegate.isStoreSupported();
@@ -0,0 +1,662 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.bser;
+
+import static com.facebook.buck.bser.BserConstants.BSER_ARRAY;
+import static com.facebook.buck.bser.BserConstants.BSER_FALSE;
+import static com.facebook.buck.bser.BserConstants.BSER_INT8;
+import static com.facebook.buck.bser.BserConstants.BSER_INT16;
+import static com.facebook.buck.bser.BserConstants.BSER_INT32;
+import static com.facebook.buck.bser.BserConstants.BSER_INT64;
+import static com.facebook.buck.bser.BserConstants.BSER_NULL;
+import static com.facebook.buck.bser.BserConstants.BSER_OBJECT;
+import static com.facebook.buck.bser.BserConstants.BSER_REAL;
+import static com.facebook.buck.bser.BserConstants.BSER_SKIP;
+import static com.facebook.buck.bser.BserConstants.BSER_STRING;
+import static com.facebook.buck.bser.BserConstants.BSER_TEMPLATE;
+import static com.facebook.buck.bser.BserConstants.BSER_TRUE;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads BSER values from a stream one token at a time, in the manner of a JSON pull parser, so
+ * that a large value such as the result of a Watchman query can be consumed as it arrives
+ * rather than first being read into memory whole and then turned into maps and lists.
+ * <p>
+ * Each template is read as an array of objects, leaving out the fields a row skips.  The names
+ * of the fields of objects and templates are looked up by their encoded bytes among the names
+ * already read, so the same name is only decoded once.
+ * <p>
+ * Only the bytes of the value being read are taken from the stream, so further values can be
+ * read from it afterwards: once the value is finished, {@link #nextToken()} returns
+ * {@code null}, and the call after that starts reading the next value.
+ */
+public class BserParser {
+
+  public enum Token {
+    START_ARRAY,
+    END_ARRAY,
+    START_OBJECT,
+    END_OBJECT,
+    FIELD_NAME,
+    VALUE_STRING,
+    VALUE_NUMBER_INT,
+    VALUE_REAL,
+    VALUE_TRUE,
+    VALUE_FALSE,
+    VALUE_NULL,
+  }
+
+  // 2 bytes marker, 1 byte int size
+  private static final int INITIAL_SNIFF_LEN = 3;
+
+  // 2 bytes marker, 1 byte int size, up to 8 bytes int64 value
+  private static final int SNIFF_BUFFER_SIZE = 13;
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final int ARRAY = 0;
+  private static final int OBJECT = 1;
+  private static final int TEMPLATE = 2;
+  private static final int TEMPLATE_ROW = 3;
+
+  private final InputStream inputStream;
+  private final FieldNames fieldNames;
+  private final CharsetDecoder utf8Decoder;
+
+  /**
+   * The bytes read from the stream which haven't been parsed yet, between its position and its
+   * limit.
+   */
+  private ByteBuffer buffer;
+  private boolean inValue;
+  private boolean valueFinished;
+  private int valueLength;
+  private int valueBytesUnread;
+
+  /**
+   * The arrays, objects and templates the parser is in, the innermost last.
+   */
+  private int depth;
+  private int[] containerKinds = new int[16];
+  /**
+   * For an array or object, how many more elements or fields it has; for a template, how many
+   * more rows; for a row of a template, the index of the next field.
+   */
+  private int[] containerRemaining = new int[16];
+  /**
+   * The type of the value to be read after the name of a field, or {@code BSER_SKIP} if the
+   * name is to be read next.
+   */
+  private byte[] pendingValueTypes = new byte[16];
+  private String[][] templateFieldNames = new String[16][];
+
+  @Nullable private Token token;
+  private int size;
+  @Nullable private String fieldName;
+  @Nullable private String string;
+  private byte numberType;
+  private long number;
+  private double real;
+
+  public BserParser(InputStream inputStream) {
+    this(inputStream, new FieldNames());
+  }
+
+  BserParser(InputStream inputStream, FieldNames fieldNames) {
+    this.inputStream = inputStream;
+    this.fieldNames = fieldNames;
+    this.utf8Decoder = StandardCharsets.UTF_8
+        .newDecoder()
+        .onMalformedInput(CodingErrorAction.REPORT);
+    this.buffer = ByteBuffer.allocate(0).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * @return the next token of the value being read, or {@code null} if it has all been read.
+   */
+  @Nullable
+  public Token nextToken() throws IOException {
+    token = readToken();
+    return token;
+  }
+
+  @Nullable
+  private Token readToken() throws IOException {
+    if (depth == 0) {
+      if (valueFinished) {
+        valueFinished = false;
+        return null;
+      }
+      if (!inValue) {
+        readHeader();
+      }
+      return readValue(readByte());
+    }
+
+    int container = depth - 1;
+    switch (containerKinds[container]) {
+      case ARRAY:
+        if (containerRemaining[container] == 0) {
+          return endContainer(Token.END_ARRAY);
+        }
+        containerRemaining[container]--;
+        return readValue(readByte());
+      case OBJECT:
+        if (pendingValueTypes[container] != BSER_SKIP) {
+          pendingValueTypes[container] = BSER_SKIP;
+          return readValue(readByte());
+        }
+        if (containerRemaining[container] == 0) {
+          return endContainer(Token.END_OBJECT);
+        }
+        containerRemaining[container]--;
+        byte keyType = readByte();
+        if (keyType != BSER_STRING) {
+          throw new IOException(
+              String.format(
+                  "Unrecognized BSER object key type %d, expected string",
+                  keyType));
+        }
+        fieldName = readFieldName();
+        // Any type other than skip will do, as the value's type is read with the value.
+        pendingValueTypes[container] = BSER_NULL;
+        return Token.FIELD_NAME;
+      case TEMPLATE:
+        if (containerRemaining[container] == 0) {
+          return endContainer(Token.END_ARRAY);
+        }
+        containerRemaining[container]--;
+        pushContainer(TEMPLATE_ROW, 0);
+        templateFieldNames[depth - 1] = templateFieldNames[container];
+        size = -1;
+        return Token.START_OBJECT;
+      case TEMPLATE_ROW:
+        byte pendingType = pendingValueTypes[container];
+        if (pendingType != BSER_SKIP) {
+          pendingValueTypes[container] = BSER_SKIP;
+          return readValue(pendingType);
+        }
+        String[] names = Preconditions.checkNotNull(templateFieldNames[container]);
+        while (containerRemaining[container] < names.length) {
+          int index = containerRemaining[container]++;
+          byte type = readByte();
+          if (type != BSER_SKIP) {
+            fieldName = names[index];
+            pendingValueTypes[container] = type;
+            return Token.FIELD_NAME;
+          }
+        }
+        return endContainer(Token.END_OBJECT);
+      default:
+        throw new IllegalStateException();
+    }
+  }
+
+  /**
+   * @return the token last returned by {@link #nextToken()}.
+   */
+  @Nullable
+  public Token getCurrentToken() {
+    return token;
+  }
+
+  /**
+   * @return after {@link Token#START_ARRAY} or {@link Token#START_OBJECT}, how many elements or
+   *     fields it has, or -1 for a row of a template, which can skip some of its fields.
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * @return after {@link Token#FIELD_NAME}, the name of the field.
+   */
+  public String getFieldName() {
+    return Preconditions.checkNotNull(fieldName);
+  }
+
+  /**
+   * @return after {@link Token#VALUE_STRING}, the string.
+   */
+  public String getString() {
+    return Preconditions.checkNotNull(string);
+  }
+
+  /**
+   * @return after {@link Token#VALUE_NUMBER_INT}, the number, as a {@link Byte}, {@link Short},
+   *     {@link Integer} or {@link Long} depending on how it was encoded.
+   */
+  public Number getNumber() {
+    switch (numberType) {
+      case BSER_INT8:
+        return (byte) number;
+      case BSER_INT16:
+        return (short) number;
+      case BSER_INT32:
+        return (int) number;
+      default:
+        return number;
+    }
+  }
+
+  /**
+   * @return after {@link Token#VALUE_NUMBER_INT}, the number.
+   */
+  public long getLongValue() {
+    return number;
+  }
+
+  /**
+   * @return after {@link Token#VALUE_REAL}, the number.
+   */
+  public double getDoubleValue() {
+    return real;
+  }
+
+  /**
+   * Skips the rest of the array or object just started, or does nothing after any other token.
+   */
+  public void skipChildren() throws IOException {
+    if (token != Token.START_ARRAY && token != Token.START_OBJECT) {
+      return;
+    }
+    int containerDepth = depth;
+    while (depth >= containerDepth) {
+      nextToken();
+    }
+  }
+
+  private void readHeader() throws IOException {
+    ByteBuffer sniffBuffer = ByteBuffer.allocate(SNIFF_BUFFER_SIZE).order(ByteOrder.nativeOrder());
+    Preconditions.checkState(sniffBuffer.hasArray());
+
+    int sniffBytesRead = ByteStreams.read(inputStream, sniffBuffer.array(), 0, INITIAL_SNIFF_LEN);
+    if (sniffBytesRead < INITIAL_SNIFF_LEN) {
+      throw new BserDeserializer.BserEofException(
+          String.format(
+              "Invalid BSER header (expected %d bytes, got %d bytes)",
+              INITIAL_SNIFF_LEN,
+              sniffBytesRead));
+    }
+
+    if (sniffBuffer.get() != 0x00 || sniffBuffer.get() != 0x01) {
+      throw new IOException("Invalid BSER header");
+    }
+
+    byte lengthType = sniffBuffer.get();
+    int lengthBytesRemaining;
+    switch (lengthType) {
+      case BSER_INT8:
+        lengthBytesRemaining = 1;
+        break;
+      case BSER_INT16:
+        lengthBytesRemaining = 2;
+        break;
+      case BSER_INT32:
+        lengthBytesRemaining = 4;
+        break;
+      case BSER_INT64:
+        lengthBytesRemaining = 8;
+        break;
+      default:
+        throw new IOException(
+            String.format("Unrecognized BSER header length type %d", lengthType));
+    }
+    int lengthBytesRead = ByteStreams.read(
+        inputStream,
+        sniffBuffer.array(),
+        sniffBuffer.position(),
+        lengthBytesRemaining);
+    if (lengthBytesRead < lengthBytesRemaining) {
+      throw new BserDeserializer.BserEofException(
+          String.format(
+              "Invalid BSER header length (expected %d bytes, got %d bytes)",
+              lengthBytesRemaining,
+              lengthBytesRead));
+    }
+    valueLength = checkLength(readNumber(sniffBuffer, lengthType));
+    valueBytesUnread = valueLength;
+    inValue = true;
+
+    // Small values are read in one go, into a buffer no bigger than they need.
+    int capacity = Math.min(valueLength, BUFFER_SIZE);
+    if (buffer.capacity() < capacity) {
+      buffer = ByteBuffer.allocate(capacity).order(ByteOrder.nativeOrder());
+    }
+    buffer.clear().limit(0);
+  }
+
+  @Nullable
+  private Token readValue(byte type) throws IOException {
+    switch (type) {
+      case BSER_INT8:
+      case BSER_INT16:
+      case BSER_INT32:
+      case BSER_INT64:
+        numberType = type;
+        number = readNumber(type);
+        return scalar(Token.VALUE_NUMBER_INT);
+      case BSER_REAL:
+        require(8);
+        real = buffer.getDouble();
+        return scalar(Token.VALUE_REAL);
+      case BSER_TRUE:
+        return scalar(Token.VALUE_TRUE);
+      case BSER_FALSE:
+        return scalar(Token.VALUE_FALSE);
+      case BSER_NULL:
+        return scalar(Token.VALUE_NULL);
+      case BSER_STRING:
+        int length = readLength();
+        require(length);
+        string = decode(length);
+        return scalar(Token.VALUE_STRING);
+      case BSER_ARRAY:
+        size = readLength();
+        pushContainer(ARRAY, size);
+        return Token.START_ARRAY;
+      case BSER_OBJECT:
+        size = readLength();
+        pushContainer(OBJECT, size);
+        return Token.START_OBJECT;
+      case BSER_TEMPLATE:
+        byte arrayType = readByte();
+        if (arrayType != BSER_ARRAY) {
+          throw new IOException(
+              String.format("Expected ARRAY to follow TEMPLATE, got %d", arrayType));
+        }
+        String[] names = new String[readLength()];
+        for (int i = 0; i < names.length; i++) {
+          byte nameType = readByte();
+          if (nameType != BSER_STRING) {
+            throw new IOException(
+                String.format("Unrecognized BSER template key type %d, expected string", nameType));
+          }
+          names[i] = readFieldName();
+        }
+        size = readLength();
+        pushContainer(TEMPLATE, size);
+        templateFieldNames[depth - 1] = names;
+        return Token.START_ARRAY;
+      default:
+        throw new IOException(String.format("Unrecognized BSER value type %d", type));
+    }
+  }
+
+  private Token scalar(Token token) throws IOException {
+    if (depth == 0) {
+      finishValue();
+    }
+    return token;
+  }
+
+  private Token endContainer(Token token) throws IOException {
+    depth--;
+    templateFieldNames[depth] = null;
+    if (depth == 0) {
+      finishValue();
+    }
+    return token;
+  }
+
+  /**
+   * Leaves the stream at the start of the next value, so a value is always read whole whether or
+   * not all of it was parsed.
+   */
+  private void finishValue() throws IOException {
+    inValue = false;
+    valueFinished = true;
+    buffer.position(buffer.limit());
+    while (valueBytesUnread > 0) {
+      long skipped = inputStream.skip(valueBytesUnread);
+      if (skipped <= 0) {
+        if (inputStream.read() < 0) {
+          throw truncated(valueLength - valueBytesUnread);
+        }
+        skipped = 1;
+      }
+      valueBytesUnread -= skipped;
+    }
+  }
+
+  private void pushContainer(int kind, int remaining) {
+    if (depth == containerKinds.length) {
+      int newLength = depth * 2;
+      containerKinds = Arrays.copyOf(containerKinds, newLength);
+      containerRemaining = Arrays.copyOf(containerRemaining, newLength);
+      pendingValueTypes = Arrays.copyOf(pendingValueTypes, newLength);
+      templateFieldNames = Arrays.copyOf(templateFieldNames, newLength);
+    }
+    containerKinds[depth] = kind;
+    containerRemaining[depth] = remaining;
+    pendingValueTypes[depth] = BSER_SKIP;
+    depth++;
+  }
+
+  private String readFieldName() throws IOException {
+    int length = readLength();
+    require(length);
+    String name = fieldNames.get(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+    if (name != null) {
+      buffer.position(buffer.position() + length);
+      return name;
+    }
+    int start = buffer.arrayOffset() + buffer.position();
+    name = decode(length).intern();
+    fieldNames.put(buffer.array(), start, length, name);
+    return name;
+  }
+
+  private String decode(int length) throws IOException {
+    // We use a CharsetDecoder here instead of String(byte[], Charset)
+    // because we want it to throw an exception for any non-UTF-8 input.
+    int limit = buffer.limit();
+    buffer.limit(buffer.position() + length);
+    try {
+      return utf8Decoder.decode(buffer).toString();
+    } finally {
+      buffer.limit(limit);
+    }
+  }
+
+  private byte readByte() throws IOException {
+    require(1);
+    return buffer.get();
+  }
+
+  private int readLength() throws IOException {
+    return checkLength(readNumber(readByte()));
+  }
+
+  private long readNumber(byte type) throws IOException {
+    switch (type) {
+      case BSER_INT8:
+        require(1);
+        break;
+      case BSER_INT16:
+        require(2);
+        break;
+      case BSER_INT32:
+        require(4);
+        break;
+      case BSER_INT64:
+        require(8);
+        break;
+      default:
+        throw new IOException(String.format("Invalid BSER number encoding %d", type));
+    }
+    return readNumber(buffer, type);
+  }
+
+  private static long readNumber(ByteBuffer buffer, byte type) throws IOException {
+    switch (type) {
+      case BSER_INT8:
+        return buffer.get();
+      case BSER_INT16:
+        return buffer.getShort();
+      case BSER_INT32:
+        return buffer.getInt();
+      case BSER_INT64:
+        return buffer.getLong();
+      default:
+        throw new IOException(String.format("Invalid BSER number encoding %d", type));
+    }
+  }
+
+  private static int checkLength(long value) throws IOException {
+    if (value > Integer.MAX_VALUE) {
+      throw new IOException(
+          String.format(
+              "BSER length out of range (%d > %d)",
+              value,
+              Integer.MAX_VALUE));
+    } else if (value < 0) {
+      throw new IOException(
+          String.format(
+              "BSER length out of range (%d < 0)",
+              value));
+    }
+    return (int) value;
+  }
+
+  /**
+   * Reads from the stream until at least {@code count} bytes of the value are in the buffer.
+   */
+  private void require(int count) throws IOException {
+    if (buffer.remaining() >= count) {
+      return;
+    }
+    if (count > buffer.remaining() + valueBytesUnread) {
+      throw new BserDeserializer.BserEofException("Prematurely reached end of BSER buffer");
+    }
+    if (count > buffer.capacity()) {
+      ByteBuffer larger = ByteBuffer.allocate(Math.max(count, buffer.capacity() * 2))
+          .order(ByteOrder.nativeOrder());
+      larger.put(buffer);
+      buffer = larger;
+    } else {
+      buffer.compact();
+    }
+    while (buffer.position() < count) {
+      int read = inputStream.read(
+          buffer.array(),
+          buffer.arrayOffset() + buffer.position(),
+          Math.min(buffer.remaining(), valueBytesUnread));
+      if (read < 0) {
+        throw truncated(valueLength - valueBytesUnread);
+      }
+      buffer.position(buffer.position() + read);
+      valueBytesUnread -= read;
+    }
+    buffer.flip();
+  }
+
+  private IOException truncated(int bytesRead) {
+    return new IOException(
+        String.format(
+            "Invalid BSER header (expected %d bytes, got %d bytes)",
+            valueLength,
+            bytesRead));
+  }
+
+  /**
+   * The names of fields already read, looked up by their encoded bytes, so that each name is
+   * decoded once however many objects it is used in.  Names stop being added once there are
+   * {@link #MAX_SIZE} of them, as objects with more distinct names are probably maps of paths,
+   * whose names aren't used again.
+   */
+  static class FieldNames {
+    private static final int MAX_SIZE = 4096;
+
+    private byte[][] encodedNames = new byte[64][];
+    private String[] names = new String[64];
+    private int size;
+
+    @Nullable
+    String get(byte[] bytes, int offset, int length) {
+      int mask = names.length - 1;
+      for (int i = hash(bytes, offset, length) & mask; names[i] != null; i = (i + 1) & mask) {
+        if (equal(encodedNames[i], bytes, offset, length)) {
+          return names[i];
+        }
+      }
+      return null;
+    }
+
+    void put(byte[] bytes, int offset, int length, String name) {
+      if (size == MAX_SIZE) {
+        return;
+      }
+      if ((size + 1) * 2 > names.length) {
+        byte[][] oldEncodedNames = encodedNames;
+        String[] oldNames = names;
+        encodedNames = new byte[oldNames.length * 2][];
+        names = new String[oldNames.length * 2];
+        for (int i = 0; i < oldNames.length; i++) {
+          if (oldNames[i] != null) {
+            insert(oldEncodedNames[i], oldNames[i]);
+          }
+        }
+      }
+      insert(Arrays.copyOfRange(bytes, offset, offset + length), name);
+      size++;
+    }
+
+    private void insert(byte[] encodedName, String name) {
+      int mask = names.length - 1;
+      int i = hash(encodedName, 0, encodedName.length) & mask;
+      while (names[i] != null) {
+        i = (i + 1) & mask;
+      }
+      encodedNames[i] = encodedName;
+      names[i] = name;
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+      int hash = 1;
+      for (int i = offset; i < offset + length; i++) {
+        hash = 31 * hash + bytes[i];
+      }
+      return hash ^ (hash >>> 16);
+    }
+
+    private static boolean equal(byte[] encodedName, byte[] bytes, int offset, int length) {
+      if (encodedName.length != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (encodedName[i] != bytes[offset + i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
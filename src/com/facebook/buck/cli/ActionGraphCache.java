@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.cli;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.Pair;
+import com.facebook.buck.rules.ActionGraph;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.TargetGraph;
+import com.facebook.buck.rules.TargetGraphToActionGraph;
+import com.facebook.buck.rules.TargetNode;
+import com.facebook.buck.rules.keys.DaemonicRuleKeyCache;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Sets;
+
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the action graph of the last command run by buckd, along with the rule keys of its rules,
+ * so that the next command can reuse both if it works on the same target graph.
+ * <p>
+ * The parser hands out the same {@link TargetNode}s for as long as their build files don't
+ * change, so a target graph made of the same nodes is transformed into the same action graph.
+ */
+class ActionGraphCache {
+
+  private static final Logger LOG = Logger.get(ActionGraphCache.class);
+
+  private final DaemonicRuleKeyCache ruleKeyCache;
+
+  @Nullable
+  private TargetGraph lastTargetGraph;
+  @Nullable
+  private Pair<ActionGraph, BuildRuleResolver> lastActionGraph;
+
+  public ActionGraphCache(DaemonicRuleKeyCache ruleKeyCache) {
+    this.ruleKeyCache = ruleKeyCache;
+  }
+
+  /**
+   * @return the rule keys kept for the rules of the last action graph.
+   */
+  public DaemonicRuleKeyCache getRuleKeyCache() {
+    return ruleKeyCache;
+  }
+
+  public synchronized Pair<ActionGraph, BuildRuleResolver> getActionGraph(
+      BuckEventBus eventBus,
+      TargetGraph targetGraph) {
+    if (lastActionGraph != null &&
+        isMadeOfTheSameNodes(Preconditions.checkNotNull(lastTargetGraph), targetGraph)) {
+      LOG.debug("Reusing the action graph of the last command.");
+      return lastActionGraph;
+    }
+
+    // The kept keys are of rules which are about to go away.
+    ruleKeyCache.invalidateAll();
+    lastTargetGraph = null;
+    lastActionGraph = null;
+
+    Pair<ActionGraph, BuildRuleResolver> actionGraph = Preconditions.checkNotNull(
+        new TargetGraphToActionGraph(eventBus, new BuildTargetNodeToBuildRuleTransformer())
+            .apply(targetGraph));
+    lastTargetGraph = targetGraph;
+    lastActionGraph = actionGraph;
+    return actionGraph;
+  }
+
+  private static boolean isMadeOfTheSameNodes(TargetGraph previous, TargetGraph current) {
+    if (previous == current) {
+      return true;
+    }
+    if (previous.getNodes().size() != current.getNodes().size()) {
+      return false;
+    }
+    Set<TargetNode<?>> previousNodes = Sets.newIdentityHashSet();
+    previousNodes.addAll(previous.getNodes());
+    for (TargetNode<?> node : current.getNodes()) {
+      if (!previousNodes.contains(node)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
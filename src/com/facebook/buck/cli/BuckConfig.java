@@ -28,6 +28,7 @@ import com.facebook.buck.parser.BuildTargetParseException;
 import com.facebook.buck.parser.BuildTargetParser;
 import com.facebook.buck.parser.BuildTargetPatternParser;
 import com.facebook.buck.rules.BinaryBuildRule;
+import com.facebook.buck.rules.BuildResources;
 import com.facebook.buck.rules.BuildRule;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.BuildTargetSourcePath;
@@ -39,8 +40,10 @@ import com.facebook.buck.rules.Tool;
 import com.facebook.buck.util.Ansi;
 import com.facebook.buck.util.AnsiEnvironmentChecking;
 import com.facebook.buck.util.HumanReadableException;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
 import com.facebook.buck.util.environment.Architecture;
 import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.facebook.buck.util.network.HostnameFetching;
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
@@ -61,6 +64,7 @@ import java.io.Reader;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -713,6 +717,64 @@ public class BuckConfig {
         .or(CachingBuildEngine.DepFiles.ENABLED);
   }
 
+  /**
+   * @return whether to keep the hashes of files on disk, so that later buck processes only need to
+   *     read the files which have changed since.
+   */
+  public boolean getPersistentFileHashCacheEnabled() {
+    return getBooleanValue("build", "persistent_file_hash_cache", false);
+  }
+
+  /**
+   * @return whether buckd should keep the action graph and rule keys between commands, so that
+   *     only the keys of the rules whose inputs changed are recomputed.
+   */
+  public boolean isIncrementalRuleKeysEnabled() {
+    return getBooleanValue("build", "incremental_rule_keys", false);
+  }
+
+  /**
+   * @return what to hash the contents of files and rule keys with.
+   */
+  public HashFunctionType getHashFunctionType() {
+    return getEnum("build", "hash_function", HashFunctionType.class).or(HashFunctionType.SHA1);
+  }
+
+  /**
+   * @return the resources of the machine which the steps the build engine runs at once have to
+   *     fit in, from {@code [resources]}, and what the steps of the rule types listed in
+   *     {@code [resources_per_rule]} use.
+   */
+  public BuildResources getBuildResources() {
+    long cpu = getLong("resources", "cpu").or((long) getNumThreads());
+    long memoryMb = getLong("resources", "memory_mb").or(Long.MAX_VALUE);
+    if (cpu <= 0 || cpu > Integer.MAX_VALUE || memoryMb <= 0) {
+      throw new HumanReadableException(
+          "Invalid values in [resources]: cpu = %d, memory_mb = %d. Expected positive amounts.",
+          cpu,
+          memoryMb);
+    }
+    ResourceAmounts budget = ResourceAmounts.of((int) cpu, memoryMb);
+    ImmutableMap.Builder<String, ResourceAmounts> amountsPerRuleType = ImmutableMap.builder();
+    for (Map.Entry<String, String> entry : getEntriesForSection("resources_per_rule").entrySet()) {
+      List<String> amounts = Splitter.on(',').trimResults().splitToList(entry.getValue());
+      try {
+        if (amounts.size() != 2) {
+          throw new NumberFormatException();
+        }
+        amountsPerRuleType.put(
+            entry.getKey(),
+            ResourceAmounts.of(Integer.parseInt(amounts.get(0)), Long.parseLong(amounts.get(1))));
+      } catch (IllegalArgumentException e) {
+        throw new HumanReadableException(
+            "Invalid value for %s in [resources_per_rule]: '%s'. Expected <cpu>, <memory_mb>.",
+            entry.getKey(),
+            entry.getValue());
+      }
+    }
+    return new BuildResources(budget, amountsPerRuleType.build());
+  }
+
   /**
    * @return the maximum number of entries to support in the depfile cache.
    */
@@ -735,7 +797,11 @@ public class BuckConfig {
         "build",
         "work_queue_execution_order",
         WorkQueueExecutionOrder.class)
-        .or(WorkQueueExecutionOrder.LIFO);
+        .or(
+            getDependencySchedulingOrder() ==
+                CachingBuildEngine.DependencySchedulingOrder.CRITICAL_PATH ?
+                WorkQueueExecutionOrder.PRIORITY :
+                WorkQueueExecutionOrder.LIFO);
   }
 
   /**
@@ -18,6 +18,7 @@ package com.facebook.buck.cli;
 
 import com.facebook.buck.android.AndroidPlatformTarget;
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCacheBuckConfig;
 import com.facebook.buck.artifact_cache.NoopArtifactCache;
 import com.facebook.buck.command.Build;
 import com.facebook.buck.event.BuckEventBus;
@@ -36,8 +37,11 @@ import com.facebook.buck.rules.BuildEvent;
 import com.facebook.buck.rules.BuildRule;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.CachingBuildEngine;
+import com.facebook.buck.rules.CachingBuildEngineOptions;
+import com.facebook.buck.rules.RuleDurations;
 import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.rules.TargetGraphToActionGraph;
+import com.facebook.buck.rules.keys.DaemonicRuleKeyCache;
 import com.facebook.buck.step.AdbOptions;
 import com.facebook.buck.step.ExecutionContext;
 import com.facebook.buck.step.TargetDevice;
@@ -372,12 +376,7 @@ public class BuildCommand extends AbstractCommand {
                   getArguments()));
       buildTargets = result.getFirst();
       buildTargetsHaveBeenCalculated = true;
-      TargetGraphToActionGraph targetGraphToActionGraph =
-          new TargetGraphToActionGraph(
-              params.getBuckEventBus(),
-              new BuildTargetNodeToBuildRuleTransformer());
-      actionGraphAndResolver = Preconditions.checkNotNull(
-          targetGraphToActionGraph.apply(result.getSecond()));
+      actionGraphAndResolver = createActionGraph(params, result.getSecond());
     } catch (BuildTargetException | BuildFileParseException e) {
       params.getBuckEventBus().post(ConsoleEvent.severe(
           MoreExceptions.getHumanReadableOrLocalizedMessage(e)));
@@ -415,6 +414,9 @@ public class BuildCommand extends AbstractCommand {
     if (isArtifactCacheDisabled()) {
       artifactCache = new NoopArtifactCache();
     }
+    ArtifactCacheBuckConfig artifactCacheConfig =
+        new ArtifactCacheBuckConfig(params.getBuckConfig());
+    RuleDurations ruleDurations = loadRuleDurations(params);
 
     try (Build build = createBuild(
         params.getBuckConfig(),
@@ -424,10 +426,19 @@ public class BuildCommand extends AbstractCommand {
         new CachingBuildEngine(
             executor,
             params.getFileHashCache(),
-            getBuildEngineMode().or(params.getBuckConfig().getBuildEngineMode()),
-            params.getBuckConfig().getDependencySchedulingOrder(),
-            params.getBuckConfig().getBuildDepFiles(),
-            params.getBuckConfig().getBuildMaxDepFileCacheEntries(),
+            CachingBuildEngineOptions.builder()
+                .setBuildMode(getBuildEngineMode().or(params.getBuckConfig().getBuildEngineMode()))
+                .setDependencySchedulingOrder(params.getBuckConfig().getDependencySchedulingOrder())
+                .setDepFiles(params.getBuckConfig().getBuildDepFiles())
+                .setMaxDepFileCacheEntries(params.getBuckConfig().getBuildMaxDepFileCacheEntries())
+                .setArtifactCodec(artifactCacheConfig.getArtifactCodec())
+                .setArtifactCompressionLevel(artifactCacheConfig.getArtifactCompressionLevel())
+                .setHashFunctionType(params.getBuckConfig().getHashFunctionType())
+                .setRuleDurations(ruleDurations)
+                .setBuildResources(params.getBuckConfig().getBuildResources())
+                .setDaemonicRuleKeyCache(getDaemonicRuleKeyCache(params))
+                .setBatchCacheFetches(artifactCacheConfig.getBatchFetches())
+                .build(),
             actionGraphAndResolver.getSecond()),
         artifactCache,
         params.getConsole(),
@@ -447,6 +458,76 @@ public class BuildCommand extends AbstractCommand {
           params.getBuckEventBus(),
           params.getConsole(),
           getPathToBuildReport(params.getBuckConfig()));
+    } finally {
+      saveRuleDurations(params, ruleDurations);
+    }
+  }
+
+  private static boolean isSchedulingByCriticalPath(BuckConfig buckConfig) {
+    return buckConfig.getDependencySchedulingOrder() ==
+        CachingBuildEngine.DependencySchedulingOrder.CRITICAL_PATH;
+  }
+
+  /**
+   * @return the action graph of {@code targetGraph}, which buckd reuses from the last command if
+   *     incremental rule keys are enabled and it was of the same target graph.
+   */
+  protected static Pair<ActionGraph, BuildRuleResolver> createActionGraph(
+      CommandRunnerParams params,
+      TargetGraph targetGraph) {
+    Optional<ActionGraphCache> actionGraphCache = params.getActionGraphCache();
+    if (actionGraphCache.isPresent() && params.getBuckConfig().isIncrementalRuleKeysEnabled()) {
+      return actionGraphCache.get().getActionGraph(params.getBuckEventBus(), targetGraph);
+    }
+    TargetGraphToActionGraph targetGraphToActionGraph =
+        new TargetGraphToActionGraph(
+            params.getBuckEventBus(),
+            new BuildTargetNodeToBuildRuleTransformer());
+    return Preconditions.checkNotNull(targetGraphToActionGraph.apply(targetGraph));
+  }
+
+  /**
+   * @return the rule keys buckd kept for the rules of an action graph from
+   *     {@link #createActionGraph}, if incremental rule keys are enabled.
+   */
+  protected static Optional<DaemonicRuleKeyCache> getDaemonicRuleKeyCache(
+      CommandRunnerParams params) {
+    Optional<ActionGraphCache> actionGraphCache = params.getActionGraphCache();
+    if (actionGraphCache.isPresent() && params.getBuckConfig().isIncrementalRuleKeysEnabled()) {
+      return Optional.of(actionGraphCache.get().getRuleKeyCache());
+    }
+    return Optional.absent();
+  }
+
+  /**
+   * @return how long rules took to build locally in earlier builds, if the build engine is going
+   *     to schedule by them, or no durations otherwise.
+   */
+  protected static RuleDurations loadRuleDurations(CommandRunnerParams params) {
+    if (!isSchedulingByCriticalPath(params.getBuckConfig())) {
+      return RuleDurations.empty();
+    }
+    return RuleDurations.load(
+        params.getObjectMapper(),
+        params.getCell().getFilesystem().resolve(RuleDurations.PATH));
+  }
+
+  /**
+   * Keeps the durations of the rules built for the next build to schedule by.
+   */
+  protected static void saveRuleDurations(
+      CommandRunnerParams params,
+      RuleDurations ruleDurations) {
+    if (!isSchedulingByCriticalPath(params.getBuckConfig())) {
+      return;
+    }
+    try {
+      ruleDurations.save(
+          params.getObjectMapper(),
+          params.getCell().getFilesystem().resolve(RuleDurations.PATH));
+    } catch (IOException e) {
+      params.getBuckEventBus().post(
+          ConsoleEvent.warning("Failed to save the durations of rules: %s", e.getMessage()));
     }
   }
 
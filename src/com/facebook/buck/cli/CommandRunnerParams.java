@@ -57,6 +57,7 @@ class CommandRunnerParams {
   private final Optional<WebServer> webServer;
   private final BuckConfig buckConfig;
   private final FileHashCache fileHashCache;
+  private final Optional<ActionGraphCache> actionGraphCache;
   private final Map<ExecutionContext.ExecutorPool, ListeningExecutorService> executors;
 
   public CommandRunnerParams(
@@ -75,6 +76,7 @@ class CommandRunnerParams {
       Optional<WebServer> webServer,
       BuckConfig buckConfig,
       FileHashCache fileHashCache,
+      Optional<ActionGraphCache> actionGraphCache,
       Map<ExecutionContext.ExecutorPool, ListeningExecutorService> executors) {
     this.console = console;
     this.cell = cell;
@@ -91,6 +93,7 @@ class CommandRunnerParams {
     this.webServer = webServer;
     this.buckConfig = buckConfig;
     this.fileHashCache = fileHashCache;
+    this.actionGraphCache = actionGraphCache;
     this.executors = executors;
   }
 
@@ -154,6 +157,13 @@ class CommandRunnerParams {
     return fileHashCache;
   }
 
+  /**
+   * @return where buckd keeps the action graph between commands, if running in buckd.
+   */
+  public Optional<ActionGraphCache> getActionGraphCache() {
+    return actionGraphCache;
+  }
+
   public Map<ExecutionContext.ExecutorPool, ListeningExecutorService> getExecutors() {
     return executors;
   }
@@ -17,6 +17,7 @@
 package com.facebook.buck.cli;
 
 import com.facebook.buck.android.DefaultAndroidDirectoryResolver;
+import com.facebook.buck.artifact_cache.ArtifactCacheBuckConfig;
 import com.facebook.buck.command.Build;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.file.Downloader;
@@ -30,6 +31,7 @@ import com.facebook.buck.rules.ActionGraph;
 import com.facebook.buck.rules.BuildEvent;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.CachingBuildEngine;
+import com.facebook.buck.rules.CachingBuildEngineOptions;
 import com.facebook.buck.rules.Description;
 import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.rules.TargetGraphToActionGraph;
@@ -96,6 +98,8 @@ public class FetchCommand extends BuildCommand {
         return 1;
       }
 
+      ArtifactCacheBuckConfig artifactCacheConfig =
+          new ArtifactCacheBuckConfig(params.getBuckConfig());
       try (Build build = createBuild(
           params.getBuckConfig(),
           actionGraphAndResolver.getFirst(),
@@ -104,10 +108,18 @@ public class FetchCommand extends BuildCommand {
           new CachingBuildEngine(
               pool.getExecutor(),
               params.getFileHashCache(),
-              getBuildEngineMode().or(params.getBuckConfig().getBuildEngineMode()),
-              params.getBuckConfig().getDependencySchedulingOrder(),
-              params.getBuckConfig().getBuildDepFiles(),
-              params.getBuckConfig().getBuildMaxDepFileCacheEntries(),
+              CachingBuildEngineOptions.builder()
+                  .setBuildMode(
+                      getBuildEngineMode().or(params.getBuckConfig().getBuildEngineMode()))
+                  .setDependencySchedulingOrder(
+                      params.getBuckConfig().getDependencySchedulingOrder())
+                  .setDepFiles(params.getBuckConfig().getBuildDepFiles())
+                  .setMaxDepFileCacheEntries(
+                      params.getBuckConfig().getBuildMaxDepFileCacheEntries())
+                  .setArtifactCodec(artifactCacheConfig.getArtifactCodec())
+                  .setArtifactCompressionLevel(artifactCacheConfig.getArtifactCompressionLevel())
+                  .setHashFunctionType(params.getBuckConfig().getHashFunctionType())
+                  .build(),
               actionGraphAndResolver.getSecond()),
           params.getArtifactCache(),
           params.getConsole(),
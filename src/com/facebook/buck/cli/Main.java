@@ -34,11 +34,13 @@ import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.BuckEventListener;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.event.listener.AbstractConsoleEventBusListener;
+import com.facebook.buck.event.listener.BuildEngineCountersListener;
 import com.facebook.buck.event.listener.ChromeTraceBuildListener;
 import com.facebook.buck.event.listener.FileSerializationEventBusListener;
 import com.facebook.buck.event.listener.JavaUtilsLoggingBuildListener;
 import com.facebook.buck.event.listener.LoadBalancerEventsListener;
 import com.facebook.buck.event.listener.LoggingBuildListener;
+import com.facebook.buck.event.listener.ParserPoolCountersListener;
 import com.facebook.buck.event.listener.ProgressEstimator;
 import com.facebook.buck.event.listener.RemoteLogUploaderEventListener;
 import com.facebook.buck.event.listener.SimpleConsoleEventBusListener;
@@ -65,6 +67,7 @@ import com.facebook.buck.rules.KnownBuildRuleTypes;
 import com.facebook.buck.rules.KnownBuildRuleTypesFactory;
 import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.rules.keys.DaemonicRuleKeyCache;
 import com.facebook.buck.step.ExecutionContext;
 import com.facebook.buck.test.TestConfig;
 import com.facebook.buck.test.TestResultSummaryVerbosity;
@@ -89,7 +92,9 @@ import com.facebook.buck.util.Verbosity;
 import com.facebook.buck.util.WatchmanWatcher;
 import com.facebook.buck.util.WatchmanWatcherException;
 import com.facebook.buck.util.cache.DefaultFileHashCache;
+import com.facebook.buck.util.cache.DefaultFileHashCacheOptions;
 import com.facebook.buck.util.cache.FileHashCache;
+import com.facebook.buck.util.cache.PersistentFileHashStore;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.facebook.buck.util.cache.StackedFileHashCache;
 import com.facebook.buck.util.cache.WatchedFileHashCache;
@@ -101,6 +106,7 @@ import com.facebook.buck.util.environment.DefaultExecutionEnvironment;
 import com.facebook.buck.util.environment.EnvironmentFilter;
 import com.facebook.buck.util.environment.ExecutionEnvironment;
 import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.facebook.buck.util.network.RemoteLoggerFactory;
 import com.facebook.buck.util.versioncontrol.DefaultVersionControlCmdLineInterfaceFactory;
 import com.facebook.buck.util.versioncontrol.VersionControlBuckConfig;
@@ -188,6 +194,9 @@ public final class Main {
   private static final int DISK_IO_STATS_TIMEOUT_SECONDS = 10;
   private static final int EXECUTOR_SERVICES_TIMEOUT_SECONDS = 60;
 
+  private static final Path FILE_HASH_STORE_PATH =
+      BuckConstant.BUCK_OUTPUT_PATH.resolve("file_hashes");
+
   private final PrintStream stdOut;
   private final PrintStream stdErr;
   private final ImmutableList<BuckEventListener> externalEventsListeners;
@@ -239,33 +248,55 @@ public final class Main {
     private final Parser parser;
     private final DefaultFileHashCache hashCache;
     private final DefaultFileHashCache buckOutHashCache;
+    private final Optional<PersistentFileHashStore> fileHashStore;
     private final EventBus fileEventBus;
+    private final ActionGraphCache actionGraphCache;
     private final Optional<WebServer> webServer;
     private final UUID watchmanQueryUUID;
 
     public Daemon(
         Cell cell,
         ObjectMapper objectMapper,
-        Optional<WebServer> webServerToReuse)
+        Optional<WebServer> webServerToReuse,
+        Optional<Parser> parserToReuse)
         throws IOException, InterruptedException {
       this.cell = cell;
-      this.hashCache = new WatchedFileHashCache(cell.getFilesystem());
+      HashFunctionType hashFunctionType = cell.getBuckConfig().getHashFunctionType();
+      this.fileHashStore = loadPersistentFileHashStore(cell);
+      this.hashCache =
+          new WatchedFileHashCache(
+              cell.getFilesystem(),
+              DefaultFileHashCacheOptions.builder()
+                  .setPersistentStore(fileHashStore)
+                  .setHashFunctionType(hashFunctionType)
+                  .build());
       this.buckOutHashCache =
           new DefaultFileHashCache(
               new ProjectFilesystem(
                   cell.getFilesystem().getRootPath(),
                   Optional.of(ImmutableSet.of(BuckConstant.BUCK_OUTPUT_PATH)),
-                  ImmutableSet.<ProjectFilesystem.PathOrGlobMatcher>of()));
+                  ImmutableSet.<ProjectFilesystem.PathOrGlobMatcher>of()),
+              DefaultFileHashCacheOptions.builder()
+                  .setHashFunctionType(hashFunctionType)
+                  .build());
       this.fileEventBus = new EventBus("file-change-events");
 
-      TypeCoercerFactory typeCoercerFactory = new DefaultTypeCoercerFactory();
-      this.parser = new Parser(
-          new ParserConfig(cell.getBuckConfig()),
-          typeCoercerFactory,
-          new ConstructorArgMarshaller(typeCoercerFactory));
+      if (parserToReuse.isPresent()) {
+        this.parser = parserToReuse.get();
+      } else {
+        TypeCoercerFactory typeCoercerFactory = new DefaultTypeCoercerFactory();
+        this.parser = new Parser(
+            new ParserConfig(cell.getBuckConfig()),
+            typeCoercerFactory,
+            new ConstructorArgMarshaller(typeCoercerFactory));
+      }
       fileEventBus.register(parser);
       fileEventBus.register(hashCache);
 
+      DaemonicRuleKeyCache ruleKeyCache = new DaemonicRuleKeyCache(cell.getFilesystem());
+      this.actionGraphCache = new ActionGraphCache(ruleKeyCache);
+      fileEventBus.register(ruleKeyCache);
+
       if (webServerToReuse.isPresent()) {
         webServer = webServerToReuse;
       } else {
@@ -341,6 +372,14 @@ public final class Main {
       return buckOutHashCache;
     }
 
+    private Optional<PersistentFileHashStore> getFileHashStore() {
+      return fileHashStore;
+    }
+
+    private ActionGraphCache getActionGraphCache() {
+      return actionGraphCache;
+    }
+
     private void watchClient(final NGContext context) {
       context.addClientListener(new NGClientListener() {
         @Override
@@ -405,9 +444,20 @@ public final class Main {
       return watchmanQueryUUID;
     }
 
+    /**
+     * @return whether the parser can go on being used once the config has changed to that of
+     *     {@code newCell}. It works out for itself which build files read the values which
+     *     changed, so that only those are parsed again.
+     */
+    private boolean canReuseParser(Cell newCell) {
+      return new ParserConfig(cell.getBuckConfig()).getNumParsingThreads() ==
+          new ParserConfig(newCell.getBuckConfig()).getNumParsingThreads();
+    }
+
     @Override
     public void close() throws IOException {
       shutdownWebServer();
+      parser.close();
     }
 
     private void shutdownWebServer() {
@@ -435,7 +485,7 @@ public final class Main {
     Optional<WebServer> webServer = Optional.absent();
     if (daemon == null) {
       LOG.debug("Starting up daemon for project root [%s]", rootPath);
-      daemon = new Daemon(cell, objectMapper, webServer);
+      daemon = new Daemon(cell, objectMapper, webServer, Optional.<Parser>absent());
     } else {
       // Buck daemons cache build files within a single project root, changing to a different
       // project root is not supported and will likely result in incorrect builds. The buck and
@@ -449,19 +499,27 @@ public final class Main {
       }
 
       // If Buck config or the AndroidDirectoryResolver has changed, invalidate the cache and
-      // create a new daemon.
+      // create a new daemon. The parser is kept, as it only parses again the build files which
+      // the change affects.
       if (!daemon.cell.equals(cell)) {
         LOG.warn(
             "Shutting down and restarting daemon on config or directory resolver change (%s != %s)",
             daemon.cell,
             cell);
+        Optional<Parser> parser = Optional.absent();
+        if (daemon.canReuseParser(cell)) {
+          parser = Optional.of(daemon.getParser());
+          LOG.info("Reusing parser");
+        } else {
+          daemon.getParser().close();
+        }
         if (shouldReuseWebServer(cell)) {
           webServer = daemon.getWebServer();
           LOG.info("Reusing web server");
         } else {
-          daemon.close();
+          daemon.shutdownWebServer();
         }
-        daemon = new Daemon(cell, objectMapper, webServer);
+        daemon = new Daemon(cell, objectMapper, webServer, parser);
       }
     }
     return daemon;
@@ -763,17 +821,33 @@ public final class Main {
 
       ProjectFileHashCache cellHashCache;
       ProjectFileHashCache buckOutHashCache;
+      final Optional<PersistentFileHashStore> fileHashStore;
+      Optional<ActionGraphCache> actionGraphCache;
+      HashFunctionType hashFunctionType = buckConfig.getHashFunctionType();
+      DefaultFileHashCacheOptions hashOptions =
+          DefaultFileHashCacheOptions.builder().setHashFunctionType(hashFunctionType).build();
       if (isDaemon) {
         cellHashCache = getFileHashCacheFromDaemon(rootCell);
         buckOutHashCache = getBuckOutFileHashCacheFromDaemon(rootCell);
+        fileHashStore = getDaemon(rootCell, objectMapper).getFileHashStore();
+        actionGraphCache = Optional.of(getDaemon(rootCell, objectMapper).getActionGraphCache());
       } else {
-        cellHashCache = new DefaultFileHashCache(rootCell.getFilesystem());
+        fileHashStore = loadPersistentFileHashStore(rootCell);
+        actionGraphCache = Optional.absent();
+        cellHashCache =
+            new DefaultFileHashCache(
+                rootCell.getFilesystem(),
+                DefaultFileHashCacheOptions.builder()
+                    .setPersistentStore(fileHashStore)
+                    .setHashFunctionType(hashFunctionType)
+                    .build());
         buckOutHashCache =
             new DefaultFileHashCache(
                 new ProjectFilesystem(
                     rootCell.getFilesystem().getRootPath(),
                     Optional.of(ImmutableSet.of(BuckConstant.BUCK_OUTPUT_PATH)),
-                    ImmutableSet.<ProjectFilesystem.PathOrGlobMatcher>of()));
+                    ImmutableSet.<ProjectFilesystem.PathOrGlobMatcher>of()),
+                hashOptions);
       }
 
       // Build up the hash cache, which is a collection of the stateful cell cache and some per-run
@@ -786,7 +860,8 @@ public final class Main {
       // the main cell cache, and only serves to prevent rehashing the same file multiple
       // times in a single run.
       allCaches.add(new DefaultFileHashCache(
-          new ProjectFilesystem(rootCell.getFilesystem().getRootPath())));
+          new ProjectFilesystem(rootCell.getFilesystem().getRootPath()),
+          hashOptions));
 
       for (Path root : FileSystems.getDefault().getRootDirectories()) {
         if (!root.toFile().exists()) {
@@ -800,7 +875,7 @@ public final class Main {
         // A cache which caches hashes of absolute paths which my be accessed by certain
         // rules (e.g. /usr/bin/gcc), and only serves to prevent rehashing the same file
         // multiple times in a single run.
-        allCaches.add(new DefaultFileHashCache(new ProjectFilesystem(root)));
+        allCaches.add(new DefaultFileHashCache(new ProjectFilesystem(root), hashOptions));
       }
 
       FileHashCache fileHashCache = new StackedFileHashCache(allCaches.build());
@@ -940,10 +1015,12 @@ public final class Main {
 
         if (parser == null) {
           TypeCoercerFactory typeCoercerFactory = new DefaultTypeCoercerFactory();
-          parser = new Parser(
-              new ParserConfig(rootCell.getBuckConfig()),
-              typeCoercerFactory,
-              new ConstructorArgMarshaller(typeCoercerFactory));
+          // Stop this command's build file parsers when it finishes, as nothing will reuse them.
+          parser = asyncCloseable.closeAsync(
+              new Parser(
+                  new ParserConfig(rootCell.getBuckConfig()),
+                  typeCoercerFactory,
+                  new ConstructorArgMarshaller(typeCoercerFactory)));
         }
         JavaUtilsLoggingBuildListener.ensureLogFileIsWritten(rootCell.getFilesystem());
 
@@ -990,6 +1067,7 @@ public final class Main {
                 webServer,
                 buckConfig,
                 fileHashCache,
+                actionGraphCache,
                 executors));
         // Wait for HTTP writes to complete.
         closeHttpExecutorService(
@@ -1017,6 +1095,7 @@ public final class Main {
         for (ExecutionContext.ExecutorPool p: executors.keySet()) {
           closeExecutorService(p.toString(), executors.get(p), EXECUTOR_SERVICES_TIMEOUT_SECONDS);
         }
+        savePersistentFileHashStore(fileHashStore);
       }
       if (context.isPresent() && !rootCell.getBuckConfig().getFlushEventsBeforeExit()) {
         context.get().in.close(); // Avoid client exit triggering client disconnection handling.
@@ -1029,6 +1108,37 @@ public final class Main {
     }
   }
 
+  private static Optional<PersistentFileHashStore> loadPersistentFileHashStore(Cell cell) {
+    if (!cell.getBuckConfig().getPersistentFileHashCacheEnabled()) {
+      return Optional.absent();
+    }
+    // Hashes made with different functions are kept apart, so switching back and forth between
+    // them doesn't mix them up.
+    HashFunctionType hashFunctionType = cell.getBuckConfig().getHashFunctionType();
+    Path storePath = FILE_HASH_STORE_PATH;
+    if (hashFunctionType != HashFunctionType.SHA1) {
+      storePath = storePath.resolveSibling(
+          storePath.getFileName() + "-" + hashFunctionType.toString().toLowerCase(Locale.ROOT));
+    }
+    return Optional.of(
+        PersistentFileHashStore.load(
+            cell.getFilesystem().resolve(storePath),
+            new DefaultClock()));
+  }
+
+  private static void savePersistentFileHashStore(
+      Optional<PersistentFileHashStore> fileHashStore) {
+    if (!fileHashStore.isPresent()) {
+      return;
+    }
+    try {
+      fileHashStore.get().save();
+    } catch (IOException e) {
+      // The next process will just have to hash the files again.
+      LOG.warn(e, "Failed to save file hashes.");
+    }
+  }
+
   private static void closeExecutorService(
       String executorName,
       ExecutorService executorService,
@@ -1319,6 +1429,8 @@ public final class Main {
     }
 
     eventListenersBuilder.add(new LoadBalancerEventsListener(counterRegistry));
+    eventListenersBuilder.add(new BuildEngineCountersListener(counterRegistry));
+    eventListenersBuilder.add(new ParserPoolCountersListener(counterRegistry));
 
     eventListenersBuilder.addAll(externalEventsListeners);
 
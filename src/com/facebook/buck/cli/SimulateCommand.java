@@ -47,6 +47,7 @@ public class SimulateCommand extends AbstractCommand {
   private static final String TIMES_FILE_STRING_ARG = "--times-file";
   private static final String REPORT_FILE_STRING_ARG = "--report-file";
   private static final String RULE_FALLBACK_TIME_MILLIS_ARG = "--rule-fallback-time-millis";
+  private static final String SCHEDULING_ORDER_ARG = "--scheduling-order";
 
   @Option(
       name = REPORT_FILE_STRING_ARG,
@@ -64,6 +65,13 @@ public class SimulateCommand extends AbstractCommand {
           "this value will be used instead. default=10ms")
   private long ruleFallbackTimeMillis = 10;
 
+  @Option(
+      name = SCHEDULING_ORDER_ARG,
+      usage = "The order in which targets whose dependencies are built get started: FIFO, or " +
+          "CRITICAL_PATH to start those with the longest chain of targets waiting on them " +
+          "first. default=FIFO")
+  private BuildSimulator.SchedulingOrder schedulingOrder = BuildSimulator.SchedulingOrder.FIFO;
+
   @Argument
   private List<String> arguments = Lists.newArrayList();
 
@@ -97,7 +105,8 @@ public class SimulateCommand extends AbstractCommand {
         times,
         actionGraphAndResolver.getFirst(),
         actionGraphAndResolver.getSecond(),
-        params.getBuckConfig().getNumThreads());
+        params.getBuckConfig().getNumThreads(),
+        schedulingOrder);
     SimulateReport report = simulator.simulateBuild(
         params.getClock().currentTimeMillis(),
         buildCommand.getBuildTargets());
@@ -153,6 +162,9 @@ public class SimulateCommand extends AbstractCommand {
     builder.add(RULE_FALLBACK_TIME_MILLIS_ARG);
     builder.add(Long.toString(ruleFallbackTimeMillis));
 
+    builder.add(SCHEDULING_ORDER_ARG);
+    builder.add(schedulingOrder.toString());
+
     return builder.build();
   }
 }
@@ -52,6 +52,7 @@ import com.facebook.buck.rules.TargetGraphTransformer;
 import com.facebook.buck.rules.TargetNode;
 import com.facebook.buck.rules.TargetNodes;
 import com.facebook.buck.rules.keys.DefaultRuleKeyBuilderFactory;
+import com.facebook.buck.rules.keys.DefaultRuleKeyBuilderFactoryOptions;
 import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.MoreExceptions;
 import com.facebook.buck.util.immutables.BuckStyleImmutable;
@@ -715,7 +716,10 @@ public class TargetsCommand extends AbstractCommand {
         ruleKeyBuilderFactory = Optional.<RuleKeyBuilderFactory>of(
             new DefaultRuleKeyBuilderFactory(
                 params.getFileHashCache(),
-                new SourcePathResolver(result.getSecond())));
+                new SourcePathResolver(result.getSecond()),
+                DefaultRuleKeyBuilderFactoryOptions.builder()
+                    .setHashFunctionType(params.getBuckConfig().getHashFunctionType())
+                    .build()));
       }
     }
 
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.cli;
 
+import com.facebook.buck.artifact_cache.ArtifactCacheBuckConfig;
 import com.facebook.buck.command.Build;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.json.BuildFileParseException;
@@ -30,11 +31,12 @@ import com.facebook.buck.rules.BuildEngine;
 import com.facebook.buck.rules.BuildEvent;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.CachingBuildEngine;
+import com.facebook.buck.rules.CachingBuildEngineOptions;
 import com.facebook.buck.rules.ExternalTestRunnerRule;
 import com.facebook.buck.rules.ExternalTestRunnerTestSpec;
 import com.facebook.buck.rules.Label;
+import com.facebook.buck.rules.RuleDurations;
 import com.facebook.buck.rules.TargetGraph;
-import com.facebook.buck.rules.TargetGraphToActionGraph;
 import com.facebook.buck.rules.TargetNode;
 import com.facebook.buck.rules.TargetNodes;
 import com.facebook.buck.rules.TestRule;
@@ -439,12 +441,8 @@ public class TestCommand extends BuildCommand {
         return 1;
       }
 
-      TargetGraphToActionGraph targetGraphToActionGraph =
-          new TargetGraphToActionGraph(
-              params.getBuckEventBus(),
-              new BuildTargetNodeToBuildRuleTransformer());
       Pair<ActionGraph, BuildRuleResolver> actionGraphAndResolver =
-          Preconditions.checkNotNull(targetGraphToActionGraph.apply(targetGraph));
+          createActionGraph(params, targetGraph);
 
       // Look up all of the test rules in the action graph.
       Iterable<TestRule> testRules = Iterables.filter(
@@ -461,14 +459,29 @@ public class TestCommand extends BuildCommand {
         printMatchingTestRules(params.getConsole(), testRules);
       }
 
+      ArtifactCacheBuckConfig artifactCacheConfig =
+          new ArtifactCacheBuckConfig(params.getBuckConfig());
+      RuleDurations ruleDurations = loadRuleDurations(params);
       CachingBuildEngine cachingBuildEngine =
           new CachingBuildEngine(
               pool.getExecutor(),
               params.getFileHashCache(),
-              getBuildEngineMode().or(params.getBuckConfig().getBuildEngineMode()),
-              params.getBuckConfig().getDependencySchedulingOrder(),
-              params.getBuckConfig().getBuildDepFiles(),
-              params.getBuckConfig().getBuildMaxDepFileCacheEntries(),
+              CachingBuildEngineOptions.builder()
+                  .setBuildMode(
+                      getBuildEngineMode().or(params.getBuckConfig().getBuildEngineMode()))
+                  .setDependencySchedulingOrder(
+                      params.getBuckConfig().getDependencySchedulingOrder())
+                  .setDepFiles(params.getBuckConfig().getBuildDepFiles())
+                  .setMaxDepFileCacheEntries(
+                      params.getBuckConfig().getBuildMaxDepFileCacheEntries())
+                  .setArtifactCodec(artifactCacheConfig.getArtifactCodec())
+                  .setArtifactCompressionLevel(artifactCacheConfig.getArtifactCompressionLevel())
+                  .setHashFunctionType(params.getBuckConfig().getHashFunctionType())
+                  .setRuleDurations(ruleDurations)
+                  .setBuildResources(params.getBuckConfig().getBuildResources())
+                  .setDaemonicRuleKeyCache(getDaemonicRuleKeyCache(params))
+                  .setBatchCacheFetches(artifactCacheConfig.getBatchFetches())
+                  .build(),
               actionGraphAndResolver.getSecond());
       try (Build build = createBuild(
           params.getBuckConfig(),
@@ -496,6 +509,7 @@ public class TestCommand extends BuildCommand {
             params.getConsole(),
             getPathToBuildReport(params.getBuckConfig()));
         params.getBuckEventBus().post(BuildEvent.finished(started, exitCode));
+        saveRuleDurations(params, ruleDurations);
         if (exitCode != 0) {
           return exitCode;
         }
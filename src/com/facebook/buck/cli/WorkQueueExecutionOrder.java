@@ -17,6 +17,7 @@
 package com.facebook.buck.cli;
 
 import com.facebook.buck.util.concurrent.LinkedBlockingStack;
+import com.facebook.buck.util.concurrent.PrioritizedRunnable;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -37,6 +38,16 @@ public enum WorkQueueExecutionOrder {
     }
   },
 
+  /**
+   * Runs the highest priority {@link PrioritizedRunnable} first, and anything else ahead of it.
+   */
+  PRIORITY {
+    @Override
+    public BlockingQueue<Runnable> newWorkQueue() {
+      return PrioritizedRunnable.newWorkQueue();
+    }
+  },
+
   ;
 
   public abstract BlockingQueue<Runnable> newWorkQueue();
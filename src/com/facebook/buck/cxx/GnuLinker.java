@@ -194,7 +194,7 @@ public class GnuLinker implements Linker {
         BuildableContext buildableContext) {
       final Path linkerScript = getLinkerScript();
       buildableContext.recordArtifact(linkerScript);
-      return ImmutableList.of(
+      return ImmutableList.<Step>of(
           new MkdirStep(getProjectFilesystem(), linkerScript.getParent()),
           new WriteFileStep(
               getProjectFilesystem(),
@@ -419,6 +419,8 @@ public abstract class AbstractConsoleEventBusListener implements BuckEventListen
       } else {
         httpArtifactUploadFailedCount.incrementAndGet();
       }
+    } else if (event.isPrefetch()) {
+      networkStatsKeeper.artifactPrefetchFinished(event);
     } else {
       networkStatsKeeper.artifactDownloadFinished(event);
     }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.counters.CounterRegistry;
+import com.facebook.buck.counters.IntegerCounter;
+import com.facebook.buck.event.BuckEventListener;
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.rules.BuildEngineContentionEvent;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps counters of how often the threads of the build engine got in each other's way.
+ */
+public class BuildEngineCountersListener implements BuckEventListener {
+  public static final String COUNTER_CATEGORY = "buck_build_engine_counters";
+
+  private final IntegerCounter ruleKeyRaces;
+  private final IntegerCounter ruleDepsRaces;
+  private final IntegerCounter resultsLockContentions;
+
+  public BuildEngineCountersListener(CounterRegistry registry) {
+    ruleKeyRaces = registry.newIntegerCounter(
+        COUNTER_CATEGORY,
+        "rule_key_races",
+        ImmutableMap.<String, String>of());
+    ruleDepsRaces = registry.newIntegerCounter(
+        COUNTER_CATEGORY,
+        "rule_deps_races",
+        ImmutableMap.<String, String>of());
+    resultsLockContentions = registry.newIntegerCounter(
+        COUNTER_CATEGORY,
+        "results_lock_contentions",
+        ImmutableMap.<String, String>of());
+  }
+
+  @Subscribe
+  public void onBuildEngineContentionEvent(BuildEngineContentionEvent event) {
+    ruleKeyRaces.inc(event.getRuleKeyRaces());
+    ruleDepsRaces.inc(event.getRuleDepsRaces());
+    resultsLockContentions.inc(event.getResultsLockContentions());
+  }
+
+  @Override
+  public void outputTrace(BuildId buildId) throws InterruptedException {
+    // Nothing to do.
+  }
+}
@@ -39,6 +39,7 @@ public class NetworkStatsKeeper {
   private final AtomicLong bytesDownloaded;
   private final AtomicLong bytesDownloadedInLastInterval;
   private final AtomicLong artifactDownloaded;
+  private final AtomicLong artifactPrefetched;
   private long artifactDownloadInProgressCount;
   private double downloadSpeedForLastInterval;
   private long firstDownloadStartTimestamp;
@@ -52,6 +53,7 @@ public class NetworkStatsKeeper {
     this.bytesDownloaded = new AtomicLong(0);
     this.bytesDownloadedInLastInterval = new AtomicLong(0);
     this.artifactDownloaded = new AtomicLong(0);
+    this.artifactPrefetched = new AtomicLong(0);
     this.artifactDownloadInProgressCount = 0;
     this.downloadSpeedForLastInterval = 0;
     this.firstDownloadStartTimestamp = 0;
@@ -140,8 +142,25 @@ public class NetworkStatsKeeper {
     return artifactDownloaded.get();
   }
 
+  /**
+   * @return how many lookups were made ahead of the build, which aren't counted as downloads as
+   *     the build may never use what they fetch.
+   */
+  public long getArtifactPrefetched() {
+    return artifactPrefetched.get();
+  }
+
   public void artifactDownloadFinished(HttpArtifactCacheEvent.Finished event) {
     artifactDownloaded.incrementAndGet();
+    downloadFinished(event);
+  }
+
+  public void artifactPrefetchFinished(HttpArtifactCacheEvent.Finished event) {
+    artifactPrefetched.incrementAndGet();
+    downloadFinished(event);
+  }
+
+  private void downloadFinished(HttpArtifactCacheEvent.Finished event) {
     synchronized (this) {
       --artifactDownloadInProgressCount;
       if (event.getTimestamp() > lastDownloadFinishedTimeMs) {
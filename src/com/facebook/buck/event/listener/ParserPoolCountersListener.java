@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.counters.CounterRegistry;
+import com.facebook.buck.counters.IntegerCounter;
+import com.facebook.buck.event.BuckEventListener;
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.parser.BuildFileParserPoolEvent;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps counters of how busy the shared build file parsers were, and how long the parse waited
+ * for them.
+ */
+public class ParserPoolCountersListener implements BuckEventListener {
+  public static final String COUNTER_CATEGORY = "buck_parser_pool_counters";
+
+  private final IntegerCounter leases;
+  private final IntegerCounter leaseWaits;
+  private final IntegerCounter leaseWaitMillis;
+  private final IntegerCounter busyMillis;
+  private final IntegerCounter capacityMillis;
+  private final IntegerCounter parserStarts;
+
+  public ParserPoolCountersListener(CounterRegistry registry) {
+    leases = registry.newIntegerCounter(
+        COUNTER_CATEGORY,
+        "leases",
+        ImmutableMap.<String, String>of());
+    leaseWaits = registry.newIntegerCounter(
+        COUNTER_CATEGORY,
+        "lease_waits",
+        ImmutableMap.<String, String>of());
+    leaseWaitMillis = registry.newIntegerCounter(
+        COUNTER_CATEGORY,
+        "lease_wait_millis",
+        ImmutableMap.<String, String>of());
+    busyMillis = registry.newIntegerCounter(
+        COUNTER_CATEGORY,
+        "busy_millis",
+        ImmutableMap.<String, String>of());
+    capacityMillis = registry.newIntegerCounter(
+        COUNTER_CATEGORY,
+        "capacity_millis",
+        ImmutableMap.<String, String>of());
+    parserStarts = registry.newIntegerCounter(
+        COUNTER_CATEGORY,
+        "parser_starts",
+        ImmutableMap.<String, String>of());
+  }
+
+  @Subscribe
+  public void onBuildFileParserPoolEvent(BuildFileParserPoolEvent event) {
+    leases.inc(event.getLeases());
+    leaseWaits.inc(event.getLeaseWaits());
+    leaseWaitMillis.inc(event.getLeaseWaitMillis());
+    busyMillis.inc(event.getBusyMillis());
+    capacityMillis.inc(event.getCapacityMillis());
+    parserStarts.inc(event.getParserStarts());
+  }
+
+  @Override
+  public void outputTrace(BuildId buildId) throws InterruptedException {
+    // Nothing to do.
+  }
+}
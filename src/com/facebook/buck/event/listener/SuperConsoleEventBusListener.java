@@ -459,6 +459,10 @@ public class SuperConsoleEventBusListener extends AbstractConsoleEventBusListene
             locale,
             "%d Artifacts",
             networkStatsKeeper.getDownloadedArtifactDownloaded()));
+    long artifactsPrefetched = networkStatsKeeper.getArtifactPrefetched();
+    if (artifactsPrefetched > 0) {
+      columns.add(String.format(locale, "%d Prefetched", artifactsPrefetched));
+    }
     return parseLine + " " + "(" + Joiner.on(", ").join(columns) + ")";
   }
 
@@ -70,7 +70,7 @@ public class WriteFile extends AbstractBuildRule {
       BuildContext context, BuildableContext buildableContext) {
     buildableContext.recordArtifact(output);
     ProjectFilesystem projectFilesystem = getProjectFilesystem();
-    return ImmutableList.of(
+    return ImmutableList.<Step>of(
         new MkdirStep(projectFilesystem, output.getParent()),
         new WriteFileStep(
             projectFilesystem,
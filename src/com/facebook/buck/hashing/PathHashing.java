@@ -19,13 +19,19 @@ package com.facebook.buck.hashing;
 import com.facebook.buck.io.MorePaths;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 public class PathHashing {
   // Utility class, do not instantiate.
@@ -33,6 +39,22 @@ public class PathHashing {
 
   private static final Path EMPTY_PATH = Paths.get("");
 
+  /**
+   * Directories with no more files than this are hashed on the calling thread, as handing them
+   * out would cost more than it saves.  Larger ones are split into parts of this size.
+   */
+  private static final int FILES_PER_TASK = 64;
+
+  private static final ForkJoinPool HASHING_POOL = new ForkJoinPool();
+
+  /**
+   * Updates {@code hasher} with the names and hashes of all the files under {@code root}, in
+   * sorted order.  The hashes of large directories are looked up from {@code fileHashLoader} in
+   * parallel, so it must be safe to use from several threads at once, but they are still combined
+   * in the same order, so the result is the same as hashing them one after another.
+   *
+   * @return the paths of the files under {@code root}, relative to it.
+   */
   public static ImmutableSet<Path> hashPath(
       Hasher hasher,
       FileHashLoader fileHashLoader,
@@ -42,17 +64,120 @@ public class PathHashing {
         !root.equals(EMPTY_PATH),
         "Path to hash (%s) must not be empty",
         root);
+    ImmutableList<Path> files =
+        ImmutableSortedSet.copyOf(projectFilesystem.getFilesUnderPath(root)).asList();
+    HashCode[] hashCodes = getHashCodes(fileHashLoader, projectFilesystem, files);
+
     ImmutableSet.Builder<Path> children = ImmutableSet.builder();
-    for (Path path : ImmutableSortedSet.copyOf(projectFilesystem.getFilesUnderPath(root))) {
+    for (int i = 0; i < files.size(); i++) {
+      Path path = files.get(i);
       StringHashing.hashStringAndLength(hasher, MorePaths.pathWithUnixSeparators(path));
       if (!root.equals(path)) {
         children.add(root.relativize(path));
       }
-      hasher.putBytes(fileHashLoader.get(projectFilesystem.resolve(path)).asBytes());
+      hasher.putBytes(hashCodes[i].asBytes());
     }
     return children.build();
   }
 
+  private static HashCode[] getHashCodes(
+      FileHashLoader fileHashLoader,
+      ProjectFilesystem projectFilesystem,
+      ImmutableList<Path> files) throws IOException {
+    HashCode[] hashCodes = new HashCode[files.size()];
+    GetHashCodesAction action = new GetHashCodesAction(
+        fileHashLoader,
+        projectFilesystem,
+        files,
+        hashCodes,
+        0,
+        files.size());
+    if (files.size() <= FILES_PER_TASK) {
+      action.getHashCodesInRange();
+      return hashCodes;
+    }
+
+    try {
+      if (ForkJoinTask.inForkJoinPool()) {
+        // Already hashing a directory in parallel, so split the work up within the same pool.
+        action.invoke();
+      } else {
+        HASHING_POOL.invoke(action);
+      }
+    } catch (RuntimeException e) {
+      // The pool may wrap what was thrown once more when rethrowing it on this thread.
+      for (Throwable cause : Throwables.getCausalChain(e)) {
+        Throwables.propagateIfInstanceOf(cause, IOException.class);
+      }
+      throw e;
+    }
+    return hashCodes;
+  }
+
+  /**
+   * Looks up the hashes of a range of files, splitting it in half until the parts are small
+   * enough to look up one after another.
+   */
+  @SuppressWarnings("serial")
+  private static class GetHashCodesAction extends RecursiveAction {
+
+    private final FileHashLoader fileHashLoader;
+    private final ProjectFilesystem projectFilesystem;
+    private final ImmutableList<Path> files;
+    private final HashCode[] hashCodes;
+    private final int start;
+    private final int end;
+
+    public GetHashCodesAction(
+        FileHashLoader fileHashLoader,
+        ProjectFilesystem projectFilesystem,
+        ImmutableList<Path> files,
+        HashCode[] hashCodes,
+        int start,
+        int end) {
+      this.fileHashLoader = fileHashLoader;
+      this.projectFilesystem = projectFilesystem;
+      this.files = files;
+      this.hashCodes = hashCodes;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= FILES_PER_TASK) {
+        try {
+          getHashCodesInRange();
+        } catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+        return;
+      }
+      int middle = (start + end) >>> 1;
+      invokeAll(
+          new GetHashCodesAction(
+              fileHashLoader,
+              projectFilesystem,
+              files,
+              hashCodes,
+              start,
+              middle),
+          new GetHashCodesAction(
+              fileHashLoader,
+              projectFilesystem,
+              files,
+              hashCodes,
+              middle,
+              end));
+    }
+
+    private void getHashCodesInRange() throws IOException {
+      for (int i = start; i < end; i++) {
+        hashCodes[i] = fileHashLoader.get(projectFilesystem.resolve(files.get(i)));
+      }
+    }
+  }
+
   /**
    * Iterates recursively over all files under {@code paths}, sorts
    * the filenames, and updates the {@link Hasher} with the names and
@@ -19,6 +19,7 @@ package com.facebook.buck.httpserver;
 import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.HttpArtifactCacheBinaryProtocol;
+import com.facebook.buck.artifact_cache.ListableArtifactCache;
 import com.facebook.buck.io.LazyPath;
 import com.facebook.buck.artifact_cache.StoreResponseReadResult;
 import com.facebook.buck.io.ProjectFilesystem;
@@ -26,17 +27,22 @@ import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.util.BuckConstant;
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.hash.BloomFilter;
 import com.google.common.io.ByteSource;
 
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 
 import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.Map;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -74,6 +80,8 @@ public class ArtifactCacheHandler extends AbstractHandler {
         status = handleGet(baseRequest, response);
       } else if (method.equals("PUT")) {
         status = handlePut(baseRequest, response);
+      } else if (method.equals("POST")) {
+        status = handleMultiFetch(baseRequest, response);
       }
       response.setStatus(status);
     } catch (Exception e) {
@@ -94,6 +102,9 @@ public class ArtifactCacheHandler extends AbstractHandler {
 
     String path = baseRequest.getUri().getPath();
     String[] pathElements = path.split("/");
+    if (pathElements.length == 3 && pathElements[2].equals("keydigest")) {
+      return handleKeyDigest(response);
+    }
     if (pathElements.length != 4 || !pathElements[2].equals("key")) {
       response.getWriter().write("Incorrect url format.");
       return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
@@ -141,6 +152,95 @@ public class ArtifactCacheHandler extends AbstractHandler {
     }
   }
 
+  /**
+   * Serves a digest of the keys in the cache, letting clients skip fetching keys which are not in
+   * it.
+   */
+  private int handleKeyDigest(HttpServletResponse response) throws IOException {
+    if (!(artifactCache.get() instanceof ListableArtifactCache)) {
+      return HttpServletResponse.SC_NOT_FOUND;
+    }
+    BloomFilter<RuleKey> digest = HttpArtifactCacheBinaryProtocol.createKeyDigest(
+        ((ListableArtifactCache) artifactCache.get()).getRuleKeys());
+    // The status has to be set before the body starts streaming out.
+    response.setStatus(HttpServletResponse.SC_OK);
+    HttpArtifactCacheBinaryProtocol.writeKeyDigest(digest, response.getOutputStream());
+    return HttpServletResponse.SC_OK;
+  }
+
+  private int handleMultiFetch(
+      Request baseRequest,
+      HttpServletResponse response) throws IOException {
+    if (!artifactCache.isPresent()) {
+      response.getWriter().write("Serving local cache is disabled for this instance.");
+      return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    String path = baseRequest.getUri().getPath();
+    String[] pathElements = path.split("/");
+    if (pathElements.length != 3 || !pathElements[2].equals("multikey")) {
+      response.getWriter().write("Incorrect url format.");
+      return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    ImmutableSet<RuleKey> ruleKeys;
+    try (DataInputStream requestInputData = new DataInputStream(baseRequest.getInputStream())) {
+      ruleKeys = HttpArtifactCacheBinaryProtocol.readMultiFetchRequest(requestInputData);
+    }
+
+    Map<RuleKey, Path> temps = Maps.newLinkedHashMap();
+    try {
+      projectFilesystem.mkdirs(BuckConstant.SCRATCH_PATH);
+      ImmutableMap.Builder<RuleKey, LazyPath> outputs = ImmutableMap.builder();
+      for (RuleKey ruleKey : ruleKeys) {
+        Path temp = projectFilesystem.createTempFile(
+            BuckConstant.SCRATCH_PATH,
+            "outgoing_rulekey",
+            ".tmp");
+        temps.put(ruleKey, temp);
+        outputs.put(ruleKey, LazyPath.ofInstance(temp));
+      }
+
+      ImmutableMap<RuleKey, CacheResult> fetchResults;
+      try {
+        fetchResults = artifactCache.get().multiFetch(outputs.build());
+      } catch (InterruptedException e) {
+        LOG.error(e, "Interrupted when fetching from local cache.");
+        e.printStackTrace(response.getWriter());
+        return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+      }
+
+      // The status has to be set before the body starts streaming out.
+      response.setStatus(HttpServletResponse.SC_OK);
+      DataOutputStream out = new DataOutputStream(response.getOutputStream());
+      HttpArtifactCacheBinaryProtocol.writeMultiFetchResponseHeader(out, ruleKeys.size());
+      for (RuleKey ruleKey : ruleKeys) {
+        CacheResult fetchResult = fetchResults.get(ruleKey);
+        if (fetchResult == null || !fetchResult.getType().isSuccess()) {
+          HttpArtifactCacheBinaryProtocol.writeMultiFetchResponseMiss(out);
+          continue;
+        }
+        final Path tempFinal = temps.get(ruleKey);
+        new HttpArtifactCacheBinaryProtocol.FetchResponse(
+            ImmutableSet.of(ruleKey),
+            fetchResult.getMetadata(),
+            new ByteSource() {
+              @Override
+              public InputStream openStream() throws IOException {
+                return projectFilesystem.newFileInputStream(tempFinal);
+              }
+            })
+            .writeMultiFetchEntry(out);
+      }
+      out.flush();
+      return HttpServletResponse.SC_OK;
+    } finally {
+      for (Path temp : temps.values()) {
+        projectFilesystem.deleteFileAtPathIfExists(temp);
+      }
+    }
+  }
+
   private int handlePut(Request baseRequest, HttpServletResponse response) throws IOException {
     if (!artifactCache.isPresent()) {
       response.getWriter().write("Serving local cache is disabled for this instance.");
@@ -21,6 +21,7 @@ import com.facebook.buck.util.BuckConstant;
 import com.facebook.buck.util.environment.Platform;
 import com.facebook.buck.zip.CustomZipEntry;
 import com.facebook.buck.zip.CustomZipOutputStream;
+import com.facebook.buck.zip.ZipCompressionLevel;
 import com.facebook.buck.zip.ZipOutputStreams;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
@@ -83,6 +84,7 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 
 import javax.annotation.Nullable;
 
@@ -977,6 +979,23 @@ public class ProjectFilesystem {
       Collection<Path> pathsToIncludeInZip,
       Path out,
       ImmutableMap<Path, String> additionalFileContents) throws IOException {
+    createZip(
+        pathsToIncludeInZip,
+        out,
+        additionalFileContents,
+        ZipCompressionLevel.DEFAULT_COMPRESSION_LEVEL.getValue());
+  }
+
+  /**
+   * Similar to {@link #createZip(Collection, Path, ImmutableMap)}, but deflates files at the given
+   * level, or stores them uncompressed if it is {@code 0}.
+   */
+  public void createZip(
+      Collection<Path> pathsToIncludeInZip,
+      Path out,
+      ImmutableMap<Path, String> additionalFileContents,
+      int compressionLevel) throws IOException {
+    boolean stored = compressionLevel == ZipCompressionLevel.MIN_COMPRESSION_LEVEL.getValue();
     try (CustomZipOutputStream zip = ZipOutputStreams.newOutputStream(out)) {
       for (Path path : pathsToIncludeInZip) {
         boolean isDirectory = isDirectory(path);
@@ -986,10 +1005,21 @@ public class ProjectFilesystem {
           entryName += "/";
         }
         CustomZipEntry entry = new CustomZipEntry(entryName);
+        entry.setCompressionLevel(compressionLevel);
 
         // We want deterministic ZIPs, so avoid mtimes.
         entry.setFakeTime();
 
+        // Stored entries need their size and CRC up front, as they go in the local file header.
+        if (stored && !isDirectory) {
+          long size = getFileSize(path);
+          entry.setSize(size);
+          entry.setCompressedSize(size);
+          try (InputStream input = newFileInputStream(path)) {
+            entry.setCrc(computeCrc32(input));
+          }
+        }
+
         // Support executable files.  If we detect this file is executable, store this
         // information as 0100 in the field typically used in zip implementations for
         // POSIX file permissions.  We'll use this information when unzipping.
@@ -1010,11 +1040,17 @@ public class ProjectFilesystem {
 
       for (Map.Entry<Path, String> fileContentsEntry : additionalFileContents.entrySet()) {
         CustomZipEntry entry = new CustomZipEntry(fileContentsEntry.getKey().toString());
+        entry.setCompressionLevel(compressionLevel);
         // We want deterministic ZIPs, so avoid mtimes.
         entry.setFakeTime();
+        byte[] contents = fileContentsEntry.getValue().getBytes(Charsets.UTF_8);
+        if (stored) {
+          entry.setSize(contents.length);
+          entry.setCompressedSize(contents.length);
+          entry.setCrc(Hashing.crc32().hashBytes(contents).padToLong());
+        }
         zip.putNextEntry(entry);
-        try (InputStream stream =
-                 new ByteArrayInputStream(fileContentsEntry.getValue().getBytes(Charsets.UTF_8))) {
+        try (InputStream stream = new ByteArrayInputStream(contents)) {
           ByteStreams.copy(stream, zip);
         }
         zip.closeEntry();
@@ -1022,6 +1058,16 @@ public class ProjectFilesystem {
     }
   }
 
+  private static long computeCrc32(InputStream input) throws IOException {
+    CRC32 crc = new CRC32();
+    byte[] buffer = new byte[64 * 1024];
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      crc.update(buffer, 0, read);
+    }
+    return crc.getValue();
+  }
+
   @Override
   public boolean equals(Object other) {
     if (this == other) {
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.io;
 
+import com.facebook.buck.bser.BserParser;
 import com.google.common.base.Optional;
 
 import java.io.IOException;
@@ -30,6 +31,27 @@ public interface WatchmanClient extends AutoCloseable {
       long timeoutNanos,
       Object... query) throws IOException, InterruptedException;
 
+  /**
+   * Like {@link #queryWithTimeout}, but the {@code "files"} of the response are read from its
+   * tokens by {@code filesReader} as they arrive, and what it returns is put in their place,
+   * instead of a list of maps being built for them.
+   */
+  Optional<? extends Map<String, ? extends Object>> queryFilesWithTimeout(
+      long timeoutNanos,
+      FilesReader<?> filesReader,
+      Object... query) throws IOException, InterruptedException;
+
   @Override
   public void close() throws IOException;
+
+  /**
+   * Reads the {@code "files"} of the response to a query.
+   */
+  interface FilesReader<T> {
+    /**
+     * Called after the first token of the files, which must be read up to and including their
+     * last token.
+     */
+    T read(BserParser parser) throws IOException;
+  }
 }
@@ -20,6 +20,7 @@ import static com.facebook.buck.util.concurrent.MoreExecutors.newSingleThreadExe
 import static com.google.common.util.concurrent.MoreExecutors.listeningDecorator;
 
 import com.facebook.buck.bser.BserDeserializer;
+import com.facebook.buck.bser.BserParser;
 import com.facebook.buck.bser.BserSerializer;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.timing.Clock;
@@ -31,6 +32,7 @@ import com.google.common.util.concurrent.ListeningExecutorService;
 
 import java.io.IOException;
 import java.net.Socket;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -38,6 +40,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import javax.annotation.Nullable;
+
 class WatchmanSocketClient implements WatchmanClient, AutoCloseable {
 
   private static final Logger LOG = Logger.get(WatchmanSocketClient.class);
@@ -50,6 +54,7 @@ class WatchmanSocketClient implements WatchmanClient, AutoCloseable {
   private final Console console;
   private final BserSerializer bserSerializer;
   private final BserDeserializer bserDeserializer;
+  @Nullable private BserParser bserParser;
 
   public WatchmanSocketClient(
       Console console,
@@ -70,18 +75,32 @@ class WatchmanSocketClient implements WatchmanClient, AutoCloseable {
     throws IOException, InterruptedException {
     return queryListWithTimeout(
         timeoutNanos,
+        null,
+        ImmutableList.copyOf(query));
+  }
+
+  @Override
+  public Optional<Map<String, Object>> queryFilesWithTimeout(
+      long timeoutNanos,
+      FilesReader<?> filesReader,
+      Object... query)
+    throws IOException, InterruptedException {
+    return queryListWithTimeout(
+        timeoutNanos,
+        filesReader,
         ImmutableList.copyOf(query));
   }
 
   private Optional<Map<String, Object>> queryListWithTimeout(
       long timeoutNanos,
+      @Nullable final FilesReader<?> filesReader,
       final List<Object> query)
     throws IOException, InterruptedException {
     ListenableFuture<Optional<Map<String, Object>>> future = listeningExecutorService.submit(
         new Callable<Optional<Map<String, Object>>>() {
           @Override
           public Optional<Map<String, Object>> call() throws IOException {
-            return sendWatchmanQuery(query);
+            return sendWatchmanQuery(filesReader, query);
           }
         });
     try {
@@ -141,18 +160,37 @@ class WatchmanSocketClient implements WatchmanClient, AutoCloseable {
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private Optional<Map<String, Object>> sendWatchmanQuery(List<Object> query)
+  private Optional<Map<String, Object>> sendWatchmanQuery(
+      @Nullable FilesReader<?> filesReader,
+      List<Object> query)
       throws IOException {
     LOG.debug("Sending query: %s", query);
     bserSerializer.serializeToStream(query, watchmanSocket.getOutputStream());
-    Object response = bserDeserializer.deserializeBserValue(watchmanSocket.getInputStream());
-    LOG.verbose("Got response: %s", response);
-    Map<String, Object> responseMap = (Map<String, Object>) response;
-    if (responseMap == null) {
+    if (bserParser == null) {
+      // The parser is kept for the life of the socket so the names of the fields of the
+      // responses are only decoded once.
+      bserParser = new BserParser(watchmanSocket.getInputStream());
+    }
+    BserParser.Token token = bserParser.nextToken();
+    if (token != BserParser.Token.START_OBJECT) {
+      Object response = bserDeserializer.deserializeValue(bserParser);
+      bserParser.nextToken();
       LOG.error("Unrecognized Watchman response: %s", response);
       return Optional.absent();
     }
+    Map<String, Object> responseMap = new LinkedHashMap<>();
+    while (bserParser.nextToken() == BserParser.Token.FIELD_NAME) {
+      String fieldName = bserParser.getFieldName();
+      bserParser.nextToken();
+      if (filesReader != null && fieldName.equals("files")) {
+        responseMap.put(fieldName, filesReader.read(bserParser));
+      } else {
+        responseMap.put(fieldName, bserDeserializer.deserializeValue(bserParser));
+      }
+    }
+    // Finish the response, so the next one is read from its start.
+    bserParser.nextToken();
+    LOG.verbose("Got response: %s", responseMap);
     return Optional.of(responseMap);
   }
 }
@@ -101,7 +101,7 @@ public class ProjectBuildFileParser implements AutoCloseable {
 
   private final ProjectBuildFileParserOptions options;
   private final ConstructorArgMarshaller marshaller;
-  private final BuckEventBus buckEventBus;
+  private volatile BuckEventBus buckEventBus;
   private final ProcessExecutor processExecutor;
   private final BserDeserializer bserDeserializer;
   private final BserSerializer bserSerializer;
@@ -157,6 +157,31 @@ public class ProjectBuildFileParser implements AutoCloseable {
     this.enableProfiling = enableProfiling;
   }
 
+  /**
+   * Reports to {@code buckEventBus} from now on, so that a parser which is already running can
+   * go on to parse for a later command.
+   */
+  public synchronized void setBuckEventBus(BuckEventBus buckEventBus) {
+    ensureNotClosed();
+    this.buckEventBus = buckEventBus;
+    if (isInitialized && projectBuildFileParseEventStarted == null) {
+      projectBuildFileParseEventStarted = new ProjectBuildFileParseEvents.Started();
+      buckEventBus.post(projectBuildFileParseEventStarted);
+    }
+  }
+
+  /**
+   * Tells the event bus this parser reports to that it's finished with it, as {@link #close()}
+   * would, but leaves buck.py running for {@link #setBuckEventBus} to reuse.
+   */
+  public synchronized void reportFinished() {
+    if (projectBuildFileParseEventStarted != null) {
+      buckEventBus.post(
+          new ProjectBuildFileParseEvents.Finished(projectBuildFileParseEventStarted));
+      projectBuildFileParseEventStarted = null;
+    }
+  }
+
   private void ensureNotClosed() {
     Preconditions.checkState(!isClosed);
   }
@@ -485,11 +510,7 @@ public class ProjectBuildFileParser implements AutoCloseable {
 
       }
     } finally {
-      if (isInitialized) {
-        buckEventBus.post(
-            new ProjectBuildFileParseEvents.Finished(
-                Preconditions.checkNotNull(projectBuildFileParseEventStarted)));
-      }
+      reportFinished();
       isClosed = true;
     }
   }
@@ -613,6 +613,7 @@ class BuildFileProcessor(object):
             build_env.includes.add(include_path)
             build_env.includes.update(inner_env.includes)
             build_env.diagnostics.update(inner_env.diagnostics)
+            build_env.used_configs.update(inner_env.used_configs)
 
         # Build a new module for the given file, using the default globals
         # created above.
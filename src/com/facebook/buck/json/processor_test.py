@@ -364,3 +364,22 @@ class BuckTest(unittest.TestCase):
         self.assertEquals(
             get_config_from_results(result),
             {'hello': {'world': 'foo', 'bar': None, 'goo': None}})
+
+    def test_read_config_in_implicit_include_is_recorded(self):
+        """
+        Verify that config settings read by implicit includes are recorded as
+        used by the build files that include them.
+        """
+
+        implicit_inc = ProjectFile(
+            path='implicit',
+            contents=('FOO = read_config("hello", "world")',))
+        build_file = ProjectFile(path='BUCK', contents=('FOO',))
+        self.write_files(implicit_inc, build_file)
+        build_file_processor = self.create_build_file_processor(
+            implicit_inc.name,
+            configs={('hello', 'world'): 'foo'})
+        result = build_file_processor.process(build_file.path, set())
+        self.assertEquals(
+            get_config_from_results(result),
+            {'hello': {'world': 'foo'}})
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.parser;
 
+import com.facebook.buck.bser.BserParser;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.io.Watchman;
 import com.facebook.buck.io.WatchmanClient;
@@ -26,6 +27,7 @@ import com.facebook.buck.util.immutables.BuckStyleImmutable;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 
@@ -52,6 +54,33 @@ abstract class AbstractBuildFileSpec {
   private static final Logger LOG = Logger.get(AbstractBuildFileSpec.class);
   private static final long WATCHMAN_QUERY_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
 
+  /**
+   * Reads the names of the files matched by a query for only their names, which Watchman sends
+   * as an array of strings, straight into paths.
+   */
+  private static final WatchmanClient.FilesReader<ImmutableList<Path>> FILE_PATHS_READER =
+      new WatchmanClient.FilesReader<ImmutableList<Path>>() {
+        @Override
+        public ImmutableList<Path> read(BserParser parser) throws IOException {
+          if (parser.getCurrentToken() != BserParser.Token.START_ARRAY) {
+            throw new IOException(
+                String.format(
+                    "Expected Watchman files to be an array, got %s",
+                    parser.getCurrentToken()));
+          }
+          ImmutableList.Builder<Path> paths = ImmutableList.builder();
+          BserParser.Token token;
+          while ((token = parser.nextToken()) != BserParser.Token.END_ARRAY) {
+            if (token != BserParser.Token.VALUE_STRING) {
+              throw new IOException(
+                  String.format("Expected Watchman file name to be a string, got %s", token));
+            }
+            paths.add(Paths.get(parser.getString()));
+          }
+          return paths.build();
+        }
+      };
+
   // Base path where to find either a single build file or to recursively for many build files.
   @Value.Parameter
   abstract Path getBasePath();
@@ -176,8 +205,9 @@ abstract class AbstractBuildFileSpec {
 
     query.add(params);
     Optional<? extends Map<String, ? extends Object>> queryResponse =
-        watchmanClient.queryWithTimeout(
+        watchmanClient.queryFilesWithTimeout(
             WATCHMAN_QUERY_TIMEOUT_NANOS,
+            FILE_PATHS_READER,
             query.toArray());
     if (!queryResponse.isPresent()) {
       LOG.warn("Timed out after %d ns for Watchman query %s", WATCHMAN_QUERY_TIMEOUT_NANOS, query);
@@ -195,11 +225,10 @@ abstract class AbstractBuildFileSpec {
       LOG.warn("Watchman warning from query %s: %s", query, warning);
     }
 
-    List<String> files = (List<String>) response.get("files");
+    List<Path> files = (List<Path>) response.get("files");
     LOG.verbose("Query %s -> files %s", query, files);
 
-    for (String file : files) {
-      Path relativePath = Paths.get(file);
+    for (Path relativePath : files) {
       if (!filesystem.isIgnored(relativePath)) {
         // To avoid an extra stat() and realpath(), we assume we have no symlinks here
         // (since Watchman doesn't follow them anyway), and directly resolve the path
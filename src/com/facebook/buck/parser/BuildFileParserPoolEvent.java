@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.event.AbstractBuckEvent;
+import com.facebook.buck.event.EventKey;
+
+/**
+ * Reports how one command used the shared build file parsers: how many build files it gave
+ * them, how many of those had to wait for a parser to come free and for how long in total, how
+ * long the parsers spent parsing, how many new parsers had to be started, and how long the
+ * parsers could have spent parsing had they been busy for the whole command.
+ */
+public class BuildFileParserPoolEvent extends AbstractBuckEvent {
+
+  private final long leases;
+  private final long leaseWaits;
+  private final long leaseWaitMillis;
+  private final long busyMillis;
+  private final long parserStarts;
+  private final long capacityMillis;
+
+  BuildFileParserPoolEvent(
+      ProjectBuildFileParserPool.Usage usage,
+      int maxParsers,
+      long elapsedMillis) {
+    super(EventKey.unique());
+    this.leases = usage.getLeases();
+    this.leaseWaits = usage.getLeaseWaits();
+    this.leaseWaitMillis = usage.getLeaseWaitMillis();
+    this.busyMillis = usage.getBusyMillis();
+    this.parserStarts = usage.getParserStarts();
+    this.capacityMillis = elapsedMillis * maxParsers;
+  }
+
+  public long getLeases() {
+    return leases;
+  }
+
+  public long getLeaseWaits() {
+    return leaseWaits;
+  }
+
+  public long getLeaseWaitMillis() {
+    return leaseWaitMillis;
+  }
+
+  public long getBusyMillis() {
+    return busyMillis;
+  }
+
+  public long getParserStarts() {
+    return parserStarts;
+  }
+
+  public long getCapacityMillis() {
+    return capacityMillis;
+  }
+
+  @Override
+  protected String getValueString() {
+    return String.format(
+        "leases: %d, waits: %d (%d ms), busy: %d of %d ms, parsers started: %d",
+        leases,
+        leaseWaits,
+        leaseWaitMillis,
+        busyMillis,
+        capacityMillis,
+        parserStarts);
+  }
+
+  @Override
+  public String getEventName() {
+    return "BuildFileParserPool";
+  }
+}
@@ -26,7 +26,6 @@ import com.facebook.buck.io.MorePaths;
 import com.facebook.buck.io.WatchEvents;
 import com.facebook.buck.json.BuildFileParseException;
 import com.facebook.buck.json.JsonObjectHashing;
-import com.facebook.buck.json.ProjectBuildFileParser;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.model.BuckVersion;
 import com.facebook.buck.model.BuildFileTree;
@@ -61,10 +60,10 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.UncheckedExecutionException;
@@ -81,7 +80,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
 
@@ -115,6 +113,7 @@ class DaemonicParserState {
   private final OptimisticLoadingCache<BuildTarget, TargetNode<?>> allTargetNodes;
   private final Predicate<BuildTarget> hasCachedTargetNodeForBuildTargetPredicate;
   private final LoadingCache<Cell, BuildFileTree> buildFileTrees;
+  private final PersistentRawNodeCache persistentRawNodes;
 
   /**
    * A map from absolute included files ({@code /foo/BUILD_DEFS}, for example) to the build files
@@ -128,20 +127,22 @@ class DaemonicParserState {
       buildFileConfigs;
 
   /**
-   * Environment used by build files. If the environment is changed, then build files need to be
-   * reevaluated with the new environment, so the environment used when populating the rule cache
-   * is stored between requests to parse build files and the cache is invalidated and build files
-   * reevaluated if the environment changes.
+   * The cell last parsed at each root. If a cell's config changes, the build files which read
+   * a value that changed are invalidated by {@link #invalidateIfBuckConfigHasChanged}, and the
+   * rest keep their rules, but all the target nodes are invalidated, as they refer to the
+   * descriptions created from the old config.
    */
   @GuardedBy("cachedStateLock")
-  private ImmutableMap<String, String> cachedEnvironment;
+  private final Map<Path, Cell> cachedCells;
 
   /**
-   * The default includes used by the previous run of the parser in each cell (the key is the
-   * cell's root path). If this value changes, then we need to invalidate all the caches.
+   * The state of the build file parser used by the previous run of the parser in each cell (the
+   * key is the cell's root path): the environment, the default includes, and everything else
+   * which affects how every build file is parsed. If this value changes, then we need to
+   * invalidate all the caches.
    */
   @GuardedBy("cachedStateLock")
-  private Map<Path, Iterable<String>> cachedIncludes;
+  private final Map<Path, String> cachedParserStates;
 
   /**
    * The set of {@link Cell} instances that have been seen by this state. This information is used
@@ -173,25 +174,27 @@ class DaemonicParserState {
             return new FilesystemBackedBuildFileTree(cell.getFilesystem(), cell.getBuildFileName());
           }
         });
+    this.persistentRawNodes = new PersistentRawNodeCache();
     this.buildFileDependents = HashMultimap.create();
     this.buildFileConfigs = new HashMap<>();
-    this.cachedEnvironment = ImmutableMap.of();
-    this.cachedIncludes = new ConcurrentHashMap<>();
+    this.cachedCells = new HashMap<>();
+    this.cachedParserStates = new HashMap<>();
     this.knownCells = Collections.synchronizedSet(new HashSet<Cell>());
 
     this.cachedStateLock = new AutoCloseableReadWriteUpdateLock();
   }
 
   public ImmutableList<Map<String, Object>> getAllRawNodes(
+      BuckEventBus eventBus,
       Cell cell,
-      ProjectBuildFileParser parser,
+      ProjectBuildFileParserPool parserPool,
       Path buildFile) throws BuildFileParseException, InterruptedException {
     Preconditions.checkState(buildFile.isAbsolute());
     invalidateIfProjectBuildFileParserStateChanged(cell);
     invalidateIfBuckConfigHasChanged(cell, buildFile);
 
     try {
-      return loadRawNodes(cell, buildFile, parser);
+      return loadRawNodes(eventBus, cell, buildFile, parserPool);
     } catch (UncheckedExecutionException | ExecutionException e) {
       throw propagate(e);
     }
@@ -200,14 +203,14 @@ class DaemonicParserState {
   public ImmutableSet<TargetNode<?>> getAllTargetNodes(
       final BuckEventBus eventBus,
       final Cell cell,
-      ProjectBuildFileParser parser,
+      ProjectBuildFileParserPool parserPool,
       final Path buildFile,
       final TargetNodeListener nodeListener) throws BuildFileParseException, InterruptedException {
     Preconditions.checkState(buildFile.isAbsolute());
     invalidateIfProjectBuildFileParserStateChanged(cell);
     invalidateIfBuckConfigHasChanged(cell, buildFile);
     try {
-      List<Map<String, Object>> allRawNodes = loadRawNodes(cell, buildFile, parser);
+      List<Map<String, Object>> allRawNodes = loadRawNodes(eventBus, cell, buildFile, parserPool);
 
       ImmutableSet.Builder<TargetNode<?>> nodes = ImmutableSet.builder();
       for (final Map<String, Object> rawNode : allRawNodes) {
@@ -232,7 +235,7 @@ class DaemonicParserState {
   public TargetNode<?> getTargetNode(
       final BuckEventBus eventBus,
       final Cell cell,
-      final ProjectBuildFileParser parser,
+      final ProjectBuildFileParserPool parserPool,
       final BuildTarget target,
       final TargetNodeListener nodeListener
   ) throws BuildFileParseException, BuildTargetException, InterruptedException {
@@ -246,7 +249,8 @@ class DaemonicParserState {
             @Override
             public TargetNode<?> call() throws Exception {
               Preconditions.checkState(buildFile.isAbsolute());
-              List<Map<String, Object>> rawNodes = loadRawNodes(cell, buildFile, parser);
+              List<Map<String, Object>> rawNodes =
+                  loadRawNodes(eventBus, cell, buildFile, parserPool);
 
               for (Map<String, Object> rawNode : rawNodes) {
                 Object shortName = rawNode.get("name");
@@ -305,16 +309,18 @@ class DaemonicParserState {
   }
 
   private ImmutableList<Map<String, Object>> loadRawNodes(
+      final BuckEventBus eventBus,
       final Cell cell,
       final Path buildFile,
-      final ProjectBuildFileParser parser) throws ExecutionException {
+      final ProjectBuildFileParserPool parserPool) throws ExecutionException {
     return allRawNodes.get(
         buildFile,
         new Callable<ImmutableList<Map<String, Object>>>() {
           @SuppressWarnings("unchecked")
           @Override
           public ImmutableList<Map<String, Object>> call() throws Exception {
-            List<Map<String, Object>> rawNodes = parser.getAllRulesAndMetaRules(buildFile);
+            List<Map<String, Object>> rawNodes =
+                getAllRulesAndMetaRules(eventBus, cell, parserPool, buildFile);
             ImmutableSet<Path> dependentsOfEveryNode = ImmutableSet.of();
             ImmutableMap<String, ImmutableMap<String, Optional<String>>> configs =
                 ImmutableMap.of();
@@ -394,6 +400,34 @@ class DaemonicParserState {
         });
   }
 
+  /**
+   * Runs buck.py on {@code buildFile}, unless it's been run on it before by this or an earlier
+   * process and what it returned then is still good.
+   */
+  private List<Map<String, Object>> getAllRulesAndMetaRules(
+      BuckEventBus eventBus,
+      Cell cell,
+      ProjectBuildFileParserPool parserPool,
+      Path buildFile) throws BuildFileParseException, InterruptedException {
+    if (!new ParserConfig(cell.getBuckConfig()).getEnablePersistentParseCache()) {
+      return parserPool.getAllRulesAndMetaRules(cell, eventBus, buildFile);
+    }
+
+    Optional<HashCode> packageState = persistentRawNodes.hashPackageState(cell, buildFile);
+    if (!packageState.isPresent()) {
+      return parserPool.getAllRulesAndMetaRules(cell, eventBus, buildFile);
+    }
+    Optional<List<Map<String, Object>>> cached =
+        persistentRawNodes.load(cell, buildFile, packageState.get());
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    List<Map<String, Object>> rawNodes =
+        parserPool.getAllRulesAndMetaRules(cell, eventBus, buildFile);
+    persistentRawNodes.store(cell, buildFile, packageState.get(), rawNodes);
+    return rawNodes;
+  }
+
   @SuppressWarnings({"rawtypes", "unchecked"})
   private TargetNode<?> createTargetNode(
       BuckEventBus eventBus,
@@ -516,12 +550,35 @@ class DaemonicParserState {
         .build();
   }
 
+  /**
+   * @return whether {@code event} could change what a build file parser which is already running
+   *     makes of the next build file.  buck.py caches the build files and includes it has read and
+   *     the results of its globs, so only added or removed files, and changes to build files or
+   *     files which are known to be included, can.  Call this before
+   *     {@link #invalidateBasedOn(WatchEvent)}, which forgets what includes what.
+   */
+  public synchronized boolean invalidatesBuildFileParsers(WatchEvent<?> event) {
+    if (!WatchEvents.isPathChangeEvent(event) || isPathCreateOrDeleteEvent(event)) {
+      return true;
+    }
+    Path path = (Path) event.context();
+    for (Cell cell : knownCells) {
+      if (path.endsWith(cell.getBuildFileName()) ||
+          buildFileDependents.containsKey(cell.getFilesystem().resolve(path))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public void invalidateBasedOn(WatchEvent<?> event) throws InterruptedException {
     if (!WatchEvents.isPathChangeEvent(event)) {
       // Non-path change event, likely an overflow due to many change events: invalidate everything.
       LOG.debug("Parser invalidating entire cache on overflow.");
 
       invalidateAllCaches();
+      // Build files may have been added or removed too.
+      buildFileTrees.invalidateAll();
       return;
     }
 
@@ -618,6 +675,7 @@ class DaemonicParserState {
   private synchronized void invalidatePath(Cell cell, Path path) {
     // Paths from Watchman are not absolute.
     path = cell.getFilesystem().resolve(path);
+    persistentRawNodes.invalidate(path);
 
     // If the path is a build file for the cell, nuke the targets that it owns first. We don't need
     // to check whether or not the path ends in the build file name, since we know that these are
@@ -687,34 +745,39 @@ class DaemonicParserState {
   }
 
   private void invalidateIfProjectBuildFileParserStateChanged(Cell cell) {
-    ImmutableMap<String, String> cellEnv = cell.getBuckConfig().getEnvironment();
-    Iterable<String> defaultIncludes = new ParserConfig(cell.getBuckConfig()).getDefaultIncludes();
-
-    boolean invalidateCaches = false;
+    Path root = cell.getRoot();
+    Cell cachedCell;
+    String parserState;
+    boolean invalidateCaches;
     try (AutoCloseableLock updateLock = cachedStateLock.updateLock()) {
-      Iterable<String> expected = cachedIncludes.get(cell.getRoot());
-
-      if (!cellEnv.equals(cachedEnvironment)) {
-        // Contents of System.getenv() have changed. Cowardly refuse to accept we'll parse
-        // everything the same way.
-        invalidateCaches = true;
-      } else if (expected == null || !Iterables.elementsEqual(defaultIncludes, expected)) {
-        // Someone's changed the default includes. That's almost definitely caused all our lovingly
-        // cached data to be enormously wonky.
-        invalidateCaches = true;
-      }
-
-      if (!invalidateCaches) {
+      cachedCell = cachedCells.get(root);
+      if (cell == cachedCell || cell.equals(cachedCell)) {
         return;
       }
 
+      // Someone's changed the environment, the default includes, or how build files are found
+      // or run. That's almost definitely caused all our lovingly cached data to be enormously
+      // wonky. Anything else is down to the config values the build files read.
+      parserState = persistentRawNodes.getParserState(cell);
+      invalidateCaches = !parserState.equals(cachedParserStates.get(root));
+
       try (AutoCloseableLock writeLock = cachedStateLock.writeLock()) {
-        cachedEnvironment = cellEnv;
-        cachedIncludes.put(cell.getRoot(), defaultIncludes);
+        cachedCells.put(root, cell);
+        cachedParserStates.put(root, parserState);
       }
     }
     synchronized (this) {
-      invalidateAllCaches();
+      if (invalidateCaches) {
+        invalidateAllCaches();
+      } else {
+        LOG.debug("Config of %s changed, invalidating target nodes", root);
+        allTargetNodes.invalidateAll();
+        targetsCornucopia.clear();
+      }
+      if (cachedCell != null) {
+        knownCells.remove(cachedCell);
+        buildFileTrees.invalidate(cachedCell);
+      }
       knownCells.add(cell);
     }
   }
@@ -726,7 +789,7 @@ class DaemonicParserState {
     allRawNodes.invalidateAll();
     buildFileDependents.clear();
     buildFileConfigs.clear();
-    knownCells.clear();
+    persistentRawNodes.invalidateAll();
   }
 
   @Override
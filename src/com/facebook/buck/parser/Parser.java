@@ -68,11 +68,12 @@ import javax.annotation.Nullable;
  * {@link TargetGraph} based on a set of targets. Caches build rules to minimise the number of calls
  * to python and processes filesystem WatchEvents to invalidate the cache as files change.
  */
-public class Parser {
+public class Parser implements AutoCloseable {
 
   private static final Logger LOG = Logger.get(Parser.class);
 
   private final DaemonicParserState permState;
+  private final ProjectBuildFileParserPool parserPool;
   private final ConstructorArgMarshaller marshaller;
 
   public Parser(
@@ -83,6 +84,10 @@ public class Parser {
         typeCoercerFactory,
         marshaller,
         parserConfig.getNumParsingThreads());
+    this.parserPool = new ProjectBuildFileParserPool(
+        parserConfig.getNumParsingThreads(),
+        marshaller,
+        /* enableProfiling */ false);
     this.marshaller = marshaller;
   }
 
@@ -98,7 +103,13 @@ public class Parser {
 
     try (
         PerBuildState state =
-            new PerBuildState(permState, marshaller, eventBus, cell, enableProfiling)) {
+            new PerBuildState(
+                permState,
+                parserPool,
+                marshaller,
+                eventBus,
+                cell,
+                enableProfiling)) {
       state.startParsing(
           cell,
           ImmutableSet.of(buildFile),
@@ -126,6 +137,7 @@ public class Parser {
 
     try (PerBuildState state = new PerBuildState(
         permState,
+        parserPool,
         marshaller,
         eventBus,
         cell,
@@ -148,7 +160,13 @@ public class Parser {
       throws IOException, InterruptedException, BuildFileParseException, BuildTargetException {
     try (
         PerBuildState state =
-            new PerBuildState(permState, marshaller, eventBus, cell, enableProfiling)) {
+            new PerBuildState(
+                permState,
+                parserPool,
+                marshaller,
+                eventBus,
+                cell,
+                enableProfiling)) {
       state.startParsing(ImmutableSet.of(target), new ParserConfig(cell.getBuckConfig()), executor);
       return state.getTargetNode(target);
     } catch (RuntimeException e) {
@@ -223,6 +241,7 @@ public class Parser {
     try (final PerBuildState state =
             new PerBuildState(
                 permState,
+                parserPool,
                 marshaller,
                 eventBus,
                 rootCell,
@@ -375,6 +394,7 @@ public class Parser {
         PerBuildState state =
             new PerBuildState(
                 permState,
+                parserPool,
                 marshaller,
                 eventBus,
                 rootCell,
@@ -467,7 +487,11 @@ public class Parser {
           WatchEvents.createContextString(event));
     }
 
+    boolean invalidatesParsers = permState.invalidatesBuildFileParsers(event);
     permState.invalidateBasedOn(event);
+    if (invalidatesParsers) {
+      parserPool.invalidate();
+    }
   }
 
   public void recordParseStartTime(BuckEventBus eventBus) {
@@ -478,4 +502,11 @@ public class Parser {
   public Optional<BuckEvent> getParseStartTime() {
     return Optional.absent();
   }
+  /**
+   * Stops the build file parsers kept for later parses.
+   */
+  @Override
+  public void close() {
+    parserPool.close();
+  }
 }
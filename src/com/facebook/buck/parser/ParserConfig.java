@@ -125,6 +125,13 @@ public class ParserConfig {
     return delegate.getBooleanValue("project", "parallel_parsing", false);
   }
 
+  /**
+   * Whether to keep what build files were parsed into on disk, for later processes to use.
+   */
+  public boolean getEnablePersistentParseCache() {
+    return delegate.getBooleanValue("project", "persistent_parse_cache", false);
+  }
+
   public int getNumParsingThreads() {
     if (!getEnableParallelParsing()) {
       return 1;
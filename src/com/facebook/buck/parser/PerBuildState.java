@@ -20,34 +20,24 @@ import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.SimplePerfEvent;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.json.BuildFileParseException;
-import com.facebook.buck.json.ProjectBuildFileParser;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetException;
 import com.facebook.buck.rules.Cell;
 import com.facebook.buck.rules.ConstructorArgMarshaller;
 import com.facebook.buck.rules.TargetNode;
-import com.facebook.buck.util.Ansi;
-import com.facebook.buck.util.Console;
 import com.facebook.buck.util.HumanReadableException;
-import com.facebook.buck.util.Verbosity;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import com.google.common.base.Throwables;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
-import com.google.common.io.ByteStreams;
-import com.google.common.io.Closer;
 
-import java.io.Closeable;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.nio.file.Path;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -67,18 +57,18 @@ class PerBuildState implements AutoCloseable {
   private static final Logger LOG = Logger.get(PerBuildState.class);
 
   private final DaemonicParserState permState;
-  private final ConstructorArgMarshaller marshaller;
   private final BuckEventBus eventBus;
-  private final boolean enableProfiling;
-
-  private final PrintStream stdout;
-  private final PrintStream stderr;
-  private final Console console;
 
   private final Map<Path, Cell> cells;
   private final Map<Path, ParserConfig.AllowSymlinks> cellSymlinkAllowability;
-  private final ThreadLocal<Map<Cell, ProjectBuildFileParser>> parsers;
-  private final Closer closer;
+  private final ProjectBuildFileParserPool parserPool;
+  /**
+   * Whether {@link #parserPool} is this build's own, rather than shared with other builds, as
+   * it is when profiling buck.py.
+   */
+  private final boolean ownsParserPool;
+  private final ProjectBuildFileParserPool.Usage parserPoolUsageAtStart;
+  private final long startNanos;
   /**
    * Build rule input files (e.g., paths in {@code srcs}) whose
    * paths contain an element which exists in {@code symlinkExistenceCache}.
@@ -116,29 +106,26 @@ class PerBuildState implements AutoCloseable {
 
   public PerBuildState(
       DaemonicParserState permState,
+      ProjectBuildFileParserPool parserPool,
       ConstructorArgMarshaller marshaller,
       BuckEventBus eventBus,
       Cell rootCell,
       boolean enableProfiling) {
     this.permState = permState;
-    this.marshaller = marshaller;
     this.eventBus = eventBus;
-    this.enableProfiling = enableProfiling;
     this.cells = new ConcurrentHashMap<>();
     this.cellSymlinkAllowability = new ConcurrentHashMap<>();
-    this.parsers = new ThreadLocal<Map<Cell, ProjectBuildFileParser>>() {
-      @Override
-      protected Map<Cell, ProjectBuildFileParser> initialValue() {
-        return new HashMap<>();
-      }
-    };
+    // The profile of a parser is only reported when it's closed, so profiled parsers can't be
+    // kept for later builds.
+    this.ownsParserPool = enableProfiling;
+    this.parserPool = enableProfiling ?
+        new ProjectBuildFileParserPool(parserPool.getMaxParsers(), marshaller, true) :
+        parserPool;
+    this.parserPoolUsageAtStart = this.parserPool.getUsage();
+    this.startNanos = System.nanoTime();
     this.buildInputPathsUnderSymlink = Sets.newHashSet();
     this.symlinkExistenceCache = new ConcurrentHashMap<>();
 
-    this.stdout = new PrintStream(ByteStreams.nullOutputStream());
-    this.stderr = new PrintStream(ByteStreams.nullOutputStream());
-    this.console = new Console(Verbosity.STANDARD_INFORMATION, stdout, stderr, Ansi.withoutTty());
-
     this.symlinkCheckers = new TargetNodeListener() {
       @Override
       public void onCreate(Path buildFile, TargetNode<?> node) throws IOException {
@@ -146,8 +133,6 @@ class PerBuildState implements AutoCloseable {
       }
     };
 
-    this.closer = Closer.create();
-
     this.pendingWorkQueueCount = new AtomicInteger(0);
     this.pendingBuildTargets = new LinkedBlockingQueue<>();
     this.pendingBuildFiles = new LinkedBlockingQueue<>();
@@ -207,12 +192,10 @@ class PerBuildState implements AutoCloseable {
     Cell owningCell = getCell(target);
     target = target.withoutCell();
 
-    ProjectBuildFileParser parser = getBuildFileParser(owningCell);
-
     return permState.getTargetNode(
         eventBus,
         owningCell,
-        parser,
+        parserPool,
         target,
         symlinkCheckers);
   }
@@ -221,12 +204,10 @@ class PerBuildState implements AutoCloseable {
       throws InterruptedException, IOException, BuildFileParseException {
     Preconditions.checkState(buildFile.startsWith(cell.getRoot()));
 
-    ProjectBuildFileParser parser = getBuildFileParser(cell);
-
     return permState.getAllTargetNodes(
         eventBus,
         cell,
-        parser,
+        parserPool,
         buildFile,
         symlinkCheckers);
   }
@@ -235,32 +216,8 @@ class PerBuildState implements AutoCloseable {
       throws InterruptedException, BuildFileParseException {
     Preconditions.checkState(buildFile.startsWith(cell.getRoot()));
 
-    ProjectBuildFileParser parser = getBuildFileParser(cell);
-
     // The raw nodes are just plain JSON blobs, and so we don't need to check for symlinks
-    return permState.getAllRawNodes(cell, parser, buildFile);
-  }
-
-  private ProjectBuildFileParser getBuildFileParser(Cell cell) {
-    Map<Cell, ProjectBuildFileParser> threadLocalParsers = parsers.get();
-    if (threadLocalParsers.containsKey(cell)) {
-      return threadLocalParsers.get(cell);
-    }
-
-    final ProjectBuildFileParser parser = cell.createBuildFileParser(marshaller, console, eventBus);
-    parser.setEnableProfiling(enableProfiling);
-    threadLocalParsers.put(cell, parser);
-    closer.register(new Closeable() {
-      @Override
-      public void close() throws IOException {
-        try {
-          parser.close();
-        } catch (BuildFileParseException | InterruptedException e) {
-          new IOException(e);
-        }
-      }
-    });
-    return parser;
+    return permState.getAllRawNodes(eventBus, cell, parserPool, buildFile);
   }
 
   private void register(Cell cell) {
@@ -351,20 +308,19 @@ class PerBuildState implements AutoCloseable {
 
   @Override
   public void close() throws InterruptedException, BuildFileParseException {
-    stdout.close();
-    stderr.close();
-
-    BuildFileParseException lastSeen = null;
-    try {
-      closer.close();
-    } catch (IOException e) {
-      if (e.getCause() instanceof BuildFileParseException) {
-        lastSeen = (BuildFileParseException) e.getCause();
-      }
-      if (e.getCause() instanceof InterruptedException) {
-        throw (InterruptedException) e.getCause();
-      }
-      Throwables.propagate(e);
+    if (ownsParserPool) {
+      parserPool.close();
+    } else {
+      parserPool.detach(eventBus);
+    }
+    ProjectBuildFileParserPool.Usage usage =
+        parserPool.getUsage().since(parserPoolUsageAtStart);
+    if (usage.getLeases() > 0) {
+      eventBus.post(
+          new BuildFileParserPoolEvent(
+              usage,
+              parserPool.getMaxParsers(),
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
     }
 
     LOG.debug(
@@ -375,10 +331,6 @@ class PerBuildState implements AutoCloseable {
     for (Path buildFilePath : buildInputPathsUnderSymlinkCopy) {
       permState.invalidatePath(buildFilePath);
     }
-
-    if (lastSeen != null) {
-      throw lastSeen;
-    }
   }
 
   private void addBuildTargetsToProcess(Set<BuildTarget> nodes) {
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.facebook.buck.bser.BserDeserializer;
+import com.facebook.buck.bser.BserSerializer;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuckVersion;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.Description;
+import com.facebook.buck.util.BuckConstant;
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps what buck.py made of each build file on disk, so that a process which hasn't parsed a
+ * build file yet, such as a new buckd or a run with {@code --no-buckd}, can skip running buck.py
+ * on it again if nothing it was read from has changed since.
+ * <p>
+ * An entry is used only if it was made by the same version of buck with the same parser
+ * settings and environment, the build file and the files it included have the same contents,
+ * the configuration values it read are the same, and the same files are in its package, which is
+ * what its globs could have matched.
+ */
+class PersistentRawNodeCache {
+
+  private static final Logger LOG = Logger.get(PersistentRawNodeCache.class);
+
+  /**
+   * Where the entries are kept, relative to the root of the cell.
+   */
+  static final Path PATH = BuckConstant.BUCK_OUTPUT_PATH.resolve("parse_cache");
+
+  /**
+   * Directories which can't hold a package's sources, however deep in it they are.
+   */
+  private static final ImmutableSet<String> VCS_DIRECTORIES =
+      ImmutableSet.of(".git", ".hg", ".svn");
+
+  private static final String INCLUDES_META_RULE = "__includes";
+  private static final String CONFIGS_META_RULE = "__configs";
+
+  private static final String BUILD_FILE_KEY = "build_file";
+  private static final String PARSER_STATE_KEY = "parser_state";
+  private static final String PACKAGE_STATE_KEY = "package_state";
+  private static final String INCLUDES_KEY = "includes";
+  private static final String VALUES_KEY = "values";
+
+  /**
+   * Hashes of everything about a cell which affects how all of its build files are parsed.
+   */
+  private final LoadingCache<Cell, String> parserStates = CacheBuilder.newBuilder()
+      .weakKeys()
+      .build(
+          new CacheLoader<Cell, String>() {
+            @Override
+            public String load(Cell cell) {
+              return hashParserState(cell).toString();
+            }
+          });
+
+  /**
+   * The contents of the included files, which many build files have in common, hashed once
+   * until they are invalidated.
+   */
+  private final ConcurrentMap<Path, String> includeHashes = Maps.newConcurrentMap();
+
+  /**
+   * Hashes the state of the package {@code buildFile} defines: the contents of the build file and
+   * the paths in the package, which stops at the subdirectories with build files of their own, as
+   * the files of those packages can't belong to this one's rules.  buck-out, version control
+   * directories and ignored paths are left out too, as the rules can't use what's in them and
+   * they change with every build.  Called before the build file is parsed, so that changes made
+   * while buck.py is running are noticed next time.
+   */
+  public Optional<HashCode> hashPackageState(Cell cell, Path buildFile) {
+    final ProjectFilesystem filesystem = cell.getFilesystem();
+    final String buildFileName = cell.getBuildFileName();
+    final Path packageDir = filesystem.getRootPath().relativize(buildFile.getParent());
+    final SortedSet<String> paths = Sets.newTreeSet();
+    try {
+      filesystem.walkRelativeFileTree(
+          packageDir,
+          new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+              if (!dir.equals(packageDir) &&
+                  (dir.equals(BuckConstant.BUCK_OUTPUT_PATH) ||
+                      VCS_DIRECTORIES.contains(dir.getFileName().toString()) ||
+                      filesystem.isIgnored(dir) ||
+                      filesystem.isFile(dir.resolve(buildFileName)))) {
+                return FileVisitResult.SKIP_SUBTREE;
+              }
+              paths.add(dir.toString() + "/");
+              return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+              paths.add(file.toString());
+              return FileVisitResult.CONTINUE;
+            }
+          });
+      Hasher hasher = Hashing.sha1().newHasher();
+      hasher.putString(filesystem.computeSha1(buildFile), UTF_8);
+      for (String path : paths) {
+        hasher.putString(path, UTF_8);
+        hasher.putByte((byte) 0);
+      }
+      return Optional.of(hasher.hash());
+    } catch (IOException e) {
+      LOG.debug(e, "Can't hash the package of %s, not caching it", buildFile);
+      return Optional.absent();
+    }
+  }
+
+  /**
+   * @return the rules and meta rules buck.py last returned for {@code buildFile}, if they are
+   *     still what it would return.
+   */
+  @SuppressWarnings("unchecked")
+  public Optional<List<Map<String, Object>>> load(
+      Cell cell,
+      Path buildFile,
+      HashCode packageState) {
+    Path path = getEntryPath(cell, buildFile);
+    Object entry;
+    try (InputStream input = Files.newInputStream(path)) {
+      entry = new BserDeserializer(BserDeserializer.KeyOrdering.SORTED)
+          .deserializeBserValue(input);
+    } catch (NoSuchFileException e) {
+      return Optional.absent();
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(e, "Ignoring unreadable parse cache entry %s", path);
+      return Optional.absent();
+    }
+
+    try {
+      Map<String, Object> map = (Map<String, Object>) entry;
+      if (!buildFile.toString().equals(map.get(BUILD_FILE_KEY)) ||
+          !parserStates.getUnchecked(cell).equals(map.get(PARSER_STATE_KEY)) ||
+          !packageState.toString().equals(map.get(PACKAGE_STATE_KEY)) ||
+          !includesAreUnchanged(cell, (Map<String, String>) map.get(INCLUDES_KEY))) {
+        return Optional.absent();
+      }
+      List<Map<String, Object>> values = (List<Map<String, Object>>) map.get(VALUES_KEY);
+      if (!configsAreUnchanged(cell, values)) {
+        return Optional.absent();
+      }
+      LOG.verbose("Loaded %d rules of %s from the parse cache", values.size(), buildFile);
+      return Optional.of(values);
+    } catch (ClassCastException | NullPointerException e) {
+      LOG.warn(e, "Ignoring malformed parse cache entry %s", path);
+      return Optional.absent();
+    }
+  }
+
+  /**
+   * Saves the rules and meta rules buck.py returned for {@code buildFile}.  Failing to is
+   * logged rather than failing the parse, which it doesn't affect.
+   */
+  public void store(
+      Cell cell,
+      Path buildFile,
+      HashCode packageState,
+      List<Map<String, Object>> values) {
+    Path path = getEntryPath(cell, buildFile);
+    try {
+      Map<String, Object> entry = ImmutableMap.of(
+          BUILD_FILE_KEY, buildFile.toString(),
+          PARSER_STATE_KEY, parserStates.getUnchecked(cell),
+          PACKAGE_STATE_KEY, packageState.toString(),
+          INCLUDES_KEY, hashIncludes(cell, buildFile, values),
+          VALUES_KEY, values);
+
+      Files.createDirectories(path.getParent());
+      Path tempPath = Files.createTempFile(
+          path.getParent(),
+          path.getFileName().toString(),
+          ".tmp");
+      try {
+        try (OutputStream output = Files.newOutputStream(tempPath)) {
+          new BserSerializer().serializeToStream(entry, output);
+        }
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        Files.deleteIfExists(tempPath);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(e, "Failed to save parse cache entry %s", path);
+    }
+  }
+
+  /**
+   * @return a hash of everything about {@code cell} which affects how all of its build files are
+   *     parsed, whatever they contain.
+   */
+  public String getParserState(Cell cell) {
+    return parserStates.getUnchecked(cell);
+  }
+
+  /**
+   * Forgets the hash of {@code path}, which has changed.
+   */
+  public void invalidate(Path path) {
+    includeHashes.remove(path);
+  }
+
+  public void invalidateAll() {
+    includeHashes.clear();
+    parserStates.invalidateAll();
+  }
+
+  private static Path getEntryPath(Cell cell, Path buildFile) {
+    return cell.getFilesystem()
+        .resolve(PATH)
+        .resolve(Hashing.sha1().hashString(buildFile.toString(), UTF_8).toString());
+  }
+
+  private static HashCode hashParserState(Cell cell) {
+    ParserConfig parserConfig = new ParserConfig(cell.getBuckConfig());
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putString(BuckVersion.getVersion(), UTF_8);
+    for (Map.Entry<String, String> entry :
+        ImmutableSortedMap.copyOf(cell.getBuckConfig().getEnvironment()).entrySet()) {
+      hasher.putString(entry.getKey(), UTF_8).putByte((byte) 0);
+      hasher.putString(entry.getValue(), UTF_8).putByte((byte) 0);
+    }
+    for (String include : parserConfig.getDefaultIncludes()) {
+      hasher.putString(include, UTF_8).putByte((byte) 0);
+    }
+    hasher.putBoolean(parserConfig.getAllowEmptyGlobs());
+    hasher.putString(parserConfig.getBuildFileName(), UTF_8).putByte((byte) 0);
+    hasher.putString(parserConfig.getGlobHandler().toString(), UTF_8).putByte((byte) 0);
+    SortedSet<String> types = Sets.newTreeSet();
+    for (Description<?> description : cell.getAllDescriptions()) {
+      types.add(description.getBuildRuleType().getName());
+    }
+    for (String type : types) {
+      hasher.putString(type, UTF_8).putByte((byte) 0);
+    }
+    return hasher.hash();
+  }
+
+  /**
+   * @return the hashes of the files {@code buildFile} included, as listed by the includes meta
+   *     rule, apart from {@code buildFile} itself, which is part of the package state.
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, String> hashIncludes(
+      Cell cell,
+      Path buildFile,
+      List<Map<String, Object>> values) throws IOException {
+    ImmutableMap.Builder<String, String> hashes = ImmutableMap.builder();
+    for (Map<String, Object> value : values) {
+      List<String> includes = (List<String>) value.get(INCLUDES_META_RULE);
+      if (includes == null) {
+        continue;
+      }
+      for (String include : Sets.newTreeSet(includes)) {
+        Path includePath = cell.getFilesystem().resolve(Paths.get(include));
+        if (!includePath.equals(buildFile)) {
+          hashes.put(include, hashInclude(cell, includePath));
+        }
+      }
+    }
+    return hashes.build();
+  }
+
+  private boolean includesAreUnchanged(Cell cell, Map<String, String> hashes) {
+    for (Map.Entry<String, String> entry : hashes.entrySet()) {
+      Path includePath = cell.getFilesystem().resolve(Paths.get(entry.getKey()));
+      try {
+        if (!entry.getValue().equals(hashInclude(cell, includePath))) {
+          return false;
+        }
+      } catch (IOException e) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String hashInclude(Cell cell, Path includePath) throws IOException {
+    String hash = includeHashes.get(includePath);
+    if (hash == null) {
+      hash = cell.getFilesystem().computeSha1(includePath);
+      includeHashes.put(includePath, hash);
+    }
+    return hash;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean configsAreUnchanged(Cell cell, List<Map<String, Object>> values) {
+    for (Map<String, Object> value : values) {
+      Map<String, Map<String, String>> configs =
+          (Map<String, Map<String, String>>) value.get(CONFIGS_META_RULE);
+      if (configs == null) {
+        continue;
+      }
+      for (Map.Entry<String, Map<String, String>> section : configs.entrySet()) {
+        for (Map.Entry<String, String> field : section.getValue().entrySet()) {
+          Optional<String> current =
+              cell.getBuckConfig().getValue(section.getKey(), field.getKey());
+          if (!current.equals(Optional.fromNullable(field.getValue()))) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,414 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.json.BuildFileParseException;
+import com.facebook.buck.json.ProjectBuildFileParser;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.ConstructorArgMarshaller;
+import com.facebook.buck.util.Ansi;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.Verbosity;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Runs build files through a bounded number of buck.py processes, which are shared by all the
+ * threads and cells parsing, and kept running between parses so that each one only pays for
+ * starting python once.
+ * <p>
+ * A process is only held for as long as it takes to parse one build file, so a thread which
+ * finds them all busy waits for the next to come free rather than starting another.
+ * <p>
+ * buck.py caches the files it includes and the results of its globs for as long as it runs, so
+ * the parsers have to be stopped by {@link #invalidate()} whenever those could have changed.
+ */
+@ThreadSafe
+class ProjectBuildFileParserPool implements AutoCloseable {
+
+  private static final Logger LOG = Logger.get(ProjectBuildFileParserPool.class);
+
+  private final int maxParsers;
+  private final ConstructorArgMarshaller marshaller;
+  private final boolean enableProfiling;
+  private final Console console;
+
+  /**
+   * The parsers which aren't parsing anything, the most recently used first.
+   */
+  @GuardedBy("this")
+  private final LinkedList<PooledParser> idleParsers = new LinkedList<>();
+
+  /**
+   * How many parsers are running, whether they're idle or not.
+   */
+  @GuardedBy("this")
+  private int parserCount;
+
+  @GuardedBy("this")
+  private boolean closed;
+
+  /**
+   * How many times the parsers have been invalidated, so that parsers which were busy at the time
+   * can be told apart when they are released.
+   */
+  @GuardedBy("this")
+  private long generation;
+
+  private final AtomicLong leases = new AtomicLong();
+  private final AtomicLong leaseWaits = new AtomicLong();
+  private final AtomicLong leaseWaitNanos = new AtomicLong();
+  private final AtomicLong busyNanos = new AtomicLong();
+  private final AtomicLong parserStarts = new AtomicLong();
+
+  public ProjectBuildFileParserPool(
+      int maxParsers,
+      ConstructorArgMarshaller marshaller,
+      boolean enableProfiling) {
+    Preconditions.checkArgument(maxParsers > 0);
+    this.maxParsers = maxParsers;
+    this.marshaller = marshaller;
+    this.enableProfiling = enableProfiling;
+    PrintStream nullStream = new PrintStream(ByteStreams.nullOutputStream());
+    this.console = new Console(
+        Verbosity.STANDARD_INFORMATION,
+        nullStream,
+        nullStream,
+        Ansi.withoutTty());
+  }
+
+  public int getMaxParsers() {
+    return maxParsers;
+  }
+
+  /**
+   * Runs {@code buildFile} through one of the parsers for {@code cell}, reporting to
+   * {@code eventBus}.
+   */
+  public List<Map<String, Object>> getAllRulesAndMetaRules(
+      Cell cell,
+      BuckEventBus eventBus,
+      Path buildFile) throws BuildFileParseException, InterruptedException {
+    PooledParser parser = lease(cell, eventBus);
+    long start = System.nanoTime();
+    boolean succeeded = false;
+    try {
+      List<Map<String, Object>> result = parser.parser.getAllRulesAndMetaRules(buildFile);
+      succeeded = true;
+      return result;
+    } finally {
+      busyNanos.addAndGet(System.nanoTime() - start);
+      if (succeeded) {
+        release(parser);
+      } else {
+        // We can't tell what state buck.py was left in, so don't hand it to anyone else.
+        discard(parser);
+      }
+    }
+  }
+
+  private PooledParser lease(Cell cell, BuckEventBus eventBus) throws InterruptedException {
+    leases.incrementAndGet();
+    ImmutableMap<String, String> environment = cell.getBuckConfig().getEnvironment();
+    List<PooledParser> toClose = new LinkedList<>();
+    PooledParser leased = null;
+    long startGeneration = 0;
+    try {
+      synchronized (this) {
+        Preconditions.checkState(!closed);
+        long waitStart = 0;
+        while (true) {
+          leased = takeIdleParser(cell, environment, toClose);
+          if (leased != null || parserCount < maxParsers) {
+            break;
+          }
+          if (!idleParsers.isEmpty()) {
+            // Make room by stopping the parser which has been idle longest.
+            toClose.add(idleParsers.removeLast());
+            parserCount--;
+            continue;
+          }
+          if (waitStart == 0) {
+            waitStart = System.nanoTime();
+            leaseWaits.incrementAndGet();
+          }
+          wait();
+        }
+        if (waitStart != 0) {
+          leaseWaitNanos.addAndGet(System.nanoTime() - waitStart);
+        }
+        if (leased == null) {
+          parserCount++;
+          startGeneration = generation;
+        }
+      }
+    } finally {
+      closeAll(toClose);
+    }
+
+    if (leased != null) {
+      leased.bindTo(eventBus);
+      return leased;
+    }
+
+    LOG.debug("Starting a build file parser for %s", cell.getRoot());
+    parserStarts.incrementAndGet();
+    try {
+      return new PooledParser(
+          cell,
+          environment,
+          createParser(cell, eventBus),
+          eventBus,
+          startGeneration);
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        parserCount--;
+        notifyAll();
+      }
+      throw e;
+    }
+  }
+
+  @VisibleForTesting
+  ProjectBuildFileParser createParser(Cell cell, BuckEventBus eventBus) {
+    ProjectBuildFileParser parser = cell.createBuildFileParser(marshaller, console, eventBus);
+    parser.setEnableProfiling(enableProfiling);
+    return parser;
+  }
+
+  @GuardedBy("this")
+  @Nullable
+  private PooledParser takeIdleParser(
+      Cell cell,
+      ImmutableMap<String, String> environment,
+      List<PooledParser> toClose) {
+    Iterator<PooledParser> iterator = idleParsers.iterator();
+    while (iterator.hasNext()) {
+      PooledParser parser = iterator.next();
+      if (!parser.cell.equals(cell)) {
+        continue;
+      }
+      iterator.remove();
+      if (parser.environment.equals(environment)) {
+        return parser;
+      }
+      // The environment has changed since this parser started, so it's no good to anyone now.
+      toClose.add(parser);
+      parserCount--;
+    }
+    return null;
+  }
+
+  private void release(PooledParser parser) {
+    boolean close;
+    synchronized (this) {
+      // A parser which was busy when the pool was invalidated may have cached stale files.
+      close = closed || parser.generation != generation;
+      if (close) {
+        parserCount--;
+      } else {
+        idleParsers.addFirst(parser);
+      }
+      notifyAll();
+    }
+    if (close) {
+      closeAll(ImmutableList.of(parser));
+    }
+  }
+
+  private void discard(PooledParser parser) {
+    synchronized (this) {
+      parserCount--;
+      notifyAll();
+    }
+    closeAll(ImmutableList.of(parser));
+  }
+
+  /**
+   * Stops the idle parsers, and any busy ones as soon as they are released, so that no build file
+   * is parsed with includes or globs which buck.py cached before files changed.
+   */
+  public void invalidate() {
+    List<PooledParser> toClose;
+    synchronized (this) {
+      generation++;
+      toClose = ImmutableList.copyOf(idleParsers);
+      parserCount -= idleParsers.size();
+      idleParsers.clear();
+      notifyAll();
+    }
+    if (!toClose.isEmpty()) {
+      LOG.debug("Stopping %d idle build file parsers as files have changed.", toClose.size());
+    }
+    closeAll(toClose);
+  }
+
+  /**
+   * Tells {@code eventBus} the idle parsers which have been reporting to it are finished with
+   * it.  They keep running, and report to whichever event bus they're next used with.
+   */
+  public void detach(BuckEventBus eventBus) {
+    synchronized (this) {
+      for (PooledParser parser : idleParsers) {
+        if (parser.eventBus == eventBus) {
+          parser.parser.reportFinished();
+        }
+      }
+    }
+  }
+
+  public Usage getUsage() {
+    return new Usage(
+        leases.get(),
+        leaseWaits.get(),
+        TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.get()),
+        TimeUnit.NANOSECONDS.toMillis(busyNanos.get()),
+        parserStarts.get());
+  }
+
+  @VisibleForTesting
+  synchronized int getParserCount() {
+    return parserCount;
+  }
+
+  /**
+   * Stops the idle parsers, and any others as soon as they are released.
+   */
+  @Override
+  public void close() {
+    List<PooledParser> toClose;
+    synchronized (this) {
+      closed = true;
+      toClose = ImmutableList.copyOf(idleParsers);
+      parserCount -= idleParsers.size();
+      idleParsers.clear();
+    }
+    closeAll(toClose);
+  }
+
+  private static void closeAll(Iterable<PooledParser> parsers) {
+    for (PooledParser parser : parsers) {
+      try {
+        parser.parser.close();
+      } catch (BuildFileParseException | IOException e) {
+        LOG.warn(e, "Failed to close build file parser");
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * How much a pool has been used: how many times parsers were leased, how many of those had to
+   * wait for one, for how long in total, how long parsers spent parsing, and how many parsers
+   * were started.
+   */
+  public static class Usage {
+    private final long leases;
+    private final long leaseWaits;
+    private final long leaseWaitMillis;
+    private final long busyMillis;
+    private final long parserStarts;
+
+    private Usage(
+        long leases,
+        long leaseWaits,
+        long leaseWaitMillis,
+        long busyMillis,
+        long parserStarts) {
+      this.leases = leases;
+      this.leaseWaits = leaseWaits;
+      this.leaseWaitMillis = leaseWaitMillis;
+      this.busyMillis = busyMillis;
+      this.parserStarts = parserStarts;
+    }
+
+    public Usage since(Usage earlier) {
+      return new Usage(
+          leases - earlier.leases,
+          leaseWaits - earlier.leaseWaits,
+          leaseWaitMillis - earlier.leaseWaitMillis,
+          busyMillis - earlier.busyMillis,
+          parserStarts - earlier.parserStarts);
+    }
+
+    public long getLeases() {
+      return leases;
+    }
+
+    public long getLeaseWaits() {
+      return leaseWaits;
+    }
+
+    public long getLeaseWaitMillis() {
+      return leaseWaitMillis;
+    }
+
+    public long getBusyMillis() {
+      return busyMillis;
+    }
+
+    public long getParserStarts() {
+      return parserStarts;
+    }
+  }
+
+  private static class PooledParser {
+    private final Cell cell;
+    private final ImmutableMap<String, String> environment;
+    private final ProjectBuildFileParser parser;
+    private final long generation;
+    private BuckEventBus eventBus;
+
+    private PooledParser(
+        Cell cell,
+        ImmutableMap<String, String> environment,
+        ProjectBuildFileParser parser,
+        BuckEventBus eventBus,
+        long generation) {
+      this.cell = cell;
+      this.environment = environment;
+      this.parser = parser;
+      this.eventBus = eventBus;
+      this.generation = generation;
+    }
+
+    private void bindTo(BuckEventBus eventBus) {
+      this.eventBus = eventBus;
+      parser.setBuckEventBus(eventBus);
+    }
+  }
+}
@@ -143,7 +143,7 @@ public class PythonInPlaceBinary extends PythonBinary implements HasRuntimeDeps
       BuildableContext buildableContext) {
     Path binPath = getBinPath();
     buildableContext.recordArtifact(binPath);
-    return ImmutableList.of(
+    return ImmutableList.<Step>of(
         new MkdirStep(getProjectFilesystem(), binPath.getParent()),
         new WriteFileStep(getProjectFilesystem(), script, binPath, /* executable */ true));
   }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.artifact_cache.ArtifactCodec;
+import com.facebook.buck.rules.keys.DaemonicRuleKeyCache;
+import com.facebook.buck.util.hash.HashFunctionType;
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.google.common.base.Optional;
+
+import org.immutables.value.Value;
+
+/**
+ * How a {@link CachingBuildEngine} builds rules.  Everything defaults to what buck does when
+ * nothing is configured.
+ */
+@Value.Immutable
+@BuckStyleImmutable
+abstract class AbstractCachingBuildEngineOptions {
+
+  @Value.Default
+  public CachingBuildEngine.BuildMode getBuildMode() {
+    return CachingBuildEngine.BuildMode.SHALLOW;
+  }
+
+  @Value.Default
+  public CachingBuildEngine.DependencySchedulingOrder getDependencySchedulingOrder() {
+    return CachingBuildEngine.DependencySchedulingOrder.RANDOM;
+  }
+
+  @Value.Default
+  public CachingBuildEngine.DepFiles getDepFiles() {
+    return CachingBuildEngine.DepFiles.ENABLED;
+  }
+
+  @Value.Default
+  public long getMaxDepFileCacheEntries() {
+    return 256L;
+  }
+
+  /**
+   * @return how the artifacts uploaded to the cache are compressed.
+   */
+  @Value.Default
+  public ArtifactCodec getArtifactCodec() {
+    return ArtifactCodec.DEFLATE;
+  }
+
+  /**
+   * @return the level to compress artifacts at, if the codec has levels.
+   */
+  @Value.Default
+  public int getArtifactCompressionLevel() {
+    return ArtifactCodec.DEFAULT_DEFLATE_LEVEL;
+  }
+
+  /**
+   * @return what rule keys are hashed with, which should be what the engine's file hash cache
+   *     hashes files with.
+   */
+  @Value.Default
+  public HashFunctionType getHashFunctionType() {
+    return HashFunctionType.SHA1;
+  }
+
+  /**
+   * @return how long rules took to build locally before, which
+   *     {@link CachingBuildEngine.DependencySchedulingOrder#CRITICAL_PATH} schedules by.  The
+   *     durations of the rules the engine builds locally are recorded into it.
+   */
+  @Value.Default
+  public RuleDurations getRuleDurations() {
+    return RuleDurations.empty();
+  }
+
+  /**
+   * @return the budget which the steps run at once are packed into.
+   */
+  @Value.Default
+  public BuildResources getBuildResources() {
+    return BuildResources.unlimited();
+  }
+
+  /**
+   * @return the default rule keys kept from earlier builds of the rules being built, which only
+   *     those whose inputs changed since are recomputed from.
+   */
+  public abstract Optional<DaemonicRuleKeyCache> getDaemonicRuleKeyCache();
+
+  /**
+   * @return whether cache lookups made while others are in flight should be gathered into
+   *     multi-key fetches.
+   */
+  @Value.Default
+  public boolean isBatchCacheFetches() {
+    return false;
+  }
+}
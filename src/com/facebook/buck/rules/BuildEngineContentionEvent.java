@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.event.AbstractBuckEvent;
+import com.facebook.buck.event.EventKey;
+
+/**
+ * Reports how often the build threads of a {@link CachingBuildEngine} got in each other's way
+ * since its last report: how many times a thread set out to compute a rule key or a rule's deps
+ * which another thread had just started on, and how many times one had to wait for the lock
+ * around the build results.
+ */
+public class BuildEngineContentionEvent extends AbstractBuckEvent {
+
+  private final long ruleKeyRaces;
+  private final long ruleDepsRaces;
+  private final long resultsLockContentions;
+
+  public BuildEngineContentionEvent(
+      long ruleKeyRaces,
+      long ruleDepsRaces,
+      long resultsLockContentions) {
+    super(EventKey.unique());
+    this.ruleKeyRaces = ruleKeyRaces;
+    this.ruleDepsRaces = ruleDepsRaces;
+    this.resultsLockContentions = resultsLockContentions;
+  }
+
+  public long getRuleKeyRaces() {
+    return ruleKeyRaces;
+  }
+
+  public long getRuleDepsRaces() {
+    return ruleDepsRaces;
+  }
+
+  public long getResultsLockContentions() {
+    return resultsLockContentions;
+  }
+
+  @Override
+  protected String getValueString() {
+    return String.format(
+        "rule key races: %d, rule deps races: %d, results lock contentions: %d",
+        ruleKeyRaces,
+        ruleDepsRaces,
+        resultsLockContentions);
+  }
+
+  @Override
+  public String getEventName() {
+    return "BuildEngineContention";
+  }
+}
@@ -18,6 +18,7 @@ package com.facebook.buck.rules;
 
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargets;
+import com.facebook.buck.util.BuckConstant;
 
 import java.nio.file.Path;
 
@@ -73,10 +74,16 @@ class BuildInfo {
   static final String METADATA_KEY_FOR_DEPS = "DEPS";
 
   /**
-   * Key for {@link OnDiskBuildInfo} to store the manifest for build rules supporting manifest-based
-   * caching.
+   * Directory where the manifests of build rules supporting manifest-based caching are kept, by
+   * manifest rule key, so that they outlive the metadata of the builds which used them.
    */
-  static final String MANIFEST = "MANIFEST";
+  static final Path MANIFEST_DIRECTORY = BuckConstant.BUCK_OUTPUT_PATH.resolve("manifests");
+
+  /**
+   * How many manifests are kept in each shard of {@link #MANIFEST_DIRECTORY}, the least recently
+   * used being deleted first, as a rule gets a new manifest key whenever its other inputs change.
+   */
+  static final int MAX_MANIFESTS_PER_SHARD = 64;
 
   /** Utility class: do not instantiate. */
   private BuildInfo() {}
@@ -89,4 +96,14 @@ class BuildInfo {
   static Path getPathToMetadataDirectory(BuildTarget target) {
     return BuildTargets.getScratchPath(target, ".%s/metadata/");
   }
+
+  /**
+   * @return the path, relative to the project root, of the local copy of the manifest stored in
+   *     the cache under {@code manifestKey}.
+   */
+  static Path getPathToManifest(RuleKey manifestKey) {
+    String key = manifestKey.toString();
+    // Shard like the dir cache does, so no directory ends up with too many entries.
+    return MANIFEST_DIRECTORY.resolve(key.substring(0, 2)).resolve(key);
+  }
 }
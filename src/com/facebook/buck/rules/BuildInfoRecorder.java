@@ -19,6 +19,7 @@ package com.facebook.buck.rules;
 import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCodec;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.event.ArtifactCompressionEvent;
 import com.facebook.buck.event.BuckEventBus;
@@ -56,6 +57,7 @@ import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Map;
 import java.util.Set;
@@ -162,9 +164,18 @@ public class BuildInfoRecorder {
 
     for (Map.Entry<String, String> entry :
          Iterables.concat(metadataToWrite.entrySet(), getBuildMetadata().entrySet())) {
-      projectFilesystem.writeContentsToPath(
-          entry.getValue(),
-          pathToMetadataDirectory.resolve(entry.getKey()));
+      // Metadata restored from a cache may share its contents with the cache's copy, so it is
+      // replaced rather than written over.
+      Path tmp = projectFilesystem.createTempFile(pathToMetadataDirectory, entry.getKey(), ".tmp");
+      try {
+        projectFilesystem.writeContentsToPath(entry.getValue(), tmp);
+        projectFilesystem.move(
+            tmp,
+            pathToMetadataDirectory.resolve(entry.getKey()),
+            StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        projectFilesystem.deleteFileAtPathIfExists(tmp);
+      }
     }
   }
 
@@ -275,6 +286,25 @@ public class BuildInfoRecorder {
       ArtifactCache artifactCache,
       BuckEventBus eventBus)
       throws InterruptedException {
+    performUploadToArtifactCache(
+        ruleKeys,
+        artifactCache,
+        eventBus,
+        ArtifactCodec.DEFLATE,
+        ArtifactCodec.DEFAULT_DEFLATE_LEVEL);
+  }
+
+  /**
+   * Like {@link #performUploadToArtifactCache(ImmutableSet, ArtifactCache, BuckEventBus)}, but
+   * compresses the files in the zip with the given codec, which is recorded in the metadata.
+   */
+  public void performUploadToArtifactCache(
+      ImmutableSet<RuleKey> ruleKeys,
+      ArtifactCache artifactCache,
+      BuckEventBus eventBus,
+      ArtifactCodec codec,
+      int compressionLevel)
+      throws InterruptedException {
 
     // Skip all of this if caching is disabled. Although artifactCache.store() will be a noop,
     // building up the zip is wasted I/O.
@@ -295,8 +325,15 @@ public class BuildInfoRecorder {
       zip = Files.createTempFile(
           "buck_artifact_" + MoreFiles.sanitize(buildTarget.getShortName()),
           ".zip");
-      buildMetadata = getBuildMetadata();
-      projectFilesystem.createZip(pathsToIncludeInZip, zip, ImmutableMap.<Path, String>of());
+      buildMetadata = ImmutableMap.<String, String>builder()
+          .putAll(getBuildMetadata())
+          .put(ArtifactCodec.METADATA_KEY, codec.getMetadataValue())
+          .build();
+      projectFilesystem.createZip(
+          pathsToIncludeInZip,
+          zip,
+          ImmutableMap.<Path, String>of(),
+          codec.getZipCompressionLevel(compressionLevel));
     } catch (IOException e) {
       eventBus.post(ConsoleEvent.info("Failed to create zip for %s containing:\n%s",
           buildTarget,
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.step.HasResourceAmounts;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.facebook.buck.util.concurrent.ResourceSemaphore;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * How much of the machine the steps of each rule use, and the budget that all the steps the
+ * build engine runs at once have to fit in.
+ */
+public class BuildResources {
+
+  /**
+   * What a step uses unless it says otherwise: one core, and no memory beyond what buck has.
+   */
+  public static final ResourceAmounts DEFAULT_STEP_AMOUNTS = ResourceAmounts.of(1, 0);
+
+  private final ResourceSemaphore semaphore;
+  private final ImmutableMap<String, ResourceAmounts> amountsPerRuleType;
+
+  /**
+   * @param budget the resources of the machine the build may use.
+   * @param amountsPerRuleType what each step of the rules of each type uses, regardless of what
+   *     the steps themselves say.
+   */
+  public BuildResources(
+      ResourceAmounts budget,
+      ImmutableMap<String, ResourceAmounts> amountsPerRuleType) {
+    this.semaphore = new ResourceSemaphore(budget);
+    this.amountsPerRuleType = amountsPerRuleType;
+  }
+
+  /**
+   * @return resources which never hold any step back, leaving the thread count as the only
+   *     limit.
+   */
+  public static BuildResources unlimited() {
+    return new BuildResources(
+        ResourceAmounts.of(Integer.MAX_VALUE, Long.MAX_VALUE),
+        ImmutableMap.<String, ResourceAmounts>of());
+  }
+
+  public ResourceAmounts getBudget() {
+    return semaphore.getBudget();
+  }
+
+  /**
+   * @return what {@code step} of {@code rule} uses while it runs.
+   */
+  public ResourceAmounts getAmounts(BuildRule rule, Step step) {
+    ResourceAmounts ruleAmounts = amountsPerRuleType.get(rule.getType());
+    if (ruleAmounts != null) {
+      return ruleAmounts;
+    }
+    if (step instanceof HasResourceAmounts) {
+      return ((HasResourceAmounts) step).getResourceAmounts();
+    }
+    return DEFAULT_STEP_AMOUNTS;
+  }
+
+  /**
+   * Blocks until there is room in the budget for {@code step} of {@code rule} to run.
+   *
+   * @return what was taken from the budget, to be passed to {@link #release} once the step is
+   *     done.
+   */
+  public ResourceAmounts acquire(BuildRule rule, Step step) throws InterruptedException {
+    return semaphore.acquire(getAmounts(rule, step));
+  }
+
+  public void release(ResourceAmounts amounts) {
+    semaphore.release(amounts);
+  }
+}
@@ -17,9 +17,14 @@
 package com.facebook.buck.rules;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCodec;
+import com.facebook.buck.artifact_cache.BatchingArtifactCacheDecorator;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.MaterializableOutput;
+import com.facebook.buck.artifact_cache.PrefetchingArtifactCacheDecorator;
 import com.facebook.buck.event.ArtifactCompressionEvent;
+import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.event.ThrowableConsoleEvent;
 import com.facebook.buck.io.LazyPath;
@@ -31,8 +36,10 @@ import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.Pair;
 import com.facebook.buck.rules.keys.AbiRule;
 import com.facebook.buck.rules.keys.AbiRuleKeyBuilderFactory;
+import com.facebook.buck.rules.keys.DaemonicRuleKeyCache;
 import com.facebook.buck.rules.keys.DefaultDependencyFileRuleKeyBuilderFactory;
 import com.facebook.buck.rules.keys.DefaultRuleKeyBuilderFactory;
+import com.facebook.buck.rules.keys.DefaultRuleKeyBuilderFactoryOptions;
 import com.facebook.buck.rules.keys.DependencyFileRuleKeyBuilderFactory;
 import com.facebook.buck.rules.keys.InputBasedRuleKeyBuilderFactory;
 import com.facebook.buck.rules.keys.SupportsDependencyFileRuleKey;
@@ -44,15 +51,20 @@ import com.facebook.buck.util.BuckConstant;
 import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.NamedTemporaryFile;
 import com.facebook.buck.util.cache.DefaultFileHashCache;
+import com.facebook.buck.util.cache.DefaultFileHashCacheOptions;
 import com.facebook.buck.util.cache.FileHashCache;
 import com.facebook.buck.util.cache.StackedFileHashCache;
 import com.facebook.buck.util.concurrent.MoreFutures;
+import com.facebook.buck.util.concurrent.PrioritizedRunnable;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.facebook.buck.zip.Unzip;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
 import com.google.common.base.Functions;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
 import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
@@ -63,10 +75,10 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.hash.HashCode;
-import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -74,6 +86,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -84,8 +97,10 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -93,6 +108,10 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -108,6 +127,17 @@ public class CachingBuildEngine implements BuildEngine {
 
   private static final Logger LOG = Logger.get(CachingBuildEngine.class);
 
+  /**
+   * Upper bound on the number of rule keys looked up in a single batched cache fetch.
+   */
+  private static final int MAX_CACHE_FETCH_BATCH_SIZE = 128;
+
+  /**
+   * What a rule which hasn't been built locally before is assumed to take when estimating
+   * critical paths.
+   */
+  private static final long UNKNOWN_RULE_DURATION_MILLIS = 10;
+
   /**
    * These are the values returned by {@link #build(BuildContext, BuildRule)}.
    * This must always return the same value for the build of each target.
@@ -121,6 +151,57 @@ public class CachingBuildEngine implements BuildEngine {
   private final ConcurrentMap<BuildTarget, ListenableFuture<ImmutableSortedSet<BuildRule>>>
       ruleDeps = Maps.newConcurrentMap();
 
+  /**
+   * Guards the creation of the futures in {@link #results}, which, unlike the rule keys and deps,
+   * are made together with those of the rule's runtime deps.
+   */
+  private final ReentrantLock resultsLock = new ReentrantLock();
+
+  // How often build threads got in each other's way, since the last BuildEngineContentionEvent.
+  private final AtomicLong ruleKeyRaces = new AtomicLong();
+  private final AtomicLong ruleDepsRaces = new AtomicLong();
+  private final AtomicLong resultsLockContentions = new AtomicLong();
+
+  /**
+   * The estimated time it takes to build each rule and the longest chain of its deps.
+   */
+  private final ConcurrentMap<BuildTarget, Long> depChainMillis = Maps.newConcurrentMap();
+
+  /**
+   * The estimated time it takes to build each rule and the longest chain of rules which can only
+   * be built after it, up to the rules being built.
+   */
+  private final ConcurrentMap<BuildTarget, Long> remainingMillis = Maps.newConcurrentMap();
+
+  /**
+   * When enabled, cache lookups for rules whose keys become ready at the same time are coalesced
+   * into multi-key fetches, so that the build doesn't pay one round trip per rule.
+   */
+  private final boolean batchCacheFetches;
+  private final LoadingCache<ArtifactCache, ArtifactCache> batchingArtifactCaches =
+      CacheBuilder.newBuilder()
+          .weakKeys()
+          .build(new CacheLoader<ArtifactCache, ArtifactCache>() {
+            @Override
+            public ArtifactCache load(@Nonnull ArtifactCache artifactCache) {
+              return new BatchingArtifactCacheDecorator(
+                  artifactCache,
+                  MAX_CACHE_FETCH_BATCH_SIZE);
+            }
+          });
+
+  /**
+   * The prefetching caches builds have used, whose unclaimed prefetches are discarded once no
+   * build is running.  When a build's cache prefetches, the deps of each rule are looked up while
+   * the rule itself is, and so on down through those which miss, so that the walk finds their
+   * results waiting for it.
+   */
+  private final Set<PrefetchingArtifactCacheDecorator> prefetchingArtifactCaches =
+      Collections.newSetFromMap(
+          new MapMaker().weakKeys().<PrefetchingArtifactCacheDecorator, Boolean>makeMap());
+  private final Set<BuildTarget> prefetchedRules = Sets.newConcurrentHashSet();
+  private final AtomicInteger activeBuilds = new AtomicInteger();
+
   @Nullable
   private volatile Throwable firstFailure = null;
 
@@ -129,31 +210,53 @@ public class CachingBuildEngine implements BuildEngine {
   private final DependencySchedulingOrder dependencySchedulingOrder;
   private final DepFiles depFiles;
   private final long maxDepFileCacheEntries;
+  private final ArtifactCodec artifactCodec;
+  private final int artifactCompressionLevel;
   private final SourcePathResolver pathResolver;
   private final LoadingCache<ProjectFilesystem, FileHashCache> fileHashCaches;
   private final LoadingCache<ProjectFilesystem, RuleKeyFactories> ruleKeyFactories;
+  private final RuleDurations ruleDurations;
+  private final BuildResources buildResources;
 
   public CachingBuildEngine(
       ListeningExecutorService service,
-      final FileHashCache fileHashCache,
-      BuildMode buildMode,
-      DependencySchedulingOrder dependencySchedulingOrder,
-      DepFiles depFiles,
-      long maxDepFileCacheEntries,
+      FileHashCache fileHashCache,
+      final CachingBuildEngineOptions options,
       final BuildRuleResolver resolver) {
     this.service = service;
-    this.buildMode = buildMode;
-    this.dependencySchedulingOrder = dependencySchedulingOrder;
-    this.depFiles = depFiles;
-    this.maxDepFileCacheEntries = maxDepFileCacheEntries;
+    this.buildMode = options.getBuildMode();
+    this.dependencySchedulingOrder = options.getDependencySchedulingOrder();
+    this.depFiles = options.getDepFiles();
+    this.maxDepFileCacheEntries = options.getMaxDepFileCacheEntries();
+    this.artifactCodec = options.getArtifactCodec();
+    this.artifactCompressionLevel = options.getArtifactCompressionLevel();
     this.pathResolver = new SourcePathResolver(resolver);
+    this.ruleDurations = options.getRuleDurations();
+    this.buildResources = options.getBuildResources();
+    this.batchCacheFetches = options.isBatchCacheFetches();
 
-    this.fileHashCaches = createFileHashCacheLoader(fileHashCache);
+    this.fileHashCaches =
+        createFileHashCacheLoader(fileHashCache, options.getHashFunctionType());
     this.ruleKeyFactories = CacheBuilder.newBuilder()
         .build(new CacheLoader<ProjectFilesystem, RuleKeyFactories>() {
           @Override
           public RuleKeyFactories load(@Nonnull  ProjectFilesystem filesystem) throws Exception {
-            return RuleKeyFactories.build(fileHashCaches.get(filesystem), resolver);
+            // The daemonic cache only sees the changes to the files of its own cell.
+            Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache =
+                options.getDaemonicRuleKeyCache();
+            Optional<DaemonicRuleKeyCache> cellRuleKeyCache =
+                daemonicRuleKeyCache.isPresent() &&
+                    daemonicRuleKeyCache.get().getFilesystem().getRootPath().equals(
+                        filesystem.getRootPath()) ?
+                    daemonicRuleKeyCache :
+                    Optional.<DaemonicRuleKeyCache>absent();
+            return RuleKeyFactories.build(
+                fileHashCaches.get(filesystem),
+                resolver,
+                DefaultRuleKeyBuilderFactoryOptions.builder()
+                    .setHashFunctionType(options.getHashFunctionType())
+                    .setDaemonicRuleKeyCache(cellRuleKeyCache)
+                    .build());
           }
         });
   }
@@ -165,20 +268,23 @@ public class CachingBuildEngine implements BuildEngine {
   CachingBuildEngine(
       ListeningExecutorService service,
       FileHashCache fileHashCache,
-      BuildMode buildMode,
-      DependencySchedulingOrder dependencySchedulingOrder,
-      DepFiles depFiles,
-      long maxDepFileCacheEntries,
+      CachingBuildEngineOptions options,
       SourcePathResolver pathResolver,
       final Function<? super ProjectFilesystem, RuleKeyFactories> ruleKeyFactoriesFunction) {
     this.service = service;
-    this.buildMode = buildMode;
-    this.dependencySchedulingOrder = dependencySchedulingOrder;
-    this.depFiles = depFiles;
-    this.maxDepFileCacheEntries = maxDepFileCacheEntries;
+    this.buildMode = options.getBuildMode();
+    this.dependencySchedulingOrder = options.getDependencySchedulingOrder();
+    this.depFiles = options.getDepFiles();
+    this.maxDepFileCacheEntries = options.getMaxDepFileCacheEntries();
+    this.artifactCodec = options.getArtifactCodec();
+    this.artifactCompressionLevel = options.getArtifactCompressionLevel();
     this.pathResolver = pathResolver;
+    this.ruleDurations = options.getRuleDurations();
+    this.buildResources = options.getBuildResources();
+    this.batchCacheFetches = options.isBatchCacheFetches();
 
-    this.fileHashCaches = createFileHashCacheLoader(fileHashCache);
+    this.fileHashCaches =
+        createFileHashCacheLoader(fileHashCache, options.getHashFunctionType());
     this.ruleKeyFactories = CacheBuilder.newBuilder()
         .build(new CacheLoader<ProjectFilesystem, RuleKeyFactories>() {
           @Override
@@ -189,17 +295,21 @@ public class CachingBuildEngine implements BuildEngine {
   }
 
   private static LoadingCache<ProjectFilesystem, FileHashCache> createFileHashCacheLoader(
-      final FileHashCache defaultCache) {
+      final FileHashCache defaultCache,
+      final HashFunctionType hashFunctionType) {
     return CacheBuilder.newBuilder()
         .build(new CacheLoader<ProjectFilesystem, FileHashCache>() {
           @Override
           public FileHashCache load(@Nonnull  ProjectFilesystem filesystem) {
-            FileHashCache cellCache = new DefaultFileHashCache(filesystem);
+            DefaultFileHashCacheOptions options =
+                DefaultFileHashCacheOptions.builder().setHashFunctionType(hashFunctionType).build();
+            FileHashCache cellCache = new DefaultFileHashCache(filesystem, options);
             FileHashCache buckOutCache = new DefaultFileHashCache(
                 new ProjectFilesystem(
                     filesystem.getRootPath(),
                     Optional.of(ImmutableSet.of(BuckConstant.BUCK_OUTPUT_PATH)),
-                    ImmutableSet.<ProjectFilesystem.PathOrGlobMatcher>of()));
+                    ImmutableSet.<ProjectFilesystem.PathOrGlobMatcher>of()),
+                options);
             return new StackedFileHashCache(
                 ImmutableList.of(defaultCache, cellCache, buckOutCache));
           }
@@ -243,6 +353,9 @@ public class CachingBuildEngine implements BuildEngine {
       case RANDOM:
         deps = shuffled(deps);
         break;
+      case CRITICAL_PATH:
+        deps = longestCriticalPathFirst(deps);
+        break;
     }
     for (BuildRule dep : deps) {
       depResults.add(getBuildRuleResultWithRuntimeDeps(dep, context, asyncCallbacks));
@@ -256,6 +369,179 @@ public class CachingBuildEngine implements BuildEngine {
     return rulesList;
   }
 
+  private List<BuildRule> longestCriticalPathFirst(Iterable<BuildRule> rules) {
+    ArrayList<BuildRule> rulesList = Lists.newArrayList(rules);
+    Collections.sort(
+        rulesList,
+        new Comparator<BuildRule>() {
+          @Override
+          public int compare(BuildRule a, BuildRule b) {
+            return Long.compare(getDepChainMillis(b), getDepChainMillis(a));
+          }
+        });
+    return rulesList;
+  }
+
+  private long getDurationMillis(BuildRule rule) {
+    return ruleDurations.getMillis(rule.getBuildTarget()).or(UNKNOWN_RULE_DURATION_MILLIS);
+  }
+
+  /**
+   * @return the estimated time it takes to build {@code rule} and the longest chain of its deps,
+   *     using how long they took to build before.
+   */
+  @VisibleForTesting
+  long getDepChainMillis(BuildRule rule) {
+    Long known = depChainMillis.get(rule.getBuildTarget());
+    if (known != null) {
+      return known;
+    }
+    long longestDepMillis = 0;
+    for (BuildRule dep : rule.getDeps()) {
+      longestDepMillis = Math.max(longestDepMillis, getDepChainMillis(dep));
+    }
+    long millis = longestDepMillis + getDurationMillis(rule);
+    depChainMillis.put(rule.getBuildTarget(), millis);
+    return millis;
+  }
+
+  /**
+   * Estimates, for {@code topLevelRule} and each of its transitive deps, the time it takes to
+   * build the rule and the longest chain of rules which wait on it, up to {@code topLevelRule}.
+   * Estimates from earlier top-level rules are only ever raised.
+   */
+  @VisibleForTesting
+  void estimateRemainingMillis(BuildRule topLevelRule) {
+    List<BuildRule> postOrder = Lists.newArrayList();
+    addInPostOrder(topLevelRule, Sets.<BuildRule>newHashSet(), postOrder);
+
+    // Visit each rule after all the rules depending on it, so that its estimate is complete
+    // before it's passed on to its deps.
+    Map<BuildRule, Long> waitingMillis = Maps.newHashMap();
+    for (BuildRule rule : Lists.reverse(postOrder)) {
+      Long waiting = waitingMillis.get(rule);
+      long millis = getDurationMillis(rule) + (waiting == null ? 0 : waiting);
+      Long previous = remainingMillis.putIfAbsent(rule.getBuildTarget(), millis);
+      while (previous != null && previous < millis &&
+          !remainingMillis.replace(rule.getBuildTarget(), previous, millis)) {
+        previous = remainingMillis.get(rule.getBuildTarget());
+      }
+      for (BuildRule dep : rule.getDeps()) {
+        Long depWaiting = waitingMillis.get(dep);
+        if (depWaiting == null || depWaiting < millis) {
+          waitingMillis.put(dep, millis);
+        }
+      }
+    }
+  }
+
+  private static void addInPostOrder(
+      BuildRule rule,
+      Set<BuildRule> visited,
+      List<BuildRule> postOrder) {
+    if (!visited.add(rule)) {
+      return;
+    }
+    for (BuildRule dep : rule.getDeps()) {
+      addInPostOrder(dep, visited, postOrder);
+    }
+    postOrder.add(rule);
+  }
+
+  @VisibleForTesting
+  Optional<Long> getRemainingMillis(BuildTarget target) {
+    return Optional.fromNullable(remainingMillis.get(target));
+  }
+
+  /**
+   * @return the executor to do the work of building {@code rule} on once its deps are built.  When
+   *     scheduling by critical path, this queues the work with the estimated time left from it to
+   *     the end of the build as its priority, so that a work queue which honors priorities starts
+   *     the rules on the longest chains first.
+   */
+  private Executor getBuildExecutor(BuildRule rule) {
+    if (dependencySchedulingOrder != DependencySchedulingOrder.CRITICAL_PATH) {
+      return service;
+    }
+    final long priority =
+        getRemainingMillis(rule.getBuildTarget()).or(getDurationMillis(rule));
+    return new Executor() {
+      @Override
+      public void execute(@Nonnull Runnable command) {
+        service.execute(new PrioritizedRunnable(command, priority));
+      }
+    };
+  }
+
+  /**
+   * @return what to look the artifacts of {@code artifactCache} up in, which, when enabled,
+   *     batches the lookups made at once.
+   */
+  private ArtifactCache getFetchingArtifactCache(ArtifactCache artifactCache) {
+    if (!batchCacheFetches) {
+      return artifactCache;
+    }
+    return batchingArtifactCaches.getUnchecked(artifactCache);
+  }
+
+  /**
+   * Starts looking up the deps of {@code rule} in the cache, if it prefetches.  The walk
+   * only gets to them if {@code rule} misses, which would otherwise cost another round trip to
+   * the cache for each level of the graph.  Deps which miss have their own deps prefetched in
+   * turn.  Rules the walk has already reached, or which are already built locally, are left to
+   * the walk, as it won't look them up or go below them.
+   */
+  private void prefetchDeps(BuildRule rule, final BuildContext context) {
+    if (!(context.getArtifactCache() instanceof PrefetchingArtifactCacheDecorator)) {
+      return;
+    }
+    PrefetchingArtifactCacheDecorator artifactCache =
+        (PrefetchingArtifactCacheDecorator) context.getArtifactCache();
+    prefetchingArtifactCaches.add(artifactCache);
+    for (final BuildRule dep : rule.getDeps()) {
+      BuildTarget target = dep.getBuildTarget();
+      if (results.containsKey(target) || !prefetchedRules.add(target)) {
+        continue;
+      }
+
+      // The key of every dep is known by the time the rule's own is.
+      ListenableFuture<RuleKey> ruleKeyFuture = ruleKeys.get(target);
+      if (ruleKeyFuture == null || !ruleKeyFuture.isDone()) {
+        continue;
+      }
+      RuleKey ruleKey;
+      try {
+        ruleKey = Futures.getUnchecked(ruleKeyFuture);
+      } catch (UncheckedExecutionException e) {
+        // The walk reports the failure.
+        continue;
+      }
+
+      Optional<RuleKey> builtRuleKey =
+          context.createOnDiskBuildInfoFor(target, dep.getProjectFilesystem())
+              .getRuleKey(BuildInfo.METADATA_KEY_FOR_RULE_KEY);
+      if (ruleKey.equals(builtRuleKey.orNull())) {
+        continue;
+      }
+
+      Futures.addCallback(
+          artifactCache.prefetch(ruleKey, dep.getProjectFilesystem()),
+          new FutureCallback<CacheResult>() {
+            @Override
+            public void onSuccess(CacheResult result) {
+              if (!result.getType().isSuccess()) {
+                prefetchDeps(dep, context);
+              }
+            }
+
+            @Override
+            public void onFailure(@Nonnull Throwable t) {
+              // The walk looks the dep up itself.
+            }
+          });
+    }
+  }
+
   private ListenableFuture<BuildResult> processBuildRule(
       final BuildRule rule,
       final BuildContext context,
@@ -285,6 +571,7 @@ public class CachingBuildEngine implements BuildEngine {
     }
 
     // 2. Rule key cache lookup.
+    prefetchDeps(rule, context);
     final CacheResult cacheResult =
         tryToFetchArtifactFromBuildCacheAndOverlayOnTopOfProjectFilesystem(
             rule,
@@ -455,7 +742,11 @@ public class CachingBuildEngine implements BuildEngine {
 
             if (buildMode != BuildMode.POPULATE_FROM_REMOTE_CACHE) {
               // 5. build the rule
+              long startMillis = context.getClock().currentTimeMillis();
               executeCommandsNowThatDepsAreBuilt(rule, context, buildableContext);
+              ruleDurations.record(
+                  rule.getBuildTarget(),
+                  context.getClock().currentTimeMillis() - startMillis);
               return Futures.immediateFuture(
                   BuildResult.success(rule, BuildRuleSuccessType.BUILT_LOCALLY, cacheResult));
             } else {
@@ -469,7 +760,7 @@ public class CachingBuildEngine implements BuildEngine {
 
           }
         },
-        service);
+        getBuildExecutor(rule));
   }
 
   private ListenableFuture<BuildResult> processBuildRule(
@@ -694,7 +985,9 @@ public class CachingBuildEngine implements BuildEngine {
                     buildInfoRecorder.performUploadToArtifactCache(
                         ImmutableSet.copyOf(ruleKeys),
                         context.getArtifactCache(),
-                        context.getEventBus());
+                        context.getEventBus(),
+                        artifactCodec,
+                        artifactCompressionLevel);
                   } catch (Throwable t) {
                     context.getEventBus().post(
                         ThrowableConsoleEvent.create(
@@ -843,8 +1136,14 @@ public class CachingBuildEngine implements BuildEngine {
     }
 
     // Otherwise, grab the lock and delegate to the real method,
-    synchronized (results) {
+    if (!resultsLock.tryLock()) {
+      resultsLockContentions.incrementAndGet();
+      resultsLock.lock();
+    }
+    try {
       return getBuildRuleResultWithRuntimeDepsUnlocked(rule, context, asyncCallbacks);
+    } finally {
+      resultsLock.unlock();
     }
   }
 
@@ -882,101 +1181,172 @@ public class CachingBuildEngine implements BuildEngine {
     return seen.size();
   }
 
-  private synchronized ListenableFuture<ImmutableSortedSet<BuildRule>> getRuleDeps(
-      final BuildRule rule) {
-    ListenableFuture<ImmutableSortedSet<BuildRule>> deps = ruleDeps.get(rule.getBuildTarget());
-    if (deps == null) {
-      deps =
-          service.submit(
-              new Callable<ImmutableSortedSet<BuildRule>>() {
-                @Override
-                public ImmutableSortedSet<BuildRule> call() throws Exception {
-                  ImmutableSortedSet.Builder<BuildRule> deps = ImmutableSortedSet.naturalOrder();
-                  deps.addAll(rule.getDeps());
-                  if (rule instanceof HasRuntimeDeps) {
-                    deps.addAll(((HasRuntimeDeps) rule).getRuntimeDeps());
-                  }
-                  return deps.build();
-                }
-              });
-      ruleDeps.put(rule.getBuildTarget(), deps);
+  /**
+   * @return the future in {@code futures} for {@code target}, which {@code compute} creates if
+   *     there isn't one yet.  No lock is taken: if several threads get here for the same target at
+   *     once, the first to publish its placeholder future computes it and the rest use that.
+   */
+  @VisibleForTesting
+  static <T> ListenableFuture<T> getOrCompute(
+      ConcurrentMap<BuildTarget, ListenableFuture<T>> futures,
+      BuildTarget target,
+      AtomicLong races,
+      Supplier<ListenableFuture<T>> compute) {
+    ListenableFuture<T> existing = futures.get(target);
+    if (existing != null) {
+      return existing;
+    }
+    SettableFuture<T> future = SettableFuture.create();
+    existing = futures.putIfAbsent(target, future);
+    if (existing != null) {
+      races.incrementAndGet();
+      return existing;
     }
-    return deps;
+    try {
+      future.setFuture(compute.get());
+    } catch (RuntimeException e) {
+      future.setException(e);
+    }
+    return future;
   }
 
-  private synchronized ListenableFuture<RuleKey> calculateRuleKey(
+  private ListenableFuture<ImmutableSortedSet<BuildRule>> getRuleDeps(final BuildRule rule) {
+    return getOrCompute(
+        ruleDeps,
+        rule.getBuildTarget(),
+        ruleDepsRaces,
+        new Supplier<ListenableFuture<ImmutableSortedSet<BuildRule>>>() {
+          @Override
+          public ListenableFuture<ImmutableSortedSet<BuildRule>> get() {
+            return service.submit(
+                new Callable<ImmutableSortedSet<BuildRule>>() {
+                  @Override
+                  public ImmutableSortedSet<BuildRule> call() throws Exception {
+                    ImmutableSortedSet.Builder<BuildRule> deps =
+                        ImmutableSortedSet.naturalOrder();
+                    deps.addAll(rule.getDeps());
+                    if (rule instanceof HasRuntimeDeps) {
+                      deps.addAll(((HasRuntimeDeps) rule).getRuntimeDeps());
+                    }
+                    return deps.build();
+                  }
+                });
+          }
+        });
+  }
+
+  private ListenableFuture<RuleKey> calculateRuleKey(
       final BuildRule rule,
       final BuildContext context) {
-    ListenableFuture<RuleKey> ruleKey = ruleKeys.get(rule.getBuildTarget());
-    if (ruleKey == null) {
-
-      // Grab all the dependency rule key futures.  Since our rule key calculation depends on this
-      // one, we need to wait for them to complete.
-      ListenableFuture<List<RuleKey>> depKeys =
-          Futures.transformAsync(
-              getRuleDeps(rule),
-              new AsyncFunction<ImmutableSortedSet<BuildRule>, List<RuleKey>>() {
-                @Override
-                public ListenableFuture<List<RuleKey>> apply(
-                    @Nonnull ImmutableSortedSet<BuildRule> deps) {
-                  List<ListenableFuture<RuleKey>> depKeys =
-                      Lists.newArrayListWithExpectedSize(rule.getDeps().size());
-                  for (BuildRule dep : deps) {
-                    depKeys.add(calculateRuleKey(dep, context));
-                  }
-                  return Futures.allAsList(depKeys);
+    return getOrCompute(
+        ruleKeys,
+        rule.getBuildTarget(),
+        ruleKeyRaces,
+        new Supplier<ListenableFuture<RuleKey>>() {
+          @Override
+          public ListenableFuture<RuleKey> get() {
+            return calculateRuleKeyUnmemoized(rule, context);
+          }
+        });
+  }
+
+  private ListenableFuture<RuleKey> calculateRuleKeyUnmemoized(
+      final BuildRule rule,
+      final BuildContext context) {
+    // Grab all the dependency rule key futures.  Since our rule key calculation depends on this
+    // one, we need to wait for them to complete.
+    ListenableFuture<List<RuleKey>> depKeys =
+        Futures.transformAsync(
+            getRuleDeps(rule),
+            new AsyncFunction<ImmutableSortedSet<BuildRule>, List<RuleKey>>() {
+              @Override
+              public ListenableFuture<List<RuleKey>> apply(
+                  @Nonnull ImmutableSortedSet<BuildRule> deps) {
+                List<ListenableFuture<RuleKey>> depKeys =
+                    Lists.newArrayListWithExpectedSize(rule.getDeps().size());
+                for (BuildRule dep : deps) {
+                  depKeys.add(calculateRuleKey(dep, context));
                 }
-              });
+                return Futures.allAsList(depKeys);
+              }
+            });
 
-      final RuleKeyFactories keyFactories =
-          ruleKeyFactories.getUnchecked(rule.getProjectFilesystem());
+    final RuleKeyFactories keyFactories =
+        ruleKeyFactories.getUnchecked(rule.getProjectFilesystem());
 
-      // Setup a future to calculate this rule key once the dependencies have been calculated.
-      ruleKey = Futures.transform(
-          depKeys,
-          new Function<List<RuleKey>, RuleKey>() {
-            @Override
-            public RuleKey apply(List<RuleKey> input) {
-              context.getEventBus().logVerboseAndPost(LOG, BuildRuleEvent.started(rule));
-              try {
-                return keyFactories.defaultRuleKeyBuilderFactory.build(rule);
-              } finally {
-                context.getEventBus().logVerboseAndPost(
-                    LOG,
-                    BuildRuleEvent.suspended(
-                        rule,
-                        keyFactories.defaultRuleKeyBuilderFactory));
-              }
+    // Setup a future to calculate this rule key once the dependencies have been calculated.
+    return Futures.transform(
+        depKeys,
+        new Function<List<RuleKey>, RuleKey>() {
+          @Override
+          public RuleKey apply(List<RuleKey> input) {
+            context.getEventBus().logVerboseAndPost(LOG, BuildRuleEvent.started(rule));
+            try {
+              return keyFactories.defaultRuleKeyBuilderFactory.build(rule);
+            } finally {
+              context.getEventBus().logVerboseAndPost(
+                  LOG,
+                  BuildRuleEvent.suspended(
+                      rule,
+                      keyFactories.defaultRuleKeyBuilderFactory));
             }
-          },
-          service);
+          }
+        },
+        service);
+  }
 
-      // Record the rule key future.
-      ruleKeys.put(rule.getBuildTarget(), ruleKey);
+  /**
+   * Posts how often build threads got in each other's way since the last time this was called.
+   */
+  private void postContention(BuckEventBus eventBus) {
+    long ruleKeyRaces = this.ruleKeyRaces.getAndSet(0);
+    long ruleDepsRaces = this.ruleDepsRaces.getAndSet(0);
+    long resultsLockContentions = this.resultsLockContentions.getAndSet(0);
+    if (ruleKeyRaces + ruleDepsRaces + resultsLockContentions > 0) {
+      eventBus.post(
+          new BuildEngineContentionEvent(ruleKeyRaces, ruleDepsRaces, resultsLockContentions));
     }
-
-    return ruleKey;
   }
 
   @Override
-  public ListenableFuture<BuildResult> build(BuildContext context, BuildRule rule) {
+  public ListenableFuture<BuildResult> build(final BuildContext context, BuildRule rule) {
     // Keep track of all jobs that run asynchronously with respect to the build dep chain.  We want
     // to make sure we wait for these before calling yielding the final build result.
     final ConcurrentLinkedQueue<ListenableFuture<Void>> asyncCallbacks =
         new ConcurrentLinkedQueue<>();
+    activeBuilds.incrementAndGet();
+    if (dependencySchedulingOrder == DependencySchedulingOrder.CRITICAL_PATH &&
+        !remainingMillis.containsKey(rule.getBuildTarget())) {
+      estimateRemainingMillis(rule);
+    }
     final ListenableFuture<BuildResult> resultFuture =
         getBuildRuleResultWithRuntimeDeps(rule, context, asyncCallbacks);
-    return Futures.transformAsync(
+    ListenableFuture<BuildResult> buildFuture = Futures.transformAsync(
         resultFuture,
         new AsyncFunction<BuildResult, BuildResult>() {
           @Override
           public ListenableFuture<BuildResult> apply(@Nonnull BuildResult result)
               throws Exception {
+            postContention(context.getEventBus());
             return Futures.transform(
                 Futures.allAsList(asyncCallbacks),
                 Functions.constant(result));
           }
         });
+    buildFuture.addListener(
+        new Runnable() {
+          @Override
+          public void run() {
+            // Whatever is still prefetched once nothing is being built won't be needed.
+            if (activeBuilds.decrementAndGet() == 0) {
+              for (PrefetchingArtifactCacheDecorator artifactCache : prefetchingArtifactCaches) {
+                artifactCache.discardUnclaimed();
+              }
+            }
+          }
+        },
+        MoreExecutors.directExecutor());
+    return buildFuture;
   }
 
   private CacheResult tryToFetchArtifactFromBuildCacheAndOverlayOnTopOfProjectFilesystem(
@@ -988,8 +1358,9 @@ public class CachingBuildEngine implements BuildEngine {
       BuildContext buildContext) throws InterruptedException {
 
     // Create a temp file whose extension must be ".zip" for Filesystems.newFileSystem() to infer
-    // that we are creating a zip-based FileSystem.
-    LazyPath lazyZipPath = new LazyPath() {
+    // that we are creating a zip-based FileSystem.  Caches keeping artifacts unzipped may restore
+    // them into the filesystem directly instead.
+    MaterializableOutput lazyZipPath = new MaterializableOutput(filesystem) {
       @Override
       protected Path create() throws IOException {
         return Files.createTempFile(
@@ -1002,14 +1373,32 @@ public class CachingBuildEngine implements BuildEngine {
     // Then we could download directly from the remote cache into the on-disk cache and unzip it
     // from there.
     CacheResult cacheResult =
-        buildInfoRecorder.fetchArtifactForBuildable(ruleKey, lazyZipPath, artifactCache);
+        buildInfoRecorder.fetchArtifactForBuildable(
+            ruleKey,
+            lazyZipPath,
+            getFetchingArtifactCache(artifactCache));
     if (!cacheResult.getType().isSuccess()) {
       return cacheResult;
     }
     LOG.debug("Fetched '%s' from cache with rulekey '%s'", rule, ruleKey);
 
-    // It should be fine to get the path straight away, since cache already did it's job.
-    Path zipPath = lazyZipPath.getUnchecked();
+    // Artifacts compressed with a codec this build doesn't know are rebuilt instead.
+    if (cacheResult.getType() == CacheResultType.HIT &&
+        !ArtifactCodec.fromMetadata(cacheResult.getMetadata()).isPresent()) {
+      LOG.warn(
+          "Artifact for '%s' with rulekey '%s' uses unknown codec '%s'",
+          rule,
+          ruleKey,
+          cacheResult.getMetadata().get(ArtifactCodec.METADATA_KEY));
+      if (!lazyZipPath.isMaterialized()) {
+        try {
+          Files.deleteIfExists(lazyZipPath.getUnchecked());
+        } catch (IOException e) {
+          LOG.warn(e, "Failed to delete %s", lazyZipPath);
+        }
+      }
+      return CacheResult.miss();
+    }
 
     // We unzip the file in the root of the project directory.
     // Ideally, the following would work:
@@ -1026,20 +1415,27 @@ public class CachingBuildEngine implements BuildEngine {
         ImmutableSet.of(ruleKey));
     buildContext.getEventBus().post(started);
     try {
-      Unzip.extractZipFile(
-          zipPath.toAbsolutePath(),
-          filesystem,
-          Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
-
-      // We only delete the ZIP file when it has been unzipped successfully. Otherwise, we leave it
-      // around for debugging purposes.
-      Files.delete(zipPath);
+      if (!lazyZipPath.isMaterialized()) {
+        // It should be fine to get the path straight away, since cache already did it's job.
+        Path zipPath = lazyZipPath.getUnchecked();
+        Unzip.extractZipFile(
+            zipPath.toAbsolutePath(),
+            filesystem,
+            Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+
+        // We only delete the ZIP file when it has been unzipped successfully. Otherwise, we leave
+        // it around for debugging purposes.
+        Files.delete(zipPath);
+      }
 
       if (cacheResult.getType() == CacheResultType.HIT) {
 
         // If we have a hit, also write out the build metadata.
         Path metadataDir = BuildInfo.getPathToMetadataDirectory(rule.getBuildTarget());
         for (Map.Entry<String, String> ent : cacheResult.getMetadata().entrySet()) {
+          if (ent.getKey().equals(ArtifactCodec.METADATA_KEY)) {
+            continue;
+          }
           Path dest = metadataDir.resolve(ent.getKey());
           filesystem.createParentDirs(dest);
           filesystem.writeContentsToPath(ent.getValue(), dest);
@@ -1055,7 +1451,7 @@ public class CachingBuildEngine implements BuildEngine {
                   "The rule will be built locally, " +
                   "but here is the stacktrace of the failed unzip call:\n" +
                   rule.getBuildTarget(),
-              zipPath.toAbsolutePath(),
+              lazyZipPath,
               Throwables.getStackTraceAsString(e)));
       return CacheResult.miss();
     } finally {
@@ -1086,7 +1482,7 @@ public class CachingBuildEngine implements BuildEngine {
     StepRunner stepRunner = context.getStepRunner();
     Optional<BuildTarget> optionalTarget = Optional.of(rule.getBuildTarget());
     for (Step step : steps) {
-      stepRunner.runStepForBuildTarget(step, optionalTarget);
+      runStep(rule, step, stepRunner, optionalTarget);
 
       // Check for interruptions that may have been ignored by step.
       if (Thread.interrupted()) {
@@ -1102,6 +1498,23 @@ public class CachingBuildEngine implements BuildEngine {
         end - start);
   }
 
+  /**
+   * Runs {@code step} of {@code rule} once there's room for it in the resource budget.
+   */
+  private void runStep(
+      BuildRule rule,
+      Step step,
+      StepRunner stepRunner,
+      Optional<BuildTarget> optionalTarget)
+      throws InterruptedException, StepFailedException {
+    ResourceAmounts amounts = buildResources.acquire(rule, step);
+    try {
+      stepRunner.runStepForBuildTarget(step, optionalTarget);
+    } finally {
+      buildResources.release(amounts);
+    }
+  }
+
   private void executePostBuildSteps(
       BuildRule rule,
       Iterable<Step> postBuildSteps,
@@ -1113,7 +1526,7 @@ public class CachingBuildEngine implements BuildEngine {
     StepRunner stepRunner = context.getStepRunner();
     Optional<BuildTarget> optionalTarget = Optional.of(rule.getBuildTarget());
     for (Step step : postBuildSteps) {
-      stepRunner.runStepForBuildTarget(step, optionalTarget);
+      runStep(rule, step, stepRunner, optionalTarget);
 
       // Check for interruptions that may have been ignored by step.
       if (Thread.interrupted()) {
@@ -1187,8 +1600,8 @@ public class CachingBuildEngine implements BuildEngine {
   }
 
   @VisibleForTesting
-  protected Path getManifestPath(BuildRule rule) {
-    return BuildInfo.getPathToMetadataDirectory(rule.getBuildTarget()).resolve(BuildInfo.MANIFEST);
+  protected Path getManifestPath(RuleKey manifestKey) {
+    return BuildInfo.getPathToManifest(manifestKey);
   }
 
   @VisibleForTesting
@@ -1197,7 +1610,63 @@ public class CachingBuildEngine implements BuildEngine {
         .depFileRuleKeyBuilderFactory.buildManifestKey(rule).getFirst();
   }
 
-  // Update the on-disk manifest with the new dep-file rule key and push it to the cache.
+  // Read the local copy of the manifest for the given manifest key, if there is one.
+  private Optional<Manifest> readLocalManifest(BuildRule rule, RuleKey manifestKey)
+      throws IOException {
+    Path manifestPath = getManifestPath(manifestKey);
+    if (!rule.getProjectFilesystem().exists(manifestPath)) {
+      return Optional.absent();
+    }
+    try (InputStream inputStream =
+             new BufferedInputStream(
+                 rule.getProjectFilesystem().newFileInputStream(manifestPath))) {
+      Manifest manifest = new Manifest(inputStream);
+      // Mark it as used, so that it's among the last in its shard to be deleted.
+      rule.getProjectFilesystem().touch(manifestPath);
+      return Optional.of(manifest);
+    } catch (IOException | IllegalStateException e) {
+      // A corrupt or outdated copy only costs us a fetch of the manifest.
+      LOG.warn(e, "Ignoring unreadable manifest %s", manifestPath);
+      return Optional.absent();
+    }
+  }
+
+  // Replace the local copy of the manifest for the given manifest key.  The new copy is written
+  // next to it and moved into place, so that a build which dies half way cannot leave a truncated
+  // manifest behind.
+  private void writeLocalManifest(BuildRule rule, RuleKey manifestKey, Manifest manifest)
+      throws IOException {
+    ProjectFilesystem filesystem = rule.getProjectFilesystem();
+    Path manifestPath = getManifestPath(manifestKey);
+    filesystem.createParentDirs(manifestPath);
+    Path tempPath = filesystem.createTempFile(
+        manifestPath.getParent(),
+        manifestPath.getFileName().toString(),
+        ".tmp");
+    try (OutputStream outputStream =
+             new BufferedOutputStream(filesystem.newFileOutputStream(tempPath))) {
+      manifest.serialize(outputStream);
+    }
+    filesystem.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+    trimLocalManifests(filesystem, manifestPath.getParent());
+  }
+
+  // Delete the least recently used manifests of a shard beyond the number we keep.
+  private static void trimLocalManifests(ProjectFilesystem filesystem, Path shard)
+      throws IOException {
+    int kept = 0;
+    for (Path path : filesystem.getSortedMatchingDirectoryContents(shard, "*")) {
+      // Leave the manifests other threads are still writing alone.
+      if (path.getFileName().toString().endsWith(".tmp")) {
+        continue;
+      }
+      if (++kept > BuildInfo.MAX_MANIFESTS_PER_SHARD) {
+        filesystem.deleteFileAtPathIfExists(path);
+      }
+    }
+  }
+
+  // Update the local manifest with the new dep-file rule key and push it to the cache.
   private void updateAndStoreManifest(
       BuildRule rule,
       RuleKey key,
@@ -1210,50 +1679,46 @@ public class CachingBuildEngine implements BuildEngine {
     Pair<RuleKey, ImmutableSet<SourcePath>> manifestKey =
         ruleKeyFactories.getUnchecked(rule.getProjectFilesystem())
             .depFileRuleKeyBuilderFactory.buildManifestKey(rule);
-    final Path manifestPath = getManifestPath(rule);
-    Manifest manifest = new Manifest();
-
-    // If we already have a manifest downloaded, use that.
-    if (rule.getProjectFilesystem().exists(manifestPath)) {
-      try (InputStream inputStream =
-               rule.getProjectFilesystem().newFileInputStream(manifestPath)) {
-        manifest = new Manifest(inputStream);
+    FileHashCache fileHashCache = fileHashCaches.getUnchecked(rule.getProjectFilesystem());
+
+    // If we already have a manifest for this key, either fetched or written by an earlier build,
+    // use that.
+    Manifest manifest =
+        readLocalManifest(rule, manifestKey.getFirst()).or(new Manifest());
+
+    // The local copy only needs updating if it doesn't already map the current inputs to this
+    // key.  The manifest is uploaded either way, as the cache may have evicted it since it was.
+    if (!Optional.of(key).equals(
+            manifest.lookup(fileHashCache, pathResolver, manifestKey.getSecond()))) {
+
+      // If the manifest is larger than the max size, just truncate it.  It might be nice to
+      // support some sort of LRU management here to avoid evicting everything, but it'll take
+      // some care to do this efficiently and it's not clear how much benefit this will give us.
+      if (manifest.size() >= maxDepFileCacheEntries) {
+        manifest = new Manifest();
       }
-    } else {
-      // Ensure the path to manifest exist
-      rule.getProjectFilesystem().createParentDirs(manifestPath);
-    }
 
-    // If the manifest is larger than the max size, just truncate it.  It might be nice to support
-    // some sort of LRU management here to avoid evicting everything, but it'll take some care to do
-    // this efficiently and it's not clear how much benefit this will give us.
-    if (manifest.size() >= maxDepFileCacheEntries) {
-      manifest = new Manifest();
-    }
-
-    // Update the manifest with the new output rule key.
-    manifest.addEntry(
-        fileHashCaches.getUnchecked(rule.getProjectFilesystem()),
-        key,
-        pathResolver,
-        manifestKey.getSecond(),
-        inputs);
+      // Update the manifest with the new output rule key.
+      manifest.addEntry(
+          fileHashCache,
+          key,
+          pathResolver,
+          manifestKey.getSecond(),
+          inputs);
 
-    // Serialize the manifest to disk.
-    try (OutputStream outputStream =
-             rule.getProjectFilesystem().newFileOutputStream(manifestPath)) {
-      manifest.serialize(outputStream);
+      // Serialize the manifest to disk.
+      writeLocalManifest(rule, manifestKey.getFirst(), manifest);
     }
 
+    final Path manifestPath = getManifestPath(manifestKey.getFirst());
     final NamedTemporaryFile tempFile = new NamedTemporaryFile("buck.", ".manifest");
     try {
       // Upload the manifest to the cache.  We stage the manifest into a temp file first since the
       // `ArtifactCache` interface uses raw paths.
-      try (InputStream inputStream = rule.getProjectFilesystem().newFileInputStream(manifestPath);
-           OutputStream outputStream =
+      try (OutputStream outputStream =
                new GZIPOutputStream(
                    new BufferedOutputStream(Files.newOutputStream(tempFile.get())))) {
-        ByteStreams.copy(inputStream, outputStream);
+        manifest.serialize(outputStream);
       }
       cache
           .store(
@@ -1293,7 +1758,31 @@ public class CachingBuildEngine implements BuildEngine {
     Pair<RuleKey, ImmutableSet<SourcePath>> manifestKey =
         ruleKeyFactories.getUnchecked(rule.getProjectFilesystem())
             .depFileRuleKeyBuilderFactory.buildManifestKey(rule);
+    FileHashCache fileHashCache = fileHashCaches.getUnchecked(rule.getProjectFilesystem());
+
+    // Try the local copy of the manifest first, which spares us fetching it when our inputs are
+    // in a state some earlier build here has already seen.
+    Optional<Manifest> localManifest = readLocalManifest(rule, manifestKey.getFirst());
+    if (localManifest.isPresent()) {
+      Optional<RuleKey> ruleKey =
+          localManifest.get().lookup(fileHashCache, pathResolver, manifestKey.getSecond());
+      if (ruleKey.isPresent()) {
+        CacheResult cacheResult =
+            tryToFetchArtifactFromBuildCacheAndOverlayOnTopOfProjectFilesystem(
+                rule,
+                ruleKey.get(),
+                buildInfoRecorder,
+                context.getArtifactCache(),
+                // TODO(shs96c): This should be shared between all tests, not one per cell
+                rule.getProjectFilesystem(),
+                context);
+        if (cacheResult.getType().isSuccess()) {
+          return cacheResult;
+        }
+      }
+    }
 
+    // Otherwise, see whether other builds have added what we need to the cache's copy.
     LazyPath tempFile = new LazyPath() {
       @Override
       protected Path create() throws IOException {
@@ -1307,33 +1796,21 @@ public class CachingBuildEngine implements BuildEngine {
       return CacheResult.miss();
     }
 
-    Path manifestPath = getManifestPath(rule);
-
-    // Clear out any existing manifest.
-    rule.getProjectFilesystem().deleteFileAtPathIfExists(manifestPath);
-
-    // Now, fetch an existing manifest from the cache.
-    rule.getProjectFilesystem().createParentDirs(manifestPath);
-
-    try (OutputStream outputStream =
-             rule.getProjectFilesystem().newFileOutputStream(manifestPath);
-         InputStream inputStream =
-             new GZIPInputStream(new BufferedInputStream(Files.newInputStream(tempFile.get())))) {
-      ByteStreams.copy(inputStream, outputStream);
-    }
-    Files.delete(tempFile.get());
-
     // Deserialize the manifest.
     Manifest manifest;
     try (InputStream input =
-             rule.getProjectFilesystem().newFileInputStream(manifestPath)) {
+             new GZIPInputStream(new BufferedInputStream(Files.newInputStream(tempFile.get())))) {
       manifest = new Manifest(input);
     }
+    Files.delete(tempFile.get());
+
+    // Keep it for the lookups of later builds, replacing any copy we had.
+    writeLocalManifest(rule, manifestKey.getFirst(), manifest);
 
     // Lookup the rule for the current state of our inputs.
     Optional<RuleKey> ruleKey =
         manifest.lookup(
-            fileHashCaches.getUnchecked(rule.getProjectFilesystem()),
+            fileHashCache,
             pathResolver,
             manifestKey.getSecond());
     if (!ruleKey.isPresent()) {
@@ -1380,6 +1857,11 @@ public class CachingBuildEngine implements BuildEngine {
 
     // Schedule dependencies in random order.
     RANDOM,
+
+    // Schedule the dependencies with the longest estimated chain of work under them first, and
+    // give the work of building each rule the priority of the longest estimated chain of work
+    // left from it to the end of the build, using how long rules took to build before.
+    CRITICAL_PATH,
   }
 
   /**
@@ -1400,26 +1882,32 @@ public class CachingBuildEngine implements BuildEngine {
 
     public static RuleKeyFactories build(
         FileHashCache fileHashCache,
-        BuildRuleResolver ruleResolver) {
+        BuildRuleResolver ruleResolver,
+        DefaultRuleKeyBuilderFactoryOptions options) {
+      HashFunctionType hashFunctionType = options.getHashFunctionType();
       SourcePathResolver pathResolver = new SourcePathResolver(ruleResolver);
       DefaultRuleKeyBuilderFactory defaultRuleKeyBuilderFactory = new DefaultRuleKeyBuilderFactory(
           fileHashCache,
-          pathResolver);
+          pathResolver,
+          options);
 
       return new RuleKeyFactories(
           defaultRuleKeyBuilderFactory,
           new InputBasedRuleKeyBuilderFactory(
               fileHashCache,
               pathResolver,
-              defaultRuleKeyBuilderFactory),
+              defaultRuleKeyBuilderFactory,
+              hashFunctionType),
           new AbiRuleKeyBuilderFactory(
               fileHashCache,
               pathResolver,
-              defaultRuleKeyBuilderFactory),
+              defaultRuleKeyBuilderFactory,
+              hashFunctionType),
           new DefaultDependencyFileRuleKeyBuilderFactory(
               fileHashCache,
               pathResolver,
-              defaultRuleKeyBuilderFactory));
+              defaultRuleKeyBuilderFactory,
+              hashFunctionType));
     }
 
     @VisibleForTesting
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableSet;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * The {@link ParamInfo}s of each constructor arg class, worked out once per
+ * {@link TypeCoercerFactory} rather than every time a target node of that type is created, as
+ * deriving the {@link com.facebook.buck.rules.coercer.TypeCoercer}s of a class's fields means
+ * walking their reflective types.
+ */
+public class CoercedTypeCache {
+
+  public static final CoercedTypeCache INSTANCE = new CoercedTypeCache();
+
+  private final LoadingCache<TypeCoercerFactory, LoadingCache<Class<?>, ImmutableSet<ParamInfo<?>>>>
+      coercedTypes = CacheBuilder.newBuilder()
+          .weakKeys()
+          .build(
+              new CacheLoader<
+                  TypeCoercerFactory,
+                  LoadingCache<Class<?>, ImmutableSet<ParamInfo<?>>>>() {
+                @Override
+                public LoadingCache<Class<?>, ImmutableSet<ParamInfo<?>>> load(
+                    final TypeCoercerFactory typeCoercerFactory) {
+                  return CacheBuilder.newBuilder().build(
+                      new CacheLoader<Class<?>, ImmutableSet<ParamInfo<?>>>() {
+                        @Override
+                        public ImmutableSet<ParamInfo<?>> load(Class<?> argClass) {
+                          ImmutableSet.Builder<ParamInfo<?>> allInfo = ImmutableSet.builder();
+                          for (Field field : argClass.getFields()) {
+                            if (Modifier.isFinal(field.getModifiers())) {
+                              continue;
+                            }
+                            allInfo.add(new ParamInfo<>(typeCoercerFactory, field));
+                          }
+                          return allInfo.build();
+                        }
+                      });
+                }
+              });
+
+  private CoercedTypeCache() {
+  }
+
+  /**
+   * @return a {@link ParamInfo} for each public, non-final field of {@code argClass}.
+   */
+  public ImmutableSet<ParamInfo<?>> getAllParamInfo(
+      TypeCoercerFactory typeCoercerFactory,
+      Class<?> argClass) {
+    // This throws an unchecked exception if a field has no coercer. Nothing sane to do here, and
+    // before using a cache we simply allowed a RuntimeException to bubble up.
+    return coercedTypes.getUnchecked(typeCoercerFactory).getUnchecked(argClass);
+  }
+}
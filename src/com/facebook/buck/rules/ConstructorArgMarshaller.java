@@ -25,18 +25,12 @@ import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
 
 /**
  * Used to derive information from the constructor args returned by {@link Description} instances.
@@ -47,7 +41,6 @@ import java.util.concurrent.ExecutionException;
 public class ConstructorArgMarshaller {
 
   private final TypeCoercerFactory typeCoercerFactory;
-  private final Cache<Class<?>, ImmutableSet<ParamInfo<?>>> coercedTypes;
 
   /**
    * Constructor. {@code pathFromProjectRootToBuildFile} is the path relative to the project root to
@@ -57,7 +50,6 @@ public class ConstructorArgMarshaller {
    */
   public ConstructorArgMarshaller(TypeCoercerFactory typeCoercerFactory) {
     this.typeCoercerFactory = typeCoercerFactory;
-    this.coercedTypes = CacheBuilder.newBuilder().build();
   }
 
   /**
@@ -90,9 +82,10 @@ public class ConstructorArgMarshaller {
       ImmutableSet.Builder<BuildTarget> declaredDeps,
       ImmutableSet.Builder<BuildTargetPattern> visibilityPatterns,
       Map<String, ?> instance) throws ConstructorArgMarshalException, NoSuchBuildTargetException {
+    Path basePath = params.target.getBasePath();
     for (ParamInfo<?> info : getAllParamInfo(dto)) {
       try {
-        info.setFromParams(cellRoots, filesystem, params, dto, instance);
+        info.set(cellRoots, filesystem, basePath, dto, instance.get(info.getName()));
       } catch (ParamInfoException e) {
         throw new ConstructorArgMarshalException(e.getMessage(), e);
       }
@@ -167,28 +160,6 @@ public class ConstructorArgMarshaller {
   }
 
   ImmutableSet<ParamInfo<?>> getAllParamInfo(Object dto) {
-    final Class<?> argClass = dto.getClass();
-    try {
-      return coercedTypes.get(argClass, new Callable<ImmutableSet<ParamInfo<?>>>() {
-            @Override
-            public ImmutableSet<ParamInfo<?>> call() {
-              ImmutableSet.Builder<ParamInfo<?>> allInfo = ImmutableSet.builder();
-
-              for (Field field : argClass.getFields()) {
-                if (Modifier.isFinal(field.getModifiers())) {
-                  continue;
-                }
-                allInfo.add(new ParamInfo<>(typeCoercerFactory, field));
-              }
-
-              return allInfo.build();
-            }
-          });
-    } catch (ExecutionException e) {
-      // This gets thrown if we saw an error when loading the value. Nothing sane to do here, and
-      // we (previously, before using a cache), simply allowed a RuntimeException to bubble up.
-      // Maintain that behaviour.
-      throw new RuntimeException(e);
-    }
+    return CoercedTypeCache.INSTANCE.getAllParamInfo(typeCoercerFactory, dto.getClass());
   }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.log.Logger;
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A {@link RuleKeyHasher} which also logs what went into each key, for working out why keys
+ * differ between builds.  It's only used when verbose logging is enabled for
+ * {@link RuleKeyBuilder}, and the format it logs in is what {@code scripts/diff_rulekeys.py}
+ * reads, so the rest of the time building keys pays nothing for it.
+ * <p>
+ * Each value is logged before the keys naming it, as the script expects.
+ */
+class LoggingRuleKeyHasher extends RuleKeyHasher {
+
+  private final Logger logger;
+  private final List<String> elements = Lists.newArrayList();
+  private final List<String> pendingKeys = Lists.newArrayList();
+
+  public LoggingRuleKeyHasher(Hasher hasher, Logger logger) {
+    super(hasher);
+    this.logger = logger;
+  }
+
+  private void log(String element) {
+    elements.add(element);
+    flushKeys();
+  }
+
+  private void flushKeys() {
+    elements.addAll(pendingKeys);
+    pendingKeys.clear();
+  }
+
+  @Override
+  public RuleKeyHasher putKey(String key) {
+    pendingKeys.add(String.format("key(%s):", key));
+    return super.putKey(key);
+  }
+
+  @Override
+  public RuleKeyHasher putRaw(String val) {
+    flushKeys();
+    return super.putRaw(val);
+  }
+
+  @Override
+  public RuleKeyHasher putString(String val) {
+    log(String.format("string(\"%s\"):", val));
+    return super.putString(val);
+  }
+
+  @Override
+  public RuleKeyHasher putBoolean(boolean val) {
+    log(String.format("boolean(\"%s\"):", val ? "true" : "false"));
+    return super.putBoolean(val);
+  }
+
+  @Override
+  public RuleKeyHasher putNumber(Number val) {
+    log(String.format("number(%s):", val));
+    return super.putNumber(val);
+  }
+
+  @Override
+  public RuleKeyHasher putPath(String path) {
+    log(String.format("path(%s):", path));
+    return super.putPath(path);
+  }
+
+  @Override
+  public RuleKeyHasher putPath(Path path, HashCode hash) {
+    log(String.format("path(%s:%s):", path, hash));
+    return super.putPath(path, hash);
+  }
+
+  @Override
+  public RuleKeyHasher putRuleKey(RuleKey ruleKey) {
+    log(String.format("ruleKey(sha1=%s):", ruleKey));
+    return super.putRuleKey(ruleKey);
+  }
+
+  @Override
+  public RuleKeyHasher putBuildRuleType(BuildRuleType type) {
+    log(String.format("ruleKeyType(%s):", type));
+    return super.putBuildRuleType(type);
+  }
+
+  @Override
+  public RuleKeyHasher putBuildTarget(String fullyQualifiedName) {
+    log(String.format("target(%s):", fullyQualifiedName));
+    return super.putBuildTarget(fullyQualifiedName);
+  }
+
+  @Override
+  public RuleKeyHasher putSourceRoot(SourceRoot sourceRoot) {
+    log(String.format("sourceroot(%s):", sourceRoot));
+    return super.putSourceRoot(sourceRoot);
+  }
+
+  @Override
+  public RuleKeyHasher putByteArray(byte[] val) {
+    log(String.format("byteArray(%s):", val));
+    return super.putByteArray(val);
+  }
+
+  @Override
+  public RuleKey build() {
+    RuleKey ruleKey = super.build();
+    logger.verbose("RuleKey %s=%s", ruleKey, Joiner.on("").join(elements));
+    return ruleKey;
+  }
+}
@@ -27,7 +27,6 @@ import com.google.common.base.Optional;
 
 import java.lang.reflect.Field;
 import java.nio.file.Path;
-import java.util.Map;
 
 import javax.annotation.Nullable;
 
@@ -125,21 +124,6 @@ public class ParamInfo<T> implements Comparable<ParamInfo<T>> {
     return typeCoercer.hasElementClass(types);
   }
 
-  public void setFromParams(
-      Function<Optional<String>, Path> cellRoots,
-      ProjectFilesystem filesystem,
-      BuildRuleFactoryParams params,
-      Object arg,
-      Map<String, ?> instance
-      ) throws ParamInfoException {
-    set(
-        cellRoots,
-        filesystem,
-        params.target.getBasePath(),
-        arg,
-        instance.get(name));
-  }
-
   /**
    * Sets a single property of the {@code dto}, coercing types as necessary.
    * @param filesystem {@link com.facebook.buck.io.ProjectFilesystem} used to ensure
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.util.BuckConstant;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * How long rules took to build locally in earlier builds, kept on disk so that the build engine
+ * can start the rules on the longest chains first.
+ * <p>
+ * The file is in the format {@code buck simulate --times-file} reads, with the durations under
+ * the {@value #TIME_AGGREGATE} time aggregate, so the effect of scheduling by them can be
+ * simulated too.
+ */
+public class RuleDurations {
+
+  private static final Logger LOG = Logger.get(RuleDurations.class);
+
+  /**
+   * Where buck keeps the durations, relative to the root of the cell.
+   */
+  public static final Path PATH = BuckConstant.BUCK_OUTPUT_PATH.resolve("rule_durations.json");
+
+  public static final String TIME_AGGREGATE = "local";
+
+  private static final String BUILD_TARGETS_KEY = "build_targets";
+
+  private static final TypeReference<Map<String, Map<String, Map<String, Long>>>> FILE_TYPE =
+      new TypeReference<Map<String, Map<String, Map<String, Long>>>>() {};
+
+  private final ConcurrentMap<String, Long> millis;
+  private volatile boolean dirty;
+
+  private RuleDurations(Map<String, Long> millis) {
+    this.millis = new ConcurrentHashMap<>(millis);
+  }
+
+  public static RuleDurations empty() {
+    return new RuleDurations(ImmutableMap.<String, Long>of());
+  }
+
+  /**
+   * @return the durations saved at {@code path}, or none if there isn't a readable file there.
+   */
+  public static RuleDurations load(ObjectMapper objectMapper, Path path) {
+    Map<String, Long> millis = Maps.newHashMap();
+    try (InputStream input = Files.newInputStream(path)) {
+      Map<String, Map<String, Map<String, Long>>> content =
+          objectMapper.readValue(input, FILE_TYPE);
+      Map<String, Map<String, Long>> targets = content.get(BUILD_TARGETS_KEY);
+      if (targets != null) {
+        for (Map.Entry<String, Map<String, Long>> entry : targets.entrySet()) {
+          Long targetMillis = entry.getValue().get(TIME_AGGREGATE);
+          if (targetMillis != null) {
+            millis.put(entry.getKey(), targetMillis);
+          }
+        }
+      }
+    } catch (NoSuchFileException e) {
+      // Nothing saved yet.
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(e, "Ignoring unreadable rule durations %s", path);
+      millis.clear();
+    }
+    LOG.debug("Loaded durations of %d rules from %s", millis.size(), path);
+    return new RuleDurations(millis);
+  }
+
+  /**
+   * @return how long {@code target} took to build locally, if it has been built before.
+   */
+  public Optional<Long> getMillis(BuildTarget target) {
+    return Optional.fromNullable(millis.get(target.getFullyQualifiedName()));
+  }
+
+  /**
+   * Records that {@code target} took {@code durationMillis} to build locally.  This is averaged
+   * with what it took before, so that one unusually slow or fast build doesn't throw off the
+   * estimate.
+   */
+  public void record(BuildTarget target, long durationMillis) {
+    String key = target.getFullyQualifiedName();
+    Long previous = millis.putIfAbsent(key, durationMillis);
+    while (previous != null &&
+        !millis.replace(key, previous, (previous + durationMillis) / 2)) {
+      previous = millis.get(key);
+    }
+    dirty = true;
+  }
+
+  /**
+   * Writes the durations to {@code path}, if any have been recorded since they were loaded.
+   */
+  public synchronized void save(ObjectMapper objectMapper, Path path) throws IOException {
+    if (!dirty) {
+      return;
+    }
+    dirty = false;
+
+    Map<String, Map<String, Long>> targets = Maps.newTreeMap();
+    for (Map.Entry<String, Long> entry : millis.entrySet()) {
+      targets.put(entry.getKey(), ImmutableMap.of(TIME_AGGREGATE, entry.getValue()));
+    }
+
+    Files.createDirectories(path.getParent());
+    Path tempPath = Files.createTempFile(
+        path.getParent(),
+        path.getFileName().toString(),
+        ".tmp");
+    try {
+      try (OutputStream output = Files.newOutputStream(tempPath)) {
+        objectMapper.writeValue(output, ImmutableMap.of(BUILD_TARGETS_KEY, targets));
+      }
+      Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tempPath);
+    }
+    LOG.debug("Saved durations of %d rules to %s", targets.size(), path);
+  }
+
+  @VisibleForTesting
+  int size() {
+    return millis.size();
+  }
+}
@@ -24,25 +24,22 @@ import com.facebook.buck.model.UnflavoredBuildTarget;
 import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.cache.FileHashCache;
 import com.facebook.buck.util.hash.AppendingHasher;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Joiner;
 import com.google.common.base.Optional;
 import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
-import com.google.common.hash.Hashing;
-import com.google.common.primitives.Primitives;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
-import java.util.Stack;
 
 import javax.annotation.Nullable;
 
@@ -54,48 +51,57 @@ public class RuleKeyBuilder {
   private static final Logger logger = Logger.get(RuleKeyBuilder.class);
 
   private final SourcePathResolver resolver;
-  private final Hasher hasher;
+  private final HashFunctionType hashFunctionType;
+  private final RuleKeyHasher hasher;
   private final FileHashCache hashCache;
   private final RuleKeyBuilderFactory defaultRuleKeyBuilderFactory;
-  private Stack<String> keyStack;
-
-  @Nullable
-  private List<String> logElms;
+  private final Deque<String> keyStack;
 
   public RuleKeyBuilder(
       SourcePathResolver resolver,
       FileHashCache hashCache,
       RuleKeyBuilderFactory defaultRuleKeyBuilderFactory) {
+    this(resolver, hashCache, defaultRuleKeyBuilderFactory, HashFunctionType.SHA1);
+  }
+
+  /**
+   * @param hashFunctionType what to hash the key with, which should be what {@code hashCache}
+   *     hashes files with.
+   */
+  public RuleKeyBuilder(
+      SourcePathResolver resolver,
+      FileHashCache hashCache,
+      RuleKeyBuilderFactory defaultRuleKeyBuilderFactory,
+      HashFunctionType hashFunctionType) {
     this.resolver = resolver;
-    this.hasher = new AppendingHasher(Hashing.sha1(), /* numHashers */ 2);
+    this.hashFunctionType = hashFunctionType;
+    Hasher hasher =
+        new AppendingHasher(hashFunctionType.getHashFunction(), /* numHashers */ 2);
+    this.hasher = logger.isVerboseEnabled() ?
+        new LoggingRuleKeyHasher(hasher, logger) :
+        new RuleKeyHasher(hasher);
     this.hashCache = hashCache;
     this.defaultRuleKeyBuilderFactory = defaultRuleKeyBuilderFactory;
-    this.keyStack = new Stack<>();
-    if (logger.isVerboseEnabled()) {
-      this.logElms = Lists.newArrayList();
-    }
+    this.keyStack = new ArrayDeque<>();
   }
 
-  private RuleKeyBuilder feed(byte[] bytes) {
+  /**
+   * Adds the keys naming the value about to be added.
+   *
+   * @return the hasher to add the value with.
+   */
+  private RuleKeyHasher feed() {
     while (!keyStack.isEmpty()) {
-      String key = keyStack.pop();
-      if (logElms != null) {
-        logElms.add(String.format("key(%s):", key));
-      }
-      hasher.putBytes(key.getBytes());
-      hasher.putByte(SEPARATOR);
+      hasher.putKey(keyStack.pop());
     }
-
-    hasher.putBytes(bytes);
-    hasher.putByte(SEPARATOR);
-    return this;
+    return hasher;
   }
 
   protected RuleKeyBuilder setSourcePath(SourcePath sourcePath) {
     // And now we need to figure out what this thing is.
     Optional<BuildRule> buildRule = resolver.getRule(sourcePath);
     if (buildRule.isPresent()) {
-      feed(sourcePath.toString().getBytes());
+      feed().putRaw(sourcePath.toString());
       return setSingleValue(buildRule.get());
     } else {
       // The original version of this expected the path to be relative, however, sometimes the
@@ -126,11 +132,7 @@ public class RuleKeyBuilder {
       pathForKey = resolver.getRelativePath(sourcePath).toString();
     }
 
-    if (logElms != null) {
-      logElms.add(String.format("path(%s):", pathForKey));
-    }
-
-    feed(pathForKey.getBytes());
+    feed().putPath(pathForKey);
     return this;
   }
 
@@ -150,7 +152,8 @@ public class RuleKeyBuilder {
     RuleKeyBuilder subKeyBuilder = new RuleKeyBuilder(
         resolver,
         hashCache,
-        defaultRuleKeyBuilderFactory);
+        defaultRuleKeyBuilderFactory,
+        hashFunctionType);
     appendable.appendToRuleKey(subKeyBuilder);
     return subKeyBuilder.build();
   }
@@ -211,13 +214,14 @@ public class RuleKeyBuilder {
               key,
               val);
         }
-        feed("{".getBytes());
+        feed().putRaw("{");
         for (Map.Entry<?, ?> entry : ((Map<?, ?>) val).entrySet()) {
           setReflectively(key, entry.getKey());
-          feed(" -> ".getBytes());
+          feed().putRaw(" -> ");
           setReflectively(key, entry.getValue());
         }
-        return feed("}".getBytes());
+        feed().putRaw("}");
+        return this;
       }
 
       if (val instanceof Supplier) {
@@ -233,6 +237,23 @@ public class RuleKeyBuilder {
     }
   }
 
+  /**
+   * Adds {@code val} exactly as {@link #setReflectively} would, for a value which the caller
+   * already knows can't be a {@link RuleKeyAppendable}, an {@link Optional}, a {@link Supplier}
+   * or any kind of collection, skipping the checks {@link #setReflectively} makes to find out.
+   */
+  public RuleKeyBuilder setSingleValue(String key, @Nullable Object val) {
+    int oldSize = keyStack.size();
+    keyStack.push(key);
+    try {
+      return setSingleValue(val);
+    } finally {
+      while (keyStack.size() > oldSize) {
+        keyStack.pop();
+      }
+    }
+  }
+
   // Paths get added as a combination of the file name and file hash. If the path is absolute
   // then we only include the file name (assuming that it represents a tool of some kind
   // that's being used for compilation or some such). This does mean that if a user renames a
@@ -255,69 +276,35 @@ public class RuleKeyBuilder {
       addToKey = ideallyRelative;
     }
 
-    if (logElms != null) {
-      logElms.add(String.format("path(%s:%s):", addToKey, sha1));
-    }
-
-    feed(addToKey.toString().getBytes());
-    feed(sha1.toString().getBytes());
+    feed().putPath(addToKey, sha1);
     return this;
   }
 
   protected RuleKeyBuilder setSingleValue(@Nullable Object val) {
 
     if (val == null) { // Null value first
-      return feed(new byte[0]);
+      feed().putRaw("");
     } else if (val instanceof Boolean) {           // JRE types
-      if (logElms != null) {
-        logElms.add(String.format("boolean(\"%s\"):", (boolean) val ? "true" : "false"));
-      }
-      feed(((boolean) val ? "t" : "f").getBytes());
+      feed().putBoolean((boolean) val);
     } else if (val instanceof Enum) {
-      feed(String.valueOf(val).getBytes());
+      feed().putRaw(String.valueOf(val));
     } else if (val instanceof Number) {
-      if (logElms != null) {
-        logElms.add(String.format("number(%s):", val));
-      }
-      Class<?> wrapped = Primitives.wrap(val.getClass());
-      if (Double.class.equals(wrapped)) {
-        hasher.putDouble(((Double) val).doubleValue());
-      } else if (Float.class.equals(wrapped)) {
-        hasher.putFloat(((Float) val).floatValue());
-      } else if (Integer.class.equals(wrapped)) {
-        hasher.putInt(((Integer) val).intValue());
-      } else if (Long.class.equals(wrapped)) {
-        hasher.putLong(((Long) val).longValue());
-      } else if (Short.class.equals(wrapped)) {
-        hasher.putShort(((Short) val).shortValue());
-      } else {
-        throw new RuntimeException(("Unhandled number type: " + val.getClass()));
-      }
+      // Numbers are added without the keys naming them.
+      hasher.putNumber((Number) val);
     } else if (val instanceof Path) {
       throw new HumanReadableException(
           "It's not possible to reliably disambiguate Paths. They are disallowed from rule keys");
     } else if (val instanceof String) {
-      if (logElms != null) {
-        logElms.add(String.format("string(\"%s\"):", val));
-      }
-      feed(((String) val).getBytes());
+      feed().putString((String) val);
     } else if (val instanceof BuildRule) {                       // Buck types
       return setBuildRule((BuildRule) val);
     } else if (val instanceof BuildRuleType) {
-      if (logElms != null) {
-        logElms.add(String.format("ruleKeyType(%s):", val));
-      }
-      feed(val.toString().getBytes());
+      feed().putBuildRuleType((BuildRuleType) val);
     } else if (val instanceof RuleKey) {
-      if (logElms != null) {
-        logElms.add(String.format("ruleKey(sha1=%s):", val));
-      }
-      feed(val.toString().getBytes());
+      feed().putRuleKey((RuleKey) val);
     } else if (val instanceof BuildTarget || val instanceof UnflavoredBuildTarget) {
-      if (logElms != null) {
-        logElms.add(String.format("target(%s):", val));
-      }
-      feed(((HasBuildTarget) val).getBuildTarget().getFullyQualifiedName().getBytes());
+      feed().putBuildTarget(
+          ((HasBuildTarget) val).getBuildTarget().getFullyQualifiedName());
     } else if (val instanceof Either) {
       Either<?, ?> either = (Either<?, ?>) val;
       if (either.isLeft()) {
@@ -332,26 +319,20 @@ public class RuleKeyBuilder {
           (NonHashableSourcePathContainer) val;
       return setNonHashingSourcePath(nonHashableSourcePathContainer.getSourcePath());
     } else if (val instanceof SourceRoot) {
-      if (logElms != null) {
-        logElms.add(String.format("sourceroot(%s):", val));
-      }
-      feed(((SourceRoot) val).getName().getBytes());
+      feed().putSourceRoot((SourceRoot) val);
     } else if (val instanceof SourceWithFlags) {
       SourceWithFlags source = (SourceWithFlags) val;
       setSingleValue(source.getSourcePath());
-      feed("[".getBytes());
+      feed().putRaw("[");
       for (String flag : source.getFlags()) {
-        feed(flag.getBytes());
-        feed(",".getBytes());
+        feed().putRaw(flag);
+        feed().putRaw(",");
       }
-      feed("]".getBytes());
+      feed().putRaw("]");
     } else if (val instanceof Sha1HashCode) {
       setSingleValue(((Sha1HashCode) val).getHash());
     } else if (val instanceof byte[]) {
-      if (logElms != null) {
-        logElms.add(String.format("byteArray(%s):", val));
-      }
-      feed((byte[]) val);
+      feed().putByteArray((byte[]) val);
     } else {
       throw new RuntimeException("Unsupported value type: " + val.getClass());
     }
@@ -360,11 +341,7 @@ public class RuleKeyBuilder {
   }
 
   public RuleKey build() {
-    RuleKey ruleKey = new RuleKey(hasher.hash());
-    if (logElms != null) {
-      logger.verbose("RuleKey %s=%s", ruleKey, Joiner.on("").join(logElms));
-    }
-    return ruleKey;
+    return hasher.build();
   }
 
 }
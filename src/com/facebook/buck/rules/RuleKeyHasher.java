@@ -0,0 +1,198 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.primitives.Primitives;
+
+import java.nio.file.Path;
+
+/**
+ * Feeds the parts of a rule key to a {@link Hasher}.  Strings and hashes are encoded straight into
+ * a buffer which is reused for everything hashed on the thread, rather than each being turned into
+ * a new array first, as building the keys of a large graph would otherwise churn through a lot of
+ * short-lived garbage.
+ * <p>
+ * Every value is followed by {@link RuleKeyBuilder#SEPARATOR}, except for numbers.
+ */
+class RuleKeyHasher {
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private static final ThreadLocal<byte[][]> BUFFER = new ThreadLocal<byte[][]>() {
+    @Override
+    protected byte[][] initialValue() {
+      return new byte[][] {new byte[256]};
+    }
+  };
+
+  private final Hasher hasher;
+
+  public RuleKeyHasher(Hasher hasher) {
+    this.hasher = hasher;
+  }
+
+  /**
+   * Adds the name of a value, ahead of the value itself.
+   */
+  public RuleKeyHasher putKey(String key) {
+    return putRaw(key);
+  }
+
+  /**
+   * Adds {@code val} as it is, for the parts of a key which aren't values in their own right.
+   */
+  public RuleKeyHasher putRaw(String val) {
+    byte[] buffer = getBuffer(val.length() * 3);
+    int length = encodeUtf8(val, buffer);
+    hasher.putBytes(buffer, 0, length);
+    hasher.putByte(RuleKeyBuilder.SEPARATOR);
+    return this;
+  }
+
+  public RuleKeyHasher putString(String val) {
+    return putRaw(val);
+  }
+
+  public RuleKeyHasher putBoolean(boolean val) {
+    return putRaw(val ? "t" : "f");
+  }
+
+  public RuleKeyHasher putNumber(Number val) {
+    Class<?> wrapped = Primitives.wrap(val.getClass());
+    if (Double.class.equals(wrapped)) {
+      hasher.putDouble(val.doubleValue());
+    } else if (Float.class.equals(wrapped)) {
+      hasher.putFloat(val.floatValue());
+    } else if (Integer.class.equals(wrapped)) {
+      hasher.putInt(val.intValue());
+    } else if (Long.class.equals(wrapped)) {
+      hasher.putLong(val.longValue());
+    } else if (Short.class.equals(wrapped)) {
+      hasher.putShort(val.shortValue());
+    } else {
+      throw new RuntimeException(("Unhandled number type: " + val.getClass()));
+    }
+    return this;
+  }
+
+  /**
+   * Adds a path which is hashed by its name alone.
+   */
+  public RuleKeyHasher putPath(String path) {
+    return putRaw(path);
+  }
+
+  /**
+   * Adds a path, followed by the hash of its contents.
+   */
+  public RuleKeyHasher putPath(Path path, HashCode hash) {
+    putRaw(path.toString());
+    return putHashCode(hash);
+  }
+
+  public RuleKeyHasher putRuleKey(RuleKey ruleKey) {
+    return putHashCode(ruleKey.getHashCode());
+  }
+
+  public RuleKeyHasher putBuildRuleType(BuildRuleType type) {
+    return putRaw(type.toString());
+  }
+
+  public RuleKeyHasher putBuildTarget(String fullyQualifiedName) {
+    return putRaw(fullyQualifiedName);
+  }
+
+  public RuleKeyHasher putSourceRoot(SourceRoot sourceRoot) {
+    return putRaw(sourceRoot.getName());
+  }
+
+  public RuleKeyHasher putByteArray(byte[] val) {
+    hasher.putBytes(val);
+    hasher.putByte(RuleKeyBuilder.SEPARATOR);
+    return this;
+  }
+
+  public RuleKey build() {
+    return new RuleKey(hasher.hash());
+  }
+
+  /**
+   * Adds the hex form of {@code hash}, as {@link HashCode#toString()} would give it.
+   */
+  private RuleKeyHasher putHashCode(HashCode hash) {
+    int size = hash.bits() / 8;
+    byte[] buffer = getBuffer(size * 3);
+    hash.writeBytesTo(buffer, 0, size);
+    for (int i = 0; i < size; i++) {
+      byte b = buffer[i];
+      buffer[size + 2 * i] = (byte) HEX_DIGITS[(b >> 4) & 0xf];
+      buffer[size + 2 * i + 1] = (byte) HEX_DIGITS[b & 0xf];
+    }
+    hasher.putBytes(buffer, size, size * 2);
+    hasher.putByte(RuleKeyBuilder.SEPARATOR);
+    return this;
+  }
+
+  /**
+   * @return this thread's buffer, grown to at least {@code size} bytes.  Nothing else on the
+   *     thread can use it until whatever was written to it has been handed to the hasher.
+   */
+  private static byte[] getBuffer(int size) {
+    byte[][] holder = BUFFER.get();
+    if (holder[0].length < size) {
+      holder[0] = new byte[Math.max(size, holder[0].length * 2)];
+    }
+    return holder[0];
+  }
+
+  /**
+   * Writes {@code val} to {@code buffer} as UTF-8, as {@link String#getBytes} would, replacing
+   * unpaired surrogates with '?'.
+   *
+   * @param buffer must have room for three bytes for each char of {@code val}.
+   * @return the number of bytes written.
+   */
+  static int encodeUtf8(String val, byte[] buffer) {
+    int length = 0;
+    for (int i = 0; i < val.length(); i++) {
+      char c = val.charAt(i);
+      if (c < 0x80) {
+        buffer[length++] = (byte) c;
+      } else if (c < 0x800) {
+        buffer[length++] = (byte) (0xc0 | (c >> 6));
+        buffer[length++] = (byte) (0x80 | (c & 0x3f));
+      } else if (!Character.isSurrogate(c)) {
+        buffer[length++] = (byte) (0xe0 | (c >> 12));
+        buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buffer[length++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c) &&
+          i + 1 < val.length() &&
+          Character.isLowSurrogate(val.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, val.charAt(++i));
+        buffer[length++] = (byte) (0xf0 | (codePoint >> 18));
+        buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+        buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+        buffer[length++] = (byte) (0x80 | (codePoint & 0x3f));
+      } else {
+        buffer[length++] = '?';
+      }
+    }
+    return length;
+  }
+}
@@ -33,7 +33,6 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Sets;
 import com.google.common.hash.HashCode;
 
-import java.lang.reflect.Field;
 import java.nio.file.Path;
 
 /**
@@ -79,9 +78,9 @@ public class TargetNode<T> implements Comparable<TargetNode<?>>, HasBuildTarget
     final ImmutableSortedSet.Builder<BuildTarget> extraDeps = ImmutableSortedSet.naturalOrder();
 
     // Scan the input to find possible BuildTargets, necessary for loading dependent rules.
-    T arg = description.createUnpopulatedConstructorArg();
-    for (Field field : arg.getClass().getFields()) {
-      ParamInfo<T> info = new ParamInfo<>(typeCoercerFactory, field);
+    for (ParamInfo<?> paramInfo :
+        CoercedTypeCache.INSTANCE.getAllParamInfo(typeCoercerFactory, constructorArg.getClass())) {
+      ParamInfo<T> info = (ParamInfo<T>) paramInfo;
       if (info.isDep() && info.isInput() &&
           info.hasElementTypes(BuildTarget.class, SourcePath.class, Path.class)) {
         detectBuildTargetsAndPathsForConstructorArg(extraDeps, paths, info, constructorArg);
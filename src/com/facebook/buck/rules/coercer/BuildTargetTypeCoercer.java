@@ -24,12 +24,30 @@ import com.facebook.buck.parser.BuildTargetParseException;
 import com.facebook.buck.parser.BuildTargetParser;
 import com.facebook.buck.parser.BuildTargetPatternParser;
 import com.google.common.base.Function;
+import com.google.common.base.Objects;
 import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public class BuildTargetTypeCoercer extends LeafTypeCoercer<BuildTarget> {
 
+  /**
+   * Roughly how many distinct targets a large repo's build files refer to.
+   */
+  private static final int MAX_INTERNED_TARGETS = 100000;
+
+  /**
+   * The targets we've already parsed, so that each one a lot of build files depend on is only
+   * parsed once, and the nodes which refer to it share a single instance.
+   */
+  private final Cache<InternedTargetKey, BuildTarget> internedTargets = CacheBuilder.newBuilder()
+      .maximumSize(MAX_INTERNED_TARGETS)
+      .build();
+
   @Override
   public Class<BuildTarget> getOutputClass() {
     return BuildTarget.class;
@@ -47,16 +65,59 @@ public class BuildTargetTypeCoercer extends LeafTypeCoercer<BuildTarget> {
     }
     String param = (String) object;
 
-    try {
-        String baseName = UnflavoredBuildTarget.BUILD_TARGET_PREFIX +
-            MorePaths.pathWithUnixSeparators(pathRelativeToProjectRoot);
+    // Only relative targets depend on which build file they're in.
+    InternedTargetKey key = new InternedTargetKey(
+        cellRoots,
+        param.startsWith(":") ? pathRelativeToProjectRoot : null,
+        param);
+    BuildTarget target = internedTargets.getIfPresent(key);
+    if (target != null) {
+      return target;
+    }
 
-      return BuildTargetParser.INSTANCE.parse(
+    try {
+      String baseName = UnflavoredBuildTarget.BUILD_TARGET_PREFIX +
+          MorePaths.pathWithUnixSeparators(pathRelativeToProjectRoot);
+      target = BuildTargetParser.INSTANCE.parse(
           param,
           BuildTargetPatternParser.forBaseName(baseName),
           cellRoots);
     } catch (BuildTargetParseException e) {
       throw CoerceFailedException.simple(object, getOutputClass());
     }
+    internedTargets.put(key, target);
+    return target;
+  }
+
+  private static class InternedTargetKey {
+    private final Function<Optional<String>, Path> cellRoots;
+    @Nullable
+    private final Path basePath;
+    private final String target;
+
+    private InternedTargetKey(
+        Function<Optional<String>, Path> cellRoots,
+        @Nullable Path basePath,
+        String target) {
+      this.cellRoots = cellRoots;
+      this.basePath = basePath;
+      this.target = target;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof InternedTargetKey)) {
+        return false;
+      }
+      InternedTargetKey that = (InternedTargetKey) obj;
+      return target.equals(that.target) &&
+          Objects.equal(basePath, that.basePath) &&
+          cellRoots.equals(that.cellRoots);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(cellRoots, basePath, target);
+    }
   }
 }
@@ -17,13 +17,27 @@
 package com.facebook.buck.rules.coercer;
 
 import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.model.Pair;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import java.nio.file.Path;
 
 public class PathTypeCoercer extends LeafTypeCoercer<Path> {
 
+  private static final int MAX_INTERNED_PATHS = 100000;
+
+  /**
+   * The normalized paths we've already resolved, keyed by the build file's directory and the path
+   * as it was written there, so that resolving a path is a lookup and the nodes which refer to it
+   * share a single instance.
+   */
+  private final Cache<Pair<Path, String>, Path> internedPaths = CacheBuilder.newBuilder()
+      .maximumSize(MAX_INTERNED_PATHS)
+      .build();
+
   @Override
   public Class<Path> getOutputClass() {
     return Path.class;
@@ -41,7 +55,12 @@ public class PathTypeCoercer extends LeafTypeCoercer<Path> {
       if (path.isEmpty()) {
         throw new CoerceFailedException("invalid path");
       }
-      final Path normalizedPath = pathRelativeToProjectRoot.resolve(path).normalize();
+      Pair<Path, String> key = new Pair<>(pathRelativeToProjectRoot, path);
+      Path normalizedPath = internedPaths.getIfPresent(key);
+      if (normalizedPath == null) {
+        normalizedPath = pathRelativeToProjectRoot.resolve(path).normalize();
+        internedPaths.put(key, normalizedPath);
+      }
 
       // Verify that the path exists
       try {
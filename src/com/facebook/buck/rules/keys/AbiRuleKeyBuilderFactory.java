@@ -21,6 +21,7 @@ import com.facebook.buck.rules.RuleKeyBuilder;
 import com.facebook.buck.rules.RuleKeyBuilderFactory;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.util.cache.FileHashCache;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.google.common.base.Preconditions;
 
 public class AbiRuleKeyBuilderFactory extends DefaultRuleKeyBuilderFactory {
@@ -31,7 +32,20 @@ public class AbiRuleKeyBuilderFactory extends DefaultRuleKeyBuilderFactory {
       FileHashCache hashCache,
       SourcePathResolver pathResolver,
       RuleKeyBuilderFactory defaultRuleKeyBuilderFactory) {
-    super(hashCache, pathResolver);
+    this(hashCache, pathResolver, defaultRuleKeyBuilderFactory, HashFunctionType.SHA1);
+  }
+
+  public AbiRuleKeyBuilderFactory(
+      FileHashCache hashCache,
+      SourcePathResolver pathResolver,
+      RuleKeyBuilderFactory defaultRuleKeyBuilderFactory,
+      HashFunctionType hashFunctionType) {
+    super(
+        hashCache,
+        pathResolver,
+        DefaultRuleKeyBuilderFactoryOptions.builder()
+            .setHashFunctionType(hashFunctionType)
+            .build());
     this.defaultRuleKeyBuilderFactory = defaultRuleKeyBuilderFactory;
   }
 
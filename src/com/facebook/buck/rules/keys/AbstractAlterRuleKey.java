@@ -17,27 +17,45 @@
 package com.facebook.buck.rules.keys;
 
 import com.facebook.buck.rules.BuildRule;
+import com.google.common.base.Throwables;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 
 import javax.annotation.Nullable;
 
 abstract class AbstractAlterRuleKey implements AlterRuleKey {
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, BuildRule.class);
+
   protected final Field field;
 
+  /**
+   * Reads {@link #field}.  Reading through a handle skips the access and receiver checks
+   * {@link Field#get} makes on every call.
+   */
+  private final MethodHandle getter;
+
   /**
    * @param field {@link java.lang.reflect.Field} that is assumed to be accessible.
    */
   public AbstractAlterRuleKey(Field field) {
     this.field = field;
+    try {
+      this.getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   @Nullable
-  protected Object getValue(Field field, BuildRule from) {
+  protected Object getValue(BuildRule from) {
     try {
-      return field.get(from);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
+      return (Object) getter.invokeExact(from);
+    } catch (Throwable t) {
+      throw Throwables.propagate(t);
     }
   }
 }
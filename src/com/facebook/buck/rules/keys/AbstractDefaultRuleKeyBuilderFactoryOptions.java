@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.util.hash.HashFunctionType;
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.google.common.base.Optional;
+
+import org.immutables.value.Value;
+
+/**
+ * How a {@link DefaultRuleKeyBuilderFactory} hashes rule keys, and where it keeps them across
+ * builds.
+ */
+@Value.Immutable
+@BuckStyleImmutable
+abstract class AbstractDefaultRuleKeyBuilderFactoryOptions {
+
+  /**
+   * @return what rule keys are hashed with.
+   */
+  @Value.Default
+  public HashFunctionType getHashFunctionType() {
+    return HashFunctionType.SHA1;
+  }
+
+  /**
+   * @return where keys kept from earlier builds are looked up, and where the keys the factory
+   *     computes are kept for later ones.
+   */
+  public abstract Optional<DaemonicRuleKeyCache> getDaemonicRuleKeyCache();
+}
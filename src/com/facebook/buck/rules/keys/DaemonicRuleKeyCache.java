@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.io.WatchEvents;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.eventbus.Subscribe;
+
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the default {@link RuleKey}s of the rules of an action graph between the commands run by
+ * buckd, so that each build only has to recompute the keys of the rules whose inputs changed
+ * since the last one, and of the rules which depend on those.
+ * <p>
+ * Keys are only kept while the rules they were computed for are, so this is only of use when the
+ * action graph itself is kept between commands too.  A key is only kept if every file hashed into
+ * it is watched, as a change anywhere else would go unnoticed, and if the keys of the rules
+ * hashed into it are kept as well.
+ */
+public class DaemonicRuleKeyCache {
+
+  private static final Logger LOG = Logger.get(DaemonicRuleKeyCache.class);
+
+  private final ProjectFilesystem filesystem;
+  private final ConcurrentMap<BuildTarget, Entry> entries;
+
+  // The rules whose kept keys hashed each file, by the path relative to the root of the cell.
+  private final Map<Path, Set<BuildTarget>> rulesByInput;
+
+  // The rules whose kept keys hashed the key of each rule.
+  private final Map<BuildTarget, Set<BuildTarget>> dependents;
+
+  /**
+   * @param filesystem the cell whose file changes are posted to {@link #onFileSystemChange}.
+   */
+  public DaemonicRuleKeyCache(ProjectFilesystem filesystem) {
+    this.filesystem = filesystem;
+    this.entries = new ConcurrentHashMap<>();
+    this.rulesByInput = Maps.newHashMap();
+    this.dependents = Maps.newHashMap();
+  }
+
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return the key kept for {@code rule}, if none of its inputs have changed since.
+   */
+  public Optional<RuleKey> get(BuildRule rule) {
+    Entry entry = entries.get(rule.getBuildTarget());
+    if (entry == null || entry.rule != rule) {
+      return Optional.absent();
+    }
+    return Optional.of(entry.ruleKey);
+  }
+
+  /**
+   * Keeps the {@code ruleKey} of {@code rule}, which was computed from {@code inputs}, if changes
+   * to all those inputs will be seen.
+   *
+   * @return whether the key was kept.
+   */
+  boolean put(BuildRule rule, RuleKey ruleKey, RuleKeyInputs inputs) {
+    Set<Path> relativePaths = Sets.newHashSet();
+    for (Path path : inputs.getPaths()) {
+      Optional<Path> relativePath = filesystem.getPathRelativeToProjectRoot(path);
+      if (!relativePath.isPresent() || filesystem.isIgnored(relativePath.get())) {
+        LOG.verbose("Not keeping the key of %s, which hashes the unwatched %s.", rule, path);
+        return false;
+      }
+      relativePaths.add(relativePath.get());
+    }
+
+    BuildTarget target = rule.getBuildTarget();
+    synchronized (this) {
+      for (BuildRule input : inputs.getRules()) {
+        if (!get(input).isPresent()) {
+          LOG.verbose("Not keeping the key of %s, as the key of %s isn't kept.", rule, input);
+          return false;
+        }
+      }
+      for (Path path : relativePaths) {
+        getOrCreate(rulesByInput, path).add(target);
+      }
+      for (BuildRule input : inputs.getRules()) {
+        getOrCreate(dependents, input.getBuildTarget()).add(target);
+      }
+      entries.put(target, new Entry(rule, ruleKey));
+    }
+    return true;
+  }
+
+  /**
+   * Called when file change events are posted to the file change EventBus to drop the keys of
+   * the rules which hashed the changed file, or a directory it is in, and of everything which
+   * depends on those rules.  {@link Path}s contained within events must all be relative to the
+   * {@link ProjectFilesystem} root.
+   */
+  @Subscribe
+  public synchronized void onFileSystemChange(WatchEvent<?> event) {
+    if (!WatchEvents.isPathChangeEvent(event)) {
+      // Non-path change event, likely an overflow due to many change events: drop everything.
+      LOG.debug("Invalidating all");
+      invalidateAll();
+      return;
+    }
+
+    Path path = ((Path) event.context()).normalize();
+    Deque<BuildTarget> toInvalidate = new ArrayDeque<>();
+    for (Path input = path; input != null; input = input.getParent()) {
+      Set<BuildTarget> targets = rulesByInput.remove(input);
+      if (targets != null) {
+        toInvalidate.addAll(targets);
+      }
+    }
+
+    int invalidated = 0;
+    while (!toInvalidate.isEmpty()) {
+      BuildTarget target = toInvalidate.pop();
+      if (entries.remove(target) == null) {
+        // Anything which hashed its key was dropped along with it.
+        continue;
+      }
+      invalidated++;
+      Set<BuildTarget> targetDependents = dependents.remove(target);
+      if (targetDependents != null) {
+        toInvalidate.addAll(targetDependents);
+      }
+    }
+    if (invalidated > 0) {
+      LOG.debug("Invalidated the keys of %d rules as %s changed.", invalidated, path);
+    }
+  }
+
+  public synchronized void invalidateAll() {
+    entries.clear();
+    rulesByInput.clear();
+    dependents.clear();
+  }
+
+  @VisibleForTesting
+  int size() {
+    return entries.size();
+  }
+
+  private static <K> Set<BuildTarget> getOrCreate(Map<K, Set<BuildTarget>> map, K key) {
+    Set<BuildTarget> targets = map.get(key);
+    if (targets == null) {
+      targets = Sets.newHashSet();
+      map.put(key, targets);
+    }
+    return targets;
+  }
+
+  private static class Entry {
+    private final BuildRule rule;
+    private final RuleKey ruleKey;
+
+    public Entry(BuildRule rule, RuleKey ruleKey) {
+      this.rule = rule;
+      this.ruleKey = ruleKey;
+    }
+  }
+}
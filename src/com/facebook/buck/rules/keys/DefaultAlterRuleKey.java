@@ -28,6 +28,6 @@ class DefaultAlterRuleKey extends AbstractAlterRuleKey {
 
   @Override
   public void amendKey(RuleKeyBuilder builder, BuildRule rule) {
-    builder.setReflectively(field.getName(), getValue(field, rule));
+    builder.setReflectively(field.getName(), getValue(rule));
   }
 }
@@ -23,6 +23,7 @@ import com.facebook.buck.rules.RuleKeyBuilderFactory;
 import com.facebook.buck.rules.SourcePath;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.util.cache.FileHashCache;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
@@ -46,7 +47,20 @@ public class DefaultDependencyFileRuleKeyBuilderFactory
       FileHashCache fileHashCache,
       SourcePathResolver pathResolver,
       RuleKeyBuilderFactory ruleKeyBuilderFactory) {
-    super(fileHashCache, pathResolver, ruleKeyBuilderFactory, InputHandling.IGNORE);
+    this(fileHashCache, pathResolver, ruleKeyBuilderFactory, HashFunctionType.SHA1);
+  }
+
+  public DefaultDependencyFileRuleKeyBuilderFactory(
+      FileHashCache fileHashCache,
+      SourcePathResolver pathResolver,
+      RuleKeyBuilderFactory ruleKeyBuilderFactory,
+      HashFunctionType hashFunctionType) {
+    super(
+        fileHashCache,
+        pathResolver,
+        ruleKeyBuilderFactory,
+        InputHandling.IGNORE,
+        hashFunctionType);
     this.pathResolver = pathResolver;
   }
 
@@ -24,11 +24,18 @@ import com.facebook.buck.rules.RuleKeyBuilder;
 import com.facebook.buck.rules.RuleKeyBuilderFactory;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.util.cache.FileHashCache;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * A {@link RuleKeyBuilderFactory} which adds some default settings to {@link RuleKey}s.
@@ -38,38 +45,44 @@ public class DefaultRuleKeyBuilderFactory extends ReflectiveRuleKeyBuilderFactor
   protected final LoadingCache<RuleKeyAppendable, RuleKey> ruleKeyCache;
   private final FileHashCache hashCache;
   private final SourcePathResolver pathResolver;
+  private final Optional<DaemonicRuleKeyCache> daemonicRuleKeyCache;
+
+  // What the keys in ruleKeyCache were computed from, when there's a daemonic cache to tell.
+  private final Cache<RuleKeyAppendable, RuleKeyInputs> appendableInputs;
 
   public DefaultRuleKeyBuilderFactory(FileHashCache hashCache, SourcePathResolver pathResolver) {
+    this(hashCache, pathResolver, DefaultRuleKeyBuilderFactoryOptions.builder().build());
+  }
+
+  public DefaultRuleKeyBuilderFactory(
+      FileHashCache hashCache,
+      SourcePathResolver pathResolver,
+      DefaultRuleKeyBuilderFactoryOptions options) {
+    super(options.getHashFunctionType());
     ruleKeyCache = CacheBuilder.newBuilder().weakKeys().build(
         new CacheLoader<RuleKeyAppendable, RuleKey>() {
           @Override
           public RuleKey load(@Nonnull RuleKeyAppendable appendable) throws Exception {
-            RuleKeyBuilder subKeyBuilder = newBuilder();
+            Builder subKeyBuilder = newBuilder();
             appendable.appendToRuleKey(subKeyBuilder);
+            if (subKeyBuilder.inputs != null) {
+              appendableInputs.put(appendable, subKeyBuilder.inputs);
+            }
             return subKeyBuilder.build();
           }
         });
+    this.appendableInputs = CacheBuilder.newBuilder().weakKeys().build();
     this.hashCache = hashCache;
     this.pathResolver = pathResolver;
+    this.daemonicRuleKeyCache = options.getDaemonicRuleKeyCache();
   }
 
   protected RuleKeyBuilderFactory getDefaultRuleKeyBuilderFactory() {
     return this;
   }
 
-  private RuleKeyBuilder newBuilder() {
-    return new RuleKeyBuilder(
-        pathResolver,
-        hashCache,
-        getDefaultRuleKeyBuilderFactory()) {
-      @Override
-      protected RuleKey getAppendableRuleKey(
-          SourcePathResolver resolver,
-          FileHashCache hashCache,
-          RuleKeyAppendable appendable) {
-        return ruleKeyCache.getUnchecked(appendable);
-      }
-    };
+  private Builder newBuilder() {
+    return new Builder(daemonicRuleKeyCache.isPresent() ? new RuleKeyInputs() : null);
   }
 
   @Override
@@ -97,4 +110,68 @@ public class DefaultRuleKeyBuilderFactory extends ReflectiveRuleKeyBuilderFactor
     return builder;
   }
 
+  @Override
+  protected RuleKey buildRuleKey(BuildRule buildRule) {
+    if (!daemonicRuleKeyCache.isPresent()) {
+      return super.buildRuleKey(buildRule);
+    }
+
+    Optional<RuleKey> kept = daemonicRuleKeyCache.get().get(buildRule);
+    if (kept.isPresent()) {
+      return kept.get();
+    }
+    RuleKeyBuilder builder = newInstance(buildRule);
+    RuleKey ruleKey = builder.build();
+    if (builder instanceof Builder) {
+      daemonicRuleKeyCache.get().put(
+          buildRule,
+          ruleKey,
+          Preconditions.checkNotNull(((Builder) builder).inputs));
+    }
+    return ruleKey;
+  }
+
+  /**
+   * Memoizes the keys of {@link RuleKeyAppendable}s, and notes what went into the key if there's
+   * a {@link DaemonicRuleKeyCache} to keep it in.
+   */
+  private class Builder extends RuleKeyBuilder {
+
+    @Nullable
+    private final RuleKeyInputs inputs;
+
+    public Builder(@Nullable RuleKeyInputs inputs) {
+      super(pathResolver, hashCache, getDefaultRuleKeyBuilderFactory(), getHashFunctionType());
+      this.inputs = inputs;
+    }
+
+    @Override
+    protected RuleKey getAppendableRuleKey(
+        SourcePathResolver resolver,
+        FileHashCache hashCache,
+        RuleKeyAppendable appendable) {
+      RuleKey ruleKey = ruleKeyCache.getUnchecked(appendable);
+      if (inputs != null) {
+        inputs.addAll(Preconditions.checkNotNull(appendableInputs.getIfPresent(appendable)));
+      }
+      return ruleKey;
+    }
+
+    @Override
+    public RuleKeyBuilder setPath(Path absolutePath, Path ideallyRelative) throws IOException {
+      if (inputs != null) {
+        inputs.addPath(absolutePath);
+      }
+      return super.setPath(absolutePath, ideallyRelative);
+    }
+
+    @Override
+    protected RuleKeyBuilder setBuildRule(BuildRule rule) {
+      if (inputs != null) {
+        inputs.addRule(rule);
+      }
+      return super.setBuildRule(rule);
+    }
+  }
+
 }
@@ -24,6 +24,7 @@ import com.facebook.buck.rules.RuleKeyBuilderFactory;
 import com.facebook.buck.rules.SourcePath;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.util.cache.FileHashCache;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
@@ -56,7 +57,9 @@ public class InputBasedRuleKeyBuilderFactory
       FileHashCache hashCache,
       SourcePathResolver pathResolver,
       RuleKeyBuilderFactory defaultRuleKeyBuilderFactory,
-      InputHandling inputHandling) {
+      InputHandling inputHandling,
+      HashFunctionType hashFunctionType) {
+    super(hashFunctionType);
     this.fileHashCache = hashCache;
     this.pathResolver = pathResolver;
     this.defaultRuleKeyBuilderFactory = defaultRuleKeyBuilderFactory;
@@ -79,7 +82,20 @@ public class InputBasedRuleKeyBuilderFactory
       FileHashCache hashCache,
       SourcePathResolver pathResolver,
       RuleKeyBuilderFactory defaultRuleKeyBuilderFactory) {
-    this(hashCache, pathResolver, defaultRuleKeyBuilderFactory, InputHandling.HASH);
+    this(hashCache, pathResolver, defaultRuleKeyBuilderFactory, HashFunctionType.SHA1);
+  }
+
+  public InputBasedRuleKeyBuilderFactory(
+      FileHashCache hashCache,
+      SourcePathResolver pathResolver,
+      RuleKeyBuilderFactory defaultRuleKeyBuilderFactory,
+      HashFunctionType hashFunctionType) {
+    this(
+        hashCache,
+        pathResolver,
+        defaultRuleKeyBuilderFactory,
+        InputHandling.HASH,
+        hashFunctionType);
   }
 
   @Override
@@ -106,7 +122,7 @@ public class InputBasedRuleKeyBuilderFactory
     private final ImmutableList.Builder<Iterable<SourcePath>> inputs = ImmutableList.builder();
 
     private Builder() {
-      super(pathResolver, fileHashCache, defaultRuleKeyBuilderFactory);
+      super(pathResolver, fileHashCache, defaultRuleKeyBuilderFactory, getHashFunctionType());
     }
 
     @Override
@@ -56,6 +56,8 @@ class ReflectiveAlterKeyLoader
         AlterRuleKey ark;
         if (annotation.stringify()) {
           ark = new StringifyAlterRuleKey(field);
+        } else if (SingleValueAlterRuleKey.isSingleValueType(field.getType())) {
+          ark = new SingleValueAlterRuleKey(field);
         } else {
           ark = new DefaultAlterRuleKey(field);
         }
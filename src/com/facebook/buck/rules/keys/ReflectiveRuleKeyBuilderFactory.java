@@ -23,6 +23,7 @@ import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.rules.RuleKeyAppendable;
 import com.facebook.buck.rules.RuleKeyBuilder;
 import com.facebook.buck.rules.RuleKeyBuilderFactory;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.google.common.base.Throwables;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
@@ -36,21 +37,46 @@ public abstract class ReflectiveRuleKeyBuilderFactory<T extends RuleKeyBuilder>
 
   private static final Logger LOG = Logger.get(ReflectiveRuleKeyBuilderFactory.class);
 
-  private final LoadingCache<Class<? extends BuildRule>, ImmutableCollection<AlterRuleKey>>
-      knownFields;
+  /**
+   * How to add the fields of each class of rule, which depends only on the class, so is worked
+   * out once for all the factories.
+   */
+  private static final LoadingCache<Class<? extends BuildRule>, ImmutableCollection<AlterRuleKey>>
+      KNOWN_FIELDS = CacheBuilder.newBuilder().build(new ReflectiveAlterKeyLoader());
+
   private final LoadingCache<BuildRule, RuleKey> knownRules;
+  private final HashFunctionType hashFunctionType;
 
   public ReflectiveRuleKeyBuilderFactory() {
-    knownFields = CacheBuilder.newBuilder().build(new ReflectiveAlterKeyLoader());
+    this(HashFunctionType.SHA1);
+  }
+
+  public ReflectiveRuleKeyBuilderFactory(HashFunctionType hashFunctionType) {
+    this.hashFunctionType = hashFunctionType;
     knownRules = CacheBuilder.newBuilder().weakKeys().build(
         new CacheLoader<BuildRule, RuleKey>() {
           @Override
           public RuleKey load(BuildRule key) throws Exception {
-            return newInstance(key).build();
+            return buildRuleKey(key);
           }
         });
   }
 
+  /**
+   * @return what the {@link RuleKeyBuilder}s of this factory should hash with.
+   */
+  protected HashFunctionType getHashFunctionType() {
+    return hashFunctionType;
+  }
+
+  /**
+   * Computes the key of {@code buildRule}, which {@link #build} then remembers for the lifetime of
+   * this factory.
+   */
+  protected RuleKey buildRuleKey(BuildRule buildRule) {
+    return newInstance(buildRule).build();
+  }
+
   /**
    * @return sub-classes should override this to provide specialized {@link RuleKeyBuilder}s.
    */
@@ -59,10 +85,15 @@ public abstract class ReflectiveRuleKeyBuilderFactory<T extends RuleKeyBuilder>
   @Override
   public T newInstance(BuildRule buildRule) {
     T builder = newBuilder(buildRule);
-    builder.setReflectively("name", buildRule.getBuildTarget().getFullyQualifiedName());
+    builder.setSingleValue("name", buildRule.getBuildTarget().getFullyQualifiedName());
     // Keyed as "buck.type" rather than "type" in case a build rule has its own "type" argument.
-    builder.setReflectively("buck.type", buildRule.getType());
-    builder.setReflectively("buckVersionUid", BuckVersion.getVersion());
+    builder.setSingleValue("buck.type", buildRule.getType());
+    builder.setSingleValue("buckVersionUid", BuckVersion.getVersion());
+    // Keys hashed with another function must never be mistaken for SHA-1 ones, even if they came
+    // out the same width.  SHA-1 keys are left as they were, so they still match existing caches.
+    if (hashFunctionType != HashFunctionType.SHA1) {
+      builder.setSingleValue("buck.hashFunction", hashFunctionType.toString());
+    }
 
     if (buildRule instanceof RuleKeyAppendable) {
       // We call `setAppendableRuleKey` explicitly, since using `setReflectively` will try to add
@@ -74,7 +105,7 @@ public abstract class ReflectiveRuleKeyBuilderFactory<T extends RuleKeyBuilder>
     }
 
     try {
-      for (AlterRuleKey alterRuleKey : knownFields.get(buildRule.getClass())) {
+      for (AlterRuleKey alterRuleKey : KNOWN_FIELDS.get(buildRule.getClass())) {
         alterRuleKey.amendKey(builder, buildRule);
       }
     } catch (ExecutionException | RuntimeException e) {
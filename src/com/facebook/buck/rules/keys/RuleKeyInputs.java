@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.rules.BuildRule;
+import com.google.common.collect.Sets;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * What went into a {@link com.facebook.buck.rules.RuleKey} other than the values of fields: the
+ * files whose contents were hashed into it, and the rules whose keys were.
+ */
+class RuleKeyInputs {
+
+  private final Set<Path> paths = Sets.newHashSet();
+  private final Set<BuildRule> rules = Sets.newHashSet();
+
+  public void addPath(Path absolutePath) {
+    paths.add(absolutePath);
+  }
+
+  public void addRule(BuildRule rule) {
+    rules.add(rule);
+  }
+
+  public void addAll(RuleKeyInputs inputs) {
+    paths.addAll(inputs.paths);
+    rules.addAll(inputs.rules);
+  }
+
+  /**
+   * @return the absolute paths of the files hashed into the key.
+   */
+  public Set<Path> getPaths() {
+    return Collections.unmodifiableSet(paths);
+  }
+
+  public Set<BuildRule> getRules() {
+    return Collections.unmodifiableSet(rules);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.RuleKeyAppendable;
+import com.facebook.buck.rules.RuleKeyBuilder;
+import com.google.common.base.Optional;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Adds a field whose declared type means its value can only ever be a single value, such as a
+ * {@link String}, a primitive or an enum.  Which way {@link RuleKeyBuilder#setReflectively} would
+ * add such a value is known when the class is first seen, so this skips working it out again for
+ * every rule.
+ */
+class SingleValueAlterRuleKey extends AbstractAlterRuleKey {
+
+  /**
+   * The types {@link RuleKeyBuilder#setReflectively} treats specially, rather than as a single
+   * value.
+   */
+  private static final ImmutableList<Class<?>> NON_SINGLE_VALUE_TYPES =
+      ImmutableList.<Class<?>>of(
+          RuleKeyAppendable.class,
+          Optional.class,
+          Iterable.class,
+          Iterator.class,
+          Map.class,
+          Supplier.class);
+
+  public SingleValueAlterRuleKey(Field field) {
+    super(field);
+  }
+
+  /**
+   * @return whether every value a field of {@code type} could hold would be added as a single
+   *     value.  Only types which can't be sub-classed qualify, as a sub-class could implement one
+   *     of the interfaces which {@link RuleKeyBuilder#setReflectively} looks for.
+   */
+  static boolean isSingleValueType(Class<?> type) {
+    if (type.isPrimitive()) {
+      return true;
+    }
+    if (!Modifier.isFinal(type.getModifiers()) && !type.isEnum()) {
+      return false;
+    }
+    for (Class<?> nonSingleValueType : NON_SINGLE_VALUE_TYPES) {
+      if (nonSingleValueType.isAssignableFrom(type)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void amendKey(RuleKeyBuilder builder, BuildRule rule) {
+    builder.setSingleValue(field.getName(), getValue(rule));
+  }
+}
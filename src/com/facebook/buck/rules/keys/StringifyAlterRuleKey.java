@@ -78,8 +78,8 @@ class StringifyAlterRuleKey extends AbstractAlterRuleKey {
 
   @Override
   public void amendKey(RuleKeyBuilder builder, BuildRule rule) {
-    Object val = getValue(field, rule);
-    builder.setReflectively(
+    Object val = getValue(rule);
+    builder.setSingleValue(
         field.getName(),
         val == null ? null : String.valueOf(val));
 
@@ -31,6 +31,7 @@ abstract class AbstractSingleRunReport {
   public abstract int getTotalDependencyDagEdges();
   public abstract ImmutableList<String> getBuildTargets();
   public abstract int getNumberOfThreads();
+  public abstract BuildSimulator.SchedulingOrder getSchedulingOrder();
   public abstract int getActionGraphNodesWithoutSimulateTime();
   public abstract String getSimulateTimesFile();
   public abstract String getTimeAggregate();
@@ -32,26 +32,51 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
 
 public class BuildSimulator {
+
+  /**
+   * The order in which the simulated threads pick the targets whose dependencies are built.
+   */
+  public enum SchedulingOrder {
+
+    // In the order their dependencies finished.
+    FIFO,
+
+    // Those with the longest chain of simulated times left up to the top-level targets first.
+    CRITICAL_PATH,
+  }
+
   private final SimulateTimes times;
   private final ActionGraph actionGraph;
   private final BuildRuleResolver resolver;
   private final int numberOfThreads;
+  private final SchedulingOrder schedulingOrder;
 
   public BuildSimulator(
       SimulateTimes times,
       ActionGraph actionGraph,
       BuildRuleResolver resolver,
       int numberOfThreads) {
+    this(times, actionGraph, resolver, numberOfThreads, SchedulingOrder.FIFO);
+  }
+
+  public BuildSimulator(
+      SimulateTimes times,
+      ActionGraph actionGraph,
+      BuildRuleResolver resolver,
+      int numberOfThreads,
+      SchedulingOrder schedulingOrder) {
     this.times = times;
     this.actionGraph = actionGraph;
     this.resolver = resolver;
     this.numberOfThreads = numberOfThreads;
+    this.schedulingOrder = schedulingOrder;
   }
 
   public SimulateReport simulateBuild(
@@ -84,18 +109,72 @@ public class BuildSimulator {
           .setRuleFallbackTimeMillis(times.getRuleFallbackTimeMillis())
           .setTotalActionGraphNodes(Iterables.size(actionGraph.getNodes()))
           .setTimeAggregate(timeAggregate)
-          .setNumberOfThreads(numberOfThreads);
+          .setNumberOfThreads(numberOfThreads)
+          .setSchedulingOrder(schedulingOrder);
 
       report.setTotalDependencyDagEdges(totalDagEdges);
 
+      Queue<BuildTarget> buildableNodes = leafNodes;
+      if (schedulingOrder == SchedulingOrder.CRITICAL_PATH) {
+        buildableNodes = new PriorityQueue<>(
+            Math.max(1, leafNodes.size()),
+            longestCriticalPathFirst(reverseDependencies, timeAggregate));
+        buildableNodes.addAll(leafNodes);
+      }
+
       // Run the simulation.
       simulateReport.addRunReports(
-          runSimulation(report, reverseDependencies, leafNodes, timeAggregate));
+          runSimulation(report, reverseDependencies, buildableNodes, timeAggregate));
     }
 
     return simulateReport.build();
   }
 
+  private Comparator<BuildTarget> longestCriticalPathFirst(
+      Map<BuildTarget, NodeState> reverseDependencies,
+      String timeAggregate) {
+    final Map<BuildTarget, Long> criticalPathMillis = Maps.newHashMap();
+    for (BuildTarget target : reverseDependencies.keySet()) {
+      getCriticalPathMillis(target, reverseDependencies, timeAggregate, criticalPathMillis);
+    }
+    return new Comparator<BuildTarget>() {
+      @Override
+      public int compare(BuildTarget a, BuildTarget b) {
+        return Long.compare(criticalPathMillis.get(b), criticalPathMillis.get(a));
+      }
+    };
+  }
+
+  /**
+   * @return the simulated time it takes to build {@code target} and the longest chain of the
+   *     targets which depend on it.
+   */
+  private long getCriticalPathMillis(
+      BuildTarget target,
+      Map<BuildTarget, NodeState> reverseDependencies,
+      String timeAggregate,
+      Map<BuildTarget, Long> criticalPathMillis) {
+    Long known = criticalPathMillis.get(target);
+    if (known != null) {
+      return known;
+    }
+    long longestDependantMillis = 0;
+    NodeState state = Preconditions.checkNotNull(reverseDependencies.get(target));
+    for (BuildTarget dependant : state.getDependantNodes()) {
+      longestDependantMillis = Math.max(
+          longestDependantMillis,
+          getCriticalPathMillis(
+              dependant,
+              reverseDependencies,
+              timeAggregate,
+              criticalPathMillis));
+    }
+    long millis =
+        longestDependantMillis + times.getMillisForTarget(target.toString(), timeAggregate);
+    criticalPathMillis.put(target, millis);
+    return millis;
+  }
+
   private SingleRunReport runSimulation(
       SingleRunReport.Builder report,
       Map<BuildTarget, NodeState> reverseDependencies,
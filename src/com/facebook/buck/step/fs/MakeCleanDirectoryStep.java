@@ -18,6 +18,8 @@ package com.facebook.buck.step.fs;
 
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.step.CompositeStep;
+import com.facebook.buck.step.HasResourceAmounts;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
@@ -34,7 +36,7 @@ import java.nio.file.Path;
  * that generated one of the {@code .class} files, the {@code .class} file corresponding to the
  * deleted {@code .java} file should no longer be there when {@code javac} is run again.
  */
-public final class MakeCleanDirectoryStep extends CompositeStep {
+public final class MakeCleanDirectoryStep extends CompositeStep implements HasResourceAmounts {
 
   private final Path pathRelativeToProjectRoot;
 
@@ -67,4 +69,9 @@ public final class MakeCleanDirectoryStep extends CompositeStep {
   public int hashCode() {
     return Objects.hashCode(pathRelativeToProjectRoot);
   }
+
+  @Override
+  public ResourceAmounts getResourceAmounts() {
+    return ResourceAmounts.ZERO;
+  }
 }
@@ -18,8 +18,10 @@ package com.facebook.buck.step.fs;
 
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.step.ExecutionContext;
+import com.facebook.buck.step.HasResourceAmounts;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.util.Escaper;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -27,7 +29,7 @@ import java.nio.file.Path;
 /**
  * Command that runs equivalent command of {@code mkdir -p} on the specified directory.
  */
-public class MkdirStep implements Step {
+public class MkdirStep implements Step, HasResourceAmounts {
 
   private final ProjectFilesystem filesystem;
   private final Path pathRelativeToProjectRoot;
@@ -66,4 +68,9 @@ public class MkdirStep implements Step {
   public Path getPath() {
     return filesystem.resolve(pathRelativeToProjectRoot);
   }
+
+  @Override
+  public ResourceAmounts getResourceAmounts() {
+    return ResourceAmounts.ZERO;
+  }
 }
@@ -19,14 +19,16 @@ package com.facebook.buck.step.fs;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.step.ExecutionContext;
+import com.facebook.buck.step.HasResourceAmounts;
 import com.facebook.buck.step.Step;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 
 import java.io.IOException;
 import java.nio.file.Path;
 
-public class RmStep implements Step {
+public class RmStep implements Step, HasResourceAmounts {
 
   private static final Logger LOG = Logger.get(RmStep.class);
 
@@ -102,4 +104,9 @@ public class RmStep implements Step {
   public String getDescription(ExecutionContext context) {
     return Joiner.on(" ").join(getShellCommand());
   }
+
+  @Override
+  public ResourceAmounts getResourceAmounts() {
+    return ResourceAmounts.ZERO;
+  }
 }
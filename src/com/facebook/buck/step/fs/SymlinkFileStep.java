@@ -19,13 +19,15 @@ package com.facebook.buck.step.fs;
 import com.facebook.buck.io.MorePaths;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.step.ExecutionContext;
+import com.facebook.buck.step.HasResourceAmounts;
 import com.facebook.buck.step.Step;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
 import com.google.common.base.Joiner;
 
 import java.io.IOException;
 import java.nio.file.Path;
 
-public class SymlinkFileStep implements Step {
+public class SymlinkFileStep implements Step, HasResourceAmounts {
 
   private final ProjectFilesystem filesystem;
   private final Path existingFile;
@@ -95,4 +97,9 @@ public class SymlinkFileStep implements Step {
       return 1;
     }
   }
+
+  @Override
+  public ResourceAmounts getResourceAmounts() {
+    return ResourceAmounts.ZERO;
+  }
 }
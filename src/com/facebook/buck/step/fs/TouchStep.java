@@ -18,7 +18,9 @@ package com.facebook.buck.step.fs;
 
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.step.ExecutionContext;
+import com.facebook.buck.step.HasResourceAmounts;
 import com.facebook.buck.step.Step;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -26,7 +28,7 @@ import java.nio.file.Path;
 /**
  * {@link com.facebook.buck.step.Step} that runs {@code touch <filename>} in the shell.
  */
-public class TouchStep implements Step {
+public class TouchStep implements Step, HasResourceAmounts {
 
   private final ProjectFilesystem filesystem;
   private final Path fileToTouch;
@@ -72,4 +74,8 @@ public class TouchStep implements Step {
     return fileToTouch.hashCode();
   }
 
+  @Override
+  public ResourceAmounts getResourceAmounts() {
+    return ResourceAmounts.ZERO;
+  }
 }
@@ -20,8 +20,10 @@ import com.facebook.buck.io.MoreFiles;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.step.ExecutionContext;
+import com.facebook.buck.step.HasResourceAmounts;
 import com.facebook.buck.step.Step;
 import com.facebook.buck.util.Escaper;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Supplier;
@@ -34,7 +36,7 @@ import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 
-public class WriteFileStep implements Step {
+public class WriteFileStep implements Step, HasResourceAmounts {
 
   private static final Logger LOG = Logger.get(WriteFileStep.class);
 
@@ -115,4 +117,8 @@ public class WriteFileStep implements Step {
         Escaper.escapeAsBashString(outputPath));
   }
 
+  @Override
+  public ResourceAmounts getResourceAmounts() {
+    return ResourceAmounts.ZERO;
+  }
 }
@@ -17,6 +17,7 @@
 package com.facebook.buck.util;
 
 
+import com.facebook.buck.bser.BserParser;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.io.MorePaths;
@@ -27,6 +28,7 @@ import com.facebook.buck.log.Logger;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.eventbus.EventBus;
@@ -71,6 +73,50 @@ public class WatchmanWatcher {
 
   private final long timeoutMillis;
 
+  /**
+   * Reads the changed files into the events to post for them, or absent if there are too many of
+   * them or one can't be turned into an event, without building a map for each of them first.
+   */
+  private final WatchmanClient.FilesReader<Optional<ImmutableList<WatchEvent<?>>>> filesReader =
+      new WatchmanClient.FilesReader<Optional<ImmutableList<WatchEvent<?>>>>() {
+        @Override
+        public Optional<ImmutableList<WatchEvent<?>>> read(BserParser parser)
+            throws IOException {
+          if (parser.getCurrentToken() != BserParser.Token.START_ARRAY) {
+            throw new IOException(
+                String.format(
+                    "Expected Watchman files to be an array, got %s",
+                    parser.getCurrentToken()));
+          }
+          if (parser.getSize() > overflow) {
+            LOG.warn(
+                "Too many changed files (%d > %d), giving up and posting overflow event.",
+                parser.getSize(), overflow);
+            parser.skipChildren();
+            return Optional.absent();
+          }
+          ImmutableList.Builder<WatchEvent<?>> events = ImmutableList.builder();
+          boolean valid = true;
+          while (parser.nextToken() == BserParser.Token.START_OBJECT) {
+            if (valid) {
+              Optional<WatchEvent<Path>> event = readFileEvent(parser);
+              if (event.isPresent()) {
+                events.add(event.get());
+              } else {
+                valid = false;
+              }
+            } else {
+              // The rest of the files still have to be read, as they are part of the response.
+              parser.skipChildren();
+            }
+          }
+          if (!valid) {
+            return Optional.absent();
+          }
+          return Optional.<ImmutableList<WatchEvent<?>>>of(events.build());
+        }
+      };
+
   public WatchmanWatcher(
       String watchRoot,
       EventBus fileChangeEventBus,
@@ -196,8 +242,9 @@ public class WatchmanWatcher {
   ) throws IOException, InterruptedException {
     try {
       Optional<? extends Map<String, ? extends Object>> queryResponse =
-          watchmanClient.queryWithTimeout(
+          watchmanClient.queryFilesWithTimeout(
               TimeUnit.MILLISECONDS.toNanos(timeoutMillis),
+              filesReader,
               query.toArray());
       if (!queryResponse.isPresent()) {
         LOG.warn(
@@ -233,37 +280,19 @@ public class WatchmanWatcher {
         return;
       }
 
-      List<Map<String, Object>> files = (List<Map<String, Object>>) response.get("files");
-      if (files != null) {
-        if (files.size() > overflow) {
-          LOG.warn(
-              "Too many changed files (%d > %d), giving up and posting overflow event.",
-              files.size(), overflow);
+      Optional<ImmutableList<WatchEvent<?>>> events =
+          (Optional<ImmutableList<WatchEvent<?>>>) response.get("files");
+      if (events != null) {
+        if (!events.isPresent()) {
           postWatchEvent(createOverflowEvent());
           return;
         }
 
-        for (Map<String, Object> file : files) {
-          String fileName = (String) file.get("name");
-          if (fileName == null) {
-            LOG.warn("Filename missing from Watchman file response %s", file);
-            postWatchEvent(createOverflowEvent());
-            return;
-          }
-          PathEventBuilder builder = new PathEventBuilder();
-          builder.setPath(Paths.get(fileName));
-          Boolean fileNew = (Boolean) file.get("new");
-          if (fileNew != null && fileNew) {
-            builder.setCreationEvent();
-          }
-          Boolean fileExists = (Boolean) file.get("exists");
-          if (fileExists != null && !fileExists) {
-            builder.setDeletionEvent();
-          }
-          postWatchEvent(builder.build());
+        for (WatchEvent<?> event : events.get()) {
+          postWatchEvent(event);
         }
 
-        LOG.debug("Posted %d Watchman events.", files.size());
+        LOG.debug("Posted %d Watchman events.", events.get().size());
       }
     } catch (InterruptedException e) {
       LOG.warn(e, "Interrupted while talking to Watchman");
@@ -277,6 +306,43 @@ public class WatchmanWatcher {
     }
   }
 
+  /**
+   * Reads the fields of a changed file, the start of which was just read, into the event to post
+   * for it.
+   */
+  private static Optional<WatchEvent<Path>> readFileEvent(BserParser parser) throws IOException {
+    PathEventBuilder builder = new PathEventBuilder();
+    boolean hasName = false;
+    while (parser.nextToken() == BserParser.Token.FIELD_NAME) {
+      String fieldName = parser.getFieldName();
+      BserParser.Token token = parser.nextToken();
+      switch (fieldName) {
+        case "name":
+          if (token == BserParser.Token.VALUE_STRING) {
+            builder.setPath(Paths.get(parser.getString()));
+            hasName = true;
+          }
+          break;
+        case "new":
+          if (token == BserParser.Token.VALUE_TRUE) {
+            builder.setCreationEvent();
+          }
+          break;
+        case "exists":
+          if (token == BserParser.Token.VALUE_FALSE) {
+            builder.setDeletionEvent();
+          }
+          break;
+      }
+      parser.skipChildren();
+    }
+    if (!hasName) {
+      LOG.warn("Filename missing from Watchman file response");
+      return Optional.absent();
+    }
+    return Optional.of(builder.build());
+  }
+
   private void postWatchEvent(WatchEvent<?> event) {
     LOG.warn("Posting WatchEvent: %s", event);
     fileChangeEventBus.post(event);
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import com.facebook.buck.util.hash.HashFunctionType;
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.google.common.base.Optional;
+
+import org.immutables.value.Value;
+
+/**
+ * How a {@link DefaultFileHashCache} hashes files, and where it keeps the hashes across
+ * processes.
+ */
+@Value.Immutable
+@BuckStyleImmutable
+abstract class AbstractDefaultFileHashCacheOptions {
+
+  /**
+   * @return hashes of files kept by earlier processes, which are used instead of reading files
+   *     which haven't changed since, and which the hashes the cache computes are added to.  It
+   *     must only hold hashes computed with {@link #getHashFunctionType()}.
+   */
+  public abstract Optional<PersistentFileHashStore> getPersistentStore();
+
+  /**
+   * @return what to hash the contents of files with.
+   */
+  @Value.Default
+  public HashFunctionType getHashFunctionType() {
+    return HashFunctionType.SHA1;
+  }
+}
@@ -18,6 +18,7 @@ package com.facebook.buck.util.cache;
 
 import com.facebook.buck.hashing.PathHashing;
 import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
@@ -28,7 +29,6 @@ import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
-import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 
 import java.io.IOException;
@@ -36,6 +36,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.concurrent.ExecutionException;
 
 import javax.annotation.Nonnull;
@@ -43,12 +44,22 @@ import javax.annotation.Nonnull;
 public class DefaultFileHashCache implements ProjectFileHashCache {
 
   private final ProjectFilesystem projectFilesystem;
+  private final Optional<PersistentFileHashStore> persistentStore;
+  private final HashFunctionType hashFunctionType;
 
   @VisibleForTesting
   final LoadingCache<Path, HashCodeAndFileType> loadingCache;
 
   public DefaultFileHashCache(ProjectFilesystem projectFilesystem) {
+    this(projectFilesystem, DefaultFileHashCacheOptions.builder().build());
+  }
+
+  public DefaultFileHashCache(
+      ProjectFilesystem projectFilesystem,
+      DefaultFileHashCacheOptions options) {
     this.projectFilesystem = projectFilesystem;
+    this.persistentStore = options.getPersistentStore();
+    this.hashFunctionType = options.getHashFunctionType();
 
     this.loadingCache = CacheBuilder.newBuilder()
         .build(new CacheLoader<Path, HashCodeAndFileType>() {
@@ -68,6 +79,23 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   }
 
   private HashCode getFileHashCode(final Path path) throws IOException {
+    if (persistentStore.isPresent() && !path.isAbsolute()) {
+      // Stat the file before reading it, so that a change while it is read makes the entry stale
+      // rather than wrong.
+      BasicFileAttributes attributes =
+          Files.readAttributes(projectFilesystem.resolve(path), BasicFileAttributes.class);
+      Optional<HashCode> storedHashCode = persistentStore.get().get(path, attributes);
+      if (storedHashCode.isPresent()) {
+        return storedHashCode.get();
+      }
+      HashCode hashCode = readFileHashCode(path);
+      persistentStore.get().put(path, attributes, hashCode);
+      return hashCode;
+    }
+    return readFileHashCode(path);
+  }
+
+  private HashCode readFileHashCode(final Path path) throws IOException {
     ByteSource source =
         new ByteSource() {
           @Override
@@ -79,11 +107,11 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
             }
           }
         };
-    return source.hash(Hashing.sha1());
+    return source.hash(hashFunctionType.getHashFunction());
   }
 
   private HashCodeAndFileType getDirHashCode(Path path) throws IOException {
-    Hasher hasher = Hashing.sha1().newHasher();
+    Hasher hasher = hashFunctionType.getHashFunction().newHasher();
     ImmutableSet<Path> children =
         PathHashing.hashPath(hasher, this, projectFilesystem, path);
     return HashCodeAndFileType.ofDirectory(hasher.hash(), children);
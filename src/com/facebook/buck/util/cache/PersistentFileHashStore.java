@@ -0,0 +1,215 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.timing.Clock;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Maps;
+import com.google.common.hash.HashCode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the hashes of files across buck processes, so that the first build after buck or
+ * buckd starts only has to stat the files it has seen before instead of reading them.  An entry
+ * is only used while the size, modification time and file key (on unix, the device and inode) of
+ * its file are the same as when the file was hashed.
+ */
+public class PersistentFileHashStore {
+
+  private static final Logger LOG = Logger.get(PersistentFileHashStore.class);
+
+  private static final int VERSION = 0;
+
+  /**
+   * Files modified this recently may be modified again without their modification time changing,
+   * on file systems which only keep it to the second or two, so their hashes are not kept.
+   */
+  @VisibleForTesting
+  static final long RACY_MODIFICATION_WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(2);
+
+  /**
+   * Past this many entries, only the ones used by this process are saved, so that the store
+   * doesn't grow forever with the files of old branches.
+   */
+  private static final int MAX_SAVED_ENTRIES = 1000000;
+
+  private final Path storePath;
+  private final Clock clock;
+  private final ConcurrentMap<Path, Entry> entries;
+  private final Set<Path> usedPaths = Collections.newSetFromMap(
+      Maps.<Path, Boolean>newConcurrentMap());
+  private volatile boolean dirty = false;
+
+  private PersistentFileHashStore(Path storePath, Clock clock, ConcurrentMap<Path, Entry> entries) {
+    this.storePath = storePath;
+    this.clock = clock;
+    this.entries = entries;
+  }
+
+  /**
+   * Loads the store saved at {@code storePath}, or starts an empty one if there is none or it
+   * can't be read.
+   */
+  public static PersistentFileHashStore load(Path storePath, Clock clock) {
+    ConcurrentMap<Path, Entry> entries = Maps.newConcurrentMap();
+    try (DataInputStream input =
+             new DataInputStream(new BufferedInputStream(Files.newInputStream(storePath)))) {
+      if (input.readInt() == VERSION) {
+        int count = input.readInt();
+        for (int i = 0; i < count; i++) {
+          Path path = Paths.get(input.readUTF());
+          long size = input.readLong();
+          long lastModifiedMillis = input.readLong();
+          String fileKey = input.readUTF();
+          byte[] hash = new byte[input.readUnsignedByte()];
+          input.readFully(hash);
+          entries.put(
+              path,
+              new Entry(size, lastModifiedMillis, fileKey, HashCode.fromBytes(hash)));
+        }
+      }
+    } catch (NoSuchFileException e) {
+      // Nothing saved yet.
+    } catch (IOException | IllegalArgumentException e) {
+      LOG.warn(e, "Ignoring unreadable file hash store %s", storePath);
+      entries.clear();
+    }
+    LOG.debug("Loaded %d file hashes from %s", entries.size(), storePath);
+    return new PersistentFileHashStore(storePath, clock, entries);
+  }
+
+  private static String getFileKey(BasicFileAttributes attributes) {
+    Object fileKey = attributes.fileKey();
+    return fileKey == null ? "" : fileKey.toString();
+  }
+
+  /**
+   * @return the hash of the file at {@code path}, if it is known and the file hasn't changed
+   *     since, according to {@code attributes}.
+   */
+  public Optional<HashCode> get(Path path, BasicFileAttributes attributes) {
+    Entry entry = entries.get(path);
+    if (entry == null ||
+        entry.size != attributes.size() ||
+        entry.lastModifiedMillis != attributes.lastModifiedTime().toMillis() ||
+        !entry.fileKey.equals(getFileKey(attributes))) {
+      return Optional.absent();
+    }
+    usedPaths.add(path);
+    return Optional.of(entry.hashCode);
+  }
+
+  /**
+   * Records the hash of the file at {@code path}, which had {@code attributes} before it was
+   * read.
+   */
+  public void put(Path path, BasicFileAttributes attributes, HashCode hashCode) {
+    long lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+    if (clock.currentTimeMillis() - lastModifiedMillis < RACY_MODIFICATION_WINDOW_MILLIS) {
+      entries.remove(path);
+      return;
+    }
+    entries.put(
+        path,
+        new Entry(attributes.size(), lastModifiedMillis, getFileKey(attributes), hashCode));
+    usedPaths.add(path);
+    dirty = true;
+  }
+
+  /**
+   * Writes the store back to disk, if anything has been added to it since it was loaded.
+   */
+  public synchronized void save() throws IOException {
+    if (!dirty) {
+      return;
+    }
+    dirty = false;
+
+    Map<Path, Entry> toSave = entries;
+    if (entries.size() > MAX_SAVED_ENTRIES) {
+      toSave = Maps.filterKeys(entries, Predicates.in(usedPaths));
+    }
+    // Take a copy, as hashing carries on while the daemon saves.
+    toSave = Maps.newHashMap(toSave);
+
+    Files.createDirectories(storePath.getParent());
+    Path tempPath = Files.createTempFile(
+        storePath.getParent(),
+        storePath.getFileName().toString(),
+        ".tmp");
+    try {
+      try (DataOutputStream output =
+               new DataOutputStream(
+                   new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+        output.writeInt(VERSION);
+        output.writeInt(toSave.size());
+        for (Map.Entry<Path, Entry> mapEntry : toSave.entrySet()) {
+          Entry entry = mapEntry.getValue();
+          output.writeUTF(mapEntry.getKey().toString());
+          output.writeLong(entry.size);
+          output.writeLong(entry.lastModifiedMillis);
+          output.writeUTF(entry.fileKey);
+          byte[] hash = entry.hashCode.asBytes();
+          output.writeByte(hash.length);
+          output.write(hash);
+        }
+      }
+      Files.move(tempPath, storePath, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tempPath);
+    }
+    LOG.debug("Saved %d file hashes to %s", toSave.size(), storePath);
+  }
+
+  @VisibleForTesting
+  int size() {
+    return entries.size();
+  }
+
+  private static class Entry {
+    private final long size;
+    private final long lastModifiedMillis;
+    private final String fileKey;
+    private final HashCode hashCode;
+
+    public Entry(long size, long lastModifiedMillis, String fileKey, HashCode hashCode) {
+      this.size = size;
+      this.lastModifiedMillis = lastModifiedMillis;
+      this.fileKey = fileKey;
+      this.hashCode = hashCode;
+    }
+  }
+}
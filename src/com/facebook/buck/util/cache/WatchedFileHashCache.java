@@ -36,6 +36,12 @@ public class WatchedFileHashCache extends DefaultFileHashCache {
     super(projectFilesystem);
   }
 
+  public WatchedFileHashCache(
+      ProjectFilesystem projectFilesystem,
+      DefaultFileHashCacheOptions options) {
+    super(projectFilesystem, options);
+  }
+
   /**
    * Called when file change events are posted to the file change EventBus to invalidate cached
    * build rules if required. {@link Path}s contained within events must all be relative to the
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Runnable} with a priority, which a queue from {@link #newWorkQueue()} runs ahead of
+ * any queued work with a lower priority.  Any other queue runs it like a plain {@link Runnable}.
+ */
+public class PrioritizedRunnable implements Runnable {
+
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+
+  /**
+   * Orders the highest priority first.  Work which isn't a {@link PrioritizedRunnable} is
+   * treated as having the highest possible priority, as it's usually short bookkeeping which
+   * uncovers more work.  Work of equal priority runs in the order it was created.
+   */
+  public static final Comparator<Runnable> HIGHEST_PRIORITY_FIRST = new Comparator<Runnable>() {
+    @Override
+    public int compare(Runnable a, Runnable b) {
+      int result = Long.compare(getPriority(b), getPriority(a));
+      if (result != 0) {
+        return result;
+      }
+      return Long.compare(getSequence(a), getSequence(b));
+    }
+  };
+
+  private final Runnable delegate;
+  private final long priority;
+  private final long sequence;
+
+  public PrioritizedRunnable(Runnable delegate, long priority) {
+    this.delegate = delegate;
+    this.priority = priority;
+    this.sequence = SEQUENCE.getAndIncrement();
+  }
+
+  public long getPriority() {
+    return priority;
+  }
+
+  @Override
+  public void run() {
+    delegate.run();
+  }
+
+  /**
+   * @return an unbounded work queue which hands out the work of the highest priority first.
+   */
+  public static BlockingQueue<Runnable> newWorkQueue() {
+    return new PriorityBlockingQueue<>(11, HIGHEST_PRIORITY_FIRST);
+  }
+
+  private static long getPriority(Runnable runnable) {
+    return runnable instanceof PrioritizedRunnable ?
+        ((PrioritizedRunnable) runnable).priority :
+        Long.MAX_VALUE;
+  }
+
+  private static long getSequence(Runnable runnable) {
+    return runnable instanceof PrioritizedRunnable ?
+        ((PrioritizedRunnable) runnable).sequence :
+        Long.MIN_VALUE;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s (priority %d)", delegate, priority);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Objects;
+
+/**
+ * Amounts of the resources of the machine a piece of work uses while it runs: cores and
+ * megabytes of memory.
+ */
+public final class ResourceAmounts {
+
+  public static final ResourceAmounts ZERO = of(0, 0);
+
+  private final int cpu;
+  private final long memoryMb;
+
+  private ResourceAmounts(int cpu, long memoryMb) {
+    Preconditions.checkArgument(cpu >= 0, "CPU amount must not be negative: %s", cpu);
+    Preconditions.checkArgument(
+        memoryMb >= 0,
+        "Memory amount must not be negative: %s",
+        memoryMb);
+    this.cpu = cpu;
+    this.memoryMb = memoryMb;
+  }
+
+  public static ResourceAmounts of(int cpu, long memoryMb) {
+    return new ResourceAmounts(cpu, memoryMb);
+  }
+
+  public int getCpu() {
+    return cpu;
+  }
+
+  public long getMemoryMb() {
+    return memoryMb;
+  }
+
+  public ResourceAmounts append(ResourceAmounts other) {
+    return of(cpu + other.cpu, memoryMb + other.memoryMb);
+  }
+
+  public ResourceAmounts subtract(ResourceAmounts other) {
+    return of(cpu - other.cpu, memoryMb - other.memoryMb);
+  }
+
+  /**
+   * @return whether none of these amounts is greater than the same amount in {@code limit}.
+   */
+  public boolean fitsIn(ResourceAmounts limit) {
+    return cpu <= limit.cpu && memoryMb <= limit.memoryMb;
+  }
+
+  /**
+   * @return these amounts, lowered where they are greater than the same amount in {@code limit}.
+   */
+  public ResourceAmounts clampTo(ResourceAmounts limit) {
+    return of(Math.min(cpu, limit.cpu), Math.min(memoryMb, limit.memoryMb));
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ResourceAmounts)) {
+      return false;
+    }
+    ResourceAmounts that = (ResourceAmounts) obj;
+    return cpu == that.cpu && memoryMb == that.memoryMb;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(cpu, memoryMb);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("{cpu=%d, memory_mb=%d}", cpu, memoryMb);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Hands out {@link ResourceAmounts} from a fixed budget, blocking whoever asks for more than is
+ * left until enough has been given back.
+ * <p>
+ * Asking for more than the whole budget is allowed, and waits until nothing else is running:
+ * like {@link LimitedThreadPoolExecutor}, we always let at least one piece of work run so that
+ * the build keeps making progress.
+ * <p>
+ * Work is let in in the order it asked, so that something waiting for a lot of the budget, such
+ * as a heavy link, isn't starved by smaller work which keeps fitting in around it.
+ */
+public class ResourceSemaphore {
+
+  private final ResourceAmounts budget;
+  private ResourceAmounts used = ResourceAmounts.ZERO;
+
+  /**
+   * A token for each caller of {@link #acquire} which is waiting, the longest waiting first.
+   */
+  private final Deque<Object> waiters = new ArrayDeque<>();
+
+  public ResourceSemaphore(ResourceAmounts budget) {
+    this.budget = budget;
+  }
+
+  public ResourceAmounts getBudget() {
+    return budget;
+  }
+
+  /**
+   * Blocks until {@code amounts}, or the whole budget if that's less, can be taken from the
+   * budget, and takes it.
+   *
+   * @return what was taken, which must be passed to {@link #release} once the work is done.
+   */
+  public synchronized ResourceAmounts acquire(ResourceAmounts amounts)
+      throws InterruptedException {
+    ResourceAmounts toAcquire = amounts.clampTo(budget);
+    Object waiter = new Object();
+    waiters.addLast(waiter);
+    try {
+      while (waiters.peekFirst() != waiter || !used.append(toAcquire).fitsIn(budget)) {
+        wait();
+      }
+    } finally {
+      waiters.remove(waiter);
+      // Whoever is next in line may fit now, or may have been waiting behind us.
+      notifyAll();
+    }
+    used = used.append(toAcquire);
+    return toAcquire;
+  }
+
+  public synchronized void release(ResourceAmounts amounts) {
+    used = used.subtract(amounts);
+    notifyAll();
+  }
+
+  @VisibleForTesting
+  synchronized ResourceAmounts getUsed() {
+    return used;
+  }
+
+  @VisibleForTesting
+  synchronized int getWaiterCount() {
+    return waiters.size();
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.hash;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * The hash functions buck can hash the contents of files and rule keys with.  Neither needs to
+ * withstand an attacker, only accidental collisions, so a fast non-cryptographic function with a
+ * wide enough output does as well as SHA-1 at a fraction of the cost.
+ */
+public enum HashFunctionType {
+
+  /**
+   * What buck has always used, and so the only choice which keeps rule keys compatible with
+   * caches populated by older versions.
+   */
+  SHA1(Hashing.sha1()),
+
+  /**
+   * 128-bit MurmurHash3, several times faster than SHA-1 on file contents.
+   */
+  MURMUR3_128(Hashing.murmur3_128()),
+  ;
+
+  private final HashFunction hashFunction;
+
+  HashFunctionType(HashFunction hashFunction) {
+    this.hashFunction = hashFunction;
+  }
+
+  public HashFunction getHashFunction() {
+    return hashFunction;
+  }
+}
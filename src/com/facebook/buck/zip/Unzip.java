@@ -27,17 +27,32 @@ import com.google.common.io.ByteStreams;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 public class Unzip {
 
+  private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
   /** Utility class: do not instantiate. */
   private Unzip() {}
 
@@ -62,17 +77,7 @@ public class Unzip {
         ZipArchiveEntry entry = entries.nextElement();
         String fileName = entry.getName();
         Path target = relativePath.resolve(fileName);
-        if (filesystem.exists(target)) {
-          switch (existingFileMode) {
-            case OVERWRITE:
-              // Unpack the file or directory as usual, overwriting the file.
-              break;
-            case OVERWRITE_AND_CLEAN_DIRECTORIES:
-              // Delete the file or directory before unpacking it.
-              filesystem.deleteRecursivelyIfExists(target);
-              break;
-          }
-        }
+        prepareTarget(filesystem, target, existingFileMode);
 
         // TODO(bolinfest): Keep track of which directories have already been written to avoid
         // making unnecessary Files.createDirectories() calls. In practice, a single zip file will
@@ -175,6 +180,209 @@ public class Unzip {
     return filesWritten.build();
   }
 
+  /**
+   * Unzips a zip read from {@code input} into the root of {@code filesystem} as it arrives, rather
+   * than from a file, and returns the paths of the written files.  Only the zip's central
+   * directory, which comes last, records which files are executable, so they are made executable
+   * once the whole zip has been read.
+   */
+  public static ImmutableList<Path> extractZipStream(
+      InputStream input,
+      ProjectFilesystem filesystem,
+      ExistingFileMode existingFileMode) throws IOException {
+    List<Path> filesWritten = new ArrayList<>();
+    extractZipStream(input, filesystem, existingFileMode, filesWritten);
+    return ImmutableList.copyOf(filesWritten);
+  }
+
+  /**
+   * Like {@link #extractZipStream(InputStream, ProjectFilesystem, ExistingFileMode)}, but adds the
+   * path of each file to {@code filesWritten} before writing it, so that a caller can clean up
+   * after a zip which fails part way through.
+   */
+  public static void extractZipStream(
+      InputStream input,
+      ProjectFilesystem filesystem,
+      ExistingFileMode existingFileMode,
+      List<Path> filesWritten) throws IOException {
+    Path relativePath = filesystem.getRootPath().getFileSystem().getPath("");
+    Map<String, Path> filesByEntryName = new HashMap<>();
+
+    TailRecordingInputStream recorder = new TailRecordingInputStream(input);
+    ZipInputStream zip = new ZipInputStream(recorder);
+    ZipEntry entry;
+    while ((entry = zip.getNextEntry()) != null) {
+      Path target = relativePath.resolve(entry.getName());
+      prepareTarget(filesystem, target, existingFileMode);
+      if (entry.isDirectory()) {
+        filesystem.mkdirs(target);
+      } else {
+        filesystem.createParentDirs(target);
+        filesWritten.add(target);
+        filesByEntryName.put(entry.getName(), target);
+        try (OutputStream out = filesystem.newFileOutputStream(target)) {
+          ByteStreams.copy(zip, out);
+        }
+      }
+    }
+
+    // ZipInputStream stops at the start of the central directory, having read no more than one
+    // buffer of it.
+    recorder.recordRemainder();
+    ByteStreams.copy(recorder, ByteStreams.nullOutputStream());
+    for (Map.Entry<String, Long> attributes :
+         readExternalAttributes(recorder.getRecorded()).entrySet()) {
+      Path target = filesByEntryName.get(attributes.getKey());
+      if (target != null &&
+          MorePosixFilePermissions.fromMode(attributes.getValue() >> 16)
+              .contains(PosixFilePermission.OWNER_EXECUTE)) {
+        MoreFiles.makeExecutable(filesystem.resolve(target));
+      }
+    }
+  }
+
+  private static void prepareTarget(
+      ProjectFilesystem filesystem,
+      Path target,
+      ExistingFileMode existingFileMode) throws IOException {
+    if (filesystem.exists(target)) {
+      switch (existingFileMode) {
+        case OVERWRITE:
+          // Unpack the file or directory as usual, overwriting the file.
+          break;
+        case OVERWRITE_AND_CLEAN_DIRECTORIES:
+          // Delete the file or directory before unpacking it.
+          filesystem.deleteRecursivelyIfExists(target);
+          break;
+      }
+    }
+  }
+
+  /**
+   * @param tail the end of a zip, starting no later than its central directory.
+   * @return the external attributes of the zip's entries, keyed by entry name.
+   */
+  private static Map<String, Long> readExternalAttributes(byte[] tail) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(tail).order(ByteOrder.LITTLE_ENDIAN);
+    int endOfCentralDirectory = -1;
+    for (int i = tail.length - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+      if (buffer.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+        endOfCentralDirectory = i;
+        break;
+      }
+    }
+    if (endOfCentralDirectory == -1) {
+      throw new IOException("Zip has no end of central directory record.");
+    }
+    long centralDirectorySize = buffer.getInt(endOfCentralDirectory + 12) & 0xffffffffL;
+    if (centralDirectorySize > endOfCentralDirectory) {
+      throw new IOException("Zip central directory was not fully read.");
+    }
+
+    Map<String, Long> externalAttributes = new HashMap<>();
+    int offset = endOfCentralDirectory - (int) centralDirectorySize;
+    while (offset < endOfCentralDirectory &&
+        buffer.getInt(offset) == CENTRAL_DIRECTORY_SIGNATURE) {
+      int nameLength = buffer.getShort(offset + 28) & 0xffff;
+      int extraLength = buffer.getShort(offset + 30) & 0xffff;
+      int commentLength = buffer.getShort(offset + 32) & 0xffff;
+      long attributes = buffer.getInt(offset + 38) & 0xffffffffL;
+      String name = new String(tail, offset + 46, nameLength, StandardCharsets.UTF_8);
+      externalAttributes.put(name, attributes);
+      offset += 46 + nameLength + extraLength + commentLength;
+    }
+    return externalAttributes;
+  }
+
+  /**
+   * Keeps the last bytes read through it, and everything read after
+   * {@link #recordRemainder()} is called.
+   */
+  private static class TailRecordingInputStream extends FilterInputStream {
+    private static final int TAIL_SIZE = 64 * 1024;
+
+    private final byte[] tail = new byte[TAIL_SIZE];
+    private final ByteArrayOutputStream remainder = new ByteArrayOutputStream();
+    private long tailBytes = 0;
+    private boolean recordingRemainder = false;
+
+    TailRecordingInputStream(InputStream in) {
+      super(in);
+    }
+
+    void recordRemainder() {
+      recordingRemainder = true;
+    }
+
+    byte[] getRecorded() {
+      int tailLength = (int) Math.min(tailBytes, TAIL_SIZE);
+      int tailStart = (int) (tailBytes % TAIL_SIZE);
+      ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+      if (tailLength == TAIL_SIZE) {
+        recorded.write(tail, tailStart, TAIL_SIZE - tailStart);
+      }
+      recorded.write(tail, 0, tailLength == TAIL_SIZE ? tailStart : tailLength);
+      byte[] rest = remainder.toByteArray();
+      recorded.write(rest, 0, rest.length);
+      return recorded.toByteArray();
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = in.read();
+      if (b == -1) {
+        return b;
+      }
+      if (recordingRemainder) {
+        remainder.write(b);
+      } else {
+        tail[(int) (tailBytes++ % TAIL_SIZE)] = (byte) b;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = in.read(b, off, len);
+      if (read > 0) {
+        record(b, off, read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      // Skipped bytes have to be recorded too.
+      return Math.max(read(new byte[(int) Math.min(n, TAIL_SIZE)]), 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void record(byte[] b, int off, int len) {
+      if (recordingRemainder) {
+        remainder.write(b, off, len);
+        return;
+      }
+      // Only the last TAIL_SIZE bytes can end up in the tail.
+      if (len > TAIL_SIZE) {
+        tailBytes += len - TAIL_SIZE;
+        off += len - TAIL_SIZE;
+        len = TAIL_SIZE;
+      }
+      while (len > 0) {
+        int position = (int) (tailBytes % TAIL_SIZE);
+        int count = Math.min(len, TAIL_SIZE - position);
+        System.arraycopy(b, off, tail, position, count);
+        tailBytes += count;
+        off += count;
+        len -= count;
+      }
+    }
+  }
+
   public static ImmutableList<Path> extractZipFile(
       Path zipFile,
       ProjectFilesystem filesystem,
@@ -326,6 +326,29 @@ public class ArtifactCacheBuckConfigTest {
     assertThat(cache.getErrorMessageFormat(), Matchers.equalTo(testText));
   }
 
+  @Test
+  public void testArtifactCodec() throws IOException {
+    ArtifactCacheBuckConfig config = createFromText("[cache]");
+    assertThat(config.getArtifactCodec(), Matchers.equalTo(ArtifactCodec.DEFLATE));
+    assertThat(
+        config.getArtifactCompressionLevel(),
+        Matchers.equalTo(ArtifactCodec.DEFAULT_DEFLATE_LEVEL));
+
+    config = createFromText(
+        "[cache]",
+        "artifact_codec = store",
+        "artifact_compression_level = 1");
+    assertThat(config.getArtifactCodec(), Matchers.equalTo(ArtifactCodec.STORE));
+    assertThat(config.getArtifactCompressionLevel(), Matchers.equalTo(1));
+  }
+
+  @Test(expected = HumanReadableException.class)
+  public void testArtifactCompressionLevelOutOfRange() throws IOException {
+    createFromText(
+        "[cache]",
+        "artifact_compression_level = 10").getArtifactCompressionLevel();
+  }
+
   public static ArtifactCacheBuckConfig createFromText(String... lines) throws IOException {
     ProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
     StringReader reader = new StringReader(Joiner.on('\n').join(lines));
@@ -95,6 +95,42 @@ public class ArtifactCachesTest {
     assertInnerDirCache(artifactCache);
   }
 
+  @Test
+  public void testPrefetchingWrapsCachesWithHttp() throws Exception {
+    ArtifactCacheBuckConfig cacheConfig = ArtifactCacheBuckConfigTest.createFromText(
+        "[cache]",
+        "mode = dir, http",
+        "prefetch_enabled = true");
+    ProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
+    BuckEventBus buckEventBus = BuckEventBusFactory.newInstance();
+    ArtifactCache artifactCache = ArtifactCaches.newInstance(
+        cacheConfig,
+        buckEventBus,
+        projectFilesystem,
+        Optional.<String>absent(),
+        MoreExecutors.newDirectExecutorService());
+    assertThat(artifactCache, Matchers.instanceOf(PrefetchingArtifactCacheDecorator.class));
+    artifactCache.close();
+  }
+
+  @Test
+  public void testNoPrefetchingWithoutHttp() throws Exception {
+    ArtifactCacheBuckConfig cacheConfig = ArtifactCacheBuckConfigTest.createFromText(
+        "[cache]",
+        "mode = dir",
+        "prefetch_enabled = true");
+    ProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
+    BuckEventBus buckEventBus = BuckEventBusFactory.newInstance();
+    ArtifactCache artifactCache = ArtifactCaches.newInstance(
+        cacheConfig,
+        buckEventBus,
+        projectFilesystem,
+        Optional.<String>absent(),
+        MoreExecutors.newDirectExecutorService());
+
+    assertInnerDirCache(artifactCache);
+  }
+
   private static void assertInnerDirCache(ArtifactCache artifactCache) {
     assertThat(artifactCache, Matchers.instanceOf(LoggingArtifactCacheDecorator.class));
     LoggingArtifactCacheDecorator cacheDecorator = (LoggingArtifactCacheDecorator) artifactCache;
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+public class BatchingArtifactCacheDecoratorTest {
+
+  private static final RuleKey FIRST = new RuleKey("00000000000000000000000000000000");
+  private static final RuleKey SECOND = new RuleKey("11111111111111111111111111111111");
+  private static final RuleKey THIRD = new RuleKey("22222222222222222222222222222222");
+
+  /**
+   * Blocks the first lookup it sees until released, and records the shape of every lookup.
+   */
+  private static class RecordingArtifactCache extends NoopArtifactCache {
+    private final CountDownLatch firstFetchStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstFetch = new CountDownLatch(1);
+    private final List<ImmutableSet<RuleKey>> lookups =
+        Lists.newCopyOnWriteArrayList();
+
+    @Override
+    public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+      lookups.add(ImmutableSet.of(ruleKey));
+      if (firstFetchStarted.getCount() > 0) {
+        firstFetchStarted.countDown();
+        try {
+          releaseFirstFetch.await();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      }
+      return CacheResult.hit("recording");
+    }
+
+    @Override
+    public ImmutableMap<RuleKey, CacheResult> multiFetch(
+        ImmutableMap<RuleKey, LazyPath> outputs) {
+      lookups.add(outputs.keySet());
+      ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+      for (RuleKey ruleKey : outputs.keySet()) {
+        results.put(
+            ruleKey,
+            ruleKey.equals(THIRD) ? CacheResult.miss() : CacheResult.hit("recording"));
+      }
+      return results.build();
+    }
+
+    @Override
+    public boolean isMultiFetchBatched() {
+      return true;
+    }
+  }
+
+  @Test
+  public void loneFetchGoesStraightToDelegate() throws Exception {
+    RecordingArtifactCache delegate = new RecordingArtifactCache();
+    delegate.releaseFirstFetch.countDown();
+    BatchingArtifactCacheDecorator cache = new BatchingArtifactCacheDecorator(delegate, 10);
+
+    CacheResult result = cache.fetch(FIRST, LazyPath.ofInstance(Paths.get("first")));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertEquals(
+        ImmutableList.of(ImmutableSet.of(FIRST)),
+        ImmutableList.copyOf(delegate.lookups));
+  }
+
+  @Test
+  public void fetchesAreNotHeldBackForDelegatesWhichCantBatchThem() throws Exception {
+    final RecordingArtifactCache delegate = new RecordingArtifactCache() {
+      @Override
+      public boolean isMultiFetchBatched() {
+        return false;
+      }
+    };
+    BatchingArtifactCacheDecorator cache = new BatchingArtifactCacheDecorator(delegate, 10);
+    ListeningExecutorService executor =
+        MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(2));
+    try {
+      ListenableFuture<CacheResult> first = executor.submit(fetch(cache, FIRST, "first"));
+      delegate.firstFetchStarted.await();
+
+      // The second fetch doesn't wait for the first, which is still in flight.
+      CacheResult second = executor.submit(fetch(cache, SECOND, "second")).get();
+      delegate.releaseFirstFetch.countDown();
+
+      assertEquals(CacheResultType.HIT, second.getType());
+      assertEquals(CacheResultType.HIT, first.get().getType());
+      assertEquals(0, cache.getQueuedFetchCount());
+      assertEquals(
+          ImmutableList.of(ImmutableSet.of(FIRST), ImmutableSet.of(SECOND)),
+          ImmutableList.copyOf(delegate.lookups));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void fetchesQueuedBehindAnInFlightFetchAreBatched() throws Exception {
+    final RecordingArtifactCache delegate = new RecordingArtifactCache();
+    final BatchingArtifactCacheDecorator cache =
+        new BatchingArtifactCacheDecorator(delegate, 10);
+    ListeningExecutorService executor =
+        MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(3));
+    try {
+      ListenableFuture<CacheResult> first = executor.submit(fetch(cache, FIRST, "first"));
+      delegate.firstFetchStarted.await();
+
+      ListenableFuture<CacheResult> second = executor.submit(fetch(cache, SECOND, "second"));
+      ListenableFuture<CacheResult> third = executor.submit(fetch(cache, THIRD, "third"));
+
+      // Wait for both of the later fetches to queue up behind the one in flight.
+      while (cache.getQueuedFetchCount() < 2) {
+        Thread.sleep(1);
+      }
+      delegate.releaseFirstFetch.countDown();
+
+      List<CacheResult> results = Futures.allAsList(ImmutableList.of(first, second, third)).get();
+      assertEquals(CacheResultType.HIT, results.get(0).getType());
+      assertEquals(CacheResultType.HIT, results.get(1).getType());
+      assertEquals(CacheResultType.MISS, results.get(2).getType());
+      assertEquals(2, delegate.lookups.size());
+      assertEquals(ImmutableSet.of(FIRST), delegate.lookups.get(0));
+      assertThat(delegate.lookups.get(1), Matchers.containsInAnyOrder(SECOND, THIRD));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Callable<CacheResult> fetch(
+      final ArtifactCache cache,
+      final RuleKey ruleKey,
+      final String output) {
+    return new Callable<CacheResult>() {
+      @Override
+      public CacheResult call() throws Exception {
+        Path path = Paths.get(output);
+        return cache.fetch(ruleKey, LazyPath.ofInstance(path));
+      }
+    };
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.testutil.integration.DebuggableTemporaryFolder;
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Param;
+import com.google.caliper.api.Macrobenchmark;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Measures how many bytes {@link ChunkedArtifactCacheDecorator} saves by storing each distinct
+ * chunk once.  Point {@value #ARTIFACTS_PROPERTY} at a directory of real artifacts, for example
+ * several versions of the same jars, to measure them instead of the generated ones.
+ */
+public class ChunkedArtifactCacheBenchmark {
+  private static final String ARTIFACTS_PROPERTY = "buck.chunked_cache_benchmark.artifacts";
+
+  @Param({"16384", "65536"})
+  private int averageChunkSize = ContentDefinedChunker.DEFAULT_AVERAGE_CHUNK_SIZE;
+
+  public DebuggableTemporaryFolder tempDir = new DebuggableTemporaryFolder();
+
+  private ImmutableList<Path> artifacts;
+  private long totalBytes;
+  private long uniqueChunkBytes;
+
+  @Before
+  public void setUpTest() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    String artifactsDir = System.getProperty(ARTIFACTS_PROPERTY);
+    if (artifactsDir != null) {
+      ImmutableList.Builder<Path> builder = ImmutableList.builder();
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(artifactsDir))) {
+        for (Path file : files) {
+          if (Files.isRegularFile(file)) {
+            builder.add(file);
+          }
+        }
+      }
+      artifacts = builder.build();
+    } else {
+      tempDir.create();
+      artifacts = generateJarVersions(tempDir.getRootPath(), /* versions */ 5);
+    }
+  }
+
+  @After
+  @AfterExperiment
+  public void cleanup() {
+    System.out.printf(
+        "%d artifacts, %d bytes, %d bytes in distinct chunks (%.1f%% saved)%n",
+        artifacts.size(),
+        totalBytes,
+        uniqueChunkBytes,
+        totalBytes == 0 ? 0.0 : 100.0 * (totalBytes - uniqueChunkBytes) / totalBytes);
+    tempDir.delete();
+  }
+
+  @Test
+  public void chunkArtifactsCorrectness() throws Exception {
+    chunkArtifacts();
+    // Each version of the generated jar only changes a couple of its classes.
+    assertThat(uniqueChunkBytes * 2, Matchers.lessThan(totalBytes));
+  }
+
+  @Macrobenchmark
+  public void chunkArtifacts() throws Exception {
+    ContentDefinedChunker chunker = new ContentDefinedChunker(
+        averageChunkSize / 4,
+        averageChunkSize,
+        averageChunkSize * 4);
+    final Set<HashCode> seen = Sets.newHashSet();
+    totalBytes = 0;
+    uniqueChunkBytes = 0;
+    for (Path artifact : artifacts) {
+      try (InputStream in = new BufferedInputStream(Files.newInputStream(artifact))) {
+        chunker.split(
+            in,
+            new ContentDefinedChunker.ChunkHandler() {
+              @Override
+              public void handle(byte[] chunk, int length) {
+                totalBytes += length;
+                if (seen.add(Hashing.sha1().hashBytes(chunk, 0, length))) {
+                  uniqueChunkBytes += length;
+                }
+              }
+            });
+      }
+    }
+  }
+
+  /**
+   * Writes successive versions of a jar of incompressible "classes", each version changing two of
+   * them, which is roughly what a library looks like over a few incremental builds.
+   */
+  private static ImmutableList<Path> generateJarVersions(Path dir, int versions)
+      throws IOException {
+    Random random = new Random(0);
+    byte[][] classes = new byte[200][];
+    for (int i = 0; i < classes.length; i++) {
+      classes[i] = new byte[4096 + random.nextInt(8192)];
+      random.nextBytes(classes[i]);
+    }
+
+    ImmutableList.Builder<Path> jars = ImmutableList.builder();
+    for (int version = 0; version < versions; version++) {
+      random.nextBytes(classes[random.nextInt(classes.length)]);
+      random.nextBytes(classes[random.nextInt(classes.length)]);
+      Path jar = dir.resolve(String.format("lib-%d.jar", version));
+      try (OutputStream out = Files.newOutputStream(jar);
+           ZipOutputStream zip = new ZipOutputStream(out)) {
+        for (int i = 0; i < classes.length; i++) {
+          ZipEntry entry = new ZipEntry(String.format("com/example/Class%d.class", i));
+          entry.setTime(0);
+          zip.putNextEntry(entry);
+          zip.write(classes[i]);
+          zip.closeEntry();
+        }
+      }
+      jars.add(jar);
+    }
+    return jars.build();
+  }
+}
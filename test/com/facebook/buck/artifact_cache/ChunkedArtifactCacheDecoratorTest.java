@@ -0,0 +1,232 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class ChunkedArtifactCacheDecoratorTest {
+
+  private static final RuleKey FIRST = new RuleKey("00000000000000000000000000000000");
+  private static final RuleKey SECOND = new RuleKey("11111111111111111111111111111111");
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ChunkedArtifactCacheDecorator newCache(
+      ArtifactCache delegate,
+      String chunkDir,
+      long chunkingThreshold) {
+    return new ChunkedArtifactCacheDecorator(
+        delegate,
+        new ProjectFilesystem(tmp.getRoot()),
+        MoreExecutors.newDirectExecutorService(),
+        tmp.getRoot().resolve(chunkDir),
+        chunkingThreshold,
+        /* maxChunkDirSizeBytes */ 1024 * 1024L,
+        new ContentDefinedChunker(64, 256, 1024),
+        /* storedChunkTtlMillis */ TimeUnit.HOURS.toMillis(1));
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    new Random(42).nextBytes(bytes);
+    return bytes;
+  }
+
+  @Test
+  public void chunkedArtifactCanBeFetchedWithoutLocalChunks() throws Exception {
+    InMemoryArtifactCache delegate = new InMemoryArtifactCache();
+    byte[] data = randomBytes(20000);
+    Path artifact = tmp.newFile("artifact");
+    Files.write(artifact, data);
+
+    newCache(delegate, "storing-chunks", 0)
+        .store(ImmutableSet.of(FIRST), ImmutableMap.of("key", "value"), artifact)
+        .get();
+
+    // A cache with an empty chunk directory has to fetch every chunk.
+    Path output = tmp.newFile("output");
+    CacheResult result =
+        newCache(delegate, "fetching-chunks", 0).fetch(FIRST, LazyPath.ofInstance(output));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertEquals(ImmutableMap.of("key", "value"), result.getMetadata());
+    assertArrayEquals(data, Files.readAllBytes(output));
+  }
+
+  @Test
+  public void similarArtifactOnlyStoresChangedChunks() throws Exception {
+    InMemoryArtifactCache delegate = new InMemoryArtifactCache();
+    ChunkedArtifactCacheDecorator cache = newCache(delegate, "chunks", 0);
+    byte[] data = randomBytes(20000);
+    Path artifact = tmp.newFile("artifact");
+    Files.write(artifact, data);
+
+    cache.store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), artifact).get();
+    int storedForFirst = delegate.getArtifactCount();
+
+    data[10000] ^= 1;
+    Files.write(artifact, data);
+    cache.store(ImmutableSet.of(SECOND), ImmutableMap.<String, String>of(), artifact).get();
+    int storedForSecond = delegate.getArtifactCount() - storedForFirst;
+
+    // Besides its manifest, the second artifact should only have needed the chunk (or two, if
+    // the change moved a boundary) around the changed byte.
+    assertThat(storedForFirst, Matchers.greaterThan(10));
+    assertThat(storedForSecond, Matchers.lessThanOrEqualTo(4));
+
+    Path output = tmp.newFile("output");
+    assertEquals(
+        CacheResultType.HIT,
+        cache.fetch(SECOND, LazyPath.ofInstance(output)).getType());
+    assertArrayEquals(data, Files.readAllBytes(output));
+  }
+
+  @Test
+  public void chunksAreStoredAgainOnceTheDelegateMayHaveEvictedThem() throws Exception {
+    byte[] data = randomBytes(20000);
+    Path artifact = tmp.newFile("artifact");
+    Files.write(artifact, data);
+    newCache(new InMemoryArtifactCache(), "chunks", 0)
+        .store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), artifact)
+        .get();
+
+    // The local chunks were stored recently, so a delegate which lost them isn't sent them again.
+    InMemoryArtifactCache evictingDelegate = new InMemoryArtifactCache();
+    newCache(evictingDelegate, "chunks", 0)
+        .store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), artifact)
+        .get();
+    assertEquals(1, evictingDelegate.getArtifactCount());
+
+    // Once they're old enough that the delegate may have let go of them, they are.
+    final FileTime stale = FileTime.fromMillis(
+        System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2));
+    Files.walkFileTree(
+        tmp.getRoot().resolve("chunks"),
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+              throws IOException {
+            Files.setLastModifiedTime(file, stale);
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    newCache(evictingDelegate, "chunks", 0)
+        .store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), artifact)
+        .get();
+    assertThat(evictingDelegate.getArtifactCount(), Matchers.greaterThan(10));
+
+    Path output = tmp.newFile("output");
+    assertEquals(
+        CacheResultType.HIT,
+        newCache(evictingDelegate, "other-chunks", 0)
+            .fetch(FIRST, LazyPath.ofInstance(output))
+            .getType());
+    assertArrayEquals(data, Files.readAllBytes(output));
+  }
+
+  @Test
+  public void chunksTheDelegateFailedToStoreAreForgotten() throws Exception {
+    ArtifactCache failingDelegate = new InMemoryArtifactCache() {
+      @Override
+      public ListenableFuture<Void> store(
+          ImmutableSet<RuleKey> ruleKeys,
+          ImmutableMap<String, String> metadata,
+          Path output) {
+        return Futures.immediateFailedFuture(new IOException("upload failed"));
+      }
+    };
+    byte[] data = randomBytes(20000);
+    Path artifact = tmp.newFile("artifact");
+    Files.write(artifact, data);
+
+    try {
+      newCache(failingDelegate, "chunks", 0)
+          .store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), artifact)
+          .get();
+      fail("Expected the store to fail.");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), Matchers.instanceOf(IOException.class));
+    }
+
+    // Neither the chunk directory nor its index hold on to any chunks.
+    final List<Path> chunks = new ArrayList<>();
+    Files.walkFileTree(
+        tmp.getRoot().resolve("chunks"),
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (!file.getFileName().toString().equals("journal")) {
+              chunks.add(file);
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    assertEquals(ImmutableList.<Path>of(), chunks);
+    assertEquals(
+        0,
+        new DirArtifactCacheIndex(tmp.getRoot().resolve("chunks/journal")).getTotalBytes());
+  }
+
+  @Test
+  public void smallArtifactsAreStoredWhole() throws Exception {
+    InMemoryArtifactCache delegate = new InMemoryArtifactCache();
+    byte[] data = randomBytes(100);
+    Path artifact = tmp.newFile("artifact");
+    Files.write(artifact, data);
+
+    newCache(delegate, "chunks", 1000)
+        .store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), artifact)
+        .get();
+
+    assertEquals(1, delegate.getArtifactCount());
+    Path output = tmp.newFile("output");
+    delegate.fetch(FIRST, LazyPath.ofInstance(output));
+    assertArrayEquals(data, Files.readAllBytes(output));
+  }
+}
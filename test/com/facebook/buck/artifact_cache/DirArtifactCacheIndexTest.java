@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class DirArtifactCacheIndexTest {
+  @Rule
+  public TemporaryPaths tmpDir = new TemporaryPaths();
+
+  @Test
+  public void picksUpRecordsAppendedByOtherWriters() throws Exception {
+    Path journal = tmpDir.getRoot().resolve("journal");
+    DirArtifactCacheIndex first = new DirArtifactCacheIndex(journal);
+    DirArtifactCacheIndex second = new DirArtifactCacheIndex(journal);
+    first.reset(ImmutableMap.of("aaaa", 10L));
+
+    second.recordStore("bbbb", 20L);
+    first.recordAccess("aaaa");
+
+    assertEquals(30L, first.getTotalBytes());
+    assertEquals(ImmutableList.of("bbbb"), second.evict(25L, 15L));
+    assertEquals(10L, first.getTotalBytes());
+  }
+
+  @Test
+  public void ignoresMalformedAndPartialRecords() throws Exception {
+    Path journal = tmpDir.getRoot().resolve("journal");
+    DirArtifactCacheIndex index = new DirArtifactCacheIndex(journal);
+    index.reset(ImmutableMap.of("aaaa", 10L));
+
+    Files.write(journal, "S bbbb many\nS cccc 5".getBytes(US_ASCII), StandardOpenOption.APPEND);
+    assertEquals(10L, index.getTotalBytes());
+
+    // Once the interrupted record is finished it is applied.
+    Files.write(journal, "0\n".getBytes(US_ASCII), StandardOpenOption.APPEND);
+    assertEquals(60L, index.getTotalBytes());
+    assertEquals(ImmutableList.of("aaaa", "cccc"), index.evict(50L, 0L));
+  }
+}
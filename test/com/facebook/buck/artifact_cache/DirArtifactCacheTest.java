@@ -20,9 +20,11 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.cli.BuildTargetNodeToBuildRuleTransformer;
 import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.MoreFiles;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.model.BuildTargetFactory;
 import com.facebook.buck.rules.AddToRuleKey;
@@ -40,9 +42,9 @@ import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.facebook.buck.util.cache.FileHashCache;
 import com.facebook.buck.util.cache.NullFileHashCache;
-import com.google.common.base.Function;
+import com.facebook.buck.zip.Unzip;
 import com.google.common.base.Optional;
-import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
@@ -52,12 +54,16 @@ import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 
-import java.io.File;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
 
 public class DirArtifactCacheTest {
   @Rule
@@ -269,7 +275,7 @@ public class DirArtifactCacheTest {
     assertEquals(inputRuleY, new BuildRuleForTest(fileY));
     assertEquals(inputRuleZ, new BuildRuleForTest(fileZ));
 
-    assertEquals(6, cacheDir.toFile().listFiles().length);
+    assertEquals(6, getEntryFileNames(cacheDir).size());
   }
 
   @Test
@@ -405,18 +411,13 @@ public class DirArtifactCacheTest {
 
   @Test
   public void testDeleteSome() throws IOException {
+    // These are laid out the way older versions of the cache left them: all in one directory and
+    // without a journal, so the cache has to go by access times.
     Path cacheDir = tmpDir.newFolder();
-    Path fileW = cacheDir.resolve("w");
-    Path fileX = cacheDir.resolve("x");
-    Path fileY = cacheDir.resolve("y");
-    Path fileZ = cacheDir.resolve("z");
-
-    dirArtifactCache = new DirArtifactCache(
-        "dir",
-        new ProjectFilesystem(cacheDir),
-        Paths.get("."),
-        /* doStore */ true,
-        /* maxCacheSizeBytes */ Optional.of(3L));
+    Path fileW = cacheDir.resolve("aaaa");
+    Path fileX = cacheDir.resolve("bbbb");
+    Path fileY = cacheDir.resolve("cccc");
+    Path fileZ = cacheDir.resolve("dddd");
 
     Files.write(fileW, "w".getBytes(UTF_8));
     Files.write(fileX, "x".getBytes(UTF_8));
@@ -428,20 +429,19 @@ public class DirArtifactCacheTest {
     Files.setAttribute(fileY, "lastAccessTime", FileTime.fromMillis(1000));
     Files.setAttribute(fileZ, "lastAccessTime", FileTime.fromMillis(2000));
 
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        Paths.get("."),
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.of(3L));
+
     assertEquals(4, cacheDir.toFile().listFiles().length);
 
     dirArtifactCache.deleteOldFiles();
 
-    assertEquals(
-        ImmutableSet.of(fileZ, fileW),
-        FluentIterable.of(cacheDir.toFile().listFiles()).transform(
-            new Function<File, Path>() {
-              @Override
-              public Path apply(File input) {
-                return input.toPath();
-              }
-            })
-            .toSet());
+    assertEquals(ImmutableSet.of("aaaa", "dddd"), getEntryFileNames(cacheDir));
+    assertTrue(Files.exists(cacheDir.resolve(dirArtifactCache.getArtifactPath("aaaa"))));
   }
 
   @Test
@@ -458,7 +458,7 @@ public class DirArtifactCacheTest {
                 fileY, HashCode.fromInt(1),
                 fileZ, HashCode.fromInt(2)));
 
-    // The reason max size is 9 bytes is because a 1-byte entry actually takes 6 bytes to store.
+    // The reason max size is 9 bytes is because a 1-byte entry actually takes 5 bytes to store.
     // If the cache trims the size down to 2/3 (6 bytes) every time it hits the max it means after
     // every store only the most recent artifact should be left.
     dirArtifactCache = new DirArtifactCache(
@@ -490,20 +490,13 @@ public class DirArtifactCacheTest {
     RuleKey ruleKeyY = fakeRuleKeyBuilderFactory.build(inputRuleY);
     RuleKey ruleKeyZ = fakeRuleKeyBuilderFactory.build(inputRuleZ);
 
+    // Recency comes from the cache's journal rather than from file access times, so the order of
+    // stores and fetches alone decides what gets evicted.
     dirArtifactCache.store(ImmutableSet.of(ruleKeyX), ImmutableMap.<String, String>of(), fileX);
     assertEquals(CacheResultType.HIT, dirArtifactCache.fetch(
             ruleKeyX,
             LazyPath.ofInstance(fileX)).getType());
 
-    Files.setAttribute(
-        cacheDir.resolve(ruleKeyX.toString()),
-        "lastAccessTime",
-        FileTime.fromMillis(0));
-    Files.setAttribute(
-        cacheDir.resolve(ruleKeyX.toString() + ".metadata"),
-        "lastAccessTime",
-        FileTime.fromMillis(0));
-
     dirArtifactCache.store(ImmutableSet.of(ruleKeyY), ImmutableMap.<String, String>of(), fileY);
     assertEquals(CacheResultType.MISS, dirArtifactCache.fetch(
             ruleKeyX,
@@ -511,15 +504,8 @@ public class DirArtifactCacheTest {
     assertEquals(CacheResultType.HIT, dirArtifactCache.fetch(
             ruleKeyY,
             LazyPath.ofInstance(fileY)).getType());
-
-    Files.setAttribute(
-        cacheDir.resolve(ruleKeyY.toString()),
-        "lastAccessTime",
-        FileTime.fromMillis(1000));
-    Files.setAttribute(
-        cacheDir.resolve(ruleKeyY.toString() + ".metadata"),
-        "lastAccessTime",
-        FileTime.fromMillis(1000));
+    assertFalse(
+        Files.exists(cacheDir.resolve(dirArtifactCache.getArtifactPath(ruleKeyX.toString()))));
 
     dirArtifactCache.store(ImmutableSet.of(ruleKeyZ), ImmutableMap.<String, String>of(), fileZ);
 
@@ -532,6 +518,222 @@ public class DirArtifactCacheTest {
     assertEquals(CacheResultType.HIT, dirArtifactCache.fetch(
             ruleKeyZ,
             LazyPath.ofInstance(fileZ)).getType());
+    assertEquals(
+        ImmutableSet.of(ruleKeyZ.toString(), ruleKeyZ.toString() + ".metadata"),
+        getEntryFileNames(cacheDir));
+  }
+
+  @Test
+  public void testMovesFlatLayoutIntoShardsWithoutSizeLimit() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    Files.write(cacheDir.resolve("aaaa"), "w".getBytes(UTF_8));
+    try (DataOutputStream out =
+             new DataOutputStream(Files.newOutputStream(cacheDir.resolve("aaaa.metadata")))) {
+      out.writeInt(0);
+    }
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        Paths.get("."),
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.<Long>absent());
+
+    assertFalse(Files.exists(cacheDir.resolve("aaaa")));
+    assertFalse(Files.exists(cacheDir.resolve("aaaa.metadata")));
+    Path fetched = tmpDir.getRoot().resolve("fetched");
+    assertEquals(
+        CacheResultType.HIT,
+        dirArtifactCache.fetch(new RuleKey("aaaa"), LazyPath.ofInstance(fetched)).getType());
+    assertEquals("w", new String(Files.readAllBytes(fetched), UTF_8));
+  }
+
+  @Test
+  public void testEvictsLeastRecentlyFetchedAcrossInstances() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    Path fileX = tmpDir.newFile("x");
+    Files.write(fileX, "x".getBytes(UTF_8));
+
+    RuleKey ruleKeyW = new RuleKey("aaaa");
+    RuleKey ruleKeyX = new RuleKey("bbbb");
+    RuleKey ruleKeyY = new RuleKey("cccc");
+    RuleKey ruleKeyZ = new RuleKey("dddd");
+
+    // Each entry takes up 5 bytes, so three of them fit but four do not, and trimming the cache
+    // down to 2/3 of its max size leaves room for just two.
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        Paths.get("."),
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.of(19L));
+    dirArtifactCache.store(ImmutableSet.of(ruleKeyW), ImmutableMap.<String, String>of(), fileX);
+    dirArtifactCache.store(ImmutableSet.of(ruleKeyX), ImmutableMap.<String, String>of(), fileX);
+    dirArtifactCache.store(ImmutableSet.of(ruleKeyY), ImmutableMap.<String, String>of(), fileX);
+    assertEquals(CacheResultType.HIT, dirArtifactCache.fetch(
+            ruleKeyW,
+            LazyPath.ofInstance(fileX)).getType());
+    dirArtifactCache.close();
+
+    // A new instance picks up the recency recorded by the old one from the journal.
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        Paths.get("."),
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.of(19L));
+    dirArtifactCache.store(ImmutableSet.of(ruleKeyZ), ImmutableMap.<String, String>of(), fileX);
+
+    assertEquals(
+        ImmutableSet.of("aaaa", "aaaa.metadata", "dddd", "dddd.metadata"),
+        getEntryFileNames(cacheDir));
+  }
+
+  @Test
+  public void testExplodedLayoutRestoresFilesIntoProject() throws IOException {
+    Path cacheDir = tmpDir.newFolder("cache");
+    ProjectFilesystem source = new ProjectFilesystem(tmpDir.newFolder("source"));
+    source.mkdirs(Paths.get("out/lib"));
+    source.writeContentsToPath("library", Paths.get("out/lib/lib.jar"));
+    source.writeContentsToPath("binary", Paths.get("out/bin"));
+    MoreFiles.makeExecutable(source.resolve(Paths.get("out/bin")));
+    Path zip = tmpDir.getRoot().resolve("artifact.zip");
+    source.createZip(
+        ImmutableList.of(Paths.get("out/lib"), Paths.get("out/lib/lib.jar"), Paths.get("out/bin")),
+        zip);
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        Paths.get("."),
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.<Long>absent(),
+        /* explodedLayout */ true);
+    RuleKey ruleKey = new RuleKey("aaaa");
+    dirArtifactCache.store(ImmutableSet.of(ruleKey), ImmutableMap.of("key", "value"), zip);
+
+    // A stale file in a directory of the artifact is cleaned up, as if the zip had been unzipped.
+    ProjectFilesystem target = new ProjectFilesystem(tmpDir.newFolder("target"));
+    target.mkdirs(Paths.get("out/lib"));
+    target.writeContentsToPath("stale", Paths.get("out/lib/stale.jar"));
+    MaterializableOutput output = new MaterializableOutput(target) {
+      @Override
+      protected Path create() throws IOException {
+        throw new AssertionError("The zip should not have been written.");
+      }
+    };
+    CacheResult result = dirArtifactCache.fetch(ruleKey, output);
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertEquals(ImmutableMap.of("key", "value"), result.getMetadata());
+    assertTrue(output.isMaterialized());
+    assertEquals(Optional.of("library"), target.readFileIfItExists(Paths.get("out/lib/lib.jar")));
+    assertEquals(Optional.of("binary"), target.readFileIfItExists(Paths.get("out/bin")));
+    assertTrue(target.isExecutable(Paths.get("out/bin")));
+    assertFalse(target.exists(Paths.get("out/lib/stale.jar")));
+  }
+
+  @Test
+  public void testExplodedLayoutLinksOnlyFilesTheOutputAllows() throws IOException {
+    Path cacheDir = tmpDir.newFolder("cache");
+    ProjectFilesystem source = new ProjectFilesystem(tmpDir.newFolder("source"));
+    source.mkdirs(Paths.get("out/metadata"));
+    source.writeContentsToPath("library", Paths.get("out/lib.jar"));
+    source.writeContentsToPath("cached", Paths.get("out/metadata/RULE_KEY"));
+    Path zip = tmpDir.getRoot().resolve("artifact.zip");
+    source.createZip(
+        ImmutableList.of(Paths.get("out/lib.jar"), Paths.get("out/metadata/RULE_KEY")),
+        zip);
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        Paths.get("."),
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.<Long>absent(),
+        /* explodedLayout */ true);
+    RuleKey ruleKey = new RuleKey("aaaa");
+    dirArtifactCache.store(ImmutableSet.of(ruleKey), ImmutableMap.<String, String>of(), zip);
+
+    ProjectFilesystem target = new ProjectFilesystem(tmpDir.newFolder("target"));
+    assertEquals(
+        CacheResultType.HIT,
+        dirArtifactCache.fetch(ruleKey, newJarLinkingOutput(target)).getType());
+
+    // Linking leaves the permissions of the file, which the cache shares, alone.
+    Path linked = target.resolve(Paths.get("out/lib.jar"));
+    assertTrue(
+        Files.getPosixFilePermissions(linked).contains(PosixFilePermission.OWNER_WRITE));
+    assertEquals(2, Files.getAttribute(linked, "unix:nlink"));
+    // The metadata was copied, so rewriting it in place leaves the cache's copy alone.
+    target.writeContentsToPath("rewritten", Paths.get("out/metadata/RULE_KEY"));
+
+    ProjectFilesystem otherTarget = new ProjectFilesystem(tmpDir.newFolder("other-target"));
+    MaterializableOutput copyingOutput = new MaterializableOutput(otherTarget) {
+      @Override
+      protected Path create() throws IOException {
+        throw new AssertionError("The zip should not have been written.");
+      }
+    };
+    assertEquals(CacheResultType.HIT, dirArtifactCache.fetch(ruleKey, copyingOutput).getType());
+    assertEquals(
+        Optional.of("cached"),
+        otherTarget.readFileIfItExists(Paths.get("out/metadata/RULE_KEY")));
+    assertEquals(
+        1,
+        Files.getAttribute(otherTarget.resolve(Paths.get("out/metadata/RULE_KEY")), "unix:nlink"));
+  }
+
+  private static MaterializableOutput newJarLinkingOutput(ProjectFilesystem target) {
+    return new MaterializableOutput(target) {
+      @Override
+      protected Path create() throws IOException {
+        throw new AssertionError("The zip should not have been written.");
+      }
+
+      @Override
+      public boolean isSafeToLink(Path relativePath) {
+        return relativePath.toString().endsWith(".jar");
+      }
+    };
+  }
+
+  @Test
+  public void testExplodedLayoutFetchesZipForOtherOutputs() throws IOException {
+    Path cacheDir = tmpDir.newFolder("cache");
+    ProjectFilesystem source = new ProjectFilesystem(tmpDir.newFolder("source"));
+    source.writeContentsToPath("library", Paths.get("lib.jar"));
+    Path zip = tmpDir.getRoot().resolve("artifact.zip");
+    source.createZip(ImmutableList.of(Paths.get("lib.jar")), zip);
+    Path notAZip = tmpDir.newFile("not-a-zip");
+    Files.write(notAZip, "x".getBytes(UTF_8));
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        Paths.get("."),
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.<Long>absent(),
+        /* explodedLayout */ true);
+    RuleKey zipKey = new RuleKey("aaaa");
+    RuleKey fileKey = new RuleKey("bbbb");
+    dirArtifactCache.store(ImmutableSet.of(zipKey), ImmutableMap.<String, String>of(), zip);
+    dirArtifactCache.store(ImmutableSet.of(fileKey), ImmutableMap.<String, String>of(), notAZip);
+
+    Path fetchedZip = tmpDir.getRoot().resolve("fetched.zip");
+    assertEquals(
+        CacheResultType.HIT,
+        dirArtifactCache.fetch(zipKey, LazyPath.ofInstance(fetchedZip)).getType());
+    ProjectFilesystem target = new ProjectFilesystem(tmpDir.newFolder("target"));
+    Unzip.extractZipFile(fetchedZip, target, Unzip.ExistingFileMode.OVERWRITE);
+    assertEquals(Optional.of("library"), target.readFileIfItExists(Paths.get("lib.jar")));
+
+    // Artifacts which aren't zips are kept as they are.
+    Path fetchedFile = tmpDir.getRoot().resolve("fetched");
+    assertEquals(
+        CacheResultType.HIT,
+        dirArtifactCache.fetch(fileKey, LazyPath.ofInstance(fetchedFile)).getType());
+    assertEquals("x", new String(Files.readAllBytes(fetchedFile), UTF_8));
   }
 
   @Test
@@ -558,6 +760,12 @@ public class DirArtifactCacheTest {
         ImmutableMap.<String, String>of(),
         fileX);
 
+    // Each key gets its own entry, in its own shard.
+    assertTrue(Files.isRegularFile(cacheDir.resolve("aa/aaaa")));
+    assertTrue(Files.isRegularFile(cacheDir.resolve("aa/aaaa.metadata")));
+    assertTrue(Files.isRegularFile(cacheDir.resolve("bb/bbbb")));
+    assertTrue(Files.isRegularFile(cacheDir.resolve("bb/bbbb.metadata")));
+
     // Test that artifact is available via both keys.
     assertEquals(CacheResultType.HIT, dirArtifactCache.fetch(
             ruleKey1,
@@ -587,6 +795,7 @@ public class DirArtifactCacheTest {
 
     // Store the artifact with metadata then re-fetch.
     cache.store(ImmutableSet.of(ruleKey), metadata, data);
+    assertTrue(filesystem.exists(Paths.get("cache/00/0000.metadata")));
     CacheResult result = cache.fetch(ruleKey, LazyPath.ofInstance(Paths.get("out-data")));
 
     // Verify that the metadata is correct.
@@ -600,6 +809,25 @@ public class DirArtifactCacheTest {
     cache.close();
   }
 
+  /**
+   * @return the names of all the files in {@code cacheDir} which belong to cache entries.
+   */
+  private static ImmutableSet<String> getEntryFileNames(Path cacheDir) throws IOException {
+    final ImmutableSet.Builder<String> names = ImmutableSet.builder();
+    Files.walkFileTree(
+        cacheDir,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (!file.getFileName().toString().equals("journal")) {
+              names.add(file.getFileName().toString());
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return names.build();
+  }
+
   private static class BuildRuleForTest extends FakeBuildRule {
 
     @SuppressWarnings("PMD.UnusedPrivateField")
@@ -106,6 +106,66 @@ public class HttpArtifactCacheBinaryProtocolTest {
     assertThat(fetchResponsePayload.toByteArray(), Matchers.equalTo(data.getBytes()));
   }
 
+  @Test
+  public void testMultiFetchResponse() throws IOException {
+    RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    RuleKey missingRuleKey = new RuleKey("11111111111111111111111111111111");
+    RuleKey ruleKey2 = new RuleKey("90000000000000000000008000000005");
+    ImmutableMap<String, String> metadata = ImmutableMap.of("metaKey", "metaValue");
+
+    ByteArrayOutputStream responseOutputStream = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(responseOutputStream)) {
+      HttpArtifactCacheBinaryProtocol.writeMultiFetchResponseHeader(out, 3);
+      new HttpArtifactCacheBinaryProtocol.FetchResponse(
+          ImmutableSet.of(ruleKey),
+          metadata,
+          ByteSource.wrap("data".getBytes(Charsets.UTF_8)))
+          .writeMultiFetchEntry(out);
+      HttpArtifactCacheBinaryProtocol.writeMultiFetchResponseMiss(out);
+      new HttpArtifactCacheBinaryProtocol.FetchResponse(
+          ImmutableSet.of(ruleKey2),
+          ImmutableMap.<String, String>of(),
+          ByteSource.wrap("other data".getBytes(Charsets.UTF_8)))
+          .writeMultiFetchEntry(out);
+    }
+
+    DataInputStream input =
+        new DataInputStream(new ByteArrayInputStream(responseOutputStream.toByteArray()));
+    assertThat(
+        HttpArtifactCacheBinaryProtocol.readMultiFetchResponseHeader(input),
+        Matchers.equalTo(3));
+
+    ByteArrayOutputStream payload = new ByteArrayOutputStream();
+    FetchResponseReadResult first = HttpArtifactCacheBinaryProtocol.readFetchResponse(
+        HttpArtifactCacheBinaryProtocol.readMultiFetchResponseEntry(input).get(),
+        payload);
+    assertThat(first.getRuleKeys(), Matchers.contains(ruleKey));
+    assertThat(first.getMetadata(), Matchers.equalTo(metadata));
+    assertThat(first.getActualHashCode(), Matchers.equalTo(first.getExpectedHashCode()));
+    assertThat(payload.toString(Charsets.UTF_8.name()), Matchers.equalTo("data"));
+
+    assertThat(
+        HttpArtifactCacheBinaryProtocol.readMultiFetchResponseEntry(input).isPresent(),
+        Matchers.is(false));
+
+    payload = new ByteArrayOutputStream();
+    FetchResponseReadResult third = HttpArtifactCacheBinaryProtocol.readFetchResponse(
+        HttpArtifactCacheBinaryProtocol.readMultiFetchResponseEntry(input).get(),
+        payload);
+    assertThat(third.getRuleKeys(), Matchers.contains(ruleKey2));
+    assertThat(payload.toString(Charsets.UTF_8.name()), Matchers.equalTo("other data"));
+    assertThat(input.read(), Matchers.equalTo(-1));
+
+    // The request side lists the keys in order.
+    assertThat(
+        HttpArtifactCacheBinaryProtocol.readMultiFetchRequest(
+            new DataInputStream(
+                new ByteArrayInputStream(
+                    HttpArtifactCacheBinaryProtocol.createMultiFetchRequest(
+                        ImmutableSet.of(ruleKey, missingRuleKey, ruleKey2))))),
+        Matchers.contains(ruleKey, missingRuleKey, ruleKey2));
+  }
+
   @Test
   public void testReadFetchResponse() throws IOException {
     final String base64EncodedData =
@@ -18,6 +18,7 @@ package com.facebook.buck.artifact_cache;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -25,13 +26,17 @@ import com.facebook.buck.event.BuckEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.MoreFiles;
+import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.model.BuildId;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.slb.HttpService;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.facebook.buck.timing.IncrementingFakeClock;
 import com.google.common.base.Charsets;
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
@@ -48,6 +53,7 @@ import com.squareup.okhttp.ResponseBody;
 import org.easymock.EasyMock;
 import org.hamcrest.Matchers;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -56,8 +62,10 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,6 +84,9 @@ public class HttpArtifactCacheTest {
   private static final String ERROR_TEXT_TEMPLATE =
       "{cache_name} encountered an error: {error_message}";
 
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
   private HttpService fetchService;
   private HttpService storeService;
 
@@ -85,6 +96,15 @@ public class HttpArtifactCacheTest {
       ByteSource source,
       String data)
       throws IOException {
+    return createResponseBody(ruleKeys, metadata, source, data.getBytes(Charsets.UTF_8));
+  }
+
+  private ResponseBody createResponseBody(
+      ImmutableSet<RuleKey> ruleKeys,
+      ImmutableMap<String, String> metadata,
+      ByteSource source,
+      byte[] data)
+      throws IOException {
 
     try (ByteArrayOutputStream out = new ByteArrayOutputStream();
          DataOutputStream dataOut = new DataOutputStream(out)) {
@@ -95,7 +115,7 @@ public class HttpArtifactCacheTest {
               source);
       dataOut.writeInt(rawMetadata.length);
       dataOut.write(rawMetadata);
-      dataOut.write(data.getBytes(Charsets.UTF_8));
+      dataOut.write(data);
       return ResponseBody.create(OCTET_STREAM, out.toByteArray());
     }
   }
@@ -119,14 +139,16 @@ public class HttpArtifactCacheTest {
     final List<Response> responseList = Lists.newArrayList();
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            new FakeProjectFilesystem(),
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(new FakeProjectFilesystem())
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response fetchCall(String path, Request.Builder requestBuilder)
               throws IOException {
@@ -154,6 +176,53 @@ public class HttpArtifactCacheTest {
     cache.close();
   }
 
+  @Test
+  public void testPrefetchLookupsAreReportedAsPrefetches() throws Exception {
+    final List<HttpArtifactCacheEvent.Finished> finishedEvents = Lists.newArrayList();
+    HttpArtifactCache cache =
+        new HttpArtifactCache(
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(false)
+                .setProjectFilesystem(new FakeProjectFilesystem())
+                .setBuckEventBus(new BuckEventBus(new IncrementingFakeClock(), new BuildId()) {
+                  @Override
+                  public void post(BuckEvent event) {
+                    if (event instanceof HttpArtifactCacheEvent.Finished) {
+                      finishedEvents.add((HttpArtifactCacheEvent.Finished) event);
+                    }
+                  }
+                })
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .setPrefetch(true)
+                .build()) {
+          @Override
+          protected Response fetchCall(String path, Request.Builder requestBuilder)
+              throws IOException {
+            return new Response.Builder()
+                .code(HttpURLConnection.HTTP_NOT_FOUND)
+                .body(ResponseBody.create(MediaType.parse("application/octet-stream"), ""))
+                .protocol(Protocol.HTTP_1_1)
+                .request(requestBuilder.url(SERVER + path).build())
+                .build();
+          }
+        };
+    CacheResult result =
+        cache.fetch(
+            new RuleKey("00000000000000000000000000000000"),
+            LazyPath.ofInstance(Paths.get("output/file")));
+    assertEquals(CacheResultType.MISS, result.getType());
+    assertEquals(1, finishedEvents.size());
+    assertTrue(finishedEvents.get(0).isPrefetch());
+    assertEquals(
+        ArtifactCacheEvent.InvocationType.ASYNCHRONOUS,
+        finishedEvents.get(0).getInvocationType());
+    cache.close();
+  }
+
   @Test
   public void testFetchOK() throws Exception {
     Path output = Paths.get("output/file");
@@ -163,14 +232,16 @@ public class HttpArtifactCacheTest {
     final List<Response> responseList = Lists.newArrayList();
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response fetchCall(String path, Request.Builder requestBuilder)
               throws IOException {
@@ -200,6 +271,161 @@ public class HttpArtifactCacheTest {
     cache.close();
   }
 
+  private HttpArtifactCache createStreamingUnzipCache(
+      ProjectFilesystem filesystem,
+      final RuleKey ruleKey,
+      final ByteSource checksummedData,
+      final byte[] data) {
+    return new HttpArtifactCache(
+        HttpArtifactCacheArgs.builder()
+            .setCacheName("http")
+            .setFetchClient(fetchService)
+            .setStoreClient(storeService)
+            .setDoStore(true)
+            .setProjectFilesystem(filesystem)
+            .setBuckEventBus(BUCK_EVENT_BUS)
+            .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+            .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+            .setStreamingUnzip(true)
+            .build()) {
+      @Override
+      protected Response fetchCall(String path, Request.Builder requestBuilder)
+          throws IOException {
+        Request request = requestBuilder.url(SERVER + path).build();
+        return new Response.Builder()
+            .request(request)
+            .protocol(Protocol.HTTP_1_1)
+            .code(HttpURLConnection.HTTP_OK)
+            .body(
+                createResponseBody(
+                    ImmutableSet.of(ruleKey),
+                    ImmutableMap.of("key", "value"),
+                    checksummedData,
+                    data))
+            .build();
+      }
+    };
+  }
+
+  private static byte[] createArtifactZip(ProjectFilesystem source) throws IOException {
+    source.mkdirs(Paths.get("out/bin"));
+    source.writeContentsToPath("library", Paths.get("out/lib.jar"));
+    source.writeContentsToPath("binary", Paths.get("out/bin/tool"));
+    MoreFiles.makeExecutable(source.resolve("out/bin/tool"));
+    Path zip = source.resolve("artifact.zip");
+    source.createZip(
+        ImmutableList.of(
+            Paths.get("out/lib.jar"),
+            Paths.get("out/bin"),
+            Paths.get("out/bin/tool")),
+        zip);
+    return Files.readAllBytes(zip);
+  }
+
+  @Test
+  public void testFetchUnzipsIntoProjectWhenStreaming() throws Exception {
+    final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    byte[] zip = createArtifactZip(new ProjectFilesystem(tmp.newFolder("source")));
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.newFolder("project"));
+    HttpArtifactCache cache =
+        createStreamingUnzipCache(filesystem, ruleKey, ByteSource.wrap(zip), zip);
+
+    MaterializableOutput output = new MaterializableOutput(filesystem) {
+      @Override
+      protected Path create() throws IOException {
+        throw new AssertionError("The zip should not have been written.");
+      }
+    };
+    CacheResult result = cache.fetch(ruleKey, output);
+
+    assertEquals(result.cacheError().or(""), CacheResultType.HIT, result.getType());
+    assertEquals(ImmutableMap.of("key", "value"), result.getMetadata());
+    assertTrue(output.isMaterialized());
+    assertEquals(Optional.of("library"), filesystem.readFileIfItExists(Paths.get("out/lib.jar")));
+    assertEquals(Optional.of("binary"), filesystem.readFileIfItExists(Paths.get("out/bin/tool")));
+    assertTrue(filesystem.isExecutable(Paths.get("out/bin/tool")));
+    cache.close();
+  }
+
+  @Test
+  public void testStreamedFilesAreDeletedOnBadChecksum() throws Exception {
+    final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    byte[] zip = createArtifactZip(new ProjectFilesystem(tmp.newFolder("source")));
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.newFolder("project"));
+    HttpArtifactCache cache =
+        createStreamingUnzipCache(filesystem, ruleKey, ByteSource.wrap(new byte[0]), zip);
+
+    MaterializableOutput output = new MaterializableOutput(filesystem) {
+      @Override
+      protected Path create() throws IOException {
+        throw new AssertionError("The zip should not have been written.");
+      }
+    };
+    CacheResult result = cache.fetch(ruleKey, output);
+
+    assertEquals(CacheResultType.ERROR, result.getType());
+    assertFalse(output.isMaterialized());
+    assertFalse(filesystem.exists(Paths.get("out/lib.jar")));
+    assertFalse(filesystem.exists(Paths.get("out/bin/tool")));
+    cache.close();
+  }
+
+  @Test
+  public void testStreamedFilesAreDeletedWhenZipIsTruncated() throws Exception {
+    final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    byte[] zip = createArtifactZip(new ProjectFilesystem(tmp.newFolder("source")));
+    // Cut off the end of central directory record, after all of the files.
+    byte[] truncated = Arrays.copyOf(zip, zip.length - 10);
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.newFolder("project"));
+    HttpArtifactCache cache = createStreamingUnzipCache(
+        filesystem,
+        ruleKey,
+        ByteSource.wrap(truncated),
+        truncated);
+
+    MaterializableOutput output = new MaterializableOutput(filesystem) {
+      @Override
+      protected Path create() throws IOException {
+        throw new AssertionError("The zip should not have been written.");
+      }
+    };
+    CacheResult result = cache.fetch(ruleKey, output);
+
+    assertEquals(CacheResultType.ERROR, result.getType());
+    assertFalse(output.isMaterialized());
+    assertFalse(filesystem.exists(Paths.get("out/lib.jar")));
+    assertFalse(filesystem.exists(Paths.get("out/bin/tool")));
+    cache.close();
+  }
+
+  @Test
+  public void testStreamedArtifactOfAnotherKeyIsNotUnzipped() throws Exception {
+    RuleKey storedKey = new RuleKey("00000000000000000000000000000000");
+    RuleKey requestedKey = new RuleKey("11111111111111111111111111111111");
+    byte[] zip = createArtifactZip(new ProjectFilesystem(tmp.newFolder("source")));
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.newFolder("project"));
+    filesystem.mkdirs(Paths.get("out"));
+    filesystem.writeContentsToPath("previous", Paths.get("out/lib.jar"));
+    HttpArtifactCache cache =
+        createStreamingUnzipCache(filesystem, storedKey, ByteSource.wrap(zip), zip);
+
+    MaterializableOutput output = new MaterializableOutput(filesystem) {
+      @Override
+      protected Path create() throws IOException {
+        throw new AssertionError("The zip should not have been written.");
+      }
+    };
+    CacheResult result = cache.fetch(requestedKey, output);
+
+    assertEquals(CacheResultType.ERROR, result.getType());
+    assertFalse(output.isMaterialized());
+    assertEquals(
+        Optional.of("previous"),
+        filesystem.readFileIfItExists(Paths.get("out/lib.jar")));
+    assertFalse(filesystem.exists(Paths.get("out/bin/tool")));
+    cache.close();
+  }
+
   @Test
   public void testFetchUrl() throws Exception {
     final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
@@ -208,14 +434,16 @@ public class HttpArtifactCacheTest {
 
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            new FakeProjectFilesystem(),
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(new FakeProjectFilesystem())
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response fetchCall(String path, Request.Builder requestBuilder)
               throws IOException {
@@ -245,14 +473,16 @@ public class HttpArtifactCacheTest {
     final List<Response> responseList = Lists.newArrayList();
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response fetchCall(String path, Request.Builder requestBuilder)
               throws IOException {
@@ -290,14 +520,16 @@ public class HttpArtifactCacheTest {
     final List<Response> responseList = Lists.newArrayList();
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response fetchCall(String path, Request.Builder requestBuilder)
               throws IOException {
@@ -333,14 +565,16 @@ public class HttpArtifactCacheTest {
     FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response fetchCall(String path, Request.Builder requestBuilder)
               throws IOException {
@@ -366,14 +600,16 @@ public class HttpArtifactCacheTest {
     final AtomicBoolean hasCalled = new AtomicBoolean(false);
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response storeCall(Request.Builder requestBuilder)
               throws IOException {
@@ -425,14 +661,16 @@ public class HttpArtifactCacheTest {
     filesystem.writeContentsToPath("data", output);
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response storeCall(Request.Builder requestBuilder) throws IOException {
             throw new IOException();
@@ -457,14 +695,16 @@ public class HttpArtifactCacheTest {
     final Set<RuleKey> stored = Sets.newHashSet();
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response storeCall(Request.Builder requestBuilder) throws IOException {
             Request request = requestBuilder.url(SERVER).build();
@@ -503,14 +743,16 @@ public class HttpArtifactCacheTest {
     final String data = "data";
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response fetchCall(String path, Request.Builder requestBuilder)
               throws IOException {
@@ -544,14 +786,16 @@ public class HttpArtifactCacheTest {
     FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            "http",
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            BUCK_EVENT_BUS,
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response fetchCall(String path, Request.Builder requestBuilder)
               throws IOException {
@@ -575,6 +819,155 @@ public class HttpArtifactCacheTest {
     cache.close();
   }
 
+  @Test
+  public void testMultiFetchUsesSingleRequest() throws Exception {
+    final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    final RuleKey missingRuleKey = new RuleKey("11111111111111111111111111111111");
+    final RuleKey otherRuleKey = new RuleKey("22222222222222222222222222222222");
+    Path output = Paths.get("output/file");
+    Path missingOutput = Paths.get("output/missing");
+    Path otherOutput = Paths.get("output/other");
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+    final List<Response> responseList = Lists.newArrayList();
+    HttpArtifactCache cache =
+        new HttpArtifactCache(
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
+          @Override
+          protected Response fetchCall(String path, Request.Builder requestBuilder)
+              throws IOException {
+            assertEquals("/artifacts/multikey", path);
+            Request request = requestBuilder.url(SERVER + path).build();
+            Buffer requestBody = new Buffer();
+            request.body().writeTo(requestBody);
+            assertThat(
+                HttpArtifactCacheBinaryProtocol.readMultiFetchRequest(
+                    new DataInputStream(requestBody.inputStream())),
+                Matchers.contains(ruleKey, missingRuleKey, otherRuleKey));
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(body)) {
+              HttpArtifactCacheBinaryProtocol.writeMultiFetchResponseHeader(out, 3);
+              new HttpArtifactCacheBinaryProtocol.FetchResponse(
+                  ImmutableSet.of(ruleKey),
+                  ImmutableMap.<String, String>of(),
+                  ByteSource.wrap("data".getBytes(Charsets.UTF_8)))
+                  .writeMultiFetchEntry(out);
+              HttpArtifactCacheBinaryProtocol.writeMultiFetchResponseMiss(out);
+              new HttpArtifactCacheBinaryProtocol.FetchResponse(
+                  ImmutableSet.of(otherRuleKey),
+                  ImmutableMap.<String, String>of(),
+                  ByteSource.wrap("other".getBytes(Charsets.UTF_8)))
+                  .writeMultiFetchEntry(out);
+            }
+            Response response =
+                new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(HttpURLConnection.HTTP_OK)
+                    .body(ResponseBody.create(OCTET_STREAM, body.toByteArray()))
+                    .build();
+            responseList.add(response);
+            return response;
+          }
+        };
+
+    ImmutableMap<RuleKey, CacheResult> results = cache.multiFetch(
+        ImmutableMap.of(
+            ruleKey, LazyPath.ofInstance(output),
+            missingRuleKey, LazyPath.ofInstance(missingOutput),
+            otherRuleKey, LazyPath.ofInstance(otherOutput)));
+
+    assertEquals(1, responseList.size());
+    assertEquals(CacheResultType.HIT, results.get(ruleKey).getType());
+    assertEquals(CacheResultType.MISS, results.get(missingRuleKey).getType());
+    assertEquals(CacheResultType.HIT, results.get(otherRuleKey).getType());
+    assertEquals(Optional.of("data"), filesystem.readFileIfItExists(output));
+    assertEquals(Optional.<String>absent(), filesystem.readFileIfItExists(missingOutput));
+    assertEquals(Optional.of("other"), filesystem.readFileIfItExists(otherOutput));
+    assertTrue(
+        "response wasn't fully read!",
+        responseList.get(0).body().source().exhausted());
+    cache.close();
+  }
+
+  @Test
+  public void testMultiFetchFallsBackToSingleFetchesWithoutTheMultiKeyEndpoint()
+      throws Exception {
+    final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    final RuleKey otherRuleKey = new RuleKey("11111111111111111111111111111111");
+    Path output = Paths.get("output/file");
+    Path otherOutput = Paths.get("output/other");
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+    final List<String> paths = Lists.newArrayList();
+    HttpArtifactCache cache =
+        new HttpArtifactCache(
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(BUCK_EVENT_BUS)
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
+          @Override
+          protected Response fetchCall(String path, Request.Builder requestBuilder)
+              throws IOException {
+            paths.add(path);
+            Request request = requestBuilder.url(SERVER + path).build();
+            Response.Builder response = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1);
+            if (path.equals("/artifacts/multikey")) {
+              return response
+                  .code(HttpURLConnection.HTTP_NOT_FOUND)
+                  .body(ResponseBody.create(MediaType.parse("text/plain"), "not found"))
+                  .build();
+            }
+            RuleKey key = new RuleKey(path.substring("/artifacts/key/".length()));
+            return response
+                .code(HttpURLConnection.HTTP_OK)
+                .body(
+                    createResponseBody(
+                        ImmutableSet.of(key),
+                        ImmutableMap.<String, String>of(),
+                        ByteSource.wrap(key.toString().getBytes(Charsets.UTF_8)),
+                        key.toString()))
+                .build();
+          }
+        };
+
+    ImmutableMap<RuleKey, LazyPath> outputs = ImmutableMap.of(
+        ruleKey, LazyPath.ofInstance(output),
+        otherRuleKey, LazyPath.ofInstance(otherOutput));
+    ImmutableMap<RuleKey, CacheResult> results = cache.multiFetch(outputs);
+
+    assertEquals(CacheResultType.HIT, results.get(ruleKey).getType());
+    assertEquals(CacheResultType.HIT, results.get(otherRuleKey).getType());
+    assertEquals(Optional.of(ruleKey.toString()), filesystem.readFileIfItExists(output));
+    assertEquals(
+        Optional.of(otherRuleKey.toString()),
+        filesystem.readFileIfItExists(otherOutput));
+
+    // Having found out the server can't do it, we don't ask it again.
+    paths.clear();
+    cache.multiFetch(outputs);
+    assertEquals(
+        ImmutableList.of("/artifacts/key/" + ruleKey, "/artifacts/key/" + otherRuleKey),
+        paths);
+    cache.close();
+  }
+
   @Test
   public void errorTextReplaced() throws InterruptedException {
     FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
@@ -585,12 +978,13 @@ public class HttpArtifactCacheTest {
     final AtomicBoolean consoleEventReceived = new AtomicBoolean(false);
     HttpArtifactCache cache =
         new HttpArtifactCache(
-            cacheName,
-            fetchService,
-            storeService,
-            /* doStore */ true,
-            filesystem,
-            new BuckEventBus(new IncrementingFakeClock(), new BuildId()) {
+            HttpArtifactCacheArgs.builder()
+                .setCacheName(cacheName)
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(new BuckEventBus(new IncrementingFakeClock(), new BuildId()) {
               @Override
               public void post(BuckEvent event) {
                 if (event instanceof ConsoleEvent) {
@@ -604,9 +998,10 @@ public class HttpArtifactCacheTest {
                       Matchers.containsString("incorrect key name"));
                 }
               }
-            },
-            DIRECT_EXECUTOR_SERVICE,
-            ERROR_TEXT_TEMPLATE) {
+            })
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .build()) {
           @Override
           protected Response fetchCall(String path, Request.Builder requestBuilder)
               throws IOException {
@@ -631,4 +1026,96 @@ public class HttpArtifactCacheTest {
     assertTrue(consoleEventReceived.get());
     cache.close();
   }
+
+  @Test
+  public void testKnownMissesAreNotRequested() throws Exception {
+    final RuleKey present = new RuleKey("00000000000000000000000000000000");
+    final RuleKey absent = new RuleKey("11111111111111111111111111111111");
+    final RuleKey evicted = new RuleKey("22222222222222222222222222222222");
+    final String data = "data";
+    ByteArrayOutputStream digest = new ByteArrayOutputStream();
+    HttpArtifactCacheBinaryProtocol.writeKeyDigest(
+        HttpArtifactCacheBinaryProtocol.createKeyDigest(ImmutableList.of(present, evicted)),
+        digest);
+    final byte[] digestBytes = digest.toByteArray();
+    final List<String> requestedPaths = Lists.newArrayList();
+    final List<HttpArtifactCacheKeyDigestEvent> digestEvents = Lists.newArrayList();
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+    HttpArtifactCache cache =
+        new HttpArtifactCache(
+            HttpArtifactCacheArgs.builder()
+                .setCacheName("http")
+                .setFetchClient(fetchService)
+                .setStoreClient(storeService)
+                .setDoStore(true)
+                .setProjectFilesystem(filesystem)
+                .setBuckEventBus(new BuckEventBus(new IncrementingFakeClock(), new BuildId()) {
+              @Override
+              public void post(BuckEvent event) {
+                if (event instanceof HttpArtifactCacheKeyDigestEvent) {
+                  digestEvents.add((HttpArtifactCacheKeyDigestEvent) event);
+                }
+              }
+            })
+                .setUploadScheduler(HttpUploadScheduler.unlimited(DIRECT_EXECUTOR_SERVICE))
+                .setErrorTextTemplate(ERROR_TEXT_TEMPLATE)
+                .setKeyDigestEnabled(true)
+                .build()) {
+          @Override
+          protected Response fetchCall(String path, Request.Builder requestBuilder)
+              throws IOException {
+            requestedPaths.add(path);
+            Response.Builder response = new Response.Builder()
+                .request(requestBuilder.url(SERVER + path).build())
+                .protocol(Protocol.HTTP_1_1);
+            if (path.equals("/artifacts/keydigest")) {
+              return response
+                  .code(HttpURLConnection.HTTP_OK)
+                  .body(ResponseBody.create(OCTET_STREAM, digestBytes))
+                  .build();
+            }
+            if (path.equals("/artifacts/key/" + present)) {
+              return response
+                  .code(HttpURLConnection.HTTP_OK)
+                  .body(
+                      createResponseBody(
+                          ImmutableSet.of(present),
+                          ImmutableMap.<String, String>of(),
+                          ByteSource.wrap(data.getBytes(Charsets.UTF_8)),
+                          data))
+                  .build();
+            }
+            return response
+                .code(HttpURLConnection.HTTP_NOT_FOUND)
+                .body(ResponseBody.create(OCTET_STREAM, ""))
+                .build();
+          }
+        };
+
+    LazyPath output = LazyPath.ofInstance(Paths.get("output/file"));
+    assertEquals(CacheResultType.MISS, cache.fetch(absent, output).getType());
+    assertEquals(CacheResultType.MISS, cache.fetch(evicted, output).getType());
+    assertEquals(CacheResultType.MISS, cache.fetch(evicted, output).getType());
+    assertEquals(CacheResultType.HIT, cache.fetch(present, output).getType());
+
+    // Only the keys the digest might contain are asked for, and misses only once.
+    assertEquals(
+        ImmutableList.of(
+            "/artifacts/keydigest",
+            "/artifacts/key/" + evicted,
+            "/artifacts/key/" + present),
+        requestedPaths);
+    int skippedLookups = 0;
+    int digestHits = 0;
+    int digestFalsePositives = 0;
+    for (HttpArtifactCacheKeyDigestEvent event : digestEvents) {
+      skippedLookups += event.getSkippedLookups();
+      digestHits += event.getDigestHits();
+      digestFalsePositives += event.getDigestFalsePositives();
+    }
+    assertEquals(2, skippedLookups);
+    assertEquals(1, digestHits);
+    assertEquals(1, digestFalsePositives);
+    cache.close();
+  }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class HttpUploadSchedulerTest {
+
+  private ListeningExecutorService executorService;
+
+  @Before
+  public void setUp() {
+    executorService = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  private static Runnable recordUpload(final List<String> uploads, final String name) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        uploads.add(name);
+      }
+    };
+  }
+
+  @Test
+  public void smallerUploadsRunFirst() throws Exception {
+    HttpUploadScheduler scheduler = HttpUploadScheduler.unlimited(executorService);
+    final CountDownLatch running = new CountDownLatch(1);
+    final CountDownLatch blocked = new CountDownLatch(1);
+    List<String> uploads = new CopyOnWriteArrayList<>();
+
+    // Keep the only thread busy so that the rest queue up behind it.
+    scheduler.schedule(
+        0,
+        new Runnable() {
+          @Override
+          public void run() {
+            running.countDown();
+            try {
+              blocked.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        });
+    running.await();
+    scheduler.schedule(300, recordUpload(uploads, "large"));
+    scheduler.schedule(100, recordUpload(uploads, "small"));
+    ListenableFuture<Void> last = scheduler.schedule(200, recordUpload(uploads, "medium"));
+    assertEquals(3, scheduler.getQueueDepth());
+
+    blocked.countDown();
+    last.get(5, TimeUnit.SECONDS);
+    executorService.shutdown();
+    executorService.awaitTermination(5, TimeUnit.SECONDS);
+
+    assertEquals(ImmutableList.of("small", "medium", "large"), uploads);
+    assertEquals(0, scheduler.getQueueDepth());
+  }
+
+  @Test
+  public void uploadWhichThrowsAnErrorFailsItsFuture() throws Exception {
+    HttpUploadScheduler scheduler = HttpUploadScheduler.unlimited(executorService);
+
+    ListenableFuture<Void> upload = scheduler.schedule(
+        100,
+        new Runnable() {
+          @Override
+          public void run() {
+            throw new AssertionError("upload failed");
+          }
+        });
+
+    try {
+      upload.get(5, TimeUnit.SECONDS);
+      fail("Expected the upload to fail.");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), Matchers.instanceOf(AssertionError.class));
+    }
+  }
+
+  @Test
+  public void uploadRejectedByTheExecutorFailsItsFuture() throws Exception {
+    HttpUploadScheduler scheduler = HttpUploadScheduler.unlimited(executorService);
+    executorService.shutdown();
+    List<String> uploads = new CopyOnWriteArrayList<>();
+
+    ListenableFuture<Void> upload = scheduler.schedule(100, recordUpload(uploads, "upload"));
+
+    try {
+      upload.get(5, TimeUnit.SECONDS);
+      fail("Expected the upload to fail.");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), Matchers.instanceOf(RejectedExecutionException.class));
+    }
+    assertEquals(0, scheduler.getQueueDepth());
+    assertTrue(uploads.isEmpty());
+  }
+
+  @Test
+  public void uploadsWaitForFetchesInFlight() throws Exception {
+    HttpUploadScheduler scheduler = new HttpUploadScheduler(
+        executorService,
+        Optional.<Long>absent(),
+        /* fetchPriorityWaitMillis */ TimeUnit.MINUTES.toMillis(1));
+    List<String> uploads = new CopyOnWriteArrayList<>();
+
+    scheduler.fetchStarted();
+    ListenableFuture<Void> upload = scheduler.schedule(100, recordUpload(uploads, "upload"));
+    Thread.sleep(100);
+    assertFalse(upload.isDone());
+
+    scheduler.fetchFinished();
+    upload.get(5, TimeUnit.SECONDS);
+    assertEquals(ImmutableList.of("upload"), uploads);
+  }
+
+  @Test
+  public void uploadsStopWaitingForFetchesEventually() throws Exception {
+    HttpUploadScheduler scheduler = new HttpUploadScheduler(
+        executorService,
+        Optional.<Long>absent(),
+        /* fetchPriorityWaitMillis */ 10);
+
+    scheduler.fetchStarted();
+    scheduler.schedule(100, recordUpload(new CopyOnWriteArrayList<String>(), "upload"))
+        .get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void throttledWritesAreRateLimited() throws Exception {
+    HttpUploadScheduler scheduler = new HttpUploadScheduler(
+        executorService,
+        Optional.of(64 * 1024L),
+        /* fetchPriorityWaitMillis */ 0);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    OutputStream out = scheduler.throttle(bytes);
+
+    long start = System.nanoTime();
+    // One and a half seconds' worth, of which only the first piece goes out straight away.
+    out.write(new byte[64 * 1024]);
+    out.write(new byte[32 * 1024]);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertEquals(96 * 1024, bytes.size());
+    assertThat(elapsedMillis, Matchers.greaterThanOrEqualTo(400L));
+  }
+
+  @Test
+  public void unlimitedSchedulerDoesNotWrapStreams() {
+    OutputStream out = new ByteArrayOutputStream();
+    assertTrue(out == HttpUploadScheduler.unlimited(executorService).throttle(out));
+  }
+}
@@ -62,6 +62,12 @@ public class InMemoryArtifactCache implements ArtifactCache {
     return CacheResult.hit("in-memory", artifact.metadata);
   }
 
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+      throws InterruptedException {
+    return MultiFetches.fetchSequentially(this, outputs);
+  }
+
   public void store(
       ImmutableSet<RuleKey> ruleKeys,
       ImmutableMap<String, String> metadata,
@@ -88,6 +94,11 @@ public class InMemoryArtifactCache implements ArtifactCache {
     return Futures.immediateFuture(null);
   }
 
+  @Override
+  public boolean isMultiFetchBatched() {
+    return false;
+  }
+
   @Override
   public boolean isStoreSupported() {
     return true;
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.artifact_cache;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
@@ -23,6 +24,7 @@ import static org.junit.Assert.assertThat;
 import com.facebook.buck.io.LazyPath;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -32,7 +34,11 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
 
 public class MultiArtifactCacheTest {
 
@@ -147,4 +153,94 @@ public class MultiArtifactCacheTest {
     multiArtifactCache.close();
   }
 
+  @Test
+  public void multiFetchOnlyAsksLaterCachesForMisses() throws Exception {
+    RuleKey otherRuleKey = new RuleKey("00000000000000000000000000000000");
+    RuleKey missingRuleKey = new RuleKey("11111111111111111111111111111111");
+    InMemoryArtifactCache cache1 = new InMemoryArtifactCache();
+    InMemoryArtifactCache cache2 = new InMemoryArtifactCache();
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(ImmutableList.<ArtifactCache>of(
+            cache1,
+            cache2));
+
+    cache1.store(ImmutableSet.of(dummyRuleKey), ImmutableMap.<String, String>of(), new byte[0]);
+    cache2.store(ImmutableSet.of(otherRuleKey), ImmutableMap.<String, String>of(), new byte[0]);
+
+    ImmutableMap<RuleKey, CacheResult> results = multiArtifactCache.multiFetch(
+        ImmutableMap.of(
+            dummyRuleKey, LazyPath.ofInstance(tmp.newFile()),
+            otherRuleKey, LazyPath.ofInstance(tmp.newFile()),
+            missingRuleKey, LazyPath.ofInstance(tmp.newFile())));
+
+    assertThat(
+        results.keySet(),
+        Matchers.contains(dummyRuleKey, otherRuleKey, missingRuleKey));
+    assertEquals(CacheResultType.HIT, results.get(dummyRuleKey).getType());
+    assertEquals(CacheResultType.HIT, results.get(otherRuleKey).getType());
+    assertEquals(CacheResultType.MISS, results.get(missingRuleKey).getType());
+
+    // The hit from the second cache should have been propagated to the first one.
+    assertThat(cache1.hasArtifact(otherRuleKey), Matchers.is(true));
+    assertThat(cache1.hasArtifact(missingRuleKey), Matchers.is(false));
+
+    multiArtifactCache.close();
+  }
+
+  @Test
+  public void parallelLookupDoesNotWaitForSlowEarlierCache() throws Exception {
+    final CountDownLatch releaseSlowCache = new CountDownLatch(1);
+    InMemoryArtifactCache slowCache = new InMemoryArtifactCache() {
+      @Override
+      public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+        try {
+          releaseSlowCache.await();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return super.fetch(ruleKey, output);
+      }
+    };
+    InMemoryArtifactCache fastCache = new InMemoryArtifactCache();
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(
+            ImmutableList.<ArtifactCache>of(slowCache, fastCache),
+            /* parallelLookupHedgeDelayMillis */ Optional.of(10L),
+            /* writeBackQueueSize */ Optional.of(10));
+
+    fastCache.store(
+        ImmutableSet.of(dummyRuleKey),
+        ImmutableMap.<String, String>of(),
+        "hello".getBytes(UTF_8));
+    Path output = tmp.newFile();
+
+    CacheResult result = multiArtifactCache.fetch(dummyRuleKey, LazyPath.ofInstance(output));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertEquals("hello", new String(Files.readAllBytes(output), UTF_8));
+
+    // The hit is propagated to the slow cache in the background once it frees up.
+    releaseSlowCache.countDown();
+    multiArtifactCache.close();
+    assertThat(slowCache.hasArtifact(dummyRuleKey), Matchers.is(true));
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(tmp.getRoot())) {
+      assertThat(files, Matchers.contains(output));
+    }
+  }
+
+  @Test
+  public void parallelLookupReportsLastMissWhenNothingHits() throws Exception {
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(
+            ImmutableList.<ArtifactCache>of(
+                new InMemoryArtifactCache(),
+                new ErroringArtifactCache()),
+            /* parallelLookupHedgeDelayMillis */ Optional.of(0L),
+            /* writeBackQueueSize */ Optional.<Integer>absent());
+
+    CacheResult result = multiArtifactCache.fetch(dummyRuleKey, dummyFile);
+
+    assertEquals(CacheResultType.ERROR, result.getType());
+    multiArtifactCache.close();
+  }
 }
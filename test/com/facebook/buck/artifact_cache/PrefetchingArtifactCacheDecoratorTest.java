@@ -0,0 +1,196 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.BuckConstant;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class PrefetchingArtifactCacheDecoratorTest {
+
+  private static final RuleKey FIRST = new RuleKey("00000000000000000000000000000000");
+  private static final RuleKey SECOND = new RuleKey("11111111111111111111111111111111");
+  private static final byte[] DATA = "artifact".getBytes(StandardCharsets.UTF_8);
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  /**
+   * Records where each lookup was asked to put its artifact.
+   */
+  private static class RecordingArtifactCache extends InMemoryArtifactCache {
+    private final List<Path> outputs = Lists.newCopyOnWriteArrayList();
+
+    @Override
+    public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+      try {
+        outputs.add(output.get());
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+      return super.fetch(ruleKey, output);
+    }
+  }
+
+  private static PrefetchingArtifactCacheDecorator newCache(
+      ArtifactCache local,
+      ArtifactCache remote) {
+    return new PrefetchingArtifactCacheDecorator(
+        new MultiArtifactCache(ImmutableList.of(local, remote)),
+        local,
+        remote,
+        2);
+  }
+
+  @Test
+  public void prefetchedHitIsMovedToTheFetchOutput() throws Exception {
+    RecordingArtifactCache local = new RecordingArtifactCache();
+    RecordingArtifactCache remote = new RecordingArtifactCache();
+    remote.store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), DATA);
+    PrefetchingArtifactCacheDecorator cache = newCache(local, remote);
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot());
+
+    assertEquals(CacheResultType.HIT, cache.prefetch(FIRST, filesystem).get().getType());
+    Path output = tmp.getRoot().resolve("first");
+    CacheResult result = cache.fetch(FIRST, LazyPath.ofInstance(output));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertArrayEquals(DATA, Files.readAllBytes(output));
+    assertEquals(1, remote.outputs.size());
+    assertTrue(remote.outputs.get(0).startsWith(filesystem.resolve(BuckConstant.SCRATCH_PATH)));
+    assertFalse(Files.exists(remote.outputs.get(0)));
+    assertTrue(local.outputs.isEmpty());
+    assertEquals(0, cache.getPrefetchCount());
+    cache.close();
+  }
+
+  @Test
+  public void prefetchedMissIsOnlyLookedUpLocally() throws Exception {
+    RecordingArtifactCache local = new RecordingArtifactCache();
+    local.store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), DATA);
+    RecordingArtifactCache remote = new RecordingArtifactCache();
+    PrefetchingArtifactCacheDecorator cache = newCache(local, remote);
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot());
+
+    assertEquals(CacheResultType.MISS, cache.prefetch(FIRST, filesystem).get().getType());
+    assertTrue(local.outputs.isEmpty());
+    Path output = tmp.getRoot().resolve("first");
+    CacheResult result = cache.fetch(FIRST, LazyPath.ofInstance(output));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertArrayEquals(DATA, Files.readAllBytes(output));
+    assertEquals(ImmutableList.of(output), ImmutableList.copyOf(local.outputs));
+    assertEquals(1, remote.outputs.size());
+    cache.close();
+  }
+
+  @Test
+  public void keysWhichWereNotPrefetchedAreLookedUpAsUsual() throws Exception {
+    RecordingArtifactCache local = new RecordingArtifactCache();
+    RecordingArtifactCache remote = new RecordingArtifactCache();
+    local.store(ImmutableSet.of(SECOND), ImmutableMap.<String, String>of(), DATA);
+    PrefetchingArtifactCacheDecorator cache = newCache(local, remote);
+
+    Path output = tmp.getRoot().resolve("second");
+    CacheResult result = cache.fetch(SECOND, LazyPath.ofInstance(output));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertArrayEquals(DATA, Files.readAllBytes(output));
+    assertEquals(ImmutableList.of(output), ImmutableList.copyOf(local.outputs));
+    assertTrue(remote.outputs.isEmpty());
+    cache.close();
+  }
+
+  @Test
+  public void discardingUnclaimedPrefetchesDeletesTheirDownloads() throws Exception {
+    RecordingArtifactCache local = new RecordingArtifactCache();
+    RecordingArtifactCache remote = new RecordingArtifactCache();
+    remote.store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), DATA);
+    PrefetchingArtifactCacheDecorator cache = newCache(local, remote);
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot());
+
+    cache.prefetch(FIRST, filesystem).get();
+    Path downloaded = remote.outputs.get(0);
+    assertArrayEquals(DATA, Files.readAllBytes(downloaded));
+
+    cache.discardUnclaimed();
+
+    assertEquals(0, cache.getPrefetchCount());
+    assertFalse(Files.exists(downloaded));
+    cache.close();
+  }
+
+  @Test
+  public void discardingARunningPrefetchDeletesItsDownloadOnceItFinishes() throws Exception {
+    final CountDownLatch fetchStarted = new CountDownLatch(1);
+    final CountDownLatch releaseFetch = new CountDownLatch(1);
+    RecordingArtifactCache local = new RecordingArtifactCache();
+    RecordingArtifactCache remote = new RecordingArtifactCache() {
+      @Override
+      public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+        CacheResult result = super.fetch(ruleKey, output);
+        fetchStarted.countDown();
+        try {
+          releaseFetch.await();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        return result;
+      }
+    };
+    remote.store(ImmutableSet.of(FIRST), ImmutableMap.<String, String>of(), DATA);
+    PrefetchingArtifactCacheDecorator cache = newCache(local, remote);
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot());
+
+    cache.prefetch(FIRST, filesystem);
+    fetchStarted.await();
+    Path downloaded = remote.outputs.get(0);
+    cache.discardUnclaimed();
+    assertTrue(Files.exists(downloaded));
+    releaseFetch.countDown();
+
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+    while (Files.exists(downloaded) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertFalse(Files.exists(downloaded));
+    assertEquals(0, cache.getPrefetchCount());
+    cache.close();
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.bser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.testutil.integration.TestDataHelper;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.api.Macrobenchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares turning a Watchman query result and a buck.py result into maps and lists with
+ * {@link BserDeserializer}, with picking out what's needed from them with {@link BserParser}.
+ * <p>
+ * The results are read from {@code testdata}: a Watchman since query of 2000 files of this repo,
+ * whose files are a template as Watchman sends them, and the rules of the build files under
+ * {@code src}, encoded as buck.py encodes them.
+ */
+public class BserDeserializerBenchmark {
+
+  private byte[] watchmanResult;
+  private byte[] parserResult;
+
+  @Before
+  public void setUpTest() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    Path testData = TestDataHelper.getTestDataDirectory(BserDeserializerBenchmark.class);
+    watchmanResult = Files.readAllBytes(testData.resolve("watchman_since_query.bser"));
+    parserResult = Files.readAllBytes(testData.resolve("buck_py_rules.bser"));
+  }
+
+  @Test
+  public void watchmanResultCorrectness() throws Exception {
+    List<String> changes = deserializeWatchmanChanges();
+    assertFalse(changes.isEmpty());
+    assertEquals(changes, streamWatchmanChanges());
+  }
+
+  @Test
+  public void parserResultCorrectness() throws Exception {
+    List<String> rules = deserializeRules();
+    assertFalse(rules.isEmpty());
+    assertEquals(rules, streamRules());
+  }
+
+  @Macrobenchmark
+  public void deserializeWatchmanResult() throws Exception {
+    deserializeWatchmanChanges();
+  }
+
+  @Macrobenchmark
+  public void streamWatchmanResult() throws Exception {
+    streamWatchmanChanges();
+  }
+
+  @Macrobenchmark
+  public void deserializeParserResult() throws Exception {
+    deserializeRules();
+  }
+
+  @Macrobenchmark
+  public void streamParserResult() throws Exception {
+    streamRules();
+  }
+
+  /**
+   * @return each changed file, marked as {@code WatchmanWatcher} tells created, deleted and
+   *     modified files apart.
+   */
+  @SuppressWarnings("unchecked")
+  private List<String> deserializeWatchmanChanges() throws IOException {
+    Map<String, Object> result = (Map<String, Object>)
+        new BserDeserializer(BserDeserializer.KeyOrdering.UNSORTED)
+            .deserializeBserValue(new ByteArrayInputStream(watchmanResult));
+    List<String> changes = new ArrayList<>();
+    for (Map<String, Object> file : (List<Map<String, Object>>) result.get("files")) {
+      changes.add(
+          describeChange(
+              (String) file.get("name"),
+              Boolean.TRUE.equals(file.get("new")),
+              Boolean.FALSE.equals(file.get("exists"))));
+    }
+    return changes;
+  }
+
+  private List<String> streamWatchmanChanges() throws IOException {
+    BserParser parser = new BserParser(new ByteArrayInputStream(watchmanResult));
+    List<String> changes = new ArrayList<>();
+    parser.nextToken();
+    while (parser.nextToken() == BserParser.Token.FIELD_NAME) {
+      if (!parser.getFieldName().equals("files")) {
+        parser.nextToken();
+        parser.skipChildren();
+        continue;
+      }
+      parser.nextToken();
+      while (parser.nextToken() == BserParser.Token.START_OBJECT) {
+        String name = null;
+        boolean created = false;
+        boolean deleted = false;
+        while (parser.nextToken() == BserParser.Token.FIELD_NAME) {
+          String fieldName = parser.getFieldName();
+          BserParser.Token token = parser.nextToken();
+          if (fieldName.equals("name")) {
+            name = parser.getString();
+          } else if (fieldName.equals("new")) {
+            created = token == BserParser.Token.VALUE_TRUE;
+          } else if (fieldName.equals("exists")) {
+            deleted = token == BserParser.Token.VALUE_FALSE;
+          }
+        }
+        changes.add(describeChange(name, created, deleted));
+      }
+    }
+    return changes;
+  }
+
+  private static String describeChange(String name, boolean created, boolean deleted) {
+    return (deleted ? "- " : created ? "+ " : "M ") + name;
+  }
+
+  /**
+   * @return the target and type of each rule.
+   */
+  @SuppressWarnings("unchecked")
+  private List<String> deserializeRules() throws IOException {
+    Map<String, Object> result = (Map<String, Object>)
+        new BserDeserializer(BserDeserializer.KeyOrdering.SORTED)
+            .deserializeBserValue(new ByteArrayInputStream(parserResult));
+    List<String> rules = new ArrayList<>();
+    for (Map<String, Object> rule : (List<Map<String, Object>>) result.get("values")) {
+      if (rule.containsKey("buck.type")) {
+        rules.add(
+            describeRule(
+                (String) rule.get("buck.base_path"),
+                (String) rule.get("name"),
+                (String) rule.get("buck.type")));
+      }
+    }
+    return rules;
+  }
+
+  private List<String> streamRules() throws IOException {
+    BserParser parser = new BserParser(new ByteArrayInputStream(parserResult));
+    List<String> rules = new ArrayList<>();
+    parser.nextToken();
+    while (parser.nextToken() == BserParser.Token.FIELD_NAME) {
+      parser.nextToken();
+      if (!parser.getFieldName().equals("values")) {
+        parser.skipChildren();
+        continue;
+      }
+      while (parser.nextToken() == BserParser.Token.START_OBJECT) {
+        String basePath = null;
+        String name = null;
+        String type = null;
+        while (parser.nextToken() == BserParser.Token.FIELD_NAME) {
+          String fieldName = parser.getFieldName();
+          parser.nextToken();
+          if (fieldName.equals("buck.base_path")) {
+            basePath = parser.getString();
+          } else if (fieldName.equals("name")) {
+            name = parser.getString();
+          } else if (fieldName.equals("buck.type")) {
+            type = parser.getString();
+          } else {
+            parser.skipChildren();
+          }
+        }
+        if (type != null) {
+          rules.add(describeRule(basePath, name, type));
+        }
+      }
+    }
+    return rules;
+  }
+
+  private static String describeRule(String basePath, String name, String type) {
+    return "//" + basePath + ":" + name + " " + type;
+  }
+}
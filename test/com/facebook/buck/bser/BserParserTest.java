@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.facebook.buck.bser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.bser.BserParser.Token;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.BaseEncoding;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class BserParserTest {
+
+  @Test
+  public void templateIsReadAsArrayOfObjectsWithoutTheSkippedFields() throws IOException {
+    BserParser parser = new BserParser(
+        new ByteArrayInputStream(
+            BaseEncoding.base16().decode(
+                "000103280B0003020203046E616D6502030361676503030203046672656403140203" +
+                "0470657465031E0C0319")));
+
+    assertEquals(Token.START_ARRAY, parser.nextToken());
+    assertEquals(3, parser.getSize());
+    for (String name : new String[] {"fred", "pete"}) {
+      assertEquals(Token.START_OBJECT, parser.nextToken());
+      assertEquals(Token.FIELD_NAME, parser.nextToken());
+      assertEquals("name", parser.getFieldName());
+      assertEquals(Token.VALUE_STRING, parser.nextToken());
+      assertEquals(name, parser.getString());
+      assertEquals(Token.FIELD_NAME, parser.nextToken());
+      assertEquals("age", parser.getFieldName());
+      assertEquals(Token.VALUE_NUMBER_INT, parser.nextToken());
+      assertEquals(Token.END_OBJECT, parser.nextToken());
+    }
+    assertEquals(Token.START_OBJECT, parser.nextToken());
+    assertEquals(Token.FIELD_NAME, parser.nextToken());
+    assertEquals("age", parser.getFieldName());
+    assertEquals(Token.VALUE_NUMBER_INT, parser.nextToken());
+    assertEquals(25, parser.getLongValue());
+    assertEquals(Token.END_OBJECT, parser.nextToken());
+    assertEquals(Token.END_ARRAY, parser.nextToken());
+    assertNull(parser.nextToken());
+  }
+
+  @Test
+  public void fieldNameIsOnlyDecodedOnce() throws IOException {
+    BserParser parser = new BserParser(
+        serialize(
+            ImmutableList.of(
+                ImmutableMap.of("name", "foo"),
+                ImmutableMap.of("name", "bar"))));
+
+    assertEquals(Token.START_ARRAY, parser.nextToken());
+    assertEquals(Token.START_OBJECT, parser.nextToken());
+    assertEquals(Token.FIELD_NAME, parser.nextToken());
+    String first = parser.getFieldName();
+    parser.nextToken();
+    parser.nextToken();
+    assertEquals(Token.START_OBJECT, parser.nextToken());
+    assertEquals(Token.FIELD_NAME, parser.nextToken());
+
+    assertSame(first, parser.getFieldName());
+  }
+
+  @Test
+  public void skipChildrenSkipsTheRestOfTheContainer() throws IOException {
+    BserParser parser = new BserParser(
+        serialize(
+            ImmutableMap.of(
+                "files", ImmutableList.of("a", ImmutableList.of("b", "c")),
+                "clock", "c:1")));
+
+    assertEquals(Token.START_OBJECT, parser.nextToken());
+    assertEquals(Token.FIELD_NAME, parser.nextToken());
+    assertEquals(Token.START_ARRAY, parser.nextToken());
+    parser.skipChildren();
+    assertEquals(Token.FIELD_NAME, parser.nextToken());
+    assertEquals("clock", parser.getFieldName());
+    assertEquals(Token.VALUE_STRING, parser.nextToken());
+    parser.skipChildren();
+    assertEquals("c:1", parser.getString());
+    assertEquals(Token.END_OBJECT, parser.nextToken());
+  }
+
+  @Test
+  public void valuesAreReadOneAfterAnother() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BserSerializer serializer = new BserSerializer();
+    serializer.serializeToStream(ImmutableList.of("first", "ignored"), output);
+    serializer.serializeToStream("second", output);
+    BserParser parser = new BserParser(new ByteArrayInputStream(output.toByteArray()));
+
+    assertEquals(Token.START_ARRAY, parser.nextToken());
+    assertEquals(Token.VALUE_STRING, parser.nextToken());
+    assertEquals("first", parser.getString());
+    assertEquals(Token.VALUE_STRING, parser.nextToken());
+    assertEquals(Token.END_ARRAY, parser.nextToken());
+    assertNull(parser.nextToken());
+    assertEquals(Token.VALUE_STRING, parser.nextToken());
+    assertEquals("second", parser.getString());
+    assertNull(parser.nextToken());
+  }
+
+  @Test
+  public void stringLongerThanTheBufferIsReadWhole() throws IOException {
+    String path = Strings.repeat("very/deep/", 2000);
+    BserParser parser = new BserParser(serialize(ImmutableList.of(path, path)));
+
+    assertEquals(Token.START_ARRAY, parser.nextToken());
+    assertEquals(Token.VALUE_STRING, parser.nextToken());
+    assertEquals(path, parser.getString());
+    assertEquals(Token.VALUE_STRING, parser.nextToken());
+    assertEquals(path, parser.getString());
+    assertEquals(Token.END_ARRAY, parser.nextToken());
+  }
+
+  private static InputStream serialize(Object value) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new BserSerializer().serializeToStream(value, output);
+    return new ByteArrayInputStream(output.toByteArray());
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.cli;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusFactory;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.model.Pair;
+import com.facebook.buck.rules.ActionGraph;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.TargetNode;
+import com.facebook.buck.rules.keys.DaemonicRuleKeyCache;
+import com.facebook.buck.shell.GenruleBuilder;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.facebook.buck.testutil.TargetGraphFactory;
+
+import org.junit.Test;
+
+public class ActionGraphCacheTest {
+
+  @Test
+  public void actionGraphIsReusedForTheSameTargetNodes() {
+    BuckEventBus eventBus = BuckEventBusFactory.newInstance();
+    ActionGraphCache cache =
+        new ActionGraphCache(new DaemonicRuleKeyCache(new FakeProjectFilesystem()));
+    TargetNode<?> node = GenruleBuilder.newGenruleBuilder(BuildTargetFactory.newInstance("//:a"))
+        .setOut("out")
+        .build();
+
+    Pair<ActionGraph, BuildRuleResolver> first =
+        cache.getActionGraph(eventBus, TargetGraphFactory.newInstance(node));
+    Pair<ActionGraph, BuildRuleResolver> second =
+        cache.getActionGraph(eventBus, TargetGraphFactory.newInstance(node));
+    assertSame(first, second);
+
+    // The build file was parsed again, so the node may have changed.
+    TargetNode<?> reparsedNode =
+        GenruleBuilder.newGenruleBuilder(BuildTargetFactory.newInstance("//:a"))
+            .setOut("out")
+            .build();
+    Pair<ActionGraph, BuildRuleResolver> third =
+        cache.getActionGraph(eventBus, TargetGraphFactory.newInstance(reparsedNode));
+    assertNotSame(first, third);
+  }
+}
@@ -27,12 +27,22 @@ import static org.junit.Assert.fail;
 import com.facebook.buck.io.MorePathsForTests;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.parser.NoSuchBuildTargetException;
+import com.facebook.buck.rules.BuildResources;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.FakeBuildRule;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.TargetGraph;
+import com.facebook.buck.step.FakeStep;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.step.fs.MkdirStep;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.testutil.integration.DebuggableTemporaryFolder;
 import com.facebook.buck.testutil.integration.ProjectWorkspace;
 import com.facebook.buck.testutil.integration.ProjectWorkspace.ProcessResult;
 import com.facebook.buck.testutil.integration.TestDataHelper;
 import com.facebook.buck.util.HumanReadableException;
+import com.facebook.buck.util.concurrent.ResourceAmounts;
 import com.facebook.buck.util.environment.Architecture;
 import com.facebook.buck.util.environment.Platform;
 import com.google.common.base.Functions;
@@ -338,6 +348,52 @@ public class BuckConfigTest {
     assertEquals(54321L, config.getDefaultTestTimeoutMillis());
   }
 
+  @Test
+  public void testGetBuildResources() {
+    BuildResources defaults =
+        FakeBuckConfig.builder().setSections("[build]", "threads = 6").build().getBuildResources();
+    assertEquals(ResourceAmounts.of(6, Long.MAX_VALUE), defaults.getBudget());
+
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer());
+    BuildRule rule = new FakeBuildRule("//:rule", new SourcePathResolver(resolver));
+    Step step = new FakeStep("javac", "javac", 0);
+    Step mkdirStep = new MkdirStep(new FakeProjectFilesystem(), Paths.get("dir"));
+    assertEquals(BuildResources.DEFAULT_STEP_AMOUNTS, defaults.getAmounts(rule, step));
+    assertEquals(ResourceAmounts.ZERO, defaults.getAmounts(rule, mkdirStep));
+
+    BuildResources configured = FakeBuckConfig.builder()
+        .setSections(
+            "[build]",
+            "threads = 6",
+            "[resources]",
+            "cpu = 4",
+            "memory_mb = 8192",
+            "[resources_per_rule]",
+            rule.getType() + " = 2, 4096")
+        .build()
+        .getBuildResources();
+    assertEquals(ResourceAmounts.of(4, 8192), configured.getBudget());
+    assertEquals(ResourceAmounts.of(2, 4096), configured.getAmounts(rule, step));
+    assertEquals(ResourceAmounts.of(2, 4096), configured.getAmounts(rule, mkdirStep));
+  }
+
+  @Test(expected = HumanReadableException.class)
+  public void testGetBuildResourcesRejectsMalformedRuleAmounts() {
+    FakeBuckConfig.builder()
+        .setSections("[resources_per_rule]", "cxx_link = 4096")
+        .build()
+        .getBuildResources();
+  }
+
+  @Test(expected = HumanReadableException.class)
+  public void testGetBuildResourcesRejectsNegativeBudget() {
+    FakeBuckConfig.builder()
+        .setSections("[resources]", "cpu = 4", "memory_mb = -1")
+        .build()
+        .getBuildResources();
+  }
+
   @Test
   public void testGetMaxTraces() throws IOException {
     assertEquals(25, FakeBuckConfig.builder().build().getMaxTraces());
@@ -143,6 +143,7 @@ public class CleanCommandTest extends EasyMockSupport {
         Optional.<WebServer>absent(),
         FakeBuckConfig.builder().build(),
         new NullFileHashCache(),
+        Optional.<ActionGraphCache>absent(),
         new HashMap<ExecutionContext.ExecutorPool, ListeningExecutorService>());
   }
 
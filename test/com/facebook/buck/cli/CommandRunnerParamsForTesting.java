@@ -87,6 +87,7 @@ public class CommandRunnerParamsForTesting {
         webServer,
         config,
         new NullFileHashCache(),
+        Optional.<ActionGraphCache>absent(),
         new HashMap<ExecutionContext.ExecutorPool, ListeningExecutorService>());
   }
 
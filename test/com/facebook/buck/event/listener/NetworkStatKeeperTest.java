@@ -162,4 +162,22 @@ public class NetworkStatKeeperTest {
 
     Assert.assertEquals(2, networkStatsKeeper.getDownloadedArtifactDownloaded());
   }
+
+  @Test
+  public void prefetchesAreCountedApartFromDownloads() {
+    NetworkStatsKeeper networkStatsKeeper = new NetworkStatsKeeper();
+    networkStatsKeeper.stopScheduler();
+    HttpArtifactCacheEvent.Finished fetchFinished =
+        createMock(HttpArtifactCacheEvent.Finished.class);
+    expect(fetchFinished.getTimestamp()).andReturn(400L);
+    HttpArtifactCacheEvent.Finished prefetchFinished =
+        createMock(HttpArtifactCacheEvent.Finished.class);
+    expect(prefetchFinished.getTimestamp()).andReturn(400L);
+
+    networkStatsKeeper.artifactPrefetchFinished(prefetchFinished);
+    networkStatsKeeper.artifactDownloadFinished(fetchFinished);
+
+    Assert.assertEquals(1, networkStatsKeeper.getDownloadedArtifactDownloaded());
+    Assert.assertEquals(1, networkStatsKeeper.getArtifactPrefetched());
+  }
 }
@@ -187,4 +187,36 @@ public class PathHashingTest {
         hasher1.hash(),
         equalTo(hasher2.hash()));
   }
+
+  @Test
+  public void largeDirectoriesHashAsIfTheirFilesWereHashedInOrder() throws IOException {
+    SettableFakeClock clock = new SettableFakeClock(1000, 0);
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem(clock);
+    ImmutableMap.Builder<Path, HashCode> hashes = ImmutableMap.builder();
+    ImmutableSortedSet.Builder<Path> files = ImmutableSortedSet.naturalOrder();
+    for (int i = 0; i < 1000; i++) {
+      Path file = Paths.get(String.format("foo/dir%d/file%d.txt", i % 7, i));
+      filesystem.touch(file);
+      hashes.put(filesystem.resolve(file), Hashing.sha1().hashInt(i));
+      files.add(file);
+    }
+    FileHashCache hashCache = new FakeFileHashCache(hashes.build());
+
+    Hasher expected = Hashing.sha1().newHasher();
+    for (Path file : files.build()) {
+      StringHashing.hashStringAndLength(expected, file.toString());
+      expected.putBytes(hashCache.get(filesystem.resolve(file)).asBytes());
+    }
+
+    Hasher hasher = Hashing.sha1().newHasher();
+    PathHashing.hashPaths(
+        hasher,
+        hashCache,
+        filesystem,
+        ImmutableSortedSet.of(Paths.get("foo")));
+
+    assertThat(
+        hasher.hash(),
+        equalTo(expected.hash()));
+  }
 }
@@ -23,6 +23,7 @@ import com.facebook.buck.artifact_cache.ArtifactCacheBuckConfig;
 import com.facebook.buck.artifact_cache.ArtifactCaches;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.MultiFetches;
 import com.facebook.buck.io.LazyPath;
 import com.facebook.buck.cli.BuckConfig;
 import com.facebook.buck.cli.BuckConfigTestUtils;
@@ -228,7 +229,10 @@ public class ServedCacheIntegrationTest {
 
   @Test
   public void testMalformedDirCacheMetaData() throws Exception {
-    Path cacheFilePath = tmpDir.getRoot().resolve("test-cache/" + A_FILE_RULE_KEY + ".metadata");
+    // Entries are kept in subdirectories named after the first two characters of their key.
+    Path cacheFilePath = tmpDir.getRoot().resolve(
+        "test-cache/" + A_FILE_RULE_KEY.toString().substring(0, 2) + "/" +
+            A_FILE_RULE_KEY + ".metadata");
     assertThat(projectFilesystem.exists(cacheFilePath), Matchers.is(true));
     try (DataOutputStream outputStream =
              new DataOutputStream(projectFilesystem.newFileOutputStream(cacheFilePath))) {
@@ -333,6 +337,12 @@ public class ServedCacheIntegrationTest {
         return CacheResult.miss();
       }
 
+      @Override
+      public ImmutableMap<RuleKey, CacheResult> multiFetch(
+          ImmutableMap<RuleKey, LazyPath> outputs) throws InterruptedException {
+        return MultiFetches.fetchSequentially(this, outputs);
+      }
+
       @Override
       public ListenableFuture<Void> store(
           ImmutableSet<RuleKey> ruleKeys,
@@ -341,6 +351,11 @@ public class ServedCacheIntegrationTest {
         return Futures.immediateFuture(null);
       }
 
+      @Override
+      public boolean isMultiFetchBatched() {
+        return false;
+      }
+
       @Override
       public boolean isStoreSupported() {
         return true;
@@ -476,4 +491,52 @@ public class ServedCacheIntegrationTest {
     cacheResult = serverBackedCache.fetch(ruleKey, fetchedContents);
     assertThat(cacheResult.getType().isSuccess(), Matchers.is(false));
   }
+
+  @Test
+  public void testFetchWithKeyDigestFromServedDircache() throws Exception {
+    webServer = new WebServer(
+        /* port */ 0,
+        projectFilesystem,
+        "/static/",
+        new ObjectMapper());
+    webServer.updateAndStartIfNeeded(ArtifactCaches.newServedCache(
+            createMockLocalConfig(
+                "[cache]",
+                "dir = test-cache",
+                "serve_local_cache = true",
+                "served_local_cache_mode = readwrite"),
+            projectFilesystem));
+
+    ArtifactCache serverBackedCache = ArtifactCaches.newInstance(
+        createMockLocalConfig(
+            "[cache]",
+            "mode = http",
+            String.format("http_url = http://127.0.0.1:%d/", webServer.getPort().get()),
+            "http_key_digest_enabled = true"),
+        buckEventBus,
+        projectFilesystem,
+        Optional.<String>absent(),
+        DIRECT_EXECUTOR_SERVICE);
+
+    LazyPath fetchedContents = LazyPath.ofInstance(tmpDir.newFile());
+    CacheResult cacheResult = serverBackedCache.fetch(A_FILE_RULE_KEY, fetchedContents);
+    assertThat(cacheResult.getType(), Matchers.equalTo(CacheResultType.HIT));
+    assertThat(
+        projectFilesystem.readFileIfItExists(fetchedContents.get()).get(),
+        Matchers.equalTo(A_FILE_DATA));
+
+    RuleKey ruleKey = new RuleKey("00111222333444");
+    cacheResult = serverBackedCache.fetch(ruleKey, fetchedContents);
+    assertThat(cacheResult.getType(), Matchers.equalTo(CacheResultType.MISS));
+
+    // Keys stored after the digest was fetched can still be fetched.
+    Path originalDataPath = tmpDir.newFile();
+    projectFilesystem.writeContentsToPath("new data", originalDataPath);
+    serverBackedCache.store(
+        ImmutableSet.of(ruleKey),
+        ImmutableMap.<String, String>of(),
+        originalDataPath);
+    cacheResult = serverBackedCache.fetch(ruleKey, fetchedContents);
+    assertThat(cacheResult.getType(), Matchers.equalTo(CacheResultType.HIT));
+  }
 }
@@ -16,11 +16,16 @@
 
 package com.facebook.buck.io;
 
+import com.facebook.buck.bser.BserParser;
+import com.facebook.buck.bser.BserSerializer;
 import com.google.common.base.Optional;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -71,6 +76,26 @@ public class FakeWatchmanClient implements WatchmanClient {
     return Optional.of(result);
   }
 
+  @Override
+  public Optional<? extends Map<String, ? extends Object>> queryFilesWithTimeout(
+      long timeoutNanos,
+      FilesReader<?> filesReader,
+      Object... query) throws InterruptedException, IOException {
+    Optional<? extends Map<String, ? extends Object>> result =
+        queryWithTimeout(timeoutNanos, query);
+    if (!result.isPresent() || !result.get().containsKey("files")) {
+      return result;
+    }
+    // Read the files from their BSER encoding, as the real client does.
+    ByteArrayOutputStream files = new ByteArrayOutputStream();
+    new BserSerializer().serializeToStream(result.get().get("files"), files);
+    BserParser parser = new BserParser(new ByteArrayInputStream(files.toByteArray()));
+    parser.nextToken();
+    Map<String, Object> response = new LinkedHashMap<>(result.get());
+    response.put("files", filesReader.read(parser));
+    return Optional.of(response);
+  }
+
   @Override
   public void close() {
   }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.cli.FakeBuckConfig;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusFactory;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.ConstructorArgMarshaller;
+import com.facebook.buck.rules.TestCellBuilder;
+import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
+import com.facebook.buck.testutil.WatchEventsForTests;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.util.List;
+import java.util.Map;
+
+public class DaemonicParserStateTest {
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private Path buildFile;
+  private CountingParserPool parserPool;
+  private DaemonicParserState state;
+  private BuckEventBus eventBus;
+
+  @Before
+  public void setUp() throws IOException {
+    filesystem = new ProjectFilesystem(tmp.getRoot());
+    buildFile = filesystem.resolve("foo/BUCK");
+    parserPool = new CountingParserPool();
+    state = new DaemonicParserState(
+        new DefaultTypeCoercerFactory(),
+        new ConstructorArgMarshaller(new DefaultTypeCoercerFactory()),
+        1);
+    eventBus = BuckEventBusFactory.newInstance();
+  }
+
+  @Test
+  public void changingAConfigValueNoBuildFileReadKeepsTheirRules() throws Exception {
+    state.getAllRawNodes(eventBus, createCell("1", "beef", "//DEFS"), parserPool, buildFile);
+    state.getAllRawNodes(eventBus, createCell("1", "cake", "//DEFS"), parserPool, buildFile);
+
+    assertEquals(1, parserPool.parses);
+  }
+
+  @Test
+  public void changingAConfigValueABuildFileReadInvalidatesIt() throws Exception {
+    state.getAllRawNodes(eventBus, createCell("1", "beef", "//DEFS"), parserPool, buildFile);
+    state.getAllRawNodes(eventBus, createCell("2", "beef", "//DEFS"), parserPool, buildFile);
+
+    assertEquals(2, parserPool.parses);
+  }
+
+  @Test
+  public void changingTheDefaultIncludesInvalidatesEveryBuildFile() throws Exception {
+    state.getAllRawNodes(eventBus, createCell("1", "beef", "//DEFS"), parserPool, buildFile);
+    state.getAllRawNodes(eventBus, createCell("1", "beef", "//OTHER_DEFS"), parserPool, buildFile);
+
+    assertEquals(2, parserPool.parses);
+  }
+
+  @Test
+  public void changesToBuildFilesAreStillNoticedAfterTheConfigChanges() throws Exception {
+    state.getAllRawNodes(eventBus, createCell("1", "beef", "//DEFS"), parserPool, buildFile);
+    Cell cell = createCell("1", "cake", "//DEFS");
+    state.getAllRawNodes(eventBus, cell, parserPool, buildFile);
+
+    state.invalidateBasedOn(
+        WatchEventsForTests.createPathEvent(
+            Paths.get("foo/BUCK"),
+            StandardWatchEventKinds.ENTRY_MODIFY));
+    state.getAllRawNodes(eventBus, cell, parserPool, buildFile);
+
+    assertEquals(2, parserPool.parses);
+  }
+
+  @Test
+  public void modifyingASourceFileKeepsTheBuildFileParsers() throws Exception {
+    state.getAllRawNodes(eventBus, createCell("1", "beef", "//DEFS"), parserPool, buildFile);
+
+    assertFalse(
+        state.invalidatesBuildFileParsers(
+            WatchEventsForTests.createPathEvent(
+                Paths.get("foo/Foo.java"),
+                StandardWatchEventKinds.ENTRY_MODIFY)));
+  }
+
+  @Test
+  public void changesBuckPyMayHaveCachedInvalidateTheBuildFileParsers() throws Exception {
+    state.getAllRawNodes(eventBus, createCell("1", "beef", "//DEFS"), parserPool, buildFile);
+
+    assertTrue(
+        state.invalidatesBuildFileParsers(
+            WatchEventsForTests.createPathEvent(
+                Paths.get("DEFS"),
+                StandardWatchEventKinds.ENTRY_MODIFY)));
+    assertTrue(
+        state.invalidatesBuildFileParsers(
+            WatchEventsForTests.createPathEvent(
+                Paths.get("foo/BUCK"),
+                StandardWatchEventKinds.ENTRY_MODIFY)));
+    assertTrue(
+        state.invalidatesBuildFileParsers(
+            WatchEventsForTests.createPathEvent(
+                Paths.get("foo/Foo.java"),
+                StandardWatchEventKinds.ENTRY_CREATE)));
+    assertTrue(
+        state.invalidatesBuildFileParsers(WatchEventsForTests.createOverflowEvent()));
+  }
+
+  private Cell createCell(String bar, String dead, String include)
+      throws IOException, InterruptedException {
+    return new TestCellBuilder()
+        .setFilesystem(filesystem)
+        .setBuckConfig(
+            FakeBuckConfig.builder()
+                .setFilesystem(filesystem)
+                .setSections(
+                    ImmutableMap.of(
+                        "foo", ImmutableMap.of("bar", bar, "dead", dead),
+                        "buildfile", ImmutableMap.of("includes", include)))
+                .build())
+        .build();
+  }
+
+  /**
+   * Returns what buck.py would for a build file which reads [foo] bar, without running it.
+   */
+  private static class CountingParserPool extends ProjectBuildFileParserPool {
+    private int parses;
+
+    public CountingParserPool() {
+      super(
+          1,
+          new ConstructorArgMarshaller(new DefaultTypeCoercerFactory()),
+          /* enableProfiling */ false);
+    }
+
+    @Override
+    public List<Map<String, Object>> getAllRulesAndMetaRules(
+        Cell cell,
+        BuckEventBus eventBus,
+        Path buildFile) {
+      parses++;
+      return ImmutableList.<Map<String, Object>>of(
+          ImmutableMap.<String, Object>of(
+              "buck.base_path", "foo",
+              "buck.type", "genrule",
+              "name", "foo"),
+          ImmutableMap.<String, Object>of(
+              "__includes", ImmutableList.of(buildFile.toString())),
+          ImmutableMap.<String, Object>of(
+              "__configs", ImmutableMap.of(
+                  "foo", ImmutableMap.of(
+                      "bar", cell.getBuckConfig().getValue("foo", "bar").get()))));
+    }
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import com.facebook.buck.cli.FakeBuckConfig;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.TestCellBuilder;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+public class PersistentRawNodeCacheTest {
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private Path buildFile;
+  private Path include;
+
+  @Before
+  public void setUp() throws IOException {
+    filesystem = new ProjectFilesystem(tmp.getRoot());
+    filesystem.mkdirs(Paths.get("foo"));
+    filesystem.writeContentsToPath("java_library(name = 'foo')\n", Paths.get("foo/BUCK"));
+    filesystem.writeContentsToPath("FOO = 1\n", Paths.get("DEFS"));
+    buildFile = filesystem.resolve("foo/BUCK");
+    include = filesystem.resolve("DEFS");
+  }
+
+  @Test
+  public void storedRulesAreLoadedBack() throws Exception {
+    Cell cell = createCell("bar");
+    PersistentRawNodeCache cache = new PersistentRawNodeCache();
+    HashCode packageState = cache.hashPackageState(cell, buildFile).get();
+    List<Map<String, Object>> values = createValues("bar");
+
+    cache.store(cell, buildFile, packageState, values);
+
+    assertEquals(
+        values,
+        new PersistentRawNodeCache().load(cell, buildFile, packageState).get());
+  }
+
+  @Test
+  public void changingAnIncludeInvalidatesTheEntry() throws Exception {
+    Cell cell = createCell("bar");
+    PersistentRawNodeCache cache = new PersistentRawNodeCache();
+    HashCode packageState = cache.hashPackageState(cell, buildFile).get();
+    cache.store(cell, buildFile, packageState, createValues("bar"));
+
+    filesystem.writeContentsToPath("FOO = 2\n", Paths.get("DEFS"));
+    cache.invalidate(include);
+
+    assertFalse(cache.load(cell, buildFile, packageState).isPresent());
+  }
+
+  @Test
+  public void addingAFileBelowTheBuildFileChangesThePackageState() throws Exception {
+    Cell cell = createCell("bar");
+    PersistentRawNodeCache cache = new PersistentRawNodeCache();
+    HashCode packageState = cache.hashPackageState(cell, buildFile).get();
+
+    filesystem.writeContentsToPath("class Foo {}", Paths.get("foo/Foo.java"));
+
+    assertNotEquals(packageState, cache.hashPackageState(cell, buildFile).get());
+  }
+
+  @Test
+  public void changesInNestedPackagesDontChangeThePackageState() throws Exception {
+    filesystem.mkdirs(Paths.get("foo/bar"));
+    filesystem.writeContentsToPath("java_library(name = 'bar')\n", Paths.get("foo/bar/BUCK"));
+    Cell cell = createCell("bar");
+    PersistentRawNodeCache cache = new PersistentRawNodeCache();
+    HashCode packageState = cache.hashPackageState(cell, buildFile).get();
+
+    filesystem.writeContentsToPath("class Bar {}", Paths.get("foo/bar/Bar.java"));
+
+    assertEquals(packageState, cache.hashPackageState(cell, buildFile).get());
+  }
+
+  @Test
+  public void buildOutputAndVersionControlDontChangeTheRootPackageState() throws Exception {
+    filesystem.writeContentsToPath("java_library(name = 'root')\n", Paths.get("BUCK"));
+    Path rootBuildFile = filesystem.resolve("BUCK");
+    Cell cell = createCell("bar");
+    PersistentRawNodeCache cache = new PersistentRawNodeCache();
+    HashCode packageState = cache.hashPackageState(cell, rootBuildFile).get();
+    cache.store(cell, rootBuildFile, packageState, createValues("bar"));
+
+    filesystem.mkdirs(Paths.get("buck-out/gen/foo"));
+    filesystem.writeContentsToPath("", Paths.get("buck-out/gen/foo/foo.jar"));
+    filesystem.mkdirs(Paths.get(".git"));
+    filesystem.writeContentsToPath("", Paths.get(".git/index"));
+
+    assertEquals(packageState, cache.hashPackageState(cell, rootBuildFile).get());
+    assertEquals(
+        createValues("bar"),
+        new PersistentRawNodeCache().load(cell, rootBuildFile, packageState).get());
+  }
+
+  @Test
+  public void changingAConfigValueTheBuildFileReadInvalidatesTheEntry() throws Exception {
+    Cell cell = createCell("bar");
+    PersistentRawNodeCache cache = new PersistentRawNodeCache();
+    HashCode packageState = cache.hashPackageState(cell, buildFile).get();
+    cache.store(cell, buildFile, packageState, createValues("bar"));
+
+    assertFalse(
+        new PersistentRawNodeCache()
+            .load(createCell("baz"), buildFile, packageState)
+            .isPresent());
+  }
+
+  private Cell createCell(String fooValue) throws IOException, InterruptedException {
+    return new TestCellBuilder()
+        .setFilesystem(filesystem)
+        .setBuckConfig(
+            FakeBuckConfig.builder()
+                .setFilesystem(filesystem)
+                .setSections("[foo]", "value = " + fooValue)
+                .build())
+        .build();
+  }
+
+  /**
+   * @return what buck.py returns for the build file, which reads the value of [foo] value.
+   */
+  private List<Map<String, Object>> createValues(String fooValue) {
+    return ImmutableList.<Map<String, Object>>of(
+        ImmutableMap.<String, Object>of(
+            "buck.base_path", "foo",
+            "buck.type", "java_library",
+            "name", "foo",
+            "exported_deps", ImmutableList.of(),
+            "source", "7"),
+        ImmutableMap.<String, Object>of(
+            "__includes", ImmutableList.of(buildFile.toString(), include.toString())),
+        ImmutableMap.<String, Object>of(
+            "__configs", ImmutableMap.of("foo", ImmutableMap.of("value", fooValue))));
+  }
+}
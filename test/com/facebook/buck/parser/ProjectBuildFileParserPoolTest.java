@@ -0,0 +1,265 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.facebook.buck.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.facebook.buck.cli.FakeBuckConfig;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusFactory;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.json.ProjectBuildFileParser;
+import com.facebook.buck.json.ProjectBuildFileParserOptions;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.ConstructorArgMarshaller;
+import com.facebook.buck.rules.Description;
+import com.facebook.buck.rules.TestCellBuilder;
+import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
+import com.facebook.buck.testutil.TestConsole;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.ProcessExecutor;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+public class ProjectBuildFileParserPoolTest {
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private Cell firstCell;
+  private Cell secondCell;
+  private BuckEventBus eventBus;
+
+  @Before
+  public void setUp() throws IOException, InterruptedException {
+    firstCell = createCell(tmp.newFolder("first"));
+    secondCell = createCell(tmp.newFolder("second"));
+    eventBus = BuckEventBusFactory.newInstance();
+  }
+
+  @Test
+  public void parserIsReusedForLaterBuildFiles() throws Exception {
+    FakeParserPool pool = new FakeParserPool(2);
+
+    pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "foo"));
+    pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "bar"));
+
+    assertEquals(1, pool.parsers.size());
+    assertEquals(2, pool.parsers.get(0).parses);
+    assertEquals(2, pool.getUsage().getLeases());
+    assertEquals(1, pool.getUsage().getParserStarts());
+    pool.close();
+    assertTrue(pool.parsers.get(0).closed);
+  }
+
+  @Test
+  public void idleParserOfAnotherCellIsStoppedToMakeRoom() throws Exception {
+    FakeParserPool pool = new FakeParserPool(1);
+
+    pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "foo"));
+    pool.getAllRulesAndMetaRules(secondCell, eventBus, buildFile(secondCell, "foo"));
+
+    assertEquals(2, pool.parsers.size());
+    assertTrue(pool.parsers.get(0).closed);
+    assertFalse(pool.parsers.get(1).closed);
+    assertEquals(1, pool.getParserCount());
+    pool.close();
+  }
+
+  @Test
+  public void parserWhichFailedIsNotReused() throws Exception {
+    FakeParserPool pool = new FakeParserPool(2);
+    pool.failNextParse = true;
+
+    try {
+      pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "foo"));
+      fail("Expected the parse to fail.");
+    } catch (IllegalStateException e) {
+      // Expected.
+    }
+    pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "foo"));
+
+    assertEquals(2, pool.parsers.size());
+    assertTrue(pool.parsers.get(0).closed);
+    assertEquals(1, pool.getParserCount());
+    pool.close();
+  }
+
+  @Test
+  public void parserReleasedAfterThePoolIsClosedIsStopped() throws Exception {
+    FakeParserPool pool = new FakeParserPool(1);
+    pool.closeDuringNextParse = true;
+
+    pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "foo"));
+
+    assertTrue(pool.parsers.get(0).closed);
+    assertEquals(0, pool.getParserCount());
+  }
+
+  @Test
+  public void editedIncludeIsSeenByTheNextParse() throws Exception {
+    FakeParserPool pool = new FakeParserPool(1);
+    Path include = firstCell.getRoot().resolve("DEFS");
+    Files.write(include, "first".getBytes(UTF_8));
+
+    assertEquals(
+        ImmutableList.of(ImmutableMap.of("include", "first")),
+        pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "foo")));
+    Files.write(include, "second".getBytes(UTF_8));
+    // As the daemon's parser does when watchman tells it the include changed.
+    pool.invalidate();
+
+    assertEquals(
+        ImmutableList.of(ImmutableMap.of("include", "second")),
+        pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "foo")));
+    assertEquals(2, pool.parsers.size());
+    assertTrue(pool.parsers.get(0).closed);
+    assertEquals(1, pool.getParserCount());
+    pool.close();
+  }
+
+  @Test
+  public void parserBusyWhenThePoolIsInvalidatedIsStoppedOnRelease() throws Exception {
+    FakeParserPool pool = new FakeParserPool(1);
+    pool.invalidateDuringNextParse = true;
+
+    pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "foo"));
+
+    assertTrue(pool.parsers.get(0).closed);
+    assertEquals(0, pool.getParserCount());
+    pool.getAllRulesAndMetaRules(firstCell, eventBus, buildFile(firstCell, "foo"));
+    assertEquals(2, pool.parsers.size());
+    assertFalse(pool.parsers.get(1).closed);
+    pool.close();
+  }
+
+  private static Cell createCell(Path root) throws IOException, InterruptedException {
+    ProjectFilesystem filesystem = new ProjectFilesystem(root);
+    return new TestCellBuilder()
+        .setFilesystem(filesystem)
+        .setBuckConfig(FakeBuckConfig.builder().setFilesystem(filesystem).build())
+        .build();
+  }
+
+  private static Path buildFile(Cell cell, String basePath) {
+    return cell.getRoot().resolve(basePath).resolve("BUCK");
+  }
+
+  /**
+   * Hands out parsers which, rather than running buck.py, return the contents of the cell's DEFS
+   * file if there is one, cached the first time they read it as buck.py caches its includes.
+   */
+  private static class FakeParserPool extends ProjectBuildFileParserPool {
+    private final List<FakeParser> parsers = new ArrayList<>();
+    private boolean failNextParse;
+    private boolean closeDuringNextParse;
+    private boolean invalidateDuringNextParse;
+
+    public FakeParserPool(int maxParsers) {
+      super(
+          maxParsers,
+          new ConstructorArgMarshaller(new DefaultTypeCoercerFactory()),
+          /* enableProfiling */ false);
+    }
+
+    @Override
+    ProjectBuildFileParser createParser(Cell cell, BuckEventBus eventBus) {
+      FakeParser parser = new FakeParser(this, cell, eventBus);
+      parsers.add(parser);
+      return parser;
+    }
+  }
+
+  private static class FakeParser extends ProjectBuildFileParser {
+    private final FakeParserPool pool;
+    private final Path include;
+    private int parses;
+    private boolean closed;
+    @Nullable
+    private String includeContents;
+
+    public FakeParser(FakeParserPool pool, Cell cell, BuckEventBus eventBus) {
+      super(
+          ProjectBuildFileParserOptions.builder()
+              .setProjectRoot(cell.getRoot())
+              .setPythonInterpreter("python")
+              .setAllowEmptyGlobs(ParserConfig.DEFAULT_ALLOW_EMPTY_GLOBS)
+              .setBuildFileName(ParserConfig.DEFAULT_BUILD_FILE_NAME)
+              .setDefaultIncludes(ImmutableList.<String>of())
+              .setDescriptions(ImmutableSet.<Description<?>>of())
+              .build(),
+          new ConstructorArgMarshaller(new DefaultTypeCoercerFactory()),
+          ImmutableMap.<String, String>of(),
+          ImmutableMap.<String, ImmutableMap<String, String>>of(),
+          eventBus,
+          new ProcessExecutor(new TestConsole()));
+      this.pool = pool;
+      this.include = cell.getRoot().resolve("DEFS");
+    }
+
+    @Override
+    public List<Map<String, Object>> getAllRulesAndMetaRules(Path buildFile) {
+      parses++;
+      if (pool.invalidateDuringNextParse) {
+        pool.invalidateDuringNextParse = false;
+        pool.invalidate();
+      }
+      if (pool.closeDuringNextParse) {
+        pool.closeDuringNextParse = false;
+        pool.close();
+      }
+      if (pool.failNextParse) {
+        pool.failNextParse = false;
+        throw new IllegalStateException("buck.py died");
+      }
+      if (!Files.exists(include)) {
+        return ImmutableList.of();
+      }
+      if (includeContents == null) {
+        try {
+          includeContents = new String(Files.readAllBytes(include), UTF_8);
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+      return ImmutableList.<Map<String, Object>>of(
+          ImmutableMap.<String, Object>of("include", includeContents));
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
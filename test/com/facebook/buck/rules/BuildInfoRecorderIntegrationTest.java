@@ -52,7 +52,8 @@ public class BuildInfoRecorderIntegrationTest {
             public void createZip(
                 Collection<Path> pathsToIncludeInZip,
                 Path out,
-                ImmutableMap<Path, String> additionalFileContents) throws IOException {
+                ImmutableMap<Path, String> additionalFileContents,
+                int compressionLevel) throws IOException {
               // For this test, nothing really cares about the content, so just write out the name.
               writeBytesToPath(out.toString().getBytes(), out);
             }
@@ -63,7 +64,12 @@ public class BuildInfoRecorderIntegrationTest {
         ImmutableSet.of(new RuleKey(RULE_KEY)),
         artifactCache,
         new BuckEventBus(new DefaultClock(), new BuildId()));
-    assertTrue(cacheDir.getRootPath().resolve(Paths.get(RULE_KEY)).toFile().exists());
+    // Entries are sharded by the first two characters of their key.
+    assertTrue(
+        cacheDir.getRootPath()
+            .resolve(Paths.get(RULE_KEY.substring(0, 2), RULE_KEY))
+            .toFile()
+            .exists());
   }
 
   private static BuildInfoRecorder createBuildInfoRecorder(ProjectFilesystem filesystem) {
@@ -24,6 +24,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCodec;
 import com.facebook.buck.artifact_cache.NoopArtifactCache;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.MorePathsForTests;
@@ -39,11 +40,13 @@ import com.facebook.buck.timing.DefaultClock;
 import com.facebook.buck.timing.FakeClock;
 import com.facebook.buck.util.cache.DefaultFileHashCache;
 import com.facebook.buck.util.cache.FileHashCache;
+import com.google.common.base.Optional;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
+import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 
@@ -54,9 +57,13 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 public class BuildInfoRecorderTest {
 
@@ -121,6 +128,27 @@ public class BuildInfoRecorderTest {
     assertTrue(onDiskBuildInfo.getValue(BuildInfo.METADATA_KEY_FOR_ADDITIONAL_INFO).isPresent());
   }
 
+  @Test
+  public void testWriteMetadataToDiskReplacesLinkedFiles() throws IOException {
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot().toPath());
+    Path metadataDirectory = BuildInfo.getPathToMetadataDirectory(BUILD_TARGET);
+    filesystem.mkdirs(metadataDirectory);
+    Path cachedCopy = tmp.newFile("cached").toPath();
+    Files.write(cachedCopy, "cached".getBytes(StandardCharsets.UTF_8));
+    // As restored from a cache which keeps artifacts unzipped.
+    Files.createLink(filesystem.resolve(metadataDirectory.resolve("key1")), cachedCopy);
+
+    BuildInfoRecorder buildInfoRecorder = createBuildInfoRecorder(filesystem);
+    buildInfoRecorder.addMetadata("key1", "value1");
+    buildInfoRecorder.writeMetadataToDisk(/* clearExistingMetadata */ false);
+
+    OnDiskBuildInfo onDiskBuildInfo = new DefaultOnDiskBuildInfo(BUILD_TARGET, filesystem);
+    assertOnDiskBuildInfoHasMetadata(onDiskBuildInfo, "key1", "value1");
+    assertEquals(
+        "cached",
+        new String(Files.readAllBytes(cachedCopy), StandardCharsets.UTF_8));
+  }
+
   @Test
   public void testCannotRecordArtifactWithAbsolutePath() {
     Path absPath = MorePathsForTests.rootRelativePath("some/absolute/path.txt");
@@ -214,6 +242,54 @@ public class BuildInfoRecorderTest {
     assertTrue(stored.get());
   }
 
+  @Test
+  public void testPerformUploadToArtifactCacheWithStoreCodec()
+      throws IOException, InterruptedException {
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildInfoRecorder buildInfoRecorder = createBuildInfoRecorder(filesystem);
+    BuckEventBus bus = new BuckEventBus(new FakeClock(0), new BuildId("BUILD"));
+
+    final byte[] contents = "contents".getBytes();
+    Path file = Paths.get("file");
+    filesystem.writeBytesToPath(contents, file);
+    buildInfoRecorder.recordArtifact(file);
+
+    final AtomicBoolean stored = new AtomicBoolean(false);
+    final ArtifactCache cache =
+        new NoopArtifactCache() {
+          @Override
+          public boolean isStoreSupported() {
+            return true;
+          }
+          @Override
+          public ListenableFuture<Void> store(
+              ImmutableSet<RuleKey> ruleKeys,
+              ImmutableMap<String, String> metadata,
+              Path output) {
+            stored.set(true);
+            assertEquals(
+                Optional.of(ArtifactCodec.STORE),
+                ArtifactCodec.fromMetadata(metadata));
+            try (ZipFile zip = new ZipFile(output.toFile())) {
+              ZipEntry entry = zip.getEntry("file");
+              assertEquals(ZipEntry.STORED, entry.getMethod());
+              assertArrayEquals(contents, ByteStreams.toByteArray(zip.getInputStream(entry)));
+            } catch (IOException e) {
+              throw Throwables.propagate(e);
+            }
+            return Futures.immediateFuture(null);
+          }
+        };
+
+    buildInfoRecorder.performUploadToArtifactCache(
+        ImmutableSet.of(new RuleKey("aa")),
+        cache,
+        bus,
+        ArtifactCodec.STORE,
+        ArtifactCodec.DEFAULT_DEFLATE_LEVEL);
+    assertTrue(stored.get());
+  }
+
   @Test
   public void testGetOutputSize() throws IOException {
     FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
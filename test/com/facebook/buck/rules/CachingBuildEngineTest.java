@@ -25,14 +25,17 @@ import static org.easymock.EasyMock.isA;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
 import com.facebook.buck.artifact_cache.InMemoryArtifactCache;
 import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.artifact_cache.MultiFetches;
 import com.facebook.buck.artifact_cache.NoopArtifactCache;
 import com.facebook.buck.cli.BuildTargetNodeToBuildRuleTransformer;
 import com.facebook.buck.cli.CommandEvent;
@@ -80,12 +83,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Functions;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -102,15 +107,22 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -205,10 +217,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     // Add a build step so we can verify that the steps are executed.
@@ -318,10 +327,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             service,
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
     ListenableFuture<BuildResult> buildResult = cachingBuildEngine.build(buildContext, buildRule);
 
@@ -440,10 +446,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
     ListenableFuture<BuildResult> buildResult = cachingBuildEngine.build(buildContext, buildRule);
     buckEventBus.post(
@@ -527,10 +530,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
     ListenableFuture<BuildResult> buildResult = cachingBuildEngine.build(buildContext, buildRule);
     buckEventBus.post(
@@ -589,10 +589,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     // Run the build.
@@ -696,10 +693,9 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.DEEP,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder()
+                .setBuildMode(CachingBuildEngine.BuildMode.DEEP)
+                .build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     // Run the build.
@@ -841,10 +837,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     // Run the build.
@@ -992,10 +985,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     // Run the build.
@@ -1038,10 +1028,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     BuildResult result = cachingBuildEngine.build(buildContext, rule).get();
@@ -1092,10 +1079,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -1185,10 +1169,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -1291,10 +1272,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -1391,10 +1369,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -1493,10 +1468,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -1616,10 +1588,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -1719,10 +1688,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -1796,10 +1762,9 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.CACHE,
-            256L,
+            CachingBuildEngineOptions.builder()
+                .setDepFiles(CachingBuildEngine.DepFiles.CACHE)
+                .build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -1908,10 +1873,9 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.CACHE,
-            256L,
+            CachingBuildEngineOptions.builder()
+                .setDepFiles(CachingBuildEngine.DepFiles.CACHE)
+                .build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -1972,6 +1936,192 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         equalTo(CacheResultType.HIT));
   }
 
+  @Test
+  public void manifestIsStoredAgainWhenLocalCopyIsCurrent() throws Exception {
+    final ProjectFilesystem filesystem = new FakeProjectFilesystem(tmp.getRoot());
+    DefaultFileHashCache fileHashCache = new DefaultFileHashCache(filesystem);
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer());
+    SourcePathResolver pathResolver = new SourcePathResolver(resolver);
+    RuleKeyBuilderFactory factory = new DefaultRuleKeyBuilderFactory(fileHashCache, pathResolver);
+    DefaultDependencyFileRuleKeyBuilderFactory depFilefactory =
+        new DefaultDependencyFileRuleKeyBuilderFactory(
+            fileHashCache,
+            pathResolver,
+            NOOP_RULE_KEY_FACTORY);
+
+    // Use a genrule to produce the input file.
+    final Genrule genrule =
+        (Genrule) GenruleBuilder.newGenruleBuilder(BuildTargetFactory.newInstance("//:dep"))
+            .setOut("input")
+            .build(resolver, filesystem);
+    final Path input = Preconditions.checkNotNull(genrule.getPathToOutput());
+    filesystem.writeContentsToPath("contents", input);
+
+    // Create a simple rule which just writes a file.
+    BuildTarget target = BuildTargetFactory.newInstance("//:rule");
+    BuildRuleParams params =
+        new FakeBuildRuleParamsBuilder(target)
+            .setProjectFilesystem(filesystem)
+            .build();
+    final Path output = Paths.get("output");
+    BuildRule rule =
+        new DepFileBuildRule(params, pathResolver) {
+          @AddToRuleKey
+          private final SourcePath path = new BuildTargetSourcePath(genrule.getBuildTarget());
+          @Override
+          public ImmutableList<Step> getBuildSteps(
+              BuildContext context,
+              BuildableContext buildableContext) {
+            return ImmutableList.<Step>of(
+                new WriteFileStep(filesystem, "", output, /* executable */ false));
+          }
+          @Override
+          public ImmutableList<SourcePath> getInputsAfterBuildingLocally() {
+            return ImmutableList.<SourcePath>of(new PathSourcePath(filesystem, input));
+          }
+          @Override
+          public Path getPathToOutput() {
+            return output;
+          }
+        };
+
+    // Build the rule locally twice, each time with an empty cache, as if the cache had evicted
+    // everything in between.  The second build finds the local manifest already up to date.
+    InMemoryArtifactCache cache = null;
+    for (int i = 0; i < 2; i++) {
+      cache = new InMemoryArtifactCache();
+      BuildContext buildContext =
+          FakeBuildContext.newBuilder()
+              .setArtifactCache(cache)
+              .setJavaPackageFinder(new FakeJavaPackageFinder())
+              .setActionGraph(new ActionGraph(ImmutableList.<BuildRule>of()))
+              .build();
+      CachingBuildEngine cachingBuildEngine =
+          new CachingBuildEngine(
+              MoreExecutors.newDirectExecutorService(),
+              fileHashCache,
+              CachingBuildEngineOptions.builder()
+                  .setDepFiles(CachingBuildEngine.DepFiles.CACHE)
+                  .build(),
+              pathResolver,
+              Functions.constant(
+                  new CachingBuildEngine.RuleKeyFactories(
+                      factory,
+                      factory,
+                      factory,
+                      depFilefactory)));
+      filesystem.deleteRecursivelyIfExists(BuildInfo.getPathToMetadataDirectory(target));
+      BuildResult result = cachingBuildEngine.build(buildContext, rule).get();
+      assertThat(
+          getSuccess(result),
+          equalTo(BuildRuleSuccessType.BUILT_LOCALLY));
+      assertThat(
+          cache.fetch(
+              cachingBuildEngine.getManifestRuleKey(rule),
+              LazyPath.ofInstance(tmp.newFile("manifest" + i).toPath())).getType(),
+          equalTo(CacheResultType.HIT));
+    }
+  }
+
+  @Test
+  public void leastRecentlyUsedLocalManifestsAreDeleted() throws Exception {
+    final ProjectFilesystem filesystem = new FakeProjectFilesystem(tmp.getRoot());
+    DefaultFileHashCache fileHashCache = new DefaultFileHashCache(filesystem);
+    InMemoryArtifactCache cache = new InMemoryArtifactCache();
+    BuildContext buildContext =
+        FakeBuildContext.newBuilder()
+            .setArtifactCache(cache)
+            .setJavaPackageFinder(new FakeJavaPackageFinder())
+            .setActionGraph(new ActionGraph(ImmutableList.<BuildRule>of()))
+            .build();
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer());
+    SourcePathResolver pathResolver = new SourcePathResolver(resolver);
+    RuleKeyBuilderFactory factory = new DefaultRuleKeyBuilderFactory(fileHashCache, pathResolver);
+    DefaultDependencyFileRuleKeyBuilderFactory depFilefactory =
+        new DefaultDependencyFileRuleKeyBuilderFactory(
+            fileHashCache,
+            pathResolver,
+            NOOP_RULE_KEY_FACTORY);
+
+    // Use a genrule to produce the input file.
+    final Genrule genrule =
+        (Genrule) GenruleBuilder.newGenruleBuilder(BuildTargetFactory.newInstance("//:dep"))
+            .setOut("input")
+            .build(resolver, filesystem);
+    final Path input = Preconditions.checkNotNull(genrule.getPathToOutput());
+    filesystem.writeContentsToPath("contents", input);
+
+    // Create a simple rule which just writes a file.
+    BuildTarget target = BuildTargetFactory.newInstance("//:rule");
+    BuildRuleParams params =
+        new FakeBuildRuleParamsBuilder(target)
+            .setProjectFilesystem(filesystem)
+            .build();
+    final Path output = Paths.get("output");
+    BuildRule rule =
+        new DepFileBuildRule(params, pathResolver) {
+          @AddToRuleKey
+          private final SourcePath path = new BuildTargetSourcePath(genrule.getBuildTarget());
+          @Override
+          public ImmutableList<Step> getBuildSteps(
+              BuildContext context,
+              BuildableContext buildableContext) {
+            return ImmutableList.<Step>of(
+                new WriteFileStep(filesystem, "", output, /* executable */ false));
+          }
+          @Override
+          public ImmutableList<SourcePath> getInputsAfterBuildingLocally() {
+            return ImmutableList.<SourcePath>of(new PathSourcePath(filesystem, input));
+          }
+          @Override
+          public Path getPathToOutput() {
+            return output;
+          }
+        };
+
+    // Create the build engine.
+    CachingBuildEngine cachingBuildEngine =
+        new CachingBuildEngine(
+            MoreExecutors.newDirectExecutorService(),
+            fileHashCache,
+            CachingBuildEngineOptions.builder()
+                .setDepFiles(CachingBuildEngine.DepFiles.CACHE)
+                .build(),
+            pathResolver,
+            Functions.constant(
+                new CachingBuildEngine.RuleKeyFactories(
+                    factory,
+                    factory,
+                    factory,
+                    depFilefactory)));
+
+    // Fill the shard the rule's manifest goes in with manifests of other keys, the first one
+    // used longest ago, and all of them before the build.
+    Path manifestPath =
+        cachingBuildEngine.getManifestPath(cachingBuildEngine.getManifestRuleKey(rule));
+    Path shard = manifestPath.getParent();
+    filesystem.mkdirs(shard);
+    for (int i = 0; i < BuildInfo.MAX_MANIFESTS_PER_SHARD; i++) {
+      Path other = shard.resolve(shard.getFileName() + String.format("%038d", i));
+      filesystem.writeContentsToPath("", other);
+      filesystem.setLastModifiedTime(other, FileTime.fromMillis(i - 1000));
+    }
+
+    BuildResult result = cachingBuildEngine.build(buildContext, rule).get();
+    assertThat(
+        getSuccess(result),
+        equalTo(BuildRuleSuccessType.BUILT_LOCALLY));
+
+    assertThat(
+        filesystem.getDirectoryContents(shard).size(),
+        equalTo(BuildInfo.MAX_MANIFESTS_PER_SHARD));
+    assertTrue(filesystem.exists(manifestPath));
+    assertFalse(filesystem.exists(shard.resolve(shard.getFileName() + String.format("%038d", 0))));
+    assertTrue(filesystem.exists(shard.resolve(shard.getFileName() + String.format("%038d", 1))));
+  }
+
   @Test
   public void manifestIsTruncatedWhenGrowingPastSizeLimit() throws Exception {
     final ProjectFilesystem filesystem = new FakeProjectFilesystem(tmp.getRoot());
@@ -2034,10 +2184,10 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.CACHE,
-            1L,
+            CachingBuildEngineOptions.builder()
+                .setDepFiles(CachingBuildEngine.DepFiles.CACHE)
+                .setMaxDepFileCacheEntries(1L)
+                .build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -2149,10 +2299,9 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.CACHE,
-            256L,
+            CachingBuildEngineOptions.builder()
+                .setDepFiles(CachingBuildEngine.DepFiles.CACHE)
+                .build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -2199,6 +2348,116 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         equalTo(BuildRuleSuccessType.FETCHED_FROM_CACHE_MANIFEST_BASED));
   }
 
+  @Test
+  public void manifestBasedCacheHitFromLocalManifest() throws Exception {
+    final ProjectFilesystem filesystem = new FakeProjectFilesystem(tmp.getRoot());
+    DefaultFileHashCache fileHashCache = new DefaultFileHashCache(filesystem);
+    InMemoryArtifactCache cache = new InMemoryArtifactCache();
+    BuildContext buildContext =
+        FakeBuildContext.newBuilder()
+            .setArtifactCache(cache)
+            .setJavaPackageFinder(new FakeJavaPackageFinder())
+            .setActionGraph(new ActionGraph(ImmutableList.<BuildRule>of()))
+            .build();
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer());
+    SourcePathResolver pathResolver = new SourcePathResolver(resolver);
+    RuleKeyBuilderFactory factory = new DefaultRuleKeyBuilderFactory(fileHashCache, pathResolver);
+    DefaultDependencyFileRuleKeyBuilderFactory depFilefactory =
+        new DefaultDependencyFileRuleKeyBuilderFactory(
+            fileHashCache,
+            pathResolver,
+            NOOP_RULE_KEY_FACTORY);
+
+    // Prepare an input file that should appear in the dep file.
+    final Genrule genrule =
+        (Genrule) GenruleBuilder.newGenruleBuilder(BuildTargetFactory.newInstance("//:dep"))
+            .setOut("input")
+            .build(resolver, filesystem);
+    final Path input = Preconditions.checkNotNull(genrule.getPathToOutput());
+    filesystem.writeContentsToPath("contents", input);
+
+    // Create a simple rule which just writes a file.
+    BuildTarget target = BuildTargetFactory.newInstance("//:rule");
+    BuildRuleParams params =
+        new FakeBuildRuleParamsBuilder(target)
+            .setProjectFilesystem(filesystem)
+            .build();
+    final Path output = Paths.get("output");
+    BuildRule rule =
+        new DepFileBuildRule(params, pathResolver) {
+          @AddToRuleKey
+          private final SourcePath path = new BuildTargetSourcePath(genrule.getBuildTarget());
+          @Override
+          public ImmutableList<Step> getBuildSteps(
+              BuildContext context,
+              BuildableContext buildableContext) {
+            return ImmutableList.<Step>of(
+                new WriteFileStep(filesystem, "", output, /* executable */ false));
+          }
+          @Override
+          public ImmutableList<SourcePath> getInputsAfterBuildingLocally() {
+            return ImmutableList.<SourcePath>of(new PathSourcePath(filesystem, input));
+          }
+          @Override
+          public Path getPathToOutput() {
+            return output;
+          }
+        };
+
+    // Create the build engine.
+    CachingBuildEngine cachingBuildEngine =
+        new CachingBuildEngine(
+            MoreExecutors.newDirectExecutorService(),
+            fileHashCache,
+            CachingBuildEngineOptions.builder()
+                .setDepFiles(CachingBuildEngine.DepFiles.CACHE)
+                .build(),
+            pathResolver,
+            Functions.constant(
+                new CachingBuildEngine.RuleKeyFactories(
+                    factory,
+                    factory,
+                    factory,
+                    depFilefactory)));
+
+    // Keep the manifest locally, so that only the artifact is in the cache.
+    RuleKey artifactKey = new RuleKey("bbbb");
+    Manifest manifest = new Manifest();
+    manifest.addEntry(
+        fileHashCache,
+        artifactKey,
+        pathResolver,
+        ImmutableSet.<SourcePath>of(new PathSourcePath(filesystem, input)),
+        ImmutableSet.<SourcePath>of(new PathSourcePath(filesystem, input)));
+    Path manifestPath =
+        cachingBuildEngine.getManifestPath(cachingBuildEngine.getManifestRuleKey(rule));
+    filesystem.createParentDirs(manifestPath);
+    try (OutputStream outputStream = filesystem.newFileOutputStream(manifestPath)) {
+      manifest.serialize(outputStream);
+    }
+    Path artifact = tmp.newFile("artifact.zip").toPath();
+    writeEntriesToZip(
+        artifact,
+        ImmutableMap.of(
+            BuildInfo.getPathToMetadataDirectory(target)
+                .resolve(BuildInfo.METADATA_KEY_FOR_RECORDED_PATHS).toString(),
+            new ObjectMapper().writeValueAsString(ImmutableList.of(output.toString())),
+            output.toString(),
+            "stuff"));
+    cache.store(
+        ImmutableSet.of(artifactKey),
+        ImmutableMap.<String, String>of(),
+        artifact);
+
+    // Run the build.
+    BuildResult result = cachingBuildEngine.build(buildContext, rule).get();
+    assertThat(
+        getSuccess(result),
+        equalTo(BuildRuleSuccessType.FETCHED_FROM_CACHE_MANIFEST_BASED));
+    assertFalse(cache.hasArtifact(cachingBuildEngine.getManifestRuleKey(rule)));
+  }
+
   @Test
   public void buildingRuleLocallyInvalidatesOutputs() throws Exception {
     ProjectFilesystem filesystem = new FakeProjectFilesystem(tmp.getRoot());
@@ -2235,10 +2494,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     // Run the build.
@@ -2322,10 +2578,9 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             service,
             fileHashCache,
-            CachingBuildEngine.BuildMode.DEEP,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder()
+                .setBuildMode(CachingBuildEngine.BuildMode.DEEP)
+                .build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     // Run the build.
@@ -2427,10 +2682,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             service,
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     // Run the build.
@@ -2484,10 +2736,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -2549,10 +2798,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -2606,10 +2852,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             fileHashCache,
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             pathResolver,
             Functions.constant(
                 new CachingBuildEngine.RuleKeyFactories(
@@ -2637,6 +2880,107 @@ public class CachingBuildEngineTest extends EasyMockSupport {
     assertEquals(BuildRuleSuccessType.BUILT_LOCALLY, result.getSuccess());
   }
 
+  @Test
+  public void memoizedFuturesAreComputedOnceWhenRequestedConcurrently() throws Exception {
+    final ConcurrentMap<BuildTarget, ListenableFuture<String>> futures = Maps.newConcurrentMap();
+    final BuildTarget target = BuildTargetFactory.newInstance("//:rule");
+    final AtomicLong races = new AtomicLong();
+    final AtomicInteger computations = new AtomicInteger();
+    final Supplier<ListenableFuture<String>> compute =
+        new Supplier<ListenableFuture<String>>() {
+          @Override
+          public ListenableFuture<String> get() {
+            computations.incrementAndGet();
+            return Futures.immediateFuture("value");
+          }
+        };
+
+    int threads = 8;
+    final CyclicBarrier barrier = new CyclicBarrier(threads);
+    ListeningExecutorService service = listeningDecorator(Executors.newFixedThreadPool(threads));
+    List<ListenableFuture<ListenableFuture<String>>> results = Lists.newArrayList();
+    for (int i = 0; i < threads; i++) {
+      results.add(
+          service.submit(
+              new Callable<ListenableFuture<String>>() {
+                @Override
+                public ListenableFuture<String> call() throws Exception {
+                  barrier.await();
+                  return CachingBuildEngine.getOrCompute(futures, target, races, compute);
+                }
+              }));
+    }
+    for (ListenableFuture<ListenableFuture<String>> result : results) {
+      assertEquals("value", result.get().get());
+    }
+    service.shutdown();
+
+    assertEquals(1, computations.get());
+    assertThat(races.get(), Matchers.lessThan((long) threads));
+  }
+
+  @Test
+  public void memoizedFutureFailsWhenComputingItThrows() throws Exception {
+    ConcurrentMap<BuildTarget, ListenableFuture<String>> futures = Maps.newConcurrentMap();
+    ListenableFuture<String> future =
+        CachingBuildEngine.getOrCompute(
+            futures,
+            BuildTargetFactory.newInstance("//:rule"),
+            new AtomicLong(),
+            new Supplier<ListenableFuture<String>>() {
+              @Override
+              public ListenableFuture<String> get() {
+                throw new IllegalStateException("failed");
+              }
+            });
+    try {
+      future.get();
+      fail("Expected the future to fail.");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), Matchers.instanceOf(IllegalStateException.class));
+    }
+  }
+
+  @Test
+  public void criticalPathsAreEstimatedFromRecordedDurations() throws Exception {
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer());
+    SourcePathResolver pathResolver = new SourcePathResolver(resolver);
+    FakeBuildRule leaf = new FakeBuildRule("//:leaf", pathResolver);
+    FakeBuildRule slow = new FakeBuildRule("//:slow", pathResolver, leaf);
+    FakeBuildRule fast = new FakeBuildRule("//:fast", pathResolver);
+    FakeBuildRule top = new FakeBuildRule("//:top", pathResolver, slow, fast);
+
+    RuleDurations ruleDurations = RuleDurations.empty();
+    ruleDurations.record(leaf.getBuildTarget(), 20);
+    ruleDurations.record(slow.getBuildTarget(), 100);
+    ruleDurations.record(fast.getBuildTarget(), 1);
+    ruleDurations.record(top.getBuildTarget(), 5);
+
+    CachingBuildEngine cachingBuildEngine =
+        new CachingBuildEngine(
+            MoreExecutors.newDirectExecutorService(),
+            new NullFileHashCache(),
+            CachingBuildEngineOptions.builder()
+                .setDependencySchedulingOrder(
+                    CachingBuildEngine.DependencySchedulingOrder.CRITICAL_PATH)
+                .setRuleDurations(ruleDurations)
+                .build(),
+            resolver);
+
+    // The chains of deps under each rule.
+    assertEquals(120L, cachingBuildEngine.getDepChainMillis(slow));
+    assertEquals(1L, cachingBuildEngine.getDepChainMillis(fast));
+    assertEquals(125L, cachingBuildEngine.getDepChainMillis(top));
+
+    // The chains of rules waiting on each rule.
+    cachingBuildEngine.estimateRemainingMillis(top);
+    assertEquals(Optional.of(125L), cachingBuildEngine.getRemainingMillis(leaf.getBuildTarget()));
+    assertEquals(Optional.of(105L), cachingBuildEngine.getRemainingMillis(slow.getBuildTarget()));
+    assertEquals(Optional.of(6L), cachingBuildEngine.getRemainingMillis(fast.getBuildTarget()));
+    assertEquals(Optional.of(5L), cachingBuildEngine.getRemainingMillis(top.getBuildTarget()));
+  }
+
   @Test
   public void getNumRulesToBuild() throws Exception {
     BuildRuleResolver resolver =
@@ -2665,10 +3009,7 @@ public class CachingBuildEngineTest extends EasyMockSupport {
         new CachingBuildEngine(
             MoreExecutors.newDirectExecutorService(),
             new NullFileHashCache(),
-            CachingBuildEngine.BuildMode.SHALLOW,
-            CachingBuildEngine.DependencySchedulingOrder.RANDOM,
-            CachingBuildEngine.DepFiles.ENABLED,
-            256L,
+            CachingBuildEngineOptions.builder().build(),
             new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
 
     assertThat(
@@ -2821,6 +3162,12 @@ public class CachingBuildEngineTest extends EasyMockSupport {
       return CacheResult.hit("dir");
     }
 
+    @Override
+    public ImmutableMap<RuleKey, CacheResult> multiFetch(ImmutableMap<RuleKey, LazyPath> outputs)
+        throws InterruptedException {
+      return MultiFetches.fetchSequentially(this, outputs);
+    }
+
     @Override
     public ListenableFuture<Void> store(
         ImmutableSet<RuleKey> ruleKeys,
@@ -2829,6 +3176,11 @@ public class CachingBuildEngineTest extends EasyMockSupport {
       throw new UnsupportedOperationException();
     }
 
+    @Override
+    public boolean isMultiFetchBatched() {
+      throw new UnsupportedOperationException();
+    }
+
     @Override
     public boolean isStoreSupported() {
       throw new UnsupportedOperationException();
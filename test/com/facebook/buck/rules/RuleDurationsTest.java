@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class RuleDurationsTest {
+
+  private static final BuildTarget TARGET = BuildTargetFactory.newInstance("//app:dex_merge");
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ObjectMapper objectMapper;
+  private Path path;
+
+  @Before
+  public void setUp() {
+    objectMapper = new ObjectMapper();
+    path = tmp.getRoot().resolve(RuleDurations.PATH);
+  }
+
+  @Test
+  public void durationsSurviveSavingAndLoading() throws Exception {
+    RuleDurations durations = RuleDurations.load(objectMapper, path);
+    assertEquals(0, durations.size());
+    durations.record(TARGET, 1200);
+    durations.save(objectMapper, path);
+
+    RuleDurations loaded = RuleDurations.load(objectMapper, path);
+    assertEquals(Optional.of(1200L), loaded.getMillis(TARGET));
+    assertEquals(
+        Optional.<Long>absent(),
+        loaded.getMillis(BuildTargetFactory.newInstance("//app:other")));
+  }
+
+  @Test
+  public void recordedDurationsAreAveragedWithEarlierOnes() {
+    RuleDurations durations = RuleDurations.empty();
+    durations.record(TARGET, 1000);
+    durations.record(TARGET, 2000);
+    assertEquals(Optional.of(1500L), durations.getMillis(TARGET));
+  }
+
+  @Test
+  public void nothingIsWrittenIfNothingWasRecorded() throws Exception {
+    RuleDurations.empty().save(objectMapper, path);
+    assertFalse(Files.exists(path));
+  }
+
+  @Test
+  public void savedFileHasTheFormatOfSimulateTimesFiles() throws Exception {
+    RuleDurations durations = RuleDurations.empty();
+    durations.record(TARGET, 42);
+    durations.save(objectMapper, path);
+    assertEquals(
+        "{\"build_targets\":{\"//app:dex_merge\":{\"local\":42}}}",
+        new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void unreadableFileIsIgnored() throws Exception {
+    Files.createDirectories(path.getParent());
+    Files.write(path, "not json".getBytes(StandardCharsets.UTF_8));
+    assertEquals(0, RuleDurations.load(objectMapper, path).size());
+  }
+}
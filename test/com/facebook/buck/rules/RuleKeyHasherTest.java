@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.log.Logger;
+import com.google.common.base.Charsets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+public class RuleKeyHasherTest {
+
+  private static final RuleKey RULE_KEY = new RuleKey("19d2558a6bd3a34fb3f95412de9da27ed32fe208");
+  private static final HashCode FILE_HASH =
+      HashCode.fromString("a002b39af204cdfaa5fdb67816b13867c32ac52c");
+
+  @Test
+  public void encodesStringsAsUtf8() {
+    for (String val : Arrays.asList(
+        "",
+        "//src/com/example:lib",
+        "caf\u00e9",
+        "\u20ac100",
+        "\ud83d\ude00 emoji",
+        "unpaired \ud83d high",
+        "unpaired \ude00 low",
+        "trailing \ud83d")) {
+      byte[] buffer = new byte[val.length() * 3];
+      int length = RuleKeyHasher.encodeUtf8(val, buffer);
+      assertEquals(
+          val,
+          Arrays.toString(val.getBytes(Charsets.UTF_8)),
+          Arrays.toString(Arrays.copyOf(buffer, length)));
+    }
+  }
+
+  @Test
+  public void hashesValuesAsTheirBytesFollowedBySeparators() {
+    assertEquals(
+        hashExpectedBytes(),
+        putValues(new RuleKeyHasher(Hashing.sha1().newHasher())).build());
+  }
+
+  @Test
+  public void loggingDoesNotChangeTheKey() {
+    assertEquals(
+        hashExpectedBytes(),
+        putValues(
+            new LoggingRuleKeyHasher(
+                Hashing.sha1().newHasher(),
+                Logger.get(RuleKeyHasherTest.class)))
+            .build());
+  }
+
+  private static RuleKeyHasher putValues(RuleKeyHasher hasher) {
+    return hasher
+        .putKey("name")
+        .putString("caf\u00e9")
+        .putBoolean(true)
+        .putRuleKey(RULE_KEY)
+        .putPath(Paths.get("foo/bar.txt"), FILE_HASH)
+        .putNumber(42);
+  }
+
+  private static RuleKey hashExpectedBytes() {
+    Hasher hasher = Hashing.sha1().newHasher();
+    for (String val : Arrays.asList(
+        "name",
+        "caf\u00e9",
+        "t",
+        RULE_KEY.toString(),
+        "foo/bar.txt",
+        FILE_HASH.toString())) {
+      hasher.putBytes(val.getBytes(Charsets.UTF_8));
+      hasher.putByte(RuleKeyBuilder.SEPARATOR);
+    }
+    hasher.putInt(42);
+    return new RuleKey(hasher.hash());
+  }
+}
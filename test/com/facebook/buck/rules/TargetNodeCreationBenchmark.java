@@ -0,0 +1,196 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static com.facebook.buck.rules.TestCellBuilder.createCellRoots;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.jvm.java.JavaCompilationConstants;
+import com.facebook.buck.jvm.java.JavaLibraryDescription;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.model.BuildTargetPattern;
+import com.facebook.buck.model.InMemoryBuildFileTree;
+import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Param;
+import com.google.caliper.api.Macrobenchmark;
+import com.google.common.base.Function;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures how quickly the raw rules buck.py returns for a repo full of java libraries are turned
+ * into {@link TargetNode}s, as the parser does on each of its threads.
+ */
+public class TargetNodeCreationBenchmark {
+
+  private static final String SHARED_DEP = "//third-party/java/guava:guava";
+
+  @Param({"1000", "10000"})
+  private int targetCount = 100;
+
+  @Param({"1", "4"})
+  private int threadCount = 1;
+
+  private FakeProjectFilesystem filesystem;
+  private Function<Optional<String>, Path> cellRoots;
+  private InMemoryBuildFileTree buildFileTree;
+  private DefaultTypeCoercerFactory typeCoercerFactory;
+  private ConstructorArgMarshaller marshaller;
+  private JavaLibraryDescription description;
+  private List<BuildTarget> targets;
+  private List<Map<String, Object>> rawNodes;
+  private ExecutorService executorService;
+
+  @Before
+  public void setUpTest() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    filesystem = new FakeProjectFilesystem();
+    cellRoots = createCellRoots(filesystem);
+    buildFileTree = new InMemoryBuildFileTree(ImmutableList.<BuildTarget>of());
+    typeCoercerFactory = new DefaultTypeCoercerFactory();
+    marshaller = new ConstructorArgMarshaller(typeCoercerFactory);
+    description = new JavaLibraryDescription(JavaCompilationConstants.DEFAULT_JAVAC_OPTIONS);
+    executorService = Executors.newFixedThreadPool(threadCount);
+
+    targets = new ArrayList<>(targetCount);
+    rawNodes = new ArrayList<>(targetCount);
+    for (int i = 0; i < targetCount; i++) {
+      String basePath = String.format("java/com/example/module%d", i / 50);
+      targets.add(
+          BuildTargetFactory.newInstance(
+              filesystem,
+              String.format("//%s:lib%d", basePath, i)));
+      ImmutableList.Builder<String> deps = ImmutableList.<String>builder().add(SHARED_DEP);
+      if (i % 50 != 0) {
+        deps.add(String.format(":lib%d", i - 1));
+      }
+      if (i >= 50) {
+        deps.add(String.format("//java/com/example/module%d:lib%d", i / 50 - 1, i - 50));
+      }
+      rawNodes.add(
+          ImmutableMap.<String, Object>of(
+              "name", String.format("lib%d", i),
+              "srcs", ImmutableList.of(String.format("Source%d.java", i), "Common.java"),
+              "resources", ImmutableList.of("resources/strings.xml"),
+              "deps", deps.build(),
+              "visibility", ImmutableList.of("PUBLIC")));
+    }
+  }
+
+  @After
+  @AfterExperiment
+  public void cleanup() {
+    executorService.shutdown();
+  }
+
+  @Test
+  public void createTargetNodesCorrectness() throws Exception {
+    List<TargetNode<?>> nodes = createTargetNodes();
+
+    assertEquals(targetCount, nodes.size());
+    BuildTarget sharedDep = BuildTargetFactory.newInstance(filesystem, SHARED_DEP);
+    for (int i = 0; i < targetCount; i++) {
+      TargetNode<?> node = nodes.get(i);
+      assertEquals(targets.get(i), node.getBuildTarget());
+      assertTrue(node.getDeclaredDeps().contains(sharedDep));
+      int expectedDeps = 1 + (i % 50 != 0 ? 1 : 0) + (i >= 50 ? 1 : 0);
+      assertEquals(expectedDeps, node.getDeclaredDeps().size());
+    }
+  }
+
+  @Macrobenchmark
+  public List<TargetNode<?>> createTargetNodes() throws Exception {
+    List<Future<List<TargetNode<?>>>> futures = new ArrayList<>(threadCount);
+    int perThread = (targetCount + threadCount - 1) / threadCount;
+    for (int start = 0; start < targetCount; start += perThread) {
+      final int from = start;
+      final int to = Math.min(start + perThread, targetCount);
+      futures.add(
+          executorService.submit(
+              new Callable<List<TargetNode<?>>>() {
+                @Override
+                public List<TargetNode<?>> call() throws Exception {
+                  List<TargetNode<?>> nodes = new ArrayList<>(to - from);
+                  for (int i = from; i < to; i++) {
+                    nodes.add(createTargetNode(targets.get(i), rawNodes.get(i)));
+                  }
+                  return nodes;
+                }
+              }));
+    }
+    List<TargetNode<?>> nodes = new ArrayList<>(targetCount);
+    for (Future<List<TargetNode<?>>> future : futures) {
+      nodes.addAll(future.get());
+    }
+    return nodes;
+  }
+
+  private TargetNode<?> createTargetNode(BuildTarget target, Map<String, Object> rawNode)
+      throws Exception {
+    BuildRuleFactoryParams params = new BuildRuleFactoryParams(
+        filesystem,
+        target,
+        buildFileTree,
+        /* enforceBuckPackageBoundary */ false);
+    JavaLibraryDescription.Arg arg = description.createUnpopulatedConstructorArg();
+    ImmutableSet.Builder<BuildTarget> declaredDeps = ImmutableSet.builder();
+    ImmutableSet.Builder<BuildTargetPattern> visibilityPatterns = ImmutableSet.builder();
+    marshaller.populate(
+        cellRoots,
+        filesystem,
+        params,
+        arg,
+        declaredDeps,
+        visibilityPatterns,
+        rawNode);
+    return new TargetNode<>(
+        Hashing.sha1().hashString(target.getFullyQualifiedName(), UTF_8),
+        description,
+        arg,
+        typeCoercerFactory,
+        params,
+        declaredDeps.build(),
+        visibilityPatterns.build(),
+        cellRoots);
+  }
+}
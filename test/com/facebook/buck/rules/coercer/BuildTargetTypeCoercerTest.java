@@ -18,11 +18,14 @@ package com.facebook.buck.rules.coercer;
 
 import static com.facebook.buck.rules.TestCellBuilder.createCellRoots;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetFactory;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.google.common.base.Function;
+import com.google.common.base.Optional;
 
 import org.junit.Test;
 
@@ -94,6 +97,28 @@ public class BuildTargetTypeCoercerTest {
     assertEquals(expected, seen);
   }
 
+  @Test
+  public void fullyQualifiedTargetsAreSharedBetweenBuildFiles() throws CoerceFailedException {
+    BuildTargetTypeCoercer coercer = new BuildTargetTypeCoercer();
+    Function<Optional<String>, Path> cellRoots = createCellRoots(filesystem);
+
+    BuildTarget first = coercer.coerce(cellRoots, filesystem, basePath, "//foo:bar");
+    BuildTarget second = coercer.coerce(cellRoots, filesystem, Paths.get("other"), "//foo:bar");
+
+    assertSame(first, second);
+  }
+
+  @Test
+  public void shortTargetsAreResolvedAgainstEachBuildFile() throws CoerceFailedException {
+    BuildTargetTypeCoercer coercer = new BuildTargetTypeCoercer();
+    Function<Optional<String>, Path> cellRoots = createCellRoots(filesystem);
+
+    coercer.coerce(cellRoots, filesystem, basePath, ":bar");
+    BuildTarget seen = coercer.coerce(cellRoots, filesystem, Paths.get("other"), ":bar");
+
+    assertEquals(BuildTargetFactory.newInstance("//other:bar"), seen);
+  }
+
   @Test
   public void shouldCoerceAWindowsStylePathCorrectly() throws CoerceFailedException {
     // EasyMock doesn't stub out toString, equals, hashCode or finalize. An attempt to hack round
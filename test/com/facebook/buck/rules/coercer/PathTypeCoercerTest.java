@@ -22,15 +22,21 @@ import static org.junit.Assert.fail;
 
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 public class PathTypeCoercerTest {
 
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
   private ProjectFilesystem filesystem;
   private final Path pathRelativeToProjectRoot = Paths.get("");
   private final PathTypeCoercer pathTypeCoercer = new PathTypeCoercer();
@@ -72,4 +78,27 @@ public class PathTypeCoercerTest {
     }
   }
 
+  @Test
+  public void deletedPathsAreNoticedAfterBeingCoerced()
+      throws CoerceFailedException, IOException {
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot());
+    filesystem.writeContentsToPath("", Paths.get("hello"));
+    pathTypeCoercer.coerce(
+        createCellRoots(filesystem),
+        filesystem,
+        pathRelativeToProjectRoot,
+        "hello");
+
+    filesystem.deleteFileAtPath(Paths.get("hello"));
+    try {
+      pathTypeCoercer.coerce(
+          createCellRoots(filesystem),
+          filesystem,
+          pathRelativeToProjectRoot,
+          "hello");
+      fail("expected to throw");
+    } catch (CoerceFailedException e) {
+      assertEquals("no such file or directory 'hello'", e.getMessage());
+    }
+  }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.cli.BuildTargetNodeToBuildRuleTransformer;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.BuildTargetSourcePath;
+import com.facebook.buck.rules.PathSourcePath;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.TargetGraph;
+import com.facebook.buck.shell.ExportFileBuilder;
+import com.facebook.buck.shell.GenruleBuilder;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.facebook.buck.testutil.WatchEventsForTests;
+import com.facebook.buck.util.cache.FileHashCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+
+public class DaemonicRuleKeyCacheTest {
+
+  private FakeProjectFilesystem filesystem;
+  private SourcePathResolver pathResolver;
+  private DaemonicRuleKeyCache cache;
+  private BuildRule first;
+  private BuildRule second;
+  private BuildRule dependent;
+
+  @Before
+  public void setUp() throws Exception {
+    filesystem = new FakeProjectFilesystem();
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer());
+    pathResolver = new SourcePathResolver(resolver);
+    cache = new DaemonicRuleKeyCache(filesystem);
+
+    first = ExportFileBuilder.newExportFileBuilder(BuildTargetFactory.newInstance("//:first"))
+        .setSrc(new PathSourcePath(filesystem, Paths.get("first.txt")))
+        .build(resolver, filesystem);
+    second = ExportFileBuilder.newExportFileBuilder(BuildTargetFactory.newInstance("//:second"))
+        .setSrc(new PathSourcePath(filesystem, Paths.get("dir")))
+        .build(resolver, filesystem);
+    dependent = GenruleBuilder.newGenruleBuilder(BuildTargetFactory.newInstance("//:dependent"))
+        .setOut("out")
+        .setCmd("cat $SRCS > $OUT")
+        .setSrcs(ImmutableList.<SourcePath>of(new BuildTargetSourcePath(first.getBuildTarget())))
+        .build(resolver, filesystem);
+  }
+
+  @Test
+  public void keysAreKeptUntilTheirInputsChange() {
+    RuleKey firstKey = newFactory(hashes(0, 0)).build(first);
+    RuleKey secondKey = newFactory(hashes(0, 0)).build(second);
+    RuleKey dependentKey = newFactory(hashes(0, 0)).build(dependent);
+    assertEquals(3, cache.size());
+
+    // Nothing was reported as changed, so the kept keys are used even though the files now hash
+    // differently.
+    DefaultRuleKeyBuilderFactory factory = newFactory(hashes(1, 1));
+    assertEquals(firstKey, factory.build(first));
+    assertEquals(secondKey, factory.build(second));
+    assertEquals(dependentKey, factory.build(dependent));
+
+    cache.onFileSystemChange(
+        WatchEventsForTests.createPathEvent(
+            Paths.get("first.txt"),
+            StandardWatchEventKinds.ENTRY_MODIFY));
+    assertEquals(1, cache.size());
+
+    factory = newFactory(hashes(1, 1));
+    assertNotEquals(firstKey, factory.build(first));
+    assertEquals(secondKey, factory.build(second));
+    assertNotEquals(dependentKey, factory.build(dependent));
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  public void changesInsideDirectoryInputsInvalidateTheirKeys() {
+    newFactory(hashes(0, 0)).build(first);
+    newFactory(hashes(0, 0)).build(second);
+
+    cache.onFileSystemChange(
+        WatchEventsForTests.createPathEvent(
+            Paths.get("dir/new.txt"),
+            StandardWatchEventKinds.ENTRY_CREATE));
+    assertEquals(1, cache.size());
+    assertTrue(cache.get(first).isPresent());
+    assertFalse(cache.get(second).isPresent());
+  }
+
+  @Test
+  public void overflowsInvalidateEverything() {
+    newFactory(hashes(0, 0)).build(dependent);
+    assertEquals(2, cache.size());
+
+    cache.onFileSystemChange(WatchEventsForTests.createOverflowEvent());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void keysOfRulesWhichHashUnwatchedFilesAreNotKept() throws Exception {
+    // A file outside the watched cell, like that of a tool.
+    FakeProjectFilesystem elsewhere = new FakeProjectFilesystem(Paths.get("/").toFile());
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer());
+    BuildRule unwatched =
+        ExportFileBuilder.newExportFileBuilder(BuildTargetFactory.newInstance("//:unwatched"))
+            .setSrc(new PathSourcePath(elsewhere, Paths.get("usr/bin/tool")))
+            .build(resolver, filesystem);
+    BuildRule unwatchedDependent =
+        GenruleBuilder.newGenruleBuilder(BuildTargetFactory.newInstance("//:unwatched_dependent"))
+            .setOut("out")
+            .setSrcs(
+                ImmutableList.<SourcePath>of(new BuildTargetSourcePath(unwatched.getBuildTarget())))
+            .build(resolver, filesystem);
+
+    FakeFileHashCache hashCache = new FakeFileHashCache(
+        ImmutableMap.of(elsewhere.resolve("usr/bin/tool"), HashCode.fromInt(0)));
+    new DefaultRuleKeyBuilderFactory(
+        hashCache,
+        new SourcePathResolver(resolver),
+        DefaultRuleKeyBuilderFactoryOptions.builder().setDaemonicRuleKeyCache(cache).build())
+        .build(unwatchedDependent);
+
+    assertFalse(cache.get(unwatched).isPresent());
+    assertFalse(cache.get(unwatchedDependent).isPresent());
+  }
+
+  private DefaultRuleKeyBuilderFactory newFactory(FileHashCache hashCache) {
+    return new DefaultRuleKeyBuilderFactory(
+        hashCache,
+        pathResolver,
+        DefaultRuleKeyBuilderFactoryOptions.builder().setDaemonicRuleKeyCache(cache).build());
+  }
+
+  private FileHashCache hashes(int firstHash, int secondHash) {
+    Path firstPath = filesystem.resolve("first.txt");
+    Path secondPath = filesystem.resolve("dir");
+    return new FakeFileHashCache(
+        ImmutableMap.of(
+            firstPath, HashCode.fromInt(firstHash),
+            secondPath, HashCode.fromInt(secondHash)));
+  }
+}
@@ -38,6 +38,7 @@ import com.facebook.buck.step.Step;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.util.cache.FileHashCache;
 import com.facebook.buck.util.cache.NullFileHashCache;
+import com.facebook.buck.util.hash.HashFunctionType;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedSet;
 
@@ -107,7 +108,48 @@ public class DefaultRuleKeyBuilderFactoryTest {
     assertEquals(expected, seen);
   }
 
+  @Test
+  public void singleValuedFieldsAreAddedAsIfSetReflectively() {
+    BuildTarget target = BuildTargetFactory.newInstance("//cheese:peas");
+    SourcePathResolver pathResolver =
+        new SourcePathResolver(
+            new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
+    BuildRule rule = new EmptyRule(target);
+
+    DefaultRuleKeyBuilderFactory factory =
+        new DefaultRuleKeyBuilderFactory(new NullFileHashCache(), pathResolver);
+    RuleKeyBuilder builder = factory.newInstance(rule);
+
+    builder.setReflectively("bool", true);
+    builder.setReflectively("enumValue", HashFunctionType.MURMUR3_128);
+    builder.setReflectively("nothing", null);
+    builder.setReflectively("number", 42);
+    RuleKey expected = builder.build();
+
+    class SingleValuedFields extends EmptyRule {
+
+      @AddToRuleKey
+      private boolean bool = true;
+
+      @AddToRuleKey
+      private HashFunctionType enumValue = HashFunctionType.MURMUR3_128;
+
+      @AddToRuleKey
+      @Nullable
+      private String nothing = null;
 
+      @AddToRuleKey
+      private int number = 42;
+
+      public SingleValuedFields(BuildTarget target) {
+        super(target);
+      }
+    }
+
+    RuleKey seen = factory.build(new SingleValuedFields(target));
+
+    assertEquals(expected, seen);
+  }
 
   @Test
   public void shouldAllowAFieldToBeStringified() {
@@ -146,6 +188,39 @@ public class DefaultRuleKeyBuilderFactoryTest {
     assertEquals(expected, seen);
   }
 
+  @Test
+  public void ruleKeysAreHashedWithTheFactorysHashFunction() {
+    BuildTarget target = BuildTargetFactory.newInstance("//cheese:peas");
+    SourcePathResolver pathResolver =
+        new SourcePathResolver(
+            new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
+    BuildRule rule = new EmptyRule(target);
+    FileHashCache fileHashCache = new NullFileHashCache();
+
+    RuleKey defaultKey =
+        new DefaultRuleKeyBuilderFactory(fileHashCache, pathResolver).build(rule);
+    RuleKey sha1Key =
+        new DefaultRuleKeyBuilderFactory(
+            fileHashCache,
+            pathResolver,
+            DefaultRuleKeyBuilderFactoryOptions.builder()
+                .setHashFunctionType(HashFunctionType.SHA1)
+                .build())
+            .build(rule);
+    RuleKey murmurKey =
+        new DefaultRuleKeyBuilderFactory(
+            fileHashCache,
+            pathResolver,
+            DefaultRuleKeyBuilderFactoryOptions.builder()
+                .setHashFunctionType(HashFunctionType.MURMUR3_128)
+                .build())
+            .build(rule);
+
+    assertEquals(defaultKey, sha1Key);
+    assertEquals(160, sha1Key.getHashCode().bits());
+    assertEquals(128, murmurKey.getHashCode().bits());
+  }
+
   @Test
   public void shouldAllowRuleKeyAppendablesToAppendToRuleKey() {
     BuildTarget target = BuildTargetFactory.newInstance("//cheese:peas");
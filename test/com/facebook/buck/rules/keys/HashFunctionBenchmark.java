@@ -0,0 +1,178 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.cli.BuildTargetNodeToBuildRuleTransformer;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.PathSourcePath;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.RuleKeyBuilder;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.TargetGraph;
+import com.facebook.buck.testutil.integration.DebuggableTemporaryFolder;
+import com.facebook.buck.util.cache.DefaultFileHashCache;
+import com.facebook.buck.util.cache.DefaultFileHashCacheOptions;
+import com.facebook.buck.util.hash.HashFunctionType;
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Param;
+import com.google.caliper.api.Macrobenchmark;
+import com.google.common.collect.ImmutableList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Compares the cost of hashing the contents of files, and of building rule keys out of those
+ * hashes, with each {@link HashFunctionType}.
+ */
+public class HashFunctionBenchmark {
+
+  private static final int RULE_COUNT = 200;
+  private static final int SOURCES_PER_RULE = 5;
+
+  @Param({"SHA1", "MURMUR3_128"})
+  private HashFunctionType hashFunctionType = HashFunctionType.SHA1;
+
+  @Param({"4096", "65536"})
+  private int averageFileSize = 4096;
+
+  public DebuggableTemporaryFolder tempDir = new DebuggableTemporaryFolder();
+
+  private ProjectFilesystem filesystem;
+  private ImmutableList<Path> files;
+  private DefaultFileHashCache warmHashCache;
+  private SourcePathResolver pathResolver;
+  private DefaultRuleKeyBuilderFactory ruleKeyBuilderFactory;
+
+  @Before
+  public void setUpTest() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    tempDir.create();
+    filesystem = new ProjectFilesystem(tempDir.getRootPath());
+
+    Random random = new Random(0);
+    ImmutableList.Builder<Path> builder = ImmutableList.builder();
+    for (int i = 0; i < RULE_COUNT * SOURCES_PER_RULE; i++) {
+      Path file = Paths.get(String.format("src/Source%d.java", i));
+      byte[] contents = new byte[averageFileSize / 2 + random.nextInt(averageFileSize)];
+      random.nextBytes(contents);
+      filesystem.createParentDirs(file);
+      Files.write(filesystem.resolve(file), contents);
+      builder.add(file);
+    }
+    files = builder.build();
+
+    warmHashCache = new DefaultFileHashCache(filesystem, hashOptions(hashFunctionType));
+    hashFiles(warmHashCache);
+    pathResolver = new SourcePathResolver(
+        new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
+    ruleKeyBuilderFactory =
+        new DefaultRuleKeyBuilderFactory(
+            warmHashCache,
+            pathResolver,
+            DefaultRuleKeyBuilderFactoryOptions.builder()
+                .setHashFunctionType(hashFunctionType)
+                .build());
+  }
+
+  @After
+  @AfterExperiment
+  public void cleanup() {
+    tempDir.delete();
+  }
+
+  @Test
+  public void hashFilesCorrectness() throws Exception {
+    for (HashFunctionType type : HashFunctionType.values()) {
+      DefaultFileHashCache hashCache = new DefaultFileHashCache(filesystem, hashOptions(type));
+      Path file = files.get(0);
+      assertEquals(
+          type.getHashFunction().hashBytes(Files.readAllBytes(filesystem.resolve(file))),
+          hashCache.get(file));
+    }
+  }
+
+  @Test
+  public void buildRuleKeysCorrectness() throws Exception {
+    assertEquals(
+        hashFunctionType.getHashFunction().bits(),
+        buildAllRuleKeys().getHashCode().bits());
+  }
+
+  /**
+   * Hashes every file, as the first build after starting buck does.
+   */
+  @Macrobenchmark
+  public void hashFiles() throws Exception {
+    hashFiles(new DefaultFileHashCache(filesystem, hashOptions(hashFunctionType)));
+  }
+
+  /**
+   * Builds a rule key for each group of files from their already known hashes, as every build
+   * does.
+   */
+  @Macrobenchmark
+  public void buildRuleKeys() throws Exception {
+    buildAllRuleKeys();
+  }
+
+  private static DefaultFileHashCacheOptions hashOptions(HashFunctionType type) {
+    return DefaultFileHashCacheOptions.builder().setHashFunctionType(type).build();
+  }
+
+  private void hashFiles(DefaultFileHashCache hashCache) throws Exception {
+    for (Path file : files) {
+      hashCache.get(file);
+    }
+  }
+
+  private RuleKey buildAllRuleKeys() {
+    RuleKey last = null;
+    for (int rule = 0; rule < RULE_COUNT; rule++) {
+      ImmutableList.Builder<SourcePath> srcs = ImmutableList.builder();
+      for (Path file : files.subList(rule * SOURCES_PER_RULE, (rule + 1) * SOURCES_PER_RULE)) {
+        srcs.add(new PathSourcePath(filesystem, file));
+      }
+      last = new RuleKeyBuilder(
+          pathResolver,
+          warmHashCache,
+          ruleKeyBuilderFactory,
+          hashFunctionType)
+          .setReflectively("name", String.format("//src:rule%d", rule))
+          .setReflectively("buck.type", "java_library")
+          .setReflectively("srcs", srcs.build())
+          .setReflectively("previous", last)
+          .build();
+    }
+    return last;
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import static com.facebook.buck.rules.BuildableProperties.Kind.LIBRARY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import com.facebook.buck.cli.BuildTargetNodeToBuildRuleTransformer;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.rules.AddToRuleKey;
+import com.facebook.buck.rules.BuildContext;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.BuildableContext;
+import com.facebook.buck.rules.BuildableProperties;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.TargetGraph;
+import com.facebook.buck.step.Step;
+import com.facebook.buck.util.cache.NullFileHashCache;
+import com.facebook.buck.util.hash.HashFunctionType;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Param;
+import com.google.caliper.api.Macrobenchmark;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Path;
+
+import javax.annotation.Nullable;
+
+/**
+ * Measures building the rule keys of a large graph of rules from their annotated fields, as
+ * every build does before it can look anything up in the cache.
+ */
+public class RuleKeyBuilderFactoryBenchmark {
+
+  // The correctness test doesn't need the whole graph to be meaningful.
+  @Param({"100000"})
+  private int ruleCount = 1000;
+
+  private SourcePathResolver pathResolver;
+  private ImmutableList<BuildRule> rules;
+
+  @Before
+  public void setUpTest() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    pathResolver = new SourcePathResolver(
+        new BuildRuleResolver(TargetGraph.EMPTY, new BuildTargetNodeToBuildRuleTransformer()));
+
+    // Each rule depends on the one before it and on one about half way back to the first, so
+    // the graph is both deep and shares plenty of deps, as real ones do.
+    ImmutableList.Builder<BuildRule> builder = ImmutableList.builder();
+    BuildRule[] created = new BuildRule[ruleCount];
+    for (int i = 0; i < ruleCount; i++) {
+      ImmutableSortedSet.Builder<BuildRule> deps = ImmutableSortedSet.naturalOrder();
+      if (i > 0) {
+        deps.add(created[i - 1]);
+        deps.add(created[i / 2]);
+      }
+      created[i] = new SyntheticRule(
+          BuildTargetFactory.newInstance(String.format("//synthetic/%d:rule%d", i / 100, i)),
+          deps.build(),
+          i);
+      builder.add(created[i]);
+    }
+    rules = builder.build();
+  }
+
+  @Test
+  public void buildRuleKeysCorrectness() throws Exception {
+    RuleKey key = buildRuleKeys(newFactory());
+    assertEquals(key, buildRuleKeys(newFactory()));
+    assertNotEquals(key, newFactory().build(rules.get(0)));
+  }
+
+  /**
+   * Builds the key of every rule with a fresh factory, as the first build after starting buck
+   * does.
+   */
+  @Macrobenchmark
+  public void buildRuleKeys() throws Exception {
+    buildRuleKeys(newFactory());
+  }
+
+  private DefaultRuleKeyBuilderFactory newFactory() {
+    return new DefaultRuleKeyBuilderFactory(new NullFileHashCache(), pathResolver);
+  }
+
+  /**
+   * Builds the keys in dependency order, so that working out one rule's key only ever needs the
+   * already memoized keys of its deps, rather than recursing through the whole graph.
+   */
+  private RuleKey buildRuleKeys(DefaultRuleKeyBuilderFactory factory) {
+    RuleKey last = null;
+    for (BuildRule rule : rules) {
+      last = factory.build(rule);
+    }
+    return last;
+  }
+
+  @SuppressWarnings("unused")
+  private static class SyntheticRule implements BuildRule {
+
+    private final BuildTarget target;
+
+    @AddToRuleKey
+    private final ImmutableSortedSet<BuildRule> deps;
+
+    @AddToRuleKey
+    private final String cmd;
+
+    @AddToRuleKey
+    private final ImmutableList<String> flags;
+
+    @AddToRuleKey
+    private final boolean optimize;
+
+    @AddToRuleKey
+    private final int jobs;
+
+    @AddToRuleKey
+    private final HashFunctionType hashFunctionType;
+
+    @AddToRuleKey
+    @Nullable
+    private final String out;
+
+    public SyntheticRule(BuildTarget target, ImmutableSortedSet<BuildRule> deps, int index) {
+      this.target = target;
+      this.deps = deps;
+      this.cmd = String.format("compile --index %d", index);
+      this.flags = ImmutableList.of("-O2", "-g", String.format("-DINDEX=%d", index));
+      this.optimize = index % 2 == 0;
+      this.jobs = index % 8;
+      this.hashFunctionType = HashFunctionType.values()[index % HashFunctionType.values().length];
+      this.out = index % 3 == 0 ? null : String.format("rule%d.out", index);
+    }
+
+    @Override
+    public BuildTarget getBuildTarget() {
+      return target;
+    }
+
+    @Override
+    public String getFullyQualifiedName() {
+      return target.getFullyQualifiedName();
+    }
+
+    @Override
+    public String getType() {
+      return "synthetic";
+    }
+
+    @Override
+    public BuildableProperties getProperties() {
+      return new BuildableProperties(LIBRARY);
+    }
+
+    @Override
+    public ImmutableSortedSet<BuildRule> getDeps() {
+      return deps;
+    }
+
+    @Override
+    public ProjectFilesystem getProjectFilesystem() {
+      throw new UnsupportedOperationException("getProjectFilesystem");
+    }
+
+    @Override
+    public ImmutableList<Step> getBuildSteps(
+        BuildContext context, BuildableContext buildableContext) {
+      throw new UnsupportedOperationException("getBuildSteps");
+    }
+
+    @Nullable
+    @Override
+    public Path getPathToOutput() {
+      return null;
+    }
+
+    @Override
+    public int compareTo(BuildRule o) {
+      return target.compareTo(o.getBuildTarget());
+    }
+
+    @Override
+    public String toString() {
+      return target.getFullyQualifiedName();
+    }
+  }
+}
@@ -30,13 +30,19 @@ import com.facebook.buck.rules.TargetGraphToActionGraph;
 import com.facebook.buck.rules.TargetGraphTransformer;
 import com.facebook.buck.rules.TargetNode;
 import com.facebook.buck.testutil.TargetGraphFactory;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -49,6 +55,9 @@ public class BuildSimulatorTest {
   private static final int WIDE_GRAPH_LEAF_NODES_COUNT = 100;
   private static final BuckEventBus eventBus = BuckEventBusFactory.newInstance();
 
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
   @Test
   public void testOneNodeActionGraph() throws IOException {
     SimulateTimes times = SimulateTimes.createEmpty(DEFAULT_MILLIS);
@@ -164,6 +173,67 @@ public class BuildSimulatorTest {
         DEFAULT_MILLIS * 2);
   }
 
+  @Test
+  public void testCriticalPathStartsSlowLeafFirst() throws IOException {
+    // With 2 threads FIFO builds the four fast leaves before the slow one, which then holds up
+    // the root, while scheduling by critical path builds them alongside the slow leaf.
+    Assert.assertEquals(
+        4 * DEFAULT_MILLIS / 2 + 1000 + DEFAULT_MILLIS,
+        simulateSlowLeafGraph(BuildSimulator.SchedulingOrder.FIFO));
+    Assert.assertEquals(
+        1000 + DEFAULT_MILLIS,
+        simulateSlowLeafGraph(BuildSimulator.SchedulingOrder.CRITICAL_PATH));
+  }
+
+  private long simulateSlowLeafGraph(BuildSimulator.SchedulingOrder schedulingOrder)
+      throws IOException {
+    List<TargetNode<?>> nodes = new ArrayList<>();
+    for (int i = 0; i < 4; ++i) {
+      nodes.add(
+          JavaLibraryBuilder.createBuilder(
+              BuildTargetFactory.newInstance("//a/fast_" + i + ":target"))
+              .build());
+    }
+    BuildTarget slowLeaf = BuildTargetFactory.newInstance("//z/slow:target");
+    nodes.add(JavaLibraryBuilder.createBuilder(slowLeaf).build());
+    JavaLibraryBuilder rootBuilder = JavaLibraryBuilder.createBuilder(ROOT_NODE);
+    for (TargetNode<?> node : nodes) {
+      rootBuilder.addDep(node.getBuildTarget());
+    }
+    nodes.add(rootBuilder.build());
+
+    Path timesFile = tmp.getRoot().resolve("times.json");
+    Files.write(
+        timesFile,
+        String.format("{\"build_targets\":{\"%s\":{\"local\":1000}}}", slowLeaf)
+            .getBytes(StandardCharsets.UTF_8));
+    SimulateTimes times = SimulateTimes.createFromJsonFile(
+        new ObjectMapper(),
+        timesFile.toString(),
+        DEFAULT_MILLIS);
+
+    TargetGraphTransformer transformer =
+        new TargetGraphToActionGraph(eventBus, new BuildTargetNodeToBuildRuleTransformer());
+    Pair<ActionGraph, BuildRuleResolver> result =
+        Preconditions.checkNotNull(transformer.apply(TargetGraphFactory.newInstance(nodes)));
+    BuildSimulator sim = new BuildSimulator(
+        times,
+        result.getFirst(),
+        result.getSecond(),
+        2,
+        schedulingOrder);
+    SimulateReport report = sim.simulateBuild(
+        System.currentTimeMillis(),
+        ImmutableList.of(ROOT_NODE));
+    for (SingleRunReport runReport : report.getRunReports()) {
+      if (runReport.getTimeAggregate().equals("local")) {
+        Assert.assertEquals(schedulingOrder, runReport.getSchedulingOrder());
+        return runReport.getBuildDurationMillis();
+      }
+    }
+    throw new AssertionError("No simulation with the local times.");
+  }
+
   private void testTargetGraphWith(
       TargetGraph targetGraph,
       int numberThreads,
@@ -393,7 +393,7 @@ public class FakeProjectFilesystem extends ProjectFilesystem {
         new Predicate<Path>() {
           @Override
           public boolean apply(Path input) {
-            return input.getParent().equals(pathRelativeToProjectRoot) &&
+            return MorePaths.getParentOrEmpty(input).equals(pathRelativeToProjectRoot) &&
                 pathMatcher.matches(input.getFileName());
           }
         })
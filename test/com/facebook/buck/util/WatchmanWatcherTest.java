@@ -212,6 +212,30 @@ public class WatchmanWatcherTest {
         secondEvent.getValue().context().toString());
   }
 
+  @Test
+  public void whenFileNameMissingThenOnlyOverflowEventGenerated()
+      throws IOException, InterruptedException {
+    ImmutableMap<String, Object> watchmanOutput = ImmutableMap.<String, Object>of(
+        "files", ImmutableList.of(
+            ImmutableMap.<String, Object>of("name", "foo/bar/baz"),
+            ImmutableMap.<String, Object>of("exists", false),
+            ImmutableMap.<String, Object>of("name", "foo/bar/boz")));
+    Capture<WatchEvent<Path>> eventCapture = newCapture();
+    EventBus eventBus = createStrictMock(EventBus.class);
+    eventBus.post(capture(eventCapture));
+    replay(eventBus);
+    WatchmanWatcher watcher = createWatcher(
+        eventBus,
+        watchmanOutput);
+    watcher.postEvents(
+        new BuckEventBus(new FakeClock(0), new BuildId()),
+        ImmutableSet.<String>builder());
+    verify(eventBus);
+    assertEquals("Should be overflow event.",
+        StandardWatchEventKinds.OVERFLOW,
+        eventCapture.getValue().kind());
+  }
+
   @Test
   public void whenTooManyChangesThenOverflowEventGenerated()
       throws IOException, InterruptedException {
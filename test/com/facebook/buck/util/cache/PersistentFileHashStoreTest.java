@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.timing.SettableFakeClock;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+public class PersistentFileHashStoreTest {
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private SettableFakeClock clock;
+  private Path storePath;
+
+  @Before
+  public void setUp() {
+    filesystem = new ProjectFilesystem(tmp.getRoot());
+    clock = new SettableFakeClock(System.currentTimeMillis(), 0);
+    storePath = tmp.getRoot().resolve("buck-out/file_hashes");
+  }
+
+  private DefaultFileHashCache newCache(PersistentFileHashStore store) {
+    return new DefaultFileHashCache(
+        filesystem,
+        DefaultFileHashCacheOptions.builder().setPersistentStore(store).build());
+  }
+
+  private void writeFile(Path path, String contents, FileTime lastModifiedTime) throws Exception {
+    Files.write(filesystem.resolve(path), contents.getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(filesystem.resolve(path), lastModifiedTime);
+  }
+
+  @Test
+  public void hashesAreReusedUntilTheFileChanges() throws Exception {
+    Path path = Paths.get("Source.java");
+    FileTime hourAgo = FileTime.fromMillis(clock.currentTimeMillis() - TimeUnit.HOURS.toMillis(1));
+    writeFile(path, "original", hourAgo);
+
+    PersistentFileHashStore store = PersistentFileHashStore.load(storePath, clock);
+    HashCode originalHash = newCache(store).get(path);
+    assertEquals(Hashing.sha1().hashString("original", StandardCharsets.UTF_8), originalHash);
+    store.save();
+
+    // Change the contents behind the store's back, without changing anything it checks.  Only a
+    // hash which didn't come from reading the file can still match the old contents.
+    writeFile(path, "modified", hourAgo);
+    store = PersistentFileHashStore.load(storePath, clock);
+    assertEquals(originalHash, newCache(store).get(path));
+
+    // Once the modification time moves, the file is read again.
+    Files.setLastModifiedTime(
+        filesystem.resolve(path),
+        FileTime.fromMillis(hourAgo.toMillis() + TimeUnit.MINUTES.toMillis(1)));
+    HashCode modifiedHash = newCache(store).get(path);
+    assertNotEquals(originalHash, modifiedHash);
+    assertEquals(Hashing.sha1().hashString("modified", StandardCharsets.UTF_8), modifiedHash);
+  }
+
+  @Test
+  public void recentlyModifiedFilesAreNotKept() throws Exception {
+    Path path = Paths.get("Source.java");
+    writeFile(path, "contents", FileTime.fromMillis(clock.currentTimeMillis()));
+
+    PersistentFileHashStore store = PersistentFileHashStore.load(storePath, clock);
+    newCache(store).get(path);
+    assertEquals(0, store.size());
+
+    clock.setCurrentTimeMillis(
+        clock.currentTimeMillis() + PersistentFileHashStore.RACY_MODIFICATION_WINDOW_MILLIS);
+    newCache(store).get(path);
+    assertEquals(1, store.size());
+  }
+
+  @Test
+  public void unreadableStoreIsIgnored() throws Exception {
+    Files.createDirectories(storePath.getParent());
+    Files.write(storePath, new byte[] {0, 0, 0, 0, 0, 0, 0, 3, 1});
+
+    PersistentFileHashStore store = PersistentFileHashStore.load(storePath, clock);
+    assertEquals(0, store.size());
+  }
+}
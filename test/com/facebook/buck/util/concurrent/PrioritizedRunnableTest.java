@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.Lists;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+
+public class PrioritizedRunnableTest {
+
+  private static Runnable recording(final List<String> ran, final String name) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        ran.add(name);
+      }
+    };
+  }
+
+  @Test
+  public void workQueueHandsOutHighestPriorityFirst() throws InterruptedException {
+    List<String> ran = Lists.newArrayList();
+    BlockingQueue<Runnable> queue = PrioritizedRunnable.newWorkQueue();
+    queue.add(new PrioritizedRunnable(recording(ran, "short"), 10));
+    queue.add(new PrioritizedRunnable(recording(ran, "long"), 1000));
+    queue.add(new PrioritizedRunnable(recording(ran, "medium"), 100));
+    queue.add(new PrioritizedRunnable(recording(ran, "medium again"), 100));
+
+    while (!queue.isEmpty()) {
+      queue.take().run();
+    }
+    assertThat(ran, contains("long", "medium", "medium again", "short"));
+  }
+
+  @Test
+  public void workWithoutPriorityGoesFirst() throws InterruptedException {
+    BlockingQueue<Runnable> queue = PrioritizedRunnable.newWorkQueue();
+    Runnable prioritized = new PrioritizedRunnable(recording(Lists.<String>newArrayList(), "a"), 5);
+    Runnable plain = recording(Lists.<String>newArrayList(), "b");
+    queue.add(prioritized);
+    queue.add(plain);
+
+    assertThat(queue.take(), is(sameInstance(plain)));
+    assertThat(queue.take(), is(sameInstance(prioritized)));
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.concurrent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ResourceSemaphoreTest {
+
+  @Test
+  public void workWhichFitsIsPackedTogether() throws InterruptedException {
+    ResourceSemaphore semaphore = new ResourceSemaphore(ResourceAmounts.of(4, 1000));
+    semaphore.acquire(ResourceAmounts.of(1, 600));
+    semaphore.acquire(ResourceAmounts.of(2, 0));
+    semaphore.acquire(ResourceAmounts.of(1, 400));
+    semaphore.acquire(ResourceAmounts.ZERO);
+    assertThat(semaphore.getUsed(), equalTo(ResourceAmounts.of(4, 1000)));
+  }
+
+  @Test
+  public void workWhichDoesNotFitWaitsForRelease() throws InterruptedException {
+    final ResourceSemaphore semaphore = new ResourceSemaphore(ResourceAmounts.of(4, 1000));
+    ResourceAmounts heavyLink = semaphore.acquire(ResourceAmounts.of(1, 800));
+
+    final CountDownLatch acquired = new CountDownLatch(1);
+    Thread secondLink = new Thread() {
+      @Override
+      public void run() {
+        try {
+          semaphore.acquire(ResourceAmounts.of(1, 800));
+          acquired.countDown();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    secondLink.start();
+
+    // There are cores left, but not enough memory.
+    assertThat(acquired.await(100, TimeUnit.MILLISECONDS), is(false));
+    semaphore.release(heavyLink);
+    assertThat(acquired.await(10, TimeUnit.SECONDS), is(true));
+    secondLink.join();
+    assertThat(semaphore.getUsed(), equalTo(ResourceAmounts.of(1, 800)));
+  }
+
+  @Test
+  public void smallWorkWaitsBehindLargerWorkWhichAskedFirst() throws InterruptedException {
+    final ResourceSemaphore semaphore = new ResourceSemaphore(ResourceAmounts.of(4, 1000));
+    ResourceAmounts compile = semaphore.acquire(ResourceAmounts.of(1, 100));
+
+    final CountDownLatch linked = new CountDownLatch(1);
+    Thread heavyLink = new Thread() {
+      @Override
+      public void run() {
+        try {
+          semaphore.acquire(ResourceAmounts.of(4, 1000));
+          linked.countDown();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    heavyLink.start();
+    while (semaphore.getWaiterCount() == 0) {
+      Thread.sleep(10);
+    }
+
+    final CountDownLatch compiled = new CountDownLatch(1);
+    Thread secondCompile = new Thread() {
+      @Override
+      public void run() {
+        try {
+          semaphore.acquire(ResourceAmounts.of(1, 100));
+          compiled.countDown();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    };
+    secondCompile.start();
+
+    // The second compile would fit, but the link asked first.
+    assertThat(compiled.await(100, TimeUnit.MILLISECONDS), is(false));
+    semaphore.release(compile);
+    assertThat(linked.await(10, TimeUnit.SECONDS), is(true));
+    assertThat(compiled.await(100, TimeUnit.MILLISECONDS), is(false));
+    semaphore.release(ResourceAmounts.of(4, 1000));
+    assertThat(compiled.await(10, TimeUnit.SECONDS), is(true));
+    heavyLink.join();
+    secondCompile.join();
+  }
+
+  @Test
+  public void interruptedWaiterDoesNotHoldUpTheRest() throws InterruptedException {
+    final ResourceSemaphore semaphore = new ResourceSemaphore(ResourceAmounts.of(4, 1000));
+    ResourceAmounts compile = semaphore.acquire(ResourceAmounts.of(1, 100));
+
+    Thread heavyLink = new Thread() {
+      @Override
+      public void run() {
+        try {
+          semaphore.acquire(ResourceAmounts.of(4, 1000));
+        } catch (InterruptedException e) {
+          // Expected.
+        }
+      }
+    };
+    heavyLink.start();
+    while (semaphore.getWaiterCount() == 0) {
+      Thread.sleep(10);
+    }
+    heavyLink.interrupt();
+    heavyLink.join();
+
+    semaphore.acquire(ResourceAmounts.of(1, 100));
+    semaphore.release(compile);
+    assertThat(semaphore.getUsed(), equalTo(ResourceAmounts.of(1, 100)));
+  }
+
+  @Test
+  public void workLargerThanTheBudgetTakesAllOfIt() throws InterruptedException {
+    ResourceSemaphore semaphore = new ResourceSemaphore(ResourceAmounts.of(4, 1000));
+    ResourceAmounts acquired = semaphore.acquire(ResourceAmounts.of(8, 100));
+    assertThat(acquired, equalTo(ResourceAmounts.of(4, 100)));
+    semaphore.release(acquired);
+    assertThat(semaphore.getUsed(), equalTo(ResourceAmounts.ZERO));
+  }
+}
@@ -16,10 +16,13 @@
 
 package com.facebook.buck.zip;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.io.MorePosixFilePermissions;
+import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.testutil.Zip;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.google.common.collect.ImmutableList;
@@ -34,7 +37,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Random;
 import java.util.zip.ZipEntry;
 
 public class UnzipTest {
@@ -110,4 +115,65 @@ public class UnzipTest {
     assertTrue(Files.isExecutable(exe));
     assertEquals(ImmutableList.of(extractFolder.resolve("test.exe")), result);
   }
+
+  @Test
+  public void testExtractZipStream() throws IOException {
+    try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(zipFile.toFile())) {
+      zip.putArchiveEntry(new ZipArchiveEntry("subdir/"));
+      zip.closeArchiveEntry();
+      ZipArchiveEntry entry = new ZipArchiveEntry("subdir/test.exe");
+      entry.setUnixMode((int) MorePosixFilePermissions.toMode(
+          PosixFilePermissions.fromString("r-x------")));
+      zip.putArchiveEntry(entry);
+      zip.write(DUMMY_FILE_CONTENTS);
+      zip.closeArchiveEntry();
+      zip.putArchiveEntry(new ZipArchiveEntry("1.bin"));
+      zip.write(DUMMY_FILE_CONTENTS);
+      zip.closeArchiveEntry();
+    }
+
+    Path extractFolder = tmpFolder.newFolder();
+    ImmutableList<Path> result;
+    try (InputStream input = Files.newInputStream(zipFile)) {
+      result = Unzip.extractZipStream(
+          input,
+          new ProjectFilesystem(extractFolder),
+          Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+    }
+    Path exe = extractFolder.resolve("subdir/test.exe");
+    Path bin = extractFolder.resolve("1.bin");
+    assertArrayEquals(DUMMY_FILE_CONTENTS, Files.readAllBytes(exe));
+    assertArrayEquals(DUMMY_FILE_CONTENTS, Files.readAllBytes(bin));
+    assertTrue(Files.isExecutable(exe));
+    assertFalse(Files.isExecutable(bin));
+    assertEquals(ImmutableList.of(Paths.get("subdir/test.exe"), Paths.get("1.bin")), result);
+  }
+
+  @Test
+  public void testExtractZipStreamLargerThanRecordedTail() throws IOException {
+    byte[] large = new byte[200 * 1024];
+    new Random(42).nextBytes(large);
+    try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(zipFile.toFile())) {
+      zip.putArchiveEntry(new ZipArchiveEntry("large.bin"));
+      zip.write(large);
+      zip.closeArchiveEntry();
+      ZipArchiveEntry entry = new ZipArchiveEntry("test.exe");
+      entry.setUnixMode((int) MorePosixFilePermissions.toMode(
+          PosixFilePermissions.fromString("r-x------")));
+      zip.putArchiveEntry(entry);
+      zip.write(DUMMY_FILE_CONTENTS);
+      zip.closeArchiveEntry();
+    }
+
+    Path extractFolder = tmpFolder.newFolder();
+    try (InputStream input = Files.newInputStream(zipFile)) {
+      Unzip.extractZipStream(
+          input,
+          new ProjectFilesystem(extractFolder),
+          Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+    }
+    assertArrayEquals(large, Files.readAllBytes(extractFolder.resolve("large.bin")));
+    assertTrue(Files.isExecutable(extractFolder.resolve("test.exe")));
+    assertFalse(Files.isExecutable(extractFolder.resolve("large.bin")));
+  }
 }